@@ -0,0 +1,400 @@
+[#--
+/* Copyright (c) 2022 Jonathan Revusky, revusky@javacc.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notices,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name Jonathan Revusky nor the names of any contributors 
+ *       may be used to endorse or promote products derived from this software 
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+ --]
+/* Generated by: ${generated_by}. ${filename} */
+[#if grammar.parserPackage?has_content]
+package ${grammar.parserPackage};
+[/#if]
+
+import java.lang.reflect.Constructor;
+import java.util.*;
+
+/**
+ * An AST stored compactly, in a few primitive arrays, with one entry
+ * per node, rather than as a graph of node objects. The nodes are numbered
+ * breadth-first, so the children of a node are always consecutive.
+ * The Tokens are kept as they are, since the ${grammar.lexerClassName} retains
+ * them anyway, but the other nodes are only materialized, as lightweight
+ * facades, when something asks for them. A facade is an instance of the
+ * same class as the original node, with the same offsets, children and named
+ * children, but any other state of the original node is not kept.
+ * Since the children of the node at index i are the nodes from 
+ * firstChildren[i] to firstChildren[i+1], the child counts need not
+ * be stored, and the parent of a node can be found by binary search.
+ * Facades are cached, so a given node is only materialized once. 
+ * Changes made to the facades are not reflected in this object.
+ * The parser still builds the usual tree, which is then copied into
+ * this, so this reduces the memory that is retained after parsing,
+ * but not the peak memory use during parsing.
+ */
+public class CompactTree {
+
+    private final ${grammar.lexerClassName} tokenSource;
+  [#if grammar.nodeUsesParser]
+    private final ${grammar.parserClassName} parser;
+  [/#if]
+    private int size;
+    // The class of each node, as an index into the constructors array,
+    // or -1 for a Token
+    private short[] nodeClasses;
+    // The index of the first child of each node, plus a final entry
+    // that is the size of the tree
+    private int[] firstChildren;
+    private int[] beginOffsets, endOffsets;
+    // The Tokens, and the facades that have been materialized so far
+    private Node[] nodes;
+    private final BitSet unparsedNodes = new BitSet();
+  [#if grammar.faultTolerant]
+    private final BitSet dirtyNodes = new BitSet();
+  [/#if]
+    // The named children, in order of the index of the node they belong to, 
+    // i.e. entry i says that the node at namedChildOwners[i] has the node at
+    // namedChildIndexes[i] as a named child, or in a named child list, 
+    // under the name namedChildNames[i]
+    private int namedChildCount;
+    private int[] namedChildOwners = new int[0], namedChildIndexes = new int[0];
+    private String[] namedChildNames = new String[0];
+    private final BitSet namedChildInList = new BitSet();
+
+    // The constructors of the node classes, shared by all the trees, 
+    // and only ever replaced by a longer copy, so that they can be read 
+    // without locking
+    private static volatile Constructor<?>[] constructors = new Constructor<?>[0];
+
+    // The index of each node class in the constructors array. Once a class
+    // has been seen, looking it up again does not take any lock.
+    private static final ClassValue<Short> classIndexes = new ClassValue<Short>() {
+        @Override
+        protected Short computeValue(Class<?> nodeClass) {
+            return addConstructor(nodeClass);
+        }
+    };
+
+    private static short classIndex(Class<?> nodeClass) {
+        return classIndexes.get(nodeClass);
+    }
+
+    private static synchronized short addConstructor(Class<?> nodeClass) {
+        // computeValue can be called more than once for the same class
+        // if several threads get to it at the same time.
+        for (int i = 0; i < constructors.length; i++) {
+            if (constructors[i].getDeclaringClass() == nodeClass) {
+                return (short) i;
+            }
+        }
+        int classIndex = constructors.length;
+        if (classIndex > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Too many node classes");
+        }
+        Constructor<?>[] newConstructors = Arrays.copyOf(constructors, classIndex + 1);
+        try {
+            newConstructors[classIndex] = nodeClass.getDeclaredConstructor();
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException(nodeClass.getName() + " has no default constructor", e);
+        }
+        constructors = newConstructors;
+        return (short) classIndex;
+    }
+
+    /**
+     * Stores the tree under the given root node. The Tokens in the tree
+     * are taken over, i.e. they no longer refer to their parents in the 
+     * original tree, so that the original tree can be garbage collected.
+     * It should not be used after this.
+     * @param root the root of the tree
+     */
+    public CompactTree(Node root) {
+        List<Node> originals = new ArrayList<>();
+        int capacity = 64;
+        nodeClasses = new short[capacity];
+        firstChildren = new int[capacity];
+        beginOffsets = new int[capacity];
+        endOffsets = new int[capacity];
+        nodes = new Node[capacity];
+        originals.add(root);
+        size = 1;
+        for (int index = 0; index < size; index++) {
+            Node node = originals.get(index);
+            beginOffsets[index] = node.getBeginOffset();
+            endOffsets[index] = node.getEndOffset();
+            if (node.isUnparsed()) unparsedNodes.set(index);
+            firstChildren[index] = size;
+            if (node instanceof Token) {
+                nodeClasses[index] = -1;
+                nodes[index] = node;
+                continue;
+            }
+            if (!(node instanceof ${grammar.baseNodeClassName})) {
+                throw new IllegalArgumentException("Cannot store a " + node.getClass().getName() + " in a CompactTree");
+            }
+            nodeClasses[index] = classIndex(node.getClass());
+          [#if grammar.faultTolerant]
+            if (node.isDirty()) dirtyNodes.set(index);
+          [/#if]
+            int childCount = node.getChildCount();
+            if (size + childCount >= nodeClasses.length) {
+                grow(Math.max(size + childCount + 1, nodeClasses.length * 2));
+            }
+            for (int i = 0; i < childCount; i++) {
+                originals.add(node.getChild(i));
+            }
+            size += childCount;
+        }
+        // The indexes of the nodes are only needed for their named children
+        Map<Node, Integer> indexes = null;
+        for (int index = 0; index < size; index++) {
+            if (nodeClasses[index] < 0) {
+                Token tok = (Token) nodes[index];
+                tok.setParent(null);
+                tok.compactTree = this;
+                tok.compactTreeIndex = index;
+                continue;
+            }
+            ${grammar.baseNodeClassName} node = (${grammar.baseNodeClassName}) originals.get(index);
+            if (node.namedChildMap == null && node.namedChildListMap == null) continue;
+            if (indexes == null) {
+                indexes = new IdentityHashMap<>();
+                for (int i = 0; i < size; i++) {
+                    indexes.put(originals.get(i), i);
+                }
+            }
+            if (node.namedChildMap != null) {
+                for (Map.Entry<String, Node> entry : node.namedChildMap.entrySet()) {
+                    addNamedChild(index, indexes.get(entry.getValue()), entry.getKey(), false);
+                }
+            }
+            if (node.namedChildListMap != null) {
+                for (Map.Entry<String, List<Node>> entry : node.namedChildListMap.entrySet()) {
+                    for (Node child : entry.getValue()) {
+                        addNamedChild(index, indexes.get(child), entry.getKey(), true);
+                    }
+                }
+            }
+        }
+        namedChildOwners = Arrays.copyOf(namedChildOwners, namedChildCount);
+        namedChildIndexes = Arrays.copyOf(namedChildIndexes, namedChildCount);
+        namedChildNames = Arrays.copyOf(namedChildNames, namedChildCount);
+        tokenSource = root.getTokenSource();
+      [#if grammar.nodeUsesParser]
+        parser = root instanceof ${grammar.baseNodeClassName} ? ((${grammar.baseNodeClassName}) root).parser : null;
+      [/#if]
+        grow(size);
+        firstChildren = Arrays.copyOf(firstChildren, size + 1);
+        firstChildren[size] = size;
+    }
+
+    private void addNamedChild(int owner, Integer index, String name, boolean inList) {
+        // A named child that is not in the tree is not kept
+        if (index == null) return;
+        if (namedChildCount == namedChildOwners.length) {
+            int capacity = Math.max(16, namedChildCount * 2);
+            namedChildOwners = Arrays.copyOf(namedChildOwners, capacity);
+            namedChildIndexes = Arrays.copyOf(namedChildIndexes, capacity);
+            namedChildNames = Arrays.copyOf(namedChildNames, capacity);
+        }
+        namedChildOwners[namedChildCount] = owner;
+        namedChildIndexes[namedChildCount] = index;
+        namedChildNames[namedChildCount] = name;
+        if (inList) namedChildInList.set(namedChildCount);
+        ++namedChildCount;
+    }
+
+    private void grow(int capacity) {
+        nodeClasses = Arrays.copyOf(nodeClasses, capacity);
+        firstChildren = Arrays.copyOf(firstChildren, capacity);
+        beginOffsets = Arrays.copyOf(beginOffsets, capacity);
+        endOffsets = Arrays.copyOf(endOffsets, capacity);
+        nodes = Arrays.copyOf(nodes, capacity);
+    }
+
+    /**
+     * @return the number of nodes (including the Tokens) in the tree
+     */
+    public int size() {
+        return size;
+    }
+
+    public Node getRoot() {
+        return getNode(0);
+    }
+
+    /**
+     * @return the node at the given index, materializing it if need be
+     */
+    public Node getNode(int index) {
+        Node result = nodes[index];
+        if (result == null) {
+            result = materialize(index);
+        }
+        return result;
+    }
+
+    /**
+     * @return the index of the parent of the node at the given index,
+     * or -1 for the root
+     */
+    public int getParentIndex(int index) {
+        // The parent is the last node whose children start at or before
+        // the given index, since the nodes after it have their children
+        // after its own.
+        int low = 0, high = size - 1, result = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (firstChildren[mid] <= index) {
+                result = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return the parent of the node at the given index, or null for the root
+     */
+    public Node getParent(int index) {
+        int parentIndex = getParentIndex(index);
+        return parentIndex < 0 ? null : getNode(parentIndex);
+    }
+
+    /**
+     * @return the index of the first child of the node at the
+     * given index. The other children follow it.
+     */
+    public int getFirstChildIndex(int index) {
+        return firstChildren[index];
+    }
+
+    public int getChildCount(int index) {
+        return firstChildren[index + 1] - firstChildren[index];
+    }
+
+    public int getBeginOffset(int index) {
+        return beginOffsets[index];
+    }
+
+    public int getEndOffset(int index) {
+        return endOffsets[index];
+    }
+
+    /**
+     * @return the class of the node at the given index, 
+     * without materializing it
+     */
+    public Class<? extends Node> getNodeClass(int index) {
+        int classIndex = nodeClasses[index];
+        return classIndex < 0 ? nodes[index].getClass() : constructors[classIndex].getDeclaringClass().asSubclass(Node.class);
+    }
+
+    private Node materialize(int index) {
+        ${grammar.baseNodeClassName} node;
+        try {
+            node = (${grammar.baseNodeClassName}) constructors[nodeClasses[index]].newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException(e);
+        }
+        nodes[index] = node;
+        node.setTokenSource(tokenSource);
+        node.setBeginOffset(beginOffsets[index]);
+        node.setEndOffset(endOffsets[index]);
+        node.setUnparsed(unparsedNodes.get(index));
+      [#if grammar.faultTolerant]
+        node.setDirty(dirtyNodes.get(index));
+      [/#if]
+      [#if grammar.nodeUsesParser]
+        node.setParser(parser);
+      [/#if]
+        node.children = new ChildList(index);
+        node.setParent(getParent(index));
+        int i = Arrays.binarySearch(namedChildOwners, index);
+        if (i >= 0) {
+            // There may be several entries for the node, and the search could have found any of them
+            while (i > 0 && namedChildOwners[i - 1] == index) --i;
+            for (; i < namedChildCount && namedChildOwners[i] == index; i++) {
+                if (namedChildInList.get(i)) {
+                    node.addToNamedChildList(namedChildNames[i], getNode(namedChildIndexes[i]));
+                } else {
+                    node.setNamedChild(namedChildNames[i], getNode(namedChildIndexes[i]));
+                }
+            }
+        }
+        return node;
+    }
+
+    /**
+     * The children of a facade, which are only materialized 
+     * when the list is first used
+     */
+    private class ChildList extends AbstractList<Node> implements RandomAccess {
+        private final int parentIndex;
+        private List<Node> children;
+
+        ChildList(int parentIndex) {
+            this.parentIndex = parentIndex;
+        }
+
+        private List<Node> children() {
+            if (children == null) {
+                int first = firstChildren[parentIndex], last = firstChildren[parentIndex + 1];
+                children = new ArrayList<>(last - first);
+                for (int i = first; i < last; i++) {
+                    Node child = getNode(i);
+                    child.setParent(getNode(parentIndex));
+                    children.add(child);
+                }
+            }
+            return children;
+        }
+
+        public int size() {
+            return children == null ? getChildCount(parentIndex) : children.size();
+        }
+
+        public Node get(int i) {
+            return children().get(i);
+        }
+
+        public Node set(int i, Node n) {
+            return children().set(i, n);
+        }
+
+        public void add(int i, Node n) {
+            children().add(i, n);
+        }
+
+        public Node remove(int i) {
+            return children().remove(i);
+        }
+
+        public void clear() {
+            children().clear();
+        }
+    }
+}
@@ -0,0 +1,432 @@
+[#ftl strict_vars=true]
+[#--
+/* Copyright (c) 2020 Jonathan Revusky, revusky@javacc.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notices,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name Jonathan Revusky nor the names of any contributors 
+ *       may be used to endorse or promote products derived from this software 
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+ --]
+
+[#var MULTIPLE_LEXICAL_STATE_HANDLING = (grammar.lexerData.numLexicalStates >1)]
+ 
+CallStack parsingStack = new CallStack();
+private CallStack lookaheadStack = new CallStack();
+
+[#if grammar.faultTolerant]
+  private EnumSet<TokenType> currentFollowSet;
+[/#if]
+
+/**
+ * Inner class that represents entering a grammar production
+ */
+class NonTerminalCall {
+    final String sourceFile;
+    final String productionName;
+    final int line, column;
+
+   [#if grammar.faultTolerant]
+    final EnumSet<TokenType> followSet;
+   [/#if]
+
+
+    NonTerminalCall(String sourceFile, String productionName, int line, int column[#if grammar.faultTolerant], EnumSet<TokenType> followSet[/#if]) {
+        this.sourceFile = sourceFile;
+        this.productionName = productionName;
+        this.line = line;
+        this.column = column;
+      [#if grammar.faultTolerant]
+        this.followSet = followSet;
+      [/#if]
+    }
+
+    final ${grammar.lexerClassName} getTokenSource() {
+        return ${grammar.parserClassName}.this.token_source;
+    }
+
+    StackTraceElement createStackTraceElement() {
+        return new StackTraceElement("${grammar.parserClassName}", productionName, sourceFile, line);
+    }
+
+    void dump(PrintStream ps) {
+         ps.println(productionName + ":" + line + ":" + column);
+    }
+}
+
+/**
+ * A stack of calls to grammar productions, kept in parallel arrays
+ * so that entering a production does not allocate anything. The productions
+ * are identified by their index in PRODUCTION_NAMES and the NonTerminalCall
+ * objects are only created when something needs them, i.e. a ParseException.
+ */
+final class CallStack implements Cloneable {
+    private int size;
+    private int[] productionIds = new int[16], lines = new int[16], columns = new int[16];
+    private String[] sourceFiles = new String[16];
+  [#if grammar.faultTolerant]
+    private Object[] followSets = new Object[16];
+  [/#if]
+
+    int size() {
+        return size;
+    }
+
+    int getProductionId(int index) {
+        return productionIds[index];
+    }
+
+  [#if grammar.faultTolerant]
+    @SuppressWarnings("unchecked")
+    EnumSet<TokenType> getFollowSet(int index) {
+        return (EnumSet<TokenType>) followSets[index];
+    }
+
+  [/#if]
+    void push(int productionId, String sourceFile, int line, int column) {
+        if (size == productionIds.length) {
+            int capacity = size * 2;
+            productionIds = Arrays.copyOf(productionIds, capacity);
+            lines = Arrays.copyOf(lines, capacity);
+            columns = Arrays.copyOf(columns, capacity);
+            sourceFiles = Arrays.copyOf(sourceFiles, capacity);
+          [#if grammar.faultTolerant]
+            followSets = Arrays.copyOf(followSets, capacity);
+          [/#if]
+        }
+        productionIds[size] = productionId;
+        lines[size] = line;
+        columns[size] = column;
+        sourceFiles[size] = sourceFile;
+      [#if grammar.faultTolerant]
+        followSets[size] = outerFollowSet;
+      [/#if]
+        ++size;
+    }
+
+    void pop() {
+      [#if grammar.faultTolerant]
+        followSets[--size] = null;
+      [#else]
+        --size;
+      [/#if]
+    }
+
+    void clear() {
+        Arrays.fill(sourceFiles, 0, size, null);
+      [#if grammar.faultTolerant]
+        Arrays.fill(followSets, 0, size, null);
+      [/#if]
+        size = 0;
+    }
+
+    NonTerminalCall get(int index) {
+        return new NonTerminalCall(sourceFiles[index], PRODUCTION_NAMES[productionIds[index]], lines[index], columns[index][#if grammar.faultTolerant], getFollowSet(index)[/#if]);
+    }
+
+    /**
+     * @return the calls on this stack, from the bottom up
+     */
+    java.util.List<NonTerminalCall> toList() {
+        java.util.List<NonTerminalCall> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(get(i));
+        }
+        return result;
+    }
+
+    void dump(PrintStream ps) {
+        for (int i = size - 1; i >= 0; i--) {
+            get(i).dump(ps);
+        }
+    }
+
+    public CallStack clone() {
+        try {
+            CallStack result = (CallStack) super.clone();
+            result.productionIds = productionIds.clone();
+            result.lines = lines.clone();
+            result.columns = columns.clone();
+            result.sourceFiles = sourceFiles.clone();
+          [#if grammar.faultTolerant]
+            result.followSets = followSets.clone();
+          [/#if]
+            return result;
+        } catch (CloneNotSupportedException e) {
+            throw new InternalError(e);
+        }
+    }
+}
+
+private final void pushOntoCallStack(int productionId, String fileName, int line, int column) {
+   parsingStack.push(productionId, fileName, line, column);
+}
+
+private final void popCallStack() {
+    int top = parsingStack.size() - 1;
+    this.currentlyParsedProduction = parsingStack.getProductionId(top);
+   [#if grammar.faultTolerant]
+    this.outerFollowSet = parsingStack.getFollowSet(top);
+   [/#if]
+    parsingStack.pop();
+}
+
+private final void restoreCallStack(int prevSize) {
+    while (parsingStack.size() > prevSize) {
+       popCallStack();
+    }
+}
+
+/**
+ * @return the id of the production at the given position of the
+ * combined stack, i.e. the call stack with the lookahead stack on top of it
+ */
+private int stackProductionId(int index) {
+    int parsingStackSize = parsingStack.size();
+    return index < parsingStackSize ? parsingStack.getProductionId(index) : lookaheadStack.getProductionId(index - parsingStackSize);
+}
+
+private final void pushOntoLookaheadStack(int productionId, String fileName, int line, int column) {
+    lookaheadStack.push(productionId, fileName, line, column);
+}
+
+private final void popLookaheadStack() {
+    this.currentLookaheadProduction = lookaheadStack.getProductionId(lookaheadStack.size() - 1);
+    lookaheadStack.pop();
+}
+
+void dumpLookaheadStack(PrintStream ps) {
+    lookaheadStack.dump(ps);
+}
+
+void dumpCallStack(PrintStream ps) {
+    parsingStack.dump(ps);
+}
+
+void dumpLookaheadCallStack(PrintStream ps) {
+    ps.println("Current Parser Production is: " + productionName(currentlyParsedProduction));
+    ps.println("Current Lookahead Production is: " + productionName(currentLookaheadProduction));
+    ps.println("---Lookahead Stack---");
+    dumpLookaheadStack(ps);
+    ps.println("---Call Stack---");
+    dumpCallStack(ps);
+}
+
+[#if grammar.faultTolerant] 
+    private boolean tolerantParsing = true;
+    // Are we pending a recovery routine to
+    // get back on the rails?
+    private boolean pendingRecovery;
+//    private boolean debugFaultTolerant = false;
+
+    private java.util.List<ParsingProblem> parsingProblems = new java.util.ArrayList<>();
+
+    public java.util.List<ParsingProblem> getParsingProblems() {
+        return parsingProblems;
+    }
+
+    public boolean hasProblems() {
+        return !parsingProblems.isEmpty();
+    }
+
+    void addParsingProblem(ParsingProblem problem) {
+        parsingProblems.add(problem);
+    }
+[/#if]    
+
+    public boolean isParserTolerant() {
+       [#if grammar.faultTolerant] 
+        return tolerantParsing;
+       [#else]
+        return false;
+       [/#if]
+    }
+    
+    public void setParserTolerant(boolean tolerantParsing) {
+        [#if grammar.faultTolerant]
+          this.tolerantParsing = tolerantParsing;
+        [#else]
+          if (tolerantParsing) {
+            throw new UnsupportedOperationException("This parser was not built with that feature!");
+          }
+        [/#if]
+    }
+
+      private Token consumeToken(TokenType expectedType 
+        [#if grammar.faultTolerant], boolean tolerant, EnumSet<TokenType> followSet [/#if]
+      ) 
+      [#if grammar.useCheckedException] throws ParseException [/#if]
+      {
+        Token nextToken = nextToken(lastConsumedToken);
+        if (nextToken.getType() != expectedType) {
+            nextToken = handleUnexpectedTokenType(expectedType, nextToken
+            [#if grammar.faultTolerant], tolerant, followSet[/#if]
+            ) ;
+        }
+        this.lastConsumedToken = nextToken;
+        this.nextTokenType = null;
+[#if grammar.streamingInput]
+        // Unless we might have to backtrack, the input before this point is no longer needed
+        if (parseStateStack.isEmpty()) {
+            token_source.releaseInputBefore(lastConsumedToken.getBeginOffset());
+        }
+[/#if]
+[#if grammar.treeBuildingEnabled]
+      if (buildTree && tokensAreNodes) {
+  [#list grammar.openNodeScopeHooks as hook]
+     ${hook}(lastConsumedToken);
+  [/#list]
+          pushNode(lastConsumedToken);
+  [#list grammar.closeNodeScopeHooks as hook]
+     ${hook}(lastConsumedToken);
+  [/#list]
+      }
+[/#if]
+[#if grammar.faultTolerant]
+// Check whether the very next token is in the follow set of the last consumed token
+// and if it is not, we check one token ahead to see if skipping the next token remedies
+// the problem.
+      if (followSet != null && isParserTolerant()) {
+         nextToken = nextToken(lastConsumedToken);
+         if (!followSet.contains(nextToken.getType())) {
+            Token nextNext = nextToken(nextToken);
+            if (followSet.contains(nextNext.getType())) {
+               nextToken.setSkipped(true);
+//               if (debugFaultTolerant) LOGGER.info("Skipping token " + nextToken.getType() + " at: " + nextToken.getLocation());
+               //lastConsumedToken.setNext(nextNext);
+            }
+         }
+      }
+[/#if]      
+      return lastConsumedToken;
+  }
+ 
+  private Token handleUnexpectedTokenType(TokenType expectedType, Token nextToken
+      [#if grammar.faultTolerant], boolean tolerant, EnumSet<TokenType> followSet[/#if]
+      ) 
+      [#if grammar.useCheckedException] throws ParseException [/#if]
+      {
+      [#if !grammar.faultTolerant]
+       throw new ParseException(this, nextToken, EnumSet.of(expectedType), parsingStack.toList());
+      [#else]
+       if (!this.tolerantParsing) {
+          throw new ParseException(this, nextToken, EnumSet.of(expectedType), parsingStack.toList());
+       }
+       Token nextNext = nextToken(nextToken);
+       if (nextNext.getType() == expectedType) {
+             [#-- REVISIT. Here we skip one token (as well as any InvalidToken) but maybe (probably!) this behavior
+             should be configurable. But we need to experiment, because this is really a heuristic question, no?--]
+             nextToken.setSkipped(true);
+//             if (debugFaultTolerant) LOGGER.info("Skipping token of type: " + nextToken.getType() + " at: " + nextToken.getLocation());
+[#if grammar.treeBuildingEnabled]             
+             pushNode(nextToken);
+[/#if]             
+             //lastConsumedToken.setNext(nextNext);
+             return nextNext;
+       }
+         [#-- Since skipping the next token did not work, we will insert a virtual token --]
+       if (tolerant || followSet==null || followSet.contains(nextToken.getType())) {
+           Token virtualToken = Token.newToken(expectedType, token_source, 0,0);
+           virtualToken.setImage("VIRTUAL " + expectedType);
+           virtualToken.setVirtual(true);
+           virtualToken.copyLocationInfo(nextToken);
+           //virtualToken.setNext(nextToken);
+           //lastConsumedToken.setNext(virtualToken);
+//           if (debugFaultTolerant) LOGGER.info("Inserting virtual token of type: " + expectedType + " at " + virtualToken.getLocation());
+[#if MULTIPLE_LEXICAL_STATE_HANDLING]
+           if (token_source.doLexicalStateSwitch(expectedType)) {
+              token_source.reset(virtualToken);
+             [#if grammar.memoizeLookahead]
+              clearLookaheadMemo();
+             [/#if]
+           }
+[/#if]
+           return virtualToken;
+       }
+       throw new ParseException(this, nextToken, EnumSet.of(expectedType), parsingStack.toList());
+      [/#if]
+  }
+  
+  /**
+   * pushes the last token back.
+   */
+  private void pushLastTokenBack() {
+     [#if grammar.treeBuildingEnabled]
+        if (peekNode() == lastConsumedToken) {
+            popNode();
+        }
+     [/#if]
+     lastConsumedToken = lastConsumedToken.previousCachedToken();
+  }
+ 
+  private class ParseState {
+       Token lastConsumed;
+       CallStack parsingStack;
+   [#if MULTIPLE_LEXICAL_STATE_HANDLING]
+       LexicalState lexicalState;
+   [/#if]
+   [#if grammar.treeBuildingEnabled]
+       NodeScope nodeScope;
+ [/#if]       
+       ParseState() {
+           this.lastConsumed = ${grammar.parserClassName}.this.lastConsumedToken;
+           this.parsingStack = ${grammar.parserClassName}.this.parsingStack.clone();
+[#if grammar.lexerData.numLexicalStates > 1]
+           this.lexicalState = token_source.lexicalState;
+[/#if]
+[#if grammar.treeBuildingEnabled]            
+           this.nodeScope = currentNodeScope.clone();
+[/#if]           
+       } 
+  }
+
+  private ArrayList<ParseState> parseStateStack = new ArrayList<>();
+ 
+  private void stashParseState() {
+      parseStateStack.add(new ParseState());
+  }
+  
+  private ParseState popParseState() {
+      return parseStateStack.remove(parseStateStack.size() -1);
+  }
+  
+  private void restoreStashedParseState() {
+     ParseState state = popParseState();
+[#if grammar.treeBuildingEnabled]
+     currentNodeScope = state.nodeScope;
+[/#if]
+     ${grammar.parserClassName}.this.parsingStack = state.parsingStack;
+    if (state.lastConsumed != null) {
+        //REVISIT
+         lastConsumedToken = state.lastConsumed;
+    }
+[#if MULTIPLE_LEXICAL_STATE_HANDLING]
+     token_source.reset(lastConsumedToken, state.lexicalState);
+[#else]     
+     token_source.reset(lastConsumedToken);
+[/#if]          
+[#if grammar.memoizeLookahead]
+     clearLookaheadMemo();
+[/#if]
+  } 
+  
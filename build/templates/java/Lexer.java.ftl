@@ -0,0 +1,1429 @@
+[#--
+/* Copyright (c) 2008-2022 Jonathan Revusky, revusky@javacc.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notices,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name Jonathan Revusky nor the names of any contributors 
+ *       may be used to endorse or promote products derived from this software 
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+ --]
+ /* Generated by: ${generated_by}. ${filename} */
+ 
+ [#--
+    This template generates the XXXLexer.java class.
+    The details of generating the code for the NFA state machine
+    are in the imported template NfaCode.java.ftl
+ --]
+ 
+[#if grammar.parserPackage?has_content]
+    package ${grammar.parserPackage};
+    import static ${grammar.parserPackage}.${grammar.constantsClassName}.TokenType.*;
+[/#if]
+
+[#import "CommonUtils.java.ftl" as CU  ]
+
+[#var lexerData=grammar.lexerData]
+[#var multipleLexicalStates = lexerData.lexicalStates.size()>1]
+
+
+[#macro EnumSet varName tokenNames]
+   [#if tokenNames?size=0]
+       static private final EnumSet<TokenType> ${varName} = EnumSet.noneOf(TokenType.class);
+   [#else]
+       static final EnumSet<TokenType> ${varName} = EnumSet.of(
+       [#list tokenNames as type]
+          [#if type_index > 0],[/#if]
+          ${CU.TT}${type} 
+       [/#list]
+     ); 
+   [/#if]
+[/#macro]
+
+[#list grammar.parserCodeImports as import]
+   ${import}
+[/#list]
+
+import java.io.*;
+import java.nio.charset.Charset;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CharacterCodingException;
+import static java.nio.charset.StandardCharsets.*;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.EnumSet;
+
+public class ${grammar.lexerClassName} implements ${grammar.constantsClassName} {
+
+    // For some backward compatibility with very old stuff
+    private ${grammar.lexerClassName} input_stream = this;
+    private void backup(int amount) {
+        if (amount > bufferPosition) throw new ArrayIndexOutOfBoundsException();
+        this.bufferPosition -= amount;
+    }
+
+
+[#if !multipleLexicalStates]
+  [#if grammar.dfaLexer]
+    static final private ${grammar.nfaDataClassName}.DfaData dfaData = ${grammar.nfaDataClassName}.getDfaData(null);
+  [#else]
+    static final private ${grammar.nfaDataClassName}.NfaFunction[] nfaFunctions= ${grammar.nfaDataClassName}.getFunctionTableMap(null);
+    [#if grammar.asciiTableLexer]
+    static final private ${grammar.nfaDataClassName}.AsciiTable asciiTable = ${grammar.nfaDataClassName}.getAsciiTable(null);
+    [/#if]
+  [/#if]
+  [#if grammar.hashedKeywords]
+    static final private ${grammar.nfaDataClassName}.KeywordTable keywordTable = ${grammar.nfaDataClassName}.getKeywordTable(null);
+  [/#if]
+[/#if]
+
+    static final int DEFAULT_TAB_SIZE = ${grammar.tabSize};
+
+[#if grammar.preserveTabs]
+    private int tabSize = DEFAULT_TAB_SIZE;
+
+    /**
+     * set the tab size used for location reporting
+     */
+    public void setTabSize(int tabSize) {this.tabSize = tabSize;}
+[/#if]    
+
+
+
+  Token DUMMY_START_TOKEN = new Token();
+[#if grammar.streamingInput]
+    // Typically a filename, I suppose.
+    private String inputSource = "input";
+
+    // The starting line and column, usually 1,1
+    // that is used to report a file position 
+    // in 1-based line/column terms
+    private int startingLine, startingColumn;
+
+    // The offset in the internal buffer to the very
+    // next character that the readChar method returns
+    private int bufferPosition;
+
+   [#embed "StreamingInput.java.ftl"]
+[#else]
+ [#if !grammar.sparseTokenIndex]
+// Just a dummy Token value that we put in the tokenLocationTable
+// to indicate that this location in the file is ignored.
+  static final private Token IGNORED = new Token(), SKIPPED = new Token();
+  static {
+      IGNORED.setUnparsed(true);
+      SKIPPED.setUnparsed(true);
+  }
+ [/#if]
+
+   // Munged content, possibly replace unicode escapes, tabs, or CRLF with LF.
+    private CharSequence content;
+    // Typically a filename, I suppose.
+    private String inputSource = "input";
+    // Works out the line and column numbers, only when they are needed
+    private LineMap lineMap;
+
+
+    // The starting line and column, usually 1,1
+    // that is used to report a file position 
+    // in 1-based line/column terms
+    private int startingLine, startingColumn;
+
+    // The offset in the internal buffer to the very
+    // next character that the readChar method returns
+    private int bufferPosition;
+
+
+[#if !grammar.sparseTokenIndex]
+// A BitSet that stores where the tokens are located.
+// This is not strictly necessary, I suppose...
+   private BitSet tokenOffsets;
+[/#if]
+
+// Just a very simple, bloody minded approach, just store the
+// Token objects in a table where the offsets are the code unit 
+// positions in the content buffer. If the Token at a given offset is
+// the dummy or marker type IGNORED, then the location is skipped via
+// whatever preprocessor logic.    
+  [#if !grammar.sparseTokenIndex]
+    private Token[] tokenLocationTable;
+  [/#if]
+[/#if]
+
+ [#if grammar.lexerUsesParser]
+  public ${grammar.parserClassName} parser;
+ [/#if]
+[#if grammar.intWorklistLexer]
+  // The following two worklists are used to store 
+  // the current active NFA states in the core tokenization loop
+  private ${grammar.nfaDataClassName}.NfaWorklist nextStates = new ${grammar.nfaDataClassName}.NfaWorklist(${lexerData.maxCompositeStates}), 
+                                                    currentStates = new ${grammar.nfaDataClassName}.NfaWorklist(${lexerData.maxCompositeStates});
+
+  // The active token types as a bitmask indexed by ordinal, and the
+  // set that it was last computed from.
+  private long[] activeTypeMask = new long[(TokenType.values().length + 63) / 64];
+  private EnumSet<TokenType> activeTypeMaskSource;
+
+  private long[] getActiveTypeMask() {
+      if (activeTypeMaskSource == null || !activeTypeMaskSource.equals(activeTokenTypes)) {
+          Arrays.fill(activeTypeMask, 0L);
+          for (TokenType type : activeTokenTypes) {
+              activeTypeMask[type.ordinal() >> 6] |= 1L << type.ordinal();
+          }
+          activeTypeMaskSource = EnumSet.copyOf(activeTokenTypes);
+      }
+      return activeTypeMask;
+  }
+[#elseif !grammar.dfaLexer]
+  // The following two BitSets are used to store 
+  // the current active NFA states in the core tokenization loop
+  private BitSet nextStates=new BitSet(${lexerData.maxNfaStates}), currentStates = new BitSet(${lexerData.maxNfaStates});
+[/#if]
+
+  EnumSet<TokenType> activeTokenTypes = EnumSet.allOf(TokenType.class);
+  [#if grammar.deactivatedTokens?size>0 || grammar.extraTokens?size >0]
+     {
+       [#list grammar.deactivatedTokens as token]
+          activeTokenTypes.remove(${CU.TT}${token});
+       [/#list]
+       [#list grammar.extraTokenNames as token]
+          regularTokens.add(${CU.TT}${token});
+       [/#list]
+     }
+  [/#if]
+
+  // A lookup for lexical state transitions triggered by a certain token type
+  private static final EnumMap<TokenType, LexicalState> tokenTypeToLexicalStateMap = new EnumMap<>(TokenType.class);
+  // Token types that are "regular" tokens that participate in parsing,
+  // i.e. declared as TOKEN
+  [@EnumSet "regularTokens" lexerData.regularTokens.tokenNames /]
+  // Token types that do not participate in parsing, a.k.a. "special" tokens in legacy JavaCC,
+  // i.e. declared as UNPARSED (or SPECIAL_TOKEN)
+  [@EnumSet "unparsedTokens" lexerData.unparsedTokens.tokenNames /]
+  // Tokens that are skipped, i.e. SKIP 
+  [@EnumSet "skippedTokens" lexerData.skippedTokens.tokenNames /]
+  // Tokens that correspond to a MORE, i.e. that are pending 
+  // additional input
+  [@EnumSet "moreTokens" lexerData.moreTokens.tokenNames /]
+
+  // The source of the raw characters that we are scanning  
+
+  public String getInputSource() {
+      return inputSource;
+  }
+  
+  public void setInputSource(String inputSource) {
+      this.inputSource = inputSource;
+  }
+   
+  public ${grammar.lexerClassName}(CharSequence input) {
+    this("input", input);
+  }
+
+
+[#if !grammar.streamingInput]
+     /**
+      * @param inputSource just the naem of the input source (typically the filename)
+      * that will be used in error messages and so on.
+      * @param input the input
+      */
+     public ${grammar.lexerClassName}(String inputSource, CharSequence input) {
+        this(inputSource, input, LexicalState.${lexerData.lexicalStates[0].name}, 1, 1);
+     }
+
+     /**
+      * @param inputSource just the name of the input source (typically the filename) that 
+      * will be used in error messages and so on.
+      * @param input the input
+      * @param line The line number at which we are starting for the purposes of location/error messages. In most 
+      * normal usage, this is 1.
+      * @param column number at which we are starting for the purposes of location/error messages. In most normal
+      * usages this is 1.
+      */
+     public ${grammar.lexerClassName}(String inputSource, CharSequence input, LexicalState lexState, int startingLine, int startingColumn) {
+        this.inputSource = inputSource;
+        prepareInput(input);
+        this.startingLine = startingLine;
+        this.startingColumn = startingColumn;
+        switchTo(lexState);
+     }
+
+    /**
+     * @Deprecated Preferably use the constructor that takes a #java.nio.files.Path or simply a String,
+     * depending on your use case
+     */
+    public ${grammar.lexerClassName}(Reader reader) {
+       this("input", reader, LexicalState.${lexerData.lexicalStates[0].name}, 1, 1);
+    }
+    /**
+     * @Deprecated Preferably use the constructor that takes a #java.nio.files.Path or simply a String,
+     * depending on your use case
+     */
+    public ${grammar.lexerClassName}(String inputSource, Reader reader) {
+       this(inputSource, reader, LexicalState.${lexerData.lexicalStates[0].name}, 1, 1);
+    }
+
+    /**
+     * @Deprecated Preferably use the constructor that takes a #java.nio.files.Path or simply a String,
+     * depending on your use case
+     */
+    public ${grammar.lexerClassName}(String inputSource, Reader reader, LexicalState lexState, int line, int column) {
+        this(inputSource, readToEnd(reader), lexState, line, column);
+        switchTo(lexState);
+    }
+
+    /**
+     * Resets this lexer so that it tokenizes the given input from the start, 
+     * as if it had just been constructed, but reusing its internal buffers, 
+     * such as the token location table, when they are big enough.
+     * The Tokens from the previous input refer back to this lexer, so 
+     * they (and any Nodes built from them) should not be used after this.
+     * @param inputSource just the name of the input source (typically the filename)
+     * @param input the input
+     */
+    public void reset(String inputSource, CharSequence input) {
+        reset(inputSource, input, LexicalState.${lexerData.lexicalStates[0].name}, 1, 1);
+    }
+
+    /**
+     * Resets this lexer so that it tokenizes the given input from the start.
+     * (See #reset(String, CharSequence))
+     */
+    public void reset(String inputSource, CharSequence input, LexicalState lexState, int startingLine, int startingColumn) {
+      [#if grammar.sparseTokenIndex]
+        Arrays.fill(cachedTokens, 0, cachedTokenCount, null);
+        cachedTokenCount = 0;
+        ignoredRegionCount = 0;
+      [#else]
+        if (tokenLocationTable != null) {
+            Arrays.fill(tokenLocationTable, 0, Math.min(tokenLocationTable.length, content.length() + 1), null);
+            tokenOffsets.clear();
+        }
+      [/#if]
+        this.inputSource = inputSource;
+        this.lineMap = null;
+        this.bufferPosition = 0;
+        prepareInput(input);
+        this.startingLine = startingLine;
+        this.startingColumn = startingColumn;
+        switchTo(lexState);
+        DUMMY_START_TOKEN = new Token();
+        activeTokenTypes = EnumSet.allOf(TokenType.class);
+      [#list grammar.deactivatedTokens as token]
+        activeTokenTypes.remove(${CU.TT}${token});
+      [/#list]
+    }
+[/#if]
+
+    private Token getNextToken() {
+      InvalidToken invalidToken = null;
+      Token token = nextToken();
+      while (token instanceof InvalidToken) {
+          if (invalidToken == null) {
+              invalidToken = (InvalidToken) token;
+          } else {
+              invalidToken.setEndOffset(token.getEndOffset());
+          }
+          token = nextToken();
+      }
+      if (invalidToken != null) cacheToken(invalidToken);
+      cacheToken(token);
+      if (invalidToken != null) {
+        goTo(invalidToken.getEndOffset());
+        return invalidToken;
+      }
+      return token;
+    }
+
+  /**
+   * The public method for getting the next token.
+   * If the tok parameter is null, it just tokenizes 
+   * starting at the internal bufferPosition
+   * Otherwise, it checks whether we have already cached
+   * the token after this one. If not, it finally goes 
+   * to the NFA machinery
+   */ 
+    public Token getNextToken(Token tok) {
+       if(tok == null) {
+           return getNextToken();
+       }
+       Token cachedToken = tok.nextCachedToken();
+    // If the cached next token is not currently active, we
+    // throw it away and go back to the XXXLexer
+       if (cachedToken != null && !activeTokenTypes.contains(cachedToken.getType())) {
+           reset(tok);
+           cachedToken = null;
+       }
+       return cachedToken != null ? cachedToken : getNextToken(tok.getEndOffset());
+    }
+
+    /**
+     * A lower level method to tokenize, that takes the absolute
+     * offset into the content buffer as a parameter
+     * @param offset where to start
+     * @return the token that results from scanning from the given starting point 
+     */
+    public Token getNextToken(int offset) {
+        goTo(offset);
+        return getNextToken();
+    }
+
+// The main method to invoke the NFA machinery
+ private final Token nextToken() {
+      Token matchedToken = null;
+      boolean inMore = false;
+      int tokenBeginOffset = this.bufferPosition, firstChar =0;
+      // The core tokenization loop
+      while (matchedToken == null) {
+        int curChar, codeUnitsRead=0, matchedPos=0;
+        TokenType matchedType = null;
+        boolean reachedEnd = false;
+        if (inMore) {
+            curChar = readChar();
+            if (curChar == -1) reachedEnd = true;
+        }
+        else {
+            tokenBeginOffset = this.bufferPosition;
+            firstChar = curChar = readChar();
+            if (curChar == -1) {
+              matchedType = TokenType.EOF;
+              reachedEnd = true;
+            }
+        } 
+      [#if grammar.dfaLexer]
+        [@DfaLoop/]
+      [#else]
+      [#if multipleLexicalStates]
+       // Get the NFA function table current lexical state
+       // There is some possibility that there was a lexical state change
+       // since the last iteration of this loop!
+        ${grammar.nfaDataClassName}.NfaFunction[] nfaFunctions= ${grammar.nfaDataClassName}.getFunctionTableMap(lexicalState);
+        [#if grammar.asciiTableLexer]
+        ${grammar.nfaDataClassName}.AsciiTable asciiTable = ${grammar.nfaDataClassName}.getAsciiTable(lexicalState);
+        [/#if]
+      [/#if]
+      [#if grammar.intWorklistLexer]
+        [@WorklistLoop/]
+      [#else]
+        // the core NFA loop
+        if (!reachedEnd) do {
+            // Holder for the new type (if any) matched on this iteration
+            TokenType newType = null;
+            if (codeUnitsRead > 0) {
+                // What was nextStates on the last iteration 
+                // is now the currentStates!
+                BitSet temp = currentStates;
+                currentStates = nextStates;
+                nextStates = temp;
+                int retval = readChar();
+                if (retval >=0) {
+                    curChar = retval;
+                }
+                else {
+                    reachedEnd = true;
+                    break;
+                }
+            }
+            nextStates.clear();
+            int nextActive = codeUnitsRead == 0 ? 0 : currentStates.nextSetBit(0);
+          [#if grammar.asciiTableLexer]
+            if (curChar < 128) {
+                // Look up the precomputed moves rather than
+                // invoking the NFA functions
+                int charClass = asciiTable.charClasses[curChar];
+                do {
+                    int move = asciiTable.moves[nextActive * asciiTable.charClassCount + charClass];
+                    if (move != 0) {
+                        for (int target : asciiTable.targets[move]) {
+                            nextStates.set(target);
+                        }
+                        for (TokenType type : asciiTable.types[move]) {
+                            if (newType != null && type.ordinal() >= newType.ordinal()) break;
+                            if (activeTokenTypes.contains(type)) {
+                                newType = type;
+                                break;
+                            }
+                        }
+                    }
+                    nextActive = codeUnitsRead == 0 ? -1 : currentStates.nextSetBit(nextActive+1);
+                } while (nextActive != -1);
+            } 
+            else do {
+          [#else]
+            do {
+          [/#if]
+                TokenType returnedType = nfaFunctions[nextActive].apply(curChar, nextStates, activeTokenTypes);
+                if (returnedType != null && (newType == null || returnedType.ordinal() < newType.ordinal())) {
+                    newType = returnedType;
+                }
+                nextActive = codeUnitsRead == 0 ? -1 : currentStates.nextSetBit(nextActive+1);
+            } while (nextActive != -1);
+            ++codeUnitsRead;
+            if (curChar>0xFFFF) ++codeUnitsRead;
+            if (newType != null) {
+                matchedType = newType;
+                inMore = moreTokens.contains(matchedType);
+                matchedPos= codeUnitsRead;
+            }
+        } while (!nextStates.isEmpty());
+      [/#if]
+      [/#if]
+        if (matchedType == null) {
+            bufferPosition = tokenBeginOffset+1;
+            if (firstChar>0xFFFF) ++bufferPosition;
+            return new InvalidToken(this, tokenBeginOffset, bufferPosition);
+        } 
+        bufferPosition -= (codeUnitsRead - matchedPos);
+      [#if grammar.hashedKeywords]
+        [#if multipleLexicalStates]
+        ${grammar.nfaDataClassName}.KeywordTable keywordTable = ${grammar.nfaDataClassName}.getKeywordTable(lexicalState);
+        [/#if]
+        if (keywordTable != null) {
+            // The string literals that are left out of the NFA are
+            // matched as some other type, so see whether the text is
+            // one of them and, if so, whether it has priority.
+          [#if grammar.streamingInput]
+            TokenType keywordType = keywordTable.get(CharBuffer.wrap(window), bufferPosition - matchedPos - windowStart, bufferPosition - windowStart);
+          [#else]
+            TokenType keywordType = keywordTable.get(content, bufferPosition - matchedPos, bufferPosition);
+          [/#if]
+            if (keywordType != null && keywordType.ordinal() < matchedType.ordinal() && activeTokenTypes.contains(keywordType)) {
+                matchedType = keywordType;
+                inMore = moreTokens.contains(matchedType);
+            }
+        }
+      [/#if]
+      [#if grammar.streamingInput || grammar.sparseTokenIndex]
+        if (regularTokens.contains(matchedType) || unparsedTokens.contains(matchedType)) {
+      [#else]
+        if (skippedTokens.contains(matchedType)) {
+            for (int i=tokenBeginOffset; i< bufferPosition; i++) {
+                if (tokenLocationTable[i] != IGNORED) tokenLocationTable[i] = SKIPPED;
+            }
+        }
+        else if (regularTokens.contains(matchedType) || unparsedTokens.contains(matchedType)) {
+      [/#if]
+            matchedToken = Token.newToken(matchedType, 
+                                        this, 
+                                        tokenBeginOffset,
+                                        bufferPosition);
+            matchedToken.setUnparsed(!regularTokens.contains(matchedType));
+        }
+     [#if lexerData.hasLexicalStateTransitions]
+        doLexicalStateSwitch(matchedType);
+     [/#if]
+     [#if lexerData.hasTokenActions]
+        matchedToken = tokenLexicalActions(matchedToken, matchedType);
+     [/#if]
+      }
+ [#list grammar.lexerTokenHooks as tokenHookMethodName]
+    [#if tokenHookMethodName = "CommonTokenAction"]
+           ${tokenHookMethodName}(matchedToken);
+    [#else]
+            matchedToken = ${tokenHookMethodName}(matchedToken);
+    [/#if]
+ [/#list]
+      return matchedToken;
+   }
+
+   LexicalState lexicalState = LexicalState.values()[0];
+
+[#if lexerData.hasLexicalStateTransitions]
+  // Generate the map for lexical state transitions from the various token types
+  static {
+    [#list grammar.lexerData.regularExpressions as regexp]
+      [#if !regexp.newLexicalState?is_null]
+          tokenTypeToLexicalStateMap.put(TokenType.${regexp.label},LexicalState.${regexp.newLexicalState.name});
+      [/#if]
+    [/#list]
+  }
+
+  boolean doLexicalStateSwitch(TokenType tokenType) {
+       LexicalState newState = tokenTypeToLexicalStateMap.get(tokenType);
+       if (newState == null) return false;
+       return switchTo(newState);
+  }
+[/#if]
+  
+    /** 
+     * Switch to specified lexical state. 
+     * @param lexState the lexical state to switch to
+     * @return whether we switched (i.e. we weren't already in the desired lexical state)
+     */
+    public boolean switchTo(LexicalState lexState) {
+        if (this.lexicalState != lexState) {
+           this.lexicalState = lexState;
+           return true;
+        }
+        return false;
+    }
+
+    // Reset the token source input
+    // to just after the Token passed in.
+    void reset(Token t, LexicalState state) {
+[#list grammar.resetTokenHooks as resetTokenHookMethodName]
+      ${resetTokenHookMethodName}(t);
+[/#list]
+      goTo(t.getEndOffset());
+      uncacheTokens(t);
+      if (state != null) {
+          switchTo(state);
+      }
+[#if lexerData.hasLexicalStateTransitions] 
+      else {
+          doLexicalStateSwitch(t.getType());
+      }
+[/#if]        
+    }
+
+  void reset(Token t) {
+      reset(t, null);
+  }
+    
+ [#if lexerData.hasTokenActions]
+  private Token tokenLexicalActions(Token matchedToken, TokenType matchedType) {
+    switch(matchedType) {
+   [#list lexerData.regularExpressions as regexp]
+        [#if regexp.codeSnippet?has_content]
+		  case ${regexp.label} :
+		      ${regexp.codeSnippet.javaCode}
+           break;
+        [/#if]
+   [/#list]
+      default : break;
+    }
+    return matchedToken;
+  }
+ [/#if]
+
+[#if !grammar.streamingInput]
+    // But there is no goto in Java!!!
+    private void goTo(int offset) {
+      [#if grammar.sparseTokenIndex]
+        offset = skipIgnored(offset);
+      [#else]
+        while (offset<content.length() && tokenLocationTable[offset] == IGNORED) {
+            ++offset;
+        }
+      [/#if]
+        this.bufferPosition = offset;
+    }
+
+    /**
+     * @return the line length in code _units_
+     */ 
+    private int getLineLength(int lineNumber) {
+        int startOffset = getLineStartOffset(lineNumber);
+        int endOffset = getLineEndOffset(lineNumber);
+        return 1+endOffset - startOffset;
+    }
+
+    /**
+     * The offset of the start of the given line. This is in code units
+     */
+    private int getLineStartOffset(int lineNumber) {
+        int realLineNumber = lineNumber - startingLine;
+        if (realLineNumber <=0) {
+            return 0;
+        }
+        return getLineMap().getLineStartOffset(realLineNumber);
+    }
+
+    /**
+     * The offset of the end of the given line. This is in code units.
+     */
+    private int getLineEndOffset(int lineNumber) {
+        int realLineNumber = lineNumber - startingLine;
+        if (realLineNumber <0) {
+            return 0;
+        }
+        LineMap lineMap = getLineMap();
+        if (lineMap.getLineStartOffset(realLineNumber) >= content.length()) {
+            return content.length();
+        }
+        return lineMap.getLineStartOffset(realLineNumber+1) -1;
+    }
+
+    private int readChar() {
+      [#if grammar.sparseTokenIndex]
+        if (ignoredRegionCount > 0) {
+            bufferPosition = skipIgnored(bufferPosition);
+        }
+      [#else]
+        while (tokenLocationTable[bufferPosition] == IGNORED && bufferPosition < content.length()) {
+            ++bufferPosition;
+        }
+      [/#if]
+        if (bufferPosition >= content.length()) {
+            return -1;
+        }
+        char ch = content.charAt(bufferPosition++);
+        if (Character.isHighSurrogate(ch) && bufferPosition < content.length()) {
+            char nextChar = content.charAt(bufferPosition);
+            if (Character.isLowSurrogate(nextChar)) {
+                ++bufferPosition;
+                return Character.toCodePoint(ch, nextChar);
+            }
+        }
+        return ch;
+    }
+
+    /**
+     * This is used in conjunction with having a preprocessor.
+     * We set which lines are actually parsed lines and the 
+     * unset ones are ignored. 
+     * @param parsedLines a #java.util.BitSet that holds which lines
+     * are parsed (i.e. not ignored)
+     */
+    private void setParsedLines(BitSet parsedLines, boolean reversed) {
+        LineMap lineMap = getLineMap();
+        int lineCount = lineMap.getLineCount();
+        for (int i=0; i < lineCount; i++) {
+            boolean turnOffLine = !parsedLines.get(i+1);
+            if (reversed) turnOffLine = !turnOffLine;
+            if (turnOffLine) {
+                int lineOffset = lineMap.getLineStartOffset(i);
+                int nextLineOffset = i < lineCount -1 ? lineMap.getLineStartOffset(i+1) : content.length();
+              [#if grammar.sparseTokenIndex]
+                ignoreRegion(lineOffset, nextLineOffset);
+              [#else]
+                for (int offset = lineOffset; offset < nextLineOffset; offset++) {
+                    tokenLocationTable[offset] = IGNORED;
+                }
+              [/#if]
+            }
+        }
+    }
+
+    /**
+     * This is used in conjunction with having a preprocessor.
+     * We set which lines are actually parsed lines and the 
+     * unset ones are ignored. 
+     * @param parsedLines a #java.util.BitSet that holds which lines
+     * are parsed (i.e. not ignored)
+     */
+    public void setParsedLines(BitSet parsedLines) {setParsedLines(parsedLines,false);}
+
+    public void setUnparsedLines(BitSet unparsedLines) {setParsedLines(unparsedLines,true);}
+
+    /**
+     * @return the LineMap that works out line and column numbers
+     * for this lexer's content. It is created on first use.
+     */
+    public LineMap getLineMap() {
+        if (lineMap == null) {
+            lineMap = new LineMap(content);
+        }
+        return lineMap;
+    }
+
+    /**
+     * Use a LineMap that has already been built, typically by another
+     * lexer over the same content, so the line offsets are not worked out again.
+     * @param lineMap a LineMap over this lexer's content
+     */
+    public void setLineMap(LineMap lineMap) {
+        if (lineMap.getContent() != content) {
+            throw new IllegalArgumentException("The LineMap is not over the same content as this lexer.");
+        }
+        this.lineMap = lineMap;
+    }
+
+    /**
+     * @return the line number from the absolute offset passed in as a parameter
+     */
+    public int getLineFromOffset(int pos) {
+        return startingLine + getLineMap().getLineIndex(pos);
+    }
+
+    /**
+     * @return the column (1-based and in code points)
+     * from the absolute offset passed in as a parameter
+     */
+    public int getCodePointColumnFromOffset(int pos) {
+      [#if grammar.preserveTabs]
+        return getLineMap().getCodePointColumn(pos, startingColumn, tabSize);
+      [#else]
+        return getLineMap().getCodePointColumn(pos, startingColumn, DEFAULT_TAB_SIZE);
+      [/#if]
+    }
+    
+    /**
+     * @return the text between startOffset (inclusive)
+     * and endOffset(exclusive)
+     */
+    public String getText(int startOffset, int endOffset) {
+      [#if grammar.sparseTokenIndex]
+        if (ignoredRegionCount == 0) {
+            return content.subSequence(startOffset, endOffset).toString();
+        }
+        StringBuilder buf = new StringBuilder();
+        for (int offset = skipIgnored(startOffset); offset < endOffset; offset = skipIgnored(offset)) {
+            int regionEnd = Math.min(endOffset, nextIgnoredOffset(offset));
+            buf.append(content, offset, regionEnd);
+            offset = regionEnd;
+        }
+        return buf.toString();
+      [#else]
+        StringBuilder buf = new StringBuilder();
+        for (int offset = startOffset; offset < endOffset; offset++) {
+            if (tokenLocationTable[offset] != IGNORED) {
+                buf.append(content.charAt(offset));
+            }
+        }
+        return buf.toString();
+      [/#if]
+    }
+
+[#if grammar.sparseTokenIndex]
+   [#embed "SparseTokenIndex.java.ftl"]
+[#else]
+
+    void cacheToken(Token tok) {
+[#if !grammar.minimalToken]        
+        if (tok.isInserted()) {
+            Token next = tok.nextCachedToken();
+            if (next != null) cacheToken(next);
+            return;
+        }
+[/#if]        
+	    int offset = tok.getBeginOffset();
+        if (tokenLocationTable[offset] != IGNORED) {
+	        tokenOffsets.set(offset);
+	        tokenLocationTable[offset] = tok;
+        }
+    }
+
+    void uncacheTokens(Token lastToken) {
+        int endOffset = lastToken.getEndOffset();
+        if (endOffset < tokenOffsets.length()) {
+            tokenOffsets.clear(lastToken.getEndOffset(), tokenOffsets.length());
+        }
+      [#if !grammar.minimalToken]
+        lastToken.unsetAppendedToken();
+      [/#if]
+    }
+
+    Token nextCachedToken(int offset) {
+        int nextOffset = tokenOffsets.nextSetBit(offset);
+	    return nextOffset != -1 ? tokenLocationTable[nextOffset] : null;
+    } 
+
+    Token previousCachedToken(int offset) {
+        int prevOffset = tokenOffsets.previousSetBit(offset-1);
+        return prevOffset == -1 ? null : tokenLocationTable[prevOffset];
+    }
+[/#if]
+
+    /**
+     * This does everything that needs to be done with the input before
+     * we start tokenizing, in a single pass. It munges the content, i.e.
+     * possibly replaces unicode escapes, tabs, or CRLF with LF, (copying it only
+     * if something actually changes)[#if grammar.cppContinuationLine] and, at the same time, finds the C-style continuation lines[/#if].
+     * The line offsets are not worked out here, but lazily, by the LineMap.
+     */
+    private void prepareInput(CharSequence input) {
+        final int length = input.length();
+        StringBuilder buf = null;
+        // The position in the munged content
+        int pos = 0;
+        char lastChar = 0;
+      [#if !grammar.preserveTabs]
+        // This is just to handle tabs to spaces.
+        int col = 0;
+      [/#if]
+      [#if grammar.javaUnicodeEscape]
+        int numPrecedingSlashes = 0;
+      [/#if]
+      [#if grammar.cppContinuationLine]
+        // The (start, end) offsets of the continuation lines, and the position of
+        // the last backslash that has only been followed by whitespace
+        int[] continuationLines = new int[16];
+        int continuationLineCount = 0, lastBackslash = -1;
+      [/#if]
+        int index = 0;
+        while (true) {
+            char ch;
+            int numChars = 1;
+            boolean changed = false;
+            if (index < length) {
+                ch = input.charAt(index++);
+            }
+          [#if grammar.ensureFinalEOL]
+            else if (pos == 0 || (lastChar != '\n' && lastChar != '\r')) {
+                ch = '\n';
+                changed = true;
+            }
+          [/#if]
+            else break;
+          [#if grammar.javaUnicodeEscape]
+            numPrecedingSlashes = ch == '\\' ? numPrecedingSlashes + 1 : 0;
+            if (ch == '\\' && numPrecedingSlashes % 2 == 1 && index < length && input.charAt(index) == 'u') {
+                int numConsecutiveUs = 0;
+                while (index + numConsecutiveUs < length && input.charAt(index + numConsecutiveUs) == 'u') {
+                    numConsecutiveUs++;
+                }
+                String fourHexDigits = input.subSequence(index+numConsecutiveUs, index+numConsecutiveUs+4).toString();
+                ch = (char) Integer.parseInt(fourHexDigits, 16);
+                index += numConsecutiveUs + 4;
+                numPrecedingSlashes = 0;
+              [#if !grammar.preserveTabs]
+                ++col;
+              [/#if]
+                changed = true;
+            }
+            else
+          [/#if]
+          [#if !grammar.preserveLineEndings]
+            if (ch == '\r') {
+                ch = '\n';
+              [#if !grammar.preserveTabs]
+                col = 0;
+              [/#if]
+                changed = true;
+                if (index < length && input.charAt(index) == '\n') {
+                    ++index;
+                }
+            }
+            else
+          [/#if]
+          [#if !grammar.preserveTabs]
+            if (ch == '\t') {
+                ch = ' ';
+                numChars = DEFAULT_TAB_SIZE - col % DEFAULT_TAB_SIZE;
+                col += numChars;
+                changed = true;
+            }
+            else
+          [/#if]
+            {
+          [#if !grammar.preserveTabs]
+                if (ch == '\n') col = 0;
+                else if (!Character.isLowSurrogate(ch)) ++col;
+          [/#if]
+            }
+            if (changed && buf == null) {
+                // Up to here, the munged content is the same as the input
+                buf = new StringBuilder(length + 16);
+                buf.append(input, 0, pos);
+            }
+            if (buf != null) {
+                for (int i = 0; i < numChars; i++) buf.append(ch);
+            }
+          [#if grammar.cppContinuationLine]
+            if (ch == '\n' && lastBackslash >= 0) {
+                if (continuationLineCount == continuationLines.length) {
+                    continuationLines = Arrays.copyOf(continuationLines, continuationLineCount * 2);
+                }
+                continuationLines[continuationLineCount++] = lastBackslash;
+                continuationLines[continuationLineCount++] = pos + 1;
+                lastBackslash = -1;
+            }
+            if (ch == '\\') lastBackslash = pos;
+            else if (ch > ' ') lastBackslash = -1;
+          [/#if]
+            lastChar = ch;
+            pos += numChars;
+        }
+        if (buf != null) {
+            this.content = buf.toString();
+        } else {
+            // Nothing changed, so we can avoid making a copy, unless the input
+            // is something that the caller could change under our feet.
+            this.content = input instanceof String || input instanceof MappedCharSequence ? input : input.toString();
+        }
+      [#if !grammar.sparseTokenIndex]
+        // The table may be left over from the previous input (see #reset)
+        if (tokenLocationTable == null || tokenLocationTable.length < pos+1) {
+            tokenLocationTable = new Token[pos+1];
+            tokenOffsets = new BitSet(pos+1);
+        }
+      [/#if]
+      [#if grammar.cppContinuationLine]
+        for (int i = 0; i < continuationLineCount; i += 2) {
+          [#if grammar.sparseTokenIndex]
+            ignoreRegion(continuationLines[i], continuationLines[i+1]);
+          [#else]
+            Arrays.fill(tokenLocationTable, continuationLines[i], continuationLines[i+1], IGNORED);
+          [/#if]
+        }
+      [/#if]
+    }
+[/#if]
+ 
+[#if !grammar.streamingInput]
+  /**
+   * @param path the file to read
+   * @param charset the encoding of the file. If this is null, we check for the
+   * initial byte order mark and, if there is none, assume UTF-8.
+   * @return the content of the file. If the encoding is UTF-8, US-ASCII or ISO-8859-1,
+   * this is a view of the memory-mapped file, so the content is not copied
+   * onto the heap, except for the (decoded) parts that are not ASCII. For other encodings,
+   * the file is simply read in and decoded.
+   */
+  static public CharSequence mapFile(java.nio.file.Path path, Charset charset) throws IOException {
+    try (java.nio.channels.FileChannel channel = java.nio.channels.FileChannel.open(path)) {
+        long size = channel.size();
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("The file " + path + " is too big.");
+        }
+        ByteBuffer bytes = channel.map(java.nio.channels.FileChannel.MapMode.READ_ONLY, 0, size);
+        int start = 0;
+        if (charset == null) {
+            int firstByte = size > 0 ? Byte.toUnsignedInt(bytes.get(0)) : 1;
+            int secondByte = size > 1 ? Byte.toUnsignedInt(bytes.get(1)) : 1;
+            int thirdByte = size > 2 ? Byte.toUnsignedInt(bytes.get(2)) : 1;
+            if (firstByte == 0xEF && secondByte == 0xBB && thirdByte == 0xBF) {
+                start = 3;
+            }
+            else if ((firstByte == 0xFE && secondByte == 0xFF) || (firstByte == 0xFF && secondByte == 0xFE) || firstByte == 0) {
+                // Some variant of UTF-16 or UTF-32
+                byte[] content = new byte[(int) size];
+                bytes.get(content);
+                return stringFromBytes(content, null);
+            }
+            charset = UTF_8;
+        }
+        if (!charset.equals(UTF_8) && !charset.equals(US_ASCII) && !charset.equals(ISO_8859_1)) {
+            byte[] content = new byte[(int) size];
+            bytes.get(content);
+            return stringFromBytes(content, charset);
+        }
+        ((Buffer) bytes).position(start);
+        return new MappedCharSequence(bytes.slice(), charset);
+    }
+  }
+
+  /**
+   * A CharSequence that reads from a memory-mapped file. The file is split into blocks,
+   * and the ones that are pure ASCII (or all of them in the case of ISO-8859-1) 
+   * are read directly from the mapped bytes. Only the other blocks are decoded.
+   */
+  private static final class MappedCharSequence implements CharSequence {
+    static final int BLOCK_SIZE = 0x1000;
+    private final ByteBuffer bytes;
+    // The offsets of the first byte and the first char of each block.
+    // The last entry is the overall length.
+    private final int[] byteStarts, charStarts;
+    // The decoded chars of each block, or null if the block is read directly
+    private final char[][] decodedBlocks;
+    private final int numBlocks;
+    // The block that was accessed last, since access is mostly sequential.
+    // It is only a hint: charAt reads it once and checks it against the
+    // (immutable) block offsets, so the sequence can be read from several 
+    // threads at once, and a thread that sees a stale value just searches again.
+    private int lastBlock;
+
+    MappedCharSequence(ByteBuffer bytes, Charset charset) throws CharacterCodingException {
+        this.bytes = bytes;
+        boolean latin1 = charset.equals(ISO_8859_1);
+        int length = bytes.limit();
+        int maxBlocks = length / BLOCK_SIZE + 1;
+        byteStarts = new int[maxBlocks + 1];
+        charStarts = new int[maxBlocks + 1];
+        decodedBlocks = new char[maxBlocks][];
+        CharsetDecoder decoder = charset.newDecoder();
+        int block = 0, byteStart = 0, charStart = 0;
+        while (byteStart < length) {
+            int byteEnd = Math.min(length, byteStart + BLOCK_SIZE);
+            // Don't split a UTF-8 sequence between blocks
+            while (!latin1 && byteEnd < length && (bytes.get(byteEnd) & 0xC0) == 0x80) {
+                ++byteEnd;
+            }
+            boolean direct = latin1;
+            if (!direct) {
+                direct = true;
+                for (int i = byteStart; i < byteEnd; i++) {
+                    if (bytes.get(i) < 0) {
+                        direct = false;
+                        break;
+                    }
+                }
+            }
+            byteStarts[block] = byteStart;
+            charStarts[block] = charStart;
+            if (direct) {
+                charStart += byteEnd - byteStart;
+            } else {
+                ByteBuffer blockBytes = bytes.duplicate();
+                ((Buffer) blockBytes).limit(byteEnd);
+                ((Buffer) blockBytes).position(byteStart);
+                decoder.reset();
+                CharBuffer chars = decode(decoder, blockBytes.slice(), true);
+                decodedBlocks[block] = new char[chars.remaining()];
+                chars.get(decodedBlocks[block]);
+                charStart += decodedBlocks[block].length;
+            }
+            ++block;
+            byteStart = byteEnd;
+        }
+        byteStarts[block] = length;
+        charStarts[block] = charStart;
+        numBlocks = block;
+    }
+
+    public int length() {
+        return charStarts[numBlocks];
+    }
+
+    public char charAt(int index) {
+        int block = lastBlock;
+        if (index < charStarts[block] || index >= charStarts[block+1]) {
+            if (index < 0 || index >= length()) {
+                throw new IndexOutOfBoundsException("index: " + index + ", length: " + length());
+            }
+            block = Arrays.binarySearch(charStarts, 0, numBlocks, index);
+            if (block < 0) block = -block - 2;
+            lastBlock = block;
+        }
+        char[] decoded = decodedBlocks[block];
+        if (decoded != null) {
+            return decoded[index - charStarts[block]];
+        }
+        return (char) (bytes.get(byteStarts[block] + index - charStarts[block]) & 0xFF);
+    }
+
+    public CharSequence subSequence(int start, int end) {
+        StringBuilder buf = new StringBuilder(end - start);
+        for (int i = start; i < end; i++) {
+            buf.append(charAt(i));
+        }
+        return buf.toString();
+    }
+
+    public String toString() {
+        return subSequence(0, length()).toString();
+    }
+  }
+
+  // Utility methods. Having them here makes it easier to handle things
+  // more uniformly in other generation languages.
+
+   private void setRegionIgnore(int start, int end) {
+   [#if grammar.sparseTokenIndex]
+     ignoreRegion(start, end);
+     uncacheRegion(start, end);
+   [#else]
+     for (int i = start; i< end; i++) {
+       tokenLocationTable[i] = IGNORED;
+     }
+     tokenOffsets.clear(start, end);
+   [/#if]
+   }
+
+   private boolean atLineStart(Token tok) {
+      int offset = tok.getBeginOffset();
+      while (offset > 0) {
+        --offset;
+        char c = this.content.charAt(offset);
+        if (!Character.isWhitespace(c)) return false;
+        if (c=='\n') break;
+      }
+      return true;
+   }
+
+   private String getLine(Token tok) {
+       int lineNum = tok.getBeginLine();
+       return getText(getLineStartOffset(lineNum), getLineEndOffset(lineNum)+1);
+   }
+
+   private void setLineSkipped(Token tok) {
+       int lineNum = tok.getBeginLine();
+       int start = getLineStartOffset(lineNum);
+       int end = getLineStartOffset(lineNum+1);
+       setRegionIgnore(start, end);
+       tok.setBeginOffset(start);
+       tok.setEndOffset(end);
+   }
+[/#if]
+
+  static String displayChar(int ch) {
+    if (ch == '\'') return "\'\\'\'";
+    if (ch == '\\') return "\'\\\\\'";
+    if (ch == '\t') return "\'\\t\'";
+    if (ch == '\r') return "\'\\r\'";
+    if (ch == '\n') return "\'\\n\'";
+    if (ch == '\f') return "\'\\f\'";
+    if (ch == ' ') return "\' \'";
+    if (ch < 128 && !Character.isWhitespace(ch) && !Character.isISOControl(ch)) return "\'" + (char) ch + "\'";
+    if (ch < 10) return "" + ch;
+    return "0x" + Integer.toHexString(ch);
+  }
+
+  static String addEscapes(String str) {
+      StringBuilder retval = new StringBuilder();
+      for (int ch : str.codePoints().toArray()) {
+        switch (ch) {
+           case '\b':
+              retval.append("\\b");
+              continue;
+           case '\t':
+              retval.append("\\t");
+              continue;
+           case '\n':
+              retval.append("\\n");
+              continue;
+           case '\f':
+              retval.append("\\f");
+              continue;
+           case '\r':
+              retval.append("\\r");
+              continue;
+           case '\"':
+              retval.append("\\\"");
+              continue;
+           case '\'':
+              retval.append("\\\'");
+              continue;
+           case '\\':
+              retval.append("\\\\");
+              continue;
+           default:
+              if (Character.isISOControl(ch)) {
+                 String s = "0000" + java.lang.Integer.toString(ch, 16);
+                 retval.append("\\u" + s.substring(s.length() - 4, s.length()));
+              } else {
+                 retval.appendCodePoint(ch);
+              }
+              continue;
+        }
+      }
+      return retval.toString();
+  }
+
+  // Annoying kludge really...
+  static String readToEnd(Reader reader) {
+    try {
+        return readFully(reader);
+    } catch (IOException ioe) {
+        throw new RuntimeException(ioe);
+    }
+  }
+
+  static final int BUF_SIZE = 0x10000;
+
+  static String readFully(Reader reader) throws IOException {
+    char[] block = new char[BUF_SIZE];
+    int charsRead = reader.read(block);
+    if (charsRead < 0) {
+        throw new IOException("No input");
+    } else if (charsRead < BUF_SIZE) {
+        char[] result = new char[charsRead];
+        System.arraycopy(block, 0, result, 0, charsRead);
+        reader.close();
+        return new String(block, 0, charsRead);
+    }
+    StringBuilder buf = new StringBuilder();
+    buf.append(block);
+    do {
+        charsRead = reader.read(block);
+        if (charsRead > 0) {
+            buf.append(block, 0, charsRead);
+        }
+    } while (charsRead == BUF_SIZE);
+    reader.close();
+    return buf.toString();
+  }
+
+  /**
+    * @param bytes the raw byte array 
+    * @param charset The encoding to use to decode the bytes. If this is null, we check for the
+    * initial byte order mark (used by Microsoft a lot seemingly)
+    * See: https://docs.microsoft.com/es-es/globalization/encoding/byte-order-markc
+    * @return A String taking into account the encoding passed in or in the byte order mark (if it was present). 
+    * And if no encoding was passed in and no byte-order mark was present, we assume the raw input
+    * is in UTF-8.
+    */
+  static public String stringFromBytes(byte[] bytes, Charset charset) throws CharacterCodingException {
+    int arrayLength = bytes.length;
+    if (charset == null) {
+      int firstByte = arrayLength>0 ? Byte.toUnsignedInt(bytes[0]) : 1;
+      int secondByte = arrayLength>1 ? Byte.toUnsignedInt(bytes[1]) : 1;
+      int thirdByte = arrayLength >2 ? Byte.toUnsignedInt(bytes[2]) : 1;
+      int fourthByte = arrayLength > 3 ? Byte.toUnsignedInt(bytes[3]) : 1;
+      if (firstByte == 0xEF && secondByte == 0xBB && thirdByte == 0xBF) {
+         return new String(bytes, 3, bytes.length-3, Charset.forName("UTF-8"));
+      }
+      if (firstByte == 0 && secondByte==0 && thirdByte == 0xFE && fourthByte == 0xFF) {
+         return new String(bytes, 4, bytes.length-4, Charset.forName("UTF-32BE"));
+      }
+      if (firstByte == 0xFF && secondByte == 0xFE && thirdByte == 0 && fourthByte == 0) {
+         return new String(bytes, 4, bytes.length-4, Charset.forName("UTF-32LE"));
+      }
+      if (firstByte == 0xFE && secondByte == 0xFF) {
+         return new String(bytes, 2, bytes.length-2, Charset.forName("UTF-16BE"));
+      }
+      if (firstByte == 0xFF && secondByte == 0xFE) {
+         return new String(bytes, 2, bytes.length-2, Charset.forName("UTF-16LE"));
+      }
+      charset = UTF_8;
+    }
+    return decode(charset.newDecoder(), ByteBuffer.wrap(bytes), false).toString();
+    // return new String(bytes, charset);
+  }
+
+  // Decode the bytes, replacing any malformed input with 0xFFFD
+  private static CharBuffer decode(CharsetDecoder decoder, ByteBuffer b, boolean endOfInput) throws CharacterCodingException {
+    CharBuffer c = CharBuffer.allocate(b.remaining());
+    while (true) {
+        CoderResult r = decoder.decode(b, c, endOfInput);
+        if (!r.isError()) {
+            break;
+        }
+        if (!r.isMalformed()) {
+            r.throwException();
+        }
+        int n = r.length();
+        ((Buffer) b).position(b.position() + n);
+        for (int i = 0; i < n; i++) {
+            c.put((char) 0xFFFD);
+        }
+    }
+    ((Buffer) c).limit(c.position());
+    ((Buffer) c).rewind();
+    return c;
+  }
+
+  static public String stringFromBytes(byte[] bytes) throws CharacterCodingException {
+     return stringFromBytes(bytes, null);
+  }
+}
+
+[#--
+  The core tokenization loop when the DFA_LEXER option is set.
+  It has the same semantics as the NFA loop, but instead of 
+  keeping track of a set of active NFA states, there is just
+  the one current state of the DFA, and a single table lookup
+  per character.
+--]
+[#macro DfaLoop]
+      [#if multipleLexicalStates]
+        // There is some possibility that there was a lexical state change
+        // since the last iteration of this loop!
+        ${grammar.nfaDataClassName}.DfaData dfaData = ${grammar.nfaDataClassName}.getDfaData(lexicalState);
+      [/#if]
+        int dfaState = 0;
+        if (!reachedEnd) do {
+            if (codeUnitsRead > 0) {
+                int retval = readChar();
+                if (retval >=0) {
+                    curChar = retval;
+                }
+                else {
+                    reachedEnd = true;
+                    break;
+                }
+            }
+            dfaState = dfaData.nextState(dfaState, curChar);
+            ++codeUnitsRead;
+            if (curChar>0xFFFF) ++codeUnitsRead;
+            if (dfaState < 0) break;
+            TokenType[] acceptTypes = dfaData.acceptTypes[dfaState];
+            if (acceptTypes != null) {
+                for (TokenType type : acceptTypes) {
+                    if (activeTokenTypes.contains(type)) {
+                        matchedType = type;
+                        inMore = moreTokens.contains(matchedType);
+                        matchedPos = codeUnitsRead;
+                        break;
+                    }
+                }
+            }
+        } while (dfaState < dfaData.liveStates);
+[/#macro]
+
+[#--
+  The core NFA loop when the INT_WORKLIST_LEXER option is set.
+  The active states are kept in an NfaWorklist, i.e. a deduplicated
+  int array, rather than a BitSet, and the active token types 
+  are checked against a bitmask.
+--]
+[#macro WorklistLoop]
+        long[] validTypes = getActiveTypeMask();
+        // the core NFA loop
+        if (!reachedEnd) do {
+            // Holder for the new type (if any) matched on this iteration
+            TokenType newType = null;
+            if (codeUnitsRead > 0) {
+                // What was nextStates on the last iteration 
+                // is now the currentStates!
+                ${grammar.nfaDataClassName}.NfaWorklist temp = currentStates;
+                currentStates = nextStates;
+                nextStates = temp;
+                int retval = readChar();
+                if (retval >=0) {
+                    curChar = retval;
+                }
+                else {
+                    reachedEnd = true;
+                    break;
+                }
+            }
+            nextStates.clear();
+            int activeCount = codeUnitsRead == 0 ? 1 : currentStates.size;
+            int[] activeStates = currentStates.states;
+          [#if grammar.asciiTableLexer]
+            if (curChar < 128) {
+                // Look up the precomputed moves rather than
+                // invoking the NFA functions
+                int charClass = asciiTable.charClasses[curChar];
+                for (int i = 0; i < activeCount; i++) {
+                    int active = codeUnitsRead == 0 ? 0 : activeStates[i];
+                    int move = asciiTable.moves[active * asciiTable.charClassCount + charClass];
+                    if (move != 0) {
+                        for (int target : asciiTable.targets[move]) {
+                            nextStates.add(target);
+                        }
+                        for (TokenType type : asciiTable.types[move]) {
+                            int ordinal = type.ordinal();
+                            if (newType != null && ordinal >= newType.ordinal()) break;
+                            if ((validTypes[ordinal >> 6] & (1L << ordinal)) != 0) {
+                                newType = type;
+                                break;
+                            }
+                        }
+                    }
+                }
+            }
+            else
+          [/#if]
+            for (int i = 0; i < activeCount; i++) {
+                int active = codeUnitsRead == 0 ? 0 : activeStates[i];
+                TokenType returnedType = nfaFunctions[active].apply(curChar, nextStates, validTypes);
+                if (returnedType != null && (newType == null || returnedType.ordinal() < newType.ordinal())) {
+                    newType = returnedType;
+                }
+            }
+            ++codeUnitsRead;
+            if (curChar>0xFFFF) ++codeUnitsRead;
+            if (newType != null) {
+                matchedType = newType;
+                inMore = moreTokens.contains(matchedType);
+                matchedPos= codeUnitsRead;
+            }
+        } while (nextStates.size != 0);
+[/#macro]
@@ -0,0 +1,632 @@
+[#ftl strict_vars=true]
+[#--
+/* Copyright (c) 2021 Jonathan Revusky, revusky@javacc.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notices,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name Jonathan Revusky nor the names of any contributors 
+ *       may be used to endorse or promote products derived from this software 
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+ --]
+
+ [#--
+    This template handles the generation of a class that is a holder
+    for all the static data that represents an NFA state machine
+ --]
+ /* Generated by: ${generated_by}. ${filename} */
+
+[#var NFA_RANGE_THRESHOLD = 16]
+[#var multipleLexicalStates = grammar.lexerData.lexicalStates.size()>1]
+[#var TT = "TokenType."]
+ 
+[#if grammar.parserPackage?has_content]
+    package ${grammar.parserPackage};
+    import static ${grammar.parserPackage}.${grammar.constantsClassName}.TokenType.*;
+    [#set TT=""]
+[/#if]
+import java.util.EnumSet;
+import java.util.BitSet;
+import java.util.Arrays;
+import java.util.EnumMap;
+
+/**
+ * Holder class for the data used by ${grammar.lexerClassName}
+ * to do the NFA thang
+ */
+class ${grammar.nfaDataClassName} implements ${grammar.constantsClassName} {
+
+  // The functional interface that represents 
+  // the acceptance method of an NFA state
+  static interface NfaFunction {
+  [#if grammar.intWorklistLexer]
+    TokenType apply(int ch, NfaWorklist nextStates, long[] validTypes);
+  [#else]
+    TokenType apply(int ch, BitSet bs, EnumSet<TokenType> validTypes);
+  [/#if]
+  }
+[#if grammar.intWorklistLexer]
+
+  /**
+   * The set of active NFA states in the core tokenization loop.
+   * The states are kept in the order they were added. A state
+   * is only added once, which is checked by stamping it with the
+   * current generation, so clearing the set does not require
+   * touching the stamps.
+   */
+  static final class NfaWorklist {
+    final int[] states, stamps;
+    int size, generation = 1;
+
+    NfaWorklist(int capacity) {
+      states = new int[capacity];
+      stamps = new int[capacity];
+    }
+
+    final void add(int state) {
+      if (stamps[state] != generation) {
+        stamps[state] = generation;
+        states[size++] = state;
+      }
+    }
+
+    final void clear() {
+      size = 0;
+      if (++generation == 0) {
+        Arrays.fill(stamps, 0);
+        generation = 1;
+      }
+    }
+  }
+[/#if]
+
+ [#if multipleLexicalStates]
+  // A lookup of the NFA function tables for the respective lexical states.
+  private static final EnumMap<LexicalState,NfaFunction[]> functionTableMap = new EnumMap<>(LexicalState.class);
+ [#else]
+  [#-- We don't need the above lookup if there is only one lexical state.--]
+   static private NfaFunction[] nfaFunctions;
+ [/#if]
+
+
+  // This data holder class is never instantiated
+  private ${grammar.nfaDataClassName}() {}
+
+  /**
+   * @param the lexical state
+   * @return the table of function pointers that implement the lexical state
+   */
+  static final NfaFunction[] getFunctionTableMap(LexicalState lexicalState) {
+    [#if multipleLexicalStates]
+      return functionTableMap.get(lexicalState);
+    [#else]
+     // We only have one lexical state in this case, so we return that!
+      return nfaFunctions;
+    [/#if]
+  }
+ 
+  // Initialize the various NFA method tables
+  static {
+    [#list grammar.lexerData.lexicalStates as lexicalState]
+      ${lexicalState.name}.NFA_FUNCTIONS_init();
+    [/#list]
+  }
+[#if grammar.dfaLexer]
+
+  /**
+   * The tables of the deterministic automaton that is used
+   * instead of the NFA functions in a lexical state. The states
+   * that have outgoing transitions are numbered first, so a state
+   * is live if its number is less than liveStates.
+   */
+  static final class DfaData {
+    final int[] transitions, asciiClasses, intervalStarts, intervalClasses;
+    final int charClassCount, liveStates;
+    // The types matched on entering each state, in order of priority
+    final TokenType[][] acceptTypes;
+
+    private DfaData(int[] transitions, int charClassCount, int liveStates, int[] asciiClasses, 
+                    int[] intervalStarts, int[] intervalClasses, TokenType[][] acceptTypes) {
+      this.transitions = transitions;
+      this.charClassCount = charClassCount;
+      this.liveStates = liveStates;
+      this.asciiClasses = asciiClasses;
+      this.intervalStarts = intervalStarts;
+      this.intervalClasses = intervalClasses;
+      this.acceptTypes = acceptTypes;
+    }
+
+    /**
+     * @return the state reached from the given state on the given character
+     * or -1 if there is no such transition
+     */
+    final int nextState(int state, int ch) {
+      int charClass;
+      if (ch < 128) {
+        charClass = asciiClasses[ch];
+      } else {
+        int index = Arrays.binarySearch(intervalStarts, ch);
+        charClass = intervalClasses[index >= 0 ? index : -index - 2];
+      }
+      return transitions[state * charClassCount + charClass];
+    }
+  }
+
+ [#if multipleLexicalStates]
+  private static final EnumMap<LexicalState,DfaData> dfaDataMap = new EnumMap<>(LexicalState.class);
+ [#else]
+  static private DfaData dfaData;
+ [/#if]
+
+  // Initialize the DFA tables
+  static {
+    [#list grammar.lexerData.lexicalStates as lexicalState]
+      ${lexicalState.name}.DFA_DATA_init();
+    [/#list]
+  }
+
+  /**
+   * @param the lexical state
+   * @return the DFA tables for the lexical state
+   */
+  static final DfaData getDfaData(LexicalState lexicalState) {
+    [#if multipleLexicalStates]
+      return dfaDataMap.get(lexicalState);
+    [#else]
+      return dfaData;
+    [/#if]
+  }
+[/#if]
+[#if grammar.asciiTableLexer]
+
+  /**
+   * The precomputed moves of the NFA functions on ASCII characters. 
+   * For the composite state n and the character ch, the move is 
+   * moves[n * charClassCount + charClasses[ch]], which gives the states to 
+   * activate and the types that are matched, in order of priority.
+   * Move 0 is the empty move.
+   */
+  static final class AsciiTable {
+    final int[] charClasses, moves;
+    final int charClassCount;
+    final int[][] targets;
+    final TokenType[][] types;
+
+    private AsciiTable(int[] charClasses, int charClassCount, int[] moves, int[] targetLists, int[] typeLists) {
+      this.charClasses = charClasses;
+      this.charClassCount = charClassCount;
+      this.moves = moves;
+      TokenType[] allTypes = TokenType.values();
+      int moveCount = 0;
+      for (int i = 0; i < targetLists.length; i += targetLists[i] + 1) moveCount++;
+      targets = new int[moveCount][];
+      types = new TokenType[moveCount][];
+      for (int move = 0, i = 0, j = 0; move < moveCount; move++) {
+        targets[move] = Arrays.copyOfRange(targetLists, i + 1, i + 1 + targetLists[i]);
+        i += targetLists[i] + 1;
+        types[move] = new TokenType[typeLists[j]];
+        for (int k = 1; k <= typeLists[j]; k++) types[move][k - 1] = allTypes[typeLists[j + k]];
+        j += typeLists[j] + 1;
+      }
+    }
+  }
+
+ [#if multipleLexicalStates]
+  private static final EnumMap<LexicalState,AsciiTable> asciiTableMap = new EnumMap<>(LexicalState.class);
+ [#else]
+  static private AsciiTable asciiTable;
+ [/#if]
+
+  // Initialize the ASCII tables
+  static {
+    [#list grammar.lexerData.lexicalStates as lexicalState]
+      ${lexicalState.name}.ASCII_TABLE_init();
+    [/#list]
+  }
+
+  /**
+   * @param the lexical state
+   * @return the precomputed moves on ASCII characters for the lexical state
+   */
+  static final AsciiTable getAsciiTable(LexicalState lexicalState) {
+    [#if multipleLexicalStates]
+      return asciiTableMap.get(lexicalState);
+    [#else]
+      return asciiTable;
+    [/#if]
+  }
+[/#if]
+[#if grammar.hashedKeywords]
+
+  /**
+   * A minimal perfect hash of the string literals that were left out 
+   * of the NFA because some other token type matches them as well.
+   * The hash function is the same as in com.javacc.core.nfa.KeywordHash.
+   */
+  static final class KeywordTable {
+    private final String[] keywords;
+    private final TokenType[] types;
+    private final int[] seeds;
+    private final int maxLength;
+
+    private KeywordTable(String[] keywords, TokenType[] types, int[] seeds, int maxLength) {
+      this.keywords = keywords;
+      this.types = types;
+      this.seeds = seeds;
+      this.maxLength = maxLength;
+    }
+
+    /**
+     * @return the type of the keyword that is the text
+     * from start to end, or null if it is not a keyword
+     */
+    TokenType get(CharSequence content, int start, int end) {
+      int length = end - start;
+      if (length > maxLength || length <= 0) return null;
+      int seed = seeds[hash(content, start, end, 0) % seeds.length];
+      int slot = seed < 0 ? -seed - 1 : hash(content, start, end, seed) % seeds.length;
+      String keyword = keywords[slot];
+      if (keyword.length() != length) return null;
+      for (int i = 0; i < length; i++) {
+        if (keyword.charAt(i) != content.charAt(start + i)) return null;
+      }
+      return types[slot];
+    }
+
+    private static int hash(CharSequence content, int start, int end, int seed) {
+      int h = seed == 0 ? 0x01000193 : seed;
+      for (int i = start; i < end; i++) {
+        h = (h * 0x01000193) ^ content.charAt(i);
+      }
+      return h & 0x7FFFFFFF;
+    }
+  }
+
+ [#if multipleLexicalStates]
+  private static final EnumMap<LexicalState,KeywordTable> keywordTableMap = new EnumMap<>(LexicalState.class);
+ [#else]
+  static private KeywordTable keywordTable;
+ [/#if]
+
+  // Initialize the keyword tables
+  static {
+    [#list grammar.lexerData.lexicalStates as lexicalState]
+      [#if lexicalState.keywordHash??]
+      ${lexicalState.name}.KEYWORD_TABLE_init();
+      [/#if]
+    [/#list]
+  }
+
+  /**
+   * @param the lexical state
+   * @return the hashed keywords of the lexical state, or null if there are none
+   */
+  static final KeywordTable getKeywordTable(LexicalState lexicalState) {
+    [#if multipleLexicalStates]
+      return keywordTableMap.get(lexicalState);
+    [#else]
+      return keywordTable;
+    [/#if]
+  }
+[/#if]
+[#if grammar.dfaLexer || grammar.asciiTableLexer]
+
+  // Unpacks the data written out by 
+  // com.javacc.core.nfa.LexicalStateData#packIntArray
+  private static int[] unpack(String[] data) {
+    String packed = String.join("", data);
+    int width = packed.charAt(0) - '0';
+    int size = 0;
+    for (int pos = 1; pos < packed.length(); pos += 2 * width) {
+      size += decode(packed, pos, width);
+    }
+    int[] result = new int[size];
+    int index = 0;
+    for (int pos = 1; pos < packed.length(); pos += 2 * width) {
+      int count = decode(packed, pos, width);
+      Arrays.fill(result, index, index + count, decode(packed, pos + width, width) - 1);
+      index += count;
+    }
+    return result;
+  }
+
+  private static int decode(String packed, int pos, int width) {
+    int result = 0;
+    for (int i = 0; i < width; i++) {
+      result = (result << 6) | (packed.charAt(pos + i) - '0');
+    }
+    return result;
+  }
+[/#if]
+
+  // Just use the canned binary search to check whether the char
+  // is in one of the intervals
+  private static final boolean checkIntervals(int[] ranges, int ch) {
+    int result = Arrays.binarySearch(ranges, ch);
+    return result >=0 || result%2 == 0;
+  }
+
+ [#list grammar.lexerData.lexicalStates as lexicalState]
+ /**
+  * Holder class for NFA code related to ${lexicalState.name} lexical state
+  */
+  private static class ${lexicalState.name} {
+   [@GenerateStateCode lexicalState/]
+  }
+ [/#list]  
+}
+
+[#--
+  Generate all the NFA transition code
+  for the given lexical state
+--]
+[#macro GenerateStateCode lexicalState]
+  [#list lexicalState.canonicalSets as state]
+     [@GenerateNfaMethod state/]
+  [/#list]
+
+  [#list lexicalState.allNfaStates as state]
+    [#if state.moveRanges.size() >= NFA_RANGE_THRESHOLD]
+      [@GenerateMoveArray state/]
+    [/#if]
+  [/#list]
+
+  static private void NFA_FUNCTIONS_init() {
+    [#if multipleLexicalStates]
+      NfaFunction[] functions = new NfaFunction[]
+    [#else]
+      nfaFunctions = new NfaFunction[]
+    [/#if] 
+    {
+    [#list lexicalState.canonicalSets as state]
+      ${lexicalState.name}::${state.methodName}
+      [#if state_has_next],[/#if]
+    [/#list]
+    };
+    [#if multipleLexicalStates]
+      functionTableMap.put(LexicalState.${lexicalState.name}, functions);
+    [/#if]
+  }
+  [#if grammar.dfaLexer]
+    [@GenerateDfaData lexicalState/]
+  [/#if]
+  [#if grammar.asciiTableLexer]
+    [@GenerateAsciiTable lexicalState/]
+  [/#if]
+  [#if lexicalState.keywordHash??]
+    [@GenerateKeywordTable lexicalState/]
+  [/#if]
+[/#macro]
+
+[#--
+   Generate the table of the hashed keywords
+   of the lexical state
+--]
+[#macro GenerateKeywordTable lexicalState]
+  [#var hash = lexicalState.keywordHash]
+  static private void KEYWORD_TABLE_init() {
+    [#if multipleLexicalStates]
+      keywordTableMap.put(LexicalState.${lexicalState.name},
+    [#else]
+      keywordTable = (
+    [/#if]
+      new KeywordTable(new String[] {[#list hash.keywords as keyword]"${grammar.utils.addEscapes(keyword)}"[#if keyword_has_next], [/#if][/#list]},
+                       new TokenType[] {[#list hash.types as type]${TT}${type.label}[#if type_has_next], [/#if][/#list]},
+                       new int[] {[#list hash.seeds as seed]${seed?c}[#if seed_has_next], [/#if][/#list]},
+                       ${hash.maxLength}));
+  }
+[/#macro]
+
+[#--
+   Generate the precomputed moves on ASCII characters
+   if the ASCII_TABLE_LEXER option is set.
+   See com.javacc.core.nfa.AsciiMoveTable
+--]
+[#macro GenerateAsciiTable lexicalState]
+  [#var table = lexicalState.asciiMoveTable]
+  static private void ASCII_TABLE_init() {
+    [#if multipleLexicalStates]
+      AsciiTable table = 
+    [#else]
+      asciiTable = 
+    [/#if]
+      new AsciiTable(new int[] {[#list table.charClasses as charClass]${charClass}[#if charClass_has_next], [/#if][/#list]},
+                     ${table.charClassCount},
+                     unpack(ASCII_MOVES),
+                     unpack(ASCII_MOVE_TARGETS),
+                     unpack(ASCII_MOVE_TYPES));
+    [#if multipleLexicalStates]
+      asciiTableMap.put(LexicalState.${lexicalState.name}, table);
+    [/#if]
+  }
+
+  [@PackedData "ASCII_MOVES" table.packedMoveTable/]
+  [@PackedData "ASCII_MOVE_TARGETS" table.packedMoveTargets/]
+  [@PackedData "ASCII_MOVE_TYPES" table.packedMoveTypes/]
+[/#macro]
+
+[#--
+   Generate the tables of the deterministic automaton
+   that is built if the DFA_LEXER option is set.
+   See com.javacc.core.nfa.DfaBuilder
+--]
+[#macro GenerateDfaData lexicalState]
+  [#var liveStates = lexicalState.liveDfaStateCount, charClassCount = lexicalState.charClassCount]
+  static private void DFA_DATA_init() {
+    [#if multipleLexicalStates]
+      DfaData data = 
+    [#else]
+      dfaData = 
+    [/#if]
+      new DfaData(unpack(DFA_TRANSITIONS), 
+                  ${charClassCount}, 
+                  ${liveStates},
+                  new int[] {[#list lexicalState.asciiCharClasses as charClass]${charClass}[#if charClass_has_next], [/#if][/#list]},
+                  unpack(DFA_INTERVAL_STARTS),
+                  unpack(DFA_INTERVAL_CLASSES),
+                  DFA_ACCEPT_TYPES_init());
+    [#if multipleLexicalStates]
+      dfaDataMap.put(LexicalState.${lexicalState.name}, data);
+    [/#if]
+  }
+
+  [@PackedData "DFA_TRANSITIONS" lexicalState.packedDfaTransitions/]
+  [@PackedData "DFA_INTERVAL_STARTS" lexicalState.packedCharClassIntervalStarts/]
+  [@PackedData "DFA_INTERVAL_CLASSES" lexicalState.packedCharClassIntervalClasses/]
+
+  static private TokenType[][] DFA_ACCEPT_TYPES_init() {
+    return new TokenType[][] {
+    [#list lexicalState.dfaStates as state]
+      [#if state.acceptingTypes?size == 0]
+        null
+      [#else]
+        {[#list state.acceptingTypes as type]${TT}${type.label}[#if type_has_next], [/#if][/#list]}
+      [/#if]
+      [#if state_has_next],[/#if]
+    [/#list]
+    };
+  }
+[/#macro]
+
+[#macro PackedData name chunks]
+  static private final String[] ${name} = {
+  [#list chunks as chunk]
+    "${grammar.utils.addEscapes(chunk)}"[#if chunk_has_next],[/#if]
+  [/#list]
+  };
+[/#macro]
+
+[#--
+   Generate the array representing the characters
+   that this NfaState "accepts".
+   This corresponds to the moveRanges field in 
+   com.javacc.core.NfaState
+--]
+[#macro GenerateMoveArray nfaState]
+  [#var moveRanges = nfaState.moveRanges]
+  [#var arrayName = nfaState.movesArrayName]
+    static private final int[] ${arrayName} = ${arrayName}_init();
+
+    static private int[] ${arrayName}_init() {
+        return new int[]
+        {
+        [#list nfaState.moveRanges as char]
+          ${grammar.utils.displayChar(char)}
+          [#if char_has_next],[/#if]
+        [/#list]
+        };
+    }
+[/#macro] 
+
+[#--
+   Generate the method that represents the transitions
+   that correspond to an instanceof com.javacc.core.CompositeStateSet
+--]
+[#macro GenerateNfaMethod nfaState]  
+  [#if grammar.intWorklistLexer]
+    static private TokenType ${nfaState.methodName}(int ch, NfaWorklist nextStates, long[] validTypes) {
+  [#else]
+    static private TokenType ${nfaState.methodName}(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+  [/#if]
+      TokenType type = null;
+    [#var states = nfaState.orderedStates, lastBlockStartIndex=0]
+    [#list states as state]
+      [#if state_index ==0 || !state.moveRanges.equals(states[state_index-1].moveRanges)]
+          [#-- In this case we need a new if or possibly else if --]
+         [#if state_index == 0 || state.overlaps(states.subList(lastBlockStartIndex, state_index))]
+           [#-- If there is overlap between this state and any of the states
+                 handled since the last lone if, we start a new if-else 
+                 If not, we continue in the same if-else block as before. --]
+           [#set lastBlockStartIndex = state_index]
+               if
+         [#else]
+               else if
+         [/#if]    
+           ([@NfaStateCondition state /]) {
+      [/#if]
+      [#if state.nextStateIndex >= 0]
+        [#if grammar.intWorklistLexer]
+         nextStates.add(${state.nextStateIndex});
+        [#else]
+         nextStates.set(${state.nextStateIndex});
+        [/#if]
+      [/#if]
+      [#if !state_has_next || !state.moveRanges.equals(states[state_index+1].moveRanges)]
+        [#-- We've reached the end of the block. --]
+          [#var type = state.nextStateType]
+          [#if type??]
+           [#if grammar.intWorklistLexer]
+            if ((validTypes[${(type.ordinal / 64)?int}] & ${grammar.utils.powerOfTwoInHex(type.ordinal % 64)}) != 0)
+           [#else]
+            if (validTypes.contains(${TT}${type.label}))
+           [/#if]
+              type = ${TT}${type.label};
+          [/#if]
+        }
+      [/#if]
+    [/#list]
+      return type;
+    }
+[/#macro]
+
+[#--
+Generate the condition part of the NFA state transition
+If the size of the moveRanges vector is greater than NFA_RANGE_THRESHOLD
+it uses the canned binary search routine. For the smaller moveRanges
+it just generates the inline conditional expression
+--]
+[#macro NfaStateCondition nfaState]
+    [#if nfaState.moveRanges?size < NFA_RANGE_THRESHOLD]
+      [@RangesCondition nfaState.moveRanges /]
+    [#elseif nfaState.hasAsciiMoves && nfaState.hasNonAsciiMoves]
+      ([@RangesCondition nfaState.asciiMoveRanges/])
+      || (ch >=128 && checkIntervals(${nfaState.movesArrayName}, ch))
+    [#else]
+      checkIntervals(${nfaState.movesArrayName}, ch)
+    [/#if]
+[/#macro]
+
+[#-- 
+This is a recursive macro that generates the code corresponding
+to the accepting condition for an NFA state. It is used
+if NFA state's moveRanges array is smaller than NFA_RANGE_THRESHOLD
+(which is set to 16 for now)
+--]
+[#macro RangesCondition moveRanges]
+    [#var left = moveRanges[0], right = moveRanges[1]]
+    [#var displayLeft = grammar.utils.displayChar(left), displayRight = grammar.utils.displayChar(right)]
+    [#var singleChar = left == right]
+    [#if moveRanges?size==2]
+       [#if singleChar]
+          ch == ${displayLeft}
+       [#elseif left +1 == right]
+          ch == ${displayLeft} || ch == ${displayRight}
+       [#else]
+          ch >= ${displayLeft} 
+          [#if right < 1114111]
+             && ch <= ${displayRight}
+          [/#if]
+       [/#if]
+    [#else]
+       ([@RangesCondition moveRanges[0..1]/])||([@RangesCondition moveRanges[2..moveRanges?size-1]/])
+    [/#if]
+[/#macro]
@@ -0,0 +1,444 @@
+[#ftl strict_vars=true]
+[#--
+/* Copyright (c) 2008-2020 Jonathan Revusky, revusky@javacc.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provide that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notices,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary format must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name Jonathan Revusky nor the names of any contributors 
+ *       may be used to endorse or promote products derived from this software 
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+ --]
+/* Generated by: ${generated_by}. ${filename} */
+
+
+[#var tokenCount=grammar.lexerData.tokenCount]
+
+[#if grammar.parserPackage?has_content]
+package ${grammar.parserPackage};
+[/#if]
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+
+[#if grammar.nodePackage?has_content && grammar.parserPackage! != grammar.nodePackage]
+  [#list grammar.nodeNames as node]
+    [#if node?index_of('.')>0]
+      import ${node};
+    [#else]
+      import ${grammar.nodePackage}.${grammar.nodePrefix}${node};
+    [/#if]
+  [/#list]
+[/#if]
+
+[#if grammar.parserPackage?has_content]
+import static ${grammar.parserPackage}.${grammar.constantsClassName}.TokenType.*;
+[/#if]
+
+public class ${grammar.parserClassName} implements ${grammar.constantsClassName} {
+static final int UNLIMITED = Integer.MAX_VALUE;    
+// The last token successfully "consumed"
+Token lastConsumedToken;
+private TokenType nextTokenType;
+private Token currentLookaheadToken;
+private int remainingLookahead;
+private boolean hitFailure, passedPredicate;
+// The names of the parser productions, indexed by the ids
+// that identify them on the call stacks
+private static final String[] PRODUCTION_NAMES = {
+  [#list grammar.parserProductions as production]
+    "${production.name}",
+  [/#list]
+};
+private static final Map<String, Integer> PRODUCTION_IDS = new HashMap<>();
+static {
+    for (int i = 0; i < PRODUCTION_NAMES.length; i++) {
+        PRODUCTION_IDS.put(PRODUCTION_NAMES[i], i);
+    }
+}
+private int currentlyParsedProduction = -1, currentLookaheadProduction = -1;
+private int lookaheadRoutineNesting, passedPredicateThreshold = -1;
+private EnumSet<TokenType> outerFollowSet;
+
+[#if grammar.legacyGlitchyLookahead]
+   private boolean legacyGlitchyLookahead = true;
+[#else]
+   private boolean legacyGlitchyLookahead = false;
+[/#if]
+
+private boolean cancelled;
+public void cancel() {cancelled = true;}
+public boolean isCancelled() {return cancelled;}
+  /** Generated Lexer. */
+  public ${grammar.lexerClassName} token_source;
+  
+  public void setInputSource(String inputSource) {
+      token_source.setInputSource(inputSource);
+  }
+  
+  String getInputSource() {
+      return token_source.getInputSource();
+  }
+  
+ //=================================
+ // Generated constructors
+ //=================================
+
+   public ${grammar.parserClassName}(String inputSource, CharSequence content) {
+       this(new ${grammar.lexerClassName}(inputSource, content));
+      [#if grammar.lexerUsesParser]
+      token_source.parser = this;
+      [/#if]
+  }
+
+  public ${grammar.parserClassName}(CharSequence content) {
+    this("input", content);
+  }
+
+  /**
+   * @param inputSource just the name of the input source (typically the filename) that 
+   * will be used in error messages and so on.
+   * @param path The location (typically the filename) from which to get the input to parse
+   */
+  public ${grammar.parserClassName}(String inputSource, Path path) throws IOException {
+[#if grammar.streamingInput]
+    this(inputSource, path, null);
+[#else]
+    this(inputSource, ${grammar.lexerClassName}.stringFromBytes(Files.readAllBytes(path)));
+[/#if]
+  }
+
+  public ${grammar.parserClassName}(String inputSource, Path path, Charset charset) throws IOException {
+[#if grammar.streamingInput]
+    // The file is read in incrementally, as the lexer needs it.
+    this(new ${grammar.lexerClassName}(inputSource, ${grammar.lexerClassName}.newReader(path, charset)));
+[#else]
+    this(inputSource, ${grammar.lexerClassName}.stringFromBytes(Files.readAllBytes(path), charset));
+[/#if]
+  }
+
+[#if !grammar.streamingInput]
+  /**
+   * @param inputSource just the name of the input source (typically the filename) that 
+   * will be used in error messages and so on.
+   * @param path The location (typically the filename) from which to get the input to parse
+   * @param charset The encoding of the file. If this is null, it is worked out from the byte order mark,
+   * defaulting to UTF-8.
+   * @param memoryMapped whether to memory-map the file rather than read it into memory. 
+   * (See ${grammar.lexerClassName}#mapFile)
+   */
+  public ${grammar.parserClassName}(String inputSource, Path path, Charset charset, boolean memoryMapped) throws IOException {
+    this(inputSource, memoryMapped ? ${grammar.lexerClassName}.mapFile(path, charset) 
+                                   : ${grammar.lexerClassName}.stringFromBytes(Files.readAllBytes(path), charset));
+  }
+[/#if]
+
+  /**
+   * @param path The location (typically the filename) from which to get the input to parse
+   */
+  public ${grammar.parserClassName}(Path path) throws IOException {
+    this(path.toString(), path);
+  }
+
+  /**
+   * @Deprecated Use the constructor that takes a #java.nio.files.Path or just 
+   * a String (i.e. CharSequence) directly.
+   */
+  public ${grammar.parserClassName}(java.io.InputStream stream) {
+      this(new InputStreamReader(stream));
+  }
+
+  /**
+   * @Deprecated Use the constructor that takes a #java.nio.files.Path or just 
+   * a String (i.e. CharSequence) directly.
+   */
+  public ${grammar.parserClassName}(Reader reader) {
+    this(new ${grammar.lexerClassName}("input", reader));
+      [#if grammar.lexerUsesParser]
+      token_source.parser = this;
+      [/#if]
+  }
+
+
+  /** Constructor with user supplied Lexer. */
+  public ${grammar.parserClassName}(${grammar.lexerClassName} lexer) {
+    token_source = lexer;
+      [#if grammar.lexerUsesParser]
+      token_source.parser = this;
+      [/#if]
+      lastConsumedToken = lexer.DUMMY_START_TOKEN;
+      lastConsumedToken.setTokenSource(lexer);
+  }
+
+[#if !grammar.streamingInput]
+  /**
+   * Resets this parser, and its lexer, so that it parses the given input 
+   * from the start, reusing the internal buffers of both rather than 
+   * constructing new objects. This is meant for parsing many (typically small) 
+   * inputs in turn, possibly via a ParserPool. The Tokens and Nodes from the
+   * previous input should not be used after this, since they refer back to 
+   * the lexer. Any state added to the parser by injected code is not reset.
+   * @param inputSource just the name of the input source (typically the filename) that 
+   * will be used in error messages and so on.
+   * @param content the input to parse
+   */
+  public void reset(String inputSource, CharSequence content) {
+      token_source.reset(inputSource, content);
+      lastConsumedToken = token_source.DUMMY_START_TOKEN;
+      lastConsumedToken.setTokenSource(token_source);
+      nextTokenType = null;
+      currentLookaheadToken = null;
+      remainingLookahead = 0;
+      hitFailure = passedPredicate = false;
+      currentlyParsedProduction = currentLookaheadProduction = -1;
+      lookaheadRoutineNesting = 0;
+      passedPredicateThreshold = -1;
+      outerFollowSet = null;
+      cancelled = false;
+      parsingStack.clear();
+      lookaheadStack.clear();
+      parseStateStack.clear();
+    [#if grammar.faultTolerant]
+      currentFollowSet = null;
+      pendingRecovery = false;
+      parsingProblems = new java.util.ArrayList<>();
+    [/#if]
+    [#if grammar.memoizeLookahead]
+      clearLookaheadMemo();
+    [/#if]
+    [#if grammar.treeBuildingEnabled]
+      currentNodeScope.reset();
+    [/#if]
+  }
+
+  public void reset(CharSequence content) {
+      reset("input", content);
+  }
+
+  /**
+   * Resets this parser to parse the given file. (See #reset(String, CharSequence))
+   * @param path The location (typically the filename) from which to get the input to parse
+   */
+  public void reset(Path path) throws IOException {
+      reset(path.toString(), ${grammar.lexerClassName}.stringFromBytes(Files.readAllBytes(path)));
+  }
+[/#if]
+
+  // If the next token is cached, it returns that
+  // Otherwise, it goes to the token_source, i.e. the Lexer.
+  final private Token nextToken(final Token tok) {
+    Token result = token_source.getNextToken(tok);
+    while (result.isUnparsed()) {
+     [#list grammar.parserTokenHooks as methodName] 
+      result = ${methodName}(result);
+     [/#list]
+      result = token_source.getNextToken(result);
+    }
+[#list grammar.parserTokenHooks as methodName] 
+    result = ${methodName}(result);
+[/#list]
+    nextTokenType=null;
+    return result;
+  }
+
+  /**
+   * @return the next Token off the stream. This is the same as #getToken(1)
+   */
+  final public Token getNextToken() {
+    return getToken(1);
+  }
+
+/**
+ * @param index how many tokens to look ahead
+ * @return the specific regular (i.e. parsed) Token index ahead/behind in the stream. 
+ * If we are in a lookahead, it looks ahead from the currentLookaheadToken
+ * Otherwise, it is the lastConsumedToken. If you pass in a negative
+ * number it goes backward.
+ */
+  final public Token getToken(final int index) {
+    Token t = currentLookaheadToken == null ? lastConsumedToken : currentLookaheadToken;
+    for (int i = 0; i < index; i++) {
+      t = nextToken(t);
+    }
+    for (int i = 0; i > index; i--) {
+      t = t.getPrevious();
+      if (t == null) break;
+    }
+    return t;
+  }
+
+  private String tokenImage(int n) {
+     return getToken(n).getImage();
+  }
+
+  private boolean checkNextTokenImage(String img) {
+    return tokenImage(1).equals(img);
+  }
+
+  private boolean checkNextTokenType(TokenType type) {
+    return getToken(1).getType() == type;
+  }
+
+  private final TokenType nextTokenType() {
+    if (nextTokenType == null) {
+       nextTokenType = nextToken(lastConsumedToken).getType();
+    }
+    return nextTokenType;
+  }
+
+  boolean activateTokenTypes(TokenType... types) {
+    boolean result = false;
+    for (TokenType tt : types) {
+      result |= token_source.activeTokenTypes.add(tt);
+    }
+    if (result) {
+      token_source.reset(getToken(0));
+      nextTokenType = null;
+     [#if grammar.memoizeLookahead]
+      clearLookaheadMemo();
+     [/#if]
+    }
+    return result;
+  }
+
+
+  private void uncacheTokens() {
+      token_source.reset(getToken(0));
+     [#if grammar.memoizeLookahead]
+      clearLookaheadMemo();
+     [/#if]
+  }
+
+  private void resetTo(LexicalState state) {
+    token_source.reset(getToken(0), state);
+   [#if grammar.memoizeLookahead]
+    clearLookaheadMemo();
+   [/#if]
+  }
+
+  private void resetTo(Token tok, LexicalState state) {
+    token_source.reset(tok, state);
+   [#if grammar.memoizeLookahead]
+    clearLookaheadMemo();
+   [/#if]
+  } 
+
+  boolean deactivateTokenTypes(TokenType... types) {
+    boolean result = false;
+    for (TokenType tt : types) {
+      result |= token_source.activeTokenTypes.remove(tt);
+    }
+    if (result) {
+        token_source.reset(getToken(0));
+        nextTokenType = null;
+       [#if grammar.memoizeLookahead]
+        clearLookaheadMemo();
+       [/#if]
+    }
+    return result;
+  }
+
+  private void fail(String message) [#if grammar.useCheckedException] throws ParseException [/#if] 
+  {
+    if (currentLookaheadToken == null) {
+      throw new ParseException(this, message);
+    }
+    this.hitFailure = true;
+  }
+
+  private static EnumSet<TokenType> tokenTypeSet(TokenType first, TokenType... rest) {
+    return (rest.length == 0) ? EnumSet.of(first) : EnumSet.of(first, rest);
+  }
+
+  /**
+   *Are we in the production of the given name, either scanning ahead or parsing?
+   *When the names are string literals in the grammar, the call is rewritten
+   *to use the int version below, so that no lookup by name is done at all.
+   */
+  private boolean isInProduction(String productionName, String... prods) {
+    if (isInProduction(productionId(productionName))) return true;
+    for (String name : prods) {
+      if (isInProduction(productionId(name))) return true;
+    }
+    return false;
+  }
+
+  private boolean isInProduction(int productionId) {
+    if (productionId < 0) return false;
+    if (currentlyParsedProduction == productionId || currentLookaheadProduction == productionId) return true;
+    for (int i = lookaheadStack.size() - 1; i >= 0; i--) {
+      if (lookaheadStack.getProductionId(i) == productionId) return true;
+    }
+    for (int i = parsingStack.size() - 1; i >= 0; i--) {
+      if (parsingStack.getProductionId(i) == productionId) return true;
+    }
+    return false;
+  }
+
+  private static int productionId(String productionName) {
+    Integer id = PRODUCTION_IDS.get(productionName);
+    return id == null ? -1 : id;
+  }
+
+  private static String productionName(int productionId) {
+    return productionId < 0 ? null : PRODUCTION_NAMES[productionId];
+  }
+
+
+[#import "ParserProductions.java.ftl" as ParserCode]
+[@ParserCode.Productions /]
+[#import "LookaheadRoutines.java.ftl" as LookaheadCode]
+[@LookaheadCode.Generate/]
+ 
+[#embed "ErrorHandling.java.ftl"]
+
+[#if grammar.memoizeLookahead]
+   [#embed "LookaheadMemo.java.ftl"]
+[/#if]
+
+[#if grammar.treeBuildingEnabled]
+   [#embed "TreeBuildingCode.java.ftl"]
+[#else]
+  public boolean isTreeBuildingEnabled() {
+    return false;
+  } 
+[/#if]
+}
+  
+}
+[#list grammar.otherParserCodeDeclarations as decl]
+//Generated from code at ${decl.location}
+   ${decl}
+[/#list]
+
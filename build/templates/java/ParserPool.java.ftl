@@ -0,0 +1,96 @@
+[#--
+/* Copyright (c) 2022 Jonathan Revusky, revusky@javacc.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notices,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name Jonathan Revusky nor the names of any contributors 
+ *       may be used to endorse or promote products derived from this software 
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+ --]
+/* Generated by: ${generated_by}. ${filename} */
+[#if grammar.parserPackage?has_content]
+package ${grammar.parserPackage};
+[/#if]
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * A pool of ${grammar.parserClassName} objects, so that many (typically small) inputs
+ * can be parsed without constructing a new parser and lexer for each one.
+ * A parser is taken from the pool with one of the acquire methods, which 
+ * resets it to parse the given input, and given back with #release, once 
+ * the Tokens and Nodes that it produced are no longer needed, since they
+ * refer back to its lexer. The pool can be used from several threads, 
+ * but a given parser should only be used by one thread at a time.
+ */
+public class ParserPool {
+
+    private final ArrayBlockingQueue<${grammar.parserClassName}> idleParsers;
+
+    /**
+     * @param capacity the maximum number of idle parsers that are kept
+     */
+    public ParserPool(int capacity) {
+        idleParsers = new ArrayBlockingQueue<>(capacity);
+    }
+
+    /**
+     * @return a parser for the given input, which is an idle parser,
+     * reset, if there is one, or else a new one. 
+     */
+    public ${grammar.parserClassName} acquire(String inputSource, CharSequence content) {
+        ${grammar.parserClassName} parser = idleParsers.poll();
+        if (parser == null) {
+            return new ${grammar.parserClassName}(inputSource, content);
+        }
+        parser.reset(inputSource, content);
+        return parser;
+    }
+
+    public ${grammar.parserClassName} acquire(CharSequence content) {
+        return acquire("input", content);
+    }
+
+    public ${grammar.parserClassName} acquire(Path path) throws IOException {
+        return acquire(path.toString(), ${grammar.lexerClassName}.stringFromBytes(Files.readAllBytes(path)));
+    }
+
+    /**
+     * Gives a parser back to the pool. It is simply dropped if the pool 
+     * is already full.
+     * @param parser a parser that is no longer in use
+     */
+    public void release(${grammar.parserClassName} parser) {
+        idleParsers.offer(parser);
+    }
+
+    /**
+     * @return the number of idle parsers in the pool
+     */
+    public int size() {
+        return idleParsers.size();
+    }
+}
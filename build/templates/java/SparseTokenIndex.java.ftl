@@ -0,0 +1,179 @@
+[#ftl strict_vars=true]
+[#--
+/* Copyright (c) 2022 Jonathan Revusky, revusky@javacc.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notices,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name Jonathan Revusky nor the names of any contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+ --]
+
+
+[#--
+   This is embedded in the XXXLexer class when the SPARSE_TOKEN_INDEX
+   option is set. Rather than a table with a slot for every offset in the
+   input, we keep the offsets of the cached tokens in a sorted int array,
+   with the tokens in a parallel array, and the regions of the input that
+   are ignored (via the preprocessor, for example) as a sorted list of ranges.
+   So the memory used depends on the number of tokens, not the size of the input.
+--]
+
+    // The (begin) offsets of the cached tokens, in increasing order, 
+    // and the tokens themselves
+    private int[] cachedTokenOffsets = new int[256];
+    private Token[] cachedTokens = new Token[256];
+    private int cachedTokenCount;
+
+    // The regions of the input that are ignored, as (start, end) pairs
+    // of offsets. The regions are sorted and neither overlap nor touch.
+    private int[] ignoredRegions = new int[16];
+    private int ignoredRegionCount;
+
+    void cacheToken(Token tok) {
+[#if !grammar.minimalToken]        
+        if (tok.isInserted()) {
+            Token next = tok.nextCachedToken();
+            if (next != null) cacheToken(next);
+            return;
+        }
+[/#if]        
+        int offset = tok.getBeginOffset();
+        if (isIgnored(offset)) return;
+        int index = cachedTokenCount;
+        // Nearly always, the token just goes at the end
+        if (index > 0 && cachedTokenOffsets[index-1] >= offset) {
+            index = cachedTokenIndex(offset);
+            if (cachedTokenOffsets[index] == offset) {
+                cachedTokens[index] = tok;
+                return;
+            }
+        }
+        if (cachedTokenCount == cachedTokenOffsets.length) {
+            cachedTokenOffsets = Arrays.copyOf(cachedTokenOffsets, cachedTokenCount * 2);
+            cachedTokens = Arrays.copyOf(cachedTokens, cachedTokenCount * 2);
+        }
+        System.arraycopy(cachedTokenOffsets, index, cachedTokenOffsets, index+1, cachedTokenCount - index);
+        System.arraycopy(cachedTokens, index, cachedTokens, index+1, cachedTokenCount - index);
+        cachedTokenOffsets[index] = offset;
+        cachedTokens[index] = tok;
+        ++cachedTokenCount;
+    }
+
+    void uncacheTokens(Token lastToken) {
+        int index = cachedTokenIndex(lastToken.getEndOffset());
+        if (index < cachedTokenCount) {
+            Arrays.fill(cachedTokens, index, cachedTokenCount, null);
+            cachedTokenCount = index;
+        }
+      [#if !grammar.minimalToken]
+        lastToken.unsetAppendedToken();
+      [/#if]
+    }
+
+    Token nextCachedToken(int offset) {
+        int index = cachedTokenIndex(offset);
+        return index < cachedTokenCount ? cachedTokens[index] : null;
+    } 
+
+    Token previousCachedToken(int offset) {
+        int index = cachedTokenIndex(offset) - 1;
+        return index >= 0 ? cachedTokens[index] : null;
+    }
+
+    // The index of the first cached token at or after the offset
+    private int cachedTokenIndex(int offset) {
+        int low = 0, high = cachedTokenCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cachedTokenOffsets[mid] < offset) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    // Throw away the cached tokens that begin between start (inclusive) 
+    // and end (exclusive)
+    private void uncacheRegion(int start, int end) {
+        int from = cachedTokenIndex(start), to = cachedTokenIndex(end);
+        if (from == to) return;
+        System.arraycopy(cachedTokenOffsets, to, cachedTokenOffsets, from, cachedTokenCount - to);
+        System.arraycopy(cachedTokens, to, cachedTokens, from, cachedTokenCount - to);
+        Arrays.fill(cachedTokens, cachedTokenCount - (to - from), cachedTokenCount, null);
+        cachedTokenCount -= to - from;
+    }
+
+    // The index of the last ignored region that starts at or before 
+    // the offset, or -1 if there is none
+    private int ignoredRegionIndex(int offset) {
+        int low = 0, high = ignoredRegionCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (ignoredRegions[2*mid] <= offset) low = mid + 1;
+            else high = mid;
+        }
+        return low - 1;
+    }
+
+    private boolean isIgnored(int offset) {
+        if (ignoredRegionCount == 0) return false;
+        int region = ignoredRegionIndex(offset);
+        return region >= 0 && offset < ignoredRegions[2*region+1];
+    }
+
+    // The first offset at or after the one passed in that is not ignored
+    private int skipIgnored(int offset) {
+        if (ignoredRegionCount == 0) return offset;
+        int region = ignoredRegionIndex(offset);
+        if (region >= 0 && offset < ignoredRegions[2*region+1]) {
+            return ignoredRegions[2*region+1];
+        }
+        return offset;
+    }
+
+    // The start of the first ignored region after the offset
+    private int nextIgnoredOffset(int offset) {
+        int region = ignoredRegionIndex(offset) + 1;
+        return region < ignoredRegionCount ? ignoredRegions[2*region] : Integer.MAX_VALUE;
+    }
+
+    // Mark the region from start (inclusive) to end (exclusive) 
+    // as ignored, merging it with any regions it overlaps or touches.
+    private void ignoreRegion(int start, int end) {
+        if (start >= end) return;
+        int first = ignoredRegionIndex(start);
+        if (first < 0 || ignoredRegions[2*first+1] < start) ++first;
+        int last = ignoredRegionIndex(end);
+        if (first <= last) {
+            start = Math.min(start, ignoredRegions[2*first]);
+            end = Math.max(end, ignoredRegions[2*last+1]);
+        }
+        int newCount = ignoredRegionCount - (last - first + 1) + 1;
+        if (2*newCount > ignoredRegions.length) {
+            ignoredRegions = Arrays.copyOf(ignoredRegions, 4*newCount);
+        }
+        System.arraycopy(ignoredRegions, 2*(last+1), ignoredRegions, 2*(first+1), 2*(ignoredRegionCount - last - 1));
+        ignoredRegions[2*first] = start;
+        ignoredRegions[2*first+1] = end;
+        ignoredRegionCount = newCount;
+    }
@@ -0,0 +1,537 @@
+[#ftl strict_vars=true]
+[#--
+/* Copyright (c) 2022 Jonathan Revusky, revusky@javacc.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notices,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name Jonathan Revusky nor the names of any contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+ --]
+
+[#--
+   This is embedded in the XXXLexer class when the STREAMING_INPUT
+   option is set. Instead of reading the whole input into memory up front,
+   we only hold a window of it, which is filled from a Reader
+   as the lexer needs it. The parser tells us (via releaseInputBefore)
+   where the text that it could still need starts, and anything before
+   that is thrown away when the window needs to make room.
+   The tokens that were cached in the text that is thrown away keep their
+   images and locations, and stay linked to the tokens around them, so 
+   that the unparsed tokens (comments and so on) can still be found from 
+   the parsed ones. Without tree building, though, a token only holds a 
+   weak reference to the one before it, so that the tokens that nobody
+   holds on to any more can be garbage collected. If the one before has
+   been, asking for it throws an IllegalStateException. The same goes for
+   asking for the location of an offset in the released text that is not
+   at the start or end of a token (but only on lines with hard tabs or 
+   characters beyond 0xFFFF, since otherwise we can work it out from the 
+   line starts, which are kept for the whole input.)
+--]
+
+[#var initialState = grammar.lexerData.lexicalStates[0].name]
+[#var needsMunging = !grammar.preserveTabs || !grammar.preserveLineEndings || grammar.javaUnicodeEscape || grammar.ensureFinalEOL]
+
+    // The part of the (munged) input that we currently hold in memory.
+    // window[0] is the character at the absolute offset windowStart
+    // and windowEnd is the offset just past the last character read in.
+    private char[] window = new char[BUF_SIZE];
+    private int windowStart, windowEnd;
+    // Where we get more input from. This is set to null once it is exhausted.
+    private Reader input;
+    // Nothing before this offset will be needed again (except for any cached
+    // tokens there, and we store their images before throwing away the text.)
+    private int retainFrom;
+    // The last of the cached tokens whose text was thrown away
+    private Token lastReleasedToken;
+
+// The offsets where the tokens in the window are located,
+// relative to windowStart
+   private BitSet tokenOffsets = new BitSet();
+
+// The tokens in the window, indexed by their offset relative to windowStart.
+// This has one more slot than the window so that the EOF token fits.
+   private Token[] tokenLocationTable = new Token[BUF_SIZE+1];
+
+    // The absolute offsets of the beginnings of all the lines read in so far.
+    // These are not thrown away with the text, since it is only an int per line.
+    private int[] lineStarts = new int[256];
+    private int lineCount = 1;
+    // The column at windowStart, which we need if the first line has
+    // been partly thrown away.
+    private int windowStartColumn;
+
+//  A Bitset that stores the lines that contain either hard tabs 
+// or extended (beyond 0xFFFF) unicode characters.
+   private BitSet needToCalculateColumns = new BitSet();
+
+    // The columns at the beginnings and ends of the tokens whose text was
+    // thrown away, but only on the lines where we can't just work them out
+    // from the line starts.
+    private java.util.Map<Integer, Integer> releasedColumns = new java.util.HashMap<>();
+
+     /**
+      * @param inputSource just the name of the input source (typically the filename)
+      * that will be used in error messages and so on.
+      * @param input the input
+      */
+     public ${grammar.lexerClassName}(String inputSource, CharSequence input) {
+        this(inputSource, input, LexicalState.${initialState}, 1, 1);
+     }
+
+     public ${grammar.lexerClassName}(String inputSource, CharSequence input, LexicalState lexState, int startingLine, int startingColumn) {
+        this(inputSource, new StringReader(input.toString()), lexState, startingLine, startingColumn);
+     }
+
+    public ${grammar.lexerClassName}(Reader reader) {
+       this("input", reader, LexicalState.${initialState}, 1, 1);
+    }
+
+    public ${grammar.lexerClassName}(String inputSource, Reader reader) {
+       this(inputSource, reader, LexicalState.${initialState}, 1, 1);
+    }
+
+     /**
+      * @param inputSource just the name of the input source (typically the filename) that
+      * will be used in error messages and so on.
+      * @param reader where the input is read from. It is read incrementally, as the
+      * lexer needs it, and closed when it is exhausted.
+      * @param line The line number at which we are starting for the purposes of location/error messages. In most
+      * normal usage, this is 1.
+      * @param column number at which we are starting for the purposes of location/error messages. In most normal
+      * usages this is 1.
+      */
+    public ${grammar.lexerClassName}(String inputSource, Reader reader, LexicalState lexState, int startingLine, int startingColumn) {
+        this.inputSource = inputSource;
+      [#if needsMunging]
+        this.input = new MungingReader(reader);
+      [#else]
+        this.input = reader;
+      [/#if]
+        this.startingLine = startingLine;
+        this.startingColumn = startingColumn;
+        switchTo(lexState);
+    }
+
+    /**
+     * @param inputSource just the name of the input source (typically the filename) that
+     * will be used in error messages and so on.
+     * @param channel where the raw bytes of the input are read from
+     * @param charset the encoding of the input
+     */
+    public ${grammar.lexerClassName}(String inputSource, java.nio.channels.ReadableByteChannel channel, Charset charset) {
+        this(inputSource, java.nio.channels.Channels.newReader(channel, charset.newDecoder(), -1));
+    }
+
+    /**
+     * @param path the file to read
+     * @param charset the encoding of the file. If this is null, we assume
+     * UTF-8 and skip the initial byte order mark, if there is one.
+     * @return a Reader for the file, suitable for passing to the constructor
+     */
+    static public Reader newReader(java.nio.file.Path path, Charset charset) throws IOException {
+        if (charset != null) {
+            return java.nio.file.Files.newBufferedReader(path, charset);
+        }
+        BufferedReader reader = java.nio.file.Files.newBufferedReader(path, UTF_8);
+        reader.mark(1);
+        if (reader.read() != 0xFEFF) {
+            reader.reset();
+        }
+        return reader;
+    }
+
+    /**
+     * Tells the lexer that the input before the given (absolute) offset
+     * will not be needed any more, so it can be thrown away when the
+     * window needs to make room. The tokens that were cached there keep
+     * their images and locations, and stay linked to the tokens around them.
+     * The generated parser calls this as it consumes tokens.
+     */
+    public void releaseInputBefore(int offset) {
+        if (offset > retainFrom) retainFrom = offset;
+    }
+
+    /**
+     * @return whether the input at the given offset is still held in memory
+     */
+    public boolean isInputRetained(int offset) {
+        return offset >= windowStart;
+    }
+
+    // But there is no goto in Java!!!
+    private void goTo(int offset) {
+        if (offset < windowStart) {
+            throw new IllegalStateException("The input at offset " + offset + " has already been released.");
+        }
+        this.bufferPosition = offset;
+    }
+
+    private int readChar() {
+        if (bufferPosition >= windowEnd && !fill()) {
+            return -1;
+        }
+        char ch = window[bufferPosition++ - windowStart];
+        if (Character.isHighSurrogate(ch) && (bufferPosition < windowEnd || fill())) {
+            char nextChar = window[bufferPosition - windowStart];
+            if (Character.isLowSurrogate(nextChar)) {
+                ++bufferPosition;
+                return Character.toCodePoint(ch, nextChar);
+            }
+        }
+        return ch;
+    }
+
+    /**
+     * Read more input into the window, making room if necessary.
+     * @return false if there is no more input
+     */
+    private boolean fill() {
+        if (input == null) return false;
+        if (windowEnd - windowStart == window.length) {
+            makeRoom();
+        }
+        int offset = windowEnd - windowStart;
+        int charsRead;
+        try {
+            charsRead = input.read(window, offset, window.length - offset);
+            if (charsRead < 0) {
+                input.close();
+                input = null;
+                return false;
+            }
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+        for (int i = offset; i < offset + charsRead; i++) {
+            char ch = window[i];
+            if (ch == '\t' || Character.isHighSurrogate(ch)) {
+                needToCalculateColumns.set(lineCount - 1);
+            }
+            if (ch == '\n') {
+                if (lineCount == lineStarts.length) {
+                    lineStarts = Arrays.copyOf(lineStarts, lineCount * 2);
+                }
+                lineStarts[lineCount++] = windowStart + i + 1;
+            }
+        }
+        windowEnd += charsRead;
+        return true;
+    }
+
+    /**
+     * Throw away the input before retainFrom (but never anything that the
+     * token currently being scanned might need) if that frees up at
+     * least half of the window. Otherwise, the window grows.
+     */
+    private void makeRoom() {
+        int discard = Math.min(retainFrom, bufferPosition) - windowStart;
+        if (discard > 0 && Character.isLowSurrogate(window[discard])) --discard;
+        if (discard < window.length / 2) {
+            window = Arrays.copyOf(window, window.length * 2);
+            tokenLocationTable = Arrays.copyOf(tokenLocationTable, window.length + 1);
+            return;
+        }
+        Token previous = lastReleasedToken;
+        for (int i = tokenOffsets.nextSetBit(0); i >= 0 && i < discard; i = tokenOffsets.nextSetBit(i + 1)) {
+            Token tok = tokenLocationTable[i];
+            tok.setImage(tok.getImage());
+            saveColumn(tok.getBeginOffset());
+            saveColumn(tok.getEndOffset() - 1);
+            if (previous != null) {
+                previous.nextReleasedToken = tok;
+              [#if grammar.treeBuildingEnabled]
+                tok.previousReleasedToken = previous;
+              [#else]
+                tok.previousReleasedToken = new java.lang.ref.WeakReference<>(previous);
+              [/#if]
+            }
+            previous = tok;
+        }
+        lastReleasedToken = previous;
+        int newWindowStart = windowStart + discard;
+        windowStartColumn = getColumn(newWindowStart);
+        System.arraycopy(window, discard, window, 0, windowEnd - newWindowStart);
+        System.arraycopy(tokenLocationTable, discard, tokenLocationTable, 0, tokenLocationTable.length - discard);
+        Arrays.fill(tokenLocationTable, tokenLocationTable.length - discard, tokenLocationTable.length, null);
+        tokenOffsets = tokenOffsets.get(discard, Math.max(discard, tokenOffsets.length()));
+        windowStart = newWindowStart;
+    }
+
+    // Store the column at an offset in the window if it can't be 
+    // worked out without the text, which is about to be thrown away.
+    private void saveColumn(int pos) {
+        if (pos >= windowStart && needToCalculateColumns.get(getLineIndex(pos))) {
+            releasedColumns.put(pos, getColumn(pos));
+        }
+    }
+
+    // The index in lineStarts of the line containing the offset
+    private int getLineIndex(int pos) {
+        int bsearchResult = Arrays.binarySearch(lineStarts, 0, lineCount, pos);
+        return bsearchResult >= 0 ? bsearchResult : -(bsearchResult + 2);
+    }
+
+    /**
+     * @return the line number from the absolute offset passed in as a parameter
+     */
+    public int getLineFromOffset(int pos) {
+        while (pos > windowEnd && fill());
+        return startingLine + getLineIndex(pos);
+    }
+
+    /**
+     * @return the column (1-based and in code points)
+     * from the absolute offset passed in as a parameter
+     * @throws IllegalStateException if the input at that offset has 
+     * already been released and we have no way of knowing the column
+     */
+    public int getCodePointColumnFromOffset(int pos) {
+        while (pos >= windowEnd && fill());
+        if (pos >= windowEnd) return 1;
+        return getColumn(pos);
+    }
+
+    // The column at an offset that is in the window (or just past it),
+    // or that is at the start or end of a token whose text was released.
+    private int getColumn(int pos) {
+        if (pos == 0) return startingColumn;
+        final int line = getLineIndex(pos);
+        final int lineStart = lineStarts[line];
+        int startColumnAdjustment = line > 0 ? 1 : startingColumn;
+        int unadjustedColumn = pos - lineStart + startColumnAdjustment;
+        if (!needToCalculateColumns.get(line)) {
+            return unadjustedColumn;
+        }
+        if (pos < windowStart) {
+            Integer column = releasedColumns.get(pos);
+            if (column == null) {
+                throw new IllegalStateException("The input at offset " + pos + " has already been released.");
+            }
+            return column;
+        }
+        if (pos < windowEnd && Character.isLowSurrogate(window[pos - windowStart])) --pos;
+        int result = startColumnAdjustment;
+        int start = lineStart;
+        if (lineStart < windowStart) {
+            result = windowStartColumn;
+            start = windowStart;
+        }
+        for (int i = start; i < pos; i++) {
+            char ch = window[i - windowStart];
+            if (ch == '\t') {
+             [#if grammar.preserveTabs]
+                result += tabSize - (result - 1) % tabSize;
+             [#else]
+                result += DEFAULT_TAB_SIZE - (result - 1) % DEFAULT_TAB_SIZE;
+             [/#if]
+            }
+            else if (Character.isHighSurrogate(ch)) {
+                ++result;
+                ++i;
+            }
+            else {
+                ++result;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return the text between startOffset (inclusive)
+     * and endOffset(exclusive)
+     * @throws IllegalStateException if the text has already been released
+     */
+    public String getText(int startOffset, int endOffset) {
+        if (startOffset < windowStart) {
+            throw new IllegalStateException("The input at offset " + startOffset + " has already been released.");
+        }
+        while (endOffset > windowEnd && fill());
+        return new String(window, startOffset - windowStart, Math.min(endOffset, windowEnd) - startOffset);
+    }
+
+    void cacheToken(Token tok) {
+[#if !grammar.minimalToken]
+        if (tok.isInserted()) {
+            Token next = tok.nextCachedToken();
+            if (next != null) cacheToken(next);
+            return;
+        }
+[/#if]
+	    int offset = tok.getBeginOffset() - windowStart;
+        if (offset >= 0) {
+	        tokenOffsets.set(offset);
+	        tokenLocationTable[offset] = tok;
+        }
+    }
+
+    void uncacheTokens(Token lastToken) {
+        int endOffset = Math.max(0, lastToken.getEndOffset() - windowStart);
+        if (endOffset < tokenOffsets.length()) {
+            tokenOffsets.clear(endOffset, tokenOffsets.length());
+        }
+      [#if !grammar.minimalToken]
+        lastToken.unsetAppendedToken();
+      [/#if]
+    }
+
+    Token nextCachedToken(int offset) {
+        if (offset < windowStart) {
+            // The tokens that were released are linked to the ones
+            // after them, so we only get here from the last of them.
+            if (lastReleasedToken == null || offset < lastReleasedToken.getEndOffset()) {
+                throw new IllegalStateException("The input at offset " + offset + " has already been released.");
+            }
+            offset = windowStart;
+        }
+        int nextOffset = tokenOffsets.nextSetBit(offset - windowStart);
+	    return nextOffset != -1 ? tokenLocationTable[nextOffset] : null;
+    }
+
+    Token previousCachedToken(int offset) {
+        if (offset > windowStart) {
+            int prevOffset = tokenOffsets.previousSetBit(offset - windowStart - 1);
+            if (prevOffset != -1) return tokenLocationTable[prevOffset];
+        }
+        // The tokens that were released are linked to the ones before them,
+        // so the only one that we could need here is the last of them.
+        return lastReleasedToken != null && offset >= lastReleasedToken.getEndOffset() ? lastReleasedToken : null;
+    }
+
+[#if needsMunging]
+  // Does the same thing as the mungeContent method that is used when
+  // the whole input is read in up front, except that it works on a stream.
+  private static class MungingReader extends FilterReader {
+      // This is just to handle tabs to spaces.
+      private int col;
+      // The number of consecutive backslashes (in the raw input)
+      // up to and including the last character read
+      private int numPrecedingSlashes;
+      // A character that we read ahead, or -1
+      private int pending = -1;
+      private int spacesPending;
+      private int lastChar = -1;
+      private boolean finished;
+
+      MungingReader(Reader in) {
+          super(in);
+      }
+
+      private int readRaw() throws IOException {
+          int ch = pending;
+          if (ch >= 0) {
+              pending = -1;
+          } else {
+              ch = in.read();
+          }
+          numPrecedingSlashes = ch == '\\' ? numPrecedingSlashes + 1 : 0;
+          return ch;
+      }
+
+      private void unread(int ch) {
+          if (ch < 0) return;
+          pending = ch;
+          if (ch == '\\') --numPrecedingSlashes;
+      }
+
+      @Override
+      public int read() throws IOException {
+          return lastChar = munge();
+      }
+
+      private int munge() throws IOException {
+          if (spacesPending > 0) {
+              --spacesPending;
+              ++col;
+              return ' ';
+          }
+          int ch = readRaw();
+          if (ch < 0) {
+        [#if grammar.ensureFinalEOL]
+              if (!finished) {
+                  finished = true;
+                  if (lastChar != '\n' && lastChar != '\r') return '\n';
+              }
+        [/#if]
+              return -1;
+          }
+          if (ch == '\n') {
+              col = 0;
+              return ch;
+          }
+        [#if grammar.javaUnicodeEscape]
+          if (ch == '\\') {
+              boolean isEscape = numPrecedingSlashes % 2 == 1;
+              int nextChar = readRaw();
+              if (nextChar != 'u' || !isEscape) {
+                  unread(nextChar);
+                  ++col;
+                  return ch;
+              }
+              while (nextChar == 'u') {
+                  nextChar = readRaw();
+              }
+              char[] fourHexDigits = new char[4];
+              fourHexDigits[0] = (char) nextChar;
+              for (int i = 1; i < 4; i++) {
+                  fourHexDigits[i] = (char) readRaw();
+              }
+              numPrecedingSlashes = 0;
+              ++col;
+              return Integer.parseInt(new String(fourHexDigits), 16);
+          }
+        [/#if]
+        [#if !grammar.preserveLineEndings]
+          if (ch == '\r') {
+              int nextChar = readRaw();
+              if (nextChar != '\n') unread(nextChar);
+              col = 0;
+              return '\n';
+          }
+        [/#if]
+        [#if !grammar.preserveTabs]
+          if (ch == '\t') {
+              spacesPending = DEFAULT_TAB_SIZE - col % DEFAULT_TAB_SIZE - 1;
+              ++col;
+              return ' ';
+          }
+        [/#if]
+          if (!Character.isLowSurrogate((char) ch)) ++col;
+          return ch;
+      }
+
+      // We return as soon as the underlying reader would block,
+      // so that interactive input is handled sensibly.
+      @Override
+      public int read(char[] buf, int offset, int length) throws IOException {
+          int count = 0;
+          while (count < length) {
+              if (count > 0 && pending < 0 && spacesPending == 0 && !in.ready()) break;
+              int ch = read();
+              if (ch < 0) break;
+              buf[offset + count++] = (char) ch;
+          }
+          return count == 0 && length > 0 ? -1 : count;
+      }
+  }
+[/#if]
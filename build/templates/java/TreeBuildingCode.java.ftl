@@ -0,0 +1,355 @@
+[#ftl strict_vars=true]
+[#--
+/* Copyright (c) 2008-2019 Jonathan Revusky, revusky@javacc.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notices,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name Jonathan Revusky nor the names of any contributors 
+ *       may be used to endorse or promote products derived from this software i
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+ --]
+
+[#if grammar.treeBuildingDefault]
+    private boolean buildTree = true;
+[#else]
+    private boolean buildTree = false;
+[/#if]    
+[#if grammar.tokensAreNodes]
+    private boolean tokensAreNodes = true;
+[#else]
+    private boolean tokensAreNodes = false;
+[/#if]
+[#if grammar.unparsedTokensAreNodes]
+    private boolean unparsedTokensAreNodes = true;
+[#else]
+    private boolean unparsedTokensAreNodes = false;
+[/#if]
+
+    public boolean isTreeBuildingEnabled() {
+        return buildTree;
+    }
+
+    public void setUnparsedTokensAreNodes(boolean unparsedTokensAreNodes) {
+        this.unparsedTokensAreNodes = unparsedTokensAreNodes;
+    }
+    
+    public void setTokensAreNodes(boolean tokensAreNodes) {
+        this.tokensAreNodes = tokensAreNodes;
+    }
+
+    NodeScope currentNodeScope = new NodeScope();
+    
+
+	/** 
+	 * @return the root node of the AST. It only makes sense to call
+	 * this after a successful parse. 
+	 */ 
+    public Node rootNode() {
+        return currentNodeScope.rootNode();
+    }
+[#if grammar.compactTree]
+
+    /**
+     * @return a copy of the AST stored compactly, as a CompactTree, or null 
+     * if there is no tree. It only makes sense to call this after a successful 
+     * parse, and the tree that rootNode() returns should not be used after this.
+     * The memory is only saved once that tree can be garbage collected.
+     */
+    public CompactTree compactTree() {
+        Node root = rootNode();
+        return root == null ? null : new CompactTree(root);
+    }
+[/#if]
+    
+    /**
+     * push a node onto the top of the node stack
+     * @param n the node to push
+     */
+    public void pushNode(Node n) {
+        currentNodeScope.add(n);
+    }
+
+    /** 
+     * @return the node on the top of the stack, and remove it from the
+     * stack.  
+     */ 
+    public Node popNode() {
+       return currentNodeScope.pop();
+    }
+
+    /** 
+     * @return the node currently on the top of the tree-building stack. 
+     */ 
+    public Node peekNode() {
+        return currentNodeScope.peek();
+    }
+
+    /**
+     * Puts the node on the top of the stack. However, unlike pushNode()
+     * it replaces the node that is currently on the top of the stack.
+     * This is effectively equivalent to popNode() followed by pushNode(n)
+     * @param n the node to poke
+     */
+    public void pokeNode(Node n) {
+      	currentNodeScope.poke(n);
+    }
+
+
+	/** 
+     * @return the number of Nodes on the tree-building stack in the current node
+	 * scope. 
+	 */
+    public int nodeArity() {
+        return currentNodeScope.size();
+    }
+
+
+    private void clearNodeScope() {
+        currentNodeScope.clear();
+    }
+    
+    private void openNodeScope(Node n) {
+        currentNodeScope.open();
+        if (n!=null) {
+            Token next = nextToken(lastConsumedToken);
+            n.setTokenSource(lastConsumedToken.getTokenSource());
+            n.setBeginOffset(next.getBeginOffset());
+            n.open();
+  [#list grammar.openNodeScopeHooks as hook]
+            ${hook}(n);
+  [/#list]
+        }
+    }
+
+	/* A definite node is constructed from a specified number of
+	 * children.  That number of nodes are popped from the stack and
+	 * made the children of the definite node.  Then the definite node
+	 * is pushed on to the stack.
+	 */
+    private void closeNodeScope(Node n, int num) {
+        n.setEndOffset(lastConsumedToken.getEndOffset());
+        currentNodeScope.close();
+        // FIXME deal with the UNPARSED_TOKENS_ARE_NODES case
+        currentNodeScope.popInto(n, num);
+        n.close();
+        pushNode(n);
+ [#list grammar.closeNodeScopeHooks as hook]
+       ${hook}(n);
+[/#list]
+    }
+
+	/**
+	 * A conditional node is constructed if the condition is true.  All
+	 * the nodes that have been pushed since the node was opened are
+	 * made children of the conditional node, which is then pushed
+	 * on to the stack.  If the condition is false the node is not
+	 * constructed and they are left on the stack. 
+	 */
+    private void closeNodeScope(Node n, boolean condition) {
+        if (n!= null && condition) {
+            n.setEndOffset(lastConsumedToken.getEndOffset());
+            int a = nodeArity();
+            currentNodeScope.close();
+            if (!unparsedTokensAreNodes) {
+                currentNodeScope.popInto(n, a);
+            }
+            else for (Node child : currentNodeScope.popNodes(a)) {
+                if (child instanceof Token) {
+                    Token tok = (Token) child;
+                    while (tok.previousCachedToken() != null && tok.previousCachedToken().isUnparsed()) {
+                        tok = tok.previousCachedToken();
+                    }
+                    while (tok.isUnparsed()) {
+                        n.addChild(tok);
+                        tok = tok.nextCachedToken();
+                    }
+                }
+                n.addChild(child);
+            }
+            n.close();
+            pushNode(n);
+[#list grammar.closeNodeScopeHooks as hook]
+           ${hook}(n);
+[/#list]
+        } else {
+            currentNodeScope.close();
+        }
+    }
+    
+    
+    public boolean getBuildTree() {
+    	return buildTree;
+    }
+    
+    public void setBuildTree(boolean buildTree) {
+        this.buildTree = buildTree;
+    }
+
+    /**
+     * Just a kludge so that existing jjtree-based code that uses
+     * parser.jjtree.foo can work without change.
+     */
+    
+    ${grammar.parserClassName} jjtree = this; 
+    
+    
+    
+    /**
+     * The tree-building stack. All the node scopes share a single array of
+     * nodes, and an open scope is just a mark, i.e. the index in the array at 
+     * which it begins, so opening or closing a scope does not allocate or copy
+     * anything. The stack operations, like peek() and pop(), reach into the 
+     * enclosing scopes when the current one is empty.
+     */
+    class NodeScope implements Cloneable {
+        private Node[] nodes = new Node[64];
+        private int size;
+        // Where each open scope, other than the root one, begins
+        private int[] marks = new int[16];
+        private int depth;
+
+        void open() {
+            if (depth == marks.length) {
+                marks = Arrays.copyOf(marks, depth * 2);
+            }
+            marks[depth++] = size;
+        }
+
+        /**
+         * Closes the current scope, so that its nodes
+         * now belong to the enclosing one
+         */
+        void close() {
+            --depth;
+        }
+
+        private int mark() {
+            return depth == 0 ? 0 : marks[depth - 1];
+        }
+
+        boolean isRootScope() {
+            return depth == 0;
+        }
+
+        Node rootNode() {
+            int rootScopeSize = depth == 0 ? size : marks[0];
+            return rootScopeSize == 0 ? null : nodes[0];
+        }
+
+        /**
+         * @return the number of nodes in the current scope
+         */
+        int size() {
+            return size - mark();
+        }
+
+        boolean isEmpty() {
+            return size == mark();
+        }
+
+        void add(Node n) {
+            if (size == nodes.length) {
+                nodes = Arrays.copyOf(nodes, size * 2);
+            }
+            nodes[size++] = n;
+        }
+
+        Node peek() {
+            return size == 0 ? null : nodes[size - 1];
+        }
+
+        Node pop() {
+            Node result = nodes[--size];
+            nodes[size] = null;
+            truncateScopes();
+            return result;
+        }
+
+        void poke(Node n) {
+            nodes[size - 1] = n;
+        }
+
+        void clear() {
+            int mark = mark();
+            Arrays.fill(nodes, mark, size, null);
+            size = mark;
+        }
+
+        /**
+         * Empties the stack and closes all the scopes,
+         * leaving the arrays as they are, to be reused
+         */
+        void reset() {
+            Arrays.fill(nodes, 0, size, null);
+            size = 0;
+            depth = 0;
+        }
+
+        /**
+         * Removes the top num nodes from the stack and makes them
+         * the children of the given node, in the order they were pushed.
+         */
+        void popInto(Node parent, int num) {
+            int from = size - num;
+            parent.addChildren(nodes, from, size);
+            Arrays.fill(nodes, from, size, null);
+            size = from;
+            truncateScopes();
+        }
+
+        /**
+         * Removes the top num nodes from the stack
+         * @return the removed nodes, in the order they were pushed
+         */
+        Node[] popNodes(int num) {
+            int from = size - num;
+            Node[] result = Arrays.copyOfRange(nodes, from, size);
+            Arrays.fill(nodes, from, size, null);
+            size = from;
+            truncateScopes();
+            return result;
+        }
+
+        // After popping past the beginning of the current scope (and maybe
+        // enclosing ones) those scopes now begin where the stack ends.
+        private void truncateScopes() {
+            for (int i = depth - 1; i >= 0 && marks[i] > size; i--) {
+                marks[i] = size;
+            }
+        }
+
+        int nestingLevel() {
+            return depth;
+        }
+
+        public NodeScope clone() {
+            try {
+                NodeScope clone = (NodeScope) super.clone();
+                clone.nodes = Arrays.copyOf(nodes, Math.max(size, 16));
+                clone.marks = Arrays.copyOf(marks, Math.max(depth, 16));
+                return clone;
+            } catch (CloneNotSupportedException e) {
+                throw new InternalError(e);
+            }
+        }
+    }
@@ -0,0 +1,7 @@
+[#ftl strict_vars=true]
+[#-- Copyright (C) 2021-2022 Vinay Sajip, vinay_sajip@yahoo.co.uk --]
+# Generated by ${generated_by} - do not edit.
+
+from .tokens import TokenType, Token, InvalidToken
+from .lexer import Lexer
+from .parser import Parser, ParseException
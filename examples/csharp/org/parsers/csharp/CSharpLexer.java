@@ -0,0 +1,1076 @@
+/* Generated by: JavaCC 21 Parser Generator. CSharpLexer.java */
+package org.parsers.csharp;
+
+import static org.parsers.csharp.CSharpConstants.TokenType.*;
+import java.io.*;
+import java.nio.charset.Charset;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CharacterCodingException;
+import static java.nio.charset.StandardCharsets.*;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
+import org.parsers.csharp.ppline.PPDirectiveLineParser;
+import org.parsers.csharp.ppline.PPDirectiveLineParser.DirectiveType;
+
+
+public class CSharpLexer implements CSharpConstants {
+    private boolean parsingOn, alreadyHandled, seenElse;
+    private int ifNesting, turnedOffPoint;
+    private BitSet parsingOnStack = new BitSet(1000), seenElseStack = new BitSet(1000), alreadyHandledStack = new BitSet(1000);
+    private Set<String> ppSymbols = new HashSet<String> ();
+     {
+        // We start with parsing on, of course
+        parsingOn = true;
+        parsingOnStack.set(0);
+    }
+
+    void addSymbols(Set<String> symbols) {
+        ppSymbols.addAll(symbols);
+    }
+
+    // Token hook to handle preprocessor directives.
+    private Token tokenHook$CSharpLexer_javacc$340$18(Token tok) {
+        TokenType type = tok.getType();
+        if (type==TokenType.EOF) {
+            assert ifNesting==0 : "unclosed #if";
+            return tok;
+        }
+        String image = tok.getImage();
+        if (image.length()==0||image.charAt(0)!='#') {
+            return tok;
+        }
+        if (!this.atLineStart(tok)) {
+            return tok;
+        }
+        Token prevToken = tok.previousCachedToken();
+        // We let this little helper parser defined in PPDirectiveLine.javacc
+        // parse the line. So we just pass it the line where the token occurs
+        // and get back an info object that tells us what we need to know.
+        String line = getLine(tok);
+        PPDirectiveLineParser.Info info = PPDirectiveLineParser.evaluate(line, ppSymbols);
+        DirectiveType directiveType = info.directiveType;
+        setLineSkipped(tok);
+        if (directiveType==DirectiveType.UNKNOWN) {
+            tok.setType(TokenType.INVALID);
+            return tok;
+        }
+        if (ifNesting==0&&(directiveType==DirectiveType.ELIF||directiveType==DirectiveType.ELSE||directiveType==DirectiveType.ENDIF)) {
+            tok.setType(TokenType.INVALID);
+            return tok;
+        }
+        if (seenElse&&(directiveType==DirectiveType.ELIF||directiveType==DirectiveType.ELSE)) {
+            tok.setType(TokenType.INVALID);
+            return tok;
+        }
+        if (directiveType==DirectiveType.ENDIF) {
+            seenElse = seenElseStack.get(ifNesting);
+            alreadyHandled = alreadyHandledStack.get(ifNesting);
+            setParsingEnabled(parsingOnStack.get(ifNesting), tok);
+            --ifNesting;
+        }
+        else if (directiveType==DirectiveType.ELSE) {
+            seenElse = true;
+            setParsingEnabled(parsingOnStack.get(ifNesting)&&!alreadyHandled, tok);
+        }
+        else if (directiveType==DirectiveType.ELIF) {
+            setParsingEnabled(parsingOnStack.get(ifNesting)&&!alreadyHandled&&info.evaluationResult, tok);
+            alreadyHandled|=info.evaluationResult;
+        }
+        else if (directiveType==DirectiveType.IF) {
+            ++ifNesting;
+            alreadyHandledStack.set(ifNesting, alreadyHandled);
+            seenElseStack.set(ifNesting, seenElse);
+            parsingOnStack.set(ifNesting, parsingOn);
+            seenElse = false;
+            alreadyHandled = info.evaluationResult;
+            setParsingEnabled(parsingOn&&info.evaluationResult, tok);
+        }
+        return tok;
+    }
+
+    void setParsingEnabled(boolean parsingOn, Token tok) {
+        boolean turnedOn = !this.parsingOn&&parsingOn;
+        boolean turnedOff = this.parsingOn&&!parsingOn;
+        if (turnedOn) {
+            switchTo(LexicalState.CSHARP);
+            int endRegion = getLineEndOffset(tok.getEndLine())+1;
+            setRegionIgnore(turnedOffPoint, endRegion);
+        }
+        if (turnedOff) {
+            turnedOffPoint = getLineStartOffset(tok.getBeginLine());
+            switchTo(LexicalState.IN_IGNORED_SECTION);
+        }
+        this.parsingOn = parsingOn;
+    }
+
+    static final int DEFAULT_TAB_SIZE = 4;
+    private int tabSize = DEFAULT_TAB_SIZE;
+
+    /**
+    * set the tab size used for location reporting
+    */
+    public void setTabSize(int tabSize) {
+        this.tabSize = tabSize;
+    }
+
+    Token DUMMY_START_TOKEN = new Token();
+    // Just a dummy Token value that we put in the tokenLocationTable
+    // to indicate that this location in the file is ignored.
+    static final private Token IGNORED = new Token(), SKIPPED = new Token();
+    static {
+        IGNORED.setUnparsed(true);
+        SKIPPED.setUnparsed(true);
+    }
+    // Munged content, possibly replace unicode escapes, tabs, or CRLF with LF.
+    private CharSequence content;
+    // Typically a filename, I suppose.
+    private String inputSource = "input";
+    // Works out the line and column numbers, only when they are needed
+    private LineMap lineMap;
+    // The starting line and column, usually 1,1
+    // that is used to report a file position 
+    // in 1-based line/column terms
+    private int startingLine, startingColumn;
+    // The offset in the internal buffer to the very
+    // next character that the readChar method returns
+    private int bufferPosition;
+    // A BitSet that stores where the tokens are located.
+    // This is not strictly necessary, I suppose...
+    private BitSet tokenOffsets;
+    // Just a very simple, bloody minded approach, just store the
+    // Token objects in a table where the offsets are the code unit 
+    // positions in the content buffer. If the Token at a given offset is
+    // the dummy or marker type IGNORED, then the location is skipped via
+    // whatever preprocessor logic.    
+    private Token[]tokenLocationTable;
+    // The following two BitSets are used to store 
+    // the current active NFA states in the core tokenization loop
+    private BitSet nextStates = new BitSet(786), currentStates = new BitSet(786);
+    EnumSet<TokenType> activeTokenTypes = EnumSet.allOf(TokenType.class);
+     {
+        activeTokenTypes.remove(ADD);
+        activeTokenTypes.remove(ASSEMBLY);
+        activeTokenTypes.remove(ASYNC);
+        activeTokenTypes.remove(AWAIT);
+        activeTokenTypes.remove(INTO);
+        activeTokenTypes.remove(MODULE);
+        activeTokenTypes.remove(NAMEOF);
+        activeTokenTypes.remove(PARTIAL);
+        activeTokenTypes.remove(RECORD);
+        activeTokenTypes.remove(REMOVE);
+        activeTokenTypes.remove(VAR);
+        activeTokenTypes.remove(WHEN);
+        activeTokenTypes.remove(YIELD);
+        activeTokenTypes.remove(ARGLIST);
+        activeTokenTypes.remove(GET);
+        activeTokenTypes.remove(SET);
+        activeTokenTypes.remove(INIT);
+        activeTokenTypes.remove(WITH);
+        activeTokenTypes.remove(AND);
+        activeTokenTypes.remove(OR);
+        activeTokenTypes.remove(NOT);
+        activeTokenTypes.remove(ASCENDING);
+        activeTokenTypes.remove(BY);
+        activeTokenTypes.remove(DESCENDING);
+        activeTokenTypes.remove(EQUALS);
+        activeTokenTypes.remove(FROM);
+        activeTokenTypes.remove(GROUP);
+        activeTokenTypes.remove(JOIN);
+        activeTokenTypes.remove(LET);
+        activeTokenTypes.remove(ON);
+        activeTokenTypes.remove(ORDERBY);
+        activeTokenTypes.remove(SELECT);
+        activeTokenTypes.remove(WHERE);
+    }
+    // Token types that are "regular" tokens that participate in parsing,
+    // i.e. declared as TOKEN
+    static final EnumSet<TokenType> regularTokens = EnumSet.of(EOF, INTEGER_LITERAL, REAL_LITERAL, FALSE, TRUE, NULL, LPAREN, RPAREN, RBRACE, LBRACKET, RBRACKET, SEMICOLON, COMMA, GT, LT, BANG, TILDE, HOOK, DOUBLE_HOOK, DOUBLE_HOOK_EQUALS, COLON, EQ, LE, GE, NE, SC_OR, SC_AND, INCR, DECR, PLUS, MINUS, STAR, SLASH, BIT_AND, BIT_OR, HAT, REM, LSHIFT, PLUSASSIGN, MINUSASSIGN, STARASSIGN, SLASHASSIGN, ANDASSIGN, ORASSIGN, XORASSIGN, REMASSIGN, LEFT_SHIFT_ASSIGN, RIGHT_SHIFT, RIGHT_SHIFT_ASSIGN, ARROW, POINTER_ACCESS, ASSIGN, DOUBLE_COLON, DOT, RANGE, VAR_ARGS, AT, ABSTRACT, AS, BASE, BOOL, BREAK, BYTE, CASE, CATCH, CHAR, CHECKED, CLASS, CONST, CONTINUE, DECIMAL, DEFAULT, DELEGATE, DO, DOUBLE, ELSE, ENUM, EVENT, EXPLICIT, EXTERN, FINALLY, FIXED, FLOAT, FOR, FOREACH, GOTO, IF, IMPLICIT, IN, INT, INTERFACE, INTERNAL, IS, LOCK, LONG, NAMESPACE, NEW, OBJECT, OPERATOR, OUT, OVERRIDE, PARAMS, PRIVATE, PROTECTED, PUBLIC, READONLY, REF, RETURN, SBYTE, SEALED, SHORT, SIZEOF, STACKALLOC, STATIC, STRING, STRUCT, SWITCH, THIS, THROW, TRY, TYPEOF, UINT, ULONG, UNCHECKED, UNSAFE, USHORT, USING, VIRTUAL, VOID, VOLATILE, WHILE, ARGLIST, ADD, ASSEMBLY, ASYNC, AWAIT, GET, INIT, MODULE, NAMEOF, PARTIAL, RECORD, REMOVE, SET, VAR, WHEN, YIELD, AND, OR, NOT, WITH, ASCENDING, BY, DESCENDING, EQUALS, FROM, GROUP, INTO, JOIN, LET, ON, ORDERBY, SELECT, WHERE, IDENTIFIER, CHARACTER_LITERAL, REGULAR_STRING_LITERAL, VERBATIM_STRING_LITERAL, REGULAR_INTERPOLATION_START, MULTI_INTERPOLATION_START, NON_INTERPOLATED_TEXT, NON_INTERPOLATED_TEXT2, LBRACE, ENDING_QUOTE, DYNAMIC);
+    // Token types that do not participate in parsing, a.k.a. "special" tokens in legacy JavaCC,
+    // i.e. declared as UNPARSED (or SPECIAL_TOKEN)
+    static final EnumSet<TokenType> unparsedTokens = EnumSet.of(MULTI_LINE_COMMENT, SINGLE_LINE_COMMENT, HASH_IF, HASH_ELIF, HASH_ELSE, HASH_ENDIF, HASH);
+    // Tokens that are skipped, i.e. SKIP 
+    static final EnumSet<TokenType> skippedTokens = EnumSet.of(WHITESPACE, _TOKEN_181);
+    // Tokens that correspond to a MORE, i.e. that are pending 
+    // additional input
+    static private final EnumSet<TokenType> moreTokens = EnumSet.noneOf(TokenType.class);
+
+    // The source of the raw characters that we are scanning  
+    public String getInputSource() {
+        return inputSource;
+    }
+
+    public void setInputSource(String inputSource) {
+        this.inputSource = inputSource;
+    }
+
+    public CSharpLexer(CharSequence input) {
+        this("input", input);
+    }
+
+    /**
+    * @param inputSource just the naem of the input source (typically the filename)
+    * that will be used in error messages and so on.
+    * @param input the input
+    */
+    public CSharpLexer(String inputSource, CharSequence input) {
+        this(inputSource, input, LexicalState.CSHARP, 1, 1);
+    }
+
+    /**
+    * @param inputSource just the name of the input source (typically the filename) that
+    * will be used in error messages and so on.
+    * @param input the input
+    * @param line The line number at which we are starting for the purposes of location/error messages. In most
+    * normal usage, this is 1.
+    * @param column number at which we are starting for the purposes of location/error messages. In most normal
+    * usages this is 1.
+    */
+    public CSharpLexer(String inputSource, CharSequence input, LexicalState lexState, int startingLine, int startingColumn) {
+        this.inputSource = inputSource;
+        prepareInput(input);
+        this.startingLine = startingLine;
+        this.startingColumn = startingColumn;
+        switchTo(lexState);
+    }
+
+    /**
+    * @Deprecated Preferably use the constructor that takes a #java.nio.files.Path or simply a String,
+    * depending on your use case
+    */
+    public CSharpLexer(Reader reader) {
+        this("input", reader, LexicalState.CSHARP, 1, 1);
+    }
+
+    /**
+    * @Deprecated Preferably use the constructor that takes a #java.nio.files.Path or simply a String,
+    * depending on your use case
+    */
+    public CSharpLexer(String inputSource, Reader reader) {
+        this(inputSource, reader, LexicalState.CSHARP, 1, 1);
+    }
+
+    /**
+    * @Deprecated Preferably use the constructor that takes a #java.nio.files.Path or simply a String,
+    * depending on your use case
+    */
+    public CSharpLexer(String inputSource, Reader reader, LexicalState lexState, int line, int column) {
+        this(inputSource, readToEnd(reader), lexState, line, column);
+        switchTo(lexState);
+    }
+
+    /**
+    * Resets this lexer so that it tokenizes the given input from the start,
+    * as if it had just been constructed, but reusing its internal buffers,
+    * such as the token location table, when they are big enough.
+    * The Tokens from the previous input refer back to this lexer, so
+    * they (and any Nodes built from them) should not be used after this.
+    * @param inputSource just the name of the input source (typically the filename)
+    * @param input the input
+    */
+    public void reset(String inputSource, CharSequence input) {
+        reset(inputSource, input, LexicalState.CSHARP, 1, 1);
+    }
+
+    /**
+    * Resets this lexer so that it tokenizes the given input from the start.
+    * (See #reset(String, CharSequence))
+    */
+    public void reset(String inputSource, CharSequence input, LexicalState lexState, int startingLine, int startingColumn) {
+        if (tokenLocationTable!=null) {
+            Arrays.fill(tokenLocationTable, 0, Math.min(tokenLocationTable.length, content.length()+1), null);
+            tokenOffsets.clear();
+        }
+        this.inputSource = inputSource;
+        this.lineMap = null;
+        this.bufferPosition = 0;
+        prepareInput(input);
+        this.startingLine = startingLine;
+        this.startingColumn = startingColumn;
+        switchTo(lexState);
+        DUMMY_START_TOKEN = new Token();
+        activeTokenTypes = EnumSet.allOf(TokenType.class);
+        activeTokenTypes.remove(ADD);
+        activeTokenTypes.remove(ASSEMBLY);
+        activeTokenTypes.remove(ASYNC);
+        activeTokenTypes.remove(AWAIT);
+        activeTokenTypes.remove(INTO);
+        activeTokenTypes.remove(MODULE);
+        activeTokenTypes.remove(NAMEOF);
+        activeTokenTypes.remove(PARTIAL);
+        activeTokenTypes.remove(RECORD);
+        activeTokenTypes.remove(REMOVE);
+        activeTokenTypes.remove(VAR);
+        activeTokenTypes.remove(WHEN);
+        activeTokenTypes.remove(YIELD);
+        activeTokenTypes.remove(ARGLIST);
+        activeTokenTypes.remove(GET);
+        activeTokenTypes.remove(SET);
+        activeTokenTypes.remove(INIT);
+        activeTokenTypes.remove(WITH);
+        activeTokenTypes.remove(AND);
+        activeTokenTypes.remove(OR);
+        activeTokenTypes.remove(NOT);
+        activeTokenTypes.remove(ASCENDING);
+        activeTokenTypes.remove(BY);
+        activeTokenTypes.remove(DESCENDING);
+        activeTokenTypes.remove(EQUALS);
+        activeTokenTypes.remove(FROM);
+        activeTokenTypes.remove(GROUP);
+        activeTokenTypes.remove(JOIN);
+        activeTokenTypes.remove(LET);
+        activeTokenTypes.remove(ON);
+        activeTokenTypes.remove(ORDERBY);
+        activeTokenTypes.remove(SELECT);
+        activeTokenTypes.remove(WHERE);
+    }
+
+    private Token getNextToken() {
+        InvalidToken invalidToken = null;
+        Token token = nextToken();
+        while (token instanceof InvalidToken) {
+            if (invalidToken==null) {
+                invalidToken = (InvalidToken)token;
+            }
+            else {
+                invalidToken.setEndOffset(token.getEndOffset());
+            }
+            token = nextToken();
+        }
+        if (invalidToken!=null) 
+        cacheToken(invalidToken);
+        cacheToken(token);
+        if (invalidToken!=null) {
+            goTo(invalidToken.getEndOffset());
+            return invalidToken;
+        }
+        return token;
+    }
+
+    /**
+    * The public method for getting the next token.
+    * If the tok parameter is null, it just tokenizes
+    * starting at the internal bufferPosition
+    * Otherwise, it checks whether we have already cached
+    * the token after this one. If not, it finally goes
+    * to the NFA machinery
+    */
+    public Token getNextToken(Token tok) {
+        if (tok==null) {
+            return getNextToken();
+        }
+        Token cachedToken = tok.nextCachedToken();
+        // If the cached next token is not currently active, we
+        // throw it away and go back to the XXXLexer
+        if (cachedToken!=null&&!activeTokenTypes.contains(cachedToken.getType())) {
+            reset(tok);
+            cachedToken = null;
+        }
+        return cachedToken!=null ? cachedToken : getNextToken(tok.getEndOffset());
+    }
+
+    /**
+    * A lower level method to tokenize, that takes the absolute
+    * offset into the content buffer as a parameter
+    * @param offset where to start
+    * @return the token that results from scanning from the given starting point
+    */
+    public Token getNextToken(int offset) {
+        goTo(offset);
+        return getNextToken();
+    }
+
+    // The main method to invoke the NFA machinery
+    private final Token nextToken() {
+        Token matchedToken = null;
+        boolean inMore = false;
+        int tokenBeginOffset = this.bufferPosition, firstChar = 0;
+        // The core tokenization loop
+        while (matchedToken==null) {
+            int curChar, codeUnitsRead = 0, matchedPos = 0;
+            TokenType matchedType = null;
+            boolean reachedEnd = false;
+            if (inMore) {
+                curChar = readChar();
+                if (curChar==-1) 
+                reachedEnd = true;
+            }
+            else {
+                tokenBeginOffset = this.bufferPosition;
+                firstChar = curChar = readChar();
+                if (curChar==-1) {
+                    matchedType = TokenType.EOF;
+                    reachedEnd = true;
+                }
+            }
+            // Get the NFA function table current lexical state
+            // There is some possibility that there was a lexical state change
+            // since the last iteration of this loop!
+            CSharpNfaData.NfaFunction[]nfaFunctions = CSharpNfaData.getFunctionTableMap(lexicalState);
+            // the core NFA loop
+            if (!reachedEnd) do  {
+                // Holder for the new type (if any) matched on this iteration
+                TokenType newType = null;
+                if (codeUnitsRead > 0) {
+                    // What was nextStates on the last iteration 
+                    // is now the currentStates!
+                    BitSet temp = currentStates;
+                    currentStates = nextStates;
+                    nextStates = temp;
+                    int retval = readChar();
+                    if (retval>=0) {
+                        curChar = retval;
+                    }
+                    else {
+                        reachedEnd = true;
+                        break;
+                    }
+                }
+                nextStates.clear();
+                int nextActive = codeUnitsRead==0 ? 0 : currentStates.nextSetBit(0);
+                do  {
+                    TokenType returnedType = nfaFunctions[nextActive].apply(curChar, nextStates, activeTokenTypes);
+                    if (returnedType!=null&&(newType==null||returnedType.ordinal() < newType.ordinal())) {
+                        newType = returnedType;
+                    }
+                    nextActive = codeUnitsRead==0 ? -1 : currentStates.nextSetBit(nextActive+1);
+                }
+                while (nextActive!=-1);
+                ++codeUnitsRead;
+                if (curChar > 0xFFFF) 
+                ++codeUnitsRead;
+                if (newType!=null) {
+                    matchedType = newType;
+                    inMore = moreTokens.contains(matchedType);
+                    matchedPos = codeUnitsRead;
+                }
+            }
+            while (!nextStates.isEmpty());
+            if (matchedType==null) {
+                bufferPosition = tokenBeginOffset+1;
+                if (firstChar > 0xFFFF) 
+                ++bufferPosition;
+                return new InvalidToken(this, tokenBeginOffset, bufferPosition);
+            }
+            bufferPosition-=(codeUnitsRead-matchedPos);
+            if (skippedTokens.contains(matchedType)) {
+                for (int i = tokenBeginOffset; i < bufferPosition; i++) {
+                    if (tokenLocationTable[i]!=IGNORED) 
+                    tokenLocationTable[i] = SKIPPED;
+                }
+            }
+            else if (regularTokens.contains(matchedType)||unparsedTokens.contains(matchedType)) {
+                matchedToken = Token.newToken(matchedType, this, tokenBeginOffset, bufferPosition);
+                matchedToken.setUnparsed(!regularTokens.contains(matchedType));
+            }
+        }
+        matchedToken = tokenHook$CSharpLexer_javacc$340$18(matchedToken);
+        return matchedToken;
+    }
+
+    LexicalState lexicalState = LexicalState.values()[0];
+
+    /**
+    * Switch to specified lexical state.
+    * @param lexState the lexical state to switch to
+    * @return whether we switched (i.e. we weren't already in the desired lexical state)
+    */
+    public boolean switchTo(LexicalState lexState) {
+        if (this.lexicalState!=lexState) {
+            this.lexicalState = lexState;
+            return true;
+        }
+        return false;
+    }
+
+    // Reset the token source input
+    // to just after the Token passed in.
+    void reset(Token t, LexicalState state) {
+        goTo(t.getEndOffset());
+        uncacheTokens(t);
+        if (state!=null) {
+            switchTo(state);
+        }
+    }
+
+    void reset(Token t) {
+        reset(t, null);
+    }
+
+    // But there is no goto in Java!!!
+    private void goTo(int offset) {
+        while (offset < content.length()&&tokenLocationTable[offset]==IGNORED) {
+            ++offset;
+        }
+        this.bufferPosition = offset;
+    }
+
+    /**
+    * The offset of the start of the given line. This is in code units
+    */
+    private int getLineStartOffset(int lineNumber) {
+        int realLineNumber = lineNumber-startingLine;
+        if (realLineNumber<=0) {
+            return 0;
+        }
+        return getLineMap().getLineStartOffset(realLineNumber);
+    }
+
+    /**
+    * The offset of the end of the given line. This is in code units.
+    */
+    private int getLineEndOffset(int lineNumber) {
+        int realLineNumber = lineNumber-startingLine;
+        if (realLineNumber < 0) {
+            return 0;
+        }
+        LineMap lineMap = getLineMap();
+        if (lineMap.getLineStartOffset(realLineNumber)>=content.length()) {
+            return content.length();
+        }
+        return lineMap.getLineStartOffset(realLineNumber+1)-1;
+    }
+
+    private int readChar() {
+        while (tokenLocationTable[bufferPosition]==IGNORED&&bufferPosition < content.length()) {
+            ++bufferPosition;
+        }
+        if (bufferPosition>=content.length()) {
+            return-1;
+        }
+        char ch = content.charAt(bufferPosition++);
+        if (Character.isHighSurrogate(ch)&&bufferPosition < content.length()) {
+            char nextChar = content.charAt(bufferPosition);
+            if (Character.isLowSurrogate(nextChar)) {
+                ++bufferPosition;
+                return Character.toCodePoint(ch, nextChar);
+            }
+        }
+        return ch;
+    }
+
+    /**
+    * This is used in conjunction with having a preprocessor.
+    * We set which lines are actually parsed lines and the
+    * unset ones are ignored.
+    * @param parsedLines a #java.util.BitSet that holds which lines
+    * are parsed (i.e. not ignored)
+    */
+    private void setParsedLines(BitSet parsedLines, boolean reversed) {
+        LineMap lineMap = getLineMap();
+        int lineCount = lineMap.getLineCount();
+        for (int i = 0; i < lineCount; i++) {
+            boolean turnOffLine = !parsedLines.get(i+1);
+            if (reversed) 
+            turnOffLine = !turnOffLine;
+            if (turnOffLine) {
+                int lineOffset = lineMap.getLineStartOffset(i);
+                int nextLineOffset = i < lineCount-1 ? lineMap.getLineStartOffset(i+1) : content.length();
+                for (int offset = lineOffset; offset < nextLineOffset; offset++) {
+                    tokenLocationTable[offset] = IGNORED;
+                }
+            }
+        }
+    }
+
+    /**
+    * This is used in conjunction with having a preprocessor.
+    * We set which lines are actually parsed lines and the
+    * unset ones are ignored.
+    * @param parsedLines a #java.util.BitSet that holds which lines
+    * are parsed (i.e. not ignored)
+    */
+    public void setParsedLines(BitSet parsedLines) {
+        setParsedLines(parsedLines, false);
+    }
+
+    public void setUnparsedLines(BitSet unparsedLines) {
+        setParsedLines(unparsedLines, true);
+    }
+
+    /**
+    * @return the LineMap that works out line and column numbers
+    * for this lexer's content. It is created on first use.
+    */
+    public LineMap getLineMap() {
+        if (lineMap==null) {
+            lineMap = new LineMap(content);
+        }
+        return lineMap;
+    }
+
+    /**
+    * Use a LineMap that has already been built, typically by another
+    * lexer over the same content, so the line offsets are not worked out again.
+    * @param lineMap a LineMap over this lexer's content
+    */
+    public void setLineMap(LineMap lineMap) {
+        if (lineMap.getContent()!=content) {
+            throw new IllegalArgumentException("The LineMap is not over the same content as this lexer.");
+        }
+        this.lineMap = lineMap;
+    }
+
+    /**
+    * @return the line number from the absolute offset passed in as a parameter
+    */
+    public int getLineFromOffset(int pos) {
+        return startingLine+getLineMap().getLineIndex(pos);
+    }
+
+    /**
+    * @return the column (1-based and in code points)
+    * from the absolute offset passed in as a parameter
+    */
+    public int getCodePointColumnFromOffset(int pos) {
+        return getLineMap().getCodePointColumn(pos, startingColumn, tabSize);
+    }
+
+    /**
+    * @return the text between startOffset (inclusive)
+    * and endOffset(exclusive)
+    */
+    public String getText(int startOffset, int endOffset) {
+        StringBuilder buf = new StringBuilder();
+        for (int offset = startOffset; offset < endOffset; offset++) {
+            if (tokenLocationTable[offset]!=IGNORED) {
+                buf.append(content.charAt(offset));
+            }
+        }
+        return buf.toString();
+    }
+
+    void cacheToken(Token tok) {
+        if (tok.isInserted()) {
+            Token next = tok.nextCachedToken();
+            if (next!=null) 
+            cacheToken(next);
+            return;
+        }
+        int offset = tok.getBeginOffset();
+        if (tokenLocationTable[offset]!=IGNORED) {
+            tokenOffsets.set(offset);
+            tokenLocationTable[offset] = tok;
+        }
+    }
+
+    void uncacheTokens(Token lastToken) {
+        int endOffset = lastToken.getEndOffset();
+        if (endOffset < tokenOffsets.length()) {
+            tokenOffsets.clear(lastToken.getEndOffset(), tokenOffsets.length());
+        }
+        lastToken.unsetAppendedToken();
+    }
+
+    Token nextCachedToken(int offset) {
+        int nextOffset = tokenOffsets.nextSetBit(offset);
+        return nextOffset!=-1 ? tokenLocationTable[nextOffset] : null;
+    }
+
+    Token previousCachedToken(int offset) {
+        int prevOffset = tokenOffsets.previousSetBit(offset-1);
+        return prevOffset==-1 ? null : tokenLocationTable[prevOffset];
+    }
+
+    /**
+    * This does everything that needs to be done with the input before
+    * we start tokenizing, in a single pass. It munges the content, i.e.
+    * possibly replaces unicode escapes, tabs, or CRLF with LF, (copying it only
+    * if something actually changes).
+    * The line offsets are not worked out here, but lazily, by the LineMap.
+    */
+    private void prepareInput(CharSequence input) {
+        final int length = input.length();
+        StringBuilder buf = null;
+        // The position in the munged content
+        int pos = 0;
+        char lastChar = 0;
+        int index = 0;
+        while (true) {
+            char ch;
+            int numChars = 1;
+            boolean changed = false;
+            if (index < length) {
+                ch = input.charAt(index++);
+            }
+            else if (pos==0||(lastChar!='\n'&&lastChar!='\r')) {
+                ch = '\n';
+                changed = true;
+            }
+            else break;
+            if (ch=='\r') {
+                ch = '\n';
+                changed = true;
+                if (index < length&&input.charAt(index)=='\n') {
+                    ++index;
+                }
+            }
+            else {
+            }
+            if (changed&&buf==null) {
+                // Up to here, the munged content is the same as the input
+                buf = new StringBuilder(length+16);
+                buf.append(input, 0, pos);
+            }
+            if (buf!=null) {
+                for (int i = 0; i < numChars; i++)
+                buf.append(ch);
+            }
+            lastChar = ch;
+            pos+=numChars;
+        }
+        if (buf!=null) {
+            this.content = buf.toString();
+        }
+        else {
+            // Nothing changed, so we can avoid making a copy, unless the input
+            // is something that the caller could change under our feet.
+            this.content = input instanceof String||input instanceof MappedCharSequence ? input : input.toString();
+        }
+        // The table may be left over from the previous input (see #reset)
+        if (tokenLocationTable==null||tokenLocationTable.length < pos+1) {
+            tokenLocationTable = new Token[pos+1];
+            tokenOffsets = new BitSet(pos+1);
+        }
+    }
+
+    /**
+    * @param path the file to read
+    * @param charset the encoding of the file. If this is null, we check for the
+    * initial byte order mark and, if there is none, assume UTF-8.
+    * @return the content of the file. If the encoding is UTF-8, US-ASCII or ISO-8859-1,
+    * this is a view of the memory-mapped file, so the content is not copied
+    * onto the heap, except for the (decoded) parts that are not ASCII. For other encodings,
+    * the file is simply read in and decoded.
+    */
+    static public CharSequence mapFile(java.nio.file.Path path, Charset charset) throws IOException {
+        try(
+        java.nio.channels.FileChannel channel = java.nio.channels.FileChannel.open(path)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("The file "+path+" is too big.");
+            }
+            ByteBuffer bytes = channel.map(java.nio.channels.FileChannel.MapMode.READ_ONLY, 0, size);
+            int start = 0;
+            if (charset==null) {
+                int firstByte = size > 0 ? Byte.toUnsignedInt(bytes.get(0)) : 1;
+                int secondByte = size > 1 ? Byte.toUnsignedInt(bytes.get(1)) : 1;
+                int thirdByte = size > 2 ? Byte.toUnsignedInt(bytes.get(2)) : 1;
+                if (firstByte==0xEF&&secondByte==0xBB&&thirdByte==0xBF) {
+                    start = 3;
+                }
+                else if ((firstByte==0xFE&&secondByte==0xFF)||(firstByte==0xFF&&secondByte==0xFE)||firstByte==0) {
+                    // Some variant of UTF-16 or UTF-32
+                    byte[]content = new byte[(int)size];
+                    bytes.get(content);
+                    return stringFromBytes(content, null);
+                }
+                charset = UTF_8;
+            }
+            if (!charset.equals(UTF_8)&&!charset.equals(US_ASCII)&&!charset.equals(ISO_8859_1)) {
+                byte[]content = new byte[(int)size];
+                bytes.get(content);
+                return stringFromBytes(content, charset);
+            }
+            ((Buffer)bytes).position(start);
+            return new MappedCharSequence(bytes.slice(), charset);
+        }
+    }
+
+
+    /**
+    * A CharSequence that reads from a memory-mapped file. The file is split into blocks,
+    * and the ones that are pure ASCII (or all of them in the case of ISO-8859-1)
+    * are read directly from the mapped bytes. Only the other blocks are decoded.
+    */
+    private static final class MappedCharSequence implements CharSequence {
+        static final int BLOCK_SIZE = 0x1000;
+        private final ByteBuffer bytes;
+        // The offsets of the first byte and the first char of each block.
+        // The last entry is the overall length.
+        private final int[]byteStarts, charStarts;
+        // The decoded chars of each block, or null if the block is read directly
+        private final char[][]decodedBlocks;
+        private final int numBlocks;
+        // The block that was accessed last, since access is mostly sequential.
+        // It is only a hint: charAt reads it once and checks it against the
+        // (immutable) block offsets, so the sequence can be read from several 
+        // threads at once, and a thread that sees a stale value just searches again.
+        private int lastBlock;
+
+        MappedCharSequence(ByteBuffer bytes, Charset charset) throws CharacterCodingException {
+            this.bytes = bytes;
+            boolean latin1 = charset.equals(ISO_8859_1);
+            int length = bytes.limit();
+            int maxBlocks = length/BLOCK_SIZE+1;
+            byteStarts = new int[maxBlocks+1];
+            charStarts = new int[maxBlocks+1];
+            decodedBlocks = new char[maxBlocks][];
+            CharsetDecoder decoder = charset.newDecoder();
+            int block = 0, byteStart = 0, charStart = 0;
+            while (byteStart < length) {
+                int byteEnd = Math.min(length, byteStart+BLOCK_SIZE);
+                // Don't split a UTF-8 sequence between blocks
+                while (!latin1&&byteEnd < length&&(bytes.get(byteEnd)&0xC0)==0x80) {
+                    ++byteEnd;
+                }
+                boolean direct = latin1;
+                if (!direct) {
+                    direct = true;
+                    for (int i = byteStart; i < byteEnd; i++) {
+                        if (bytes.get(i) < 0) {
+                            direct = false;
+                            break;
+                        }
+                    }
+                }
+                byteStarts[block] = byteStart;
+                charStarts[block] = charStart;
+                if (direct) {
+                    charStart+=byteEnd-byteStart;
+                }
+                else {
+                    ByteBuffer blockBytes = bytes.duplicate();
+                    ((Buffer)blockBytes).limit(byteEnd);
+                    ((Buffer)blockBytes).position(byteStart);
+                    decoder.reset();
+                    CharBuffer chars = decode(decoder, blockBytes.slice(), true);
+                    decodedBlocks[block] = new char[chars.remaining()];
+                    chars.get(decodedBlocks[block]);
+                    charStart+=decodedBlocks[block].length;
+                }
+                ++block;
+                byteStart = byteEnd;
+            }
+            byteStarts[block] = length;
+            charStarts[block] = charStart;
+            numBlocks = block;
+        }
+
+        public int length() {
+            return charStarts[numBlocks];
+        }
+
+        public char charAt(int index) {
+            int block = lastBlock;
+            if (index < charStarts[block]||index>=charStarts[block+1]) {
+                if (index < 0||index>=length()) {
+                    throw new IndexOutOfBoundsException("index: "+index+", length: "+length());
+                }
+                block = Arrays.binarySearch(charStarts, 0, numBlocks, index);
+                if (block < 0) 
+                block = -block-2;
+                lastBlock = block;
+            }
+            char[]decoded = decodedBlocks[block];
+            if (decoded!=null) {
+                return decoded[index-charStarts[block]];
+            }
+            return(char)(bytes.get(byteStarts[block]+index-charStarts[block])&0xFF);
+        }
+
+        public CharSequence subSequence(int start, int end) {
+            StringBuilder buf = new StringBuilder(end-start);
+            for (int i = start; i < end; i++) {
+                buf.append(charAt(i));
+            }
+            return buf.toString();
+        }
+
+        public String toString() {
+            return subSequence(0, length()).toString();
+        }
+
+    }
+
+
+    // Utility methods. Having them here makes it easier to handle things
+    // more uniformly in other generation languages.
+    private void setRegionIgnore(int start, int end) {
+        for (int i = start; i < end; i++) {
+            tokenLocationTable[i] = IGNORED;
+        }
+        tokenOffsets.clear(start, end);
+    }
+
+    private boolean atLineStart(Token tok) {
+        int offset = tok.getBeginOffset();
+        while (offset > 0) {
+            --offset;
+            char c = this.content.charAt(offset);
+            if (!Character.isWhitespace(c)) return false;
+            if (c=='\n') break;
+        }
+        return true;
+    }
+
+    private String getLine(Token tok) {
+        int lineNum = tok.getBeginLine();
+        return getText(getLineStartOffset(lineNum), getLineEndOffset(lineNum)+1);
+    }
+
+    private void setLineSkipped(Token tok) {
+        int lineNum = tok.getBeginLine();
+        int start = getLineStartOffset(lineNum);
+        int end = getLineStartOffset(lineNum+1);
+        setRegionIgnore(start, end);
+        tok.setBeginOffset(start);
+        tok.setEndOffset(end);
+    }
+
+    static String displayChar(int ch) {
+        if (ch=='\'') return"\'\\'\'";
+        if (ch=='\\') return"\'\\\\\'";
+        if (ch=='\t') return"\'\\t\'";
+        if (ch=='\r') return"\'\\r\'";
+        if (ch=='\n') return"\'\\n\'";
+        if (ch=='\f') return"\'\\f\'";
+        if (ch==' ') return"\' \'";
+        if (ch < 128&&!Character.isWhitespace(ch)&&!Character.isISOControl(ch)) return"\'"+(char)ch+"\'";
+        if (ch < 10) return""+ch;
+        return"0x"+Integer.toHexString(ch);
+    }
+
+    static String addEscapes(String str) {
+        StringBuilder retval = new StringBuilder();
+        for (int ch : str.codePoints().toArray()) {
+            switch(ch) {
+                case'\b' : 
+                retval.append("\\b");
+                continue; case'\t' : 
+                retval.append("\\t");
+                continue; case'\n' : 
+                retval.append("\\n");
+                continue; case'\f' : 
+                retval.append("\\f");
+                continue; case'\r' : 
+                retval.append("\\r");
+                continue; case'\"' : 
+                retval.append("\\\"");
+                continue; case'\'' : 
+                retval.append("\\\'");
+                continue; case'\\' : 
+                retval.append("\\\\");
+                continue; default : 
+                if (Character.isISOControl(ch)) {
+                    String s = "0000"+java.lang.Integer.toString(ch, 16);
+                    retval.append("\\u"+s.substring(s.length()-4, s.length()));
+                }
+                else {
+                    retval.appendCodePoint(ch);
+                }
+                continue;
+            }
+        }
+        return retval.toString();
+    }
+
+    // Annoying kludge really...
+    static String readToEnd(Reader reader) {
+        try {
+            return readFully(reader);
+        }
+        catch(IOException ioe) {
+            throw new RuntimeException(ioe);
+        }
+    }
+
+    static final int BUF_SIZE = 0x10000;
+
+    static String readFully(Reader reader) throws IOException {
+        char[]block = new char[BUF_SIZE];
+        int charsRead = reader.read(block);
+        if (charsRead < 0) {
+            throw new IOException("No input");
+        }
+        else if (charsRead < BUF_SIZE) {
+            char[]result = new char[charsRead];
+            System.arraycopy(block, 0, result, 0, charsRead);
+            reader.close();
+            return new String(block, 0, charsRead);
+        }
+        StringBuilder buf = new StringBuilder();
+        buf.append(block);
+        do  {
+            charsRead = reader.read(block);
+            if (charsRead > 0) {
+                buf.append(block, 0, charsRead);
+            }
+        }
+        while (charsRead==BUF_SIZE);
+        reader.close();
+        return buf.toString();
+    }
+
+    /**
+    * @param bytes the raw byte array
+    * @param charset The encoding to use to decode the bytes. If this is null, we check for the
+    * initial byte order mark (used by Microsoft a lot seemingly)
+    * See: https://docs.microsoft.com/es-es/globalization/encoding/byte-order-markc
+    * @return A String taking into account the encoding passed in or in the byte order mark (if it was present).
+    * And if no encoding was passed in and no byte-order mark was present, we assume the raw input
+    * is in UTF-8.
+    */
+    static public String stringFromBytes(byte[]bytes, Charset charset) throws CharacterCodingException {
+        int arrayLength = bytes.length;
+        if (charset==null) {
+            int firstByte = arrayLength > 0 ? Byte.toUnsignedInt(bytes[0]) : 1;
+            int secondByte = arrayLength > 1 ? Byte.toUnsignedInt(bytes[1]) : 1;
+            int thirdByte = arrayLength > 2 ? Byte.toUnsignedInt(bytes[2]) : 1;
+            int fourthByte = arrayLength > 3 ? Byte.toUnsignedInt(bytes[3]) : 1;
+            if (firstByte==0xEF&&secondByte==0xBB&&thirdByte==0xBF) {
+                return new String(bytes, 3, bytes.length-3, Charset.forName("UTF-8"));
+            }
+            if (firstByte==0&&secondByte==0&&thirdByte==0xFE&&fourthByte==0xFF) {
+                return new String(bytes, 4, bytes.length-4, Charset.forName("UTF-32BE"));
+            }
+            if (firstByte==0xFF&&secondByte==0xFE&&thirdByte==0&&fourthByte==0) {
+                return new String(bytes, 4, bytes.length-4, Charset.forName("UTF-32LE"));
+            }
+            if (firstByte==0xFE&&secondByte==0xFF) {
+                return new String(bytes, 2, bytes.length-2, Charset.forName("UTF-16BE"));
+            }
+            if (firstByte==0xFF&&secondByte==0xFE) {
+                return new String(bytes, 2, bytes.length-2, Charset.forName("UTF-16LE"));
+            }
+            charset = UTF_8;
+        }
+        return decode(charset.newDecoder(), ByteBuffer.wrap(bytes), false).toString();
+        // return new String(bytes, charset);
+    }
+
+    // Decode the bytes, replacing any malformed input with 0xFFFD
+    private static CharBuffer decode(CharsetDecoder decoder, ByteBuffer b, boolean endOfInput) throws CharacterCodingException {
+        CharBuffer c = CharBuffer.allocate(b.remaining());
+        while (true) {
+            CoderResult r = decoder.decode(b, c, endOfInput);
+            if (!r.isError()) {
+                break;
+            }
+            if (!r.isMalformed()) {
+                r.throwException();
+            }
+            int n = r.length();
+            ((Buffer)b).position(b.position()+n);
+            for (int i = 0; i < n; i++) {
+                c.put((char)0xFFFD);
+            }
+        }
+        ((Buffer)c).limit(c.position());
+        ((Buffer)c).rewind();
+        return c;
+    }
+
+    static public String stringFromBytes(byte[]bytes) throws CharacterCodingException {
+        return stringFromBytes(bytes, null);
+    }
+
+}
+
+
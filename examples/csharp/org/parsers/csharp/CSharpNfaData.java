@@ -0,0 +1,6032 @@
+/* Generated by: JavaCC 21 Parser Generator. CSharpNfaData.java */
+package org.parsers.csharp;
+
+import static org.parsers.csharp.CSharpConstants.TokenType.*;
+import java.util.EnumSet;
+import java.util.BitSet;
+import java.util.Arrays;
+import java.util.EnumMap;
+
+
+/**
+* Holder class for the data used by CSharpLexer
+* to do the NFA thang
+*/
+class CSharpNfaData implements CSharpConstants {
+
+    // The functional interface that represents 
+    // the acceptance method of an NFA state
+    static interface NfaFunction {
+
+        TokenType apply(int ch, BitSet bs, EnumSet<TokenType> validTypes);
+
+    }
+
+    // A lookup of the NFA function tables for the respective lexical states.
+    private static final EnumMap<LexicalState, NfaFunction[]> functionTableMap = new EnumMap<> (LexicalState.class);
+
+    // This data holder class is never instantiated
+    private CSharpNfaData() {
+    }
+
+    /**
+    * @param the lexical state
+    * @return the table of function pointers that implement the lexical state
+    */
+    static final NfaFunction[]getFunctionTableMap(LexicalState lexicalState) {
+        return functionTableMap.get(lexicalState);
+    }
+
+    // Initialize the various NFA method tables
+    static {
+        CSHARP.NFA_FUNCTIONS_init();
+        IN_REGULAR_INTERPOLATION.NFA_FUNCTIONS_init();
+        IN_MULTI_INTERPOLATION.NFA_FUNCTIONS_init();
+        IN_IGNORED_SECTION.NFA_FUNCTIONS_init();
+    }
+
+    // Just use the canned binary search to check whether the char
+    // is in one of the intervals
+    private static final boolean checkIntervals(int[]ranges, int ch) {
+        int result = Arrays.binarySearch(ranges, ch);
+        return result>=0||result%2==0;
+    }
+
+
+    /**
+    * Holder class for NFA code related to CSHARP lexical state
+    */
+    private static class CSHARP {
+
+        static private TokenType NFA_CSHARP_0(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='!') {
+                nextStates.set(19);
+            }
+            else if (ch=='"') {
+                nextStates.set(152);
+            }
+            else if (ch=='$') {
+                nextStates.set(154);
+                nextStates.set(155);
+            }
+            else if (ch=='%') {
+                nextStates.set(32);
+            }
+            else if (ch=='&') {
+                nextStates.set(21);
+                nextStates.set(29);
+            }
+            else if (ch=='\'') {
+                nextStates.set(151);
+            }
+            else if (ch=='*') {
+                nextStates.set(27);
+            }
+            else if (ch=='+') {
+                nextStates.set(22);
+                nextStates.set(25);
+            }
+            else if (ch=='-') {
+                nextStates.set(23);
+                nextStates.set(26);
+                nextStates.set(37);
+            }
+            else if (ch=='.') {
+                nextStates.set(9);
+                nextStates.set(39);
+                nextStates.set(40);
+            }
+            else if (ch=='/') {
+                nextStates.set(3);
+                nextStates.set(4);
+                nextStates.set(28);
+            }
+            else if (ch=='0') {
+                nextStates.set(6);
+                nextStates.set(7);
+            }
+            if (ch>='0'&&ch<='9') {
+                nextStates.set(8);
+            }
+            else if (ch==':') {
+                nextStates.set(38);
+            }
+            else if (ch=='<') {
+                nextStates.set(17);
+                nextStates.set(24);
+                nextStates.set(33);
+            }
+            else if (ch=='=') {
+                nextStates.set(16);
+                nextStates.set(36);
+            }
+            else if (ch=='>') {
+                nextStates.set(18);
+                nextStates.set(34);
+                nextStates.set(35);
+            }
+            else if (ch=='?') {
+                nextStates.set(14);
+                nextStates.set(15);
+            }
+            else if (ch=='@') {
+                nextStates.set(148);
+                nextStates.set(153);
+                nextStates.set(156);
+            }
+            else if (ch=='\\') {
+                nextStates.set(150);
+            }
+            else if (ch=='^') {
+                nextStates.set(31);
+            }
+            else if (ch=='_') {
+                nextStates.set(115);
+            }
+            else if (ch=='a') {
+                nextStates.set(41);
+                nextStates.set(42);
+                nextStates.set(116);
+                nextStates.set(117);
+                nextStates.set(118);
+                nextStates.set(119);
+                nextStates.set(131);
+                nextStates.set(135);
+            }
+            else if (ch=='b') {
+                nextStates.set(43);
+                nextStates.set(44);
+                nextStates.set(45);
+                nextStates.set(46);
+                nextStates.set(136);
+            }
+            else if (ch=='c') {
+                nextStates.set(47);
+                nextStates.set(48);
+                nextStates.set(49);
+                nextStates.set(50);
+                nextStates.set(51);
+                nextStates.set(52);
+                nextStates.set(53);
+            }
+            else if (ch=='d') {
+                nextStates.set(1);
+                nextStates.set(54);
+                nextStates.set(55);
+                nextStates.set(56);
+                nextStates.set(57);
+                nextStates.set(58);
+                nextStates.set(137);
+            }
+            else if (ch=='e') {
+                nextStates.set(59);
+                nextStates.set(60);
+                nextStates.set(61);
+                nextStates.set(62);
+                nextStates.set(63);
+                nextStates.set(138);
+            }
+            else if (ch=='f') {
+                nextStates.set(11);
+                nextStates.set(64);
+                nextStates.set(65);
+                nextStates.set(66);
+                nextStates.set(67);
+                nextStates.set(68);
+                nextStates.set(139);
+            }
+            else if (ch=='g') {
+                nextStates.set(69);
+                nextStates.set(120);
+                nextStates.set(140);
+            }
+            else if (ch=='i') {
+                nextStates.set(70);
+                nextStates.set(71);
+                nextStates.set(72);
+                nextStates.set(73);
+                nextStates.set(74);
+                nextStates.set(75);
+                nextStates.set(76);
+                nextStates.set(121);
+                nextStates.set(141);
+            }
+            else if (ch=='j') {
+                nextStates.set(142);
+            }
+            else if (ch=='l') {
+                nextStates.set(77);
+                nextStates.set(78);
+                nextStates.set(143);
+            }
+            else if (ch=='m') {
+                nextStates.set(122);
+            }
+            else if (ch=='n') {
+                nextStates.set(13);
+                nextStates.set(79);
+                nextStates.set(80);
+                nextStates.set(123);
+                nextStates.set(133);
+            }
+            else if (ch=='o') {
+                nextStates.set(81);
+                nextStates.set(82);
+                nextStates.set(83);
+                nextStates.set(84);
+                nextStates.set(132);
+                nextStates.set(144);
+                nextStates.set(145);
+            }
+            else if (ch=='p') {
+                nextStates.set(85);
+                nextStates.set(86);
+                nextStates.set(87);
+                nextStates.set(88);
+                nextStates.set(124);
+            }
+            else if (ch=='r') {
+                nextStates.set(89);
+                nextStates.set(90);
+                nextStates.set(91);
+                nextStates.set(125);
+                nextStates.set(126);
+            }
+            else if (ch=='s') {
+                nextStates.set(92);
+                nextStates.set(93);
+                nextStates.set(94);
+                nextStates.set(95);
+                nextStates.set(96);
+                nextStates.set(97);
+                nextStates.set(98);
+                nextStates.set(99);
+                nextStates.set(100);
+                nextStates.set(127);
+                nextStates.set(146);
+            }
+            else if (ch=='t') {
+                nextStates.set(12);
+                nextStates.set(101);
+                nextStates.set(102);
+                nextStates.set(103);
+                nextStates.set(104);
+            }
+            else if (ch=='u') {
+                nextStates.set(105);
+                nextStates.set(106);
+                nextStates.set(107);
+                nextStates.set(108);
+                nextStates.set(109);
+                nextStates.set(110);
+            }
+            else if (ch=='v') {
+                nextStates.set(111);
+                nextStates.set(112);
+                nextStates.set(113);
+                nextStates.set(128);
+            }
+            else if (ch=='w') {
+                nextStates.set(114);
+                nextStates.set(129);
+                nextStates.set(134);
+                nextStates.set(147);
+            }
+            else if (ch=='y') {
+                nextStates.set(130);
+            }
+            else if (ch=='|') {
+                nextStates.set(20);
+                nextStates.set(30);
+            }
+            else if (ch=='#') {
+                if (validTypes.contains(HASH)) 
+                type = HASH;
+            }
+            else if (ch=='{') {
+                if (validTypes.contains(LBRACE)) 
+                type = LBRACE;
+            }
+            if (((ch>='A'&&ch<='Z')||((ch=='_')||(ch>='a'&&ch<='z')))||(ch>=128&&checkIntervals(NFA_MOVES_CSHARP_733, ch))) {
+                nextStates.set(149);
+                if (validTypes.contains(IDENTIFIER)) 
+                type = IDENTIFIER;
+            }
+            else if (ch=='@') {
+                if (validTypes.contains(AT)) 
+                type = AT;
+            }
+            else if (ch=='.') {
+                if (validTypes.contains(DOT)) 
+                type = DOT;
+            }
+            else if (ch=='=') {
+                if (validTypes.contains(ASSIGN)) 
+                type = ASSIGN;
+            }
+            else if (ch=='%') {
+                if (validTypes.contains(REM)) 
+                type = REM;
+            }
+            else if (ch=='^') {
+                if (validTypes.contains(HAT)) 
+                type = HAT;
+            }
+            else if (ch=='|') {
+                if (validTypes.contains(BIT_OR)) 
+                type = BIT_OR;
+            }
+            else if (ch=='&') {
+                if (validTypes.contains(BIT_AND)) 
+                type = BIT_AND;
+            }
+            else if (ch=='/') {
+                if (validTypes.contains(SLASH)) 
+                type = SLASH;
+            }
+            else if (ch=='*') {
+                if (validTypes.contains(STAR)) 
+                type = STAR;
+            }
+            else if (ch=='-') {
+                if (validTypes.contains(MINUS)) 
+                type = MINUS;
+            }
+            else if (ch=='+') {
+                if (validTypes.contains(PLUS)) 
+                type = PLUS;
+            }
+            else if (ch==':') {
+                if (validTypes.contains(COLON)) 
+                type = COLON;
+            }
+            else if (ch=='?') {
+                if (validTypes.contains(HOOK)) 
+                type = HOOK;
+            }
+            else if (ch=='~') {
+                if (validTypes.contains(TILDE)) 
+                type = TILDE;
+            }
+            else if (ch=='!') {
+                if (validTypes.contains(BANG)) 
+                type = BANG;
+            }
+            else if (ch=='<') {
+                if (validTypes.contains(LT)) 
+                type = LT;
+            }
+            else if (ch=='>') {
+                if (validTypes.contains(GT)) 
+                type = GT;
+            }
+            else if (ch==',') {
+                if (validTypes.contains(COMMA)) 
+                type = COMMA;
+            }
+            else if (ch==';') {
+                if (validTypes.contains(SEMICOLON)) 
+                type = SEMICOLON;
+            }
+            else if (ch==']') {
+                if (validTypes.contains(RBRACKET)) 
+                type = RBRACKET;
+            }
+            else if (ch=='[') {
+                if (validTypes.contains(LBRACKET)) 
+                type = LBRACKET;
+            }
+            else if (ch=='}') {
+                if (validTypes.contains(RBRACE)) 
+                type = RBRACE;
+            }
+            else if (ch==')') {
+                if (validTypes.contains(RPAREN)) 
+                type = RPAREN;
+            }
+            else if (ch=='(') {
+                if (validTypes.contains(LPAREN)) 
+                type = LPAREN;
+            }
+            else if (ch>='0'&&ch<='9') {
+                nextStates.set(10);
+                nextStates.set(5);
+                if (validTypes.contains(INTEGER_LITERAL)) 
+                type = INTEGER_LITERAL;
+            }
+            else if (((ch>='\t'&&ch<=0xb)||((ch=='\r')||(ch==' ')))||(ch>=128&&checkIntervals(NFA_MOVES_CSHARP_7, ch))) {
+                nextStates.set(2);
+                if (validTypes.contains(WHITESPACE)) 
+                type = WHITESPACE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_1(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='y') {
+                nextStates.set(576);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_2(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (((ch>='\t'&&ch<=0xb)||((ch=='\r')||(ch==' ')))||(ch>=128&&checkIntervals(NFA_MOVES_CSHARP_7, ch))) {
+                nextStates.set(2);
+                if (validTypes.contains(WHITESPACE)) 
+                type = WHITESPACE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_3(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='*') {
+                nextStates.set(574);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_4(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='/') {
+                nextStates.set(573);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_5(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>='0'&&ch<='9')||(ch=='_')) {
+                nextStates.set(572);
+            }
+            else if (ch=='L') {
+                nextStates.set(569);
+                nextStates.set(570);
+            }
+            else if (ch=='U') {
+                nextStates.set(567);
+                nextStates.set(568);
+            }
+            else if (ch=='l') {
+                nextStates.set(569);
+                nextStates.set(570);
+            }
+            else if (ch=='u') {
+                nextStates.set(567);
+                nextStates.set(568);
+            }
+            if (ch>='0'&&ch<='9') {
+                nextStates.set(566);
+                if (validTypes.contains(INTEGER_LITERAL)) 
+                type = INTEGER_LITERAL;
+            }
+            else if (ch=='L') {
+                if (validTypes.contains(INTEGER_LITERAL)) 
+                type = INTEGER_LITERAL;
+            }
+            else if (ch=='U') {
+                if (validTypes.contains(INTEGER_LITERAL)) 
+                type = INTEGER_LITERAL;
+            }
+            else if (ch=='l') {
+                if (validTypes.contains(INTEGER_LITERAL)) 
+                type = INTEGER_LITERAL;
+            }
+            else if (ch=='u') {
+                if (validTypes.contains(INTEGER_LITERAL)) 
+                type = INTEGER_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_6(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch=='X')||(ch=='x')) {
+                nextStates.set(571);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_7(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='b') {
+                nextStates.set(564);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_8(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='.') {
+                nextStates.set(9);
+            }
+            else if ((ch>='0'&&ch<='9')||(ch=='_')) {
+                nextStates.set(562);
+            }
+            if (ch>='0'&&ch<='9') {
+                nextStates.set(563);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_9(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch>='0'&&ch<='9') {
+                nextStates.set(10);
+                if (validTypes.contains(REAL_LITERAL)) 
+                type = REAL_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_10(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>='0'&&ch<='9')||(ch=='_')) {
+                nextStates.set(555);
+            }
+            else if ((ch=='E')||(ch=='e')) {
+                nextStates.set(557);
+            }
+            if (ch>='0'&&ch<='9') {
+                nextStates.set(556);
+                if (validTypes.contains(REAL_LITERAL)) 
+                type = REAL_LITERAL;
+            }
+            else if ((ch=='D')||((ch=='F')||((ch=='M')||((ch=='d')||((ch=='f')||(ch=='m')))))) {
+                if (validTypes.contains(REAL_LITERAL)) 
+                type = REAL_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_11(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='a') {
+                nextStates.set(552);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_12(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='r') {
+                nextStates.set(550);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_13(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='u') {
+                nextStates.set(548);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_14(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='?') {
+                if (validTypes.contains(DOUBLE_HOOK)) 
+                type = DOUBLE_HOOK;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_15(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='?') {
+                nextStates.set(547);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_16(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='=') {
+                if (validTypes.contains(EQ)) 
+                type = EQ;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_17(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='=') {
+                if (validTypes.contains(LE)) 
+                type = LE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_18(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='=') {
+                if (validTypes.contains(GE)) 
+                type = GE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_19(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='=') {
+                if (validTypes.contains(NE)) 
+                type = NE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_20(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='|') {
+                if (validTypes.contains(SC_OR)) 
+                type = SC_OR;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_21(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='&') {
+                if (validTypes.contains(SC_AND)) 
+                type = SC_AND;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_22(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='+') {
+                if (validTypes.contains(INCR)) 
+                type = INCR;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_23(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='-') {
+                if (validTypes.contains(DECR)) 
+                type = DECR;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_24(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='<') {
+                if (validTypes.contains(LSHIFT)) 
+                type = LSHIFT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_25(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='=') {
+                if (validTypes.contains(PLUSASSIGN)) 
+                type = PLUSASSIGN;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_26(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='=') {
+                if (validTypes.contains(MINUSASSIGN)) 
+                type = MINUSASSIGN;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_27(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='=') {
+                if (validTypes.contains(STARASSIGN)) 
+                type = STARASSIGN;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_28(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='=') {
+                if (validTypes.contains(SLASHASSIGN)) 
+                type = SLASHASSIGN;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_29(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='=') {
+                if (validTypes.contains(ANDASSIGN)) 
+                type = ANDASSIGN;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_30(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='=') {
+                if (validTypes.contains(ORASSIGN)) 
+                type = ORASSIGN;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_31(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='=') {
+                if (validTypes.contains(XORASSIGN)) 
+                type = XORASSIGN;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_32(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='=') {
+                if (validTypes.contains(REMASSIGN)) 
+                type = REMASSIGN;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_33(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='<') {
+                nextStates.set(546);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_34(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='>') {
+                if (validTypes.contains(RIGHT_SHIFT)) 
+                type = RIGHT_SHIFT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_35(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='>') {
+                nextStates.set(545);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_36(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='>') {
+                if (validTypes.contains(ARROW)) 
+                type = ARROW;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_37(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='>') {
+                if (validTypes.contains(POINTER_ACCESS)) 
+                type = POINTER_ACCESS;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_38(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch==':') {
+                if (validTypes.contains(DOUBLE_COLON)) 
+                type = DOUBLE_COLON;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_39(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='.') {
+                if (validTypes.contains(RANGE)) 
+                type = RANGE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_40(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='.') {
+                nextStates.set(544);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_41(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='b') {
+                nextStates.set(538);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_42(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='s') {
+                if (validTypes.contains(AS)) 
+                type = AS;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_43(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='a') {
+                nextStates.set(536);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_44(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='o') {
+                nextStates.set(534);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_45(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='r') {
+                nextStates.set(531);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_46(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='y') {
+                nextStates.set(529);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_47(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='a') {
+                nextStates.set(527);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_48(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='a') {
+                nextStates.set(524);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_49(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='h') {
+                nextStates.set(522);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_50(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='h') {
+                nextStates.set(517);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_51(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='l') {
+                nextStates.set(514);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_52(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='o') {
+                nextStates.set(511);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_53(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='o') {
+                nextStates.set(505);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_54(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                nextStates.set(500);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_55(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                nextStates.set(495);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_56(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                nextStates.set(489);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_57(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='o') {
+                if (validTypes.contains(DO)) 
+                type = DO;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_58(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='o') {
+                nextStates.set(485);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_59(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='l') {
+                nextStates.set(483);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_60(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='n') {
+                nextStates.set(481);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_61(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='v') {
+                nextStates.set(478);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_62(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='x') {
+                nextStates.set(472);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_63(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='x') {
+                nextStates.set(468);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_64(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='i') {
+                nextStates.set(463);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_65(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='i') {
+                nextStates.set(460);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_66(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='l') {
+                nextStates.set(457);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_67(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='o') {
+                nextStates.set(456);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_68(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='o') {
+                nextStates.set(451);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_69(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='o') {
+                nextStates.set(449);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_70(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='f') {
+                if (validTypes.contains(IF)) 
+                type = IF;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_71(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='m') {
+                nextStates.set(443);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_72(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='n') {
+                if (validTypes.contains(IN)) 
+                type = IN;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_73(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='n') {
+                nextStates.set(442);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_74(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='n') {
+                nextStates.set(435);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_75(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='n') {
+                nextStates.set(429);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_76(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='s') {
+                if (validTypes.contains(IS)) 
+                type = IS;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_77(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='o') {
+                nextStates.set(427);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_78(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='o') {
+                nextStates.set(425);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_79(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='a') {
+                nextStates.set(418);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_80(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                nextStates.set(417);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_81(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='b') {
+                nextStates.set(413);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_82(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='p') {
+                nextStates.set(407);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_83(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='u') {
+                nextStates.set(406);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_84(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='v') {
+                nextStates.set(400);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_85(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='a') {
+                nextStates.set(396);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_86(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='r') {
+                nextStates.set(391);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_87(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='r') {
+                nextStates.set(384);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_88(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='u') {
+                nextStates.set(380);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_89(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                nextStates.set(374);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_90(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                nextStates.set(373);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_91(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                nextStates.set(369);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_92(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='b') {
+                nextStates.set(366);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_93(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                nextStates.set(362);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_94(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='h') {
+                nextStates.set(359);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_95(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='i') {
+                nextStates.set(355);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_96(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                nextStates.set(347);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_97(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                nextStates.set(343);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_98(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                nextStates.set(339);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_99(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                nextStates.set(335);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_100(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='w') {
+                nextStates.set(331);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_101(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='h') {
+                nextStates.set(329);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_102(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='h') {
+                nextStates.set(326);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_103(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='r') {
+                nextStates.set(325);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_104(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='y') {
+                nextStates.set(321);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_105(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='i') {
+                nextStates.set(319);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_106(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='l') {
+                nextStates.set(316);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_107(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='n') {
+                nextStates.set(309);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_108(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='n') {
+                nextStates.set(305);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_109(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='s') {
+                nextStates.set(301);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_110(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='s') {
+                nextStates.set(298);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_111(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='i') {
+                nextStates.set(293);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_112(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='o') {
+                nextStates.set(291);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_113(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='o') {
+                nextStates.set(285);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_114(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='h') {
+                nextStates.set(282);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_115(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='_') {
+                nextStates.set(275);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_116(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='d') {
+                nextStates.set(274);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_117(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='s') {
+                nextStates.set(268);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_118(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='s') {
+                nextStates.set(265);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_119(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='w') {
+                nextStates.set(262);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_120(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                nextStates.set(261);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_121(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='n') {
+                nextStates.set(259);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_122(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='o') {
+                nextStates.set(255);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_123(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='a') {
+                nextStates.set(251);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_124(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='a') {
+                nextStates.set(246);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_125(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                nextStates.set(242);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_126(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                nextStates.set(238);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_127(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                nextStates.set(237);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_128(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='a') {
+                nextStates.set(236);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_129(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='h') {
+                nextStates.set(234);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_130(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='i') {
+                nextStates.set(231);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_131(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='n') {
+                nextStates.set(230);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_132(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='r') {
+                if (validTypes.contains(OR)) 
+                type = OR;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_133(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='o') {
+                nextStates.set(229);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_134(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='i') {
+                nextStates.set(227);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_135(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='s') {
+                nextStates.set(220);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_136(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='y') {
+                if (validTypes.contains(BY)) 
+                type = BY;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_137(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                nextStates.set(212);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_138(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='q') {
+                nextStates.set(208);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_139(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='r') {
+                nextStates.set(206);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_140(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='r') {
+                nextStates.set(203);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_141(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='n') {
+                nextStates.set(201);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_142(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='o') {
+                nextStates.set(199);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_143(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                nextStates.set(198);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_144(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='n') {
+                if (validTypes.contains(ON)) 
+                type = ON;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_145(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='r') {
+                nextStates.set(193);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_146(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                nextStates.set(189);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_147(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='h') {
+                nextStates.set(186);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_148(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='\\') {
+                nextStates.set(150);
+            }
+            else if (((ch>='A'&&ch<='Z')||((ch=='_')||(ch>='a'&&ch<='z')))||(ch>=128&&checkIntervals(NFA_MOVES_CSHARP_733, ch))) {
+                nextStates.set(149);
+                if (validTypes.contains(IDENTIFIER)) 
+                type = IDENTIFIER;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_149(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='\\') {
+                nextStates.set(150);
+            }
+            else if (((ch>='0'&&ch<='9')||((ch>='A'&&ch<='Z')||((ch=='_')||(ch>='a'&&ch<='z'))))||(ch>=128&&checkIntervals(NFA_MOVES_CSHARP_749, ch))) {
+                nextStates.set(149);
+                if (validTypes.contains(IDENTIFIER)) 
+                type = IDENTIFIER;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_150(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='U') {
+                nextStates.set(179);
+            }
+            else if (ch=='u') {
+                nextStates.set(178);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_151(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>=0x0&&ch<='\t')||((ch==0xb||ch=='\f')||((ch>=0xe&&ch<='&')||((ch>='('&&ch<='[')||(ch>=']'))))) {
+                nextStates.set(168);
+            }
+            else if (ch=='\\') {
+                nextStates.set(169);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_152(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>=0x0&&ch<='\t')||((ch==0xb||ch=='\f')||((ch>=0xe&&ch<='!')||((ch>='#'&&ch<='[')||(ch>=']'))))) {
+                nextStates.set(152);
+            }
+            else if (ch=='\\') {
+                nextStates.set(159);
+            }
+            else if (ch=='"') {
+                if (validTypes.contains(REGULAR_STRING_LITERAL)) 
+                type = REGULAR_STRING_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_153(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='"') {
+                nextStates.set(158);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_154(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='"') {
+                if (validTypes.contains(REGULAR_INTERPOLATION_START)) 
+                type = REGULAR_INTERPOLATION_START;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_155(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='@') {
+                nextStates.set(157);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_156(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='$') {
+                nextStates.set(157);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_157(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='"') {
+                if (validTypes.contains(MULTI_INTERPOLATION_START)) 
+                type = MULTI_INTERPOLATION_START;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_158(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>=0x0&&ch<='!')||(ch>='#')) {
+                nextStates.set(158);
+            }
+            else if (ch=='"') {
+                nextStates.set(153);
+                if (validTypes.contains(VERBATIM_STRING_LITERAL)) 
+                type = VERBATIM_STRING_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_159(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (checkIntervals(NFA_MOVES_CSHARP_783, ch)) {
+                nextStates.set(152);
+            }
+            else if (ch=='U') {
+                nextStates.set(162);
+            }
+            else if (ch=='u') {
+                nextStates.set(161);
+            }
+            else if (ch=='x') {
+                nextStates.set(160);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_160(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>='0'&&ch<='9')||((ch>='A'&&ch<='F')||(ch>='a'&&ch<='f'))) {
+                nextStates.set(152);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_161(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>='0'&&ch<='9')||((ch>='A'&&ch<='F')||(ch>='a'&&ch<='f'))) {
+                nextStates.set(166);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_162(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>='0'&&ch<='9')||((ch>='A'&&ch<='F')||(ch>='a'&&ch<='f'))) {
+                nextStates.set(163);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_163(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>='0'&&ch<='9')||((ch>='A'&&ch<='F')||(ch>='a'&&ch<='f'))) {
+                nextStates.set(164);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_164(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>='0'&&ch<='9')||((ch>='A'&&ch<='F')||(ch>='a'&&ch<='f'))) {
+                nextStates.set(165);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_165(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>='0'&&ch<='9')||((ch>='A'&&ch<='F')||(ch>='a'&&ch<='f'))) {
+                nextStates.set(161);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_166(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>='0'&&ch<='9')||((ch>='A'&&ch<='F')||(ch>='a'&&ch<='f'))) {
+                nextStates.set(167);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_167(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>='0'&&ch<='9')||((ch>='A'&&ch<='F')||(ch>='a'&&ch<='f'))) {
+                nextStates.set(160);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_168(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='\'') {
+                if (validTypes.contains(CHARACTER_LITERAL)) 
+                type = CHARACTER_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_169(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (checkIntervals(NFA_MOVES_CSHARP_768, ch)) {
+                nextStates.set(168);
+            }
+            else if (ch=='u') {
+                nextStates.set(171);
+            }
+            else if (ch=='x') {
+                nextStates.set(170);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_170(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>='0'&&ch<='9')||((ch>='A'&&ch<='F')||(ch>='a'&&ch<='f'))) {
+                nextStates.set(175);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_171(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>='0'&&ch<='9')||((ch>='A'&&ch<='F')||(ch>='a'&&ch<='f'))) {
+                nextStates.set(172);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_172(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>='0'&&ch<='9')||((ch>='A'&&ch<='F')||(ch>='a'&&ch<='f'))) {
+                nextStates.set(173);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_173(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>='0'&&ch<='9')||((ch>='A'&&ch<='F')||(ch>='a'&&ch<='f'))) {
+                nextStates.set(174);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_174(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>='0'&&ch<='9')||((ch>='A'&&ch<='F')||(ch>='a'&&ch<='f'))) {
+                nextStates.set(168);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_175(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>='0'&&ch<='9')||((ch>='A'&&ch<='F')||(ch>='a'&&ch<='f'))) {
+                nextStates.set(176);
+                nextStates.set(177);
+                nextStates.set(168);
+            }
+            else if (ch=='\'') {
+                if (validTypes.contains(CHARACTER_LITERAL)) 
+                type = CHARACTER_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_176(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>='0'&&ch<='9')||((ch>='A'&&ch<='F')||(ch>='a'&&ch<='f'))) {
+                nextStates.set(177);
+                nextStates.set(168);
+            }
+            else if (ch=='\'') {
+                if (validTypes.contains(CHARACTER_LITERAL)) 
+                type = CHARACTER_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_177(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>='0'&&ch<='9')||((ch>='A'&&ch<='F')||(ch>='a'&&ch<='f'))) {
+                nextStates.set(168);
+            }
+            else if (ch=='\'') {
+                if (validTypes.contains(CHARACTER_LITERAL)) 
+                type = CHARACTER_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_178(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>='0'&&ch<='9')||((ch>='A'&&ch<='F')||(ch>='a'&&ch<='f'))) {
+                nextStates.set(183);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_179(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>='0'&&ch<='9')||((ch>='A'&&ch<='F')||(ch>='a'&&ch<='f'))) {
+                nextStates.set(180);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_180(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>='0'&&ch<='9')||((ch>='A'&&ch<='F')||(ch>='a'&&ch<='f'))) {
+                nextStates.set(181);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_181(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>='0'&&ch<='9')||((ch>='A'&&ch<='F')||(ch>='a'&&ch<='f'))) {
+                nextStates.set(182);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_182(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>='0'&&ch<='9')||((ch>='A'&&ch<='F')||(ch>='a'&&ch<='f'))) {
+                nextStates.set(178);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_183(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>='0'&&ch<='9')||((ch>='A'&&ch<='F')||(ch>='a'&&ch<='f'))) {
+                nextStates.set(184);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_184(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>='0'&&ch<='9')||((ch>='A'&&ch<='F')||(ch>='a'&&ch<='f'))) {
+                nextStates.set(185);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_185(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>='0'&&ch<='9')||((ch>='A'&&ch<='F')||(ch>='a'&&ch<='f'))) {
+                nextStates.set(149);
+                if (validTypes.contains(IDENTIFIER)) 
+                type = IDENTIFIER;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_186(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                nextStates.set(187);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_187(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='r') {
+                nextStates.set(188);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_188(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                if (validTypes.contains(WHERE)) 
+                type = WHERE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_189(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='l') {
+                nextStates.set(190);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_190(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                nextStates.set(191);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_191(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='c') {
+                nextStates.set(192);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_192(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                if (validTypes.contains(SELECT)) 
+                type = SELECT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_193(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='d') {
+                nextStates.set(194);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_194(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                nextStates.set(195);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_195(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='r') {
+                nextStates.set(196);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_196(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='b') {
+                nextStates.set(197);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_197(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='y') {
+                if (validTypes.contains(ORDERBY)) 
+                type = ORDERBY;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_198(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                if (validTypes.contains(LET)) 
+                type = LET;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_199(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='i') {
+                nextStates.set(200);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_200(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='n') {
+                if (validTypes.contains(JOIN)) 
+                type = JOIN;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_201(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                nextStates.set(202);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_202(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='o') {
+                if (validTypes.contains(INTO)) 
+                type = INTO;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_203(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='o') {
+                nextStates.set(204);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_204(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='u') {
+                nextStates.set(205);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_205(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='p') {
+                if (validTypes.contains(GROUP)) 
+                type = GROUP;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_206(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='o') {
+                nextStates.set(207);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_207(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='m') {
+                if (validTypes.contains(FROM)) 
+                type = FROM;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_208(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='u') {
+                nextStates.set(209);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_209(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='a') {
+                nextStates.set(210);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_210(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='l') {
+                nextStates.set(211);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_211(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='s') {
+                if (validTypes.contains(EQUALS)) 
+                type = EQUALS;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_212(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='s') {
+                nextStates.set(213);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_213(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='c') {
+                nextStates.set(214);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_214(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                nextStates.set(215);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_215(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='n') {
+                nextStates.set(216);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_216(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='d') {
+                nextStates.set(217);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_217(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='i') {
+                nextStates.set(218);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_218(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='n') {
+                nextStates.set(219);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_219(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='g') {
+                if (validTypes.contains(DESCENDING)) 
+                type = DESCENDING;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_220(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='c') {
+                nextStates.set(221);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_221(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                nextStates.set(222);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_222(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='n') {
+                nextStates.set(223);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_223(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='d') {
+                nextStates.set(224);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_224(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='i') {
+                nextStates.set(225);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_225(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='n') {
+                nextStates.set(226);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_226(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='g') {
+                if (validTypes.contains(ASCENDING)) 
+                type = ASCENDING;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_227(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                nextStates.set(228);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_228(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='h') {
+                if (validTypes.contains(WITH)) 
+                type = WITH;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_229(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                if (validTypes.contains(NOT)) 
+                type = NOT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_230(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='d') {
+                if (validTypes.contains(AND)) 
+                type = AND;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_231(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                nextStates.set(232);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_232(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='l') {
+                nextStates.set(233);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_233(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='d') {
+                if (validTypes.contains(YIELD)) 
+                type = YIELD;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_234(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                nextStates.set(235);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_235(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='n') {
+                if (validTypes.contains(WHEN)) 
+                type = WHEN;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_236(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='r') {
+                if (validTypes.contains(VAR)) 
+                type = VAR;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_237(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                if (validTypes.contains(SET)) 
+                type = SET;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_238(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='m') {
+                nextStates.set(239);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_239(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='o') {
+                nextStates.set(240);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_240(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='v') {
+                nextStates.set(241);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_241(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                if (validTypes.contains(REMOVE)) 
+                type = REMOVE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_242(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='c') {
+                nextStates.set(243);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_243(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='o') {
+                nextStates.set(244);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_244(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='r') {
+                nextStates.set(245);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_245(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='d') {
+                if (validTypes.contains(RECORD)) 
+                type = RECORD;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_246(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='r') {
+                nextStates.set(247);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_247(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                nextStates.set(248);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_248(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='i') {
+                nextStates.set(249);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_249(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='a') {
+                nextStates.set(250);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_250(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='l') {
+                if (validTypes.contains(PARTIAL)) 
+                type = PARTIAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_251(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='m') {
+                nextStates.set(252);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_252(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                nextStates.set(253);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_253(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='o') {
+                nextStates.set(254);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_254(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='f') {
+                if (validTypes.contains(NAMEOF)) 
+                type = NAMEOF;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_255(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='d') {
+                nextStates.set(256);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_256(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='u') {
+                nextStates.set(257);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_257(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='l') {
+                nextStates.set(258);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_258(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                if (validTypes.contains(MODULE)) 
+                type = MODULE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_259(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='i') {
+                nextStates.set(260);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_260(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                if (validTypes.contains(INIT)) 
+                type = INIT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_261(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                if (validTypes.contains(GET)) 
+                type = GET;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_262(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='a') {
+                nextStates.set(263);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_263(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='i') {
+                nextStates.set(264);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_264(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                if (validTypes.contains(AWAIT)) 
+                type = AWAIT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_265(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='y') {
+                nextStates.set(266);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_266(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='n') {
+                nextStates.set(267);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_267(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='c') {
+                if (validTypes.contains(ASYNC)) 
+                type = ASYNC;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_268(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='s') {
+                nextStates.set(269);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_269(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                nextStates.set(270);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_270(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='m') {
+                nextStates.set(271);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_271(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='b') {
+                nextStates.set(272);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_272(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='l') {
+                nextStates.set(273);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_273(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='y') {
+                if (validTypes.contains(ASSEMBLY)) 
+                type = ASSEMBLY;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_274(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='d') {
+                if (validTypes.contains(ADD)) 
+                type = ADD;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_275(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='a') {
+                nextStates.set(276);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_276(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='r') {
+                nextStates.set(277);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_277(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='g') {
+                nextStates.set(278);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_278(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='l') {
+                nextStates.set(279);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_279(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='i') {
+                nextStates.set(280);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_280(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='s') {
+                nextStates.set(281);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_281(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                if (validTypes.contains(ARGLIST)) 
+                type = ARGLIST;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_282(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='i') {
+                nextStates.set(283);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_283(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='l') {
+                nextStates.set(284);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_284(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                if (validTypes.contains(WHILE)) 
+                type = WHILE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_285(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='l') {
+                nextStates.set(286);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_286(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='a') {
+                nextStates.set(287);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_287(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                nextStates.set(288);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_288(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='i') {
+                nextStates.set(289);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_289(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='l') {
+                nextStates.set(290);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_290(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                if (validTypes.contains(VOLATILE)) 
+                type = VOLATILE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_291(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='i') {
+                nextStates.set(292);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_292(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='d') {
+                if (validTypes.contains(VOID)) 
+                type = VOID;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_293(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='r') {
+                nextStates.set(294);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_294(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                nextStates.set(295);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_295(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='u') {
+                nextStates.set(296);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_296(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='a') {
+                nextStates.set(297);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_297(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='l') {
+                if (validTypes.contains(VIRTUAL)) 
+                type = VIRTUAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_298(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='i') {
+                nextStates.set(299);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_299(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='n') {
+                nextStates.set(300);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_300(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='g') {
+                if (validTypes.contains(USING)) 
+                type = USING;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_301(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='h') {
+                nextStates.set(302);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_302(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='o') {
+                nextStates.set(303);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_303(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='r') {
+                nextStates.set(304);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_304(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                if (validTypes.contains(USHORT)) 
+                type = USHORT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_305(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='s') {
+                nextStates.set(306);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_306(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='a') {
+                nextStates.set(307);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_307(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='f') {
+                nextStates.set(308);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_308(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                if (validTypes.contains(UNSAFE)) 
+                type = UNSAFE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_309(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='c') {
+                nextStates.set(310);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_310(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='h') {
+                nextStates.set(311);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_311(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                nextStates.set(312);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_312(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='c') {
+                nextStates.set(313);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_313(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='k') {
+                nextStates.set(314);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_314(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                nextStates.set(315);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_315(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='d') {
+                if (validTypes.contains(UNCHECKED)) 
+                type = UNCHECKED;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_316(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='o') {
+                nextStates.set(317);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_317(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='n') {
+                nextStates.set(318);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_318(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='g') {
+                if (validTypes.contains(ULONG)) 
+                type = ULONG;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_319(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='n') {
+                nextStates.set(320);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_320(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                if (validTypes.contains(UINT)) 
+                type = UINT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_321(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='p') {
+                nextStates.set(322);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_322(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                nextStates.set(323);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_323(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='o') {
+                nextStates.set(324);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_324(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='f') {
+                if (validTypes.contains(TYPEOF)) 
+                type = TYPEOF;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_325(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='y') {
+                if (validTypes.contains(TRY)) 
+                type = TRY;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_326(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='r') {
+                nextStates.set(327);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_327(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='o') {
+                nextStates.set(328);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_328(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='w') {
+                if (validTypes.contains(THROW)) 
+                type = THROW;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_329(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='i') {
+                nextStates.set(330);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_330(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='s') {
+                if (validTypes.contains(THIS)) 
+                type = THIS;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_331(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='i') {
+                nextStates.set(332);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_332(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                nextStates.set(333);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_333(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='c') {
+                nextStates.set(334);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_334(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='h') {
+                if (validTypes.contains(SWITCH)) 
+                type = SWITCH;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_335(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='r') {
+                nextStates.set(336);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_336(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='u') {
+                nextStates.set(337);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_337(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='c') {
+                nextStates.set(338);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_338(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                if (validTypes.contains(STRUCT)) 
+                type = STRUCT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_339(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='r') {
+                nextStates.set(340);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_340(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='i') {
+                nextStates.set(341);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_341(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='n') {
+                nextStates.set(342);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_342(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='g') {
+                if (validTypes.contains(STRING)) 
+                type = STRING;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_343(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='a') {
+                nextStates.set(344);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_344(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                nextStates.set(345);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_345(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='i') {
+                nextStates.set(346);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_346(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='c') {
+                if (validTypes.contains(STATIC)) 
+                type = STATIC;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_347(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='a') {
+                nextStates.set(348);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_348(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='c') {
+                nextStates.set(349);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_349(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='k') {
+                nextStates.set(350);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_350(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='a') {
+                nextStates.set(351);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_351(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='l') {
+                nextStates.set(352);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_352(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='l') {
+                nextStates.set(353);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_353(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='o') {
+                nextStates.set(354);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_354(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='c') {
+                if (validTypes.contains(STACKALLOC)) 
+                type = STACKALLOC;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_355(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='z') {
+                nextStates.set(356);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_356(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                nextStates.set(357);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_357(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='o') {
+                nextStates.set(358);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_358(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='f') {
+                if (validTypes.contains(SIZEOF)) 
+                type = SIZEOF;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_359(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='o') {
+                nextStates.set(360);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_360(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='r') {
+                nextStates.set(361);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_361(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                if (validTypes.contains(SHORT)) 
+                type = SHORT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_362(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='a') {
+                nextStates.set(363);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_363(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='l') {
+                nextStates.set(364);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_364(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                nextStates.set(365);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_365(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='d') {
+                if (validTypes.contains(SEALED)) 
+                type = SEALED;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_366(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='y') {
+                nextStates.set(367);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_367(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                nextStates.set(368);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_368(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                if (validTypes.contains(SBYTE)) 
+                type = SBYTE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_369(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                nextStates.set(370);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_370(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='u') {
+                nextStates.set(371);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_371(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='r') {
+                nextStates.set(372);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_372(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='n') {
+                if (validTypes.contains(RETURN)) 
+                type = RETURN;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_373(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='f') {
+                if (validTypes.contains(REF)) 
+                type = REF;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_374(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='a') {
+                nextStates.set(375);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_375(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='d') {
+                nextStates.set(376);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_376(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='o') {
+                nextStates.set(377);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_377(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='n') {
+                nextStates.set(378);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_378(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='l') {
+                nextStates.set(379);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_379(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='y') {
+                if (validTypes.contains(READONLY)) 
+                type = READONLY;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_380(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='b') {
+                nextStates.set(381);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_381(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='l') {
+                nextStates.set(382);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_382(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='i') {
+                nextStates.set(383);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_383(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='c') {
+                if (validTypes.contains(PUBLIC)) 
+                type = PUBLIC;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_384(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='o') {
+                nextStates.set(385);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_385(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                nextStates.set(386);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_386(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                nextStates.set(387);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_387(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='c') {
+                nextStates.set(388);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_388(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                nextStates.set(389);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_389(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                nextStates.set(390);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_390(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='d') {
+                if (validTypes.contains(PROTECTED)) 
+                type = PROTECTED;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_391(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='i') {
+                nextStates.set(392);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_392(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='v') {
+                nextStates.set(393);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_393(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='a') {
+                nextStates.set(394);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_394(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                nextStates.set(395);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_395(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                if (validTypes.contains(PRIVATE)) 
+                type = PRIVATE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_396(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='r') {
+                nextStates.set(397);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_397(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='a') {
+                nextStates.set(398);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_398(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='m') {
+                nextStates.set(399);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_399(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='s') {
+                if (validTypes.contains(PARAMS)) 
+                type = PARAMS;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_400(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                nextStates.set(401);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_401(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='r') {
+                nextStates.set(402);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_402(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='r') {
+                nextStates.set(403);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_403(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='i') {
+                nextStates.set(404);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_404(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='d') {
+                nextStates.set(405);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_405(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                if (validTypes.contains(OVERRIDE)) 
+                type = OVERRIDE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_406(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                if (validTypes.contains(OUT)) 
+                type = OUT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_407(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                nextStates.set(408);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_408(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='r') {
+                nextStates.set(409);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_409(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='a') {
+                nextStates.set(410);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_410(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                nextStates.set(411);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_411(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='o') {
+                nextStates.set(412);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_412(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='r') {
+                if (validTypes.contains(OPERATOR)) 
+                type = OPERATOR;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_413(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='j') {
+                nextStates.set(414);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_414(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                nextStates.set(415);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_415(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='c') {
+                nextStates.set(416);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_416(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                if (validTypes.contains(OBJECT)) 
+                type = OBJECT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_417(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='w') {
+                if (validTypes.contains(NEW)) 
+                type = NEW;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_418(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='m') {
+                nextStates.set(419);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_419(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                nextStates.set(420);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_420(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='s') {
+                nextStates.set(421);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_421(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='p') {
+                nextStates.set(422);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_422(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='a') {
+                nextStates.set(423);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_423(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='c') {
+                nextStates.set(424);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_424(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                if (validTypes.contains(NAMESPACE)) 
+                type = NAMESPACE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_425(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='n') {
+                nextStates.set(426);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_426(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='g') {
+                if (validTypes.contains(LONG)) 
+                type = LONG;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_427(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='c') {
+                nextStates.set(428);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_428(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='k') {
+                if (validTypes.contains(LOCK)) 
+                type = LOCK;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_429(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                nextStates.set(430);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_430(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                nextStates.set(431);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_431(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='r') {
+                nextStates.set(432);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_432(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='n') {
+                nextStates.set(433);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_433(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='a') {
+                nextStates.set(434);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_434(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='l') {
+                if (validTypes.contains(INTERNAL)) 
+                type = INTERNAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_435(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                nextStates.set(436);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_436(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                nextStates.set(437);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_437(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='r') {
+                nextStates.set(438);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_438(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='f') {
+                nextStates.set(439);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_439(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='a') {
+                nextStates.set(440);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_440(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='c') {
+                nextStates.set(441);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_441(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                if (validTypes.contains(INTERFACE)) 
+                type = INTERFACE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_442(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                if (validTypes.contains(INT)) 
+                type = INT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_443(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='p') {
+                nextStates.set(444);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_444(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='l') {
+                nextStates.set(445);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_445(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='i') {
+                nextStates.set(446);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_446(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='c') {
+                nextStates.set(447);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_447(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='i') {
+                nextStates.set(448);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_448(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                if (validTypes.contains(IMPLICIT)) 
+                type = IMPLICIT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_449(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                nextStates.set(450);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_450(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='o') {
+                if (validTypes.contains(GOTO)) 
+                type = GOTO;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_451(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='r') {
+                nextStates.set(452);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_452(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                nextStates.set(453);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_453(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='a') {
+                nextStates.set(454);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_454(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='c') {
+                nextStates.set(455);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_455(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='h') {
+                if (validTypes.contains(FOREACH)) 
+                type = FOREACH;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_456(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='r') {
+                if (validTypes.contains(FOR)) 
+                type = FOR;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_457(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='o') {
+                nextStates.set(458);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_458(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='a') {
+                nextStates.set(459);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_459(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                if (validTypes.contains(FLOAT)) 
+                type = FLOAT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_460(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='x') {
+                nextStates.set(461);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_461(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                nextStates.set(462);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_462(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='d') {
+                if (validTypes.contains(FIXED)) 
+                type = FIXED;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_463(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='n') {
+                nextStates.set(464);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_464(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='a') {
+                nextStates.set(465);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_465(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='l') {
+                nextStates.set(466);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_466(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='l') {
+                nextStates.set(467);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_467(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='y') {
+                if (validTypes.contains(FINALLY)) 
+                type = FINALLY;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_468(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                nextStates.set(469);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_469(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                nextStates.set(470);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_470(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='r') {
+                nextStates.set(471);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_471(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='n') {
+                if (validTypes.contains(EXTERN)) 
+                type = EXTERN;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_472(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='p') {
+                nextStates.set(473);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_473(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='l') {
+                nextStates.set(474);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_474(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='i') {
+                nextStates.set(475);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_475(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='c') {
+                nextStates.set(476);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_476(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='i') {
+                nextStates.set(477);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_477(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                if (validTypes.contains(EXPLICIT)) 
+                type = EXPLICIT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_478(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                nextStates.set(479);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_479(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='n') {
+                nextStates.set(480);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_480(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                if (validTypes.contains(EVENT)) 
+                type = EVENT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_481(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='u') {
+                nextStates.set(482);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_482(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='m') {
+                if (validTypes.contains(ENUM)) 
+                type = ENUM;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_483(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='s') {
+                nextStates.set(484);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_484(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                if (validTypes.contains(ELSE)) 
+                type = ELSE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_485(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='u') {
+                nextStates.set(486);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_486(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='b') {
+                nextStates.set(487);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_487(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='l') {
+                nextStates.set(488);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_488(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                if (validTypes.contains(DOUBLE)) 
+                type = DOUBLE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_489(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='l') {
+                nextStates.set(490);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_490(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                nextStates.set(491);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_491(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='g') {
+                nextStates.set(492);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_492(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='a') {
+                nextStates.set(493);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_493(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                nextStates.set(494);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_494(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                if (validTypes.contains(DELEGATE)) 
+                type = DELEGATE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_495(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='f') {
+                nextStates.set(496);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_496(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='a') {
+                nextStates.set(497);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_497(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='u') {
+                nextStates.set(498);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_498(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='l') {
+                nextStates.set(499);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_499(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                if (validTypes.contains(DEFAULT)) 
+                type = DEFAULT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_500(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='c') {
+                nextStates.set(501);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_501(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='i') {
+                nextStates.set(502);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_502(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='m') {
+                nextStates.set(503);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_503(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='a') {
+                nextStates.set(504);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_504(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='l') {
+                if (validTypes.contains(DECIMAL)) 
+                type = DECIMAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_505(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='n') {
+                nextStates.set(506);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_506(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                nextStates.set(507);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_507(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='i') {
+                nextStates.set(508);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_508(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='n') {
+                nextStates.set(509);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_509(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='u') {
+                nextStates.set(510);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_510(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                if (validTypes.contains(CONTINUE)) 
+                type = CONTINUE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_511(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='n') {
+                nextStates.set(512);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_512(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='s') {
+                nextStates.set(513);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_513(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                if (validTypes.contains(CONST)) 
+                type = CONST;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_514(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='a') {
+                nextStates.set(515);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_515(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='s') {
+                nextStates.set(516);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_516(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='s') {
+                if (validTypes.contains(CLASS)) 
+                type = CLASS;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_517(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                nextStates.set(518);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_518(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='c') {
+                nextStates.set(519);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_519(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='k') {
+                nextStates.set(520);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_520(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                nextStates.set(521);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_521(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='d') {
+                if (validTypes.contains(CHECKED)) 
+                type = CHECKED;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_522(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='a') {
+                nextStates.set(523);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_523(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='r') {
+                if (validTypes.contains(CHAR)) 
+                type = CHAR;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_524(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                nextStates.set(525);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_525(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='c') {
+                nextStates.set(526);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_526(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='h') {
+                if (validTypes.contains(CATCH)) 
+                type = CATCH;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_527(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='s') {
+                nextStates.set(528);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_528(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                if (validTypes.contains(CASE)) 
+                type = CASE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_529(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                nextStates.set(530);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_530(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                if (validTypes.contains(BYTE)) 
+                type = BYTE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_531(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                nextStates.set(532);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_532(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='a') {
+                nextStates.set(533);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_533(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='k') {
+                if (validTypes.contains(BREAK)) 
+                type = BREAK;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_534(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='o') {
+                nextStates.set(535);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_535(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='l') {
+                if (validTypes.contains(BOOL)) 
+                type = BOOL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_536(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='s') {
+                nextStates.set(537);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_537(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                if (validTypes.contains(BASE)) 
+                type = BASE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_538(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='s') {
+                nextStates.set(539);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_539(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                nextStates.set(540);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_540(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='r') {
+                nextStates.set(541);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_541(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='a') {
+                nextStates.set(542);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_542(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='c') {
+                nextStates.set(543);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_543(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                if (validTypes.contains(ABSTRACT)) 
+                type = ABSTRACT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_544(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='.') {
+                if (validTypes.contains(VAR_ARGS)) 
+                type = VAR_ARGS;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_545(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='=') {
+                if (validTypes.contains(RIGHT_SHIFT_ASSIGN)) 
+                type = RIGHT_SHIFT_ASSIGN;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_546(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='=') {
+                if (validTypes.contains(LEFT_SHIFT_ASSIGN)) 
+                type = LEFT_SHIFT_ASSIGN;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_547(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='=') {
+                if (validTypes.contains(DOUBLE_HOOK_EQUALS)) 
+                type = DOUBLE_HOOK_EQUALS;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_548(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='l') {
+                nextStates.set(549);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_549(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='l') {
+                if (validTypes.contains(NULL)) 
+                type = NULL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_550(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='u') {
+                nextStates.set(551);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_551(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                if (validTypes.contains(TRUE)) 
+                type = TRUE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_552(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='l') {
+                nextStates.set(553);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_553(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='s') {
+                nextStates.set(554);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_554(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                if (validTypes.contains(FALSE)) 
+                type = FALSE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_555(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>='0'&&ch<='9')||(ch=='_')) {
+                nextStates.set(555);
+            }
+            if (ch>='0'&&ch<='9') {
+                nextStates.set(556);
+                if (validTypes.contains(REAL_LITERAL)) 
+                type = REAL_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_556(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch=='E')||(ch=='e')) {
+                nextStates.set(557);
+            }
+            else if ((ch=='D')||((ch=='F')||((ch=='M')||((ch=='d')||((ch=='f')||(ch=='m')))))) {
+                if (validTypes.contains(REAL_LITERAL)) 
+                type = REAL_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_557(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch=='+')||(ch=='-')) {
+                nextStates.set(558);
+            }
+            else if (ch>='0'&&ch<='9') {
+                nextStates.set(559);
+                if (validTypes.contains(REAL_LITERAL)) 
+                type = REAL_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_558(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch>='0'&&ch<='9') {
+                nextStates.set(559);
+                if (validTypes.contains(REAL_LITERAL)) 
+                type = REAL_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_559(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>='0'&&ch<='9')||(ch=='_')) {
+                nextStates.set(560);
+            }
+            if (ch>='0'&&ch<='9') {
+                nextStates.set(561);
+                if (validTypes.contains(REAL_LITERAL)) 
+                type = REAL_LITERAL;
+            }
+            else if ((ch=='D')||((ch=='F')||((ch=='M')||((ch=='d')||((ch=='f')||(ch=='m')))))) {
+                if (validTypes.contains(REAL_LITERAL)) 
+                type = REAL_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_560(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>='0'&&ch<='9')||(ch=='_')) {
+                nextStates.set(560);
+            }
+            if (ch>='0'&&ch<='9') {
+                nextStates.set(561);
+                if (validTypes.contains(REAL_LITERAL)) 
+                type = REAL_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_561(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch=='D')||((ch=='F')||((ch=='M')||((ch=='d')||((ch=='f')||(ch=='m')))))) {
+                if (validTypes.contains(REAL_LITERAL)) 
+                type = REAL_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_562(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>='0'&&ch<='9')||(ch=='_')) {
+                nextStates.set(562);
+            }
+            if (ch>='0'&&ch<='9') {
+                nextStates.set(563);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_563(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='.') {
+                nextStates.set(9);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_564(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch=='0'||ch=='1')||(ch=='_')) {
+                nextStates.set(565);
+                if (validTypes.contains(INTEGER_LITERAL)) 
+                type = INTEGER_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_565(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='L') {
+                nextStates.set(569);
+                nextStates.set(570);
+            }
+            else if (ch=='U') {
+                nextStates.set(567);
+                nextStates.set(568);
+            }
+            else if (ch=='l') {
+                nextStates.set(569);
+                nextStates.set(570);
+            }
+            else if (ch=='u') {
+                nextStates.set(567);
+                nextStates.set(568);
+            }
+            else if ((ch=='0'||ch=='1')||(ch=='_')) {
+                nextStates.set(565);
+                if (validTypes.contains(INTEGER_LITERAL)) 
+                type = INTEGER_LITERAL;
+            }
+            if (ch=='0'||ch=='1') {
+                nextStates.set(566);
+                if (validTypes.contains(INTEGER_LITERAL)) 
+                type = INTEGER_LITERAL;
+            }
+            else if (ch=='L') {
+                if (validTypes.contains(INTEGER_LITERAL)) 
+                type = INTEGER_LITERAL;
+            }
+            else if (ch=='U') {
+                if (validTypes.contains(INTEGER_LITERAL)) 
+                type = INTEGER_LITERAL;
+            }
+            else if (ch=='l') {
+                if (validTypes.contains(INTEGER_LITERAL)) 
+                type = INTEGER_LITERAL;
+            }
+            else if (ch=='u') {
+                if (validTypes.contains(INTEGER_LITERAL)) 
+                type = INTEGER_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_566(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='L') {
+                nextStates.set(569);
+                nextStates.set(570);
+            }
+            else if (ch=='U') {
+                nextStates.set(567);
+                nextStates.set(568);
+            }
+            else if (ch=='l') {
+                nextStates.set(569);
+                nextStates.set(570);
+            }
+            else if (ch=='u') {
+                nextStates.set(567);
+                nextStates.set(568);
+            }
+            if (ch=='L') {
+                if (validTypes.contains(INTEGER_LITERAL)) 
+                type = INTEGER_LITERAL;
+            }
+            else if (ch=='U') {
+                if (validTypes.contains(INTEGER_LITERAL)) 
+                type = INTEGER_LITERAL;
+            }
+            else if (ch=='l') {
+                if (validTypes.contains(INTEGER_LITERAL)) 
+                type = INTEGER_LITERAL;
+            }
+            else if (ch=='u') {
+                if (validTypes.contains(INTEGER_LITERAL)) 
+                type = INTEGER_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_567(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='L') {
+                if (validTypes.contains(INTEGER_LITERAL)) 
+                type = INTEGER_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_568(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='l') {
+                if (validTypes.contains(INTEGER_LITERAL)) 
+                type = INTEGER_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_569(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='U') {
+                if (validTypes.contains(INTEGER_LITERAL)) 
+                type = INTEGER_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_570(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='u') {
+                if (validTypes.contains(INTEGER_LITERAL)) 
+                type = INTEGER_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_571(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>='0'&&ch<='9')||((ch>='A'&&ch<='F')||((ch=='_')||(ch>='a'&&ch<='f')))) {
+                nextStates.set(571);
+            }
+            if ((ch>='0'&&ch<='9')||((ch>='A'&&ch<='F')||(ch>='a'&&ch<='f'))) {
+                nextStates.set(566);
+                if (validTypes.contains(INTEGER_LITERAL)) 
+                type = INTEGER_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_572(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>='0'&&ch<='9')||(ch=='_')) {
+                nextStates.set(572);
+            }
+            if (ch>='0'&&ch<='9') {
+                nextStates.set(566);
+                if (validTypes.contains(INTEGER_LITERAL)) 
+                type = INTEGER_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_573(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>=0x0&&ch<='\t')||(ch>=0xb)) {
+                nextStates.set(573);
+            }
+            else if (ch=='\n') {
+                if (validTypes.contains(SINGLE_LINE_COMMENT)) 
+                type = SINGLE_LINE_COMMENT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_574(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>=0x0&&ch<=')')||(ch>='+')) {
+                nextStates.set(574);
+            }
+            else if (ch=='*') {
+                nextStates.set(575);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_575(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>=0x0&&ch<=')')||((ch>='+'&&ch<='.')||(ch>='0'))) {
+                nextStates.set(574);
+            }
+            else if (ch=='*') {
+                nextStates.set(575);
+            }
+            else if (ch=='/') {
+                if (validTypes.contains(MULTI_LINE_COMMENT)) 
+                type = MULTI_LINE_COMMENT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_576(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='n') {
+                nextStates.set(577);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_577(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='a') {
+                nextStates.set(578);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_578(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='m') {
+                nextStates.set(579);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_579(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='i') {
+                nextStates.set(580);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_CSHARP_580(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='c') {
+                if (validTypes.contains(DYNAMIC)) 
+                type = DYNAMIC;
+            }
+            return type;
+        }
+
+        static private final int[]NFA_MOVES_CSHARP_7 = NFA_MOVES_CSHARP_7_init();
+
+        static private int[]NFA_MOVES_CSHARP_7_init() {
+            return new int[] {'\t', 0xb, '\r', '\r', ' ', ' ', 0xa0, 0xa0, 0x1680, 0x1680, 0x2000, 0x200a, 0x202f, 0x202f, 0x205f, 0x205f, 0x3000, 0x3000};
+        }
+
+        static private final int[]NFA_MOVES_CSHARP_733 = NFA_MOVES_CSHARP_733_init();
+
+        static private int[]NFA_MOVES_CSHARP_733_init() {
+            return new int[] {'A', 'Z', '_', '_', 'a', 'z', 0xaa, 0xaa, 0xb5, 0xb5, 0xba, 0xba, 0xc0, 0xd6, 0xd8, 0xf6, 0xf8, 0x2c1, 0x2c6, 0x2d1, 0x2e0, 0x2e4, 0x2ec, 0x2ec, 0x2ee, 0x2ee, 0x370, 0x374, 0x376, 0x377, 0x37a, 0x37d, 0x37f, 0x37f, 0x386, 0x386, 0x388, 0x38a, 0x38c, 0x38c, 0x38e, 0x3a1, 0x3a3, 0x3f5, 0x3f7, 0x481, 0x48a, 0x52f, 0x531, 0x556, 0x559, 0x559, 0x560, 0x588, 0x5d0, 0x5ea, 0x5ef, 0x5f2, 0x620, 0x64a, 0x66e, 0x66f, 0x671, 0x6d3, 0x6d5, 0x6d5, 0x6e5, 0x6e6, 0x6ee, 0x6ef, 0x6fa, 0x6fc, 0x6ff, 0x6ff, 0x710, 0x710, 0x712, 0x72f, 0x74d, 0x7a5, 0x7b1, 0x7b1, 0x7ca, 0x7ea, 0x7f4, 0x7f5, 0x7fa, 0x7fa, 0x800, 0x815, 0x81a, 0x81a, 0x824, 0x824, 0x828, 0x828, 0x840, 0x858, 0x860, 0x86a, 0x8a0, 0x8b4, 0x8b6, 0x8c7, 0x904, 0x939, 0x93d, 0x93d, 0x950, 0x950, 0x958, 0x961, 0x971, 0x980, 0x985, 0x98c, 0x98f, 0x990, 0x993, 0x9a8, 0x9aa, 0x9b0, 0x9b2, 0x9b2, 0x9b6, 0x9b9, 0x9bd, 0x9bd, 0x9ce, 0x9ce, 0x9dc, 0x9dd, 0x9df, 0x9e1, 0x9f0, 0x9f1, 0x9fc, 0x9fc, 0xa05, 0xa0a, 0xa0f, 0xa10, 0xa13, 0xa28, 0xa2a, 0xa30, 0xa32, 0xa33, 0xa35, 0xa36, 0xa38, 0xa39, 0xa59, 0xa5c, 0xa5e, 0xa5e, 0xa72, 0xa74, 0xa85, 0xa8d, 0xa8f, 0xa91, 0xa93, 0xaa8, 0xaaa, 0xab0, 0xab2, 0xab3, 0xab5, 0xab9, 0xabd, 0xabd, 0xad0, 0xad0, 0xae0, 0xae1, 0xaf9, 0xaf9, 0xb05, 0xb0c, 0xb0f, 0xb10, 0xb13, 0xb28, 0xb2a, 0xb30, 0xb32, 0xb33, 0xb35, 0xb39, 0xb3d, 0xb3d, 0xb5c, 0xb5d, 0xb5f, 0xb61, 0xb71, 0xb71, 0xb83, 0xb83, 0xb85, 0xb8a, 0xb8e, 0xb90, 0xb92, 0xb95, 0xb99, 0xb9a, 0xb9c, 0xb9c, 0xb9e, 0xb9f, 0xba3, 0xba4, 0xba8, 0xbaa, 0xbae, 0xbb9, 0xbd0, 0xbd0, 0xc05, 0xc0c, 0xc0e, 0xc10, 0xc12, 0xc28, 0xc2a, 0xc39, 0xc3d, 0xc3d, 0xc58, 0xc5a, 0xc60, 0xc61, 0xc80, 0xc80, 0xc85, 0xc8c, 0xc8e, 0xc90, 0xc92, 0xca8, 0xcaa, 0xcb3, 0xcb5, 0xcb9, 0xcbd, 0xcbd, 0xcde, 0xcde, 0xce0, 0xce1, 0xcf1, 0xcf2, 0xd04, 0xd0c, 0xd0e, 0xd10, 0xd12, 0xd3a, 0xd3d, 0xd3d, 0xd4e, 0xd4e, 0xd54, 0xd56, 0xd5f, 0xd61, 0xd7a, 0xd7f, 0xd85, 0xd96, 0xd9a, 0xdb1, 0xdb3, 0xdbb, 0xdbd, 0xdbd, 0xdc0, 0xdc6, 0xe01, 0xe30, 0xe32, 0xe33, 0xe40, 0xe46, 0xe81, 0xe82, 0xe84, 0xe84, 0xe86, 0xe8a, 0xe8c, 0xea3, 0xea5, 0xea5, 0xea7, 0xeb0, 0xeb2, 0xeb3, 0xebd, 0xebd, 0xec0, 0xec4, 0xec6, 0xec6, 0xedc, 0xedf, 0xf00, 0xf00, 0xf40, 0xf47, 0xf49, 0xf6c, 0xf88, 0xf8c, 0x1000, 0x102a, 0x103f, 0x103f, 0x1050, 0x1055, 0x105a, 0x105d, 0x1061, 0x1061, 0x1065, 0x1066, 0x106e, 0x1070, 0x1075, 0x1081, 0x108e, 0x108e, 0x10a0, 0x10c5, 0x10c7, 0x10c7, 0x10cd, 0x10cd, 0x10d0, 0x10fa, 0x10fc, 0x1248, 0x124a, 0x124d, 0x1250, 0x1256, 0x1258, 0x1258, 0x125a, 0x125d, 0x1260, 0x1288, 0x128a, 0x128d, 0x1290, 0x12b0, 0x12b2, 0x12b5, 0x12b8, 0x12be, 0x12c0, 0x12c0, 0x12c2, 0x12c5, 0x12c8, 0x12d6, 0x12d8, 0x1310, 0x1312, 0x1315, 0x1318, 0x135a, 0x1380, 0x138f, 0x13a0, 0x13f5, 0x13f8, 0x13fd, 0x1401, 0x166c, 0x166f, 0x167f, 0x1681, 0x169a, 0x16a0, 0x16ea, 0x16ee, 0x16f8, 0x1700, 0x170c, 0x170e, 0x1711, 0x1720, 0x1731, 0x1740, 0x1751, 0x1760, 0x176c, 0x176e, 0x1770, 0x1780, 0x17b3, 0x17d7, 0x17d7, 0x17dc, 0x17dc, 0x1820, 0x1878, 0x1880, 0x1884, 0x1887, 0x18a8, 0x18aa, 0x18aa, 0x18b0, 0x18f5, 0x1900, 0x191e, 0x1950, 0x196d, 0x1970, 0x1974, 0x1980, 0x19ab, 0x19b0, 0x19c9, 0x1a00, 0x1a16, 0x1a20, 0x1a54, 0x1aa7, 0x1aa7, 0x1b05, 0x1b33, 0x1b45, 0x1b4b, 0x1b83, 0x1ba0, 0x1bae, 0x1baf, 0x1bba, 0x1be5, 0x1c00, 0x1c23, 0x1c4d, 0x1c4f, 0x1c5a, 0x1c7d, 0x1c80, 0x1c88, 0x1c90, 0x1cba, 0x1cbd, 0x1cbf, 0x1ce9, 0x1cec, 0x1cee, 0x1cf3, 0x1cf5, 0x1cf6, 0x1cfa, 0x1cfa, 0x1d00, 0x1dbf, 0x1e00, 0x1f15, 0x1f18, 0x1f1d, 0x1f20, 0x1f45, 0x1f48, 0x1f4d, 0x1f50, 0x1f57, 0x1f59, 0x1f59, 0x1f5b, 0x1f5b, 0x1f5d, 0x1f5d, 0x1f5f, 0x1f7d, 0x1f80, 0x1fb4, 0x1fb6, 0x1fbc, 0x1fbe, 0x1fbe, 0x1fc2, 0x1fc4, 0x1fc6, 0x1fcc, 0x1fd0, 0x1fd3, 0x1fd6, 0x1fdb, 0x1fe0, 0x1fec, 0x1ff2, 0x1ff4, 0x1ff6, 0x1ffc, 0x2071, 0x2071, 0x207f, 0x207f, 0x2090, 0x209c, 0x2102, 0x2102, 0x2107, 0x2107, 0x210a, 0x2113, 0x2115, 0x2115, 0x2119, 0x211d, 0x2124, 0x2124, 0x2126, 0x2126, 0x2128, 0x2128, 0x212a, 0x212d, 0x212f, 0x2139, 0x213c, 0x213f, 0x2145, 0x2149, 0x214e, 0x214e, 0x2160, 0x2188, 0x2c00, 0x2c2e, 0x2c30, 0x2c5e, 0x2c60, 0x2ce4, 0x2ceb, 0x2cee, 0x2cf2, 0x2cf3, 0x2d00, 0x2d25, 0x2d27, 0x2d27, 0x2d2d, 0x2d2d, 0x2d30, 0x2d67, 0x2d6f, 0x2d6f, 0x2d80, 0x2d96, 0x2da0, 0x2da6, 0x2da8, 0x2dae, 0x2db0, 0x2db6, 0x2db8, 0x2dbe, 0x2dc0, 0x2dc6, 0x2dc8, 0x2dce, 0x2dd0, 0x2dd6, 0x2dd8, 0x2dde, 0x2e2f, 0x2e2f, 0x3005, 0x3007, 0x3021, 0x3029, 0x3031, 0x3035, 0x3038, 0x303c, 0x3041, 0x3096, 0x309d, 0x309f, 0x30a1, 0x30fa, 0x30fc, 0x30ff, 0x3105, 0x312f, 0x3131, 0x318e, 0x31a0, 0x31bf, 0x31f0, 0x31ff, 0x3400, 0x4dbf, 0x4e00, 0x9ffc, 0xa000, 0xa48c, 0xa4d0, 0xa4fd, 0xa500, 0xa60c, 0xa610, 0xa61f, 0xa62a, 0xa62b, 0xa640, 0xa66e, 0xa67f, 0xa69d, 0xa6a0, 0xa6ef, 0xa717, 0xa71f, 0xa722, 0xa788, 0xa78b, 0xa7bf, 0xa7c2, 0xa7ca, 0xa7f5, 0xa801, 0xa803, 0xa805, 0xa807, 0xa80a, 0xa80c, 0xa822, 0xa840, 0xa873, 0xa882, 0xa8b3, 0xa8f2, 0xa8f7, 0xa8fb, 0xa8fb, 0xa8fd, 0xa8fe, 0xa90a, 0xa925, 0xa930, 0xa946, 0xa960, 0xa97c, 0xa984, 0xa9b2, 0xa9cf, 0xa9cf, 0xa9e0, 0xa9e4, 0xa9e6, 0xa9ef, 0xa9fa, 0xa9fe, 0xaa00, 0xaa28, 0xaa40, 0xaa42, 0xaa44, 0xaa4b, 0xaa60, 0xaa76, 0xaa7a, 0xaa7a, 0xaa7e, 0xaaaf, 0xaab1, 0xaab1, 0xaab5, 0xaab6, 0xaab9, 0xaabd, 0xaac0, 0xaac0, 0xaac2, 0xaac2, 0xaadb, 0xaadd, 0xaae0, 0xaaea, 0xaaf2, 0xaaf4, 0xab01, 0xab06, 0xab09, 0xab0e, 0xab11, 0xab16, 0xab20, 0xab26, 0xab28, 0xab2e, 0xab30, 0xab5a, 0xab5c, 0xab69, 0xab70, 0xabe2, 0xac00, 0xd7a3, 0xd7b0, 0xd7c6, 0xd7cb, 0xd7fb, 0xf900, 0xfa6d, 0xfa70, 0xfad9, 0xfb00, 0xfb06, 0xfb13, 0xfb17, 0xfb1d, 0xfb1d, 0xfb1f, 0xfb28, 0xfb2a, 0xfb36, 0xfb38, 0xfb3c, 0xfb3e, 0xfb3e, 0xfb40, 0xfb41, 0xfb43, 0xfb44, 0xfb46, 0xfbb1, 0xfbd3, 0xfd3d, 0xfd50, 0xfd8f, 0xfd92, 0xfdc7, 0xfdf0, 0xfdfb, 0xfe70, 0xfe74, 0xfe76, 0xfefc, 0xff21, 0xff3a, 0xff41, 0xff5a, 0xff66, 0xffbe, 0xffc2, 0xffc7, 0xffca, 0xffcf, 0xffd2, 0xffd7, 0xffda, 0xffdc, 0x10000, 0x1000b, 0x1000d, 0x10026, 0x10028, 0x1003a, 0x1003c, 0x1003d, 0x1003f, 0x1004d, 0x10050, 0x1005d, 0x10080, 0x100fa, 0x10140, 0x10174, 0x10280, 0x1029c, 0x102a0, 0x102d0, 0x10300, 0x1031f, 0x1032d, 0x1034a, 0x10350, 0x10375, 0x10380, 0x1039d, 0x103a0, 0x103c3, 0x103c8, 0x103cf, 0x103d1, 0x103d5, 0x10400, 0x1049d, 0x104b0, 0x104d3, 0x104d8, 0x104fb, 0x10500, 0x10527, 0x10530, 0x10563, 0x10600, 0x10736, 0x10740, 0x10755, 0x10760, 0x10767, 0x10800, 0x10805, 0x10808, 0x10808, 0x1080a, 0x10835, 0x10837, 0x10838, 0x1083c, 0x1083c, 0x1083f, 0x10855, 0x10860, 0x10876, 0x10880, 0x1089e, 0x108e0, 0x108f2, 0x108f4, 0x108f5, 0x10900, 0x10915, 0x10920, 0x10939, 0x10980, 0x109b7, 0x109be, 0x109bf, 0x10a00, 0x10a00, 0x10a10, 0x10a13, 0x10a15, 0x10a17, 0x10a19, 0x10a35, 0x10a60, 0x10a7c, 0x10a80, 0x10a9c, 0x10ac0, 0x10ac7, 0x10ac9, 0x10ae4, 0x10b00, 0x10b35, 0x10b40, 0x10b55, 0x10b60, 0x10b72, 0x10b80, 0x10b91, 0x10c00, 0x10c48, 0x10c80, 0x10cb2, 0x10cc0, 0x10cf2, 0x10d00, 0x10d23, 0x10e80, 0x10ea9, 0x10eb0, 0x10eb1, 0x10f00, 0x10f1c, 0x10f27, 0x10f27, 0x10f30, 0x10f45, 0x10fb0, 0x10fc4, 0x10fe0, 0x10ff6, 0x11003, 0x11037, 0x11083, 0x110af, 0x110d0, 0x110e8, 0x11103, 0x11126, 0x11144, 0x11144, 0x11147, 0x11147, 0x11150, 0x11172, 0x11176, 0x11176, 0x11183, 0x111b2, 0x111c1, 0x111c4, 0x111da, 0x111da, 0x111dc, 0x111dc, 0x11200, 0x11211, 0x11213, 0x1122b, 0x11280, 0x11286, 0x11288, 0x11288, 0x1128a, 0x1128d, 0x1128f, 0x1129d, 0x1129f, 0x112a8, 0x112b0, 0x112de, 0x11305, 0x1130c, 0x1130f, 0x11310, 0x11313, 0x11328, 0x1132a, 0x11330, 0x11332, 0x11333, 0x11335, 0x11339, 0x1133d, 0x1133d, 0x11350, 0x11350, 0x1135d, 0x11361, 0x11400, 0x11434, 0x11447, 0x1144a, 0x1145f, 0x11461, 0x11480, 0x114af, 0x114c4, 0x114c5, 0x114c7, 0x114c7, 0x11580, 0x115ae, 0x115d8, 0x115db, 0x11600, 0x1162f, 0x11644, 0x11644, 0x11680, 0x116aa, 0x116b8, 0x116b8, 0x11700, 0x1171a, 0x11800, 0x1182b, 0x118a0, 0x118df, 0x118ff, 0x11906, 0x11909, 0x11909, 0x1190c, 0x11913, 0x11915, 0x11916, 0x11918, 0x1192f, 0x1193f, 0x1193f, 0x11941, 0x11941, 0x119a0, 0x119a7, 0x119aa, 0x119d0, 0x119e1, 0x119e1, 0x119e3, 0x119e3, 0x11a00, 0x11a00, 0x11a0b, 0x11a32, 0x11a3a, 0x11a3a, 0x11a50, 0x11a50, 0x11a5c, 0x11a89, 0x11a9d, 0x11a9d, 0x11ac0, 0x11af8, 0x11c00, 0x11c08, 0x11c0a, 0x11c2e, 0x11c40, 0x11c40, 0x11c72, 0x11c8f, 0x11d00, 0x11d06, 0x11d08, 0x11d09, 0x11d0b, 0x11d30, 0x11d46, 0x11d46, 0x11d60, 0x11d65, 0x11d67, 0x11d68, 0x11d6a, 0x11d89, 0x11d98, 0x11d98, 0x11ee0, 0x11ef2, 0x11fb0, 0x11fb0, 0x12000, 0x12399, 0x12400, 0x1246e, 0x12480, 0x12543, 0x13000, 0x1342e, 0x14400, 0x14646, 0x16800, 0x16a38, 0x16a40, 0x16a5e, 0x16ad0, 0x16aed, 0x16b00, 0x16b2f, 0x16b40, 0x16b43, 0x16b63, 0x16b77, 0x16b7d, 0x16b8f, 0x16e40, 0x16e7f, 0x16f00, 0x16f4a, 0x16f50, 0x16f50, 0x16f93, 0x16f9f, 0x16fe0, 0x16fe1, 0x16fe3, 0x16fe3, 0x17000, 0x187f7, 0x18800, 0x18cd5, 0x18d00, 0x18d08, 0x1b000, 0x1b11e, 0x1b150, 0x1b152, 0x1b164, 0x1b167, 0x1b170, 0x1b2fb, 0x1bc00, 0x1bc6a, 0x1bc70, 0x1bc7c, 0x1bc80, 0x1bc88, 0x1bc90, 0x1bc99, 0x1d400, 0x1d454, 0x1d456, 0x1d49c, 0x1d49e, 0x1d49f, 0x1d4a2, 0x1d4a2, 0x1d4a5, 0x1d4a6, 0x1d4a9, 0x1d4ac, 0x1d4ae, 0x1d4b9, 0x1d4bb, 0x1d4bb, 0x1d4bd, 0x1d4c3, 0x1d4c5, 0x1d505, 0x1d507, 0x1d50a, 0x1d50d, 0x1d514, 0x1d516, 0x1d51c, 0x1d51e, 0x1d539, 0x1d53b, 0x1d53e, 0x1d540, 0x1d544, 0x1d546, 0x1d546, 0x1d54a, 0x1d550, 0x1d552, 0x1d6a5, 0x1d6a8, 0x1d6c0, 0x1d6c2, 0x1d6da, 0x1d6dc, 0x1d6fa, 0x1d6fc, 0x1d714, 0x1d716, 0x1d734, 0x1d736, 0x1d74e, 0x1d750, 0x1d76e, 0x1d770, 0x1d788, 0x1d78a, 0x1d7a8, 0x1d7aa, 0x1d7c2, 0x1d7c4, 0x1d7cb, 0x1e100, 0x1e12c, 0x1e137, 0x1e13d, 0x1e14e, 0x1e14e, 0x1e2c0, 0x1e2eb, 0x1e800, 0x1e8c4, 0x1e900, 0x1e943, 0x1e94b, 0x1e94b, 0x1ee00, 0x1ee03, 0x1ee05, 0x1ee1f, 0x1ee21, 0x1ee22, 0x1ee24, 0x1ee24, 0x1ee27, 0x1ee27, 0x1ee29, 0x1ee32, 0x1ee34, 0x1ee37, 0x1ee39, 0x1ee39, 0x1ee3b, 0x1ee3b, 0x1ee42, 0x1ee42, 0x1ee47, 0x1ee47, 0x1ee49, 0x1ee49, 0x1ee4b, 0x1ee4b, 0x1ee4d, 0x1ee4f, 0x1ee51, 0x1ee52, 0x1ee54, 0x1ee54, 0x1ee57, 0x1ee57, 0x1ee59, 0x1ee59, 0x1ee5b, 0x1ee5b, 0x1ee5d, 0x1ee5d, 0x1ee5f, 0x1ee5f, 0x1ee61, 0x1ee62, 0x1ee64, 0x1ee64, 0x1ee67, 0x1ee6a, 0x1ee6c, 0x1ee72, 0x1ee74, 0x1ee77, 0x1ee79, 0x1ee7c, 0x1ee7e, 0x1ee7e, 0x1ee80, 0x1ee89, 0x1ee8b, 0x1ee9b, 0x1eea1, 0x1eea3, 0x1eea5, 0x1eea9, 0x1eeab, 0x1eebb, 0x20000, 0x2a6dd, 0x2a700, 0x2b734, 0x2b740, 0x2b81d, 0x2b820, 0x2cea1, 0x2ceb0, 0x2ebe0, 0x2f800, 0x2fa1d, 0x30000, 0x3134a};
+        }
+
+        static private final int[]NFA_MOVES_CSHARP_749 = NFA_MOVES_CSHARP_749_init();
+
+        static private int[]NFA_MOVES_CSHARP_749_init() {
+            return new int[] {'0', '9', 'A', 'Z', '_', '_', 'a', 'z', 0xaa, 0xaa, 0xad, 0xad, 0xb5, 0xb5, 0xba, 0xba, 0xc0, 0xd6, 0xd8, 0xf6, 0xf8, 0x2c1, 0x2c6, 0x2d1, 0x2e0, 0x2e4, 0x2ec, 0x2ec, 0x2ee, 0x2ee, 0x300, 0x374, 0x376, 0x377, 0x37a, 0x37d, 0x37f, 0x37f, 0x386, 0x386, 0x388, 0x38a, 0x38c, 0x38c, 0x38e, 0x3a1, 0x3a3, 0x3f5, 0x3f7, 0x481, 0x483, 0x487, 0x48a, 0x52f, 0x531, 0x556, 0x559, 0x559, 0x560, 0x588, 0x591, 0x5bd, 0x5bf, 0x5bf, 0x5c1, 0x5c2, 0x5c4, 0x5c5, 0x5c7, 0x5c7, 0x5d0, 0x5ea, 0x5ef, 0x5f2, 0x600, 0x605, 0x610, 0x61a, 0x61c, 0x61c, 0x620, 0x669, 0x66e, 0x6d3, 0x6d5, 0x6dd, 0x6df, 0x6e8, 0x6ea, 0x6fc, 0x6ff, 0x6ff, 0x70f, 0x74a, 0x74d, 0x7b1, 0x7c0, 0x7f5, 0x7fa, 0x7fa, 0x7fd, 0x7fd, 0x800, 0x82d, 0x840, 0x85b, 0x860, 0x86a, 0x8a0, 0x8b4, 0x8b6, 0x8c7, 0x8d3, 0x963, 0x966, 0x96f, 0x971, 0x983, 0x985, 0x98c, 0x98f, 0x990, 0x993, 0x9a8, 0x9aa, 0x9b0, 0x9b2, 0x9b2, 0x9b6, 0x9b9, 0x9bc, 0x9c4, 0x9c7, 0x9c8, 0x9cb, 0x9ce, 0x9d7, 0x9d7, 0x9dc, 0x9dd, 0x9df, 0x9e3, 0x9e6, 0x9f1, 0x9fc, 0x9fc, 0x9fe, 0x9fe, 0xa01, 0xa03, 0xa05, 0xa0a, 0xa0f, 0xa10, 0xa13, 0xa28, 0xa2a, 0xa30, 0xa32, 0xa33, 0xa35, 0xa36, 0xa38, 0xa39, 0xa3c, 0xa3c, 0xa3e, 0xa42, 0xa47, 0xa48, 0xa4b, 0xa4d, 0xa51, 0xa51, 0xa59, 0xa5c, 0xa5e, 0xa5e, 0xa66, 0xa75, 0xa81, 0xa83, 0xa85, 0xa8d, 0xa8f, 0xa91, 0xa93, 0xaa8, 0xaaa, 0xab0, 0xab2, 0xab3, 0xab5, 0xab9, 0xabc, 0xac5, 0xac7, 0xac9, 0xacb, 0xacd, 0xad0, 0xad0, 0xae0, 0xae3, 0xae6, 0xaef, 0xaf9, 0xaff, 0xb01, 0xb03, 0xb05, 0xb0c, 0xb0f, 0xb10, 0xb13, 0xb28, 0xb2a, 0xb30, 0xb32, 0xb33, 0xb35, 0xb39, 0xb3c, 0xb44, 0xb47, 0xb48, 0xb4b, 0xb4d, 0xb55, 0xb57, 0xb5c, 0xb5d, 0xb5f, 0xb63, 0xb66, 0xb6f, 0xb71, 0xb71, 0xb82, 0xb83, 0xb85, 0xb8a, 0xb8e, 0xb90, 0xb92, 0xb95, 0xb99, 0xb9a, 0xb9c, 0xb9c, 0xb9e, 0xb9f, 0xba3, 0xba4, 0xba8, 0xbaa, 0xbae, 0xbb9, 0xbbe, 0xbc2, 0xbc6, 0xbc8, 0xbca, 0xbcd, 0xbd0, 0xbd0, 0xbd7, 0xbd7, 0xbe6, 0xbef, 0xc00, 0xc0c, 0xc0e, 0xc10, 0xc12, 0xc28, 0xc2a, 0xc39, 0xc3d, 0xc44, 0xc46, 0xc48, 0xc4a, 0xc4d, 0xc55, 0xc56, 0xc58, 0xc5a, 0xc60, 0xc63, 0xc66, 0xc6f, 0xc80, 0xc83, 0xc85, 0xc8c, 0xc8e, 0xc90, 0xc92, 0xca8, 0xcaa, 0xcb3, 0xcb5, 0xcb9, 0xcbc, 0xcc4, 0xcc6, 0xcc8, 0xcca, 0xccd, 0xcd5, 0xcd6, 0xcde, 0xcde, 0xce0, 0xce3, 0xce6, 0xcef, 0xcf1, 0xcf2, 0xd00, 0xd0c, 0xd0e, 0xd10, 0xd12, 0xd44, 0xd46, 0xd48, 0xd4a, 0xd4e, 0xd54, 0xd57, 0xd5f, 0xd63, 0xd66, 0xd6f, 0xd7a, 0xd7f, 0xd81, 0xd83, 0xd85, 0xd96, 0xd9a, 0xdb1, 0xdb3, 0xdbb, 0xdbd, 0xdbd, 0xdc0, 0xdc6, 0xdca, 0xdca, 0xdcf, 0xdd4, 0xdd6, 0xdd6, 0xdd8, 0xddf, 0xde6, 0xdef, 0xdf2, 0xdf3, 0xe01, 0xe3a, 0xe40, 0xe4e, 0xe50, 0xe59, 0xe81, 0xe82, 0xe84, 0xe84, 0xe86, 0xe8a, 0xe8c, 0xea3, 0xea5, 0xea5, 0xea7, 0xebd, 0xec0, 0xec4, 0xec6, 0xec6, 0xec8, 0xecd, 0xed0, 0xed9, 0xedc, 0xedf, 0xf00, 0xf00, 0xf18, 0xf19, 0xf20, 0xf29, 0xf35, 0xf35, 0xf37, 0xf37, 0xf39, 0xf39, 0xf3e, 0xf47, 0xf49, 0xf6c, 0xf71, 0xf84, 0xf86, 0xf97, 0xf99, 0xfbc, 0xfc6, 0xfc6, 0x1000, 0x1049, 0x1050, 0x109d, 0x10a0, 0x10c5, 0x10c7, 0x10c7, 0x10cd, 0x10cd, 0x10d0, 0x10fa, 0x10fc, 0x1248, 0x124a, 0x124d, 0x1250, 0x1256, 0x1258, 0x1258, 0x125a, 0x125d, 0x1260, 0x1288, 0x128a, 0x128d, 0x1290, 0x12b0, 0x12b2, 0x12b5, 0x12b8, 0x12be, 0x12c0, 0x12c0, 0x12c2, 0x12c5, 0x12c8, 0x12d6, 0x12d8, 0x1310, 0x1312, 0x1315, 0x1318, 0x135a, 0x135d, 0x135f, 0x1380, 0x138f, 0x13a0, 0x13f5, 0x13f8, 0x13fd, 0x1401, 0x166c, 0x166f, 0x167f, 0x1681, 0x169a, 0x16a0, 0x16ea, 0x16ee, 0x16f8, 0x1700, 0x170c, 0x170e, 0x1714, 0x1720, 0x1734, 0x1740, 0x1753, 0x1760, 0x176c, 0x176e, 0x1770, 0x1772, 0x1773, 0x1780, 0x17d3, 0x17d7, 0x17d7, 0x17dc, 0x17dd, 0x17e0, 0x17e9, 0x180b, 0x180e, 0x1810, 0x1819, 0x1820, 0x1878, 0x1880, 0x18aa, 0x18b0, 0x18f5, 0x1900, 0x191e, 0x1920, 0x192b, 0x1930, 0x193b, 0x1946, 0x196d, 0x1970, 0x1974, 0x1980, 0x19ab, 0x19b0, 0x19c9, 0x19d0, 0x19d9, 0x1a00, 0x1a1b, 0x1a20, 0x1a5e, 0x1a60, 0x1a7c, 0x1a7f, 0x1a89, 0x1a90, 0x1a99, 0x1aa7, 0x1aa7, 0x1ab0, 0x1abd, 0x1abf, 0x1ac0, 0x1b00, 0x1b4b, 0x1b50, 0x1b59, 0x1b6b, 0x1b73, 0x1b80, 0x1bf3, 0x1c00, 0x1c37, 0x1c40, 0x1c49, 0x1c4d, 0x1c7d, 0x1c80, 0x1c88, 0x1c90, 0x1cba, 0x1cbd, 0x1cbf, 0x1cd0, 0x1cd2, 0x1cd4, 0x1cfa, 0x1d00, 0x1df9, 0x1dfb, 0x1f15, 0x1f18, 0x1f1d, 0x1f20, 0x1f45, 0x1f48, 0x1f4d, 0x1f50, 0x1f57, 0x1f59, 0x1f59, 0x1f5b, 0x1f5b, 0x1f5d, 0x1f5d, 0x1f5f, 0x1f7d, 0x1f80, 0x1fb4, 0x1fb6, 0x1fbc, 0x1fbe, 0x1fbe, 0x1fc2, 0x1fc4, 0x1fc6, 0x1fcc, 0x1fd0, 0x1fd3, 0x1fd6, 0x1fdb, 0x1fe0, 0x1fec, 0x1ff2, 0x1ff4, 0x1ff6, 0x1ffc, 0x200b, 0x200f, 0x202a, 0x202e, 0x203f, 0x2040, 0x2054, 0x2054, 0x2060, 0x2064, 0x2066, 0x206f, 0x2071, 0x2071, 0x207f, 0x207f, 0x2090, 0x209c, 0x20d0, 0x20dc, 0x20e1, 0x20e1, 0x20e5, 0x20f0, 0x2102, 0x2102, 0x2107, 0x2107, 0x210a, 0x2113, 0x2115, 0x2115, 0x2119, 0x211d, 0x2124, 0x2124, 0x2126, 0x2126, 0x2128, 0x2128, 0x212a, 0x212d, 0x212f, 0x2139, 0x213c, 0x213f, 0x2145, 0x2149, 0x214e, 0x214e, 0x2160, 0x2188, 0x2c00, 0x2c2e, 0x2c30, 0x2c5e, 0x2c60, 0x2ce4, 0x2ceb, 0x2cf3, 0x2d00, 0x2d25, 0x2d27, 0x2d27, 0x2d2d, 0x2d2d, 0x2d30, 0x2d67, 0x2d6f, 0x2d6f, 0x2d7f, 0x2d96, 0x2da0, 0x2da6, 0x2da8, 0x2dae, 0x2db0, 0x2db6, 0x2db8, 0x2dbe, 0x2dc0, 0x2dc6, 0x2dc8, 0x2dce, 0x2dd0, 0x2dd6, 0x2dd8, 0x2dde, 0x2de0, 0x2dff, 0x2e2f, 0x2e2f, 0x3005, 0x3007, 0x3021, 0x302f, 0x3031, 0x3035, 0x3038, 0x303c, 0x3041, 0x3096, 0x3099, 0x309a, 0x309d, 0x309f, 0x30a1, 0x30fa, 0x30fc, 0x30ff, 0x3105, 0x312f, 0x3131, 0x318e, 0x31a0, 0x31bf, 0x31f0, 0x31ff, 0x3400, 0x4dbf, 0x4e00, 0x9ffc, 0xa000, 0xa48c, 0xa4d0, 0xa4fd, 0xa500, 0xa60c, 0xa610, 0xa62b, 0xa640, 0xa66f, 0xa674, 0xa67d, 0xa67f, 0xa6f1, 0xa717, 0xa71f, 0xa722, 0xa788, 0xa78b, 0xa7bf, 0xa7c2, 0xa7ca, 0xa7f5, 0xa827, 0xa82c, 0xa82c, 0xa840, 0xa873, 0xa880, 0xa8c5, 0xa8d0, 0xa8d9, 0xa8e0, 0xa8f7, 0xa8fb, 0xa8fb, 0xa8fd, 0xa92d, 0xa930, 0xa953, 0xa960, 0xa97c, 0xa980, 0xa9c0, 0xa9cf, 0xa9d9, 0xa9e0, 0xa9fe, 0xaa00, 0xaa36, 0xaa40, 0xaa4d, 0xaa50, 0xaa59, 0xaa60, 0xaa76, 0xaa7a, 0xaac2, 0xaadb, 0xaadd, 0xaae0, 0xaaef, 0xaaf2, 0xaaf6, 0xab01, 0xab06, 0xab09, 0xab0e, 0xab11, 0xab16, 0xab20, 0xab26, 0xab28, 0xab2e, 0xab30, 0xab5a, 0xab5c, 0xab69, 0xab70, 0xabea, 0xabec, 0xabed, 0xabf0, 0xabf9, 0xac00, 0xd7a3, 0xd7b0, 0xd7c6, 0xd7cb, 0xd7fb, 0xf900, 0xfa6d, 0xfa70, 0xfad9, 0xfb00, 0xfb06, 0xfb13, 0xfb17, 0xfb1d, 0xfb28, 0xfb2a, 0xfb36, 0xfb38, 0xfb3c, 0xfb3e, 0xfb3e, 0xfb40, 0xfb41, 0xfb43, 0xfb44, 0xfb46, 0xfbb1, 0xfbd3, 0xfd3d, 0xfd50, 0xfd8f, 0xfd92, 0xfdc7, 0xfdf0, 0xfdfb, 0xfe00, 0xfe0f, 0xfe20, 0xfe2f, 0xfe33, 0xfe34, 0xfe4d, 0xfe4f, 0xfe70, 0xfe74, 0xfe76, 0xfefc, 0xfeff, 0xfeff, 0xff10, 0xff19, 0xff21, 0xff3a, 0xff3f, 0xff3f, 0xff41, 0xff5a, 0xff66, 0xffbe, 0xffc2, 0xffc7, 0xffca, 0xffcf, 0xffd2, 0xffd7, 0xffda, 0xffdc, 0xfff9, 0xfffb, 0x10000, 0x1000b, 0x1000d, 0x10026, 0x10028, 0x1003a, 0x1003c, 0x1003d, 0x1003f, 0x1004d, 0x10050, 0x1005d, 0x10080, 0x100fa, 0x10140, 0x10174, 0x101fd, 0x101fd, 0x10280, 0x1029c, 0x102a0, 0x102d0, 0x102e0, 0x102e0, 0x10300, 0x1031f, 0x1032d, 0x1034a, 0x10350, 0x1037a, 0x10380, 0x1039d, 0x103a0, 0x103c3, 0x103c8, 0x103cf, 0x103d1, 0x103d5, 0x10400, 0x1049d, 0x104a0, 0x104a9, 0x104b0, 0x104d3, 0x104d8, 0x104fb, 0x10500, 0x10527, 0x10530, 0x10563, 0x10600, 0x10736, 0x10740, 0x10755, 0x10760, 0x10767, 0x10800, 0x10805, 0x10808, 0x10808, 0x1080a, 0x10835, 0x10837, 0x10838, 0x1083c, 0x1083c, 0x1083f, 0x10855, 0x10860, 0x10876, 0x10880, 0x1089e, 0x108e0, 0x108f2, 0x108f4, 0x108f5, 0x10900, 0x10915, 0x10920, 0x10939, 0x10980, 0x109b7, 0x109be, 0x109bf, 0x10a00, 0x10a03, 0x10a05, 0x10a06, 0x10a0c, 0x10a13, 0x10a15, 0x10a17, 0x10a19, 0x10a35, 0x10a38, 0x10a3a, 0x10a3f, 0x10a3f, 0x10a60, 0x10a7c, 0x10a80, 0x10a9c, 0x10ac0, 0x10ac7, 0x10ac9, 0x10ae6, 0x10b00, 0x10b35, 0x10b40, 0x10b55, 0x10b60, 0x10b72, 0x10b80, 0x10b91, 0x10c00, 0x10c48, 0x10c80, 0x10cb2, 0x10cc0, 0x10cf2, 0x10d00, 0x10d27, 0x10d30, 0x10d39, 0x10e80, 0x10ea9, 0x10eab, 0x10eac, 0x10eb0, 0x10eb1, 0x10f00, 0x10f1c, 0x10f27, 0x10f27, 0x10f30, 0x10f50, 0x10fb0, 0x10fc4, 0x10fe0, 0x10ff6, 0x11000, 0x11046, 0x11066, 0x1106f, 0x1107f, 0x110ba, 0x110bd, 0x110bd, 0x110cd, 0x110cd, 0x110d0, 0x110e8, 0x110f0, 0x110f9, 0x11100, 0x11134, 0x11136, 0x1113f, 0x11144, 0x11147, 0x11150, 0x11173, 0x11176, 0x11176, 0x11180, 0x111c4, 0x111c9, 0x111cc, 0x111ce, 0x111da, 0x111dc, 0x111dc, 0x11200, 0x11211, 0x11213, 0x11237, 0x1123e, 0x1123e, 0x11280, 0x11286, 0x11288, 0x11288, 0x1128a, 0x1128d, 0x1128f, 0x1129d, 0x1129f, 0x112a8, 0x112b0, 0x112ea, 0x112f0, 0x112f9, 0x11300, 0x11303, 0x11305, 0x1130c, 0x1130f, 0x11310, 0x11313, 0x11328, 0x1132a, 0x11330, 0x11332, 0x11333, 0x11335, 0x11339, 0x1133b, 0x11344, 0x11347, 0x11348, 0x1134b, 0x1134d, 0x11350, 0x11350, 0x11357, 0x11357, 0x1135d, 0x11363, 0x11366, 0x1136c, 0x11370, 0x11374, 0x11400, 0x1144a, 0x11450, 0x11459, 0x1145e, 0x11461, 0x11480, 0x114c5, 0x114c7, 0x114c7, 0x114d0, 0x114d9, 0x11580, 0x115b5, 0x115b8, 0x115c0, 0x115d8, 0x115dd, 0x11600, 0x11640, 0x11644, 0x11644, 0x11650, 0x11659, 0x11680, 0x116b8, 0x116c0, 0x116c9, 0x11700, 0x1171a, 0x1171d, 0x1172b, 0x11730, 0x11739, 0x11800, 0x1183a, 0x118a0, 0x118e9, 0x118ff, 0x11906, 0x11909, 0x11909, 0x1190c, 0x11913, 0x11915, 0x11916, 0x11918, 0x11935, 0x11937, 0x11938, 0x1193b, 0x11943, 0x11950, 0x11959, 0x119a0, 0x119a7, 0x119aa, 0x119d7, 0x119da, 0x119e1, 0x119e3, 0x119e4, 0x11a00, 0x11a3e, 0x11a47, 0x11a47, 0x11a50, 0x11a99, 0x11a9d, 0x11a9d, 0x11ac0, 0x11af8, 0x11c00, 0x11c08, 0x11c0a, 0x11c36, 0x11c38, 0x11c40, 0x11c50, 0x11c59, 0x11c72, 0x11c8f, 0x11c92, 0x11ca7, 0x11ca9, 0x11cb6, 0x11d00, 0x11d06, 0x11d08, 0x11d09, 0x11d0b, 0x11d36, 0x11d3a, 0x11d3a, 0x11d3c, 0x11d3d, 0x11d3f, 0x11d47, 0x11d50, 0x11d59, 0x11d60, 0x11d65, 0x11d67, 0x11d68, 0x11d6a, 0x11d8e, 0x11d90, 0x11d91, 0x11d93, 0x11d98, 0x11da0, 0x11da9, 0x11ee0, 0x11ef6, 0x11fb0, 0x11fb0, 0x12000, 0x12399, 0x12400, 0x1246e, 0x12480, 0x12543, 0x13000, 0x1342e, 0x13430, 0x13438, 0x14400, 0x14646, 0x16800, 0x16a38, 0x16a40, 0x16a5e, 0x16a60, 0x16a69, 0x16ad0, 0x16aed, 0x16af0, 0x16af4, 0x16b00, 0x16b36, 0x16b40, 0x16b43, 0x16b50, 0x16b59, 0x16b63, 0x16b77, 0x16b7d, 0x16b8f, 0x16e40, 0x16e7f, 0x16f00, 0x16f4a, 0x16f4f, 0x16f87, 0x16f8f, 0x16f9f, 0x16fe0, 0x16fe1, 0x16fe3, 0x16fe4, 0x16ff0, 0x16ff1, 0x17000, 0x187f7, 0x18800, 0x18cd5, 0x18d00, 0x18d08, 0x1b000, 0x1b11e, 0x1b150, 0x1b152, 0x1b164, 0x1b167, 0x1b170, 0x1b2fb, 0x1bc00, 0x1bc6a, 0x1bc70, 0x1bc7c, 0x1bc80, 0x1bc88, 0x1bc90, 0x1bc99, 0x1bc9d, 0x1bc9e, 0x1bca0, 0x1bca3, 0x1d165, 0x1d169, 0x1d16d, 0x1d182, 0x1d185, 0x1d18b, 0x1d1aa, 0x1d1ad, 0x1d242, 0x1d244, 0x1d400, 0x1d454, 0x1d456, 0x1d49c, 0x1d49e, 0x1d49f, 0x1d4a2, 0x1d4a2, 0x1d4a5, 0x1d4a6, 0x1d4a9, 0x1d4ac, 0x1d4ae, 0x1d4b9, 0x1d4bb, 0x1d4bb, 0x1d4bd, 0x1d4c3, 0x1d4c5, 0x1d505, 0x1d507, 0x1d50a, 0x1d50d, 0x1d514, 0x1d516, 0x1d51c, 0x1d51e, 0x1d539, 0x1d53b, 0x1d53e, 0x1d540, 0x1d544, 0x1d546, 0x1d546, 0x1d54a, 0x1d550, 0x1d552, 0x1d6a5, 0x1d6a8, 0x1d6c0, 0x1d6c2, 0x1d6da, 0x1d6dc, 0x1d6fa, 0x1d6fc, 0x1d714, 0x1d716, 0x1d734, 0x1d736, 0x1d74e, 0x1d750, 0x1d76e, 0x1d770, 0x1d788, 0x1d78a, 0x1d7a8, 0x1d7aa, 0x1d7c2, 0x1d7c4, 0x1d7cb, 0x1d7ce, 0x1d7ff, 0x1da00, 0x1da36, 0x1da3b, 0x1da6c, 0x1da75, 0x1da75, 0x1da84, 0x1da84, 0x1da9b, 0x1da9f, 0x1daa1, 0x1daaf, 0x1e000, 0x1e006, 0x1e008, 0x1e018, 0x1e01b, 0x1e021, 0x1e023, 0x1e024, 0x1e026, 0x1e02a, 0x1e100, 0x1e12c, 0x1e130, 0x1e13d, 0x1e140, 0x1e149, 0x1e14e, 0x1e14e, 0x1e2c0, 0x1e2f9, 0x1e800, 0x1e8c4, 0x1e8d0, 0x1e8d6, 0x1e900, 0x1e94b, 0x1e950, 0x1e959, 0x1ee00, 0x1ee03, 0x1ee05, 0x1ee1f, 0x1ee21, 0x1ee22, 0x1ee24, 0x1ee24, 0x1ee27, 0x1ee27, 0x1ee29, 0x1ee32, 0x1ee34, 0x1ee37, 0x1ee39, 0x1ee39, 0x1ee3b, 0x1ee3b, 0x1ee42, 0x1ee42, 0x1ee47, 0x1ee47, 0x1ee49, 0x1ee49, 0x1ee4b, 0x1ee4b, 0x1ee4d, 0x1ee4f, 0x1ee51, 0x1ee52, 0x1ee54, 0x1ee54, 0x1ee57, 0x1ee57, 0x1ee59, 0x1ee59, 0x1ee5b, 0x1ee5b, 0x1ee5d, 0x1ee5d, 0x1ee5f, 0x1ee5f, 0x1ee61, 0x1ee62, 0x1ee64, 0x1ee64, 0x1ee67, 0x1ee6a, 0x1ee6c, 0x1ee72, 0x1ee74, 0x1ee77, 0x1ee79, 0x1ee7c, 0x1ee7e, 0x1ee7e, 0x1ee80, 0x1ee89, 0x1ee8b, 0x1ee9b, 0x1eea1, 0x1eea3, 0x1eea5, 0x1eea9, 0x1eeab, 0x1eebb, 0x1fbf0, 0x1fbf9, 0x20000, 0x2a6dd, 0x2a700, 0x2b734, 0x2b740, 0x2b81d, 0x2b820, 0x2cea1, 0x2ceb0, 0x2ebe0, 0x2f800, 0x2fa1d, 0x30000, 0x3134a, 0xe0001, 0xe0001, 0xe0020, 0xe007f, 0xe0100, 0xe01ef};
+        }
+
+        static private final int[]NFA_MOVES_CSHARP_768 = NFA_MOVES_CSHARP_768_init();
+
+        static private int[]NFA_MOVES_CSHARP_768_init() {
+            return new int[] {'"', '"', '\'', '\'', '0', '0', '\\', '\\', 'a', 'b', 'f', 'f', 'n', 'n', 'r', 'r', 't', 't', 'v', 'v'};
+        }
+
+        static private final int[]NFA_MOVES_CSHARP_783 = NFA_MOVES_CSHARP_783_init();
+
+        static private int[]NFA_MOVES_CSHARP_783_init() {
+            return new int[] {'"', '"', '\'', '\'', '0', '0', '\\', '\\', 'a', 'b', 'f', 'f', 'n', 'n', 'r', 'r', 't', 't', 'v', 'v'};
+        }
+
+        static private void NFA_FUNCTIONS_init() {
+            NfaFunction[]functions = new NfaFunction[] {CSHARP::NFA_CSHARP_0, CSHARP::NFA_CSHARP_1, CSHARP::NFA_CSHARP_2, CSHARP::NFA_CSHARP_3, CSHARP::NFA_CSHARP_4, CSHARP::NFA_CSHARP_5, CSHARP::NFA_CSHARP_6, CSHARP::NFA_CSHARP_7, CSHARP::NFA_CSHARP_8, CSHARP::NFA_CSHARP_9, CSHARP::NFA_CSHARP_10, CSHARP::NFA_CSHARP_11, CSHARP::NFA_CSHARP_12, CSHARP::NFA_CSHARP_13, CSHARP::NFA_CSHARP_14, CSHARP::NFA_CSHARP_15, CSHARP::NFA_CSHARP_16, CSHARP::NFA_CSHARP_17, CSHARP::NFA_CSHARP_18, CSHARP::NFA_CSHARP_19, CSHARP::NFA_CSHARP_20, CSHARP::NFA_CSHARP_21, CSHARP::NFA_CSHARP_22, CSHARP::NFA_CSHARP_23, CSHARP::NFA_CSHARP_24, CSHARP::NFA_CSHARP_25, CSHARP::NFA_CSHARP_26, CSHARP::NFA_CSHARP_27, CSHARP::NFA_CSHARP_28, CSHARP::NFA_CSHARP_29, CSHARP::NFA_CSHARP_30, CSHARP::NFA_CSHARP_31, CSHARP::NFA_CSHARP_32, CSHARP::NFA_CSHARP_33, CSHARP::NFA_CSHARP_34, CSHARP::NFA_CSHARP_35, CSHARP::NFA_CSHARP_36, CSHARP::NFA_CSHARP_37, CSHARP::NFA_CSHARP_38, CSHARP::NFA_CSHARP_39, CSHARP::NFA_CSHARP_40, CSHARP::NFA_CSHARP_41, CSHARP::NFA_CSHARP_42, CSHARP::NFA_CSHARP_43, CSHARP::NFA_CSHARP_44, CSHARP::NFA_CSHARP_45, CSHARP::NFA_CSHARP_46, CSHARP::NFA_CSHARP_47, CSHARP::NFA_CSHARP_48, CSHARP::NFA_CSHARP_49, CSHARP::NFA_CSHARP_50, CSHARP::NFA_CSHARP_51, CSHARP::NFA_CSHARP_52, CSHARP::NFA_CSHARP_53, CSHARP::NFA_CSHARP_54, CSHARP::NFA_CSHARP_55, CSHARP::NFA_CSHARP_56, CSHARP::NFA_CSHARP_57, CSHARP::NFA_CSHARP_58, CSHARP::NFA_CSHARP_59, CSHARP::NFA_CSHARP_60, CSHARP::NFA_CSHARP_61, CSHARP::NFA_CSHARP_62, CSHARP::NFA_CSHARP_63, CSHARP::NFA_CSHARP_64, CSHARP::NFA_CSHARP_65, CSHARP::NFA_CSHARP_66, CSHARP::NFA_CSHARP_67, CSHARP::NFA_CSHARP_68, CSHARP::NFA_CSHARP_69, CSHARP::NFA_CSHARP_70, CSHARP::NFA_CSHARP_71, CSHARP::NFA_CSHARP_72, CSHARP::NFA_CSHARP_73, CSHARP::NFA_CSHARP_74, CSHARP::NFA_CSHARP_75, CSHARP::NFA_CSHARP_76, CSHARP::NFA_CSHARP_77, CSHARP::NFA_CSHARP_78, CSHARP::NFA_CSHARP_79, CSHARP::NFA_CSHARP_80, CSHARP::NFA_CSHARP_81, CSHARP::NFA_CSHARP_82, CSHARP::NFA_CSHARP_83, CSHARP::NFA_CSHARP_84, CSHARP::NFA_CSHARP_85, CSHARP::NFA_CSHARP_86, CSHARP::NFA_CSHARP_87, CSHARP::NFA_CSHARP_88, CSHARP::NFA_CSHARP_89, CSHARP::NFA_CSHARP_90, CSHARP::NFA_CSHARP_91, CSHARP::NFA_CSHARP_92, CSHARP::NFA_CSHARP_93, CSHARP::NFA_CSHARP_94, CSHARP::NFA_CSHARP_95, CSHARP::NFA_CSHARP_96, CSHARP::NFA_CSHARP_97, CSHARP::NFA_CSHARP_98, CSHARP::NFA_CSHARP_99, CSHARP::NFA_CSHARP_100, CSHARP::NFA_CSHARP_101, CSHARP::NFA_CSHARP_102, CSHARP::NFA_CSHARP_103, CSHARP::NFA_CSHARP_104, CSHARP::NFA_CSHARP_105, CSHARP::NFA_CSHARP_106, CSHARP::NFA_CSHARP_107, CSHARP::NFA_CSHARP_108, CSHARP::NFA_CSHARP_109, CSHARP::NFA_CSHARP_110, CSHARP::NFA_CSHARP_111, CSHARP::NFA_CSHARP_112, CSHARP::NFA_CSHARP_113, CSHARP::NFA_CSHARP_114, CSHARP::NFA_CSHARP_115, CSHARP::NFA_CSHARP_116, CSHARP::NFA_CSHARP_117, CSHARP::NFA_CSHARP_118, CSHARP::NFA_CSHARP_119, CSHARP::NFA_CSHARP_120, CSHARP::NFA_CSHARP_121, CSHARP::NFA_CSHARP_122, CSHARP::NFA_CSHARP_123, CSHARP::NFA_CSHARP_124, CSHARP::NFA_CSHARP_125, CSHARP::NFA_CSHARP_126, CSHARP::NFA_CSHARP_127, CSHARP::NFA_CSHARP_128, CSHARP::NFA_CSHARP_129, CSHARP::NFA_CSHARP_130, CSHARP::NFA_CSHARP_131, CSHARP::NFA_CSHARP_132, CSHARP::NFA_CSHARP_133, CSHARP::NFA_CSHARP_134, CSHARP::NFA_CSHARP_135, CSHARP::NFA_CSHARP_136, CSHARP::NFA_CSHARP_137, CSHARP::NFA_CSHARP_138, CSHARP::NFA_CSHARP_139, CSHARP::NFA_CSHARP_140, CSHARP::NFA_CSHARP_141, CSHARP::NFA_CSHARP_142, CSHARP::NFA_CSHARP_143, CSHARP::NFA_CSHARP_144, CSHARP::NFA_CSHARP_145, CSHARP::NFA_CSHARP_146, CSHARP::NFA_CSHARP_147, CSHARP::NFA_CSHARP_148, CSHARP::NFA_CSHARP_149, CSHARP::NFA_CSHARP_150, CSHARP::NFA_CSHARP_151, CSHARP::NFA_CSHARP_152, CSHARP::NFA_CSHARP_153, CSHARP::NFA_CSHARP_154, CSHARP::NFA_CSHARP_155, CSHARP::NFA_CSHARP_156, CSHARP::NFA_CSHARP_157, CSHARP::NFA_CSHARP_158, CSHARP::NFA_CSHARP_159, CSHARP::NFA_CSHARP_160, CSHARP::NFA_CSHARP_161, CSHARP::NFA_CSHARP_162, CSHARP::NFA_CSHARP_163, CSHARP::NFA_CSHARP_164, CSHARP::NFA_CSHARP_165, CSHARP::NFA_CSHARP_166, CSHARP::NFA_CSHARP_167, CSHARP::NFA_CSHARP_168, CSHARP::NFA_CSHARP_169, CSHARP::NFA_CSHARP_170, CSHARP::NFA_CSHARP_171, CSHARP::NFA_CSHARP_172, CSHARP::NFA_CSHARP_173, CSHARP::NFA_CSHARP_174, CSHARP::NFA_CSHARP_175, CSHARP::NFA_CSHARP_176, CSHARP::NFA_CSHARP_177, CSHARP::NFA_CSHARP_178, CSHARP::NFA_CSHARP_179, CSHARP::NFA_CSHARP_180, CSHARP::NFA_CSHARP_181, CSHARP::NFA_CSHARP_182, CSHARP::NFA_CSHARP_183, CSHARP::NFA_CSHARP_184, CSHARP::NFA_CSHARP_185, CSHARP::NFA_CSHARP_186, CSHARP::NFA_CSHARP_187, CSHARP::NFA_CSHARP_188, CSHARP::NFA_CSHARP_189, CSHARP::NFA_CSHARP_190, CSHARP::NFA_CSHARP_191, CSHARP::NFA_CSHARP_192, CSHARP::NFA_CSHARP_193, CSHARP::NFA_CSHARP_194, CSHARP::NFA_CSHARP_195, CSHARP::NFA_CSHARP_196, CSHARP::NFA_CSHARP_197, CSHARP::NFA_CSHARP_198, CSHARP::NFA_CSHARP_199, CSHARP::NFA_CSHARP_200, CSHARP::NFA_CSHARP_201, CSHARP::NFA_CSHARP_202, CSHARP::NFA_CSHARP_203, CSHARP::NFA_CSHARP_204, CSHARP::NFA_CSHARP_205, CSHARP::NFA_CSHARP_206, CSHARP::NFA_CSHARP_207, CSHARP::NFA_CSHARP_208, CSHARP::NFA_CSHARP_209, CSHARP::NFA_CSHARP_210, CSHARP::NFA_CSHARP_211, CSHARP::NFA_CSHARP_212, CSHARP::NFA_CSHARP_213, CSHARP::NFA_CSHARP_214, CSHARP::NFA_CSHARP_215, CSHARP::NFA_CSHARP_216, CSHARP::NFA_CSHARP_217, CSHARP::NFA_CSHARP_218, CSHARP::NFA_CSHARP_219, CSHARP::NFA_CSHARP_220, CSHARP::NFA_CSHARP_221, CSHARP::NFA_CSHARP_222, CSHARP::NFA_CSHARP_223, CSHARP::NFA_CSHARP_224, CSHARP::NFA_CSHARP_225, CSHARP::NFA_CSHARP_226, CSHARP::NFA_CSHARP_227, CSHARP::NFA_CSHARP_228, CSHARP::NFA_CSHARP_229, CSHARP::NFA_CSHARP_230, CSHARP::NFA_CSHARP_231, CSHARP::NFA_CSHARP_232, CSHARP::NFA_CSHARP_233, CSHARP::NFA_CSHARP_234, CSHARP::NFA_CSHARP_235, CSHARP::NFA_CSHARP_236, CSHARP::NFA_CSHARP_237, CSHARP::NFA_CSHARP_238, CSHARP::NFA_CSHARP_239, CSHARP::NFA_CSHARP_240, CSHARP::NFA_CSHARP_241, CSHARP::NFA_CSHARP_242, CSHARP::NFA_CSHARP_243, CSHARP::NFA_CSHARP_244, CSHARP::NFA_CSHARP_245, CSHARP::NFA_CSHARP_246, CSHARP::NFA_CSHARP_247, CSHARP::NFA_CSHARP_248, CSHARP::NFA_CSHARP_249, CSHARP::NFA_CSHARP_250, CSHARP::NFA_CSHARP_251, CSHARP::NFA_CSHARP_252, CSHARP::NFA_CSHARP_253, CSHARP::NFA_CSHARP_254, CSHARP::NFA_CSHARP_255, CSHARP::NFA_CSHARP_256, CSHARP::NFA_CSHARP_257, CSHARP::NFA_CSHARP_258, CSHARP::NFA_CSHARP_259, CSHARP::NFA_CSHARP_260, CSHARP::NFA_CSHARP_261, CSHARP::NFA_CSHARP_262, CSHARP::NFA_CSHARP_263, CSHARP::NFA_CSHARP_264, CSHARP::NFA_CSHARP_265, CSHARP::NFA_CSHARP_266, CSHARP::NFA_CSHARP_267, CSHARP::NFA_CSHARP_268, CSHARP::NFA_CSHARP_269, CSHARP::NFA_CSHARP_270, CSHARP::NFA_CSHARP_271, CSHARP::NFA_CSHARP_272, CSHARP::NFA_CSHARP_273, CSHARP::NFA_CSHARP_274, CSHARP::NFA_CSHARP_275, CSHARP::NFA_CSHARP_276, CSHARP::NFA_CSHARP_277, CSHARP::NFA_CSHARP_278, CSHARP::NFA_CSHARP_279, CSHARP::NFA_CSHARP_280, CSHARP::NFA_CSHARP_281, CSHARP::NFA_CSHARP_282, CSHARP::NFA_CSHARP_283, CSHARP::NFA_CSHARP_284, CSHARP::NFA_CSHARP_285, CSHARP::NFA_CSHARP_286, CSHARP::NFA_CSHARP_287, CSHARP::NFA_CSHARP_288, CSHARP::NFA_CSHARP_289, CSHARP::NFA_CSHARP_290, CSHARP::NFA_CSHARP_291, CSHARP::NFA_CSHARP_292, CSHARP::NFA_CSHARP_293, CSHARP::NFA_CSHARP_294, CSHARP::NFA_CSHARP_295, CSHARP::NFA_CSHARP_296, CSHARP::NFA_CSHARP_297, CSHARP::NFA_CSHARP_298, CSHARP::NFA_CSHARP_299, CSHARP::NFA_CSHARP_300, CSHARP::NFA_CSHARP_301, CSHARP::NFA_CSHARP_302, CSHARP::NFA_CSHARP_303, CSHARP::NFA_CSHARP_304, CSHARP::NFA_CSHARP_305, CSHARP::NFA_CSHARP_306, CSHARP::NFA_CSHARP_307, CSHARP::NFA_CSHARP_308, CSHARP::NFA_CSHARP_309, CSHARP::NFA_CSHARP_310, CSHARP::NFA_CSHARP_311, CSHARP::NFA_CSHARP_312, CSHARP::NFA_CSHARP_313, CSHARP::NFA_CSHARP_314, CSHARP::NFA_CSHARP_315, CSHARP::NFA_CSHARP_316, CSHARP::NFA_CSHARP_317, CSHARP::NFA_CSHARP_318, CSHARP::NFA_CSHARP_319, CSHARP::NFA_CSHARP_320, CSHARP::NFA_CSHARP_321, CSHARP::NFA_CSHARP_322, CSHARP::NFA_CSHARP_323, CSHARP::NFA_CSHARP_324, CSHARP::NFA_CSHARP_325, CSHARP::NFA_CSHARP_326, CSHARP::NFA_CSHARP_327, CSHARP::NFA_CSHARP_328, CSHARP::NFA_CSHARP_329, CSHARP::NFA_CSHARP_330, CSHARP::NFA_CSHARP_331, CSHARP::NFA_CSHARP_332, CSHARP::NFA_CSHARP_333, CSHARP::NFA_CSHARP_334, CSHARP::NFA_CSHARP_335, CSHARP::NFA_CSHARP_336, CSHARP::NFA_CSHARP_337, CSHARP::NFA_CSHARP_338, CSHARP::NFA_CSHARP_339, CSHARP::NFA_CSHARP_340, CSHARP::NFA_CSHARP_341, CSHARP::NFA_CSHARP_342, CSHARP::NFA_CSHARP_343, CSHARP::NFA_CSHARP_344, CSHARP::NFA_CSHARP_345, CSHARP::NFA_CSHARP_346, CSHARP::NFA_CSHARP_347, CSHARP::NFA_CSHARP_348, CSHARP::NFA_CSHARP_349, CSHARP::NFA_CSHARP_350, CSHARP::NFA_CSHARP_351, CSHARP::NFA_CSHARP_352, CSHARP::NFA_CSHARP_353, CSHARP::NFA_CSHARP_354, CSHARP::NFA_CSHARP_355, CSHARP::NFA_CSHARP_356, CSHARP::NFA_CSHARP_357, CSHARP::NFA_CSHARP_358, CSHARP::NFA_CSHARP_359, CSHARP::NFA_CSHARP_360, CSHARP::NFA_CSHARP_361, CSHARP::NFA_CSHARP_362, CSHARP::NFA_CSHARP_363, CSHARP::NFA_CSHARP_364, CSHARP::NFA_CSHARP_365, CSHARP::NFA_CSHARP_366, CSHARP::NFA_CSHARP_367, CSHARP::NFA_CSHARP_368, CSHARP::NFA_CSHARP_369, CSHARP::NFA_CSHARP_370, CSHARP::NFA_CSHARP_371, CSHARP::NFA_CSHARP_372, CSHARP::NFA_CSHARP_373, CSHARP::NFA_CSHARP_374, CSHARP::NFA_CSHARP_375, CSHARP::NFA_CSHARP_376, CSHARP::NFA_CSHARP_377, CSHARP::NFA_CSHARP_378, CSHARP::NFA_CSHARP_379, CSHARP::NFA_CSHARP_380, CSHARP::NFA_CSHARP_381, CSHARP::NFA_CSHARP_382, CSHARP::NFA_CSHARP_383, CSHARP::NFA_CSHARP_384, CSHARP::NFA_CSHARP_385, CSHARP::NFA_CSHARP_386, CSHARP::NFA_CSHARP_387, CSHARP::NFA_CSHARP_388, CSHARP::NFA_CSHARP_389, CSHARP::NFA_CSHARP_390, CSHARP::NFA_CSHARP_391, CSHARP::NFA_CSHARP_392, CSHARP::NFA_CSHARP_393, CSHARP::NFA_CSHARP_394, CSHARP::NFA_CSHARP_395, CSHARP::NFA_CSHARP_396, CSHARP::NFA_CSHARP_397, CSHARP::NFA_CSHARP_398, CSHARP::NFA_CSHARP_399, CSHARP::NFA_CSHARP_400, CSHARP::NFA_CSHARP_401, CSHARP::NFA_CSHARP_402, CSHARP::NFA_CSHARP_403, CSHARP::NFA_CSHARP_404, CSHARP::NFA_CSHARP_405, CSHARP::NFA_CSHARP_406, CSHARP::NFA_CSHARP_407, CSHARP::NFA_CSHARP_408, CSHARP::NFA_CSHARP_409, CSHARP::NFA_CSHARP_410, CSHARP::NFA_CSHARP_411, CSHARP::NFA_CSHARP_412, CSHARP::NFA_CSHARP_413, CSHARP::NFA_CSHARP_414, CSHARP::NFA_CSHARP_415, CSHARP::NFA_CSHARP_416, CSHARP::NFA_CSHARP_417, CSHARP::NFA_CSHARP_418, CSHARP::NFA_CSHARP_419, CSHARP::NFA_CSHARP_420, CSHARP::NFA_CSHARP_421, CSHARP::NFA_CSHARP_422, CSHARP::NFA_CSHARP_423, CSHARP::NFA_CSHARP_424, CSHARP::NFA_CSHARP_425, CSHARP::NFA_CSHARP_426, CSHARP::NFA_CSHARP_427, CSHARP::NFA_CSHARP_428, CSHARP::NFA_CSHARP_429, CSHARP::NFA_CSHARP_430, CSHARP::NFA_CSHARP_431, CSHARP::NFA_CSHARP_432, CSHARP::NFA_CSHARP_433, CSHARP::NFA_CSHARP_434, CSHARP::NFA_CSHARP_435, CSHARP::NFA_CSHARP_436, CSHARP::NFA_CSHARP_437, CSHARP::NFA_CSHARP_438, CSHARP::NFA_CSHARP_439, CSHARP::NFA_CSHARP_440, CSHARP::NFA_CSHARP_441, CSHARP::NFA_CSHARP_442, CSHARP::NFA_CSHARP_443, CSHARP::NFA_CSHARP_444, CSHARP::NFA_CSHARP_445, CSHARP::NFA_CSHARP_446, CSHARP::NFA_CSHARP_447, CSHARP::NFA_CSHARP_448, CSHARP::NFA_CSHARP_449, CSHARP::NFA_CSHARP_450, CSHARP::NFA_CSHARP_451, CSHARP::NFA_CSHARP_452, CSHARP::NFA_CSHARP_453, CSHARP::NFA_CSHARP_454, CSHARP::NFA_CSHARP_455, CSHARP::NFA_CSHARP_456, CSHARP::NFA_CSHARP_457, CSHARP::NFA_CSHARP_458, CSHARP::NFA_CSHARP_459, CSHARP::NFA_CSHARP_460, CSHARP::NFA_CSHARP_461, CSHARP::NFA_CSHARP_462, CSHARP::NFA_CSHARP_463, CSHARP::NFA_CSHARP_464, CSHARP::NFA_CSHARP_465, CSHARP::NFA_CSHARP_466, CSHARP::NFA_CSHARP_467, CSHARP::NFA_CSHARP_468, CSHARP::NFA_CSHARP_469, CSHARP::NFA_CSHARP_470, CSHARP::NFA_CSHARP_471, CSHARP::NFA_CSHARP_472, CSHARP::NFA_CSHARP_473, CSHARP::NFA_CSHARP_474, CSHARP::NFA_CSHARP_475, CSHARP::NFA_CSHARP_476, CSHARP::NFA_CSHARP_477, CSHARP::NFA_CSHARP_478, CSHARP::NFA_CSHARP_479, CSHARP::NFA_CSHARP_480, CSHARP::NFA_CSHARP_481, CSHARP::NFA_CSHARP_482, CSHARP::NFA_CSHARP_483, CSHARP::NFA_CSHARP_484, CSHARP::NFA_CSHARP_485, CSHARP::NFA_CSHARP_486, CSHARP::NFA_CSHARP_487, CSHARP::NFA_CSHARP_488, CSHARP::NFA_CSHARP_489, CSHARP::NFA_CSHARP_490, CSHARP::NFA_CSHARP_491, CSHARP::NFA_CSHARP_492, CSHARP::NFA_CSHARP_493, CSHARP::NFA_CSHARP_494, CSHARP::NFA_CSHARP_495, CSHARP::NFA_CSHARP_496, CSHARP::NFA_CSHARP_497, CSHARP::NFA_CSHARP_498, CSHARP::NFA_CSHARP_499, CSHARP::NFA_CSHARP_500, CSHARP::NFA_CSHARP_501, CSHARP::NFA_CSHARP_502, CSHARP::NFA_CSHARP_503, CSHARP::NFA_CSHARP_504, CSHARP::NFA_CSHARP_505, CSHARP::NFA_CSHARP_506, CSHARP::NFA_CSHARP_507, CSHARP::NFA_CSHARP_508, CSHARP::NFA_CSHARP_509, CSHARP::NFA_CSHARP_510, CSHARP::NFA_CSHARP_511, CSHARP::NFA_CSHARP_512, CSHARP::NFA_CSHARP_513, CSHARP::NFA_CSHARP_514, CSHARP::NFA_CSHARP_515, CSHARP::NFA_CSHARP_516, CSHARP::NFA_CSHARP_517, CSHARP::NFA_CSHARP_518, CSHARP::NFA_CSHARP_519, CSHARP::NFA_CSHARP_520, CSHARP::NFA_CSHARP_521, CSHARP::NFA_CSHARP_522, CSHARP::NFA_CSHARP_523, CSHARP::NFA_CSHARP_524, CSHARP::NFA_CSHARP_525, CSHARP::NFA_CSHARP_526, CSHARP::NFA_CSHARP_527, CSHARP::NFA_CSHARP_528, CSHARP::NFA_CSHARP_529, CSHARP::NFA_CSHARP_530, CSHARP::NFA_CSHARP_531, CSHARP::NFA_CSHARP_532, CSHARP::NFA_CSHARP_533, CSHARP::NFA_CSHARP_534, CSHARP::NFA_CSHARP_535, CSHARP::NFA_CSHARP_536, CSHARP::NFA_CSHARP_537, CSHARP::NFA_CSHARP_538, CSHARP::NFA_CSHARP_539, CSHARP::NFA_CSHARP_540, CSHARP::NFA_CSHARP_541, CSHARP::NFA_CSHARP_542, CSHARP::NFA_CSHARP_543, CSHARP::NFA_CSHARP_544, CSHARP::NFA_CSHARP_545, CSHARP::NFA_CSHARP_546, CSHARP::NFA_CSHARP_547, CSHARP::NFA_CSHARP_548, CSHARP::NFA_CSHARP_549, CSHARP::NFA_CSHARP_550, CSHARP::NFA_CSHARP_551, CSHARP::NFA_CSHARP_552, CSHARP::NFA_CSHARP_553, CSHARP::NFA_CSHARP_554, CSHARP::NFA_CSHARP_555, CSHARP::NFA_CSHARP_556, CSHARP::NFA_CSHARP_557, CSHARP::NFA_CSHARP_558, CSHARP::NFA_CSHARP_559, CSHARP::NFA_CSHARP_560, CSHARP::NFA_CSHARP_561, CSHARP::NFA_CSHARP_562, CSHARP::NFA_CSHARP_563, CSHARP::NFA_CSHARP_564, CSHARP::NFA_CSHARP_565, CSHARP::NFA_CSHARP_566, CSHARP::NFA_CSHARP_567, CSHARP::NFA_CSHARP_568, CSHARP::NFA_CSHARP_569, CSHARP::NFA_CSHARP_570, CSHARP::NFA_CSHARP_571, CSHARP::NFA_CSHARP_572, CSHARP::NFA_CSHARP_573, CSHARP::NFA_CSHARP_574, CSHARP::NFA_CSHARP_575, CSHARP::NFA_CSHARP_576, CSHARP::NFA_CSHARP_577, CSHARP::NFA_CSHARP_578, CSHARP::NFA_CSHARP_579, CSHARP::NFA_CSHARP_580};
+            functionTableMap.put(LexicalState.CSHARP, functions);
+        }
+
+    }
+
+
+    /**
+    * Holder class for NFA code related to IN_REGULAR_INTERPOLATION lexical state
+    */
+    private static class IN_REGULAR_INTERPOLATION {
+
+        static private TokenType NFA_IN_REGULAR_INTERPOLATION_0(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='\\') {
+                nextStates.set(4);
+            }
+            else if (ch=='{') {
+                nextStates.set(2);
+            }
+            else if (ch=='}') {
+                nextStates.set(3);
+            }
+            else if (ch=='"') {
+                if (validTypes.contains(ENDING_QUOTE)) 
+                type = ENDING_QUOTE;
+            }
+            if (ch=='{') {
+                if (validTypes.contains(LBRACE)) 
+                type = LBRACE;
+            }
+            else if ((ch>=0x0&&ch<='\t')||((ch==0xb||ch=='\f')||((ch>=0xe&&ch<='!')||((ch>='#'&&ch<='[')||((ch>=']'&&ch<='z')||((ch=='|')||(ch>='~'))))))) {
+                nextStates.set(1);
+                if (validTypes.contains(NON_INTERPOLATED_TEXT)) 
+                type = NON_INTERPOLATED_TEXT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_IN_REGULAR_INTERPOLATION_1(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='\\') {
+                nextStates.set(4);
+            }
+            else if (ch=='{') {
+                nextStates.set(2);
+            }
+            else if (ch=='}') {
+                nextStates.set(3);
+            }
+            else if ((ch>=0x0&&ch<='\t')||((ch==0xb||ch=='\f')||((ch>=0xe&&ch<='!')||((ch>='#'&&ch<='[')||((ch>=']'&&ch<='z')||((ch=='|')||(ch>='~'))))))) {
+                nextStates.set(1);
+                if (validTypes.contains(NON_INTERPOLATED_TEXT)) 
+                type = NON_INTERPOLATED_TEXT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_IN_REGULAR_INTERPOLATION_2(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='{') {
+                nextStates.set(1);
+                if (validTypes.contains(NON_INTERPOLATED_TEXT)) 
+                type = NON_INTERPOLATED_TEXT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_IN_REGULAR_INTERPOLATION_3(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='}') {
+                nextStates.set(1);
+                if (validTypes.contains(NON_INTERPOLATED_TEXT)) 
+                type = NON_INTERPOLATED_TEXT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_IN_REGULAR_INTERPOLATION_4(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='U') {
+                nextStates.set(7);
+            }
+            else if (ch=='u') {
+                nextStates.set(6);
+            }
+            else if (ch=='x') {
+                nextStates.set(5);
+            }
+            else if (checkIntervals(NFA_MOVES_IN_REGULAR_INTERPOLATION_6, ch)) {
+                nextStates.set(1);
+                if (validTypes.contains(NON_INTERPOLATED_TEXT)) 
+                type = NON_INTERPOLATED_TEXT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_IN_REGULAR_INTERPOLATION_5(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>='0'&&ch<='9')||((ch>='A'&&ch<='F')||(ch>='a'&&ch<='f'))) {
+                nextStates.set(1);
+                if (validTypes.contains(NON_INTERPOLATED_TEXT)) 
+                type = NON_INTERPOLATED_TEXT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_IN_REGULAR_INTERPOLATION_6(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>='0'&&ch<='9')||((ch>='A'&&ch<='F')||(ch>='a'&&ch<='f'))) {
+                nextStates.set(11);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_IN_REGULAR_INTERPOLATION_7(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>='0'&&ch<='9')||((ch>='A'&&ch<='F')||(ch>='a'&&ch<='f'))) {
+                nextStates.set(8);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_IN_REGULAR_INTERPOLATION_8(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>='0'&&ch<='9')||((ch>='A'&&ch<='F')||(ch>='a'&&ch<='f'))) {
+                nextStates.set(9);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_IN_REGULAR_INTERPOLATION_9(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>='0'&&ch<='9')||((ch>='A'&&ch<='F')||(ch>='a'&&ch<='f'))) {
+                nextStates.set(10);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_IN_REGULAR_INTERPOLATION_10(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>='0'&&ch<='9')||((ch>='A'&&ch<='F')||(ch>='a'&&ch<='f'))) {
+                nextStates.set(6);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_IN_REGULAR_INTERPOLATION_11(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>='0'&&ch<='9')||((ch>='A'&&ch<='F')||(ch>='a'&&ch<='f'))) {
+                nextStates.set(12);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_IN_REGULAR_INTERPOLATION_12(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>='0'&&ch<='9')||((ch>='A'&&ch<='F')||(ch>='a'&&ch<='f'))) {
+                nextStates.set(5);
+            }
+            return type;
+        }
+
+        static private final int[]NFA_MOVES_IN_REGULAR_INTERPOLATION_6 = NFA_MOVES_IN_REGULAR_INTERPOLATION_6_init();
+
+        static private int[]NFA_MOVES_IN_REGULAR_INTERPOLATION_6_init() {
+            return new int[] {'"', '"', '\'', '\'', '0', '0', '\\', '\\', 'a', 'b', 'f', 'f', 'n', 'n', 'r', 'r', 't', 't', 'v', 'v'};
+        }
+
+        static private void NFA_FUNCTIONS_init() {
+            NfaFunction[]functions = new NfaFunction[] {IN_REGULAR_INTERPOLATION::NFA_IN_REGULAR_INTERPOLATION_0, IN_REGULAR_INTERPOLATION::NFA_IN_REGULAR_INTERPOLATION_1, IN_REGULAR_INTERPOLATION::NFA_IN_REGULAR_INTERPOLATION_2, IN_REGULAR_INTERPOLATION::NFA_IN_REGULAR_INTERPOLATION_3, IN_REGULAR_INTERPOLATION::NFA_IN_REGULAR_INTERPOLATION_4, IN_REGULAR_INTERPOLATION::NFA_IN_REGULAR_INTERPOLATION_5, IN_REGULAR_INTERPOLATION::NFA_IN_REGULAR_INTERPOLATION_6, IN_REGULAR_INTERPOLATION::NFA_IN_REGULAR_INTERPOLATION_7, IN_REGULAR_INTERPOLATION::NFA_IN_REGULAR_INTERPOLATION_8, IN_REGULAR_INTERPOLATION::NFA_IN_REGULAR_INTERPOLATION_9, IN_REGULAR_INTERPOLATION::NFA_IN_REGULAR_INTERPOLATION_10, IN_REGULAR_INTERPOLATION::NFA_IN_REGULAR_INTERPOLATION_11, IN_REGULAR_INTERPOLATION::NFA_IN_REGULAR_INTERPOLATION_12};
+            functionTableMap.put(LexicalState.IN_REGULAR_INTERPOLATION, functions);
+        }
+
+    }
+
+
+    /**
+    * Holder class for NFA code related to IN_MULTI_INTERPOLATION lexical state
+    */
+    private static class IN_MULTI_INTERPOLATION {
+
+        static private TokenType NFA_IN_MULTI_INTERPOLATION_0(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='"') {
+                nextStates.set(2);
+            }
+            else if (ch=='{') {
+                nextStates.set(3);
+            }
+            else if (ch=='}') {
+                nextStates.set(4);
+            }
+            if (ch=='"') {
+                if (validTypes.contains(ENDING_QUOTE)) 
+                type = ENDING_QUOTE;
+            }
+            else if (ch=='{') {
+                if (validTypes.contains(LBRACE)) 
+                type = LBRACE;
+            }
+            else if ((ch>=0x0&&ch<='!')||((ch>='#'&&ch<='z')||((ch=='|')||(ch>='~')))) {
+                nextStates.set(1);
+                if (validTypes.contains(NON_INTERPOLATED_TEXT2)) 
+                type = NON_INTERPOLATED_TEXT2;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_IN_MULTI_INTERPOLATION_1(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='"') {
+                nextStates.set(2);
+            }
+            else if (ch=='{') {
+                nextStates.set(3);
+            }
+            else if (ch=='}') {
+                nextStates.set(4);
+            }
+            else if ((ch>=0x0&&ch<='!')||((ch>='#'&&ch<='z')||((ch=='|')||(ch>='~')))) {
+                nextStates.set(1);
+                if (validTypes.contains(NON_INTERPOLATED_TEXT2)) 
+                type = NON_INTERPOLATED_TEXT2;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_IN_MULTI_INTERPOLATION_2(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='"') {
+                nextStates.set(1);
+                if (validTypes.contains(NON_INTERPOLATED_TEXT2)) 
+                type = NON_INTERPOLATED_TEXT2;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_IN_MULTI_INTERPOLATION_3(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='{') {
+                nextStates.set(1);
+                if (validTypes.contains(NON_INTERPOLATED_TEXT2)) 
+                type = NON_INTERPOLATED_TEXT2;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_IN_MULTI_INTERPOLATION_4(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='}') {
+                nextStates.set(1);
+                if (validTypes.contains(NON_INTERPOLATED_TEXT2)) 
+                type = NON_INTERPOLATED_TEXT2;
+            }
+            return type;
+        }
+
+        static private void NFA_FUNCTIONS_init() {
+            NfaFunction[]functions = new NfaFunction[] {IN_MULTI_INTERPOLATION::NFA_IN_MULTI_INTERPOLATION_0, IN_MULTI_INTERPOLATION::NFA_IN_MULTI_INTERPOLATION_1, IN_MULTI_INTERPOLATION::NFA_IN_MULTI_INTERPOLATION_2, IN_MULTI_INTERPOLATION::NFA_IN_MULTI_INTERPOLATION_3, IN_MULTI_INTERPOLATION::NFA_IN_MULTI_INTERPOLATION_4};
+            functionTableMap.put(LexicalState.IN_MULTI_INTERPOLATION, functions);
+        }
+
+    }
+
+
+    /**
+    * Holder class for NFA code related to IN_IGNORED_SECTION lexical state
+    */
+    private static class IN_IGNORED_SECTION {
+
+        static private TokenType NFA_IN_IGNORED_SECTION_0(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='#') {
+                nextStates.set(1);
+                nextStates.set(2);
+                nextStates.set(3);
+                nextStates.set(4);
+            }
+            if (ch>=0x0) {
+                if (validTypes.contains(_TOKEN_181)) 
+                type = _TOKEN_181;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_IN_IGNORED_SECTION_1(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (((ch=='\t')||((ch==0xb)||(ch==' ')))||(ch>=128&&checkIntervals(NFA_MOVES_IN_IGNORED_SECTION_1, ch))) {
+                nextStates.set(1);
+            }
+            else if (ch=='i') {
+                nextStates.set(20);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_IN_IGNORED_SECTION_2(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (((ch=='\t')||((ch==0xb)||(ch==' ')))||(ch>=128&&checkIntervals(NFA_MOVES_IN_IGNORED_SECTION_6, ch))) {
+                nextStates.set(2);
+            }
+            else if (ch=='e') {
+                nextStates.set(16);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_IN_IGNORED_SECTION_3(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (((ch=='\t')||((ch==0xb)||(ch==' ')))||(ch>=128&&checkIntervals(NFA_MOVES_IN_IGNORED_SECTION_13, ch))) {
+                nextStates.set(3);
+            }
+            else if (ch=='e') {
+                nextStates.set(11);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_IN_IGNORED_SECTION_4(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (((ch=='\t')||((ch==0xb)||(ch==' ')))||(ch>=128&&checkIntervals(NFA_MOVES_IN_IGNORED_SECTION_23, ch))) {
+                nextStates.set(4);
+            }
+            else if (ch=='e') {
+                nextStates.set(5);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_IN_IGNORED_SECTION_5(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='n') {
+                nextStates.set(6);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_IN_IGNORED_SECTION_6(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='d') {
+                nextStates.set(7);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_IN_IGNORED_SECTION_7(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='i') {
+                nextStates.set(8);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_IN_IGNORED_SECTION_8(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='f') {
+                nextStates.set(9);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_IN_IGNORED_SECTION_9(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='/') {
+                nextStates.set(10);
+            }
+            else if (((ch=='\t')||((ch==0xb)||(ch==' ')))||(ch>=128&&checkIntervals(NFA_MOVES_IN_IGNORED_SECTION_29, ch))) {
+                if (validTypes.contains(HASH_ENDIF)) 
+                type = HASH_ENDIF;
+            }
+            else if (ch=='\n') {
+                if (validTypes.contains(HASH_ENDIF)) 
+                type = HASH_ENDIF;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_IN_IGNORED_SECTION_10(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='/') {
+                if (validTypes.contains(HASH_ENDIF)) 
+                type = HASH_ENDIF;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_IN_IGNORED_SECTION_11(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='l') {
+                nextStates.set(12);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_IN_IGNORED_SECTION_12(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='s') {
+                nextStates.set(13);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_IN_IGNORED_SECTION_13(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                nextStates.set(14);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_IN_IGNORED_SECTION_14(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='/') {
+                nextStates.set(15);
+            }
+            else if (((ch=='\t')||((ch==0xb)||(ch==' ')))||(ch>=128&&checkIntervals(NFA_MOVES_IN_IGNORED_SECTION_18, ch))) {
+                if (validTypes.contains(HASH_ELSE)) 
+                type = HASH_ELSE;
+            }
+            else if (ch=='\n') {
+                if (validTypes.contains(HASH_ELSE)) 
+                type = HASH_ELSE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_IN_IGNORED_SECTION_15(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='/') {
+                if (validTypes.contains(HASH_ELSE)) 
+                type = HASH_ELSE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_IN_IGNORED_SECTION_16(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='l') {
+                nextStates.set(17);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_IN_IGNORED_SECTION_17(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='i') {
+                nextStates.set(18);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_IN_IGNORED_SECTION_18(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='f') {
+                nextStates.set(19);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_IN_IGNORED_SECTION_19(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (((ch=='\t')||((ch==0xb)||(ch==' ')))||(ch>=128&&checkIntervals(NFA_MOVES_IN_IGNORED_SECTION_11, ch))) {
+                if (validTypes.contains(HASH_ELIF)) 
+                type = HASH_ELIF;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_IN_IGNORED_SECTION_20(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='f') {
+                nextStates.set(21);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_IN_IGNORED_SECTION_21(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (((ch=='\t')||((ch==0xb)||(ch==' ')))||(ch>=128&&checkIntervals(NFA_MOVES_IN_IGNORED_SECTION_4, ch))) {
+                if (validTypes.contains(HASH_IF)) 
+                type = HASH_IF;
+            }
+            return type;
+        }
+
+        static private final int[]NFA_MOVES_IN_IGNORED_SECTION_1 = NFA_MOVES_IN_IGNORED_SECTION_1_init();
+
+        static private int[]NFA_MOVES_IN_IGNORED_SECTION_1_init() {
+            return new int[] {'\t', '\t', 0xb, 0xb, ' ', ' ', 0xa0, 0xa0, 0x1680, 0x1680, 0x2000, 0x200a, 0x202f, 0x202f, 0x205f, 0x205f, 0x3000, 0x3000};
+        }
+
+        static private final int[]NFA_MOVES_IN_IGNORED_SECTION_4 = NFA_MOVES_IN_IGNORED_SECTION_4_init();
+
+        static private int[]NFA_MOVES_IN_IGNORED_SECTION_4_init() {
+            return new int[] {'\t', '\t', 0xb, 0xb, ' ', ' ', 0xa0, 0xa0, 0x1680, 0x1680, 0x2000, 0x200a, 0x202f, 0x202f, 0x205f, 0x205f, 0x3000, 0x3000};
+        }
+
+        static private final int[]NFA_MOVES_IN_IGNORED_SECTION_6 = NFA_MOVES_IN_IGNORED_SECTION_6_init();
+
+        static private int[]NFA_MOVES_IN_IGNORED_SECTION_6_init() {
+            return new int[] {'\t', '\t', 0xb, 0xb, ' ', ' ', 0xa0, 0xa0, 0x1680, 0x1680, 0x2000, 0x200a, 0x202f, 0x202f, 0x205f, 0x205f, 0x3000, 0x3000};
+        }
+
+        static private final int[]NFA_MOVES_IN_IGNORED_SECTION_11 = NFA_MOVES_IN_IGNORED_SECTION_11_init();
+
+        static private int[]NFA_MOVES_IN_IGNORED_SECTION_11_init() {
+            return new int[] {'\t', '\t', 0xb, 0xb, ' ', ' ', 0xa0, 0xa0, 0x1680, 0x1680, 0x2000, 0x200a, 0x202f, 0x202f, 0x205f, 0x205f, 0x3000, 0x3000};
+        }
+
+        static private final int[]NFA_MOVES_IN_IGNORED_SECTION_13 = NFA_MOVES_IN_IGNORED_SECTION_13_init();
+
+        static private int[]NFA_MOVES_IN_IGNORED_SECTION_13_init() {
+            return new int[] {'\t', '\t', 0xb, 0xb, ' ', ' ', 0xa0, 0xa0, 0x1680, 0x1680, 0x2000, 0x200a, 0x202f, 0x202f, 0x205f, 0x205f, 0x3000, 0x3000};
+        }
+
+        static private final int[]NFA_MOVES_IN_IGNORED_SECTION_18 = NFA_MOVES_IN_IGNORED_SECTION_18_init();
+
+        static private int[]NFA_MOVES_IN_IGNORED_SECTION_18_init() {
+            return new int[] {'\t', '\t', 0xb, 0xb, ' ', ' ', 0xa0, 0xa0, 0x1680, 0x1680, 0x2000, 0x200a, 0x202f, 0x202f, 0x205f, 0x205f, 0x3000, 0x3000};
+        }
+
+        static private final int[]NFA_MOVES_IN_IGNORED_SECTION_23 = NFA_MOVES_IN_IGNORED_SECTION_23_init();
+
+        static private int[]NFA_MOVES_IN_IGNORED_SECTION_23_init() {
+            return new int[] {'\t', '\t', 0xb, 0xb, ' ', ' ', 0xa0, 0xa0, 0x1680, 0x1680, 0x2000, 0x200a, 0x202f, 0x202f, 0x205f, 0x205f, 0x3000, 0x3000};
+        }
+
+        static private final int[]NFA_MOVES_IN_IGNORED_SECTION_29 = NFA_MOVES_IN_IGNORED_SECTION_29_init();
+
+        static private int[]NFA_MOVES_IN_IGNORED_SECTION_29_init() {
+            return new int[] {'\t', '\t', 0xb, 0xb, ' ', ' ', 0xa0, 0xa0, 0x1680, 0x1680, 0x2000, 0x200a, 0x202f, 0x202f, 0x205f, 0x205f, 0x3000, 0x3000};
+        }
+
+        static private void NFA_FUNCTIONS_init() {
+            NfaFunction[]functions = new NfaFunction[] {IN_IGNORED_SECTION::NFA_IN_IGNORED_SECTION_0, IN_IGNORED_SECTION::NFA_IN_IGNORED_SECTION_1, IN_IGNORED_SECTION::NFA_IN_IGNORED_SECTION_2, IN_IGNORED_SECTION::NFA_IN_IGNORED_SECTION_3, IN_IGNORED_SECTION::NFA_IN_IGNORED_SECTION_4, IN_IGNORED_SECTION::NFA_IN_IGNORED_SECTION_5, IN_IGNORED_SECTION::NFA_IN_IGNORED_SECTION_6, IN_IGNORED_SECTION::NFA_IN_IGNORED_SECTION_7, IN_IGNORED_SECTION::NFA_IN_IGNORED_SECTION_8, IN_IGNORED_SECTION::NFA_IN_IGNORED_SECTION_9, IN_IGNORED_SECTION::NFA_IN_IGNORED_SECTION_10, IN_IGNORED_SECTION::NFA_IN_IGNORED_SECTION_11, IN_IGNORED_SECTION::NFA_IN_IGNORED_SECTION_12, IN_IGNORED_SECTION::NFA_IN_IGNORED_SECTION_13, IN_IGNORED_SECTION::NFA_IN_IGNORED_SECTION_14, IN_IGNORED_SECTION::NFA_IN_IGNORED_SECTION_15, IN_IGNORED_SECTION::NFA_IN_IGNORED_SECTION_16, IN_IGNORED_SECTION::NFA_IN_IGNORED_SECTION_17, IN_IGNORED_SECTION::NFA_IN_IGNORED_SECTION_18, IN_IGNORED_SECTION::NFA_IN_IGNORED_SECTION_19, IN_IGNORED_SECTION::NFA_IN_IGNORED_SECTION_20, IN_IGNORED_SECTION::NFA_IN_IGNORED_SECTION_21};
+            functionTableMap.put(LexicalState.IN_IGNORED_SECTION, functions);
+        }
+
+    }
+
+}
+
+
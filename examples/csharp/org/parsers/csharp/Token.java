@@ -0,0 +1,570 @@
+/* Generated by: JavaCC 21 Parser Generator. Token.java */
+package org.parsers.csharp;
+
+import org.parsers.csharp.tree.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+
+public class Token implements CSharpConstants, Node {
+    private TokenType type;
+    private CSharpLexer tokenSource;
+    private int beginOffset, endOffset;
+    private boolean unparsed;
+    private Node parent;
+    private String image;
+
+    public void setImage(String image) {
+        this.image = image;
+    }
+
+    private Token prependedToken, appendedToken;
+    private boolean inserted;
+
+    public boolean isInserted() {
+        return inserted;
+    }
+
+    public void preInsert(Token prependedToken) {
+        if (prependedToken==this.prependedToken) return;
+        prependedToken.appendedToken = this;
+        Token existingPreviousToken = this.previousCachedToken();
+        if (existingPreviousToken!=null) {
+            existingPreviousToken.appendedToken = prependedToken;
+            prependedToken.prependedToken = existingPreviousToken;
+        }
+        prependedToken.inserted = true;
+        prependedToken.beginOffset = prependedToken.endOffset = this.beginOffset;
+        this.prependedToken = prependedToken;
+    }
+
+    void unsetAppendedToken() {
+        this.appendedToken = null;
+    }
+
+    /**
+    * @param type the #TokenType of the token being constructed
+    * @param image the String content of the token
+    * @param tokenSource the object that vended this token.
+    */
+    public Token(TokenType type, String image, CSharpLexer tokenSource) {
+        this.type = type;
+        this.image = image;
+        this.tokenSource = tokenSource;
+    }
+
+    public static Token newToken(TokenType type, String image, CSharpLexer tokenSource) {
+        Token result = newToken(type, tokenSource, 0, 0);
+        result.setImage(image);
+        return result;
+    }
+
+    /**
+    * It would be extremely rare that an application
+    * programmer would use this method. It needs to
+    * be public because it is part of the org.parsers.csharp.Node interface.
+    */
+    public void setBeginOffset(int beginOffset) {
+        this.beginOffset = beginOffset;
+    }
+
+    /**
+    * It would be extremely rare that an application
+    * programmer would use this method. It needs to
+    * be public because it is part of the org.parsers.csharp.Node interface.
+    */
+    public void setEndOffset(int endOffset) {
+        this.endOffset = endOffset;
+    }
+
+    /**
+    * @return the CSharpLexer object that handles
+    * location info for the tokens.
+    */
+    public CSharpLexer getTokenSource() {
+        CSharpLexer flm = this.tokenSource;
+        // If this is null and we have chained tokens,
+        // we try to get it from there! (Why not?)
+        if (flm==null) {
+            if (prependedToken!=null) {
+                flm = prependedToken.getTokenSource();
+            }
+            if (flm==null&&appendedToken!=null) {
+                flm = appendedToken.getTokenSource();
+            }
+        }
+        return flm;
+    }
+
+    /**
+    * It should be exceedingly rare that an application
+    * programmer needs to use this method.
+    */
+    public void setTokenSource(CSharpLexer tokenSource) {
+        this.tokenSource = tokenSource;
+    }
+
+    /**
+    * Return the TokenType of this Token object
+    */
+    public TokenType getType() {
+        return type;
+    }
+
+    protected void setType(TokenType type) {
+        this.type = type;
+    }
+
+    /**
+    * @return whether this Token represent actual input or was it inserted somehow?
+    */
+    public boolean isVirtual() {
+        return type==TokenType.EOF;
+    }
+
+    /**
+    * @return Did we skip this token in parsing?
+    */
+    public boolean isSkipped() {
+        return false;
+    }
+
+    public int getBeginOffset() {
+        return beginOffset;
+    }
+
+    public int getEndOffset() {
+        return endOffset;
+    }
+
+    /**
+    * @return the string image of the token.
+    */
+    public String getImage() {
+        return image!=null ? image : getSource();
+    }
+
+    /**
+    * @return the next _cached_ regular (i.e. parsed) token
+    * or null
+    */
+    public final Token getNext() {
+        return getNextParsedToken();
+    }
+
+    /**
+    * @return the previous regular (i.e. parsed) token
+    * or null
+    */
+    public final Token getPrevious() {
+        Token result = previousCachedToken();
+        while (result!=null&&result.isUnparsed()) {
+            result = result.previousCachedToken();
+        }
+        return result;
+    }
+
+    /**
+    * @return the next regular (i.e. parsed) token
+    */
+    private Token getNextParsedToken() {
+        Token result = nextCachedToken();
+        while (result!=null&&result.isUnparsed()) {
+            result = result.nextCachedToken();
+        }
+        return result;
+    }
+
+    /**
+    * @return the next token of any sort (parsed or unparsed or invalid)
+    */
+    public Token nextCachedToken() {
+        if (getType()==TokenType.EOF) return null;
+        if (appendedToken!=null) return appendedToken;
+        CSharpLexer tokenSource = getTokenSource();
+        return tokenSource!=null ? tokenSource.nextCachedToken(getEndOffset()) : null;
+    }
+
+    public Token previousCachedToken() {
+        if (prependedToken!=null) return prependedToken;
+        if (getTokenSource()==null) return null;
+        return getTokenSource().previousCachedToken(getBeginOffset());
+    }
+
+    Token getPreviousToken() {
+        return previousCachedToken();
+    }
+
+    public Token replaceType(TokenType type) {
+        Token result = newToken(type, getTokenSource(), getBeginOffset(), getEndOffset());
+        result.prependedToken = this.prependedToken;
+        result.appendedToken = this.appendedToken;
+        result.inserted = this.inserted;
+        if (result.appendedToken!=null) {
+            result.appendedToken.prependedToken = result;
+        }
+        if (result.prependedToken!=null) {
+            result.prependedToken.appendedToken = result;
+        }
+        if (!result.inserted) {
+            getTokenSource().cacheToken(result);
+        }
+        return result;
+    }
+
+    public String getSource() {
+        if (type==TokenType.EOF) return"";
+        CSharpLexer flm = getTokenSource();
+        return flm==null ? null : flm.getText(getBeginOffset(), getEndOffset());
+    }
+
+    protected Token() {
+    }
+
+    public Token(TokenType type, CSharpLexer tokenSource, int beginOffset, int endOffset) {
+        this.type = type;
+        this.tokenSource = tokenSource;
+        this.beginOffset = beginOffset;
+        this.endOffset = endOffset;
+    }
+
+    public boolean isUnparsed() {
+        return unparsed;
+    }
+
+    public void setUnparsed(boolean unparsed) {
+        this.unparsed = unparsed;
+    }
+
+    public void clearChildren() {
+    }
+
+    public String getNormalizedText() {
+        if (getType()==TokenType.EOF) {
+            return"EOF";
+        }
+        return getImage();
+    }
+
+    public String toString() {
+        return getNormalizedText();
+    }
+
+    /**
+    * @return An iterator of the tokens preceding this one.
+    */
+    public Iterator<Token> precedingTokens() {
+        return new Iterator<Token> () {
+            Token currentPoint = Token.this;
+
+            public boolean hasNext() {
+                return currentPoint.previousCachedToken()!=null;
+            }
+
+            public Token next() {
+                Token previous = currentPoint.previousCachedToken();
+                if (previous==null) throw new java.util.NoSuchElementException("No previous token!");
+                return currentPoint = previous;
+            }
+
+        }
+        ;
+    }
+
+    /**
+    * @return a list of the unparsed tokens preceding this one in the order they appear in the input
+    */
+    public List<Token> precedingUnparsedTokens() {
+        List<Token> result = new ArrayList<> ();
+        Token t = this.previousCachedToken();
+        while (t!=null&&t.isUnparsed()) {
+            result.add(t);
+            t = t.previousCachedToken();
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    /**
+    * @return An iterator of the (cached) tokens that follow this one.
+    */
+    public Iterator<Token> followingTokens() {
+        return new java.util.Iterator<Token> () {
+            Token currentPoint = Token.this;
+
+            public boolean hasNext() {
+                return currentPoint.nextCachedToken()!=null;
+            }
+
+            public Token next() {
+                Token next = currentPoint.nextCachedToken();
+                if (next==null) throw new java.util.NoSuchElementException("No next token!");
+                return currentPoint = next;
+            }
+
+        }
+        ;
+    }
+
+    /**
+    * Copy the location info from a Node
+    */
+    public void copyLocationInfo(Node from) {
+        Node.super.copyLocationInfo(from);
+        if (from instanceof Token) {
+            Token otherTok = (Token)from;
+            appendedToken = otherTok.appendedToken;
+            prependedToken = otherTok.prependedToken;
+        }
+        setTokenSource(from.getTokenSource());
+    }
+
+    public void copyLocationInfo(Node start, Node end) {
+        Node.super.copyLocationInfo(start, end);
+        if (start instanceof Token) {
+            prependedToken = ((Token)start).prependedToken;
+        }
+        if (end instanceof Token) {
+            Token endToken = (Token)end;
+            appendedToken = endToken.appendedToken;
+        }
+    }
+
+    public static Token newToken(TokenType type, CSharpLexer tokenSource, int beginOffset, int endOffset) {
+        switch(type) {
+            case WHITESPACE : 
+            return new Whitespace(TokenType.WHITESPACE, tokenSource, beginOffset, endOffset); case MULTI_LINE_COMMENT : 
+            return new Comment(TokenType.MULTI_LINE_COMMENT, tokenSource, beginOffset, endOffset); case SINGLE_LINE_COMMENT : 
+            return new Comment(TokenType.SINGLE_LINE_COMMENT, tokenSource, beginOffset, endOffset); case INTEGER_LITERAL : 
+            return new IntegerLiteral(TokenType.INTEGER_LITERAL, tokenSource, beginOffset, endOffset); case REAL_LITERAL : 
+            return new RealLiteral(TokenType.REAL_LITERAL, tokenSource, beginOffset, endOffset); case FALSE : 
+            return new BooleanLiteral(TokenType.FALSE, tokenSource, beginOffset, endOffset); case TRUE : 
+            return new BooleanLiteral(TokenType.TRUE, tokenSource, beginOffset, endOffset); case NULL : 
+            return new NullLiteral(TokenType.NULL, tokenSource, beginOffset, endOffset); case LPAREN : 
+            return new Delimiter(TokenType.LPAREN, tokenSource, beginOffset, endOffset); case RPAREN : 
+            return new Delimiter(TokenType.RPAREN, tokenSource, beginOffset, endOffset); case RBRACE : 
+            return new Delimiter(TokenType.RBRACE, tokenSource, beginOffset, endOffset); case LBRACKET : 
+            return new Delimiter(TokenType.LBRACKET, tokenSource, beginOffset, endOffset); case RBRACKET : 
+            return new Delimiter(TokenType.RBRACKET, tokenSource, beginOffset, endOffset); case SEMICOLON : 
+            return new Delimiter(TokenType.SEMICOLON, tokenSource, beginOffset, endOffset); case COMMA : 
+            return new Delimiter(TokenType.COMMA, tokenSource, beginOffset, endOffset); case GT : 
+            return new Operator(TokenType.GT, tokenSource, beginOffset, endOffset); case LT : 
+            return new Operator(TokenType.LT, tokenSource, beginOffset, endOffset); case BANG : 
+            return new Operator(TokenType.BANG, tokenSource, beginOffset, endOffset); case TILDE : 
+            return new Operator(TokenType.TILDE, tokenSource, beginOffset, endOffset); case HOOK : 
+            return new Operator(TokenType.HOOK, tokenSource, beginOffset, endOffset); case DOUBLE_HOOK : 
+            return new Operator(TokenType.DOUBLE_HOOK, tokenSource, beginOffset, endOffset); case DOUBLE_HOOK_EQUALS : 
+            return new Operator(TokenType.DOUBLE_HOOK_EQUALS, tokenSource, beginOffset, endOffset); case COLON : 
+            return new Operator(TokenType.COLON, tokenSource, beginOffset, endOffset); case EQ : 
+            return new Operator(TokenType.EQ, tokenSource, beginOffset, endOffset); case LE : 
+            return new Operator(TokenType.LE, tokenSource, beginOffset, endOffset); case GE : 
+            return new Operator(TokenType.GE, tokenSource, beginOffset, endOffset); case NE : 
+            return new Operator(TokenType.NE, tokenSource, beginOffset, endOffset); case SC_OR : 
+            return new Operator(TokenType.SC_OR, tokenSource, beginOffset, endOffset); case SC_AND : 
+            return new Operator(TokenType.SC_AND, tokenSource, beginOffset, endOffset); case INCR : 
+            return new Operator(TokenType.INCR, tokenSource, beginOffset, endOffset); case DECR : 
+            return new Operator(TokenType.DECR, tokenSource, beginOffset, endOffset); case PLUS : 
+            return new Operator(TokenType.PLUS, tokenSource, beginOffset, endOffset); case MINUS : 
+            return new Operator(TokenType.MINUS, tokenSource, beginOffset, endOffset); case STAR : 
+            return new Operator(TokenType.STAR, tokenSource, beginOffset, endOffset); case SLASH : 
+            return new Operator(TokenType.SLASH, tokenSource, beginOffset, endOffset); case BIT_AND : 
+            return new Operator(TokenType.BIT_AND, tokenSource, beginOffset, endOffset); case BIT_OR : 
+            return new Operator(TokenType.BIT_OR, tokenSource, beginOffset, endOffset); case HAT : 
+            return new Operator(TokenType.HAT, tokenSource, beginOffset, endOffset); case REM : 
+            return new Operator(TokenType.REM, tokenSource, beginOffset, endOffset); case LSHIFT : 
+            return new Operator(TokenType.LSHIFT, tokenSource, beginOffset, endOffset); case PLUSASSIGN : 
+            return new Operator(TokenType.PLUSASSIGN, tokenSource, beginOffset, endOffset); case MINUSASSIGN : 
+            return new Operator(TokenType.MINUSASSIGN, tokenSource, beginOffset, endOffset); case STARASSIGN : 
+            return new Operator(TokenType.STARASSIGN, tokenSource, beginOffset, endOffset); case SLASHASSIGN : 
+            return new Operator(TokenType.SLASHASSIGN, tokenSource, beginOffset, endOffset); case ANDASSIGN : 
+            return new Operator(TokenType.ANDASSIGN, tokenSource, beginOffset, endOffset); case ORASSIGN : 
+            return new Operator(TokenType.ORASSIGN, tokenSource, beginOffset, endOffset); case XORASSIGN : 
+            return new Operator(TokenType.XORASSIGN, tokenSource, beginOffset, endOffset); case REMASSIGN : 
+            return new Operator(TokenType.REMASSIGN, tokenSource, beginOffset, endOffset); case LEFT_SHIFT_ASSIGN : 
+            return new Operator(TokenType.LEFT_SHIFT_ASSIGN, tokenSource, beginOffset, endOffset); case RIGHT_SHIFT : 
+            return new Operator(TokenType.RIGHT_SHIFT, tokenSource, beginOffset, endOffset); case RIGHT_SHIFT_ASSIGN : 
+            return new Operator(TokenType.RIGHT_SHIFT_ASSIGN, tokenSource, beginOffset, endOffset); case ARROW : 
+            return new Operator(TokenType.ARROW, tokenSource, beginOffset, endOffset); case POINTER_ACCESS : 
+            return new Operator(TokenType.POINTER_ACCESS, tokenSource, beginOffset, endOffset); case ASSIGN : 
+            return new Operator(TokenType.ASSIGN, tokenSource, beginOffset, endOffset); case DOUBLE_COLON : 
+            return new Operator(TokenType.DOUBLE_COLON, tokenSource, beginOffset, endOffset); case DOT : 
+            return new Operator(TokenType.DOT, tokenSource, beginOffset, endOffset); case RANGE : 
+            return new Operator(TokenType.RANGE, tokenSource, beginOffset, endOffset); case VAR_ARGS : 
+            return new Operator(TokenType.VAR_ARGS, tokenSource, beginOffset, endOffset); case AT : 
+            return new Operator(TokenType.AT, tokenSource, beginOffset, endOffset); case ABSTRACT : 
+            return new KeyWord(TokenType.ABSTRACT, tokenSource, beginOffset, endOffset); case AS : 
+            return new KeyWord(TokenType.AS, tokenSource, beginOffset, endOffset); case BASE : 
+            return new KeyWord(TokenType.BASE, tokenSource, beginOffset, endOffset); case BOOL : 
+            return new PrimitiveType(TokenType.BOOL, tokenSource, beginOffset, endOffset); case BREAK : 
+            return new KeyWord(TokenType.BREAK, tokenSource, beginOffset, endOffset); case BYTE : 
+            return new PrimitiveType(TokenType.BYTE, tokenSource, beginOffset, endOffset); case CASE : 
+            return new KeyWord(TokenType.CASE, tokenSource, beginOffset, endOffset); case CATCH : 
+            return new KeyWord(TokenType.CATCH, tokenSource, beginOffset, endOffset); case CHAR : 
+            return new PrimitiveType(TokenType.CHAR, tokenSource, beginOffset, endOffset); case CHECKED : 
+            return new KeyWord(TokenType.CHECKED, tokenSource, beginOffset, endOffset); case CLASS : 
+            return new KeyWord(TokenType.CLASS, tokenSource, beginOffset, endOffset); case CONST : 
+            return new KeyWord(TokenType.CONST, tokenSource, beginOffset, endOffset); case CONTINUE : 
+            return new KeyWord(TokenType.CONTINUE, tokenSource, beginOffset, endOffset); case DECIMAL : 
+            return new PrimitiveType(TokenType.DECIMAL, tokenSource, beginOffset, endOffset); case DEFAULT : 
+            return new KeyWord(TokenType.DEFAULT, tokenSource, beginOffset, endOffset); case DELEGATE : 
+            return new KeyWord(TokenType.DELEGATE, tokenSource, beginOffset, endOffset); case DO : 
+            return new KeyWord(TokenType.DO, tokenSource, beginOffset, endOffset); case DOUBLE : 
+            return new PrimitiveType(TokenType.DOUBLE, tokenSource, beginOffset, endOffset); case ELSE : 
+            return new KeyWord(TokenType.ELSE, tokenSource, beginOffset, endOffset); case ENUM : 
+            return new KeyWord(TokenType.ENUM, tokenSource, beginOffset, endOffset); case EVENT : 
+            return new KeyWord(TokenType.EVENT, tokenSource, beginOffset, endOffset); case EXPLICIT : 
+            return new KeyWord(TokenType.EXPLICIT, tokenSource, beginOffset, endOffset); case EXTERN : 
+            return new KeyWord(TokenType.EXTERN, tokenSource, beginOffset, endOffset); case FINALLY : 
+            return new KeyWord(TokenType.FINALLY, tokenSource, beginOffset, endOffset); case FIXED : 
+            return new KeyWord(TokenType.FIXED, tokenSource, beginOffset, endOffset); case FLOAT : 
+            return new PrimitiveType(TokenType.FLOAT, tokenSource, beginOffset, endOffset); case FOR : 
+            return new KeyWord(TokenType.FOR, tokenSource, beginOffset, endOffset); case FOREACH : 
+            return new KeyWord(TokenType.FOREACH, tokenSource, beginOffset, endOffset); case GOTO : 
+            return new KeyWord(TokenType.GOTO, tokenSource, beginOffset, endOffset); case IF : 
+            return new KeyWord(TokenType.IF, tokenSource, beginOffset, endOffset); case IMPLICIT : 
+            return new KeyWord(TokenType.IMPLICIT, tokenSource, beginOffset, endOffset); case IN : 
+            return new KeyWord(TokenType.IN, tokenSource, beginOffset, endOffset); case INT : 
+            return new PrimitiveType(TokenType.INT, tokenSource, beginOffset, endOffset); case INTERFACE : 
+            return new KeyWord(TokenType.INTERFACE, tokenSource, beginOffset, endOffset); case INTERNAL : 
+            return new KeyWord(TokenType.INTERNAL, tokenSource, beginOffset, endOffset); case IS : 
+            return new KeyWord(TokenType.IS, tokenSource, beginOffset, endOffset); case LOCK : 
+            return new KeyWord(TokenType.LOCK, tokenSource, beginOffset, endOffset); case LONG : 
+            return new PrimitiveType(TokenType.LONG, tokenSource, beginOffset, endOffset); case NAMESPACE : 
+            return new KeyWord(TokenType.NAMESPACE, tokenSource, beginOffset, endOffset); case NEW : 
+            return new KeyWord(TokenType.NEW, tokenSource, beginOffset, endOffset); case OBJECT : 
+            return new KeyWord(TokenType.OBJECT, tokenSource, beginOffset, endOffset); case OPERATOR : 
+            return new KeyWord(TokenType.OPERATOR, tokenSource, beginOffset, endOffset); case OUT : 
+            return new KeyWord(TokenType.OUT, tokenSource, beginOffset, endOffset); case OVERRIDE : 
+            return new KeyWord(TokenType.OVERRIDE, tokenSource, beginOffset, endOffset); case PARAMS : 
+            return new KeyWord(TokenType.PARAMS, tokenSource, beginOffset, endOffset); case PRIVATE : 
+            return new KeyWord(TokenType.PRIVATE, tokenSource, beginOffset, endOffset); case PROTECTED : 
+            return new KeyWord(TokenType.PROTECTED, tokenSource, beginOffset, endOffset); case PUBLIC : 
+            return new KeyWord(TokenType.PUBLIC, tokenSource, beginOffset, endOffset); case READONLY : 
+            return new KeyWord(TokenType.READONLY, tokenSource, beginOffset, endOffset); case REF : 
+            return new KeyWord(TokenType.REF, tokenSource, beginOffset, endOffset); case RETURN : 
+            return new KeyWord(TokenType.RETURN, tokenSource, beginOffset, endOffset); case SBYTE : 
+            return new PrimitiveType(TokenType.SBYTE, tokenSource, beginOffset, endOffset); case SEALED : 
+            return new KeyWord(TokenType.SEALED, tokenSource, beginOffset, endOffset); case SHORT : 
+            return new PrimitiveType(TokenType.SHORT, tokenSource, beginOffset, endOffset); case SIZEOF : 
+            return new KeyWord(TokenType.SIZEOF, tokenSource, beginOffset, endOffset); case STACKALLOC : 
+            return new KeyWord(TokenType.STACKALLOC, tokenSource, beginOffset, endOffset); case STATIC : 
+            return new KeyWord(TokenType.STATIC, tokenSource, beginOffset, endOffset); case STRING : 
+            return new PrimitiveType(TokenType.STRING, tokenSource, beginOffset, endOffset); case STRUCT : 
+            return new KeyWord(TokenType.STRUCT, tokenSource, beginOffset, endOffset); case SWITCH : 
+            return new KeyWord(TokenType.SWITCH, tokenSource, beginOffset, endOffset); case THIS : 
+            return new KeyWord(TokenType.THIS, tokenSource, beginOffset, endOffset); case THROW : 
+            return new KeyWord(TokenType.THROW, tokenSource, beginOffset, endOffset); case TRY : 
+            return new KeyWord(TokenType.TRY, tokenSource, beginOffset, endOffset); case TYPEOF : 
+            return new KeyWord(TokenType.TYPEOF, tokenSource, beginOffset, endOffset); case UINT : 
+            return new PrimitiveType(TokenType.UINT, tokenSource, beginOffset, endOffset); case ULONG : 
+            return new PrimitiveType(TokenType.ULONG, tokenSource, beginOffset, endOffset); case UNCHECKED : 
+            return new KeyWord(TokenType.UNCHECKED, tokenSource, beginOffset, endOffset); case UNSAFE : 
+            return new KeyWord(TokenType.UNSAFE, tokenSource, beginOffset, endOffset); case USHORT : 
+            return new PrimitiveType(TokenType.USHORT, tokenSource, beginOffset, endOffset); case USING : 
+            return new KeyWord(TokenType.USING, tokenSource, beginOffset, endOffset); case VIRTUAL : 
+            return new KeyWord(TokenType.VIRTUAL, tokenSource, beginOffset, endOffset); case VOID : 
+            return new KeyWord(TokenType.VOID, tokenSource, beginOffset, endOffset); case VOLATILE : 
+            return new KeyWord(TokenType.VOLATILE, tokenSource, beginOffset, endOffset); case WHILE : 
+            return new KeyWord(TokenType.WHILE, tokenSource, beginOffset, endOffset); case ARGLIST : 
+            return new KeyWord(TokenType.ARGLIST, tokenSource, beginOffset, endOffset); case ADD : 
+            return new KeyWord(TokenType.ADD, tokenSource, beginOffset, endOffset); case ASSEMBLY : 
+            return new KeyWord(TokenType.ASSEMBLY, tokenSource, beginOffset, endOffset); case ASYNC : 
+            return new KeyWord(TokenType.ASYNC, tokenSource, beginOffset, endOffset); case AWAIT : 
+            return new KeyWord(TokenType.AWAIT, tokenSource, beginOffset, endOffset); case GET : 
+            return new KeyWord(TokenType.GET, tokenSource, beginOffset, endOffset); case INIT : 
+            return new KeyWord(TokenType.INIT, tokenSource, beginOffset, endOffset); case MODULE : 
+            return new KeyWord(TokenType.MODULE, tokenSource, beginOffset, endOffset); case NAMEOF : 
+            return new KeyWord(TokenType.NAMEOF, tokenSource, beginOffset, endOffset); case PARTIAL : 
+            return new KeyWord(TokenType.PARTIAL, tokenSource, beginOffset, endOffset); case RECORD : 
+            return new KeyWord(TokenType.RECORD, tokenSource, beginOffset, endOffset); case REMOVE : 
+            return new KeyWord(TokenType.REMOVE, tokenSource, beginOffset, endOffset); case SET : 
+            return new KeyWord(TokenType.SET, tokenSource, beginOffset, endOffset); case VAR : 
+            return new KeyWord(TokenType.VAR, tokenSource, beginOffset, endOffset); case WHEN : 
+            return new KeyWord(TokenType.WHEN, tokenSource, beginOffset, endOffset); case YIELD : 
+            return new KeyWord(TokenType.YIELD, tokenSource, beginOffset, endOffset); case AND : 
+            return new KeyWord(TokenType.AND, tokenSource, beginOffset, endOffset); case OR : 
+            return new KeyWord(TokenType.OR, tokenSource, beginOffset, endOffset); case NOT : 
+            return new KeyWord(TokenType.NOT, tokenSource, beginOffset, endOffset); case WITH : 
+            return new KeyWord(TokenType.WITH, tokenSource, beginOffset, endOffset); case ASCENDING : 
+            return new KeyWord(TokenType.ASCENDING, tokenSource, beginOffset, endOffset); case BY : 
+            return new KeyWord(TokenType.BY, tokenSource, beginOffset, endOffset); case DESCENDING : 
+            return new KeyWord(TokenType.DESCENDING, tokenSource, beginOffset, endOffset); case EQUALS : 
+            return new KeyWord(TokenType.EQUALS, tokenSource, beginOffset, endOffset); case FROM : 
+            return new KeyWord(TokenType.FROM, tokenSource, beginOffset, endOffset); case GROUP : 
+            return new KeyWord(TokenType.GROUP, tokenSource, beginOffset, endOffset); case INTO : 
+            return new KeyWord(TokenType.INTO, tokenSource, beginOffset, endOffset); case JOIN : 
+            return new KeyWord(TokenType.JOIN, tokenSource, beginOffset, endOffset); case LET : 
+            return new KeyWord(TokenType.LET, tokenSource, beginOffset, endOffset); case ON : 
+            return new KeyWord(TokenType.ON, tokenSource, beginOffset, endOffset); case ORDERBY : 
+            return new KeyWord(TokenType.ORDERBY, tokenSource, beginOffset, endOffset); case SELECT : 
+            return new KeyWord(TokenType.SELECT, tokenSource, beginOffset, endOffset); case WHERE : 
+            return new KeyWord(TokenType.WHERE, tokenSource, beginOffset, endOffset); case IDENTIFIER : 
+            return new IDENTIFIER(TokenType.IDENTIFIER, tokenSource, beginOffset, endOffset); case CHARACTER_LITERAL : 
+            return new CharacterLiteral(TokenType.CHARACTER_LITERAL, tokenSource, beginOffset, endOffset); case REGULAR_STRING_LITERAL : 
+            return new StringLiteral(TokenType.REGULAR_STRING_LITERAL, tokenSource, beginOffset, endOffset); case VERBATIM_STRING_LITERAL : 
+            return new StringLiteral(TokenType.VERBATIM_STRING_LITERAL, tokenSource, beginOffset, endOffset); case REGULAR_INTERPOLATION_START : 
+            return new Literal(TokenType.REGULAR_INTERPOLATION_START, tokenSource, beginOffset, endOffset); case MULTI_INTERPOLATION_START : 
+            return new Literal(TokenType.MULTI_INTERPOLATION_START, tokenSource, beginOffset, endOffset); case NON_INTERPOLATED_TEXT : 
+            return new NON_INTERPOLATED_TEXT(TokenType.NON_INTERPOLATED_TEXT, tokenSource, beginOffset, endOffset); case NON_INTERPOLATED_TEXT2 : 
+            return new NON_INTERPOLATED_TEXT2(TokenType.NON_INTERPOLATED_TEXT2, tokenSource, beginOffset, endOffset); case LBRACE : 
+            return new Delimiter(TokenType.LBRACE, tokenSource, beginOffset, endOffset); case ENDING_QUOTE : 
+            return new ENDING_QUOTE(TokenType.ENDING_QUOTE, tokenSource, beginOffset, endOffset); case HASH_IF : 
+            return new HASH_IF(TokenType.HASH_IF, tokenSource, beginOffset, endOffset); case HASH_ELIF : 
+            return new HASH_ELIF(TokenType.HASH_ELIF, tokenSource, beginOffset, endOffset); case HASH_ELSE : 
+            return new HASH_ELSE(TokenType.HASH_ELSE, tokenSource, beginOffset, endOffset); case HASH_ENDIF : 
+            return new HASH_ENDIF(TokenType.HASH_ENDIF, tokenSource, beginOffset, endOffset); case HASH : 
+            return new HASH(TokenType.HASH, tokenSource, beginOffset, endOffset); case INVALID : 
+            return new InvalidToken(tokenSource, beginOffset, endOffset); default : 
+            return new Token(type, tokenSource, beginOffset, endOffset);
+        }
+    }
+
+    public String getLocation() {
+        return getInputSource()+":"+getBeginLine()+":"+getBeginColumn();
+    }
+
+    public void setChild(int i, Node n) {
+        throw new UnsupportedOperationException();
+    }
+
+    public void addChild(Node n) {
+        throw new UnsupportedOperationException();
+    }
+
+    public void addChild(int i, Node n) {
+        throw new UnsupportedOperationException();
+    }
+
+    public Node removeChild(int i) {
+        throw new UnsupportedOperationException();
+    }
+
+    public final int indexOf(Node n) {
+        return-1;
+    }
+
+    public Node getParent() {
+        return parent;
+    }
+
+    public void setParent(Node parent) {
+        this.parent = parent;
+    }
+
+    public final int getChildCount() {
+        return 0;
+    }
+
+    public final Node getChild(int i) {
+        return null;
+    }
+
+    public final List<Node> children() {
+        return java.util.Collections.emptyList();
+    }
+
+}
+
+
@@ -0,0 +1,27 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. PPDirectiveLineConstants.java */
+package org.parsers.csharp.ppline;
+
+
+public interface PPDirectiveLineConstants {
+
+    /**
+    * The various token types. The first type EOF
+    * and the last type INVALID are auto-generated.
+    * They represent the end of input and invalid input
+    * respectively.
+    */
+    public enum TokenType {
+        EOF, WS, EOL, TRUE, FALSE, IDENTIFIER, OR, AND, LPAREN, RPAREN, NOT, EQUALS, NOT_EQUALS, IF, ELIF, DEFINE, UNDEF, ELSE, ENDIF, IGNORED_DIRECTIVE, UNKNOWN_DIRECTIVE, INVALID
+    }
+
+
+    /**
+    * Lexical States
+    */
+    public enum LexicalState {
+        DEFAULT
+    }
+
+}
+
+
@@ -0,0 +1,6554 @@
+/* Generated by: JavaCC 21 Parser Generator. FELParser.java */
+package fel;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import static fel.FELConstants.TokenType.*;
+
+
+public class FELParser implements FELConstants {
+
+    static public void main(String[]args) throws ParseException, IOException {
+        String input = FELLexer.readFully(new java.io.InputStreamReader(System.in));
+        FELParser parser = new FELParser(input);
+        Node n = parser.Input();
+        n.dump("  ");
+    }
+
+    static final int UNLIMITED = Integer.MAX_VALUE;
+    // The last token successfully "consumed"
+    Token lastConsumedToken;
+    private TokenType nextTokenType;
+    private Token currentLookaheadToken;
+    private int remainingLookahead;
+    private boolean hitFailure, passedPredicate;
+    // The names of the parser productions, indexed by the ids
+    // that identify them on the call stacks
+    private static final String[]PRODUCTION_NAMES =  {"Input", "Expression", "OrExpression", "AndExpression", "EqualityExpression", "RelationalExpression", "RangeExpression", "AdditiveExpression", "MultiplicativeExpression", "UnaryExpression", "UnaryPlusMinusExpression", "NotExpression", "BuiltinVariable", "DefaultToExpression", "PrimaryExpression", "BaseExpression", "DotKey", "DynamicKey", "MethodInvoke", "BuiltIn", "Exists", "ListLiteral", "StringLiteral", "HashLiteral", "NumberLiteral", "BooleanLiteral", "NullLiteral", "Parenthesis", "ArgsList", "NamedArgsList", "PositionalArgsList", };
+    private static final Map<String, Integer> PRODUCTION_IDS = new HashMap<> ();
+    static {
+        for (int i = 0; i < PRODUCTION_NAMES.length; i++) {
+            PRODUCTION_IDS.put(PRODUCTION_NAMES[i], i);
+        }
+    }
+    private int currentlyParsedProduction = -1, currentLookaheadProduction = -1;
+    private int lookaheadRoutineNesting, passedPredicateThreshold = -1;
+    private EnumSet<TokenType> outerFollowSet;
+    private boolean legacyGlitchyLookahead = true;
+    private boolean cancelled;
+
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /** Generated Lexer. */
+    public FELLexer token_source;
+
+    public void setInputSource(String inputSource) {
+        token_source.setInputSource(inputSource);
+    }
+
+    String getInputSource() {
+        return token_source.getInputSource();
+    }
+
+    //=================================
+    // Generated constructors
+    //=================================
+    public FELParser(String inputSource, CharSequence content) {
+        this(new FELLexer(inputSource, content));
+    }
+
+    public FELParser(CharSequence content) {
+        this("input", content);
+    }
+
+    /**
+    * @param inputSource just the name of the input source (typically the filename) that
+    * will be used in error messages and so on.
+    * @param path The location (typically the filename) from which to get the input to parse
+    */
+    public FELParser(String inputSource, Path path) throws IOException {
+        this(inputSource, FELLexer.stringFromBytes(Files.readAllBytes(path)));
+    }
+
+    public FELParser(String inputSource, Path path, Charset charset) throws IOException {
+        this(inputSource, FELLexer.stringFromBytes(Files.readAllBytes(path), charset));
+    }
+
+    /**
+    * @param inputSource just the name of the input source (typically the filename) that
+    * will be used in error messages and so on.
+    * @param path The location (typically the filename) from which to get the input to parse
+    * @param charset The encoding of the file. If this is null, it is worked out from the byte order mark,
+    * defaulting to UTF-8.
+    * @param memoryMapped whether to memory-map the file rather than read it into memory.
+    * (See FELLexer#mapFile)
+    */
+    public FELParser(String inputSource, Path path, Charset charset, boolean memoryMapped) throws IOException {
+        this(inputSource, memoryMapped ? FELLexer.mapFile(path, charset) : FELLexer.stringFromBytes(Files.readAllBytes(path), charset));
+    }
+
+    /**
+    * @param path The location (typically the filename) from which to get the input to parse
+    */
+    public FELParser(Path path) throws IOException {
+        this(path.toString(), path);
+    }
+
+    /**
+    * @Deprecated Use the constructor that takes a #java.nio.files.Path or just
+    * a String (i.e. CharSequence) directly.
+    */
+    public FELParser(java.io.InputStream stream) {
+        this(new InputStreamReader(stream));
+    }
+
+    /**
+    * @Deprecated Use the constructor that takes a #java.nio.files.Path or just
+    * a String (i.e. CharSequence) directly.
+    */
+    public FELParser(Reader reader) {
+        this(new FELLexer("input", reader));
+    }
+
+    /** Constructor with user supplied Lexer. */
+    public FELParser(FELLexer lexer) {
+        token_source = lexer;
+        lastConsumedToken = lexer.DUMMY_START_TOKEN;
+        lastConsumedToken.setTokenSource(lexer);
+    }
+
+    /**
+    * Resets this parser, and its lexer, so that it parses the given input
+    * from the start, reusing the internal buffers of both rather than
+    * constructing new objects. This is meant for parsing many (typically small)
+    * inputs in turn, possibly via a ParserPool. The Tokens and Nodes from the
+    * previous input should not be used after this, since they refer back to
+    * the lexer. Any state added to the parser by injected code is not reset.
+    * @param inputSource just the name of the input source (typically the filename) that
+    * will be used in error messages and so on.
+    * @param content the input to parse
+    */
+    public void reset(String inputSource, CharSequence content) {
+        token_source.reset(inputSource, content);
+        lastConsumedToken = token_source.DUMMY_START_TOKEN;
+        lastConsumedToken.setTokenSource(token_source);
+        nextTokenType = null;
+        currentLookaheadToken = null;
+        remainingLookahead = 0;
+        hitFailure = passedPredicate = false;
+        currentlyParsedProduction = currentLookaheadProduction = -1;
+        lookaheadRoutineNesting = 0;
+        passedPredicateThreshold = -1;
+        outerFollowSet = null;
+        cancelled = false;
+        parsingStack.clear();
+        lookaheadStack.clear();
+        parseStateStack.clear();
+        currentFollowSet = null;
+        pendingRecovery = false;
+        parsingProblems = new java.util.ArrayList<> ();
+        currentNodeScope.reset();
+    }
+
+    public void reset(CharSequence content) {
+        reset("input", content);
+    }
+
+    /**
+    * Resets this parser to parse the given file. (See #reset(String, CharSequence))
+    * @param path The location (typically the filename) from which to get the input to parse
+    */
+    public void reset(Path path) throws IOException {
+        reset(path.toString(), FELLexer.stringFromBytes(Files.readAllBytes(path)));
+    }
+
+    // If the next token is cached, it returns that
+    // Otherwise, it goes to the token_source, i.e. the Lexer.
+    final private Token nextToken(final Token tok) {
+        Token result = token_source.getNextToken(tok);
+        while (result.isUnparsed()) {
+            result = token_source.getNextToken(result);
+        }
+        nextTokenType = null;
+        return result;
+    }
+
+    /**
+    * @return the next Token off the stream. This is the same as #getToken(1)
+    */
+    final public Token getNextToken() {
+        return getToken(1);
+    }
+
+    /**
+    * @param index how many tokens to look ahead
+    * @return the specific regular (i.e. parsed) Token index ahead/behind in the stream.
+    * If we are in a lookahead, it looks ahead from the currentLookaheadToken
+    * Otherwise, it is the lastConsumedToken. If you pass in a negative
+    * number it goes backward.
+    */
+    final public Token getToken(final int index) {
+        Token t = currentLookaheadToken==null ? lastConsumedToken : currentLookaheadToken;
+        for (int i = 0; i < index; i++) {
+            t = nextToken(t);
+        }
+        for (int i = 0; i > index; i--) {
+            t = t.getPrevious();
+            if (t==null) break;
+        }
+        return t;
+    }
+
+    private final TokenType nextTokenType() {
+        if (nextTokenType==null) {
+            nextTokenType = nextToken(lastConsumedToken).getType();
+        }
+        return nextTokenType;
+    }
+
+    boolean activateTokenTypes(TokenType...types) {
+        boolean result = false;
+        for (TokenType tt : types) {
+            result|=token_source.activeTokenTypes.add(tt);
+        }
+        if (result) {
+            token_source.reset(getToken(0));
+            nextTokenType = null;
+        }
+        return result;
+    }
+
+    boolean deactivateTokenTypes(TokenType...types) {
+        boolean result = false;
+        for (TokenType tt : types) {
+            result|=token_source.activeTokenTypes.remove(tt);
+        }
+        if (result) {
+            token_source.reset(getToken(0));
+            nextTokenType = null;
+        }
+        return result;
+    }
+
+    private static int productionId(String productionName) {
+        Integer id = PRODUCTION_IDS.get(productionName);
+        return id==null ? -1 : id;
+    }
+
+    private static String productionName(int productionId) {
+        return productionId < 0 ? null : PRODUCTION_NAMES[productionId];
+    }
+
+    static private final long Input_FIRST_SET_MASK = 0x3ee00010039500L;
+
+    // /root/project/examples/freemarker/FEL.javacc:167:1
+    final public Node Input() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 0;
+        if (pendingRecovery) {
+            //            if (debugFaultTolerant) LOGGER.info("Re-synching to expansion at: /root/project/examples/freemarker/FEL.javacc:168:4");
+            recover$Input();
+        }
+        // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:168:4
+        pushOntoCallStack(0, "/root/project/examples/freemarker/FEL.javacc", 168, 4);
+        outerFollowSet = follow_set$FEL_javacc$168$4;
+        try {
+            Expression();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for EndOfFile specified at /root/project/examples/freemarker/FEL.javacc:169:4
+        EnumSet<TokenType> followSet13 = null;
+        if (outerFollowSet!=null) {
+            followSet13 = follow_set$FEL_javacc$169$4.clone();
+            followSet13.addAll(outerFollowSet);
+        }
+        consumeToken(EOF, false, followSet13);
+        // Code for CodeBlock specified at /root/project/examples/freemarker/FEL.javacc:170:4
+        return rootNode();
+    }
+
+    static private final long Expression_FIRST_SET_MASK = 0x3ee00010039500L;
+
+    // /root/project/examples/freemarker/FEL.javacc:175:1
+    final public void Expression() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 1;
+        if (pendingRecovery) {
+            //            if (debugFaultTolerant) LOGGER.info("Re-synching to expansion at: /root/project/examples/freemarker/FEL.javacc:176:5");
+            recover$Expression();
+        }
+        Expression Expression1 = null;
+        if (buildTree) {
+            Expression1 = new Expression();
+            openNodeScope(Expression1);
+        }
+        ParseException parseException19 = null;
+        int callStackSize20 = parsingStack.size();
+        try {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:176:5
+            pushOntoCallStack(1, "/root/project/examples/freemarker/FEL.javacc", 176, 5);
+            try {
+                OrExpression();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        catch(ParseException e) {
+            parseException19 = e;
+            if (isParserTolerant()) 
+            this.pendingRecovery = true;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize20);
+            if (Expression1!=null) {
+                if (parseException19==null) {
+                    closeNodeScope(Expression1, nodeArity() > 1);
+                }
+                else {
+                    closeNodeScope(Expression1, true);
+                    Expression1.setDirty(true);
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final long OrExpression_FIRST_SET_MASK = 0x3ee00010039500L;
+
+    // /root/project/examples/freemarker/FEL.javacc:179:1
+    final public void OrExpression() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 2;
+        if (pendingRecovery) {
+            //            if (debugFaultTolerant) LOGGER.info("Re-synching to expansion at: /root/project/examples/freemarker/FEL.javacc:180:5");
+            recover$OrExpression();
+        }
+        OrExpression OrExpression2 = null;
+        if (buildTree) {
+            OrExpression2 = new OrExpression();
+            openNodeScope(OrExpression2);
+        }
+        ParseException parseException27 = null;
+        int callStackSize28 = parsingStack.size();
+        try {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:180:5
+            pushOntoCallStack(2, "/root/project/examples/freemarker/FEL.javacc", 180, 5);
+            if (outerFollowSet!=null) {
+                EnumSet<TokenType> newFollowSet = follow_set$FEL_javacc$180$5.clone();
+                newFollowSet.addAll(outerFollowSet);
+                outerFollowSet = newFollowSet;
+            }
+            try {
+                AndExpression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified at /root/project/examples/freemarker/FEL.javacc:181:5
+            while (true) {
+                if (!(nextTokenType()==OR||nextTokenType==OR2)) break;
+                if (nextTokenType()==OR) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:182:10
+                    consumeToken(OR, false, follow_set$FEL_javacc$182$10);
+                }
+                else if (nextTokenType()==OR2) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:182:15
+                    consumeToken(OR2, false, follow_set$FEL_javacc$182$15);
+                }
+                else {
+                    pushOntoCallStack(2, "/root/project/examples/freemarker/FEL.javacc", 182, 10);
+                    throw new ParseException(this, first_set$FEL_javacc$182$10$, parsingStack.toList());
+                }
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:182:22
+                pushOntoCallStack(2, "/root/project/examples/freemarker/FEL.javacc", 182, 22);
+                if (outerFollowSet!=null) {
+                    EnumSet<TokenType> newFollowSet = follow_set$FEL_javacc$182$22.clone();
+                    newFollowSet.addAll(outerFollowSet);
+                    outerFollowSet = newFollowSet;
+                }
+                try {
+                    AndExpression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException27 = e;
+            if (isParserTolerant()) 
+            this.pendingRecovery = true;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize28);
+            if (OrExpression2!=null) {
+                if (parseException27==null) {
+                    closeNodeScope(OrExpression2, nodeArity() > 1);
+                }
+                else {
+                    closeNodeScope(OrExpression2, true);
+                    OrExpression2.setDirty(true);
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final long AndExpression_FIRST_SET_MASK = 0x3ee00010039500L;
+
+    // /root/project/examples/freemarker/FEL.javacc:186:1
+    final public void AndExpression() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 3;
+        if (pendingRecovery) {
+            //            if (debugFaultTolerant) LOGGER.info("Re-synching to expansion at: /root/project/examples/freemarker/FEL.javacc:187:5");
+            recover$AndExpression();
+        }
+        AndExpression AndExpression3 = null;
+        if (buildTree) {
+            AndExpression3 = new AndExpression();
+            openNodeScope(AndExpression3);
+        }
+        ParseException parseException68 = null;
+        int callStackSize69 = parsingStack.size();
+        try {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:187:5
+            pushOntoCallStack(3, "/root/project/examples/freemarker/FEL.javacc", 187, 5);
+            if (outerFollowSet!=null) {
+                EnumSet<TokenType> newFollowSet = follow_set$FEL_javacc$187$5.clone();
+                newFollowSet.addAll(outerFollowSet);
+                outerFollowSet = newFollowSet;
+            }
+            try {
+                EqualityExpression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified at /root/project/examples/freemarker/FEL.javacc:188:5
+            while (true) {
+                if (!(nextTokenType()==AND||nextTokenType==AND2)) break;
+                if (nextTokenType()==AND) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:189:10
+                    consumeToken(AND, false, follow_set$FEL_javacc$189$10);
+                }
+                else if (nextTokenType()==AND2) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:189:16
+                    consumeToken(AND2, false, follow_set$FEL_javacc$189$16);
+                }
+                else {
+                    pushOntoCallStack(3, "/root/project/examples/freemarker/FEL.javacc", 189, 10);
+                    throw new ParseException(this, first_set$FEL_javacc$189$10$, parsingStack.toList());
+                }
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:189:24
+                pushOntoCallStack(3, "/root/project/examples/freemarker/FEL.javacc", 189, 24);
+                if (outerFollowSet!=null) {
+                    EnumSet<TokenType> newFollowSet = follow_set$FEL_javacc$189$24.clone();
+                    newFollowSet.addAll(outerFollowSet);
+                    outerFollowSet = newFollowSet;
+                }
+                try {
+                    EqualityExpression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException68 = e;
+            if (isParserTolerant()) 
+            this.pendingRecovery = true;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize69);
+            if (AndExpression3!=null) {
+                if (parseException68==null) {
+                    closeNodeScope(AndExpression3, nodeArity() > 1);
+                }
+                else {
+                    closeNodeScope(AndExpression3, true);
+                    AndExpression3.setDirty(true);
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final long EqualityExpression_FIRST_SET_MASK = 0x3ee00010039500L;
+
+    // /root/project/examples/freemarker/FEL.javacc:193:1
+    final public void EqualityExpression() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 4;
+        if (pendingRecovery) {
+            //            if (debugFaultTolerant) LOGGER.info("Re-synching to expansion at: /root/project/examples/freemarker/FEL.javacc:194:5");
+            recover$EqualityExpression();
+        }
+        EqualityExpression EqualityExpression4 = null;
+        if (buildTree) {
+            EqualityExpression4 = new EqualityExpression();
+            openNodeScope(EqualityExpression4);
+        }
+        ParseException parseException109 = null;
+        int callStackSize110 = parsingStack.size();
+        try {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:194:5
+            pushOntoCallStack(4, "/root/project/examples/freemarker/FEL.javacc", 194, 5);
+            if (outerFollowSet!=null) {
+                EnumSet<TokenType> newFollowSet = follow_set$FEL_javacc$194$5.clone();
+                newFollowSet.addAll(outerFollowSet);
+                outerFollowSet = newFollowSet;
+            }
+            try {
+                RelationalExpression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrOne specified at /root/project/examples/freemarker/FEL.javacc:195:5
+            if (nextTokenType()==EQUALS||nextTokenType==DOUBLE_EQUALS||nextTokenType==NOT_EQUALS) {
+                if (nextTokenType()==EQUALS) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:196:10
+                    consumeToken(EQUALS, false, follow_set$FEL_javacc$196$10);
+                }
+                else if (nextTokenType()==DOUBLE_EQUALS) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:196:19
+                    consumeToken(DOUBLE_EQUALS, false, follow_set$FEL_javacc$196$19);
+                }
+                else if (nextTokenType()==NOT_EQUALS) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:196:35
+                    consumeToken(NOT_EQUALS, false, follow_set$FEL_javacc$196$35);
+                }
+                else {
+                    pushOntoCallStack(4, "/root/project/examples/freemarker/FEL.javacc", 196, 10);
+                    throw new ParseException(this, first_set$FEL_javacc$196$10$, parsingStack.toList());
+                }
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:197:9
+                pushOntoCallStack(4, "/root/project/examples/freemarker/FEL.javacc", 197, 9);
+                try {
+                    RelationalExpression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException109 = e;
+            if (isParserTolerant()) 
+            this.pendingRecovery = true;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize110);
+            if (EqualityExpression4!=null) {
+                if (parseException109==null) {
+                    closeNodeScope(EqualityExpression4, nodeArity() > 1);
+                }
+                else {
+                    closeNodeScope(EqualityExpression4, true);
+                    EqualityExpression4.setDirty(true);
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final long RelationalExpression_FIRST_SET_MASK = 0x3ee00010039500L;
+
+    // /root/project/examples/freemarker/FEL.javacc:201:1
+    final public void RelationalExpression() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 5;
+        if (pendingRecovery) {
+            //            if (debugFaultTolerant) LOGGER.info("Re-synching to expansion at: /root/project/examples/freemarker/FEL.javacc:202:5");
+            recover$RelationalExpression();
+        }
+        RelationalExpression RelationalExpression5 = null;
+        if (buildTree) {
+            RelationalExpression5 = new RelationalExpression();
+            openNodeScope(RelationalExpression5);
+        }
+        ParseException parseException158 = null;
+        int callStackSize159 = parsingStack.size();
+        try {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:202:5
+            pushOntoCallStack(5, "/root/project/examples/freemarker/FEL.javacc", 202, 5);
+            if (outerFollowSet!=null) {
+                EnumSet<TokenType> newFollowSet = follow_set$FEL_javacc$202$5.clone();
+                newFollowSet.addAll(outerFollowSet);
+                outerFollowSet = newFollowSet;
+            }
+            try {
+                RangeExpression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrOne specified at /root/project/examples/freemarker/FEL.javacc:203:5
+            if ((first_set$FEL_javacc$204$9_MASK&(1L<<nextTokenType().ordinal()))!=0) {
+                if (nextTokenType()==GT) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:204:10
+                    consumeToken(GT, false, follow_set$FEL_javacc$204$10);
+                }
+                else if (nextTokenType()==GTE) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:204:15
+                    consumeToken(GTE, false, follow_set$FEL_javacc$204$15);
+                }
+                else if (nextTokenType()==LT) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:204:21
+                    consumeToken(LT, false, follow_set$FEL_javacc$204$21);
+                }
+                else if (nextTokenType()==LTE) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:204:26
+                    consumeToken(LTE, false, follow_set$FEL_javacc$204$26);
+                }
+                else if (nextTokenType()==ALT_GT) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:204:32
+                    consumeToken(ALT_GT, false, follow_set$FEL_javacc$204$32);
+                }
+                else if (nextTokenType()==ALT_GTE) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:204:41
+                    consumeToken(ALT_GTE, false, follow_set$FEL_javacc$204$41);
+                }
+                else if (nextTokenType()==ALT_LTE) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:204:51
+                    consumeToken(ALT_LTE, false, follow_set$FEL_javacc$204$51);
+                }
+                else if (nextTokenType()==ALT_LT) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:204:61
+                    consumeToken(ALT_LT, false, follow_set$FEL_javacc$204$61);
+                }
+                else {
+                    pushOntoCallStack(5, "/root/project/examples/freemarker/FEL.javacc", 204, 10);
+                    throw new ParseException(this, first_set$FEL_javacc$204$10$, parsingStack.toList());
+                }
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:205:9
+                pushOntoCallStack(5, "/root/project/examples/freemarker/FEL.javacc", 205, 9);
+                try {
+                    RangeExpression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException158 = e;
+            if (isParserTolerant()) 
+            this.pendingRecovery = true;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize159);
+            if (RelationalExpression5!=null) {
+                if (parseException158==null) {
+                    closeNodeScope(RelationalExpression5, nodeArity() > 1);
+                }
+                else {
+                    closeNodeScope(RelationalExpression5, true);
+                    RelationalExpression5.setDirty(true);
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final long RangeExpression_FIRST_SET_MASK = 0x3ee00010039500L;
+
+    // /root/project/examples/freemarker/FEL.javacc:209:1
+    final public void RangeExpression() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 6;
+        if (pendingRecovery) {
+            //            if (debugFaultTolerant) LOGGER.info("Re-synching to expansion at: /root/project/examples/freemarker/FEL.javacc:210:5");
+            recover$RangeExpression();
+        }
+        RangeExpression RangeExpression6 = null;
+        if (buildTree) {
+            RangeExpression6 = new RangeExpression();
+            openNodeScope(RangeExpression6);
+        }
+        ParseException parseException247 = null;
+        int callStackSize248 = parsingStack.size();
+        try {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:210:5
+            pushOntoCallStack(6, "/root/project/examples/freemarker/FEL.javacc", 210, 5);
+            if (outerFollowSet!=null) {
+                EnumSet<TokenType> newFollowSet = follow_set$FEL_javacc$210$5.clone();
+                newFollowSet.addAll(outerFollowSet);
+                outerFollowSet = newFollowSet;
+            }
+            try {
+                AdditiveExpression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrOne specified at /root/project/examples/freemarker/FEL.javacc:211:5
+            if (nextTokenType()==DOT_DOT) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:212:8
+                EnumSet<TokenType> followSet266 = null;
+                if (outerFollowSet!=null) {
+                    followSet266 = follow_set$FEL_javacc$212$8.clone();
+                    followSet266.addAll(outerFollowSet);
+                }
+                consumeToken(DOT_DOT, false, followSet266);
+                // Code for ZeroOrOne specified at /root/project/examples/freemarker/FEL.javacc:213:8
+                if (scan$FEL_javacc$214$11()) {
+                    // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:214:14
+                    pushOntoCallStack(6, "/root/project/examples/freemarker/FEL.javacc", 214, 14);
+                    try {
+                        AdditiveExpression();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException247 = e;
+            if (isParserTolerant()) 
+            this.pendingRecovery = true;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize248);
+            if (RangeExpression6!=null) {
+                if (parseException247==null) {
+                    closeNodeScope(RangeExpression6, nodeArity() > 1);
+                }
+                else {
+                    closeNodeScope(RangeExpression6, true);
+                    RangeExpression6.setDirty(true);
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final long AdditiveExpression_FIRST_SET_MASK = 0x3ee00010039500L;
+
+    // /root/project/examples/freemarker/FEL.javacc:219:1
+    final public void AdditiveExpression() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 7;
+        if (pendingRecovery) {
+            //            if (debugFaultTolerant) LOGGER.info("Re-synching to expansion at: /root/project/examples/freemarker/FEL.javacc:220:5");
+            recover$AdditiveExpression();
+        }
+        AdditiveExpression AdditiveExpression7 = null;
+        if (buildTree) {
+            AdditiveExpression7 = new AdditiveExpression();
+            openNodeScope(AdditiveExpression7);
+        }
+        ParseException parseException280 = null;
+        int callStackSize281 = parsingStack.size();
+        try {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:220:5
+            pushOntoCallStack(7, "/root/project/examples/freemarker/FEL.javacc", 220, 5);
+            if (outerFollowSet!=null) {
+                EnumSet<TokenType> newFollowSet = follow_set$FEL_javacc$220$5.clone();
+                newFollowSet.addAll(outerFollowSet);
+                outerFollowSet = newFollowSet;
+            }
+            try {
+                MultiplicativeExpression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified at /root/project/examples/freemarker/FEL.javacc:221:5
+            while (true) {
+                if (!(nextTokenType()==PLUS||nextTokenType==MINUS)) break;
+                if (nextTokenType()==PLUS) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:222:13
+                    consumeToken(PLUS, false, follow_set$FEL_javacc$222$13);
+                }
+                else if (nextTokenType()==MINUS) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:222:20
+                    consumeToken(MINUS, false, follow_set$FEL_javacc$222$20);
+                }
+                else {
+                    pushOntoCallStack(7, "/root/project/examples/freemarker/FEL.javacc", 222, 13);
+                    throw new ParseException(this, first_set$FEL_javacc$222$13$, parsingStack.toList());
+                }
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:223:12
+                pushOntoCallStack(7, "/root/project/examples/freemarker/FEL.javacc", 223, 12);
+                if (outerFollowSet!=null) {
+                    EnumSet<TokenType> newFollowSet = follow_set$FEL_javacc$223$12.clone();
+                    newFollowSet.addAll(outerFollowSet);
+                    outerFollowSet = newFollowSet;
+                }
+                try {
+                    MultiplicativeExpression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException280 = e;
+            if (isParserTolerant()) 
+            this.pendingRecovery = true;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize281);
+            if (AdditiveExpression7!=null) {
+                if (parseException280==null) {
+                    closeNodeScope(AdditiveExpression7, nodeArity() > 1);
+                }
+                else {
+                    closeNodeScope(AdditiveExpression7, true);
+                    AdditiveExpression7.setDirty(true);
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final long MultiplicativeExpression_FIRST_SET_MASK = 0x3ee00010039500L;
+
+    // /root/project/examples/freemarker/FEL.javacc:227:1
+    final public void MultiplicativeExpression() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 8;
+        if (pendingRecovery) {
+            //            if (debugFaultTolerant) LOGGER.info("Re-synching to expansion at: /root/project/examples/freemarker/FEL.javacc:228:5");
+            recover$MultiplicativeExpression();
+        }
+        MultiplicativeExpression MultiplicativeExpression8 = null;
+        if (buildTree) {
+            MultiplicativeExpression8 = new MultiplicativeExpression();
+            openNodeScope(MultiplicativeExpression8);
+        }
+        ParseException parseException321 = null;
+        int callStackSize322 = parsingStack.size();
+        try {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:228:5
+            pushOntoCallStack(8, "/root/project/examples/freemarker/FEL.javacc", 228, 5);
+            if (outerFollowSet!=null) {
+                EnumSet<TokenType> newFollowSet = follow_set$FEL_javacc$228$5.clone();
+                newFollowSet.addAll(outerFollowSet);
+                outerFollowSet = newFollowSet;
+            }
+            try {
+                UnaryExpression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified at /root/project/examples/freemarker/FEL.javacc:229:5
+            while (true) {
+                if (!(nextTokenType()==TIMES||nextTokenType==DIVIDE||nextTokenType==PERCENT)) break;
+                if (nextTokenType()==TIMES) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:230:12
+                    consumeToken(TIMES, false, follow_set$FEL_javacc$230$12);
+                }
+                else if (nextTokenType()==DIVIDE) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:230:20
+                    consumeToken(DIVIDE, false, follow_set$FEL_javacc$230$20);
+                }
+                else if (nextTokenType()==PERCENT) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:230:29
+                    consumeToken(PERCENT, false, follow_set$FEL_javacc$230$29);
+                }
+                else {
+                    pushOntoCallStack(8, "/root/project/examples/freemarker/FEL.javacc", 230, 12);
+                    throw new ParseException(this, first_set$FEL_javacc$230$12$, parsingStack.toList());
+                }
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:231:11
+                pushOntoCallStack(8, "/root/project/examples/freemarker/FEL.javacc", 231, 11);
+                if (outerFollowSet!=null) {
+                    EnumSet<TokenType> newFollowSet = follow_set$FEL_javacc$231$11.clone();
+                    newFollowSet.addAll(outerFollowSet);
+                    outerFollowSet = newFollowSet;
+                }
+                try {
+                    UnaryExpression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException321 = e;
+            if (isParserTolerant()) 
+            this.pendingRecovery = true;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize322);
+            if (MultiplicativeExpression8!=null) {
+                if (parseException321==null) {
+                    closeNodeScope(MultiplicativeExpression8, nodeArity() > 1);
+                }
+                else {
+                    closeNodeScope(MultiplicativeExpression8, true);
+                    MultiplicativeExpression8.setDirty(true);
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final EnumSet<TokenType> UnaryExpression_FIRST_SET = UnaryExpression_FIRST_SET_init();
+
+    static private EnumSet<TokenType> UnaryExpression_FIRST_SET_init() {
+        return EnumSet.of(OPEN_PAREN, OPEN_BRACKET, OPEN_BRACE, DOT, PLUS, MINUS, EXCLAM, NULL, TRUE, FALSE, INTEGER, DECIMAL, IDENTIFIER, STRING_LITERAL, RAW_STRING);
+    }
+
+    static private final long UnaryExpression_FIRST_SET_MASK = 0x3ee00010039500L;
+
+    // /root/project/examples/freemarker/FEL.javacc:236:1
+    final public void UnaryExpression() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 9;
+        // Code for ExpansionChoice specified at /root/project/examples/freemarker/FEL.javacc:237:5
+        if (pendingRecovery) {
+            //            if (debugFaultTolerant) LOGGER.info("Re-synching to expansion at: /root/project/examples/freemarker/FEL.javacc:237:5");
+            recover$UnaryExpression();
+        }
+        if (nextTokenType()==PLUS||nextTokenType==MINUS) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:237:5
+            pushOntoCallStack(9, "/root/project/examples/freemarker/FEL.javacc", 237, 5);
+            try {
+                UnaryPlusMinusExpression();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (nextTokenType()==EXCLAM) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:239:5
+            pushOntoCallStack(9, "/root/project/examples/freemarker/FEL.javacc", 239, 5);
+            try {
+                NotExpression();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if ((first_set$FEL_javacc$241$5_MASK&(1L<<nextTokenType().ordinal()))!=0) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:241:5
+            pushOntoCallStack(9, "/root/project/examples/freemarker/FEL.javacc", 241, 5);
+            try {
+                DefaultToExpression();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else {
+            pushOntoCallStack(9, "/root/project/examples/freemarker/FEL.javacc", 237, 5);
+            throw new ParseException(this, UnaryExpression_FIRST_SET, parsingStack.toList());
+        }
+    }
+
+    // /root/project/examples/freemarker/FEL.javacc:244:1
+    final public void UnaryPlusMinusExpression() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 10;
+        if (pendingRecovery) {
+            //            if (debugFaultTolerant) LOGGER.info("Re-synching to expansion at: /root/project/examples/freemarker/FEL.javacc:245:5");
+            recover$UnaryPlusMinusExpression();
+        }
+        UnaryPlusMinusExpression UnaryPlusMinusExpression9 = null;
+        if (buildTree) {
+            UnaryPlusMinusExpression9 = new UnaryPlusMinusExpression();
+            openNodeScope(UnaryPlusMinusExpression9);
+        }
+        ParseException parseException398 = null;
+        int callStackSize399 = parsingStack.size();
+        try {
+            if (nextTokenType()==PLUS) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:245:6
+                consumeToken(PLUS, false, follow_set$FEL_javacc$245$6);
+            }
+            else if (nextTokenType()==MINUS) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:245:13
+                consumeToken(MINUS, false, follow_set$FEL_javacc$245$13);
+            }
+            else {
+                pushOntoCallStack(10, "/root/project/examples/freemarker/FEL.javacc", 245, 6);
+                throw new ParseException(this, first_set$FEL_javacc$245$6$, parsingStack.toList());
+            }
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:245:22
+            pushOntoCallStack(10, "/root/project/examples/freemarker/FEL.javacc", 245, 22);
+            try {
+                DefaultToExpression();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        catch(ParseException e) {
+            parseException398 = e;
+            if (isParserTolerant()) 
+            this.pendingRecovery = true;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize399);
+            if (UnaryPlusMinusExpression9!=null) {
+                if (parseException398==null) {
+                    closeNodeScope(UnaryPlusMinusExpression9, nodeArity() > 1);
+                }
+                else {
+                    closeNodeScope(UnaryPlusMinusExpression9, true);
+                    UnaryPlusMinusExpression9.setDirty(true);
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FEL.javacc:248:1
+    final public void NotExpression() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 11;
+        if (pendingRecovery) {
+            //            if (debugFaultTolerant) LOGGER.info("Re-synching to expansion at: /root/project/examples/freemarker/FEL.javacc:249:5");
+            recover$NotExpression();
+        }
+        NotExpression NotExpression10 = null;
+        if (buildTree) {
+            NotExpression10 = new NotExpression();
+            openNodeScope(NotExpression10);
+        }
+        ParseException parseException427 = null;
+        int callStackSize428 = parsingStack.size();
+        try {
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:249:5
+            consumeToken(EXCLAM, false, follow_set$FEL_javacc$249$5);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:250:5
+            pushOntoCallStack(11, "/root/project/examples/freemarker/FEL.javacc", 250, 5);
+            try {
+                DefaultToExpression();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        catch(ParseException e) {
+            parseException427 = e;
+            if (isParserTolerant()) 
+            this.pendingRecovery = true;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize428);
+            if (NotExpression10!=null) {
+                if (parseException427==null) {
+                    closeNodeScope(NotExpression10, nodeArity() > 1);
+                }
+                else {
+                    closeNodeScope(NotExpression10, true);
+                    NotExpression10.setDirty(true);
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FEL.javacc:253:1
+    final public void BuiltinVariable() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 12;
+        if (pendingRecovery) {
+            //            if (debugFaultTolerant) LOGGER.info("Re-synching to expansion at: /root/project/examples/freemarker/FEL.javacc:254:5");
+            recover$BuiltinVariable();
+        }
+        BuiltinVariable BuiltinVariable11 = null;
+        if (buildTree) {
+            BuiltinVariable11 = new BuiltinVariable();
+            openNodeScope(BuiltinVariable11);
+        }
+        ParseException parseException439 = null;
+        int callStackSize440 = parsingStack.size();
+        try {
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:254:5
+            consumeToken(DOT, false, follow_set$FEL_javacc$254$5);
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:254:10
+            EnumSet<TokenType> followSet450 = null;
+            if (outerFollowSet!=null) {
+                followSet450 = follow_set$FEL_javacc$254$10.clone();
+                followSet450.addAll(outerFollowSet);
+            }
+            consumeToken(IDENTIFIER, false, followSet450);
+        }
+        catch(ParseException e) {
+            parseException439 = e;
+            if (isParserTolerant()) 
+            this.pendingRecovery = true;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize440);
+            if (BuiltinVariable11!=null) {
+                if (parseException439==null) {
+                    closeNodeScope(BuiltinVariable11, nodeArity() > 1);
+                }
+                else {
+                    closeNodeScope(BuiltinVariable11, true);
+                    BuiltinVariable11.setDirty(true);
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final long DefaultToExpression_FIRST_SET_MASK = 0x3ee00000009500L;
+
+    // /root/project/examples/freemarker/FEL.javacc:257:1
+    final public void DefaultToExpression() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 13;
+        if (pendingRecovery) {
+            //            if (debugFaultTolerant) LOGGER.info("Re-synching to expansion at: /root/project/examples/freemarker/FEL.javacc:258:5");
+            recover$DefaultToExpression();
+        }
+        DefaultToExpression DefaultToExpression12 = null;
+        if (buildTree) {
+            DefaultToExpression12 = new DefaultToExpression();
+            openNodeScope(DefaultToExpression12);
+        }
+        ParseException parseException452 = null;
+        int callStackSize453 = parsingStack.size();
+        try {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:258:5
+            pushOntoCallStack(13, "/root/project/examples/freemarker/FEL.javacc", 258, 5);
+            if (outerFollowSet!=null) {
+                EnumSet<TokenType> newFollowSet = follow_set$FEL_javacc$258$5.clone();
+                newFollowSet.addAll(outerFollowSet);
+                outerFollowSet = newFollowSet;
+            }
+            try {
+                PrimaryExpression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified at /root/project/examples/freemarker/FEL.javacc:259:5
+            while (true) {
+                if (!((getToken(2).getType()!=IDENTIFIER||getToken(3).getType()!=EQUALS)&&scan$FEL_javacc$261$9())) break;
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:262:12
+                consumeToken(EXCLAM, false, follow_set$FEL_javacc$262$12);
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:262:20
+                pushOntoCallStack(13, "/root/project/examples/freemarker/FEL.javacc", 262, 20);
+                if (outerFollowSet!=null) {
+                    EnumSet<TokenType> newFollowSet = follow_set$FEL_javacc$262$20.clone();
+                    newFollowSet.addAll(outerFollowSet);
+                    outerFollowSet = newFollowSet;
+                }
+                try {
+                    PrimaryExpression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for ZeroOrOne specified at /root/project/examples/freemarker/FEL.javacc:264:5
+            if (nextTokenType()==EXCLAM) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:265:8
+                EnumSet<TokenType> followSet487 = null;
+                if (outerFollowSet!=null) {
+                    followSet487 = follow_set$FEL_javacc$265$8.clone();
+                    followSet487.addAll(outerFollowSet);
+                }
+                consumeToken(EXCLAM, false, followSet487);
+            }
+        }
+        catch(ParseException e) {
+            parseException452 = e;
+            if (isParserTolerant()) 
+            this.pendingRecovery = true;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize453);
+            if (DefaultToExpression12!=null) {
+                if (parseException452==null) {
+                    closeNodeScope(DefaultToExpression12, nodeArity() > 1);
+                }
+                else {
+                    closeNodeScope(DefaultToExpression12, true);
+                    DefaultToExpression12.setDirty(true);
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final long PrimaryExpression_FIRST_SET_MASK = 0x3ee00000009500L;
+
+    // /root/project/examples/freemarker/FEL.javacc:269:1
+    final public void PrimaryExpression() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 14;
+        if (pendingRecovery) {
+            //            if (debugFaultTolerant) LOGGER.info("Re-synching to expansion at: /root/project/examples/freemarker/FEL.javacc:270:3");
+            recover$PrimaryExpression();
+        }
+        PrimaryExpression PrimaryExpression13 = null;
+        if (buildTree) {
+            PrimaryExpression13 = new PrimaryExpression();
+            openNodeScope(PrimaryExpression13);
+        }
+        ParseException parseException489 = null;
+        int callStackSize490 = parsingStack.size();
+        try {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:270:3
+            pushOntoCallStack(14, "/root/project/examples/freemarker/FEL.javacc", 270, 3);
+            if (outerFollowSet!=null) {
+                EnumSet<TokenType> newFollowSet = follow_set$FEL_javacc$270$3.clone();
+                newFollowSet.addAll(outerFollowSet);
+                outerFollowSet = newFollowSet;
+            }
+            try {
+                BaseExpression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified at /root/project/examples/freemarker/FEL.javacc:271:3
+            while (true) {
+                // Code for ExpansionChoice specified at /root/project/examples/freemarker/FEL.javacc:272:7
+                if (nextTokenType()==DOT) {
+                    // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:272:7
+                    pushOntoCallStack(14, "/root/project/examples/freemarker/FEL.javacc", 272, 7);
+                    if (outerFollowSet!=null) {
+                        EnumSet<TokenType> newFollowSet = follow_set$FEL_javacc$272$7.clone();
+                        newFollowSet.addAll(outerFollowSet);
+                        outerFollowSet = newFollowSet;
+                    }
+                    try {
+                        DotKey();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                else if (nextTokenType()==OPEN_BRACKET) {
+                    // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:274:7
+                    pushOntoCallStack(14, "/root/project/examples/freemarker/FEL.javacc", 274, 7);
+                    if (outerFollowSet!=null) {
+                        EnumSet<TokenType> newFollowSet = follow_set$FEL_javacc$274$7.clone();
+                        newFollowSet.addAll(outerFollowSet);
+                        outerFollowSet = newFollowSet;
+                    }
+                    try {
+                        DynamicKey();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                else if (nextTokenType()==OPEN_PAREN) {
+                    // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:276:7
+                    pushOntoCallStack(14, "/root/project/examples/freemarker/FEL.javacc", 276, 7);
+                    if (outerFollowSet!=null) {
+                        EnumSet<TokenType> newFollowSet = follow_set$FEL_javacc$276$7.clone();
+                        newFollowSet.addAll(outerFollowSet);
+                        outerFollowSet = newFollowSet;
+                    }
+                    try {
+                        MethodInvoke();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                else if (nextTokenType()==BUILT_IN) {
+                    // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:278:7
+                    pushOntoCallStack(14, "/root/project/examples/freemarker/FEL.javacc", 278, 7);
+                    if (outerFollowSet!=null) {
+                        EnumSet<TokenType> newFollowSet = follow_set$FEL_javacc$278$7.clone();
+                        newFollowSet.addAll(outerFollowSet);
+                        outerFollowSet = newFollowSet;
+                    }
+                    try {
+                        BuiltIn();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                else if (nextTokenType()==EXISTS_OPERATOR) {
+                    // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:280:7
+                    pushOntoCallStack(14, "/root/project/examples/freemarker/FEL.javacc", 280, 7);
+                    if (outerFollowSet!=null) {
+                        EnumSet<TokenType> newFollowSet = follow_set$FEL_javacc$280$7.clone();
+                        newFollowSet.addAll(outerFollowSet);
+                        outerFollowSet = newFollowSet;
+                    }
+                    try {
+                        Exists();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                else {
+                    break;
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException489 = e;
+            if (isParserTolerant()) 
+            this.pendingRecovery = true;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize490);
+            if (PrimaryExpression13!=null) {
+                if (parseException489==null) {
+                    closeNodeScope(PrimaryExpression13, nodeArity() > 1);
+                }
+                else {
+                    closeNodeScope(PrimaryExpression13, true);
+                    PrimaryExpression13.setDirty(true);
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final EnumSet<TokenType> BaseExpression_FIRST_SET = BaseExpression_FIRST_SET_init();
+
+    static private EnumSet<TokenType> BaseExpression_FIRST_SET_init() {
+        return EnumSet.of(OPEN_PAREN, OPEN_BRACKET, OPEN_BRACE, DOT, NULL, TRUE, FALSE, INTEGER, DECIMAL, IDENTIFIER, STRING_LITERAL, RAW_STRING);
+    }
+
+    static private final long BaseExpression_FIRST_SET_MASK = 0x3ee00000009500L;
+
+    // /root/project/examples/freemarker/FEL.javacc:284:1
+    final public void BaseExpression() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 15;
+        // Code for ExpansionChoice specified at /root/project/examples/freemarker/FEL.javacc:285:5
+        if (pendingRecovery) {
+            //            if (debugFaultTolerant) LOGGER.info("Re-synching to expansion at: /root/project/examples/freemarker/FEL.javacc:285:5");
+            recover$BaseExpression();
+        }
+        BaseExpression BaseExpression14 = null;
+        if (buildTree) {
+            BaseExpression14 = new BaseExpression();
+            openNodeScope(BaseExpression14);
+        }
+        ParseException parseException545 = null;
+        int callStackSize546 = parsingStack.size();
+        try {
+            if (nextTokenType()==IDENTIFIER) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:285:5
+                EnumSet<TokenType> followSet556 = null;
+                if (outerFollowSet!=null) {
+                    followSet556 = follow_set$FEL_javacc$285$5.clone();
+                    followSet556.addAll(outerFollowSet);
+                }
+                consumeToken(IDENTIFIER, false, followSet556);
+            }
+            else if (nextTokenType()==INTEGER||nextTokenType==DECIMAL) {
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:287:5
+                pushOntoCallStack(15, "/root/project/examples/freemarker/FEL.javacc", 287, 5);
+                try {
+                    NumberLiteral();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (nextTokenType()==OPEN_BRACE) {
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:289:5
+                pushOntoCallStack(15, "/root/project/examples/freemarker/FEL.javacc", 289, 5);
+                try {
+                    HashLiteral();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (nextTokenType()==STRING_LITERAL||nextTokenType==RAW_STRING) {
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:291:5
+                pushOntoCallStack(15, "/root/project/examples/freemarker/FEL.javacc", 291, 5);
+                try {
+                    StringLiteral();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (nextTokenType()==TRUE||nextTokenType==FALSE) {
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:293:5
+                pushOntoCallStack(15, "/root/project/examples/freemarker/FEL.javacc", 293, 5);
+                try {
+                    BooleanLiteral();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (nextTokenType()==NULL) {
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:295:5
+                pushOntoCallStack(15, "/root/project/examples/freemarker/FEL.javacc", 295, 5);
+                try {
+                    NullLiteral();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (nextTokenType()==OPEN_BRACKET) {
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:297:5
+                pushOntoCallStack(15, "/root/project/examples/freemarker/FEL.javacc", 297, 5);
+                try {
+                    ListLiteral();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (nextTokenType()==OPEN_PAREN) {
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:299:5
+                pushOntoCallStack(15, "/root/project/examples/freemarker/FEL.javacc", 299, 5);
+                try {
+                    Parenthesis();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (nextTokenType()==DOT) {
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:301:5
+                pushOntoCallStack(15, "/root/project/examples/freemarker/FEL.javacc", 301, 5);
+                try {
+                    BuiltinVariable();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else {
+                pushOntoCallStack(15, "/root/project/examples/freemarker/FEL.javacc", 285, 5);
+                throw new ParseException(this, BaseExpression_FIRST_SET, parsingStack.toList());
+            }
+        }
+        catch(ParseException e) {
+            parseException545 = e;
+            if (isParserTolerant()) 
+            this.pendingRecovery = true;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize546);
+            if (BaseExpression14!=null) {
+                if (parseException545==null) {
+                    closeNodeScope(BaseExpression14, nodeArity() > 1);
+                }
+                else {
+                    closeNodeScope(BaseExpression14, true);
+                    BaseExpression14.setDirty(true);
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FEL.javacc:305:1
+    final public void DotKey() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 16;
+        if (pendingRecovery) {
+            //            if (debugFaultTolerant) LOGGER.info("Re-synching to expansion at: /root/project/examples/freemarker/FEL.javacc:306:5");
+            recover$DotKey();
+        }
+        // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:306:5
+        consumeToken(DOT, false, follow_set$FEL_javacc$306$5);
+        if (nextTokenType()==IDENTIFIER) {
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:307:6
+            EnumSet<TokenType> followSet642 = null;
+            if (outerFollowSet!=null) {
+                followSet642 = follow_set$FEL_javacc$307$6.clone();
+                followSet642.addAll(outerFollowSet);
+            }
+            consumeToken(IDENTIFIER, false, followSet642);
+        }
+        else if (nextTokenType()==TIMES) {
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:307:19
+            EnumSet<TokenType> followSet651 = null;
+            if (outerFollowSet!=null) {
+                followSet651 = follow_set$FEL_javacc$307$19.clone();
+                followSet651.addAll(outerFollowSet);
+            }
+            consumeToken(TIMES, false, followSet651);
+        }
+        else {
+            pushOntoCallStack(16, "/root/project/examples/freemarker/FEL.javacc", 307, 6);
+            throw new ParseException(this, first_set$FEL_javacc$307$6$, parsingStack.toList());
+        }
+    }
+
+    // /root/project/examples/freemarker/FEL.javacc:310:1
+    final public void DynamicKey() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 17;
+        if (pendingRecovery) {
+            //            if (debugFaultTolerant) LOGGER.info("Re-synching to expansion at: /root/project/examples/freemarker/FEL.javacc:311:5");
+            recover$DynamicKey();
+        }
+        // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:311:5
+        consumeToken(OPEN_BRACKET, false, follow_set$FEL_javacc$311$5);
+        // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:311:19
+        pushOntoCallStack(17, "/root/project/examples/freemarker/FEL.javacc", 311, 19);
+        outerFollowSet = follow_set$FEL_javacc$311$19;
+        try {
+            Expression();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:311:29
+        EnumSet<TokenType> followSet668 = null;
+        if (outerFollowSet!=null) {
+            followSet668 = follow_set$FEL_javacc$311$29.clone();
+            followSet668.addAll(outerFollowSet);
+        }
+        consumeToken(CLOSE_BRACKET, false, followSet668);
+    }
+
+    // /root/project/examples/freemarker/FEL.javacc:314:1
+    final public void MethodInvoke() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 18;
+        if (pendingRecovery) {
+            //            if (debugFaultTolerant) LOGGER.info("Re-synching to expansion at: /root/project/examples/freemarker/FEL.javacc:315:3");
+            recover$MethodInvoke();
+        }
+        // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:315:3
+        consumeToken(OPEN_PAREN, false, follow_set$FEL_javacc$315$3);
+        // Code for ZeroOrOne specified at /root/project/examples/freemarker/FEL.javacc:315:15
+        if ((first_set$FEL_javacc$315$16_MASK&(1L<<nextTokenType().ordinal()))!=0) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:315:16
+            pushOntoCallStack(18, "/root/project/examples/freemarker/FEL.javacc", 315, 16);
+            outerFollowSet = follow_set$FEL_javacc$315$16$;
+            try {
+                ArgsList();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:315:25
+        EnumSet<TokenType> followSet693 = null;
+        if (outerFollowSet!=null) {
+            followSet693 = follow_set$FEL_javacc$315$25.clone();
+            followSet693.addAll(outerFollowSet);
+        }
+        consumeToken(CLOSE_PAREN, false, followSet693);
+    }
+
+    // /root/project/examples/freemarker/FEL.javacc:318:1
+    final public void BuiltIn() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 19;
+        if (pendingRecovery) {
+            //            if (debugFaultTolerant) LOGGER.info("Re-synching to expansion at: /root/project/examples/freemarker/FEL.javacc:319:5");
+            recover$BuiltIn();
+        }
+        // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:319:5
+        consumeToken(BUILT_IN, false, follow_set$FEL_javacc$319$5);
+        // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:319:15
+        EnumSet<TokenType> followSet706 = null;
+        if (outerFollowSet!=null) {
+            followSet706 = follow_set$FEL_javacc$319$15.clone();
+            followSet706.addAll(outerFollowSet);
+        }
+        consumeToken(IDENTIFIER, false, followSet706);
+    }
+
+    // /root/project/examples/freemarker/FEL.javacc:322:1
+    final public void Exists() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 20;
+        if (pendingRecovery) {
+            //            if (debugFaultTolerant) LOGGER.info("Re-synching to expansion at: /root/project/examples/freemarker/FEL.javacc:323:5");
+            recover$Exists();
+        }
+        Exists Exists15 = null;
+        if (buildTree) {
+            Exists15 = new Exists();
+            openNodeScope(Exists15);
+        }
+        ParseException parseException708 = null;
+        int callStackSize709 = parsingStack.size();
+        try {
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:323:5
+            EnumSet<TokenType> followSet715 = null;
+            if (outerFollowSet!=null) {
+                followSet715 = follow_set$FEL_javacc$323$5.clone();
+                followSet715.addAll(outerFollowSet);
+            }
+            consumeToken(EXISTS_OPERATOR, false, followSet715);
+        }
+        catch(ParseException e) {
+            parseException708 = e;
+            if (isParserTolerant()) 
+            this.pendingRecovery = true;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize709);
+            if (Exists15!=null) {
+                if (parseException708==null) {
+                    closeNodeScope(Exists15, nodeArity() > 1);
+                }
+                else {
+                    closeNodeScope(Exists15, true);
+                    Exists15.setDirty(true);
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FEL.javacc:326:1
+    final public void ListLiteral() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 21;
+        if (pendingRecovery) {
+            //            if (debugFaultTolerant) LOGGER.info("Re-synching to expansion at: /root/project/examples/freemarker/FEL.javacc:327:5");
+            recover$ListLiteral();
+        }
+        ListLiteral ListLiteral16 = null;
+        if (buildTree) {
+            ListLiteral16 = new ListLiteral();
+            openNodeScope(ListLiteral16);
+        }
+        ParseException parseException717 = null;
+        int callStackSize718 = parsingStack.size();
+        try {
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:327:5
+            consumeToken(OPEN_BRACKET, false, follow_set$FEL_javacc$327$5);
+            // Code for ZeroOrOne specified at /root/project/examples/freemarker/FEL.javacc:328:5
+            if ((first_set$FEL_javacc$328$6_MASK&(1L<<nextTokenType().ordinal()))!=0) {
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:328:6
+                pushOntoCallStack(21, "/root/project/examples/freemarker/FEL.javacc", 328, 6);
+                outerFollowSet = follow_set$FEL_javacc$328$6$;
+                try {
+                    Expression();
+                }
+                finally {
+                    popCallStack();
+                }
+                // Code for ZeroOrMore specified at /root/project/examples/freemarker/FEL.javacc:328:17
+                while (true) {
+                    if (!((first_set$FEL_javacc$328$18_MASK&(1L<<nextTokenType().ordinal()))!=0)) break;
+                    // Code for ZeroOrOne specified at /root/project/examples/freemarker/FEL.javacc:328:18
+                    if (nextTokenType()==COMMA) {
+                        // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:328:19
+                        consumeToken(COMMA, false, follow_set$FEL_javacc$328$19);
+                    }
+                    // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:328:27
+                    pushOntoCallStack(21, "/root/project/examples/freemarker/FEL.javacc", 328, 27);
+                    outerFollowSet = follow_set$FEL_javacc$328$27;
+                    try {
+                        Expression();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:329:5
+            EnumSet<TokenType> followSet764 = null;
+            if (outerFollowSet!=null) {
+                followSet764 = follow_set$FEL_javacc$329$5.clone();
+                followSet764.addAll(outerFollowSet);
+            }
+            consumeToken(CLOSE_BRACKET, false, followSet764);
+        }
+        catch(ParseException e) {
+            parseException717 = e;
+            if (isParserTolerant()) 
+            this.pendingRecovery = true;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize718);
+            if (ListLiteral16!=null) {
+                if (parseException717==null) {
+                    closeNodeScope(ListLiteral16, nodeArity() > 1);
+                }
+                else {
+                    closeNodeScope(ListLiteral16, true);
+                    ListLiteral16.setDirty(true);
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final EnumSet<TokenType> StringLiteral_FIRST_SET = EnumSet.of(STRING_LITERAL, RAW_STRING);
+
+    // /root/project/examples/freemarker/FEL.javacc:332:1
+    final public void StringLiteral() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 22;
+        // Code for ExpansionChoice specified at /root/project/examples/freemarker/FEL.javacc:333:5
+        if (pendingRecovery) {
+            //            if (debugFaultTolerant) LOGGER.info("Re-synching to expansion at: /root/project/examples/freemarker/FEL.javacc:333:5");
+            recover$StringLiteral();
+        }
+        StringLiteral StringLiteral17 = null;
+        if (buildTree) {
+            StringLiteral17 = new StringLiteral();
+            openNodeScope(StringLiteral17);
+        }
+        ParseException parseException766 = null;
+        int callStackSize767 = parsingStack.size();
+        try {
+            if (nextTokenType()==STRING_LITERAL) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:333:5
+                EnumSet<TokenType> followSet777 = null;
+                if (outerFollowSet!=null) {
+                    followSet777 = follow_set$FEL_javacc$333$5.clone();
+                    followSet777.addAll(outerFollowSet);
+                }
+                consumeToken(STRING_LITERAL, false, followSet777);
+            }
+            else if (nextTokenType()==RAW_STRING) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:333:22
+                EnumSet<TokenType> followSet786 = null;
+                if (outerFollowSet!=null) {
+                    followSet786 = follow_set$FEL_javacc$333$22.clone();
+                    followSet786.addAll(outerFollowSet);
+                }
+                consumeToken(RAW_STRING, false, followSet786);
+            }
+            else {
+                pushOntoCallStack(22, "/root/project/examples/freemarker/FEL.javacc", 333, 5);
+                throw new ParseException(this, StringLiteral_FIRST_SET, parsingStack.toList());
+            }
+        }
+        catch(ParseException e) {
+            parseException766 = e;
+            if (isParserTolerant()) 
+            this.pendingRecovery = true;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize767);
+            if (StringLiteral17!=null) {
+                if (parseException766==null) {
+                    closeNodeScope(StringLiteral17, nodeArity() > 1);
+                }
+                else {
+                    closeNodeScope(StringLiteral17, true);
+                    StringLiteral17.setDirty(true);
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FEL.javacc:337:1
+    final public void HashLiteral() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 23;
+        if (pendingRecovery) {
+            //            if (debugFaultTolerant) LOGGER.info("Re-synching to expansion at: /root/project/examples/freemarker/FEL.javacc:338:5");
+            recover$HashLiteral();
+        }
+        HashLiteral HashLiteral18 = null;
+        if (buildTree) {
+            HashLiteral18 = new HashLiteral();
+            openNodeScope(HashLiteral18);
+        }
+        ParseException parseException788 = null;
+        int callStackSize789 = parsingStack.size();
+        try {
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:338:5
+            consumeToken(OPEN_BRACE, false, follow_set$FEL_javacc$338$5);
+            // Code for ZeroOrOne specified at /root/project/examples/freemarker/FEL.javacc:339:5
+            if ((first_set$FEL_javacc$340$8_MASK&(1L<<nextTokenType().ordinal()))!=0) {
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:340:8
+                pushOntoCallStack(23, "/root/project/examples/freemarker/FEL.javacc", 340, 8);
+                outerFollowSet = follow_set$FEL_javacc$340$8$;
+                try {
+                    Expression();
+                }
+                finally {
+                    popCallStack();
+                }
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:340:19
+                consumeToken(COLON, false, follow_set$FEL_javacc$340$19);
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:340:27
+                pushOntoCallStack(23, "/root/project/examples/freemarker/FEL.javacc", 340, 27);
+                outerFollowSet = follow_set$FEL_javacc$340$27;
+                try {
+                    Expression();
+                }
+                finally {
+                    popCallStack();
+                }
+                // Code for ZeroOrMore specified at /root/project/examples/freemarker/FEL.javacc:341:8
+                while (true) {
+                    if (!(nextTokenType()==COMMA)) break;
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:341:9
+                    consumeToken(COMMA, false, follow_set$FEL_javacc$341$9);
+                    // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:341:17
+                    pushOntoCallStack(23, "/root/project/examples/freemarker/FEL.javacc", 341, 17);
+                    outerFollowSet = follow_set$FEL_javacc$341$17;
+                    try {
+                        Expression();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:341:28
+                    consumeToken(COLON, false, follow_set$FEL_javacc$341$28);
+                    // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:341:36
+                    pushOntoCallStack(23, "/root/project/examples/freemarker/FEL.javacc", 341, 36);
+                    outerFollowSet = follow_set$FEL_javacc$341$36;
+                    try {
+                        Expression();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:343:5
+            EnumSet<TokenType> followSet843 = null;
+            if (outerFollowSet!=null) {
+                followSet843 = follow_set$FEL_javacc$343$5.clone();
+                followSet843.addAll(outerFollowSet);
+            }
+            consumeToken(CLOSE_BRACE, false, followSet843);
+        }
+        catch(ParseException e) {
+            parseException788 = e;
+            if (isParserTolerant()) 
+            this.pendingRecovery = true;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize789);
+            if (HashLiteral18!=null) {
+                if (parseException788==null) {
+                    closeNodeScope(HashLiteral18, nodeArity() > 1);
+                }
+                else {
+                    closeNodeScope(HashLiteral18, true);
+                    HashLiteral18.setDirty(true);
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final EnumSet<TokenType> NumberLiteral_FIRST_SET = EnumSet.of(INTEGER, DECIMAL);
+
+    // /root/project/examples/freemarker/FEL.javacc:346:1
+    final public void NumberLiteral() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 24;
+        // Code for ExpansionChoice specified at /root/project/examples/freemarker/FEL.javacc:347:5
+        if (pendingRecovery) {
+            //            if (debugFaultTolerant) LOGGER.info("Re-synching to expansion at: /root/project/examples/freemarker/FEL.javacc:347:5");
+            recover$NumberLiteral();
+        }
+        NumberLiteral NumberLiteral19 = null;
+        if (buildTree) {
+            NumberLiteral19 = new NumberLiteral();
+            openNodeScope(NumberLiteral19);
+        }
+        ParseException parseException845 = null;
+        int callStackSize846 = parsingStack.size();
+        try {
+            if (nextTokenType()==INTEGER) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:347:5
+                EnumSet<TokenType> followSet856 = null;
+                if (outerFollowSet!=null) {
+                    followSet856 = follow_set$FEL_javacc$347$5.clone();
+                    followSet856.addAll(outerFollowSet);
+                }
+                consumeToken(INTEGER, false, followSet856);
+            }
+            else if (nextTokenType()==DECIMAL) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:347:15
+                EnumSet<TokenType> followSet865 = null;
+                if (outerFollowSet!=null) {
+                    followSet865 = follow_set$FEL_javacc$347$15.clone();
+                    followSet865.addAll(outerFollowSet);
+                }
+                consumeToken(DECIMAL, false, followSet865);
+            }
+            else {
+                pushOntoCallStack(24, "/root/project/examples/freemarker/FEL.javacc", 347, 5);
+                throw new ParseException(this, NumberLiteral_FIRST_SET, parsingStack.toList());
+            }
+        }
+        catch(ParseException e) {
+            parseException845 = e;
+            if (isParserTolerant()) 
+            this.pendingRecovery = true;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize846);
+            if (NumberLiteral19!=null) {
+                if (parseException845==null) {
+                    closeNodeScope(NumberLiteral19, nodeArity() > 1);
+                }
+                else {
+                    closeNodeScope(NumberLiteral19, true);
+                    NumberLiteral19.setDirty(true);
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final EnumSet<TokenType> BooleanLiteral_FIRST_SET = EnumSet.of(TRUE, FALSE);
+
+    // /root/project/examples/freemarker/FEL.javacc:350:1
+    final public void BooleanLiteral() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 25;
+        // Code for ExpansionChoice specified at /root/project/examples/freemarker/FEL.javacc:351:5
+        if (pendingRecovery) {
+            //            if (debugFaultTolerant) LOGGER.info("Re-synching to expansion at: /root/project/examples/freemarker/FEL.javacc:351:5");
+            recover$BooleanLiteral();
+        }
+        BooleanLiteral BooleanLiteral20 = null;
+        if (buildTree) {
+            BooleanLiteral20 = new BooleanLiteral();
+            openNodeScope(BooleanLiteral20);
+        }
+        ParseException parseException867 = null;
+        int callStackSize868 = parsingStack.size();
+        try {
+            if (nextTokenType()==TRUE) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:351:5
+                EnumSet<TokenType> followSet878 = null;
+                if (outerFollowSet!=null) {
+                    followSet878 = follow_set$FEL_javacc$351$5.clone();
+                    followSet878.addAll(outerFollowSet);
+                }
+                consumeToken(TRUE, false, followSet878);
+            }
+            else if (nextTokenType()==FALSE) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:351:12
+                EnumSet<TokenType> followSet887 = null;
+                if (outerFollowSet!=null) {
+                    followSet887 = follow_set$FEL_javacc$351$12.clone();
+                    followSet887.addAll(outerFollowSet);
+                }
+                consumeToken(FALSE, false, followSet887);
+            }
+            else {
+                pushOntoCallStack(25, "/root/project/examples/freemarker/FEL.javacc", 351, 5);
+                throw new ParseException(this, BooleanLiteral_FIRST_SET, parsingStack.toList());
+            }
+        }
+        catch(ParseException e) {
+            parseException867 = e;
+            if (isParserTolerant()) 
+            this.pendingRecovery = true;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize868);
+            if (BooleanLiteral20!=null) {
+                if (parseException867==null) {
+                    closeNodeScope(BooleanLiteral20, nodeArity() > 1);
+                }
+                else {
+                    closeNodeScope(BooleanLiteral20, true);
+                    BooleanLiteral20.setDirty(true);
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FEL.javacc:354:1
+    final public void NullLiteral() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 26;
+        if (pendingRecovery) {
+            //            if (debugFaultTolerant) LOGGER.info("Re-synching to expansion at: /root/project/examples/freemarker/FEL.javacc:354:15");
+            recover$NullLiteral();
+        }
+        NullLiteral NullLiteral21 = null;
+        if (buildTree) {
+            NullLiteral21 = new NullLiteral();
+            openNodeScope(NullLiteral21);
+        }
+        ParseException parseException889 = null;
+        int callStackSize890 = parsingStack.size();
+        try {
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:354:15
+            EnumSet<TokenType> followSet896 = null;
+            if (outerFollowSet!=null) {
+                followSet896 = follow_set$FEL_javacc$354$15.clone();
+                followSet896.addAll(outerFollowSet);
+            }
+            consumeToken(NULL, false, followSet896);
+        }
+        catch(ParseException e) {
+            parseException889 = e;
+            if (isParserTolerant()) 
+            this.pendingRecovery = true;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize890);
+            if (NullLiteral21!=null) {
+                if (parseException889==null) {
+                    closeNodeScope(NullLiteral21, nodeArity() > 1);
+                }
+                else {
+                    closeNodeScope(NullLiteral21, true);
+                    NullLiteral21.setDirty(true);
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FEL.javacc:356:1
+    final public void Parenthesis() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 27;
+        if (pendingRecovery) {
+            //            if (debugFaultTolerant) LOGGER.info("Re-synching to expansion at: /root/project/examples/freemarker/FEL.javacc:357:5");
+            recover$Parenthesis();
+        }
+        Parenthesis Parenthesis22 = null;
+        if (buildTree) {
+            Parenthesis22 = new Parenthesis();
+            openNodeScope(Parenthesis22);
+        }
+        ParseException parseException898 = null;
+        int callStackSize899 = parsingStack.size();
+        try {
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:357:5
+            consumeToken(OPEN_PAREN, false, follow_set$FEL_javacc$357$5);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:357:18
+            pushOntoCallStack(27, "/root/project/examples/freemarker/FEL.javacc", 357, 18);
+            outerFollowSet = follow_set$FEL_javacc$357$18;
+            try {
+                Expression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:357:29
+            EnumSet<TokenType> followSet913 = null;
+            if (outerFollowSet!=null) {
+                followSet913 = follow_set$FEL_javacc$357$29.clone();
+                followSet913.addAll(outerFollowSet);
+            }
+            consumeToken(CLOSE_PAREN, false, followSet913);
+        }
+        catch(ParseException e) {
+            parseException898 = e;
+            if (isParserTolerant()) 
+            this.pendingRecovery = true;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize899);
+            if (Parenthesis22!=null) {
+                if (parseException898==null) {
+                    closeNodeScope(Parenthesis22, nodeArity() > 1);
+                }
+                else {
+                    closeNodeScope(Parenthesis22, true);
+                    Parenthesis22.setDirty(true);
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final long ArgsList_FIRST_SET_MASK = 0x3ee00010039500L;
+
+    // /root/project/examples/freemarker/FEL.javacc:360:1
+    final public void ArgsList() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 28;
+        if (pendingRecovery) {
+            //            if (debugFaultTolerant) LOGGER.info("Re-synching to expansion at: /root/project/examples/freemarker/FEL.javacc:361:5");
+            recover$ArgsList();
+        }
+        if (scan$FEL_javacc$362$9()) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:363:9
+            pushOntoCallStack(28, "/root/project/examples/freemarker/FEL.javacc", 363, 9);
+            try {
+                NamedArgsList();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if ((first_set$FEL_javacc$365$9_MASK&(1L<<nextTokenType().ordinal()))!=0) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:365:9
+            pushOntoCallStack(28, "/root/project/examples/freemarker/FEL.javacc", 365, 9);
+            try {
+                PositionalArgsList();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else {
+            pushOntoCallStack(28, "/root/project/examples/freemarker/FEL.javacc", 362, 9);
+            throw new ParseException(this, first_set$FEL_javacc$362$9, parsingStack.toList());
+        }
+    }
+
+    // /root/project/examples/freemarker/FEL.javacc:369:1
+    final public void NamedArgsList() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 29;
+        if (pendingRecovery) {
+            //            if (debugFaultTolerant) LOGGER.info("Re-synching to expansion at: /root/project/examples/freemarker/FEL.javacc:370:5");
+            recover$NamedArgsList();
+        }
+        NamedArgsList NamedArgsList23 = null;
+        if (buildTree) {
+            NamedArgsList23 = new NamedArgsList();
+            openNodeScope(NamedArgsList23);
+        }
+        ParseException parseException940 = null;
+        int callStackSize941 = parsingStack.size();
+        try {
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:370:5
+            consumeToken(IDENTIFIER, false, follow_set$FEL_javacc$370$5);
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:371:5
+            consumeToken(EQUALS, false, follow_set$FEL_javacc$371$5);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:372:5
+            pushOntoCallStack(29, "/root/project/examples/freemarker/FEL.javacc", 372, 5);
+            if (outerFollowSet!=null) {
+                EnumSet<TokenType> newFollowSet = follow_set$FEL_javacc$372$5.clone();
+                newFollowSet.addAll(outerFollowSet);
+                outerFollowSet = newFollowSet;
+            }
+            try {
+                Expression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified at /root/project/examples/freemarker/FEL.javacc:373:5
+            while (true) {
+                if (!(nextTokenType()==COMMA||nextTokenType==IDENTIFIER)) break;
+                // Code for ZeroOrOne specified at /root/project/examples/freemarker/FEL.javacc:374:8
+                if (nextTokenType()==COMMA) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:374:9
+                    consumeToken(COMMA, false, follow_set$FEL_javacc$374$9);
+                }
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:375:8
+                consumeToken(IDENTIFIER, false, follow_set$FEL_javacc$375$8);
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:376:8
+                consumeToken(EQUALS, false, follow_set$FEL_javacc$376$8);
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:377:8
+                pushOntoCallStack(29, "/root/project/examples/freemarker/FEL.javacc", 377, 8);
+                if (outerFollowSet!=null) {
+                    EnumSet<TokenType> newFollowSet = follow_set$FEL_javacc$377$8.clone();
+                    newFollowSet.addAll(outerFollowSet);
+                    outerFollowSet = newFollowSet;
+                }
+                try {
+                    Expression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException940 = e;
+            if (isParserTolerant()) 
+            this.pendingRecovery = true;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize941);
+            if (NamedArgsList23!=null) {
+                if (parseException940==null) {
+                    closeNodeScope(NamedArgsList23, nodeArity() > 1);
+                }
+                else {
+                    closeNodeScope(NamedArgsList23, true);
+                    NamedArgsList23.setDirty(true);
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final long PositionalArgsList_FIRST_SET_MASK = 0x3ee00010039500L;
+
+    // /root/project/examples/freemarker/FEL.javacc:381:1
+    final public void PositionalArgsList() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 30;
+        if (pendingRecovery) {
+            //            if (debugFaultTolerant) LOGGER.info("Re-synching to expansion at: /root/project/examples/freemarker/FEL.javacc:382:5");
+            recover$PositionalArgsList();
+        }
+        PositionalArgsList PositionalArgsList24 = null;
+        if (buildTree) {
+            PositionalArgsList24 = new PositionalArgsList();
+            openNodeScope(PositionalArgsList24);
+        }
+        ParseException parseException988 = null;
+        int callStackSize989 = parsingStack.size();
+        try {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:382:5
+            pushOntoCallStack(30, "/root/project/examples/freemarker/FEL.javacc", 382, 5);
+            if (outerFollowSet!=null) {
+                EnumSet<TokenType> newFollowSet = follow_set$FEL_javacc$382$5.clone();
+                newFollowSet.addAll(outerFollowSet);
+                outerFollowSet = newFollowSet;
+            }
+            try {
+                Expression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified at /root/project/examples/freemarker/FEL.javacc:383:5
+            while (true) {
+                if (!((first_set$FEL_javacc$384$8_MASK&(1L<<nextTokenType().ordinal()))!=0)) break;
+                // Code for ZeroOrOne specified at /root/project/examples/freemarker/FEL.javacc:384:8
+                if (nextTokenType()==COMMA) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:384:9
+                    consumeToken(COMMA, false, follow_set$FEL_javacc$384$9);
+                }
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:385:8
+                pushOntoCallStack(30, "/root/project/examples/freemarker/FEL.javacc", 385, 8);
+                if (outerFollowSet!=null) {
+                    EnumSet<TokenType> newFollowSet = follow_set$FEL_javacc$385$8.clone();
+                    newFollowSet.addAll(outerFollowSet);
+                    outerFollowSet = newFollowSet;
+                }
+                try {
+                    Expression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException988 = e;
+            if (isParserTolerant()) 
+            this.pendingRecovery = true;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize989);
+            if (PositionalArgsList24!=null) {
+                if (parseException988==null) {
+                    closeNodeScope(PositionalArgsList24, nodeArity() > 1);
+                }
+                else {
+                    closeNodeScope(PositionalArgsList24, true);
+                    PositionalArgsList24.setDirty(true);
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    private void recover$Input() {
+        Token initialToken = lastConsumedToken;
+        java.util.List<Token> skippedTokens = new java.util.ArrayList<> ();
+        boolean success = false;
+        while (lastConsumedToken.getType()!=EOF) {
+            if ((Input_FIRST_SET_MASK&(1L<<nextTokenType().ordinal()))!=0) {
+                success = true;
+                break;
+            }
+            lastConsumedToken = nextToken(lastConsumedToken);
+            skippedTokens.add(lastConsumedToken);
+        }
+        if (!success&&!skippedTokens.isEmpty()) {
+            lastConsumedToken = initialToken;
+        }
+        if (success&&!skippedTokens.isEmpty()) {
+            InvalidNode iv = new InvalidNode();
+            iv.copyLocationInfo(skippedTokens.get(0));
+            for (Token tok : skippedTokens) {
+                iv.addChild(tok);
+                iv.setEndOffset(tok.getEndOffset());
+            }
+            //             if (debugFaultTolerant) {
+            //                LOGGER.info("Skipping " + skippedTokens.size() + " tokens starting at: " + skippedTokens.get(0).getLocation());
+            //             }
+            pushNode(iv);
+        }
+        pendingRecovery = !success;
+    }
+
+    private void recover$Expression() {
+        Token initialToken = lastConsumedToken;
+        java.util.List<Token> skippedTokens = new java.util.ArrayList<> ();
+        boolean success = false;
+        while (lastConsumedToken.getType()!=EOF) {
+            if ((Expression_FIRST_SET_MASK&(1L<<nextTokenType().ordinal()))!=0) {
+                success = true;
+                break;
+            }
+            lastConsumedToken = nextToken(lastConsumedToken);
+            skippedTokens.add(lastConsumedToken);
+        }
+        if (!success&&!skippedTokens.isEmpty()) {
+            lastConsumedToken = initialToken;
+        }
+        if (success&&!skippedTokens.isEmpty()) {
+            InvalidNode iv = new InvalidNode();
+            iv.copyLocationInfo(skippedTokens.get(0));
+            for (Token tok : skippedTokens) {
+                iv.addChild(tok);
+                iv.setEndOffset(tok.getEndOffset());
+            }
+            //             if (debugFaultTolerant) {
+            //                LOGGER.info("Skipping " + skippedTokens.size() + " tokens starting at: " + skippedTokens.get(0).getLocation());
+            //             }
+            pushNode(iv);
+        }
+        pendingRecovery = !success;
+    }
+
+    private void recover$OrExpression() {
+        Token initialToken = lastConsumedToken;
+        java.util.List<Token> skippedTokens = new java.util.ArrayList<> ();
+        boolean success = false;
+        while (lastConsumedToken.getType()!=EOF) {
+            if ((OrExpression_FIRST_SET_MASK&(1L<<nextTokenType().ordinal()))!=0) {
+                success = true;
+                break;
+            }
+            lastConsumedToken = nextToken(lastConsumedToken);
+            skippedTokens.add(lastConsumedToken);
+        }
+        if (!success&&!skippedTokens.isEmpty()) {
+            lastConsumedToken = initialToken;
+        }
+        if (success&&!skippedTokens.isEmpty()) {
+            InvalidNode iv = new InvalidNode();
+            iv.copyLocationInfo(skippedTokens.get(0));
+            for (Token tok : skippedTokens) {
+                iv.addChild(tok);
+                iv.setEndOffset(tok.getEndOffset());
+            }
+            //             if (debugFaultTolerant) {
+            //                LOGGER.info("Skipping " + skippedTokens.size() + " tokens starting at: " + skippedTokens.get(0).getLocation());
+            //             }
+            pushNode(iv);
+        }
+        pendingRecovery = !success;
+    }
+
+    private void recover$AndExpression() {
+        Token initialToken = lastConsumedToken;
+        java.util.List<Token> skippedTokens = new java.util.ArrayList<> ();
+        boolean success = false;
+        while (lastConsumedToken.getType()!=EOF) {
+            if ((AndExpression_FIRST_SET_MASK&(1L<<nextTokenType().ordinal()))!=0) {
+                success = true;
+                break;
+            }
+            lastConsumedToken = nextToken(lastConsumedToken);
+            skippedTokens.add(lastConsumedToken);
+        }
+        if (!success&&!skippedTokens.isEmpty()) {
+            lastConsumedToken = initialToken;
+        }
+        if (success&&!skippedTokens.isEmpty()) {
+            InvalidNode iv = new InvalidNode();
+            iv.copyLocationInfo(skippedTokens.get(0));
+            for (Token tok : skippedTokens) {
+                iv.addChild(tok);
+                iv.setEndOffset(tok.getEndOffset());
+            }
+            //             if (debugFaultTolerant) {
+            //                LOGGER.info("Skipping " + skippedTokens.size() + " tokens starting at: " + skippedTokens.get(0).getLocation());
+            //             }
+            pushNode(iv);
+        }
+        pendingRecovery = !success;
+    }
+
+    private void recover$EqualityExpression() {
+        Token initialToken = lastConsumedToken;
+        java.util.List<Token> skippedTokens = new java.util.ArrayList<> ();
+        boolean success = false;
+        while (lastConsumedToken.getType()!=EOF) {
+            if ((EqualityExpression_FIRST_SET_MASK&(1L<<nextTokenType().ordinal()))!=0) {
+                success = true;
+                break;
+            }
+            lastConsumedToken = nextToken(lastConsumedToken);
+            skippedTokens.add(lastConsumedToken);
+        }
+        if (!success&&!skippedTokens.isEmpty()) {
+            lastConsumedToken = initialToken;
+        }
+        if (success&&!skippedTokens.isEmpty()) {
+            InvalidNode iv = new InvalidNode();
+            iv.copyLocationInfo(skippedTokens.get(0));
+            for (Token tok : skippedTokens) {
+                iv.addChild(tok);
+                iv.setEndOffset(tok.getEndOffset());
+            }
+            //             if (debugFaultTolerant) {
+            //                LOGGER.info("Skipping " + skippedTokens.size() + " tokens starting at: " + skippedTokens.get(0).getLocation());
+            //             }
+            pushNode(iv);
+        }
+        pendingRecovery = !success;
+    }
+
+    private void recover$RelationalExpression() {
+        Token initialToken = lastConsumedToken;
+        java.util.List<Token> skippedTokens = new java.util.ArrayList<> ();
+        boolean success = false;
+        while (lastConsumedToken.getType()!=EOF) {
+            if ((RelationalExpression_FIRST_SET_MASK&(1L<<nextTokenType().ordinal()))!=0) {
+                success = true;
+                break;
+            }
+            lastConsumedToken = nextToken(lastConsumedToken);
+            skippedTokens.add(lastConsumedToken);
+        }
+        if (!success&&!skippedTokens.isEmpty()) {
+            lastConsumedToken = initialToken;
+        }
+        if (success&&!skippedTokens.isEmpty()) {
+            InvalidNode iv = new InvalidNode();
+            iv.copyLocationInfo(skippedTokens.get(0));
+            for (Token tok : skippedTokens) {
+                iv.addChild(tok);
+                iv.setEndOffset(tok.getEndOffset());
+            }
+            //             if (debugFaultTolerant) {
+            //                LOGGER.info("Skipping " + skippedTokens.size() + " tokens starting at: " + skippedTokens.get(0).getLocation());
+            //             }
+            pushNode(iv);
+        }
+        pendingRecovery = !success;
+    }
+
+    private void recover$RangeExpression() {
+        Token initialToken = lastConsumedToken;
+        java.util.List<Token> skippedTokens = new java.util.ArrayList<> ();
+        boolean success = false;
+        while (lastConsumedToken.getType()!=EOF) {
+            if ((RangeExpression_FIRST_SET_MASK&(1L<<nextTokenType().ordinal()))!=0) {
+                success = true;
+                break;
+            }
+            lastConsumedToken = nextToken(lastConsumedToken);
+            skippedTokens.add(lastConsumedToken);
+        }
+        if (!success&&!skippedTokens.isEmpty()) {
+            lastConsumedToken = initialToken;
+        }
+        if (success&&!skippedTokens.isEmpty()) {
+            InvalidNode iv = new InvalidNode();
+            iv.copyLocationInfo(skippedTokens.get(0));
+            for (Token tok : skippedTokens) {
+                iv.addChild(tok);
+                iv.setEndOffset(tok.getEndOffset());
+            }
+            //             if (debugFaultTolerant) {
+            //                LOGGER.info("Skipping " + skippedTokens.size() + " tokens starting at: " + skippedTokens.get(0).getLocation());
+            //             }
+            pushNode(iv);
+        }
+        pendingRecovery = !success;
+    }
+
+    private void recover$AdditiveExpression() {
+        Token initialToken = lastConsumedToken;
+        java.util.List<Token> skippedTokens = new java.util.ArrayList<> ();
+        boolean success = false;
+        while (lastConsumedToken.getType()!=EOF) {
+            if ((AdditiveExpression_FIRST_SET_MASK&(1L<<nextTokenType().ordinal()))!=0) {
+                success = true;
+                break;
+            }
+            lastConsumedToken = nextToken(lastConsumedToken);
+            skippedTokens.add(lastConsumedToken);
+        }
+        if (!success&&!skippedTokens.isEmpty()) {
+            lastConsumedToken = initialToken;
+        }
+        if (success&&!skippedTokens.isEmpty()) {
+            InvalidNode iv = new InvalidNode();
+            iv.copyLocationInfo(skippedTokens.get(0));
+            for (Token tok : skippedTokens) {
+                iv.addChild(tok);
+                iv.setEndOffset(tok.getEndOffset());
+            }
+            //             if (debugFaultTolerant) {
+            //                LOGGER.info("Skipping " + skippedTokens.size() + " tokens starting at: " + skippedTokens.get(0).getLocation());
+            //             }
+            pushNode(iv);
+        }
+        pendingRecovery = !success;
+    }
+
+    private void recover$MultiplicativeExpression() {
+        Token initialToken = lastConsumedToken;
+        java.util.List<Token> skippedTokens = new java.util.ArrayList<> ();
+        boolean success = false;
+        while (lastConsumedToken.getType()!=EOF) {
+            if ((MultiplicativeExpression_FIRST_SET_MASK&(1L<<nextTokenType().ordinal()))!=0) {
+                success = true;
+                break;
+            }
+            lastConsumedToken = nextToken(lastConsumedToken);
+            skippedTokens.add(lastConsumedToken);
+        }
+        if (!success&&!skippedTokens.isEmpty()) {
+            lastConsumedToken = initialToken;
+        }
+        if (success&&!skippedTokens.isEmpty()) {
+            InvalidNode iv = new InvalidNode();
+            iv.copyLocationInfo(skippedTokens.get(0));
+            for (Token tok : skippedTokens) {
+                iv.addChild(tok);
+                iv.setEndOffset(tok.getEndOffset());
+            }
+            //             if (debugFaultTolerant) {
+            //                LOGGER.info("Skipping " + skippedTokens.size() + " tokens starting at: " + skippedTokens.get(0).getLocation());
+            //             }
+            pushNode(iv);
+        }
+        pendingRecovery = !success;
+    }
+
+    private void recover$UnaryExpression() {
+        Token initialToken = lastConsumedToken;
+        java.util.List<Token> skippedTokens = new java.util.ArrayList<> ();
+        boolean success = false;
+        while (lastConsumedToken.getType()!=EOF) {
+            if ((UnaryExpression_FIRST_SET_MASK&(1L<<nextTokenType().ordinal()))!=0) {
+                success = true;
+                break;
+            }
+            lastConsumedToken = nextToken(lastConsumedToken);
+            skippedTokens.add(lastConsumedToken);
+        }
+        if (!success&&!skippedTokens.isEmpty()) {
+            lastConsumedToken = initialToken;
+        }
+        if (success&&!skippedTokens.isEmpty()) {
+            InvalidNode iv = new InvalidNode();
+            iv.copyLocationInfo(skippedTokens.get(0));
+            for (Token tok : skippedTokens) {
+                iv.addChild(tok);
+                iv.setEndOffset(tok.getEndOffset());
+            }
+            //             if (debugFaultTolerant) {
+            //                LOGGER.info("Skipping " + skippedTokens.size() + " tokens starting at: " + skippedTokens.get(0).getLocation());
+            //             }
+            pushNode(iv);
+        }
+        pendingRecovery = !success;
+    }
+
+    private void recover$UnaryPlusMinusExpression() {
+        Token initialToken = lastConsumedToken;
+        java.util.List<Token> skippedTokens = new java.util.ArrayList<> ();
+        boolean success = false;
+        while (lastConsumedToken.getType()!=EOF) {
+            if (nextTokenType()==PLUS||nextTokenType==MINUS) {
+                success = true;
+                break;
+            }
+            lastConsumedToken = nextToken(lastConsumedToken);
+            skippedTokens.add(lastConsumedToken);
+        }
+        if (!success&&!skippedTokens.isEmpty()) {
+            lastConsumedToken = initialToken;
+        }
+        if (success&&!skippedTokens.isEmpty()) {
+            InvalidNode iv = new InvalidNode();
+            iv.copyLocationInfo(skippedTokens.get(0));
+            for (Token tok : skippedTokens) {
+                iv.addChild(tok);
+                iv.setEndOffset(tok.getEndOffset());
+            }
+            //             if (debugFaultTolerant) {
+            //                LOGGER.info("Skipping " + skippedTokens.size() + " tokens starting at: " + skippedTokens.get(0).getLocation());
+            //             }
+            pushNode(iv);
+        }
+        pendingRecovery = !success;
+    }
+
+    private void recover$NotExpression() {
+        Token initialToken = lastConsumedToken;
+        java.util.List<Token> skippedTokens = new java.util.ArrayList<> ();
+        boolean success = false;
+        while (lastConsumedToken.getType()!=EOF) {
+            if (nextTokenType()==EXCLAM) {
+                success = true;
+                break;
+            }
+            lastConsumedToken = nextToken(lastConsumedToken);
+            skippedTokens.add(lastConsumedToken);
+        }
+        if (!success&&!skippedTokens.isEmpty()) {
+            lastConsumedToken = initialToken;
+        }
+        if (success&&!skippedTokens.isEmpty()) {
+            InvalidNode iv = new InvalidNode();
+            iv.copyLocationInfo(skippedTokens.get(0));
+            for (Token tok : skippedTokens) {
+                iv.addChild(tok);
+                iv.setEndOffset(tok.getEndOffset());
+            }
+            //             if (debugFaultTolerant) {
+            //                LOGGER.info("Skipping " + skippedTokens.size() + " tokens starting at: " + skippedTokens.get(0).getLocation());
+            //             }
+            pushNode(iv);
+        }
+        pendingRecovery = !success;
+    }
+
+    private void recover$BuiltinVariable() {
+        Token initialToken = lastConsumedToken;
+        java.util.List<Token> skippedTokens = new java.util.ArrayList<> ();
+        boolean success = false;
+        while (lastConsumedToken.getType()!=EOF) {
+            if (nextTokenType()==DOT) {
+                success = true;
+                break;
+            }
+            lastConsumedToken = nextToken(lastConsumedToken);
+            skippedTokens.add(lastConsumedToken);
+        }
+        if (!success&&!skippedTokens.isEmpty()) {
+            lastConsumedToken = initialToken;
+        }
+        if (success&&!skippedTokens.isEmpty()) {
+            InvalidNode iv = new InvalidNode();
+            iv.copyLocationInfo(skippedTokens.get(0));
+            for (Token tok : skippedTokens) {
+                iv.addChild(tok);
+                iv.setEndOffset(tok.getEndOffset());
+            }
+            //             if (debugFaultTolerant) {
+            //                LOGGER.info("Skipping " + skippedTokens.size() + " tokens starting at: " + skippedTokens.get(0).getLocation());
+            //             }
+            pushNode(iv);
+        }
+        pendingRecovery = !success;
+    }
+
+    private void recover$DefaultToExpression() {
+        Token initialToken = lastConsumedToken;
+        java.util.List<Token> skippedTokens = new java.util.ArrayList<> ();
+        boolean success = false;
+        while (lastConsumedToken.getType()!=EOF) {
+            if ((DefaultToExpression_FIRST_SET_MASK&(1L<<nextTokenType().ordinal()))!=0) {
+                success = true;
+                break;
+            }
+            lastConsumedToken = nextToken(lastConsumedToken);
+            skippedTokens.add(lastConsumedToken);
+        }
+        if (!success&&!skippedTokens.isEmpty()) {
+            lastConsumedToken = initialToken;
+        }
+        if (success&&!skippedTokens.isEmpty()) {
+            InvalidNode iv = new InvalidNode();
+            iv.copyLocationInfo(skippedTokens.get(0));
+            for (Token tok : skippedTokens) {
+                iv.addChild(tok);
+                iv.setEndOffset(tok.getEndOffset());
+            }
+            //             if (debugFaultTolerant) {
+            //                LOGGER.info("Skipping " + skippedTokens.size() + " tokens starting at: " + skippedTokens.get(0).getLocation());
+            //             }
+            pushNode(iv);
+        }
+        pendingRecovery = !success;
+    }
+
+    private void recover$PrimaryExpression() {
+        Token initialToken = lastConsumedToken;
+        java.util.List<Token> skippedTokens = new java.util.ArrayList<> ();
+        boolean success = false;
+        while (lastConsumedToken.getType()!=EOF) {
+            if ((PrimaryExpression_FIRST_SET_MASK&(1L<<nextTokenType().ordinal()))!=0) {
+                success = true;
+                break;
+            }
+            lastConsumedToken = nextToken(lastConsumedToken);
+            skippedTokens.add(lastConsumedToken);
+        }
+        if (!success&&!skippedTokens.isEmpty()) {
+            lastConsumedToken = initialToken;
+        }
+        if (success&&!skippedTokens.isEmpty()) {
+            InvalidNode iv = new InvalidNode();
+            iv.copyLocationInfo(skippedTokens.get(0));
+            for (Token tok : skippedTokens) {
+                iv.addChild(tok);
+                iv.setEndOffset(tok.getEndOffset());
+            }
+            //             if (debugFaultTolerant) {
+            //                LOGGER.info("Skipping " + skippedTokens.size() + " tokens starting at: " + skippedTokens.get(0).getLocation());
+            //             }
+            pushNode(iv);
+        }
+        pendingRecovery = !success;
+    }
+
+    private void recover$BaseExpression() {
+        Token initialToken = lastConsumedToken;
+        java.util.List<Token> skippedTokens = new java.util.ArrayList<> ();
+        boolean success = false;
+        while (lastConsumedToken.getType()!=EOF) {
+            if ((BaseExpression_FIRST_SET_MASK&(1L<<nextTokenType().ordinal()))!=0) {
+                success = true;
+                break;
+            }
+            lastConsumedToken = nextToken(lastConsumedToken);
+            skippedTokens.add(lastConsumedToken);
+        }
+        if (!success&&!skippedTokens.isEmpty()) {
+            lastConsumedToken = initialToken;
+        }
+        if (success&&!skippedTokens.isEmpty()) {
+            InvalidNode iv = new InvalidNode();
+            iv.copyLocationInfo(skippedTokens.get(0));
+            for (Token tok : skippedTokens) {
+                iv.addChild(tok);
+                iv.setEndOffset(tok.getEndOffset());
+            }
+            //             if (debugFaultTolerant) {
+            //                LOGGER.info("Skipping " + skippedTokens.size() + " tokens starting at: " + skippedTokens.get(0).getLocation());
+            //             }
+            pushNode(iv);
+        }
+        pendingRecovery = !success;
+    }
+
+    private void recover$DotKey() {
+        Token initialToken = lastConsumedToken;
+        java.util.List<Token> skippedTokens = new java.util.ArrayList<> ();
+        boolean success = false;
+        while (lastConsumedToken.getType()!=EOF) {
+            if (nextTokenType()==DOT) {
+                success = true;
+                break;
+            }
+            lastConsumedToken = nextToken(lastConsumedToken);
+            skippedTokens.add(lastConsumedToken);
+        }
+        if (!success&&!skippedTokens.isEmpty()) {
+            lastConsumedToken = initialToken;
+        }
+        if (success&&!skippedTokens.isEmpty()) {
+            InvalidNode iv = new InvalidNode();
+            iv.copyLocationInfo(skippedTokens.get(0));
+            for (Token tok : skippedTokens) {
+                iv.addChild(tok);
+                iv.setEndOffset(tok.getEndOffset());
+            }
+            //             if (debugFaultTolerant) {
+            //                LOGGER.info("Skipping " + skippedTokens.size() + " tokens starting at: " + skippedTokens.get(0).getLocation());
+            //             }
+            pushNode(iv);
+        }
+        pendingRecovery = !success;
+    }
+
+    private void recover$DynamicKey() {
+        Token initialToken = lastConsumedToken;
+        java.util.List<Token> skippedTokens = new java.util.ArrayList<> ();
+        boolean success = false;
+        while (lastConsumedToken.getType()!=EOF) {
+            if (nextTokenType()==OPEN_BRACKET) {
+                success = true;
+                break;
+            }
+            lastConsumedToken = nextToken(lastConsumedToken);
+            skippedTokens.add(lastConsumedToken);
+        }
+        if (!success&&!skippedTokens.isEmpty()) {
+            lastConsumedToken = initialToken;
+        }
+        if (success&&!skippedTokens.isEmpty()) {
+            InvalidNode iv = new InvalidNode();
+            iv.copyLocationInfo(skippedTokens.get(0));
+            for (Token tok : skippedTokens) {
+                iv.addChild(tok);
+                iv.setEndOffset(tok.getEndOffset());
+            }
+            //             if (debugFaultTolerant) {
+            //                LOGGER.info("Skipping " + skippedTokens.size() + " tokens starting at: " + skippedTokens.get(0).getLocation());
+            //             }
+            pushNode(iv);
+        }
+        pendingRecovery = !success;
+    }
+
+    private void recover$MethodInvoke() {
+        Token initialToken = lastConsumedToken;
+        java.util.List<Token> skippedTokens = new java.util.ArrayList<> ();
+        boolean success = false;
+        while (lastConsumedToken.getType()!=EOF) {
+            if (nextTokenType()==OPEN_PAREN) {
+                success = true;
+                break;
+            }
+            lastConsumedToken = nextToken(lastConsumedToken);
+            skippedTokens.add(lastConsumedToken);
+        }
+        if (!success&&!skippedTokens.isEmpty()) {
+            lastConsumedToken = initialToken;
+        }
+        if (success&&!skippedTokens.isEmpty()) {
+            InvalidNode iv = new InvalidNode();
+            iv.copyLocationInfo(skippedTokens.get(0));
+            for (Token tok : skippedTokens) {
+                iv.addChild(tok);
+                iv.setEndOffset(tok.getEndOffset());
+            }
+            //             if (debugFaultTolerant) {
+            //                LOGGER.info("Skipping " + skippedTokens.size() + " tokens starting at: " + skippedTokens.get(0).getLocation());
+            //             }
+            pushNode(iv);
+        }
+        pendingRecovery = !success;
+    }
+
+    private void recover$BuiltIn() {
+        Token initialToken = lastConsumedToken;
+        java.util.List<Token> skippedTokens = new java.util.ArrayList<> ();
+        boolean success = false;
+        while (lastConsumedToken.getType()!=EOF) {
+            if (nextTokenType()==BUILT_IN) {
+                success = true;
+                break;
+            }
+            lastConsumedToken = nextToken(lastConsumedToken);
+            skippedTokens.add(lastConsumedToken);
+        }
+        if (!success&&!skippedTokens.isEmpty()) {
+            lastConsumedToken = initialToken;
+        }
+        if (success&&!skippedTokens.isEmpty()) {
+            InvalidNode iv = new InvalidNode();
+            iv.copyLocationInfo(skippedTokens.get(0));
+            for (Token tok : skippedTokens) {
+                iv.addChild(tok);
+                iv.setEndOffset(tok.getEndOffset());
+            }
+            //             if (debugFaultTolerant) {
+            //                LOGGER.info("Skipping " + skippedTokens.size() + " tokens starting at: " + skippedTokens.get(0).getLocation());
+            //             }
+            pushNode(iv);
+        }
+        pendingRecovery = !success;
+    }
+
+    private void recover$Exists() {
+        Token initialToken = lastConsumedToken;
+        java.util.List<Token> skippedTokens = new java.util.ArrayList<> ();
+        boolean success = false;
+        while (lastConsumedToken.getType()!=EOF) {
+            if (nextTokenType()==EXISTS_OPERATOR) {
+                success = true;
+                break;
+            }
+            lastConsumedToken = nextToken(lastConsumedToken);
+            skippedTokens.add(lastConsumedToken);
+        }
+        if (!success&&!skippedTokens.isEmpty()) {
+            lastConsumedToken = initialToken;
+        }
+        if (success&&!skippedTokens.isEmpty()) {
+            InvalidNode iv = new InvalidNode();
+            iv.copyLocationInfo(skippedTokens.get(0));
+            for (Token tok : skippedTokens) {
+                iv.addChild(tok);
+                iv.setEndOffset(tok.getEndOffset());
+            }
+            //             if (debugFaultTolerant) {
+            //                LOGGER.info("Skipping " + skippedTokens.size() + " tokens starting at: " + skippedTokens.get(0).getLocation());
+            //             }
+            pushNode(iv);
+        }
+        pendingRecovery = !success;
+    }
+
+    private void recover$ListLiteral() {
+        Token initialToken = lastConsumedToken;
+        java.util.List<Token> skippedTokens = new java.util.ArrayList<> ();
+        boolean success = false;
+        while (lastConsumedToken.getType()!=EOF) {
+            if (nextTokenType()==OPEN_BRACKET) {
+                success = true;
+                break;
+            }
+            lastConsumedToken = nextToken(lastConsumedToken);
+            skippedTokens.add(lastConsumedToken);
+        }
+        if (!success&&!skippedTokens.isEmpty()) {
+            lastConsumedToken = initialToken;
+        }
+        if (success&&!skippedTokens.isEmpty()) {
+            InvalidNode iv = new InvalidNode();
+            iv.copyLocationInfo(skippedTokens.get(0));
+            for (Token tok : skippedTokens) {
+                iv.addChild(tok);
+                iv.setEndOffset(tok.getEndOffset());
+            }
+            //             if (debugFaultTolerant) {
+            //                LOGGER.info("Skipping " + skippedTokens.size() + " tokens starting at: " + skippedTokens.get(0).getLocation());
+            //             }
+            pushNode(iv);
+        }
+        pendingRecovery = !success;
+    }
+
+    private void recover$StringLiteral() {
+        Token initialToken = lastConsumedToken;
+        java.util.List<Token> skippedTokens = new java.util.ArrayList<> ();
+        boolean success = false;
+        while (lastConsumedToken.getType()!=EOF) {
+            if (nextTokenType()==STRING_LITERAL||nextTokenType==RAW_STRING) {
+                success = true;
+                break;
+            }
+            lastConsumedToken = nextToken(lastConsumedToken);
+            skippedTokens.add(lastConsumedToken);
+        }
+        if (!success&&!skippedTokens.isEmpty()) {
+            lastConsumedToken = initialToken;
+        }
+        if (success&&!skippedTokens.isEmpty()) {
+            InvalidNode iv = new InvalidNode();
+            iv.copyLocationInfo(skippedTokens.get(0));
+            for (Token tok : skippedTokens) {
+                iv.addChild(tok);
+                iv.setEndOffset(tok.getEndOffset());
+            }
+            //             if (debugFaultTolerant) {
+            //                LOGGER.info("Skipping " + skippedTokens.size() + " tokens starting at: " + skippedTokens.get(0).getLocation());
+            //             }
+            pushNode(iv);
+        }
+        pendingRecovery = !success;
+    }
+
+    private void recover$HashLiteral() {
+        Token initialToken = lastConsumedToken;
+        java.util.List<Token> skippedTokens = new java.util.ArrayList<> ();
+        boolean success = false;
+        while (lastConsumedToken.getType()!=EOF) {
+            if (nextTokenType()==OPEN_BRACE) {
+                success = true;
+                break;
+            }
+            lastConsumedToken = nextToken(lastConsumedToken);
+            skippedTokens.add(lastConsumedToken);
+        }
+        if (!success&&!skippedTokens.isEmpty()) {
+            lastConsumedToken = initialToken;
+        }
+        if (success&&!skippedTokens.isEmpty()) {
+            InvalidNode iv = new InvalidNode();
+            iv.copyLocationInfo(skippedTokens.get(0));
+            for (Token tok : skippedTokens) {
+                iv.addChild(tok);
+                iv.setEndOffset(tok.getEndOffset());
+            }
+            //             if (debugFaultTolerant) {
+            //                LOGGER.info("Skipping " + skippedTokens.size() + " tokens starting at: " + skippedTokens.get(0).getLocation());
+            //             }
+            pushNode(iv);
+        }
+        pendingRecovery = !success;
+    }
+
+    private void recover$NumberLiteral() {
+        Token initialToken = lastConsumedToken;
+        java.util.List<Token> skippedTokens = new java.util.ArrayList<> ();
+        boolean success = false;
+        while (lastConsumedToken.getType()!=EOF) {
+            if (nextTokenType()==INTEGER||nextTokenType==DECIMAL) {
+                success = true;
+                break;
+            }
+            lastConsumedToken = nextToken(lastConsumedToken);
+            skippedTokens.add(lastConsumedToken);
+        }
+        if (!success&&!skippedTokens.isEmpty()) {
+            lastConsumedToken = initialToken;
+        }
+        if (success&&!skippedTokens.isEmpty()) {
+            InvalidNode iv = new InvalidNode();
+            iv.copyLocationInfo(skippedTokens.get(0));
+            for (Token tok : skippedTokens) {
+                iv.addChild(tok);
+                iv.setEndOffset(tok.getEndOffset());
+            }
+            //             if (debugFaultTolerant) {
+            //                LOGGER.info("Skipping " + skippedTokens.size() + " tokens starting at: " + skippedTokens.get(0).getLocation());
+            //             }
+            pushNode(iv);
+        }
+        pendingRecovery = !success;
+    }
+
+    private void recover$BooleanLiteral() {
+        Token initialToken = lastConsumedToken;
+        java.util.List<Token> skippedTokens = new java.util.ArrayList<> ();
+        boolean success = false;
+        while (lastConsumedToken.getType()!=EOF) {
+            if (nextTokenType()==TRUE||nextTokenType==FALSE) {
+                success = true;
+                break;
+            }
+            lastConsumedToken = nextToken(lastConsumedToken);
+            skippedTokens.add(lastConsumedToken);
+        }
+        if (!success&&!skippedTokens.isEmpty()) {
+            lastConsumedToken = initialToken;
+        }
+        if (success&&!skippedTokens.isEmpty()) {
+            InvalidNode iv = new InvalidNode();
+            iv.copyLocationInfo(skippedTokens.get(0));
+            for (Token tok : skippedTokens) {
+                iv.addChild(tok);
+                iv.setEndOffset(tok.getEndOffset());
+            }
+            //             if (debugFaultTolerant) {
+            //                LOGGER.info("Skipping " + skippedTokens.size() + " tokens starting at: " + skippedTokens.get(0).getLocation());
+            //             }
+            pushNode(iv);
+        }
+        pendingRecovery = !success;
+    }
+
+    private void recover$NullLiteral() {
+        Token initialToken = lastConsumedToken;
+        java.util.List<Token> skippedTokens = new java.util.ArrayList<> ();
+        boolean success = false;
+        while (lastConsumedToken.getType()!=EOF) {
+            if (nextTokenType()==NULL) {
+                success = true;
+                break;
+            }
+            lastConsumedToken = nextToken(lastConsumedToken);
+            skippedTokens.add(lastConsumedToken);
+        }
+        if (!success&&!skippedTokens.isEmpty()) {
+            lastConsumedToken = initialToken;
+        }
+        if (success&&!skippedTokens.isEmpty()) {
+            InvalidNode iv = new InvalidNode();
+            iv.copyLocationInfo(skippedTokens.get(0));
+            for (Token tok : skippedTokens) {
+                iv.addChild(tok);
+                iv.setEndOffset(tok.getEndOffset());
+            }
+            //             if (debugFaultTolerant) {
+            //                LOGGER.info("Skipping " + skippedTokens.size() + " tokens starting at: " + skippedTokens.get(0).getLocation());
+            //             }
+            pushNode(iv);
+        }
+        pendingRecovery = !success;
+    }
+
+    private void recover$Parenthesis() {
+        Token initialToken = lastConsumedToken;
+        java.util.List<Token> skippedTokens = new java.util.ArrayList<> ();
+        boolean success = false;
+        while (lastConsumedToken.getType()!=EOF) {
+            if (nextTokenType()==OPEN_PAREN) {
+                success = true;
+                break;
+            }
+            lastConsumedToken = nextToken(lastConsumedToken);
+            skippedTokens.add(lastConsumedToken);
+        }
+        if (!success&&!skippedTokens.isEmpty()) {
+            lastConsumedToken = initialToken;
+        }
+        if (success&&!skippedTokens.isEmpty()) {
+            InvalidNode iv = new InvalidNode();
+            iv.copyLocationInfo(skippedTokens.get(0));
+            for (Token tok : skippedTokens) {
+                iv.addChild(tok);
+                iv.setEndOffset(tok.getEndOffset());
+            }
+            //             if (debugFaultTolerant) {
+            //                LOGGER.info("Skipping " + skippedTokens.size() + " tokens starting at: " + skippedTokens.get(0).getLocation());
+            //             }
+            pushNode(iv);
+        }
+        pendingRecovery = !success;
+    }
+
+    private void recover$ArgsList() {
+        Token initialToken = lastConsumedToken;
+        java.util.List<Token> skippedTokens = new java.util.ArrayList<> ();
+        boolean success = false;
+        while (lastConsumedToken.getType()!=EOF) {
+            if ((ArgsList_FIRST_SET_MASK&(1L<<nextTokenType().ordinal()))!=0) {
+                success = true;
+                break;
+            }
+            lastConsumedToken = nextToken(lastConsumedToken);
+            skippedTokens.add(lastConsumedToken);
+        }
+        if (!success&&!skippedTokens.isEmpty()) {
+            lastConsumedToken = initialToken;
+        }
+        if (success&&!skippedTokens.isEmpty()) {
+            InvalidNode iv = new InvalidNode();
+            iv.copyLocationInfo(skippedTokens.get(0));
+            for (Token tok : skippedTokens) {
+                iv.addChild(tok);
+                iv.setEndOffset(tok.getEndOffset());
+            }
+            //             if (debugFaultTolerant) {
+            //                LOGGER.info("Skipping " + skippedTokens.size() + " tokens starting at: " + skippedTokens.get(0).getLocation());
+            //             }
+            pushNode(iv);
+        }
+        pendingRecovery = !success;
+    }
+
+    private void recover$NamedArgsList() {
+        Token initialToken = lastConsumedToken;
+        java.util.List<Token> skippedTokens = new java.util.ArrayList<> ();
+        boolean success = false;
+        while (lastConsumedToken.getType()!=EOF) {
+            if (nextTokenType()==IDENTIFIER) {
+                success = true;
+                break;
+            }
+            lastConsumedToken = nextToken(lastConsumedToken);
+            skippedTokens.add(lastConsumedToken);
+        }
+        if (!success&&!skippedTokens.isEmpty()) {
+            lastConsumedToken = initialToken;
+        }
+        if (success&&!skippedTokens.isEmpty()) {
+            InvalidNode iv = new InvalidNode();
+            iv.copyLocationInfo(skippedTokens.get(0));
+            for (Token tok : skippedTokens) {
+                iv.addChild(tok);
+                iv.setEndOffset(tok.getEndOffset());
+            }
+            //             if (debugFaultTolerant) {
+            //                LOGGER.info("Skipping " + skippedTokens.size() + " tokens starting at: " + skippedTokens.get(0).getLocation());
+            //             }
+            pushNode(iv);
+        }
+        pendingRecovery = !success;
+    }
+
+    private void recover$PositionalArgsList() {
+        Token initialToken = lastConsumedToken;
+        java.util.List<Token> skippedTokens = new java.util.ArrayList<> ();
+        boolean success = false;
+        while (lastConsumedToken.getType()!=EOF) {
+            if ((PositionalArgsList_FIRST_SET_MASK&(1L<<nextTokenType().ordinal()))!=0) {
+                success = true;
+                break;
+            }
+            lastConsumedToken = nextToken(lastConsumedToken);
+            skippedTokens.add(lastConsumedToken);
+        }
+        if (!success&&!skippedTokens.isEmpty()) {
+            lastConsumedToken = initialToken;
+        }
+        if (success&&!skippedTokens.isEmpty()) {
+            InvalidNode iv = new InvalidNode();
+            iv.copyLocationInfo(skippedTokens.get(0));
+            for (Token tok : skippedTokens) {
+                iv.addChild(tok);
+                iv.setEndOffset(tok.getEndOffset());
+            }
+            //             if (debugFaultTolerant) {
+            //                LOGGER.info("Skipping " + skippedTokens.size() + " tokens starting at: " + skippedTokens.get(0).getLocation());
+            //             }
+            pushNode(iv);
+        }
+        pendingRecovery = !success;
+    }
+
+    static private final EnumSet<TokenType> first_set$FEL_javacc$182$10$ = EnumSet.of(OR, OR2);
+    static private final EnumSet<TokenType> first_set$FEL_javacc$189$10$ = EnumSet.of(AND, AND2);
+    static private final EnumSet<TokenType> first_set$FEL_javacc$196$10$ = EnumSet.of(EQUALS, DOUBLE_EQUALS, NOT_EQUALS);
+    static private final long first_set$FEL_javacc$204$9_MASK = 0xcc601800000L;
+    static private final EnumSet<TokenType> first_set$FEL_javacc$204$10$ = first_set$FEL_javacc$204$10$_init();
+
+    static private EnumSet<TokenType> first_set$FEL_javacc$204$10$_init() {
+        return EnumSet.of(LT, GT, LTE, GTE, ALT_GT, ALT_LT, ALT_GTE, ALT_LTE);
+    }
+
+    static private final long first_set$FEL_javacc$204$10$_MASK = 0xcc601800000L;
+    static private final EnumSet<TokenType> first_set$FEL_javacc$222$13$ = EnumSet.of(PLUS, MINUS);
+    static private final EnumSet<TokenType> first_set$FEL_javacc$230$12$ = EnumSet.of(TIMES, DIVIDE, PERCENT);
+    static private final long first_set$FEL_javacc$241$5_MASK = 0x3ee00000009500L;
+    static private final EnumSet<TokenType> first_set$FEL_javacc$245$6$ = EnumSet.of(PLUS, MINUS);
+    static private final EnumSet<TokenType> first_set$FEL_javacc$307$6$ = EnumSet.of(TIMES, IDENTIFIER);
+    static private final long first_set$FEL_javacc$315$16_MASK = 0x3ee00010039500L;
+    static private final long first_set$FEL_javacc$328$6_MASK = 0x3ee00010039500L;
+    static private final long first_set$FEL_javacc$328$18_MASK = 0x3ee00012039500L;
+    static private final long first_set$FEL_javacc$340$8_MASK = 0x3ee00010039500L;
+    static private final EnumSet<TokenType> first_set$FEL_javacc$362$9 = first_set$FEL_javacc$362$9_init();
+
+    static private EnumSet<TokenType> first_set$FEL_javacc$362$9_init() {
+        return EnumSet.of(OPEN_PAREN, OPEN_BRACKET, OPEN_BRACE, DOT, PLUS, MINUS, EXCLAM, NULL, TRUE, FALSE, INTEGER, DECIMAL, IDENTIFIER, STRING_LITERAL, RAW_STRING);
+    }
+
+    static private final long first_set$FEL_javacc$365$9_MASK = 0x3ee00010039500L;
+    static private final long first_set$FEL_javacc$384$8_MASK = 0x3ee00012039500L;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$168$4 = EnumSet.of(EOF);
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$169$4 = EnumSet.noneOf(TokenType.class);
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$180$5 = EnumSet.of(OR, OR2);
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$182$10 = follow_set$FEL_javacc$182$10_init();
+
+    static private EnumSet<TokenType> follow_set$FEL_javacc$182$10_init() {
+        return EnumSet.of(OPEN_PAREN, OPEN_BRACKET, OPEN_BRACE, DOT, PLUS, MINUS, EXCLAM, NULL, TRUE, FALSE, INTEGER, DECIMAL, IDENTIFIER, STRING_LITERAL, RAW_STRING);
+    }
+
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$182$15 = follow_set$FEL_javacc$182$15_init();
+
+    static private EnumSet<TokenType> follow_set$FEL_javacc$182$15_init() {
+        return EnumSet.of(OPEN_PAREN, OPEN_BRACKET, OPEN_BRACE, DOT, PLUS, MINUS, EXCLAM, NULL, TRUE, FALSE, INTEGER, DECIMAL, IDENTIFIER, STRING_LITERAL, RAW_STRING);
+    }
+
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$182$22 = EnumSet.of(OR, OR2);
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$187$5 = EnumSet.of(AND, AND2);
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$189$10 = follow_set$FEL_javacc$189$10_init();
+
+    static private EnumSet<TokenType> follow_set$FEL_javacc$189$10_init() {
+        return EnumSet.of(OPEN_PAREN, OPEN_BRACKET, OPEN_BRACE, DOT, PLUS, MINUS, EXCLAM, NULL, TRUE, FALSE, INTEGER, DECIMAL, IDENTIFIER, STRING_LITERAL, RAW_STRING);
+    }
+
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$189$16 = follow_set$FEL_javacc$189$16_init();
+
+    static private EnumSet<TokenType> follow_set$FEL_javacc$189$16_init() {
+        return EnumSet.of(OPEN_PAREN, OPEN_BRACKET, OPEN_BRACE, DOT, PLUS, MINUS, EXCLAM, NULL, TRUE, FALSE, INTEGER, DECIMAL, IDENTIFIER, STRING_LITERAL, RAW_STRING);
+    }
+
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$189$24 = EnumSet.of(AND, AND2);
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$194$5 = EnumSet.of(EQUALS, DOUBLE_EQUALS, NOT_EQUALS);
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$196$10 = follow_set$FEL_javacc$196$10_init();
+
+    static private EnumSet<TokenType> follow_set$FEL_javacc$196$10_init() {
+        return EnumSet.of(OPEN_PAREN, OPEN_BRACKET, OPEN_BRACE, DOT, PLUS, MINUS, EXCLAM, NULL, TRUE, FALSE, INTEGER, DECIMAL, IDENTIFIER, STRING_LITERAL, RAW_STRING);
+    }
+
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$196$19 = follow_set$FEL_javacc$196$19_init();
+
+    static private EnumSet<TokenType> follow_set$FEL_javacc$196$19_init() {
+        return EnumSet.of(OPEN_PAREN, OPEN_BRACKET, OPEN_BRACE, DOT, PLUS, MINUS, EXCLAM, NULL, TRUE, FALSE, INTEGER, DECIMAL, IDENTIFIER, STRING_LITERAL, RAW_STRING);
+    }
+
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$196$35 = follow_set$FEL_javacc$196$35_init();
+
+    static private EnumSet<TokenType> follow_set$FEL_javacc$196$35_init() {
+        return EnumSet.of(OPEN_PAREN, OPEN_BRACKET, OPEN_BRACE, DOT, PLUS, MINUS, EXCLAM, NULL, TRUE, FALSE, INTEGER, DECIMAL, IDENTIFIER, STRING_LITERAL, RAW_STRING);
+    }
+
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$202$5 = follow_set$FEL_javacc$202$5_init();
+
+    static private EnumSet<TokenType> follow_set$FEL_javacc$202$5_init() {
+        return EnumSet.of(LT, GT, LTE, GTE, ALT_GT, ALT_LT, ALT_GTE, ALT_LTE);
+    }
+
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$204$10 = follow_set$FEL_javacc$204$10_init();
+
+    static private EnumSet<TokenType> follow_set$FEL_javacc$204$10_init() {
+        return EnumSet.of(OPEN_PAREN, OPEN_BRACKET, OPEN_BRACE, DOT, PLUS, MINUS, EXCLAM, NULL, TRUE, FALSE, INTEGER, DECIMAL, IDENTIFIER, STRING_LITERAL, RAW_STRING);
+    }
+
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$204$15 = follow_set$FEL_javacc$204$15_init();
+
+    static private EnumSet<TokenType> follow_set$FEL_javacc$204$15_init() {
+        return EnumSet.of(OPEN_PAREN, OPEN_BRACKET, OPEN_BRACE, DOT, PLUS, MINUS, EXCLAM, NULL, TRUE, FALSE, INTEGER, DECIMAL, IDENTIFIER, STRING_LITERAL, RAW_STRING);
+    }
+
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$204$21 = follow_set$FEL_javacc$204$21_init();
+
+    static private EnumSet<TokenType> follow_set$FEL_javacc$204$21_init() {
+        return EnumSet.of(OPEN_PAREN, OPEN_BRACKET, OPEN_BRACE, DOT, PLUS, MINUS, EXCLAM, NULL, TRUE, FALSE, INTEGER, DECIMAL, IDENTIFIER, STRING_LITERAL, RAW_STRING);
+    }
+
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$204$26 = follow_set$FEL_javacc$204$26_init();
+
+    static private EnumSet<TokenType> follow_set$FEL_javacc$204$26_init() {
+        return EnumSet.of(OPEN_PAREN, OPEN_BRACKET, OPEN_BRACE, DOT, PLUS, MINUS, EXCLAM, NULL, TRUE, FALSE, INTEGER, DECIMAL, IDENTIFIER, STRING_LITERAL, RAW_STRING);
+    }
+
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$204$32 = follow_set$FEL_javacc$204$32_init();
+
+    static private EnumSet<TokenType> follow_set$FEL_javacc$204$32_init() {
+        return EnumSet.of(OPEN_PAREN, OPEN_BRACKET, OPEN_BRACE, DOT, PLUS, MINUS, EXCLAM, NULL, TRUE, FALSE, INTEGER, DECIMAL, IDENTIFIER, STRING_LITERAL, RAW_STRING);
+    }
+
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$204$41 = follow_set$FEL_javacc$204$41_init();
+
+    static private EnumSet<TokenType> follow_set$FEL_javacc$204$41_init() {
+        return EnumSet.of(OPEN_PAREN, OPEN_BRACKET, OPEN_BRACE, DOT, PLUS, MINUS, EXCLAM, NULL, TRUE, FALSE, INTEGER, DECIMAL, IDENTIFIER, STRING_LITERAL, RAW_STRING);
+    }
+
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$204$51 = follow_set$FEL_javacc$204$51_init();
+
+    static private EnumSet<TokenType> follow_set$FEL_javacc$204$51_init() {
+        return EnumSet.of(OPEN_PAREN, OPEN_BRACKET, OPEN_BRACE, DOT, PLUS, MINUS, EXCLAM, NULL, TRUE, FALSE, INTEGER, DECIMAL, IDENTIFIER, STRING_LITERAL, RAW_STRING);
+    }
+
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$204$61 = follow_set$FEL_javacc$204$61_init();
+
+    static private EnumSet<TokenType> follow_set$FEL_javacc$204$61_init() {
+        return EnumSet.of(OPEN_PAREN, OPEN_BRACKET, OPEN_BRACE, DOT, PLUS, MINUS, EXCLAM, NULL, TRUE, FALSE, INTEGER, DECIMAL, IDENTIFIER, STRING_LITERAL, RAW_STRING);
+    }
+
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$210$5 = EnumSet.of(DOT_DOT);
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$212$8 = follow_set$FEL_javacc$212$8_init();
+
+    static private EnumSet<TokenType> follow_set$FEL_javacc$212$8_init() {
+        return EnumSet.of(OPEN_PAREN, OPEN_BRACKET, OPEN_BRACE, DOT, PLUS, MINUS, EXCLAM, NULL, TRUE, FALSE, INTEGER, DECIMAL, IDENTIFIER, STRING_LITERAL, RAW_STRING);
+    }
+
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$220$5 = EnumSet.of(PLUS, MINUS);
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$222$13 = follow_set$FEL_javacc$222$13_init();
+
+    static private EnumSet<TokenType> follow_set$FEL_javacc$222$13_init() {
+        return EnumSet.of(OPEN_PAREN, OPEN_BRACKET, OPEN_BRACE, DOT, PLUS, MINUS, EXCLAM, NULL, TRUE, FALSE, INTEGER, DECIMAL, IDENTIFIER, STRING_LITERAL, RAW_STRING);
+    }
+
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$222$20 = follow_set$FEL_javacc$222$20_init();
+
+    static private EnumSet<TokenType> follow_set$FEL_javacc$222$20_init() {
+        return EnumSet.of(OPEN_PAREN, OPEN_BRACKET, OPEN_BRACE, DOT, PLUS, MINUS, EXCLAM, NULL, TRUE, FALSE, INTEGER, DECIMAL, IDENTIFIER, STRING_LITERAL, RAW_STRING);
+    }
+
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$223$12 = EnumSet.of(PLUS, MINUS);
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$228$5 = EnumSet.of(TIMES, DIVIDE, PERCENT);
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$230$12 = follow_set$FEL_javacc$230$12_init();
+
+    static private EnumSet<TokenType> follow_set$FEL_javacc$230$12_init() {
+        return EnumSet.of(OPEN_PAREN, OPEN_BRACKET, OPEN_BRACE, DOT, PLUS, MINUS, EXCLAM, NULL, TRUE, FALSE, INTEGER, DECIMAL, IDENTIFIER, STRING_LITERAL, RAW_STRING);
+    }
+
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$230$20 = follow_set$FEL_javacc$230$20_init();
+
+    static private EnumSet<TokenType> follow_set$FEL_javacc$230$20_init() {
+        return EnumSet.of(OPEN_PAREN, OPEN_BRACKET, OPEN_BRACE, DOT, PLUS, MINUS, EXCLAM, NULL, TRUE, FALSE, INTEGER, DECIMAL, IDENTIFIER, STRING_LITERAL, RAW_STRING);
+    }
+
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$230$29 = follow_set$FEL_javacc$230$29_init();
+
+    static private EnumSet<TokenType> follow_set$FEL_javacc$230$29_init() {
+        return EnumSet.of(OPEN_PAREN, OPEN_BRACKET, OPEN_BRACE, DOT, PLUS, MINUS, EXCLAM, NULL, TRUE, FALSE, INTEGER, DECIMAL, IDENTIFIER, STRING_LITERAL, RAW_STRING);
+    }
+
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$231$11 = EnumSet.of(TIMES, DIVIDE, PERCENT);
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$245$6 = follow_set$FEL_javacc$245$6_init();
+
+    static private EnumSet<TokenType> follow_set$FEL_javacc$245$6_init() {
+        return EnumSet.of(OPEN_PAREN, OPEN_BRACKET, OPEN_BRACE, DOT, NULL, TRUE, FALSE, INTEGER, DECIMAL, IDENTIFIER, STRING_LITERAL, RAW_STRING);
+    }
+
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$245$13 = follow_set$FEL_javacc$245$13_init();
+
+    static private EnumSet<TokenType> follow_set$FEL_javacc$245$13_init() {
+        return EnumSet.of(OPEN_PAREN, OPEN_BRACKET, OPEN_BRACE, DOT, NULL, TRUE, FALSE, INTEGER, DECIMAL, IDENTIFIER, STRING_LITERAL, RAW_STRING);
+    }
+
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$249$5 = follow_set$FEL_javacc$249$5_init();
+
+    static private EnumSet<TokenType> follow_set$FEL_javacc$249$5_init() {
+        return EnumSet.of(OPEN_PAREN, OPEN_BRACKET, OPEN_BRACE, DOT, NULL, TRUE, FALSE, INTEGER, DECIMAL, IDENTIFIER, STRING_LITERAL, RAW_STRING);
+    }
+
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$254$5 = EnumSet.of(IDENTIFIER);
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$254$10 = EnumSet.noneOf(TokenType.class);
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$258$5 = EnumSet.of(EXCLAM);
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$262$12 = follow_set$FEL_javacc$262$12_init();
+
+    static private EnumSet<TokenType> follow_set$FEL_javacc$262$12_init() {
+        return EnumSet.of(OPEN_PAREN, OPEN_BRACKET, OPEN_BRACE, DOT, NULL, TRUE, FALSE, INTEGER, DECIMAL, IDENTIFIER, STRING_LITERAL, RAW_STRING);
+    }
+
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$262$20 = EnumSet.of(EXCLAM);
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$265$8 = EnumSet.noneOf(TokenType.class);
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$270$3 = EnumSet.of(OPEN_PAREN, OPEN_BRACKET, DOT, BUILT_IN, EXISTS_OPERATOR);
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$272$7 = EnumSet.of(OPEN_PAREN, OPEN_BRACKET, DOT, BUILT_IN, EXISTS_OPERATOR);
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$274$7 = EnumSet.of(OPEN_PAREN, OPEN_BRACKET, DOT, BUILT_IN, EXISTS_OPERATOR);
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$276$7 = EnumSet.of(OPEN_PAREN, OPEN_BRACKET, DOT, BUILT_IN, EXISTS_OPERATOR);
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$278$7 = EnumSet.of(OPEN_PAREN, OPEN_BRACKET, DOT, BUILT_IN, EXISTS_OPERATOR);
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$280$7 = EnumSet.of(OPEN_PAREN, OPEN_BRACKET, DOT, BUILT_IN, EXISTS_OPERATOR);
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$285$5 = EnumSet.noneOf(TokenType.class);
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$306$5 = EnumSet.of(TIMES, IDENTIFIER);
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$307$6 = EnumSet.noneOf(TokenType.class);
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$307$19 = EnumSet.noneOf(TokenType.class);
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$311$5 = follow_set$FEL_javacc$311$5_init();
+
+    static private EnumSet<TokenType> follow_set$FEL_javacc$311$5_init() {
+        return EnumSet.of(OPEN_PAREN, OPEN_BRACKET, OPEN_BRACE, DOT, PLUS, MINUS, EXCLAM, NULL, TRUE, FALSE, INTEGER, DECIMAL, IDENTIFIER, STRING_LITERAL, RAW_STRING);
+    }
+
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$311$19 = EnumSet.of(CLOSE_BRACKET);
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$311$29 = EnumSet.noneOf(TokenType.class);
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$315$3 = follow_set$FEL_javacc$315$3_init();
+
+    static private EnumSet<TokenType> follow_set$FEL_javacc$315$3_init() {
+        return EnumSet.of(OPEN_PAREN, CLOSE_PAREN, OPEN_BRACKET, OPEN_BRACE, DOT, PLUS, MINUS, EXCLAM, NULL, TRUE, FALSE, INTEGER, DECIMAL, IDENTIFIER, STRING_LITERAL, RAW_STRING);
+    }
+
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$315$16$ = EnumSet.of(CLOSE_PAREN);
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$315$25 = EnumSet.noneOf(TokenType.class);
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$319$5 = EnumSet.of(IDENTIFIER);
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$319$15 = EnumSet.noneOf(TokenType.class);
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$323$5 = EnumSet.noneOf(TokenType.class);
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$327$5 = follow_set$FEL_javacc$327$5_init();
+
+    static private EnumSet<TokenType> follow_set$FEL_javacc$327$5_init() {
+        return EnumSet.of(OPEN_PAREN, OPEN_BRACKET, CLOSE_BRACKET, OPEN_BRACE, DOT, PLUS, MINUS, EXCLAM, NULL, TRUE, FALSE, INTEGER, DECIMAL, IDENTIFIER, STRING_LITERAL, RAW_STRING);
+    }
+
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$328$6$ = follow_set$FEL_javacc$328$6$_init();
+
+    static private EnumSet<TokenType> follow_set$FEL_javacc$328$6$_init() {
+        return EnumSet.of(OPEN_PAREN, OPEN_BRACKET, CLOSE_BRACKET, OPEN_BRACE, DOT, PLUS, MINUS, COMMA, EXCLAM, NULL, TRUE, FALSE, INTEGER, DECIMAL, IDENTIFIER, STRING_LITERAL, RAW_STRING);
+    }
+
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$328$19 = follow_set$FEL_javacc$328$19_init();
+
+    static private EnumSet<TokenType> follow_set$FEL_javacc$328$19_init() {
+        return EnumSet.of(OPEN_PAREN, OPEN_BRACKET, OPEN_BRACE, DOT, PLUS, MINUS, EXCLAM, NULL, TRUE, FALSE, INTEGER, DECIMAL, IDENTIFIER, STRING_LITERAL, RAW_STRING);
+    }
+
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$328$27 = follow_set$FEL_javacc$328$27_init();
+
+    static private EnumSet<TokenType> follow_set$FEL_javacc$328$27_init() {
+        return EnumSet.of(OPEN_PAREN, OPEN_BRACKET, CLOSE_BRACKET, OPEN_BRACE, DOT, PLUS, MINUS, COMMA, EXCLAM, NULL, TRUE, FALSE, INTEGER, DECIMAL, IDENTIFIER, STRING_LITERAL, RAW_STRING);
+    }
+
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$329$5 = EnumSet.noneOf(TokenType.class);
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$333$5 = EnumSet.noneOf(TokenType.class);
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$333$22 = EnumSet.noneOf(TokenType.class);
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$338$5 = follow_set$FEL_javacc$338$5_init();
+
+    static private EnumSet<TokenType> follow_set$FEL_javacc$338$5_init() {
+        return EnumSet.of(OPEN_PAREN, OPEN_BRACKET, OPEN_BRACE, CLOSE_BRACE, DOT, PLUS, MINUS, EXCLAM, NULL, TRUE, FALSE, INTEGER, DECIMAL, IDENTIFIER, STRING_LITERAL, RAW_STRING);
+    }
+
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$340$8$ = EnumSet.of(COLON);
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$340$19 = follow_set$FEL_javacc$340$19_init();
+
+    static private EnumSet<TokenType> follow_set$FEL_javacc$340$19_init() {
+        return EnumSet.of(OPEN_PAREN, OPEN_BRACKET, OPEN_BRACE, DOT, PLUS, MINUS, EXCLAM, NULL, TRUE, FALSE, INTEGER, DECIMAL, IDENTIFIER, STRING_LITERAL, RAW_STRING);
+    }
+
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$340$27 = EnumSet.of(CLOSE_BRACE, COMMA);
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$341$9 = follow_set$FEL_javacc$341$9_init();
+
+    static private EnumSet<TokenType> follow_set$FEL_javacc$341$9_init() {
+        return EnumSet.of(OPEN_PAREN, OPEN_BRACKET, OPEN_BRACE, DOT, PLUS, MINUS, EXCLAM, NULL, TRUE, FALSE, INTEGER, DECIMAL, IDENTIFIER, STRING_LITERAL, RAW_STRING);
+    }
+
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$341$17 = EnumSet.of(COLON);
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$341$28 = follow_set$FEL_javacc$341$28_init();
+
+    static private EnumSet<TokenType> follow_set$FEL_javacc$341$28_init() {
+        return EnumSet.of(OPEN_PAREN, OPEN_BRACKET, OPEN_BRACE, DOT, PLUS, MINUS, EXCLAM, NULL, TRUE, FALSE, INTEGER, DECIMAL, IDENTIFIER, STRING_LITERAL, RAW_STRING);
+    }
+
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$341$36 = EnumSet.of(CLOSE_BRACE, COMMA);
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$343$5 = EnumSet.noneOf(TokenType.class);
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$347$5 = EnumSet.noneOf(TokenType.class);
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$347$15 = EnumSet.noneOf(TokenType.class);
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$351$5 = EnumSet.noneOf(TokenType.class);
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$351$12 = EnumSet.noneOf(TokenType.class);
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$354$15 = EnumSet.noneOf(TokenType.class);
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$357$5 = follow_set$FEL_javacc$357$5_init();
+
+    static private EnumSet<TokenType> follow_set$FEL_javacc$357$5_init() {
+        return EnumSet.of(OPEN_PAREN, OPEN_BRACKET, OPEN_BRACE, DOT, PLUS, MINUS, EXCLAM, NULL, TRUE, FALSE, INTEGER, DECIMAL, IDENTIFIER, STRING_LITERAL, RAW_STRING);
+    }
+
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$357$18 = EnumSet.of(CLOSE_PAREN);
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$357$29 = EnumSet.noneOf(TokenType.class);
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$370$5 = EnumSet.of(EQUALS);
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$371$5 = follow_set$FEL_javacc$371$5_init();
+
+    static private EnumSet<TokenType> follow_set$FEL_javacc$371$5_init() {
+        return EnumSet.of(OPEN_PAREN, OPEN_BRACKET, OPEN_BRACE, DOT, PLUS, MINUS, EXCLAM, NULL, TRUE, FALSE, INTEGER, DECIMAL, IDENTIFIER, STRING_LITERAL, RAW_STRING);
+    }
+
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$372$5 = EnumSet.of(COMMA, IDENTIFIER);
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$374$9 = EnumSet.of(IDENTIFIER);
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$375$8 = EnumSet.of(EQUALS);
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$376$8 = follow_set$FEL_javacc$376$8_init();
+
+    static private EnumSet<TokenType> follow_set$FEL_javacc$376$8_init() {
+        return EnumSet.of(OPEN_PAREN, OPEN_BRACKET, OPEN_BRACE, DOT, PLUS, MINUS, EXCLAM, NULL, TRUE, FALSE, INTEGER, DECIMAL, IDENTIFIER, STRING_LITERAL, RAW_STRING);
+    }
+
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$377$8 = EnumSet.of(COMMA, IDENTIFIER);
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$382$5 = follow_set$FEL_javacc$382$5_init();
+
+    static private EnumSet<TokenType> follow_set$FEL_javacc$382$5_init() {
+        return EnumSet.of(OPEN_PAREN, OPEN_BRACKET, OPEN_BRACE, DOT, PLUS, MINUS, COMMA, EXCLAM, NULL, TRUE, FALSE, INTEGER, DECIMAL, IDENTIFIER, STRING_LITERAL, RAW_STRING);
+    }
+
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$384$9 = follow_set$FEL_javacc$384$9_init();
+
+    static private EnumSet<TokenType> follow_set$FEL_javacc$384$9_init() {
+        return EnumSet.of(OPEN_PAREN, OPEN_BRACKET, OPEN_BRACE, DOT, PLUS, MINUS, EXCLAM, NULL, TRUE, FALSE, INTEGER, DECIMAL, IDENTIFIER, STRING_LITERAL, RAW_STRING);
+    }
+
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$385$8 = follow_set$FEL_javacc$385$8_init();
+
+    static private EnumSet<TokenType> follow_set$FEL_javacc$385$8_init() {
+        return EnumSet.of(OPEN_PAREN, OPEN_BRACKET, OPEN_BRACE, DOT, PLUS, MINUS, COMMA, EXCLAM, NULL, TRUE, FALSE, INTEGER, DECIMAL, IDENTIFIER, STRING_LITERAL, RAW_STRING);
+    }
+
+    private final boolean scanToken(TokenType type1) {
+        Token peekedToken = nextToken(currentLookaheadToken);
+        TokenType type = peekedToken.getType();
+        if (type!=type1) return false;
+        --remainingLookahead;
+        currentLookaheadToken = peekedToken;
+        return true;
+    }
+
+    private final boolean scanToken(TokenType type1, TokenType type2) {
+        Token peekedToken = nextToken(currentLookaheadToken);
+        TokenType type = peekedToken.getType();
+        if (type!=type1&&type!=type2) return false;
+        --remainingLookahead;
+        currentLookaheadToken = peekedToken;
+        return true;
+    }
+
+    private final boolean scanToken(TokenType type1, TokenType type2, TokenType type3) {
+        Token peekedToken = nextToken(currentLookaheadToken);
+        TokenType type = peekedToken.getType();
+        if (type!=type1&&type!=type2&&type!=type3) return false;
+        --remainingLookahead;
+        currentLookaheadToken = peekedToken;
+        return true;
+    }
+
+    private final boolean scanToken(TokenType type1, TokenType type2, TokenType type3, TokenType type4) {
+        Token peekedToken = nextToken(currentLookaheadToken);
+        TokenType type = peekedToken.getType();
+        if (type!=type1&&type!=type2&&type!=type3&&type!=type4) return false;
+        --remainingLookahead;
+        currentLookaheadToken = peekedToken;
+        return true;
+    }
+
+    private final boolean scanToken(TokenType expectedType, TokenType...additionalTypes) {
+        Token peekedToken = nextToken(currentLookaheadToken);
+        TokenType type = peekedToken.getType();
+        if (type!=expectedType) {
+            boolean matched = false;
+            for (TokenType tt : additionalTypes) {
+                if (type==tt) {
+                    matched = true;
+                    break;
+                }
+            }
+            if (!matched) return false;
+        }
+        --remainingLookahead;
+        currentLookaheadToken = peekedToken;
+        return true;
+    }
+
+    private final boolean scanToken(long typeMask) {
+        Token peekedToken = nextToken(currentLookaheadToken);
+        int ordinal = peekedToken.getType().ordinal();
+        if (!((typeMask&(1L<<ordinal))!=0)) return false;
+        --remainingLookahead;
+        currentLookaheadToken = peekedToken;
+        return true;
+    }
+
+    //====================================
+    // Lookahead Routines
+    //====================================
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FEL.javacc:182:9
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$182$9(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FEL.javacc:182:10
+            if (!scanToken(OR, OR2)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:182:22
+            // NonTerminal AndExpression at /root/project/examples/freemarker/FEL.javacc:182:22
+            pushOntoLookaheadStack(2, "/root/project/examples/freemarker/FEL.javacc", 182, 22);
+            currentLookaheadProduction = 3;
+            try {
+                if (!check$AndExpression(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FEL.javacc:189:9
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$189$9(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FEL.javacc:189:10
+            if (!scanToken(AND, AND2)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:189:24
+            // NonTerminal EqualityExpression at /root/project/examples/freemarker/FEL.javacc:189:24
+            pushOntoLookaheadStack(3, "/root/project/examples/freemarker/FEL.javacc", 189, 24);
+            currentLookaheadProduction = 4;
+            try {
+                if (!check$EqualityExpression(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FEL.javacc:196:9
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$196$9(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FEL.javacc:196:10
+            if (!scanToken(EQUALS, DOUBLE_EQUALS, NOT_EQUALS)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:197:9
+            // NonTerminal RelationalExpression at /root/project/examples/freemarker/FEL.javacc:197:9
+            pushOntoLookaheadStack(4, "/root/project/examples/freemarker/FEL.javacc", 197, 9);
+            currentLookaheadProduction = 5;
+            try {
+                if (!check$RelationalExpression(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FEL.javacc:204:9
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$204$9(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FEL.javacc:204:10
+            if (!scanToken(first_set$FEL_javacc$204$10$_MASK)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:205:9
+            // NonTerminal RangeExpression at /root/project/examples/freemarker/FEL.javacc:205:9
+            pushOntoLookaheadStack(5, "/root/project/examples/freemarker/FEL.javacc", 205, 9);
+            currentLookaheadProduction = 6;
+            try {
+                if (!check$RangeExpression(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FEL.javacc:212:8
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$212$8(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:212:8
+            if (!scanToken(DOT_DOT)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FEL.javacc:213:8
+            Token token1038 = currentLookaheadToken;
+            boolean passedPredicate1038 = passedPredicate;
+            passedPredicate = false;
+            try {
+                if (!check$FEL_javacc$214$11(false)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token1038;
+                    hitFailure = false;
+                }
+            }
+            finally {
+                passedPredicate = passedPredicate1038;
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FEL.javacc:214:11
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$214$11(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-2147483647;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:214:14
+            // NonTerminal AdditiveExpression at /root/project/examples/freemarker/FEL.javacc:214:14
+            pushOntoLookaheadStack(6, "/root/project/examples/freemarker/FEL.javacc", 214, 14);
+            currentLookaheadProduction = 7;
+            try {
+                if (!check$AdditiveExpression(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FEL.javacc:222:12
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$222$12(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FEL.javacc:222:13
+            if (!scanToken(PLUS, MINUS)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:223:12
+            // NonTerminal MultiplicativeExpression at /root/project/examples/freemarker/FEL.javacc:223:12
+            pushOntoLookaheadStack(7, "/root/project/examples/freemarker/FEL.javacc", 223, 12);
+            currentLookaheadProduction = 8;
+            try {
+                if (!check$MultiplicativeExpression(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FEL.javacc:230:11
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$230$11(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FEL.javacc:230:12
+            if (!scanToken(TIMES, DIVIDE, PERCENT)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:231:11
+            // NonTerminal UnaryExpression at /root/project/examples/freemarker/FEL.javacc:231:11
+            pushOntoLookaheadStack(8, "/root/project/examples/freemarker/FEL.javacc", 231, 11);
+            currentLookaheadProduction = 9;
+            try {
+                if (!check$UnaryExpression(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FEL.javacc:237:5
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$237$5(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:237:5
+            // NonTerminal UnaryPlusMinusExpression at /root/project/examples/freemarker/FEL.javacc:237:5
+            pushOntoLookaheadStack(9, "/root/project/examples/freemarker/FEL.javacc", 237, 5);
+            currentLookaheadProduction = 10;
+            try {
+                if (!check$UnaryPlusMinusExpression(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FEL.javacc:239:5
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$239$5(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:239:5
+            // NonTerminal NotExpression at /root/project/examples/freemarker/FEL.javacc:239:5
+            pushOntoLookaheadStack(9, "/root/project/examples/freemarker/FEL.javacc", 239, 5);
+            currentLookaheadProduction = 11;
+            try {
+                if (!check$NotExpression(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FEL.javacc:241:5
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$241$5(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:241:5
+            // NonTerminal DefaultToExpression at /root/project/examples/freemarker/FEL.javacc:241:5
+            pushOntoLookaheadStack(9, "/root/project/examples/freemarker/FEL.javacc", 241, 5);
+            currentLookaheadProduction = 13;
+            try {
+                if (!check$DefaultToExpression(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FEL.javacc:261:9
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$261$9(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-2147483647;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:262:12
+            if (!scanToken(EXCLAM)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:262:20
+            // NonTerminal PrimaryExpression at /root/project/examples/freemarker/FEL.javacc:262:20
+            pushOntoLookaheadStack(13, "/root/project/examples/freemarker/FEL.javacc", 262, 20);
+            currentLookaheadProduction = 14;
+            try {
+                if (!check$PrimaryExpression(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FEL.javacc:272:7
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$272$7(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FEL.javacc:272:7
+            Token token1059 = currentLookaheadToken;
+            int remainingLookahead1059 = remainingLookahead;
+            boolean hitFailure1059 = hitFailure, passedPredicate1059 = passedPredicate;
+            try {
+                passedPredicate = false;
+                if (!check$FEL_javacc$272$7$(false)) {
+                    currentLookaheadToken = token1059;
+                    remainingLookahead = remainingLookahead1059;
+                    hitFailure = hitFailure1059;
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    passedPredicate = false;
+                    if (!check$FEL_javacc$274$7(false)) {
+                        currentLookaheadToken = token1059;
+                        remainingLookahead = remainingLookahead1059;
+                        hitFailure = hitFailure1059;
+                        if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                        passedPredicate = false;
+                        if (!check$FEL_javacc$276$7(false)) {
+                            currentLookaheadToken = token1059;
+                            remainingLookahead = remainingLookahead1059;
+                            hitFailure = hitFailure1059;
+                            if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                            passedPredicate = false;
+                            if (!check$FEL_javacc$278$7(false)) {
+                                currentLookaheadToken = token1059;
+                                remainingLookahead = remainingLookahead1059;
+                                hitFailure = hitFailure1059;
+                                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                                passedPredicate = false;
+                                if (!scanToken(EXISTS_OPERATOR)) {
+                                    currentLookaheadToken = token1059;
+                                    remainingLookahead = remainingLookahead1059;
+                                    hitFailure = hitFailure1059;
+                                    return false;
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+            finally {
+                passedPredicate = passedPredicate1059;
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FEL.javacc:272:7
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$272$7$(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:272:7
+            // NonTerminal DotKey at /root/project/examples/freemarker/FEL.javacc:272:7
+            pushOntoLookaheadStack(14, "/root/project/examples/freemarker/FEL.javacc", 272, 7);
+            currentLookaheadProduction = 16;
+            try {
+                if (!check$DotKey(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FEL.javacc:274:7
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$274$7(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:274:7
+            // NonTerminal DynamicKey at /root/project/examples/freemarker/FEL.javacc:274:7
+            pushOntoLookaheadStack(14, "/root/project/examples/freemarker/FEL.javacc", 274, 7);
+            currentLookaheadProduction = 17;
+            try {
+                if (!check$DynamicKey(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FEL.javacc:276:7
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$276$7(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:276:7
+            // NonTerminal MethodInvoke at /root/project/examples/freemarker/FEL.javacc:276:7
+            pushOntoLookaheadStack(14, "/root/project/examples/freemarker/FEL.javacc", 276, 7);
+            currentLookaheadProduction = 18;
+            try {
+                if (!check$MethodInvoke(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FEL.javacc:278:7
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$278$7(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:278:7
+            // NonTerminal BuiltIn at /root/project/examples/freemarker/FEL.javacc:278:7
+            pushOntoLookaheadStack(14, "/root/project/examples/freemarker/FEL.javacc", 278, 7);
+            currentLookaheadProduction = 19;
+            try {
+                if (!check$BuiltIn(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FEL.javacc:289:5
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$289$5(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:289:5
+            // NonTerminal HashLiteral at /root/project/examples/freemarker/FEL.javacc:289:5
+            pushOntoLookaheadStack(15, "/root/project/examples/freemarker/FEL.javacc", 289, 5);
+            currentLookaheadProduction = 23;
+            try {
+                if (!check$HashLiteral(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FEL.javacc:297:5
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$297$5(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:297:5
+            // NonTerminal ListLiteral at /root/project/examples/freemarker/FEL.javacc:297:5
+            pushOntoLookaheadStack(15, "/root/project/examples/freemarker/FEL.javacc", 297, 5);
+            currentLookaheadProduction = 21;
+            try {
+                if (!check$ListLiteral(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FEL.javacc:299:5
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$299$5(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:299:5
+            // NonTerminal Parenthesis at /root/project/examples/freemarker/FEL.javacc:299:5
+            pushOntoLookaheadStack(15, "/root/project/examples/freemarker/FEL.javacc", 299, 5);
+            currentLookaheadProduction = 27;
+            try {
+                if (!check$Parenthesis(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FEL.javacc:301:5
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$301$5(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:301:5
+            // NonTerminal BuiltinVariable at /root/project/examples/freemarker/FEL.javacc:301:5
+            pushOntoLookaheadStack(15, "/root/project/examples/freemarker/FEL.javacc", 301, 5);
+            currentLookaheadProduction = 12;
+            try {
+                if (!check$BuiltinVariable(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FEL.javacc:315:16
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$315$16(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:315:16
+            // NonTerminal ArgsList at /root/project/examples/freemarker/FEL.javacc:315:16
+            pushOntoLookaheadStack(18, "/root/project/examples/freemarker/FEL.javacc", 315, 16);
+            currentLookaheadProduction = 28;
+            try {
+                if (!check$ArgsList(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FEL.javacc:328:6
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$328$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:328:6
+            // NonTerminal Expression at /root/project/examples/freemarker/FEL.javacc:328:6
+            pushOntoLookaheadStack(21, "/root/project/examples/freemarker/FEL.javacc", 328, 6);
+            currentLookaheadProduction = 1;
+            try {
+                if (!check$Expression(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for ZeroOrMore specified at /root/project/examples/freemarker/FEL.javacc:328:17
+            boolean passedPredicate1081 = passedPredicate;
+            try {
+                while (remainingLookahead > 0&&!hitFailure) {
+                    Token token1082 = currentLookaheadToken;
+                    passedPredicate = false;
+                    if (!check$FEL_javacc$328$18(false)) {
+                        if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                        currentLookaheadToken = token1082;
+                        break;
+                    }
+                }
+            }
+            finally {
+                passedPredicate = passedPredicate1081;
+            }
+            hitFailure = false;
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FEL.javacc:328:18
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$328$18(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FEL.javacc:328:18
+            Token token1085 = currentLookaheadToken;
+            boolean passedPredicate1085 = passedPredicate;
+            passedPredicate = false;
+            try {
+                if (!scanToken(COMMA)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token1085;
+                    hitFailure = false;
+                }
+            }
+            finally {
+                passedPredicate = passedPredicate1085;
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:328:27
+            // NonTerminal Expression at /root/project/examples/freemarker/FEL.javacc:328:27
+            pushOntoLookaheadStack(21, "/root/project/examples/freemarker/FEL.javacc", 328, 27);
+            currentLookaheadProduction = 1;
+            try {
+                if (!check$Expression(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FEL.javacc:340:8
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$340$8(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:340:8
+            // NonTerminal Expression at /root/project/examples/freemarker/FEL.javacc:340:8
+            pushOntoLookaheadStack(23, "/root/project/examples/freemarker/FEL.javacc", 340, 8);
+            currentLookaheadProduction = 1;
+            try {
+                if (!check$Expression(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:340:19
+            if (!scanToken(COLON)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:340:27
+            // NonTerminal Expression at /root/project/examples/freemarker/FEL.javacc:340:27
+            pushOntoLookaheadStack(23, "/root/project/examples/freemarker/FEL.javacc", 340, 27);
+            currentLookaheadProduction = 1;
+            try {
+                if (!check$Expression(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for ZeroOrMore specified at /root/project/examples/freemarker/FEL.javacc:341:8
+            boolean passedPredicate1092 = passedPredicate;
+            try {
+                while (remainingLookahead > 0&&!hitFailure) {
+                    Token token1093 = currentLookaheadToken;
+                    passedPredicate = false;
+                    if (!check$FEL_javacc$341$9(false)) {
+                        if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                        currentLookaheadToken = token1093;
+                        break;
+                    }
+                }
+            }
+            finally {
+                passedPredicate = passedPredicate1092;
+            }
+            hitFailure = false;
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FEL.javacc:341:9
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$341$9(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:341:9
+            if (!scanToken(COMMA)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:341:17
+            // NonTerminal Expression at /root/project/examples/freemarker/FEL.javacc:341:17
+            pushOntoLookaheadStack(23, "/root/project/examples/freemarker/FEL.javacc", 341, 17);
+            currentLookaheadProduction = 1;
+            try {
+                if (!check$Expression(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:341:28
+            if (!scanToken(COLON)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:341:36
+            // NonTerminal Expression at /root/project/examples/freemarker/FEL.javacc:341:36
+            pushOntoLookaheadStack(23, "/root/project/examples/freemarker/FEL.javacc", 341, 36);
+            currentLookaheadProduction = 1;
+            try {
+                if (!check$Expression(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FEL.javacc:362:9
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$362$9(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-2147483647;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            if (remainingLookahead<=0) {
+                passedPredicate = true;
+                return!hitFailure;
+            }
+            if (!check$FEL_javacc$362$14(true)) return false;
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:363:9
+            // NonTerminal NamedArgsList at /root/project/examples/freemarker/FEL.javacc:363:9
+            pushOntoLookaheadStack(28, "/root/project/examples/freemarker/FEL.javacc", 363, 9);
+            currentLookaheadProduction = 29;
+            try {
+                if (!check$NamedArgsList(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FEL.javacc:365:9
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$365$9(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:365:9
+            // NonTerminal PositionalArgsList at /root/project/examples/freemarker/FEL.javacc:365:9
+            pushOntoLookaheadStack(28, "/root/project/examples/freemarker/FEL.javacc", 365, 9);
+            currentLookaheadProduction = 30;
+            try {
+                if (!check$PositionalArgsList(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FEL.javacc:374:8
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$374$8(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FEL.javacc:374:8
+            Token token1107 = currentLookaheadToken;
+            boolean passedPredicate1107 = passedPredicate;
+            passedPredicate = false;
+            try {
+                if (!scanToken(COMMA)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token1107;
+                    hitFailure = false;
+                }
+            }
+            finally {
+                passedPredicate = passedPredicate1107;
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:375:8
+            if (!scanToken(IDENTIFIER)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:376:8
+            if (!scanToken(EQUALS)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:377:8
+            // NonTerminal Expression at /root/project/examples/freemarker/FEL.javacc:377:8
+            pushOntoLookaheadStack(29, "/root/project/examples/freemarker/FEL.javacc", 377, 8);
+            currentLookaheadProduction = 1;
+            try {
+                if (!check$Expression(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FEL.javacc:384:8
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$384$8(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FEL.javacc:384:8
+            Token token1113 = currentLookaheadToken;
+            boolean passedPredicate1113 = passedPredicate;
+            passedPredicate = false;
+            try {
+                if (!scanToken(COMMA)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token1113;
+                    hitFailure = false;
+                }
+            }
+            finally {
+                passedPredicate = passedPredicate1113;
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:385:8
+            // NonTerminal Expression at /root/project/examples/freemarker/FEL.javacc:385:8
+            pushOntoLookaheadStack(30, "/root/project/examples/freemarker/FEL.javacc", 385, 8);
+            currentLookaheadProduction = 1;
+            try {
+                if (!check$Expression(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FEL.javacc:214:11
+    private final boolean scan$FEL_javacc$214$11() {
+        remainingLookahead = UNLIMITED;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:214:14
+            // NonTerminal AdditiveExpression at /root/project/examples/freemarker/FEL.javacc:214:14
+            pushOntoLookaheadStack(6, "/root/project/examples/freemarker/FEL.javacc", 214, 14);
+            currentLookaheadProduction = 7;
+            try {
+                if (!check$AdditiveExpression(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+            return true;
+        }
+        finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FEL.javacc:261:9
+    private final boolean scan$FEL_javacc$261$9() {
+        remainingLookahead = UNLIMITED;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:262:12
+            if (!scanToken(EXCLAM)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:262:20
+            // NonTerminal PrimaryExpression at /root/project/examples/freemarker/FEL.javacc:262:20
+            pushOntoLookaheadStack(13, "/root/project/examples/freemarker/FEL.javacc", 262, 20);
+            currentLookaheadProduction = 14;
+            try {
+                if (!check$PrimaryExpression(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+            return true;
+        }
+        finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FEL.javacc:362:9
+    private final boolean scan$FEL_javacc$362$9() {
+        remainingLookahead = UNLIMITED;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            if (remainingLookahead<=0) {
+                passedPredicate = true;
+                return!hitFailure;
+            }
+            if (!check$FEL_javacc$362$14(true)) return false;
+            // End BuildPredicateCode macro
+            return true;
+        }
+        finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // lookahead routine for lookahead at: 
+    // /root/project/examples/freemarker/FEL.javacc:362:9
+    private final boolean check$FEL_javacc$362$14(boolean scanToEnd) {
+        int prevRemainingLookahead = remainingLookahead;
+        boolean prevHitFailure = hitFailure;
+        Token prevScanAheadToken = currentLookaheadToken;
+        try {
+            lookaheadRoutineNesting++;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:362:14
+            if (!scanToken(IDENTIFIER)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:362:26
+            if (!scanToken(EQUALS)) return false;
+            return!hitFailure;
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            currentLookaheadToken = prevScanAheadToken;
+            remainingLookahead = prevRemainingLookahead;
+            hitFailure = prevHitFailure;
+        }
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$Expression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:176:5
+        // NonTerminal OrExpression at /root/project/examples/freemarker/FEL.javacc:176:5
+        pushOntoLookaheadStack(1, "/root/project/examples/freemarker/FEL.javacc", 176, 5);
+        currentLookaheadProduction = 2;
+        try {
+            if (!check$OrExpression(false)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$OrExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:180:5
+        // NonTerminal AndExpression at /root/project/examples/freemarker/FEL.javacc:180:5
+        pushOntoLookaheadStack(2, "/root/project/examples/freemarker/FEL.javacc", 180, 5);
+        currentLookaheadProduction = 3;
+        try {
+            if (!check$AndExpression(false)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/freemarker/FEL.javacc:181:5
+        boolean passedPredicate1132 = passedPredicate;
+        try {
+            while (remainingLookahead > 0&&!hitFailure) {
+                Token token1133 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$FEL_javacc$182$9(false)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token1133;
+                    break;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate1132;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$AndExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:187:5
+        // NonTerminal EqualityExpression at /root/project/examples/freemarker/FEL.javacc:187:5
+        pushOntoLookaheadStack(3, "/root/project/examples/freemarker/FEL.javacc", 187, 5);
+        currentLookaheadProduction = 4;
+        try {
+            if (!check$EqualityExpression(false)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/freemarker/FEL.javacc:188:5
+        boolean passedPredicate1137 = passedPredicate;
+        try {
+            while (remainingLookahead > 0&&!hitFailure) {
+                Token token1138 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$FEL_javacc$189$9(false)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token1138;
+                    break;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate1137;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$EqualityExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:194:5
+        // NonTerminal RelationalExpression at /root/project/examples/freemarker/FEL.javacc:194:5
+        pushOntoLookaheadStack(4, "/root/project/examples/freemarker/FEL.javacc", 194, 5);
+        currentLookaheadProduction = 5;
+        try {
+            if (!check$RelationalExpression(false)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FEL.javacc:195:5
+        Token token1142 = currentLookaheadToken;
+        boolean passedPredicate1142 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!check$FEL_javacc$196$9(false)) {
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token1142;
+                hitFailure = false;
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate1142;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$RelationalExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:202:5
+        // NonTerminal RangeExpression at /root/project/examples/freemarker/FEL.javacc:202:5
+        pushOntoLookaheadStack(5, "/root/project/examples/freemarker/FEL.javacc", 202, 5);
+        currentLookaheadProduction = 6;
+        try {
+            if (!check$RangeExpression(false)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FEL.javacc:203:5
+        Token token1146 = currentLookaheadToken;
+        boolean passedPredicate1146 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!check$FEL_javacc$204$9(false)) {
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token1146;
+                hitFailure = false;
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate1146;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$RangeExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:210:5
+        // NonTerminal AdditiveExpression at /root/project/examples/freemarker/FEL.javacc:210:5
+        pushOntoLookaheadStack(6, "/root/project/examples/freemarker/FEL.javacc", 210, 5);
+        currentLookaheadProduction = 7;
+        try {
+            if (!check$AdditiveExpression(false)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FEL.javacc:211:5
+        Token token1150 = currentLookaheadToken;
+        boolean passedPredicate1150 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!check$FEL_javacc$212$8(false)) {
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token1150;
+                hitFailure = false;
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate1150;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$AdditiveExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:220:5
+        // NonTerminal MultiplicativeExpression at /root/project/examples/freemarker/FEL.javacc:220:5
+        pushOntoLookaheadStack(7, "/root/project/examples/freemarker/FEL.javacc", 220, 5);
+        currentLookaheadProduction = 8;
+        try {
+            if (!check$MultiplicativeExpression(false)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/freemarker/FEL.javacc:221:5
+        boolean passedPredicate1154 = passedPredicate;
+        try {
+            while (remainingLookahead > 0&&!hitFailure) {
+                Token token1155 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$FEL_javacc$222$12(false)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token1155;
+                    break;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate1154;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$MultiplicativeExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:228:5
+        // NonTerminal UnaryExpression at /root/project/examples/freemarker/FEL.javacc:228:5
+        pushOntoLookaheadStack(8, "/root/project/examples/freemarker/FEL.javacc", 228, 5);
+        currentLookaheadProduction = 9;
+        try {
+            if (!check$UnaryExpression(false)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/freemarker/FEL.javacc:229:5
+        boolean passedPredicate1159 = passedPredicate;
+        try {
+            while (remainingLookahead > 0&&!hitFailure) {
+                Token token1160 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$FEL_javacc$230$11(false)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token1160;
+                    break;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate1159;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$UnaryExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FEL.javacc:237:5
+        Token token1162 = currentLookaheadToken;
+        int remainingLookahead1162 = remainingLookahead;
+        boolean hitFailure1162 = hitFailure, passedPredicate1162 = passedPredicate;
+        try {
+            passedPredicate = false;
+            if (!check$FEL_javacc$237$5(false)) {
+                currentLookaheadToken = token1162;
+                remainingLookahead = remainingLookahead1162;
+                hitFailure = hitFailure1162;
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                passedPredicate = false;
+                if (!check$FEL_javacc$239$5(false)) {
+                    currentLookaheadToken = token1162;
+                    remainingLookahead = remainingLookahead1162;
+                    hitFailure = hitFailure1162;
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    passedPredicate = false;
+                    if (!check$FEL_javacc$241$5(false)) {
+                        currentLookaheadToken = token1162;
+                        remainingLookahead = remainingLookahead1162;
+                        hitFailure = hitFailure1162;
+                        return false;
+                    }
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate1162;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$UnaryPlusMinusExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FEL.javacc:245:6
+        if (!scanToken(PLUS, MINUS)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:245:22
+        // NonTerminal DefaultToExpression at /root/project/examples/freemarker/FEL.javacc:245:22
+        pushOntoLookaheadStack(10, "/root/project/examples/freemarker/FEL.javacc", 245, 22);
+        currentLookaheadProduction = 13;
+        try {
+            if (!check$DefaultToExpression(true)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$NotExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:249:5
+        if (!scanToken(EXCLAM)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:250:5
+        // NonTerminal DefaultToExpression at /root/project/examples/freemarker/FEL.javacc:250:5
+        pushOntoLookaheadStack(11, "/root/project/examples/freemarker/FEL.javacc", 250, 5);
+        currentLookaheadProduction = 13;
+        try {
+            if (!check$DefaultToExpression(true)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$BuiltinVariable(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:254:5
+        if (!scanToken(DOT)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:254:10
+        if (!scanToken(IDENTIFIER)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$DefaultToExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:258:5
+        // NonTerminal PrimaryExpression at /root/project/examples/freemarker/FEL.javacc:258:5
+        pushOntoLookaheadStack(13, "/root/project/examples/freemarker/FEL.javacc", 258, 5);
+        currentLookaheadProduction = 14;
+        try {
+            if (!check$PrimaryExpression(false)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/freemarker/FEL.javacc:259:5
+        boolean passedPredicate1176 = passedPredicate;
+        try {
+            while (remainingLookahead > 0&&!hitFailure) {
+                Token token1177 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$FEL_javacc$261$9(false)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token1177;
+                    break;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate1176;
+        }
+        hitFailure = false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FEL.javacc:264:5
+        Token token1179 = currentLookaheadToken;
+        boolean passedPredicate1179 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!scanToken(EXCLAM)) {
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token1179;
+                hitFailure = false;
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate1179;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$PrimaryExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:270:3
+        // NonTerminal BaseExpression at /root/project/examples/freemarker/FEL.javacc:270:3
+        pushOntoLookaheadStack(14, "/root/project/examples/freemarker/FEL.javacc", 270, 3);
+        currentLookaheadProduction = 15;
+        try {
+            if (!check$BaseExpression(false)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/freemarker/FEL.javacc:271:3
+        boolean passedPredicate1183 = passedPredicate;
+        try {
+            while (remainingLookahead > 0&&!hitFailure) {
+                Token token1184 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$FEL_javacc$272$7(false)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token1184;
+                    break;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate1183;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$BaseExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FEL.javacc:285:5
+        Token token1186 = currentLookaheadToken;
+        int remainingLookahead1186 = remainingLookahead;
+        boolean hitFailure1186 = hitFailure, passedPredicate1186 = passedPredicate;
+        try {
+            passedPredicate = false;
+            if (!scanToken(IDENTIFIER)) {
+                currentLookaheadToken = token1186;
+                remainingLookahead = remainingLookahead1186;
+                hitFailure = hitFailure1186;
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                passedPredicate = false;
+                if (!scanToken(INTEGER, DECIMAL)) {
+                    currentLookaheadToken = token1186;
+                    remainingLookahead = remainingLookahead1186;
+                    hitFailure = hitFailure1186;
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    passedPredicate = false;
+                    if (!check$FEL_javacc$289$5(false)) {
+                        currentLookaheadToken = token1186;
+                        remainingLookahead = remainingLookahead1186;
+                        hitFailure = hitFailure1186;
+                        if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                        passedPredicate = false;
+                        if (!scanToken(STRING_LITERAL, RAW_STRING)) {
+                            currentLookaheadToken = token1186;
+                            remainingLookahead = remainingLookahead1186;
+                            hitFailure = hitFailure1186;
+                            if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                            passedPredicate = false;
+                            if (!scanToken(TRUE, FALSE)) {
+                                currentLookaheadToken = token1186;
+                                remainingLookahead = remainingLookahead1186;
+                                hitFailure = hitFailure1186;
+                                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                                passedPredicate = false;
+                                if (!scanToken(NULL)) {
+                                    currentLookaheadToken = token1186;
+                                    remainingLookahead = remainingLookahead1186;
+                                    hitFailure = hitFailure1186;
+                                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                                    passedPredicate = false;
+                                    if (!check$FEL_javacc$297$5(false)) {
+                                        currentLookaheadToken = token1186;
+                                        remainingLookahead = remainingLookahead1186;
+                                        hitFailure = hitFailure1186;
+                                        if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                                        passedPredicate = false;
+                                        if (!check$FEL_javacc$299$5(false)) {
+                                            currentLookaheadToken = token1186;
+                                            remainingLookahead = remainingLookahead1186;
+                                            hitFailure = hitFailure1186;
+                                            if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                                            passedPredicate = false;
+                                            if (!check$FEL_javacc$301$5(false)) {
+                                                currentLookaheadToken = token1186;
+                                                remainingLookahead = remainingLookahead1186;
+                                                hitFailure = hitFailure1186;
+                                                return false;
+                                            }
+                                        }
+                                    }
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate1186;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$DotKey(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:306:5
+        if (!scanToken(DOT)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FEL.javacc:307:6
+        if (!scanToken(TIMES, IDENTIFIER)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$DynamicKey(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:311:5
+        if (!scanToken(OPEN_BRACKET)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:311:19
+        // NonTerminal Expression at /root/project/examples/freemarker/FEL.javacc:311:19
+        pushOntoLookaheadStack(17, "/root/project/examples/freemarker/FEL.javacc", 311, 19);
+        currentLookaheadProduction = 1;
+        try {
+            if (!check$Expression(true)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:311:29
+        if (!scanToken(CLOSE_BRACKET)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$MethodInvoke(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:315:3
+        if (!scanToken(OPEN_PAREN)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FEL.javacc:315:15
+        Token token1198 = currentLookaheadToken;
+        boolean passedPredicate1198 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!check$FEL_javacc$315$16(false)) {
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token1198;
+                hitFailure = false;
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate1198;
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:315:25
+        if (!scanToken(CLOSE_PAREN)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$BuiltIn(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:319:5
+        if (!scanToken(BUILT_IN)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:319:15
+        if (!scanToken(IDENTIFIER)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$ListLiteral(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:327:5
+        if (!scanToken(OPEN_BRACKET)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FEL.javacc:328:5
+        Token token1207 = currentLookaheadToken;
+        boolean passedPredicate1207 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!check$FEL_javacc$328$6(false)) {
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token1207;
+                hitFailure = false;
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate1207;
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:329:5
+        if (!scanToken(CLOSE_BRACKET)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$HashLiteral(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:338:5
+        if (!scanToken(OPEN_BRACE)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FEL.javacc:339:5
+        Token token1213 = currentLookaheadToken;
+        boolean passedPredicate1213 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!check$FEL_javacc$340$8(false)) {
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token1213;
+                hitFailure = false;
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate1213;
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:343:5
+        if (!scanToken(CLOSE_BRACE)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$Parenthesis(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:357:5
+        if (!scanToken(OPEN_PAREN)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:357:18
+        // NonTerminal Expression at /root/project/examples/freemarker/FEL.javacc:357:18
+        pushOntoLookaheadStack(27, "/root/project/examples/freemarker/FEL.javacc", 357, 18);
+        currentLookaheadProduction = 1;
+        try {
+            if (!check$Expression(true)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:357:29
+        if (!scanToken(CLOSE_PAREN)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$ArgsList(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FEL.javacc:362:9
+        Token token1225 = currentLookaheadToken;
+        int remainingLookahead1225 = remainingLookahead;
+        boolean hitFailure1225 = hitFailure, passedPredicate1225 = passedPredicate;
+        try {
+            passedPredicate = false;
+            if (!check$FEL_javacc$362$9(false)) {
+                currentLookaheadToken = token1225;
+                remainingLookahead = remainingLookahead1225;
+                hitFailure = hitFailure1225;
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                passedPredicate = false;
+                if (!check$FEL_javacc$365$9(false)) {
+                    currentLookaheadToken = token1225;
+                    remainingLookahead = remainingLookahead1225;
+                    hitFailure = hitFailure1225;
+                    return false;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate1225;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$NamedArgsList(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:370:5
+        if (!scanToken(IDENTIFIER)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:371:5
+        if (!scanToken(EQUALS)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:372:5
+        // NonTerminal Expression at /root/project/examples/freemarker/FEL.javacc:372:5
+        pushOntoLookaheadStack(29, "/root/project/examples/freemarker/FEL.javacc", 372, 5);
+        currentLookaheadProduction = 1;
+        try {
+            if (!check$Expression(true)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/freemarker/FEL.javacc:373:5
+        boolean passedPredicate1231 = passedPredicate;
+        try {
+            while (remainingLookahead > 0&&!hitFailure) {
+                Token token1232 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$FEL_javacc$374$8(false)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token1232;
+                    break;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate1231;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$PositionalArgsList(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:382:5
+        // NonTerminal Expression at /root/project/examples/freemarker/FEL.javacc:382:5
+        pushOntoLookaheadStack(30, "/root/project/examples/freemarker/FEL.javacc", 382, 5);
+        currentLookaheadProduction = 1;
+        try {
+            if (!check$Expression(false)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/freemarker/FEL.javacc:383:5
+        boolean passedPredicate1236 = passedPredicate;
+        try {
+            while (remainingLookahead > 0&&!hitFailure) {
+                Token token1237 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$FEL_javacc$384$8(false)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token1237;
+                    break;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate1236;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    CallStack parsingStack = new CallStack();
+    private CallStack lookaheadStack = new CallStack();
+    private EnumSet<TokenType> currentFollowSet;
+
+    /**
+    * Inner class that represents entering a grammar production
+    */
+    class NonTerminalCall {
+        final String sourceFile;
+        final String productionName;
+        final int line, column;
+        final EnumSet<TokenType> followSet;
+
+        NonTerminalCall(String sourceFile, String productionName, int line, int column, EnumSet<TokenType> followSet) {
+            this.sourceFile = sourceFile;
+            this.productionName = productionName;
+            this.line = line;
+            this.column = column;
+            this.followSet = followSet;
+        }
+
+        final FELLexer getTokenSource() {
+            return FELParser.this.token_source;
+        }
+
+        StackTraceElement createStackTraceElement() {
+            return new StackTraceElement("FELParser", productionName, sourceFile, line);
+        }
+
+        void dump(PrintStream ps) {
+            ps.println(productionName+":"+line+":"+column);
+        }
+
+    }
+
+
+    /**
+    * A stack of calls to grammar productions, kept in parallel arrays
+    * so that entering a production does not allocate anything. The productions
+    * are identified by their index in PRODUCTION_NAMES and the NonTerminalCall
+    * objects are only created when something needs them, i.e. a ParseException.
+    */
+    final class CallStack implements Cloneable {
+        private int size;
+        private int[]productionIds = new int[16], lines = new int[16], columns = new int[16];
+        private String[]sourceFiles = new String[16];
+        private Object[]followSets = new Object[16];
+
+        int size() {
+            return size;
+        }
+
+        int getProductionId(int index) {
+            return productionIds[index];
+        }
+
+        @SuppressWarnings("unchecked")
+        EnumSet<TokenType> getFollowSet(int index) {
+            return(EnumSet<TokenType> )followSets[index];
+        }
+
+        void push(int productionId, String sourceFile, int line, int column) {
+            if (size==productionIds.length) {
+                int capacity = size*2;
+                productionIds = Arrays.copyOf(productionIds, capacity);
+                lines = Arrays.copyOf(lines, capacity);
+                columns = Arrays.copyOf(columns, capacity);
+                sourceFiles = Arrays.copyOf(sourceFiles, capacity);
+                followSets = Arrays.copyOf(followSets, capacity);
+            }
+            productionIds[size] = productionId;
+            lines[size] = line;
+            columns[size] = column;
+            sourceFiles[size] = sourceFile;
+            followSets[size] = outerFollowSet;
+            ++size;
+        }
+
+        void pop() {
+            followSets[--size] = null;
+        }
+
+        void clear() {
+            Arrays.fill(sourceFiles, 0, size, null);
+            Arrays.fill(followSets, 0, size, null);
+            size = 0;
+        }
+
+        NonTerminalCall get(int index) {
+            return new NonTerminalCall(sourceFiles[index], PRODUCTION_NAMES[productionIds[index]], lines[index], columns[index], getFollowSet(index));
+        }
+
+        /**
+        * @return the calls on this stack, from the bottom up
+        */
+        java.util.List<NonTerminalCall> toList() {
+            java.util.List<NonTerminalCall> result = new ArrayList<> (size);
+            for (int i = 0; i < size; i++) {
+                result.add(get(i));
+            }
+            return result;
+        }
+
+        void dump(PrintStream ps) {
+            for (int i = size-1; i>=0; i--) {
+                get(i).dump(ps);
+            }
+        }
+
+        public CallStack clone() {
+            try {
+                CallStack result = (CallStack)super.clone();
+                result.productionIds = productionIds.clone();
+                result.lines = lines.clone();
+                result.columns = columns.clone();
+                result.sourceFiles = sourceFiles.clone();
+                result.followSets = followSets.clone();
+                return result;
+            }
+            catch(CloneNotSupportedException e) {
+                throw new InternalError(e);
+            }
+        }
+
+    }
+
+
+    private final void pushOntoCallStack(int productionId, String fileName, int line, int column) {
+        parsingStack.push(productionId, fileName, line, column);
+    }
+
+    private final void popCallStack() {
+        int top = parsingStack.size()-1;
+        this.currentlyParsedProduction = parsingStack.getProductionId(top);
+        this.outerFollowSet = parsingStack.getFollowSet(top);
+        parsingStack.pop();
+    }
+
+    private final void restoreCallStack(int prevSize) {
+        while (parsingStack.size() > prevSize) {
+            popCallStack();
+        }
+    }
+
+    private final void pushOntoLookaheadStack(int productionId, String fileName, int line, int column) {
+        lookaheadStack.push(productionId, fileName, line, column);
+    }
+
+    private final void popLookaheadStack() {
+        this.currentLookaheadProduction = lookaheadStack.getProductionId(lookaheadStack.size()-1);
+        lookaheadStack.pop();
+    }
+
+    void dumpLookaheadStack(PrintStream ps) {
+        lookaheadStack.dump(ps);
+    }
+
+    void dumpCallStack(PrintStream ps) {
+        parsingStack.dump(ps);
+    }
+
+    void dumpLookaheadCallStack(PrintStream ps) {
+        ps.println("Current Parser Production is: "+productionName(currentlyParsedProduction));
+        ps.println("Current Lookahead Production is: "+productionName(currentLookaheadProduction));
+        ps.println("---Lookahead Stack---");
+        dumpLookaheadStack(ps);
+        ps.println("---Call Stack---");
+        dumpCallStack(ps);
+    }
+
+    private boolean tolerantParsing = true;
+    // Are we pending a recovery routine to
+    // get back on the rails?
+    private boolean pendingRecovery;
+    //    private boolean debugFaultTolerant = false;
+    private java.util.List<ParsingProblem> parsingProblems = new java.util.ArrayList<> ();
+
+    public java.util.List<ParsingProblem> getParsingProblems() {
+        return parsingProblems;
+    }
+
+    public boolean hasProblems() {
+        return!parsingProblems.isEmpty();
+    }
+
+    void addParsingProblem(ParsingProblem problem) {
+        parsingProblems.add(problem);
+    }
+
+    public boolean isParserTolerant() {
+        return tolerantParsing;
+    }
+
+    public void setParserTolerant(boolean tolerantParsing) {
+        this.tolerantParsing = tolerantParsing;
+    }
+
+    private Token consumeToken(TokenType expectedType, boolean tolerant, EnumSet<TokenType> followSet) {
+        Token nextToken = nextToken(lastConsumedToken);
+        if (nextToken.getType()!=expectedType) {
+            nextToken = handleUnexpectedTokenType(expectedType, nextToken, tolerant, followSet);
+        }
+        this.lastConsumedToken = nextToken;
+        this.nextTokenType = null;
+        if (buildTree&&tokensAreNodes) {
+            pushNode(lastConsumedToken);
+        }
+        // Check whether the very next token is in the follow set of the last consumed token
+        // and if it is not, we check one token ahead to see if skipping the next token remedies
+        // the problem.
+        if (followSet!=null&&isParserTolerant()) {
+            nextToken = nextToken(lastConsumedToken);
+            if (!followSet.contains(nextToken.getType())) {
+                Token nextNext = nextToken(nextToken);
+                if (followSet.contains(nextNext.getType())) {
+                    nextToken.setSkipped(true);
+                    //               if (debugFaultTolerant) LOGGER.info("Skipping token " + nextToken.getType() + " at: " + nextToken.getLocation());
+                    //lastConsumedToken.setNext(nextNext);
+                }
+            }
+        }
+        return lastConsumedToken;
+    }
+
+    private Token handleUnexpectedTokenType(TokenType expectedType, Token nextToken, boolean tolerant, EnumSet<TokenType> followSet) {
+        if (!this.tolerantParsing) {
+            throw new ParseException(this, nextToken, EnumSet.of(expectedType), parsingStack.toList());
+        }
+        Token nextNext = nextToken(nextToken);
+        if (nextNext.getType()==expectedType) {
+            nextToken.setSkipped(true);
+            //             if (debugFaultTolerant) LOGGER.info("Skipping token of type: " + nextToken.getType() + " at: " + nextToken.getLocation());
+            pushNode(nextToken);
+            //lastConsumedToken.setNext(nextNext);
+            return nextNext;
+        }
+        if (tolerant||followSet==null||followSet.contains(nextToken.getType())) {
+            Token virtualToken = Token.newToken(expectedType, token_source, 0, 0);
+            virtualToken.setImage("VIRTUAL "+expectedType);
+            virtualToken.setVirtual(true);
+            virtualToken.copyLocationInfo(nextToken);
+            //virtualToken.setNext(nextToken);
+            //lastConsumedToken.setNext(virtualToken);
+            //           if (debugFaultTolerant) LOGGER.info("Inserting virtual token of type: " + expectedType + " at " + virtualToken.getLocation());
+            if (token_source.doLexicalStateSwitch(expectedType)) {
+                token_source.reset(virtualToken);
+            }
+            return virtualToken;
+        }
+        throw new ParseException(this, nextToken, EnumSet.of(expectedType), parsingStack.toList());
+    }
+
+
+    private class ParseState {
+        Token lastConsumed;
+        CallStack parsingStack;
+        LexicalState lexicalState;
+        NodeScope nodeScope;
+
+        ParseState() {
+            this.lastConsumed = FELParser.this.lastConsumedToken;
+            this.parsingStack = FELParser.this.parsingStack.clone();
+            this.lexicalState = token_source.lexicalState;
+            this.nodeScope = currentNodeScope.clone();
+        }
+
+    }
+
+    private ArrayList<ParseState> parseStateStack = new ArrayList<> ();
+    private boolean buildTree = true;
+    private boolean tokensAreNodes = true;
+    private boolean unparsedTokensAreNodes = true;
+
+    public boolean isTreeBuildingEnabled() {
+        return buildTree;
+    }
+
+    public void setUnparsedTokensAreNodes(boolean unparsedTokensAreNodes) {
+        this.unparsedTokensAreNodes = unparsedTokensAreNodes;
+    }
+
+    public void setTokensAreNodes(boolean tokensAreNodes) {
+        this.tokensAreNodes = tokensAreNodes;
+    }
+
+    NodeScope currentNodeScope = new NodeScope();
+
+    /**
+    * @return the root node of the AST. It only makes sense to call
+    * this after a successful parse.
+    */
+    public Node rootNode() {
+        return currentNodeScope.rootNode();
+    }
+
+    /**
+    * push a node onto the top of the node stack
+    * @param n the node to push
+    */
+    public void pushNode(Node n) {
+        currentNodeScope.add(n);
+    }
+
+    /**
+    * @return the node on the top of the stack, and remove it from the
+    * stack.
+    */
+    public Node popNode() {
+        return currentNodeScope.pop();
+    }
+
+    /**
+    * @return the node currently on the top of the tree-building stack.
+    */
+    public Node peekNode() {
+        return currentNodeScope.peek();
+    }
+
+    /**
+    * Puts the node on the top of the stack. However, unlike pushNode()
+    * it replaces the node that is currently on the top of the stack.
+    * This is effectively equivalent to popNode() followed by pushNode(n)
+    * @param n the node to poke
+    */
+    public void pokeNode(Node n) {
+        currentNodeScope.poke(n);
+    }
+
+    /**
+    * @return the number of Nodes on the tree-building stack in the current node
+    * scope.
+    */
+    public int nodeArity() {
+        return currentNodeScope.size();
+    }
+
+    private void openNodeScope(Node n) {
+        currentNodeScope.open();
+        if (n!=null) {
+            Token next = nextToken(lastConsumedToken);
+            n.setTokenSource(lastConsumedToken.getTokenSource());
+            n.setBeginOffset(next.getBeginOffset());
+            n.open();
+        }
+    }
+
+    /* A definite node is constructed from a specified number of
+    * children.  That number of nodes are popped from the stack and
+    * made the children of the definite node.  Then the definite node
+    * is pushed on to the stack.
+    */
+    private void closeNodeScope(Node n, int num) {
+        n.setEndOffset(lastConsumedToken.getEndOffset());
+        currentNodeScope.close();
+        // FIXME deal with the UNPARSED_TOKENS_ARE_NODES case
+        currentNodeScope.popInto(n, num);
+        n.close();
+        pushNode(n);
+    }
+
+    /**
+    * A conditional node is constructed if the condition is true.  All
+    * the nodes that have been pushed since the node was opened are
+    * made children of the conditional node, which is then pushed
+    * on to the stack.  If the condition is false the node is not
+    * constructed and they are left on the stack.
+    */
+    private void closeNodeScope(Node n, boolean condition) {
+        if (n!=null&&condition) {
+            n.setEndOffset(lastConsumedToken.getEndOffset());
+            int a = nodeArity();
+            currentNodeScope.close();
+            if (!unparsedTokensAreNodes) {
+                currentNodeScope.popInto(n, a);
+            }
+            else for (Node child : currentNodeScope.popNodes(a)) {
+                if (child instanceof Token) {
+                    Token tok = (Token)child;
+                    while (tok.previousCachedToken()!=null&&tok.previousCachedToken().isUnparsed()) {
+                        tok = tok.previousCachedToken();
+                    }
+                    while (tok.isUnparsed()) {
+                        n.addChild(tok);
+                        tok = tok.nextCachedToken();
+                    }
+                }
+                n.addChild(child);
+            }
+            n.close();
+            pushNode(n);
+        }
+        else {
+            currentNodeScope.close();
+        }
+    }
+
+    public boolean getBuildTree() {
+        return buildTree;
+    }
+
+    public void setBuildTree(boolean buildTree) {
+        this.buildTree = buildTree;
+    }
+
+    /**
+    * Just a kludge so that existing jjtree-based code that uses
+    * parser.jjtree.foo can work without change.
+    */
+    FELParser jjtree = this;
+
+    /**
+    * The tree-building stack. All the node scopes share a single array of
+    * nodes, and an open scope is just a mark, i.e. the index in the array at
+    * which it begins, so opening or closing a scope does not allocate or copy
+    * anything. The stack operations, like peek() and pop(), reach into the
+    * enclosing scopes when the current one is empty.
+    */
+    class NodeScope implements Cloneable {
+        private Node[]nodes = new Node[64];
+        private int size;
+        // Where each open scope, other than the root one, begins
+        private int[]marks = new int[16];
+        private int depth;
+
+        void open() {
+            if (depth==marks.length) {
+                marks = Arrays.copyOf(marks, depth*2);
+            }
+            marks[depth++] = size;
+        }
+
+        /**
+        * Closes the current scope, so that its nodes
+        * now belong to the enclosing one
+        */
+        void close() {
+            --depth;
+        }
+
+        private int mark() {
+            return depth==0 ? 0 : marks[depth-1];
+        }
+
+        boolean isRootScope() {
+            return depth==0;
+        }
+
+        Node rootNode() {
+            int rootScopeSize = depth==0 ? size : marks[0];
+            return rootScopeSize==0 ? null : nodes[0];
+        }
+
+        /**
+        * @return the number of nodes in the current scope
+        */
+        int size() {
+            return size-mark();
+        }
+
+        boolean isEmpty() {
+            return size==mark();
+        }
+
+        void add(Node n) {
+            if (size==nodes.length) {
+                nodes = Arrays.copyOf(nodes, size*2);
+            }
+            nodes[size++] = n;
+        }
+
+        Node peek() {
+            return size==0 ? null : nodes[size-1];
+        }
+
+        Node pop() {
+            Node result = nodes[--size];
+            nodes[size] = null;
+            truncateScopes();
+            return result;
+        }
+
+        void poke(Node n) {
+            nodes[size-1] = n;
+        }
+
+        void clear() {
+            int mark = mark();
+            Arrays.fill(nodes, mark, size, null);
+            size = mark;
+        }
+
+        /**
+        * Empties the stack and closes all the scopes,
+        * leaving the arrays as they are, to be reused
+        */
+        void reset() {
+            Arrays.fill(nodes, 0, size, null);
+            size = 0;
+            depth = 0;
+        }
+
+        /**
+        * Removes the top num nodes from the stack and makes them
+        * the children of the given node, in the order they were pushed.
+        */
+        void popInto(Node parent, int num) {
+            int from = size-num;
+            parent.addChildren(nodes, from, size);
+            Arrays.fill(nodes, from, size, null);
+            size = from;
+            truncateScopes();
+        }
+
+        /**
+        * Removes the top num nodes from the stack
+        * @return the removed nodes, in the order they were pushed
+        */
+        Node[]popNodes(int num) {
+            int from = size-num;
+            Node[]result = Arrays.copyOfRange(nodes, from, size);
+            Arrays.fill(nodes, from, size, null);
+            size = from;
+            truncateScopes();
+            return result;
+        }
+
+        // After popping past the beginning of the current scope (and maybe
+        // enclosing ones) those scopes now begin where the stack ends.
+        private void truncateScopes() {
+            for (int i = depth-1; i>=0&&marks[i] > size; i--) {
+                marks[i] = size;
+            }
+        }
+
+        int nestingLevel() {
+            return depth;
+        }
+
+        public NodeScope clone() {
+            try {
+                NodeScope clone = (NodeScope)super.clone();
+                clone.nodes = Arrays.copyOf(nodes, Math.max(size, 16));
+                clone.marks = Arrays.copyOf(marks, Math.max(depth, 16));
+                return clone;
+            }
+            catch(CloneNotSupportedException e) {
+                throw new InternalError(e);
+            }
+        }
+
+    }
+
+}
+
@@ -0,0 +1,15209 @@
+/* Generated by: JavaCC 21 Parser Generator. FTLParser.java */
+package ftl;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import ftl.ast.Expression;
+import ftl.ast.OrExpression;
+import ftl.ast.AndExpression;
+import ftl.ast.EqualityExpression;
+import ftl.ast.RelationalExpression;
+import ftl.ast.RangeExpression;
+import ftl.ast.AdditiveExpression;
+import ftl.ast.MultiplicativeExpression;
+import ftl.ast.UnaryPlusMinusExpression;
+import ftl.ast.NotExpression;
+import ftl.ast.BuiltinVariable;
+import ftl.ast.DefaultToExpression;
+import ftl.ast.PrimaryExpression;
+import ftl.ast.BaseExpression;
+import ftl.ast.Exists;
+import ftl.ast.ListLiteral;
+import ftl.ast.StringLiteral;
+import ftl.ast.HashLiteral;
+import ftl.ast.NumberLiteral;
+import ftl.ast.BooleanLiteral;
+import ftl.ast.NullLiteral;
+import ftl.ast.Parenthesis;
+import ftl.ast.NamedArgsList;
+import ftl.ast.PositionalArgsList;
+import ftl.ast.IdentifierOrStringLiteral;
+import ftl.ast.Interpolation;
+import ftl.ast.NumericalInterpolation;
+import ftl.ast.Assignment;
+import ftl.ast.VarInstruction;
+import ftl.ast.SettingInstruction;
+import ftl.ast.AttemptRecover;
+import ftl.ast.CommentBlock;
+import ftl.ast.NoParseBlock;
+import ftl.ast.TrimInstruction;
+import ftl.ast.BreakInstruction;
+import ftl.ast.FlushInstruction;
+import ftl.ast.ReturnInstruction;
+import ftl.ast.StopInstruction;
+import ftl.ast.CompressBlock;
+import ftl.ast.TrimBlock;
+import ftl.ast.NoEscapeBlock;
+import ftl.ast.EscapeBlock;
+import ftl.ast.IncludeInstruction;
+import ftl.ast.EmbedInstruction;
+import ftl.ast.ImportInstruction;
+import ftl.ast.VisitInstruction;
+import ftl.ast.RecurseInstruction;
+import ftl.ast.FallBackInstruction;
+import ftl.ast.IfStatement;
+import ftl.ast.ElseIfBlock;
+import ftl.ast.ElseBlock;
+import ftl.ast.SwitchInstruction;
+import ftl.ast.CaseInstruction;
+import ftl.ast.DefaultInstruction;
+import ftl.ast.ListInstruction;
+import ftl.ast.ForEachInstruction;
+import ftl.ast.NestedInstruction;
+import ftl.ast.MacroDefinition;
+import ftl.ast.ParameterList;
+import ftl.ast.LooseTagEnd;
+import ftl.ast.DirectiveEnd;
+import ftl.ast.Text;
+import ftl.ast.RecoverBlock;
+import ftl.ast.UserDirective;
+import ftl.ast.Block;
+import ftl.ast.FTLHeader;
+import ftl.ast.Root;
+import static ftl.FTLConstants.TokenType.*;
+import java.io.*;
+import java.util.*;
+
+
+public class FTLParser implements FTLConstants {
+    static final boolean DUMPTREE = false;
+
+    static public void main(String[]args) throws Exception {
+        if (args.length==0) {
+            usage();
+            System.exit(-1);
+        }
+        java.util.List<File> files = new java.util.ArrayList<File> ();
+        for (String arg : args) {
+            File file = new File(arg);
+            if (file.isDirectory()) {
+                for (File f : file.listFiles()) {
+                    if (f.getName().endsWith(".ftl")) {
+                        files.add(f);
+                    }
+                }
+            }
+            else {
+                files.add(file);
+            }
+        }
+        for (File f : files) {
+            checkFTLFile(f, false);
+        }
+    }
+
+    static public void checkFTLFile(File inputFile, boolean dumpTree) {
+        FTLParser parser = null;
+        try {
+            parser = new FTLParser(inputFile.toPath());
+            parser.Root();
+        }
+        catch(Exception e) {
+            System.err.println("Error parsing "+inputFile);
+            e.printStackTrace();
+            return;
+        }
+        System.err.println("File "+inputFile+" parsed successfully.");
+        if (dumpTree) {
+            parser.rootNode().dump("---");
+        }
+    }
+
+    static public void usage() {
+        System.err.println("Usage: java ftl.FTLParser <filenames>");
+    }
+
+    static final int UNLIMITED = Integer.MAX_VALUE;
+    // The last token successfully "consumed"
+    Token lastConsumedToken;
+    private TokenType nextTokenType;
+    private Token currentLookaheadToken;
+    private int remainingLookahead;
+    private boolean hitFailure, passedPredicate;
+    // The names of the parser productions, indexed by the ids
+    // that identify them on the call stacks
+    private static final String[]PRODUCTION_NAMES =  {"Input", "Expression", "OrExpression", "AndExpression", "EqualityExpression", "RelationalExpression", "RangeExpression", "AdditiveExpression", "MultiplicativeExpression", "UnaryExpression", "UnaryPlusMinusExpression", "NotExpression", "BuiltinVariable", "DefaultToExpression", "PrimaryExpression", "BaseExpression", "DotKey", "DynamicKey", "MethodInvoke", "BuiltIn", "Exists", "ListLiteral", "StringLiteral", "HashLiteral", "NumberLiteral", "BooleanLiteral", "NullLiteral", "Parenthesis", "ArgsList", "NamedArgsList", "PositionalArgsList", "IdentifierOrStringLiteral", "Interpolation", "NumericalInterpolation", "Assignment", "Var", "Setting", "Attempt", "Comment", "NoParse", "Trim", "NoTrim", "RightTrim", "LeftTrim", "Break", "Flush", "Return", "Stop", "Compress", "TrimBlock", "NoEscapeBlock", "EscapeBlock", "Include", "Embed", "Import", "Visit", "Recurse", "FallBack", "If", "ElseIf", "Else", "Switch", "Case", "Default", "List", "ForEach", "Nested", "MacroDefinition", "ParameterList", "LooseTagEnd", "DirectiveEnd", "Text", "Recover", "TopLevelDirective", "UserDirective", "Block", "FTLHeader", "Root", };
+    private static final Map<String, Integer> PRODUCTION_IDS = new HashMap<> ();
+    static {
+        for (int i = 0; i < PRODUCTION_NAMES.length; i++) {
+            PRODUCTION_IDS.put(PRODUCTION_NAMES[i], i);
+        }
+    }
+    private int currentlyParsedProduction = -1, currentLookaheadProduction = -1;
+    private int lookaheadRoutineNesting, passedPredicateThreshold = -1;
+    private EnumSet<TokenType> outerFollowSet;
+    private boolean legacyGlitchyLookahead = false;
+    private boolean cancelled;
+
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /** Generated Lexer. */
+    public FTLLexer token_source;
+
+    public void setInputSource(String inputSource) {
+        token_source.setInputSource(inputSource);
+    }
+
+    String getInputSource() {
+        return token_source.getInputSource();
+    }
+
+    //=================================
+    // Generated constructors
+    //=================================
+    public FTLParser(String inputSource, CharSequence content) {
+        this(new FTLLexer(inputSource, content));
+    }
+
+    public FTLParser(CharSequence content) {
+        this("input", content);
+    }
+
+    /**
+    * @param inputSource just the name of the input source (typically the filename) that
+    * will be used in error messages and so on.
+    * @param path The location (typically the filename) from which to get the input to parse
+    */
+    public FTLParser(String inputSource, Path path) throws IOException {
+        this(inputSource, FTLLexer.stringFromBytes(Files.readAllBytes(path)));
+    }
+
+    public FTLParser(String inputSource, Path path, Charset charset) throws IOException {
+        this(inputSource, FTLLexer.stringFromBytes(Files.readAllBytes(path), charset));
+    }
+
+    /**
+    * @param inputSource just the name of the input source (typically the filename) that
+    * will be used in error messages and so on.
+    * @param path The location (typically the filename) from which to get the input to parse
+    * @param charset The encoding of the file. If this is null, it is worked out from the byte order mark,
+    * defaulting to UTF-8.
+    * @param memoryMapped whether to memory-map the file rather than read it into memory.
+    * (See FTLLexer#mapFile)
+    */
+    public FTLParser(String inputSource, Path path, Charset charset, boolean memoryMapped) throws IOException {
+        this(inputSource, memoryMapped ? FTLLexer.mapFile(path, charset) : FTLLexer.stringFromBytes(Files.readAllBytes(path), charset));
+    }
+
+    /**
+    * @param path The location (typically the filename) from which to get the input to parse
+    */
+    public FTLParser(Path path) throws IOException {
+        this(path.toString(), path);
+    }
+
+    /**
+    * @Deprecated Use the constructor that takes a #java.nio.files.Path or just
+    * a String (i.e. CharSequence) directly.
+    */
+    public FTLParser(java.io.InputStream stream) {
+        this(new InputStreamReader(stream));
+    }
+
+    /**
+    * @Deprecated Use the constructor that takes a #java.nio.files.Path or just
+    * a String (i.e. CharSequence) directly.
+    */
+    public FTLParser(Reader reader) {
+        this(new FTLLexer("input", reader));
+    }
+
+    /** Constructor with user supplied Lexer. */
+    public FTLParser(FTLLexer lexer) {
+        token_source = lexer;
+        lastConsumedToken = lexer.DUMMY_START_TOKEN;
+        lastConsumedToken.setTokenSource(lexer);
+    }
+
+    /**
+    * Resets this parser, and its lexer, so that it parses the given input
+    * from the start, reusing the internal buffers of both rather than
+    * constructing new objects. This is meant for parsing many (typically small)
+    * inputs in turn, possibly via a ParserPool. The Tokens and Nodes from the
+    * previous input should not be used after this, since they refer back to
+    * the lexer. Any state added to the parser by injected code is not reset.
+    * @param inputSource just the name of the input source (typically the filename) that
+    * will be used in error messages and so on.
+    * @param content the input to parse
+    */
+    public void reset(String inputSource, CharSequence content) {
+        token_source.reset(inputSource, content);
+        lastConsumedToken = token_source.DUMMY_START_TOKEN;
+        lastConsumedToken.setTokenSource(token_source);
+        nextTokenType = null;
+        currentLookaheadToken = null;
+        remainingLookahead = 0;
+        hitFailure = passedPredicate = false;
+        currentlyParsedProduction = currentLookaheadProduction = -1;
+        lookaheadRoutineNesting = 0;
+        passedPredicateThreshold = -1;
+        outerFollowSet = null;
+        cancelled = false;
+        parsingStack.clear();
+        lookaheadStack.clear();
+        parseStateStack.clear();
+        currentNodeScope.reset();
+    }
+
+    public void reset(CharSequence content) {
+        reset("input", content);
+    }
+
+    /**
+    * Resets this parser to parse the given file. (See #reset(String, CharSequence))
+    * @param path The location (typically the filename) from which to get the input to parse
+    */
+    public void reset(Path path) throws IOException {
+        reset(path.toString(), FTLLexer.stringFromBytes(Files.readAllBytes(path)));
+    }
+
+    // If the next token is cached, it returns that
+    // Otherwise, it goes to the token_source, i.e. the Lexer.
+    final private Token nextToken(final Token tok) {
+        Token result = token_source.getNextToken(tok);
+        while (result.isUnparsed()) {
+            result = token_source.getNextToken(result);
+        }
+        nextTokenType = null;
+        return result;
+    }
+
+    /**
+    * @return the next Token off the stream. This is the same as #getToken(1)
+    */
+    final public Token getNextToken() {
+        return getToken(1);
+    }
+
+    /**
+    * @param index how many tokens to look ahead
+    * @return the specific regular (i.e. parsed) Token index ahead/behind in the stream.
+    * If we are in a lookahead, it looks ahead from the currentLookaheadToken
+    * Otherwise, it is the lastConsumedToken. If you pass in a negative
+    * number it goes backward.
+    */
+    final public Token getToken(final int index) {
+        Token t = currentLookaheadToken==null ? lastConsumedToken : currentLookaheadToken;
+        for (int i = 0; i < index; i++) {
+            t = nextToken(t);
+        }
+        for (int i = 0; i > index; i--) {
+            t = t.getPrevious();
+            if (t==null) break;
+        }
+        return t;
+    }
+
+    private final TokenType nextTokenType() {
+        if (nextTokenType==null) {
+            nextTokenType = nextToken(lastConsumedToken).getType();
+        }
+        return nextTokenType;
+    }
+
+    boolean activateTokenTypes(TokenType...types) {
+        boolean result = false;
+        for (TokenType tt : types) {
+            result|=token_source.activeTokenTypes.add(tt);
+        }
+        if (result) {
+            token_source.reset(getToken(0));
+            nextTokenType = null;
+        }
+        return result;
+    }
+
+    boolean deactivateTokenTypes(TokenType...types) {
+        boolean result = false;
+        for (TokenType tt : types) {
+            result|=token_source.activeTokenTypes.remove(tt);
+        }
+        if (result) {
+            token_source.reset(getToken(0));
+            nextTokenType = null;
+        }
+        return result;
+    }
+
+    private static int productionId(String productionName) {
+        Integer id = PRODUCTION_IDS.get(productionName);
+        return id==null ? -1 : id;
+    }
+
+    private static String productionName(int productionId) {
+        return productionId < 0 ? null : PRODUCTION_NAMES[productionId];
+    }
+
+    // FEL.javacc:167:1
+    final public Node Input() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 0;
+        // Code for NonTerminal specified at FEL.javacc:168:4
+        pushOntoCallStack(0, "FEL.javacc", 168, 4);
+        try {
+            Expression();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for EndOfFile specified at FEL.javacc:169:4
+        consumeToken(EOF);
+        // Code for CodeBlock specified at FEL.javacc:170:4
+        return rootNode();
+    }
+
+    // FEL.javacc:175:1
+    final public void Expression() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 1;
+        Expression Expression1 = null;
+        if (buildTree) {
+            Expression1 = new Expression();
+            openNodeScope(Expression1);
+        }
+        ParseException parseException18 = null;
+        int callStackSize19 = parsingStack.size();
+        try {
+            // Code for NonTerminal specified at FEL.javacc:176:5
+            pushOntoCallStack(1, "FEL.javacc", 176, 5);
+            try {
+                OrExpression();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        catch(ParseException e) {
+            parseException18 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize19);
+            if (Expression1!=null) {
+                if (parseException18==null) {
+                    closeNodeScope(Expression1, nodeArity() > 1);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // FEL.javacc:179:1
+    final public void OrExpression() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 2;
+        OrExpression OrExpression2 = null;
+        if (buildTree) {
+            OrExpression2 = new OrExpression();
+            openNodeScope(OrExpression2);
+        }
+        ParseException parseException26 = null;
+        int callStackSize27 = parsingStack.size();
+        try {
+            // Code for NonTerminal specified at FEL.javacc:180:5
+            pushOntoCallStack(2, "FEL.javacc", 180, 5);
+            try {
+                AndExpression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified at FEL.javacc:181:5
+            while (true) {
+                if (!(nextTokenType()==OR||nextTokenType==OR2)) break;
+                if (nextTokenType()==OR) {
+                    // Code for RegexpRef specified at FEL.javacc:182:10
+                    consumeToken(OR);
+                }
+                else if (nextTokenType()==OR2) {
+                    // Code for RegexpRef specified at FEL.javacc:182:15
+                    consumeToken(OR2);
+                }
+                else {
+                    pushOntoCallStack(2, "FEL.javacc", 182, 10);
+                    throw new ParseException(this, first_set$FEL_javacc$182$10, parsingStack.toList());
+                }
+                // Code for NonTerminal specified at FEL.javacc:182:22
+                pushOntoCallStack(2, "FEL.javacc", 182, 22);
+                try {
+                    AndExpression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException26 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize27);
+            if (OrExpression2!=null) {
+                if (parseException26==null) {
+                    closeNodeScope(OrExpression2, nodeArity() > 1);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // FEL.javacc:186:1
+    final public void AndExpression() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 3;
+        AndExpression AndExpression3 = null;
+        if (buildTree) {
+            AndExpression3 = new AndExpression();
+            openNodeScope(AndExpression3);
+        }
+        ParseException parseException67 = null;
+        int callStackSize68 = parsingStack.size();
+        try {
+            // Code for NonTerminal specified at FEL.javacc:187:5
+            pushOntoCallStack(3, "FEL.javacc", 187, 5);
+            try {
+                EqualityExpression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified at FEL.javacc:188:5
+            while (true) {
+                if (!(nextTokenType()==AND||nextTokenType==AND2)) break;
+                if (nextTokenType()==AND) {
+                    // Code for RegexpRef specified at FEL.javacc:189:10
+                    consumeToken(AND);
+                }
+                else if (nextTokenType()==AND2) {
+                    // Code for RegexpRef specified at FEL.javacc:189:16
+                    consumeToken(AND2);
+                }
+                else {
+                    pushOntoCallStack(3, "FEL.javacc", 189, 10);
+                    throw new ParseException(this, first_set$FEL_javacc$189$10, parsingStack.toList());
+                }
+                // Code for NonTerminal specified at FEL.javacc:189:24
+                pushOntoCallStack(3, "FEL.javacc", 189, 24);
+                try {
+                    EqualityExpression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException67 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize68);
+            if (AndExpression3!=null) {
+                if (parseException67==null) {
+                    closeNodeScope(AndExpression3, nodeArity() > 1);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // FEL.javacc:193:1
+    final public void EqualityExpression() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 4;
+        EqualityExpression EqualityExpression4 = null;
+        if (buildTree) {
+            EqualityExpression4 = new EqualityExpression();
+            openNodeScope(EqualityExpression4);
+        }
+        ParseException parseException108 = null;
+        int callStackSize109 = parsingStack.size();
+        try {
+            // Code for NonTerminal specified at FEL.javacc:194:5
+            pushOntoCallStack(4, "FEL.javacc", 194, 5);
+            try {
+                RelationalExpression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrOne specified at FEL.javacc:195:5
+            if (nextTokenType()==EQUALS||nextTokenType==DOUBLE_EQUALS||nextTokenType==NOT_EQUALS) {
+                if (nextTokenType()==EQUALS) {
+                    // Code for RegexpRef specified at FEL.javacc:196:10
+                    consumeToken(EQUALS);
+                }
+                else if (nextTokenType()==DOUBLE_EQUALS) {
+                    // Code for RegexpRef specified at FEL.javacc:196:19
+                    consumeToken(DOUBLE_EQUALS);
+                }
+                else if (nextTokenType()==NOT_EQUALS) {
+                    // Code for RegexpRef specified at FEL.javacc:196:35
+                    consumeToken(NOT_EQUALS);
+                }
+                else {
+                    pushOntoCallStack(4, "FEL.javacc", 196, 10);
+                    throw new ParseException(this, first_set$FEL_javacc$196$10, parsingStack.toList());
+                }
+                // Code for NonTerminal specified at FEL.javacc:197:9
+                pushOntoCallStack(4, "FEL.javacc", 197, 9);
+                try {
+                    RelationalExpression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException108 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize109);
+            if (EqualityExpression4!=null) {
+                if (parseException108==null) {
+                    closeNodeScope(EqualityExpression4, nodeArity() > 1);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // FEL.javacc:201:1
+    final public void RelationalExpression() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 5;
+        RelationalExpression RelationalExpression5 = null;
+        if (buildTree) {
+            RelationalExpression5 = new RelationalExpression();
+            openNodeScope(RelationalExpression5);
+        }
+        ParseException parseException157 = null;
+        int callStackSize158 = parsingStack.size();
+        try {
+            // Code for NonTerminal specified at FEL.javacc:202:5
+            pushOntoCallStack(5, "FEL.javacc", 202, 5);
+            try {
+                RangeExpression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrOne specified at FEL.javacc:203:5
+            if (maskContains(first_set$FEL_javacc$204$9_MASK, nextTokenType().ordinal())) {
+                if (nextTokenType()==GT) {
+                    // Code for RegexpRef specified at FEL.javacc:204:10
+                    consumeToken(GT);
+                }
+                else if (nextTokenType()==GTE) {
+                    // Code for RegexpRef specified at FEL.javacc:204:15
+                    consumeToken(GTE);
+                }
+                else if (nextTokenType()==LT) {
+                    // Code for RegexpRef specified at FEL.javacc:204:21
+                    consumeToken(LT);
+                }
+                else if (nextTokenType()==LTE) {
+                    // Code for RegexpRef specified at FEL.javacc:204:26
+                    consumeToken(LTE);
+                }
+                else if (nextTokenType()==ALT_GT) {
+                    // Code for RegexpRef specified at FEL.javacc:204:32
+                    consumeToken(ALT_GT);
+                }
+                else if (nextTokenType()==ALT_GTE) {
+                    // Code for RegexpRef specified at FEL.javacc:204:41
+                    consumeToken(ALT_GTE);
+                }
+                else if (nextTokenType()==ALT_LTE) {
+                    // Code for RegexpRef specified at FEL.javacc:204:51
+                    consumeToken(ALT_LTE);
+                }
+                else if (nextTokenType()==ALT_LT) {
+                    // Code for RegexpRef specified at FEL.javacc:204:61
+                    consumeToken(ALT_LT);
+                }
+                else {
+                    pushOntoCallStack(5, "FEL.javacc", 204, 10);
+                    throw new ParseException(this, first_set$FEL_javacc$204$10, parsingStack.toList());
+                }
+                // Code for NonTerminal specified at FEL.javacc:205:9
+                pushOntoCallStack(5, "FEL.javacc", 205, 9);
+                try {
+                    RangeExpression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException157 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize158);
+            if (RelationalExpression5!=null) {
+                if (parseException157==null) {
+                    closeNodeScope(RelationalExpression5, nodeArity() > 1);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // FEL.javacc:209:1
+    final public void RangeExpression() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 6;
+        RangeExpression RangeExpression6 = null;
+        if (buildTree) {
+            RangeExpression6 = new RangeExpression();
+            openNodeScope(RangeExpression6);
+        }
+        ParseException parseException246 = null;
+        int callStackSize247 = parsingStack.size();
+        try {
+            // Code for NonTerminal specified at FEL.javacc:210:5
+            pushOntoCallStack(6, "FEL.javacc", 210, 5);
+            try {
+                AdditiveExpression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrOne specified at FEL.javacc:211:5
+            if (nextTokenType()==DOT_DOT) {
+                // Code for RegexpRef specified at FEL.javacc:212:8
+                consumeToken(DOT_DOT);
+                // Code for ZeroOrOne specified at FEL.javacc:213:8
+                if (scan$FEL_javacc$214$11()) {
+                    // Code for NonTerminal specified at FEL.javacc:214:14
+                    pushOntoCallStack(6, "FEL.javacc", 214, 14);
+                    try {
+                        AdditiveExpression();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException246 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize247);
+            if (RangeExpression6!=null) {
+                if (parseException246==null) {
+                    closeNodeScope(RangeExpression6, nodeArity() > 1);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // FEL.javacc:219:1
+    final public void AdditiveExpression() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 7;
+        AdditiveExpression AdditiveExpression7 = null;
+        if (buildTree) {
+            AdditiveExpression7 = new AdditiveExpression();
+            openNodeScope(AdditiveExpression7);
+        }
+        ParseException parseException278 = null;
+        int callStackSize279 = parsingStack.size();
+        try {
+            // Code for NonTerminal specified at FEL.javacc:220:5
+            pushOntoCallStack(7, "FEL.javacc", 220, 5);
+            try {
+                MultiplicativeExpression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified at FEL.javacc:221:5
+            while (true) {
+                if (!(nextTokenType()==PLUS||nextTokenType==MINUS)) break;
+                if (nextTokenType()==PLUS) {
+                    // Code for RegexpRef specified at FEL.javacc:222:13
+                    consumeToken(PLUS);
+                }
+                else if (nextTokenType()==MINUS) {
+                    // Code for RegexpRef specified at FEL.javacc:222:20
+                    consumeToken(MINUS);
+                }
+                else {
+                    pushOntoCallStack(7, "FEL.javacc", 222, 13);
+                    throw new ParseException(this, first_set$FEL_javacc$222$13, parsingStack.toList());
+                }
+                // Code for NonTerminal specified at FEL.javacc:223:12
+                pushOntoCallStack(7, "FEL.javacc", 223, 12);
+                try {
+                    MultiplicativeExpression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException278 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize279);
+            if (AdditiveExpression7!=null) {
+                if (parseException278==null) {
+                    closeNodeScope(AdditiveExpression7, nodeArity() > 1);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // FEL.javacc:227:1
+    final public void MultiplicativeExpression() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 8;
+        MultiplicativeExpression MultiplicativeExpression8 = null;
+        if (buildTree) {
+            MultiplicativeExpression8 = new MultiplicativeExpression();
+            openNodeScope(MultiplicativeExpression8);
+        }
+        ParseException parseException319 = null;
+        int callStackSize320 = parsingStack.size();
+        try {
+            // Code for NonTerminal specified at FEL.javacc:228:5
+            pushOntoCallStack(8, "FEL.javacc", 228, 5);
+            try {
+                UnaryExpression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified at FEL.javacc:229:5
+            while (true) {
+                if (!(nextTokenType()==TIMES||nextTokenType==DIVIDE||nextTokenType==PERCENT)) break;
+                if (nextTokenType()==TIMES) {
+                    // Code for RegexpRef specified at FEL.javacc:230:12
+                    consumeToken(TIMES);
+                }
+                else if (nextTokenType()==DIVIDE) {
+                    // Code for RegexpRef specified at FEL.javacc:230:20
+                    consumeToken(DIVIDE);
+                }
+                else if (nextTokenType()==PERCENT) {
+                    // Code for RegexpRef specified at FEL.javacc:230:29
+                    consumeToken(PERCENT);
+                }
+                else {
+                    pushOntoCallStack(8, "FEL.javacc", 230, 12);
+                    throw new ParseException(this, first_set$FEL_javacc$230$12, parsingStack.toList());
+                }
+                // Code for NonTerminal specified at FEL.javacc:231:11
+                pushOntoCallStack(8, "FEL.javacc", 231, 11);
+                try {
+                    UnaryExpression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException319 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize320);
+            if (MultiplicativeExpression8!=null) {
+                if (parseException319==null) {
+                    closeNodeScope(MultiplicativeExpression8, nodeArity() > 1);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final EnumSet<TokenType> UnaryExpression_FIRST_SET = UnaryExpression_FIRST_SET_init();
+
+    static private EnumSet<TokenType> UnaryExpression_FIRST_SET_init() {
+        return EnumSet.of(OPEN_PAREN, OPEN_BRACKET, OPEN_BRACE, DOT, PLUS, MINUS, EXCLAM, NULL, TRUE, FALSE, INTEGER, DECIMAL, IDENTIFIER, STRING_LITERAL, RAW_STRING);
+    }
+
+    // FEL.javacc:236:1
+    final public void UnaryExpression() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 9;
+        // Code for ExpansionChoice specified at FEL.javacc:237:5
+        if (nextTokenType()==PLUS||nextTokenType==MINUS) {
+            // Code for NonTerminal specified at FEL.javacc:237:5
+            pushOntoCallStack(9, "FEL.javacc", 237, 5);
+            try {
+                UnaryPlusMinusExpression();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (nextTokenType()==EXCLAM) {
+            // Code for NonTerminal specified at FEL.javacc:239:5
+            pushOntoCallStack(9, "FEL.javacc", 239, 5);
+            try {
+                NotExpression();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (maskContains(first_set$FEL_javacc$241$5_MASK, nextTokenType().ordinal())) {
+            // Code for NonTerminal specified at FEL.javacc:241:5
+            pushOntoCallStack(9, "FEL.javacc", 241, 5);
+            try {
+                DefaultToExpression();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else {
+            pushOntoCallStack(9, "FEL.javacc", 237, 5);
+            throw new ParseException(this, UnaryExpression_FIRST_SET, parsingStack.toList());
+        }
+    }
+
+    // FEL.javacc:244:1
+    final public void UnaryPlusMinusExpression() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 10;
+        UnaryPlusMinusExpression UnaryPlusMinusExpression9 = null;
+        if (buildTree) {
+            UnaryPlusMinusExpression9 = new UnaryPlusMinusExpression();
+            openNodeScope(UnaryPlusMinusExpression9);
+        }
+        ParseException parseException396 = null;
+        int callStackSize397 = parsingStack.size();
+        try {
+            if (nextTokenType()==PLUS) {
+                // Code for RegexpRef specified at FEL.javacc:245:6
+                consumeToken(PLUS);
+            }
+            else if (nextTokenType()==MINUS) {
+                // Code for RegexpRef specified at FEL.javacc:245:13
+                consumeToken(MINUS);
+            }
+            else {
+                pushOntoCallStack(10, "FEL.javacc", 245, 6);
+                throw new ParseException(this, first_set$FEL_javacc$245$6, parsingStack.toList());
+            }
+            // Code for NonTerminal specified at FEL.javacc:245:22
+            pushOntoCallStack(10, "FEL.javacc", 245, 22);
+            try {
+                DefaultToExpression();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        catch(ParseException e) {
+            parseException396 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize397);
+            if (UnaryPlusMinusExpression9!=null) {
+                if (parseException396==null) {
+                    closeNodeScope(UnaryPlusMinusExpression9, nodeArity() > 1);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // FEL.javacc:248:1
+    final public void NotExpression() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 11;
+        NotExpression NotExpression10 = null;
+        if (buildTree) {
+            NotExpression10 = new NotExpression();
+            openNodeScope(NotExpression10);
+        }
+        ParseException parseException425 = null;
+        int callStackSize426 = parsingStack.size();
+        try {
+            // Code for RegexpRef specified at FEL.javacc:249:5
+            consumeToken(EXCLAM);
+            // Code for NonTerminal specified at FEL.javacc:250:5
+            pushOntoCallStack(11, "FEL.javacc", 250, 5);
+            try {
+                DefaultToExpression();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        catch(ParseException e) {
+            parseException425 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize426);
+            if (NotExpression10!=null) {
+                if (parseException425==null) {
+                    closeNodeScope(NotExpression10, nodeArity() > 1);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // FEL.javacc:253:1
+    final public void BuiltinVariable() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 12;
+        BuiltinVariable BuiltinVariable11 = null;
+        if (buildTree) {
+            BuiltinVariable11 = new BuiltinVariable();
+            openNodeScope(BuiltinVariable11);
+        }
+        ParseException parseException437 = null;
+        int callStackSize438 = parsingStack.size();
+        try {
+            // Code for RegexpRef specified at FEL.javacc:254:5
+            consumeToken(DOT);
+            // Code for RegexpRef specified at FEL.javacc:254:10
+            consumeToken(IDENTIFIER);
+        }
+        catch(ParseException e) {
+            parseException437 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize438);
+            if (BuiltinVariable11!=null) {
+                if (parseException437==null) {
+                    closeNodeScope(BuiltinVariable11, nodeArity() > 1);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // FEL.javacc:257:1
+    final public void DefaultToExpression() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 13;
+        DefaultToExpression DefaultToExpression12 = null;
+        if (buildTree) {
+            DefaultToExpression12 = new DefaultToExpression();
+            openNodeScope(DefaultToExpression12);
+        }
+        ParseException parseException449 = null;
+        int callStackSize450 = parsingStack.size();
+        try {
+            // Code for NonTerminal specified at FEL.javacc:258:5
+            pushOntoCallStack(13, "FEL.javacc", 258, 5);
+            try {
+                PrimaryExpression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified at FEL.javacc:259:5
+            while (true) {
+                if (!((getToken(2).getType()!=IDENTIFIER||getToken(3).getType()!=EQUALS)&&scan$FEL_javacc$261$9())) break;
+                // Code for RegexpRef specified at FEL.javacc:262:12
+                consumeToken(EXCLAM);
+                // Code for NonTerminal specified at FEL.javacc:262:20
+                pushOntoCallStack(13, "FEL.javacc", 262, 20);
+                try {
+                    PrimaryExpression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for ZeroOrOne specified at FEL.javacc:264:5
+            if (nextTokenType()==EXCLAM) {
+                // Code for RegexpRef specified at FEL.javacc:265:8
+                consumeToken(EXCLAM);
+            }
+        }
+        catch(ParseException e) {
+            parseException449 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize450);
+            if (DefaultToExpression12!=null) {
+                if (parseException449==null) {
+                    closeNodeScope(DefaultToExpression12, nodeArity() > 1);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // FEL.javacc:269:1
+    final public void PrimaryExpression() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 14;
+        PrimaryExpression PrimaryExpression13 = null;
+        if (buildTree) {
+            PrimaryExpression13 = new PrimaryExpression();
+            openNodeScope(PrimaryExpression13);
+        }
+        ParseException parseException485 = null;
+        int callStackSize486 = parsingStack.size();
+        try {
+            // Code for NonTerminal specified at FEL.javacc:270:3
+            pushOntoCallStack(14, "FEL.javacc", 270, 3);
+            try {
+                BaseExpression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified at FEL.javacc:271:3
+            while (true) {
+                // Code for ExpansionChoice specified at FEL.javacc:272:7
+                if (nextTokenType()==DOT) {
+                    // Code for NonTerminal specified at FEL.javacc:272:7
+                    pushOntoCallStack(14, "FEL.javacc", 272, 7);
+                    try {
+                        DotKey();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                else if (nextTokenType()==OPEN_BRACKET) {
+                    // Code for NonTerminal specified at FEL.javacc:274:7
+                    pushOntoCallStack(14, "FEL.javacc", 274, 7);
+                    try {
+                        DynamicKey();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                else if (nextTokenType()==OPEN_PAREN) {
+                    // Code for NonTerminal specified at FEL.javacc:276:7
+                    pushOntoCallStack(14, "FEL.javacc", 276, 7);
+                    try {
+                        MethodInvoke();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                else if (nextTokenType()==BUILT_IN) {
+                    // Code for NonTerminal specified at FEL.javacc:278:7
+                    pushOntoCallStack(14, "FEL.javacc", 278, 7);
+                    try {
+                        BuiltIn();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                else if (nextTokenType()==EXISTS_OPERATOR) {
+                    // Code for NonTerminal specified at FEL.javacc:280:7
+                    pushOntoCallStack(14, "FEL.javacc", 280, 7);
+                    try {
+                        Exists();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                else {
+                    break;
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException485 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize486);
+            if (PrimaryExpression13!=null) {
+                if (parseException485==null) {
+                    closeNodeScope(PrimaryExpression13, nodeArity() > 1);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final EnumSet<TokenType> BaseExpression_FIRST_SET = BaseExpression_FIRST_SET_init();
+
+    static private EnumSet<TokenType> BaseExpression_FIRST_SET_init() {
+        return EnumSet.of(OPEN_PAREN, OPEN_BRACKET, OPEN_BRACE, DOT, NULL, TRUE, FALSE, INTEGER, DECIMAL, IDENTIFIER, STRING_LITERAL, RAW_STRING);
+    }
+
+    // FEL.javacc:284:1
+    final public void BaseExpression() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 15;
+        // Code for ExpansionChoice specified at FEL.javacc:285:5
+        BaseExpression BaseExpression14 = null;
+        if (buildTree) {
+            BaseExpression14 = new BaseExpression();
+            openNodeScope(BaseExpression14);
+        }
+        ParseException parseException541 = null;
+        int callStackSize542 = parsingStack.size();
+        try {
+            if (nextTokenType()==IDENTIFIER) {
+                // Code for RegexpRef specified at FEL.javacc:285:5
+                consumeToken(IDENTIFIER);
+            }
+            else if (nextTokenType()==INTEGER||nextTokenType==DECIMAL) {
+                // Code for NonTerminal specified at FEL.javacc:287:5
+                pushOntoCallStack(15, "FEL.javacc", 287, 5);
+                try {
+                    NumberLiteral();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (nextTokenType()==OPEN_BRACE) {
+                // Code for NonTerminal specified at FEL.javacc:289:5
+                pushOntoCallStack(15, "FEL.javacc", 289, 5);
+                try {
+                    HashLiteral();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (nextTokenType()==STRING_LITERAL||nextTokenType==RAW_STRING) {
+                // Code for NonTerminal specified at FEL.javacc:291:5
+                pushOntoCallStack(15, "FEL.javacc", 291, 5);
+                try {
+                    StringLiteral();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (nextTokenType()==TRUE||nextTokenType==FALSE) {
+                // Code for NonTerminal specified at FEL.javacc:293:5
+                pushOntoCallStack(15, "FEL.javacc", 293, 5);
+                try {
+                    BooleanLiteral();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (nextTokenType()==NULL) {
+                // Code for NonTerminal specified at FEL.javacc:295:5
+                pushOntoCallStack(15, "FEL.javacc", 295, 5);
+                try {
+                    NullLiteral();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (nextTokenType()==OPEN_BRACKET) {
+                // Code for NonTerminal specified at FEL.javacc:297:5
+                pushOntoCallStack(15, "FEL.javacc", 297, 5);
+                try {
+                    ListLiteral();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (nextTokenType()==OPEN_PAREN) {
+                // Code for NonTerminal specified at FEL.javacc:299:5
+                pushOntoCallStack(15, "FEL.javacc", 299, 5);
+                try {
+                    Parenthesis();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (nextTokenType()==DOT) {
+                // Code for NonTerminal specified at FEL.javacc:301:5
+                pushOntoCallStack(15, "FEL.javacc", 301, 5);
+                try {
+                    BuiltinVariable();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else {
+                pushOntoCallStack(15, "FEL.javacc", 285, 5);
+                throw new ParseException(this, BaseExpression_FIRST_SET, parsingStack.toList());
+            }
+        }
+        catch(ParseException e) {
+            parseException541 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize542);
+            if (BaseExpression14!=null) {
+                if (parseException541==null) {
+                    closeNodeScope(BaseExpression14, nodeArity() > 1);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // FEL.javacc:305:1
+    final public void DotKey() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 16;
+        // Code for RegexpRef specified at FEL.javacc:306:5
+        consumeToken(DOT);
+        if (nextTokenType()==IDENTIFIER) {
+            // Code for RegexpRef specified at FEL.javacc:307:6
+            consumeToken(IDENTIFIER);
+        }
+        else if (nextTokenType()==TIMES) {
+            // Code for RegexpRef specified at FEL.javacc:307:19
+            consumeToken(TIMES);
+        }
+        else {
+            pushOntoCallStack(16, "FEL.javacc", 307, 6);
+            throw new ParseException(this, first_set$FEL_javacc$307$6, parsingStack.toList());
+        }
+    }
+
+    // FEL.javacc:310:1
+    final public void DynamicKey() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 17;
+        // Code for RegexpRef specified at FEL.javacc:311:5
+        consumeToken(OPEN_BRACKET);
+        // Code for NonTerminal specified at FEL.javacc:311:19
+        pushOntoCallStack(17, "FEL.javacc", 311, 19);
+        try {
+            Expression();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for RegexpRef specified at FEL.javacc:311:29
+        consumeToken(CLOSE_BRACKET);
+    }
+
+    // FEL.javacc:314:1
+    final public void MethodInvoke() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 18;
+        // Code for RegexpRef specified at FEL.javacc:315:3
+        consumeToken(OPEN_PAREN);
+        // Code for ZeroOrOne specified at FEL.javacc:315:15
+        if (maskContains(first_set$FEL_javacc$315$16_MASK, nextTokenType().ordinal())) {
+            // Code for NonTerminal specified at FEL.javacc:315:16
+            pushOntoCallStack(18, "FEL.javacc", 315, 16);
+            try {
+                ArgsList();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        // Code for RegexpRef specified at FEL.javacc:315:25
+        consumeToken(CLOSE_PAREN);
+    }
+
+    // FEL.javacc:318:1
+    final public void BuiltIn() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 19;
+        // Code for RegexpRef specified at FEL.javacc:319:5
+        consumeToken(BUILT_IN);
+        // Code for RegexpRef specified at FEL.javacc:319:15
+        consumeToken(IDENTIFIER);
+    }
+
+    // FEL.javacc:322:1
+    final public void Exists() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 20;
+        Exists Exists15 = null;
+        if (buildTree) {
+            Exists15 = new Exists();
+            openNodeScope(Exists15);
+        }
+        ParseException parseException698 = null;
+        int callStackSize699 = parsingStack.size();
+        try {
+            // Code for RegexpRef specified at FEL.javacc:323:5
+            consumeToken(EXISTS_OPERATOR);
+        }
+        catch(ParseException e) {
+            parseException698 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize699);
+            if (Exists15!=null) {
+                if (parseException698==null) {
+                    closeNodeScope(Exists15, nodeArity() > 1);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // FEL.javacc:326:1
+    final public void ListLiteral() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 21;
+        ListLiteral ListLiteral16 = null;
+        if (buildTree) {
+            ListLiteral16 = new ListLiteral();
+            openNodeScope(ListLiteral16);
+        }
+        ParseException parseException706 = null;
+        int callStackSize707 = parsingStack.size();
+        try {
+            // Code for RegexpRef specified at FEL.javacc:327:5
+            consumeToken(OPEN_BRACKET);
+            // Code for ZeroOrOne specified at FEL.javacc:328:5
+            if (maskContains(first_set$FEL_javacc$328$6_MASK, nextTokenType().ordinal())) {
+                // Code for NonTerminal specified at FEL.javacc:328:6
+                pushOntoCallStack(21, "FEL.javacc", 328, 6);
+                try {
+                    Expression();
+                }
+                finally {
+                    popCallStack();
+                }
+                // Code for ZeroOrMore specified at FEL.javacc:328:17
+                while (true) {
+                    if (!(maskContains(first_set$FEL_javacc$328$18_MASK, nextTokenType().ordinal()))) break;
+                    // Code for ZeroOrOne specified at FEL.javacc:328:18
+                    if (nextTokenType()==COMMA) {
+                        // Code for RegexpRef specified at FEL.javacc:328:19
+                        consumeToken(COMMA);
+                    }
+                    // Code for NonTerminal specified at FEL.javacc:328:27
+                    pushOntoCallStack(21, "FEL.javacc", 328, 27);
+                    try {
+                        Expression();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+            }
+            // Code for RegexpRef specified at FEL.javacc:329:5
+            consumeToken(CLOSE_BRACKET);
+        }
+        catch(ParseException e) {
+            parseException706 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize707);
+            if (ListLiteral16!=null) {
+                if (parseException706==null) {
+                    closeNodeScope(ListLiteral16, nodeArity() > 1);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final EnumSet<TokenType> StringLiteral_FIRST_SET = EnumSet.of(STRING_LITERAL, RAW_STRING);
+
+    // FEL.javacc:332:1
+    final public void StringLiteral() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 22;
+        // Code for ExpansionChoice specified at FEL.javacc:333:5
+        StringLiteral StringLiteral17 = null;
+        if (buildTree) {
+            StringLiteral17 = new StringLiteral();
+            openNodeScope(StringLiteral17);
+        }
+        ParseException parseException754 = null;
+        int callStackSize755 = parsingStack.size();
+        try {
+            if (nextTokenType()==STRING_LITERAL) {
+                // Code for RegexpRef specified at FEL.javacc:333:5
+                consumeToken(STRING_LITERAL);
+            }
+            else if (nextTokenType()==RAW_STRING) {
+                // Code for RegexpRef specified at FEL.javacc:333:22
+                consumeToken(RAW_STRING);
+            }
+            else {
+                pushOntoCallStack(22, "FEL.javacc", 333, 5);
+                throw new ParseException(this, StringLiteral_FIRST_SET, parsingStack.toList());
+            }
+        }
+        catch(ParseException e) {
+            parseException754 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize755);
+            if (StringLiteral17!=null) {
+                if (parseException754==null) {
+                    closeNodeScope(StringLiteral17, nodeArity() > 1);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // FEL.javacc:337:1
+    final public void HashLiteral() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 23;
+        HashLiteral HashLiteral18 = null;
+        if (buildTree) {
+            HashLiteral18 = new HashLiteral();
+            openNodeScope(HashLiteral18);
+        }
+        ParseException parseException774 = null;
+        int callStackSize775 = parsingStack.size();
+        try {
+            // Code for RegexpRef specified at FEL.javacc:338:5
+            consumeToken(OPEN_BRACE);
+            // Code for ZeroOrOne specified at FEL.javacc:339:5
+            if (maskContains(first_set$FEL_javacc$340$8_MASK, nextTokenType().ordinal())) {
+                // Code for NonTerminal specified at FEL.javacc:340:8
+                pushOntoCallStack(23, "FEL.javacc", 340, 8);
+                try {
+                    Expression();
+                }
+                finally {
+                    popCallStack();
+                }
+                // Code for RegexpRef specified at FEL.javacc:340:19
+                consumeToken(COLON);
+                // Code for NonTerminal specified at FEL.javacc:340:27
+                pushOntoCallStack(23, "FEL.javacc", 340, 27);
+                try {
+                    Expression();
+                }
+                finally {
+                    popCallStack();
+                }
+                // Code for ZeroOrMore specified at FEL.javacc:341:8
+                while (true) {
+                    if (!(nextTokenType()==COMMA)) break;
+                    // Code for RegexpRef specified at FEL.javacc:341:9
+                    consumeToken(COMMA);
+                    // Code for NonTerminal specified at FEL.javacc:341:17
+                    pushOntoCallStack(23, "FEL.javacc", 341, 17);
+                    try {
+                        Expression();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                    // Code for RegexpRef specified at FEL.javacc:341:28
+                    consumeToken(COLON);
+                    // Code for NonTerminal specified at FEL.javacc:341:36
+                    pushOntoCallStack(23, "FEL.javacc", 341, 36);
+                    try {
+                        Expression();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+            }
+            // Code for RegexpRef specified at FEL.javacc:343:5
+            consumeToken(CLOSE_BRACE);
+        }
+        catch(ParseException e) {
+            parseException774 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize775);
+            if (HashLiteral18!=null) {
+                if (parseException774==null) {
+                    closeNodeScope(HashLiteral18, nodeArity() > 1);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final EnumSet<TokenType> NumberLiteral_FIRST_SET = EnumSet.of(INTEGER, DECIMAL);
+
+    // FEL.javacc:346:1
+    final public void NumberLiteral() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 24;
+        // Code for ExpansionChoice specified at FEL.javacc:347:5
+        NumberLiteral NumberLiteral19 = null;
+        if (buildTree) {
+            NumberLiteral19 = new NumberLiteral();
+            openNodeScope(NumberLiteral19);
+        }
+        ParseException parseException830 = null;
+        int callStackSize831 = parsingStack.size();
+        try {
+            if (nextTokenType()==INTEGER) {
+                // Code for RegexpRef specified at FEL.javacc:347:5
+                consumeToken(INTEGER);
+            }
+            else if (nextTokenType()==DECIMAL) {
+                // Code for RegexpRef specified at FEL.javacc:347:15
+                consumeToken(DECIMAL);
+            }
+            else {
+                pushOntoCallStack(24, "FEL.javacc", 347, 5);
+                throw new ParseException(this, NumberLiteral_FIRST_SET, parsingStack.toList());
+            }
+        }
+        catch(ParseException e) {
+            parseException830 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize831);
+            if (NumberLiteral19!=null) {
+                if (parseException830==null) {
+                    closeNodeScope(NumberLiteral19, nodeArity() > 1);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final EnumSet<TokenType> BooleanLiteral_FIRST_SET = EnumSet.of(TRUE, FALSE);
+
+    // FEL.javacc:350:1
+    final public void BooleanLiteral() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 25;
+        // Code for ExpansionChoice specified at FEL.javacc:351:5
+        BooleanLiteral BooleanLiteral20 = null;
+        if (buildTree) {
+            BooleanLiteral20 = new BooleanLiteral();
+            openNodeScope(BooleanLiteral20);
+        }
+        ParseException parseException850 = null;
+        int callStackSize851 = parsingStack.size();
+        try {
+            if (nextTokenType()==TRUE) {
+                // Code for RegexpRef specified at FEL.javacc:351:5
+                consumeToken(TRUE);
+            }
+            else if (nextTokenType()==FALSE) {
+                // Code for RegexpRef specified at FEL.javacc:351:12
+                consumeToken(FALSE);
+            }
+            else {
+                pushOntoCallStack(25, "FEL.javacc", 351, 5);
+                throw new ParseException(this, BooleanLiteral_FIRST_SET, parsingStack.toList());
+            }
+        }
+        catch(ParseException e) {
+            parseException850 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize851);
+            if (BooleanLiteral20!=null) {
+                if (parseException850==null) {
+                    closeNodeScope(BooleanLiteral20, nodeArity() > 1);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // FEL.javacc:354:1
+    final public void NullLiteral() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 26;
+        NullLiteral NullLiteral21 = null;
+        if (buildTree) {
+            NullLiteral21 = new NullLiteral();
+            openNodeScope(NullLiteral21);
+        }
+        ParseException parseException870 = null;
+        int callStackSize871 = parsingStack.size();
+        try {
+            // Code for RegexpRef specified at FEL.javacc:354:15
+            consumeToken(NULL);
+        }
+        catch(ParseException e) {
+            parseException870 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize871);
+            if (NullLiteral21!=null) {
+                if (parseException870==null) {
+                    closeNodeScope(NullLiteral21, nodeArity() > 1);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // FEL.javacc:356:1
+    final public void Parenthesis() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 27;
+        Parenthesis Parenthesis22 = null;
+        if (buildTree) {
+            Parenthesis22 = new Parenthesis();
+            openNodeScope(Parenthesis22);
+        }
+        ParseException parseException878 = null;
+        int callStackSize879 = parsingStack.size();
+        try {
+            // Code for RegexpRef specified at FEL.javacc:357:5
+            consumeToken(OPEN_PAREN);
+            // Code for NonTerminal specified at FEL.javacc:357:18
+            pushOntoCallStack(27, "FEL.javacc", 357, 18);
+            try {
+                Expression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpRef specified at FEL.javacc:357:29
+            consumeToken(CLOSE_PAREN);
+        }
+        catch(ParseException e) {
+            parseException878 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize879);
+            if (Parenthesis22!=null) {
+                if (parseException878==null) {
+                    closeNodeScope(Parenthesis22, nodeArity() > 1);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // FEL.javacc:360:1
+    final public void ArgsList() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 28;
+        if (scan$FEL_javacc$362$9()) {
+            // Code for NonTerminal specified at FEL.javacc:363:9
+            pushOntoCallStack(28, "FEL.javacc", 363, 9);
+            try {
+                NamedArgsList();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (maskContains(first_set$FEL_javacc$365$9_MASK, nextTokenType().ordinal())) {
+            // Code for NonTerminal specified at FEL.javacc:365:9
+            pushOntoCallStack(28, "FEL.javacc", 365, 9);
+            try {
+                PositionalArgsList();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else {
+            pushOntoCallStack(28, "FEL.javacc", 362, 9);
+            throw new ParseException(this, first_set$FEL_javacc$362$9, parsingStack.toList());
+        }
+    }
+
+    // FEL.javacc:369:1
+    final public void NamedArgsList() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 29;
+        NamedArgsList NamedArgsList23 = null;
+        if (buildTree) {
+            NamedArgsList23 = new NamedArgsList();
+            openNodeScope(NamedArgsList23);
+        }
+        ParseException parseException919 = null;
+        int callStackSize920 = parsingStack.size();
+        try {
+            // Code for RegexpRef specified at FEL.javacc:370:5
+            consumeToken(IDENTIFIER);
+            // Code for RegexpRef specified at FEL.javacc:371:5
+            consumeToken(EQUALS);
+            // Code for NonTerminal specified at FEL.javacc:372:5
+            pushOntoCallStack(29, "FEL.javacc", 372, 5);
+            try {
+                Expression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified at FEL.javacc:373:5
+            while (true) {
+                if (!(nextTokenType()==COMMA||nextTokenType==IDENTIFIER)) break;
+                // Code for ZeroOrOne specified at FEL.javacc:374:8
+                if (nextTokenType()==COMMA) {
+                    // Code for RegexpRef specified at FEL.javacc:374:9
+                    consumeToken(COMMA);
+                }
+                // Code for RegexpRef specified at FEL.javacc:375:8
+                consumeToken(IDENTIFIER);
+                // Code for RegexpRef specified at FEL.javacc:376:8
+                consumeToken(EQUALS);
+                // Code for NonTerminal specified at FEL.javacc:377:8
+                pushOntoCallStack(29, "FEL.javacc", 377, 8);
+                try {
+                    Expression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException919 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize920);
+            if (NamedArgsList23!=null) {
+                if (parseException919==null) {
+                    closeNodeScope(NamedArgsList23, nodeArity() > 1);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // FEL.javacc:381:1
+    final public void PositionalArgsList() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 30;
+        PositionalArgsList PositionalArgsList24 = null;
+        if (buildTree) {
+            PositionalArgsList24 = new PositionalArgsList();
+            openNodeScope(PositionalArgsList24);
+        }
+        ParseException parseException967 = null;
+        int callStackSize968 = parsingStack.size();
+        try {
+            // Code for NonTerminal specified at FEL.javacc:382:5
+            pushOntoCallStack(30, "FEL.javacc", 382, 5);
+            try {
+                Expression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified at FEL.javacc:383:5
+            while (true) {
+                if (!(maskContains(first_set$FEL_javacc$384$8_MASK, nextTokenType().ordinal()))) break;
+                // Code for ZeroOrOne specified at FEL.javacc:384:8
+                if (nextTokenType()==COMMA) {
+                    // Code for RegexpRef specified at FEL.javacc:384:9
+                    consumeToken(COMMA);
+                }
+                // Code for NonTerminal specified at FEL.javacc:385:8
+                pushOntoCallStack(30, "FEL.javacc", 385, 8);
+                try {
+                    Expression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException967 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize968);
+            if (PositionalArgsList24!=null) {
+                if (parseException967==null) {
+                    closeNodeScope(PositionalArgsList24, nodeArity() > 1);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final EnumSet<TokenType> IdentifierOrStringLiteral_FIRST_SET = EnumSet.of(IDENTIFIER, STRING_LITERAL, RAW_STRING);
+
+    // /root/project/examples/freemarker/FTL.javacc:359:1
+    final public void IdentifierOrStringLiteral() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 31;
+        // Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:360:5
+        IdentifierOrStringLiteral IdentifierOrStringLiteral25 = null;
+        if (buildTree) {
+            IdentifierOrStringLiteral25 = new IdentifierOrStringLiteral();
+            openNodeScope(IdentifierOrStringLiteral25);
+        }
+        ParseException parseException999 = null;
+        int callStackSize1000 = parsingStack.size();
+        try {
+            if (nextTokenType()==IDENTIFIER) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:360:5
+                consumeToken(IDENTIFIER);
+            }
+            else if (nextTokenType()==STRING_LITERAL||nextTokenType==RAW_STRING) {
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:362:5
+                pushOntoCallStack(31, "/root/project/examples/freemarker/FTL.javacc", 362, 5);
+                try {
+                    StringLiteral();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else {
+                pushOntoCallStack(31, "/root/project/examples/freemarker/FTL.javacc", 360, 5);
+                throw new ParseException(this, IdentifierOrStringLiteral_FIRST_SET, parsingStack.toList());
+            }
+        }
+        catch(ParseException e) {
+            parseException999 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize1000);
+            if (IdentifierOrStringLiteral25!=null) {
+                if (parseException999==null) {
+                    closeNodeScope(IdentifierOrStringLiteral25, nodeArity() > 1);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:366:1
+    final public void Interpolation() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 32;
+        Interpolation Interpolation26 = null;
+        if (buildTree) {
+            Interpolation26 = new Interpolation();
+            openNodeScope(Interpolation26);
+        }
+        ParseException parseException1019 = null;
+        int callStackSize1020 = parsingStack.size();
+        try {
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:367:5
+            consumeToken(INTERPOLATE);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:367:18
+            pushOntoCallStack(32, "/root/project/examples/freemarker/FTL.javacc", 367, 18);
+            try {
+                Expression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:367:28
+            consumeToken(CLOSE_BRACE);
+        }
+        catch(ParseException e) {
+            parseException1019 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize1020);
+            if (Interpolation26!=null) {
+                if (parseException1019==null) {
+                    closeNodeScope(Interpolation26, nodeArity() > 1);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:370:1
+    final public void NumericalInterpolation() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 33;
+        NumericalInterpolation NumericalInterpolation27 = null;
+        if (buildTree) {
+            NumericalInterpolation27 = new NumericalInterpolation();
+            openNodeScope(NumericalInterpolation27);
+        }
+        ParseException parseException1035 = null;
+        int callStackSize1036 = parsingStack.size();
+        try {
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:371:5
+            consumeToken(NUMERICAL_INTERPOLATE);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:371:28
+            pushOntoCallStack(33, "/root/project/examples/freemarker/FTL.javacc", 371, 28);
+            try {
+                Expression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:371:39
+            if (nextTokenType()==SEMICOLON) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:371:40
+                consumeToken(SEMICOLON);
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:371:51
+                consumeToken(IDENTIFIER);
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:371:64
+            consumeToken(CLOSE_BRACE);
+        }
+        catch(ParseException e) {
+            parseException1035 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize1036);
+            if (NumericalInterpolation27!=null) {
+                if (parseException1035==null) {
+                    closeNodeScope(NumericalInterpolation27, nodeArity() > 1);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:375:1
+    final public void Assignment() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 34;
+        Assignment Assignment28 = null;
+        if (buildTree) {
+            Assignment28 = new Assignment();
+            openNodeScope(Assignment28);
+        }
+        Token t;
+        ParseException parseException1067 = null;
+        int callStackSize1068 = parsingStack.size();
+        try {
+            if (nextTokenType()==FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:379:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            }
+            else if (nextTokenType()==FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:379:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            }
+            else {
+                pushOntoCallStack(34, "/root/project/examples/freemarker/FTL.javacc", 379, 6);
+                throw new ParseException(this, first_set$FTL_javacc$379$6, parsingStack.toList());
+            }
+            if (nextTokenType()==SET) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:381:10
+                t = consumeToken(SET);
+            }
+            else if (nextTokenType()==ASSIGN) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:382:10
+                t = consumeToken(ASSIGN);
+            }
+            else if (nextTokenType()==LOCAL) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:383:10
+                t = consumeToken(LOCAL);
+            }
+            else if (nextTokenType()==GLOBAL) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:384:10
+                t = consumeToken(GLOBAL);
+            }
+            else {
+                pushOntoCallStack(34, "/root/project/examples/freemarker/FTL.javacc", 381, 8);
+                throw new ParseException(this, first_set$FTL_javacc$381$8, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:386:5
+            consumeToken(BLANK);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:387:5
+            pushOntoCallStack(34, "/root/project/examples/freemarker/FTL.javacc", 387, 5);
+            try {
+                IdentifierOrStringLiteral();
+            }
+            finally {
+                popCallStack();
+            }
+            if (nextTokenType()==EQUALS) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:390:8
+                consumeToken(EQUALS);
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:390:16
+                pushOntoCallStack(34, "/root/project/examples/freemarker/FTL.javacc", 390, 16);
+                try {
+                    Expression();
+                }
+                finally {
+                    popCallStack();
+                }
+                // Code for ZeroOrMore specified at /root/project/examples/freemarker/FTL.javacc:391:8
+                while (true) {
+                    if (!(nextTokenType()==COMMA||nextTokenType==IDENTIFIER||nextTokenType==STRING_LITERAL||nextTokenType==RAW_STRING)) break;
+                    // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:391:9
+                    if (nextTokenType()==COMMA) {
+                        // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:391:10
+                        consumeToken(COMMA);
+                    }
+                    // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:391:19
+                    pushOntoCallStack(34, "/root/project/examples/freemarker/FTL.javacc", 391, 19);
+                    try {
+                        IdentifierOrStringLiteral();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:391:45
+                    consumeToken(EQUALS);
+                    // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:391:54
+                    pushOntoCallStack(34, "/root/project/examples/freemarker/FTL.javacc", 391, 54);
+                    try {
+                        Expression();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:392:8
+                if (nextTokenType()==IN) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:392:9
+                    consumeToken(IN);
+                    // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:392:14
+                    pushOntoCallStack(34, "/root/project/examples/freemarker/FTL.javacc", 392, 14);
+                    try {
+                        Expression();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:393:8
+                pushOntoCallStack(34, "/root/project/examples/freemarker/FTL.javacc", 393, 8);
+                try {
+                    LooseTagEnd();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (nextTokenType()==IN||nextTokenType==CLOSE_TAG) {
+                // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:397:11
+                if (nextTokenType()==IN) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:397:12
+                    consumeToken(IN);
+                    // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:397:17
+                    pushOntoCallStack(34, "/root/project/examples/freemarker/FTL.javacc", 397, 17);
+                    try {
+                        Expression();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:398:10
+                consumeToken(CLOSE_TAG);
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:399:10
+                pushOntoCallStack(34, "/root/project/examples/freemarker/FTL.javacc", 399, 10);
+                try {
+                    Block();
+                }
+                finally {
+                    popCallStack();
+                }
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:400:10
+                pushOntoCallStack(34, "/root/project/examples/freemarker/FTL.javacc", 400, 10);
+                try {
+                    DirectiveEnd(t.getImage());
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else {
+                pushOntoCallStack(34, "/root/project/examples/freemarker/FTL.javacc", 389, 7);
+                throw new ParseException(this, first_set$FTL_javacc$389$7, parsingStack.toList());
+            }
+        }
+        catch(ParseException e) {
+            parseException1067 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize1068);
+            if (Assignment28!=null) {
+                if (parseException1067==null) {
+                    closeNodeScope(Assignment28, nodeArity() > 1);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:405:1
+    final public void Var() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 35;
+        VarInstruction Var29 = null;
+        if (buildTree) {
+            Var29 = new VarInstruction();
+            openNodeScope(Var29);
+        }
+        ParseException parseException1248 = null;
+        int callStackSize1249 = parsingStack.size();
+        try {
+            if (nextTokenType()==FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:406:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            }
+            else if (nextTokenType()==FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:406:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            }
+            else {
+                pushOntoCallStack(35, "/root/project/examples/freemarker/FTL.javacc", 406, 6);
+                throw new ParseException(this, first_set$FTL_javacc$406$6, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:407:5
+            consumeToken(VAR);
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:407:10
+            consumeToken(BLANK);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:408:5
+            pushOntoCallStack(35, "/root/project/examples/freemarker/FTL.javacc", 408, 5);
+            try {
+                IdentifierOrStringLiteral();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:408:31
+            if (nextTokenType()==EQUALS) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:408:32
+                consumeToken(EQUALS);
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:408:41
+                pushOntoCallStack(35, "/root/project/examples/freemarker/FTL.javacc", 408, 41);
+                try {
+                    Expression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for ZeroOrMore specified at /root/project/examples/freemarker/FTL.javacc:409:5
+            while (true) {
+                if (!(nextTokenType()==COMMA||nextTokenType==IDENTIFIER||nextTokenType==STRING_LITERAL||nextTokenType==RAW_STRING)) break;
+                // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:409:6
+                if (nextTokenType()==COMMA) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:409:7
+                    consumeToken(COMMA);
+                }
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:409:15
+                pushOntoCallStack(35, "/root/project/examples/freemarker/FTL.javacc", 409, 15);
+                try {
+                    IdentifierOrStringLiteral();
+                }
+                finally {
+                    popCallStack();
+                }
+                // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:409:41
+                if (nextTokenType()==EQUALS) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:409:42
+                    consumeToken(EQUALS);
+                    // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:409:51
+                    pushOntoCallStack(35, "/root/project/examples/freemarker/FTL.javacc", 409, 51);
+                    try {
+                        Expression();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+            }
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:410:5
+            pushOntoCallStack(35, "/root/project/examples/freemarker/FTL.javacc", 410, 5);
+            try {
+                LooseTagEnd();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        catch(ParseException e) {
+            parseException1248 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize1249);
+            if (Var29!=null) {
+                if (parseException1248==null) {
+                    closeNodeScope(Var29, true);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:413:1
+    final public void Setting() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 36;
+        SettingInstruction Setting30 = null;
+        if (buildTree) {
+            Setting30 = new SettingInstruction();
+            openNodeScope(Setting30);
+        }
+        ParseException parseException1345 = null;
+        int callStackSize1346 = parsingStack.size();
+        try {
+            if (nextTokenType()==FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:414:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            }
+            else if (nextTokenType()==FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:414:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            }
+            else {
+                pushOntoCallStack(36, "/root/project/examples/freemarker/FTL.javacc", 414, 6);
+                throw new ParseException(this, first_set$FTL_javacc$414$6, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:415:5
+            consumeToken(SETTING);
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:415:14
+            consumeToken(BLANK);
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:416:5
+            consumeToken(IDENTIFIER);
+            // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:416:18
+            if (nextTokenType()==EQUALS) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:416:19
+                consumeToken(EQUALS);
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:416:28
+                pushOntoCallStack(36, "/root/project/examples/freemarker/FTL.javacc", 416, 28);
+                try {
+                    Expression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for ZeroOrMore specified at /root/project/examples/freemarker/FTL.javacc:417:5
+            while (true) {
+                if (!(nextTokenType()==COMMA||nextTokenType==IDENTIFIER||nextTokenType==STRING_LITERAL||nextTokenType==RAW_STRING)) break;
+                // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:417:6
+                if (nextTokenType()==COMMA) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:417:7
+                    consumeToken(COMMA);
+                }
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:417:15
+                pushOntoCallStack(36, "/root/project/examples/freemarker/FTL.javacc", 417, 15);
+                try {
+                    IdentifierOrStringLiteral();
+                }
+                finally {
+                    popCallStack();
+                }
+                // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:417:41
+                if (nextTokenType()==EQUALS) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:417:42
+                    consumeToken(EQUALS);
+                    // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:417:51
+                    pushOntoCallStack(36, "/root/project/examples/freemarker/FTL.javacc", 417, 51);
+                    try {
+                        Expression();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+            }
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:418:5
+            pushOntoCallStack(36, "/root/project/examples/freemarker/FTL.javacc", 418, 5);
+            try {
+                LooseTagEnd();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        catch(ParseException e) {
+            parseException1345 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize1346);
+            if (Setting30!=null) {
+                if (parseException1345==null) {
+                    closeNodeScope(Setting30, true);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:421:1
+    final public void Attempt() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 37;
+        AttemptRecover Attempt31 = null;
+        if (buildTree) {
+            Attempt31 = new AttemptRecover();
+            openNodeScope(Attempt31);
+        }
+        ParseException parseException1442 = null;
+        int callStackSize1443 = parsingStack.size();
+        try {
+            if (nextTokenType()==FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:422:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            }
+            else if (nextTokenType()==FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:422:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            }
+            else {
+                pushOntoCallStack(37, "/root/project/examples/freemarker/FTL.javacc", 422, 6);
+                throw new ParseException(this, first_set$FTL_javacc$422$6, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:423:5
+            consumeToken(_ATTEMPT);
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:423:15
+            consumeToken(CLOSE_TAG);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:424:5
+            pushOntoCallStack(37, "/root/project/examples/freemarker/FTL.javacc", 424, 5);
+            try {
+                Block();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:425:5
+            pushOntoCallStack(37, "/root/project/examples/freemarker/FTL.javacc", 425, 5);
+            try {
+                Recover();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        catch(ParseException e) {
+            parseException1442 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize1443);
+            if (Attempt31!=null) {
+                if (parseException1442==null) {
+                    closeNodeScope(Attempt31, true);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:428:1
+    final public void Comment() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 38;
+        CommentBlock Comment32 = null;
+        if (buildTree) {
+            Comment32 = new CommentBlock();
+            openNodeScope(Comment32);
+        }
+        ParseException parseException1483 = null;
+        int callStackSize1484 = parsingStack.size();
+        try {
+            if (nextTokenType()==FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:429:5
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            }
+            else if (nextTokenType()==FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:429:27
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            }
+            else {
+                pushOntoCallStack(38, "/root/project/examples/freemarker/FTL.javacc", 429, 5);
+                throw new ParseException(this, first_set$FTL_javacc$429$5, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:430:4
+            consumeToken(COMMENT);
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:431:4
+            consumeToken(END_COMMENT);
+        }
+        catch(ParseException e) {
+            parseException1483 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize1484);
+            if (Comment32!=null) {
+                if (parseException1483==null) {
+                    closeNodeScope(Comment32, true);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:434:1
+    final public void NoParse() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 39;
+        NoParseBlock NoParse33 = null;
+        if (buildTree) {
+            NoParse33 = new NoParseBlock();
+            openNodeScope(NoParse33);
+        }
+        ParseException parseException1516 = null;
+        int callStackSize1517 = parsingStack.size();
+        try {
+            if (nextTokenType()==FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:435:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            }
+            else if (nextTokenType()==FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:435:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            }
+            else {
+                pushOntoCallStack(39, "/root/project/examples/freemarker/FTL.javacc", 435, 6);
+                throw new ParseException(this, first_set$FTL_javacc$435$6, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:436:5
+            consumeToken(NOPARSE);
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:437:5
+            consumeToken(CLOSE_TAG);
+            // Code for CodeBlock specified at /root/project/examples/freemarker/FTL.javacc:437:16
+            token_source.switchTo(LexicalState.NO_PARSE);
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:438:5
+            consumeToken(NOPARSE_END);
+        }
+        catch(ParseException e) {
+            parseException1516 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize1517);
+            if (NoParse33!=null) {
+                if (parseException1516==null) {
+                    closeNodeScope(NoParse33, true);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:441:1
+    final public void Trim() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 40;
+        TrimInstruction Trim34 = null;
+        if (buildTree) {
+            Trim34 = new TrimInstruction();
+            openNodeScope(Trim34);
+        }
+        ParseException parseException1557 = null;
+        int callStackSize1558 = parsingStack.size();
+        try {
+            if (nextTokenType()==FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:442:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            }
+            else if (nextTokenType()==FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:442:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            }
+            else {
+                pushOntoCallStack(40, "/root/project/examples/freemarker/FTL.javacc", 442, 6);
+                throw new ParseException(this, first_set$FTL_javacc$442$6, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:443:5
+            consumeToken(TRIM);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:444:5
+            pushOntoCallStack(40, "/root/project/examples/freemarker/FTL.javacc", 444, 5);
+            try {
+                LooseTagEnd();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        catch(ParseException e) {
+            parseException1557 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize1558);
+            if (Trim34!=null) {
+                if (parseException1557==null) {
+                    closeNodeScope(Trim34, true);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:447:1
+    final public void NoTrim() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 41;
+        TrimInstruction NoTrim35 = null;
+        if (buildTree) {
+            NoTrim35 = new TrimInstruction();
+            openNodeScope(NoTrim35);
+        }
+        ParseException parseException1590 = null;
+        int callStackSize1591 = parsingStack.size();
+        try {
+            if (nextTokenType()==FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:448:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            }
+            else if (nextTokenType()==FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:448:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            }
+            else {
+                pushOntoCallStack(41, "/root/project/examples/freemarker/FTL.javacc", 448, 6);
+                throw new ParseException(this, first_set$FTL_javacc$448$6, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:449:5
+            consumeToken(NOTRIM);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:450:5
+            pushOntoCallStack(41, "/root/project/examples/freemarker/FTL.javacc", 450, 5);
+            try {
+                LooseTagEnd();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        catch(ParseException e) {
+            parseException1590 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize1591);
+            if (NoTrim35!=null) {
+                if (parseException1590==null) {
+                    closeNodeScope(NoTrim35, true);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:454:1
+    final public void RightTrim() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 42;
+        TrimInstruction RightTrim36 = null;
+        if (buildTree) {
+            RightTrim36 = new TrimInstruction();
+            openNodeScope(RightTrim36);
+        }
+        ParseException parseException1623 = null;
+        int callStackSize1624 = parsingStack.size();
+        try {
+            if (nextTokenType()==FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:455:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            }
+            else if (nextTokenType()==FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:455:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            }
+            else {
+                pushOntoCallStack(42, "/root/project/examples/freemarker/FTL.javacc", 455, 6);
+                throw new ParseException(this, first_set$FTL_javacc$455$6, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:456:5
+            consumeToken(RTRIM);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:457:5
+            pushOntoCallStack(42, "/root/project/examples/freemarker/FTL.javacc", 457, 5);
+            try {
+                LooseTagEnd();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        catch(ParseException e) {
+            parseException1623 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize1624);
+            if (RightTrim36!=null) {
+                if (parseException1623==null) {
+                    closeNodeScope(RightTrim36, true);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:461:1
+    final public void LeftTrim() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 43;
+        TrimInstruction LeftTrim37 = null;
+        if (buildTree) {
+            LeftTrim37 = new TrimInstruction();
+            openNodeScope(LeftTrim37);
+        }
+        ParseException parseException1656 = null;
+        int callStackSize1657 = parsingStack.size();
+        try {
+            if (nextTokenType()==FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:462:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            }
+            else if (nextTokenType()==FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:462:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            }
+            else {
+                pushOntoCallStack(43, "/root/project/examples/freemarker/FTL.javacc", 462, 6);
+                throw new ParseException(this, first_set$FTL_javacc$462$6, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:463:5
+            consumeToken(LTRIM);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:464:5
+            pushOntoCallStack(43, "/root/project/examples/freemarker/FTL.javacc", 464, 5);
+            try {
+                LooseTagEnd();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        catch(ParseException e) {
+            parseException1656 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize1657);
+            if (LeftTrim37!=null) {
+                if (parseException1656==null) {
+                    closeNodeScope(LeftTrim37, true);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:467:1
+    final public void Break() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 44;
+        BreakInstruction Break38 = null;
+        if (buildTree) {
+            Break38 = new BreakInstruction();
+            openNodeScope(Break38);
+        }
+        ParseException parseException1689 = null;
+        int callStackSize1690 = parsingStack.size();
+        try {
+            if (nextTokenType()==FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:468:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            }
+            else if (nextTokenType()==FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:468:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            }
+            else {
+                pushOntoCallStack(44, "/root/project/examples/freemarker/FTL.javacc", 468, 6);
+                throw new ParseException(this, first_set$FTL_javacc$468$6, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:469:5
+            consumeToken(BREAK);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:470:5
+            pushOntoCallStack(44, "/root/project/examples/freemarker/FTL.javacc", 470, 5);
+            try {
+                LooseTagEnd();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        catch(ParseException e) {
+            parseException1689 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize1690);
+            if (Break38!=null) {
+                if (parseException1689==null) {
+                    closeNodeScope(Break38, true);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:473:1
+    final public void Flush() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 45;
+        FlushInstruction Flush39 = null;
+        if (buildTree) {
+            Flush39 = new FlushInstruction();
+            openNodeScope(Flush39);
+        }
+        ParseException parseException1722 = null;
+        int callStackSize1723 = parsingStack.size();
+        try {
+            if (nextTokenType()==FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:474:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            }
+            else if (nextTokenType()==FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:474:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            }
+            else {
+                pushOntoCallStack(45, "/root/project/examples/freemarker/FTL.javacc", 474, 6);
+                throw new ParseException(this, first_set$FTL_javacc$474$6, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:475:5
+            consumeToken(FLUSH);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:475:12
+            pushOntoCallStack(45, "/root/project/examples/freemarker/FTL.javacc", 475, 12);
+            try {
+                LooseTagEnd();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        catch(ParseException e) {
+            parseException1722 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize1723);
+            if (Flush39!=null) {
+                if (parseException1722==null) {
+                    closeNodeScope(Flush39, true);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:478:1
+    final public void Return() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 46;
+        ReturnInstruction Return40 = null;
+        if (buildTree) {
+            Return40 = new ReturnInstruction();
+            openNodeScope(Return40);
+        }
+        ParseException parseException1755 = null;
+        int callStackSize1756 = parsingStack.size();
+        try {
+            if (nextTokenType()==FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:479:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            }
+            else if (nextTokenType()==FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:479:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            }
+            else {
+                pushOntoCallStack(46, "/root/project/examples/freemarker/FTL.javacc", 479, 6);
+                throw new ParseException(this, first_set$FTL_javacc$479$6, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:480:5
+            consumeToken(RETURN);
+            // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:481:5
+            if (nextTokenType()==BLANK) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:481:6
+                consumeToken(BLANK);
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:481:13
+                pushOntoCallStack(46, "/root/project/examples/freemarker/FTL.javacc", 481, 13);
+                try {
+                    Expression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:482:5
+            pushOntoCallStack(46, "/root/project/examples/freemarker/FTL.javacc", 482, 5);
+            try {
+                LooseTagEnd();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        catch(ParseException e) {
+            parseException1755 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize1756);
+            if (Return40!=null) {
+                if (parseException1755==null) {
+                    closeNodeScope(Return40, true);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:485:1
+    final public void Stop() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 47;
+        StopInstruction Stop41 = null;
+        if (buildTree) {
+            Stop41 = new StopInstruction();
+            openNodeScope(Stop41);
+        }
+        ParseException parseException1804 = null;
+        int callStackSize1805 = parsingStack.size();
+        try {
+            if (nextTokenType()==FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:486:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            }
+            else if (nextTokenType()==FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:486:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            }
+            else {
+                pushOntoCallStack(47, "/root/project/examples/freemarker/FTL.javacc", 486, 6);
+                throw new ParseException(this, first_set$FTL_javacc$486$6, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:487:5
+            consumeToken(STOP);
+            // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:488:5
+            if (nextTokenType()==BLANK) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:488:6
+                consumeToken(BLANK);
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:488:13
+                pushOntoCallStack(47, "/root/project/examples/freemarker/FTL.javacc", 488, 13);
+                try {
+                    Expression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:489:5
+            pushOntoCallStack(47, "/root/project/examples/freemarker/FTL.javacc", 489, 5);
+            try {
+                LooseTagEnd();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        catch(ParseException e) {
+            parseException1804 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize1805);
+            if (Stop41!=null) {
+                if (parseException1804==null) {
+                    closeNodeScope(Stop41, true);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:493:1
+    final public void Compress() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 48;
+        CompressBlock Compress42 = null;
+        if (buildTree) {
+            Compress42 = new CompressBlock();
+            openNodeScope(Compress42);
+        }
+        ParseException parseException1853 = null;
+        int callStackSize1854 = parsingStack.size();
+        try {
+            if (nextTokenType()==FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:494:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            }
+            else if (nextTokenType()==FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:494:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            }
+            else {
+                pushOntoCallStack(48, "/root/project/examples/freemarker/FTL.javacc", 494, 6);
+                throw new ParseException(this, first_set$FTL_javacc$494$6, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:495:5
+            consumeToken(COMPRESS);
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:495:15
+            consumeToken(CLOSE_TAG);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:496:5
+            pushOntoCallStack(48, "/root/project/examples/freemarker/FTL.javacc", 496, 5);
+            try {
+                Block();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:497:5
+            pushOntoCallStack(48, "/root/project/examples/freemarker/FTL.javacc", 497, 5);
+            try {
+                DirectiveEnd("compress");
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        catch(ParseException e) {
+            parseException1853 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize1854);
+            if (Compress42!=null) {
+                if (parseException1853==null) {
+                    closeNodeScope(Compress42, true);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:500:1
+    final public void TrimBlock() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 49;
+        TrimBlock TrimBlock43 = null;
+        if (buildTree) {
+            TrimBlock43 = new TrimBlock();
+            openNodeScope(TrimBlock43);
+        }
+        String closeTag;
+        ParseException parseException1894 = null;
+        int callStackSize1895 = parsingStack.size();
+        try {
+            if (nextTokenType()==FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:504:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            }
+            else if (nextTokenType()==FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:504:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            }
+            else {
+                pushOntoCallStack(49, "/root/project/examples/freemarker/FTL.javacc", 504, 6);
+                throw new ParseException(this, first_set$FTL_javacc$504$6, parsingStack.toList());
+            }
+            if (nextTokenType()==BLOCKTRIM) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:506:9
+                consumeToken(BLOCKTRIM);
+                // Code for CodeBlock specified at /root/project/examples/freemarker/FTL.javacc:506:21
+                closeTag = "t_lines";
+            }
+            else if (nextTokenType()==BLOCKTRIML) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:508:9
+                consumeToken(BLOCKTRIML);
+                // Code for CodeBlock specified at /root/project/examples/freemarker/FTL.javacc:508:22
+                closeTag = "lt_lines";
+            }
+            else if (nextTokenType()==BLOCKTRIMR) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:510:9
+                consumeToken(BLOCKTRIMR);
+                // Code for CodeBlock specified at /root/project/examples/freemarker/FTL.javacc:510:22
+                closeTag = "rt_lines";
+            }
+            else if (nextTokenType()==BLOCKNOTRIM) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:512:9
+                consumeToken(BLOCKNOTRIM);
+                // Code for CodeBlock specified at /root/project/examples/freemarker/FTL.javacc:512:23
+                closeTag = "nt_lines";
+            }
+            else {
+                pushOntoCallStack(49, "/root/project/examples/freemarker/FTL.javacc", 506, 9);
+                throw new ParseException(this, first_set$FTL_javacc$506$9, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:514:5
+            consumeToken(CLOSE_TAG);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:515:5
+            pushOntoCallStack(49, "/root/project/examples/freemarker/FTL.javacc", 515, 5);
+            try {
+                Block();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:516:5
+            pushOntoCallStack(49, "/root/project/examples/freemarker/FTL.javacc", 516, 5);
+            try {
+                DirectiveEnd(closeTag);
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        catch(ParseException e) {
+            parseException1894 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize1895);
+            if (TrimBlock43!=null) {
+                if (parseException1894==null) {
+                    closeNodeScope(TrimBlock43, nodeArity() > 1);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:519:1
+    final public void NoEscapeBlock() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 50;
+        NoEscapeBlock NoEscapeBlock44 = null;
+        if (buildTree) {
+            NoEscapeBlock44 = new NoEscapeBlock();
+            openNodeScope(NoEscapeBlock44);
+        }
+        ParseException parseException1984 = null;
+        int callStackSize1985 = parsingStack.size();
+        try {
+            if (nextTokenType()==FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:520:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            }
+            else if (nextTokenType()==FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:520:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            }
+            else {
+                pushOntoCallStack(50, "/root/project/examples/freemarker/FTL.javacc", 520, 6);
+                throw new ParseException(this, first_set$FTL_javacc$520$6, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:521:5
+            consumeToken(NOESCAPE);
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:521:15
+            consumeToken(CLOSE_TAG);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:522:5
+            pushOntoCallStack(50, "/root/project/examples/freemarker/FTL.javacc", 522, 5);
+            try {
+                Block();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:523:5
+            pushOntoCallStack(50, "/root/project/examples/freemarker/FTL.javacc", 523, 5);
+            try {
+                DirectiveEnd("noescape");
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        catch(ParseException e) {
+            parseException1984 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize1985);
+            if (NoEscapeBlock44!=null) {
+                if (parseException1984==null) {
+                    closeNodeScope(NoEscapeBlock44, nodeArity() > 1);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:526:1
+    final public void EscapeBlock() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 51;
+        EscapeBlock EscapeBlock45 = null;
+        if (buildTree) {
+            EscapeBlock45 = new EscapeBlock();
+            openNodeScope(EscapeBlock45);
+        }
+        ParseException parseException2025 = null;
+        int callStackSize2026 = parsingStack.size();
+        try {
+            if (nextTokenType()==FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:527:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            }
+            else if (nextTokenType()==FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:527:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            }
+            else {
+                pushOntoCallStack(51, "/root/project/examples/freemarker/FTL.javacc", 527, 6);
+                throw new ParseException(this, first_set$FTL_javacc$527$6, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:528:5
+            consumeToken(ESCAPE);
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:529:5
+            consumeToken(BLANK);
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:530:5
+            consumeToken(IDENTIFIER);
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:531:5
+            consumeToken(AS);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:532:5
+            pushOntoCallStack(51, "/root/project/examples/freemarker/FTL.javacc", 532, 5);
+            try {
+                Expression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:533:5
+            consumeToken(CLOSE_TAG);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:534:5
+            pushOntoCallStack(51, "/root/project/examples/freemarker/FTL.javacc", 534, 5);
+            try {
+                Block();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:535:5
+            pushOntoCallStack(51, "/root/project/examples/freemarker/FTL.javacc", 535, 5);
+            try {
+                DirectiveEnd("escape");
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        catch(ParseException e) {
+            parseException2025 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize2026);
+            if (EscapeBlock45!=null) {
+                if (parseException2025==null) {
+                    closeNodeScope(EscapeBlock45, nodeArity() > 1);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:538:1
+    final public void Include() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 52;
+        IncludeInstruction Include46 = null;
+        if (buildTree) {
+            Include46 = new IncludeInstruction();
+            openNodeScope(Include46);
+        }
+        ParseException parseException2082 = null;
+        int callStackSize2083 = parsingStack.size();
+        try {
+            if (nextTokenType()==FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:539:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            }
+            else if (nextTokenType()==FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:539:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            }
+            else {
+                pushOntoCallStack(52, "/root/project/examples/freemarker/FTL.javacc", 539, 6);
+                throw new ParseException(this, first_set$FTL_javacc$539$6, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:540:5
+            consumeToken(_INCLUDE);
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:540:15
+            consumeToken(BLANK);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:541:5
+            pushOntoCallStack(52, "/root/project/examples/freemarker/FTL.javacc", 541, 5);
+            try {
+                Expression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:542:5
+            if (nextTokenType()==SEMICOLON) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:542:6
+                consumeToken(SEMICOLON);
+            }
+            // Code for ZeroOrMore specified at /root/project/examples/freemarker/FTL.javacc:543:5
+            while (true) {
+                if (!(nextTokenType()==IDENTIFIER)) break;
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:543:6
+                consumeToken(IDENTIFIER);
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:543:18
+                consumeToken(EQUALS);
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:543:26
+                pushOntoCallStack(52, "/root/project/examples/freemarker/FTL.javacc", 543, 26);
+                try {
+                    Expression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:544:5
+            pushOntoCallStack(52, "/root/project/examples/freemarker/FTL.javacc", 544, 5);
+            try {
+                LooseTagEnd();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        catch(ParseException e) {
+            parseException2082 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize2083);
+            if (Include46!=null) {
+                if (parseException2082==null) {
+                    closeNodeScope(Include46, true);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:547:1
+    final public void Embed() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 53;
+        EmbedInstruction Embed47 = null;
+        if (buildTree) {
+            Embed47 = new EmbedInstruction();
+            openNodeScope(Embed47);
+        }
+        ParseException parseException2155 = null;
+        int callStackSize2156 = parsingStack.size();
+        try {
+            if (nextTokenType()==FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:548:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            }
+            else if (nextTokenType()==FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:548:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            }
+            else {
+                pushOntoCallStack(53, "/root/project/examples/freemarker/FTL.javacc", 548, 6);
+                throw new ParseException(this, first_set$FTL_javacc$548$6, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:549:5
+            consumeToken(EMBED);
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:549:12
+            consumeToken(BLANK);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:550:5
+            pushOntoCallStack(53, "/root/project/examples/freemarker/FTL.javacc", 550, 5);
+            try {
+                Expression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:551:5
+            pushOntoCallStack(53, "/root/project/examples/freemarker/FTL.javacc", 551, 5);
+            try {
+                LooseTagEnd();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        catch(ParseException e) {
+            parseException2155 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize2156);
+            if (Embed47!=null) {
+                if (parseException2155==null) {
+                    closeNodeScope(Embed47, true);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:554:1
+    final public void Import() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 54;
+        ImportInstruction Import48 = null;
+        if (buildTree) {
+            Import48 = new ImportInstruction();
+            openNodeScope(Import48);
+        }
+        ParseException parseException2196 = null;
+        int callStackSize2197 = parsingStack.size();
+        try {
+            if (nextTokenType()==FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:555:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            }
+            else if (nextTokenType()==FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:555:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            }
+            else {
+                pushOntoCallStack(54, "/root/project/examples/freemarker/FTL.javacc", 555, 6);
+                throw new ParseException(this, first_set$FTL_javacc$555$6, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:556:5
+            consumeToken(IMPORT);
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:556:13
+            consumeToken(BLANK);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:557:5
+            pushOntoCallStack(54, "/root/project/examples/freemarker/FTL.javacc", 557, 5);
+            try {
+                Expression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:558:5
+            consumeToken(AS);
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:559:5
+            consumeToken(IDENTIFIER);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:560:5
+            pushOntoCallStack(54, "/root/project/examples/freemarker/FTL.javacc", 560, 5);
+            try {
+                LooseTagEnd();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        catch(ParseException e) {
+            parseException2196 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize2197);
+            if (Import48!=null) {
+                if (parseException2196==null) {
+                    closeNodeScope(Import48, true);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:563:1
+    final public void Visit() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 55;
+        VisitInstruction Visit49 = null;
+        if (buildTree) {
+            Visit49 = new VisitInstruction();
+            openNodeScope(Visit49);
+        }
+        ParseException parseException2245 = null;
+        int callStackSize2246 = parsingStack.size();
+        try {
+            if (nextTokenType()==FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:564:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            }
+            else if (nextTokenType()==FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:564:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            }
+            else {
+                pushOntoCallStack(55, "/root/project/examples/freemarker/FTL.javacc", 564, 6);
+                throw new ParseException(this, first_set$FTL_javacc$564$6, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:565:5
+            consumeToken(VISIT);
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:566:5
+            consumeToken(BLANK);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:567:5
+            pushOntoCallStack(55, "/root/project/examples/freemarker/FTL.javacc", 567, 5);
+            try {
+                Expression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:568:5
+            if (nextTokenType()==USING) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:569:8
+                consumeToken(USING);
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:570:8
+                pushOntoCallStack(55, "/root/project/examples/freemarker/FTL.javacc", 570, 8);
+                try {
+                    Expression();
+                }
+                finally {
+                    popCallStack();
+                }
+                // Code for ZeroOrMore specified at /root/project/examples/freemarker/FTL.javacc:571:8
+                while (true) {
+                    if (!(maskContains(first_set$FTL_javacc$572$12_MASK, nextTokenType().ordinal()))) break;
+                    // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:572:12
+                    if (nextTokenType()==COMMA) {
+                        // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:572:13
+                        consumeToken(COMMA);
+                    }
+                    // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:573:12
+                    pushOntoCallStack(55, "/root/project/examples/freemarker/FTL.javacc", 573, 12);
+                    try {
+                        Expression();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+            }
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:576:5
+            pushOntoCallStack(55, "/root/project/examples/freemarker/FTL.javacc", 576, 5);
+            try {
+                LooseTagEnd();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        catch(ParseException e) {
+            parseException2245 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize2246);
+            if (Visit49!=null) {
+                if (parseException2245==null) {
+                    closeNodeScope(Visit49, true);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:579:1
+    final public void Recurse() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 56;
+        RecurseInstruction Recurse50 = null;
+        if (buildTree) {
+            Recurse50 = new RecurseInstruction();
+            openNodeScope(Recurse50);
+        }
+        ParseException parseException2326 = null;
+        int callStackSize2327 = parsingStack.size();
+        try {
+            if (nextTokenType()==FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:580:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            }
+            else if (nextTokenType()==FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:580:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            }
+            else {
+                pushOntoCallStack(56, "/root/project/examples/freemarker/FTL.javacc", 580, 6);
+                throw new ParseException(this, first_set$FTL_javacc$580$6, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:581:5
+            consumeToken(RECURSE);
+            if (nextTokenType()==CLOSE_TAG||nextTokenType==CLOSE_EMPTY_TAG) {
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:583:8
+                pushOntoCallStack(56, "/root/project/examples/freemarker/FTL.javacc", 583, 8);
+                try {
+                    LooseTagEnd();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (nextTokenType()==BLANK) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:586:11
+                consumeToken(BLANK);
+                // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:587:11
+                if (maskContains(first_set$FTL_javacc$587$12_MASK, nextTokenType().ordinal())) {
+                    // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:587:12
+                    pushOntoCallStack(56, "/root/project/examples/freemarker/FTL.javacc", 587, 12);
+                    try {
+                        Expression();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:588:11
+                if (nextTokenType()==USING) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:588:12
+                    consumeToken(USING);
+                    // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:589:13
+                    pushOntoCallStack(56, "/root/project/examples/freemarker/FTL.javacc", 589, 13);
+                    try {
+                        Expression();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                    // Code for ZeroOrMore specified at /root/project/examples/freemarker/FTL.javacc:590:13
+                    while (true) {
+                        if (!(maskContains(first_set$FTL_javacc$590$14_MASK, nextTokenType().ordinal()))) break;
+                        // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:590:14
+                        if (nextTokenType()==COMMA) {
+                            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:590:15
+                            consumeToken(COMMA);
+                        }
+                        // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:590:24
+                        pushOntoCallStack(56, "/root/project/examples/freemarker/FTL.javacc", 590, 24);
+                        try {
+                            Expression();
+                        }
+                        finally {
+                            popCallStack();
+                        }
+                    }
+                }
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:592:11
+                pushOntoCallStack(56, "/root/project/examples/freemarker/FTL.javacc", 592, 11);
+                try {
+                    LooseTagEnd();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else {
+                pushOntoCallStack(56, "/root/project/examples/freemarker/FTL.javacc", 583, 8);
+                throw new ParseException(this, first_set$FTL_javacc$583$8, parsingStack.toList());
+            }
+        }
+        catch(ParseException e) {
+            parseException2326 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize2327);
+            if (Recurse50!=null) {
+                if (parseException2326==null) {
+                    closeNodeScope(Recurse50, true);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:597:1
+    final public void FallBack() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 57;
+        FallBackInstruction FallBack51 = null;
+        if (buildTree) {
+            FallBack51 = new FallBackInstruction();
+            openNodeScope(FallBack51);
+        }
+        ParseException parseException2437 = null;
+        int callStackSize2438 = parsingStack.size();
+        try {
+            if (nextTokenType()==FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:598:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            }
+            else if (nextTokenType()==FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:598:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            }
+            else {
+                pushOntoCallStack(57, "/root/project/examples/freemarker/FTL.javacc", 598, 6);
+                throw new ParseException(this, first_set$FTL_javacc$598$6, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:599:5
+            consumeToken(FALLBACK);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:600:5
+            pushOntoCallStack(57, "/root/project/examples/freemarker/FTL.javacc", 600, 5);
+            try {
+                LooseTagEnd();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        catch(ParseException e) {
+            parseException2437 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize2438);
+            if (FallBack51!=null) {
+                if (parseException2437==null) {
+                    closeNodeScope(FallBack51, true);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:603:1
+    final public void If() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 58;
+        IfStatement If52 = null;
+        if (buildTree) {
+            If52 = new IfStatement();
+            openNodeScope(If52);
+        }
+        ParseException parseException2470 = null;
+        int callStackSize2471 = parsingStack.size();
+        try {
+            if (nextTokenType()==FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:604:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            }
+            else if (nextTokenType()==FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:604:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            }
+            else {
+                pushOntoCallStack(58, "/root/project/examples/freemarker/FTL.javacc", 604, 6);
+                throw new ParseException(this, first_set$FTL_javacc$604$6, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:605:5
+            consumeToken(IF);
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:605:9
+            consumeToken(BLANK);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:606:5
+            pushOntoCallStack(58, "/root/project/examples/freemarker/FTL.javacc", 606, 5);
+            try {
+                Expression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:607:5
+            consumeToken(CLOSE_TAG);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:608:5
+            pushOntoCallStack(58, "/root/project/examples/freemarker/FTL.javacc", 608, 5);
+            try {
+                Block();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified at /root/project/examples/freemarker/FTL.javacc:609:5
+            while (true) {
+                if (!(scan$FTL_javacc$609$7())) break;
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:609:7
+                pushOntoCallStack(58, "/root/project/examples/freemarker/FTL.javacc", 609, 7);
+                try {
+                    ElseIf();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:610:5
+            if (scan$FTL_javacc$611$8()) {
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:611:8
+                pushOntoCallStack(58, "/root/project/examples/freemarker/FTL.javacc", 611, 8);
+                try {
+                    Else();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:613:5
+            pushOntoCallStack(58, "/root/project/examples/freemarker/FTL.javacc", 613, 5);
+            try {
+                DirectiveEnd("if");
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        catch(ParseException e) {
+            parseException2470 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize2471);
+            if (If52!=null) {
+                if (parseException2470==null) {
+                    closeNodeScope(If52, true);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:616:1
+    final public void ElseIf() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 59;
+        ElseIfBlock ElseIf53 = null;
+        if (buildTree) {
+            ElseIf53 = new ElseIfBlock();
+            openNodeScope(ElseIf53);
+        }
+        ParseException parseException2543 = null;
+        int callStackSize2544 = parsingStack.size();
+        try {
+            if (nextTokenType()==FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:617:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            }
+            else if (nextTokenType()==FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:617:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            }
+            else {
+                pushOntoCallStack(59, "/root/project/examples/freemarker/FTL.javacc", 617, 6);
+                throw new ParseException(this, first_set$FTL_javacc$617$6, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:618:5
+            consumeToken(ELSEIF);
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:620:5
+            consumeToken(BLANK);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:621:5
+            pushOntoCallStack(59, "/root/project/examples/freemarker/FTL.javacc", 621, 5);
+            try {
+                Expression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:622:5
+            consumeToken(CLOSE_TAG);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:623:5
+            pushOntoCallStack(59, "/root/project/examples/freemarker/FTL.javacc", 623, 5);
+            try {
+                Block();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        catch(ParseException e) {
+            parseException2543 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize2544);
+            if (ElseIf53!=null) {
+                if (parseException2543==null) {
+                    closeNodeScope(ElseIf53, true);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:626:1
+    final public void Else() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 60;
+        ElseBlock Else54 = null;
+        if (buildTree) {
+            Else54 = new ElseBlock();
+            openNodeScope(Else54);
+        }
+        ParseException parseException2588 = null;
+        int callStackSize2589 = parsingStack.size();
+        try {
+            if (nextTokenType()==FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:627:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            }
+            else if (nextTokenType()==FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:627:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            }
+            else {
+                pushOntoCallStack(60, "/root/project/examples/freemarker/FTL.javacc", 627, 6);
+                throw new ParseException(this, first_set$FTL_javacc$627$6, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:628:5
+            consumeToken(ELSE);
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:630:5
+            consumeToken(CLOSE_TAG);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:631:5
+            pushOntoCallStack(60, "/root/project/examples/freemarker/FTL.javacc", 631, 5);
+            try {
+                Block();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        catch(ParseException e) {
+            parseException2588 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize2589);
+            if (Else54!=null) {
+                if (parseException2588==null) {
+                    closeNodeScope(Else54, true);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:634:1
+    final public void Switch() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 61;
+        SwitchInstruction Switch55 = null;
+        if (buildTree) {
+            Switch55 = new SwitchInstruction();
+            openNodeScope(Switch55);
+        }
+        ParseException parseException2625 = null;
+        int callStackSize2626 = parsingStack.size();
+        try {
+            if (nextTokenType()==FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:635:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            }
+            else if (nextTokenType()==FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:635:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            }
+            else {
+                pushOntoCallStack(61, "/root/project/examples/freemarker/FTL.javacc", 635, 6);
+                throw new ParseException(this, first_set$FTL_javacc$635$6, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:636:5
+            consumeToken(SWITCH);
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:637:5
+            consumeToken(BLANK);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:638:5
+            pushOntoCallStack(61, "/root/project/examples/freemarker/FTL.javacc", 638, 5);
+            try {
+                Expression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:639:5
+            consumeToken(CLOSE_TAG);
+            // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:640:5
+            if (nextTokenType()==WHITESPACE) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:640:6
+                consumeToken(WHITESPACE);
+            }
+            // Code for ZeroOrMore specified at /root/project/examples/freemarker/FTL.javacc:641:5
+            while (true) {
+                if (!(scan$FTL_javacc$641$6())) break;
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:641:6
+                pushOntoCallStack(61, "/root/project/examples/freemarker/FTL.javacc", 641, 6);
+                try {
+                    Case();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:642:5
+            if (scan$FTL_javacc$643$6()) {
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:643:13
+                pushOntoCallStack(61, "/root/project/examples/freemarker/FTL.javacc", 643, 13);
+                try {
+                    Default();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:645:5
+            pushOntoCallStack(61, "/root/project/examples/freemarker/FTL.javacc", 645, 5);
+            try {
+                DirectiveEnd("switch");
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        catch(ParseException e) {
+            parseException2625 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize2626);
+            if (Switch55!=null) {
+                if (parseException2625==null) {
+                    closeNodeScope(Switch55, true);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:648:1
+    final public void Case() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 62;
+        CaseInstruction Case56 = null;
+        if (buildTree) {
+            Case56 = new CaseInstruction();
+            openNodeScope(Case56);
+        }
+        ParseException parseException2706 = null;
+        int callStackSize2707 = parsingStack.size();
+        try {
+            if (nextTokenType()==FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:649:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            }
+            else if (nextTokenType()==FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:649:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            }
+            else {
+                pushOntoCallStack(62, "/root/project/examples/freemarker/FTL.javacc", 649, 6);
+                throw new ParseException(this, first_set$FTL_javacc$649$6, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:650:5
+            consumeToken(CASE);
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:652:5
+            consumeToken(BLANK);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:653:5
+            pushOntoCallStack(62, "/root/project/examples/freemarker/FTL.javacc", 653, 5);
+            try {
+                Expression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:653:16
+            consumeToken(CLOSE_TAG);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:653:28
+            pushOntoCallStack(62, "/root/project/examples/freemarker/FTL.javacc", 653, 28);
+            try {
+                Block();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        catch(ParseException e) {
+            parseException2706 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize2707);
+            if (Case56!=null) {
+                if (parseException2706==null) {
+                    closeNodeScope(Case56, true);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:656:1
+    final public void Default() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 63;
+        DefaultInstruction Default57 = null;
+        if (buildTree) {
+            Default57 = new DefaultInstruction();
+            openNodeScope(Default57);
+        }
+        ParseException parseException2751 = null;
+        int callStackSize2752 = parsingStack.size();
+        try {
+            if (nextTokenType()==FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:657:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            }
+            else if (nextTokenType()==FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:657:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            }
+            else {
+                pushOntoCallStack(63, "/root/project/examples/freemarker/FTL.javacc", 657, 6);
+                throw new ParseException(this, first_set$FTL_javacc$657$6, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:658:5
+            consumeToken(DEFAUL);
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:658:13
+            consumeToken(CLOSE_TAG);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:659:5
+            pushOntoCallStack(63, "/root/project/examples/freemarker/FTL.javacc", 659, 5);
+            try {
+                Block();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        catch(ParseException e) {
+            parseException2751 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize2752);
+            if (Default57!=null) {
+                if (parseException2751==null) {
+                    closeNodeScope(Default57, true);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:662:1
+    final public void List() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 64;
+        ListInstruction List58 = null;
+        if (buildTree) {
+            List58 = new ListInstruction();
+            openNodeScope(List58);
+        }
+        ParseException parseException2788 = null;
+        int callStackSize2789 = parsingStack.size();
+        try {
+            if (nextTokenType()==FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:663:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            }
+            else if (nextTokenType()==FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:663:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            }
+            else {
+                pushOntoCallStack(64, "/root/project/examples/freemarker/FTL.javacc", 663, 6);
+                throw new ParseException(this, first_set$FTL_javacc$663$6, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:664:5
+            consumeToken(LIST);
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:664:11
+            consumeToken(BLANK);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:665:5
+            pushOntoCallStack(64, "/root/project/examples/freemarker/FTL.javacc", 665, 5);
+            try {
+                Expression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:666:5
+            consumeToken(AS);
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:667:5
+            consumeToken(IDENTIFIER);
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:668:5
+            consumeToken(CLOSE_TAG);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:669:5
+            pushOntoCallStack(64, "/root/project/examples/freemarker/FTL.javacc", 669, 5);
+            try {
+                Block();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:670:5
+            pushOntoCallStack(64, "/root/project/examples/freemarker/FTL.javacc", 670, 5);
+            try {
+                DirectiveEnd("list");
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        catch(ParseException e) {
+            parseException2788 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize2789);
+            if (List58!=null) {
+                if (parseException2788==null) {
+                    closeNodeScope(List58, true);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:673:1
+    final public void ForEach() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 65;
+        ForEachInstruction ForEach59 = null;
+        if (buildTree) {
+            ForEach59 = new ForEachInstruction();
+            openNodeScope(ForEach59);
+        }
+        ParseException parseException2845 = null;
+        int callStackSize2846 = parsingStack.size();
+        try {
+            if (nextTokenType()==FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:674:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            }
+            else if (nextTokenType()==FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:674:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            }
+            else {
+                pushOntoCallStack(65, "/root/project/examples/freemarker/FTL.javacc", 674, 6);
+                throw new ParseException(this, first_set$FTL_javacc$674$6, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:675:5
+            consumeToken(FOREACH);
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:675:14
+            consumeToken(BLANK);
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:676:5
+            consumeToken(IDENTIFIER);
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:677:5
+            consumeToken(IN);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:678:5
+            pushOntoCallStack(65, "/root/project/examples/freemarker/FTL.javacc", 678, 5);
+            try {
+                Expression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:679:5
+            consumeToken(CLOSE_TAG);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:680:5
+            pushOntoCallStack(65, "/root/project/examples/freemarker/FTL.javacc", 680, 5);
+            try {
+                Block();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:681:5
+            pushOntoCallStack(65, "/root/project/examples/freemarker/FTL.javacc", 681, 5);
+            try {
+                DirectiveEnd("foreach");
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        catch(ParseException e) {
+            parseException2845 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize2846);
+            if (ForEach59!=null) {
+                if (parseException2845==null) {
+                    closeNodeScope(ForEach59, true);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:684:1
+    final public void Nested() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 66;
+        NestedInstruction Nested60 = null;
+        if (buildTree) {
+            Nested60 = new NestedInstruction();
+            openNodeScope(Nested60);
+        }
+        ParseException parseException2902 = null;
+        int callStackSize2903 = parsingStack.size();
+        try {
+            if (nextTokenType()==FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:685:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            }
+            else if (nextTokenType()==FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:685:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            }
+            else {
+                pushOntoCallStack(66, "/root/project/examples/freemarker/FTL.javacc", 685, 6);
+                throw new ParseException(this, first_set$FTL_javacc$685$6, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:686:5
+            consumeToken(NESTED);
+            // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:687:5
+            if (nextTokenType()==BLANK) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:687:6
+                consumeToken(BLANK);
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:687:13
+                pushOntoCallStack(66, "/root/project/examples/freemarker/FTL.javacc", 687, 13);
+                try {
+                    PositionalArgsList();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:688:5
+            pushOntoCallStack(66, "/root/project/examples/freemarker/FTL.javacc", 688, 5);
+            try {
+                LooseTagEnd();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        catch(ParseException e) {
+            parseException2902 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize2903);
+            if (Nested60!=null) {
+                if (parseException2902==null) {
+                    closeNodeScope(Nested60, true);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:691:1
+    final public void MacroDefinition() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 67;
+        MacroDefinition MacroDefinition61 = null;
+        if (buildTree) {
+            MacroDefinition61 = new MacroDefinition();
+            openNodeScope(MacroDefinition61);
+        }
+        Token t;
+        ParseException parseException2951 = null;
+        int callStackSize2952 = parsingStack.size();
+        try {
+            if (nextTokenType()==FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:695:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            }
+            else if (nextTokenType()==FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:695:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            }
+            else {
+                pushOntoCallStack(67, "/root/project/examples/freemarker/FTL.javacc", 695, 6);
+                throw new ParseException(this, first_set$FTL_javacc$695$6, parsingStack.toList());
+            }
+            if (nextTokenType()==MACRO) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:697:9
+                t = consumeToken(MACRO);
+            }
+            else if (nextTokenType()==FUNCTION) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:699:9
+                t = consumeToken(FUNCTION);
+            }
+            else {
+                pushOntoCallStack(67, "/root/project/examples/freemarker/FTL.javacc", 697, 7);
+                throw new ParseException(this, first_set$FTL_javacc$697$7, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:701:5
+            consumeToken(BLANK);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:702:5
+            pushOntoCallStack(67, "/root/project/examples/freemarker/FTL.javacc", 702, 5);
+            try {
+                IdentifierOrStringLiteral();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:703:5
+            if (nextTokenType()==OPEN_PAREN) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:703:6
+                consumeToken(OPEN_PAREN);
+            }
+            // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:704:5
+            if (nextTokenType()==IDENTIFIER) {
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:704:6
+                pushOntoCallStack(67, "/root/project/examples/freemarker/FTL.javacc", 704, 6);
+                try {
+                    ParameterList();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:705:5
+            if (nextTokenType()==CLOSE_PAREN) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:705:6
+                consumeToken(CLOSE_PAREN);
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:706:5
+            consumeToken(CLOSE_TAG);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:707:5
+            pushOntoCallStack(67, "/root/project/examples/freemarker/FTL.javacc", 707, 5);
+            try {
+                Block();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:708:5
+            pushOntoCallStack(67, "/root/project/examples/freemarker/FTL.javacc", 708, 5);
+            try {
+                DirectiveEnd(t.getImage());
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        catch(ParseException e) {
+            parseException2951 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize2952);
+            if (MacroDefinition61!=null) {
+                if (parseException2951==null) {
+                    closeNodeScope(MacroDefinition61, nodeArity() > 1);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:711:1
+    final public void ParameterList() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 68;
+        ParameterList ParameterList62 = null;
+        if (buildTree) {
+            ParameterList62 = new ParameterList();
+            openNodeScope(ParameterList62);
+        }
+        ParseException parseException3053 = null;
+        int callStackSize3054 = parsingStack.size();
+        try {
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:715:5
+            consumeToken(IDENTIFIER);
+            // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:716:5
+            // Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:716:6
+            if (nextTokenType()==EQUALS) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:716:7
+                consumeToken(EQUALS);
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:716:15
+                pushOntoCallStack(68, "/root/project/examples/freemarker/FTL.javacc", 716, 15);
+                try {
+                    Expression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (nextTokenType()==ELLIPSIS) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:716:29
+                consumeToken(ELLIPSIS);
+            }
+            // Code for ZeroOrMore specified at /root/project/examples/freemarker/FTL.javacc:717:5
+            while (true) {
+                if (!(nextTokenType()==COMMA||nextTokenType==IDENTIFIER)) break;
+                // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:718:8
+                if (nextTokenType()==COMMA) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:718:9
+                    consumeToken(COMMA);
+                }
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:719:8
+                consumeToken(IDENTIFIER);
+                // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:720:8
+                // Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:721:11
+                if (nextTokenType()==EQUALS) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:721:12
+                    consumeToken(EQUALS);
+                    // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:721:20
+                    pushOntoCallStack(68, "/root/project/examples/freemarker/FTL.javacc", 721, 20);
+                    try {
+                        Expression();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                else if (nextTokenType()==ELLIPSIS) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:723:11
+                    consumeToken(ELLIPSIS);
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException3053 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize3054);
+            if (ParameterList62!=null) {
+                if (parseException3053==null) {
+                    closeNodeScope(ParameterList62, nodeArity() > 1);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final EnumSet<TokenType> LooseTagEnd_FIRST_SET = EnumSet.of(CLOSE_TAG, CLOSE_EMPTY_TAG);
+
+    // /root/project/examples/freemarker/FTL.javacc:729:1
+    final public void LooseTagEnd() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 69;
+        // Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:730:5
+        LooseTagEnd LooseTagEnd63 = null;
+        if (buildTree) {
+            LooseTagEnd63 = new LooseTagEnd();
+            openNodeScope(LooseTagEnd63);
+        }
+        ParseException parseException3151 = null;
+        int callStackSize3152 = parsingStack.size();
+        try {
+            if (nextTokenType()==CLOSE_TAG) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:730:5
+                consumeToken(CLOSE_TAG);
+            }
+            else if (nextTokenType()==CLOSE_EMPTY_TAG) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:732:5
+                consumeToken(CLOSE_EMPTY_TAG);
+            }
+            else {
+                pushOntoCallStack(69, "/root/project/examples/freemarker/FTL.javacc", 730, 5);
+                throw new ParseException(this, LooseTagEnd_FIRST_SET, parsingStack.toList());
+            }
+        }
+        catch(ParseException e) {
+            parseException3151 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize3152);
+            if (LooseTagEnd63!=null) {
+                if (parseException3151==null) {
+                    closeNodeScope(LooseTagEnd63, nodeArity() > 1);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final EnumSet<TokenType> DirectiveEnd_FIRST_SET = EnumSet.of(END_DIRECTIVE1, END_DIRECTIVE2);
+
+    // /root/project/examples/freemarker/FTL.javacc:735:1
+    final public void DirectiveEnd(String name) {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 70;
+        // Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:736:5
+        DirectiveEnd DirectiveEnd64 = null;
+        if (buildTree) {
+            DirectiveEnd64 = new DirectiveEnd();
+            openNodeScope(DirectiveEnd64);
+        }
+        ParseException parseException3171 = null;
+        int callStackSize3172 = parsingStack.size();
+        try {
+            if (nextTokenType()==END_DIRECTIVE1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:736:5
+                consumeToken(END_DIRECTIVE1);
+            }
+            else if (nextTokenType()==END_DIRECTIVE2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:736:22
+                consumeToken(END_DIRECTIVE2);
+                // Code for CodeBlock specified at /root/project/examples/freemarker/FTL.javacc:737:5
+                String tag = lastConsumedToken.getImage();
+                tag = tag.substring(3);
+                tag = tag.substring(0, tag.length()-1).trim();
+                if (tag.length()!=0&&!name.equals(tag)) {
+                    throw new ParseException("Expecting closing tag for "+name);
+                }
+            }
+            else {
+                pushOntoCallStack(70, "/root/project/examples/freemarker/FTL.javacc", 736, 5);
+                throw new ParseException(this, DirectiveEnd_FIRST_SET, parsingStack.toList());
+            }
+        }
+        catch(ParseException e) {
+            parseException3171 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize3172);
+            if (DirectiveEnd64!=null) {
+                if (parseException3171==null) {
+                    closeNodeScope(DirectiveEnd64, nodeArity() > 1);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:747:1
+    final public void Text() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 71;
+        Text Text65 = null;
+        if (buildTree) {
+            Text65 = new Text();
+            openNodeScope(Text65);
+        }
+        Token t;
+        ParseException parseException3195 = null;
+        int callStackSize3196 = parsingStack.size();
+        try {
+            // Code for OneOrMore specified at /root/project/examples/freemarker/FTL.javacc:751:5
+            while (true) {
+                if (nextTokenType()==PRINTABLE_CHARS) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:752:10
+                    t = consumeToken(PRINTABLE_CHARS);
+                }
+                else if (nextTokenType()==WHITESPACE) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:753:10
+                    t = consumeToken(WHITESPACE);
+                }
+                else if (nextTokenType()==SPECIAL_CHAR) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:754:10
+                    t = consumeToken(SPECIAL_CHAR);
+                }
+                else {
+                    pushOntoCallStack(71, "/root/project/examples/freemarker/FTL.javacc", 752, 8);
+                    throw new ParseException(this, first_set$FTL_javacc$752$8, parsingStack.toList());
+                }
+                if (!(nextTokenType()==WHITESPACE||nextTokenType==SPECIAL_CHAR||nextTokenType==PRINTABLE_CHARS)) break;
+            }
+        }
+        catch(ParseException e) {
+            parseException3195 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize3196);
+            if (Text65!=null) {
+                if (parseException3195==null) {
+                    closeNodeScope(Text65, nodeArity() > 1);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:758:1
+    final public void Recover() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 72;
+        RecoverBlock Recover66 = null;
+        if (buildTree) {
+            Recover66 = new RecoverBlock();
+            openNodeScope(Recover66);
+        }
+        ParseException parseException3236 = null;
+        int callStackSize3237 = parsingStack.size();
+        try {
+            if (nextTokenType()==FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:759:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            }
+            else if (nextTokenType()==FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:759:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            }
+            else {
+                pushOntoCallStack(72, "/root/project/examples/freemarker/FTL.javacc", 759, 6);
+                throw new ParseException(this, first_set$FTL_javacc$759$6, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:760:5
+            consumeToken(_RECOVER);
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:760:15
+            consumeToken(CLOSE_TAG);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:761:5
+            pushOntoCallStack(72, "/root/project/examples/freemarker/FTL.javacc", 761, 5);
+            try {
+                Block();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:762:5
+            pushOntoCallStack(72, "/root/project/examples/freemarker/FTL.javacc", 762, 5);
+            try {
+                DirectiveEnd("attempt");
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        catch(ParseException e) {
+            parseException3236 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize3237);
+            if (Recover66!=null) {
+                if (parseException3236==null) {
+                    closeNodeScope(Recover66, true);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:765:1
+    final public void TopLevelDirective() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 73;
+        if (scan$FTL_javacc$767$6()) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:767:13
+            pushOntoCallStack(73, "/root/project/examples/freemarker/FTL.javacc", 767, 13);
+            try {
+                Assignment();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (scan$FTL_javacc$768$6()) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:768:13
+            pushOntoCallStack(73, "/root/project/examples/freemarker/FTL.javacc", 768, 13);
+            try {
+                Attempt();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (scan$FTL_javacc$769$6()) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:769:13
+            pushOntoCallStack(73, "/root/project/examples/freemarker/FTL.javacc", 769, 13);
+            try {
+                Comment();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (scan$FTL_javacc$770$6()) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:770:13
+            pushOntoCallStack(73, "/root/project/examples/freemarker/FTL.javacc", 770, 13);
+            try {
+                Compress();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (scan$FTL_javacc$771$6()) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:771:13
+            pushOntoCallStack(73, "/root/project/examples/freemarker/FTL.javacc", 771, 13);
+            try {
+                Embed();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (scan$FTL_javacc$772$6()) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:772:13
+            pushOntoCallStack(73, "/root/project/examples/freemarker/FTL.javacc", 772, 13);
+            try {
+                ForEach();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (scan$FTL_javacc$773$6()) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:773:13
+            pushOntoCallStack(73, "/root/project/examples/freemarker/FTL.javacc", 773, 13);
+            try {
+                If();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (scan$FTL_javacc$774$6()) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:774:13
+            pushOntoCallStack(73, "/root/project/examples/freemarker/FTL.javacc", 774, 13);
+            try {
+                List();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (scan$FTL_javacc$775$6()) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:775:13
+            pushOntoCallStack(73, "/root/project/examples/freemarker/FTL.javacc", 775, 13);
+            try {
+                Include();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (scan$FTL_javacc$776$6()) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:776:13
+            pushOntoCallStack(73, "/root/project/examples/freemarker/FTL.javacc", 776, 13);
+            try {
+                Import();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (scan$FTL_javacc$777$6()) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:777:13
+            pushOntoCallStack(73, "/root/project/examples/freemarker/FTL.javacc", 777, 13);
+            try {
+                MacroDefinition();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (scan$FTL_javacc$778$6()) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:778:13
+            pushOntoCallStack(73, "/root/project/examples/freemarker/FTL.javacc", 778, 13);
+            try {
+                NoParse();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (scan$FTL_javacc$779$6()) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:779:6
+            pushOntoCallStack(73, "/root/project/examples/freemarker/FTL.javacc", 779, 6);
+            try {
+                Switch();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (scan$FTL_javacc$780$6()) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:780:13
+            pushOntoCallStack(73, "/root/project/examples/freemarker/FTL.javacc", 780, 13);
+            try {
+                Setting();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (scan$FTL_javacc$781$6()) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:781:13
+            pushOntoCallStack(73, "/root/project/examples/freemarker/FTL.javacc", 781, 13);
+            try {
+                Var();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (scan$FTL_javacc$782$6()) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:782:13
+            pushOntoCallStack(73, "/root/project/examples/freemarker/FTL.javacc", 782, 13);
+            try {
+                Break();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (scan$FTL_javacc$783$6()) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:783:13
+            pushOntoCallStack(73, "/root/project/examples/freemarker/FTL.javacc", 783, 13);
+            try {
+                Return();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (scan$FTL_javacc$784$6()) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:784:13
+            pushOntoCallStack(73, "/root/project/examples/freemarker/FTL.javacc", 784, 13);
+            try {
+                Stop();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (scan$FTL_javacc$785$6()) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:785:13
+            pushOntoCallStack(73, "/root/project/examples/freemarker/FTL.javacc", 785, 13);
+            try {
+                Flush();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (scan$FTL_javacc$786$6()) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:786:13
+            pushOntoCallStack(73, "/root/project/examples/freemarker/FTL.javacc", 786, 13);
+            try {
+                Trim();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (scan$FTL_javacc$787$6()) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:787:13
+            pushOntoCallStack(73, "/root/project/examples/freemarker/FTL.javacc", 787, 13);
+            try {
+                NoTrim();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (scan$FTL_javacc$788$6()) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:788:13
+            pushOntoCallStack(73, "/root/project/examples/freemarker/FTL.javacc", 788, 13);
+            try {
+                LeftTrim();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (scan$FTL_javacc$789$6()) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:789:13
+            pushOntoCallStack(73, "/root/project/examples/freemarker/FTL.javacc", 789, 13);
+            try {
+                RightTrim();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (scan$FTL_javacc$790$6()) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:790:13
+            pushOntoCallStack(73, "/root/project/examples/freemarker/FTL.javacc", 790, 13);
+            try {
+                TrimBlock();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (scan$FTL_javacc$791$6()) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:791:13
+            pushOntoCallStack(73, "/root/project/examples/freemarker/FTL.javacc", 791, 13);
+            try {
+                Nested();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (scan$FTL_javacc$792$6()) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:792:13
+            pushOntoCallStack(73, "/root/project/examples/freemarker/FTL.javacc", 792, 13);
+            try {
+                EscapeBlock();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (scan$FTL_javacc$793$6()) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:793:13
+            pushOntoCallStack(73, "/root/project/examples/freemarker/FTL.javacc", 793, 13);
+            try {
+                NoEscapeBlock();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (scan$FTL_javacc$794$6()) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:794:13
+            pushOntoCallStack(73, "/root/project/examples/freemarker/FTL.javacc", 794, 13);
+            try {
+                Visit();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (scan$FTL_javacc$795$6()) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:795:13
+            pushOntoCallStack(73, "/root/project/examples/freemarker/FTL.javacc", 795, 13);
+            try {
+                Recurse();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (scan$FTL_javacc$796$6()) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:796:13
+            pushOntoCallStack(73, "/root/project/examples/freemarker/FTL.javacc", 796, 13);
+            try {
+                FallBack();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else {
+            pushOntoCallStack(73, "/root/project/examples/freemarker/FTL.javacc", 767, 6);
+            throw new ParseException(this, first_set$FTL_javacc$767$6, parsingStack.toList());
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:800:1
+    final public void UserDirective() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 74;
+        UserDirective UserDirective67 = null;
+        if (buildTree) {
+            UserDirective67 = new UserDirective();
+            openNodeScope(UserDirective67);
+        }
+        Token startToken;
+        token_source.noWhitespaceInExpression = true;
+        ParseException parseException3526 = null;
+        int callStackSize3527 = parsingStack.size();
+        try {
+            if (nextTokenType()==USER_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:806:20
+                startToken = consumeToken(USER_DIRECTIVE_OPEN1);
+            }
+            else if (nextTokenType()==USER_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:808:20
+                startToken = consumeToken(USER_DIRECTIVE_OPEN2);
+            }
+            else {
+                pushOntoCallStack(74, "/root/project/examples/freemarker/FTL.javacc", 806, 9);
+                throw new ParseException(this, first_set$FTL_javacc$806$9, parsingStack.toList());
+            }
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:810:5
+            pushOntoCallStack(74, "/root/project/examples/freemarker/FTL.javacc", 810, 5);
+            try {
+                Expression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for CodeBlock specified at /root/project/examples/freemarker/FTL.javacc:811:5
+            token_source.noWhitespaceInExpression = false;
+            // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:812:5
+            if (nextTokenType()==BLANK) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:812:6
+                consumeToken(BLANK);
+            }
+            // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:813:5
+            if (maskContains(first_set$FTL_javacc$813$6_MASK, nextTokenType().ordinal())) {
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:813:6
+                pushOntoCallStack(74, "/root/project/examples/freemarker/FTL.javacc", 813, 6);
+                try {
+                    ArgsList();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:814:5
+            if (nextTokenType()==SEMICOLON) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:814:6
+                consumeToken(SEMICOLON);
+                // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:814:17
+                if (nextTokenType()==IDENTIFIER) {
+                    // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:814:18
+                    pushOntoCallStack(74, "/root/project/examples/freemarker/FTL.javacc", 814, 18);
+                    try {
+                        ParameterList();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+            }
+            if (nextTokenType()==CLOSE_EMPTY_TAG) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:816:8
+                consumeToken(CLOSE_EMPTY_TAG);
+            }
+            else if (nextTokenType()==CLOSE_TAG) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:819:11
+                consumeToken(CLOSE_TAG);
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:820:11
+                pushOntoCallStack(74, "/root/project/examples/freemarker/FTL.javacc", 820, 11);
+                try {
+                    Block();
+                }
+                finally {
+                    popCallStack();
+                }
+                if (nextTokenType()==END_USER_DIRECTIVE1) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:821:12
+                    consumeToken(END_USER_DIRECTIVE1);
+                }
+                else if (nextTokenType()==END_USER_DIRECTIVE2) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:821:34
+                    consumeToken(END_USER_DIRECTIVE2);
+                }
+                else {
+                    pushOntoCallStack(74, "/root/project/examples/freemarker/FTL.javacc", 821, 12);
+                    throw new ParseException(this, first_set$FTL_javacc$821$12, parsingStack.toList());
+                }
+            }
+            else {
+                pushOntoCallStack(74, "/root/project/examples/freemarker/FTL.javacc", 816, 8);
+                throw new ParseException(this, first_set$FTL_javacc$816$8, parsingStack.toList());
+            }
+        }
+        catch(ParseException e) {
+            parseException3526 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize3527);
+            if (UserDirective67!=null) {
+                if (parseException3526==null) {
+                    closeNodeScope(UserDirective67, nodeArity() > 1);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:826:1
+    final public void Block() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 75;
+        Block Block68 = null;
+        if (buildTree) {
+            Block68 = new Block();
+            openNodeScope(Block68);
+        }
+        ParseException parseException3658 = null;
+        int callStackSize3659 = parsingStack.size();
+        try {
+            // Code for ZeroOrMore specified at /root/project/examples/freemarker/FTL.javacc:827:3
+            while (true) {
+                if (!(scan$FTL_javacc$828$5())) break;
+                if (nextTokenType()==WHITESPACE||nextTokenType==SPECIAL_CHAR||nextTokenType==PRINTABLE_CHARS) {
+                    // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:830:6
+                    pushOntoCallStack(75, "/root/project/examples/freemarker/FTL.javacc", 830, 6);
+                    try {
+                        Text();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                else if (nextTokenType()==INTERPOLATE) {
+                    // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:832:6
+                    pushOntoCallStack(75, "/root/project/examples/freemarker/FTL.javacc", 832, 6);
+                    try {
+                        Interpolation();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                else if (nextTokenType()==NUMERICAL_INTERPOLATE) {
+                    // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:834:6
+                    pushOntoCallStack(75, "/root/project/examples/freemarker/FTL.javacc", 834, 6);
+                    try {
+                        NumericalInterpolation();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                else if (nextTokenType()==USER_DIRECTIVE_OPEN1||nextTokenType==USER_DIRECTIVE_OPEN2) {
+                    // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:836:6
+                    pushOntoCallStack(75, "/root/project/examples/freemarker/FTL.javacc", 836, 6);
+                    try {
+                        UserDirective();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                else if (nextTokenType()==FTL_DIRECTIVE_OPEN1||nextTokenType==FTL_DIRECTIVE_OPEN2) {
+                    // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:838:6
+                    pushOntoCallStack(75, "/root/project/examples/freemarker/FTL.javacc", 838, 6);
+                    try {
+                        TopLevelDirective();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                else {
+                    pushOntoCallStack(75, "/root/project/examples/freemarker/FTL.javacc", 830, 6);
+                    throw new ParseException(this, first_set$FTL_javacc$830$6, parsingStack.toList());
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException3658 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize3659);
+            if (Block68!=null) {
+                if (parseException3658==null) {
+                    closeNodeScope(Block68, nodeArity() > 1);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:843:1
+    final public void FTLHeader() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 76;
+        FTLHeader FTLHeader69 = null;
+        if (buildTree) {
+            FTLHeader69 = new FTLHeader();
+            openNodeScope(FTLHeader69);
+        }
+        ParseException parseException3715 = null;
+        int callStackSize3716 = parsingStack.size();
+        try {
+            if (nextTokenType()==FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:844:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            }
+            else if (nextTokenType()==FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:844:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            }
+            else {
+                pushOntoCallStack(76, "/root/project/examples/freemarker/FTL.javacc", 844, 6);
+                throw new ParseException(this, first_set$FTL_javacc$844$6, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:845:5
+            consumeToken(FTL);
+            // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:846:5
+            if (nextTokenType()==BLANK) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:847:8
+                consumeToken(BLANK);
+                // Code for ZeroOrMore specified at /root/project/examples/freemarker/FTL.javacc:848:8
+                while (true) {
+                    if (!(nextTokenType()==IDENTIFIER)) break;
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:849:11
+                    consumeToken(IDENTIFIER);
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:850:11
+                    consumeToken(EQUALS);
+                    // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:851:11
+                    pushOntoCallStack(76, "/root/project/examples/freemarker/FTL.javacc", 851, 11);
+                    try {
+                        Expression();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+            }
+            if (nextTokenType()==CLOSE_TAG) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:854:6
+                consumeToken(CLOSE_TAG);
+            }
+            else if (nextTokenType()==CLOSE_EMPTY_TAG) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:854:19
+                consumeToken(CLOSE_EMPTY_TAG);
+            }
+            else {
+                pushOntoCallStack(76, "/root/project/examples/freemarker/FTL.javacc", 854, 6);
+                throw new ParseException(this, first_set$FTL_javacc$854$6, parsingStack.toList());
+            }
+        }
+        catch(ParseException e) {
+            parseException3715 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize3716);
+            if (FTLHeader69!=null) {
+                if (parseException3715==null) {
+                    closeNodeScope(FTLHeader69, nodeArity() > 1);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:859:1
+    final public void Root() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 77;
+        Root Root70 = null;
+        if (buildTree) {
+            Root70 = new Root();
+            openNodeScope(Root70);
+        }
+        ParseException parseException3797 = null;
+        int callStackSize3798 = parsingStack.size();
+        try {
+            // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:860:5
+            if (scan$FTL_javacc$861$9()) {
+                // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:864:9
+                if (nextTokenType()==WHITESPACE) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:864:10
+                    consumeToken(WHITESPACE);
+                }
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:865:9
+                pushOntoCallStack(77, "/root/project/examples/freemarker/FTL.javacc", 865, 9);
+                try {
+                    FTLHeader();
+                }
+                finally {
+                    popCallStack();
+                }
+                // Code for CodeBlock specified at /root/project/examples/freemarker/FTL.javacc:865:19
+                token_source.rightAfterHeader = true;
+            }
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:867:5
+            pushOntoCallStack(77, "/root/project/examples/freemarker/FTL.javacc", 867, 5);
+            try {
+                Block();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for EndOfFile specified at /root/project/examples/freemarker/FTL.javacc:868:5
+            consumeToken(EOF);
+        }
+        catch(ParseException e) {
+            parseException3797 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize3798);
+            if (Root70!=null) {
+                if (parseException3797==null) {
+                    closeNodeScope(Root70, nodeArity() > 1);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final EnumSet<TokenType> first_set$FEL_javacc$182$10 = EnumSet.of(OR, OR2);
+    static private final EnumSet<TokenType> first_set$FEL_javacc$189$10 = EnumSet.of(AND, AND2);
+    static private final EnumSet<TokenType> first_set$FEL_javacc$196$10 = EnumSet.of(EQUALS, DOUBLE_EQUALS, NOT_EQUALS);
+    static private final long[]first_set$FEL_javacc$204$9_MASK =  {0xcc601800000L, 0x0L};
+    static private final EnumSet<TokenType> first_set$FEL_javacc$204$10 = first_set$FEL_javacc$204$10_init();
+
+    static private EnumSet<TokenType> first_set$FEL_javacc$204$10_init() {
+        return EnumSet.of(LT, GT, LTE, GTE, ALT_GT, ALT_LT, ALT_GTE, ALT_LTE);
+    }
+
+    static private final long[]first_set$FEL_javacc$204$10_MASK =  {0xcc601800000L, 0x0L};
+    static private final EnumSet<TokenType> first_set$FEL_javacc$222$13 = EnumSet.of(PLUS, MINUS);
+    static private final EnumSet<TokenType> first_set$FEL_javacc$230$12 = EnumSet.of(TIMES, DIVIDE, PERCENT);
+    static private final long[]first_set$FEL_javacc$241$5_MASK =  {0x3ee00000009500L, 0x0L};
+    static private final EnumSet<TokenType> first_set$FEL_javacc$245$6 = EnumSet.of(PLUS, MINUS);
+    static private final EnumSet<TokenType> first_set$FEL_javacc$307$6 = EnumSet.of(TIMES, IDENTIFIER);
+    static private final long[]first_set$FEL_javacc$315$16_MASK =  {0x3ee00010039500L, 0x0L};
+    static private final long[]first_set$FEL_javacc$328$6_MASK =  {0x3ee00010039500L, 0x0L};
+    static private final long[]first_set$FEL_javacc$328$18_MASK =  {0x3ee00012039500L, 0x0L};
+    static private final long[]first_set$FEL_javacc$340$8_MASK =  {0x3ee00010039500L, 0x0L};
+    static private final EnumSet<TokenType> first_set$FEL_javacc$362$9 = first_set$FEL_javacc$362$9_init();
+
+    static private EnumSet<TokenType> first_set$FEL_javacc$362$9_init() {
+        return EnumSet.of(OPEN_PAREN, OPEN_BRACKET, OPEN_BRACE, DOT, PLUS, MINUS, EXCLAM, NULL, TRUE, FALSE, INTEGER, DECIMAL, IDENTIFIER, STRING_LITERAL, RAW_STRING);
+    }
+
+    static private final long[]first_set$FEL_javacc$365$9_MASK =  {0x3ee00010039500L, 0x0L};
+    static private final long[]first_set$FEL_javacc$384$8_MASK =  {0x3ee00012039500L, 0x0L};
+    static private final EnumSet<TokenType> first_set$FTL_javacc$379$6 = EnumSet.of(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2);
+    static private final EnumSet<TokenType> first_set$FTL_javacc$381$8 = EnumSet.of(SET, LOCAL, GLOBAL, ASSIGN);
+    static private final EnumSet<TokenType> first_set$FTL_javacc$389$7 = EnumSet.of(EQUALS, IN, CLOSE_TAG);
+    static private final EnumSet<TokenType> first_set$FTL_javacc$406$6 = EnumSet.of(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2);
+    static private final EnumSet<TokenType> first_set$FTL_javacc$414$6 = EnumSet.of(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2);
+    static private final EnumSet<TokenType> first_set$FTL_javacc$422$6 = EnumSet.of(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2);
+    static private final EnumSet<TokenType> first_set$FTL_javacc$429$5 = EnumSet.of(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2);
+    static private final EnumSet<TokenType> first_set$FTL_javacc$435$6 = EnumSet.of(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2);
+    static private final EnumSet<TokenType> first_set$FTL_javacc$442$6 = EnumSet.of(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2);
+    static private final EnumSet<TokenType> first_set$FTL_javacc$448$6 = EnumSet.of(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2);
+    static private final EnumSet<TokenType> first_set$FTL_javacc$455$6 = EnumSet.of(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2);
+    static private final EnumSet<TokenType> first_set$FTL_javacc$462$6 = EnumSet.of(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2);
+    static private final EnumSet<TokenType> first_set$FTL_javacc$468$6 = EnumSet.of(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2);
+    static private final EnumSet<TokenType> first_set$FTL_javacc$474$6 = EnumSet.of(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2);
+    static private final EnumSet<TokenType> first_set$FTL_javacc$479$6 = EnumSet.of(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2);
+    static private final EnumSet<TokenType> first_set$FTL_javacc$486$6 = EnumSet.of(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2);
+    static private final EnumSet<TokenType> first_set$FTL_javacc$494$6 = EnumSet.of(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2);
+    static private final EnumSet<TokenType> first_set$FTL_javacc$504$6 = EnumSet.of(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2);
+    static private final EnumSet<TokenType> first_set$FTL_javacc$506$9 = EnumSet.of(BLOCKTRIM, BLOCKTRIML, BLOCKTRIMR, BLOCKNOTRIM);
+    static private final EnumSet<TokenType> first_set$FTL_javacc$520$6 = EnumSet.of(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2);
+    static private final EnumSet<TokenType> first_set$FTL_javacc$527$6 = EnumSet.of(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2);
+    static private final EnumSet<TokenType> first_set$FTL_javacc$539$6 = EnumSet.of(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2);
+    static private final EnumSet<TokenType> first_set$FTL_javacc$548$6 = EnumSet.of(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2);
+    static private final EnumSet<TokenType> first_set$FTL_javacc$555$6 = EnumSet.of(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2);
+    static private final EnumSet<TokenType> first_set$FTL_javacc$564$6 = EnumSet.of(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2);
+    static private final long[]first_set$FTL_javacc$572$12_MASK =  {0x3ee00012039500L, 0x0L};
+    static private final EnumSet<TokenType> first_set$FTL_javacc$580$6 = EnumSet.of(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2);
+    static private final EnumSet<TokenType> first_set$FTL_javacc$583$8 = EnumSet.of(BLANK, CLOSE_TAG, CLOSE_EMPTY_TAG);
+    static private final long[]first_set$FTL_javacc$587$12_MASK =  {0x3ee00010039500L, 0x0L};
+    static private final long[]first_set$FTL_javacc$590$14_MASK =  {0x3ee00012039500L, 0x0L};
+    static private final EnumSet<TokenType> first_set$FTL_javacc$598$6 = EnumSet.of(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2);
+    static private final EnumSet<TokenType> first_set$FTL_javacc$604$6 = EnumSet.of(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2);
+    static private final EnumSet<TokenType> first_set$FTL_javacc$617$6 = EnumSet.of(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2);
+    static private final EnumSet<TokenType> first_set$FTL_javacc$627$6 = EnumSet.of(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2);
+    static private final EnumSet<TokenType> first_set$FTL_javacc$635$6 = EnumSet.of(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2);
+    static private final EnumSet<TokenType> first_set$FTL_javacc$649$6 = EnumSet.of(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2);
+    static private final EnumSet<TokenType> first_set$FTL_javacc$657$6 = EnumSet.of(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2);
+    static private final EnumSet<TokenType> first_set$FTL_javacc$663$6 = EnumSet.of(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2);
+    static private final EnumSet<TokenType> first_set$FTL_javacc$674$6 = EnumSet.of(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2);
+    static private final EnumSet<TokenType> first_set$FTL_javacc$685$6 = EnumSet.of(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2);
+    static private final EnumSet<TokenType> first_set$FTL_javacc$695$6 = EnumSet.of(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2);
+    static private final EnumSet<TokenType> first_set$FTL_javacc$697$7 = EnumSet.of(MACRO, FUNCTION);
+    static private final EnumSet<TokenType> first_set$FTL_javacc$752$8 = EnumSet.of(WHITESPACE, SPECIAL_CHAR, PRINTABLE_CHARS);
+    static private final EnumSet<TokenType> first_set$FTL_javacc$759$6 = EnumSet.of(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2);
+    static private final EnumSet<TokenType> first_set$FTL_javacc$767$6 = EnumSet.of(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2);
+    static private final EnumSet<TokenType> first_set$FTL_javacc$806$9 = EnumSet.of(USER_DIRECTIVE_OPEN1, USER_DIRECTIVE_OPEN2);
+    static private final long[]first_set$FTL_javacc$813$6_MASK =  {0x3ee00010039500L, 0x0L};
+    static private final EnumSet<TokenType> first_set$FTL_javacc$816$8 = EnumSet.of(CLOSE_TAG, CLOSE_EMPTY_TAG);
+    static private final EnumSet<TokenType> first_set$FTL_javacc$821$12 = EnumSet.of(END_USER_DIRECTIVE1, END_USER_DIRECTIVE2);
+    static private final EnumSet<TokenType> first_set$FTL_javacc$830$6 = first_set$FTL_javacc$830$6_init();
+
+    static private EnumSet<TokenType> first_set$FTL_javacc$830$6_init() {
+        return EnumSet.of(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2, USER_DIRECTIVE_OPEN1, USER_DIRECTIVE_OPEN2, INTERPOLATE, NUMERICAL_INTERPOLATE, WHITESPACE, SPECIAL_CHAR, PRINTABLE_CHARS);
+    }
+
+    static private final EnumSet<TokenType> first_set$FTL_javacc$844$6 = EnumSet.of(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2);
+    static private final EnumSet<TokenType> first_set$FTL_javacc$854$6 = EnumSet.of(CLOSE_TAG, CLOSE_EMPTY_TAG);
+
+    static private boolean maskContains(long[]mask, int ordinal) {
+        return(mask[ordinal>>>6]&(1L<<ordinal))!=0;
+    }
+
+    private final boolean scanToken(TokenType type1) {
+        Token peekedToken = nextToken(currentLookaheadToken);
+        TokenType type = peekedToken.getType();
+        if (type!=type1) return false;
+        --remainingLookahead;
+        currentLookaheadToken = peekedToken;
+        return true;
+    }
+
+    private final boolean scanToken(TokenType type1, TokenType type2) {
+        Token peekedToken = nextToken(currentLookaheadToken);
+        TokenType type = peekedToken.getType();
+        if (type!=type1&&type!=type2) return false;
+        --remainingLookahead;
+        currentLookaheadToken = peekedToken;
+        return true;
+    }
+
+    private final boolean scanToken(TokenType type1, TokenType type2, TokenType type3) {
+        Token peekedToken = nextToken(currentLookaheadToken);
+        TokenType type = peekedToken.getType();
+        if (type!=type1&&type!=type2&&type!=type3) return false;
+        --remainingLookahead;
+        currentLookaheadToken = peekedToken;
+        return true;
+    }
+
+    private final boolean scanToken(TokenType type1, TokenType type2, TokenType type3, TokenType type4) {
+        Token peekedToken = nextToken(currentLookaheadToken);
+        TokenType type = peekedToken.getType();
+        if (type!=type1&&type!=type2&&type!=type3&&type!=type4) return false;
+        --remainingLookahead;
+        currentLookaheadToken = peekedToken;
+        return true;
+    }
+
+    private final boolean scanToken(TokenType expectedType, TokenType...additionalTypes) {
+        Token peekedToken = nextToken(currentLookaheadToken);
+        TokenType type = peekedToken.getType();
+        if (type!=expectedType) {
+            boolean matched = false;
+            for (TokenType tt : additionalTypes) {
+                if (type==tt) {
+                    matched = true;
+                    break;
+                }
+            }
+            if (!matched) return false;
+        }
+        --remainingLookahead;
+        currentLookaheadToken = peekedToken;
+        return true;
+    }
+
+    private final boolean scanToken(long[]typeMask) {
+        Token peekedToken = nextToken(currentLookaheadToken);
+        int ordinal = peekedToken.getType().ordinal();
+        if (!(maskContains(typeMask, ordinal))) return false;
+        --remainingLookahead;
+        currentLookaheadToken = peekedToken;
+        return true;
+    }
+
+    //====================================
+    // Lookahead Routines
+    //====================================
+    // scanahead routine for expansion at: 
+    // FEL.javacc:182:9
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$182$9(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for ExpansionChoice specified at FEL.javacc:182:10
+            if (!scanToken(OR, OR2)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at FEL.javacc:182:22
+            // NonTerminal AndExpression at FEL.javacc:182:22
+            pushOntoLookaheadStack(2, "FEL.javacc", 182, 22);
+            currentLookaheadProduction = 3;
+            try {
+                if (!check$AndExpression(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // FEL.javacc:189:9
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$189$9(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for ExpansionChoice specified at FEL.javacc:189:10
+            if (!scanToken(AND, AND2)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at FEL.javacc:189:24
+            // NonTerminal EqualityExpression at FEL.javacc:189:24
+            pushOntoLookaheadStack(3, "FEL.javacc", 189, 24);
+            currentLookaheadProduction = 4;
+            try {
+                if (!check$EqualityExpression(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // FEL.javacc:196:9
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$196$9(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for ExpansionChoice specified at FEL.javacc:196:10
+            if (!scanToken(EQUALS, DOUBLE_EQUALS, NOT_EQUALS)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at FEL.javacc:197:9
+            // NonTerminal RelationalExpression at FEL.javacc:197:9
+            pushOntoLookaheadStack(4, "FEL.javacc", 197, 9);
+            currentLookaheadProduction = 5;
+            try {
+                if (!check$RelationalExpression(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // FEL.javacc:204:9
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$204$9(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for ExpansionChoice specified at FEL.javacc:204:10
+            if (!scanToken(first_set$FEL_javacc$204$10_MASK)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at FEL.javacc:205:9
+            // NonTerminal RangeExpression at FEL.javacc:205:9
+            pushOntoLookaheadStack(5, "FEL.javacc", 205, 9);
+            currentLookaheadProduction = 6;
+            try {
+                if (!check$RangeExpression(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // FEL.javacc:212:8
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$212$8(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at FEL.javacc:212:8
+            if (!scanToken(DOT_DOT)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for ZeroOrOne specified at FEL.javacc:213:8
+            Token token3855 = currentLookaheadToken;
+            boolean passedPredicate3855 = passedPredicate;
+            passedPredicate = false;
+            try {
+                if (!check$FEL_javacc$214$11(false)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token3855;
+                    hitFailure = false;
+                }
+            }
+            finally {
+                passedPredicate = passedPredicate3855;
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // FEL.javacc:214:11
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$214$11(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-2147483647;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at FEL.javacc:214:14
+            // NonTerminal AdditiveExpression at FEL.javacc:214:14
+            pushOntoLookaheadStack(6, "FEL.javacc", 214, 14);
+            currentLookaheadProduction = 7;
+            try {
+                if (!check$AdditiveExpression(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // FEL.javacc:222:12
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$222$12(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for ExpansionChoice specified at FEL.javacc:222:13
+            if (!scanToken(PLUS, MINUS)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at FEL.javacc:223:12
+            // NonTerminal MultiplicativeExpression at FEL.javacc:223:12
+            pushOntoLookaheadStack(7, "FEL.javacc", 223, 12);
+            currentLookaheadProduction = 8;
+            try {
+                if (!check$MultiplicativeExpression(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // FEL.javacc:230:11
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$230$11(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for ExpansionChoice specified at FEL.javacc:230:12
+            if (!scanToken(TIMES, DIVIDE, PERCENT)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at FEL.javacc:231:11
+            // NonTerminal UnaryExpression at FEL.javacc:231:11
+            pushOntoLookaheadStack(8, "FEL.javacc", 231, 11);
+            currentLookaheadProduction = 9;
+            try {
+                if (!check$UnaryExpression(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // FEL.javacc:237:5
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$237$5(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at FEL.javacc:237:5
+            // NonTerminal UnaryPlusMinusExpression at FEL.javacc:237:5
+            pushOntoLookaheadStack(9, "FEL.javacc", 237, 5);
+            currentLookaheadProduction = 10;
+            try {
+                if (!check$UnaryPlusMinusExpression(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // FEL.javacc:239:5
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$239$5(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at FEL.javacc:239:5
+            // NonTerminal NotExpression at FEL.javacc:239:5
+            pushOntoLookaheadStack(9, "FEL.javacc", 239, 5);
+            currentLookaheadProduction = 11;
+            try {
+                if (!check$NotExpression(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // FEL.javacc:241:5
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$241$5(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at FEL.javacc:241:5
+            // NonTerminal DefaultToExpression at FEL.javacc:241:5
+            pushOntoLookaheadStack(9, "FEL.javacc", 241, 5);
+            currentLookaheadProduction = 13;
+            try {
+                if (!check$DefaultToExpression(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // FEL.javacc:261:9
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$261$9(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-2147483647;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at FEL.javacc:262:12
+            if (!scanToken(EXCLAM)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at FEL.javacc:262:20
+            // NonTerminal PrimaryExpression at FEL.javacc:262:20
+            pushOntoLookaheadStack(13, "FEL.javacc", 262, 20);
+            currentLookaheadProduction = 14;
+            try {
+                if (!check$PrimaryExpression(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // FEL.javacc:272:7
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$272$7(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for ExpansionChoice specified at FEL.javacc:272:7
+            Token token3876 = currentLookaheadToken;
+            int remainingLookahead3876 = remainingLookahead;
+            boolean hitFailure3876 = hitFailure, passedPredicate3876 = passedPredicate;
+            try {
+                passedPredicate = false;
+                if (!check$FEL_javacc$272$7$(false)) {
+                    currentLookaheadToken = token3876;
+                    remainingLookahead = remainingLookahead3876;
+                    hitFailure = hitFailure3876;
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    passedPredicate = false;
+                    if (!check$FEL_javacc$274$7(false)) {
+                        currentLookaheadToken = token3876;
+                        remainingLookahead = remainingLookahead3876;
+                        hitFailure = hitFailure3876;
+                        if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                        passedPredicate = false;
+                        if (!check$FEL_javacc$276$7(false)) {
+                            currentLookaheadToken = token3876;
+                            remainingLookahead = remainingLookahead3876;
+                            hitFailure = hitFailure3876;
+                            if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                            passedPredicate = false;
+                            if (!check$FEL_javacc$278$7(false)) {
+                                currentLookaheadToken = token3876;
+                                remainingLookahead = remainingLookahead3876;
+                                hitFailure = hitFailure3876;
+                                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                                passedPredicate = false;
+                                if (!scanToken(EXISTS_OPERATOR)) {
+                                    currentLookaheadToken = token3876;
+                                    remainingLookahead = remainingLookahead3876;
+                                    hitFailure = hitFailure3876;
+                                    return false;
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+            finally {
+                passedPredicate = passedPredicate3876;
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // FEL.javacc:272:7
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$272$7$(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at FEL.javacc:272:7
+            // NonTerminal DotKey at FEL.javacc:272:7
+            pushOntoLookaheadStack(14, "FEL.javacc", 272, 7);
+            currentLookaheadProduction = 16;
+            try {
+                if (!check$DotKey(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // FEL.javacc:274:7
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$274$7(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at FEL.javacc:274:7
+            // NonTerminal DynamicKey at FEL.javacc:274:7
+            pushOntoLookaheadStack(14, "FEL.javacc", 274, 7);
+            currentLookaheadProduction = 17;
+            try {
+                if (!check$DynamicKey(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // FEL.javacc:276:7
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$276$7(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at FEL.javacc:276:7
+            // NonTerminal MethodInvoke at FEL.javacc:276:7
+            pushOntoLookaheadStack(14, "FEL.javacc", 276, 7);
+            currentLookaheadProduction = 18;
+            try {
+                if (!check$MethodInvoke(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // FEL.javacc:278:7
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$278$7(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at FEL.javacc:278:7
+            // NonTerminal BuiltIn at FEL.javacc:278:7
+            pushOntoLookaheadStack(14, "FEL.javacc", 278, 7);
+            currentLookaheadProduction = 19;
+            try {
+                if (!check$BuiltIn(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // FEL.javacc:289:5
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$289$5(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at FEL.javacc:289:5
+            // NonTerminal HashLiteral at FEL.javacc:289:5
+            pushOntoLookaheadStack(15, "FEL.javacc", 289, 5);
+            currentLookaheadProduction = 23;
+            try {
+                if (!check$HashLiteral(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // FEL.javacc:297:5
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$297$5(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at FEL.javacc:297:5
+            // NonTerminal ListLiteral at FEL.javacc:297:5
+            pushOntoLookaheadStack(15, "FEL.javacc", 297, 5);
+            currentLookaheadProduction = 21;
+            try {
+                if (!check$ListLiteral(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // FEL.javacc:299:5
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$299$5(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at FEL.javacc:299:5
+            // NonTerminal Parenthesis at FEL.javacc:299:5
+            pushOntoLookaheadStack(15, "FEL.javacc", 299, 5);
+            currentLookaheadProduction = 27;
+            try {
+                if (!check$Parenthesis(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // FEL.javacc:301:5
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$301$5(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at FEL.javacc:301:5
+            // NonTerminal BuiltinVariable at FEL.javacc:301:5
+            pushOntoLookaheadStack(15, "FEL.javacc", 301, 5);
+            currentLookaheadProduction = 12;
+            try {
+                if (!check$BuiltinVariable(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // FEL.javacc:315:16
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$315$16(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at FEL.javacc:315:16
+            // NonTerminal ArgsList at FEL.javacc:315:16
+            pushOntoLookaheadStack(18, "FEL.javacc", 315, 16);
+            currentLookaheadProduction = 28;
+            try {
+                if (!check$ArgsList(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // FEL.javacc:328:6
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$328$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at FEL.javacc:328:6
+            // NonTerminal Expression at FEL.javacc:328:6
+            pushOntoLookaheadStack(21, "FEL.javacc", 328, 6);
+            currentLookaheadProduction = 1;
+            try {
+                if (!check$Expression(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for ZeroOrMore specified at FEL.javacc:328:17
+            boolean passedPredicate3898 = passedPredicate;
+            try {
+                while (remainingLookahead > 0&&!hitFailure) {
+                    Token token3899 = currentLookaheadToken;
+                    passedPredicate = false;
+                    if (!check$FEL_javacc$328$18(false)) {
+                        if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                        currentLookaheadToken = token3899;
+                        break;
+                    }
+                }
+            }
+            finally {
+                passedPredicate = passedPredicate3898;
+            }
+            hitFailure = false;
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // FEL.javacc:328:18
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$328$18(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for ZeroOrOne specified at FEL.javacc:328:18
+            Token token3902 = currentLookaheadToken;
+            boolean passedPredicate3902 = passedPredicate;
+            passedPredicate = false;
+            try {
+                if (!scanToken(COMMA)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token3902;
+                    hitFailure = false;
+                }
+            }
+            finally {
+                passedPredicate = passedPredicate3902;
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at FEL.javacc:328:27
+            // NonTerminal Expression at FEL.javacc:328:27
+            pushOntoLookaheadStack(21, "FEL.javacc", 328, 27);
+            currentLookaheadProduction = 1;
+            try {
+                if (!check$Expression(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // FEL.javacc:340:8
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$340$8(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at FEL.javacc:340:8
+            // NonTerminal Expression at FEL.javacc:340:8
+            pushOntoLookaheadStack(23, "FEL.javacc", 340, 8);
+            currentLookaheadProduction = 1;
+            try {
+                if (!check$Expression(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at FEL.javacc:340:19
+            if (!scanToken(COLON)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at FEL.javacc:340:27
+            // NonTerminal Expression at FEL.javacc:340:27
+            pushOntoLookaheadStack(23, "FEL.javacc", 340, 27);
+            currentLookaheadProduction = 1;
+            try {
+                if (!check$Expression(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for ZeroOrMore specified at FEL.javacc:341:8
+            boolean passedPredicate3909 = passedPredicate;
+            try {
+                while (remainingLookahead > 0&&!hitFailure) {
+                    Token token3910 = currentLookaheadToken;
+                    passedPredicate = false;
+                    if (!check$FEL_javacc$341$9(false)) {
+                        if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                        currentLookaheadToken = token3910;
+                        break;
+                    }
+                }
+            }
+            finally {
+                passedPredicate = passedPredicate3909;
+            }
+            hitFailure = false;
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // FEL.javacc:341:9
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$341$9(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at FEL.javacc:341:9
+            if (!scanToken(COMMA)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at FEL.javacc:341:17
+            // NonTerminal Expression at FEL.javacc:341:17
+            pushOntoLookaheadStack(23, "FEL.javacc", 341, 17);
+            currentLookaheadProduction = 1;
+            try {
+                if (!check$Expression(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at FEL.javacc:341:28
+            if (!scanToken(COLON)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at FEL.javacc:341:36
+            // NonTerminal Expression at FEL.javacc:341:36
+            pushOntoLookaheadStack(23, "FEL.javacc", 341, 36);
+            currentLookaheadProduction = 1;
+            try {
+                if (!check$Expression(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // FEL.javacc:362:9
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$362$9(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-2147483647;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            if (remainingLookahead<=0) {
+                passedPredicate = true;
+                return!hitFailure;
+            }
+            if (!check$FEL_javacc$362$14(true)) return false;
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at FEL.javacc:363:9
+            // NonTerminal NamedArgsList at FEL.javacc:363:9
+            pushOntoLookaheadStack(28, "FEL.javacc", 363, 9);
+            currentLookaheadProduction = 29;
+            try {
+                if (!check$NamedArgsList(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // FEL.javacc:365:9
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$365$9(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at FEL.javacc:365:9
+            // NonTerminal PositionalArgsList at FEL.javacc:365:9
+            pushOntoLookaheadStack(28, "FEL.javacc", 365, 9);
+            currentLookaheadProduction = 30;
+            try {
+                if (!check$PositionalArgsList(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // FEL.javacc:374:8
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$374$8(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for ZeroOrOne specified at FEL.javacc:374:8
+            Token token3924 = currentLookaheadToken;
+            boolean passedPredicate3924 = passedPredicate;
+            passedPredicate = false;
+            try {
+                if (!scanToken(COMMA)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token3924;
+                    hitFailure = false;
+                }
+            }
+            finally {
+                passedPredicate = passedPredicate3924;
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at FEL.javacc:375:8
+            if (!scanToken(IDENTIFIER)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at FEL.javacc:376:8
+            if (!scanToken(EQUALS)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at FEL.javacc:377:8
+            // NonTerminal Expression at FEL.javacc:377:8
+            pushOntoLookaheadStack(29, "FEL.javacc", 377, 8);
+            currentLookaheadProduction = 1;
+            try {
+                if (!check$Expression(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // FEL.javacc:384:8
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$384$8(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for ZeroOrOne specified at FEL.javacc:384:8
+            Token token3930 = currentLookaheadToken;
+            boolean passedPredicate3930 = passedPredicate;
+            passedPredicate = false;
+            try {
+                if (!scanToken(COMMA)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token3930;
+                    hitFailure = false;
+                }
+            }
+            finally {
+                passedPredicate = passedPredicate3930;
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at FEL.javacc:385:8
+            // NonTerminal Expression at FEL.javacc:385:8
+            pushOntoLookaheadStack(30, "FEL.javacc", 385, 8);
+            currentLookaheadProduction = 1;
+            try {
+                if (!check$Expression(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:371:40
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$371$40(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:371:40
+            if (!scanToken(SEMICOLON)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:371:51
+            if (!scanToken(IDENTIFIER)) return false;
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:389:7
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$389$7(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:390:8
+            if (!scanToken(EQUALS)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:390:16
+            // NonTerminal Expression at /root/project/examples/freemarker/FTL.javacc:390:16
+            pushOntoLookaheadStack(34, "/root/project/examples/freemarker/FTL.javacc", 390, 16);
+            currentLookaheadProduction = 1;
+            try {
+                if (!check$Expression(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for ZeroOrMore specified at /root/project/examples/freemarker/FTL.javacc:391:8
+            boolean passedPredicate3941 = passedPredicate;
+            try {
+                while (remainingLookahead > 0&&!hitFailure) {
+                    Token token3942 = currentLookaheadToken;
+                    passedPredicate = false;
+                    if (!check$FTL_javacc$391$9(false)) {
+                        if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                        currentLookaheadToken = token3942;
+                        break;
+                    }
+                }
+            }
+            finally {
+                passedPredicate = passedPredicate3941;
+            }
+            hitFailure = false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:392:8
+            Token token3944 = currentLookaheadToken;
+            boolean passedPredicate3944 = passedPredicate;
+            passedPredicate = false;
+            try {
+                if (!check$FTL_javacc$392$9(false)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token3944;
+                    hitFailure = false;
+                }
+            }
+            finally {
+                passedPredicate = passedPredicate3944;
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:393:8
+            if (!scanToken(CLOSE_TAG, CLOSE_EMPTY_TAG)) return false;
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:391:9
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$391$9(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:391:9
+            Token token3957 = currentLookaheadToken;
+            boolean passedPredicate3957 = passedPredicate;
+            passedPredicate = false;
+            try {
+                if (!scanToken(COMMA)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token3957;
+                    hitFailure = false;
+                }
+            }
+            finally {
+                passedPredicate = passedPredicate3957;
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:391:19
+            if (!scanToken(IDENTIFIER, STRING_LITERAL, RAW_STRING)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:391:45
+            if (!scanToken(EQUALS)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:391:54
+            // NonTerminal Expression at /root/project/examples/freemarker/FTL.javacc:391:54
+            pushOntoLookaheadStack(34, "/root/project/examples/freemarker/FTL.javacc", 391, 54);
+            currentLookaheadProduction = 1;
+            try {
+                if (!check$Expression(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:392:9
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$392$9(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:392:9
+            if (!scanToken(IN)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:392:14
+            // NonTerminal Expression at /root/project/examples/freemarker/FTL.javacc:392:14
+            pushOntoLookaheadStack(34, "/root/project/examples/freemarker/FTL.javacc", 392, 14);
+            currentLookaheadProduction = 1;
+            try {
+                if (!check$Expression(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:396:7
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$396$7(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:397:11
+            Token token3968 = currentLookaheadToken;
+            boolean passedPredicate3968 = passedPredicate;
+            passedPredicate = false;
+            try {
+                if (!check$FTL_javacc$397$12(false)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token3968;
+                    hitFailure = false;
+                }
+            }
+            finally {
+                passedPredicate = passedPredicate3968;
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:398:10
+            if (!scanToken(CLOSE_TAG)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:399:10
+            // NonTerminal Block at /root/project/examples/freemarker/FTL.javacc:399:10
+            pushOntoLookaheadStack(34, "/root/project/examples/freemarker/FTL.javacc", 399, 10);
+            currentLookaheadProduction = 75;
+            try {
+                if (!check$Block(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:400:10
+            if (!scanToken(END_DIRECTIVE1, END_DIRECTIVE2)) return false;
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:397:12
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$397$12(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:397:12
+            if (!scanToken(IN)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:397:17
+            // NonTerminal Expression at /root/project/examples/freemarker/FTL.javacc:397:17
+            pushOntoLookaheadStack(34, "/root/project/examples/freemarker/FTL.javacc", 397, 17);
+            currentLookaheadProduction = 1;
+            try {
+                if (!check$Expression(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:408:32
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$408$32(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:408:32
+            if (!scanToken(EQUALS)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:408:41
+            // NonTerminal Expression at /root/project/examples/freemarker/FTL.javacc:408:41
+            pushOntoLookaheadStack(35, "/root/project/examples/freemarker/FTL.javacc", 408, 41);
+            currentLookaheadProduction = 1;
+            try {
+                if (!check$Expression(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:409:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$409$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:409:6
+            Token token3986 = currentLookaheadToken;
+            boolean passedPredicate3986 = passedPredicate;
+            passedPredicate = false;
+            try {
+                if (!scanToken(COMMA)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token3986;
+                    hitFailure = false;
+                }
+            }
+            finally {
+                passedPredicate = passedPredicate3986;
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:409:15
+            if (!scanToken(IDENTIFIER, STRING_LITERAL, RAW_STRING)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:409:41
+            Token token3989 = currentLookaheadToken;
+            boolean passedPredicate3989 = passedPredicate;
+            passedPredicate = false;
+            try {
+                if (!check$FTL_javacc$409$42(false)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token3989;
+                    hitFailure = false;
+                }
+            }
+            finally {
+                passedPredicate = passedPredicate3989;
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:409:42
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$409$42(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:409:42
+            if (!scanToken(EQUALS)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:409:51
+            // NonTerminal Expression at /root/project/examples/freemarker/FTL.javacc:409:51
+            pushOntoLookaheadStack(35, "/root/project/examples/freemarker/FTL.javacc", 409, 51);
+            currentLookaheadProduction = 1;
+            try {
+                if (!check$Expression(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:416:19
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$416$19(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:416:19
+            if (!scanToken(EQUALS)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:416:28
+            // NonTerminal Expression at /root/project/examples/freemarker/FTL.javacc:416:28
+            pushOntoLookaheadStack(36, "/root/project/examples/freemarker/FTL.javacc", 416, 28);
+            currentLookaheadProduction = 1;
+            try {
+                if (!check$Expression(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:417:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$417$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:417:6
+            Token token3998 = currentLookaheadToken;
+            boolean passedPredicate3998 = passedPredicate;
+            passedPredicate = false;
+            try {
+                if (!scanToken(COMMA)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token3998;
+                    hitFailure = false;
+                }
+            }
+            finally {
+                passedPredicate = passedPredicate3998;
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:417:15
+            if (!scanToken(IDENTIFIER, STRING_LITERAL, RAW_STRING)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:417:41
+            Token token4001 = currentLookaheadToken;
+            boolean passedPredicate4001 = passedPredicate;
+            passedPredicate = false;
+            try {
+                if (!check$FTL_javacc$417$42(false)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token4001;
+                    hitFailure = false;
+                }
+            }
+            finally {
+                passedPredicate = passedPredicate4001;
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:417:42
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$417$42(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:417:42
+            if (!scanToken(EQUALS)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:417:51
+            // NonTerminal Expression at /root/project/examples/freemarker/FTL.javacc:417:51
+            pushOntoLookaheadStack(36, "/root/project/examples/freemarker/FTL.javacc", 417, 51);
+            currentLookaheadProduction = 1;
+            try {
+                if (!check$Expression(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:481:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$481$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:481:6
+            if (!scanToken(BLANK)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:481:13
+            // NonTerminal Expression at /root/project/examples/freemarker/FTL.javacc:481:13
+            pushOntoLookaheadStack(46, "/root/project/examples/freemarker/FTL.javacc", 481, 13);
+            currentLookaheadProduction = 1;
+            try {
+                if (!check$Expression(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:488:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$488$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:488:6
+            if (!scanToken(BLANK)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:488:13
+            // NonTerminal Expression at /root/project/examples/freemarker/FTL.javacc:488:13
+            pushOntoLookaheadStack(47, "/root/project/examples/freemarker/FTL.javacc", 488, 13);
+            currentLookaheadProduction = 1;
+            try {
+                if (!check$Expression(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:543:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$543$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:543:6
+            if (!scanToken(IDENTIFIER)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:543:18
+            if (!scanToken(EQUALS)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:543:26
+            // NonTerminal Expression at /root/project/examples/freemarker/FTL.javacc:543:26
+            pushOntoLookaheadStack(52, "/root/project/examples/freemarker/FTL.javacc", 543, 26);
+            currentLookaheadProduction = 1;
+            try {
+                if (!check$Expression(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:569:8
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$569$8(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:569:8
+            if (!scanToken(USING)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:570:8
+            // NonTerminal Expression at /root/project/examples/freemarker/FTL.javacc:570:8
+            pushOntoLookaheadStack(55, "/root/project/examples/freemarker/FTL.javacc", 570, 8);
+            currentLookaheadProduction = 1;
+            try {
+                if (!check$Expression(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for ZeroOrMore specified at /root/project/examples/freemarker/FTL.javacc:571:8
+            boolean passedPredicate4019 = passedPredicate;
+            try {
+                while (remainingLookahead > 0&&!hitFailure) {
+                    Token token4020 = currentLookaheadToken;
+                    passedPredicate = false;
+                    if (!check$FTL_javacc$572$12(false)) {
+                        if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                        currentLookaheadToken = token4020;
+                        break;
+                    }
+                }
+            }
+            finally {
+                passedPredicate = passedPredicate4019;
+            }
+            hitFailure = false;
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:572:12
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$572$12(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:572:12
+            Token token4023 = currentLookaheadToken;
+            boolean passedPredicate4023 = passedPredicate;
+            passedPredicate = false;
+            try {
+                if (!scanToken(COMMA)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token4023;
+                    hitFailure = false;
+                }
+            }
+            finally {
+                passedPredicate = passedPredicate4023;
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:573:12
+            // NonTerminal Expression at /root/project/examples/freemarker/FTL.javacc:573:12
+            pushOntoLookaheadStack(55, "/root/project/examples/freemarker/FTL.javacc", 573, 12);
+            currentLookaheadProduction = 1;
+            try {
+                if (!check$Expression(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:585:8
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$585$8(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:586:11
+            if (!scanToken(BLANK)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:587:11
+            Token token4030 = currentLookaheadToken;
+            boolean passedPredicate4030 = passedPredicate;
+            passedPredicate = false;
+            try {
+                if (!check$FTL_javacc$587$12(false)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token4030;
+                    hitFailure = false;
+                }
+            }
+            finally {
+                passedPredicate = passedPredicate4030;
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:588:11
+            Token token4032 = currentLookaheadToken;
+            boolean passedPredicate4032 = passedPredicate;
+            passedPredicate = false;
+            try {
+                if (!check$FTL_javacc$588$12(false)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token4032;
+                    hitFailure = false;
+                }
+            }
+            finally {
+                passedPredicate = passedPredicate4032;
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:592:11
+            if (!scanToken(CLOSE_TAG, CLOSE_EMPTY_TAG)) return false;
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:587:12
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$587$12(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:587:12
+            // NonTerminal Expression at /root/project/examples/freemarker/FTL.javacc:587:12
+            pushOntoLookaheadStack(56, "/root/project/examples/freemarker/FTL.javacc", 587, 12);
+            currentLookaheadProduction = 1;
+            try {
+                if (!check$Expression(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:588:12
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$588$12(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:588:12
+            if (!scanToken(USING)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:589:13
+            // NonTerminal Expression at /root/project/examples/freemarker/FTL.javacc:589:13
+            pushOntoLookaheadStack(56, "/root/project/examples/freemarker/FTL.javacc", 589, 13);
+            currentLookaheadProduction = 1;
+            try {
+                if (!check$Expression(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for ZeroOrMore specified at /root/project/examples/freemarker/FTL.javacc:590:13
+            boolean passedPredicate4047 = passedPredicate;
+            try {
+                while (remainingLookahead > 0&&!hitFailure) {
+                    Token token4048 = currentLookaheadToken;
+                    passedPredicate = false;
+                    if (!check$FTL_javacc$590$14(false)) {
+                        if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                        currentLookaheadToken = token4048;
+                        break;
+                    }
+                }
+            }
+            finally {
+                passedPredicate = passedPredicate4047;
+            }
+            hitFailure = false;
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:590:14
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$590$14(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:590:14
+            Token token4051 = currentLookaheadToken;
+            boolean passedPredicate4051 = passedPredicate;
+            passedPredicate = false;
+            try {
+                if (!scanToken(COMMA)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token4051;
+                    hitFailure = false;
+                }
+            }
+            finally {
+                passedPredicate = passedPredicate4051;
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:590:24
+            // NonTerminal Expression at /root/project/examples/freemarker/FTL.javacc:590:24
+            pushOntoLookaheadStack(56, "/root/project/examples/freemarker/FTL.javacc", 590, 24);
+            currentLookaheadProduction = 1;
+            try {
+                if (!check$Expression(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:609:7
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$609$7(boolean scanToEnd) {
+        int prevPassedPredicateThreshold = this.passedPredicateThreshold;
+        this.passedPredicateThreshold = -1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:609:7
+            // NonTerminal ElseIf at /root/project/examples/freemarker/FTL.javacc:609:7
+            pushOntoLookaheadStack(58, "/root/project/examples/freemarker/FTL.javacc", 609, 7);
+            currentLookaheadProduction = 59;
+            try {
+                if (!check$ElseIf(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if (remainingLookahead<=this.passedPredicateThreshold) {
+                passedPredicate = true;
+                this.passedPredicateThreshold = prevPassedPredicateThreshold;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:611:8
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$611$8(boolean scanToEnd) {
+        int prevPassedPredicateThreshold = this.passedPredicateThreshold;
+        this.passedPredicateThreshold = -1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:611:8
+            // NonTerminal Else at /root/project/examples/freemarker/FTL.javacc:611:8
+            pushOntoLookaheadStack(58, "/root/project/examples/freemarker/FTL.javacc", 611, 8);
+            currentLookaheadProduction = 60;
+            try {
+                if (!check$Else(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if (remainingLookahead<=this.passedPredicateThreshold) {
+                passedPredicate = true;
+                this.passedPredicateThreshold = prevPassedPredicateThreshold;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:641:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$641$6(boolean scanToEnd) {
+        int prevPassedPredicateThreshold = this.passedPredicateThreshold;
+        this.passedPredicateThreshold = -1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:641:6
+            // NonTerminal Case at /root/project/examples/freemarker/FTL.javacc:641:6
+            pushOntoLookaheadStack(61, "/root/project/examples/freemarker/FTL.javacc", 641, 6);
+            currentLookaheadProduction = 62;
+            try {
+                if (!check$Case(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if (remainingLookahead<=this.passedPredicateThreshold) {
+                passedPredicate = true;
+                this.passedPredicateThreshold = prevPassedPredicateThreshold;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:643:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$643$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:643:13
+            // NonTerminal Default at /root/project/examples/freemarker/FTL.javacc:643:13
+            pushOntoLookaheadStack(61, "/root/project/examples/freemarker/FTL.javacc", 643, 13);
+            currentLookaheadProduction = 63;
+            try {
+                if (!check$Default(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:687:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$687$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:687:6
+            if (!scanToken(BLANK)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:687:13
+            // NonTerminal PositionalArgsList at /root/project/examples/freemarker/FTL.javacc:687:13
+            pushOntoLookaheadStack(66, "/root/project/examples/freemarker/FTL.javacc", 687, 13);
+            currentLookaheadProduction = 30;
+            try {
+                if (!check$PositionalArgsList(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:704:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$704$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:704:6
+            // NonTerminal ParameterList at /root/project/examples/freemarker/FTL.javacc:704:6
+            pushOntoLookaheadStack(67, "/root/project/examples/freemarker/FTL.javacc", 704, 6);
+            currentLookaheadProduction = 68;
+            try {
+                if (!check$ParameterList(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:716:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$716$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:716:6
+            Token token4067 = currentLookaheadToken;
+            int remainingLookahead4067 = remainingLookahead;
+            boolean hitFailure4067 = hitFailure, passedPredicate4067 = passedPredicate;
+            try {
+                passedPredicate = false;
+                if (!check$FTL_javacc$716$6$(false)) {
+                    currentLookaheadToken = token4067;
+                    remainingLookahead = remainingLookahead4067;
+                    hitFailure = hitFailure4067;
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    passedPredicate = false;
+                    if (!scanToken(ELLIPSIS)) {
+                        currentLookaheadToken = token4067;
+                        remainingLookahead = remainingLookahead4067;
+                        hitFailure = hitFailure4067;
+                        return false;
+                    }
+                }
+            }
+            finally {
+                passedPredicate = passedPredicate4067;
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:716:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$716$6$(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:716:7
+            if (!scanToken(EQUALS)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:716:15
+            // NonTerminal Expression at /root/project/examples/freemarker/FTL.javacc:716:15
+            pushOntoLookaheadStack(68, "/root/project/examples/freemarker/FTL.javacc", 716, 15);
+            currentLookaheadProduction = 1;
+            try {
+                if (!check$Expression(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:718:8
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$718$8(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:718:8
+            Token token4078 = currentLookaheadToken;
+            boolean passedPredicate4078 = passedPredicate;
+            passedPredicate = false;
+            try {
+                if (!scanToken(COMMA)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token4078;
+                    hitFailure = false;
+                }
+            }
+            finally {
+                passedPredicate = passedPredicate4078;
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:719:8
+            if (!scanToken(IDENTIFIER)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:720:8
+            Token token4081 = currentLookaheadToken;
+            boolean passedPredicate4081 = passedPredicate;
+            passedPredicate = false;
+            try {
+                if (!check$FTL_javacc$721$11(false)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token4081;
+                    hitFailure = false;
+                }
+            }
+            finally {
+                passedPredicate = passedPredicate4081;
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:721:11
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$721$11(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:721:11
+            Token token4083 = currentLookaheadToken;
+            int remainingLookahead4083 = remainingLookahead;
+            boolean hitFailure4083 = hitFailure, passedPredicate4083 = passedPredicate;
+            try {
+                passedPredicate = false;
+                if (!check$FTL_javacc$721$11$(false)) {
+                    currentLookaheadToken = token4083;
+                    remainingLookahead = remainingLookahead4083;
+                    hitFailure = hitFailure4083;
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    passedPredicate = false;
+                    if (!scanToken(ELLIPSIS)) {
+                        currentLookaheadToken = token4083;
+                        remainingLookahead = remainingLookahead4083;
+                        hitFailure = hitFailure4083;
+                        return false;
+                    }
+                }
+            }
+            finally {
+                passedPredicate = passedPredicate4083;
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:721:11
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$721$11$(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:721:12
+            if (!scanToken(EQUALS)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:721:20
+            // NonTerminal Expression at /root/project/examples/freemarker/FTL.javacc:721:20
+            pushOntoLookaheadStack(68, "/root/project/examples/freemarker/FTL.javacc", 721, 20);
+            currentLookaheadProduction = 1;
+            try {
+                if (!check$Expression(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:767:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$767$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:767:13
+            // NonTerminal Assignment at /root/project/examples/freemarker/FTL.javacc:767:13
+            pushOntoLookaheadStack(73, "/root/project/examples/freemarker/FTL.javacc", 767, 13);
+            currentLookaheadProduction = 34;
+            try {
+                if (!check$Assignment(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:768:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$768$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:768:13
+            // NonTerminal Attempt at /root/project/examples/freemarker/FTL.javacc:768:13
+            pushOntoLookaheadStack(73, "/root/project/examples/freemarker/FTL.javacc", 768, 13);
+            currentLookaheadProduction = 37;
+            try {
+                if (!check$Attempt(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:769:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$769$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:769:13
+            // NonTerminal Comment at /root/project/examples/freemarker/FTL.javacc:769:13
+            pushOntoLookaheadStack(73, "/root/project/examples/freemarker/FTL.javacc", 769, 13);
+            currentLookaheadProduction = 38;
+            try {
+                if (!check$Comment(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:770:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$770$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:770:13
+            // NonTerminal Compress at /root/project/examples/freemarker/FTL.javacc:770:13
+            pushOntoLookaheadStack(73, "/root/project/examples/freemarker/FTL.javacc", 770, 13);
+            currentLookaheadProduction = 48;
+            try {
+                if (!check$Compress(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:771:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$771$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:771:13
+            // NonTerminal Embed at /root/project/examples/freemarker/FTL.javacc:771:13
+            pushOntoLookaheadStack(73, "/root/project/examples/freemarker/FTL.javacc", 771, 13);
+            currentLookaheadProduction = 53;
+            try {
+                if (!check$Embed(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:772:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$772$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:772:13
+            // NonTerminal ForEach at /root/project/examples/freemarker/FTL.javacc:772:13
+            pushOntoLookaheadStack(73, "/root/project/examples/freemarker/FTL.javacc", 772, 13);
+            currentLookaheadProduction = 65;
+            try {
+                if (!check$ForEach(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:773:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$773$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:773:13
+            // NonTerminal If at /root/project/examples/freemarker/FTL.javacc:773:13
+            pushOntoLookaheadStack(73, "/root/project/examples/freemarker/FTL.javacc", 773, 13);
+            currentLookaheadProduction = 58;
+            try {
+                if (!check$If(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:774:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$774$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:774:13
+            // NonTerminal List at /root/project/examples/freemarker/FTL.javacc:774:13
+            pushOntoLookaheadStack(73, "/root/project/examples/freemarker/FTL.javacc", 774, 13);
+            currentLookaheadProduction = 64;
+            try {
+                if (!check$List(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:775:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$775$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:775:13
+            // NonTerminal Include at /root/project/examples/freemarker/FTL.javacc:775:13
+            pushOntoLookaheadStack(73, "/root/project/examples/freemarker/FTL.javacc", 775, 13);
+            currentLookaheadProduction = 52;
+            try {
+                if (!check$Include(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:776:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$776$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:776:13
+            // NonTerminal Import at /root/project/examples/freemarker/FTL.javacc:776:13
+            pushOntoLookaheadStack(73, "/root/project/examples/freemarker/FTL.javacc", 776, 13);
+            currentLookaheadProduction = 54;
+            try {
+                if (!check$Import(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:777:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$777$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:777:13
+            // NonTerminal MacroDefinition at /root/project/examples/freemarker/FTL.javacc:777:13
+            pushOntoLookaheadStack(73, "/root/project/examples/freemarker/FTL.javacc", 777, 13);
+            currentLookaheadProduction = 67;
+            try {
+                if (!check$MacroDefinition(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:778:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$778$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:778:13
+            // NonTerminal NoParse at /root/project/examples/freemarker/FTL.javacc:778:13
+            pushOntoLookaheadStack(73, "/root/project/examples/freemarker/FTL.javacc", 778, 13);
+            currentLookaheadProduction = 39;
+            try {
+                if (!check$NoParse(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:779:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$779$6(boolean scanToEnd) {
+        int prevPassedPredicateThreshold = this.passedPredicateThreshold;
+        this.passedPredicateThreshold = -1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:779:6
+            // NonTerminal Switch at /root/project/examples/freemarker/FTL.javacc:779:6
+            pushOntoLookaheadStack(73, "/root/project/examples/freemarker/FTL.javacc", 779, 6);
+            currentLookaheadProduction = 61;
+            try {
+                if (!check$Switch(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if (remainingLookahead<=this.passedPredicateThreshold) {
+                passedPredicate = true;
+                this.passedPredicateThreshold = prevPassedPredicateThreshold;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:780:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$780$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:780:13
+            // NonTerminal Setting at /root/project/examples/freemarker/FTL.javacc:780:13
+            pushOntoLookaheadStack(73, "/root/project/examples/freemarker/FTL.javacc", 780, 13);
+            currentLookaheadProduction = 36;
+            try {
+                if (!check$Setting(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:781:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$781$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:781:13
+            // NonTerminal Var at /root/project/examples/freemarker/FTL.javacc:781:13
+            pushOntoLookaheadStack(73, "/root/project/examples/freemarker/FTL.javacc", 781, 13);
+            currentLookaheadProduction = 35;
+            try {
+                if (!check$Var(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:782:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$782$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:782:13
+            // NonTerminal Break at /root/project/examples/freemarker/FTL.javacc:782:13
+            pushOntoLookaheadStack(73, "/root/project/examples/freemarker/FTL.javacc", 782, 13);
+            currentLookaheadProduction = 44;
+            try {
+                if (!check$Break(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:783:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$783$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:783:13
+            // NonTerminal Return at /root/project/examples/freemarker/FTL.javacc:783:13
+            pushOntoLookaheadStack(73, "/root/project/examples/freemarker/FTL.javacc", 783, 13);
+            currentLookaheadProduction = 46;
+            try {
+                if (!check$Return(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:784:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$784$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:784:13
+            // NonTerminal Stop at /root/project/examples/freemarker/FTL.javacc:784:13
+            pushOntoLookaheadStack(73, "/root/project/examples/freemarker/FTL.javacc", 784, 13);
+            currentLookaheadProduction = 47;
+            try {
+                if (!check$Stop(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:785:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$785$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:785:13
+            // NonTerminal Flush at /root/project/examples/freemarker/FTL.javacc:785:13
+            pushOntoLookaheadStack(73, "/root/project/examples/freemarker/FTL.javacc", 785, 13);
+            currentLookaheadProduction = 45;
+            try {
+                if (!check$Flush(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:786:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$786$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:786:13
+            // NonTerminal Trim at /root/project/examples/freemarker/FTL.javacc:786:13
+            pushOntoLookaheadStack(73, "/root/project/examples/freemarker/FTL.javacc", 786, 13);
+            currentLookaheadProduction = 40;
+            try {
+                if (!check$Trim(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:787:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$787$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:787:13
+            // NonTerminal NoTrim at /root/project/examples/freemarker/FTL.javacc:787:13
+            pushOntoLookaheadStack(73, "/root/project/examples/freemarker/FTL.javacc", 787, 13);
+            currentLookaheadProduction = 41;
+            try {
+                if (!check$NoTrim(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:788:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$788$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:788:13
+            // NonTerminal LeftTrim at /root/project/examples/freemarker/FTL.javacc:788:13
+            pushOntoLookaheadStack(73, "/root/project/examples/freemarker/FTL.javacc", 788, 13);
+            currentLookaheadProduction = 43;
+            try {
+                if (!check$LeftTrim(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:789:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$789$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:789:13
+            // NonTerminal RightTrim at /root/project/examples/freemarker/FTL.javacc:789:13
+            pushOntoLookaheadStack(73, "/root/project/examples/freemarker/FTL.javacc", 789, 13);
+            currentLookaheadProduction = 42;
+            try {
+                if (!check$RightTrim(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:790:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$790$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:790:13
+            // NonTerminal TrimBlock at /root/project/examples/freemarker/FTL.javacc:790:13
+            pushOntoLookaheadStack(73, "/root/project/examples/freemarker/FTL.javacc", 790, 13);
+            currentLookaheadProduction = 49;
+            try {
+                if (!check$TrimBlock(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:791:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$791$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:791:13
+            // NonTerminal Nested at /root/project/examples/freemarker/FTL.javacc:791:13
+            pushOntoLookaheadStack(73, "/root/project/examples/freemarker/FTL.javacc", 791, 13);
+            currentLookaheadProduction = 66;
+            try {
+                if (!check$Nested(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:792:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$792$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:792:13
+            // NonTerminal EscapeBlock at /root/project/examples/freemarker/FTL.javacc:792:13
+            pushOntoLookaheadStack(73, "/root/project/examples/freemarker/FTL.javacc", 792, 13);
+            currentLookaheadProduction = 51;
+            try {
+                if (!check$EscapeBlock(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:793:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$793$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:793:13
+            // NonTerminal NoEscapeBlock at /root/project/examples/freemarker/FTL.javacc:793:13
+            pushOntoLookaheadStack(73, "/root/project/examples/freemarker/FTL.javacc", 793, 13);
+            currentLookaheadProduction = 50;
+            try {
+                if (!check$NoEscapeBlock(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:794:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$794$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:794:13
+            // NonTerminal Visit at /root/project/examples/freemarker/FTL.javacc:794:13
+            pushOntoLookaheadStack(73, "/root/project/examples/freemarker/FTL.javacc", 794, 13);
+            currentLookaheadProduction = 55;
+            try {
+                if (!check$Visit(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:795:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$795$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:795:13
+            // NonTerminal Recurse at /root/project/examples/freemarker/FTL.javacc:795:13
+            pushOntoLookaheadStack(73, "/root/project/examples/freemarker/FTL.javacc", 795, 13);
+            currentLookaheadProduction = 56;
+            try {
+                if (!check$Recurse(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:796:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$796$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:796:13
+            // NonTerminal FallBack at /root/project/examples/freemarker/FTL.javacc:796:13
+            pushOntoLookaheadStack(73, "/root/project/examples/freemarker/FTL.javacc", 796, 13);
+            currentLookaheadProduction = 57;
+            try {
+                if (!check$FallBack(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:813:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$813$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:813:6
+            // NonTerminal ArgsList at /root/project/examples/freemarker/FTL.javacc:813:6
+            pushOntoLookaheadStack(74, "/root/project/examples/freemarker/FTL.javacc", 813, 6);
+            currentLookaheadProduction = 28;
+            try {
+                if (!check$ArgsList(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:814:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$814$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:814:6
+            if (!scanToken(SEMICOLON)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:814:17
+            Token token4159 = currentLookaheadToken;
+            boolean passedPredicate4159 = passedPredicate;
+            passedPredicate = false;
+            try {
+                if (!check$FTL_javacc$814$18(false)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token4159;
+                    hitFailure = false;
+                }
+            }
+            finally {
+                passedPredicate = passedPredicate4159;
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:814:18
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$814$18(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:814:18
+            // NonTerminal ParameterList at /root/project/examples/freemarker/FTL.javacc:814:18
+            pushOntoLookaheadStack(74, "/root/project/examples/freemarker/FTL.javacc", 814, 18);
+            currentLookaheadProduction = 68;
+            try {
+                if (!check$ParameterList(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:818:8
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$818$8(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:819:11
+            if (!scanToken(CLOSE_TAG)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:820:11
+            // NonTerminal Block at /root/project/examples/freemarker/FTL.javacc:820:11
+            pushOntoLookaheadStack(74, "/root/project/examples/freemarker/FTL.javacc", 820, 11);
+            currentLookaheadProduction = 75;
+            try {
+                if (!check$Block(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:821:12
+            if (!scanToken(END_USER_DIRECTIVE1, END_USER_DIRECTIVE2)) return false;
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:828:5
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$828$5(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:830:6
+            Token token4177 = currentLookaheadToken;
+            int remainingLookahead4177 = remainingLookahead;
+            boolean hitFailure4177 = hitFailure, passedPredicate4177 = passedPredicate;
+            try {
+                passedPredicate = false;
+                if (!check$FTL_javacc$830$6(false)) {
+                    currentLookaheadToken = token4177;
+                    remainingLookahead = remainingLookahead4177;
+                    hitFailure = hitFailure4177;
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    passedPredicate = false;
+                    if (!check$FTL_javacc$832$6(false)) {
+                        currentLookaheadToken = token4177;
+                        remainingLookahead = remainingLookahead4177;
+                        hitFailure = hitFailure4177;
+                        if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                        passedPredicate = false;
+                        if (!check$FTL_javacc$834$6(false)) {
+                            currentLookaheadToken = token4177;
+                            remainingLookahead = remainingLookahead4177;
+                            hitFailure = hitFailure4177;
+                            if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                            passedPredicate = false;
+                            if (!check$FTL_javacc$836$6(false)) {
+                                currentLookaheadToken = token4177;
+                                remainingLookahead = remainingLookahead4177;
+                                hitFailure = hitFailure4177;
+                                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                                passedPredicate = false;
+                                if (!check$FTL_javacc$838$6(false)) {
+                                    currentLookaheadToken = token4177;
+                                    remainingLookahead = remainingLookahead4177;
+                                    hitFailure = hitFailure4177;
+                                    return false;
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+            finally {
+                passedPredicate = passedPredicate4177;
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:830:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$830$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:830:6
+            // NonTerminal Text at /root/project/examples/freemarker/FTL.javacc:830:6
+            pushOntoLookaheadStack(75, "/root/project/examples/freemarker/FTL.javacc", 830, 6);
+            currentLookaheadProduction = 71;
+            try {
+                if (!check$Text(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:832:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$832$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:832:6
+            // NonTerminal Interpolation at /root/project/examples/freemarker/FTL.javacc:832:6
+            pushOntoLookaheadStack(75, "/root/project/examples/freemarker/FTL.javacc", 832, 6);
+            currentLookaheadProduction = 32;
+            try {
+                if (!check$Interpolation(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:834:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$834$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:834:6
+            // NonTerminal NumericalInterpolation at /root/project/examples/freemarker/FTL.javacc:834:6
+            pushOntoLookaheadStack(75, "/root/project/examples/freemarker/FTL.javacc", 834, 6);
+            currentLookaheadProduction = 33;
+            try {
+                if (!check$NumericalInterpolation(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:836:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$836$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:836:6
+            // NonTerminal UserDirective at /root/project/examples/freemarker/FTL.javacc:836:6
+            pushOntoLookaheadStack(75, "/root/project/examples/freemarker/FTL.javacc", 836, 6);
+            currentLookaheadProduction = 74;
+            try {
+                if (!check$UserDirective(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/freemarker/FTL.javacc:838:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$838$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:838:6
+            // NonTerminal TopLevelDirective at /root/project/examples/freemarker/FTL.javacc:838:6
+            pushOntoLookaheadStack(75, "/root/project/examples/freemarker/FTL.javacc", 838, 6);
+            currentLookaheadProduction = 73;
+            try {
+                if (!check$TopLevelDirective(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // BuildPredicateRoutine: expansion at FEL.javacc:214:11
+    private final boolean scan$FEL_javacc$214$11() {
+        remainingLookahead = UNLIMITED;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at FEL.javacc:214:14
+            // NonTerminal AdditiveExpression at FEL.javacc:214:14
+            pushOntoLookaheadStack(6, "FEL.javacc", 214, 14);
+            currentLookaheadProduction = 7;
+            try {
+                if (!check$AdditiveExpression(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+            return true;
+        }
+        finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at FEL.javacc:261:9
+    private final boolean scan$FEL_javacc$261$9() {
+        remainingLookahead = UNLIMITED;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at FEL.javacc:262:12
+            if (!scanToken(EXCLAM)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at FEL.javacc:262:20
+            // NonTerminal PrimaryExpression at FEL.javacc:262:20
+            pushOntoLookaheadStack(13, "FEL.javacc", 262, 20);
+            currentLookaheadProduction = 14;
+            try {
+                if (!check$PrimaryExpression(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+            return true;
+        }
+        finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at FEL.javacc:362:9
+    private final boolean scan$FEL_javacc$362$9() {
+        remainingLookahead = UNLIMITED;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            if (remainingLookahead<=0) {
+                passedPredicate = true;
+                return!hitFailure;
+            }
+            if (!check$FEL_javacc$362$14(true)) return false;
+            // End BuildPredicateCode macro
+            return true;
+        }
+        finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:609:7
+    private final boolean scan$FTL_javacc$609$7() {
+        remainingLookahead = UNLIMITED;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:609:7
+            // NonTerminal ElseIf at /root/project/examples/freemarker/FTL.javacc:609:7
+            pushOntoLookaheadStack(58, "/root/project/examples/freemarker/FTL.javacc", 609, 7);
+            currentLookaheadProduction = 59;
+            try {
+                if (!check$ElseIf(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+            return true;
+        }
+        finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:611:8
+    private final boolean scan$FTL_javacc$611$8() {
+        remainingLookahead = UNLIMITED;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:611:8
+            // NonTerminal Else at /root/project/examples/freemarker/FTL.javacc:611:8
+            pushOntoLookaheadStack(58, "/root/project/examples/freemarker/FTL.javacc", 611, 8);
+            currentLookaheadProduction = 60;
+            try {
+                if (!check$Else(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+            return true;
+        }
+        finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:641:6
+    private final boolean scan$FTL_javacc$641$6() {
+        remainingLookahead = UNLIMITED;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:641:6
+            // NonTerminal Case at /root/project/examples/freemarker/FTL.javacc:641:6
+            pushOntoLookaheadStack(61, "/root/project/examples/freemarker/FTL.javacc", 641, 6);
+            currentLookaheadProduction = 62;
+            try {
+                if (!check$Case(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+            return true;
+        }
+        finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:643:6
+    private final boolean scan$FTL_javacc$643$6() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:643:13
+            // NonTerminal Default at /root/project/examples/freemarker/FTL.javacc:643:13
+            pushOntoLookaheadStack(61, "/root/project/examples/freemarker/FTL.javacc", 643, 13);
+            currentLookaheadProduction = 63;
+            try {
+                if (!check$Default(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+            return true;
+        }
+        finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:767:6
+    private final boolean scan$FTL_javacc$767$6() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:767:13
+            // NonTerminal Assignment at /root/project/examples/freemarker/FTL.javacc:767:13
+            pushOntoLookaheadStack(73, "/root/project/examples/freemarker/FTL.javacc", 767, 13);
+            currentLookaheadProduction = 34;
+            try {
+                if (!check$Assignment(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+            return true;
+        }
+        finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:768:6
+    private final boolean scan$FTL_javacc$768$6() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:768:13
+            // NonTerminal Attempt at /root/project/examples/freemarker/FTL.javacc:768:13
+            pushOntoLookaheadStack(73, "/root/project/examples/freemarker/FTL.javacc", 768, 13);
+            currentLookaheadProduction = 37;
+            try {
+                if (!check$Attempt(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+            return true;
+        }
+        finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:769:6
+    private final boolean scan$FTL_javacc$769$6() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:769:13
+            // NonTerminal Comment at /root/project/examples/freemarker/FTL.javacc:769:13
+            pushOntoLookaheadStack(73, "/root/project/examples/freemarker/FTL.javacc", 769, 13);
+            currentLookaheadProduction = 38;
+            try {
+                if (!check$Comment(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+            return true;
+        }
+        finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:770:6
+    private final boolean scan$FTL_javacc$770$6() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:770:13
+            // NonTerminal Compress at /root/project/examples/freemarker/FTL.javacc:770:13
+            pushOntoLookaheadStack(73, "/root/project/examples/freemarker/FTL.javacc", 770, 13);
+            currentLookaheadProduction = 48;
+            try {
+                if (!check$Compress(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+            return true;
+        }
+        finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:771:6
+    private final boolean scan$FTL_javacc$771$6() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:771:13
+            // NonTerminal Embed at /root/project/examples/freemarker/FTL.javacc:771:13
+            pushOntoLookaheadStack(73, "/root/project/examples/freemarker/FTL.javacc", 771, 13);
+            currentLookaheadProduction = 53;
+            try {
+                if (!check$Embed(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+            return true;
+        }
+        finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:772:6
+    private final boolean scan$FTL_javacc$772$6() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:772:13
+            // NonTerminal ForEach at /root/project/examples/freemarker/FTL.javacc:772:13
+            pushOntoLookaheadStack(73, "/root/project/examples/freemarker/FTL.javacc", 772, 13);
+            currentLookaheadProduction = 65;
+            try {
+                if (!check$ForEach(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+            return true;
+        }
+        finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:773:6
+    private final boolean scan$FTL_javacc$773$6() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:773:13
+            // NonTerminal If at /root/project/examples/freemarker/FTL.javacc:773:13
+            pushOntoLookaheadStack(73, "/root/project/examples/freemarker/FTL.javacc", 773, 13);
+            currentLookaheadProduction = 58;
+            try {
+                if (!check$If(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+            return true;
+        }
+        finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:774:6
+    private final boolean scan$FTL_javacc$774$6() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:774:13
+            // NonTerminal List at /root/project/examples/freemarker/FTL.javacc:774:13
+            pushOntoLookaheadStack(73, "/root/project/examples/freemarker/FTL.javacc", 774, 13);
+            currentLookaheadProduction = 64;
+            try {
+                if (!check$List(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+            return true;
+        }
+        finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:775:6
+    private final boolean scan$FTL_javacc$775$6() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:775:13
+            // NonTerminal Include at /root/project/examples/freemarker/FTL.javacc:775:13
+            pushOntoLookaheadStack(73, "/root/project/examples/freemarker/FTL.javacc", 775, 13);
+            currentLookaheadProduction = 52;
+            try {
+                if (!check$Include(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+            return true;
+        }
+        finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:776:6
+    private final boolean scan$FTL_javacc$776$6() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:776:13
+            // NonTerminal Import at /root/project/examples/freemarker/FTL.javacc:776:13
+            pushOntoLookaheadStack(73, "/root/project/examples/freemarker/FTL.javacc", 776, 13);
+            currentLookaheadProduction = 54;
+            try {
+                if (!check$Import(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+            return true;
+        }
+        finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:777:6
+    private final boolean scan$FTL_javacc$777$6() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:777:13
+            // NonTerminal MacroDefinition at /root/project/examples/freemarker/FTL.javacc:777:13
+            pushOntoLookaheadStack(73, "/root/project/examples/freemarker/FTL.javacc", 777, 13);
+            currentLookaheadProduction = 67;
+            try {
+                if (!check$MacroDefinition(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+            return true;
+        }
+        finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:778:6
+    private final boolean scan$FTL_javacc$778$6() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:778:13
+            // NonTerminal NoParse at /root/project/examples/freemarker/FTL.javacc:778:13
+            pushOntoLookaheadStack(73, "/root/project/examples/freemarker/FTL.javacc", 778, 13);
+            currentLookaheadProduction = 39;
+            try {
+                if (!check$NoParse(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+            return true;
+        }
+        finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:779:6
+    private final boolean scan$FTL_javacc$779$6() {
+        remainingLookahead = UNLIMITED;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:779:6
+            // NonTerminal Switch at /root/project/examples/freemarker/FTL.javacc:779:6
+            pushOntoLookaheadStack(73, "/root/project/examples/freemarker/FTL.javacc", 779, 6);
+            currentLookaheadProduction = 61;
+            try {
+                if (!check$Switch(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+            return true;
+        }
+        finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:780:6
+    private final boolean scan$FTL_javacc$780$6() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:780:13
+            // NonTerminal Setting at /root/project/examples/freemarker/FTL.javacc:780:13
+            pushOntoLookaheadStack(73, "/root/project/examples/freemarker/FTL.javacc", 780, 13);
+            currentLookaheadProduction = 36;
+            try {
+                if (!check$Setting(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+            return true;
+        }
+        finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:781:6
+    private final boolean scan$FTL_javacc$781$6() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:781:13
+            // NonTerminal Var at /root/project/examples/freemarker/FTL.javacc:781:13
+            pushOntoLookaheadStack(73, "/root/project/examples/freemarker/FTL.javacc", 781, 13);
+            currentLookaheadProduction = 35;
+            try {
+                if (!check$Var(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+            return true;
+        }
+        finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:782:6
+    private final boolean scan$FTL_javacc$782$6() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:782:13
+            // NonTerminal Break at /root/project/examples/freemarker/FTL.javacc:782:13
+            pushOntoLookaheadStack(73, "/root/project/examples/freemarker/FTL.javacc", 782, 13);
+            currentLookaheadProduction = 44;
+            try {
+                if (!check$Break(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+            return true;
+        }
+        finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:783:6
+    private final boolean scan$FTL_javacc$783$6() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:783:13
+            // NonTerminal Return at /root/project/examples/freemarker/FTL.javacc:783:13
+            pushOntoLookaheadStack(73, "/root/project/examples/freemarker/FTL.javacc", 783, 13);
+            currentLookaheadProduction = 46;
+            try {
+                if (!check$Return(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+            return true;
+        }
+        finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:784:6
+    private final boolean scan$FTL_javacc$784$6() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:784:13
+            // NonTerminal Stop at /root/project/examples/freemarker/FTL.javacc:784:13
+            pushOntoLookaheadStack(73, "/root/project/examples/freemarker/FTL.javacc", 784, 13);
+            currentLookaheadProduction = 47;
+            try {
+                if (!check$Stop(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+            return true;
+        }
+        finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:785:6
+    private final boolean scan$FTL_javacc$785$6() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:785:13
+            // NonTerminal Flush at /root/project/examples/freemarker/FTL.javacc:785:13
+            pushOntoLookaheadStack(73, "/root/project/examples/freemarker/FTL.javacc", 785, 13);
+            currentLookaheadProduction = 45;
+            try {
+                if (!check$Flush(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+            return true;
+        }
+        finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:786:6
+    private final boolean scan$FTL_javacc$786$6() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:786:13
+            // NonTerminal Trim at /root/project/examples/freemarker/FTL.javacc:786:13
+            pushOntoLookaheadStack(73, "/root/project/examples/freemarker/FTL.javacc", 786, 13);
+            currentLookaheadProduction = 40;
+            try {
+                if (!check$Trim(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+            return true;
+        }
+        finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:787:6
+    private final boolean scan$FTL_javacc$787$6() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:787:13
+            // NonTerminal NoTrim at /root/project/examples/freemarker/FTL.javacc:787:13
+            pushOntoLookaheadStack(73, "/root/project/examples/freemarker/FTL.javacc", 787, 13);
+            currentLookaheadProduction = 41;
+            try {
+                if (!check$NoTrim(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+            return true;
+        }
+        finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:788:6
+    private final boolean scan$FTL_javacc$788$6() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:788:13
+            // NonTerminal LeftTrim at /root/project/examples/freemarker/FTL.javacc:788:13
+            pushOntoLookaheadStack(73, "/root/project/examples/freemarker/FTL.javacc", 788, 13);
+            currentLookaheadProduction = 43;
+            try {
+                if (!check$LeftTrim(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+            return true;
+        }
+        finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:789:6
+    private final boolean scan$FTL_javacc$789$6() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:789:13
+            // NonTerminal RightTrim at /root/project/examples/freemarker/FTL.javacc:789:13
+            pushOntoLookaheadStack(73, "/root/project/examples/freemarker/FTL.javacc", 789, 13);
+            currentLookaheadProduction = 42;
+            try {
+                if (!check$RightTrim(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+            return true;
+        }
+        finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:790:6
+    private final boolean scan$FTL_javacc$790$6() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:790:13
+            // NonTerminal TrimBlock at /root/project/examples/freemarker/FTL.javacc:790:13
+            pushOntoLookaheadStack(73, "/root/project/examples/freemarker/FTL.javacc", 790, 13);
+            currentLookaheadProduction = 49;
+            try {
+                if (!check$TrimBlock(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+            return true;
+        }
+        finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:791:6
+    private final boolean scan$FTL_javacc$791$6() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:791:13
+            // NonTerminal Nested at /root/project/examples/freemarker/FTL.javacc:791:13
+            pushOntoLookaheadStack(73, "/root/project/examples/freemarker/FTL.javacc", 791, 13);
+            currentLookaheadProduction = 66;
+            try {
+                if (!check$Nested(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+            return true;
+        }
+        finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:792:6
+    private final boolean scan$FTL_javacc$792$6() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:792:13
+            // NonTerminal EscapeBlock at /root/project/examples/freemarker/FTL.javacc:792:13
+            pushOntoLookaheadStack(73, "/root/project/examples/freemarker/FTL.javacc", 792, 13);
+            currentLookaheadProduction = 51;
+            try {
+                if (!check$EscapeBlock(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+            return true;
+        }
+        finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:793:6
+    private final boolean scan$FTL_javacc$793$6() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:793:13
+            // NonTerminal NoEscapeBlock at /root/project/examples/freemarker/FTL.javacc:793:13
+            pushOntoLookaheadStack(73, "/root/project/examples/freemarker/FTL.javacc", 793, 13);
+            currentLookaheadProduction = 50;
+            try {
+                if (!check$NoEscapeBlock(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+            return true;
+        }
+        finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:794:6
+    private final boolean scan$FTL_javacc$794$6() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:794:13
+            // NonTerminal Visit at /root/project/examples/freemarker/FTL.javacc:794:13
+            pushOntoLookaheadStack(73, "/root/project/examples/freemarker/FTL.javacc", 794, 13);
+            currentLookaheadProduction = 55;
+            try {
+                if (!check$Visit(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+            return true;
+        }
+        finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:795:6
+    private final boolean scan$FTL_javacc$795$6() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:795:13
+            // NonTerminal Recurse at /root/project/examples/freemarker/FTL.javacc:795:13
+            pushOntoLookaheadStack(73, "/root/project/examples/freemarker/FTL.javacc", 795, 13);
+            currentLookaheadProduction = 56;
+            try {
+                if (!check$Recurse(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+            return true;
+        }
+        finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:796:6
+    private final boolean scan$FTL_javacc$796$6() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:796:13
+            // NonTerminal FallBack at /root/project/examples/freemarker/FTL.javacc:796:13
+            pushOntoLookaheadStack(73, "/root/project/examples/freemarker/FTL.javacc", 796, 13);
+            currentLookaheadProduction = 57;
+            try {
+                if (!check$FallBack(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+            return true;
+        }
+        finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:828:5
+    private final boolean scan$FTL_javacc$828$5() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:830:6
+            Token token4317 = currentLookaheadToken;
+            int remainingLookahead4317 = remainingLookahead;
+            boolean hitFailure4317 = hitFailure, passedPredicate4317 = passedPredicate;
+            try {
+                passedPredicate = false;
+                if (!check$FTL_javacc$830$6(false)) {
+                    currentLookaheadToken = token4317;
+                    remainingLookahead = remainingLookahead4317;
+                    hitFailure = hitFailure4317;
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    passedPredicate = false;
+                    if (!check$FTL_javacc$832$6(false)) {
+                        currentLookaheadToken = token4317;
+                        remainingLookahead = remainingLookahead4317;
+                        hitFailure = hitFailure4317;
+                        if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                        passedPredicate = false;
+                        if (!check$FTL_javacc$834$6(false)) {
+                            currentLookaheadToken = token4317;
+                            remainingLookahead = remainingLookahead4317;
+                            hitFailure = hitFailure4317;
+                            if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                            passedPredicate = false;
+                            if (!check$FTL_javacc$836$6(false)) {
+                                currentLookaheadToken = token4317;
+                                remainingLookahead = remainingLookahead4317;
+                                hitFailure = hitFailure4317;
+                                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                                passedPredicate = false;
+                                if (!check$FTL_javacc$838$6(false)) {
+                                    currentLookaheadToken = token4317;
+                                    remainingLookahead = remainingLookahead4317;
+                                    hitFailure = hitFailure4317;
+                                    return false;
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+            finally {
+                passedPredicate = passedPredicate4317;
+            }
+            return true;
+        }
+        finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:861:9
+    private final boolean scan$FTL_javacc$861$9() {
+        remainingLookahead = UNLIMITED;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            if (remainingLookahead<=0) {
+                passedPredicate = true;
+                return!hitFailure;
+            }
+            if (!check$FTL_javacc$861$14(true)) return false;
+            // End BuildPredicateCode macro
+            return true;
+        }
+        finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // lookahead routine for lookahead at: 
+    // FEL.javacc:362:9
+    private final boolean check$FEL_javacc$362$14(boolean scanToEnd) {
+        int prevRemainingLookahead = remainingLookahead;
+        boolean prevHitFailure = hitFailure;
+        Token prevScanAheadToken = currentLookaheadToken;
+        try {
+            lookaheadRoutineNesting++;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at FEL.javacc:362:14
+            if (!scanToken(IDENTIFIER)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at FEL.javacc:362:26
+            if (!scanToken(EQUALS)) return false;
+            return!hitFailure;
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            currentLookaheadToken = prevScanAheadToken;
+            remainingLookahead = prevRemainingLookahead;
+            hitFailure = prevHitFailure;
+        }
+    }
+
+    // lookahead routine for lookahead at: 
+    // /root/project/examples/freemarker/FTL.javacc:861:9
+    private final boolean check$FTL_javacc$861$14(boolean scanToEnd) {
+        int prevRemainingLookahead = remainingLookahead;
+        boolean prevHitFailure = hitFailure;
+        Token prevScanAheadToken = currentLookaheadToken;
+        try {
+            lookaheadRoutineNesting++;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:861:14
+            Token token4323 = currentLookaheadToken;
+            boolean passedPredicate4323 = passedPredicate;
+            passedPredicate = false;
+            try {
+                if (!scanToken(WHITESPACE)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token4323;
+                    hitFailure = false;
+                }
+            }
+            finally {
+                passedPredicate = passedPredicate4323;
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:862:10
+            if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:863:9
+            if (!scanToken(FTL)) return false;
+            return!hitFailure;
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            currentLookaheadToken = prevScanAheadToken;
+            remainingLookahead = prevRemainingLookahead;
+            hitFailure = prevHitFailure;
+        }
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$Expression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at FEL.javacc:176:5
+        // NonTerminal OrExpression at FEL.javacc:176:5
+        pushOntoLookaheadStack(1, "FEL.javacc", 176, 5);
+        currentLookaheadProduction = 2;
+        try {
+            if (!check$OrExpression(false)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$OrExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at FEL.javacc:180:5
+        // NonTerminal AndExpression at FEL.javacc:180:5
+        pushOntoLookaheadStack(2, "FEL.javacc", 180, 5);
+        currentLookaheadProduction = 3;
+        try {
+            if (!check$AndExpression(false)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at FEL.javacc:181:5
+        boolean passedPredicate4336 = passedPredicate;
+        try {
+            while (remainingLookahead > 0&&!hitFailure) {
+                Token token4337 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$FEL_javacc$182$9(false)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token4337;
+                    break;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate4336;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$AndExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at FEL.javacc:187:5
+        // NonTerminal EqualityExpression at FEL.javacc:187:5
+        pushOntoLookaheadStack(3, "FEL.javacc", 187, 5);
+        currentLookaheadProduction = 4;
+        try {
+            if (!check$EqualityExpression(false)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at FEL.javacc:188:5
+        boolean passedPredicate4341 = passedPredicate;
+        try {
+            while (remainingLookahead > 0&&!hitFailure) {
+                Token token4342 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$FEL_javacc$189$9(false)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token4342;
+                    break;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate4341;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$EqualityExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at FEL.javacc:194:5
+        // NonTerminal RelationalExpression at FEL.javacc:194:5
+        pushOntoLookaheadStack(4, "FEL.javacc", 194, 5);
+        currentLookaheadProduction = 5;
+        try {
+            if (!check$RelationalExpression(false)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at FEL.javacc:195:5
+        Token token4346 = currentLookaheadToken;
+        boolean passedPredicate4346 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!check$FEL_javacc$196$9(false)) {
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token4346;
+                hitFailure = false;
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate4346;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$RelationalExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at FEL.javacc:202:5
+        // NonTerminal RangeExpression at FEL.javacc:202:5
+        pushOntoLookaheadStack(5, "FEL.javacc", 202, 5);
+        currentLookaheadProduction = 6;
+        try {
+            if (!check$RangeExpression(false)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at FEL.javacc:203:5
+        Token token4350 = currentLookaheadToken;
+        boolean passedPredicate4350 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!check$FEL_javacc$204$9(false)) {
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token4350;
+                hitFailure = false;
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate4350;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$RangeExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at FEL.javacc:210:5
+        // NonTerminal AdditiveExpression at FEL.javacc:210:5
+        pushOntoLookaheadStack(6, "FEL.javacc", 210, 5);
+        currentLookaheadProduction = 7;
+        try {
+            if (!check$AdditiveExpression(false)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at FEL.javacc:211:5
+        Token token4354 = currentLookaheadToken;
+        boolean passedPredicate4354 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!check$FEL_javacc$212$8(false)) {
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token4354;
+                hitFailure = false;
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate4354;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$AdditiveExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at FEL.javacc:220:5
+        // NonTerminal MultiplicativeExpression at FEL.javacc:220:5
+        pushOntoLookaheadStack(7, "FEL.javacc", 220, 5);
+        currentLookaheadProduction = 8;
+        try {
+            if (!check$MultiplicativeExpression(false)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at FEL.javacc:221:5
+        boolean passedPredicate4358 = passedPredicate;
+        try {
+            while (remainingLookahead > 0&&!hitFailure) {
+                Token token4359 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$FEL_javacc$222$12(false)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token4359;
+                    break;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate4358;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$MultiplicativeExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at FEL.javacc:228:5
+        // NonTerminal UnaryExpression at FEL.javacc:228:5
+        pushOntoLookaheadStack(8, "FEL.javacc", 228, 5);
+        currentLookaheadProduction = 9;
+        try {
+            if (!check$UnaryExpression(false)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at FEL.javacc:229:5
+        boolean passedPredicate4363 = passedPredicate;
+        try {
+            while (remainingLookahead > 0&&!hitFailure) {
+                Token token4364 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$FEL_javacc$230$11(false)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token4364;
+                    break;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate4363;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$UnaryExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at FEL.javacc:237:5
+        Token token4366 = currentLookaheadToken;
+        int remainingLookahead4366 = remainingLookahead;
+        boolean hitFailure4366 = hitFailure, passedPredicate4366 = passedPredicate;
+        try {
+            passedPredicate = false;
+            if (!check$FEL_javacc$237$5(false)) {
+                currentLookaheadToken = token4366;
+                remainingLookahead = remainingLookahead4366;
+                hitFailure = hitFailure4366;
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                passedPredicate = false;
+                if (!check$FEL_javacc$239$5(false)) {
+                    currentLookaheadToken = token4366;
+                    remainingLookahead = remainingLookahead4366;
+                    hitFailure = hitFailure4366;
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    passedPredicate = false;
+                    if (!check$FEL_javacc$241$5(false)) {
+                        currentLookaheadToken = token4366;
+                        remainingLookahead = remainingLookahead4366;
+                        hitFailure = hitFailure4366;
+                        return false;
+                    }
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate4366;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$UnaryPlusMinusExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at FEL.javacc:245:6
+        if (!scanToken(PLUS, MINUS)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at FEL.javacc:245:22
+        // NonTerminal DefaultToExpression at FEL.javacc:245:22
+        pushOntoLookaheadStack(10, "FEL.javacc", 245, 22);
+        currentLookaheadProduction = 13;
+        try {
+            if (!check$DefaultToExpression(true)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$NotExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at FEL.javacc:249:5
+        if (!scanToken(EXCLAM)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at FEL.javacc:250:5
+        // NonTerminal DefaultToExpression at FEL.javacc:250:5
+        pushOntoLookaheadStack(11, "FEL.javacc", 250, 5);
+        currentLookaheadProduction = 13;
+        try {
+            if (!check$DefaultToExpression(true)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$BuiltinVariable(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at FEL.javacc:254:5
+        if (!scanToken(DOT)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at FEL.javacc:254:10
+        if (!scanToken(IDENTIFIER)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$DefaultToExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at FEL.javacc:258:5
+        // NonTerminal PrimaryExpression at FEL.javacc:258:5
+        pushOntoLookaheadStack(13, "FEL.javacc", 258, 5);
+        currentLookaheadProduction = 14;
+        try {
+            if (!check$PrimaryExpression(false)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at FEL.javacc:259:5
+        boolean passedPredicate4380 = passedPredicate;
+        try {
+            while (remainingLookahead > 0&&!hitFailure) {
+                Token token4381 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$FEL_javacc$261$9(false)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token4381;
+                    break;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate4380;
+        }
+        hitFailure = false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at FEL.javacc:264:5
+        Token token4383 = currentLookaheadToken;
+        boolean passedPredicate4383 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!scanToken(EXCLAM)) {
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token4383;
+                hitFailure = false;
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate4383;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$PrimaryExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at FEL.javacc:270:3
+        // NonTerminal BaseExpression at FEL.javacc:270:3
+        pushOntoLookaheadStack(14, "FEL.javacc", 270, 3);
+        currentLookaheadProduction = 15;
+        try {
+            if (!check$BaseExpression(false)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at FEL.javacc:271:3
+        boolean passedPredicate4387 = passedPredicate;
+        try {
+            while (remainingLookahead > 0&&!hitFailure) {
+                Token token4388 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$FEL_javacc$272$7(false)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token4388;
+                    break;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate4387;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$BaseExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at FEL.javacc:285:5
+        Token token4390 = currentLookaheadToken;
+        int remainingLookahead4390 = remainingLookahead;
+        boolean hitFailure4390 = hitFailure, passedPredicate4390 = passedPredicate;
+        try {
+            passedPredicate = false;
+            if (!scanToken(IDENTIFIER)) {
+                currentLookaheadToken = token4390;
+                remainingLookahead = remainingLookahead4390;
+                hitFailure = hitFailure4390;
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                passedPredicate = false;
+                if (!scanToken(INTEGER, DECIMAL)) {
+                    currentLookaheadToken = token4390;
+                    remainingLookahead = remainingLookahead4390;
+                    hitFailure = hitFailure4390;
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    passedPredicate = false;
+                    if (!check$FEL_javacc$289$5(false)) {
+                        currentLookaheadToken = token4390;
+                        remainingLookahead = remainingLookahead4390;
+                        hitFailure = hitFailure4390;
+                        if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                        passedPredicate = false;
+                        if (!scanToken(STRING_LITERAL, RAW_STRING)) {
+                            currentLookaheadToken = token4390;
+                            remainingLookahead = remainingLookahead4390;
+                            hitFailure = hitFailure4390;
+                            if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                            passedPredicate = false;
+                            if (!scanToken(TRUE, FALSE)) {
+                                currentLookaheadToken = token4390;
+                                remainingLookahead = remainingLookahead4390;
+                                hitFailure = hitFailure4390;
+                                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                                passedPredicate = false;
+                                if (!scanToken(NULL)) {
+                                    currentLookaheadToken = token4390;
+                                    remainingLookahead = remainingLookahead4390;
+                                    hitFailure = hitFailure4390;
+                                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                                    passedPredicate = false;
+                                    if (!check$FEL_javacc$297$5(false)) {
+                                        currentLookaheadToken = token4390;
+                                        remainingLookahead = remainingLookahead4390;
+                                        hitFailure = hitFailure4390;
+                                        if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                                        passedPredicate = false;
+                                        if (!check$FEL_javacc$299$5(false)) {
+                                            currentLookaheadToken = token4390;
+                                            remainingLookahead = remainingLookahead4390;
+                                            hitFailure = hitFailure4390;
+                                            if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                                            passedPredicate = false;
+                                            if (!check$FEL_javacc$301$5(false)) {
+                                                currentLookaheadToken = token4390;
+                                                remainingLookahead = remainingLookahead4390;
+                                                hitFailure = hitFailure4390;
+                                                return false;
+                                            }
+                                        }
+                                    }
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate4390;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$DotKey(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at FEL.javacc:306:5
+        if (!scanToken(DOT)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at FEL.javacc:307:6
+        if (!scanToken(TIMES, IDENTIFIER)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$DynamicKey(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at FEL.javacc:311:5
+        if (!scanToken(OPEN_BRACKET)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at FEL.javacc:311:19
+        // NonTerminal Expression at FEL.javacc:311:19
+        pushOntoLookaheadStack(17, "FEL.javacc", 311, 19);
+        currentLookaheadProduction = 1;
+        try {
+            if (!check$Expression(true)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at FEL.javacc:311:29
+        if (!scanToken(CLOSE_BRACKET)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$MethodInvoke(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at FEL.javacc:315:3
+        if (!scanToken(OPEN_PAREN)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at FEL.javacc:315:15
+        Token token4402 = currentLookaheadToken;
+        boolean passedPredicate4402 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!check$FEL_javacc$315$16(false)) {
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token4402;
+                hitFailure = false;
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate4402;
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at FEL.javacc:315:25
+        if (!scanToken(CLOSE_PAREN)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$BuiltIn(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at FEL.javacc:319:5
+        if (!scanToken(BUILT_IN)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at FEL.javacc:319:15
+        if (!scanToken(IDENTIFIER)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$ListLiteral(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at FEL.javacc:327:5
+        if (!scanToken(OPEN_BRACKET)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at FEL.javacc:328:5
+        Token token4411 = currentLookaheadToken;
+        boolean passedPredicate4411 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!check$FEL_javacc$328$6(false)) {
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token4411;
+                hitFailure = false;
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate4411;
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at FEL.javacc:329:5
+        if (!scanToken(CLOSE_BRACKET)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$HashLiteral(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at FEL.javacc:338:5
+        if (!scanToken(OPEN_BRACE)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at FEL.javacc:339:5
+        Token token4417 = currentLookaheadToken;
+        boolean passedPredicate4417 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!check$FEL_javacc$340$8(false)) {
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token4417;
+                hitFailure = false;
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate4417;
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at FEL.javacc:343:5
+        if (!scanToken(CLOSE_BRACE)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$Parenthesis(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at FEL.javacc:357:5
+        if (!scanToken(OPEN_PAREN)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at FEL.javacc:357:18
+        // NonTerminal Expression at FEL.javacc:357:18
+        pushOntoLookaheadStack(27, "FEL.javacc", 357, 18);
+        currentLookaheadProduction = 1;
+        try {
+            if (!check$Expression(true)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at FEL.javacc:357:29
+        if (!scanToken(CLOSE_PAREN)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$ArgsList(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at FEL.javacc:362:9
+        Token token4429 = currentLookaheadToken;
+        int remainingLookahead4429 = remainingLookahead;
+        boolean hitFailure4429 = hitFailure, passedPredicate4429 = passedPredicate;
+        try {
+            passedPredicate = false;
+            if (!check$FEL_javacc$362$9(false)) {
+                currentLookaheadToken = token4429;
+                remainingLookahead = remainingLookahead4429;
+                hitFailure = hitFailure4429;
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                passedPredicate = false;
+                if (!check$FEL_javacc$365$9(false)) {
+                    currentLookaheadToken = token4429;
+                    remainingLookahead = remainingLookahead4429;
+                    hitFailure = hitFailure4429;
+                    return false;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate4429;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$NamedArgsList(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at FEL.javacc:370:5
+        if (!scanToken(IDENTIFIER)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at FEL.javacc:371:5
+        if (!scanToken(EQUALS)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at FEL.javacc:372:5
+        // NonTerminal Expression at FEL.javacc:372:5
+        pushOntoLookaheadStack(29, "FEL.javacc", 372, 5);
+        currentLookaheadProduction = 1;
+        try {
+            if (!check$Expression(true)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at FEL.javacc:373:5
+        boolean passedPredicate4435 = passedPredicate;
+        try {
+            while (remainingLookahead > 0&&!hitFailure) {
+                Token token4436 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$FEL_javacc$374$8(false)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token4436;
+                    break;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate4435;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$PositionalArgsList(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at FEL.javacc:382:5
+        // NonTerminal Expression at FEL.javacc:382:5
+        pushOntoLookaheadStack(30, "FEL.javacc", 382, 5);
+        currentLookaheadProduction = 1;
+        try {
+            if (!check$Expression(false)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at FEL.javacc:383:5
+        boolean passedPredicate4440 = passedPredicate;
+        try {
+            while (remainingLookahead > 0&&!hitFailure) {
+                Token token4441 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$FEL_javacc$384$8(false)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token4441;
+                    break;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate4440;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$Interpolation(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:367:5
+        if (!scanToken(INTERPOLATE)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:367:18
+        // NonTerminal Expression at /root/project/examples/freemarker/FTL.javacc:367:18
+        pushOntoLookaheadStack(32, "/root/project/examples/freemarker/FTL.javacc", 367, 18);
+        currentLookaheadProduction = 1;
+        try {
+            if (!check$Expression(true)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:367:28
+        if (!scanToken(CLOSE_BRACE)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$NumericalInterpolation(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:371:5
+        if (!scanToken(NUMERICAL_INTERPOLATE)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:371:28
+        // NonTerminal Expression at /root/project/examples/freemarker/FTL.javacc:371:28
+        pushOntoLookaheadStack(33, "/root/project/examples/freemarker/FTL.javacc", 371, 28);
+        currentLookaheadProduction = 1;
+        try {
+            if (!check$Expression(true)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:371:39
+        Token token4451 = currentLookaheadToken;
+        boolean passedPredicate4451 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!check$FTL_javacc$371$40(false)) {
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token4451;
+                hitFailure = false;
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate4451;
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:371:64
+        if (!scanToken(CLOSE_BRACE)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$Assignment(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:379:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:381:8
+        if (!scanToken(SET, LOCAL, GLOBAL, ASSIGN)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:386:5
+        if (!scanToken(BLANK)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:387:5
+        if (!scanToken(IDENTIFIER, STRING_LITERAL, RAW_STRING)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:389:7
+        Token token4462 = currentLookaheadToken;
+        int remainingLookahead4462 = remainingLookahead;
+        boolean hitFailure4462 = hitFailure, passedPredicate4462 = passedPredicate;
+        try {
+            passedPredicate = false;
+            if (!check$FTL_javacc$389$7(false)) {
+                currentLookaheadToken = token4462;
+                remainingLookahead = remainingLookahead4462;
+                hitFailure = hitFailure4462;
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                passedPredicate = false;
+                if (!check$FTL_javacc$396$7(false)) {
+                    currentLookaheadToken = token4462;
+                    remainingLookahead = remainingLookahead4462;
+                    hitFailure = hitFailure4462;
+                    return false;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate4462;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$Var(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:406:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:407:5
+        if (!scanToken(VAR)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:407:10
+        if (!scanToken(BLANK)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:408:5
+        if (!scanToken(IDENTIFIER, STRING_LITERAL, RAW_STRING)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:408:31
+        Token token4470 = currentLookaheadToken;
+        boolean passedPredicate4470 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!check$FTL_javacc$408$32(false)) {
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token4470;
+                hitFailure = false;
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate4470;
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/freemarker/FTL.javacc:409:5
+        boolean passedPredicate4472 = passedPredicate;
+        try {
+            while (remainingLookahead > 0&&!hitFailure) {
+                Token token4473 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$FTL_javacc$409$6(false)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token4473;
+                    break;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate4472;
+        }
+        hitFailure = false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:410:5
+        if (!scanToken(CLOSE_TAG, CLOSE_EMPTY_TAG)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$Setting(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:414:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:415:5
+        if (!scanToken(SETTING)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:415:14
+        if (!scanToken(BLANK)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:416:5
+        if (!scanToken(IDENTIFIER)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:416:18
+        Token token4482 = currentLookaheadToken;
+        boolean passedPredicate4482 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!check$FTL_javacc$416$19(false)) {
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token4482;
+                hitFailure = false;
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate4482;
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/freemarker/FTL.javacc:417:5
+        boolean passedPredicate4484 = passedPredicate;
+        try {
+            while (remainingLookahead > 0&&!hitFailure) {
+                Token token4485 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$FTL_javacc$417$6(false)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token4485;
+                    break;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate4484;
+        }
+        hitFailure = false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:418:5
+        if (!scanToken(CLOSE_TAG, CLOSE_EMPTY_TAG)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$Attempt(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:422:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:423:5
+        if (!scanToken(_ATTEMPT)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:423:15
+        if (!scanToken(CLOSE_TAG)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:424:5
+        // NonTerminal Block at /root/project/examples/freemarker/FTL.javacc:424:5
+        pushOntoLookaheadStack(37, "/root/project/examples/freemarker/FTL.javacc", 424, 5);
+        currentLookaheadProduction = 75;
+        try {
+            if (!check$Block(true)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:425:5
+        // NonTerminal Recover at /root/project/examples/freemarker/FTL.javacc:425:5
+        pushOntoLookaheadStack(37, "/root/project/examples/freemarker/FTL.javacc", 425, 5);
+        currentLookaheadProduction = 72;
+        try {
+            if (!check$Recover(true)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$Comment(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:429:5
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:430:4
+        if (!scanToken(COMMENT)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:431:4
+        if (!scanToken(END_COMMENT)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$NoParse(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:435:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:436:5
+        if (!scanToken(NOPARSE)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:437:5
+        if (!scanToken(CLOSE_TAG)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for CodeBlock specified at /root/project/examples/freemarker/FTL.javacc:437:16
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:438:5
+        if (!scanToken(NOPARSE_END)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$Trim(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:442:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:443:5
+        if (!scanToken(TRIM)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:444:5
+        if (!scanToken(CLOSE_TAG, CLOSE_EMPTY_TAG)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$NoTrim(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:448:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:449:5
+        if (!scanToken(NOTRIM)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:450:5
+        if (!scanToken(CLOSE_TAG, CLOSE_EMPTY_TAG)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$RightTrim(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:455:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:456:5
+        if (!scanToken(RTRIM)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:457:5
+        if (!scanToken(CLOSE_TAG, CLOSE_EMPTY_TAG)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$LeftTrim(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:462:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:463:5
+        if (!scanToken(LTRIM)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:464:5
+        if (!scanToken(CLOSE_TAG, CLOSE_EMPTY_TAG)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$Break(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:468:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:469:5
+        if (!scanToken(BREAK)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:470:5
+        if (!scanToken(CLOSE_TAG, CLOSE_EMPTY_TAG)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$Flush(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:474:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:475:5
+        if (!scanToken(FLUSH)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:475:12
+        if (!scanToken(CLOSE_TAG, CLOSE_EMPTY_TAG)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$Return(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:479:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:480:5
+        if (!scanToken(RETURN)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:481:5
+        Token token4541 = currentLookaheadToken;
+        boolean passedPredicate4541 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!check$FTL_javacc$481$6(false)) {
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token4541;
+                hitFailure = false;
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate4541;
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:482:5
+        if (!scanToken(CLOSE_TAG, CLOSE_EMPTY_TAG)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$Stop(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:486:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:487:5
+        if (!scanToken(STOP)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:488:5
+        Token token4548 = currentLookaheadToken;
+        boolean passedPredicate4548 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!check$FTL_javacc$488$6(false)) {
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token4548;
+                hitFailure = false;
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate4548;
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:489:5
+        if (!scanToken(CLOSE_TAG, CLOSE_EMPTY_TAG)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$Compress(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:494:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:495:5
+        if (!scanToken(COMPRESS)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:495:15
+        if (!scanToken(CLOSE_TAG)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:496:5
+        // NonTerminal Block at /root/project/examples/freemarker/FTL.javacc:496:5
+        pushOntoLookaheadStack(48, "/root/project/examples/freemarker/FTL.javacc", 496, 5);
+        currentLookaheadProduction = 75;
+        try {
+            if (!check$Block(true)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:497:5
+        if (!scanToken(END_DIRECTIVE1, END_DIRECTIVE2)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$TrimBlock(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:504:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:506:9
+        if (!scanToken(BLOCKTRIM, BLOCKTRIML, BLOCKTRIMR, BLOCKNOTRIM)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:514:5
+        if (!scanToken(CLOSE_TAG)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:515:5
+        // NonTerminal Block at /root/project/examples/freemarker/FTL.javacc:515:5
+        pushOntoLookaheadStack(49, "/root/project/examples/freemarker/FTL.javacc", 515, 5);
+        currentLookaheadProduction = 75;
+        try {
+            if (!check$Block(true)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:516:5
+        if (!scanToken(END_DIRECTIVE1, END_DIRECTIVE2)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$NoEscapeBlock(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:520:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:521:5
+        if (!scanToken(NOESCAPE)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:521:15
+        if (!scanToken(CLOSE_TAG)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:522:5
+        // NonTerminal Block at /root/project/examples/freemarker/FTL.javacc:522:5
+        pushOntoLookaheadStack(50, "/root/project/examples/freemarker/FTL.javacc", 522, 5);
+        currentLookaheadProduction = 75;
+        try {
+            if (!check$Block(true)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:523:5
+        if (!scanToken(END_DIRECTIVE1, END_DIRECTIVE2)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$EscapeBlock(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:527:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:528:5
+        if (!scanToken(ESCAPE)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:529:5
+        if (!scanToken(BLANK)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:530:5
+        if (!scanToken(IDENTIFIER)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:531:5
+        if (!scanToken(AS)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:532:5
+        // NonTerminal Expression at /root/project/examples/freemarker/FTL.javacc:532:5
+        pushOntoLookaheadStack(51, "/root/project/examples/freemarker/FTL.javacc", 532, 5);
+        currentLookaheadProduction = 1;
+        try {
+            if (!check$Expression(true)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:533:5
+        if (!scanToken(CLOSE_TAG)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:534:5
+        // NonTerminal Block at /root/project/examples/freemarker/FTL.javacc:534:5
+        pushOntoLookaheadStack(51, "/root/project/examples/freemarker/FTL.javacc", 534, 5);
+        currentLookaheadProduction = 75;
+        try {
+            if (!check$Block(true)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:535:5
+        if (!scanToken(END_DIRECTIVE1, END_DIRECTIVE2)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$Include(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:539:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:540:5
+        if (!scanToken(_INCLUDE)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:540:15
+        if (!scanToken(BLANK)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:541:5
+        // NonTerminal Expression at /root/project/examples/freemarker/FTL.javacc:541:5
+        pushOntoLookaheadStack(52, "/root/project/examples/freemarker/FTL.javacc", 541, 5);
+        currentLookaheadProduction = 1;
+        try {
+            if (!check$Expression(true)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:542:5
+        Token token4590 = currentLookaheadToken;
+        boolean passedPredicate4590 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!scanToken(SEMICOLON)) {
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token4590;
+                hitFailure = false;
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate4590;
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/freemarker/FTL.javacc:543:5
+        boolean passedPredicate4592 = passedPredicate;
+        try {
+            while (remainingLookahead > 0&&!hitFailure) {
+                Token token4593 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$FTL_javacc$543$6(false)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token4593;
+                    break;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate4592;
+        }
+        hitFailure = false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:544:5
+        if (!scanToken(CLOSE_TAG, CLOSE_EMPTY_TAG)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$Embed(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:548:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:549:5
+        if (!scanToken(EMBED)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:549:12
+        if (!scanToken(BLANK)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:550:5
+        // NonTerminal Expression at /root/project/examples/freemarker/FTL.javacc:550:5
+        pushOntoLookaheadStack(53, "/root/project/examples/freemarker/FTL.javacc", 550, 5);
+        currentLookaheadProduction = 1;
+        try {
+            if (!check$Expression(true)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:551:5
+        if (!scanToken(CLOSE_TAG, CLOSE_EMPTY_TAG)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$Import(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:555:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:556:5
+        if (!scanToken(IMPORT)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:556:13
+        if (!scanToken(BLANK)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:557:5
+        // NonTerminal Expression at /root/project/examples/freemarker/FTL.javacc:557:5
+        pushOntoLookaheadStack(54, "/root/project/examples/freemarker/FTL.javacc", 557, 5);
+        currentLookaheadProduction = 1;
+        try {
+            if (!check$Expression(true)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:558:5
+        if (!scanToken(AS)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:559:5
+        if (!scanToken(IDENTIFIER)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:560:5
+        if (!scanToken(CLOSE_TAG, CLOSE_EMPTY_TAG)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$Visit(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:564:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:565:5
+        if (!scanToken(VISIT)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:566:5
+        if (!scanToken(BLANK)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:567:5
+        // NonTerminal Expression at /root/project/examples/freemarker/FTL.javacc:567:5
+        pushOntoLookaheadStack(55, "/root/project/examples/freemarker/FTL.javacc", 567, 5);
+        currentLookaheadProduction = 1;
+        try {
+            if (!check$Expression(true)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:568:5
+        Token token4618 = currentLookaheadToken;
+        boolean passedPredicate4618 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!check$FTL_javacc$569$8(false)) {
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token4618;
+                hitFailure = false;
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate4618;
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:576:5
+        if (!scanToken(CLOSE_TAG, CLOSE_EMPTY_TAG)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$Recurse(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:580:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:581:5
+        if (!scanToken(RECURSE)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:583:8
+        Token token4626 = currentLookaheadToken;
+        int remainingLookahead4626 = remainingLookahead;
+        boolean hitFailure4626 = hitFailure, passedPredicate4626 = passedPredicate;
+        try {
+            passedPredicate = false;
+            if (!scanToken(CLOSE_TAG, CLOSE_EMPTY_TAG)) {
+                currentLookaheadToken = token4626;
+                remainingLookahead = remainingLookahead4626;
+                hitFailure = hitFailure4626;
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                passedPredicate = false;
+                if (!check$FTL_javacc$585$8(false)) {
+                    currentLookaheadToken = token4626;
+                    remainingLookahead = remainingLookahead4626;
+                    hitFailure = hitFailure4626;
+                    return false;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate4626;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$FallBack(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:598:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:599:5
+        if (!scanToken(FALLBACK)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:600:5
+        if (!scanToken(CLOSE_TAG, CLOSE_EMPTY_TAG)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$If(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:604:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:605:5
+        if (!scanToken(IF)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:605:9
+        if (!scanToken(BLANK)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:606:5
+        // NonTerminal Expression at /root/project/examples/freemarker/FTL.javacc:606:5
+        pushOntoLookaheadStack(58, "/root/project/examples/freemarker/FTL.javacc", 606, 5);
+        currentLookaheadProduction = 1;
+        try {
+            if (!check$Expression(true)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:607:5
+        if (!scanToken(CLOSE_TAG)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:608:5
+        // NonTerminal Block at /root/project/examples/freemarker/FTL.javacc:608:5
+        pushOntoLookaheadStack(58, "/root/project/examples/freemarker/FTL.javacc", 608, 5);
+        currentLookaheadProduction = 75;
+        try {
+            if (!check$Block(true)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/freemarker/FTL.javacc:609:5
+        boolean passedPredicate4641 = passedPredicate;
+        try {
+            while (remainingLookahead > 0&&!hitFailure) {
+                Token token4642 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$FTL_javacc$609$7(false)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token4642;
+                    break;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate4641;
+        }
+        hitFailure = false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:610:5
+        Token token4644 = currentLookaheadToken;
+        boolean passedPredicate4644 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!check$FTL_javacc$611$8(false)) {
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token4644;
+                hitFailure = false;
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate4644;
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:613:5
+        if (!scanToken(END_DIRECTIVE1, END_DIRECTIVE2)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$ElseIf(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:617:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:618:5
+        if (!scanToken(ELSEIF)) return false;
+        if (!scanToEnd&&lookaheadStack.size()<=1) {
+            if (lookaheadRoutineNesting==0) {
+                remainingLookahead = 0;
+            }
+            else if (lookaheadStack.size()==1) {
+                passedPredicateThreshold = remainingLookahead;
+            }
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:620:5
+        if (!scanToken(BLANK)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:621:5
+        // NonTerminal Expression at /root/project/examples/freemarker/FTL.javacc:621:5
+        pushOntoLookaheadStack(59, "/root/project/examples/freemarker/FTL.javacc", 621, 5);
+        currentLookaheadProduction = 1;
+        try {
+            if (!check$Expression(true)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:622:5
+        if (!scanToken(CLOSE_TAG)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:623:5
+        // NonTerminal Block at /root/project/examples/freemarker/FTL.javacc:623:5
+        pushOntoLookaheadStack(59, "/root/project/examples/freemarker/FTL.javacc", 623, 5);
+        currentLookaheadProduction = 75;
+        try {
+            if (!check$Block(true)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$Else(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:627:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:628:5
+        if (!scanToken(ELSE)) return false;
+        if (!scanToEnd&&lookaheadStack.size()<=1) {
+            if (lookaheadRoutineNesting==0) {
+                remainingLookahead = 0;
+            }
+            else if (lookaheadStack.size()==1) {
+                passedPredicateThreshold = remainingLookahead;
+            }
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:630:5
+        if (!scanToken(CLOSE_TAG)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:631:5
+        // NonTerminal Block at /root/project/examples/freemarker/FTL.javacc:631:5
+        pushOntoLookaheadStack(60, "/root/project/examples/freemarker/FTL.javacc", 631, 5);
+        currentLookaheadProduction = 75;
+        try {
+            if (!check$Block(true)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$Switch(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:635:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:636:5
+        if (!scanToken(SWITCH)) return false;
+        if (!scanToEnd&&lookaheadStack.size()<=1) {
+            if (lookaheadRoutineNesting==0) {
+                remainingLookahead = 0;
+            }
+            else if (lookaheadStack.size()==1) {
+                passedPredicateThreshold = remainingLookahead;
+            }
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:637:5
+        if (!scanToken(BLANK)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:638:5
+        // NonTerminal Expression at /root/project/examples/freemarker/FTL.javacc:638:5
+        pushOntoLookaheadStack(61, "/root/project/examples/freemarker/FTL.javacc", 638, 5);
+        currentLookaheadProduction = 1;
+        try {
+            if (!check$Expression(true)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:639:5
+        if (!scanToken(CLOSE_TAG)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:640:5
+        Token token4668 = currentLookaheadToken;
+        boolean passedPredicate4668 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!scanToken(WHITESPACE)) {
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token4668;
+                hitFailure = false;
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate4668;
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/freemarker/FTL.javacc:641:5
+        boolean passedPredicate4670 = passedPredicate;
+        try {
+            while (remainingLookahead > 0&&!hitFailure) {
+                Token token4671 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$FTL_javacc$641$6(false)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token4671;
+                    break;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate4670;
+        }
+        hitFailure = false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:642:5
+        Token token4673 = currentLookaheadToken;
+        boolean passedPredicate4673 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!check$FTL_javacc$643$6(false)) {
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token4673;
+                hitFailure = false;
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate4673;
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:645:5
+        if (!scanToken(END_DIRECTIVE1, END_DIRECTIVE2)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$Case(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:649:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:650:5
+        if (!scanToken(CASE)) return false;
+        if (!scanToEnd&&lookaheadStack.size()<=1) {
+            if (lookaheadRoutineNesting==0) {
+                remainingLookahead = 0;
+            }
+            else if (lookaheadStack.size()==1) {
+                passedPredicateThreshold = remainingLookahead;
+            }
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:652:5
+        if (!scanToken(BLANK)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:653:5
+        // NonTerminal Expression at /root/project/examples/freemarker/FTL.javacc:653:5
+        pushOntoLookaheadStack(62, "/root/project/examples/freemarker/FTL.javacc", 653, 5);
+        currentLookaheadProduction = 1;
+        try {
+            if (!check$Expression(true)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:653:16
+        if (!scanToken(CLOSE_TAG)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:653:28
+        // NonTerminal Block at /root/project/examples/freemarker/FTL.javacc:653:28
+        pushOntoLookaheadStack(62, "/root/project/examples/freemarker/FTL.javacc", 653, 28);
+        currentLookaheadProduction = 75;
+        try {
+            if (!check$Block(true)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$Default(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:657:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:658:5
+        if (!scanToken(DEFAUL)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:658:13
+        if (!scanToken(CLOSE_TAG)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:659:5
+        // NonTerminal Block at /root/project/examples/freemarker/FTL.javacc:659:5
+        pushOntoLookaheadStack(63, "/root/project/examples/freemarker/FTL.javacc", 659, 5);
+        currentLookaheadProduction = 75;
+        try {
+            if (!check$Block(true)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$List(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:663:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:664:5
+        if (!scanToken(LIST)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:664:11
+        if (!scanToken(BLANK)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:665:5
+        // NonTerminal Expression at /root/project/examples/freemarker/FTL.javacc:665:5
+        pushOntoLookaheadStack(64, "/root/project/examples/freemarker/FTL.javacc", 665, 5);
+        currentLookaheadProduction = 1;
+        try {
+            if (!check$Expression(true)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:666:5
+        if (!scanToken(AS)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:667:5
+        if (!scanToken(IDENTIFIER)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:668:5
+        if (!scanToken(CLOSE_TAG)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:669:5
+        // NonTerminal Block at /root/project/examples/freemarker/FTL.javacc:669:5
+        pushOntoLookaheadStack(64, "/root/project/examples/freemarker/FTL.javacc", 669, 5);
+        currentLookaheadProduction = 75;
+        try {
+            if (!check$Block(true)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:670:5
+        if (!scanToken(END_DIRECTIVE1, END_DIRECTIVE2)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$ForEach(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:674:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:675:5
+        if (!scanToken(FOREACH)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:675:14
+        if (!scanToken(BLANK)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:676:5
+        if (!scanToken(IDENTIFIER)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:677:5
+        if (!scanToken(IN)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:678:5
+        // NonTerminal Expression at /root/project/examples/freemarker/FTL.javacc:678:5
+        pushOntoLookaheadStack(65, "/root/project/examples/freemarker/FTL.javacc", 678, 5);
+        currentLookaheadProduction = 1;
+        try {
+            if (!check$Expression(true)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:679:5
+        if (!scanToken(CLOSE_TAG)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:680:5
+        // NonTerminal Block at /root/project/examples/freemarker/FTL.javacc:680:5
+        pushOntoLookaheadStack(65, "/root/project/examples/freemarker/FTL.javacc", 680, 5);
+        currentLookaheadProduction = 75;
+        try {
+            if (!check$Block(true)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:681:5
+        if (!scanToken(END_DIRECTIVE1, END_DIRECTIVE2)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$Nested(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:685:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:686:5
+        if (!scanToken(NESTED)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:687:5
+        Token token4716 = currentLookaheadToken;
+        boolean passedPredicate4716 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!check$FTL_javacc$687$6(false)) {
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token4716;
+                hitFailure = false;
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate4716;
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:688:5
+        if (!scanToken(CLOSE_TAG, CLOSE_EMPTY_TAG)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$MacroDefinition(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:695:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:697:7
+        if (!scanToken(MACRO, FUNCTION)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:701:5
+        if (!scanToken(BLANK)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:702:5
+        if (!scanToken(IDENTIFIER, STRING_LITERAL, RAW_STRING)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:703:5
+        Token token4726 = currentLookaheadToken;
+        boolean passedPredicate4726 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!scanToken(OPEN_PAREN)) {
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token4726;
+                hitFailure = false;
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate4726;
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:704:5
+        Token token4728 = currentLookaheadToken;
+        boolean passedPredicate4728 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!check$FTL_javacc$704$6(false)) {
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token4728;
+                hitFailure = false;
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate4728;
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:705:5
+        Token token4730 = currentLookaheadToken;
+        boolean passedPredicate4730 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!scanToken(CLOSE_PAREN)) {
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token4730;
+                hitFailure = false;
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate4730;
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:706:5
+        if (!scanToken(CLOSE_TAG)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:707:5
+        // NonTerminal Block at /root/project/examples/freemarker/FTL.javacc:707:5
+        pushOntoLookaheadStack(67, "/root/project/examples/freemarker/FTL.javacc", 707, 5);
+        currentLookaheadProduction = 75;
+        try {
+            if (!check$Block(true)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:708:5
+        if (!scanToken(END_DIRECTIVE1, END_DIRECTIVE2)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$ParameterList(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:715:5
+        if (!scanToken(IDENTIFIER)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:716:5
+        Token token4737 = currentLookaheadToken;
+        boolean passedPredicate4737 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!check$FTL_javacc$716$6(false)) {
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token4737;
+                hitFailure = false;
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate4737;
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/freemarker/FTL.javacc:717:5
+        boolean passedPredicate4739 = passedPredicate;
+        try {
+            while (remainingLookahead > 0&&!hitFailure) {
+                Token token4740 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$FTL_javacc$718$8(false)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token4740;
+                    break;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate4739;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$Text(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for OneOrMore specified at /root/project/examples/freemarker/FTL.javacc:751:5
+        if (!scanToken(WHITESPACE, SPECIAL_CHAR, PRINTABLE_CHARS)) {
+            return false;
+        }
+        boolean passedPredicate4745 = passedPredicate;
+        try {
+            while (remainingLookahead > 0&&!hitFailure) {
+                Token token4746 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!scanToken(WHITESPACE, SPECIAL_CHAR, PRINTABLE_CHARS)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token4746;
+                    break;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate4745;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$Recover(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:759:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:760:5
+        if (!scanToken(_RECOVER)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:760:15
+        if (!scanToken(CLOSE_TAG)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:761:5
+        // NonTerminal Block at /root/project/examples/freemarker/FTL.javacc:761:5
+        pushOntoLookaheadStack(72, "/root/project/examples/freemarker/FTL.javacc", 761, 5);
+        currentLookaheadProduction = 75;
+        try {
+            if (!check$Block(true)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:762:5
+        if (!scanToken(END_DIRECTIVE1, END_DIRECTIVE2)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$TopLevelDirective(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:767:6
+        Token token4757 = currentLookaheadToken;
+        int remainingLookahead4757 = remainingLookahead;
+        boolean hitFailure4757 = hitFailure, passedPredicate4757 = passedPredicate;
+        try {
+            passedPredicate = false;
+            if (!check$FTL_javacc$767$6(false)) {
+                currentLookaheadToken = token4757;
+                remainingLookahead = remainingLookahead4757;
+                hitFailure = hitFailure4757;
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                passedPredicate = false;
+                if (!check$FTL_javacc$768$6(false)) {
+                    currentLookaheadToken = token4757;
+                    remainingLookahead = remainingLookahead4757;
+                    hitFailure = hitFailure4757;
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    passedPredicate = false;
+                    if (!check$FTL_javacc$769$6(false)) {
+                        currentLookaheadToken = token4757;
+                        remainingLookahead = remainingLookahead4757;
+                        hitFailure = hitFailure4757;
+                        if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                        passedPredicate = false;
+                        if (!check$FTL_javacc$770$6(false)) {
+                            currentLookaheadToken = token4757;
+                            remainingLookahead = remainingLookahead4757;
+                            hitFailure = hitFailure4757;
+                            if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                            passedPredicate = false;
+                            if (!check$FTL_javacc$771$6(false)) {
+                                currentLookaheadToken = token4757;
+                                remainingLookahead = remainingLookahead4757;
+                                hitFailure = hitFailure4757;
+                                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                                passedPredicate = false;
+                                if (!check$FTL_javacc$772$6(false)) {
+                                    currentLookaheadToken = token4757;
+                                    remainingLookahead = remainingLookahead4757;
+                                    hitFailure = hitFailure4757;
+                                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                                    passedPredicate = false;
+                                    if (!check$FTL_javacc$773$6(false)) {
+                                        currentLookaheadToken = token4757;
+                                        remainingLookahead = remainingLookahead4757;
+                                        hitFailure = hitFailure4757;
+                                        if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                                        passedPredicate = false;
+                                        if (!check$FTL_javacc$774$6(false)) {
+                                            currentLookaheadToken = token4757;
+                                            remainingLookahead = remainingLookahead4757;
+                                            hitFailure = hitFailure4757;
+                                            if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                                            passedPredicate = false;
+                                            if (!check$FTL_javacc$775$6(false)) {
+                                                currentLookaheadToken = token4757;
+                                                remainingLookahead = remainingLookahead4757;
+                                                hitFailure = hitFailure4757;
+                                                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                                                passedPredicate = false;
+                                                if (!check$FTL_javacc$776$6(false)) {
+                                                    currentLookaheadToken = token4757;
+                                                    remainingLookahead = remainingLookahead4757;
+                                                    hitFailure = hitFailure4757;
+                                                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                                                    passedPredicate = false;
+                                                    if (!check$FTL_javacc$777$6(false)) {
+                                                        currentLookaheadToken = token4757;
+                                                        remainingLookahead = remainingLookahead4757;
+                                                        hitFailure = hitFailure4757;
+                                                        if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                                                        passedPredicate = false;
+                                                        if (!check$FTL_javacc$778$6(false)) {
+                                                            currentLookaheadToken = token4757;
+                                                            remainingLookahead = remainingLookahead4757;
+                                                            hitFailure = hitFailure4757;
+                                                            if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                                                            passedPredicate = false;
+                                                            if (!check$FTL_javacc$779$6(false)) {
+                                                                currentLookaheadToken = token4757;
+                                                                remainingLookahead = remainingLookahead4757;
+                                                                hitFailure = hitFailure4757;
+                                                                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                                                                passedPredicate = false;
+                                                                if (!check$FTL_javacc$780$6(false)) {
+                                                                    currentLookaheadToken = token4757;
+                                                                    remainingLookahead = remainingLookahead4757;
+                                                                    hitFailure = hitFailure4757;
+                                                                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                                                                    passedPredicate = false;
+                                                                    if (!check$FTL_javacc$781$6(false)) {
+                                                                        currentLookaheadToken = token4757;
+                                                                        remainingLookahead = remainingLookahead4757;
+                                                                        hitFailure = hitFailure4757;
+                                                                        if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                                                                        passedPredicate = false;
+                                                                        if (!check$FTL_javacc$782$6(false)) {
+                                                                            currentLookaheadToken = token4757;
+                                                                            remainingLookahead = remainingLookahead4757;
+                                                                            hitFailure = hitFailure4757;
+                                                                            if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                                                                            passedPredicate = false;
+                                                                            if (!check$FTL_javacc$783$6(false)) {
+                                                                                currentLookaheadToken = token4757;
+                                                                                remainingLookahead = remainingLookahead4757;
+                                                                                hitFailure = hitFailure4757;
+                                                                                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                                                                                passedPredicate = false;
+                                                                                if (!check$FTL_javacc$784$6(false)) {
+                                                                                    currentLookaheadToken = token4757;
+                                                                                    remainingLookahead = remainingLookahead4757;
+                                                                                    hitFailure = hitFailure4757;
+                                                                                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                                                                                    passedPredicate = false;
+                                                                                    if (!check$FTL_javacc$785$6(false)) {
+                                                                                        currentLookaheadToken = token4757;
+                                                                                        remainingLookahead = remainingLookahead4757;
+                                                                                        hitFailure = hitFailure4757;
+                                                                                        if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                                                                                        passedPredicate = false;
+                                                                                        if (!check$FTL_javacc$786$6(false)) {
+                                                                                            currentLookaheadToken = token4757;
+                                                                                            remainingLookahead = remainingLookahead4757;
+                                                                                            hitFailure = hitFailure4757;
+                                                                                            if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                                                                                            passedPredicate = false;
+                                                                                            if (!check$FTL_javacc$787$6(false)) {
+                                                                                                currentLookaheadToken = token4757;
+                                                                                                remainingLookahead = remainingLookahead4757;
+                                                                                                hitFailure = hitFailure4757;
+                                                                                                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                                                                                                passedPredicate = false;
+                                                                                                if (!check$FTL_javacc$788$6(false)) {
+                                                                                                    currentLookaheadToken = token4757;
+                                                                                                    remainingLookahead = remainingLookahead4757;
+                                                                                                    hitFailure = hitFailure4757;
+                                                                                                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                                                                                                    passedPredicate = false;
+                                                                                                    if (!check$FTL_javacc$789$6(false)) {
+                                                                                                        currentLookaheadToken = token4757;
+                                                                                                        remainingLookahead = remainingLookahead4757;
+                                                                                                        hitFailure = hitFailure4757;
+                                                                                                        if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                                                                                                        passedPredicate = false;
+                                                                                                        if (!check$FTL_javacc$790$6(false)) {
+                                                                                                            currentLookaheadToken = token4757;
+                                                                                                            remainingLookahead = remainingLookahead4757;
+                                                                                                            hitFailure = hitFailure4757;
+                                                                                                            if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                                                                                                            passedPredicate = false;
+                                                                                                            if (!check$FTL_javacc$791$6(false)) {
+                                                                                                                currentLookaheadToken = token4757;
+                                                                                                                remainingLookahead = remainingLookahead4757;
+                                                                                                                hitFailure = hitFailure4757;
+                                                                                                                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                                                                                                                passedPredicate = false;
+                                                                                                                if (!check$FTL_javacc$792$6(false)) {
+                                                                                                                    currentLookaheadToken = token4757;
+                                                                                                                    remainingLookahead = remainingLookahead4757;
+                                                                                                                    hitFailure = hitFailure4757;
+                                                                                                                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                                                                                                                    passedPredicate = false;
+                                                                                                                    if (!check$FTL_javacc$793$6(false)) {
+                                                                                                                        currentLookaheadToken = token4757;
+                                                                                                                        remainingLookahead = remainingLookahead4757;
+                                                                                                                        hitFailure = hitFailure4757;
+                                                                                                                        if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                                                                                                                        passedPredicate = false;
+                                                                                                                        if (!check$FTL_javacc$794$6(false)) {
+                                                                                                                            currentLookaheadToken = token4757;
+                                                                                                                            remainingLookahead = remainingLookahead4757;
+                                                                                                                            hitFailure = hitFailure4757;
+                                                                                                                            if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                                                                                                                            passedPredicate = false;
+                                                                                                                            if (!check$FTL_javacc$795$6(false)) {
+                                                                                                                                currentLookaheadToken = token4757;
+                                                                                                                                remainingLookahead = remainingLookahead4757;
+                                                                                                                                hitFailure = hitFailure4757;
+                                                                                                                                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                                                                                                                                passedPredicate = false;
+                                                                                                                                if (!check$FTL_javacc$796$6(false)) {
+                                                                                                                                    currentLookaheadToken = token4757;
+                                                                                                                                    remainingLookahead = remainingLookahead4757;
+                                                                                                                                    hitFailure = hitFailure4757;
+                                                                                                                                    return false;
+                                                                                                                                }
+                                                                                                                            }
+                                                                                                                        }
+                                                                                                                    }
+                                                                                                                }
+                                                                                                            }
+                                                                                                        }
+                                                                                                    }
+                                                                                                }
+                                                                                            }
+                                                                                        }
+                                                                                    }
+                                                                                }
+                                                                            }
+                                                                        }
+                                                                    }
+                                                                }
+                                                            }
+                                                        }
+                                                    }
+                                                }
+                                            }
+                                        }
+                                    }
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate4757;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$UserDirective(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:806:9
+        if (!scanToken(USER_DIRECTIVE_OPEN1, USER_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:810:5
+        // NonTerminal Expression at /root/project/examples/freemarker/FTL.javacc:810:5
+        pushOntoLookaheadStack(74, "/root/project/examples/freemarker/FTL.javacc", 810, 5);
+        currentLookaheadProduction = 1;
+        try {
+            if (!check$Expression(true)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for CodeBlock specified at /root/project/examples/freemarker/FTL.javacc:811:5
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:812:5
+        Token token4764 = currentLookaheadToken;
+        boolean passedPredicate4764 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!scanToken(BLANK)) {
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token4764;
+                hitFailure = false;
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate4764;
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:813:5
+        Token token4766 = currentLookaheadToken;
+        boolean passedPredicate4766 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!check$FTL_javacc$813$6(false)) {
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token4766;
+                hitFailure = false;
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate4766;
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:814:5
+        Token token4768 = currentLookaheadToken;
+        boolean passedPredicate4768 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!check$FTL_javacc$814$6(false)) {
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token4768;
+                hitFailure = false;
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate4768;
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:816:8
+        Token token4771 = currentLookaheadToken;
+        int remainingLookahead4771 = remainingLookahead;
+        boolean hitFailure4771 = hitFailure, passedPredicate4771 = passedPredicate;
+        try {
+            passedPredicate = false;
+            if (!scanToken(CLOSE_EMPTY_TAG)) {
+                currentLookaheadToken = token4771;
+                remainingLookahead = remainingLookahead4771;
+                hitFailure = hitFailure4771;
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                passedPredicate = false;
+                if (!check$FTL_javacc$818$8(false)) {
+                    currentLookaheadToken = token4771;
+                    remainingLookahead = remainingLookahead4771;
+                    hitFailure = hitFailure4771;
+                    return false;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate4771;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$Block(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/freemarker/FTL.javacc:827:3
+        boolean passedPredicate4774 = passedPredicate;
+        try {
+            while (remainingLookahead > 0&&!hitFailure) {
+                Token token4775 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$FTL_javacc$828$5(false)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token4775;
+                    break;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate4774;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    CallStack parsingStack = new CallStack();
+    private CallStack lookaheadStack = new CallStack();
+
+    /**
+    * Inner class that represents entering a grammar production
+    */
+    class NonTerminalCall {
+        final String sourceFile;
+        final String productionName;
+        final int line, column;
+
+        NonTerminalCall(String sourceFile, String productionName, int line, int column) {
+            this.sourceFile = sourceFile;
+            this.productionName = productionName;
+            this.line = line;
+            this.column = column;
+        }
+
+        final FTLLexer getTokenSource() {
+            return FTLParser.this.token_source;
+        }
+
+        StackTraceElement createStackTraceElement() {
+            return new StackTraceElement("FTLParser", productionName, sourceFile, line);
+        }
+
+        void dump(PrintStream ps) {
+            ps.println(productionName+":"+line+":"+column);
+        }
+
+    }
+
+
+    /**
+    * A stack of calls to grammar productions, kept in parallel arrays
+    * so that entering a production does not allocate anything. The productions
+    * are identified by their index in PRODUCTION_NAMES and the NonTerminalCall
+    * objects are only created when something needs them, i.e. a ParseException.
+    */
+    final class CallStack implements Cloneable {
+        private int size;
+        private int[]productionIds = new int[16], lines = new int[16], columns = new int[16];
+        private String[]sourceFiles = new String[16];
+
+        int size() {
+            return size;
+        }
+
+        int getProductionId(int index) {
+            return productionIds[index];
+        }
+
+        void push(int productionId, String sourceFile, int line, int column) {
+            if (size==productionIds.length) {
+                int capacity = size*2;
+                productionIds = Arrays.copyOf(productionIds, capacity);
+                lines = Arrays.copyOf(lines, capacity);
+                columns = Arrays.copyOf(columns, capacity);
+                sourceFiles = Arrays.copyOf(sourceFiles, capacity);
+            }
+            productionIds[size] = productionId;
+            lines[size] = line;
+            columns[size] = column;
+            sourceFiles[size] = sourceFile;
+            ++size;
+        }
+
+        void pop() {
+            --size;
+        }
+
+        void clear() {
+            Arrays.fill(sourceFiles, 0, size, null);
+            size = 0;
+        }
+
+        NonTerminalCall get(int index) {
+            return new NonTerminalCall(sourceFiles[index], PRODUCTION_NAMES[productionIds[index]], lines[index], columns[index]);
+        }
+
+        /**
+        * @return the calls on this stack, from the bottom up
+        */
+        java.util.List<NonTerminalCall> toList() {
+            java.util.List<NonTerminalCall> result = new ArrayList<> (size);
+            for (int i = 0; i < size; i++) {
+                result.add(get(i));
+            }
+            return result;
+        }
+
+        void dump(PrintStream ps) {
+            for (int i = size-1; i>=0; i--) {
+                get(i).dump(ps);
+            }
+        }
+
+        public CallStack clone() {
+            try {
+                CallStack result = (CallStack)super.clone();
+                result.productionIds = productionIds.clone();
+                result.lines = lines.clone();
+                result.columns = columns.clone();
+                result.sourceFiles = sourceFiles.clone();
+                return result;
+            }
+            catch(CloneNotSupportedException e) {
+                throw new InternalError(e);
+            }
+        }
+
+    }
+
+
+    private final void pushOntoCallStack(int productionId, String fileName, int line, int column) {
+        parsingStack.push(productionId, fileName, line, column);
+    }
+
+    private final void popCallStack() {
+        int top = parsingStack.size()-1;
+        this.currentlyParsedProduction = parsingStack.getProductionId(top);
+        parsingStack.pop();
+    }
+
+    private final void restoreCallStack(int prevSize) {
+        while (parsingStack.size() > prevSize) {
+            popCallStack();
+        }
+    }
+
+    private final void pushOntoLookaheadStack(int productionId, String fileName, int line, int column) {
+        lookaheadStack.push(productionId, fileName, line, column);
+    }
+
+    private final void popLookaheadStack() {
+        this.currentLookaheadProduction = lookaheadStack.getProductionId(lookaheadStack.size()-1);
+        lookaheadStack.pop();
+    }
+
+    void dumpLookaheadStack(PrintStream ps) {
+        lookaheadStack.dump(ps);
+    }
+
+    void dumpCallStack(PrintStream ps) {
+        parsingStack.dump(ps);
+    }
+
+    void dumpLookaheadCallStack(PrintStream ps) {
+        ps.println("Current Parser Production is: "+productionName(currentlyParsedProduction));
+        ps.println("Current Lookahead Production is: "+productionName(currentLookaheadProduction));
+        ps.println("---Lookahead Stack---");
+        dumpLookaheadStack(ps);
+        ps.println("---Call Stack---");
+        dumpCallStack(ps);
+    }
+
+    public boolean isParserTolerant() {
+        return false;
+    }
+
+    public void setParserTolerant(boolean tolerantParsing) {
+        if (tolerantParsing) {
+            throw new UnsupportedOperationException("This parser was not built with that feature!");
+        }
+    }
+
+    private Token consumeToken(TokenType expectedType) {
+        Token nextToken = nextToken(lastConsumedToken);
+        if (nextToken.getType()!=expectedType) {
+            nextToken = handleUnexpectedTokenType(expectedType, nextToken);
+        }
+        this.lastConsumedToken = nextToken;
+        this.nextTokenType = null;
+        if (buildTree&&tokensAreNodes) {
+            pushNode(lastConsumedToken);
+        }
+        return lastConsumedToken;
+    }
+
+    private Token handleUnexpectedTokenType(TokenType expectedType, Token nextToken) {
+        throw new ParseException(this, nextToken, EnumSet.of(expectedType), parsingStack.toList());
+    }
+
+
+    private class ParseState {
+        Token lastConsumed;
+        CallStack parsingStack;
+        LexicalState lexicalState;
+        NodeScope nodeScope;
+
+        ParseState() {
+            this.lastConsumed = FTLParser.this.lastConsumedToken;
+            this.parsingStack = FTLParser.this.parsingStack.clone();
+            this.lexicalState = token_source.lexicalState;
+            this.nodeScope = currentNodeScope.clone();
+        }
+
+    }
+
+    private ArrayList<ParseState> parseStateStack = new ArrayList<> ();
+    private boolean buildTree = true;
+    private boolean tokensAreNodes = true;
+    private boolean unparsedTokensAreNodes = false;
+
+    public boolean isTreeBuildingEnabled() {
+        return buildTree;
+    }
+
+    public void setUnparsedTokensAreNodes(boolean unparsedTokensAreNodes) {
+        this.unparsedTokensAreNodes = unparsedTokensAreNodes;
+    }
+
+    public void setTokensAreNodes(boolean tokensAreNodes) {
+        this.tokensAreNodes = tokensAreNodes;
+    }
+
+    NodeScope currentNodeScope = new NodeScope();
+
+    /**
+    * @return the root node of the AST. It only makes sense to call
+    * this after a successful parse.
+    */
+    public Node rootNode() {
+        return currentNodeScope.rootNode();
+    }
+
+    /**
+    * push a node onto the top of the node stack
+    * @param n the node to push
+    */
+    public void pushNode(Node n) {
+        currentNodeScope.add(n);
+    }
+
+    /**
+    * @return the node on the top of the stack, and remove it from the
+    * stack.
+    */
+    public Node popNode() {
+        return currentNodeScope.pop();
+    }
+
+    /**
+    * @return the node currently on the top of the tree-building stack.
+    */
+    public Node peekNode() {
+        return currentNodeScope.peek();
+    }
+
+    /**
+    * Puts the node on the top of the stack. However, unlike pushNode()
+    * it replaces the node that is currently on the top of the stack.
+    * This is effectively equivalent to popNode() followed by pushNode(n)
+    * @param n the node to poke
+    */
+    public void pokeNode(Node n) {
+        currentNodeScope.poke(n);
+    }
+
+    /**
+    * @return the number of Nodes on the tree-building stack in the current node
+    * scope.
+    */
+    public int nodeArity() {
+        return currentNodeScope.size();
+    }
+
+    private void clearNodeScope() {
+        currentNodeScope.clear();
+    }
+
+    private void openNodeScope(Node n) {
+        currentNodeScope.open();
+        if (n!=null) {
+            Token next = nextToken(lastConsumedToken);
+            n.setTokenSource(lastConsumedToken.getTokenSource());
+            n.setBeginOffset(next.getBeginOffset());
+            n.open();
+        }
+    }
+
+    /* A definite node is constructed from a specified number of
+    * children.  That number of nodes are popped from the stack and
+    * made the children of the definite node.  Then the definite node
+    * is pushed on to the stack.
+    */
+    private void closeNodeScope(Node n, int num) {
+        n.setEndOffset(lastConsumedToken.getEndOffset());
+        currentNodeScope.close();
+        // FIXME deal with the UNPARSED_TOKENS_ARE_NODES case
+        currentNodeScope.popInto(n, num);
+        n.close();
+        pushNode(n);
+    }
+
+    /**
+    * A conditional node is constructed if the condition is true.  All
+    * the nodes that have been pushed since the node was opened are
+    * made children of the conditional node, which is then pushed
+    * on to the stack.  If the condition is false the node is not
+    * constructed and they are left on the stack.
+    */
+    private void closeNodeScope(Node n, boolean condition) {
+        if (n!=null&&condition) {
+            n.setEndOffset(lastConsumedToken.getEndOffset());
+            int a = nodeArity();
+            currentNodeScope.close();
+            if (!unparsedTokensAreNodes) {
+                currentNodeScope.popInto(n, a);
+            }
+            else for (Node child : currentNodeScope.popNodes(a)) {
+                if (child instanceof Token) {
+                    Token tok = (Token)child;
+                    while (tok.previousCachedToken()!=null&&tok.previousCachedToken().isUnparsed()) {
+                        tok = tok.previousCachedToken();
+                    }
+                    while (tok.isUnparsed()) {
+                        n.addChild(tok);
+                        tok = tok.nextCachedToken();
+                    }
+                }
+                n.addChild(child);
+            }
+            n.close();
+            pushNode(n);
+        }
+        else {
+            currentNodeScope.close();
+        }
+    }
+
+    public boolean getBuildTree() {
+        return buildTree;
+    }
+
+    public void setBuildTree(boolean buildTree) {
+        this.buildTree = buildTree;
+    }
+
+    /**
+    * Just a kludge so that existing jjtree-based code that uses
+    * parser.jjtree.foo can work without change.
+    */
+    FTLParser jjtree = this;
+
+    /**
+    * The tree-building stack. All the node scopes share a single array of
+    * nodes, and an open scope is just a mark, i.e. the index in the array at
+    * which it begins, so opening or closing a scope does not allocate or copy
+    * anything. The stack operations, like peek() and pop(), reach into the
+    * enclosing scopes when the current one is empty.
+    */
+    class NodeScope implements Cloneable {
+        private Node[]nodes = new Node[64];
+        private int size;
+        // Where each open scope, other than the root one, begins
+        private int[]marks = new int[16];
+        private int depth;
+
+        void open() {
+            if (depth==marks.length) {
+                marks = Arrays.copyOf(marks, depth*2);
+            }
+            marks[depth++] = size;
+        }
+
+        /**
+        * Closes the current scope, so that its nodes
+        * now belong to the enclosing one
+        */
+        void close() {
+            --depth;
+        }
+
+        private int mark() {
+            return depth==0 ? 0 : marks[depth-1];
+        }
+
+        boolean isRootScope() {
+            return depth==0;
+        }
+
+        Node rootNode() {
+            int rootScopeSize = depth==0 ? size : marks[0];
+            return rootScopeSize==0 ? null : nodes[0];
+        }
+
+        /**
+        * @return the number of nodes in the current scope
+        */
+        int size() {
+            return size-mark();
+        }
+
+        boolean isEmpty() {
+            return size==mark();
+        }
+
+        void add(Node n) {
+            if (size==nodes.length) {
+                nodes = Arrays.copyOf(nodes, size*2);
+            }
+            nodes[size++] = n;
+        }
+
+        Node peek() {
+            return size==0 ? null : nodes[size-1];
+        }
+
+        Node pop() {
+            Node result = nodes[--size];
+            nodes[size] = null;
+            truncateScopes();
+            return result;
+        }
+
+        void poke(Node n) {
+            nodes[size-1] = n;
+        }
+
+        void clear() {
+            int mark = mark();
+            Arrays.fill(nodes, mark, size, null);
+            size = mark;
+        }
+
+        /**
+        * Empties the stack and closes all the scopes,
+        * leaving the arrays as they are, to be reused
+        */
+        void reset() {
+            Arrays.fill(nodes, 0, size, null);
+            size = 0;
+            depth = 0;
+        }
+
+        /**
+        * Removes the top num nodes from the stack and makes them
+        * the children of the given node, in the order they were pushed.
+        */
+        void popInto(Node parent, int num) {
+            int from = size-num;
+            parent.addChildren(nodes, from, size);
+            Arrays.fill(nodes, from, size, null);
+            size = from;
+            truncateScopes();
+        }
+
+        /**
+        * Removes the top num nodes from the stack
+        * @return the removed nodes, in the order they were pushed
+        */
+        Node[]popNodes(int num) {
+            int from = size-num;
+            Node[]result = Arrays.copyOfRange(nodes, from, size);
+            Arrays.fill(nodes, from, size, null);
+            size = from;
+            truncateScopes();
+            return result;
+        }
+
+        // After popping past the beginning of the current scope (and maybe
+        // enclosing ones) those scopes now begin where the stack ends.
+        private void truncateScopes() {
+            for (int i = depth-1; i>=0&&marks[i] > size; i--) {
+                marks[i] = size;
+            }
+        }
+
+        int nestingLevel() {
+            return depth;
+        }
+
+        public NodeScope clone() {
+            try {
+                NodeScope clone = (NodeScope)super.clone();
+                clone.nodes = Arrays.copyOf(nodes, Math.max(size, 16));
+                clone.marks = Arrays.copyOf(marks, Math.max(depth, 16));
+                return clone;
+            }
+            catch(CloneNotSupportedException e) {
+                throw new InternalError(e);
+            }
+        }
+
+    }
+
+}
+
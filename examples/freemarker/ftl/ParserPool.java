@@ -0,0 +1,68 @@
+/* Generated by: JavaCC 21 Parser Generator. ParserPool.java */
+package ftl;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ArrayBlockingQueue;
+
+
+/**
+* A pool of FTLParser objects, so that many (typically small) inputs
+* can be parsed without constructing a new parser and lexer for each one.
+* A parser is taken from the pool with one of the acquire methods, which
+* resets it to parse the given input, and given back with #release, once
+* the Tokens and Nodes that it produced are no longer needed, since they
+* refer back to its lexer. The pool can be used from several threads,
+* but a given parser should only be used by one thread at a time.
+*/
+public class ParserPool {
+    private final ArrayBlockingQueue<FTLParser> idleParsers;
+
+    /**
+    * @param capacity the maximum number of idle parsers that are kept
+    */
+    public ParserPool(int capacity) {
+        idleParsers = new ArrayBlockingQueue<> (capacity);
+    }
+
+    /**
+    * @return a parser for the given input, which is an idle parser,
+    * reset, if there is one, or else a new one.
+    */
+    public FTLParser acquire(String inputSource, CharSequence content) {
+        FTLParser parser = idleParsers.poll();
+        if (parser==null) {
+            return new FTLParser(inputSource, content);
+        }
+        parser.reset(inputSource, content);
+        return parser;
+    }
+
+    public FTLParser acquire(CharSequence content) {
+        return acquire("input", content);
+    }
+
+    public FTLParser acquire(Path path) throws IOException {
+        return acquire(path.toString(), FTLLexer.stringFromBytes(Files.readAllBytes(path)));
+    }
+
+    /**
+    * Gives a parser back to the pool. It is simply dropped if the pool
+    * is already full.
+    * @param parser a parser that is no longer in use
+    */
+    public void release(FTLParser parser) {
+        idleParsers.offer(parser);
+    }
+
+    /**
+    * @return the number of idle parsers in the pool
+    */
+    public int size() {
+        return idleParsers.size();
+    }
+
+}
+
+
@@ -0,0 +1,1023 @@
+/* Generated by: JavaCC 21 Parser Generator. Node.java */
+package org.parsers.java;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.lang.reflect.*;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+
+public interface Node extends Comparable<Node>  {
+
+    /** Life-cycle hook method called after the node has been made the current
+    *  node
+    */
+    default void open() {
+    }
+
+    /**
+    * Life-cycle hook method called after all the child nodes have been
+    * added.
+    */
+    default void close() {
+    }
+
+    /**
+    * @return the input source (usually a filename) from which this Node came from
+    */
+    default String getInputSource() {
+        JavaLexer tokenSource = getTokenSource();
+        return tokenSource==null ? "input" : tokenSource.getInputSource();
+    }
+
+    /**
+    * Returns whether this node has any children.
+    *
+    * @return Returns <code>true</code> if this node has any children,
+    *         <code>false</code> otherwise.
+    */
+    default boolean hasChildNodes() {
+        return getChildCount() > 0;
+    }
+
+    /**
+    * @param n The Node to set as the parent. Mostly used internally.
+    * The various addChild or appendChild sorts of methods should use this
+    * to set the node's parent.
+    */
+    void setParent(Node n);
+
+    /**
+    * @return this node's parent Node
+    */
+    Node getParent();
+
+    // The following 9 methods will typically just 
+    // delegate straightforwardly to a List object that
+    // holds the child nodes
+    /**
+    * appends a child node to this Node
+    * @param n the Node to append
+    */
+    void addChild(Node n);
+
+    /**
+    * inserts a child Node at a specific index, displacing the
+    * nodes after the index by 1.
+    * @param i the (zero-based) index at which to insert the node
+    * @param n the Node to insert
+    */
+    void addChild(int i, Node n);
+
+    /**
+    * appends a range of nodes as children of this Node
+    * @param nodes the array that holds the nodes
+    * @param from the index of the first node to append
+    * @param to the index just past the last node to append
+    */
+    default void addChildren(Node[]nodes, int from, int to) {
+        for (int i = from; i < to; i++) {
+            addChild(nodes[i]);
+        }
+    }
+
+    /**
+    * @return the Node at the specific offset
+    * @param i the index of the Node to return
+    */
+    Node getChild(int i);
+
+    /**
+    * Replace the node at index i
+    * @param i the index
+    * @param n the node
+    */
+    void setChild(int i, Node n);
+
+    /**
+    * Remove the node at index i. Any Nodes after i
+    * are shifted to the left.
+    * @return the removed Node
+    * @param i the index at which to remove
+    */
+    Node removeChild(int i);
+
+    /**
+    * Removes the Node from this node's children
+    * @param n the Node to remove
+    * @return whether the Node was present
+    */
+    default boolean removeChild(Node n) {
+        int index = indexOf(n);
+        if (index==-1) return false;
+        removeChild(index);
+        return true;
+    }
+
+    /**
+    * Replaces a child node with another one. It does
+    * nothing if the first parameter is not actually a child node.
+    * @param current the Node to be replaced
+    * @param replacement the Node to substitute
+    * @return whether any replacement took place
+    */
+    default boolean replaceChild(Node current, Node replacement) {
+        int index = indexOf(current);
+        if (index==-1) return false;
+        setChild(index, replacement);
+        return true;
+    }
+
+    /**
+    * Insert a Node right before a given Node. It does nothing
+    * if the where Node is not actually a child node.
+    * @param where the Node that is the location where to prepend
+    * @param inserted the Node to prepend
+    * @return whether a Node was prepended
+    */
+    default boolean prependChild(Node where, Node inserted) {
+        int index = indexOf(where);
+        if (index==-1) return false;
+        addChild(index, inserted);
+        return true;
+    }
+
+    /**
+    * Insert a node right after a given Node. It does nothing
+    * if the where node is not actually a child node.
+    * @param where the Node after which to append
+    * @param inserted the Node to be inserted
+    * @return whether a Node really was appended
+    */
+    default boolean appendChild(Node where, Node inserted) {
+        int index = indexOf(where);
+        if (index==-1) return false;
+        addChild(index+1, inserted);
+        return true;
+    }
+
+    /**
+    * @return the index of the child Node. Or -1 if it is not
+    * a child Node.
+    * @param child the Node to get the index of
+    */
+    default int indexOf(Node child) {
+        for (int i = 0; i < getChildCount(); i++) {
+            if (child==getChild(i)) {
+                return i;
+            }
+        }
+        return-1;
+    }
+
+    default Node previousSibling() {
+        Node parent = getParent();
+        if (parent==null) return null;
+        int idx = parent.indexOf(this);
+        if (idx<=0) return null;
+        return parent.getChild(idx-1);
+    }
+
+    default Node nextSibling() {
+        Node parent = getParent();
+        if (parent==null) return null;
+        int idx = parent.indexOf(this);
+        if (idx>=parent.getChildCount()-1) return null;
+        return parent.getChild(idx+1);
+    }
+
+    /**
+    * Used to order Nodes by location.
+    * @param n the Node to compare to
+    * @return typical Comparator semantics
+    */
+    default int compareTo(Node n) {
+        if (this==n) return 0;
+        int diff = this.getBeginLine()-n.getBeginLine();
+        if (diff!=0) return diff;
+        diff = this.getBeginColumn()-n.getBeginColumn();
+        if (diff!=0) return diff;
+        // A child node is considered to come after its parent.
+        diff = n.getEndLine()-this.getEndLine();
+        if (diff!=0) return diff;
+        return n.getEndColumn()-this.getEndColumn();
+    }
+
+    /**
+    * Remove all the child nodes
+    */
+    void clearChildren();
+
+    /**
+    * @return the number of child nodes
+    */
+    int getChildCount();
+
+    /**
+    * @return a List containing this node's child nodes
+    * The default implementation returns a copy, so modifying the
+    * list that is returned has no effect on this object. Most
+    * implementations of this should similarly return a copy or
+    * possibly immutable wrapper around the list.
+    */
+    default List<Node> children(boolean includeUnparsedTokens) {
+        List<Node> result = new ArrayList<> ();
+        for (int i = 0; i < getChildCount(); i++) {
+            Node child = getChild(i);
+            if (includeUnparsedTokens&&child instanceof Token) {
+                Token tok = (Token)child;
+                if (!tok.isUnparsed()) {
+                    result.addAll(tok.precedingUnparsedTokens());
+                }
+            }
+            result.add(child);
+        }
+        return result;
+    }
+
+    default List<Node> children() {
+        return children(false);
+    }
+
+    /**
+    * @return a List containing all the tokens in a Node
+    * @param includeCommentTokens Whether to include comment tokens
+    */
+    default List<Token> getAllTokens(boolean includeCommentTokens) {
+        List<Token> result = new ArrayList<> ();
+        for (Iterator<Node> it = preOrderIterator(); it.hasNext();) {
+            Node child = it.next();
+            if (child instanceof Token) {
+                Token token = (Token)child;
+                if (token.isUnparsed()) {
+                    continue;
+                }
+                if (includeCommentTokens) {
+                    result.addAll(token.precedingUnparsedTokens());
+                }
+                result.add(token);
+            }
+        }
+        return result;
+    }
+
+    /**
+    * @return All the tokens in the node that
+    * are "real" (i.e. participate in parsing)
+    */
+    default List<Token> getRealTokens() {
+        return descendants(Token.class, t->!t.isUnparsed());
+    }
+
+    /**
+    * @return the #JavaLexer from which this Node object
+    * originated. There is no guarantee that this doesn't return null.
+    * Most likely that would simply be because you constructed the
+    * Node yourself, i.e. it didn't really come about via the parsing/tokenizing
+    * machinery.
+    */
+    JavaLexer getTokenSource();
+
+    void setTokenSource(JavaLexer tokenSource);
+
+    /**
+    * @return the original source content this Node came from
+    * a reference to the #JavaLexer that stores the source code and
+    * the start/end location info stored in the Node object itself.
+    * This method could throw a NullPointerException if #getTokenSource
+    * returns null. Also, the return value could be spurious if
+    * the content of the source file was changed meanwhile. But
+    * this is just the default implementation of an API and it does not
+    * address this problem!
+    */
+    default String getSource() {
+        JavaLexer tokenSource = getTokenSource();
+        return tokenSource==null ? null : tokenSource.getText(getBeginOffset(), getEndOffset());
+    }
+
+    /**
+    * @return the (1-based) line location where this Node starts
+    */
+    default int getBeginLine() {
+        JavaLexer tokenSource = getTokenSource();
+        return tokenSource==null ? 0 : tokenSource.getLineFromOffset(getBeginOffset());
+    }
+
+
+    ;
+
+
+    /**
+    * @return the (1-based) line location where this Node ends
+    */
+    default int getEndLine() {
+        JavaLexer tokenSource = getTokenSource();
+        return tokenSource==null ? 0 : tokenSource.getLineFromOffset(getEndOffset()-1);
+    }
+
+
+    ;
+
+
+    /**
+    * @return the (1-based) column where this Node starts
+    */
+    default int getBeginColumn() {
+        JavaLexer tokenSource = getTokenSource();
+        return tokenSource==null ? 0 : tokenSource.getCodePointColumnFromOffset(getBeginOffset());
+    }
+
+
+    ;
+
+
+    /**
+    * @return the (1-based) column offset where this Node ends
+    */
+    default int getEndColumn() {
+        JavaLexer tokenSource = getTokenSource();
+        return tokenSource==null ? 0 : tokenSource.getCodePointColumnFromOffset(getEndOffset()-1);
+    }
+
+    /**
+    * @return the offset in the input source where the token begins,
+    * expressed in code units.
+    */
+    int getBeginOffset();
+
+    /**
+    * @return the offset in the input source where the token ends,
+    * expressed in code units. This is actually the offset where the
+    * very next token would begin.
+    */
+    int getEndOffset();
+
+    /**
+    * Set the offset where the token begins, expressed in code units.
+    */
+    void setBeginOffset(int beginOffset);
+
+    /**
+    * Set the offset where the token ends, actually the location where
+    * the very next token should begin.
+    */
+    void setEndOffset(int endOffet);
+
+    /**
+    * @return a String that gives the starting location of this Node. This is a default
+    * implementation that could be overridden
+    */
+    default String getLocation() {
+        return getInputSource()+":"+getBeginLine()+":"+getBeginColumn();
+    }
+
+    /**
+    * @return whether this Node was created by regular operations of the
+    * parsing machinery.
+    */
+    default boolean isUnparsed() {
+        return false;
+    }
+
+    /**
+    * Mark whether this Node is unparsed, i.e. <i>not</i> the result of
+    * normal parsing
+    * @param b whether to set the Node as unparsed or parsed.
+    */
+    void setUnparsed(boolean b);
+
+    default<T extends Node> T firstChildOfType(Class<T> clazz) {
+        for (int i = 0; i < getChildCount(); i++) {
+            Node child = getChild(i);
+            if (clazz.isInstance(child)) return clazz.cast(child);
+        }
+        return null;
+    }
+
+    default<T extends Node> T firstChildOfType(Class<T> clazz, Predicate<T> pred) {
+        for (int i = 0; i < getChildCount(); i++) {
+            Node child = getChild(i);
+            if (clazz.isInstance(child)) {
+                T t = clazz.cast(child);
+                if (pred.test(t)) return t;
+            }
+        }
+        return null;
+    }
+
+    default Token firstDescendantOfType(JavaConstants.TokenType type) {
+        for (int i = 0; i < getChildCount(); i++) {
+            Node child = getChild(i);
+            if (child instanceof Token) {
+                Token tok = (Token)child;
+                if (tok.getType()==type) {
+                    return tok;
+                }
+            }
+            else {
+                Token tok = child.firstDescendantOfType(type);
+                if (tok!=null) return tok;
+            }
+        }
+        return null;
+    }
+
+    default Token firstChildOfType(JavaConstants.TokenType tokenType) {
+        for (int i = 0; i < getChildCount(); i++) {
+            Node child = getChild(i);
+            if (child instanceof Token) {
+                Token tok = (Token)child;
+                if (tok.getType()==tokenType) return tok;
+            }
+        }
+        return null;
+    }
+
+    default<T extends Node> T firstDescendantOfType(Class<T> clazz) {
+        for (int i = 0; i < getChildCount(); i++) {
+            Node child = getChild(i);
+            if (clazz.isInstance(child)) return clazz.cast(child); else {
+                T descendant = child.firstDescendantOfType(clazz);
+                if (descendant!=null) return descendant;
+            }
+        }
+        return null;
+    }
+
+    default<T extends Node> List<T> childrenOfType(Class<T> clazz) {
+        List<T> result = new java.util.ArrayList<> ();
+        for (int i = 0; i < getChildCount(); i++) {
+            Node child = getChild(i);
+            if (clazz.isInstance(child)) {
+                result.add(clazz.cast(child));
+            }
+        }
+        return result;
+    }
+
+    default<T extends Node> List<T> descendantsOfType(Class<T> clazz) {
+        return descendants(clazz, null);
+    }
+
+    default<T extends Node> T firstAncestorOfType(Class<T> clazz) {
+        Node parent = this;
+        while (parent!=null) {
+            parent = parent.getParent();
+            if (clazz.isInstance(parent)) {
+                return clazz.cast(parent);
+            }
+        }
+        return null;
+    }
+
+    default JavaConstants.TokenType getTokenType() {
+        return this instanceof Token ? ((Token)this).getType() : null;
+    }
+
+    /**
+    * @return the very first token that is part of this node.
+    * It may be an unparsed (i.e. special) token.
+    */
+    default Token getFirstToken() {
+        Node first = getFirstChild();
+        if (first==null) return null;
+        if (first instanceof Token) {
+            Token tok = (Token)first;
+            while (tok.previousCachedToken()!=null&&tok.previousCachedToken().isUnparsed()) {
+                tok = tok.previousCachedToken();
+            }
+            return tok;
+        }
+        return first.getFirstToken();
+    }
+
+    default Token getLastToken() {
+        Node last = getLastChild();
+        if (last==null) return null;
+        if (last instanceof Token) {
+            return(Token)last;
+        }
+        return last.getLastToken();
+    }
+
+    /**
+    * Copy the location info from another Node
+    * @param from the Node to copy the info from
+    */
+    default void copyLocationInfo(Node from) {
+        setTokenSource(from.getTokenSource());
+        setBeginOffset(from.getBeginOffset());
+        setEndOffset(from.getEndOffset());
+        setTokenSource(from.getTokenSource());
+    }
+
+    /**
+    * Copy the location info given a start and end Node
+    * @param start the start node
+    * @param end the end node
+    */
+    default void copyLocationInfo(Node start, Node end) {
+        setTokenSource(start.getTokenSource());
+        if (getTokenSource()==null) 
+        setTokenSource(end.getTokenSource());
+        setBeginOffset(start.getBeginOffset());
+        setEndOffset(end.getEndOffset());
+    }
+
+    default void replace(Node toBeReplaced) {
+        copyLocationInfo(toBeReplaced);
+        Node parent = toBeReplaced.getParent();
+        if (parent!=null) {
+            int index = parent.indexOf(toBeReplaced);
+            parent.setChild(index, this);
+        }
+    }
+
+    /**
+    * Returns the first child of this node. If there is no such node, this returns
+    * <code>null</code>.
+    *
+    * @return the first child of this node. If there is no such node, this returns
+    *         <code>null</code>.
+    */
+    default Node getFirstChild() {
+        return getChildCount() > 0 ? getChild(0) : null;
+    }
+
+    /**
+    * Returns the last child of the given node. If there is no such node, this
+    * returns <code>null</code>.
+    *
+    * @return the last child of the given node. If there is no such node, this
+    *         returns <code>null</code>.
+    */
+    default Node getLastChild() {
+        int count = getChildCount();
+        return count > 0 ? getChild(count-1) : null;
+    }
+
+    default Node getRoot() {
+        Node parent = this;
+        while (parent.getParent()!=null) {
+            parent = parent.getParent();
+        }
+        return parent;
+    }
+
+    static public List<Token> getTokens(Node node) {
+        return node.descendants(Token.class);
+    }
+
+    static public List<Token> getRealTokens(Node n) {
+        List<Token> result = new ArrayList<Token> ();
+        for (Token token : getTokens(n)) {
+            if (!token.isUnparsed()) {
+                result.add(token);
+            }
+        }
+        return result;
+    }
+
+    default List<Node> descendants() {
+        return descendants(Node.class, null);
+    }
+
+    default List<Node> descendants(Predicate< ? super Node> predicate) {
+        return descendants(Node.class, predicate);
+    }
+
+    default<T extends Node> List<T> descendants(Class<T> clazz) {
+        return descendants(clazz, null);
+    }
+
+    default<T extends Node> List<T> descendants(Class<T> clazz, Predicate< ? super T> predicate) {
+        List<T> result = new ArrayList<> ();
+        for (Iterator<Node> it = preOrderIterator(); it.hasNext();) {
+            Node descendant = it.next();
+            if (clazz.isInstance(descendant)) {
+                T t = clazz.cast(descendant);
+                if (predicate==null||predicate.test(t)) {
+                    result.add(t);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+    * @return the first descendant of this node, in pre-order, that
+    * satisfies the predicate, or null if there is none. The traversal
+    * stops as soon as it is found.
+    */
+    default Node firstDescendant(Predicate< ? super Node> predicate) {
+        return firstDescendant(Node.class, predicate);
+    }
+
+    /**
+    * @return the first descendant of this node, in pre-order, of the given
+    * type that satisfies the predicate (if it is not null), or null
+    * if there is none. The traversal stops as soon as it is found.
+    */
+    default<T extends Node> T firstDescendant(Class<T> clazz, Predicate< ? super T> predicate) {
+        for (Iterator<Node> it = preOrderIterator(); it.hasNext();) {
+            Node descendant = it.next();
+            if (clazz.isInstance(descendant)) {
+                T t = clazz.cast(descendant);
+                if (predicate==null||predicate.test(t)) {
+                    return t;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+    * @return an Iterator over the descendants of this node (not including
+    * the node itself) in pre-order, i.e. the order that #descendants()
+    * returns them in, but without building a list.
+    */
+    default Iterator<Node> preOrderIterator() {
+        return new DescendantIterator(this, false);
+    }
+
+    /**
+    * @return an Iterator over the descendants of this node (not including
+    * the node itself) in post-order, i.e. each node after its children.
+    */
+    default Iterator<Node> postOrderIterator() {
+        return new DescendantIterator(this, true);
+    }
+
+    /**
+    * @return a Spliterator over the descendants of this node, in pre-order.
+    * It can be split, so that a big tree can be walked with a parallel stream.
+    */
+    default Spliterator<Node> descendantSpliterator() {
+        return new DescendantSpliterator(null, null, this, 0, getChildCount());
+    }
+
+    /**
+    * @return a (lazy) Stream of the descendants of this node, in pre-order.
+    */
+    default Stream<Node> descendantStream() {
+        return StreamSupport.stream(descendantSpliterator(), false);
+    }
+
+    /**
+    * @return a (lazy) Stream of the descendants of this node of the given type,
+    * in pre-order.
+    */
+    default<T extends Node> Stream<T> descendantStream(Class<T> clazz) {
+        return descendantStream().filter(clazz::isInstance).map(clazz::cast);
+    }
+
+    default void dump(String prefix) {
+        String output;
+        if (this instanceof Token) {
+            output = toString().trim();
+        }
+        else {
+            output = String.format("<%s (%d, %d)-(%d, %d)>", getClass().getSimpleName(), getBeginLine(), getBeginColumn(), getEndLine(), getEndColumn());
+        }
+        // String output = (this instanceof Token) ? toString().trim() : getClass().getSimpleName();
+        if (output.length() > 0) {
+            System.out.println(prefix+output);
+        }
+        for (Iterator<Node> it = iterator(); it.hasNext();) {
+            Node child = it.next();
+            child.dump(prefix+"  ");
+        }
+    }
+
+    default void dump() {
+        dump("");
+    }
+
+    // NB: This is not thread-safe
+    // If the node's children could change out from under you,
+    // you could have a problem.
+    default public ListIterator<Node> iterator() {
+        return new ListIterator<Node> () {
+            private int current = -1;
+            private boolean justModified;
+
+            public boolean hasNext() {
+                return current+1 < getChildCount();
+            }
+
+            public Node next() {
+                justModified = false;
+                return getChild(++current);
+            }
+
+            public Node previous() {
+                justModified = false;
+                return getChild(--current);
+            }
+
+            public void remove() {
+                if (justModified) throw new IllegalStateException();
+                removeChild(current);
+                --current;
+                justModified = true;
+            }
+
+            public void add(Node n) {
+                if (justModified) throw new IllegalStateException();
+                addChild(current+1, n);
+                justModified = true;
+            }
+
+            public boolean hasPrevious() {
+                return current > 0;
+            }
+
+            public int nextIndex() {
+                return current+1;
+            }
+
+            public int previousIndex() {
+                return current;
+            }
+
+            public void set(Node n) {
+                setChild(current, n);
+            }
+
+        }
+        ;
+    }
+
+
+    /**
+    * Iterates over the descendants of a node, in pre-order or post-order.
+    * It keeps the path from the node to the current one, with the index
+    * of the next child at each level, so it does not build any list.
+    * Like the other iterators here, it is not thread-safe and the tree
+    * should not be modified while it is in use.
+    */
+    static class DescendantIterator implements Iterator<Node>  {
+        private final boolean postOrder;
+        private Node[]path = new Node[16];
+        private int[]nextChildIndexes = new int[16];
+        private int depth;
+        private Node next;
+
+        DescendantIterator(Node node, boolean postOrder) {
+            this.postOrder = postOrder;
+            path[0] = node;
+            depth = 1;
+        }
+
+        public boolean hasNext() {
+            if (next==null) 
+            next = advance();
+            return next!=null;
+        }
+
+        public Node next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            Node result = next;
+            next = null;
+            return result;
+        }
+
+        private Node advance() {
+            while (depth > 0) {
+                Node node = path[depth-1];
+                int index = nextChildIndexes[depth-1];
+                if (index < node.getChildCount()) {
+                    nextChildIndexes[depth-1]++;
+                    Node child = node.getChild(index);
+                    if (depth==path.length) {
+                        path = Arrays.copyOf(path, depth*2);
+                        nextChildIndexes = Arrays.copyOf(nextChildIndexes, depth*2);
+                    }
+                    path[depth] = child;
+                    nextChildIndexes[depth] = 0;
+                    depth++;
+                    if (!postOrder) return child;
+                }
+                else {
+                    path[--depth] = null;
+                    // The node the iteration started from is not one of its descendants
+                    if (postOrder&&depth > 0) return node;
+                }
+            }
+            return null;
+        }
+
+    }
+
+
+    /**
+    * A Spliterator over the nodes in a range of the children of a node
+    * and their descendants, in pre-order, possibly preceded by a given
+    * node and the rest of a traversal in progress. It splits by
+    * handing over the first half of the range, or, if there is only one
+    * child left, by going down into it.
+    */
+    static class DescendantSpliterator implements Spliterator<Node>  {
+        private Node head;
+        private Iterator<Node> current;
+        private Node parent;
+        private int from, to;
+
+        DescendantSpliterator(Node head, Iterator<Node> current, Node parent, int from, int to) {
+            this.head = head;
+            this.current = current;
+            this.parent = parent;
+            this.from = from;
+            this.to = to;
+        }
+
+        public boolean tryAdvance(Consumer< ? super Node> action) {
+            Node node;
+            if (head!=null) {
+                node = head;
+                head = null;
+            }
+            else if (current!=null&&current.hasNext()) {
+                node = current.next();
+            }
+            else if (from < to) {
+                node = parent.getChild(from++);
+                current = node.getChildCount() > 0 ? node.preOrderIterator() : null;
+            }
+            else {
+                return false;
+            }
+            action.accept(node);
+            return true;
+        }
+
+        public Spliterator<Node> trySplit() {
+            if (to-from==1&&head==null&&(current==null||!current.hasNext())) {
+                Node child = parent.getChild(from);
+                if (child.getChildCount() < 2) return null;
+                head = child;
+                current = null;
+                parent = child;
+                from = 0;
+                to = child.getChildCount();
+            }
+            if (to-from < 2) return null;
+            int mid = (from+to)>>>1;
+            Spliterator<Node> prefix = new DescendantSpliterator(head, current, parent, from, mid);
+            head = null;
+            current = null;
+            from = mid;
+            return prefix;
+        }
+
+        public long estimateSize() {
+            // The size is not known without walking the tree, so 
+            // this uses the length of the source text the nodes span,
+            // which is roughly proportional to it.
+            if (from>=to) return head!=null||current!=null ? 1 : 0;
+            long span = parent.getChild(to-1).getEndOffset()-parent.getChild(from).getBeginOffset();
+            return Math.max(span, to-from);
+        }
+
+        public int characteristics() {
+            return ORDERED|NONNULL;
+        }
+
+    }
+
+
+    static abstract public class Visitor {
+        // The handlers of each visitor class, by node class. A ClassValue
+        // is used rather than a global synchronized map, so that looking 
+        // them up does not need a lock.
+        static private final ClassValue<Map<Class< ? extends Node> , Handler>> handlerCache = new ClassValue<Map<Class< ? extends Node> , Handler>> () {
+
+            protected Map<Class< ? extends Node> , Handler> computeValue(Class< ? > visitorClass) {
+                return new ConcurrentHashMap<Class< ? extends Node> , Handler> ();
+            }
+
+        }
+        ;
+        // The handler used when there is no visit method for a node type
+        static private final Handler RECURSE = (visitor, node)->visitor.recurse(node);
+
+        /**
+        * Calls a visit(...) method of a visitor. The handlers are bound,
+        * with LambdaMetafactory where the visit method is accessible and
+        * with a plain MethodHandle otherwise, so visiting a node does not
+        * go through Method.invoke.
+        */
+        @FunctionalInterface
+        private interface Handler {
+
+            void visit(Visitor visitor, Node node) throws Throwable;
+
+        }
+
+        private final Map<Class< ? extends Node> , Handler> handlers = handlerCache.get(this.getClass());
+        protected boolean visitUnparsedTokens;
+
+        private Handler getHandler(Node node) {
+            Class< ? extends Node> nodeClass = node.getClass();
+            Handler handler = handlers.get(nodeClass);
+            if (handler==null) {
+                handler = createHandler(getVisitMethodImpl(nodeClass));
+                handlers.put(nodeClass, handler);
+            }
+            return handler;
+        }
+
+        private Handler createHandler(Method method) {
+            if (method==null) return RECURSE;
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            MethodHandle target;
+            try {
+                target = lookup.unreflect(method);
+            }
+            catch(IllegalAccessException iae) {
+                throw new RuntimeException(iae);
+            }
+            try {
+                CallSite site = LambdaMetafactory.metafactory(lookup, "visit", MethodType.methodType(Handler.class), MethodType.methodType(void.class, Visitor.class, Node.class), target, target.type());
+                return(Handler)site.getTarget().invoke();
+            }
+            catch(Throwable t) {
+                // The visit method could not be bound from here, which can
+                // happen on older JVMs if it or the visitor class is not
+                // public, so just call it through the method handle.
+                MethodHandle handle = target.asType(MethodType.methodType(void.class, Visitor.class, Node.class));
+                return(visitor, node)-> {
+                    handle.invokeExact(visitor, node);
+                }
+                ;
+            }
+        }
+
+        // Find handler method for this node type. If there is none, 
+        // it checks for a handler for any explicitly marked interfaces
+        // If necessary, it climbs the class hierarchy to superclasses
+        private Method getVisitMethodImpl(Class< ? > nodeClass) {
+            if (nodeClass==null||!Node.class.isAssignableFrom(nodeClass)) return null;
+            try {
+                Method m = this.getClass().getDeclaredMethod("visit", nodeClass);
+                if (!Modifier.isPublic(nodeClass.getModifiers())||!Modifier.isPublic(m.getModifiers())) {
+                    m.setAccessible(true);
+                }
+                return m;
+            }
+            catch(NoSuchMethodException e) {
+            }
+            for (Class< ? > interf : nodeClass.getInterfaces()) {
+                if (Node.class.isAssignableFrom(interf)&&!Node.class.equals(interf)) try {
+                    Method m = this.getClass().getDeclaredMethod("visit", interf);
+                    if (!Modifier.isPublic(interf.getModifiers())||!Modifier.isPublic(m.getModifiers())) {
+                        m.setAccessible(true);
+                    }
+                    return m;
+                }
+                catch(NoSuchMethodException e) {
+                }
+            }
+            return getVisitMethodImpl(nodeClass.getSuperclass());
+        }
+
+        /**
+        * Invokes the appropriate visit(...) method defined in a subclass.
+        * If there is none, it just calls the recurse() routine.
+        * @param node the Node to "visit"
+        */
+        public final void visit(Node node) {
+            try {
+                getHandler(node).visit(this, node);
+            }
+            catch(RuntimeException|Error e) {
+                throw e;
+            }
+            catch(Throwable t) {
+                throw new RuntimeException(t);
+            }
+        }
+
+        /**
+        * Just recurses over (i.e. visits) node's children
+        * @param node the node we are traversing
+        */
+        public final void recurse(Node node) {
+            for (Node child : node.children(visitUnparsedTokens)) {
+                visit(child);
+            }
+        }
+
+    }
+
+}
+
+
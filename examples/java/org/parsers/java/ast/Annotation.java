@@ -0,0 +1,18 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for Annotation AST Node type
+* by the ASTNode.java.ftl template
+*/
+package org.parsers.java.ast;
+
+import org.parsers.java.*;
+
+
+public interface Annotation extends Node {
+
+    default String getName() {
+        return firstChildOfType(Name.class).toString();
+    }
+
+}
+
+
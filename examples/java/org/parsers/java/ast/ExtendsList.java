@@ -0,0 +1,20 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for ExtendsList AST Node type
+* by the ASTNode.java.ftl template
+*/
+package org.parsers.java.ast;
+
+import org.parsers.java.*;
+import static org.parsers.java.JavaConstants.TokenType.*;
+import java.util.List;
+
+
+public class ExtendsList extends BaseNode {
+
+    public List<ObjectType> getTypes() {
+        return childrenOfType(ObjectType.class);
+    }
+
+}
+
+
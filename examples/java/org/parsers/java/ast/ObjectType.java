@@ -0,0 +1,22 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for ObjectType AST Node type
+* by the ASTNode.java.ftl template
+*/
+package org.parsers.java.ast;
+
+import org.parsers.java.*;
+import static org.parsers.java.JavaConstants.TokenType.*;
+
+
+public class ObjectType extends BaseNode implements Type {
+
+    public boolean equals(Object obj) {
+        if (obj instanceof ObjectType) {
+            return((ObjectType)obj).toString().equals(this.toString());
+        }
+        return false;
+    }
+
+}
+
+
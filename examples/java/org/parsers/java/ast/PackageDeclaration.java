@@ -0,0 +1,26 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for PackageDeclaration AST Node type
+* by the ASTNode.java.ftl template
+*/
+package org.parsers.java.ast;
+
+import org.parsers.java.*;
+import static org.parsers.java.JavaConstants.TokenType.*;
+
+
+public class PackageDeclaration extends BaseNode {
+    private Name packageName;
+
+    //Inserted getter for packageName
+    public Name getPackageName() {
+        return packageName;
+    }
+
+    //Inserted setter for packageName
+    public void setPackageName(Name packageName) {
+        this.packageName = packageName;
+    }
+
+}
+
+
@@ -0,0 +1,30 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for Parentheses AST Node type
+* by the ASTNode.java.ftl template
+*/
+package org.parsers.java.ast;
+
+import org.parsers.java.*;
+import static org.parsers.java.JavaConstants.TokenType.*;
+
+
+public class Parentheses extends BaseNode implements Expression {
+    private Expression nestedExpression;
+
+    //Inserted getter for nestedExpression
+    public Expression getNestedExpression() {
+        return nestedExpression;
+    }
+
+    //Inserted setter for nestedExpression
+    public void setNestedExpression(Expression nestedExpression) {
+        this.nestedExpression = nestedExpression;
+    }
+
+    public boolean isAssignableTo() {
+        return nestedExpression.isAssignableTo();
+    }
+
+}
+
+
@@ -0,0 +1,1014 @@
+/* Generated by: JavaCC 21 Parser Generator. JSONParser.java */
+package org.parsers.json;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import org.parsers.json.ast.Array;
+import org.parsers.json.ast.Value;
+import org.parsers.json.ast.KeyValuePair;
+import org.parsers.json.ast.JSONObject;
+import org.parsers.json.ast.Root;
+import static org.parsers.json.JSONConstants.TokenType.*;
+
+
+public class JSONParser implements JSONConstants {
+    static final int UNLIMITED = Integer.MAX_VALUE;
+    // The last token successfully "consumed"
+    Token lastConsumedToken;
+    private TokenType nextTokenType;
+    private Token currentLookaheadToken;
+    private int remainingLookahead;
+    private boolean hitFailure, passedPredicate;
+    // The names of the parser productions, indexed by the ids
+    // that identify them on the call stacks
+    private static final String[]PRODUCTION_NAMES =  {"Array", "Value", "KeyValuePair", "JSONObject", "Root", };
+    private static final Map<String, Integer> PRODUCTION_IDS = new HashMap<> ();
+    static {
+        for (int i = 0; i < PRODUCTION_NAMES.length; i++) {
+            PRODUCTION_IDS.put(PRODUCTION_NAMES[i], i);
+        }
+    }
+    private int currentlyParsedProduction = -1, currentLookaheadProduction = -1;
+    private int lookaheadRoutineNesting, passedPredicateThreshold = -1;
+    private EnumSet<TokenType> outerFollowSet;
+    private boolean cancelled;
+
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /** Generated Lexer. */
+    public JSONLexer token_source;
+
+    public void setInputSource(String inputSource) {
+        token_source.setInputSource(inputSource);
+    }
+
+    String getInputSource() {
+        return token_source.getInputSource();
+    }
+
+    //=================================
+    // Generated constructors
+    //=================================
+    public JSONParser(String inputSource, CharSequence content) {
+        this(new JSONLexer(inputSource, content));
+    }
+
+    public JSONParser(CharSequence content) {
+        this("input", content);
+    }
+
+    /**
+    * @param inputSource just the name of the input source (typically the filename) that
+    * will be used in error messages and so on.
+    * @param path The location (typically the filename) from which to get the input to parse
+    */
+    public JSONParser(String inputSource, Path path) throws IOException {
+        this(inputSource, JSONLexer.stringFromBytes(Files.readAllBytes(path)));
+    }
+
+    public JSONParser(String inputSource, Path path, Charset charset) throws IOException {
+        this(inputSource, JSONLexer.stringFromBytes(Files.readAllBytes(path), charset));
+    }
+
+    /**
+    * @param inputSource just the name of the input source (typically the filename) that
+    * will be used in error messages and so on.
+    * @param path The location (typically the filename) from which to get the input to parse
+    * @param charset The encoding of the file. If this is null, it is worked out from the byte order mark,
+    * defaulting to UTF-8.
+    * @param memoryMapped whether to memory-map the file rather than read it into memory.
+    * (See JSONLexer#mapFile)
+    */
+    public JSONParser(String inputSource, Path path, Charset charset, boolean memoryMapped) throws IOException {
+        this(inputSource, memoryMapped ? JSONLexer.mapFile(path, charset) : JSONLexer.stringFromBytes(Files.readAllBytes(path), charset));
+    }
+
+    /**
+    * @param path The location (typically the filename) from which to get the input to parse
+    */
+    public JSONParser(Path path) throws IOException {
+        this(path.toString(), path);
+    }
+
+    /**
+    * @Deprecated Use the constructor that takes a #java.nio.files.Path or just
+    * a String (i.e. CharSequence) directly.
+    */
+    public JSONParser(java.io.InputStream stream) {
+        this(new InputStreamReader(stream));
+    }
+
+    /**
+    * @Deprecated Use the constructor that takes a #java.nio.files.Path or just
+    * a String (i.e. CharSequence) directly.
+    */
+    public JSONParser(Reader reader) {
+        this(new JSONLexer("input", reader));
+    }
+
+    /** Constructor with user supplied Lexer. */
+    public JSONParser(JSONLexer lexer) {
+        token_source = lexer;
+        lastConsumedToken = lexer.DUMMY_START_TOKEN;
+        lastConsumedToken.setTokenSource(lexer);
+    }
+
+    /**
+    * Resets this parser, and its lexer, so that it parses the given input
+    * from the start, reusing the internal buffers of both rather than
+    * constructing new objects. This is meant for parsing many (typically small)
+    * inputs in turn, possibly via a ParserPool. The Tokens and Nodes from the
+    * previous input should not be used after this, since they refer back to
+    * the lexer. Any state added to the parser by injected code is not reset.
+    * @param inputSource just the name of the input source (typically the filename) that
+    * will be used in error messages and so on.
+    * @param content the input to parse
+    */
+    public void reset(String inputSource, CharSequence content) {
+        token_source.reset(inputSource, content);
+        lastConsumedToken = token_source.DUMMY_START_TOKEN;
+        lastConsumedToken.setTokenSource(token_source);
+        nextTokenType = null;
+        currentLookaheadToken = null;
+        remainingLookahead = 0;
+        hitFailure = passedPredicate = false;
+        currentlyParsedProduction = currentLookaheadProduction = -1;
+        lookaheadRoutineNesting = 0;
+        passedPredicateThreshold = -1;
+        outerFollowSet = null;
+        cancelled = false;
+        parsingStack.clear();
+        lookaheadStack.clear();
+        parseStateStack.clear();
+        currentNodeScope.reset();
+    }
+
+    public void reset(CharSequence content) {
+        reset("input", content);
+    }
+
+    /**
+    * Resets this parser to parse the given file. (See #reset(String, CharSequence))
+    * @param path The location (typically the filename) from which to get the input to parse
+    */
+    public void reset(Path path) throws IOException {
+        reset(path.toString(), JSONLexer.stringFromBytes(Files.readAllBytes(path)));
+    }
+
+    // If the next token is cached, it returns that
+    // Otherwise, it goes to the token_source, i.e. the Lexer.
+    final private Token nextToken(final Token tok) {
+        Token result = token_source.getNextToken(tok);
+        while (result.isUnparsed()) {
+            result = token_source.getNextToken(result);
+        }
+        nextTokenType = null;
+        return result;
+    }
+
+    /**
+    * @return the next Token off the stream. This is the same as #getToken(1)
+    */
+    final public Token getNextToken() {
+        return getToken(1);
+    }
+
+    /**
+    * @param index how many tokens to look ahead
+    * @return the specific regular (i.e. parsed) Token index ahead/behind in the stream.
+    * If we are in a lookahead, it looks ahead from the currentLookaheadToken
+    * Otherwise, it is the lastConsumedToken. If you pass in a negative
+    * number it goes backward.
+    */
+    final public Token getToken(final int index) {
+        Token t = currentLookaheadToken==null ? lastConsumedToken : currentLookaheadToken;
+        for (int i = 0; i < index; i++) {
+            t = nextToken(t);
+        }
+        for (int i = 0; i > index; i--) {
+            t = t.getPrevious();
+            if (t==null) break;
+        }
+        return t;
+    }
+
+    private final TokenType nextTokenType() {
+        if (nextTokenType==null) {
+            nextTokenType = nextToken(lastConsumedToken).getType();
+        }
+        return nextTokenType;
+    }
+
+    boolean activateTokenTypes(TokenType...types) {
+        boolean result = false;
+        for (TokenType tt : types) {
+            result|=token_source.activeTokenTypes.add(tt);
+        }
+        if (result) {
+            token_source.reset(getToken(0));
+            nextTokenType = null;
+        }
+        return result;
+    }
+
+    boolean deactivateTokenTypes(TokenType...types) {
+        boolean result = false;
+        for (TokenType tt : types) {
+            result|=token_source.activeTokenTypes.remove(tt);
+        }
+        if (result) {
+            token_source.reset(getToken(0));
+            nextTokenType = null;
+        }
+        return result;
+    }
+
+    private static int productionId(String productionName) {
+        Integer id = PRODUCTION_IDS.get(productionName);
+        return id==null ? -1 : id;
+    }
+
+    private static String productionName(int productionId) {
+        return productionId < 0 ? null : PRODUCTION_NAMES[productionId];
+    }
+
+    // /root/project/examples/json/JSON.javacc:66:1
+    final public void Array() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 0;
+        Array Array1 = null;
+        if (buildTree) {
+            Array1 = new Array();
+            openNodeScope(Array1);
+        }
+        ParseException parseException2 = null;
+        int callStackSize3 = parsingStack.size();
+        try {
+            // Code for RegexpRef specified at /root/project/examples/json/JSON.javacc:67:5
+            consumeToken(OPEN_BRACKET);
+            // Code for ZeroOrOne specified at /root/project/examples/json/JSON.javacc:68:5
+            if ((first_set$JSON_javacc$69$7_MASK&(1L<<nextTokenType().ordinal()))!=0) {
+                // Code for NonTerminal specified at /root/project/examples/json/JSON.javacc:69:7
+                pushOntoCallStack(0, "/root/project/examples/json/JSON.javacc", 69, 7);
+                try {
+                    Value();
+                }
+                finally {
+                    popCallStack();
+                }
+                // Code for ZeroOrMore specified at /root/project/examples/json/JSON.javacc:69:14
+                while (true) {
+                    if (!(nextTokenType()==COMMA)) break;
+                    // Code for RegexpRef specified at /root/project/examples/json/JSON.javacc:69:15
+                    consumeToken(COMMA);
+                    // Code for NonTerminal specified at /root/project/examples/json/JSON.javacc:69:23
+                    pushOntoCallStack(0, "/root/project/examples/json/JSON.javacc", 69, 23);
+                    try {
+                        Value();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+            }
+            // Code for RegexpRef specified at /root/project/examples/json/JSON.javacc:71:5
+            consumeToken(CLOSE_BRACKET);
+        }
+        catch(ParseException e) {
+            parseException2 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize3);
+            if (Array1!=null) {
+                if (parseException2==null) {
+                    closeNodeScope(Array1, nodeArity() > 1);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final EnumSet<TokenType> Value_FIRST_SET = EnumSet.of(OPEN_BRACKET, OPEN_BRACE, TRUE, FALSE, NULL, STRING_LITERAL, NUMBER);
+
+    // /root/project/examples/json/JSON.javacc:74:1
+    final public void Value() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 1;
+        // Code for ExpansionChoice specified at /root/project/examples/json/JSON.javacc:75:5
+        Value Value2 = null;
+        if (buildTree) {
+            Value2 = new Value();
+            openNodeScope(Value2);
+        }
+        ParseException parseException42 = null;
+        int callStackSize43 = parsingStack.size();
+        try {
+            if (nextTokenType()==TRUE) {
+                // Code for RegexpRef specified at /root/project/examples/json/JSON.javacc:75:5
+                consumeToken(TRUE);
+            }
+            else if (nextTokenType()==FALSE) {
+                // Code for RegexpRef specified at /root/project/examples/json/JSON.javacc:77:5
+                consumeToken(FALSE);
+            }
+            else if (nextTokenType()==NULL) {
+                // Code for RegexpRef specified at /root/project/examples/json/JSON.javacc:79:5
+                consumeToken(NULL);
+            }
+            else if (nextTokenType()==STRING_LITERAL) {
+                // Code for RegexpRef specified at /root/project/examples/json/JSON.javacc:81:5
+                consumeToken(STRING_LITERAL);
+            }
+            else if (nextTokenType()==NUMBER) {
+                // Code for RegexpRef specified at /root/project/examples/json/JSON.javacc:83:5
+                consumeToken(NUMBER);
+            }
+            else if (nextTokenType()==OPEN_BRACKET) {
+                // Code for NonTerminal specified at /root/project/examples/json/JSON.javacc:85:5
+                pushOntoCallStack(1, "/root/project/examples/json/JSON.javacc", 85, 5);
+                try {
+                    Array();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (nextTokenType()==OPEN_BRACE) {
+                // Code for NonTerminal specified at /root/project/examples/json/JSON.javacc:87:5
+                pushOntoCallStack(1, "/root/project/examples/json/JSON.javacc", 87, 5);
+                try {
+                    JSONObject();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else {
+                pushOntoCallStack(1, "/root/project/examples/json/JSON.javacc", 75, 5);
+                throw new ParseException(this, Value_FIRST_SET, parsingStack.toList());
+            }
+        }
+        catch(ParseException e) {
+            parseException42 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize43);
+            if (Value2!=null) {
+                if (parseException42==null) {
+                    closeNodeScope(Value2, nodeArity() > 1);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/json/JSON.javacc:90:1
+    final public void KeyValuePair() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 2;
+        KeyValuePair KeyValuePair3 = null;
+        if (buildTree) {
+            KeyValuePair3 = new KeyValuePair();
+            openNodeScope(KeyValuePair3);
+        }
+        ParseException parseException102 = null;
+        int callStackSize103 = parsingStack.size();
+        try {
+            // Code for RegexpRef specified at /root/project/examples/json/JSON.javacc:90:16
+            consumeToken(STRING_LITERAL);
+            // Code for RegexpRef specified at /root/project/examples/json/JSON.javacc:90:33
+            consumeToken(COLON);
+            // Code for NonTerminal specified at /root/project/examples/json/JSON.javacc:90:41
+            pushOntoCallStack(2, "/root/project/examples/json/JSON.javacc", 90, 41);
+            try {
+                Value();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        catch(ParseException e) {
+            parseException102 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize103);
+            if (KeyValuePair3!=null) {
+                if (parseException102==null) {
+                    closeNodeScope(KeyValuePair3, nodeArity() > 1);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/json/JSON.javacc:92:1
+    final public void JSONObject() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 3;
+        JSONObject JSONObject4 = null;
+        if (buildTree) {
+            JSONObject4 = new JSONObject();
+            openNodeScope(JSONObject4);
+        }
+        ParseException parseException118 = null;
+        int callStackSize119 = parsingStack.size();
+        try {
+            // Code for RegexpRef specified at /root/project/examples/json/JSON.javacc:93:5
+            consumeToken(OPEN_BRACE);
+            // Code for ZeroOrOne specified at /root/project/examples/json/JSON.javacc:94:5
+            if (nextTokenType()==STRING_LITERAL) {
+                // Code for NonTerminal specified at /root/project/examples/json/JSON.javacc:95:9
+                pushOntoCallStack(3, "/root/project/examples/json/JSON.javacc", 95, 9);
+                try {
+                    KeyValuePair();
+                }
+                finally {
+                    popCallStack();
+                }
+                // Code for ZeroOrMore specified at /root/project/examples/json/JSON.javacc:95:22
+                while (true) {
+                    if (!(nextTokenType()==COMMA)) break;
+                    // Code for RegexpStringLiteral specified at /root/project/examples/json/JSON.javacc:95:23
+                    consumeToken(COMMA);
+                    // Code for NonTerminal specified at /root/project/examples/json/JSON.javacc:95:27
+                    pushOntoCallStack(3, "/root/project/examples/json/JSON.javacc", 95, 27);
+                    try {
+                        KeyValuePair();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+            }
+            // Code for RegexpRef specified at /root/project/examples/json/JSON.javacc:97:5
+            consumeToken(CLOSE_BRACE);
+        }
+        catch(ParseException e) {
+            parseException118 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize119);
+            if (JSONObject4!=null) {
+                if (parseException118==null) {
+                    closeNodeScope(JSONObject4, nodeArity() > 1);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/json/JSON.javacc:100:1
+    final public void Root() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 4;
+        Root Root5 = null;
+        if (buildTree) {
+            Root5 = new Root();
+            openNodeScope(Root5);
+        }
+        ParseException parseException158 = null;
+        int callStackSize159 = parsingStack.size();
+        try {
+            // Code for NonTerminal specified at /root/project/examples/json/JSON.javacc:100:8
+            pushOntoCallStack(4, "/root/project/examples/json/JSON.javacc", 100, 8);
+            try {
+                Value();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for EndOfFile specified at /root/project/examples/json/JSON.javacc:100:15
+            consumeToken(EOF);
+        }
+        catch(ParseException e) {
+            parseException158 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize159);
+            if (Root5!=null) {
+                if (parseException158==null) {
+                    closeNodeScope(Root5, nodeArity() > 1);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final long first_set$JSON_javacc$69$7_MASK = 0x1f50L;
+    CallStack parsingStack = new CallStack();
+    private CallStack lookaheadStack = new CallStack();
+
+    /**
+    * Inner class that represents entering a grammar production
+    */
+    class NonTerminalCall {
+        final String sourceFile;
+        final String productionName;
+        final int line, column;
+
+        NonTerminalCall(String sourceFile, String productionName, int line, int column) {
+            this.sourceFile = sourceFile;
+            this.productionName = productionName;
+            this.line = line;
+            this.column = column;
+        }
+
+        final JSONLexer getTokenSource() {
+            return JSONParser.this.token_source;
+        }
+
+        StackTraceElement createStackTraceElement() {
+            return new StackTraceElement("JSONParser", productionName, sourceFile, line);
+        }
+
+        void dump(PrintStream ps) {
+            ps.println(productionName+":"+line+":"+column);
+        }
+
+    }
+
+
+    /**
+    * A stack of calls to grammar productions, kept in parallel arrays
+    * so that entering a production does not allocate anything. The productions
+    * are identified by their index in PRODUCTION_NAMES and the NonTerminalCall
+    * objects are only created when something needs them, i.e. a ParseException.
+    */
+    final class CallStack implements Cloneable {
+        private int size;
+        private int[]productionIds = new int[16], lines = new int[16], columns = new int[16];
+        private String[]sourceFiles = new String[16];
+
+        int size() {
+            return size;
+        }
+
+        int getProductionId(int index) {
+            return productionIds[index];
+        }
+
+        void push(int productionId, String sourceFile, int line, int column) {
+            if (size==productionIds.length) {
+                int capacity = size*2;
+                productionIds = Arrays.copyOf(productionIds, capacity);
+                lines = Arrays.copyOf(lines, capacity);
+                columns = Arrays.copyOf(columns, capacity);
+                sourceFiles = Arrays.copyOf(sourceFiles, capacity);
+            }
+            productionIds[size] = productionId;
+            lines[size] = line;
+            columns[size] = column;
+            sourceFiles[size] = sourceFile;
+            ++size;
+        }
+
+        void pop() {
+            --size;
+        }
+
+        void clear() {
+            Arrays.fill(sourceFiles, 0, size, null);
+            size = 0;
+        }
+
+        NonTerminalCall get(int index) {
+            return new NonTerminalCall(sourceFiles[index], PRODUCTION_NAMES[productionIds[index]], lines[index], columns[index]);
+        }
+
+        /**
+        * @return the calls on this stack, from the bottom up
+        */
+        java.util.List<NonTerminalCall> toList() {
+            java.util.List<NonTerminalCall> result = new ArrayList<> (size);
+            for (int i = 0; i < size; i++) {
+                result.add(get(i));
+            }
+            return result;
+        }
+
+        void dump(PrintStream ps) {
+            for (int i = size-1; i>=0; i--) {
+                get(i).dump(ps);
+            }
+        }
+
+        public CallStack clone() {
+            try {
+                CallStack result = (CallStack)super.clone();
+                result.productionIds = productionIds.clone();
+                result.lines = lines.clone();
+                result.columns = columns.clone();
+                result.sourceFiles = sourceFiles.clone();
+                return result;
+            }
+            catch(CloneNotSupportedException e) {
+                throw new InternalError(e);
+            }
+        }
+
+    }
+
+
+    private final void pushOntoCallStack(int productionId, String fileName, int line, int column) {
+        parsingStack.push(productionId, fileName, line, column);
+    }
+
+    private final void popCallStack() {
+        int top = parsingStack.size()-1;
+        this.currentlyParsedProduction = parsingStack.getProductionId(top);
+        parsingStack.pop();
+    }
+
+    private final void restoreCallStack(int prevSize) {
+        while (parsingStack.size() > prevSize) {
+            popCallStack();
+        }
+    }
+
+    void dumpLookaheadStack(PrintStream ps) {
+        lookaheadStack.dump(ps);
+    }
+
+    void dumpCallStack(PrintStream ps) {
+        parsingStack.dump(ps);
+    }
+
+    void dumpLookaheadCallStack(PrintStream ps) {
+        ps.println("Current Parser Production is: "+productionName(currentlyParsedProduction));
+        ps.println("Current Lookahead Production is: "+productionName(currentLookaheadProduction));
+        ps.println("---Lookahead Stack---");
+        dumpLookaheadStack(ps);
+        ps.println("---Call Stack---");
+        dumpCallStack(ps);
+    }
+
+    public boolean isParserTolerant() {
+        return false;
+    }
+
+    public void setParserTolerant(boolean tolerantParsing) {
+        if (tolerantParsing) {
+            throw new UnsupportedOperationException("This parser was not built with that feature!");
+        }
+    }
+
+    private Token consumeToken(TokenType expectedType) {
+        Token nextToken = nextToken(lastConsumedToken);
+        if (nextToken.getType()!=expectedType) {
+            nextToken = handleUnexpectedTokenType(expectedType, nextToken);
+        }
+        this.lastConsumedToken = nextToken;
+        this.nextTokenType = null;
+        if (buildTree&&tokensAreNodes) {
+            pushNode(lastConsumedToken);
+        }
+        return lastConsumedToken;
+    }
+
+    private Token handleUnexpectedTokenType(TokenType expectedType, Token nextToken) {
+        throw new ParseException(this, nextToken, EnumSet.of(expectedType), parsingStack.toList());
+    }
+
+
+    private class ParseState {
+        Token lastConsumed;
+        CallStack parsingStack;
+        NodeScope nodeScope;
+
+        ParseState() {
+            this.lastConsumed = JSONParser.this.lastConsumedToken;
+            this.parsingStack = JSONParser.this.parsingStack.clone();
+            this.nodeScope = currentNodeScope.clone();
+        }
+
+    }
+
+    private ArrayList<ParseState> parseStateStack = new ArrayList<> ();
+    private boolean buildTree = true;
+    private boolean tokensAreNodes = true;
+    private boolean unparsedTokensAreNodes = false;
+
+    public boolean isTreeBuildingEnabled() {
+        return buildTree;
+    }
+
+    public void setUnparsedTokensAreNodes(boolean unparsedTokensAreNodes) {
+        this.unparsedTokensAreNodes = unparsedTokensAreNodes;
+    }
+
+    public void setTokensAreNodes(boolean tokensAreNodes) {
+        this.tokensAreNodes = tokensAreNodes;
+    }
+
+    NodeScope currentNodeScope = new NodeScope();
+
+    /**
+    * @return the root node of the AST. It only makes sense to call
+    * this after a successful parse.
+    */
+    public Node rootNode() {
+        return currentNodeScope.rootNode();
+    }
+
+    /**
+    * push a node onto the top of the node stack
+    * @param n the node to push
+    */
+    public void pushNode(Node n) {
+        currentNodeScope.add(n);
+    }
+
+    /**
+    * @return the node on the top of the stack, and remove it from the
+    * stack.
+    */
+    public Node popNode() {
+        return currentNodeScope.pop();
+    }
+
+    /**
+    * @return the node currently on the top of the tree-building stack.
+    */
+    public Node peekNode() {
+        return currentNodeScope.peek();
+    }
+
+    /**
+    * Puts the node on the top of the stack. However, unlike pushNode()
+    * it replaces the node that is currently on the top of the stack.
+    * This is effectively equivalent to popNode() followed by pushNode(n)
+    * @param n the node to poke
+    */
+    public void pokeNode(Node n) {
+        currentNodeScope.poke(n);
+    }
+
+    /**
+    * @return the number of Nodes on the tree-building stack in the current node
+    * scope.
+    */
+    public int nodeArity() {
+        return currentNodeScope.size();
+    }
+
+    private void clearNodeScope() {
+        currentNodeScope.clear();
+    }
+
+    private void openNodeScope(Node n) {
+        currentNodeScope.open();
+        if (n!=null) {
+            Token next = nextToken(lastConsumedToken);
+            n.setTokenSource(lastConsumedToken.getTokenSource());
+            n.setBeginOffset(next.getBeginOffset());
+            n.open();
+        }
+    }
+
+    /* A definite node is constructed from a specified number of
+    * children.  That number of nodes are popped from the stack and
+    * made the children of the definite node.  Then the definite node
+    * is pushed on to the stack.
+    */
+    private void closeNodeScope(Node n, int num) {
+        n.setEndOffset(lastConsumedToken.getEndOffset());
+        currentNodeScope.close();
+        // FIXME deal with the UNPARSED_TOKENS_ARE_NODES case
+        currentNodeScope.popInto(n, num);
+        n.close();
+        pushNode(n);
+    }
+
+    /**
+    * A conditional node is constructed if the condition is true.  All
+    * the nodes that have been pushed since the node was opened are
+    * made children of the conditional node, which is then pushed
+    * on to the stack.  If the condition is false the node is not
+    * constructed and they are left on the stack.
+    */
+    private void closeNodeScope(Node n, boolean condition) {
+        if (n!=null&&condition) {
+            n.setEndOffset(lastConsumedToken.getEndOffset());
+            int a = nodeArity();
+            currentNodeScope.close();
+            if (!unparsedTokensAreNodes) {
+                currentNodeScope.popInto(n, a);
+            }
+            else for (Node child : currentNodeScope.popNodes(a)) {
+                if (child instanceof Token) {
+                    Token tok = (Token)child;
+                    while (tok.previousCachedToken()!=null&&tok.previousCachedToken().isUnparsed()) {
+                        tok = tok.previousCachedToken();
+                    }
+                    while (tok.isUnparsed()) {
+                        n.addChild(tok);
+                        tok = tok.nextCachedToken();
+                    }
+                }
+                n.addChild(child);
+            }
+            n.close();
+            pushNode(n);
+        }
+        else {
+            currentNodeScope.close();
+        }
+    }
+
+    public boolean getBuildTree() {
+        return buildTree;
+    }
+
+    public void setBuildTree(boolean buildTree) {
+        this.buildTree = buildTree;
+    }
+
+    /**
+    * Just a kludge so that existing jjtree-based code that uses
+    * parser.jjtree.foo can work without change.
+    */
+    JSONParser jjtree = this;
+
+    /**
+    * The tree-building stack. All the node scopes share a single array of
+    * nodes, and an open scope is just a mark, i.e. the index in the array at
+    * which it begins, so opening or closing a scope does not allocate or copy
+    * anything. The stack operations, like peek() and pop(), reach into the
+    * enclosing scopes when the current one is empty.
+    */
+    class NodeScope implements Cloneable {
+        private Node[]nodes = new Node[64];
+        private int size;
+        // Where each open scope, other than the root one, begins
+        private int[]marks = new int[16];
+        private int depth;
+
+        void open() {
+            if (depth==marks.length) {
+                marks = Arrays.copyOf(marks, depth*2);
+            }
+            marks[depth++] = size;
+        }
+
+        /**
+        * Closes the current scope, so that its nodes
+        * now belong to the enclosing one
+        */
+        void close() {
+            --depth;
+        }
+
+        private int mark() {
+            return depth==0 ? 0 : marks[depth-1];
+        }
+
+        boolean isRootScope() {
+            return depth==0;
+        }
+
+        Node rootNode() {
+            int rootScopeSize = depth==0 ? size : marks[0];
+            return rootScopeSize==0 ? null : nodes[0];
+        }
+
+        /**
+        * @return the number of nodes in the current scope
+        */
+        int size() {
+            return size-mark();
+        }
+
+        boolean isEmpty() {
+            return size==mark();
+        }
+
+        void add(Node n) {
+            if (size==nodes.length) {
+                nodes = Arrays.copyOf(nodes, size*2);
+            }
+            nodes[size++] = n;
+        }
+
+        Node peek() {
+            return size==0 ? null : nodes[size-1];
+        }
+
+        Node pop() {
+            Node result = nodes[--size];
+            nodes[size] = null;
+            truncateScopes();
+            return result;
+        }
+
+        void poke(Node n) {
+            nodes[size-1] = n;
+        }
+
+        void clear() {
+            int mark = mark();
+            Arrays.fill(nodes, mark, size, null);
+            size = mark;
+        }
+
+        /**
+        * Empties the stack and closes all the scopes,
+        * leaving the arrays as they are, to be reused
+        */
+        void reset() {
+            Arrays.fill(nodes, 0, size, null);
+            size = 0;
+            depth = 0;
+        }
+
+        /**
+        * Removes the top num nodes from the stack and makes them
+        * the children of the given node, in the order they were pushed.
+        */
+        void popInto(Node parent, int num) {
+            int from = size-num;
+            parent.addChildren(nodes, from, size);
+            Arrays.fill(nodes, from, size, null);
+            size = from;
+            truncateScopes();
+        }
+
+        /**
+        * Removes the top num nodes from the stack
+        * @return the removed nodes, in the order they were pushed
+        */
+        Node[]popNodes(int num) {
+            int from = size-num;
+            Node[]result = Arrays.copyOfRange(nodes, from, size);
+            Arrays.fill(nodes, from, size, null);
+            size = from;
+            truncateScopes();
+            return result;
+        }
+
+        // After popping past the beginning of the current scope (and maybe
+        // enclosing ones) those scopes now begin where the stack ends.
+        private void truncateScopes() {
+            for (int i = depth-1; i>=0&&marks[i] > size; i--) {
+                marks[i] = size;
+            }
+        }
+
+        int nestingLevel() {
+            return depth;
+        }
+
+        public NodeScope clone() {
+            try {
+                NodeScope clone = (NodeScope)super.clone();
+                clone.nodes = Arrays.copyOf(nodes, Math.max(size, 16));
+                clone.marks = Arrays.copyOf(marks, Math.max(depth, 16));
+                return clone;
+            }
+            catch(CloneNotSupportedException e) {
+                throw new InternalError(e);
+            }
+        }
+
+    }
+
+}
+
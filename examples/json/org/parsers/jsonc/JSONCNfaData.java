@@ -0,0 +1,474 @@
+/* Generated by: JavaCC 21 Parser Generator. JSONCNfaData.java */
+package org.parsers.jsonc;
+
+import static org.parsers.jsonc.JSONCConstants.TokenType.*;
+import java.util.EnumSet;
+import java.util.BitSet;
+import java.util.Arrays;
+
+
+/**
+* Holder class for the data used by JSONCLexer
+* to do the NFA thang
+*/
+class JSONCNfaData implements JSONCConstants {
+
+    // The functional interface that represents 
+    // the acceptance method of an NFA state
+    static interface NfaFunction {
+
+        TokenType apply(int ch, BitSet bs, EnumSet<TokenType> validTypes);
+
+    }
+
+    static private NfaFunction[]nfaFunctions;
+
+    // This data holder class is never instantiated
+    private JSONCNfaData() {
+    }
+
+    /**
+    * @param the lexical state
+    * @return the table of function pointers that implement the lexical state
+    */
+    static final NfaFunction[]getFunctionTableMap(LexicalState lexicalState) {
+        // We only have one lexical state in this case, so we return that!
+        return nfaFunctions;
+    }
+
+    // Initialize the various NFA method tables
+    static {
+        JSON.NFA_FUNCTIONS_init();
+    }
+
+    // Just use the canned binary search to check whether the char
+    // is in one of the intervals
+    private static final boolean checkIntervals(int[]ranges, int ch) {
+        int result = Arrays.binarySearch(ranges, ch);
+        return result>=0||result%2==0;
+    }
+
+
+    /**
+    * Holder class for NFA code related to JSON lexical state
+    */
+    private static class JSON {
+
+        static private TokenType NFA_JSON_0(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='"') {
+                nextStates.set(7);
+            }
+            else if (ch=='-') {
+                nextStates.set(8);
+            }
+            else if (ch=='/') {
+                nextStates.set(1);
+                nextStates.set(2);
+            }
+            else if (ch=='f') {
+                nextStates.set(5);
+            }
+            else if (ch=='n') {
+                nextStates.set(6);
+            }
+            else if (ch=='t') {
+                nextStates.set(4);
+            }
+            else if (ch=='0') {
+                nextStates.set(9);
+                if (validTypes.contains(NUMBER)) 
+                type = NUMBER;
+            }
+            else if (ch>='1'&&ch<='9') {
+                nextStates.set(10);
+                if (validTypes.contains(NUMBER)) 
+                type = NUMBER;
+            }
+            else if (ch=='}') {
+                if (validTypes.contains(CLOSE_BRACE)) 
+                type = CLOSE_BRACE;
+            }
+            else if (ch=='{') {
+                if (validTypes.contains(OPEN_BRACE)) 
+                type = OPEN_BRACE;
+            }
+            else if (ch==']') {
+                if (validTypes.contains(CLOSE_BRACKET)) 
+                type = CLOSE_BRACKET;
+            }
+            else if (ch=='[') {
+                if (validTypes.contains(OPEN_BRACKET)) 
+                type = OPEN_BRACKET;
+            }
+            else if (ch==',') {
+                if (validTypes.contains(COMMA)) 
+                type = COMMA;
+            }
+            else if (ch==':') {
+                if (validTypes.contains(COLON)) 
+                type = COLON;
+            }
+            else if (ch=='\t') {
+                nextStates.set(3);
+                if (validTypes.contains(WHITESPACE)) 
+                type = WHITESPACE;
+            }
+            else if (ch=='\n') {
+                nextStates.set(3);
+                if (validTypes.contains(WHITESPACE)) 
+                type = WHITESPACE;
+            }
+            else if (ch=='\r') {
+                nextStates.set(3);
+                if (validTypes.contains(WHITESPACE)) 
+                type = WHITESPACE;
+            }
+            else if (ch==' ') {
+                nextStates.set(3);
+                if (validTypes.contains(WHITESPACE)) 
+                type = WHITESPACE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JSON_1(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='/') {
+                nextStates.set(30);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JSON_2(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='*') {
+                nextStates.set(28);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JSON_3(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='\t') {
+                nextStates.set(3);
+                if (validTypes.contains(WHITESPACE)) 
+                type = WHITESPACE;
+            }
+            else if (ch=='\n') {
+                nextStates.set(3);
+                if (validTypes.contains(WHITESPACE)) 
+                type = WHITESPACE;
+            }
+            else if (ch=='\r') {
+                nextStates.set(3);
+                if (validTypes.contains(WHITESPACE)) 
+                type = WHITESPACE;
+            }
+            else if (ch==' ') {
+                nextStates.set(3);
+                if (validTypes.contains(WHITESPACE)) 
+                type = WHITESPACE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JSON_4(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='r') {
+                nextStates.set(26);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JSON_5(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='a') {
+                nextStates.set(23);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JSON_6(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='u') {
+                nextStates.set(21);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JSON_7(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch==' '||ch=='!')||((ch>='#'&&ch<='[')||(ch>=']'))) {
+                nextStates.set(7);
+            }
+            else if (ch=='\\') {
+                nextStates.set(15);
+                nextStates.set(16);
+            }
+            else if (ch=='"') {
+                if (validTypes.contains(STRING_LITERAL)) 
+                type = STRING_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JSON_8(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='0') {
+                nextStates.set(9);
+                if (validTypes.contains(NUMBER)) 
+                type = NUMBER;
+            }
+            else if (ch>='1'&&ch<='9') {
+                nextStates.set(10);
+                if (validTypes.contains(NUMBER)) 
+                type = NUMBER;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JSON_9(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='.') {
+                nextStates.set(11);
+            }
+            else if ((ch=='E')||(ch=='e')) {
+                nextStates.set(12);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JSON_10(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='.') {
+                nextStates.set(11);
+            }
+            else if ((ch=='E')||(ch=='e')) {
+                nextStates.set(12);
+            }
+            else if (ch>='0'&&ch<='9') {
+                nextStates.set(10);
+                if (validTypes.contains(NUMBER)) 
+                type = NUMBER;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JSON_11(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch>='0'&&ch<='9') {
+                nextStates.set(14);
+                if (validTypes.contains(NUMBER)) 
+                type = NUMBER;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JSON_12(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch=='+')||(ch=='-')) {
+                nextStates.set(13);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JSON_13(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch>='1'&&ch<='9') {
+                nextStates.set(13);
+                if (validTypes.contains(NUMBER)) 
+                type = NUMBER;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JSON_14(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch=='E')||(ch=='e')) {
+                nextStates.set(12);
+            }
+            else if (ch>='0'&&ch<='9') {
+                nextStates.set(14);
+                if (validTypes.contains(NUMBER)) 
+                type = NUMBER;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JSON_15(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='u') {
+                nextStates.set(17);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JSON_16(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (checkIntervals(NFA_MOVES_JSON_48, ch)) {
+                nextStates.set(7);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JSON_17(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>='0'&&ch<='9')||((ch>='A'&&ch<='F')||(ch>='a'&&ch<='f'))) {
+                nextStates.set(18);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JSON_18(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>='0'&&ch<='9')||((ch>='A'&&ch<='F')||(ch>='a'&&ch<='f'))) {
+                nextStates.set(19);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JSON_19(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>='0'&&ch<='9')||((ch>='A'&&ch<='F')||(ch>='a'&&ch<='f'))) {
+                nextStates.set(20);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JSON_20(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>='0'&&ch<='9')||((ch>='A'&&ch<='F')||(ch>='a'&&ch<='f'))) {
+                nextStates.set(7);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JSON_21(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='l') {
+                nextStates.set(22);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JSON_22(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='l') {
+                if (validTypes.contains(NULL)) 
+                type = NULL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JSON_23(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='l') {
+                nextStates.set(24);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JSON_24(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='s') {
+                nextStates.set(25);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JSON_25(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                if (validTypes.contains(FALSE)) 
+                type = FALSE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JSON_26(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='u') {
+                nextStates.set(27);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JSON_27(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                if (validTypes.contains(TRUE)) 
+                type = TRUE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JSON_28(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>=0x0&&ch<=')')||(ch>='+')) {
+                nextStates.set(28);
+            }
+            else if (ch=='*') {
+                nextStates.set(29);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JSON_29(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>=0x0&&ch<=')')||((ch>='+'&&ch<='.')||(ch>='0'))) {
+                nextStates.set(28);
+            }
+            else if (ch=='*') {
+                nextStates.set(29);
+            }
+            else if (ch=='/') {
+                if (validTypes.contains(MULTI_LINE_COMMENT)) 
+                type = MULTI_LINE_COMMENT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JSON_30(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>=0x0&&ch<='\t')||((ch==0xb||ch=='\f')||(ch>=0xe))) {
+                nextStates.set(30);
+            }
+            else if (ch=='\r') {
+                nextStates.set(31);
+            }
+            else if (ch=='\n') {
+                if (validTypes.contains(SINGLE_LINE_COMMENT)) 
+                type = SINGLE_LINE_COMMENT;
+            }
+            if (ch=='\r') {
+                if (validTypes.contains(SINGLE_LINE_COMMENT)) 
+                type = SINGLE_LINE_COMMENT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JSON_31(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='\n') {
+                if (validTypes.contains(SINGLE_LINE_COMMENT)) 
+                type = SINGLE_LINE_COMMENT;
+            }
+            return type;
+        }
+
+        static private final int[]NFA_MOVES_JSON_48 = NFA_MOVES_JSON_48_init();
+
+        static private int[]NFA_MOVES_JSON_48_init() {
+            return new int[] {'"', '"', '/', '/', '\\', '\\', 'b', 'b', 'f', 'f', 'n', 'n', 'r', 'r', 't', 't'};
+        }
+
+        static private void NFA_FUNCTIONS_init() {
+            nfaFunctions = new NfaFunction[] {JSON::NFA_JSON_0, JSON::NFA_JSON_1, JSON::NFA_JSON_2, JSON::NFA_JSON_3, JSON::NFA_JSON_4, JSON::NFA_JSON_5, JSON::NFA_JSON_6, JSON::NFA_JSON_7, JSON::NFA_JSON_8, JSON::NFA_JSON_9, JSON::NFA_JSON_10, JSON::NFA_JSON_11, JSON::NFA_JSON_12, JSON::NFA_JSON_13, JSON::NFA_JSON_14, JSON::NFA_JSON_15, JSON::NFA_JSON_16, JSON::NFA_JSON_17, JSON::NFA_JSON_18, JSON::NFA_JSON_19, JSON::NFA_JSON_20, JSON::NFA_JSON_21, JSON::NFA_JSON_22, JSON::NFA_JSON_23, JSON::NFA_JSON_24, JSON::NFA_JSON_25, JSON::NFA_JSON_26, JSON::NFA_JSON_27, JSON::NFA_JSON_28, JSON::NFA_JSON_29, JSON::NFA_JSON_30, JSON::NFA_JSON_31};
+        }
+
+    }
+
+}
+
+
@@ -0,0 +1,25 @@
+
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. IDLConstants.java */
+public interface IDLConstants {
+
+    /**
+    * The various token types. The first type EOF
+    * and the last type INVALID are auto-generated.
+    * They represent the end of input and invalid input
+    * respectively.
+    */
+    public enum TokenType {
+        EOF, _TOKEN_1, _TOKEN_2, _TOKEN_3, _TOKEN_4, _TOKEN_5, _TOKEN_6, _TOKEN_7, _TOKEN_8, MODULE, _TOKEN_10, _TOKEN_11, INTERFACE, _TOKEN_13, _TOKEN_14, _TOKEN_15, CONST, _TOKEN_17, _TOKEN_18, _TOKEN_19, _TOKEN_20, _TOKEN_21, _TOKEN_22, _TOKEN_23, _TOKEN_24, _TOKEN_25, _TOKEN_26, _TOKEN_27, _TOKEN_28, _TOKEN_29, _TOKEN_30, TRUE, FALSE, TYPEDEF, FLOAT, DOUBLE, LONG, SHORT, UNSIGNED, CHAR, BOOLEAN, OCTET, ANY, STRUCT, UNION, SWITCH, CASE, DEFAULT, ENUM, SEQUENCE, _TOKEN_50, _TOKEN_51, _TOKEN_52, _TOKEN_53, _TOKEN_54, READONLY, ATTRIBUTE, EXCEPTION, ONEWAY, VOID, IN, OUT, INOUT, RAISES, CONTEXT, ID, OCTALINT, DECIMALINT, HEXADECIMALINT, FLOATONE, FLOATTWO, CHARACTER, STRING, INVALID
+    }
+
+
+    /**
+    * Lexical States
+    */
+    public enum LexicalState {
+        DEFAULT
+    }
+
+}
+
+
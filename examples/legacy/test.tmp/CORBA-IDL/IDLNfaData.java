@@ -0,0 +1,2130 @@
+/* Generated by: JavaCC 21 Parser Generator. IDLNfaData.java */
+import java.util.EnumSet;
+import java.util.BitSet;
+import java.util.Arrays;
+
+
+/**
+* Holder class for the data used by IDLLexer
+* to do the NFA thang
+*/
+class IDLNfaData implements IDLConstants {
+
+    // The functional interface that represents 
+    // the acceptance method of an NFA state
+    static interface NfaFunction {
+
+        TokenType apply(int ch, BitSet bs, EnumSet<TokenType> validTypes);
+
+    }
+
+    static private NfaFunction[]nfaFunctions;
+
+    // This data holder class is never instantiated
+    private IDLNfaData() {
+    }
+
+    /**
+    * @param the lexical state
+    * @return the table of function pointers that implement the lexical state
+    */
+    static final NfaFunction[]getFunctionTableMap(LexicalState lexicalState) {
+        // We only have one lexical state in this case, so we return that!
+        return nfaFunctions;
+    }
+
+    // Initialize the various NFA method tables
+    static {
+        DEFAULT.NFA_FUNCTIONS_init();
+    }
+
+    // Just use the canned binary search to check whether the char
+    // is in one of the intervals
+    private static final boolean checkIntervals(int[]ranges, int ch) {
+        int result = Arrays.binarySearch(ranges, ch);
+        return result>=0||result%2==0;
+    }
+
+
+    /**
+    * Holder class for NFA code related to DEFAULT lexical state
+    */
+    private static class DEFAULT {
+
+        static private TokenType NFA_0(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='"') {
+                nextStates.set(50);
+            }
+            else if (ch=='#') {
+                nextStates.set(39);
+            }
+            else if (ch=='\'') {
+                nextStates.set(49);
+            }
+            else if (ch=='.') {
+                nextStates.set(47);
+            }
+            else if (ch=='/') {
+                nextStates.set(37);
+                nextStates.set(38);
+            }
+            else if (ch=='0') {
+                nextStates.set(43);
+                nextStates.set(44);
+            }
+            if (ch>='0'&&ch<='9') {
+                nextStates.set(45);
+                nextStates.set(46);
+                nextStates.set(48);
+            }
+            else if (ch==':') {
+                nextStates.set(3);
+            }
+            else if (ch=='<') {
+                nextStates.set(6);
+            }
+            else if (ch=='>') {
+                nextStates.set(5);
+            }
+            else if (ch=='F') {
+                nextStates.set(8);
+            }
+            else if (ch=='T') {
+                nextStates.set(7);
+            }
+            else if (ch=='a') {
+                nextStates.set(18);
+                nextStates.set(28);
+            }
+            else if (ch=='b') {
+                nextStates.set(16);
+            }
+            else if (ch=='c') {
+                nextStates.set(4);
+                nextStates.set(15);
+                nextStates.set(22);
+                nextStates.set(36);
+            }
+            else if (ch=='d') {
+                nextStates.set(11);
+                nextStates.set(23);
+            }
+            else if (ch=='e') {
+                nextStates.set(24);
+                nextStates.set(29);
+            }
+            else if (ch=='f') {
+                nextStates.set(10);
+            }
+            else if (ch=='i') {
+                nextStates.set(2);
+                nextStates.set(32);
+                nextStates.set(34);
+            }
+            else if (ch=='l') {
+                nextStates.set(12);
+            }
+            else if (ch=='m') {
+                nextStates.set(1);
+            }
+            else if (ch=='o') {
+                nextStates.set(17);
+                nextStates.set(30);
+                nextStates.set(33);
+            }
+            else if (ch=='r') {
+                nextStates.set(27);
+                nextStates.set(35);
+            }
+            else if (ch=='s') {
+                nextStates.set(13);
+                nextStates.set(19);
+                nextStates.set(21);
+                nextStates.set(25);
+                nextStates.set(26);
+            }
+            else if (ch=='t') {
+                nextStates.set(9);
+            }
+            else if (ch=='u') {
+                nextStates.set(14);
+                nextStates.set(20);
+            }
+            else if (ch=='v') {
+                nextStates.set(31);
+            }
+            if (ch>='1'&&ch<='9') {
+                nextStates.set(42);
+                if (validTypes.contains(TokenType.DECIMALINT)) 
+                type = TokenType.DECIMALINT;
+            }
+            else if (ch=='0') {
+                nextStates.set(41);
+                if (validTypes.contains(TokenType.OCTALINT)) 
+                type = TokenType.OCTALINT;
+            }
+            else if ((ch>='A'&&ch<='Z')||((ch=='_')||(ch>='a'&&ch<='z'))) {
+                nextStates.set(40);
+                if (validTypes.contains(TokenType.ID)) 
+                type = TokenType.ID;
+            }
+            else if (ch==']') {
+                if (validTypes.contains(TokenType._TOKEN_54)) 
+                type = TokenType._TOKEN_54;
+            }
+            else if (ch=='[') {
+                if (validTypes.contains(TokenType._TOKEN_53)) 
+                type = TokenType._TOKEN_53;
+            }
+            else if (ch=='>') {
+                if (validTypes.contains(TokenType._TOKEN_51)) 
+                type = TokenType._TOKEN_51;
+            }
+            else if (ch=='<') {
+                if (validTypes.contains(TokenType._TOKEN_50)) 
+                type = TokenType._TOKEN_50;
+            }
+            else if (ch==')') {
+                if (validTypes.contains(TokenType._TOKEN_30)) 
+                type = TokenType._TOKEN_30;
+            }
+            else if (ch=='(') {
+                if (validTypes.contains(TokenType._TOKEN_29)) 
+                type = TokenType._TOKEN_29;
+            }
+            else if (ch=='~') {
+                if (validTypes.contains(TokenType._TOKEN_28)) 
+                type = TokenType._TOKEN_28;
+            }
+            else if (ch=='%') {
+                if (validTypes.contains(TokenType._TOKEN_27)) 
+                type = TokenType._TOKEN_27;
+            }
+            else if (ch=='/') {
+                if (validTypes.contains(TokenType._TOKEN_26)) 
+                type = TokenType._TOKEN_26;
+            }
+            else if (ch=='*') {
+                if (validTypes.contains(TokenType._TOKEN_25)) 
+                type = TokenType._TOKEN_25;
+            }
+            else if (ch=='-') {
+                if (validTypes.contains(TokenType._TOKEN_24)) 
+                type = TokenType._TOKEN_24;
+            }
+            else if (ch=='+') {
+                if (validTypes.contains(TokenType._TOKEN_23)) 
+                type = TokenType._TOKEN_23;
+            }
+            else if (ch=='&') {
+                if (validTypes.contains(TokenType._TOKEN_20)) 
+                type = TokenType._TOKEN_20;
+            }
+            else if (ch=='^') {
+                if (validTypes.contains(TokenType._TOKEN_19)) 
+                type = TokenType._TOKEN_19;
+            }
+            else if (ch=='|') {
+                if (validTypes.contains(TokenType._TOKEN_18)) 
+                type = TokenType._TOKEN_18;
+            }
+            else if (ch=='=') {
+                if (validTypes.contains(TokenType._TOKEN_17)) 
+                type = TokenType._TOKEN_17;
+            }
+            else if (ch==',') {
+                if (validTypes.contains(TokenType._TOKEN_14)) 
+                type = TokenType._TOKEN_14;
+            }
+            else if (ch==':') {
+                if (validTypes.contains(TokenType._TOKEN_13)) 
+                type = TokenType._TOKEN_13;
+            }
+            else if (ch=='}') {
+                if (validTypes.contains(TokenType._TOKEN_11)) 
+                type = TokenType._TOKEN_11;
+            }
+            else if (ch=='{') {
+                if (validTypes.contains(TokenType._TOKEN_10)) 
+                type = TokenType._TOKEN_10;
+            }
+            else if (ch==';') {
+                if (validTypes.contains(TokenType._TOKEN_8)) 
+                type = TokenType._TOKEN_8;
+            }
+            else if (ch=='\r') {
+                if (validTypes.contains(TokenType._TOKEN_4)) 
+                type = TokenType._TOKEN_4;
+            }
+            else if (ch=='\n') {
+                if (validTypes.contains(TokenType._TOKEN_3)) 
+                type = TokenType._TOKEN_3;
+            }
+            else if (ch=='\t') {
+                if (validTypes.contains(TokenType._TOKEN_2)) 
+                type = TokenType._TOKEN_2;
+            }
+            else if (ch==' ') {
+                if (validTypes.contains(TokenType._TOKEN_1)) 
+                type = TokenType._TOKEN_1;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_1(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='o') {
+                nextStates.set(201);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_2(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='n') {
+                nextStates.set(194);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_3(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch==':') {
+                if (validTypes.contains(TokenType._TOKEN_15)) 
+                type = TokenType._TOKEN_15;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_4(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='o') {
+                nextStates.set(191);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_5(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='>') {
+                if (validTypes.contains(TokenType._TOKEN_21)) 
+                type = TokenType._TOKEN_21;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_6(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='<') {
+                if (validTypes.contains(TokenType._TOKEN_22)) 
+                type = TokenType._TOKEN_22;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_7(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='R') {
+                nextStates.set(189);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_8(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='A') {
+                nextStates.set(186);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_9(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='y') {
+                nextStates.set(181);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_10(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='l') {
+                nextStates.set(178);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_11(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='o') {
+                nextStates.set(174);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_12(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='o') {
+                nextStates.set(172);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_13(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='h') {
+                nextStates.set(169);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_14(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='n') {
+                nextStates.set(163);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_15(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='h') {
+                nextStates.set(161);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_16(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='o') {
+                nextStates.set(156);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_17(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='c') {
+                nextStates.set(153);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_18(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='n') {
+                nextStates.set(152);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_19(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                nextStates.set(148);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_20(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='n') {
+                nextStates.set(145);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_21(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='w') {
+                nextStates.set(141);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_22(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='a') {
+                nextStates.set(139);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_23(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                nextStates.set(134);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_24(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='n') {
+                nextStates.set(132);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_25(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                nextStates.set(126);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_26(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                nextStates.set(122);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_27(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                nextStates.set(116);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_28(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                nextStates.set(109);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_29(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='x') {
+                nextStates.set(102);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_30(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='n') {
+                nextStates.set(98);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_31(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='o') {
+                nextStates.set(96);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_32(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='n') {
+                if (validTypes.contains(TokenType.IN)) 
+                type = TokenType.IN;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_33(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='u') {
+                nextStates.set(95);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_34(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='n') {
+                nextStates.set(92);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_35(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='a') {
+                nextStates.set(88);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_36(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='o') {
+                nextStates.set(83);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_37(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='/') {
+                nextStates.set(82);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_38(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='*') {
+                nextStates.set(80);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_39(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch=='\t')||(ch==' ')) {
+                nextStates.set(39);
+            }
+            else if (ch>='0'&&ch<='9') {
+                nextStates.set(72);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_40(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>='0'&&ch<='9')||((ch>='A'&&ch<='Z')||((ch=='_')||(ch>='a'&&ch<='z')))) {
+                nextStates.set(40);
+                if (validTypes.contains(TokenType.ID)) 
+                type = TokenType.ID;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_41(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch>='0'&&ch<='7') {
+                nextStates.set(41);
+                if (validTypes.contains(TokenType.OCTALINT)) 
+                type = TokenType.OCTALINT;
+            }
+            else if ((ch=='L')||((ch=='U')||((ch=='l')||(ch=='u')))) {
+                if (validTypes.contains(TokenType.OCTALINT)) 
+                type = TokenType.OCTALINT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_42(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch>='0'&&ch<='9') {
+                nextStates.set(42);
+                if (validTypes.contains(TokenType.DECIMALINT)) 
+                type = TokenType.DECIMALINT;
+            }
+            else if ((ch=='L')||((ch=='U')||((ch=='l')||(ch=='u')))) {
+                if (validTypes.contains(TokenType.DECIMALINT)) 
+                type = TokenType.DECIMALINT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_43(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='x') {
+                nextStates.set(70);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_44(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='X') {
+                nextStates.set(70);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_45(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch>='0'&&ch<='9') {
+                nextStates.set(45);
+            }
+            else if (ch=='.') {
+                nextStates.set(66);
+                if (validTypes.contains(TokenType.FLOATONE)) 
+                type = TokenType.FLOATONE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_46(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='.') {
+                nextStates.set(47);
+            }
+            else if (ch>='0'&&ch<='9') {
+                nextStates.set(46);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_47(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch>='0'&&ch<='9') {
+                nextStates.set(66);
+                if (validTypes.contains(TokenType.FLOATONE)) 
+                type = TokenType.FLOATONE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_48(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch>='0'&&ch<='9') {
+                nextStates.set(48);
+            }
+            else if ((ch=='E')||(ch=='e')) {
+                nextStates.set(63);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_49(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>=0x0&&ch<='\t')||((ch==0xb||ch=='\f')||((ch>=0xe&&ch<='&')||((ch>='('&&ch<='[')||(ch>=']'))))) {
+                nextStates.set(55);
+            }
+            else if (ch=='\\') {
+                nextStates.set(56);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_50(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>=0x0&&ch<='\t')||((ch==0xb||ch=='\f')||((ch>=0xe&&ch<='!')||((ch>='#'&&ch<='[')||(ch>=']'))))) {
+                nextStates.set(50);
+            }
+            else if (ch=='\\') {
+                nextStates.set(51);
+            }
+            else if (ch=='"') {
+                if (validTypes.contains(TokenType.STRING)) 
+                type = TokenType.STRING;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_51(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (checkIntervals(NFA_MOVES_289, ch)) {
+                nextStates.set(50);
+            }
+            else if (ch=='0') {
+                nextStates.set(50);
+                nextStates.set(52);
+                nextStates.set(53);
+            }
+            else if (ch>='1'&&ch<='9') {
+                nextStates.set(50);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_52(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='x') {
+                nextStates.set(54);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_53(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='X') {
+                nextStates.set(54);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_54(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>='0'&&ch<='9')||((ch>='A'&&ch<='F')||(ch>='a'&&ch<='f'))) {
+                nextStates.set(50);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_55(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='\'') {
+                if (validTypes.contains(TokenType.CHARACTER)) 
+                type = TokenType.CHARACTER;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_56(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (checkIntervals(NFA_MOVES_275, ch)) {
+                nextStates.set(55);
+            }
+            else if (ch=='0') {
+                nextStates.set(57);
+                nextStates.set(59);
+                nextStates.set(60);
+            }
+            else if (ch>='1'&&ch<='9') {
+                nextStates.set(58);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_57(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch>='0'&&ch<='7') {
+                nextStates.set(57);
+            }
+            else if (ch=='\'') {
+                if (validTypes.contains(TokenType.CHARACTER)) 
+                type = TokenType.CHARACTER;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_58(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch>='0'&&ch<='9') {
+                nextStates.set(58);
+            }
+            else if (ch=='\'') {
+                if (validTypes.contains(TokenType.CHARACTER)) 
+                type = TokenType.CHARACTER;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_59(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='x') {
+                nextStates.set(61);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_60(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='X') {
+                nextStates.set(61);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_61(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>='0'&&ch<='9')||((ch>='A'&&ch<='F')||(ch>='a'&&ch<='f'))) {
+                nextStates.set(62);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_62(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>='0'&&ch<='9')||((ch>='A'&&ch<='F')||(ch>='a'&&ch<='f'))) {
+                nextStates.set(62);
+            }
+            else if (ch=='\'') {
+                if (validTypes.contains(TokenType.CHARACTER)) 
+                type = TokenType.CHARACTER;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_63(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch=='+')||(ch=='-')) {
+                nextStates.set(64);
+            }
+            else if (ch>='0'&&ch<='9') {
+                nextStates.set(65);
+                if (validTypes.contains(TokenType.FLOATTWO)) 
+                type = TokenType.FLOATTWO;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_64(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch>='0'&&ch<='9') {
+                nextStates.set(65);
+                if (validTypes.contains(TokenType.FLOATTWO)) 
+                type = TokenType.FLOATTWO;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_65(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch>='0'&&ch<='9') {
+                nextStates.set(65);
+                if (validTypes.contains(TokenType.FLOATTWO)) 
+                type = TokenType.FLOATTWO;
+            }
+            else if ((ch=='F')||((ch=='L')||((ch=='f')||(ch=='l')))) {
+                if (validTypes.contains(TokenType.FLOATTWO)) 
+                type = TokenType.FLOATTWO;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_66(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch=='E')||(ch=='e')) {
+                nextStates.set(67);
+            }
+            else if (ch>='0'&&ch<='9') {
+                nextStates.set(66);
+                if (validTypes.contains(TokenType.FLOATONE)) 
+                type = TokenType.FLOATONE;
+            }
+            else if ((ch=='F')||((ch=='L')||((ch=='f')||(ch=='l')))) {
+                if (validTypes.contains(TokenType.FLOATONE)) 
+                type = TokenType.FLOATONE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_67(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch=='+')||(ch=='-')) {
+                nextStates.set(68);
+            }
+            else if (ch>='0'&&ch<='9') {
+                nextStates.set(69);
+                if (validTypes.contains(TokenType.FLOATONE)) 
+                type = TokenType.FLOATONE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_68(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch>='0'&&ch<='9') {
+                nextStates.set(69);
+                if (validTypes.contains(TokenType.FLOATONE)) 
+                type = TokenType.FLOATONE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_69(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch>='0'&&ch<='9') {
+                nextStates.set(69);
+                if (validTypes.contains(TokenType.FLOATONE)) 
+                type = TokenType.FLOATONE;
+            }
+            else if ((ch=='F')||((ch=='L')||((ch=='f')||(ch=='l')))) {
+                if (validTypes.contains(TokenType.FLOATONE)) 
+                type = TokenType.FLOATONE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_70(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>='0'&&ch<='9')||((ch>='A'&&ch<='F')||(ch>='a'&&ch<='f'))) {
+                nextStates.set(71);
+                if (validTypes.contains(TokenType.HEXADECIMALINT)) 
+                type = TokenType.HEXADECIMALINT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_71(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>='0'&&ch<='9')||((ch>='A'&&ch<='F')||(ch>='a'&&ch<='f'))) {
+                nextStates.set(71);
+                if (validTypes.contains(TokenType.HEXADECIMALINT)) 
+                type = TokenType.HEXADECIMALINT;
+            }
+            else if ((ch=='L')||((ch=='U')||((ch=='l')||(ch=='u')))) {
+                if (validTypes.contains(TokenType.HEXADECIMALINT)) 
+                type = TokenType.HEXADECIMALINT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_72(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch=='\t')||(ch==' ')) {
+                nextStates.set(73);
+            }
+            else if (ch=='"') {
+                nextStates.set(74);
+            }
+            else if (ch>='0'&&ch<='9') {
+                nextStates.set(72);
+            }
+            else if (ch=='\n') {
+                if (validTypes.contains(TokenType._TOKEN_7)) 
+                type = TokenType._TOKEN_7;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_73(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch=='\t')||(ch==' ')) {
+                nextStates.set(73);
+            }
+            else if (ch=='"') {
+                nextStates.set(74);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_74(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>=0x0&&ch<='!')||(ch>='#')) {
+                nextStates.set(75);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_75(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>=0x0&&ch<='!')||(ch>='#')) {
+                nextStates.set(75);
+            }
+            else if (ch=='"') {
+                nextStates.set(76);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_76(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch=='\t')||(ch==' ')) {
+                nextStates.set(76);
+                nextStates.set(78);
+            }
+            else if (ch>='0'&&ch<='9') {
+                nextStates.set(77);
+                nextStates.set(79);
+            }
+            else if (ch=='\n') {
+                if (validTypes.contains(TokenType._TOKEN_7)) 
+                type = TokenType._TOKEN_7;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_77(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch=='\t')||(ch==' ')) {
+                nextStates.set(78);
+            }
+            else if (ch>='0'&&ch<='9') {
+                nextStates.set(77);
+                nextStates.set(79);
+            }
+            else if (ch=='\n') {
+                if (validTypes.contains(TokenType._TOKEN_7)) 
+                type = TokenType._TOKEN_7;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_78(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch=='\t')||(ch==' ')) {
+                nextStates.set(78);
+            }
+            else if (ch>='0'&&ch<='9') {
+                nextStates.set(79);
+            }
+            else if (ch=='\n') {
+                if (validTypes.contains(TokenType._TOKEN_7)) 
+                type = TokenType._TOKEN_7;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_79(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch>='0'&&ch<='9') {
+                nextStates.set(79);
+            }
+            else if (ch=='\n') {
+                if (validTypes.contains(TokenType._TOKEN_7)) 
+                type = TokenType._TOKEN_7;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_80(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>=0x0&&ch<=')')||(ch>='+')) {
+                nextStates.set(80);
+            }
+            else if (ch=='*') {
+                nextStates.set(81);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_81(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>=0x0&&ch<='.')||(ch>='0')) {
+                nextStates.set(80);
+            }
+            else if (ch=='/') {
+                if (validTypes.contains(TokenType._TOKEN_6)) 
+                type = TokenType._TOKEN_6;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_82(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>=0x0&&ch<='\t')||(ch>=0xb)) {
+                nextStates.set(82);
+            }
+            else if (ch=='\n') {
+                if (validTypes.contains(TokenType._TOKEN_5)) 
+                type = TokenType._TOKEN_5;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_83(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='n') {
+                nextStates.set(84);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_84(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                nextStates.set(85);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_85(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                nextStates.set(86);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_86(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='x') {
+                nextStates.set(87);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_87(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                if (validTypes.contains(TokenType.CONTEXT)) 
+                type = TokenType.CONTEXT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_88(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='i') {
+                nextStates.set(89);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_89(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='s') {
+                nextStates.set(90);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_90(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                nextStates.set(91);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_91(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='s') {
+                if (validTypes.contains(TokenType.RAISES)) 
+                type = TokenType.RAISES;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_92(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='o') {
+                nextStates.set(93);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_93(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='u') {
+                nextStates.set(94);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_94(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                if (validTypes.contains(TokenType.INOUT)) 
+                type = TokenType.INOUT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_95(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                if (validTypes.contains(TokenType.OUT)) 
+                type = TokenType.OUT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_96(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='i') {
+                nextStates.set(97);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_97(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='d') {
+                if (validTypes.contains(TokenType.VOID)) 
+                type = TokenType.VOID;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_98(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                nextStates.set(99);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_99(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='w') {
+                nextStates.set(100);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_100(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='a') {
+                nextStates.set(101);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_101(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='y') {
+                if (validTypes.contains(TokenType.ONEWAY)) 
+                type = TokenType.ONEWAY;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_102(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='c') {
+                nextStates.set(103);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_103(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                nextStates.set(104);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_104(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='p') {
+                nextStates.set(105);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_105(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                nextStates.set(106);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_106(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='i') {
+                nextStates.set(107);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_107(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='o') {
+                nextStates.set(108);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_108(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='n') {
+                if (validTypes.contains(TokenType.EXCEPTION)) 
+                type = TokenType.EXCEPTION;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_109(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                nextStates.set(110);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_110(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='r') {
+                nextStates.set(111);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_111(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='i') {
+                nextStates.set(112);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_112(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='b') {
+                nextStates.set(113);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_113(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='u') {
+                nextStates.set(114);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_114(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                nextStates.set(115);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_115(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                if (validTypes.contains(TokenType.ATTRIBUTE)) 
+                type = TokenType.ATTRIBUTE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_116(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='a') {
+                nextStates.set(117);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_117(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='d') {
+                nextStates.set(118);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_118(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='o') {
+                nextStates.set(119);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_119(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='n') {
+                nextStates.set(120);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_120(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='l') {
+                nextStates.set(121);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_121(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='y') {
+                if (validTypes.contains(TokenType.READONLY)) 
+                type = TokenType.READONLY;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_122(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='r') {
+                nextStates.set(123);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_123(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='i') {
+                nextStates.set(124);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_124(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='n') {
+                nextStates.set(125);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_125(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='g') {
+                if (validTypes.contains(TokenType._TOKEN_52)) 
+                type = TokenType._TOKEN_52;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_126(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='q') {
+                nextStates.set(127);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_127(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='u') {
+                nextStates.set(128);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_128(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                nextStates.set(129);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_129(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='n') {
+                nextStates.set(130);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_130(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='c') {
+                nextStates.set(131);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_131(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                if (validTypes.contains(TokenType.SEQUENCE)) 
+                type = TokenType.SEQUENCE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_132(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='u') {
+                nextStates.set(133);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_133(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='m') {
+                if (validTypes.contains(TokenType.ENUM)) 
+                type = TokenType.ENUM;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_134(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='f') {
+                nextStates.set(135);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_135(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='a') {
+                nextStates.set(136);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_136(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='u') {
+                nextStates.set(137);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_137(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='l') {
+                nextStates.set(138);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_138(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                if (validTypes.contains(TokenType.DEFAULT)) 
+                type = TokenType.DEFAULT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_139(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='s') {
+                nextStates.set(140);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_140(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                if (validTypes.contains(TokenType.CASE)) 
+                type = TokenType.CASE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_141(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='i') {
+                nextStates.set(142);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_142(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                nextStates.set(143);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_143(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='c') {
+                nextStates.set(144);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_144(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='h') {
+                if (validTypes.contains(TokenType.SWITCH)) 
+                type = TokenType.SWITCH;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_145(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='i') {
+                nextStates.set(146);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_146(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='o') {
+                nextStates.set(147);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_147(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='n') {
+                if (validTypes.contains(TokenType.UNION)) 
+                type = TokenType.UNION;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_148(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='r') {
+                nextStates.set(149);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_149(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='u') {
+                nextStates.set(150);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_150(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='c') {
+                nextStates.set(151);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_151(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                if (validTypes.contains(TokenType.STRUCT)) 
+                type = TokenType.STRUCT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_152(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='y') {
+                if (validTypes.contains(TokenType.ANY)) 
+                type = TokenType.ANY;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_153(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                nextStates.set(154);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_154(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                nextStates.set(155);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_155(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                if (validTypes.contains(TokenType.OCTET)) 
+                type = TokenType.OCTET;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_156(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='o') {
+                nextStates.set(157);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_157(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='l') {
+                nextStates.set(158);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_158(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                nextStates.set(159);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_159(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='a') {
+                nextStates.set(160);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_160(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='n') {
+                if (validTypes.contains(TokenType.BOOLEAN)) 
+                type = TokenType.BOOLEAN;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_161(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='a') {
+                nextStates.set(162);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_162(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='r') {
+                if (validTypes.contains(TokenType.CHAR)) 
+                type = TokenType.CHAR;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_163(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='s') {
+                nextStates.set(164);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_164(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='i') {
+                nextStates.set(165);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_165(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='g') {
+                nextStates.set(166);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_166(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='n') {
+                nextStates.set(167);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_167(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                nextStates.set(168);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_168(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='d') {
+                if (validTypes.contains(TokenType.UNSIGNED)) 
+                type = TokenType.UNSIGNED;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_169(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='o') {
+                nextStates.set(170);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_170(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='r') {
+                nextStates.set(171);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_171(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                if (validTypes.contains(TokenType.SHORT)) 
+                type = TokenType.SHORT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_172(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='n') {
+                nextStates.set(173);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_173(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='g') {
+                if (validTypes.contains(TokenType.LONG)) 
+                type = TokenType.LONG;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_174(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='u') {
+                nextStates.set(175);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_175(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='b') {
+                nextStates.set(176);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_176(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='l') {
+                nextStates.set(177);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_177(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                if (validTypes.contains(TokenType.DOUBLE)) 
+                type = TokenType.DOUBLE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_178(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='o') {
+                nextStates.set(179);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_179(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='a') {
+                nextStates.set(180);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_180(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                if (validTypes.contains(TokenType.FLOAT)) 
+                type = TokenType.FLOAT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_181(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='p') {
+                nextStates.set(182);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_182(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                nextStates.set(183);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_183(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='d') {
+                nextStates.set(184);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_184(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                nextStates.set(185);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_185(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='f') {
+                if (validTypes.contains(TokenType.TYPEDEF)) 
+                type = TokenType.TYPEDEF;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_186(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='L') {
+                nextStates.set(187);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_187(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='S') {
+                nextStates.set(188);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_188(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='E') {
+                if (validTypes.contains(TokenType.FALSE)) 
+                type = TokenType.FALSE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_189(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='U') {
+                nextStates.set(190);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_190(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='E') {
+                if (validTypes.contains(TokenType.TRUE)) 
+                type = TokenType.TRUE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_191(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='n') {
+                nextStates.set(192);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_192(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='s') {
+                nextStates.set(193);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_193(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                if (validTypes.contains(TokenType.CONST)) 
+                type = TokenType.CONST;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_194(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                nextStates.set(195);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_195(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                nextStates.set(196);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_196(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='r') {
+                nextStates.set(197);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_197(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='f') {
+                nextStates.set(198);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_198(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='a') {
+                nextStates.set(199);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_199(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='c') {
+                nextStates.set(200);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_200(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                if (validTypes.contains(TokenType.INTERFACE)) 
+                type = TokenType.INTERFACE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_201(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='d') {
+                nextStates.set(202);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_202(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='u') {
+                nextStates.set(203);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_203(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='l') {
+                nextStates.set(204);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_204(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                if (validTypes.contains(TokenType.MODULE)) 
+                type = TokenType.MODULE;
+            }
+            return type;
+        }
+
+        static private final int[]NFA_MOVES_275 = NFA_MOVES_275_init();
+
+        static private int[]NFA_MOVES_275_init() {
+            return new int[] {'"', '"', '\'', '\'', '?', '?', '\\', '\\', 'a', 'b', 'f', 'f', 'n', 'n', 'r', 'r', 't', 't', 'v', 'v'};
+        }
+
+        static private final int[]NFA_MOVES_289 = NFA_MOVES_289_init();
+
+        static private int[]NFA_MOVES_289_init() {
+            return new int[] {'"', '"', '\'', '\'', '?', '?', '\\', '\\', 'a', 'b', 'f', 'f', 'n', 'n', 'r', 'r', 't', 't', 'v', 'v'};
+        }
+
+        static private void NFA_FUNCTIONS_init() {
+            nfaFunctions = new NfaFunction[] {DEFAULT::NFA_0, DEFAULT::NFA_1, DEFAULT::NFA_2, DEFAULT::NFA_3, DEFAULT::NFA_4, DEFAULT::NFA_5, DEFAULT::NFA_6, DEFAULT::NFA_7, DEFAULT::NFA_8, DEFAULT::NFA_9, DEFAULT::NFA_10, DEFAULT::NFA_11, DEFAULT::NFA_12, DEFAULT::NFA_13, DEFAULT::NFA_14, DEFAULT::NFA_15, DEFAULT::NFA_16, DEFAULT::NFA_17, DEFAULT::NFA_18, DEFAULT::NFA_19, DEFAULT::NFA_20, DEFAULT::NFA_21, DEFAULT::NFA_22, DEFAULT::NFA_23, DEFAULT::NFA_24, DEFAULT::NFA_25, DEFAULT::NFA_26, DEFAULT::NFA_27, DEFAULT::NFA_28, DEFAULT::NFA_29, DEFAULT::NFA_30, DEFAULT::NFA_31, DEFAULT::NFA_32, DEFAULT::NFA_33, DEFAULT::NFA_34, DEFAULT::NFA_35, DEFAULT::NFA_36, DEFAULT::NFA_37, DEFAULT::NFA_38, DEFAULT::NFA_39, DEFAULT::NFA_40, DEFAULT::NFA_41, DEFAULT::NFA_42, DEFAULT::NFA_43, DEFAULT::NFA_44, DEFAULT::NFA_45, DEFAULT::NFA_46, DEFAULT::NFA_47, DEFAULT::NFA_48, DEFAULT::NFA_49, DEFAULT::NFA_50, DEFAULT::NFA_51, DEFAULT::NFA_52, DEFAULT::NFA_53, DEFAULT::NFA_54, DEFAULT::NFA_55, DEFAULT::NFA_56, DEFAULT::NFA_57, DEFAULT::NFA_58, DEFAULT::NFA_59, DEFAULT::NFA_60, DEFAULT::NFA_61, DEFAULT::NFA_62, DEFAULT::NFA_63, DEFAULT::NFA_64, DEFAULT::NFA_65, DEFAULT::NFA_66, DEFAULT::NFA_67, DEFAULT::NFA_68, DEFAULT::NFA_69, DEFAULT::NFA_70, DEFAULT::NFA_71, DEFAULT::NFA_72, DEFAULT::NFA_73, DEFAULT::NFA_74, DEFAULT::NFA_75, DEFAULT::NFA_76, DEFAULT::NFA_77, DEFAULT::NFA_78, DEFAULT::NFA_79, DEFAULT::NFA_80, DEFAULT::NFA_81, DEFAULT::NFA_82, DEFAULT::NFA_83, DEFAULT::NFA_84, DEFAULT::NFA_85, DEFAULT::NFA_86, DEFAULT::NFA_87, DEFAULT::NFA_88, DEFAULT::NFA_89, DEFAULT::NFA_90, DEFAULT::NFA_91, DEFAULT::NFA_92, DEFAULT::NFA_93, DEFAULT::NFA_94, DEFAULT::NFA_95, DEFAULT::NFA_96, DEFAULT::NFA_97, DEFAULT::NFA_98, DEFAULT::NFA_99, DEFAULT::NFA_100, DEFAULT::NFA_101, DEFAULT::NFA_102, DEFAULT::NFA_103, DEFAULT::NFA_104, DEFAULT::NFA_105, DEFAULT::NFA_106, DEFAULT::NFA_107, DEFAULT::NFA_108, DEFAULT::NFA_109, DEFAULT::NFA_110, DEFAULT::NFA_111, DEFAULT::NFA_112, DEFAULT::NFA_113, DEFAULT::NFA_114, DEFAULT::NFA_115, DEFAULT::NFA_116, DEFAULT::NFA_117, DEFAULT::NFA_118, DEFAULT::NFA_119, DEFAULT::NFA_120, DEFAULT::NFA_121, DEFAULT::NFA_122, DEFAULT::NFA_123, DEFAULT::NFA_124, DEFAULT::NFA_125, DEFAULT::NFA_126, DEFAULT::NFA_127, DEFAULT::NFA_128, DEFAULT::NFA_129, DEFAULT::NFA_130, DEFAULT::NFA_131, DEFAULT::NFA_132, DEFAULT::NFA_133, DEFAULT::NFA_134, DEFAULT::NFA_135, DEFAULT::NFA_136, DEFAULT::NFA_137, DEFAULT::NFA_138, DEFAULT::NFA_139, DEFAULT::NFA_140, DEFAULT::NFA_141, DEFAULT::NFA_142, DEFAULT::NFA_143, DEFAULT::NFA_144, DEFAULT::NFA_145, DEFAULT::NFA_146, DEFAULT::NFA_147, DEFAULT::NFA_148, DEFAULT::NFA_149, DEFAULT::NFA_150, DEFAULT::NFA_151, DEFAULT::NFA_152, DEFAULT::NFA_153, DEFAULT::NFA_154, DEFAULT::NFA_155, DEFAULT::NFA_156, DEFAULT::NFA_157, DEFAULT::NFA_158, DEFAULT::NFA_159, DEFAULT::NFA_160, DEFAULT::NFA_161, DEFAULT::NFA_162, DEFAULT::NFA_163, DEFAULT::NFA_164, DEFAULT::NFA_165, DEFAULT::NFA_166, DEFAULT::NFA_167, DEFAULT::NFA_168, DEFAULT::NFA_169, DEFAULT::NFA_170, DEFAULT::NFA_171, DEFAULT::NFA_172, DEFAULT::NFA_173, DEFAULT::NFA_174, DEFAULT::NFA_175, DEFAULT::NFA_176, DEFAULT::NFA_177, DEFAULT::NFA_178, DEFAULT::NFA_179, DEFAULT::NFA_180, DEFAULT::NFA_181, DEFAULT::NFA_182, DEFAULT::NFA_183, DEFAULT::NFA_184, DEFAULT::NFA_185, DEFAULT::NFA_186, DEFAULT::NFA_187, DEFAULT::NFA_188, DEFAULT::NFA_189, DEFAULT::NFA_190, DEFAULT::NFA_191, DEFAULT::NFA_192, DEFAULT::NFA_193, DEFAULT::NFA_194, DEFAULT::NFA_195, DEFAULT::NFA_196, DEFAULT::NFA_197, DEFAULT::NFA_198, DEFAULT::NFA_199, DEFAULT::NFA_200, DEFAULT::NFA_201, DEFAULT::NFA_202, DEFAULT::NFA_203, DEFAULT::NFA_204};
+        }
+
+    }
+
+}
+
+
@@ -0,0 +1,7959 @@
+/* Generated by: JavaCC 21 Parser Generator. IDLParser.java */
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+
+
+public class IDLParser implements IDLConstants {
+
+    public static void main(String args[]) {
+        IDLParser parser;
+        if (args.length==0) {
+            System.out.println("IDL Parser Version 0.1:  Reading from standard input . . .");
+            parser = new IDLParser(new java.io.InputStreamReader(System.in));
+        }
+        else if (args.length==1) {
+            System.out.println("IDL Parser Version 0.1:  Reading from file "+args[0]+" . . .");
+            try {
+                parser = new IDLParser(new java.io.FileReader(args[0]));
+            }
+            catch(java.io.FileNotFoundException e) {
+                System.out.println("IDL Parser Version 0.1:  File "+args[0]+" not found.");
+                return;
+            }
+        }
+        else {
+            System.out.println("IDL Parser Version 0.1:  Usage is one of:");
+            System.out.println("         java IDLParser < inputfile");
+            System.out.println("OR");
+            System.out.println("         java IDLParser inputfile");
+            return;
+        }
+        try {
+            parser.specification();
+            System.out.println("IDL Parser Version 0.1:  IDL file parsed successfully.");
+        }
+        catch(ParseException e) {
+            System.out.println("IDL Parser Version 0.1:  Encountered errors during parse.");
+        }
+    }
+
+    static final int UNLIMITED = Integer.MAX_VALUE;
+    // The last token successfully "consumed"
+    Token lastConsumedToken;
+    private TokenType nextTokenType;
+    private Token currentLookaheadToken;
+    private int remainingLookahead;
+    private boolean hitFailure, passedPredicate;
+    // The names of the parser productions, indexed by the ids
+    // that identify them on the call stacks
+    private static final String[]PRODUCTION_NAMES =  {"specification", "definition", "module", "interfacex", "interface_dcl", "forward_dcl", "interface_header", "interface_body", "export", "inheritance_spec", "scoped_name", "const_dcl", "const_type", "const_exp", "or_expr", "xor_expr", "and_expr", "shift_expr", "add_expr", "mult_expr", "unary_expr", "unary_operator", "primary_expr", "literal", "boolean_literal", "positive_int_const", "type_dcl", "type_declarator", "type_spec", "simple_type_spec", "base_type_spec", "template_type_spec", "constr_type_spec", "declarators", "declarator", "simple_declarator", "complex_declarator", "floating_pt_type", "integer_type", "signed_int", "signed_long_int", "signed_short_int", "unsigned_int", "unsigned_long_int", "unsigned_short_int", "char_type", "boolean_type", "octet_type", "any_type", "struct_type", "member_list", "member", "union_type", "switch_type_spec", "switch_body", "casex", "case_label", "element_spec", "enum_type", "enumerator", "sequence_type", "string_type", "array_declarator", "fixed_array_size", "attr_dcl", "except_dcl", "op_dcl", "op_attribute", "op_type_spec", "parameter_dcls", "param_dcl", "param_attribute", "raises_expr", "context_expr", "param_type_spec", "identifier", "integer_literal", "string_literal", "character_literal", "floating_pt_literal", };
+    private static final Map<String, Integer> PRODUCTION_IDS = new HashMap<> ();
+    static {
+        for (int i = 0; i < PRODUCTION_NAMES.length; i++) {
+            PRODUCTION_IDS.put(PRODUCTION_NAMES[i], i);
+        }
+    }
+    private int currentlyParsedProduction = -1, currentLookaheadProduction = -1;
+    private int lookaheadRoutineNesting, passedPredicateThreshold = -1;
+    private EnumSet<TokenType> outerFollowSet;
+    private boolean legacyGlitchyLookahead = true;
+    private boolean cancelled;
+
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /** Generated Lexer. */
+    public IDLLexer token_source;
+
+    public void setInputSource(String inputSource) {
+        token_source.setInputSource(inputSource);
+    }
+
+    String getInputSource() {
+        return token_source.getInputSource();
+    }
+
+    //=================================
+    // Generated constructors
+    //=================================
+    public IDLParser(String inputSource, CharSequence content) {
+        this(new IDLLexer(inputSource, content));
+    }
+
+    public IDLParser(CharSequence content) {
+        this("input", content);
+    }
+
+    /**
+    * @param inputSource just the name of the input source (typically the filename) that
+    * will be used in error messages and so on.
+    * @param path The location (typically the filename) from which to get the input to parse
+    */
+    public IDLParser(String inputSource, Path path) throws IOException {
+        this(inputSource, IDLLexer.stringFromBytes(Files.readAllBytes(path)));
+    }
+
+    public IDLParser(String inputSource, Path path, Charset charset) throws IOException {
+        this(inputSource, IDLLexer.stringFromBytes(Files.readAllBytes(path), charset));
+    }
+
+    /**
+    * @param inputSource just the name of the input source (typically the filename) that
+    * will be used in error messages and so on.
+    * @param path The location (typically the filename) from which to get the input to parse
+    * @param charset The encoding of the file. If this is null, it is worked out from the byte order mark,
+    * defaulting to UTF-8.
+    * @param memoryMapped whether to memory-map the file rather than read it into memory.
+    * (See IDLLexer#mapFile)
+    */
+    public IDLParser(String inputSource, Path path, Charset charset, boolean memoryMapped) throws IOException {
+        this(inputSource, memoryMapped ? IDLLexer.mapFile(path, charset) : IDLLexer.stringFromBytes(Files.readAllBytes(path), charset));
+    }
+
+    /**
+    * @param path The location (typically the filename) from which to get the input to parse
+    */
+    public IDLParser(Path path) throws IOException {
+        this(path.toString(), path);
+    }
+
+    /**
+    * @Deprecated Use the constructor that takes a #java.nio.files.Path or just
+    * a String (i.e. CharSequence) directly.
+    */
+    public IDLParser(java.io.InputStream stream) {
+        this(new InputStreamReader(stream));
+    }
+
+    /**
+    * @Deprecated Use the constructor that takes a #java.nio.files.Path or just
+    * a String (i.e. CharSequence) directly.
+    */
+    public IDLParser(Reader reader) {
+        this(new IDLLexer("input", reader));
+    }
+
+    /** Constructor with user supplied Lexer. */
+    public IDLParser(IDLLexer lexer) {
+        token_source = lexer;
+        lastConsumedToken = lexer.DUMMY_START_TOKEN;
+        lastConsumedToken.setTokenSource(lexer);
+    }
+
+    /**
+    * Resets this parser, and its lexer, so that it parses the given input
+    * from the start, reusing the internal buffers of both rather than
+    * constructing new objects. This is meant for parsing many (typically small)
+    * inputs in turn, possibly via a ParserPool. The Tokens and Nodes from the
+    * previous input should not be used after this, since they refer back to
+    * the lexer. Any state added to the parser by injected code is not reset.
+    * @param inputSource just the name of the input source (typically the filename) that
+    * will be used in error messages and so on.
+    * @param content the input to parse
+    */
+    public void reset(String inputSource, CharSequence content) {
+        token_source.reset(inputSource, content);
+        lastConsumedToken = token_source.DUMMY_START_TOKEN;
+        lastConsumedToken.setTokenSource(token_source);
+        nextTokenType = null;
+        currentLookaheadToken = null;
+        remainingLookahead = 0;
+        hitFailure = passedPredicate = false;
+        currentlyParsedProduction = currentLookaheadProduction = -1;
+        lookaheadRoutineNesting = 0;
+        passedPredicateThreshold = -1;
+        outerFollowSet = null;
+        cancelled = false;
+        parsingStack.clear();
+        lookaheadStack.clear();
+        parseStateStack.clear();
+    }
+
+    public void reset(CharSequence content) {
+        reset("input", content);
+    }
+
+    /**
+    * Resets this parser to parse the given file. (See #reset(String, CharSequence))
+    * @param path The location (typically the filename) from which to get the input to parse
+    */
+    public void reset(Path path) throws IOException {
+        reset(path.toString(), IDLLexer.stringFromBytes(Files.readAllBytes(path)));
+    }
+
+    // If the next token is cached, it returns that
+    // Otherwise, it goes to the token_source, i.e. the Lexer.
+    final private Token nextToken(final Token tok) {
+        Token result = token_source.getNextToken(tok);
+        while (result.isUnparsed()) {
+            result = token_source.getNextToken(result);
+        }
+        nextTokenType = null;
+        return result;
+    }
+
+    /**
+    * @return the next Token off the stream. This is the same as #getToken(1)
+    */
+    final public Token getNextToken() {
+        return getToken(1);
+    }
+
+    /**
+    * @param index how many tokens to look ahead
+    * @return the specific regular (i.e. parsed) Token index ahead/behind in the stream.
+    * If we are in a lookahead, it looks ahead from the currentLookaheadToken
+    * Otherwise, it is the lastConsumedToken. If you pass in a negative
+    * number it goes backward.
+    */
+    final public Token getToken(final int index) {
+        Token t = currentLookaheadToken==null ? lastConsumedToken : currentLookaheadToken;
+        for (int i = 0; i < index; i++) {
+            t = nextToken(t);
+        }
+        for (int i = 0; i > index; i--) {
+            t = t.getPrevious();
+            if (t==null) break;
+        }
+        return t;
+    }
+
+    private final TokenType nextTokenType() {
+        if (nextTokenType==null) {
+            nextTokenType = nextToken(lastConsumedToken).getType();
+        }
+        return nextTokenType;
+    }
+
+    boolean activateTokenTypes(TokenType...types) {
+        boolean result = false;
+        for (TokenType tt : types) {
+            result|=token_source.activeTokenTypes.add(tt);
+        }
+        if (result) {
+            token_source.reset(getToken(0));
+            nextTokenType = null;
+        }
+        return result;
+    }
+
+    boolean deactivateTokenTypes(TokenType...types) {
+        boolean result = false;
+        for (TokenType tt : types) {
+            result|=token_source.activeTokenTypes.remove(tt);
+        }
+        if (result) {
+            token_source.reset(getToken(0));
+            nextTokenType = null;
+        }
+        return result;
+    }
+
+    private static int productionId(String productionName) {
+        Integer id = PRODUCTION_IDS.get(productionName);
+        return id==null ? -1 : id;
+    }
+
+    private static String productionName(int productionId) {
+        return productionId < 0 ? null : PRODUCTION_NAMES[productionId];
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:85:1
+    final public
+    /* Production 1 */
+    void specification() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 0;
+        // Code for OneOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:88:3
+        while (true) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:88:5
+            pushOntoCallStack(0, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 88, 5);
+            try {
+                definition();
+            }
+            finally {
+                popCallStack();
+            }
+            if (!(maskContains(first_set$IDL_javacc$88$5_MASK, nextTokenType().ordinal()))) break;
+        }
+    }
+
+    static private final EnumSet<TokenType> definition_FIRST_SET = definition_FIRST_SET_init();
+
+    static private EnumSet<TokenType> definition_FIRST_SET_init() {
+        return EnumSet.of(TokenType.MODULE, TokenType.INTERFACE, TokenType.CONST, TokenType.TYPEDEF, TokenType.STRUCT, TokenType.UNION, TokenType.ENUM, TokenType.EXCEPTION);
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:93:1
+    final public
+    /* Production 2 */
+    void definition() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 1;
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:96:3
+        if (nextTokenType()==TokenType.TYPEDEF||nextTokenType==TokenType.STRUCT||nextTokenType==TokenType.UNION||nextTokenType==TokenType.ENUM) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:96:3
+            pushOntoCallStack(1, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 96, 3);
+            try {
+                type_dcl();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:96:14
+            consumeToken(TokenType._TOKEN_8);
+        }
+        else if (nextTokenType()==TokenType.CONST) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:98:3
+            pushOntoCallStack(1, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 98, 3);
+            try {
+                const_dcl();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:98:15
+            consumeToken(TokenType._TOKEN_8);
+        }
+        else if (nextTokenType()==TokenType.EXCEPTION) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:100:3
+            pushOntoCallStack(1, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 100, 3);
+            try {
+                except_dcl();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:100:16
+            consumeToken(TokenType._TOKEN_8);
+        }
+        else if (nextTokenType()==TokenType.INTERFACE) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:102:3
+            pushOntoCallStack(1, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 102, 3);
+            try {
+                interfacex();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:102:16
+            consumeToken(TokenType._TOKEN_8);
+        }
+        else if (nextTokenType()==TokenType.MODULE) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:104:3
+            pushOntoCallStack(1, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 104, 3);
+            try {
+                module();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:104:12
+            consumeToken(TokenType._TOKEN_8);
+        }
+        else {
+            pushOntoCallStack(1, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 96, 3);
+            throw new ParseException(this, definition_FIRST_SET, parsingStack.toList());
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:109:1
+    final public
+    /* Production 3 */
+    void module() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 2;
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:112:3
+        consumeToken(TokenType.MODULE);
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:112:12
+        pushOntoCallStack(2, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 112, 12);
+        try {
+            identifier();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:112:25
+        consumeToken(TokenType._TOKEN_10);
+        // Code for OneOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:112:29
+        while (true) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:112:31
+            pushOntoCallStack(2, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 112, 31);
+            try {
+                definition();
+            }
+            finally {
+                popCallStack();
+            }
+            if (!(maskContains(first_set$IDL_javacc$112$31_MASK, nextTokenType().ordinal()))) break;
+        }
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:112:47
+        consumeToken(TokenType._TOKEN_11);
+    }
+
+    static private final EnumSet<TokenType> interfacex_FIRST_SET = EnumSet.of(TokenType.INTERFACE);
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:117:1
+    final public
+    /* Production 4 */
+    void interfacex() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 3;
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:120:3
+        if (scan$IDL_javacc$120$3()) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:121:3
+            pushOntoCallStack(3, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 121, 3);
+            try {
+                interface_dcl();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (nextTokenType()==TokenType.INTERFACE) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:123:3
+            pushOntoCallStack(3, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 123, 3);
+            try {
+                forward_dcl();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else {
+            pushOntoCallStack(3, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 120, 3);
+            throw new ParseException(this, interfacex_FIRST_SET, parsingStack.toList());
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:128:1
+    final public
+    /* Production 5 */
+    void interface_dcl() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 4;
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:131:3
+        pushOntoCallStack(4, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 131, 3);
+        try {
+            interface_header();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:131:22
+        consumeToken(TokenType._TOKEN_10);
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:131:26
+        pushOntoCallStack(4, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 131, 26);
+        try {
+            interface_body();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:131:43
+        consumeToken(TokenType._TOKEN_11);
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:136:1
+    final public
+    /* Production 6 */
+    void forward_dcl() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 5;
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:139:3
+        consumeToken(TokenType.INTERFACE);
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:139:15
+        pushOntoCallStack(5, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 139, 15);
+        try {
+            identifier();
+        }
+        finally {
+            popCallStack();
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:144:1
+    final public
+    /* Production 7 */
+    void interface_header() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 6;
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:147:3
+        consumeToken(TokenType.INTERFACE);
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:147:15
+        pushOntoCallStack(6, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 147, 15);
+        try {
+            identifier();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for ZeroOrOne specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:147:28
+        if (nextTokenType()==TokenType._TOKEN_13) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:147:30
+            pushOntoCallStack(6, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 147, 30);
+            try {
+                inheritance_spec();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:152:1
+    final public
+    /* Production 8 */
+    void interface_body() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 7;
+        // Code for ZeroOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:155:3
+        while (true) {
+            if (!(maskContains(first_set$IDL_javacc$155$5_MASK, nextTokenType().ordinal()))) break;
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:155:5
+            pushOntoCallStack(7, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 155, 5);
+            try {
+                export();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+    }
+
+    static private final EnumSet<TokenType> export_FIRST_SET = export_FIRST_SET_init();
+
+    static private EnumSet<TokenType> export_FIRST_SET_init() {
+        return EnumSet.of(TokenType._TOKEN_15, TokenType.CONST, TokenType.TYPEDEF, TokenType.FLOAT, TokenType.DOUBLE, TokenType.LONG, TokenType.SHORT, TokenType.UNSIGNED, TokenType.CHAR, TokenType.BOOLEAN, TokenType.OCTET, TokenType.ANY, TokenType.STRUCT, TokenType.UNION, TokenType.ENUM, TokenType._TOKEN_52, TokenType.READONLY, TokenType.ATTRIBUTE, TokenType.EXCEPTION, TokenType.ONEWAY, TokenType.VOID, TokenType.ID);
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:160:1
+    final public
+    /* Production 9 */
+    void export() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 8;
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:163:3
+        if (nextTokenType()==TokenType.TYPEDEF||nextTokenType==TokenType.STRUCT||nextTokenType==TokenType.UNION||nextTokenType==TokenType.ENUM) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:163:3
+            pushOntoCallStack(8, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 163, 3);
+            try {
+                type_dcl();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:163:14
+            consumeToken(TokenType._TOKEN_8);
+        }
+        else if (nextTokenType()==TokenType.CONST) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:165:3
+            pushOntoCallStack(8, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 165, 3);
+            try {
+                const_dcl();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:165:15
+            consumeToken(TokenType._TOKEN_8);
+        }
+        else if (nextTokenType()==TokenType.EXCEPTION) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:167:3
+            pushOntoCallStack(8, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 167, 3);
+            try {
+                except_dcl();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:167:16
+            consumeToken(TokenType._TOKEN_8);
+        }
+        else if (nextTokenType()==TokenType.READONLY||nextTokenType==TokenType.ATTRIBUTE) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:169:3
+            pushOntoCallStack(8, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 169, 3);
+            try {
+                attr_dcl();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:169:14
+            consumeToken(TokenType._TOKEN_8);
+        }
+        else if (maskContains(first_set$IDL_javacc$171$3_MASK, nextTokenType().ordinal())) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:171:3
+            pushOntoCallStack(8, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 171, 3);
+            try {
+                op_dcl();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:171:12
+            consumeToken(TokenType._TOKEN_8);
+        }
+        else {
+            pushOntoCallStack(8, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 163, 3);
+            throw new ParseException(this, export_FIRST_SET, parsingStack.toList());
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:176:1
+    final public
+    /* Production 10 */
+    void inheritance_spec() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 9;
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:179:3
+        consumeToken(TokenType._TOKEN_13);
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:179:7
+        pushOntoCallStack(9, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 179, 7);
+        try {
+            scoped_name();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:179:21
+        while (true) {
+            if (!(nextTokenType()==TokenType._TOKEN_14)) break;
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:179:23
+            consumeToken(TokenType._TOKEN_14);
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:179:27
+            pushOntoCallStack(9, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 179, 27);
+            try {
+                scoped_name();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:184:1
+    final public
+    /* Production 11 */
+    void scoped_name() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 10;
+        // Code for ZeroOrOne specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:187:3
+        if (nextTokenType()==TokenType._TOKEN_15) {
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:187:5
+            consumeToken(TokenType._TOKEN_15);
+        }
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:187:12
+        pushOntoCallStack(10, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 187, 12);
+        try {
+            identifier();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:187:25
+        while (true) {
+            if (!(nextTokenType()==TokenType._TOKEN_15)) break;
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:187:27
+            consumeToken(TokenType._TOKEN_15);
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:187:32
+            pushOntoCallStack(10, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 187, 32);
+            try {
+                identifier();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:192:1
+    final public
+    /* Production 12 */
+    void const_dcl() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 11;
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:195:3
+        consumeToken(TokenType.CONST);
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:195:11
+        pushOntoCallStack(11, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 195, 11);
+        try {
+            const_type();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:195:24
+        pushOntoCallStack(11, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 195, 24);
+        try {
+            identifier();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:195:37
+        consumeToken(TokenType._TOKEN_17);
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:195:41
+        pushOntoCallStack(11, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 195, 41);
+        try {
+            const_exp();
+        }
+        finally {
+            popCallStack();
+        }
+    }
+
+    static private final EnumSet<TokenType> const_type_FIRST_SET = const_type_FIRST_SET_init();
+
+    static private EnumSet<TokenType> const_type_FIRST_SET_init() {
+        return EnumSet.of(TokenType._TOKEN_15, TokenType.FLOAT, TokenType.DOUBLE, TokenType.LONG, TokenType.SHORT, TokenType.UNSIGNED, TokenType.CHAR, TokenType.BOOLEAN, TokenType._TOKEN_52, TokenType.ID);
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:200:1
+    final public
+    /* Production 13 */
+    void const_type() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 12;
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:203:3
+        if (nextTokenType()==TokenType.LONG||nextTokenType==TokenType.SHORT||nextTokenType==TokenType.UNSIGNED) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:203:3
+            pushOntoCallStack(12, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 203, 3);
+            try {
+                integer_type();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (nextTokenType()==TokenType.CHAR) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:205:3
+            pushOntoCallStack(12, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 205, 3);
+            try {
+                char_type();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (nextTokenType()==TokenType.BOOLEAN) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:207:3
+            pushOntoCallStack(12, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 207, 3);
+            try {
+                boolean_type();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (nextTokenType()==TokenType.FLOAT||nextTokenType==TokenType.DOUBLE) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:209:3
+            pushOntoCallStack(12, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 209, 3);
+            try {
+                floating_pt_type();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (nextTokenType()==TokenType._TOKEN_52) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:211:3
+            pushOntoCallStack(12, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 211, 3);
+            try {
+                string_type();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (nextTokenType()==TokenType._TOKEN_15||nextTokenType==TokenType.ID) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:213:3
+            pushOntoCallStack(12, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 213, 3);
+            try {
+                scoped_name();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else {
+            pushOntoCallStack(12, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 203, 3);
+            throw new ParseException(this, const_type_FIRST_SET, parsingStack.toList());
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:218:1
+    final public
+    /* Production 14 */
+    void const_exp() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 13;
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:221:3
+        pushOntoCallStack(13, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 221, 3);
+        try {
+            or_expr();
+        }
+        finally {
+            popCallStack();
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:226:1
+    final public
+    /* Production 15 */
+    void or_expr() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 14;
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:229:3
+        pushOntoCallStack(14, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 229, 3);
+        try {
+            xor_expr();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:229:14
+        while (true) {
+            if (!(nextTokenType()==TokenType._TOKEN_18)) break;
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:229:16
+            consumeToken(TokenType._TOKEN_18);
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:229:20
+            pushOntoCallStack(14, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 229, 20);
+            try {
+                xor_expr();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:234:1
+    final public
+    /* Production 16 */
+    void xor_expr() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 15;
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:237:3
+        pushOntoCallStack(15, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 237, 3);
+        try {
+            and_expr();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:237:14
+        while (true) {
+            if (!(nextTokenType()==TokenType._TOKEN_19)) break;
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:237:16
+            consumeToken(TokenType._TOKEN_19);
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:237:20
+            pushOntoCallStack(15, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 237, 20);
+            try {
+                and_expr();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:242:1
+    final public
+    /* Production 17 */
+    void and_expr() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 16;
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:245:3
+        pushOntoCallStack(16, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 245, 3);
+        try {
+            shift_expr();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:245:16
+        while (true) {
+            if (!(nextTokenType()==TokenType._TOKEN_20)) break;
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:245:18
+            consumeToken(TokenType._TOKEN_20);
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:245:22
+            pushOntoCallStack(16, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 245, 22);
+            try {
+                shift_expr();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:250:1
+    final public
+    /* Production 18 */
+    void shift_expr() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 17;
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:253:3
+        pushOntoCallStack(17, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 253, 3);
+        try {
+            add_expr();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:253:14
+        while (true) {
+            if (!(nextTokenType()==TokenType._TOKEN_21||nextTokenType==TokenType._TOKEN_22)) break;
+            if (nextTokenType()==TokenType._TOKEN_21) {
+                // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:253:18
+                consumeToken(TokenType._TOKEN_21);
+            }
+            else if (nextTokenType()==TokenType._TOKEN_22) {
+                // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:253:25
+                consumeToken(TokenType._TOKEN_22);
+            }
+            else {
+                pushOntoCallStack(17, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 253, 18);
+                throw new ParseException(this, first_set$IDL_javacc$253$18, parsingStack.toList());
+            }
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:253:32
+            pushOntoCallStack(17, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 253, 32);
+            try {
+                add_expr();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:258:1
+    final public
+    /* Production 19 */
+    void add_expr() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 18;
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:261:3
+        pushOntoCallStack(18, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 261, 3);
+        try {
+            mult_expr();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:261:15
+        while (true) {
+            if (!(nextTokenType()==TokenType._TOKEN_23||nextTokenType==TokenType._TOKEN_24)) break;
+            if (nextTokenType()==TokenType._TOKEN_23) {
+                // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:261:19
+                consumeToken(TokenType._TOKEN_23);
+            }
+            else if (nextTokenType()==TokenType._TOKEN_24) {
+                // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:261:25
+                consumeToken(TokenType._TOKEN_24);
+            }
+            else {
+                pushOntoCallStack(18, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 261, 19);
+                throw new ParseException(this, first_set$IDL_javacc$261$19, parsingStack.toList());
+            }
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:261:31
+            pushOntoCallStack(18, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 261, 31);
+            try {
+                mult_expr();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:266:1
+    final public
+    /* Production 20 */
+    void mult_expr() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 19;
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:269:3
+        pushOntoCallStack(19, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 269, 3);
+        try {
+            unary_expr();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:269:16
+        while (true) {
+            if (!(nextTokenType()==TokenType._TOKEN_25||nextTokenType==TokenType._TOKEN_26||nextTokenType==TokenType._TOKEN_27)) break;
+            if (nextTokenType()==TokenType._TOKEN_25) {
+                // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:269:20
+                consumeToken(TokenType._TOKEN_25);
+            }
+            else if (nextTokenType()==TokenType._TOKEN_26) {
+                // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:269:26
+                consumeToken(TokenType._TOKEN_26);
+            }
+            else if (nextTokenType()==TokenType._TOKEN_27) {
+                // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:269:32
+                consumeToken(TokenType._TOKEN_27);
+            }
+            else {
+                pushOntoCallStack(19, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 269, 20);
+                throw new ParseException(this, first_set$IDL_javacc$269$20, parsingStack.toList());
+            }
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:269:38
+            pushOntoCallStack(19, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 269, 38);
+            try {
+                unary_expr();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:274:1
+    final public
+    /* Production 21 */
+    void unary_expr() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 20;
+        // Code for ZeroOrOne specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:277:3
+        if (nextTokenType()==TokenType._TOKEN_23||nextTokenType==TokenType._TOKEN_24||nextTokenType==TokenType._TOKEN_28) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:277:5
+            pushOntoCallStack(20, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 277, 5);
+            try {
+                unary_operator();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:277:24
+        pushOntoCallStack(20, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 277, 24);
+        try {
+            primary_expr();
+        }
+        finally {
+            popCallStack();
+        }
+    }
+
+    static private final EnumSet<TokenType> unary_operator_FIRST_SET = EnumSet.of(TokenType._TOKEN_23, TokenType._TOKEN_24, TokenType._TOKEN_28);
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:281:1
+    final public
+    /* Production 22 */
+    void unary_operator() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 21;
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:284:3
+        if (nextTokenType()==TokenType._TOKEN_24) {
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:284:3
+            consumeToken(TokenType._TOKEN_24);
+        }
+        else if (nextTokenType()==TokenType._TOKEN_23) {
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:286:3
+            consumeToken(TokenType._TOKEN_23);
+        }
+        else if (nextTokenType()==TokenType._TOKEN_28) {
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:288:3
+            consumeToken(TokenType._TOKEN_28);
+        }
+        else {
+            pushOntoCallStack(21, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 284, 3);
+            throw new ParseException(this, unary_operator_FIRST_SET, parsingStack.toList());
+        }
+    }
+
+    static private final EnumSet<TokenType> primary_expr_FIRST_SET = primary_expr_FIRST_SET_init();
+
+    static private EnumSet<TokenType> primary_expr_FIRST_SET_init() {
+        return EnumSet.of(TokenType._TOKEN_15, TokenType._TOKEN_29, TokenType.TRUE, TokenType.FALSE, TokenType.ID, TokenType.OCTALINT, TokenType.DECIMALINT, TokenType.HEXADECIMALINT, TokenType.FLOATONE, TokenType.FLOATTWO, TokenType.CHARACTER, TokenType.STRING);
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:293:1
+    final public
+    /* Production 23 */
+    void primary_expr() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 22;
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:296:3
+        if (nextTokenType()==TokenType._TOKEN_15||nextTokenType==TokenType.ID) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:296:3
+            pushOntoCallStack(22, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 296, 3);
+            try {
+                scoped_name();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (maskContains(first_set$IDL_javacc$298$3_MASK, nextTokenType().ordinal())) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:298:3
+            pushOntoCallStack(22, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 298, 3);
+            try {
+                literal();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (nextTokenType()==TokenType._TOKEN_29) {
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:300:3
+            consumeToken(TokenType._TOKEN_29);
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:300:7
+            pushOntoCallStack(22, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 300, 7);
+            try {
+                const_exp();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:300:19
+            consumeToken(TokenType._TOKEN_30);
+        }
+        else {
+            pushOntoCallStack(22, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 296, 3);
+            throw new ParseException(this, primary_expr_FIRST_SET, parsingStack.toList());
+        }
+    }
+
+    static private final EnumSet<TokenType> literal_FIRST_SET = literal_FIRST_SET_init();
+
+    static private EnumSet<TokenType> literal_FIRST_SET_init() {
+        return EnumSet.of(TokenType.TRUE, TokenType.FALSE, TokenType.OCTALINT, TokenType.DECIMALINT, TokenType.HEXADECIMALINT, TokenType.FLOATONE, TokenType.FLOATTWO, TokenType.CHARACTER, TokenType.STRING);
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:305:1
+    final public
+    /* Production 24 */
+    void literal() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 23;
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:308:3
+        if (nextTokenType()==TokenType.OCTALINT||nextTokenType==TokenType.DECIMALINT||nextTokenType==TokenType.HEXADECIMALINT) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:308:3
+            pushOntoCallStack(23, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 308, 3);
+            try {
+                integer_literal();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (nextTokenType()==TokenType.STRING) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:310:3
+            pushOntoCallStack(23, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 310, 3);
+            try {
+                string_literal();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (nextTokenType()==TokenType.CHARACTER) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:312:3
+            pushOntoCallStack(23, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 312, 3);
+            try {
+                character_literal();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (nextTokenType()==TokenType.FLOATONE||nextTokenType==TokenType.FLOATTWO) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:314:3
+            pushOntoCallStack(23, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 314, 3);
+            try {
+                floating_pt_literal();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (nextTokenType()==TokenType.TRUE||nextTokenType==TokenType.FALSE) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:316:3
+            pushOntoCallStack(23, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 316, 3);
+            try {
+                boolean_literal();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else {
+            pushOntoCallStack(23, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 308, 3);
+            throw new ParseException(this, literal_FIRST_SET, parsingStack.toList());
+        }
+    }
+
+    static private final EnumSet<TokenType> boolean_literal_FIRST_SET = EnumSet.of(TokenType.TRUE, TokenType.FALSE);
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:321:1
+    final public
+    /* Production 25 */
+    void boolean_literal() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 24;
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:324:3
+        if (nextTokenType()==TokenType.TRUE) {
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:324:3
+            consumeToken(TokenType.TRUE);
+        }
+        else if (nextTokenType()==TokenType.FALSE) {
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:326:3
+            consumeToken(TokenType.FALSE);
+        }
+        else {
+            pushOntoCallStack(24, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 324, 3);
+            throw new ParseException(this, boolean_literal_FIRST_SET, parsingStack.toList());
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:331:1
+    final public
+    /* Production 26 */
+    void positive_int_const() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 25;
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:334:3
+        pushOntoCallStack(25, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 334, 3);
+        try {
+            const_exp();
+        }
+        finally {
+            popCallStack();
+        }
+    }
+
+    static private final EnumSet<TokenType> type_dcl_FIRST_SET = EnumSet.of(TokenType.TYPEDEF, TokenType.STRUCT, TokenType.UNION, TokenType.ENUM);
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:339:1
+    final public
+    /* Production 27 */
+    void type_dcl() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 26;
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:342:3
+        if (nextTokenType()==TokenType.TYPEDEF) {
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:342:3
+            consumeToken(TokenType.TYPEDEF);
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:342:13
+            pushOntoCallStack(26, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 342, 13);
+            try {
+                type_declarator();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (nextTokenType()==TokenType.STRUCT) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:344:3
+            pushOntoCallStack(26, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 344, 3);
+            try {
+                struct_type();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (nextTokenType()==TokenType.UNION) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:346:3
+            pushOntoCallStack(26, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 346, 3);
+            try {
+                union_type();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (nextTokenType()==TokenType.ENUM) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:348:3
+            pushOntoCallStack(26, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 348, 3);
+            try {
+                enum_type();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else {
+            pushOntoCallStack(26, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 342, 3);
+            throw new ParseException(this, type_dcl_FIRST_SET, parsingStack.toList());
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:353:1
+    final public
+    /* Production 28 */
+    void type_declarator() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 27;
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:356:3
+        pushOntoCallStack(27, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 356, 3);
+        try {
+            type_spec();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:356:15
+        pushOntoCallStack(27, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 356, 15);
+        try {
+            declarators();
+        }
+        finally {
+            popCallStack();
+        }
+    }
+
+    static private final EnumSet<TokenType> type_spec_FIRST_SET = type_spec_FIRST_SET_init();
+
+    static private EnumSet<TokenType> type_spec_FIRST_SET_init() {
+        return EnumSet.of(TokenType._TOKEN_15, TokenType.FLOAT, TokenType.DOUBLE, TokenType.LONG, TokenType.SHORT, TokenType.UNSIGNED, TokenType.CHAR, TokenType.BOOLEAN, TokenType.OCTET, TokenType.ANY, TokenType.STRUCT, TokenType.UNION, TokenType.ENUM, TokenType.SEQUENCE, TokenType._TOKEN_52, TokenType.ID);
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:361:1
+    final public
+    /* Production 29 */
+    void type_spec() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 28;
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:364:3
+        if (maskContains(first_set$IDL_javacc$364$3_MASK, nextTokenType().ordinal())) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:364:3
+            pushOntoCallStack(28, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 364, 3);
+            try {
+                simple_type_spec();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (nextTokenType()==TokenType.STRUCT||nextTokenType==TokenType.UNION||nextTokenType==TokenType.ENUM) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:366:3
+            pushOntoCallStack(28, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 366, 3);
+            try {
+                constr_type_spec();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else {
+            pushOntoCallStack(28, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 364, 3);
+            throw new ParseException(this, type_spec_FIRST_SET, parsingStack.toList());
+        }
+    }
+
+    static private final EnumSet<TokenType> simple_type_spec_FIRST_SET = simple_type_spec_FIRST_SET_init();
+
+    static private EnumSet<TokenType> simple_type_spec_FIRST_SET_init() {
+        return EnumSet.of(TokenType._TOKEN_15, TokenType.FLOAT, TokenType.DOUBLE, TokenType.LONG, TokenType.SHORT, TokenType.UNSIGNED, TokenType.CHAR, TokenType.BOOLEAN, TokenType.OCTET, TokenType.ANY, TokenType.SEQUENCE, TokenType._TOKEN_52, TokenType.ID);
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:371:1
+    final public
+    /* Production 30 */
+    void simple_type_spec() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 29;
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:374:3
+        if (maskContains(first_set$IDL_javacc$374$3_MASK, nextTokenType().ordinal())) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:374:3
+            pushOntoCallStack(29, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 374, 3);
+            try {
+                base_type_spec();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (nextTokenType()==TokenType.SEQUENCE||nextTokenType==TokenType._TOKEN_52) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:376:3
+            pushOntoCallStack(29, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 376, 3);
+            try {
+                template_type_spec();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (nextTokenType()==TokenType._TOKEN_15||nextTokenType==TokenType.ID) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:378:3
+            pushOntoCallStack(29, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 378, 3);
+            try {
+                scoped_name();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else {
+            pushOntoCallStack(29, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 374, 3);
+            throw new ParseException(this, simple_type_spec_FIRST_SET, parsingStack.toList());
+        }
+    }
+
+    static private final EnumSet<TokenType> base_type_spec_FIRST_SET = base_type_spec_FIRST_SET_init();
+
+    static private EnumSet<TokenType> base_type_spec_FIRST_SET_init() {
+        return EnumSet.of(TokenType.FLOAT, TokenType.DOUBLE, TokenType.LONG, TokenType.SHORT, TokenType.UNSIGNED, TokenType.CHAR, TokenType.BOOLEAN, TokenType.OCTET, TokenType.ANY);
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:383:1
+    final public
+    /* Production 31 */
+    void base_type_spec() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 30;
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:386:3
+        if (nextTokenType()==TokenType.FLOAT||nextTokenType==TokenType.DOUBLE) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:386:3
+            pushOntoCallStack(30, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 386, 3);
+            try {
+                floating_pt_type();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (nextTokenType()==TokenType.LONG||nextTokenType==TokenType.SHORT||nextTokenType==TokenType.UNSIGNED) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:388:3
+            pushOntoCallStack(30, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 388, 3);
+            try {
+                integer_type();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (nextTokenType()==TokenType.CHAR) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:390:3
+            pushOntoCallStack(30, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 390, 3);
+            try {
+                char_type();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (nextTokenType()==TokenType.BOOLEAN) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:392:3
+            pushOntoCallStack(30, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 392, 3);
+            try {
+                boolean_type();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (nextTokenType()==TokenType.OCTET) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:394:3
+            pushOntoCallStack(30, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 394, 3);
+            try {
+                octet_type();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (nextTokenType()==TokenType.ANY) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:396:3
+            pushOntoCallStack(30, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 396, 3);
+            try {
+                any_type();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else {
+            pushOntoCallStack(30, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 386, 3);
+            throw new ParseException(this, base_type_spec_FIRST_SET, parsingStack.toList());
+        }
+    }
+
+    static private final EnumSet<TokenType> template_type_spec_FIRST_SET = EnumSet.of(TokenType.SEQUENCE, TokenType._TOKEN_52);
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:401:1
+    final public
+    /* Production 32 */
+    void template_type_spec() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 31;
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:404:3
+        if (nextTokenType()==TokenType.SEQUENCE) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:404:3
+            pushOntoCallStack(31, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 404, 3);
+            try {
+                sequence_type();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (nextTokenType()==TokenType._TOKEN_52) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:406:3
+            pushOntoCallStack(31, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 406, 3);
+            try {
+                string_type();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else {
+            pushOntoCallStack(31, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 404, 3);
+            throw new ParseException(this, template_type_spec_FIRST_SET, parsingStack.toList());
+        }
+    }
+
+    static private final EnumSet<TokenType> constr_type_spec_FIRST_SET = EnumSet.of(TokenType.STRUCT, TokenType.UNION, TokenType.ENUM);
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:411:1
+    final public
+    /* Production 33 */
+    void constr_type_spec() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 32;
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:414:3
+        if (nextTokenType()==TokenType.STRUCT) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:414:3
+            pushOntoCallStack(32, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 414, 3);
+            try {
+                struct_type();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (nextTokenType()==TokenType.UNION) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:416:3
+            pushOntoCallStack(32, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 416, 3);
+            try {
+                union_type();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (nextTokenType()==TokenType.ENUM) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:418:3
+            pushOntoCallStack(32, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 418, 3);
+            try {
+                enum_type();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else {
+            pushOntoCallStack(32, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 414, 3);
+            throw new ParseException(this, constr_type_spec_FIRST_SET, parsingStack.toList());
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:423:1
+    final public
+    /* Production 34 */
+    void declarators() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 33;
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:426:3
+        pushOntoCallStack(33, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 426, 3);
+        try {
+            declarator();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:426:16
+        while (true) {
+            if (!(nextTokenType()==TokenType._TOKEN_14)) break;
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:426:18
+            consumeToken(TokenType._TOKEN_14);
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:426:22
+            pushOntoCallStack(33, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 426, 22);
+            try {
+                declarator();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+    }
+
+    static private final EnumSet<TokenType> declarator_FIRST_SET = EnumSet.of(TokenType.ID);
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:431:1
+    final public
+    /* Production 35 */
+    void declarator() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 34;
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:434:3
+        if (scan$IDL_javacc$434$3()) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:435:3
+            pushOntoCallStack(34, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 435, 3);
+            try {
+                complex_declarator();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (nextTokenType()==TokenType.ID) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:437:3
+            pushOntoCallStack(34, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 437, 3);
+            try {
+                simple_declarator();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else {
+            pushOntoCallStack(34, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 434, 3);
+            throw new ParseException(this, declarator_FIRST_SET, parsingStack.toList());
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:442:1
+    final public
+    /* Production 36 */
+    void simple_declarator() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 35;
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:445:3
+        pushOntoCallStack(35, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 445, 3);
+        try {
+            identifier();
+        }
+        finally {
+            popCallStack();
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:450:1
+    final public
+    /* Production 37 */
+    void complex_declarator() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 36;
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:453:3
+        pushOntoCallStack(36, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 453, 3);
+        try {
+            array_declarator();
+        }
+        finally {
+            popCallStack();
+        }
+    }
+
+    static private final EnumSet<TokenType> floating_pt_type_FIRST_SET = EnumSet.of(TokenType.FLOAT, TokenType.DOUBLE);
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:458:1
+    final public
+    /* Production 38 */
+    void floating_pt_type() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 37;
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:461:3
+        if (nextTokenType()==TokenType.FLOAT) {
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:461:3
+            consumeToken(TokenType.FLOAT);
+        }
+        else if (nextTokenType()==TokenType.DOUBLE) {
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:463:3
+            consumeToken(TokenType.DOUBLE);
+        }
+        else {
+            pushOntoCallStack(37, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 461, 3);
+            throw new ParseException(this, floating_pt_type_FIRST_SET, parsingStack.toList());
+        }
+    }
+
+    static private final EnumSet<TokenType> integer_type_FIRST_SET = EnumSet.of(TokenType.LONG, TokenType.SHORT, TokenType.UNSIGNED);
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:468:1
+    final public
+    /* Production 39 */
+    void integer_type() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 38;
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:471:3
+        if (nextTokenType()==TokenType.LONG||nextTokenType==TokenType.SHORT) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:471:3
+            pushOntoCallStack(38, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 471, 3);
+            try {
+                signed_int();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (nextTokenType()==TokenType.UNSIGNED) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:473:3
+            pushOntoCallStack(38, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 473, 3);
+            try {
+                unsigned_int();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else {
+            pushOntoCallStack(38, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 471, 3);
+            throw new ParseException(this, integer_type_FIRST_SET, parsingStack.toList());
+        }
+    }
+
+    static private final EnumSet<TokenType> signed_int_FIRST_SET = EnumSet.of(TokenType.LONG, TokenType.SHORT);
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:478:1
+    final public
+    /* Production 40 */
+    void signed_int() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 39;
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:481:3
+        if (nextTokenType()==TokenType.LONG) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:481:3
+            pushOntoCallStack(39, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 481, 3);
+            try {
+                signed_long_int();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (nextTokenType()==TokenType.SHORT) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:483:3
+            pushOntoCallStack(39, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 483, 3);
+            try {
+                signed_short_int();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else {
+            pushOntoCallStack(39, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 481, 3);
+            throw new ParseException(this, signed_int_FIRST_SET, parsingStack.toList());
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:488:1
+    final public
+    /* Production 41 */
+    void signed_long_int() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 40;
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:491:3
+        consumeToken(TokenType.LONG);
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:496:1
+    final public
+    /* Production 42 */
+    void signed_short_int() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 41;
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:499:3
+        consumeToken(TokenType.SHORT);
+    }
+
+    static private final EnumSet<TokenType> unsigned_int_FIRST_SET = EnumSet.of(TokenType.UNSIGNED);
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:504:1
+    final public
+    /* Production 43 */
+    void unsigned_int() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 42;
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:507:3
+        if (scan$IDL_javacc$507$3()) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:508:3
+            pushOntoCallStack(42, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 508, 3);
+            try {
+                unsigned_long_int();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (nextTokenType()==TokenType.UNSIGNED) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:510:3
+            pushOntoCallStack(42, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 510, 3);
+            try {
+                unsigned_short_int();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else {
+            pushOntoCallStack(42, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 507, 3);
+            throw new ParseException(this, unsigned_int_FIRST_SET, parsingStack.toList());
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:515:1
+    final public
+    /* Production 44 */
+    void unsigned_long_int() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 43;
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:518:3
+        consumeToken(TokenType.UNSIGNED);
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:518:14
+        consumeToken(TokenType.LONG);
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:523:1
+    final public
+    /* Production 45 */
+    void unsigned_short_int() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 44;
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:526:3
+        consumeToken(TokenType.UNSIGNED);
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:526:14
+        consumeToken(TokenType.SHORT);
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:531:1
+    final public
+    /* Production 46 */
+    void char_type() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 45;
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:534:3
+        consumeToken(TokenType.CHAR);
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:539:1
+    final public
+    /* Production 47 */
+    void boolean_type() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 46;
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:542:3
+        consumeToken(TokenType.BOOLEAN);
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:547:1
+    final public
+    /* Production 48 */
+    void octet_type() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 47;
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:550:3
+        consumeToken(TokenType.OCTET);
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:555:1
+    final public
+    /* Production 49 */
+    void any_type() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 48;
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:558:3
+        consumeToken(TokenType.ANY);
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:563:1
+    final public
+    /* Production 50 */
+    void struct_type() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 49;
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:566:3
+        consumeToken(TokenType.STRUCT);
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:566:12
+        pushOntoCallStack(49, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 566, 12);
+        try {
+            identifier();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:566:25
+        consumeToken(TokenType._TOKEN_10);
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:566:29
+        pushOntoCallStack(49, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 566, 29);
+        try {
+            member_list();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:566:43
+        consumeToken(TokenType._TOKEN_11);
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:571:1
+    final public
+    /* Production 51 */
+    void member_list() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 50;
+        // Code for OneOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:574:3
+        while (true) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:574:5
+            pushOntoCallStack(50, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 574, 5);
+            try {
+                member();
+            }
+            finally {
+                popCallStack();
+            }
+            if (!(maskContains(first_set$IDL_javacc$574$5_MASK, nextTokenType().ordinal()))) break;
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:579:1
+    final public
+    /* Production 52 */
+    void member() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 51;
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:582:3
+        pushOntoCallStack(51, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 582, 3);
+        try {
+            type_spec();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:582:15
+        pushOntoCallStack(51, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 582, 15);
+        try {
+            declarators();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:582:29
+        consumeToken(TokenType._TOKEN_8);
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:587:1
+    final public
+    /* Production 53 */
+    void union_type() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 52;
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:590:3
+        consumeToken(TokenType.UNION);
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:590:11
+        pushOntoCallStack(52, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 590, 11);
+        try {
+            identifier();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:590:24
+        consumeToken(TokenType.SWITCH);
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:590:33
+        consumeToken(TokenType._TOKEN_29);
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:590:37
+        pushOntoCallStack(52, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 590, 37);
+        try {
+            switch_type_spec();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:590:56
+        consumeToken(TokenType._TOKEN_30);
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:590:60
+        consumeToken(TokenType._TOKEN_10);
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:590:64
+        pushOntoCallStack(52, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 590, 64);
+        try {
+            switch_body();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:590:78
+        consumeToken(TokenType._TOKEN_11);
+    }
+
+    static private final EnumSet<TokenType> switch_type_spec_FIRST_SET = switch_type_spec_FIRST_SET_init();
+
+    static private EnumSet<TokenType> switch_type_spec_FIRST_SET_init() {
+        return EnumSet.of(TokenType._TOKEN_15, TokenType.LONG, TokenType.SHORT, TokenType.UNSIGNED, TokenType.CHAR, TokenType.BOOLEAN, TokenType.ENUM, TokenType.ID);
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:595:1
+    final public
+    /* Production 54 */
+    void switch_type_spec() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 53;
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:598:3
+        if (nextTokenType()==TokenType.LONG||nextTokenType==TokenType.SHORT||nextTokenType==TokenType.UNSIGNED) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:598:3
+            pushOntoCallStack(53, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 598, 3);
+            try {
+                integer_type();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (nextTokenType()==TokenType.CHAR) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:600:3
+            pushOntoCallStack(53, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 600, 3);
+            try {
+                char_type();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (nextTokenType()==TokenType.BOOLEAN) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:602:3
+            pushOntoCallStack(53, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 602, 3);
+            try {
+                boolean_type();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (nextTokenType()==TokenType.ENUM) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:604:3
+            pushOntoCallStack(53, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 604, 3);
+            try {
+                enum_type();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (nextTokenType()==TokenType._TOKEN_15||nextTokenType==TokenType.ID) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:606:3
+            pushOntoCallStack(53, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 606, 3);
+            try {
+                scoped_name();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else {
+            pushOntoCallStack(53, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 598, 3);
+            throw new ParseException(this, switch_type_spec_FIRST_SET, parsingStack.toList());
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:611:1
+    final public
+    /* Production 55 */
+    void switch_body() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 54;
+        // Code for OneOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:614:3
+        while (true) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:614:5
+            pushOntoCallStack(54, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 614, 5);
+            try {
+                casex();
+            }
+            finally {
+                popCallStack();
+            }
+            if (!(nextTokenType()==TokenType.CASE||nextTokenType==TokenType.DEFAULT)) break;
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:619:1
+    final public
+    /* Production 56 */
+    void casex() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 55;
+        // Code for OneOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:622:3
+        while (true) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:622:5
+            pushOntoCallStack(55, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 622, 5);
+            try {
+                case_label();
+            }
+            finally {
+                popCallStack();
+            }
+            if (!(nextTokenType()==TokenType.CASE||nextTokenType==TokenType.DEFAULT)) break;
+        }
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:622:21
+        pushOntoCallStack(55, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 622, 21);
+        try {
+            element_spec();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:622:36
+        consumeToken(TokenType._TOKEN_8);
+    }
+
+    static private final EnumSet<TokenType> case_label_FIRST_SET = EnumSet.of(TokenType.CASE, TokenType.DEFAULT);
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:627:1
+    final public
+    /* Production 57 */
+    void case_label() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 56;
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:630:3
+        if (nextTokenType()==TokenType.CASE) {
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:630:3
+            consumeToken(TokenType.CASE);
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:630:10
+            pushOntoCallStack(56, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 630, 10);
+            try {
+                const_exp();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:630:22
+            consumeToken(TokenType._TOKEN_13);
+        }
+        else if (nextTokenType()==TokenType.DEFAULT) {
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:632:3
+            consumeToken(TokenType.DEFAULT);
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:632:13
+            consumeToken(TokenType._TOKEN_13);
+        }
+        else {
+            pushOntoCallStack(56, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 630, 3);
+            throw new ParseException(this, case_label_FIRST_SET, parsingStack.toList());
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:637:1
+    final public
+    /* Production 58 */
+    void element_spec() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 57;
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:640:3
+        pushOntoCallStack(57, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 640, 3);
+        try {
+            type_spec();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:640:15
+        pushOntoCallStack(57, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 640, 15);
+        try {
+            declarator();
+        }
+        finally {
+            popCallStack();
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:645:1
+    final public
+    /* Production 59 */
+    void enum_type() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 58;
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:648:3
+        consumeToken(TokenType.ENUM);
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:648:10
+        pushOntoCallStack(58, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 648, 10);
+        try {
+            identifier();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:648:23
+        consumeToken(TokenType._TOKEN_10);
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:648:27
+        pushOntoCallStack(58, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 648, 27);
+        try {
+            enumerator();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:648:40
+        while (true) {
+            if (!(nextTokenType()==TokenType._TOKEN_14)) break;
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:648:42
+            consumeToken(TokenType._TOKEN_14);
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:648:46
+            pushOntoCallStack(58, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 648, 46);
+            try {
+                enumerator();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:648:62
+        consumeToken(TokenType._TOKEN_11);
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:653:1
+    final public
+    /* Production 60 */
+    void enumerator() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 59;
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:656:3
+        pushOntoCallStack(59, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 656, 3);
+        try {
+            identifier();
+        }
+        finally {
+            popCallStack();
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:661:1
+    final public
+    /* Production 61 */
+    void sequence_type() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 60;
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:664:3
+        consumeToken(TokenType.SEQUENCE);
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:664:14
+        consumeToken(TokenType._TOKEN_50);
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:664:18
+        pushOntoCallStack(60, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 664, 18);
+        try {
+            simple_type_spec();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for ZeroOrOne specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:664:37
+        if (nextTokenType()==TokenType._TOKEN_14) {
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:664:39
+            consumeToken(TokenType._TOKEN_14);
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:664:43
+            pushOntoCallStack(60, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 664, 43);
+            try {
+                positive_int_const();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:664:66
+        consumeToken(TokenType._TOKEN_51);
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:669:1
+    final public
+    /* Production 62 */
+    void string_type() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 61;
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:672:3
+        consumeToken(TokenType._TOKEN_52);
+        // Code for ZeroOrOne specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:672:12
+        if (nextTokenType()==TokenType._TOKEN_50) {
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:672:14
+            consumeToken(TokenType._TOKEN_50);
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:672:18
+            pushOntoCallStack(61, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 672, 18);
+            try {
+                positive_int_const();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:672:39
+            consumeToken(TokenType._TOKEN_51);
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:677:1
+    final public
+    /* Production 63 */
+    void array_declarator() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 62;
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:680:3
+        pushOntoCallStack(62, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 680, 3);
+        try {
+            identifier();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for OneOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:680:16
+        while (true) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:680:18
+            pushOntoCallStack(62, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 680, 18);
+            try {
+                fixed_array_size();
+            }
+            finally {
+                popCallStack();
+            }
+            if (!(nextTokenType()==TokenType._TOKEN_53)) break;
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:685:1
+    final public
+    /* Production 64 */
+    void fixed_array_size() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 63;
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:688:3
+        consumeToken(TokenType._TOKEN_53);
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:688:7
+        pushOntoCallStack(63, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 688, 7);
+        try {
+            positive_int_const();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:688:28
+        consumeToken(TokenType._TOKEN_54);
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:693:1
+    final public
+    /* Production 65 */
+    void attr_dcl() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 64;
+        // Code for ZeroOrOne specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:696:3
+        if (nextTokenType()==TokenType.READONLY) {
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:696:5
+            consumeToken(TokenType.READONLY);
+        }
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:696:18
+        consumeToken(TokenType.ATTRIBUTE);
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:696:30
+        pushOntoCallStack(64, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 696, 30);
+        try {
+            param_type_spec();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:696:48
+        pushOntoCallStack(64, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 696, 48);
+        try {
+            simple_declarator();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:696:68
+        while (true) {
+            if (!(nextTokenType()==TokenType._TOKEN_14)) break;
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:696:70
+            consumeToken(TokenType._TOKEN_14);
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:696:74
+            pushOntoCallStack(64, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 696, 74);
+            try {
+                simple_declarator();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:701:1
+    final public
+    /* Production 66 */
+    void except_dcl() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 65;
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:704:3
+        consumeToken(TokenType.EXCEPTION);
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:704:15
+        pushOntoCallStack(65, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 704, 15);
+        try {
+            identifier();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:704:28
+        consumeToken(TokenType._TOKEN_10);
+        // Code for ZeroOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:704:32
+        while (true) {
+            if (!(maskContains(first_set$IDL_javacc$704$34_MASK, nextTokenType().ordinal()))) break;
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:704:34
+            pushOntoCallStack(65, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 704, 34);
+            try {
+                member();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:704:46
+        consumeToken(TokenType._TOKEN_11);
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:709:1
+    final public
+    /* Production 67 */
+    void op_dcl() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 66;
+        // Code for ZeroOrOne specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:712:3
+        if (nextTokenType()==TokenType.ONEWAY) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:712:5
+            pushOntoCallStack(66, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 712, 5);
+            try {
+                op_attribute();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:712:22
+        pushOntoCallStack(66, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 712, 22);
+        try {
+            op_type_spec();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:712:37
+        pushOntoCallStack(66, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 712, 37);
+        try {
+            identifier();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:712:50
+        pushOntoCallStack(66, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 712, 50);
+        try {
+            parameter_dcls();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for ZeroOrOne specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:712:67
+        if (nextTokenType()==TokenType.RAISES) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:712:69
+            pushOntoCallStack(66, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 712, 69);
+            try {
+                raises_expr();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        // Code for ZeroOrOne specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:712:85
+        if (nextTokenType()==TokenType.CONTEXT) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:712:87
+            pushOntoCallStack(66, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 712, 87);
+            try {
+                context_expr();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:717:1
+    final public
+    /* Production 68 */
+    void op_attribute() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 67;
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:720:3
+        consumeToken(TokenType.ONEWAY);
+    }
+
+    static private final EnumSet<TokenType> op_type_spec_FIRST_SET = op_type_spec_FIRST_SET_init();
+
+    static private EnumSet<TokenType> op_type_spec_FIRST_SET_init() {
+        return EnumSet.of(TokenType._TOKEN_15, TokenType.FLOAT, TokenType.DOUBLE, TokenType.LONG, TokenType.SHORT, TokenType.UNSIGNED, TokenType.CHAR, TokenType.BOOLEAN, TokenType.OCTET, TokenType.ANY, TokenType._TOKEN_52, TokenType.VOID, TokenType.ID);
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:725:1
+    final public
+    /* Production 69 */
+    void op_type_spec() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 68;
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:728:3
+        if (maskContains(first_set$IDL_javacc$728$3_MASK, nextTokenType().ordinal())) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:728:3
+            pushOntoCallStack(68, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 728, 3);
+            try {
+                param_type_spec();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (nextTokenType()==TokenType.VOID) {
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:730:3
+            consumeToken(TokenType.VOID);
+        }
+        else {
+            pushOntoCallStack(68, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 728, 3);
+            throw new ParseException(this, op_type_spec_FIRST_SET, parsingStack.toList());
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:735:1
+    final public
+    /* Production 70 */
+    void parameter_dcls() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 69;
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:738:3
+        consumeToken(TokenType._TOKEN_29);
+        // Code for ZeroOrOne specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:738:7
+        if (nextTokenType()==TokenType.IN||nextTokenType==TokenType.OUT||nextTokenType==TokenType.INOUT) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:738:9
+            pushOntoCallStack(69, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 738, 9);
+            try {
+                param_dcl();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:738:21
+            while (true) {
+                if (!(nextTokenType()==TokenType._TOKEN_14)) break;
+                // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:738:23
+                consumeToken(TokenType._TOKEN_14);
+                // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:738:27
+                pushOntoCallStack(69, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 738, 27);
+                try {
+                    param_dcl();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+        }
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:738:44
+        consumeToken(TokenType._TOKEN_30);
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:743:1
+    final public
+    /* Production 71 */
+    void param_dcl() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 70;
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:746:3
+        pushOntoCallStack(70, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 746, 3);
+        try {
+            param_attribute();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:746:21
+        pushOntoCallStack(70, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 746, 21);
+        try {
+            param_type_spec();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:746:39
+        pushOntoCallStack(70, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 746, 39);
+        try {
+            simple_declarator();
+        }
+        finally {
+            popCallStack();
+        }
+    }
+
+    static private final EnumSet<TokenType> param_attribute_FIRST_SET = EnumSet.of(TokenType.IN, TokenType.OUT, TokenType.INOUT);
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:751:1
+    final public
+    /* Production 72 */
+    void param_attribute() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 71;
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:754:3
+        if (nextTokenType()==TokenType.IN) {
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:754:3
+            consumeToken(TokenType.IN);
+        }
+        else if (nextTokenType()==TokenType.OUT) {
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:756:3
+            consumeToken(TokenType.OUT);
+        }
+        else if (nextTokenType()==TokenType.INOUT) {
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:758:3
+            consumeToken(TokenType.INOUT);
+        }
+        else {
+            pushOntoCallStack(71, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 754, 3);
+            throw new ParseException(this, param_attribute_FIRST_SET, parsingStack.toList());
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:763:1
+    final public
+    /* Production 73 */
+    void raises_expr() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 72;
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:766:3
+        consumeToken(TokenType.RAISES);
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:766:12
+        consumeToken(TokenType._TOKEN_29);
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:766:16
+        pushOntoCallStack(72, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 766, 16);
+        try {
+            scoped_name();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:766:30
+        while (true) {
+            if (!(nextTokenType()==TokenType._TOKEN_14)) break;
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:766:32
+            consumeToken(TokenType._TOKEN_14);
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:766:36
+            pushOntoCallStack(72, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 766, 36);
+            try {
+                scoped_name();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:766:53
+        consumeToken(TokenType._TOKEN_30);
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:771:1
+    final public
+    /* Production 74 */
+    void context_expr() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 73;
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:774:3
+        consumeToken(TokenType.CONTEXT);
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:774:13
+        consumeToken(TokenType._TOKEN_29);
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:774:17
+        pushOntoCallStack(73, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 774, 17);
+        try {
+            string_literal();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:774:34
+        while (true) {
+            if (!(nextTokenType()==TokenType._TOKEN_14)) break;
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:774:36
+            consumeToken(TokenType._TOKEN_14);
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:774:40
+            pushOntoCallStack(73, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 774, 40);
+            try {
+                string_literal();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:774:60
+        consumeToken(TokenType._TOKEN_30);
+    }
+
+    static private final EnumSet<TokenType> param_type_spec_FIRST_SET = param_type_spec_FIRST_SET_init();
+
+    static private EnumSet<TokenType> param_type_spec_FIRST_SET_init() {
+        return EnumSet.of(TokenType._TOKEN_15, TokenType.FLOAT, TokenType.DOUBLE, TokenType.LONG, TokenType.SHORT, TokenType.UNSIGNED, TokenType.CHAR, TokenType.BOOLEAN, TokenType.OCTET, TokenType.ANY, TokenType._TOKEN_52, TokenType.ID);
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:779:1
+    final public
+    /* Production 75 */
+    void param_type_spec() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 74;
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:782:3
+        if (maskContains(first_set$IDL_javacc$782$3_MASK, nextTokenType().ordinal())) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:782:3
+            pushOntoCallStack(74, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 782, 3);
+            try {
+                base_type_spec();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (nextTokenType()==TokenType._TOKEN_52) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:784:3
+            pushOntoCallStack(74, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 784, 3);
+            try {
+                string_type();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (nextTokenType()==TokenType._TOKEN_15||nextTokenType==TokenType.ID) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:786:3
+            pushOntoCallStack(74, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 786, 3);
+            try {
+                scoped_name();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else {
+            pushOntoCallStack(74, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 782, 3);
+            throw new ParseException(this, param_type_spec_FIRST_SET, parsingStack.toList());
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:791:1
+    final public
+    /* Definitions of complex regular expressions follow */
+    void identifier() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 75;
+        // Code for RegexpRef specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:794:3
+        consumeToken(TokenType.ID);
+    }
+
+    static private final EnumSet<TokenType> integer_literal_FIRST_SET = EnumSet.of(TokenType.OCTALINT, TokenType.DECIMALINT, TokenType.HEXADECIMALINT);
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:797:1
+    final public void integer_literal() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 76;
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:800:3
+        if (nextTokenType()==TokenType.OCTALINT) {
+            // Code for RegexpRef specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:800:3
+            consumeToken(TokenType.OCTALINT);
+        }
+        else if (nextTokenType()==TokenType.DECIMALINT) {
+            // Code for RegexpRef specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:802:3
+            consumeToken(TokenType.DECIMALINT);
+        }
+        else if (nextTokenType()==TokenType.HEXADECIMALINT) {
+            // Code for RegexpRef specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:804:3
+            consumeToken(TokenType.HEXADECIMALINT);
+        }
+        else {
+            pushOntoCallStack(76, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 800, 3);
+            throw new ParseException(this, integer_literal_FIRST_SET, parsingStack.toList());
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:807:1
+    final public void string_literal() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 77;
+        // Code for RegexpRef specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:810:3
+        consumeToken(TokenType.STRING);
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:813:1
+    final public void character_literal() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 78;
+        // Code for RegexpRef specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:816:3
+        consumeToken(TokenType.CHARACTER);
+    }
+
+    static private final EnumSet<TokenType> floating_pt_literal_FIRST_SET = EnumSet.of(TokenType.FLOATONE, TokenType.FLOATTWO);
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:819:1
+    final public void floating_pt_literal() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 79;
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:822:3
+        if (nextTokenType()==TokenType.FLOATONE) {
+            // Code for RegexpRef specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:822:3
+            consumeToken(TokenType.FLOATONE);
+        }
+        else if (nextTokenType()==TokenType.FLOATTWO) {
+            // Code for RegexpRef specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:824:3
+            consumeToken(TokenType.FLOATTWO);
+        }
+        else {
+            pushOntoCallStack(79, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 822, 3);
+            throw new ParseException(this, floating_pt_literal_FIRST_SET, parsingStack.toList());
+        }
+    }
+
+    static private final long[]first_set$IDL_javacc$88$5_MASK =  {0x201180200011200L, 0x0L};
+    static private final long[]first_set$IDL_javacc$112$31_MASK =  {0x201180200011200L, 0x0L};
+    static private final long[]first_set$IDL_javacc$155$5_MASK =  {0xf911ffe00018000L, 0x2L};
+    static private final long[]first_set$IDL_javacc$171$3_MASK =  {0xc1007fc00008000L, 0x2L};
+    static private final EnumSet<TokenType> first_set$IDL_javacc$253$18 = EnumSet.of(TokenType._TOKEN_21, TokenType._TOKEN_22);
+    static private final EnumSet<TokenType> first_set$IDL_javacc$261$19 = EnumSet.of(TokenType._TOKEN_23, TokenType._TOKEN_24);
+    static private final EnumSet<TokenType> first_set$IDL_javacc$269$20 = EnumSet.of(TokenType._TOKEN_25, TokenType._TOKEN_26, TokenType._TOKEN_27);
+    static private final long[]first_set$IDL_javacc$298$3_MASK =  {0x180000000L, 0x1fcL};
+    static private final long[]first_set$IDL_javacc$364$3_MASK =  {0x1207fc00008000L, 0x2L};
+    static private final long[]first_set$IDL_javacc$374$3_MASK =  {0x7fc00000000L, 0x0L};
+    static private final long[]first_set$IDL_javacc$574$5_MASK =  {0x131ffc00008000L, 0x2L};
+    static private final long[]first_set$IDL_javacc$704$34_MASK =  {0x131ffc00008000L, 0x2L};
+    static private final long[]first_set$IDL_javacc$728$3_MASK =  {0x1007fc00008000L, 0x2L};
+    static private final long[]first_set$IDL_javacc$782$3_MASK =  {0x7fc00000000L, 0x0L};
+
+    static private boolean maskContains(long[]mask, int ordinal) {
+        return(mask[ordinal>>>6]&(1L<<ordinal))!=0;
+    }
+
+    private final boolean scanToken(TokenType type1) {
+        Token peekedToken = nextToken(currentLookaheadToken);
+        TokenType type = peekedToken.getType();
+        if (type!=type1) return false;
+        --remainingLookahead;
+        currentLookaheadToken = peekedToken;
+        return true;
+    }
+
+    private final boolean scanToken(TokenType type1, TokenType type2) {
+        Token peekedToken = nextToken(currentLookaheadToken);
+        TokenType type = peekedToken.getType();
+        if (type!=type1&&type!=type2) return false;
+        --remainingLookahead;
+        currentLookaheadToken = peekedToken;
+        return true;
+    }
+
+    private final boolean scanToken(TokenType type1, TokenType type2, TokenType type3) {
+        Token peekedToken = nextToken(currentLookaheadToken);
+        TokenType type = peekedToken.getType();
+        if (type!=type1&&type!=type2&&type!=type3) return false;
+        --remainingLookahead;
+        currentLookaheadToken = peekedToken;
+        return true;
+    }
+
+    private final boolean scanToken(TokenType type1, TokenType type2, TokenType type3, TokenType type4) {
+        Token peekedToken = nextToken(currentLookaheadToken);
+        TokenType type = peekedToken.getType();
+        if (type!=type1&&type!=type2&&type!=type3&&type!=type4) return false;
+        --remainingLookahead;
+        currentLookaheadToken = peekedToken;
+        return true;
+    }
+
+    private final boolean scanToken(TokenType expectedType, TokenType...additionalTypes) {
+        Token peekedToken = nextToken(currentLookaheadToken);
+        TokenType type = peekedToken.getType();
+        if (type!=expectedType) {
+            boolean matched = false;
+            for (TokenType tt : additionalTypes) {
+                if (type==tt) {
+                    matched = true;
+                    break;
+                }
+            }
+            if (!matched) return false;
+        }
+        --remainingLookahead;
+        currentLookaheadToken = peekedToken;
+        return true;
+    }
+
+    private final boolean scanToken(long[]typeMask) {
+        Token peekedToken = nextToken(currentLookaheadToken);
+        int ordinal = peekedToken.getType().ordinal();
+        if (!(maskContains(typeMask, ordinal))) return false;
+        --remainingLookahead;
+        currentLookaheadToken = peekedToken;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:147:30
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$147$30(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:147:30
+            // NonTerminal inheritance_spec at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:147:30
+            pushOntoLookaheadStack(6, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 147, 30);
+            currentLookaheadProduction = 9;
+            try {
+                if (!check$inheritance_spec(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:155:5
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$155$5(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:155:5
+            // NonTerminal export at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:155:5
+            pushOntoLookaheadStack(7, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 155, 5);
+            currentLookaheadProduction = 8;
+            try {
+                if (!check$export(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:163:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$163$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:163:3
+            // NonTerminal type_dcl at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:163:3
+            pushOntoLookaheadStack(8, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 163, 3);
+            currentLookaheadProduction = 26;
+            try {
+                if (!check$type_dcl(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:163:14
+            if (!scanToken(TokenType._TOKEN_8)) return false;
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:165:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$165$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:165:3
+            // NonTerminal const_dcl at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:165:3
+            pushOntoLookaheadStack(8, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 165, 3);
+            currentLookaheadProduction = 11;
+            try {
+                if (!check$const_dcl(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:165:15
+            if (!scanToken(TokenType._TOKEN_8)) return false;
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:167:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$167$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:167:3
+            // NonTerminal except_dcl at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:167:3
+            pushOntoLookaheadStack(8, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 167, 3);
+            currentLookaheadProduction = 65;
+            try {
+                if (!check$except_dcl(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:167:16
+            if (!scanToken(TokenType._TOKEN_8)) return false;
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:169:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$169$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:169:3
+            // NonTerminal attr_dcl at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:169:3
+            pushOntoLookaheadStack(8, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 169, 3);
+            currentLookaheadProduction = 64;
+            try {
+                if (!check$attr_dcl(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:169:14
+            if (!scanToken(TokenType._TOKEN_8)) return false;
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:171:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$171$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:171:3
+            // NonTerminal op_dcl at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:171:3
+            pushOntoLookaheadStack(8, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 171, 3);
+            currentLookaheadProduction = 66;
+            try {
+                if (!check$op_dcl(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:171:12
+            if (!scanToken(TokenType._TOKEN_8)) return false;
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:179:23
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$179$23(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:179:23
+            if (!scanToken(TokenType._TOKEN_14)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:179:27
+            // NonTerminal scoped_name at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:179:27
+            pushOntoLookaheadStack(9, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 179, 27);
+            currentLookaheadProduction = 10;
+            try {
+                if (!check$scoped_name(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:187:27
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$187$27(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:187:27
+            if (!scanToken(TokenType._TOKEN_15)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:187:32
+            if (!scanToken(TokenType.ID)) return false;
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:203:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$203$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:203:3
+            // NonTerminal integer_type at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:203:3
+            pushOntoLookaheadStack(12, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 203, 3);
+            currentLookaheadProduction = 38;
+            try {
+                if (!check$integer_type(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:211:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$211$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:211:3
+            // NonTerminal string_type at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:211:3
+            pushOntoLookaheadStack(12, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 211, 3);
+            currentLookaheadProduction = 61;
+            try {
+                if (!check$string_type(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:213:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$213$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:213:3
+            // NonTerminal scoped_name at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:213:3
+            pushOntoLookaheadStack(12, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 213, 3);
+            currentLookaheadProduction = 10;
+            try {
+                if (!check$scoped_name(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:229:16
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$229$16(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:229:16
+            if (!scanToken(TokenType._TOKEN_18)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:229:20
+            // NonTerminal xor_expr at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:229:20
+            pushOntoLookaheadStack(14, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 229, 20);
+            currentLookaheadProduction = 15;
+            try {
+                if (!check$xor_expr(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:237:16
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$237$16(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:237:16
+            if (!scanToken(TokenType._TOKEN_19)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:237:20
+            // NonTerminal and_expr at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:237:20
+            pushOntoLookaheadStack(15, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 237, 20);
+            currentLookaheadProduction = 16;
+            try {
+                if (!check$and_expr(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:245:18
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$245$18(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:245:18
+            if (!scanToken(TokenType._TOKEN_20)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:245:22
+            // NonTerminal shift_expr at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:245:22
+            pushOntoLookaheadStack(16, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 245, 22);
+            currentLookaheadProduction = 17;
+            try {
+                if (!check$shift_expr(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:253:16
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$253$16(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:253:18
+            if (!scanToken(TokenType._TOKEN_21, TokenType._TOKEN_22)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:253:32
+            // NonTerminal add_expr at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:253:32
+            pushOntoLookaheadStack(17, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 253, 32);
+            currentLookaheadProduction = 18;
+            try {
+                if (!check$add_expr(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:261:17
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$261$17(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:261:19
+            if (!scanToken(TokenType._TOKEN_23, TokenType._TOKEN_24)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:261:31
+            // NonTerminal mult_expr at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:261:31
+            pushOntoLookaheadStack(18, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 261, 31);
+            currentLookaheadProduction = 19;
+            try {
+                if (!check$mult_expr(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:269:18
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$269$18(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:269:20
+            if (!scanToken(TokenType._TOKEN_25, TokenType._TOKEN_26, TokenType._TOKEN_27)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:269:38
+            // NonTerminal unary_expr at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:269:38
+            pushOntoLookaheadStack(19, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 269, 38);
+            currentLookaheadProduction = 20;
+            try {
+                if (!check$unary_expr(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:296:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$296$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:296:3
+            // NonTerminal scoped_name at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:296:3
+            pushOntoLookaheadStack(22, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 296, 3);
+            currentLookaheadProduction = 10;
+            try {
+                if (!check$scoped_name(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:300:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$300$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:300:3
+            if (!scanToken(TokenType._TOKEN_29)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:300:7
+            // NonTerminal const_exp at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:300:7
+            pushOntoLookaheadStack(22, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 300, 7);
+            currentLookaheadProduction = 13;
+            try {
+                if (!check$const_exp(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:300:19
+            if (!scanToken(TokenType._TOKEN_30)) return false;
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:342:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$342$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:342:3
+            if (!scanToken(TokenType.TYPEDEF)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:342:13
+            // NonTerminal type_declarator at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:342:13
+            pushOntoLookaheadStack(26, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 342, 13);
+            currentLookaheadProduction = 27;
+            try {
+                if (!check$type_declarator(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:344:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$344$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:344:3
+            // NonTerminal struct_type at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:344:3
+            pushOntoLookaheadStack(26, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 344, 3);
+            currentLookaheadProduction = 49;
+            try {
+                if (!check$struct_type(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:346:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$346$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:346:3
+            // NonTerminal union_type at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:346:3
+            pushOntoLookaheadStack(26, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 346, 3);
+            currentLookaheadProduction = 52;
+            try {
+                if (!check$union_type(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:348:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$348$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:348:3
+            // NonTerminal enum_type at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:348:3
+            pushOntoLookaheadStack(26, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 348, 3);
+            currentLookaheadProduction = 58;
+            try {
+                if (!check$enum_type(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:364:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$364$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:364:3
+            // NonTerminal simple_type_spec at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:364:3
+            pushOntoLookaheadStack(28, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 364, 3);
+            currentLookaheadProduction = 29;
+            try {
+                if (!check$simple_type_spec(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:366:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$366$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:366:3
+            // NonTerminal constr_type_spec at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:366:3
+            pushOntoLookaheadStack(28, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 366, 3);
+            currentLookaheadProduction = 32;
+            try {
+                if (!check$constr_type_spec(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:374:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$374$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:374:3
+            // NonTerminal base_type_spec at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:374:3
+            pushOntoLookaheadStack(29, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 374, 3);
+            currentLookaheadProduction = 30;
+            try {
+                if (!check$base_type_spec(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:376:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$376$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:376:3
+            // NonTerminal template_type_spec at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:376:3
+            pushOntoLookaheadStack(29, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 376, 3);
+            currentLookaheadProduction = 31;
+            try {
+                if (!check$template_type_spec(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:378:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$378$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:378:3
+            // NonTerminal scoped_name at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:378:3
+            pushOntoLookaheadStack(29, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 378, 3);
+            currentLookaheadProduction = 10;
+            try {
+                if (!check$scoped_name(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:388:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$388$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:388:3
+            // NonTerminal integer_type at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:388:3
+            pushOntoLookaheadStack(30, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 388, 3);
+            currentLookaheadProduction = 38;
+            try {
+                if (!check$integer_type(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:404:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$404$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:404:3
+            // NonTerminal sequence_type at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:404:3
+            pushOntoLookaheadStack(31, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 404, 3);
+            currentLookaheadProduction = 60;
+            try {
+                if (!check$sequence_type(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:406:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$406$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:406:3
+            // NonTerminal string_type at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:406:3
+            pushOntoLookaheadStack(31, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 406, 3);
+            currentLookaheadProduction = 61;
+            try {
+                if (!check$string_type(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:414:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$414$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:414:3
+            // NonTerminal struct_type at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:414:3
+            pushOntoLookaheadStack(32, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 414, 3);
+            currentLookaheadProduction = 49;
+            try {
+                if (!check$struct_type(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:416:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$416$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:416:3
+            // NonTerminal union_type at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:416:3
+            pushOntoLookaheadStack(32, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 416, 3);
+            currentLookaheadProduction = 52;
+            try {
+                if (!check$union_type(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:418:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$418$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:418:3
+            // NonTerminal enum_type at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:418:3
+            pushOntoLookaheadStack(32, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 418, 3);
+            currentLookaheadProduction = 58;
+            try {
+                if (!check$enum_type(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:426:18
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$426$18(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:426:18
+            if (!scanToken(TokenType._TOKEN_14)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:426:22
+            // NonTerminal declarator at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:426:22
+            pushOntoLookaheadStack(33, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 426, 22);
+            currentLookaheadProduction = 34;
+            try {
+                if (!check$declarator(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:434:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$434$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:435:3
+            // NonTerminal complex_declarator at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:435:3
+            pushOntoLookaheadStack(34, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 435, 3);
+            currentLookaheadProduction = 36;
+            try {
+                if (!check$complex_declarator(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:473:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$473$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:473:3
+            // NonTerminal unsigned_int at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:473:3
+            pushOntoLookaheadStack(38, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 473, 3);
+            currentLookaheadProduction = 42;
+            try {
+                if (!check$unsigned_int(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:507:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$507$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:508:3
+            // NonTerminal unsigned_long_int at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:508:3
+            pushOntoLookaheadStack(42, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 508, 3);
+            currentLookaheadProduction = 43;
+            try {
+                if (!check$unsigned_long_int(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:510:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$510$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:510:3
+            // NonTerminal unsigned_short_int at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:510:3
+            pushOntoLookaheadStack(42, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 510, 3);
+            currentLookaheadProduction = 44;
+            try {
+                if (!check$unsigned_short_int(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:574:5
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$574$5(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:574:5
+            // NonTerminal member at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:574:5
+            pushOntoLookaheadStack(50, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 574, 5);
+            currentLookaheadProduction = 51;
+            try {
+                if (!check$member(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:598:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$598$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:598:3
+            // NonTerminal integer_type at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:598:3
+            pushOntoLookaheadStack(53, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 598, 3);
+            currentLookaheadProduction = 38;
+            try {
+                if (!check$integer_type(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:604:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$604$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:604:3
+            // NonTerminal enum_type at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:604:3
+            pushOntoLookaheadStack(53, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 604, 3);
+            currentLookaheadProduction = 58;
+            try {
+                if (!check$enum_type(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:606:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$606$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:606:3
+            // NonTerminal scoped_name at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:606:3
+            pushOntoLookaheadStack(53, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 606, 3);
+            currentLookaheadProduction = 10;
+            try {
+                if (!check$scoped_name(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:614:5
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$614$5(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:614:5
+            // NonTerminal casex at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:614:5
+            pushOntoLookaheadStack(54, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 614, 5);
+            currentLookaheadProduction = 55;
+            try {
+                if (!check$casex(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:622:5
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$622$5(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:622:5
+            // NonTerminal case_label at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:622:5
+            pushOntoLookaheadStack(55, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 622, 5);
+            currentLookaheadProduction = 56;
+            try {
+                if (!check$case_label(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:630:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$630$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:630:3
+            if (!scanToken(TokenType.CASE)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:630:10
+            // NonTerminal const_exp at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:630:10
+            pushOntoLookaheadStack(56, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 630, 10);
+            currentLookaheadProduction = 13;
+            try {
+                if (!check$const_exp(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:630:22
+            if (!scanToken(TokenType._TOKEN_13)) return false;
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:632:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$632$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:632:3
+            if (!scanToken(TokenType.DEFAULT)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:632:13
+            if (!scanToken(TokenType._TOKEN_13)) return false;
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:648:42
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$648$42(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:648:42
+            if (!scanToken(TokenType._TOKEN_14)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:648:46
+            if (!scanToken(TokenType.ID)) return false;
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:664:39
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$664$39(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:664:39
+            if (!scanToken(TokenType._TOKEN_14)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:664:43
+            // NonTerminal positive_int_const at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:664:43
+            pushOntoLookaheadStack(60, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 664, 43);
+            currentLookaheadProduction = 25;
+            try {
+                if (!check$positive_int_const(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:672:14
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$672$14(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:672:14
+            if (!scanToken(TokenType._TOKEN_50)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:672:18
+            // NonTerminal positive_int_const at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:672:18
+            pushOntoLookaheadStack(61, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 672, 18);
+            currentLookaheadProduction = 25;
+            try {
+                if (!check$positive_int_const(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:672:39
+            if (!scanToken(TokenType._TOKEN_51)) return false;
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:680:18
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$680$18(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:680:18
+            // NonTerminal fixed_array_size at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:680:18
+            pushOntoLookaheadStack(62, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 680, 18);
+            currentLookaheadProduction = 63;
+            try {
+                if (!check$fixed_array_size(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:696:70
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$696$70(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:696:70
+            if (!scanToken(TokenType._TOKEN_14)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:696:74
+            if (!scanToken(TokenType.ID)) return false;
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:704:34
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$704$34(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:704:34
+            // NonTerminal member at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:704:34
+            pushOntoLookaheadStack(65, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 704, 34);
+            currentLookaheadProduction = 51;
+            try {
+                if (!check$member(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:712:69
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$712$69(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:712:69
+            // NonTerminal raises_expr at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:712:69
+            pushOntoLookaheadStack(66, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 712, 69);
+            currentLookaheadProduction = 72;
+            try {
+                if (!check$raises_expr(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:712:87
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$712$87(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:712:87
+            // NonTerminal context_expr at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:712:87
+            pushOntoLookaheadStack(66, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 712, 87);
+            currentLookaheadProduction = 73;
+            try {
+                if (!check$context_expr(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:728:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$728$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:728:3
+            // NonTerminal param_type_spec at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:728:3
+            pushOntoLookaheadStack(68, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 728, 3);
+            currentLookaheadProduction = 74;
+            try {
+                if (!check$param_type_spec(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:738:9
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$738$9(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:738:9
+            // NonTerminal param_dcl at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:738:9
+            pushOntoLookaheadStack(69, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 738, 9);
+            currentLookaheadProduction = 70;
+            try {
+                if (!check$param_dcl(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for ZeroOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:738:21
+            boolean passedPredicate2140 = passedPredicate;
+            try {
+                while (remainingLookahead > 0&&!hitFailure) {
+                    Token token2141 = currentLookaheadToken;
+                    passedPredicate = false;
+                    if (!check$IDL_javacc$738$23(false)) {
+                        if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                        currentLookaheadToken = token2141;
+                        break;
+                    }
+                }
+            }
+            finally {
+                passedPredicate = passedPredicate2140;
+            }
+            hitFailure = false;
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:738:23
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$738$23(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:738:23
+            if (!scanToken(TokenType._TOKEN_14)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:738:27
+            // NonTerminal param_dcl at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:738:27
+            pushOntoLookaheadStack(69, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 738, 27);
+            currentLookaheadProduction = 70;
+            try {
+                if (!check$param_dcl(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:766:32
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$766$32(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:766:32
+            if (!scanToken(TokenType._TOKEN_14)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:766:36
+            // NonTerminal scoped_name at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:766:36
+            pushOntoLookaheadStack(72, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 766, 36);
+            currentLookaheadProduction = 10;
+            try {
+                if (!check$scoped_name(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:774:36
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$774$36(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:774:36
+            if (!scanToken(TokenType._TOKEN_14)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:774:40
+            if (!scanToken(TokenType.STRING)) return false;
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:782:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$782$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:782:3
+            // NonTerminal base_type_spec at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:782:3
+            pushOntoLookaheadStack(74, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 782, 3);
+            currentLookaheadProduction = 30;
+            try {
+                if (!check$base_type_spec(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:784:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$784$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:784:3
+            // NonTerminal string_type at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:784:3
+            pushOntoLookaheadStack(74, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 784, 3);
+            currentLookaheadProduction = 61;
+            try {
+                if (!check$string_type(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:786:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$786$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:786:3
+            // NonTerminal scoped_name at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:786:3
+            pushOntoLookaheadStack(74, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 786, 3);
+            currentLookaheadProduction = 10;
+            try {
+                if (!check$scoped_name(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:120:3
+    private final boolean scan$IDL_javacc$120$3() {
+        remainingLookahead = 3;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:121:3
+            // NonTerminal interface_dcl at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:121:3
+            pushOntoLookaheadStack(3, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 121, 3);
+            currentLookaheadProduction = 4;
+            try {
+                if (!check$interface_dcl(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+            return true;
+        }
+        finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:434:3
+    private final boolean scan$IDL_javacc$434$3() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:435:3
+            // NonTerminal complex_declarator at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:435:3
+            pushOntoLookaheadStack(34, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 435, 3);
+            currentLookaheadProduction = 36;
+            try {
+                if (!check$complex_declarator(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+            return true;
+        }
+        finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:507:3
+    private final boolean scan$IDL_javacc$507$3() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:508:3
+            // NonTerminal unsigned_long_int at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:508:3
+            pushOntoLookaheadStack(42, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 508, 3);
+            currentLookaheadProduction = 43;
+            try {
+                if (!check$unsigned_long_int(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+            return true;
+        }
+        finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$interface_dcl(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:131:3
+        // NonTerminal interface_header at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:131:3
+        pushOntoLookaheadStack(4, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 131, 3);
+        currentLookaheadProduction = 6;
+        try {
+            if (!check$interface_header(false)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:131:22
+        if (!scanToken(TokenType._TOKEN_10)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:131:26
+        // NonTerminal interface_body at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:131:26
+        pushOntoLookaheadStack(4, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 131, 26);
+        currentLookaheadProduction = 7;
+        try {
+            if (!check$interface_body(true)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:131:43
+        if (!scanToken(TokenType._TOKEN_11)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$interface_header(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:147:3
+        if (!scanToken(TokenType.INTERFACE)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:147:15
+        if (!scanToken(TokenType.ID)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:147:28
+        Token token2191 = currentLookaheadToken;
+        boolean passedPredicate2191 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!check$IDL_javacc$147$30(false)) {
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token2191;
+                hitFailure = false;
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate2191;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$interface_body(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:155:3
+        boolean passedPredicate2194 = passedPredicate;
+        try {
+            while (remainingLookahead > 0&&!hitFailure) {
+                Token token2195 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$IDL_javacc$155$5(false)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token2195;
+                    break;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate2194;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$export(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:163:3
+        Token token2197 = currentLookaheadToken;
+        int remainingLookahead2197 = remainingLookahead;
+        boolean hitFailure2197 = hitFailure, passedPredicate2197 = passedPredicate;
+        try {
+            passedPredicate = false;
+            if (!check$IDL_javacc$163$3(false)) {
+                currentLookaheadToken = token2197;
+                remainingLookahead = remainingLookahead2197;
+                hitFailure = hitFailure2197;
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                passedPredicate = false;
+                if (!check$IDL_javacc$165$3(false)) {
+                    currentLookaheadToken = token2197;
+                    remainingLookahead = remainingLookahead2197;
+                    hitFailure = hitFailure2197;
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    passedPredicate = false;
+                    if (!check$IDL_javacc$167$3(false)) {
+                        currentLookaheadToken = token2197;
+                        remainingLookahead = remainingLookahead2197;
+                        hitFailure = hitFailure2197;
+                        if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                        passedPredicate = false;
+                        if (!check$IDL_javacc$169$3(false)) {
+                            currentLookaheadToken = token2197;
+                            remainingLookahead = remainingLookahead2197;
+                            hitFailure = hitFailure2197;
+                            if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                            passedPredicate = false;
+                            if (!check$IDL_javacc$171$3(false)) {
+                                currentLookaheadToken = token2197;
+                                remainingLookahead = remainingLookahead2197;
+                                hitFailure = hitFailure2197;
+                                return false;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate2197;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$inheritance_spec(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:179:3
+        if (!scanToken(TokenType._TOKEN_13)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:179:7
+        // NonTerminal scoped_name at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:179:7
+        pushOntoLookaheadStack(9, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 179, 7);
+        currentLookaheadProduction = 10;
+        try {
+            if (!check$scoped_name(true)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:179:21
+        boolean passedPredicate2202 = passedPredicate;
+        try {
+            while (remainingLookahead > 0&&!hitFailure) {
+                Token token2203 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$IDL_javacc$179$23(false)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token2203;
+                    break;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate2202;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$scoped_name(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:187:3
+        Token token2206 = currentLookaheadToken;
+        boolean passedPredicate2206 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!scanToken(TokenType._TOKEN_15)) {
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token2206;
+                hitFailure = false;
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate2206;
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:187:12
+        if (!scanToken(TokenType.ID)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:187:25
+        boolean passedPredicate2209 = passedPredicate;
+        try {
+            while (remainingLookahead > 0&&!hitFailure) {
+                Token token2210 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$IDL_javacc$187$27(false)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token2210;
+                    break;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate2209;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$const_dcl(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:195:3
+        if (!scanToken(TokenType.CONST)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:195:11
+        // NonTerminal const_type at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:195:11
+        pushOntoLookaheadStack(11, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 195, 11);
+        currentLookaheadProduction = 12;
+        try {
+            if (!check$const_type(true)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:195:24
+        if (!scanToken(TokenType.ID)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:195:37
+        if (!scanToken(TokenType._TOKEN_17)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:195:41
+        // NonTerminal const_exp at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:195:41
+        pushOntoLookaheadStack(11, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 195, 41);
+        currentLookaheadProduction = 13;
+        try {
+            if (!check$const_exp(true)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$const_type(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:203:3
+        Token token2218 = currentLookaheadToken;
+        int remainingLookahead2218 = remainingLookahead;
+        boolean hitFailure2218 = hitFailure, passedPredicate2218 = passedPredicate;
+        try {
+            passedPredicate = false;
+            if (!check$IDL_javacc$203$3(false)) {
+                currentLookaheadToken = token2218;
+                remainingLookahead = remainingLookahead2218;
+                hitFailure = hitFailure2218;
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                passedPredicate = false;
+                if (!scanToken(TokenType.CHAR)) {
+                    currentLookaheadToken = token2218;
+                    remainingLookahead = remainingLookahead2218;
+                    hitFailure = hitFailure2218;
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    passedPredicate = false;
+                    if (!scanToken(TokenType.BOOLEAN)) {
+                        currentLookaheadToken = token2218;
+                        remainingLookahead = remainingLookahead2218;
+                        hitFailure = hitFailure2218;
+                        if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                        passedPredicate = false;
+                        if (!scanToken(TokenType.FLOAT, TokenType.DOUBLE)) {
+                            currentLookaheadToken = token2218;
+                            remainingLookahead = remainingLookahead2218;
+                            hitFailure = hitFailure2218;
+                            if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                            passedPredicate = false;
+                            if (!check$IDL_javacc$211$3(false)) {
+                                currentLookaheadToken = token2218;
+                                remainingLookahead = remainingLookahead2218;
+                                hitFailure = hitFailure2218;
+                                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                                passedPredicate = false;
+                                if (!check$IDL_javacc$213$3(false)) {
+                                    currentLookaheadToken = token2218;
+                                    remainingLookahead = remainingLookahead2218;
+                                    hitFailure = hitFailure2218;
+                                    return false;
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate2218;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$const_exp(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:221:3
+        // NonTerminal or_expr at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:221:3
+        pushOntoLookaheadStack(13, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 221, 3);
+        currentLookaheadProduction = 14;
+        try {
+            if (!check$or_expr(false)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$or_expr(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:229:3
+        // NonTerminal xor_expr at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:229:3
+        pushOntoLookaheadStack(14, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 229, 3);
+        currentLookaheadProduction = 15;
+        try {
+            if (!check$xor_expr(false)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:229:14
+        boolean passedPredicate2224 = passedPredicate;
+        try {
+            while (remainingLookahead > 0&&!hitFailure) {
+                Token token2225 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$IDL_javacc$229$16(false)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token2225;
+                    break;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate2224;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$xor_expr(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:237:3
+        // NonTerminal and_expr at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:237:3
+        pushOntoLookaheadStack(15, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 237, 3);
+        currentLookaheadProduction = 16;
+        try {
+            if (!check$and_expr(false)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:237:14
+        boolean passedPredicate2229 = passedPredicate;
+        try {
+            while (remainingLookahead > 0&&!hitFailure) {
+                Token token2230 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$IDL_javacc$237$16(false)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token2230;
+                    break;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate2229;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$and_expr(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:245:3
+        // NonTerminal shift_expr at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:245:3
+        pushOntoLookaheadStack(16, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 245, 3);
+        currentLookaheadProduction = 17;
+        try {
+            if (!check$shift_expr(false)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:245:16
+        boolean passedPredicate2234 = passedPredicate;
+        try {
+            while (remainingLookahead > 0&&!hitFailure) {
+                Token token2235 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$IDL_javacc$245$18(false)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token2235;
+                    break;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate2234;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$shift_expr(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:253:3
+        // NonTerminal add_expr at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:253:3
+        pushOntoLookaheadStack(17, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 253, 3);
+        currentLookaheadProduction = 18;
+        try {
+            if (!check$add_expr(false)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:253:14
+        boolean passedPredicate2239 = passedPredicate;
+        try {
+            while (remainingLookahead > 0&&!hitFailure) {
+                Token token2240 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$IDL_javacc$253$16(false)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token2240;
+                    break;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate2239;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$add_expr(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:261:3
+        // NonTerminal mult_expr at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:261:3
+        pushOntoLookaheadStack(18, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 261, 3);
+        currentLookaheadProduction = 19;
+        try {
+            if (!check$mult_expr(false)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:261:15
+        boolean passedPredicate2244 = passedPredicate;
+        try {
+            while (remainingLookahead > 0&&!hitFailure) {
+                Token token2245 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$IDL_javacc$261$17(false)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token2245;
+                    break;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate2244;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$mult_expr(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:269:3
+        // NonTerminal unary_expr at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:269:3
+        pushOntoLookaheadStack(19, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 269, 3);
+        currentLookaheadProduction = 20;
+        try {
+            if (!check$unary_expr(false)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:269:16
+        boolean passedPredicate2249 = passedPredicate;
+        try {
+            while (remainingLookahead > 0&&!hitFailure) {
+                Token token2250 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$IDL_javacc$269$18(false)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token2250;
+                    break;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate2249;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$unary_expr(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:277:3
+        Token token2253 = currentLookaheadToken;
+        boolean passedPredicate2253 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!scanToken(TokenType._TOKEN_23, TokenType._TOKEN_24, TokenType._TOKEN_28)) {
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token2253;
+                hitFailure = false;
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate2253;
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:277:24
+        // NonTerminal primary_expr at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:277:24
+        pushOntoLookaheadStack(20, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 277, 24);
+        currentLookaheadProduction = 22;
+        try {
+            if (!check$primary_expr(false)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$primary_expr(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:296:3
+        Token token2257 = currentLookaheadToken;
+        int remainingLookahead2257 = remainingLookahead;
+        boolean hitFailure2257 = hitFailure, passedPredicate2257 = passedPredicate;
+        try {
+            passedPredicate = false;
+            if (!check$IDL_javacc$296$3(false)) {
+                currentLookaheadToken = token2257;
+                remainingLookahead = remainingLookahead2257;
+                hitFailure = hitFailure2257;
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                passedPredicate = false;
+                if (!scanToken(first_set$IDL_javacc$298$3_MASK)) {
+                    currentLookaheadToken = token2257;
+                    remainingLookahead = remainingLookahead2257;
+                    hitFailure = hitFailure2257;
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    passedPredicate = false;
+                    if (!check$IDL_javacc$300$3(false)) {
+                        currentLookaheadToken = token2257;
+                        remainingLookahead = remainingLookahead2257;
+                        hitFailure = hitFailure2257;
+                        return false;
+                    }
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate2257;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$positive_int_const(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:334:3
+        // NonTerminal const_exp at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:334:3
+        pushOntoLookaheadStack(25, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 334, 3);
+        currentLookaheadProduction = 13;
+        try {
+            if (!check$const_exp(false)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$type_dcl(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:342:3
+        Token token2263 = currentLookaheadToken;
+        int remainingLookahead2263 = remainingLookahead;
+        boolean hitFailure2263 = hitFailure, passedPredicate2263 = passedPredicate;
+        try {
+            passedPredicate = false;
+            if (!check$IDL_javacc$342$3(false)) {
+                currentLookaheadToken = token2263;
+                remainingLookahead = remainingLookahead2263;
+                hitFailure = hitFailure2263;
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                passedPredicate = false;
+                if (!check$IDL_javacc$344$3(false)) {
+                    currentLookaheadToken = token2263;
+                    remainingLookahead = remainingLookahead2263;
+                    hitFailure = hitFailure2263;
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    passedPredicate = false;
+                    if (!check$IDL_javacc$346$3(false)) {
+                        currentLookaheadToken = token2263;
+                        remainingLookahead = remainingLookahead2263;
+                        hitFailure = hitFailure2263;
+                        if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                        passedPredicate = false;
+                        if (!check$IDL_javacc$348$3(false)) {
+                            currentLookaheadToken = token2263;
+                            remainingLookahead = remainingLookahead2263;
+                            hitFailure = hitFailure2263;
+                            return false;
+                        }
+                    }
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate2263;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$type_declarator(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:356:3
+        // NonTerminal type_spec at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:356:3
+        pushOntoLookaheadStack(27, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 356, 3);
+        currentLookaheadProduction = 28;
+        try {
+            if (!check$type_spec(false)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:356:15
+        // NonTerminal declarators at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:356:15
+        pushOntoLookaheadStack(27, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 356, 15);
+        currentLookaheadProduction = 33;
+        try {
+            if (!check$declarators(true)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$type_spec(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:364:3
+        Token token2268 = currentLookaheadToken;
+        int remainingLookahead2268 = remainingLookahead;
+        boolean hitFailure2268 = hitFailure, passedPredicate2268 = passedPredicate;
+        try {
+            passedPredicate = false;
+            if (!check$IDL_javacc$364$3(false)) {
+                currentLookaheadToken = token2268;
+                remainingLookahead = remainingLookahead2268;
+                hitFailure = hitFailure2268;
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                passedPredicate = false;
+                if (!check$IDL_javacc$366$3(false)) {
+                    currentLookaheadToken = token2268;
+                    remainingLookahead = remainingLookahead2268;
+                    hitFailure = hitFailure2268;
+                    return false;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate2268;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$simple_type_spec(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:374:3
+        Token token2270 = currentLookaheadToken;
+        int remainingLookahead2270 = remainingLookahead;
+        boolean hitFailure2270 = hitFailure, passedPredicate2270 = passedPredicate;
+        try {
+            passedPredicate = false;
+            if (!check$IDL_javacc$374$3(false)) {
+                currentLookaheadToken = token2270;
+                remainingLookahead = remainingLookahead2270;
+                hitFailure = hitFailure2270;
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                passedPredicate = false;
+                if (!check$IDL_javacc$376$3(false)) {
+                    currentLookaheadToken = token2270;
+                    remainingLookahead = remainingLookahead2270;
+                    hitFailure = hitFailure2270;
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    passedPredicate = false;
+                    if (!check$IDL_javacc$378$3(false)) {
+                        currentLookaheadToken = token2270;
+                        remainingLookahead = remainingLookahead2270;
+                        hitFailure = hitFailure2270;
+                        return false;
+                    }
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate2270;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$base_type_spec(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:386:3
+        Token token2272 = currentLookaheadToken;
+        int remainingLookahead2272 = remainingLookahead;
+        boolean hitFailure2272 = hitFailure, passedPredicate2272 = passedPredicate;
+        try {
+            passedPredicate = false;
+            if (!scanToken(TokenType.FLOAT, TokenType.DOUBLE)) {
+                currentLookaheadToken = token2272;
+                remainingLookahead = remainingLookahead2272;
+                hitFailure = hitFailure2272;
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                passedPredicate = false;
+                if (!check$IDL_javacc$388$3(false)) {
+                    currentLookaheadToken = token2272;
+                    remainingLookahead = remainingLookahead2272;
+                    hitFailure = hitFailure2272;
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    passedPredicate = false;
+                    if (!scanToken(TokenType.CHAR)) {
+                        currentLookaheadToken = token2272;
+                        remainingLookahead = remainingLookahead2272;
+                        hitFailure = hitFailure2272;
+                        if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                        passedPredicate = false;
+                        if (!scanToken(TokenType.BOOLEAN)) {
+                            currentLookaheadToken = token2272;
+                            remainingLookahead = remainingLookahead2272;
+                            hitFailure = hitFailure2272;
+                            if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                            passedPredicate = false;
+                            if (!scanToken(TokenType.OCTET)) {
+                                currentLookaheadToken = token2272;
+                                remainingLookahead = remainingLookahead2272;
+                                hitFailure = hitFailure2272;
+                                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                                passedPredicate = false;
+                                if (!scanToken(TokenType.ANY)) {
+                                    currentLookaheadToken = token2272;
+                                    remainingLookahead = remainingLookahead2272;
+                                    hitFailure = hitFailure2272;
+                                    return false;
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate2272;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$template_type_spec(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:404:3
+        Token token2274 = currentLookaheadToken;
+        int remainingLookahead2274 = remainingLookahead;
+        boolean hitFailure2274 = hitFailure, passedPredicate2274 = passedPredicate;
+        try {
+            passedPredicate = false;
+            if (!check$IDL_javacc$404$3(false)) {
+                currentLookaheadToken = token2274;
+                remainingLookahead = remainingLookahead2274;
+                hitFailure = hitFailure2274;
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                passedPredicate = false;
+                if (!check$IDL_javacc$406$3(false)) {
+                    currentLookaheadToken = token2274;
+                    remainingLookahead = remainingLookahead2274;
+                    hitFailure = hitFailure2274;
+                    return false;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate2274;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$constr_type_spec(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:414:3
+        Token token2276 = currentLookaheadToken;
+        int remainingLookahead2276 = remainingLookahead;
+        boolean hitFailure2276 = hitFailure, passedPredicate2276 = passedPredicate;
+        try {
+            passedPredicate = false;
+            if (!check$IDL_javacc$414$3(false)) {
+                currentLookaheadToken = token2276;
+                remainingLookahead = remainingLookahead2276;
+                hitFailure = hitFailure2276;
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                passedPredicate = false;
+                if (!check$IDL_javacc$416$3(false)) {
+                    currentLookaheadToken = token2276;
+                    remainingLookahead = remainingLookahead2276;
+                    hitFailure = hitFailure2276;
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    passedPredicate = false;
+                    if (!check$IDL_javacc$418$3(false)) {
+                        currentLookaheadToken = token2276;
+                        remainingLookahead = remainingLookahead2276;
+                        hitFailure = hitFailure2276;
+                        return false;
+                    }
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate2276;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$declarators(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:426:3
+        // NonTerminal declarator at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:426:3
+        pushOntoLookaheadStack(33, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 426, 3);
+        currentLookaheadProduction = 34;
+        try {
+            if (!check$declarator(false)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:426:16
+        boolean passedPredicate2280 = passedPredicate;
+        try {
+            while (remainingLookahead > 0&&!hitFailure) {
+                Token token2281 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$IDL_javacc$426$18(false)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token2281;
+                    break;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate2280;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$declarator(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:434:3
+        Token token2283 = currentLookaheadToken;
+        int remainingLookahead2283 = remainingLookahead;
+        boolean hitFailure2283 = hitFailure, passedPredicate2283 = passedPredicate;
+        try {
+            passedPredicate = false;
+            if (!check$IDL_javacc$434$3(false)) {
+                currentLookaheadToken = token2283;
+                remainingLookahead = remainingLookahead2283;
+                hitFailure = hitFailure2283;
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                passedPredicate = false;
+                if (!scanToken(TokenType.ID)) {
+                    currentLookaheadToken = token2283;
+                    remainingLookahead = remainingLookahead2283;
+                    hitFailure = hitFailure2283;
+                    return false;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate2283;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$complex_declarator(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:453:3
+        // NonTerminal array_declarator at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:453:3
+        pushOntoLookaheadStack(36, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 453, 3);
+        currentLookaheadProduction = 62;
+        try {
+            if (!check$array_declarator(false)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$integer_type(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:471:3
+        Token token2289 = currentLookaheadToken;
+        int remainingLookahead2289 = remainingLookahead;
+        boolean hitFailure2289 = hitFailure, passedPredicate2289 = passedPredicate;
+        try {
+            passedPredicate = false;
+            if (!scanToken(TokenType.LONG, TokenType.SHORT)) {
+                currentLookaheadToken = token2289;
+                remainingLookahead = remainingLookahead2289;
+                hitFailure = hitFailure2289;
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                passedPredicate = false;
+                if (!check$IDL_javacc$473$3(false)) {
+                    currentLookaheadToken = token2289;
+                    remainingLookahead = remainingLookahead2289;
+                    hitFailure = hitFailure2289;
+                    return false;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate2289;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$unsigned_int(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:507:3
+        Token token2294 = currentLookaheadToken;
+        int remainingLookahead2294 = remainingLookahead;
+        boolean hitFailure2294 = hitFailure, passedPredicate2294 = passedPredicate;
+        try {
+            passedPredicate = false;
+            if (!check$IDL_javacc$507$3(false)) {
+                currentLookaheadToken = token2294;
+                remainingLookahead = remainingLookahead2294;
+                hitFailure = hitFailure2294;
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                passedPredicate = false;
+                if (!check$IDL_javacc$510$3(false)) {
+                    currentLookaheadToken = token2294;
+                    remainingLookahead = remainingLookahead2294;
+                    hitFailure = hitFailure2294;
+                    return false;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate2294;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$unsigned_long_int(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:518:3
+        if (!scanToken(TokenType.UNSIGNED)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:518:14
+        if (!scanToken(TokenType.LONG)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$unsigned_short_int(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:526:3
+        if (!scanToken(TokenType.UNSIGNED)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:526:14
+        if (!scanToken(TokenType.SHORT)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$struct_type(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:566:3
+        if (!scanToken(TokenType.STRUCT)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:566:12
+        if (!scanToken(TokenType.ID)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:566:25
+        if (!scanToken(TokenType._TOKEN_10)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:566:29
+        // NonTerminal member_list at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:566:29
+        pushOntoLookaheadStack(49, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 566, 29);
+        currentLookaheadProduction = 50;
+        try {
+            if (!check$member_list(true)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:566:43
+        if (!scanToken(TokenType._TOKEN_11)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$member_list(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for OneOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:574:3
+        if (!check$IDL_javacc$574$5(false)) {
+            return false;
+        }
+        boolean passedPredicate2313 = passedPredicate;
+        try {
+            while (remainingLookahead > 0&&!hitFailure) {
+                Token token2314 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$IDL_javacc$574$5(false)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token2314;
+                    break;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate2313;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$member(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:582:3
+        // NonTerminal type_spec at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:582:3
+        pushOntoLookaheadStack(51, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 582, 3);
+        currentLookaheadProduction = 28;
+        try {
+            if (!check$type_spec(false)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:582:15
+        // NonTerminal declarators at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:582:15
+        pushOntoLookaheadStack(51, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 582, 15);
+        currentLookaheadProduction = 33;
+        try {
+            if (!check$declarators(true)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:582:29
+        if (!scanToken(TokenType._TOKEN_8)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$union_type(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:590:3
+        if (!scanToken(TokenType.UNION)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:590:11
+        if (!scanToken(TokenType.ID)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:590:24
+        if (!scanToken(TokenType.SWITCH)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:590:33
+        if (!scanToken(TokenType._TOKEN_29)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:590:37
+        // NonTerminal switch_type_spec at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:590:37
+        pushOntoLookaheadStack(52, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 590, 37);
+        currentLookaheadProduction = 53;
+        try {
+            if (!check$switch_type_spec(true)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:590:56
+        if (!scanToken(TokenType._TOKEN_30)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:590:60
+        if (!scanToken(TokenType._TOKEN_10)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:590:64
+        // NonTerminal switch_body at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:590:64
+        pushOntoLookaheadStack(52, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 590, 64);
+        currentLookaheadProduction = 54;
+        try {
+            if (!check$switch_body(true)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:590:78
+        if (!scanToken(TokenType._TOKEN_11)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$switch_type_spec(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:598:3
+        Token token2330 = currentLookaheadToken;
+        int remainingLookahead2330 = remainingLookahead;
+        boolean hitFailure2330 = hitFailure, passedPredicate2330 = passedPredicate;
+        try {
+            passedPredicate = false;
+            if (!check$IDL_javacc$598$3(false)) {
+                currentLookaheadToken = token2330;
+                remainingLookahead = remainingLookahead2330;
+                hitFailure = hitFailure2330;
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                passedPredicate = false;
+                if (!scanToken(TokenType.CHAR)) {
+                    currentLookaheadToken = token2330;
+                    remainingLookahead = remainingLookahead2330;
+                    hitFailure = hitFailure2330;
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    passedPredicate = false;
+                    if (!scanToken(TokenType.BOOLEAN)) {
+                        currentLookaheadToken = token2330;
+                        remainingLookahead = remainingLookahead2330;
+                        hitFailure = hitFailure2330;
+                        if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                        passedPredicate = false;
+                        if (!check$IDL_javacc$604$3(false)) {
+                            currentLookaheadToken = token2330;
+                            remainingLookahead = remainingLookahead2330;
+                            hitFailure = hitFailure2330;
+                            if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                            passedPredicate = false;
+                            if (!check$IDL_javacc$606$3(false)) {
+                                currentLookaheadToken = token2330;
+                                remainingLookahead = remainingLookahead2330;
+                                hitFailure = hitFailure2330;
+                                return false;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate2330;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$switch_body(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for OneOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:614:3
+        if (!check$IDL_javacc$614$5(false)) {
+            return false;
+        }
+        boolean passedPredicate2333 = passedPredicate;
+        try {
+            while (remainingLookahead > 0&&!hitFailure) {
+                Token token2334 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$IDL_javacc$614$5(false)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token2334;
+                    break;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate2333;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$casex(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for OneOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:622:3
+        if (!check$IDL_javacc$622$5(false)) {
+            return false;
+        }
+        boolean passedPredicate2337 = passedPredicate;
+        try {
+            while (remainingLookahead > 0&&!hitFailure) {
+                Token token2338 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$IDL_javacc$622$5(false)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token2338;
+                    break;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate2337;
+        }
+        hitFailure = false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:622:21
+        // NonTerminal element_spec at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:622:21
+        pushOntoLookaheadStack(55, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 622, 21);
+        currentLookaheadProduction = 57;
+        try {
+            if (!check$element_spec(true)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:622:36
+        if (!scanToken(TokenType._TOKEN_8)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$case_label(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:630:3
+        Token token2342 = currentLookaheadToken;
+        int remainingLookahead2342 = remainingLookahead;
+        boolean hitFailure2342 = hitFailure, passedPredicate2342 = passedPredicate;
+        try {
+            passedPredicate = false;
+            if (!check$IDL_javacc$630$3(false)) {
+                currentLookaheadToken = token2342;
+                remainingLookahead = remainingLookahead2342;
+                hitFailure = hitFailure2342;
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                passedPredicate = false;
+                if (!check$IDL_javacc$632$3(false)) {
+                    currentLookaheadToken = token2342;
+                    remainingLookahead = remainingLookahead2342;
+                    hitFailure = hitFailure2342;
+                    return false;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate2342;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$element_spec(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:640:3
+        // NonTerminal type_spec at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:640:3
+        pushOntoLookaheadStack(57, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 640, 3);
+        currentLookaheadProduction = 28;
+        try {
+            if (!check$type_spec(false)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:640:15
+        // NonTerminal declarator at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:640:15
+        pushOntoLookaheadStack(57, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 640, 15);
+        currentLookaheadProduction = 34;
+        try {
+            if (!check$declarator(true)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$enum_type(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:648:3
+        if (!scanToken(TokenType.ENUM)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:648:10
+        if (!scanToken(TokenType.ID)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:648:23
+        if (!scanToken(TokenType._TOKEN_10)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:648:27
+        if (!scanToken(TokenType.ID)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:648:40
+        boolean passedPredicate2352 = passedPredicate;
+        try {
+            while (remainingLookahead > 0&&!hitFailure) {
+                Token token2353 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$IDL_javacc$648$42(false)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token2353;
+                    break;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate2352;
+        }
+        hitFailure = false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:648:62
+        if (!scanToken(TokenType._TOKEN_11)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$sequence_type(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:664:3
+        if (!scanToken(TokenType.SEQUENCE)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:664:14
+        if (!scanToken(TokenType._TOKEN_50)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:664:18
+        // NonTerminal simple_type_spec at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:664:18
+        pushOntoLookaheadStack(60, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 664, 18);
+        currentLookaheadProduction = 29;
+        try {
+            if (!check$simple_type_spec(true)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:664:37
+        Token token2361 = currentLookaheadToken;
+        boolean passedPredicate2361 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!check$IDL_javacc$664$39(false)) {
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token2361;
+                hitFailure = false;
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate2361;
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:664:66
+        if (!scanToken(TokenType._TOKEN_51)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$string_type(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:672:3
+        if (!scanToken(TokenType._TOKEN_52)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:672:12
+        Token token2366 = currentLookaheadToken;
+        boolean passedPredicate2366 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!check$IDL_javacc$672$14(false)) {
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token2366;
+                hitFailure = false;
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate2366;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$array_declarator(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:680:3
+        if (!scanToken(TokenType.ID)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for OneOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:680:16
+        if (!check$IDL_javacc$680$18(false)) {
+            return false;
+        }
+        boolean passedPredicate2370 = passedPredicate;
+        try {
+            while (remainingLookahead > 0&&!hitFailure) {
+                Token token2371 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$IDL_javacc$680$18(false)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token2371;
+                    break;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate2370;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$fixed_array_size(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:688:3
+        if (!scanToken(TokenType._TOKEN_53)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:688:7
+        // NonTerminal positive_int_const at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:688:7
+        pushOntoLookaheadStack(63, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 688, 7);
+        currentLookaheadProduction = 25;
+        try {
+            if (!check$positive_int_const(true)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:688:28
+        if (!scanToken(TokenType._TOKEN_54)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$attr_dcl(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:696:3
+        Token token2378 = currentLookaheadToken;
+        boolean passedPredicate2378 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!scanToken(TokenType.READONLY)) {
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token2378;
+                hitFailure = false;
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate2378;
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:696:18
+        if (!scanToken(TokenType.ATTRIBUTE)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:696:30
+        // NonTerminal param_type_spec at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:696:30
+        pushOntoLookaheadStack(64, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 696, 30);
+        currentLookaheadProduction = 74;
+        try {
+            if (!check$param_type_spec(true)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:696:48
+        if (!scanToken(TokenType.ID)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:696:68
+        boolean passedPredicate2383 = passedPredicate;
+        try {
+            while (remainingLookahead > 0&&!hitFailure) {
+                Token token2384 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$IDL_javacc$696$70(false)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token2384;
+                    break;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate2383;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$except_dcl(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:704:3
+        if (!scanToken(TokenType.EXCEPTION)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:704:15
+        if (!scanToken(TokenType.ID)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:704:28
+        if (!scanToken(TokenType._TOKEN_10)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:704:32
+        boolean passedPredicate2390 = passedPredicate;
+        try {
+            while (remainingLookahead > 0&&!hitFailure) {
+                Token token2391 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$IDL_javacc$704$34(false)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token2391;
+                    break;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate2390;
+        }
+        hitFailure = false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:704:46
+        if (!scanToken(TokenType._TOKEN_11)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$op_dcl(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:712:3
+        Token token2395 = currentLookaheadToken;
+        boolean passedPredicate2395 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!scanToken(TokenType.ONEWAY)) {
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token2395;
+                hitFailure = false;
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate2395;
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:712:22
+        // NonTerminal op_type_spec at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:712:22
+        pushOntoLookaheadStack(66, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 712, 22);
+        currentLookaheadProduction = 68;
+        try {
+            if (!check$op_type_spec(false)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:712:37
+        if (!scanToken(TokenType.ID)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:712:50
+        // NonTerminal parameter_dcls at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:712:50
+        pushOntoLookaheadStack(66, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 712, 50);
+        currentLookaheadProduction = 69;
+        try {
+            if (!check$parameter_dcls(true)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:712:67
+        Token token2400 = currentLookaheadToken;
+        boolean passedPredicate2400 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!check$IDL_javacc$712$69(false)) {
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token2400;
+                hitFailure = false;
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate2400;
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:712:85
+        Token token2402 = currentLookaheadToken;
+        boolean passedPredicate2402 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!check$IDL_javacc$712$87(false)) {
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token2402;
+                hitFailure = false;
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate2402;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$op_type_spec(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:728:3
+        Token token2405 = currentLookaheadToken;
+        int remainingLookahead2405 = remainingLookahead;
+        boolean hitFailure2405 = hitFailure, passedPredicate2405 = passedPredicate;
+        try {
+            passedPredicate = false;
+            if (!check$IDL_javacc$728$3(false)) {
+                currentLookaheadToken = token2405;
+                remainingLookahead = remainingLookahead2405;
+                hitFailure = hitFailure2405;
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                passedPredicate = false;
+                if (!scanToken(TokenType.VOID)) {
+                    currentLookaheadToken = token2405;
+                    remainingLookahead = remainingLookahead2405;
+                    hitFailure = hitFailure2405;
+                    return false;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate2405;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$parameter_dcls(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:738:3
+        if (!scanToken(TokenType._TOKEN_29)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:738:7
+        Token token2409 = currentLookaheadToken;
+        boolean passedPredicate2409 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!check$IDL_javacc$738$9(false)) {
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token2409;
+                hitFailure = false;
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate2409;
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:738:44
+        if (!scanToken(TokenType._TOKEN_30)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$param_dcl(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:746:3
+        if (!scanToken(TokenType.IN, TokenType.OUT, TokenType.INOUT)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:746:21
+        // NonTerminal param_type_spec at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:746:21
+        pushOntoLookaheadStack(70, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 746, 21);
+        currentLookaheadProduction = 74;
+        try {
+            if (!check$param_type_spec(true)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:746:39
+        if (!scanToken(TokenType.ID)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$raises_expr(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:766:3
+        if (!scanToken(TokenType.RAISES)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:766:12
+        if (!scanToken(TokenType._TOKEN_29)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:766:16
+        // NonTerminal scoped_name at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:766:16
+        pushOntoLookaheadStack(72, "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 766, 16);
+        currentLookaheadProduction = 10;
+        try {
+            if (!check$scoped_name(true)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:766:30
+        boolean passedPredicate2421 = passedPredicate;
+        try {
+            while (remainingLookahead > 0&&!hitFailure) {
+                Token token2422 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$IDL_javacc$766$32(false)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token2422;
+                    break;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate2421;
+        }
+        hitFailure = false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:766:53
+        if (!scanToken(TokenType._TOKEN_30)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$context_expr(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:774:3
+        if (!scanToken(TokenType.CONTEXT)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:774:13
+        if (!scanToken(TokenType._TOKEN_29)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:774:17
+        if (!scanToken(TokenType.STRING)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:774:34
+        boolean passedPredicate2429 = passedPredicate;
+        try {
+            while (remainingLookahead > 0&&!hitFailure) {
+                Token token2430 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$IDL_javacc$774$36(false)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token2430;
+                    break;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate2429;
+        }
+        hitFailure = false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:774:60
+        if (!scanToken(TokenType._TOKEN_30)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$param_type_spec(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:782:3
+        Token token2433 = currentLookaheadToken;
+        int remainingLookahead2433 = remainingLookahead;
+        boolean hitFailure2433 = hitFailure, passedPredicate2433 = passedPredicate;
+        try {
+            passedPredicate = false;
+            if (!check$IDL_javacc$782$3(false)) {
+                currentLookaheadToken = token2433;
+                remainingLookahead = remainingLookahead2433;
+                hitFailure = hitFailure2433;
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                passedPredicate = false;
+                if (!check$IDL_javacc$784$3(false)) {
+                    currentLookaheadToken = token2433;
+                    remainingLookahead = remainingLookahead2433;
+                    hitFailure = hitFailure2433;
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    passedPredicate = false;
+                    if (!check$IDL_javacc$786$3(false)) {
+                        currentLookaheadToken = token2433;
+                        remainingLookahead = remainingLookahead2433;
+                        hitFailure = hitFailure2433;
+                        return false;
+                    }
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate2433;
+        }
+        return true;
+    }
+
+    CallStack parsingStack = new CallStack();
+    private CallStack lookaheadStack = new CallStack();
+
+    /**
+    * Inner class that represents entering a grammar production
+    */
+    class NonTerminalCall {
+        final String sourceFile;
+        final String productionName;
+        final int line, column;
+
+        NonTerminalCall(String sourceFile, String productionName, int line, int column) {
+            this.sourceFile = sourceFile;
+            this.productionName = productionName;
+            this.line = line;
+            this.column = column;
+        }
+
+        final IDLLexer getTokenSource() {
+            return IDLParser.this.token_source;
+        }
+
+        StackTraceElement createStackTraceElement() {
+            return new StackTraceElement("IDLParser", productionName, sourceFile, line);
+        }
+
+        void dump(PrintStream ps) {
+            ps.println(productionName+":"+line+":"+column);
+        }
+
+    }
+
+
+    /**
+    * A stack of calls to grammar productions, kept in parallel arrays
+    * so that entering a production does not allocate anything. The productions
+    * are identified by their index in PRODUCTION_NAMES and the NonTerminalCall
+    * objects are only created when something needs them, i.e. a ParseException.
+    */
+    final class CallStack implements Cloneable {
+        private int size;
+        private int[]productionIds = new int[16], lines = new int[16], columns = new int[16];
+        private String[]sourceFiles = new String[16];
+
+        int size() {
+            return size;
+        }
+
+        int getProductionId(int index) {
+            return productionIds[index];
+        }
+
+        void push(int productionId, String sourceFile, int line, int column) {
+            if (size==productionIds.length) {
+                int capacity = size*2;
+                productionIds = Arrays.copyOf(productionIds, capacity);
+                lines = Arrays.copyOf(lines, capacity);
+                columns = Arrays.copyOf(columns, capacity);
+                sourceFiles = Arrays.copyOf(sourceFiles, capacity);
+            }
+            productionIds[size] = productionId;
+            lines[size] = line;
+            columns[size] = column;
+            sourceFiles[size] = sourceFile;
+            ++size;
+        }
+
+        void pop() {
+            --size;
+        }
+
+        void clear() {
+            Arrays.fill(sourceFiles, 0, size, null);
+            size = 0;
+        }
+
+        NonTerminalCall get(int index) {
+            return new NonTerminalCall(sourceFiles[index], PRODUCTION_NAMES[productionIds[index]], lines[index], columns[index]);
+        }
+
+        /**
+        * @return the calls on this stack, from the bottom up
+        */
+        java.util.List<NonTerminalCall> toList() {
+            java.util.List<NonTerminalCall> result = new ArrayList<> (size);
+            for (int i = 0; i < size; i++) {
+                result.add(get(i));
+            }
+            return result;
+        }
+
+        void dump(PrintStream ps) {
+            for (int i = size-1; i>=0; i--) {
+                get(i).dump(ps);
+            }
+        }
+
+        public CallStack clone() {
+            try {
+                CallStack result = (CallStack)super.clone();
+                result.productionIds = productionIds.clone();
+                result.lines = lines.clone();
+                result.columns = columns.clone();
+                result.sourceFiles = sourceFiles.clone();
+                return result;
+            }
+            catch(CloneNotSupportedException e) {
+                throw new InternalError(e);
+            }
+        }
+
+    }
+
+
+    private final void pushOntoCallStack(int productionId, String fileName, int line, int column) {
+        parsingStack.push(productionId, fileName, line, column);
+    }
+
+    private final void popCallStack() {
+        int top = parsingStack.size()-1;
+        this.currentlyParsedProduction = parsingStack.getProductionId(top);
+        parsingStack.pop();
+    }
+
+    private final void pushOntoLookaheadStack(int productionId, String fileName, int line, int column) {
+        lookaheadStack.push(productionId, fileName, line, column);
+    }
+
+    private final void popLookaheadStack() {
+        this.currentLookaheadProduction = lookaheadStack.getProductionId(lookaheadStack.size()-1);
+        lookaheadStack.pop();
+    }
+
+    void dumpLookaheadStack(PrintStream ps) {
+        lookaheadStack.dump(ps);
+    }
+
+    void dumpCallStack(PrintStream ps) {
+        parsingStack.dump(ps);
+    }
+
+    void dumpLookaheadCallStack(PrintStream ps) {
+        ps.println("Current Parser Production is: "+productionName(currentlyParsedProduction));
+        ps.println("Current Lookahead Production is: "+productionName(currentLookaheadProduction));
+        ps.println("---Lookahead Stack---");
+        dumpLookaheadStack(ps);
+        ps.println("---Call Stack---");
+        dumpCallStack(ps);
+    }
+
+    public boolean isParserTolerant() {
+        return false;
+    }
+
+    public void setParserTolerant(boolean tolerantParsing) {
+        if (tolerantParsing) {
+            throw new UnsupportedOperationException("This parser was not built with that feature!");
+        }
+    }
+
+    private Token consumeToken(TokenType expectedType) {
+        Token nextToken = nextToken(lastConsumedToken);
+        if (nextToken.getType()!=expectedType) {
+            nextToken = handleUnexpectedTokenType(expectedType, nextToken);
+        }
+        this.lastConsumedToken = nextToken;
+        this.nextTokenType = null;
+        return lastConsumedToken;
+    }
+
+    private Token handleUnexpectedTokenType(TokenType expectedType, Token nextToken) {
+        throw new ParseException(this, nextToken, EnumSet.of(expectedType), parsingStack.toList());
+    }
+
+
+    private class ParseState {
+        Token lastConsumed;
+        CallStack parsingStack;
+
+        ParseState() {
+            this.lastConsumed = IDLParser.this.lastConsumedToken;
+            this.parsingStack = IDLParser.this.parsingStack.clone();
+        }
+
+    }
+
+    private ArrayList<ParseState> parseStateStack = new ArrayList<> ();
+
+    public boolean isTreeBuildingEnabled() {
+        return false;
+    }
+
+}
+
@@ -0,0 +1,16 @@
+
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for Assignment AST Node type
+* by the ASTNode.java.ftl template
+*/
+public class Assignment extends SimpleNode {
+
+    public void interpret() {
+        String name;
+        getChild(2).interpret();
+        symtab.put(name = ((Id)getChild(0)).name, stack[top]);
+    }
+
+}
+
+
@@ -0,0 +1,14 @@
+
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for BOOL Token subclass
+* by the ASTToken.java.ftl template
+*/
+public class BOOL extends Token {
+
+    public BOOL(TokenType type, SPLLexer tokenSource, int beginOffset, int endOffset) {
+        super(type, tokenSource, beginOffset, endOffset);
+    }
+
+}
+
+
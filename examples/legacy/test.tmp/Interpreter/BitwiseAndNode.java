@@ -0,0 +1,23 @@
+
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for BitwiseAndNode AST Node type
+* by the ASTNode.java.ftl template
+*/
+public class BitwiseAndNode extends SimpleNode {
+
+    public void interpret() {
+        getChild(0).interpret();
+        getChild(2).interpret();
+        if (stack[top]instanceof Boolean) {
+            stack[--top] = (Boolean)stack[top]&(Boolean)stack[top+1];
+        }
+        else {
+            if (stack[top]instanceof Integer) {
+                stack[--top] = (Integer)stack[top]&(Integer)stack[top+1];
+            }
+        }
+    }
+
+}
+
+
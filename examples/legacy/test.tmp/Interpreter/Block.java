@@ -0,0 +1,18 @@
+
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for Block AST Node type
+* by the ASTNode.java.ftl template
+*/
+public class Block extends SimpleNode {
+
+    public void interpret() {
+        for (int i = 0; i < getChildCount(); i++) {
+            Node n = getChild(i);
+            if (!(n instanceof Token)) 
+            n.interpret();
+        }
+    }
+
+}
+
+
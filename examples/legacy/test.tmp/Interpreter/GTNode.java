@@ -0,0 +1,16 @@
+
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for GTNode AST Node type
+* by the ASTNode.java.ftl template
+*/
+public class GTNode extends SimpleNode {
+
+    public void interpret() {
+        getChild(0).interpret();
+        getChild(2).interpret();
+        stack[--top] = (Integer)stack[top] > (Integer)stack[top+1];
+    }
+
+}
+
+
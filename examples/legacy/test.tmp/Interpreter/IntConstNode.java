@@ -0,0 +1,15 @@
+
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for IntConstNode AST Node type
+* by the ASTNode.java.ftl template
+*/
+public class IntConstNode extends SimpleNode {
+    int val;
+
+    public void interpret() {
+        stack[++top] = val;
+    }
+
+}
+
+
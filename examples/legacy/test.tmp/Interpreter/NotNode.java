@@ -0,0 +1,15 @@
+
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for NotNode AST Node type
+* by the ASTNode.java.ftl template
+*/
+public class NotNode extends SimpleNode {
+
+    public void interpret() {
+        getChild(1).interpret();
+        stack[top] = !(Boolean)stack[top];
+    }
+
+}
+
+
@@ -0,0 +1,20 @@
+
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for OrNode AST Node type
+* by the ASTNode.java.ftl template
+*/
+public class OrNode extends SimpleNode {
+
+    public void interpret() {
+        getChild(0).interpret();
+        if (((Boolean)stack[top]).booleanValue()) {
+            stack[top] = Boolean.TRUE;
+            return;
+        }
+        getChild(2).interpret();
+        stack[--top] = (Boolean)stack[top]||(Boolean)stack[top+1];
+    }
+
+}
+
+
@@ -0,0 +1,25 @@
+
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. SPLConstants.java */
+public interface SPLConstants {
+
+    /**
+    * The various token types. The first type EOF
+    * and the last type INVALID are auto-generated.
+    * They represent the end of input and invalid input
+    * respectively.
+    */
+    public enum TokenType {
+        EOF, _TOKEN_1, _TOKEN_2, _TOKEN_3, _TOKEN_4, _TOKEN_5, INT, BOOL, INTEGER_LITERAL, _TOKEN_9, _TOKEN_10, _TOKEN_11, _TOKEN_12, _TOKEN_13, _TOKEN_14, _TOKEN_15, _TOKEN_16, _TOKEN_17, _TOKEN_18, _TOKEN_19, _TOKEN_20, _TOKEN_21, _TOKEN_22, _TOKEN_23, _TOKEN_24, _TOKEN_25, _TOKEN_26, _TOKEN_27, _TOKEN_28, _TOKEN_29, _TOKEN_30, TRUE, FALSE, _TOKEN_33, _TOKEN_34, _TOKEN_35, IF, ELSE, WHILE, READ, WRITE, IDENTIFIER, INVALID
+    }
+
+
+    /**
+    * Lexical States
+    */
+    public enum LexicalState {
+        DEFAULT
+    }
+
+}
+
+
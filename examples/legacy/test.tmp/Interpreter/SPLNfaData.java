@@ -0,0 +1,533 @@
+/* Generated by: JavaCC 21 Parser Generator. SPLNfaData.java */
+import java.util.EnumSet;
+import java.util.BitSet;
+
+
+/**
+* Holder class for the data used by SPLLexer
+* to do the NFA thang
+*/
+class SPLNfaData implements SPLConstants {
+
+    // The functional interface that represents 
+    // the acceptance method of an NFA state
+    static interface NfaFunction {
+
+        TokenType apply(int ch, BitSet bs, EnumSet<TokenType> validTypes);
+
+    }
+
+    static private NfaFunction[]nfaFunctions;
+
+    // This data holder class is never instantiated
+    private SPLNfaData() {
+    }
+
+    /**
+    * @param the lexical state
+    * @return the table of function pointers that implement the lexical state
+    */
+    static final NfaFunction[]getFunctionTableMap(LexicalState lexicalState) {
+        // We only have one lexical state in this case, so we return that!
+        return nfaFunctions;
+    }
+
+    // Initialize the various NFA method tables
+    static {
+        DEFAULT.NFA_FUNCTIONS_init();
+    }
+
+    /**
+    * Holder class for NFA code related to DEFAULT lexical state
+    */
+    private static class DEFAULT {
+
+        static private TokenType NFA_0(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='!') {
+                nextStates.set(4);
+            }
+            else if (ch=='&') {
+                nextStates.set(2);
+            }
+            else if (ch=='<') {
+                nextStates.set(5);
+            }
+            else if (ch=='=') {
+                nextStates.set(3);
+            }
+            else if (ch=='>') {
+                nextStates.set(6);
+            }
+            else if (ch=='b') {
+                nextStates.set(15);
+            }
+            else if (ch=='e') {
+                nextStates.set(10);
+            }
+            else if (ch=='f') {
+                nextStates.set(8);
+            }
+            else if (ch=='i') {
+                nextStates.set(9);
+                nextStates.set(14);
+            }
+            else if (ch=='r') {
+                nextStates.set(12);
+            }
+            else if (ch=='t') {
+                nextStates.set(7);
+            }
+            else if (ch=='w') {
+                nextStates.set(11);
+                nextStates.set(13);
+            }
+            else if (ch=='|') {
+                nextStates.set(1);
+            }
+            if ((ch>='A'&&ch<='Z')||(ch>='a'&&ch<='z')) {
+                nextStates.set(17);
+                if (validTypes.contains(TokenType.IDENTIFIER)) 
+                type = TokenType.IDENTIFIER;
+            }
+            else if (ch=='}') {
+                if (validTypes.contains(TokenType._TOKEN_35)) 
+                type = TokenType._TOKEN_35;
+            }
+            else if (ch=='{') {
+                if (validTypes.contains(TokenType._TOKEN_34)) 
+                type = TokenType._TOKEN_34;
+            }
+            else if (ch==':') {
+                if (validTypes.contains(TokenType._TOKEN_33)) 
+                type = TokenType._TOKEN_33;
+            }
+            else if (ch==')') {
+                if (validTypes.contains(TokenType._TOKEN_30)) 
+                type = TokenType._TOKEN_30;
+            }
+            else if (ch=='(') {
+                if (validTypes.contains(TokenType._TOKEN_29)) 
+                type = TokenType._TOKEN_29;
+            }
+            else if (ch=='!') {
+                if (validTypes.contains(TokenType._TOKEN_28)) 
+                type = TokenType._TOKEN_28;
+            }
+            else if (ch=='~') {
+                if (validTypes.contains(TokenType._TOKEN_27)) 
+                type = TokenType._TOKEN_27;
+            }
+            else if (ch=='%') {
+                if (validTypes.contains(TokenType._TOKEN_26)) 
+                type = TokenType._TOKEN_26;
+            }
+            else if (ch=='/') {
+                if (validTypes.contains(TokenType._TOKEN_25)) 
+                type = TokenType._TOKEN_25;
+            }
+            else if (ch=='*') {
+                if (validTypes.contains(TokenType._TOKEN_24)) 
+                type = TokenType._TOKEN_24;
+            }
+            else if (ch=='-') {
+                if (validTypes.contains(TokenType._TOKEN_23)) 
+                type = TokenType._TOKEN_23;
+            }
+            else if (ch=='+') {
+                if (validTypes.contains(TokenType._TOKEN_22)) 
+                type = TokenType._TOKEN_22;
+            }
+            else if (ch=='>') {
+                if (validTypes.contains(TokenType._TOKEN_19)) 
+                type = TokenType._TOKEN_19;
+            }
+            else if (ch=='<') {
+                if (validTypes.contains(TokenType._TOKEN_18)) 
+                type = TokenType._TOKEN_18;
+            }
+            else if (ch=='&') {
+                if (validTypes.contains(TokenType._TOKEN_15)) 
+                type = TokenType._TOKEN_15;
+            }
+            else if (ch=='^') {
+                if (validTypes.contains(TokenType._TOKEN_14)) 
+                type = TokenType._TOKEN_14;
+            }
+            else if (ch=='|') {
+                if (validTypes.contains(TokenType._TOKEN_13)) 
+                type = TokenType._TOKEN_13;
+            }
+            else if (ch=='=') {
+                if (validTypes.contains(TokenType._TOKEN_10)) 
+                type = TokenType._TOKEN_10;
+            }
+            else if (ch==';') {
+                if (validTypes.contains(TokenType._TOKEN_9)) 
+                type = TokenType._TOKEN_9;
+            }
+            else if (ch>='0'&&ch<='9') {
+                nextStates.set(16);
+                if (validTypes.contains(TokenType.INTEGER_LITERAL)) 
+                type = TokenType.INTEGER_LITERAL;
+            }
+            else if (ch=='\f') {
+                if (validTypes.contains(TokenType._TOKEN_5)) 
+                type = TokenType._TOKEN_5;
+            }
+            else if (ch=='\r') {
+                if (validTypes.contains(TokenType._TOKEN_4)) 
+                type = TokenType._TOKEN_4;
+            }
+            else if (ch=='\n') {
+                if (validTypes.contains(TokenType._TOKEN_3)) 
+                type = TokenType._TOKEN_3;
+            }
+            else if (ch=='\t') {
+                if (validTypes.contains(TokenType._TOKEN_2)) 
+                type = TokenType._TOKEN_2;
+            }
+            else if (ch==' ') {
+                if (validTypes.contains(TokenType._TOKEN_1)) 
+                type = TokenType._TOKEN_1;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_1(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='|') {
+                if (validTypes.contains(TokenType._TOKEN_11)) 
+                type = TokenType._TOKEN_11;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_2(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='&') {
+                if (validTypes.contains(TokenType._TOKEN_12)) 
+                type = TokenType._TOKEN_12;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_3(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='=') {
+                if (validTypes.contains(TokenType._TOKEN_16)) 
+                type = TokenType._TOKEN_16;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_4(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='=') {
+                if (validTypes.contains(TokenType._TOKEN_17)) 
+                type = TokenType._TOKEN_17;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_5(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='=') {
+                if (validTypes.contains(TokenType._TOKEN_20)) 
+                type = TokenType._TOKEN_20;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_6(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='=') {
+                if (validTypes.contains(TokenType._TOKEN_21)) 
+                type = TokenType._TOKEN_21;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_7(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='r') {
+                nextStates.set(37);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_8(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='a') {
+                nextStates.set(34);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_9(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='f') {
+                if (validTypes.contains(TokenType.IF)) 
+                type = TokenType.IF;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_10(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='l') {
+                nextStates.set(32);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_11(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='h') {
+                nextStates.set(29);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_12(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                nextStates.set(27);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_13(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='r') {
+                nextStates.set(24);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_14(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='n') {
+                nextStates.set(23);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_15(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='o') {
+                nextStates.set(18);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_16(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch>='0'&&ch<='9') {
+                nextStates.set(16);
+                if (validTypes.contains(TokenType.INTEGER_LITERAL)) 
+                type = TokenType.INTEGER_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_17(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch>='0'&&ch<='9') {
+                nextStates.set(17);
+                if (validTypes.contains(TokenType.IDENTIFIER)) 
+                type = TokenType.IDENTIFIER;
+            }
+            else if ((ch>='A'&&ch<='Z')||(ch>='a'&&ch<='z')) {
+                nextStates.set(17);
+                if (validTypes.contains(TokenType.IDENTIFIER)) 
+                type = TokenType.IDENTIFIER;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_18(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='o') {
+                nextStates.set(19);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_19(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='l') {
+                nextStates.set(20);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_20(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                nextStates.set(21);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_21(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='a') {
+                nextStates.set(22);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_22(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='n') {
+                if (validTypes.contains(TokenType.BOOL)) 
+                type = TokenType.BOOL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_23(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                if (validTypes.contains(TokenType.INT)) 
+                type = TokenType.INT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_24(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='i') {
+                nextStates.set(25);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_25(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                nextStates.set(26);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_26(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                if (validTypes.contains(TokenType.WRITE)) 
+                type = TokenType.WRITE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_27(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='a') {
+                nextStates.set(28);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_28(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='d') {
+                if (validTypes.contains(TokenType.READ)) 
+                type = TokenType.READ;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_29(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='i') {
+                nextStates.set(30);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_30(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='l') {
+                nextStates.set(31);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_31(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                if (validTypes.contains(TokenType.WHILE)) 
+                type = TokenType.WHILE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_32(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='s') {
+                nextStates.set(33);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_33(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                if (validTypes.contains(TokenType.ELSE)) 
+                type = TokenType.ELSE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_34(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='l') {
+                nextStates.set(35);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_35(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='s') {
+                nextStates.set(36);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_36(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                if (validTypes.contains(TokenType.FALSE)) 
+                type = TokenType.FALSE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_37(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='u') {
+                nextStates.set(38);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_38(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                if (validTypes.contains(TokenType.TRUE)) 
+                type = TokenType.TRUE;
+            }
+            return type;
+        }
+
+        static private void NFA_FUNCTIONS_init() {
+            nfaFunctions = new NfaFunction[] {DEFAULT::NFA_0, DEFAULT::NFA_1, DEFAULT::NFA_2, DEFAULT::NFA_3, DEFAULT::NFA_4, DEFAULT::NFA_5, DEFAULT::NFA_6, DEFAULT::NFA_7, DEFAULT::NFA_8, DEFAULT::NFA_9, DEFAULT::NFA_10, DEFAULT::NFA_11, DEFAULT::NFA_12, DEFAULT::NFA_13, DEFAULT::NFA_14, DEFAULT::NFA_15, DEFAULT::NFA_16, DEFAULT::NFA_17, DEFAULT::NFA_18, DEFAULT::NFA_19, DEFAULT::NFA_20, DEFAULT::NFA_21, DEFAULT::NFA_22, DEFAULT::NFA_23, DEFAULT::NFA_24, DEFAULT::NFA_25, DEFAULT::NFA_26, DEFAULT::NFA_27, DEFAULT::NFA_28, DEFAULT::NFA_29, DEFAULT::NFA_30, DEFAULT::NFA_31, DEFAULT::NFA_32, DEFAULT::NFA_33, DEFAULT::NFA_34, DEFAULT::NFA_35, DEFAULT::NFA_36, DEFAULT::NFA_37, DEFAULT::NFA_38};
+        }
+
+    }
+
+}
+
+
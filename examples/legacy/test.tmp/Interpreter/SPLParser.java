@@ -0,0 +1,5058 @@
+/* Generated by: JavaCC 21 Parser Generator. SPLParser.java */
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+
+
+public class SPLParser implements SPLConstants {
+
+    /**
+    * Returns the root node of the Id.
+    * It only makes sense to call this after a successful parse.
+    * @return the root node
+    */
+    public SimpleNode root() {
+        return(SimpleNode)rootNode();
+    }
+
+    /** Main entry point. */
+    public static void main(String args[]) {
+        SPLParser parser;
+        if (args.length==1) {
+            System.out.println("Stupid Programming Language Interpreter Version 0.1:  Reading from file "+args[0]+" . . .");
+            try {
+                parser = new SPLParser(new java.io.FileReader(args[0]));
+            }
+            catch(java.io.FileNotFoundException e) {
+                System.out.println("Stupid Programming Language Interpreter Version 0.1:  File "+args[0]+" not found.");
+                return;
+            }
+        }
+        else {
+            System.out.println("Stupid Programming Language Interpreter Version 0.1:  Usage :");
+            System.out.println("         java SPL inputfile");
+            return;
+        }
+        try {
+            parser.CompilationUnit();
+            parser.rootNode().interpret();
+        }
+        catch(ParseException e) {
+            System.out.println("Stupid Programming Language Interpreter Version 0.1:  Encountered errors during parse.");
+            e.printStackTrace();
+        }
+        catch(Exception e1) {
+            System.out.println("Stupid Programming Language Interpreter Version 0.1:  Encountered errors during interpretation/tree building.");
+            e1.printStackTrace();
+        }
+    }
+
+    static final int UNLIMITED = Integer.MAX_VALUE;
+    // The last token successfully "consumed"
+    Token lastConsumedToken;
+    private TokenType nextTokenType;
+    private Token currentLookaheadToken;
+    private int remainingLookahead;
+    private boolean hitFailure, passedPredicate;
+    // The names of the parser productions, indexed by the ids
+    // that identify them on the call stacks
+    private static final String[]PRODUCTION_NAMES =  {"CompilationUnit", "VarDeclaration", "Expression", "Assignment", "ConditionalOrExpression", "ConditionalAndExpression", "InclusiveOrExpression", "ExclusiveOrExpression", "AndExpression", "EqualityExpression", "RelationalExpression", "AdditiveExpression", "MultiplicativeExpression", "UnaryExpression", "PrimaryExpression", "ParentheticalExpression", "Id", "Literal", "BooleanLiteral", "Statement", "LabeledStatement", "Block", "StatementExpression", "IfStatement", "WhileStatement", "IOStatement", "ReadStatement", "WriteStatement", };
+    private static final Map<String, Integer> PRODUCTION_IDS = new HashMap<> ();
+    static {
+        for (int i = 0; i < PRODUCTION_NAMES.length; i++) {
+            PRODUCTION_IDS.put(PRODUCTION_NAMES[i], i);
+        }
+    }
+    private int currentlyParsedProduction = -1, currentLookaheadProduction = -1;
+    private int lookaheadRoutineNesting, passedPredicateThreshold = -1;
+    private EnumSet<TokenType> outerFollowSet;
+    private boolean legacyGlitchyLookahead = true;
+    private boolean cancelled;
+
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /** Generated Lexer. */
+    public SPLLexer token_source;
+
+    public void setInputSource(String inputSource) {
+        token_source.setInputSource(inputSource);
+    }
+
+    String getInputSource() {
+        return token_source.getInputSource();
+    }
+
+    //=================================
+    // Generated constructors
+    //=================================
+    public SPLParser(String inputSource, CharSequence content) {
+        this(new SPLLexer(inputSource, content));
+    }
+
+    public SPLParser(CharSequence content) {
+        this("input", content);
+    }
+
+    /**
+    * @param inputSource just the name of the input source (typically the filename) that
+    * will be used in error messages and so on.
+    * @param path The location (typically the filename) from which to get the input to parse
+    */
+    public SPLParser(String inputSource, Path path) throws IOException {
+        this(inputSource, SPLLexer.stringFromBytes(Files.readAllBytes(path)));
+    }
+
+    public SPLParser(String inputSource, Path path, Charset charset) throws IOException {
+        this(inputSource, SPLLexer.stringFromBytes(Files.readAllBytes(path), charset));
+    }
+
+    /**
+    * @param inputSource just the name of the input source (typically the filename) that
+    * will be used in error messages and so on.
+    * @param path The location (typically the filename) from which to get the input to parse
+    * @param charset The encoding of the file. If this is null, it is worked out from the byte order mark,
+    * defaulting to UTF-8.
+    * @param memoryMapped whether to memory-map the file rather than read it into memory.
+    * (See SPLLexer#mapFile)
+    */
+    public SPLParser(String inputSource, Path path, Charset charset, boolean memoryMapped) throws IOException {
+        this(inputSource, memoryMapped ? SPLLexer.mapFile(path, charset) : SPLLexer.stringFromBytes(Files.readAllBytes(path), charset));
+    }
+
+    /**
+    * @param path The location (typically the filename) from which to get the input to parse
+    */
+    public SPLParser(Path path) throws IOException {
+        this(path.toString(), path);
+    }
+
+    /**
+    * @Deprecated Use the constructor that takes a #java.nio.files.Path or just
+    * a String (i.e. CharSequence) directly.
+    */
+    public SPLParser(java.io.InputStream stream) {
+        this(new InputStreamReader(stream));
+    }
+
+    /**
+    * @Deprecated Use the constructor that takes a #java.nio.files.Path or just
+    * a String (i.e. CharSequence) directly.
+    */
+    public SPLParser(Reader reader) {
+        this(new SPLLexer("input", reader));
+    }
+
+    /** Constructor with user supplied Lexer. */
+    public SPLParser(SPLLexer lexer) {
+        token_source = lexer;
+        lastConsumedToken = lexer.DUMMY_START_TOKEN;
+        lastConsumedToken.setTokenSource(lexer);
+    }
+
+    /**
+    * Resets this parser, and its lexer, so that it parses the given input
+    * from the start, reusing the internal buffers of both rather than
+    * constructing new objects. This is meant for parsing many (typically small)
+    * inputs in turn, possibly via a ParserPool. The Tokens and Nodes from the
+    * previous input should not be used after this, since they refer back to
+    * the lexer. Any state added to the parser by injected code is not reset.
+    * @param inputSource just the name of the input source (typically the filename) that
+    * will be used in error messages and so on.
+    * @param content the input to parse
+    */
+    public void reset(String inputSource, CharSequence content) {
+        token_source.reset(inputSource, content);
+        lastConsumedToken = token_source.DUMMY_START_TOKEN;
+        lastConsumedToken.setTokenSource(token_source);
+        nextTokenType = null;
+        currentLookaheadToken = null;
+        remainingLookahead = 0;
+        hitFailure = passedPredicate = false;
+        currentlyParsedProduction = currentLookaheadProduction = -1;
+        lookaheadRoutineNesting = 0;
+        passedPredicateThreshold = -1;
+        outerFollowSet = null;
+        cancelled = false;
+        parsingStack.clear();
+        lookaheadStack.clear();
+        parseStateStack.clear();
+        currentNodeScope.reset();
+    }
+
+    public void reset(CharSequence content) {
+        reset("input", content);
+    }
+
+    /**
+    * Resets this parser to parse the given file. (See #reset(String, CharSequence))
+    * @param path The location (typically the filename) from which to get the input to parse
+    */
+    public void reset(Path path) throws IOException {
+        reset(path.toString(), SPLLexer.stringFromBytes(Files.readAllBytes(path)));
+    }
+
+    // If the next token is cached, it returns that
+    // Otherwise, it goes to the token_source, i.e. the Lexer.
+    final private Token nextToken(final Token tok) {
+        Token result = token_source.getNextToken(tok);
+        while (result.isUnparsed()) {
+            result = token_source.getNextToken(result);
+        }
+        nextTokenType = null;
+        return result;
+    }
+
+    /**
+    * @return the next Token off the stream. This is the same as #getToken(1)
+    */
+    final public Token getNextToken() {
+        return getToken(1);
+    }
+
+    /**
+    * @param index how many tokens to look ahead
+    * @return the specific regular (i.e. parsed) Token index ahead/behind in the stream.
+    * If we are in a lookahead, it looks ahead from the currentLookaheadToken
+    * Otherwise, it is the lastConsumedToken. If you pass in a negative
+    * number it goes backward.
+    */
+    final public Token getToken(final int index) {
+        Token t = currentLookaheadToken==null ? lastConsumedToken : currentLookaheadToken;
+        for (int i = 0; i < index; i++) {
+            t = nextToken(t);
+        }
+        for (int i = 0; i > index; i--) {
+            t = t.getPrevious();
+            if (t==null) break;
+        }
+        return t;
+    }
+
+    private final TokenType nextTokenType() {
+        if (nextTokenType==null) {
+            nextTokenType = nextToken(lastConsumedToken).getType();
+        }
+        return nextTokenType;
+    }
+
+    boolean activateTokenTypes(TokenType...types) {
+        boolean result = false;
+        for (TokenType tt : types) {
+            result|=token_source.activeTokenTypes.add(tt);
+        }
+        if (result) {
+            token_source.reset(getToken(0));
+            nextTokenType = null;
+        }
+        return result;
+    }
+
+    boolean deactivateTokenTypes(TokenType...types) {
+        boolean result = false;
+        for (TokenType tt : types) {
+            result|=token_source.activeTokenTypes.remove(tt);
+        }
+        if (result) {
+            token_source.reset(getToken(0));
+            nextTokenType = null;
+        }
+        return result;
+    }
+
+    private static int productionId(String productionName) {
+        Integer id = PRODUCTION_IDS.get(productionName);
+        return id==null ? -1 : id;
+    }
+
+    private static String productionName(int productionId) {
+        return productionId < 0 ? null : PRODUCTION_NAMES[productionId];
+    }
+
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:175:1
+    final public void CompilationUnit() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 0;
+        CompilationUnit CompilationUnit1 = null;
+        if (buildTree) {
+            CompilationUnit1 = new CompilationUnit();
+            openNodeScope(CompilationUnit1);
+        }
+        String name;
+        ParseException parseException2 = null;
+        int callStackSize3 = parsingStack.size();
+        try {
+            // Code for ZeroOrMore specified at /root/project/examples/legacy/Interpreter/SPL.javacc:179:4
+            while (true) {
+                // Code for ExpansionChoice specified at /root/project/examples/legacy/Interpreter/SPL.javacc:180:8
+                if (nextTokenType()==TokenType.INT||nextTokenType==TokenType.BOOL) {
+                    // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:180:8
+                    pushOntoCallStack(0, "/root/project/examples/legacy/Interpreter/SPL.javacc", 180, 8);
+                    try {
+                        VarDeclaration();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                    // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:180:23
+                    consumeToken(TokenType._TOKEN_9);
+                }
+                else if ((first_set$SPL_javacc$182$8_MASK&(1L<<nextTokenType().ordinal()))!=0) {
+                    // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:182:8
+                    pushOntoCallStack(0, "/root/project/examples/legacy/Interpreter/SPL.javacc", 182, 8);
+                    try {
+                        Statement();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                else {
+                    break;
+                }
+            }
+            // Code for EndOfFile specified at /root/project/examples/legacy/Interpreter/SPL.javacc:184:4
+            consumeToken(TokenType.EOF);
+        }
+        catch(ParseException e) {
+            parseException2 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize3);
+            if (CompilationUnit1!=null) {
+                if (parseException2==null) {
+                    closeNodeScope(CompilationUnit1, true);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:203:1
+    final public void VarDeclaration() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 1;
+        VarDeclaration VarDeclaration2 = null;
+        if (buildTree) {
+            VarDeclaration2 = new VarDeclaration();
+            openNodeScope(VarDeclaration2);
+        }
+        Token t;
+        ParseException parseException38 = null;
+        int callStackSize39 = parsingStack.size();
+        try {
+            if (nextTokenType()==TokenType.BOOL) {
+                // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:206:5
+                consumeToken(TokenType.BOOL);
+                // Code for CodeBlock specified at /root/project/examples/legacy/Interpreter/SPL.javacc:206:15
+                VarDeclaration2.type = TokenType.BOOL;
+            }
+            else if (nextTokenType()==TokenType.INT) {
+                // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:208:5
+                consumeToken(TokenType.INT);
+                // Code for CodeBlock specified at /root/project/examples/legacy/Interpreter/SPL.javacc:208:11
+                VarDeclaration2.type = TokenType.INT;
+            }
+            else {
+                pushOntoCallStack(1, "/root/project/examples/legacy/Interpreter/SPL.javacc", 206, 5);
+                throw new ParseException(this, first_set$SPL_javacc$206$5, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/legacy/Interpreter/SPL.javacc:210:7
+            t = consumeToken(TokenType.IDENTIFIER);
+            // Code for CodeBlock specified at /root/project/examples/legacy/Interpreter/SPL.javacc:211:3
+            VarDeclaration2.name = t.getImage();
+        }
+        catch(ParseException e) {
+            parseException38 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize39);
+            if (VarDeclaration2!=null) {
+                if (parseException38==null) {
+                    closeNodeScope(VarDeclaration2, true);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final EnumSet<TokenType> Expression_FIRST_SET = EnumSet.of(TokenType.INTEGER_LITERAL, TokenType._TOKEN_27, TokenType._TOKEN_28, TokenType._TOKEN_29, TokenType.TRUE, TokenType.FALSE, TokenType.IDENTIFIER);
+
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:218:1
+    final public void Expression() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 2;
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/Interpreter/SPL.javacc:219:3
+        if (scan$SPL_javacc$219$3()) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:219:33
+            pushOntoCallStack(2, "/root/project/examples/legacy/Interpreter/SPL.javacc", 219, 33);
+            try {
+                Assignment();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if ((first_set$SPL_javacc$221$3_MASK&(1L<<nextTokenType().ordinal()))!=0) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:221:3
+            pushOntoCallStack(2, "/root/project/examples/legacy/Interpreter/SPL.javacc", 221, 3);
+            try {
+                ConditionalOrExpression();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else {
+            pushOntoCallStack(2, "/root/project/examples/legacy/Interpreter/SPL.javacc", 219, 3);
+            throw new ParseException(this, Expression_FIRST_SET, parsingStack.toList());
+        }
+    }
+
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:234:1
+    final public void Assignment() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 3;
+        Assignment Assignment3 = null;
+        if (buildTree) {
+            Assignment3 = new Assignment();
+            openNodeScope(Assignment3);
+        }
+        ParseException parseException99 = null;
+        int callStackSize100 = parsingStack.size();
+        try {
+            // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:234:29
+            pushOntoCallStack(3, "/root/project/examples/legacy/Interpreter/SPL.javacc", 234, 29);
+            try {
+                PrimaryExpression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:234:47
+            consumeToken(TokenType._TOKEN_10);
+            // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:234:51
+            pushOntoCallStack(3, "/root/project/examples/legacy/Interpreter/SPL.javacc", 234, 51);
+            try {
+                Expression();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        catch(ParseException e) {
+            parseException99 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize100);
+            if (Assignment3!=null) {
+                if (parseException99==null) {
+                    closeNodeScope(Assignment3, 3);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:236:1
+    final public void ConditionalOrExpression() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 4;
+        // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:237:3
+        pushOntoCallStack(4, "/root/project/examples/legacy/Interpreter/SPL.javacc", 237, 3);
+        try {
+            ConditionalAndExpression();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified at /root/project/examples/legacy/Interpreter/SPL.javacc:238:3
+        while (true) {
+            if (!(nextTokenType()==TokenType._TOKEN_11)) break;
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:238:5
+            consumeToken(TokenType._TOKEN_11);
+            // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:238:10
+            OrNode ConditionalOrExpression4 = null;
+            if (buildTree) {
+                ConditionalOrExpression4 = new OrNode();
+                openNodeScope(ConditionalOrExpression4);
+            }
+            ParseException parseException135 = null;
+            int callStackSize136 = parsingStack.size();
+            try {
+                pushOntoCallStack(4, "/root/project/examples/legacy/Interpreter/SPL.javacc", 238, 10);
+                try {
+                    ConditionalAndExpression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            catch(ParseException e) {
+                parseException135 = e;
+                throw e;
+            }
+            finally {
+                restoreCallStack(callStackSize136);
+                if (ConditionalOrExpression4!=null) {
+                    if (parseException135==null) {
+                        closeNodeScope(ConditionalOrExpression4, 3);
+                    }
+                    else {
+                        clearNodeScope();
+                    }
+                }
+                this.currentlyParsedProduction = prevProduction;
+            }
+        }
+    }
+
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:257:1
+    final public void ConditionalAndExpression() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 5;
+        // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:258:3
+        pushOntoCallStack(5, "/root/project/examples/legacy/Interpreter/SPL.javacc", 258, 3);
+        try {
+            InclusiveOrExpression();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified at /root/project/examples/legacy/Interpreter/SPL.javacc:259:3
+        while (true) {
+            if (!(nextTokenType()==TokenType._TOKEN_12)) break;
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:259:5
+            consumeToken(TokenType._TOKEN_12);
+            // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:259:10
+            AndNode ConditionalAndExpression5 = null;
+            if (buildTree) {
+                ConditionalAndExpression5 = new AndNode();
+                openNodeScope(ConditionalAndExpression5);
+            }
+            ParseException parseException159 = null;
+            int callStackSize160 = parsingStack.size();
+            try {
+                pushOntoCallStack(5, "/root/project/examples/legacy/Interpreter/SPL.javacc", 259, 10);
+                try {
+                    InclusiveOrExpression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            catch(ParseException e) {
+                parseException159 = e;
+                throw e;
+            }
+            finally {
+                restoreCallStack(callStackSize160);
+                if (ConditionalAndExpression5!=null) {
+                    if (parseException159==null) {
+                        closeNodeScope(ConditionalAndExpression5, 3);
+                    }
+                    else {
+                        clearNodeScope();
+                    }
+                }
+                this.currentlyParsedProduction = prevProduction;
+            }
+        }
+    }
+
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:277:1
+    final public void InclusiveOrExpression() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 6;
+        // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:278:3
+        pushOntoCallStack(6, "/root/project/examples/legacy/Interpreter/SPL.javacc", 278, 3);
+        try {
+            ExclusiveOrExpression();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified at /root/project/examples/legacy/Interpreter/SPL.javacc:279:3
+        while (true) {
+            if (!(nextTokenType()==TokenType._TOKEN_13)) break;
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:279:5
+            consumeToken(TokenType._TOKEN_13);
+            // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:279:9
+            BitwiseOrNode InclusiveOrExpression6 = null;
+            if (buildTree) {
+                InclusiveOrExpression6 = new BitwiseOrNode();
+                openNodeScope(InclusiveOrExpression6);
+            }
+            ParseException parseException183 = null;
+            int callStackSize184 = parsingStack.size();
+            try {
+                pushOntoCallStack(6, "/root/project/examples/legacy/Interpreter/SPL.javacc", 279, 9);
+                try {
+                    ExclusiveOrExpression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            catch(ParseException e) {
+                parseException183 = e;
+                throw e;
+            }
+            finally {
+                restoreCallStack(callStackSize184);
+                if (InclusiveOrExpression6!=null) {
+                    if (parseException183==null) {
+                        closeNodeScope(InclusiveOrExpression6, 2);
+                    }
+                    else {
+                        clearNodeScope();
+                    }
+                }
+                this.currentlyParsedProduction = prevProduction;
+            }
+        }
+    }
+
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:298:1
+    final public void ExclusiveOrExpression() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 7;
+        // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:299:3
+        pushOntoCallStack(7, "/root/project/examples/legacy/Interpreter/SPL.javacc", 299, 3);
+        try {
+            AndExpression();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified at /root/project/examples/legacy/Interpreter/SPL.javacc:300:3
+        while (true) {
+            if (!(nextTokenType()==TokenType._TOKEN_14)) break;
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:300:5
+            consumeToken(TokenType._TOKEN_14);
+            // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:300:9
+            BitwiseXorNode ExclusiveOrExpression7 = null;
+            if (buildTree) {
+                ExclusiveOrExpression7 = new BitwiseXorNode();
+                openNodeScope(ExclusiveOrExpression7);
+            }
+            ParseException parseException207 = null;
+            int callStackSize208 = parsingStack.size();
+            try {
+                pushOntoCallStack(7, "/root/project/examples/legacy/Interpreter/SPL.javacc", 300, 9);
+                try {
+                    AndExpression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            catch(ParseException e) {
+                parseException207 = e;
+                throw e;
+            }
+            finally {
+                restoreCallStack(callStackSize208);
+                if (ExclusiveOrExpression7!=null) {
+                    if (parseException207==null) {
+                        closeNodeScope(ExclusiveOrExpression7, 2);
+                    }
+                    else {
+                        clearNodeScope();
+                    }
+                }
+                this.currentlyParsedProduction = prevProduction;
+            }
+        }
+    }
+
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:321:1
+    final public void AndExpression() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 8;
+        // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:322:3
+        pushOntoCallStack(8, "/root/project/examples/legacy/Interpreter/SPL.javacc", 322, 3);
+        try {
+            EqualityExpression();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified at /root/project/examples/legacy/Interpreter/SPL.javacc:323:3
+        while (true) {
+            if (!(nextTokenType()==TokenType._TOKEN_15)) break;
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:323:5
+            consumeToken(TokenType._TOKEN_15);
+            // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:323:9
+            BitwiseAndNode AndExpression8 = null;
+            if (buildTree) {
+                AndExpression8 = new BitwiseAndNode();
+                openNodeScope(AndExpression8);
+            }
+            ParseException parseException231 = null;
+            int callStackSize232 = parsingStack.size();
+            try {
+                pushOntoCallStack(8, "/root/project/examples/legacy/Interpreter/SPL.javacc", 323, 9);
+                try {
+                    EqualityExpression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            catch(ParseException e) {
+                parseException231 = e;
+                throw e;
+            }
+            finally {
+                restoreCallStack(callStackSize232);
+                if (AndExpression8!=null) {
+                    if (parseException231==null) {
+                        closeNodeScope(AndExpression8, 2);
+                    }
+                    else {
+                        clearNodeScope();
+                    }
+                }
+                this.currentlyParsedProduction = prevProduction;
+            }
+        }
+    }
+
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:342:1
+    final public void EqualityExpression() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 9;
+        // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:343:3
+        pushOntoCallStack(9, "/root/project/examples/legacy/Interpreter/SPL.javacc", 343, 3);
+        try {
+            RelationalExpression();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified at /root/project/examples/legacy/Interpreter/SPL.javacc:344:3
+        while (true) {
+            // Code for ExpansionChoice specified at /root/project/examples/legacy/Interpreter/SPL.javacc:345:6
+            if (nextTokenType()==TokenType._TOKEN_16) {
+                // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:345:6
+                consumeToken(TokenType._TOKEN_16);
+                // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:345:11
+                EQNode EqualityExpression9 = null;
+                if (buildTree) {
+                    EqualityExpression9 = new EQNode();
+                    openNodeScope(EqualityExpression9);
+                }
+                ParseException parseException259 = null;
+                int callStackSize260 = parsingStack.size();
+                try {
+                    pushOntoCallStack(9, "/root/project/examples/legacy/Interpreter/SPL.javacc", 345, 11);
+                    try {
+                        RelationalExpression();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                catch(ParseException e) {
+                    parseException259 = e;
+                    throw e;
+                }
+                finally {
+                    restoreCallStack(callStackSize260);
+                    if (EqualityExpression9!=null) {
+                        if (parseException259==null) {
+                            closeNodeScope(EqualityExpression9, 3);
+                        }
+                        else {
+                            clearNodeScope();
+                        }
+                    }
+                    this.currentlyParsedProduction = prevProduction;
+                }
+            }
+            else if (nextTokenType()==TokenType._TOKEN_17) {
+                // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:347:6
+                consumeToken(TokenType._TOKEN_17);
+                // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:347:11
+                NENode EqualityExpression10 = null;
+                if (buildTree) {
+                    EqualityExpression10 = new NENode();
+                    openNodeScope(EqualityExpression10);
+                }
+                ParseException parseException271 = null;
+                int callStackSize272 = parsingStack.size();
+                try {
+                    pushOntoCallStack(9, "/root/project/examples/legacy/Interpreter/SPL.javacc", 347, 11);
+                    try {
+                        RelationalExpression();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                catch(ParseException e) {
+                    parseException271 = e;
+                    throw e;
+                }
+                finally {
+                    restoreCallStack(callStackSize272);
+                    if (EqualityExpression10!=null) {
+                        if (parseException271==null) {
+                            closeNodeScope(EqualityExpression10, 3);
+                        }
+                        else {
+                            clearNodeScope();
+                        }
+                    }
+                    this.currentlyParsedProduction = prevProduction;
+                }
+            }
+            else {
+                break;
+            }
+        }
+    }
+
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:377:1
+    final public void RelationalExpression() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 10;
+        // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:378:3
+        pushOntoCallStack(10, "/root/project/examples/legacy/Interpreter/SPL.javacc", 378, 3);
+        try {
+            AdditiveExpression();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified at /root/project/examples/legacy/Interpreter/SPL.javacc:379:3
+        while (true) {
+            // Code for ExpansionChoice specified at /root/project/examples/legacy/Interpreter/SPL.javacc:380:5
+            if (nextTokenType()==TokenType._TOKEN_18) {
+                // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:380:5
+                consumeToken(TokenType._TOKEN_18);
+                // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:380:9
+                LTNode RelationalExpression11 = null;
+                if (buildTree) {
+                    RelationalExpression11 = new LTNode();
+                    openNodeScope(RelationalExpression11);
+                }
+                ParseException parseException299 = null;
+                int callStackSize300 = parsingStack.size();
+                try {
+                    pushOntoCallStack(10, "/root/project/examples/legacy/Interpreter/SPL.javacc", 380, 9);
+                    try {
+                        AdditiveExpression();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                catch(ParseException e) {
+                    parseException299 = e;
+                    throw e;
+                }
+                finally {
+                    restoreCallStack(callStackSize300);
+                    if (RelationalExpression11!=null) {
+                        if (parseException299==null) {
+                            closeNodeScope(RelationalExpression11, 3);
+                        }
+                        else {
+                            clearNodeScope();
+                        }
+                    }
+                    this.currentlyParsedProduction = prevProduction;
+                }
+            }
+            else if (nextTokenType()==TokenType._TOKEN_19) {
+                // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:382:5
+                consumeToken(TokenType._TOKEN_19);
+                // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:382:9
+                GTNode RelationalExpression12 = null;
+                if (buildTree) {
+                    RelationalExpression12 = new GTNode();
+                    openNodeScope(RelationalExpression12);
+                }
+                ParseException parseException311 = null;
+                int callStackSize312 = parsingStack.size();
+                try {
+                    pushOntoCallStack(10, "/root/project/examples/legacy/Interpreter/SPL.javacc", 382, 9);
+                    try {
+                        AdditiveExpression();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                catch(ParseException e) {
+                    parseException311 = e;
+                    throw e;
+                }
+                finally {
+                    restoreCallStack(callStackSize312);
+                    if (RelationalExpression12!=null) {
+                        if (parseException311==null) {
+                            closeNodeScope(RelationalExpression12, 3);
+                        }
+                        else {
+                            clearNodeScope();
+                        }
+                    }
+                    this.currentlyParsedProduction = prevProduction;
+                }
+            }
+            else if (nextTokenType()==TokenType._TOKEN_20) {
+                // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:384:5
+                consumeToken(TokenType._TOKEN_20);
+                // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:384:10
+                LENode RelationalExpression13 = null;
+                if (buildTree) {
+                    RelationalExpression13 = new LENode();
+                    openNodeScope(RelationalExpression13);
+                }
+                ParseException parseException323 = null;
+                int callStackSize324 = parsingStack.size();
+                try {
+                    pushOntoCallStack(10, "/root/project/examples/legacy/Interpreter/SPL.javacc", 384, 10);
+                    try {
+                        AdditiveExpression();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                catch(ParseException e) {
+                    parseException323 = e;
+                    throw e;
+                }
+                finally {
+                    restoreCallStack(callStackSize324);
+                    if (RelationalExpression13!=null) {
+                        if (parseException323==null) {
+                            closeNodeScope(RelationalExpression13, 3);
+                        }
+                        else {
+                            clearNodeScope();
+                        }
+                    }
+                    this.currentlyParsedProduction = prevProduction;
+                }
+            }
+            else if (nextTokenType()==TokenType._TOKEN_21) {
+                // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:386:5
+                consumeToken(TokenType._TOKEN_21);
+                // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:386:10
+                GENode RelationalExpression14 = null;
+                if (buildTree) {
+                    RelationalExpression14 = new GENode();
+                    openNodeScope(RelationalExpression14);
+                }
+                ParseException parseException335 = null;
+                int callStackSize336 = parsingStack.size();
+                try {
+                    pushOntoCallStack(10, "/root/project/examples/legacy/Interpreter/SPL.javacc", 386, 10);
+                    try {
+                        AdditiveExpression();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                catch(ParseException e) {
+                    parseException335 = e;
+                    throw e;
+                }
+                finally {
+                    restoreCallStack(callStackSize336);
+                    if (RelationalExpression14!=null) {
+                        if (parseException335==null) {
+                            closeNodeScope(RelationalExpression14, 3);
+                        }
+                        else {
+                            clearNodeScope();
+                        }
+                    }
+                    this.currentlyParsedProduction = prevProduction;
+                }
+            }
+            else {
+                break;
+            }
+        }
+    }
+
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:431:1
+    final public void AdditiveExpression() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 11;
+        // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:432:3
+        pushOntoCallStack(11, "/root/project/examples/legacy/Interpreter/SPL.javacc", 432, 3);
+        try {
+            MultiplicativeExpression();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified at /root/project/examples/legacy/Interpreter/SPL.javacc:433:3
+        while (true) {
+            // Code for ExpansionChoice specified at /root/project/examples/legacy/Interpreter/SPL.javacc:434:5
+            if (nextTokenType()==TokenType._TOKEN_22) {
+                // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:434:5
+                consumeToken(TokenType._TOKEN_22);
+                // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:434:9
+                AddNode AdditiveExpression15 = null;
+                if (buildTree) {
+                    AdditiveExpression15 = new AddNode();
+                    openNodeScope(AdditiveExpression15);
+                }
+                ParseException parseException363 = null;
+                int callStackSize364 = parsingStack.size();
+                try {
+                    pushOntoCallStack(11, "/root/project/examples/legacy/Interpreter/SPL.javacc", 434, 9);
+                    try {
+                        MultiplicativeExpression();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                catch(ParseException e) {
+                    parseException363 = e;
+                    throw e;
+                }
+                finally {
+                    restoreCallStack(callStackSize364);
+                    if (AdditiveExpression15!=null) {
+                        if (parseException363==null) {
+                            closeNodeScope(AdditiveExpression15, 3);
+                        }
+                        else {
+                            clearNodeScope();
+                        }
+                    }
+                    this.currentlyParsedProduction = prevProduction;
+                }
+            }
+            else if (nextTokenType()==TokenType._TOKEN_23) {
+                // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:436:5
+                consumeToken(TokenType._TOKEN_23);
+                // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:436:9
+                SubtractNode AdditiveExpression16 = null;
+                if (buildTree) {
+                    AdditiveExpression16 = new SubtractNode();
+                    openNodeScope(AdditiveExpression16);
+                }
+                ParseException parseException375 = null;
+                int callStackSize376 = parsingStack.size();
+                try {
+                    pushOntoCallStack(11, "/root/project/examples/legacy/Interpreter/SPL.javacc", 436, 9);
+                    try {
+                        MultiplicativeExpression();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                catch(ParseException e) {
+                    parseException375 = e;
+                    throw e;
+                }
+                finally {
+                    restoreCallStack(callStackSize376);
+                    if (AdditiveExpression16!=null) {
+                        if (parseException375==null) {
+                            closeNodeScope(AdditiveExpression16, 3);
+                        }
+                        else {
+                            clearNodeScope();
+                        }
+                    }
+                    this.currentlyParsedProduction = prevProduction;
+                }
+            }
+            else {
+                break;
+            }
+        }
+    }
+
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:459:1
+    final public void MultiplicativeExpression() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 12;
+        // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:460:3
+        pushOntoCallStack(12, "/root/project/examples/legacy/Interpreter/SPL.javacc", 460, 3);
+        try {
+            UnaryExpression();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified at /root/project/examples/legacy/Interpreter/SPL.javacc:461:3
+        while (true) {
+            // Code for ExpansionChoice specified at /root/project/examples/legacy/Interpreter/SPL.javacc:462:5
+            if (nextTokenType()==TokenType._TOKEN_24) {
+                // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:462:5
+                consumeToken(TokenType._TOKEN_24);
+                // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:462:9
+                MulNode MultiplicativeExpression17 = null;
+                if (buildTree) {
+                    MultiplicativeExpression17 = new MulNode();
+                    openNodeScope(MultiplicativeExpression17);
+                }
+                ParseException parseException403 = null;
+                int callStackSize404 = parsingStack.size();
+                try {
+                    pushOntoCallStack(12, "/root/project/examples/legacy/Interpreter/SPL.javacc", 462, 9);
+                    try {
+                        UnaryExpression();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                catch(ParseException e) {
+                    parseException403 = e;
+                    throw e;
+                }
+                finally {
+                    restoreCallStack(callStackSize404);
+                    if (MultiplicativeExpression17!=null) {
+                        if (parseException403==null) {
+                            closeNodeScope(MultiplicativeExpression17, 3);
+                        }
+                        else {
+                            clearNodeScope();
+                        }
+                    }
+                    this.currentlyParsedProduction = prevProduction;
+                }
+            }
+            else if (nextTokenType()==TokenType._TOKEN_25) {
+                // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:464:5
+                consumeToken(TokenType._TOKEN_25);
+                // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:464:9
+                DivNode MultiplicativeExpression18 = null;
+                if (buildTree) {
+                    MultiplicativeExpression18 = new DivNode();
+                    openNodeScope(MultiplicativeExpression18);
+                }
+                ParseException parseException415 = null;
+                int callStackSize416 = parsingStack.size();
+                try {
+                    pushOntoCallStack(12, "/root/project/examples/legacy/Interpreter/SPL.javacc", 464, 9);
+                    try {
+                        UnaryExpression();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                catch(ParseException e) {
+                    parseException415 = e;
+                    throw e;
+                }
+                finally {
+                    restoreCallStack(callStackSize416);
+                    if (MultiplicativeExpression18!=null) {
+                        if (parseException415==null) {
+                            closeNodeScope(MultiplicativeExpression18, 3);
+                        }
+                        else {
+                            clearNodeScope();
+                        }
+                    }
+                    this.currentlyParsedProduction = prevProduction;
+                }
+            }
+            else if (nextTokenType()==TokenType._TOKEN_26) {
+                // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:466:5
+                consumeToken(TokenType._TOKEN_26);
+                // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:466:9
+                ModNode MultiplicativeExpression19 = null;
+                if (buildTree) {
+                    MultiplicativeExpression19 = new ModNode();
+                    openNodeScope(MultiplicativeExpression19);
+                }
+                ParseException parseException427 = null;
+                int callStackSize428 = parsingStack.size();
+                try {
+                    pushOntoCallStack(12, "/root/project/examples/legacy/Interpreter/SPL.javacc", 466, 9);
+                    try {
+                        UnaryExpression();
+                    }
+                    finally {
+                        popCallStack();
+                    }
+                }
+                catch(ParseException e) {
+                    parseException427 = e;
+                    throw e;
+                }
+                finally {
+                    restoreCallStack(callStackSize428);
+                    if (MultiplicativeExpression19!=null) {
+                        if (parseException427==null) {
+                            closeNodeScope(MultiplicativeExpression19, 3);
+                        }
+                        else {
+                            clearNodeScope();
+                        }
+                    }
+                    this.currentlyParsedProduction = prevProduction;
+                }
+            }
+            else {
+                break;
+            }
+        }
+    }
+
+    static private final EnumSet<TokenType> UnaryExpression_FIRST_SET = EnumSet.of(TokenType.INTEGER_LITERAL, TokenType._TOKEN_27, TokenType._TOKEN_28, TokenType._TOKEN_29, TokenType.TRUE, TokenType.FALSE, TokenType.IDENTIFIER);
+
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:498:1
+    final public void UnaryExpression() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 13;
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/Interpreter/SPL.javacc:499:3
+        if (nextTokenType()==TokenType._TOKEN_27) {
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:499:3
+            consumeToken(TokenType._TOKEN_27);
+            // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:499:7
+            BitwiseComplNode UnaryExpression20 = null;
+            if (buildTree) {
+                UnaryExpression20 = new BitwiseComplNode();
+                openNodeScope(UnaryExpression20);
+            }
+            ParseException parseException443 = null;
+            int callStackSize444 = parsingStack.size();
+            try {
+                pushOntoCallStack(13, "/root/project/examples/legacy/Interpreter/SPL.javacc", 499, 7);
+                try {
+                    UnaryExpression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            catch(ParseException e) {
+                parseException443 = e;
+                throw e;
+            }
+            finally {
+                restoreCallStack(callStackSize444);
+                if (UnaryExpression20!=null) {
+                    if (parseException443==null) {
+                        closeNodeScope(UnaryExpression20, 2);
+                    }
+                    else {
+                        clearNodeScope();
+                    }
+                }
+                this.currentlyParsedProduction = prevProduction;
+            }
+        }
+        else if (nextTokenType()==TokenType._TOKEN_28) {
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:501:3
+            consumeToken(TokenType._TOKEN_28);
+            // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:501:7
+            NotNode UnaryExpression21 = null;
+            if (buildTree) {
+                UnaryExpression21 = new NotNode();
+                openNodeScope(UnaryExpression21);
+            }
+            ParseException parseException455 = null;
+            int callStackSize456 = parsingStack.size();
+            try {
+                pushOntoCallStack(13, "/root/project/examples/legacy/Interpreter/SPL.javacc", 501, 7);
+                try {
+                    UnaryExpression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            catch(ParseException e) {
+                parseException455 = e;
+                throw e;
+            }
+            finally {
+                restoreCallStack(callStackSize456);
+                if (UnaryExpression21!=null) {
+                    if (parseException455==null) {
+                        closeNodeScope(UnaryExpression21, 2);
+                    }
+                    else {
+                        clearNodeScope();
+                    }
+                }
+                this.currentlyParsedProduction = prevProduction;
+            }
+        }
+        else if ((first_set$SPL_javacc$503$3_MASK&(1L<<nextTokenType().ordinal()))!=0) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:503:3
+            pushOntoCallStack(13, "/root/project/examples/legacy/Interpreter/SPL.javacc", 503, 3);
+            try {
+                PrimaryExpression();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else {
+            pushOntoCallStack(13, "/root/project/examples/legacy/Interpreter/SPL.javacc", 499, 3);
+            throw new ParseException(this, UnaryExpression_FIRST_SET, parsingStack.toList());
+        }
+    }
+
+    static private final EnumSet<TokenType> PrimaryExpression_FIRST_SET = EnumSet.of(TokenType.INTEGER_LITERAL, TokenType._TOKEN_29, TokenType.TRUE, TokenType.FALSE, TokenType.IDENTIFIER);
+
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:524:1
+    final public void PrimaryExpression() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 14;
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/Interpreter/SPL.javacc:528:3
+        String name;
+        if (nextTokenType()==TokenType.INTEGER_LITERAL||nextTokenType==TokenType.TRUE||nextTokenType==TokenType.FALSE) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:528:3
+            pushOntoCallStack(14, "/root/project/examples/legacy/Interpreter/SPL.javacc", 528, 3);
+            try {
+                Literal();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (nextTokenType()==TokenType.IDENTIFIER) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:530:3
+            pushOntoCallStack(14, "/root/project/examples/legacy/Interpreter/SPL.javacc", 530, 3);
+            try {
+                Id();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (nextTokenType()==TokenType._TOKEN_29) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:532:3
+            pushOntoCallStack(14, "/root/project/examples/legacy/Interpreter/SPL.javacc", 532, 3);
+            try {
+                ParentheticalExpression();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else {
+            pushOntoCallStack(14, "/root/project/examples/legacy/Interpreter/SPL.javacc", 528, 3);
+            throw new ParseException(this, PrimaryExpression_FIRST_SET, parsingStack.toList());
+        }
+    }
+
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:535:1
+    final public void ParentheticalExpression() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 15;
+        ParentheticalExpression ParentheticalExpression22 = null;
+        if (buildTree) {
+            ParentheticalExpression22 = new ParentheticalExpression();
+            openNodeScope(ParentheticalExpression22);
+        }
+        ParseException parseException495 = null;
+        int callStackSize496 = parsingStack.size();
+        try {
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:536:4
+            consumeToken(TokenType._TOKEN_29);
+            // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:536:8
+            pushOntoCallStack(15, "/root/project/examples/legacy/Interpreter/SPL.javacc", 536, 8);
+            try {
+                Expression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:536:19
+            consumeToken(TokenType._TOKEN_30);
+        }
+        catch(ParseException e) {
+            parseException495 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize496);
+            if (ParentheticalExpression22!=null) {
+                if (parseException495==null) {
+                    closeNodeScope(ParentheticalExpression22, true);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:555:1
+    final public void Id() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 16;
+        Id Id23 = null;
+        if (buildTree) {
+            Id23 = new Id();
+            openNodeScope(Id23);
+        }
+        Token t;
+        ParseException parseException511 = null;
+        int callStackSize512 = parsingStack.size();
+        try {
+            // Code for RegexpRef specified at /root/project/examples/legacy/Interpreter/SPL.javacc:556:8
+            t = consumeToken(TokenType.IDENTIFIER);
+            // Code for CodeBlock specified at /root/project/examples/legacy/Interpreter/SPL.javacc:556:22
+            Id23.name = t.getImage();
+        }
+        catch(ParseException e) {
+            parseException511 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize512);
+            if (Id23!=null) {
+                if (parseException511==null) {
+                    closeNodeScope(Id23, true);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final EnumSet<TokenType> Literal_FIRST_SET = EnumSet.of(TokenType.INTEGER_LITERAL, TokenType.TRUE, TokenType.FALSE);
+
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:559:1
+    final public void Literal() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 17;
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/Interpreter/SPL.javacc:563:2
+        Token t;
+        if (nextTokenType()==TokenType.INTEGER_LITERAL) {
+            IntConstNode Literal24 = null;
+            if (buildTree) {
+                Literal24 = new IntConstNode();
+                openNodeScope(Literal24);
+            }
+            ParseException parseException531 = null;
+            int callStackSize532 = parsingStack.size();
+            try {
+                // Code for RegexpRef specified at /root/project/examples/legacy/Interpreter/SPL.javacc:564:5
+                t = consumeToken(TokenType.INTEGER_LITERAL);
+                // Code for CodeBlock specified at /root/project/examples/legacy/Interpreter/SPL.javacc:565:5
+                Literal24.val = Integer.parseInt(t.getImage());
+            }
+            catch(ParseException e) {
+                parseException531 = e;
+                throw e;
+            }
+            finally {
+                restoreCallStack(callStackSize532);
+                if (Literal24!=null) {
+                    if (parseException531==null) {
+                        closeNodeScope(Literal24, true);
+                    }
+                    else {
+                        clearNodeScope();
+                    }
+                }
+                this.currentlyParsedProduction = prevProduction;
+            }
+        }
+        else if (nextTokenType()==TokenType.TRUE||nextTokenType==TokenType.FALSE) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:570:3
+            pushOntoCallStack(17, "/root/project/examples/legacy/Interpreter/SPL.javacc", 570, 3);
+            try {
+                BooleanLiteral();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else {
+            pushOntoCallStack(17, "/root/project/examples/legacy/Interpreter/SPL.javacc", 563, 2);
+            throw new ParseException(this, Literal_FIRST_SET, parsingStack.toList());
+        }
+    }
+
+    static private final EnumSet<TokenType> BooleanLiteral_FIRST_SET = EnumSet.of(TokenType.TRUE, TokenType.FALSE);
+
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:582:1
+    final public void BooleanLiteral() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 18;
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/Interpreter/SPL.javacc:583:3
+        if (nextTokenType()==TokenType.TRUE) {
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:583:3
+            TrueNode BooleanLiteral25 = null;
+            if (buildTree) {
+                BooleanLiteral25 = new TrueNode();
+                openNodeScope(BooleanLiteral25);
+            }
+            ParseException parseException560 = null;
+            int callStackSize561 = parsingStack.size();
+            try {
+                consumeToken(TokenType.TRUE);
+            }
+            catch(ParseException e) {
+                parseException560 = e;
+                throw e;
+            }
+            finally {
+                restoreCallStack(callStackSize561);
+                if (BooleanLiteral25!=null) {
+                    if (parseException560==null) {
+                        closeNodeScope(BooleanLiteral25, true);
+                    }
+                    else {
+                        clearNodeScope();
+                    }
+                }
+                this.currentlyParsedProduction = prevProduction;
+            }
+        }
+        else if (nextTokenType()==TokenType.FALSE) {
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:585:3
+            FalseNode BooleanLiteral26 = null;
+            if (buildTree) {
+                BooleanLiteral26 = new FalseNode();
+                openNodeScope(BooleanLiteral26);
+            }
+            ParseException parseException568 = null;
+            int callStackSize569 = parsingStack.size();
+            try {
+                consumeToken(TokenType.FALSE);
+            }
+            catch(ParseException e) {
+                parseException568 = e;
+                throw e;
+            }
+            finally {
+                restoreCallStack(callStackSize569);
+                if (BooleanLiteral26!=null) {
+                    if (parseException568==null) {
+                        closeNodeScope(BooleanLiteral26, true);
+                    }
+                    else {
+                        clearNodeScope();
+                    }
+                }
+                this.currentlyParsedProduction = prevProduction;
+            }
+        }
+        else {
+            pushOntoCallStack(18, "/root/project/examples/legacy/Interpreter/SPL.javacc", 583, 3);
+            throw new ParseException(this, BooleanLiteral_FIRST_SET, parsingStack.toList());
+        }
+    }
+
+    static private final EnumSet<TokenType> Statement_FIRST_SET = Statement_FIRST_SET_init();
+
+    static private EnumSet<TokenType> Statement_FIRST_SET_init() {
+        return EnumSet.of(TokenType.INTEGER_LITERAL, TokenType._TOKEN_9, TokenType._TOKEN_29, TokenType.TRUE, TokenType.FALSE, TokenType._TOKEN_34, TokenType.IF, TokenType.WHILE, TokenType.READ, TokenType.WRITE, TokenType.IDENTIFIER);
+    }
+
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:604:1
+    final public void Statement() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 19;
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/Interpreter/SPL.javacc:605:3
+        if (nextTokenType()==TokenType._TOKEN_9) {
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:605:3
+            consumeToken(TokenType._TOKEN_9);
+        }
+        else if (scan$SPL_javacc$607$3()) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:607:13
+            pushOntoCallStack(19, "/root/project/examples/legacy/Interpreter/SPL.javacc", 607, 13);
+            try {
+                LabeledStatement();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (nextTokenType()==TokenType._TOKEN_34) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:609:3
+            pushOntoCallStack(19, "/root/project/examples/legacy/Interpreter/SPL.javacc", 609, 3);
+            try {
+                Block();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if ((first_set$SPL_javacc$611$3_MASK&(1L<<nextTokenType().ordinal()))!=0) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:611:3
+            pushOntoCallStack(19, "/root/project/examples/legacy/Interpreter/SPL.javacc", 611, 3);
+            try {
+                StatementExpression();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (nextTokenType()==TokenType.IF) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:613:3
+            pushOntoCallStack(19, "/root/project/examples/legacy/Interpreter/SPL.javacc", 613, 3);
+            try {
+                IfStatement();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (nextTokenType()==TokenType.WHILE) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:615:3
+            pushOntoCallStack(19, "/root/project/examples/legacy/Interpreter/SPL.javacc", 615, 3);
+            try {
+                WhileStatement();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (nextTokenType()==TokenType.READ||nextTokenType==TokenType.WRITE) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:617:3
+            pushOntoCallStack(19, "/root/project/examples/legacy/Interpreter/SPL.javacc", 617, 3);
+            try {
+                IOStatement();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else {
+            pushOntoCallStack(19, "/root/project/examples/legacy/Interpreter/SPL.javacc", 605, 3);
+            throw new ParseException(this, Statement_FIRST_SET, parsingStack.toList());
+        }
+    }
+
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:620:1
+    final public void LabeledStatement() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 20;
+        // Code for RegexpRef specified at /root/project/examples/legacy/Interpreter/SPL.javacc:621:3
+        consumeToken(TokenType.IDENTIFIER);
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:621:16
+        consumeToken(TokenType._TOKEN_33);
+        // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:621:20
+        pushOntoCallStack(20, "/root/project/examples/legacy/Interpreter/SPL.javacc", 621, 20);
+        try {
+            Statement();
+        }
+        finally {
+            popCallStack();
+        }
+    }
+
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:635:1
+    final public void Block() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 21;
+        Block Block27 = null;
+        if (buildTree) {
+            Block27 = new Block();
+            openNodeScope(Block27);
+        }
+        ParseException parseException648 = null;
+        int callStackSize649 = parsingStack.size();
+        try {
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:636:3
+            consumeToken(TokenType._TOKEN_34);
+            // Code for ZeroOrMore specified at /root/project/examples/legacy/Interpreter/SPL.javacc:636:7
+            while (true) {
+                if (!((first_set$SPL_javacc$636$9_MASK&(1L<<nextTokenType().ordinal()))!=0)) break;
+                // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:636:9
+                pushOntoCallStack(21, "/root/project/examples/legacy/Interpreter/SPL.javacc", 636, 9);
+                try {
+                    Statement();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:636:22
+            consumeToken(TokenType._TOKEN_35);
+        }
+        catch(ParseException e) {
+            parseException648 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize649);
+            if (Block27!=null) {
+                if (parseException648==null) {
+                    closeNodeScope(Block27, true);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:647:1
+    final public void StatementExpression() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 22;
+        StatementExpression StatementExpression28 = null;
+        if (buildTree) {
+            StatementExpression28 = new StatementExpression();
+            openNodeScope(StatementExpression28);
+        }
+        ParseException parseException672 = null;
+        int callStackSize673 = parsingStack.size();
+        try {
+            // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:652:3
+            pushOntoCallStack(22, "/root/project/examples/legacy/Interpreter/SPL.javacc", 652, 3);
+            try {
+                Assignment();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:652:14
+            consumeToken(TokenType._TOKEN_9);
+        }
+        catch(ParseException e) {
+            parseException672 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize673);
+            if (StatementExpression28!=null) {
+                if (parseException672==null) {
+                    closeNodeScope(StatementExpression28, true);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:671:1
+    final public void IfStatement() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 23;
+        IfStatement IfStatement29 = null;
+        if (buildTree) {
+            IfStatement29 = new IfStatement();
+            openNodeScope(IfStatement29);
+        }
+        ParseException parseException684 = null;
+        int callStackSize685 = parsingStack.size();
+        try {
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:677:3
+            consumeToken(TokenType.IF);
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:677:8
+            consumeToken(TokenType._TOKEN_29);
+            // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:677:12
+            pushOntoCallStack(23, "/root/project/examples/legacy/Interpreter/SPL.javacc", 677, 12);
+            try {
+                Expression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:677:23
+            consumeToken(TokenType._TOKEN_30);
+            // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:677:27
+            pushOntoCallStack(23, "/root/project/examples/legacy/Interpreter/SPL.javacc", 677, 27);
+            try {
+                Statement();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrOne specified at /root/project/examples/legacy/Interpreter/SPL.javacc:677:37
+            if (nextTokenType()==TokenType.ELSE) {
+                // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:677:39
+                consumeToken(TokenType.ELSE);
+                // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:677:46
+                pushOntoCallStack(23, "/root/project/examples/legacy/Interpreter/SPL.javacc", 677, 46);
+                try {
+                    Statement();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException684 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize685);
+            if (IfStatement29!=null) {
+                if (parseException684==null) {
+                    closeNodeScope(IfStatement29, true);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:699:1
+    final public void WhileStatement() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 24;
+        WhileStatement WhileStatement30 = null;
+        if (buildTree) {
+            WhileStatement30 = new WhileStatement();
+            openNodeScope(WhileStatement30);
+        }
+        ParseException parseException724 = null;
+        int callStackSize725 = parsingStack.size();
+        try {
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:700:3
+            consumeToken(TokenType.WHILE);
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:700:11
+            consumeToken(TokenType._TOKEN_29);
+            // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:700:15
+            pushOntoCallStack(24, "/root/project/examples/legacy/Interpreter/SPL.javacc", 700, 15);
+            try {
+                Expression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:700:26
+            consumeToken(TokenType._TOKEN_30);
+            // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:700:30
+            pushOntoCallStack(24, "/root/project/examples/legacy/Interpreter/SPL.javacc", 700, 30);
+            try {
+                Statement();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        catch(ParseException e) {
+            parseException724 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize725);
+            if (WhileStatement30!=null) {
+                if (parseException724==null) {
+                    closeNodeScope(WhileStatement30, true);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final EnumSet<TokenType> IOStatement_FIRST_SET = EnumSet.of(TokenType.READ, TokenType.WRITE);
+
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:703:1
+    final public void IOStatement() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 25;
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/Interpreter/SPL.javacc:703:23
+        if (nextTokenType()==TokenType.READ) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:703:23
+            pushOntoCallStack(25, "/root/project/examples/legacy/Interpreter/SPL.javacc", 703, 23);
+            try {
+                ReadStatement();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (nextTokenType()==TokenType.WRITE) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:703:39
+            pushOntoCallStack(25, "/root/project/examples/legacy/Interpreter/SPL.javacc", 703, 39);
+            try {
+                WriteStatement();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else {
+            pushOntoCallStack(25, "/root/project/examples/legacy/Interpreter/SPL.javacc", 703, 23);
+            throw new ParseException(this, IOStatement_FIRST_SET, parsingStack.toList());
+        }
+    }
+
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:758:1
+    final public void ReadStatement() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 26;
+        ReadStatement ReadStatement31 = null;
+        if (buildTree) {
+            ReadStatement31 = new ReadStatement();
+            openNodeScope(ReadStatement31);
+        }
+        Token t;
+        ParseException parseException768 = null;
+        int callStackSize769 = parsingStack.size();
+        try {
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:760:4
+            consumeToken(TokenType.READ);
+            // Code for RegexpRef specified at /root/project/examples/legacy/Interpreter/SPL.javacc:760:15
+            t = consumeToken(TokenType.IDENTIFIER);
+            // Code for CodeBlock specified at /root/project/examples/legacy/Interpreter/SPL.javacc:761:4
+            ReadStatement31.name = t.getImage();
+        }
+        catch(ParseException e) {
+            parseException768 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize769);
+            if (ReadStatement31!=null) {
+                if (parseException768==null) {
+                    closeNodeScope(ReadStatement31, true);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:764:1
+    final public void WriteStatement() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 27;
+        WriteStatement WriteStatement32 = null;
+        if (buildTree) {
+            WriteStatement32 = new WriteStatement();
+            openNodeScope(WriteStatement32);
+        }
+        Token t;
+        ParseException parseException784 = null;
+        int callStackSize785 = parsingStack.size();
+        try {
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:766:4
+            consumeToken(TokenType.WRITE);
+            // Code for RegexpRef specified at /root/project/examples/legacy/Interpreter/SPL.javacc:766:16
+            t = consumeToken(TokenType.IDENTIFIER);
+            // Code for CodeBlock specified at /root/project/examples/legacy/Interpreter/SPL.javacc:767:4
+            WriteStatement32.name = t.getImage();
+        }
+        catch(ParseException e) {
+            parseException784 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize785);
+            if (WriteStatement32!=null) {
+                if (parseException784==null) {
+                    closeNodeScope(WriteStatement32, true);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final long first_set$SPL_javacc$182$8_MASK = 0x3d5a0000300L;
+    static private final EnumSet<TokenType> first_set$SPL_javacc$206$5 = EnumSet.of(TokenType.INT, TokenType.BOOL);
+    static private final long first_set$SPL_javacc$221$3_MASK = 0x201b8000100L;
+    static private final long first_set$SPL_javacc$503$3_MASK = 0x201a0000100L;
+    static private final long first_set$SPL_javacc$611$3_MASK = 0x201a0000100L;
+    static private final long first_set$SPL_javacc$636$9_MASK = 0x3d5a0000300L;
+
+    private final boolean scanToken(TokenType type1) {
+        Token peekedToken = nextToken(currentLookaheadToken);
+        TokenType type = peekedToken.getType();
+        if (type!=type1) return false;
+        --remainingLookahead;
+        currentLookaheadToken = peekedToken;
+        return true;
+    }
+
+    private final boolean scanToken(TokenType type1, TokenType type2) {
+        Token peekedToken = nextToken(currentLookaheadToken);
+        TokenType type = peekedToken.getType();
+        if (type!=type1&&type!=type2) return false;
+        --remainingLookahead;
+        currentLookaheadToken = peekedToken;
+        return true;
+    }
+
+    private final boolean scanToken(TokenType type1, TokenType type2, TokenType type3) {
+        Token peekedToken = nextToken(currentLookaheadToken);
+        TokenType type = peekedToken.getType();
+        if (type!=type1&&type!=type2&&type!=type3) return false;
+        --remainingLookahead;
+        currentLookaheadToken = peekedToken;
+        return true;
+    }
+
+    private final boolean scanToken(TokenType type1, TokenType type2, TokenType type3, TokenType type4) {
+        Token peekedToken = nextToken(currentLookaheadToken);
+        TokenType type = peekedToken.getType();
+        if (type!=type1&&type!=type2&&type!=type3&&type!=type4) return false;
+        --remainingLookahead;
+        currentLookaheadToken = peekedToken;
+        return true;
+    }
+
+    private final boolean scanToken(TokenType expectedType, TokenType...additionalTypes) {
+        Token peekedToken = nextToken(currentLookaheadToken);
+        TokenType type = peekedToken.getType();
+        if (type!=expectedType) {
+            boolean matched = false;
+            for (TokenType tt : additionalTypes) {
+                if (type==tt) {
+                    matched = true;
+                    break;
+                }
+            }
+            if (!matched) return false;
+        }
+        --remainingLookahead;
+        currentLookaheadToken = peekedToken;
+        return true;
+    }
+
+    private final boolean scanToken(long typeMask) {
+        Token peekedToken = nextToken(currentLookaheadToken);
+        int ordinal = peekedToken.getType().ordinal();
+        if (!((typeMask&(1L<<ordinal))!=0)) return false;
+        --remainingLookahead;
+        currentLookaheadToken = peekedToken;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:219:3
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$219$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-2147483647;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            if (remainingLookahead<=0) {
+                passedPredicate = true;
+                return!hitFailure;
+            }
+            if (!check$SPL_javacc$219$8(true)) return false;
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:219:33
+            // NonTerminal Assignment at /root/project/examples/legacy/Interpreter/SPL.javacc:219:33
+            pushOntoLookaheadStack(2, "/root/project/examples/legacy/Interpreter/SPL.javacc", 219, 33);
+            currentLookaheadProduction = 3;
+            try {
+                if (!check$Assignment(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:221:3
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$221$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:221:3
+            // NonTerminal ConditionalOrExpression at /root/project/examples/legacy/Interpreter/SPL.javacc:221:3
+            pushOntoLookaheadStack(2, "/root/project/examples/legacy/Interpreter/SPL.javacc", 221, 3);
+            currentLookaheadProduction = 4;
+            try {
+                if (!check$ConditionalOrExpression(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:238:5
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$238$5(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:238:5
+            if (!scanToken(TokenType._TOKEN_11)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:238:10
+            // NonTerminal ConditionalAndExpression at /root/project/examples/legacy/Interpreter/SPL.javacc:238:10
+            pushOntoLookaheadStack(4, "/root/project/examples/legacy/Interpreter/SPL.javacc", 238, 10);
+            currentLookaheadProduction = 5;
+            try {
+                if (!check$ConditionalAndExpression(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:259:5
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$259$5(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:259:5
+            if (!scanToken(TokenType._TOKEN_12)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:259:10
+            // NonTerminal InclusiveOrExpression at /root/project/examples/legacy/Interpreter/SPL.javacc:259:10
+            pushOntoLookaheadStack(5, "/root/project/examples/legacy/Interpreter/SPL.javacc", 259, 10);
+            currentLookaheadProduction = 6;
+            try {
+                if (!check$InclusiveOrExpression(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:279:5
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$279$5(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:279:5
+            if (!scanToken(TokenType._TOKEN_13)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:279:9
+            // NonTerminal ExclusiveOrExpression at /root/project/examples/legacy/Interpreter/SPL.javacc:279:9
+            pushOntoLookaheadStack(6, "/root/project/examples/legacy/Interpreter/SPL.javacc", 279, 9);
+            currentLookaheadProduction = 7;
+            try {
+                if (!check$ExclusiveOrExpression(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:300:5
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$300$5(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:300:5
+            if (!scanToken(TokenType._TOKEN_14)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:300:9
+            // NonTerminal AndExpression at /root/project/examples/legacy/Interpreter/SPL.javacc:300:9
+            pushOntoLookaheadStack(7, "/root/project/examples/legacy/Interpreter/SPL.javacc", 300, 9);
+            currentLookaheadProduction = 8;
+            try {
+                if (!check$AndExpression(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:323:5
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$323$5(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:323:5
+            if (!scanToken(TokenType._TOKEN_15)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:323:9
+            // NonTerminal EqualityExpression at /root/project/examples/legacy/Interpreter/SPL.javacc:323:9
+            pushOntoLookaheadStack(8, "/root/project/examples/legacy/Interpreter/SPL.javacc", 323, 9);
+            currentLookaheadProduction = 9;
+            try {
+                if (!check$EqualityExpression(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:345:6
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$345$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for ExpansionChoice specified at /root/project/examples/legacy/Interpreter/SPL.javacc:345:6
+            Token token826 = currentLookaheadToken;
+            int remainingLookahead826 = remainingLookahead;
+            boolean hitFailure826 = hitFailure, passedPredicate826 = passedPredicate;
+            try {
+                passedPredicate = false;
+                if (!check$SPL_javacc$345$6$(false)) {
+                    currentLookaheadToken = token826;
+                    remainingLookahead = remainingLookahead826;
+                    hitFailure = hitFailure826;
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    passedPredicate = false;
+                    if (!check$SPL_javacc$347$6(false)) {
+                        currentLookaheadToken = token826;
+                        remainingLookahead = remainingLookahead826;
+                        hitFailure = hitFailure826;
+                        return false;
+                    }
+                }
+            }
+            finally {
+                passedPredicate = passedPredicate826;
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:345:6
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$345$6$(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:345:6
+            if (!scanToken(TokenType._TOKEN_16)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:345:11
+            // NonTerminal RelationalExpression at /root/project/examples/legacy/Interpreter/SPL.javacc:345:11
+            pushOntoLookaheadStack(9, "/root/project/examples/legacy/Interpreter/SPL.javacc", 345, 11);
+            currentLookaheadProduction = 10;
+            try {
+                if (!check$RelationalExpression(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:347:6
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$347$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:347:6
+            if (!scanToken(TokenType._TOKEN_17)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:347:11
+            // NonTerminal RelationalExpression at /root/project/examples/legacy/Interpreter/SPL.javacc:347:11
+            pushOntoLookaheadStack(9, "/root/project/examples/legacy/Interpreter/SPL.javacc", 347, 11);
+            currentLookaheadProduction = 10;
+            try {
+                if (!check$RelationalExpression(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:380:5
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$380$5(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for ExpansionChoice specified at /root/project/examples/legacy/Interpreter/SPL.javacc:380:5
+            Token token834 = currentLookaheadToken;
+            int remainingLookahead834 = remainingLookahead;
+            boolean hitFailure834 = hitFailure, passedPredicate834 = passedPredicate;
+            try {
+                passedPredicate = false;
+                if (!check$SPL_javacc$380$5$(false)) {
+                    currentLookaheadToken = token834;
+                    remainingLookahead = remainingLookahead834;
+                    hitFailure = hitFailure834;
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    passedPredicate = false;
+                    if (!check$SPL_javacc$382$5(false)) {
+                        currentLookaheadToken = token834;
+                        remainingLookahead = remainingLookahead834;
+                        hitFailure = hitFailure834;
+                        if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                        passedPredicate = false;
+                        if (!check$SPL_javacc$384$5(false)) {
+                            currentLookaheadToken = token834;
+                            remainingLookahead = remainingLookahead834;
+                            hitFailure = hitFailure834;
+                            if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                            passedPredicate = false;
+                            if (!check$SPL_javacc$386$5(false)) {
+                                currentLookaheadToken = token834;
+                                remainingLookahead = remainingLookahead834;
+                                hitFailure = hitFailure834;
+                                return false;
+                            }
+                        }
+                    }
+                }
+            }
+            finally {
+                passedPredicate = passedPredicate834;
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:380:5
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$380$5$(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:380:5
+            if (!scanToken(TokenType._TOKEN_18)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:380:9
+            // NonTerminal AdditiveExpression at /root/project/examples/legacy/Interpreter/SPL.javacc:380:9
+            pushOntoLookaheadStack(10, "/root/project/examples/legacy/Interpreter/SPL.javacc", 380, 9);
+            currentLookaheadProduction = 11;
+            try {
+                if (!check$AdditiveExpression(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:382:5
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$382$5(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:382:5
+            if (!scanToken(TokenType._TOKEN_19)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:382:9
+            // NonTerminal AdditiveExpression at /root/project/examples/legacy/Interpreter/SPL.javacc:382:9
+            pushOntoLookaheadStack(10, "/root/project/examples/legacy/Interpreter/SPL.javacc", 382, 9);
+            currentLookaheadProduction = 11;
+            try {
+                if (!check$AdditiveExpression(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:384:5
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$384$5(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:384:5
+            if (!scanToken(TokenType._TOKEN_20)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:384:10
+            // NonTerminal AdditiveExpression at /root/project/examples/legacy/Interpreter/SPL.javacc:384:10
+            pushOntoLookaheadStack(10, "/root/project/examples/legacy/Interpreter/SPL.javacc", 384, 10);
+            currentLookaheadProduction = 11;
+            try {
+                if (!check$AdditiveExpression(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:386:5
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$386$5(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:386:5
+            if (!scanToken(TokenType._TOKEN_21)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:386:10
+            // NonTerminal AdditiveExpression at /root/project/examples/legacy/Interpreter/SPL.javacc:386:10
+            pushOntoLookaheadStack(10, "/root/project/examples/legacy/Interpreter/SPL.javacc", 386, 10);
+            currentLookaheadProduction = 11;
+            try {
+                if (!check$AdditiveExpression(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:434:5
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$434$5(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for ExpansionChoice specified at /root/project/examples/legacy/Interpreter/SPL.javacc:434:5
+            Token token848 = currentLookaheadToken;
+            int remainingLookahead848 = remainingLookahead;
+            boolean hitFailure848 = hitFailure, passedPredicate848 = passedPredicate;
+            try {
+                passedPredicate = false;
+                if (!check$SPL_javacc$434$5$(false)) {
+                    currentLookaheadToken = token848;
+                    remainingLookahead = remainingLookahead848;
+                    hitFailure = hitFailure848;
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    passedPredicate = false;
+                    if (!check$SPL_javacc$436$5(false)) {
+                        currentLookaheadToken = token848;
+                        remainingLookahead = remainingLookahead848;
+                        hitFailure = hitFailure848;
+                        return false;
+                    }
+                }
+            }
+            finally {
+                passedPredicate = passedPredicate848;
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:434:5
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$434$5$(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:434:5
+            if (!scanToken(TokenType._TOKEN_22)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:434:9
+            // NonTerminal MultiplicativeExpression at /root/project/examples/legacy/Interpreter/SPL.javacc:434:9
+            pushOntoLookaheadStack(11, "/root/project/examples/legacy/Interpreter/SPL.javacc", 434, 9);
+            currentLookaheadProduction = 12;
+            try {
+                if (!check$MultiplicativeExpression(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:436:5
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$436$5(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:436:5
+            if (!scanToken(TokenType._TOKEN_23)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:436:9
+            // NonTerminal MultiplicativeExpression at /root/project/examples/legacy/Interpreter/SPL.javacc:436:9
+            pushOntoLookaheadStack(11, "/root/project/examples/legacy/Interpreter/SPL.javacc", 436, 9);
+            currentLookaheadProduction = 12;
+            try {
+                if (!check$MultiplicativeExpression(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:462:5
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$462$5(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for ExpansionChoice specified at /root/project/examples/legacy/Interpreter/SPL.javacc:462:5
+            Token token856 = currentLookaheadToken;
+            int remainingLookahead856 = remainingLookahead;
+            boolean hitFailure856 = hitFailure, passedPredicate856 = passedPredicate;
+            try {
+                passedPredicate = false;
+                if (!check$SPL_javacc$462$5$(false)) {
+                    currentLookaheadToken = token856;
+                    remainingLookahead = remainingLookahead856;
+                    hitFailure = hitFailure856;
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    passedPredicate = false;
+                    if (!check$SPL_javacc$464$5(false)) {
+                        currentLookaheadToken = token856;
+                        remainingLookahead = remainingLookahead856;
+                        hitFailure = hitFailure856;
+                        if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                        passedPredicate = false;
+                        if (!check$SPL_javacc$466$5(false)) {
+                            currentLookaheadToken = token856;
+                            remainingLookahead = remainingLookahead856;
+                            hitFailure = hitFailure856;
+                            return false;
+                        }
+                    }
+                }
+            }
+            finally {
+                passedPredicate = passedPredicate856;
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:462:5
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$462$5$(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:462:5
+            if (!scanToken(TokenType._TOKEN_24)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:462:9
+            // NonTerminal UnaryExpression at /root/project/examples/legacy/Interpreter/SPL.javacc:462:9
+            pushOntoLookaheadStack(12, "/root/project/examples/legacy/Interpreter/SPL.javacc", 462, 9);
+            currentLookaheadProduction = 13;
+            try {
+                if (!check$UnaryExpression(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:464:5
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$464$5(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:464:5
+            if (!scanToken(TokenType._TOKEN_25)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:464:9
+            // NonTerminal UnaryExpression at /root/project/examples/legacy/Interpreter/SPL.javacc:464:9
+            pushOntoLookaheadStack(12, "/root/project/examples/legacy/Interpreter/SPL.javacc", 464, 9);
+            currentLookaheadProduction = 13;
+            try {
+                if (!check$UnaryExpression(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:466:5
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$466$5(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:466:5
+            if (!scanToken(TokenType._TOKEN_26)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:466:9
+            // NonTerminal UnaryExpression at /root/project/examples/legacy/Interpreter/SPL.javacc:466:9
+            pushOntoLookaheadStack(12, "/root/project/examples/legacy/Interpreter/SPL.javacc", 466, 9);
+            currentLookaheadProduction = 13;
+            try {
+                if (!check$UnaryExpression(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:499:3
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$499$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:499:3
+            if (!scanToken(TokenType._TOKEN_27)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:499:7
+            // NonTerminal UnaryExpression at /root/project/examples/legacy/Interpreter/SPL.javacc:499:7
+            pushOntoLookaheadStack(13, "/root/project/examples/legacy/Interpreter/SPL.javacc", 499, 7);
+            currentLookaheadProduction = 13;
+            try {
+                if (!check$UnaryExpression(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:501:3
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$501$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:501:3
+            if (!scanToken(TokenType._TOKEN_28)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:501:7
+            // NonTerminal UnaryExpression at /root/project/examples/legacy/Interpreter/SPL.javacc:501:7
+            pushOntoLookaheadStack(13, "/root/project/examples/legacy/Interpreter/SPL.javacc", 501, 7);
+            currentLookaheadProduction = 13;
+            try {
+                if (!check$UnaryExpression(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:503:3
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$503$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:503:3
+            // NonTerminal PrimaryExpression at /root/project/examples/legacy/Interpreter/SPL.javacc:503:3
+            pushOntoLookaheadStack(13, "/root/project/examples/legacy/Interpreter/SPL.javacc", 503, 3);
+            currentLookaheadProduction = 14;
+            try {
+                if (!check$PrimaryExpression(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:532:3
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$532$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:532:3
+            // NonTerminal ParentheticalExpression at /root/project/examples/legacy/Interpreter/SPL.javacc:532:3
+            pushOntoLookaheadStack(14, "/root/project/examples/legacy/Interpreter/SPL.javacc", 532, 3);
+            currentLookaheadProduction = 15;
+            try {
+                if (!check$ParentheticalExpression(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:607:3
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$607$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:607:13
+            // NonTerminal LabeledStatement at /root/project/examples/legacy/Interpreter/SPL.javacc:607:13
+            pushOntoLookaheadStack(19, "/root/project/examples/legacy/Interpreter/SPL.javacc", 607, 13);
+            currentLookaheadProduction = 20;
+            try {
+                if (!check$LabeledStatement(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:609:3
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$609$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:609:3
+            // NonTerminal Block at /root/project/examples/legacy/Interpreter/SPL.javacc:609:3
+            pushOntoLookaheadStack(19, "/root/project/examples/legacy/Interpreter/SPL.javacc", 609, 3);
+            currentLookaheadProduction = 21;
+            try {
+                if (!check$Block(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:611:3
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$611$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:611:3
+            // NonTerminal StatementExpression at /root/project/examples/legacy/Interpreter/SPL.javacc:611:3
+            pushOntoLookaheadStack(19, "/root/project/examples/legacy/Interpreter/SPL.javacc", 611, 3);
+            currentLookaheadProduction = 22;
+            try {
+                if (!check$StatementExpression(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:613:3
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$613$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:613:3
+            // NonTerminal IfStatement at /root/project/examples/legacy/Interpreter/SPL.javacc:613:3
+            pushOntoLookaheadStack(19, "/root/project/examples/legacy/Interpreter/SPL.javacc", 613, 3);
+            currentLookaheadProduction = 23;
+            try {
+                if (!check$IfStatement(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:615:3
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$615$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:615:3
+            // NonTerminal WhileStatement at /root/project/examples/legacy/Interpreter/SPL.javacc:615:3
+            pushOntoLookaheadStack(19, "/root/project/examples/legacy/Interpreter/SPL.javacc", 615, 3);
+            currentLookaheadProduction = 24;
+            try {
+                if (!check$WhileStatement(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:617:3
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$617$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:617:3
+            // NonTerminal IOStatement at /root/project/examples/legacy/Interpreter/SPL.javacc:617:3
+            pushOntoLookaheadStack(19, "/root/project/examples/legacy/Interpreter/SPL.javacc", 617, 3);
+            currentLookaheadProduction = 25;
+            try {
+                if (!check$IOStatement(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:636:9
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$636$9(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:636:9
+            // NonTerminal Statement at /root/project/examples/legacy/Interpreter/SPL.javacc:636:9
+            pushOntoLookaheadStack(21, "/root/project/examples/legacy/Interpreter/SPL.javacc", 636, 9);
+            currentLookaheadProduction = 19;
+            try {
+                if (!check$Statement(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:677:39
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$677$39(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:677:39
+            if (!scanToken(TokenType.ELSE)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:677:46
+            // NonTerminal Statement at /root/project/examples/legacy/Interpreter/SPL.javacc:677:46
+            pushOntoLookaheadStack(23, "/root/project/examples/legacy/Interpreter/SPL.javacc", 677, 46);
+            currentLookaheadProduction = 19;
+            try {
+                if (!check$Statement(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:703:23
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$703$23(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:703:23
+            // NonTerminal ReadStatement at /root/project/examples/legacy/Interpreter/SPL.javacc:703:23
+            pushOntoLookaheadStack(25, "/root/project/examples/legacy/Interpreter/SPL.javacc", 703, 23);
+            currentLookaheadProduction = 26;
+            try {
+                if (!check$ReadStatement(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at: 
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:703:39
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$703$39(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead-1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:703:39
+            // NonTerminal WriteStatement at /root/project/examples/legacy/Interpreter/SPL.javacc:703:39
+            pushOntoLookaheadStack(25, "/root/project/examples/legacy/Interpreter/SPL.javacc", 703, 39);
+            currentLookaheadProduction = 27;
+            try {
+                if (!check$WriteStatement(false)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$&&remainingLookahead<=passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/legacy/Interpreter/SPL.javacc:219:3
+    private final boolean scan$SPL_javacc$219$3() {
+        remainingLookahead = UNLIMITED;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            if (remainingLookahead<=0) {
+                passedPredicate = true;
+                return!hitFailure;
+            }
+            if (!check$SPL_javacc$219$8(true)) return false;
+            // End BuildPredicateCode macro
+            return true;
+        }
+        finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/legacy/Interpreter/SPL.javacc:607:3
+    private final boolean scan$SPL_javacc$607$3() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:607:13
+            // NonTerminal LabeledStatement at /root/project/examples/legacy/Interpreter/SPL.javacc:607:13
+            pushOntoLookaheadStack(19, "/root/project/examples/legacy/Interpreter/SPL.javacc", 607, 13);
+            currentLookaheadProduction = 20;
+            try {
+                if (!check$LabeledStatement(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+            return true;
+        }
+        finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // lookahead routine for lookahead at: 
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:219:3
+    private final boolean check$SPL_javacc$219$8(boolean scanToEnd) {
+        int prevRemainingLookahead = remainingLookahead;
+        boolean prevHitFailure = hitFailure;
+        Token prevScanAheadToken = currentLookaheadToken;
+        try {
+            lookaheadRoutineNesting++;
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:219:8
+            // NonTerminal PrimaryExpression at /root/project/examples/legacy/Interpreter/SPL.javacc:219:8
+            pushOntoLookaheadStack(2, "/root/project/examples/legacy/Interpreter/SPL.javacc", 219, 8);
+            currentLookaheadProduction = 14;
+            try {
+                if (!check$PrimaryExpression(true)) return false;
+            }
+            finally {
+                popLookaheadStack();
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead<=0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:219:26
+            if (!scanToken(TokenType._TOKEN_10)) return false;
+            return!hitFailure;
+        }
+        finally {
+            lookaheadRoutineNesting--;
+            currentLookaheadToken = prevScanAheadToken;
+            remainingLookahead = prevRemainingLookahead;
+            hitFailure = prevHitFailure;
+        }
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$Expression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/legacy/Interpreter/SPL.javacc:219:3
+        Token token913 = currentLookaheadToken;
+        int remainingLookahead913 = remainingLookahead;
+        boolean hitFailure913 = hitFailure, passedPredicate913 = passedPredicate;
+        try {
+            passedPredicate = false;
+            if (!check$SPL_javacc$219$3(false)) {
+                currentLookaheadToken = token913;
+                remainingLookahead = remainingLookahead913;
+                hitFailure = hitFailure913;
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                passedPredicate = false;
+                if (!check$SPL_javacc$221$3(false)) {
+                    currentLookaheadToken = token913;
+                    remainingLookahead = remainingLookahead913;
+                    hitFailure = hitFailure913;
+                    return false;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate913;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$Assignment(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:234:29
+        // NonTerminal PrimaryExpression at /root/project/examples/legacy/Interpreter/SPL.javacc:234:29
+        pushOntoLookaheadStack(3, "/root/project/examples/legacy/Interpreter/SPL.javacc", 234, 29);
+        currentLookaheadProduction = 14;
+        try {
+            if (!check$PrimaryExpression(false)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:234:47
+        if (!scanToken(TokenType._TOKEN_10)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:234:51
+        // NonTerminal Expression at /root/project/examples/legacy/Interpreter/SPL.javacc:234:51
+        pushOntoLookaheadStack(3, "/root/project/examples/legacy/Interpreter/SPL.javacc", 234, 51);
+        currentLookaheadProduction = 2;
+        try {
+            if (!check$Expression(true)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$ConditionalOrExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:237:3
+        // NonTerminal ConditionalAndExpression at /root/project/examples/legacy/Interpreter/SPL.javacc:237:3
+        pushOntoLookaheadStack(4, "/root/project/examples/legacy/Interpreter/SPL.javacc", 237, 3);
+        currentLookaheadProduction = 5;
+        try {
+            if (!check$ConditionalAndExpression(false)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/legacy/Interpreter/SPL.javacc:238:3
+        boolean passedPredicate921 = passedPredicate;
+        try {
+            while (remainingLookahead > 0&&!hitFailure) {
+                Token token922 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$SPL_javacc$238$5(false)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token922;
+                    break;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate921;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$ConditionalAndExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:258:3
+        // NonTerminal InclusiveOrExpression at /root/project/examples/legacy/Interpreter/SPL.javacc:258:3
+        pushOntoLookaheadStack(5, "/root/project/examples/legacy/Interpreter/SPL.javacc", 258, 3);
+        currentLookaheadProduction = 6;
+        try {
+            if (!check$InclusiveOrExpression(false)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/legacy/Interpreter/SPL.javacc:259:3
+        boolean passedPredicate926 = passedPredicate;
+        try {
+            while (remainingLookahead > 0&&!hitFailure) {
+                Token token927 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$SPL_javacc$259$5(false)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token927;
+                    break;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate926;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$InclusiveOrExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:278:3
+        // NonTerminal ExclusiveOrExpression at /root/project/examples/legacy/Interpreter/SPL.javacc:278:3
+        pushOntoLookaheadStack(6, "/root/project/examples/legacy/Interpreter/SPL.javacc", 278, 3);
+        currentLookaheadProduction = 7;
+        try {
+            if (!check$ExclusiveOrExpression(false)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/legacy/Interpreter/SPL.javacc:279:3
+        boolean passedPredicate931 = passedPredicate;
+        try {
+            while (remainingLookahead > 0&&!hitFailure) {
+                Token token932 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$SPL_javacc$279$5(false)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token932;
+                    break;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate931;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$ExclusiveOrExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:299:3
+        // NonTerminal AndExpression at /root/project/examples/legacy/Interpreter/SPL.javacc:299:3
+        pushOntoLookaheadStack(7, "/root/project/examples/legacy/Interpreter/SPL.javacc", 299, 3);
+        currentLookaheadProduction = 8;
+        try {
+            if (!check$AndExpression(false)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/legacy/Interpreter/SPL.javacc:300:3
+        boolean passedPredicate936 = passedPredicate;
+        try {
+            while (remainingLookahead > 0&&!hitFailure) {
+                Token token937 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$SPL_javacc$300$5(false)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token937;
+                    break;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate936;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$AndExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:322:3
+        // NonTerminal EqualityExpression at /root/project/examples/legacy/Interpreter/SPL.javacc:322:3
+        pushOntoLookaheadStack(8, "/root/project/examples/legacy/Interpreter/SPL.javacc", 322, 3);
+        currentLookaheadProduction = 9;
+        try {
+            if (!check$EqualityExpression(false)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/legacy/Interpreter/SPL.javacc:323:3
+        boolean passedPredicate941 = passedPredicate;
+        try {
+            while (remainingLookahead > 0&&!hitFailure) {
+                Token token942 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$SPL_javacc$323$5(false)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token942;
+                    break;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate941;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$EqualityExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:343:3
+        // NonTerminal RelationalExpression at /root/project/examples/legacy/Interpreter/SPL.javacc:343:3
+        pushOntoLookaheadStack(9, "/root/project/examples/legacy/Interpreter/SPL.javacc", 343, 3);
+        currentLookaheadProduction = 10;
+        try {
+            if (!check$RelationalExpression(false)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/legacy/Interpreter/SPL.javacc:344:3
+        boolean passedPredicate946 = passedPredicate;
+        try {
+            while (remainingLookahead > 0&&!hitFailure) {
+                Token token947 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$SPL_javacc$345$6(false)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token947;
+                    break;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate946;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$RelationalExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:378:3
+        // NonTerminal AdditiveExpression at /root/project/examples/legacy/Interpreter/SPL.javacc:378:3
+        pushOntoLookaheadStack(10, "/root/project/examples/legacy/Interpreter/SPL.javacc", 378, 3);
+        currentLookaheadProduction = 11;
+        try {
+            if (!check$AdditiveExpression(false)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/legacy/Interpreter/SPL.javacc:379:3
+        boolean passedPredicate951 = passedPredicate;
+        try {
+            while (remainingLookahead > 0&&!hitFailure) {
+                Token token952 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$SPL_javacc$380$5(false)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token952;
+                    break;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate951;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$AdditiveExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:432:3
+        // NonTerminal MultiplicativeExpression at /root/project/examples/legacy/Interpreter/SPL.javacc:432:3
+        pushOntoLookaheadStack(11, "/root/project/examples/legacy/Interpreter/SPL.javacc", 432, 3);
+        currentLookaheadProduction = 12;
+        try {
+            if (!check$MultiplicativeExpression(false)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/legacy/Interpreter/SPL.javacc:433:3
+        boolean passedPredicate956 = passedPredicate;
+        try {
+            while (remainingLookahead > 0&&!hitFailure) {
+                Token token957 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$SPL_javacc$434$5(false)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token957;
+                    break;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate956;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$MultiplicativeExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:460:3
+        // NonTerminal UnaryExpression at /root/project/examples/legacy/Interpreter/SPL.javacc:460:3
+        pushOntoLookaheadStack(12, "/root/project/examples/legacy/Interpreter/SPL.javacc", 460, 3);
+        currentLookaheadProduction = 13;
+        try {
+            if (!check$UnaryExpression(false)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/legacy/Interpreter/SPL.javacc:461:3
+        boolean passedPredicate961 = passedPredicate;
+        try {
+            while (remainingLookahead > 0&&!hitFailure) {
+                Token token962 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$SPL_javacc$462$5(false)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token962;
+                    break;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate961;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$UnaryExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/legacy/Interpreter/SPL.javacc:499:3
+        Token token964 = currentLookaheadToken;
+        int remainingLookahead964 = remainingLookahead;
+        boolean hitFailure964 = hitFailure, passedPredicate964 = passedPredicate;
+        try {
+            passedPredicate = false;
+            if (!check$SPL_javacc$499$3(false)) {
+                currentLookaheadToken = token964;
+                remainingLookahead = remainingLookahead964;
+                hitFailure = hitFailure964;
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                passedPredicate = false;
+                if (!check$SPL_javacc$501$3(false)) {
+                    currentLookaheadToken = token964;
+                    remainingLookahead = remainingLookahead964;
+                    hitFailure = hitFailure964;
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    passedPredicate = false;
+                    if (!check$SPL_javacc$503$3(false)) {
+                        currentLookaheadToken = token964;
+                        remainingLookahead = remainingLookahead964;
+                        hitFailure = hitFailure964;
+                        return false;
+                    }
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate964;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$PrimaryExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/legacy/Interpreter/SPL.javacc:528:3
+        Token token966 = currentLookaheadToken;
+        int remainingLookahead966 = remainingLookahead;
+        boolean hitFailure966 = hitFailure, passedPredicate966 = passedPredicate;
+        try {
+            passedPredicate = false;
+            if (!scanToken(TokenType.INTEGER_LITERAL, TokenType.TRUE, TokenType.FALSE)) {
+                currentLookaheadToken = token966;
+                remainingLookahead = remainingLookahead966;
+                hitFailure = hitFailure966;
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                passedPredicate = false;
+                if (!scanToken(TokenType.IDENTIFIER)) {
+                    currentLookaheadToken = token966;
+                    remainingLookahead = remainingLookahead966;
+                    hitFailure = hitFailure966;
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    passedPredicate = false;
+                    if (!check$SPL_javacc$532$3(false)) {
+                        currentLookaheadToken = token966;
+                        remainingLookahead = remainingLookahead966;
+                        hitFailure = hitFailure966;
+                        return false;
+                    }
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate966;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$ParentheticalExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:536:4
+        if (!scanToken(TokenType._TOKEN_29)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:536:8
+        // NonTerminal Expression at /root/project/examples/legacy/Interpreter/SPL.javacc:536:8
+        pushOntoLookaheadStack(15, "/root/project/examples/legacy/Interpreter/SPL.javacc", 536, 8);
+        currentLookaheadProduction = 2;
+        try {
+            if (!check$Expression(true)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:536:19
+        if (!scanToken(TokenType._TOKEN_30)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$Statement(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/legacy/Interpreter/SPL.javacc:605:3
+        Token token975 = currentLookaheadToken;
+        int remainingLookahead975 = remainingLookahead;
+        boolean hitFailure975 = hitFailure, passedPredicate975 = passedPredicate;
+        try {
+            passedPredicate = false;
+            if (!scanToken(TokenType._TOKEN_9)) {
+                currentLookaheadToken = token975;
+                remainingLookahead = remainingLookahead975;
+                hitFailure = hitFailure975;
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                passedPredicate = false;
+                if (!check$SPL_javacc$607$3(false)) {
+                    currentLookaheadToken = token975;
+                    remainingLookahead = remainingLookahead975;
+                    hitFailure = hitFailure975;
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    passedPredicate = false;
+                    if (!check$SPL_javacc$609$3(false)) {
+                        currentLookaheadToken = token975;
+                        remainingLookahead = remainingLookahead975;
+                        hitFailure = hitFailure975;
+                        if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                        passedPredicate = false;
+                        if (!check$SPL_javacc$611$3(false)) {
+                            currentLookaheadToken = token975;
+                            remainingLookahead = remainingLookahead975;
+                            hitFailure = hitFailure975;
+                            if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                            passedPredicate = false;
+                            if (!check$SPL_javacc$613$3(false)) {
+                                currentLookaheadToken = token975;
+                                remainingLookahead = remainingLookahead975;
+                                hitFailure = hitFailure975;
+                                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                                passedPredicate = false;
+                                if (!check$SPL_javacc$615$3(false)) {
+                                    currentLookaheadToken = token975;
+                                    remainingLookahead = remainingLookahead975;
+                                    hitFailure = hitFailure975;
+                                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                                    passedPredicate = false;
+                                    if (!check$SPL_javacc$617$3(false)) {
+                                        currentLookaheadToken = token975;
+                                        remainingLookahead = remainingLookahead975;
+                                        hitFailure = hitFailure975;
+                                        return false;
+                                    }
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate975;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$LabeledStatement(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/legacy/Interpreter/SPL.javacc:621:3
+        if (!scanToken(TokenType.IDENTIFIER)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:621:16
+        if (!scanToken(TokenType._TOKEN_33)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:621:20
+        // NonTerminal Statement at /root/project/examples/legacy/Interpreter/SPL.javacc:621:20
+        pushOntoLookaheadStack(20, "/root/project/examples/legacy/Interpreter/SPL.javacc", 621, 20);
+        currentLookaheadProduction = 19;
+        try {
+            if (!check$Statement(true)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$Block(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:636:3
+        if (!scanToken(TokenType._TOKEN_34)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/legacy/Interpreter/SPL.javacc:636:7
+        boolean passedPredicate983 = passedPredicate;
+        try {
+            while (remainingLookahead > 0&&!hitFailure) {
+                Token token984 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$SPL_javacc$636$9(false)) {
+                    if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token984;
+                    break;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate983;
+        }
+        hitFailure = false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:636:22
+        if (!scanToken(TokenType._TOKEN_35)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$StatementExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:652:3
+        // NonTerminal Assignment at /root/project/examples/legacy/Interpreter/SPL.javacc:652:3
+        pushOntoLookaheadStack(22, "/root/project/examples/legacy/Interpreter/SPL.javacc", 652, 3);
+        currentLookaheadProduction = 3;
+        try {
+            if (!check$Assignment(false)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:652:14
+        if (!scanToken(TokenType._TOKEN_9)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$IfStatement(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:677:3
+        if (!scanToken(TokenType.IF)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:677:8
+        if (!scanToken(TokenType._TOKEN_29)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:677:12
+        // NonTerminal Expression at /root/project/examples/legacy/Interpreter/SPL.javacc:677:12
+        pushOntoLookaheadStack(23, "/root/project/examples/legacy/Interpreter/SPL.javacc", 677, 12);
+        currentLookaheadProduction = 2;
+        try {
+            if (!check$Expression(true)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:677:23
+        if (!scanToken(TokenType._TOKEN_30)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:677:27
+        // NonTerminal Statement at /root/project/examples/legacy/Interpreter/SPL.javacc:677:27
+        pushOntoLookaheadStack(23, "/root/project/examples/legacy/Interpreter/SPL.javacc", 677, 27);
+        currentLookaheadProduction = 19;
+        try {
+            if (!check$Statement(true)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/legacy/Interpreter/SPL.javacc:677:37
+        Token token996 = currentLookaheadToken;
+        boolean passedPredicate996 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!check$SPL_javacc$677$39(false)) {
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token996;
+                hitFailure = false;
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate996;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$WhileStatement(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:700:3
+        if (!scanToken(TokenType.WHILE)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:700:11
+        if (!scanToken(TokenType._TOKEN_29)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:700:15
+        // NonTerminal Expression at /root/project/examples/legacy/Interpreter/SPL.javacc:700:15
+        pushOntoLookaheadStack(24, "/root/project/examples/legacy/Interpreter/SPL.javacc", 700, 15);
+        currentLookaheadProduction = 2;
+        try {
+            if (!check$Expression(true)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:700:26
+        if (!scanToken(TokenType._TOKEN_30)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:700:30
+        // NonTerminal Statement at /root/project/examples/legacy/Interpreter/SPL.javacc:700:30
+        pushOntoLookaheadStack(24, "/root/project/examples/legacy/Interpreter/SPL.javacc", 700, 30);
+        currentLookaheadProduction = 19;
+        try {
+            if (!check$Statement(true)) return false;
+        }
+        finally {
+            popLookaheadStack();
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$IOStatement(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/legacy/Interpreter/SPL.javacc:703:23
+        Token token1004 = currentLookaheadToken;
+        int remainingLookahead1004 = remainingLookahead;
+        boolean hitFailure1004 = hitFailure, passedPredicate1004 = passedPredicate;
+        try {
+            passedPredicate = false;
+            if (!check$SPL_javacc$703$23(false)) {
+                currentLookaheadToken = token1004;
+                remainingLookahead = remainingLookahead1004;
+                hitFailure = hitFailure1004;
+                if (passedPredicate&&!legacyGlitchyLookahead) return false;
+                passedPredicate = false;
+                if (!check$SPL_javacc$703$39(false)) {
+                    currentLookaheadToken = token1004;
+                    remainingLookahead = remainingLookahead1004;
+                    hitFailure = hitFailure1004;
+                    return false;
+                }
+            }
+        }
+        finally {
+            passedPredicate = passedPredicate1004;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$ReadStatement(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:760:4
+        if (!scanToken(TokenType.READ)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/legacy/Interpreter/SPL.javacc:760:15
+        if (!scanToken(TokenType.IDENTIFIER)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for CodeBlock specified at /root/project/examples/legacy/Interpreter/SPL.javacc:761:4
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$WriteStatement(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:766:4
+        if (!scanToken(TokenType.WRITE)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/legacy/Interpreter/SPL.javacc:766:16
+        if (!scanToken(TokenType.IDENTIFIER)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead<=0) {
+            return true;
+        }
+        // Lookahead Code for CodeBlock specified at /root/project/examples/legacy/Interpreter/SPL.javacc:767:4
+        return true;
+    }
+
+    CallStack parsingStack = new CallStack();
+    private CallStack lookaheadStack = new CallStack();
+
+    /**
+    * Inner class that represents entering a grammar production
+    */
+    class NonTerminalCall {
+        final String sourceFile;
+        final String productionName;
+        final int line, column;
+
+        NonTerminalCall(String sourceFile, String productionName, int line, int column) {
+            this.sourceFile = sourceFile;
+            this.productionName = productionName;
+            this.line = line;
+            this.column = column;
+        }
+
+        final SPLLexer getTokenSource() {
+            return SPLParser.this.token_source;
+        }
+
+        StackTraceElement createStackTraceElement() {
+            return new StackTraceElement("SPLParser", productionName, sourceFile, line);
+        }
+
+        void dump(PrintStream ps) {
+            ps.println(productionName+":"+line+":"+column);
+        }
+
+    }
+
+
+    /**
+    * A stack of calls to grammar productions, kept in parallel arrays
+    * so that entering a production does not allocate anything. The productions
+    * are identified by their index in PRODUCTION_NAMES and the NonTerminalCall
+    * objects are only created when something needs them, i.e. a ParseException.
+    */
+    final class CallStack implements Cloneable {
+        private int size;
+        private int[]productionIds = new int[16], lines = new int[16], columns = new int[16];
+        private String[]sourceFiles = new String[16];
+
+        int size() {
+            return size;
+        }
+
+        int getProductionId(int index) {
+            return productionIds[index];
+        }
+
+        void push(int productionId, String sourceFile, int line, int column) {
+            if (size==productionIds.length) {
+                int capacity = size*2;
+                productionIds = Arrays.copyOf(productionIds, capacity);
+                lines = Arrays.copyOf(lines, capacity);
+                columns = Arrays.copyOf(columns, capacity);
+                sourceFiles = Arrays.copyOf(sourceFiles, capacity);
+            }
+            productionIds[size] = productionId;
+            lines[size] = line;
+            columns[size] = column;
+            sourceFiles[size] = sourceFile;
+            ++size;
+        }
+
+        void pop() {
+            --size;
+        }
+
+        void clear() {
+            Arrays.fill(sourceFiles, 0, size, null);
+            size = 0;
+        }
+
+        NonTerminalCall get(int index) {
+            return new NonTerminalCall(sourceFiles[index], PRODUCTION_NAMES[productionIds[index]], lines[index], columns[index]);
+        }
+
+        /**
+        * @return the calls on this stack, from the bottom up
+        */
+        java.util.List<NonTerminalCall> toList() {
+            java.util.List<NonTerminalCall> result = new ArrayList<> (size);
+            for (int i = 0; i < size; i++) {
+                result.add(get(i));
+            }
+            return result;
+        }
+
+        void dump(PrintStream ps) {
+            for (int i = size-1; i>=0; i--) {
+                get(i).dump(ps);
+            }
+        }
+
+        public CallStack clone() {
+            try {
+                CallStack result = (CallStack)super.clone();
+                result.productionIds = productionIds.clone();
+                result.lines = lines.clone();
+                result.columns = columns.clone();
+                result.sourceFiles = sourceFiles.clone();
+                return result;
+            }
+            catch(CloneNotSupportedException e) {
+                throw new InternalError(e);
+            }
+        }
+
+    }
+
+
+    private final void pushOntoCallStack(int productionId, String fileName, int line, int column) {
+        parsingStack.push(productionId, fileName, line, column);
+    }
+
+    private final void popCallStack() {
+        int top = parsingStack.size()-1;
+        this.currentlyParsedProduction = parsingStack.getProductionId(top);
+        parsingStack.pop();
+    }
+
+    private final void restoreCallStack(int prevSize) {
+        while (parsingStack.size() > prevSize) {
+            popCallStack();
+        }
+    }
+
+    private final void pushOntoLookaheadStack(int productionId, String fileName, int line, int column) {
+        lookaheadStack.push(productionId, fileName, line, column);
+    }
+
+    private final void popLookaheadStack() {
+        this.currentLookaheadProduction = lookaheadStack.getProductionId(lookaheadStack.size()-1);
+        lookaheadStack.pop();
+    }
+
+    void dumpLookaheadStack(PrintStream ps) {
+        lookaheadStack.dump(ps);
+    }
+
+    void dumpCallStack(PrintStream ps) {
+        parsingStack.dump(ps);
+    }
+
+    void dumpLookaheadCallStack(PrintStream ps) {
+        ps.println("Current Parser Production is: "+productionName(currentlyParsedProduction));
+        ps.println("Current Lookahead Production is: "+productionName(currentLookaheadProduction));
+        ps.println("---Lookahead Stack---");
+        dumpLookaheadStack(ps);
+        ps.println("---Call Stack---");
+        dumpCallStack(ps);
+    }
+
+    public boolean isParserTolerant() {
+        return false;
+    }
+
+    public void setParserTolerant(boolean tolerantParsing) {
+        if (tolerantParsing) {
+            throw new UnsupportedOperationException("This parser was not built with that feature!");
+        }
+    }
+
+    private Token consumeToken(TokenType expectedType) {
+        Token nextToken = nextToken(lastConsumedToken);
+        if (nextToken.getType()!=expectedType) {
+            nextToken = handleUnexpectedTokenType(expectedType, nextToken);
+        }
+        this.lastConsumedToken = nextToken;
+        this.nextTokenType = null;
+        if (buildTree&&tokensAreNodes) {
+            pushNode(lastConsumedToken);
+        }
+        return lastConsumedToken;
+    }
+
+    private Token handleUnexpectedTokenType(TokenType expectedType, Token nextToken) {
+        throw new ParseException(this, nextToken, EnumSet.of(expectedType), parsingStack.toList());
+    }
+
+
+    private class ParseState {
+        Token lastConsumed;
+        CallStack parsingStack;
+        NodeScope nodeScope;
+
+        ParseState() {
+            this.lastConsumed = SPLParser.this.lastConsumedToken;
+            this.parsingStack = SPLParser.this.parsingStack.clone();
+            this.nodeScope = currentNodeScope.clone();
+        }
+
+    }
+
+    private ArrayList<ParseState> parseStateStack = new ArrayList<> ();
+    private boolean buildTree = true;
+    private boolean tokensAreNodes = true;
+    private boolean unparsedTokensAreNodes = false;
+
+    public boolean isTreeBuildingEnabled() {
+        return buildTree;
+    }
+
+    public void setUnparsedTokensAreNodes(boolean unparsedTokensAreNodes) {
+        this.unparsedTokensAreNodes = unparsedTokensAreNodes;
+    }
+
+    public void setTokensAreNodes(boolean tokensAreNodes) {
+        this.tokensAreNodes = tokensAreNodes;
+    }
+
+    NodeScope currentNodeScope = new NodeScope();
+
+    /**
+    * @return the root node of the AST. It only makes sense to call
+    * this after a successful parse.
+    */
+    public Node rootNode() {
+        return currentNodeScope.rootNode();
+    }
+
+    /**
+    * push a node onto the top of the node stack
+    * @param n the node to push
+    */
+    public void pushNode(Node n) {
+        currentNodeScope.add(n);
+    }
+
+    /**
+    * @return the node on the top of the stack, and remove it from the
+    * stack.
+    */
+    public Node popNode() {
+        return currentNodeScope.pop();
+    }
+
+    /**
+    * @return the node currently on the top of the tree-building stack.
+    */
+    public Node peekNode() {
+        return currentNodeScope.peek();
+    }
+
+    /**
+    * Puts the node on the top of the stack. However, unlike pushNode()
+    * it replaces the node that is currently on the top of the stack.
+    * This is effectively equivalent to popNode() followed by pushNode(n)
+    * @param n the node to poke
+    */
+    public void pokeNode(Node n) {
+        currentNodeScope.poke(n);
+    }
+
+    /**
+    * @return the number of Nodes on the tree-building stack in the current node
+    * scope.
+    */
+    public int nodeArity() {
+        return currentNodeScope.size();
+    }
+
+    private void clearNodeScope() {
+        currentNodeScope.clear();
+    }
+
+    private void openNodeScope(Node n) {
+        currentNodeScope.open();
+        if (n!=null) {
+            Token next = nextToken(lastConsumedToken);
+            n.setTokenSource(lastConsumedToken.getTokenSource());
+            n.setBeginOffset(next.getBeginOffset());
+            n.open();
+        }
+    }
+
+    /* A definite node is constructed from a specified number of
+    * children.  That number of nodes are popped from the stack and
+    * made the children of the definite node.  Then the definite node
+    * is pushed on to the stack.
+    */
+    private void closeNodeScope(Node n, int num) {
+        n.setEndOffset(lastConsumedToken.getEndOffset());
+        currentNodeScope.close();
+        // FIXME deal with the UNPARSED_TOKENS_ARE_NODES case
+        currentNodeScope.popInto(n, num);
+        n.close();
+        pushNode(n);
+    }
+
+    /**
+    * A conditional node is constructed if the condition is true.  All
+    * the nodes that have been pushed since the node was opened are
+    * made children of the conditional node, which is then pushed
+    * on to the stack.  If the condition is false the node is not
+    * constructed and they are left on the stack.
+    */
+    private void closeNodeScope(Node n, boolean condition) {
+        if (n!=null&&condition) {
+            n.setEndOffset(lastConsumedToken.getEndOffset());
+            int a = nodeArity();
+            currentNodeScope.close();
+            if (!unparsedTokensAreNodes) {
+                currentNodeScope.popInto(n, a);
+            }
+            else for (Node child : currentNodeScope.popNodes(a)) {
+                if (child instanceof Token) {
+                    Token tok = (Token)child;
+                    while (tok.previousCachedToken()!=null&&tok.previousCachedToken().isUnparsed()) {
+                        tok = tok.previousCachedToken();
+                    }
+                    while (tok.isUnparsed()) {
+                        n.addChild(tok);
+                        tok = tok.nextCachedToken();
+                    }
+                }
+                n.addChild(child);
+            }
+            n.close();
+            pushNode(n);
+        }
+        else {
+            currentNodeScope.close();
+        }
+    }
+
+    public boolean getBuildTree() {
+        return buildTree;
+    }
+
+    public void setBuildTree(boolean buildTree) {
+        this.buildTree = buildTree;
+    }
+
+    /**
+    * Just a kludge so that existing jjtree-based code that uses
+    * parser.jjtree.foo can work without change.
+    */
+    SPLParser jjtree = this;
+
+    /**
+    * The tree-building stack. All the node scopes share a single array of
+    * nodes, and an open scope is just a mark, i.e. the index in the array at
+    * which it begins, so opening or closing a scope does not allocate or copy
+    * anything. The stack operations, like peek() and pop(), reach into the
+    * enclosing scopes when the current one is empty.
+    */
+    class NodeScope implements Cloneable {
+        private Node[]nodes = new Node[64];
+        private int size;
+        // Where each open scope, other than the root one, begins
+        private int[]marks = new int[16];
+        private int depth;
+
+        void open() {
+            if (depth==marks.length) {
+                marks = Arrays.copyOf(marks, depth*2);
+            }
+            marks[depth++] = size;
+        }
+
+        /**
+        * Closes the current scope, so that its nodes
+        * now belong to the enclosing one
+        */
+        void close() {
+            --depth;
+        }
+
+        private int mark() {
+            return depth==0 ? 0 : marks[depth-1];
+        }
+
+        boolean isRootScope() {
+            return depth==0;
+        }
+
+        Node rootNode() {
+            int rootScopeSize = depth==0 ? size : marks[0];
+            return rootScopeSize==0 ? null : nodes[0];
+        }
+
+        /**
+        * @return the number of nodes in the current scope
+        */
+        int size() {
+            return size-mark();
+        }
+
+        boolean isEmpty() {
+            return size==mark();
+        }
+
+        void add(Node n) {
+            if (size==nodes.length) {
+                nodes = Arrays.copyOf(nodes, size*2);
+            }
+            nodes[size++] = n;
+        }
+
+        Node peek() {
+            return size==0 ? null : nodes[size-1];
+        }
+
+        Node pop() {
+            Node result = nodes[--size];
+            nodes[size] = null;
+            truncateScopes();
+            return result;
+        }
+
+        void poke(Node n) {
+            nodes[size-1] = n;
+        }
+
+        void clear() {
+            int mark = mark();
+            Arrays.fill(nodes, mark, size, null);
+            size = mark;
+        }
+
+        /**
+        * Empties the stack and closes all the scopes,
+        * leaving the arrays as they are, to be reused
+        */
+        void reset() {
+            Arrays.fill(nodes, 0, size, null);
+            size = 0;
+            depth = 0;
+        }
+
+        /**
+        * Removes the top num nodes from the stack and makes them
+        * the children of the given node, in the order they were pushed.
+        */
+        void popInto(Node parent, int num) {
+            int from = size-num;
+            parent.addChildren(nodes, from, size);
+            Arrays.fill(nodes, from, size, null);
+            size = from;
+            truncateScopes();
+        }
+
+        /**
+        * Removes the top num nodes from the stack
+        * @return the removed nodes, in the order they were pushed
+        */
+        Node[]popNodes(int num) {
+            int from = size-num;
+            Node[]result = Arrays.copyOfRange(nodes, from, size);
+            Arrays.fill(nodes, from, size, null);
+            size = from;
+            truncateScopes();
+            return result;
+        }
+
+        // After popping past the beginning of the current scope (and maybe
+        // enclosing ones) those scopes now begin where the stack ends.
+        private void truncateScopes() {
+            for (int i = depth-1; i>=0&&marks[i] > size; i--) {
+                marks[i] = size;
+            }
+        }
+
+        int nestingLevel() {
+            return depth;
+        }
+
+        public NodeScope clone() {
+            try {
+                NodeScope clone = (NodeScope)super.clone();
+                clone.nodes = Arrays.copyOf(nodes, Math.max(size, 16));
+                clone.marks = Arrays.copyOf(marks, Math.max(depth, 16));
+                return clone;
+            }
+            catch(CloneNotSupportedException e) {
+                throw new InternalError(e);
+            }
+        }
+
+    }
+
+}
+
@@ -0,0 +1,9 @@
+
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for BC AST Node type
+* by the ASTNode.java.ftl template
+*/
+public class BC extends BaseNode {
+}
+
+
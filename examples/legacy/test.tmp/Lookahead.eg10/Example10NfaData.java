@@ -0,0 +1,134 @@
+/* Generated by: JavaCC 21 Parser Generator. Example10NfaData.java */
+import java.util.EnumSet;
+import java.util.BitSet;
+
+
+/**
+* Holder class for the data used by Example10Lexer
+* to do the NFA thang
+*/
+class Example10NfaData implements Example10Constants {
+
+    // The functional interface that represents 
+    // the acceptance method of an NFA state
+    static interface NfaFunction {
+
+        TokenType apply(int ch, BitSet bs, EnumSet<TokenType> validTypes);
+
+    }
+
+    static private NfaFunction[]nfaFunctions;
+
+    // This data holder class is never instantiated
+    private Example10NfaData() {
+    }
+
+    /**
+    * @param the lexical state
+    * @return the table of function pointers that implement the lexical state
+    */
+    static final NfaFunction[]getFunctionTableMap(LexicalState lexicalState) {
+        // We only have one lexical state in this case, so we return that!
+        return nfaFunctions;
+    }
+
+    // Initialize the various NFA method tables
+    static {
+        DEFAULT.NFA_FUNCTIONS_init();
+    }
+
+    /**
+    * Holder class for NFA code related to DEFAULT lexical state
+    */
+    private static class DEFAULT {
+
+        static private TokenType NFA_0(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='T') {
+                nextStates.set(3);
+            }
+            else if (ch=='e') {
+                nextStates.set(2);
+            }
+            else if (ch=='i') {
+                nextStates.set(1);
+            }
+            else if (ch=='\r') {
+                if (validTypes.contains(TokenType._TOKEN_4)) 
+                type = TokenType._TOKEN_4;
+            }
+            else if (ch=='\n') {
+                if (validTypes.contains(TokenType._TOKEN_3)) 
+                type = TokenType._TOKEN_3;
+            }
+            else if (ch=='\t') {
+                if (validTypes.contains(TokenType._TOKEN_2)) 
+                type = TokenType._TOKEN_2;
+            }
+            else if (ch==' ') {
+                if (validTypes.contains(TokenType._TOKEN_1)) 
+                type = TokenType._TOKEN_1;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_1(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='f') {
+                if (validTypes.contains(TokenType.IF)) 
+                type = TokenType.IF;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_2(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='l') {
+                nextStates.set(5);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_3(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='B') {
+                nextStates.set(4);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_4(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='D') {
+                if (validTypes.contains(TokenType.TBD)) 
+                type = TokenType.TBD;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_5(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='s') {
+                nextStates.set(6);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_6(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                if (validTypes.contains(TokenType.ELSE)) 
+                type = TokenType.ELSE;
+            }
+            return type;
+        }
+
+        static private void NFA_FUNCTIONS_init() {
+            nfaFunctions = new NfaFunction[] {DEFAULT::NFA_0, DEFAULT::NFA_1, DEFAULT::NFA_2, DEFAULT::NFA_3, DEFAULT::NFA_4, DEFAULT::NFA_5, DEFAULT::NFA_6};
+        }
+
+    }
+
+}
+
+
@@ -0,0 +1,9 @@
+
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for IfStm AST Node type
+* by the ASTNode.java.ftl template
+*/
+public class IfStm extends BaseNode {
+}
+
+
@@ -0,0 +1,137 @@
+/* Generated by: JavaCC 21 Parser Generator. Example2NfaData.java */
+import java.util.EnumSet;
+import java.util.BitSet;
+
+
+/**
+* Holder class for the data used by Example2Lexer
+* to do the NFA thang
+*/
+class Example2NfaData implements Example2Constants {
+
+    // The functional interface that represents 
+    // the acceptance method of an NFA state
+    static interface NfaFunction {
+
+        TokenType apply(int ch, BitSet bs, EnumSet<TokenType> validTypes);
+
+    }
+
+    static private NfaFunction[]nfaFunctions;
+
+    // This data holder class is never instantiated
+    private Example2NfaData() {
+    }
+
+    /**
+    * @param the lexical state
+    * @return the table of function pointers that implement the lexical state
+    */
+    static final NfaFunction[]getFunctionTableMap(LexicalState lexicalState) {
+        // We only have one lexical state in this case, so we return that!
+        return nfaFunctions;
+    }
+
+    // Initialize the various NFA method tables
+    static {
+        DEFAULT.NFA_FUNCTIONS_init();
+    }
+
+    /**
+    * Holder class for NFA code related to DEFAULT lexical state
+    */
+    private static class DEFAULT {
+
+        static private TokenType NFA_0(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='T') {
+                nextStates.set(2);
+            }
+            else if (ch=='n') {
+                nextStates.set(1);
+            }
+            else if (ch==')') {
+                if (validTypes.contains(TokenType._TOKEN_7)) 
+                type = TokenType._TOKEN_7;
+            }
+            else if (ch=='(') {
+                if (validTypes.contains(TokenType._TOKEN_6)) 
+                type = TokenType._TOKEN_6;
+            }
+            if ((ch>='A'&&ch<='Z')||(ch>='a'&&ch<='z')) {
+                nextStates.set(3);
+                if (validTypes.contains(TokenType.ID)) 
+                type = TokenType.ID;
+            }
+            else if (ch=='\r') {
+                if (validTypes.contains(TokenType._TOKEN_4)) 
+                type = TokenType._TOKEN_4;
+            }
+            else if (ch=='\n') {
+                if (validTypes.contains(TokenType._TOKEN_3)) 
+                type = TokenType._TOKEN_3;
+            }
+            else if (ch=='\t') {
+                if (validTypes.contains(TokenType._TOKEN_2)) 
+                type = TokenType._TOKEN_2;
+            }
+            else if (ch==' ') {
+                if (validTypes.contains(TokenType._TOKEN_1)) 
+                type = TokenType._TOKEN_1;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_1(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                nextStates.set(5);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_2(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='B') {
+                nextStates.set(4);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_3(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>='A'&&ch<='Z')||(ch>='a'&&ch<='z')) {
+                nextStates.set(3);
+                if (validTypes.contains(TokenType.ID)) 
+                type = TokenType.ID;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_4(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='D') {
+                if (validTypes.contains(TokenType.TBD)) 
+                type = TokenType.TBD;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_5(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='w') {
+                if (validTypes.contains(TokenType.NEW)) 
+                type = TokenType.NEW;
+            }
+            return type;
+        }
+
+        static private void NFA_FUNCTIONS_init() {
+            nfaFunctions = new NfaFunction[] {DEFAULT::NFA_0, DEFAULT::NFA_1, DEFAULT::NFA_2, DEFAULT::NFA_3, DEFAULT::NFA_4, DEFAULT::NFA_5};
+        }
+
+    }
+
+}
+
+
@@ -0,0 +1,9 @@
+
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for basic_expr AST Node type
+* by the ASTNode.java.ftl template
+*/
+public class basic_expr extends BaseNode {
+}
+
+
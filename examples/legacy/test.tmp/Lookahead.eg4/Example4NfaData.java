@@ -0,0 +1,93 @@
+/* Generated by: JavaCC 21 Parser Generator. Example4NfaData.java */
+import java.util.EnumSet;
+import java.util.BitSet;
+
+
+/**
+* Holder class for the data used by Example4Lexer
+* to do the NFA thang
+*/
+class Example4NfaData implements Example4Constants {
+
+    // The functional interface that represents 
+    // the acceptance method of an NFA state
+    static interface NfaFunction {
+
+        TokenType apply(int ch, BitSet bs, EnumSet<TokenType> validTypes);
+
+    }
+
+    static private NfaFunction[]nfaFunctions;
+
+    // This data holder class is never instantiated
+    private Example4NfaData() {
+    }
+
+    /**
+    * @param the lexical state
+    * @return the table of function pointers that implement the lexical state
+    */
+    static final NfaFunction[]getFunctionTableMap(LexicalState lexicalState) {
+        // We only have one lexical state in this case, so we return that!
+        return nfaFunctions;
+    }
+
+    // Initialize the various NFA method tables
+    static {
+        DEFAULT.NFA_FUNCTIONS_init();
+    }
+
+    /**
+    * Holder class for NFA code related to DEFAULT lexical state
+    */
+    private static class DEFAULT {
+
+        static private TokenType NFA_0(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>='A'&&ch<='Z')||(ch>='a'&&ch<='z')) {
+                nextStates.set(1);
+                if (validTypes.contains(TokenType.ID)) 
+                type = TokenType.ID;
+            }
+            else if (ch==',') {
+                if (validTypes.contains(TokenType._TOKEN_5)) 
+                type = TokenType._TOKEN_5;
+            }
+            else if (ch=='\r') {
+                if (validTypes.contains(TokenType._TOKEN_4)) 
+                type = TokenType._TOKEN_4;
+            }
+            else if (ch=='\n') {
+                if (validTypes.contains(TokenType._TOKEN_3)) 
+                type = TokenType._TOKEN_3;
+            }
+            else if (ch=='\t') {
+                if (validTypes.contains(TokenType._TOKEN_2)) 
+                type = TokenType._TOKEN_2;
+            }
+            else if (ch==' ') {
+                if (validTypes.contains(TokenType._TOKEN_1)) 
+                type = TokenType._TOKEN_1;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_1(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>='A'&&ch<='Z')||(ch>='a'&&ch<='z')) {
+                nextStates.set(1);
+                if (validTypes.contains(TokenType.ID)) 
+                type = TokenType.ID;
+            }
+            return type;
+        }
+
+        static private void NFA_FUNCTIONS_init() {
+            nfaFunctions = new NfaFunction[] {DEFAULT::NFA_0, DEFAULT::NFA_1};
+        }
+
+    }
+
+}
+
+
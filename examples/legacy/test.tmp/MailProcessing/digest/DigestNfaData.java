@@ -0,0 +1,519 @@
+/* Generated by: JavaCC 21 Parser Generator. DigestNfaData.java */
+package digest;
+
+import static digest.DigestConstants.TokenType.*;
+import java.util.EnumSet;
+import java.util.BitSet;
+import java.util.EnumMap;
+
+
+/**
+* Holder class for the data used by DigestLexer
+* to do the NFA thang
+*/
+class DigestNfaData implements DigestConstants {
+
+    // The functional interface that represents 
+    // the acceptance method of an NFA state
+    static interface NfaFunction {
+
+        TokenType apply(int ch, BitSet bs, EnumSet<TokenType> validTypes);
+
+    }
+
+    // A lookup of the NFA function tables for the respective lexical states.
+    private static final EnumMap<LexicalState, NfaFunction[]> functionTableMap = new EnumMap<> (LexicalState.class);
+
+    // This data holder class is never instantiated
+    private DigestNfaData() {
+    }
+
+    /**
+    * @param the lexical state
+    * @return the table of function pointers that implement the lexical state
+    */
+    static final NfaFunction[]getFunctionTableMap(LexicalState lexicalState) {
+        return functionTableMap.get(lexicalState);
+    }
+
+    // Initialize the various NFA method tables
+    static {
+        DEFAULT.NFA_FUNCTIONS_init();
+        MAILHEADER.NFA_FUNCTIONS_init();
+        MAILSUBJECT.NFA_FUNCTIONS_init();
+        MAILFROM.NFA_FUNCTIONS_init();
+        MAILDATE.NFA_FUNCTIONS_init();
+        MAILBODY.NFA_FUNCTIONS_init();
+    }
+
+    /**
+    * Holder class for NFA code related to DEFAULT lexical state
+    */
+    private static class DEFAULT {
+
+        static private TokenType NFA_0(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='\n') {
+                nextStates.set(1);
+            }
+            else if (ch=='\r') {
+                nextStates.set(1);
+                nextStates.set(2);
+            }
+            if (ch>=0x0) {
+                if (validTypes.contains(_TOKEN_2)) 
+                type = _TOKEN_2;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_1(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='*') {
+                nextStates.set(3);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_2(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='\n') {
+                nextStates.set(1);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_3(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='*') {
+                nextStates.set(4);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_4(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='*') {
+                nextStates.set(5);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_5(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch==' ') {
+                nextStates.set(6);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_6(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='E') {
+                nextStates.set(7);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_7(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='O') {
+                nextStates.set(8);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_8(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='O') {
+                nextStates.set(9);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_9(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='H') {
+                nextStates.set(10);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_10(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch==' ') {
+                nextStates.set(11);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_11(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='*') {
+                nextStates.set(12);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_12(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='*') {
+                nextStates.set(13);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_13(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='*') {
+                nextStates.set(14);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_14(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='\r') {
+                nextStates.set(15);
+            }
+            else if (ch=='\n') {
+                if (validTypes.contains(_TOKEN_1)) 
+                type = _TOKEN_1;
+            }
+            if (ch=='\r') {
+                if (validTypes.contains(_TOKEN_1)) 
+                type = _TOKEN_1;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_15(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='\n') {
+                if (validTypes.contains(_TOKEN_1)) 
+                type = _TOKEN_1;
+            }
+            return type;
+        }
+
+        static private void NFA_FUNCTIONS_init() {
+            NfaFunction[]functions = new NfaFunction[] {DEFAULT::NFA_0, DEFAULT::NFA_1, DEFAULT::NFA_2, DEFAULT::NFA_3, DEFAULT::NFA_4, DEFAULT::NFA_5, DEFAULT::NFA_6, DEFAULT::NFA_7, DEFAULT::NFA_8, DEFAULT::NFA_9, DEFAULT::NFA_10, DEFAULT::NFA_11, DEFAULT::NFA_12, DEFAULT::NFA_13, DEFAULT::NFA_14, DEFAULT::NFA_15};
+            functionTableMap.put(LexicalState.DEFAULT, functions);
+        }
+
+    }
+
+
+    /**
+    * Holder class for NFA code related to MAILHEADER lexical state
+    */
+    private static class MAILHEADER {
+
+        static private TokenType NFA_MAILHEADER_0(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='D') {
+                nextStates.set(3);
+            }
+            else if (ch=='F') {
+                nextStates.set(2);
+            }
+            else if (ch=='S') {
+                nextStates.set(1);
+            }
+            if (ch>=0x0) {
+                if (validTypes.contains(_TOKEN_6)) 
+                type = _TOKEN_6;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_MAILHEADER_1(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='u') {
+                nextStates.set(12);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_MAILHEADER_2(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='r') {
+                nextStates.set(8);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_MAILHEADER_3(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='a') {
+                nextStates.set(4);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_MAILHEADER_4(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                nextStates.set(5);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_MAILHEADER_5(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                nextStates.set(6);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_MAILHEADER_6(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch==':') {
+                nextStates.set(7);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_MAILHEADER_7(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch==' ') {
+                if (validTypes.contains(_TOKEN_5)) 
+                type = _TOKEN_5;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_MAILHEADER_8(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='o') {
+                nextStates.set(9);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_MAILHEADER_9(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='m') {
+                nextStates.set(10);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_MAILHEADER_10(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch==':') {
+                nextStates.set(11);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_MAILHEADER_11(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch==' ') {
+                if (validTypes.contains(_TOKEN_4)) 
+                type = _TOKEN_4;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_MAILHEADER_12(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='b') {
+                nextStates.set(13);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_MAILHEADER_13(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='j') {
+                nextStates.set(14);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_MAILHEADER_14(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='e') {
+                nextStates.set(15);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_MAILHEADER_15(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='c') {
+                nextStates.set(16);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_MAILHEADER_16(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='t') {
+                nextStates.set(17);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_MAILHEADER_17(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch==':') {
+                nextStates.set(18);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_MAILHEADER_18(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch==' ') {
+                if (validTypes.contains(_TOKEN_3)) 
+                type = _TOKEN_3;
+            }
+            return type;
+        }
+
+        static private void NFA_FUNCTIONS_init() {
+            NfaFunction[]functions = new NfaFunction[] {MAILHEADER::NFA_MAILHEADER_0, MAILHEADER::NFA_MAILHEADER_1, MAILHEADER::NFA_MAILHEADER_2, MAILHEADER::NFA_MAILHEADER_3, MAILHEADER::NFA_MAILHEADER_4, MAILHEADER::NFA_MAILHEADER_5, MAILHEADER::NFA_MAILHEADER_6, MAILHEADER::NFA_MAILHEADER_7, MAILHEADER::NFA_MAILHEADER_8, MAILHEADER::NFA_MAILHEADER_9, MAILHEADER::NFA_MAILHEADER_10, MAILHEADER::NFA_MAILHEADER_11, MAILHEADER::NFA_MAILHEADER_12, MAILHEADER::NFA_MAILHEADER_13, MAILHEADER::NFA_MAILHEADER_14, MAILHEADER::NFA_MAILHEADER_15, MAILHEADER::NFA_MAILHEADER_16, MAILHEADER::NFA_MAILHEADER_17, MAILHEADER::NFA_MAILHEADER_18};
+            functionTableMap.put(LexicalState.MAILHEADER, functions);
+        }
+
+    }
+
+
+    /**
+    * Holder class for NFA code related to MAILSUBJECT lexical state
+    */
+    private static class MAILSUBJECT {
+
+        static private TokenType NFA_MAILSUBJECT_0(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>=0x0&&ch<='\t')||((ch==0xb||ch=='\f')||(ch>=0xe))) {
+                nextStates.set(0);
+                if (validTypes.contains(SUBJECT)) 
+                type = SUBJECT;
+            }
+            return type;
+        }
+
+        static private void NFA_FUNCTIONS_init() {
+            NfaFunction[]functions = new NfaFunction[] {MAILSUBJECT::NFA_MAILSUBJECT_0};
+            functionTableMap.put(LexicalState.MAILSUBJECT, functions);
+        }
+
+    }
+
+
+    /**
+    * Holder class for NFA code related to MAILFROM lexical state
+    */
+    private static class MAILFROM {
+
+        static private TokenType NFA_MAILFROM_0(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>=0x0&&ch<='\t')||((ch==0xb||ch=='\f')||(ch>=0xe))) {
+                nextStates.set(0);
+                if (validTypes.contains(FROM)) 
+                type = FROM;
+            }
+            return type;
+        }
+
+        static private void NFA_FUNCTIONS_init() {
+            NfaFunction[]functions = new NfaFunction[] {MAILFROM::NFA_MAILFROM_0};
+            functionTableMap.put(LexicalState.MAILFROM, functions);
+        }
+
+    }
+
+
+    /**
+    * Holder class for NFA code related to MAILDATE lexical state
+    */
+    private static class MAILDATE {
+
+        static private TokenType NFA_MAILDATE_0(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>=0x0&&ch<='\t')||((ch==0xb||ch=='\f')||(ch>=0xe))) {
+                nextStates.set(0);
+                if (validTypes.contains(DATE)) 
+                type = DATE;
+            }
+            return type;
+        }
+
+        static private void NFA_FUNCTIONS_init() {
+            NfaFunction[]functions = new NfaFunction[] {MAILDATE::NFA_MAILDATE_0};
+            functionTableMap.put(LexicalState.MAILDATE, functions);
+        }
+
+    }
+
+
+    /**
+    * Holder class for NFA code related to MAILBODY lexical state
+    */
+    private static class MAILBODY {
+
+        static private TokenType NFA_MAILBODY_0(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>=0x0&&ch<='\t')||((ch==0xb||ch=='\f')||((ch>=0xe&&ch<=0x1e)||(ch>=' ')))) {
+                nextStates.set(1);
+            }
+            else if (ch=='\r') {
+                nextStates.set(2);
+            }
+            else if (ch==0x1f) {
+                if (validTypes.contains(END)) 
+                type = END;
+            }
+            else if (ch=='\n') {
+                if (validTypes.contains(BODY)) 
+                type = BODY;
+            }
+            if (ch=='\r') {
+                if (validTypes.contains(BODY)) 
+                type = BODY;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_MAILBODY_1(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>=0x0&&ch<='\t')||((ch==0xb||ch=='\f')||((ch>=0xe&&ch<=0x1e)||(ch>=' ')))) {
+                nextStates.set(1);
+            }
+            else if (ch=='\r') {
+                nextStates.set(2);
+            }
+            else if (ch=='\n') {
+                if (validTypes.contains(BODY)) 
+                type = BODY;
+            }
+            if (ch=='\r') {
+                if (validTypes.contains(BODY)) 
+                type = BODY;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_MAILBODY_2(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='\n') {
+                if (validTypes.contains(BODY)) 
+                type = BODY;
+            }
+            return type;
+        }
+
+        static private void NFA_FUNCTIONS_init() {
+            NfaFunction[]functions = new NfaFunction[] {MAILBODY::NFA_MAILBODY_0, MAILBODY::NFA_MAILBODY_1, MAILBODY::NFA_MAILBODY_2};
+            functionTableMap.put(LexicalState.MAILBODY, functions);
+        }
+
+    }
+
+}
+
+
@@ -0,0 +1,1061 @@
+/* Generated by: JavaCC 21 Parser Generator. Eg2.java */
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+
+
+public class Eg2 implements eg2Constants {
+
+    /** Main entry point. */
+    public static void main(String args[]) {
+        System.out.println("Reading from standard input...");
+        Eg2 t = new Eg2(new java.io.InputStreamReader(System.in));
+        try {
+            Start n = t.Start();
+            n.dump("  ");
+            System.out.println("Thank you.");
+        }
+        catch(Exception e) {
+            System.out.println("Oops.");
+            System.out.println(e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    static final int UNLIMITED = Integer.MAX_VALUE;
+    // The last token successfully "consumed"
+    Token lastConsumedToken;
+    private TokenType nextTokenType;
+    private Token currentLookaheadToken;
+    private int remainingLookahead;
+    private boolean hitFailure, passedPredicate;
+    // The names of the parser productions, indexed by the ids
+    // that identify them on the call stacks
+    private static final String[]PRODUCTION_NAMES =  {"Start", "Expression", "AdditiveExpression", "MultiplicativeExpression", "UnaryExpression", "MyID", "Integer", };
+    private static final Map<String, Integer> PRODUCTION_IDS = new HashMap<> ();
+    static {
+        for (int i = 0; i < PRODUCTION_NAMES.length; i++) {
+            PRODUCTION_IDS.put(PRODUCTION_NAMES[i], i);
+        }
+    }
+    private int currentlyParsedProduction = -1, currentLookaheadProduction = -1;
+    private int lookaheadRoutineNesting, passedPredicateThreshold = -1;
+    private EnumSet<TokenType> outerFollowSet;
+    private boolean cancelled;
+
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /** Generated Lexer. */
+    public eg2Lexer token_source;
+
+    public void setInputSource(String inputSource) {
+        token_source.setInputSource(inputSource);
+    }
+
+    String getInputSource() {
+        return token_source.getInputSource();
+    }
+
+    //=================================
+    // Generated constructors
+    //=================================
+    public Eg2(String inputSource, CharSequence content) {
+        this(new eg2Lexer(inputSource, content));
+    }
+
+    public Eg2(CharSequence content) {
+        this("input", content);
+    }
+
+    /**
+    * @param inputSource just the name of the input source (typically the filename) that
+    * will be used in error messages and so on.
+    * @param path The location (typically the filename) from which to get the input to parse
+    */
+    public Eg2(String inputSource, Path path) throws IOException {
+        this(inputSource, eg2Lexer.stringFromBytes(Files.readAllBytes(path)));
+    }
+
+    public Eg2(String inputSource, Path path, Charset charset) throws IOException {
+        this(inputSource, eg2Lexer.stringFromBytes(Files.readAllBytes(path), charset));
+    }
+
+    /**
+    * @param inputSource just the name of the input source (typically the filename) that
+    * will be used in error messages and so on.
+    * @param path The location (typically the filename) from which to get the input to parse
+    * @param charset The encoding of the file. If this is null, it is worked out from the byte order mark,
+    * defaulting to UTF-8.
+    * @param memoryMapped whether to memory-map the file rather than read it into memory.
+    * (See eg2Lexer#mapFile)
+    */
+    public Eg2(String inputSource, Path path, Charset charset, boolean memoryMapped) throws IOException {
+        this(inputSource, memoryMapped ? eg2Lexer.mapFile(path, charset) : eg2Lexer.stringFromBytes(Files.readAllBytes(path), charset));
+    }
+
+    /**
+    * @param path The location (typically the filename) from which to get the input to parse
+    */
+    public Eg2(Path path) throws IOException {
+        this(path.toString(), path);
+    }
+
+    /**
+    * @Deprecated Use the constructor that takes a #java.nio.files.Path or just
+    * a String (i.e. CharSequence) directly.
+    */
+    public Eg2(java.io.InputStream stream) {
+        this(new InputStreamReader(stream));
+    }
+
+    /**
+    * @Deprecated Use the constructor that takes a #java.nio.files.Path or just
+    * a String (i.e. CharSequence) directly.
+    */
+    public Eg2(Reader reader) {
+        this(new eg2Lexer("input", reader));
+    }
+
+    /** Constructor with user supplied Lexer. */
+    public Eg2(eg2Lexer lexer) {
+        token_source = lexer;
+        lastConsumedToken = lexer.DUMMY_START_TOKEN;
+        lastConsumedToken.setTokenSource(lexer);
+    }
+
+    /**
+    * Resets this parser, and its lexer, so that it parses the given input
+    * from the start, reusing the internal buffers of both rather than
+    * constructing new objects. This is meant for parsing many (typically small)
+    * inputs in turn, possibly via a ParserPool. The Tokens and Nodes from the
+    * previous input should not be used after this, since they refer back to
+    * the lexer. Any state added to the parser by injected code is not reset.
+    * @param inputSource just the name of the input source (typically the filename) that
+    * will be used in error messages and so on.
+    * @param content the input to parse
+    */
+    public void reset(String inputSource, CharSequence content) {
+        token_source.reset(inputSource, content);
+        lastConsumedToken = token_source.DUMMY_START_TOKEN;
+        lastConsumedToken.setTokenSource(token_source);
+        nextTokenType = null;
+        currentLookaheadToken = null;
+        remainingLookahead = 0;
+        hitFailure = passedPredicate = false;
+        currentlyParsedProduction = currentLookaheadProduction = -1;
+        lookaheadRoutineNesting = 0;
+        passedPredicateThreshold = -1;
+        outerFollowSet = null;
+        cancelled = false;
+        parsingStack.clear();
+        lookaheadStack.clear();
+        parseStateStack.clear();
+        currentNodeScope.reset();
+    }
+
+    public void reset(CharSequence content) {
+        reset("input", content);
+    }
+
+    /**
+    * Resets this parser to parse the given file. (See #reset(String, CharSequence))
+    * @param path The location (typically the filename) from which to get the input to parse
+    */
+    public void reset(Path path) throws IOException {
+        reset(path.toString(), eg2Lexer.stringFromBytes(Files.readAllBytes(path)));
+    }
+
+    // If the next token is cached, it returns that
+    // Otherwise, it goes to the token_source, i.e. the Lexer.
+    final private Token nextToken(final Token tok) {
+        Token result = token_source.getNextToken(tok);
+        while (result.isUnparsed()) {
+            result = token_source.getNextToken(result);
+        }
+        nextTokenType = null;
+        return result;
+    }
+
+    /**
+    * @return the next Token off the stream. This is the same as #getToken(1)
+    */
+    final public Token getNextToken() {
+        return getToken(1);
+    }
+
+    /**
+    * @param index how many tokens to look ahead
+    * @return the specific regular (i.e. parsed) Token index ahead/behind in the stream.
+    * If we are in a lookahead, it looks ahead from the currentLookaheadToken
+    * Otherwise, it is the lastConsumedToken. If you pass in a negative
+    * number it goes backward.
+    */
+    final public Token getToken(final int index) {
+        Token t = currentLookaheadToken==null ? lastConsumedToken : currentLookaheadToken;
+        for (int i = 0; i < index; i++) {
+            t = nextToken(t);
+        }
+        for (int i = 0; i > index; i--) {
+            t = t.getPrevious();
+            if (t==null) break;
+        }
+        return t;
+    }
+
+    private final TokenType nextTokenType() {
+        if (nextTokenType==null) {
+            nextTokenType = nextToken(lastConsumedToken).getType();
+        }
+        return nextTokenType;
+    }
+
+    boolean activateTokenTypes(TokenType...types) {
+        boolean result = false;
+        for (TokenType tt : types) {
+            result|=token_source.activeTokenTypes.add(tt);
+        }
+        if (result) {
+            token_source.reset(getToken(0));
+            nextTokenType = null;
+        }
+        return result;
+    }
+
+    boolean deactivateTokenTypes(TokenType...types) {
+        boolean result = false;
+        for (TokenType tt : types) {
+            result|=token_source.activeTokenTypes.remove(tt);
+        }
+        if (result) {
+            token_source.reset(getToken(0));
+            nextTokenType = null;
+        }
+        return result;
+    }
+
+    private static int productionId(String productionName) {
+        Integer id = PRODUCTION_IDS.get(productionName);
+        return id==null ? -1 : id;
+    }
+
+    private static String productionName(int productionId) {
+        return productionId < 0 ? null : PRODUCTION_NAMES[productionId];
+    }
+
+    // /root/project/examples/legacy/TreeBuildingExamples/eg2.javacc:111:1
+    final public
+    /** Main production. */
+    Start Start() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 0;
+        Start Start1 = null;
+        if (buildTree) {
+            Start1 = new Start();
+            openNodeScope(Start1);
+        }
+        ParseException parseException2 = null;
+        int callStackSize3 = parsingStack.size();
+        try {
+            // Code for NonTerminal specified at /root/project/examples/legacy/TreeBuildingExamples/eg2.javacc:113:3
+            pushOntoCallStack(0, "/root/project/examples/legacy/TreeBuildingExamples/eg2.javacc", 113, 3);
+            try {
+                Expression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/TreeBuildingExamples/eg2.javacc:113:16
+            consumeToken(TokenType._TOKEN_9);
+            // Code for CodeBlock specified at /root/project/examples/legacy/TreeBuildingExamples/eg2.javacc:114:3
+            return Start1;
+        }
+        catch(ParseException e) {
+            parseException2 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize3);
+            if (Start1!=null) {
+                if (parseException2==null) {
+                    closeNodeScope(Start1, nodeArity() > 1);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/legacy/TreeBuildingExamples/eg2.javacc:118:1
+    final public
+    /** An Expression. */
+    void Expression() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 1;
+        // Code for NonTerminal specified at /root/project/examples/legacy/TreeBuildingExamples/eg2.javacc:120:3
+        pushOntoCallStack(1, "/root/project/examples/legacy/TreeBuildingExamples/eg2.javacc", 120, 3);
+        try {
+            AdditiveExpression();
+        }
+        finally {
+            popCallStack();
+        }
+    }
+
+    // /root/project/examples/legacy/TreeBuildingExamples/eg2.javacc:124:1
+    final public
+    /** An Additive Expression. */
+    void AdditiveExpression() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 2;
+        Add AdditiveExpression2 = null;
+        if (buildTree) {
+            AdditiveExpression2 = new Add();
+            openNodeScope(AdditiveExpression2);
+        }
+        ParseException parseException30 = null;
+        int callStackSize31 = parsingStack.size();
+        try {
+            // Code for NonTerminal specified at /root/project/examples/legacy/TreeBuildingExamples/eg2.javacc:127:5
+            pushOntoCallStack(2, "/root/project/examples/legacy/TreeBuildingExamples/eg2.javacc", 127, 5);
+            try {
+                MultiplicativeExpression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified at /root/project/examples/legacy/TreeBuildingExamples/eg2.javacc:127:32
+            while (true) {
+                if (!(nextTokenType()==TokenType._TOKEN_10||nextTokenType==TokenType._TOKEN_11)) break;
+                if (nextTokenType()==TokenType._TOKEN_10) {
+                    // Code for RegexpStringLiteral specified at /root/project/examples/legacy/TreeBuildingExamples/eg2.javacc:127:36
+                    consumeToken(TokenType._TOKEN_10);
+                }
+                else if (nextTokenType()==TokenType._TOKEN_11) {
+                    // Code for RegexpStringLiteral specified at /root/project/examples/legacy/TreeBuildingExamples/eg2.javacc:127:42
+                    consumeToken(TokenType._TOKEN_11);
+                }
+                else {
+                    pushOntoCallStack(2, "/root/project/examples/legacy/TreeBuildingExamples/eg2.javacc", 127, 36);
+                    throw new ParseException(this, first_set$eg2_javacc$127$36, parsingStack.toList());
+                }
+                // Code for NonTerminal specified at /root/project/examples/legacy/TreeBuildingExamples/eg2.javacc:127:48
+                pushOntoCallStack(2, "/root/project/examples/legacy/TreeBuildingExamples/eg2.javacc", 127, 48);
+                try {
+                    MultiplicativeExpression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException30 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize31);
+            if (AdditiveExpression2!=null) {
+                if (parseException30==null) {
+                    closeNodeScope(AdditiveExpression2, nodeArity() > 1);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/legacy/TreeBuildingExamples/eg2.javacc:132:1
+    final public
+    /** A Multiplicative Expression. */
+    void MultiplicativeExpression() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 3;
+        Mult MultiplicativeExpression3 = null;
+        if (buildTree) {
+            MultiplicativeExpression3 = new Mult();
+            openNodeScope(MultiplicativeExpression3);
+        }
+        ParseException parseException76 = null;
+        int callStackSize77 = parsingStack.size();
+        try {
+            // Code for NonTerminal specified at /root/project/examples/legacy/TreeBuildingExamples/eg2.javacc:135:5
+            pushOntoCallStack(3, "/root/project/examples/legacy/TreeBuildingExamples/eg2.javacc", 135, 5);
+            try {
+                UnaryExpression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified at /root/project/examples/legacy/TreeBuildingExamples/eg2.javacc:135:23
+            while (true) {
+                if (!(nextTokenType()==TokenType._TOKEN_12||nextTokenType==TokenType._TOKEN_13||nextTokenType==TokenType._TOKEN_14)) break;
+                if (nextTokenType()==TokenType._TOKEN_12) {
+                    // Code for RegexpStringLiteral specified at /root/project/examples/legacy/TreeBuildingExamples/eg2.javacc:135:27
+                    consumeToken(TokenType._TOKEN_12);
+                }
+                else if (nextTokenType()==TokenType._TOKEN_13) {
+                    // Code for RegexpStringLiteral specified at /root/project/examples/legacy/TreeBuildingExamples/eg2.javacc:135:33
+                    consumeToken(TokenType._TOKEN_13);
+                }
+                else if (nextTokenType()==TokenType._TOKEN_14) {
+                    // Code for RegexpStringLiteral specified at /root/project/examples/legacy/TreeBuildingExamples/eg2.javacc:135:39
+                    consumeToken(TokenType._TOKEN_14);
+                }
+                else {
+                    pushOntoCallStack(3, "/root/project/examples/legacy/TreeBuildingExamples/eg2.javacc", 135, 27);
+                    throw new ParseException(this, first_set$eg2_javacc$135$27, parsingStack.toList());
+                }
+                // Code for NonTerminal specified at /root/project/examples/legacy/TreeBuildingExamples/eg2.javacc:135:45
+                pushOntoCallStack(3, "/root/project/examples/legacy/TreeBuildingExamples/eg2.javacc", 135, 45);
+                try {
+                    UnaryExpression();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException76 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize77);
+            if (MultiplicativeExpression3!=null) {
+                if (parseException76==null) {
+                    closeNodeScope(MultiplicativeExpression3, nodeArity() > 1);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final EnumSet<TokenType> UnaryExpression_FIRST_SET = EnumSet.of(TokenType.INTEGER_LITERAL, TokenType.IDENTIFIER, TokenType._TOKEN_15);
+
+    // /root/project/examples/legacy/TreeBuildingExamples/eg2.javacc:140:1
+    final public
+    /** A Unary Expression. */
+    void UnaryExpression() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 4;
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/TreeBuildingExamples/eg2.javacc:142:3
+        if (nextTokenType()==TokenType._TOKEN_15) {
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/TreeBuildingExamples/eg2.javacc:142:3
+            consumeToken(TokenType._TOKEN_15);
+            // Code for NonTerminal specified at /root/project/examples/legacy/TreeBuildingExamples/eg2.javacc:142:7
+            pushOntoCallStack(4, "/root/project/examples/legacy/TreeBuildingExamples/eg2.javacc", 142, 7);
+            try {
+                Expression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/TreeBuildingExamples/eg2.javacc:142:20
+            consumeToken(TokenType._TOKEN_16);
+        }
+        else if (nextTokenType()==TokenType.IDENTIFIER) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/TreeBuildingExamples/eg2.javacc:142:26
+            pushOntoCallStack(4, "/root/project/examples/legacy/TreeBuildingExamples/eg2.javacc", 142, 26);
+            try {
+                MyID();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (nextTokenType()==TokenType.INTEGER_LITERAL) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/TreeBuildingExamples/eg2.javacc:142:35
+            pushOntoCallStack(4, "/root/project/examples/legacy/TreeBuildingExamples/eg2.javacc", 142, 35);
+            try {
+                Integer();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else {
+            pushOntoCallStack(4, "/root/project/examples/legacy/TreeBuildingExamples/eg2.javacc", 142, 3);
+            throw new ParseException(this, UnaryExpression_FIRST_SET, parsingStack.toList());
+        }
+    }
+
+    // /root/project/examples/legacy/TreeBuildingExamples/eg2.javacc:146:1
+    final public
+    /** An Identifier. */
+    void MyID() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 5;
+        MyID MyID4 = null;
+        if (buildTree) {
+            MyID4 = new MyID();
+            openNodeScope(MyID4);
+        }
+        Token t;
+        ParseException parseException162 = null;
+        int callStackSize163 = parsingStack.size();
+        try {
+            // Code for RegexpRef specified at /root/project/examples/legacy/TreeBuildingExamples/eg2.javacc:151:5
+            t = consumeToken(TokenType.IDENTIFIER);
+            // Code for CodeBlock specified at /root/project/examples/legacy/TreeBuildingExamples/eg2.javacc:152:3
+            MyID4.setName(t.getImage());
+        }
+        catch(ParseException e) {
+            parseException162 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize163);
+            if (MyID4!=null) {
+                if (parseException162==null) {
+                    closeNodeScope(MyID4, nodeArity() > 1);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/legacy/TreeBuildingExamples/eg2.javacc:158:1
+    final public
+    /** An Integer. */
+    void Integer() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 6;
+        Int Integer5 = null;
+        if (buildTree) {
+            Integer5 = new Int();
+            openNodeScope(Integer5);
+        }
+        ParseException parseException174 = null;
+        int callStackSize175 = parsingStack.size();
+        try {
+            // Code for RegexpRef specified at /root/project/examples/legacy/TreeBuildingExamples/eg2.javacc:160:5
+            consumeToken(TokenType.INTEGER_LITERAL);
+        }
+        catch(ParseException e) {
+            parseException174 = e;
+            throw e;
+        }
+        finally {
+            restoreCallStack(callStackSize175);
+            if (Integer5!=null) {
+                if (parseException174==null) {
+                    closeNodeScope(Integer5, true);
+                }
+                else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final EnumSet<TokenType> first_set$eg2_javacc$127$36 = EnumSet.of(TokenType._TOKEN_10, TokenType._TOKEN_11);
+    static private final EnumSet<TokenType> first_set$eg2_javacc$135$27 = EnumSet.of(TokenType._TOKEN_12, TokenType._TOKEN_13, TokenType._TOKEN_14);
+    CallStack parsingStack = new CallStack();
+    private CallStack lookaheadStack = new CallStack();
+
+    /**
+    * Inner class that represents entering a grammar production
+    */
+    class NonTerminalCall {
+        final String sourceFile;
+        final String productionName;
+        final int line, column;
+
+        NonTerminalCall(String sourceFile, String productionName, int line, int column) {
+            this.sourceFile = sourceFile;
+            this.productionName = productionName;
+            this.line = line;
+            this.column = column;
+        }
+
+        final eg2Lexer getTokenSource() {
+            return Eg2.this.token_source;
+        }
+
+        StackTraceElement createStackTraceElement() {
+            return new StackTraceElement("Eg2", productionName, sourceFile, line);
+        }
+
+        void dump(PrintStream ps) {
+            ps.println(productionName+":"+line+":"+column);
+        }
+
+    }
+
+
+    /**
+    * A stack of calls to grammar productions, kept in parallel arrays
+    * so that entering a production does not allocate anything. The productions
+    * are identified by their index in PRODUCTION_NAMES and the NonTerminalCall
+    * objects are only created when something needs them, i.e. a ParseException.
+    */
+    final class CallStack implements Cloneable {
+        private int size;
+        private int[]productionIds = new int[16], lines = new int[16], columns = new int[16];
+        private String[]sourceFiles = new String[16];
+
+        int size() {
+            return size;
+        }
+
+        int getProductionId(int index) {
+            return productionIds[index];
+        }
+
+        void push(int productionId, String sourceFile, int line, int column) {
+            if (size==productionIds.length) {
+                int capacity = size*2;
+                productionIds = Arrays.copyOf(productionIds, capacity);
+                lines = Arrays.copyOf(lines, capacity);
+                columns = Arrays.copyOf(columns, capacity);
+                sourceFiles = Arrays.copyOf(sourceFiles, capacity);
+            }
+            productionIds[size] = productionId;
+            lines[size] = line;
+            columns[size] = column;
+            sourceFiles[size] = sourceFile;
+            ++size;
+        }
+
+        void pop() {
+            --size;
+        }
+
+        void clear() {
+            Arrays.fill(sourceFiles, 0, size, null);
+            size = 0;
+        }
+
+        NonTerminalCall get(int index) {
+            return new NonTerminalCall(sourceFiles[index], PRODUCTION_NAMES[productionIds[index]], lines[index], columns[index]);
+        }
+
+        /**
+        * @return the calls on this stack, from the bottom up
+        */
+        java.util.List<NonTerminalCall> toList() {
+            java.util.List<NonTerminalCall> result = new ArrayList<> (size);
+            for (int i = 0; i < size; i++) {
+                result.add(get(i));
+            }
+            return result;
+        }
+
+        void dump(PrintStream ps) {
+            for (int i = size-1; i>=0; i--) {
+                get(i).dump(ps);
+            }
+        }
+
+        public CallStack clone() {
+            try {
+                CallStack result = (CallStack)super.clone();
+                result.productionIds = productionIds.clone();
+                result.lines = lines.clone();
+                result.columns = columns.clone();
+                result.sourceFiles = sourceFiles.clone();
+                return result;
+            }
+            catch(CloneNotSupportedException e) {
+                throw new InternalError(e);
+            }
+        }
+
+    }
+
+
+    private final void pushOntoCallStack(int productionId, String fileName, int line, int column) {
+        parsingStack.push(productionId, fileName, line, column);
+    }
+
+    private final void popCallStack() {
+        int top = parsingStack.size()-1;
+        this.currentlyParsedProduction = parsingStack.getProductionId(top);
+        parsingStack.pop();
+    }
+
+    private final void restoreCallStack(int prevSize) {
+        while (parsingStack.size() > prevSize) {
+            popCallStack();
+        }
+    }
+
+    void dumpLookaheadStack(PrintStream ps) {
+        lookaheadStack.dump(ps);
+    }
+
+    void dumpCallStack(PrintStream ps) {
+        parsingStack.dump(ps);
+    }
+
+    void dumpLookaheadCallStack(PrintStream ps) {
+        ps.println("Current Parser Production is: "+productionName(currentlyParsedProduction));
+        ps.println("Current Lookahead Production is: "+productionName(currentLookaheadProduction));
+        ps.println("---Lookahead Stack---");
+        dumpLookaheadStack(ps);
+        ps.println("---Call Stack---");
+        dumpCallStack(ps);
+    }
+
+    public boolean isParserTolerant() {
+        return false;
+    }
+
+    public void setParserTolerant(boolean tolerantParsing) {
+        if (tolerantParsing) {
+            throw new UnsupportedOperationException("This parser was not built with that feature!");
+        }
+    }
+
+    private Token consumeToken(TokenType expectedType) {
+        Token nextToken = nextToken(lastConsumedToken);
+        if (nextToken.getType()!=expectedType) {
+            nextToken = handleUnexpectedTokenType(expectedType, nextToken);
+        }
+        this.lastConsumedToken = nextToken;
+        this.nextTokenType = null;
+        if (buildTree&&tokensAreNodes) {
+            pushNode(lastConsumedToken);
+        }
+        return lastConsumedToken;
+    }
+
+    private Token handleUnexpectedTokenType(TokenType expectedType, Token nextToken) {
+        throw new ParseException(this, nextToken, EnumSet.of(expectedType), parsingStack.toList());
+    }
+
+
+    private class ParseState {
+        Token lastConsumed;
+        CallStack parsingStack;
+        NodeScope nodeScope;
+
+        ParseState() {
+            this.lastConsumed = Eg2.this.lastConsumedToken;
+            this.parsingStack = Eg2.this.parsingStack.clone();
+            this.nodeScope = currentNodeScope.clone();
+        }
+
+    }
+
+    private ArrayList<ParseState> parseStateStack = new ArrayList<> ();
+    private boolean buildTree = true;
+    private boolean tokensAreNodes = true;
+    private boolean unparsedTokensAreNodes = true;
+
+    public boolean isTreeBuildingEnabled() {
+        return buildTree;
+    }
+
+    public void setUnparsedTokensAreNodes(boolean unparsedTokensAreNodes) {
+        this.unparsedTokensAreNodes = unparsedTokensAreNodes;
+    }
+
+    public void setTokensAreNodes(boolean tokensAreNodes) {
+        this.tokensAreNodes = tokensAreNodes;
+    }
+
+    NodeScope currentNodeScope = new NodeScope();
+
+    /**
+    * @return the root node of the AST. It only makes sense to call
+    * this after a successful parse.
+    */
+    public Node rootNode() {
+        return currentNodeScope.rootNode();
+    }
+
+    /**
+    * push a node onto the top of the node stack
+    * @param n the node to push
+    */
+    public void pushNode(Node n) {
+        currentNodeScope.add(n);
+    }
+
+    /**
+    * @return the node on the top of the stack, and remove it from the
+    * stack.
+    */
+    public Node popNode() {
+        return currentNodeScope.pop();
+    }
+
+    /**
+    * @return the node currently on the top of the tree-building stack.
+    */
+    public Node peekNode() {
+        return currentNodeScope.peek();
+    }
+
+    /**
+    * Puts the node on the top of the stack. However, unlike pushNode()
+    * it replaces the node that is currently on the top of the stack.
+    * This is effectively equivalent to popNode() followed by pushNode(n)
+    * @param n the node to poke
+    */
+    public void pokeNode(Node n) {
+        currentNodeScope.poke(n);
+    }
+
+    /**
+    * @return the number of Nodes on the tree-building stack in the current node
+    * scope.
+    */
+    public int nodeArity() {
+        return currentNodeScope.size();
+    }
+
+    private void clearNodeScope() {
+        currentNodeScope.clear();
+    }
+
+    private void openNodeScope(Node n) {
+        currentNodeScope.open();
+        if (n!=null) {
+            Token next = nextToken(lastConsumedToken);
+            n.setTokenSource(lastConsumedToken.getTokenSource());
+            n.setBeginOffset(next.getBeginOffset());
+            n.open();
+        }
+    }
+
+    /* A definite node is constructed from a specified number of
+    * children.  That number of nodes are popped from the stack and
+    * made the children of the definite node.  Then the definite node
+    * is pushed on to the stack.
+    */
+    private void closeNodeScope(Node n, int num) {
+        n.setEndOffset(lastConsumedToken.getEndOffset());
+        currentNodeScope.close();
+        // FIXME deal with the UNPARSED_TOKENS_ARE_NODES case
+        currentNodeScope.popInto(n, num);
+        n.close();
+        pushNode(n);
+    }
+
+    /**
+    * A conditional node is constructed if the condition is true.  All
+    * the nodes that have been pushed since the node was opened are
+    * made children of the conditional node, which is then pushed
+    * on to the stack.  If the condition is false the node is not
+    * constructed and they are left on the stack.
+    */
+    private void closeNodeScope(Node n, boolean condition) {
+        if (n!=null&&condition) {
+            n.setEndOffset(lastConsumedToken.getEndOffset());
+            int a = nodeArity();
+            currentNodeScope.close();
+            if (!unparsedTokensAreNodes) {
+                currentNodeScope.popInto(n, a);
+            }
+            else for (Node child : currentNodeScope.popNodes(a)) {
+                if (child instanceof Token) {
+                    Token tok = (Token)child;
+                    while (tok.previousCachedToken()!=null&&tok.previousCachedToken().isUnparsed()) {
+                        tok = tok.previousCachedToken();
+                    }
+                    while (tok.isUnparsed()) {
+                        n.addChild(tok);
+                        tok = tok.nextCachedToken();
+                    }
+                }
+                n.addChild(child);
+            }
+            n.close();
+            pushNode(n);
+        }
+        else {
+            currentNodeScope.close();
+        }
+    }
+
+    public boolean getBuildTree() {
+        return buildTree;
+    }
+
+    public void setBuildTree(boolean buildTree) {
+        this.buildTree = buildTree;
+    }
+
+    /**
+    * Just a kludge so that existing jjtree-based code that uses
+    * parser.jjtree.foo can work without change.
+    */
+    Eg2 jjtree = this;
+
+    /**
+    * The tree-building stack. All the node scopes share a single array of
+    * nodes, and an open scope is just a mark, i.e. the index in the array at
+    * which it begins, so opening or closing a scope does not allocate or copy
+    * anything. The stack operations, like peek() and pop(), reach into the
+    * enclosing scopes when the current one is empty.
+    */
+    class NodeScope implements Cloneable {
+        private Node[]nodes = new Node[64];
+        private int size;
+        // Where each open scope, other than the root one, begins
+        private int[]marks = new int[16];
+        private int depth;
+
+        void open() {
+            if (depth==marks.length) {
+                marks = Arrays.copyOf(marks, depth*2);
+            }
+            marks[depth++] = size;
+        }
+
+        /**
+        * Closes the current scope, so that its nodes
+        * now belong to the enclosing one
+        */
+        void close() {
+            --depth;
+        }
+
+        private int mark() {
+            return depth==0 ? 0 : marks[depth-1];
+        }
+
+        boolean isRootScope() {
+            return depth==0;
+        }
+
+        Node rootNode() {
+            int rootScopeSize = depth==0 ? size : marks[0];
+            return rootScopeSize==0 ? null : nodes[0];
+        }
+
+        /**
+        * @return the number of nodes in the current scope
+        */
+        int size() {
+            return size-mark();
+        }
+
+        boolean isEmpty() {
+            return size==mark();
+        }
+
+        void add(Node n) {
+            if (size==nodes.length) {
+                nodes = Arrays.copyOf(nodes, size*2);
+            }
+            nodes[size++] = n;
+        }
+
+        Node peek() {
+            return size==0 ? null : nodes[size-1];
+        }
+
+        Node pop() {
+            Node result = nodes[--size];
+            nodes[size] = null;
+            truncateScopes();
+            return result;
+        }
+
+        void poke(Node n) {
+            nodes[size-1] = n;
+        }
+
+        void clear() {
+            int mark = mark();
+            Arrays.fill(nodes, mark, size, null);
+            size = mark;
+        }
+
+        /**
+        * Empties the stack and closes all the scopes,
+        * leaving the arrays as they are, to be reused
+        */
+        void reset() {
+            Arrays.fill(nodes, 0, size, null);
+            size = 0;
+            depth = 0;
+        }
+
+        /**
+        * Removes the top num nodes from the stack and makes them
+        * the children of the given node, in the order they were pushed.
+        */
+        void popInto(Node parent, int num) {
+            int from = size-num;
+            parent.addChildren(nodes, from, size);
+            Arrays.fill(nodes, from, size, null);
+            size = from;
+            truncateScopes();
+        }
+
+        /**
+        * Removes the top num nodes from the stack
+        * @return the removed nodes, in the order they were pushed
+        */
+        Node[]popNodes(int num) {
+            int from = size-num;
+            Node[]result = Arrays.copyOfRange(nodes, from, size);
+            Arrays.fill(nodes, from, size, null);
+            size = from;
+            truncateScopes();
+            return result;
+        }
+
+        // After popping past the beginning of the current scope (and maybe
+        // enclosing ones) those scopes now begin where the stack ends.
+        private void truncateScopes() {
+            for (int i = depth-1; i>=0&&marks[i] > size; i--) {
+                marks[i] = size;
+            }
+        }
+
+        int nestingLevel() {
+            return depth;
+        }
+
+        public NodeScope clone() {
+            try {
+                NodeScope clone = (NodeScope)super.clone();
+                clone.nodes = Arrays.copyOf(nodes, Math.max(size, 16));
+                clone.marks = Arrays.copyOf(marks, Math.max(depth, 16));
+                return clone;
+            }
+            catch(CloneNotSupportedException e) {
+                throw new InternalError(e);
+            }
+        }
+
+    }
+
+}
+
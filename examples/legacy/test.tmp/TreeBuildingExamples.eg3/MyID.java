@@ -0,0 +1,27 @@
+
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for MyID AST Node type
+* by the ASTNode.java.ftl template
+*/
+public class MyID extends BaseNode {
+    private String name;
+
+    /**
+    * Set the name.
+    * @param n the name
+    */
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    /**
+    * {@inheritDoc}
+    * @see org.javacc.examples.jjtree.eg2.SimpleNode#toString()
+    */
+    public String toString() {
+        return"Identifier: "+name;
+    }
+
+}
+
+
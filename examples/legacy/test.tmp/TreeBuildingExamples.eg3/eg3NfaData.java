@@ -0,0 +1,270 @@
+/* Generated by: JavaCC 21 Parser Generator. eg3NfaData.java */
+import java.util.EnumSet;
+import java.util.BitSet;
+
+
+/**
+* Holder class for the data used by eg3Lexer
+* to do the NFA thang
+*/
+class eg3NfaData implements eg3Constants {
+
+    // The functional interface that represents 
+    // the acceptance method of an NFA state
+    static interface NfaFunction {
+
+        TokenType apply(int ch, BitSet bs, EnumSet<TokenType> validTypes);
+
+    }
+
+    static private NfaFunction[]nfaFunctions;
+
+    // This data holder class is never instantiated
+    private eg3NfaData() {
+    }
+
+    /**
+    * @param the lexical state
+    * @return the table of function pointers that implement the lexical state
+    */
+    static final NfaFunction[]getFunctionTableMap(LexicalState lexicalState) {
+        // We only have one lexical state in this case, so we return that!
+        return nfaFunctions;
+    }
+
+    // Initialize the various NFA method tables
+    static {
+        DEFAULT.NFA_FUNCTIONS_init();
+    }
+
+    /**
+    * Holder class for NFA code related to DEFAULT lexical state
+    */
+    private static class DEFAULT {
+
+        static private TokenType NFA_0(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='/') {
+                nextStates.set(1);
+                nextStates.set(2);
+            }
+            else if (ch=='0') {
+                nextStates.set(4);
+            }
+            else if (ch==')') {
+                if (validTypes.contains(TokenType._TOKEN_16)) 
+                type = TokenType._TOKEN_16;
+            }
+            else if (ch=='(') {
+                if (validTypes.contains(TokenType._TOKEN_15)) 
+                type = TokenType._TOKEN_15;
+            }
+            else if (ch=='%') {
+                if (validTypes.contains(TokenType._TOKEN_14)) 
+                type = TokenType._TOKEN_14;
+            }
+            if (ch=='/') {
+                if (validTypes.contains(TokenType._TOKEN_13)) 
+                type = TokenType._TOKEN_13;
+            }
+            else if (ch=='*') {
+                if (validTypes.contains(TokenType._TOKEN_12)) 
+                type = TokenType._TOKEN_12;
+            }
+            else if (ch=='-') {
+                if (validTypes.contains(TokenType._TOKEN_11)) 
+                type = TokenType._TOKEN_11;
+            }
+            else if (ch=='+') {
+                if (validTypes.contains(TokenType._TOKEN_10)) 
+                type = TokenType._TOKEN_10;
+            }
+            else if (ch==';') {
+                if (validTypes.contains(TokenType._TOKEN_9)) 
+                type = TokenType._TOKEN_9;
+            }
+            else if ((ch>='A'&&ch<='Z')||((ch=='_')||(ch>='a'&&ch<='z'))) {
+                nextStates.set(6);
+                if (validTypes.contains(TokenType.IDENTIFIER)) 
+                type = TokenType.IDENTIFIER;
+            }
+            else if (ch=='0') {
+                nextStates.set(5);
+                if (validTypes.contains(TokenType.INTEGER_LITERAL)) 
+                type = TokenType.INTEGER_LITERAL;
+            }
+            else if (ch>='1'&&ch<='9') {
+                nextStates.set(3);
+                if (validTypes.contains(TokenType.INTEGER_LITERAL)) 
+                type = TokenType.INTEGER_LITERAL;
+            }
+            else if (ch=='\r') {
+                if (validTypes.contains(TokenType._TOKEN_4)) 
+                type = TokenType._TOKEN_4;
+            }
+            else if (ch=='\n') {
+                if (validTypes.contains(TokenType._TOKEN_3)) 
+                type = TokenType._TOKEN_3;
+            }
+            else if (ch=='\t') {
+                if (validTypes.contains(TokenType._TOKEN_2)) 
+                type = TokenType._TOKEN_2;
+            }
+            else if (ch==' ') {
+                if (validTypes.contains(TokenType._TOKEN_1)) 
+                type = TokenType._TOKEN_1;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_1(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='/') {
+                nextStates.set(11);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_2(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='*') {
+                nextStates.set(9);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_3(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch>='0'&&ch<='9') {
+                nextStates.set(3);
+                if (validTypes.contains(TokenType.INTEGER_LITERAL)) 
+                type = TokenType.INTEGER_LITERAL;
+            }
+            else if ((ch=='L')||(ch=='l')) {
+                if (validTypes.contains(TokenType.INTEGER_LITERAL)) 
+                type = TokenType.INTEGER_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_4(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch=='X')||(ch=='x')) {
+                nextStates.set(7);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_5(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch>='0'&&ch<='7') {
+                nextStates.set(5);
+                if (validTypes.contains(TokenType.INTEGER_LITERAL)) 
+                type = TokenType.INTEGER_LITERAL;
+            }
+            else if ((ch=='L')||(ch=='l')) {
+                if (validTypes.contains(TokenType.INTEGER_LITERAL)) 
+                type = TokenType.INTEGER_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_6(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch>='0'&&ch<='9') {
+                nextStates.set(6);
+                if (validTypes.contains(TokenType.IDENTIFIER)) 
+                type = TokenType.IDENTIFIER;
+            }
+            else if ((ch>='A'&&ch<='Z')||((ch=='_')||(ch>='a'&&ch<='z'))) {
+                nextStates.set(6);
+                if (validTypes.contains(TokenType.IDENTIFIER)) 
+                type = TokenType.IDENTIFIER;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_7(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>='0'&&ch<='9')||((ch>='A'&&ch<='F')||(ch>='a'&&ch<='f'))) {
+                nextStates.set(8);
+                if (validTypes.contains(TokenType.INTEGER_LITERAL)) 
+                type = TokenType.INTEGER_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_8(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>='0'&&ch<='9')||((ch>='A'&&ch<='F')||(ch>='a'&&ch<='f'))) {
+                nextStates.set(8);
+                if (validTypes.contains(TokenType.INTEGER_LITERAL)) 
+                type = TokenType.INTEGER_LITERAL;
+            }
+            else if ((ch=='L')||(ch=='l')) {
+                if (validTypes.contains(TokenType.INTEGER_LITERAL)) 
+                type = TokenType.INTEGER_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_9(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>=0x0&&ch<=')')||(ch>='+')) {
+                nextStates.set(9);
+            }
+            else if (ch=='*') {
+                nextStates.set(10);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_10(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>=0x0&&ch<='.')||(ch>='0')) {
+                nextStates.set(9);
+            }
+            else if (ch=='/') {
+                if (validTypes.contains(TokenType._TOKEN_6)) 
+                type = TokenType._TOKEN_6;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_11(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch>=0x0&&ch<='\t')||((ch==0xb||ch=='\f')||(ch>=0xe))) {
+                nextStates.set(11);
+            }
+            else if (ch=='\r') {
+                nextStates.set(12);
+            }
+            else if (ch=='\n') {
+                if (validTypes.contains(TokenType._TOKEN_5)) 
+                type = TokenType._TOKEN_5;
+            }
+            if (ch=='\r') {
+                if (validTypes.contains(TokenType._TOKEN_5)) 
+                type = TokenType._TOKEN_5;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_12(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch=='\n') {
+                if (validTypes.contains(TokenType._TOKEN_5)) 
+                type = TokenType._TOKEN_5;
+            }
+            return type;
+        }
+
+        static private void NFA_FUNCTIONS_init() {
+            nfaFunctions = new NfaFunction[] {DEFAULT::NFA_0, DEFAULT::NFA_1, DEFAULT::NFA_2, DEFAULT::NFA_3, DEFAULT::NFA_4, DEFAULT::NFA_5, DEFAULT::NFA_6, DEFAULT::NFA_7, DEFAULT::NFA_8, DEFAULT::NFA_9, DEFAULT::NFA_10, DEFAULT::NFA_11, DEFAULT::NFA_12};
+        }
+
+    }
+
+}
+
+
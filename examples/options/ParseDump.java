@@ -0,0 +1,369 @@
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Writes out a dump of the token stream and the AST that a generated parser
+ * produces for each of a set of files, so that the parsers that are generated
+ * with the various options that affect the generated code (DFA_LEXER,
+ * STREAMING_INPUT, COMPACT_TREE and so on) can be checked against the one
+ * that is generated without them. (With COMPACT_TREE, it is the tree from
+ * the CompactTree that is dumped.) The token stream is followed forward from
+ * the first token and the unparsed tokens in the tree are found by going
+ * backward from the parsed ones, so that both directions get exercised.
+ * It uses the parser via reflection, like the ParseStress harness, so that
+ * the same code works with all the variants of the Java and JSON parsers.
+ * With -reuse, it also parses every file again with a memory-mapped input,
+ * with a single parser that is reset for each file and with parsers from
+ * a ParserPool, and checks that the dumps are the same as with a new parser.
+ * It also checks, for every tree, that the descendants of the root come out 
+ * the same from preOrderIterator(), descendantStream() and the splits of 
+ * descendantSpliterator() as from descendants(), and that postOrderIterator()
+ * and firstDescendant(...) agree with a plain walk over the children. If the 
+ * parser class has a nested DumpVisitor class (see Tokens.javacc), that is 
+ * used to check that a Node.Visitor calls the visit methods that it should.
+ */
+public class ParseDump {
+    static private boolean reuse;
+    static private Class<?> parserClass, nodeClass, tokenClass;
+    static private Method rootProduction, compactTree;
+    static private int nodeApiFailures;
+
+    static public void main(String[] args) throws Exception {
+        List<String> rest = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.equals("-reuse")) {
+                reuse = true;
+            } else {
+                rest.add(arg);
+            }
+        }
+        if (rest.size() < 5) usage();
+        parserClass = Class.forName(rest.get(0));
+        rootProduction = parserClass.getMethod(rest.get(1));
+        try {
+            // With COMPACT_TREE, the tree that is dumped is the one from the CompactTree.
+            compactTree = parserClass.getMethod("compactTree");
+        } catch (NoSuchMethodException e) {
+        }
+        String packageName = parserClass.getPackage().getName();
+        nodeClass = Class.forName(packageName + ".Node");
+        tokenClass = Class.forName(packageName + ".Token");
+        String extension = rest.get(2);
+        Path dumpFile = Paths.get(rest.get(3));
+        List<Path> paths = new ArrayList<>();
+        for (String arg : rest.subList(4, rest.size())) {
+            try (Stream<Path> files = Files.walk(Paths.get(arg))) {
+                paths.addAll(files.filter(p -> !Files.isDirectory(p) && p.toString().endsWith(extension))
+                                  .sorted()
+                                  .collect(Collectors.toList()));
+            }
+        }
+        if (paths.isEmpty()) usage();
+
+        StringBuilder buf = new StringBuilder();
+        List<String> dumps = new ArrayList<>();
+        for (Path path : paths) {
+            Object parser = parserClass.getConstructor(Path.class).newInstance(path);
+            String dump = parse(parser);
+            dumps.add(dump);
+            buf.append("==== ").append(path.getFileName()).append('\n').append(dump);
+        }
+        Files.write(dumpFile, buf.toString().getBytes(StandardCharsets.UTF_8));
+        System.out.println("Wrote the dumps of " + paths.size() + " files to " + dumpFile);
+        if (reuse) {
+            int mismatches = checkReuse(paths, dumps);
+            if (mismatches > 0) {
+                System.out.println(mismatches + " dumps differed from the ones with a new parser.");
+                System.exit(-1);
+            }
+            System.out.println("Memory-mapped input, reset parsers and pooled parsers gave the same dumps.");
+        }
+        if (nodeApiFailures > 0) {
+            System.out.println(nodeApiFailures + " checks of the traversals and the visitor failed.");
+            System.exit(-1);
+        }
+    }
+
+    static int checkReuse(List<Path> paths, List<String> expected) throws Exception {
+        int mismatches = 0;
+        Constructor<?> mappedConstructor = parserClass.getConstructor(String.class, Path.class, Charset.class, boolean.class);
+        Method reset = parserClass.getMethod("reset", Path.class);
+        Class<?> poolClass = Class.forName(parserClass.getPackage().getName() + ".ParserPool");
+        Object pool = poolClass.getConstructor(int.class).newInstance(2);
+        Method acquire = poolClass.getMethod("acquire", Path.class);
+        Method release = poolClass.getMethod("release", parserClass);
+        Object resetParser = null;
+        for (int i = 0; i < paths.size(); i++) {
+            Path path = paths.get(i);
+            Object mappedParser = mappedConstructor.newInstance(path.toString(), path, null, true);
+            if (!parse(mappedParser).equals(expected.get(i))) {
+                System.err.println("The dump of " + path + " differs with memory-mapped input.");
+                mismatches++;
+            }
+            if (resetParser == null) {
+                resetParser = parserClass.getConstructor(Path.class).newInstance(path);
+            } else {
+                reset.invoke(resetParser, path);
+            }
+            if (!parse(resetParser).equals(expected.get(i))) {
+                System.err.println("The dump of " + path + " differs with a reset parser.");
+                mismatches++;
+            }
+            // Go through the files twice so that the parsers in the pool get reused.
+            for (int round = 0; round < 2; round++) {
+                Object pooledParser = acquire.invoke(pool, path);
+                if (!parse(pooledParser).equals(expected.get(i))) {
+                    System.err.println("The dump of " + path + " differs with a pooled parser.");
+                    mismatches++;
+                }
+                release.invoke(pool, pooledParser);
+            }
+        }
+        return mismatches;
+    }
+
+    /**
+     * @return the dump of the token stream and the AST,
+     * or the exception if the parse failed.
+     */
+    static String parse(Object parser) throws ReflectiveOperationException {
+        StringBuilder buf = new StringBuilder();
+        try {
+            rootProduction.invoke(parser);
+            Object root = compactTree == null ? call(parserClass, parser, "rootNode") 
+                                              : call(compactTree.getReturnType(), compactTree.invoke(parser), "getRoot");
+            checkNodeApi(root);
+            buf.append("tokens:\n");
+            List<?> tokens = (List<?>) nodeClass.getMethod("getAllTokens", boolean.class).invoke(root, true);
+            for (Object tok = tokens.isEmpty() ? null : tokens.get(0); tok != null; tok = call(tokenClass, tok, "nextCachedToken")) {
+                dumpToken(tok, 1, buf);
+            }
+            buf.append("tree:\n");
+            dumpNode(root, 1, buf);
+        } catch (InvocationTargetException e) {
+            buf.append("FAILED: ").append(e.getCause()).append('\n');
+        }
+        return buf.toString();
+    }
+
+    static void checkNodeApi(Object root) throws ReflectiveOperationException {
+        try {
+            checkTraversals(root);
+            checkVisitor(root);
+        } catch (InvocationTargetException e) {
+            System.err.println("Checking the traversals and the visitor failed with " + e.getCause());
+            nodeApiFailures++;
+        }
+    }
+
+    static void checkTraversals(Object root) throws ReflectiveOperationException {
+        List<?> descendants = (List<?>) call(nodeClass, root, "descendants");
+        check("preOrderIterator()", descendants, toList((Iterator<?>) call(nodeClass, root, "preOrderIterator")));
+        List<Object> postOrder = new ArrayList<>();
+        walkPostOrder(root, postOrder);
+        postOrder.remove(postOrder.size() - 1);
+        check("postOrderIterator()", postOrder, toList((Iterator<?>) call(nodeClass, root, "postOrderIterator")));
+        check("descendantStream()", descendants, ((Stream<?>) call(nodeClass, root, "descendantStream")).collect(Collectors.toList()));
+        List<Object> splits = new ArrayList<>();
+        splitAll((Spliterator<?>) call(nodeClass, root, "descendantSpliterator"), false, splits);
+        check("descendantSpliterator(), split all the way down", descendants, splits);
+        splits.clear();
+        splitAll((Spliterator<?>) call(nodeClass, root, "descendantSpliterator"), true, splits);
+        check("descendantSpliterator(), advanced before each split", descendants, splits);
+        Spliterator<?> spliterator = (Spliterator<?>) call(nodeClass, root, "descendantSpliterator");
+        check("a parallel stream of descendantSpliterator()", descendants, 
+              StreamSupport.stream(spliterator, true).collect(Collectors.toList()));
+        Method firstDescendant = nodeClass.getMethod("firstDescendant", Predicate.class);
+        List<Predicate<Object>> predicates = new ArrayList<>();
+        predicates.add(tokenClass::isInstance);
+        if (!descendants.isEmpty()) {
+            Class<?> lastClass = descendants.get(descendants.size() - 1).getClass();
+            predicates.add(n -> n.getClass() == lastClass);
+        }
+        predicates.add(n -> false);
+        for (Predicate<Object> predicate : predicates) {
+            Object expected = descendants.stream().filter(predicate).findFirst().orElse(null);
+            Object actual = firstDescendant.invoke(root, predicate);
+            if (actual != expected) {
+                System.err.println("firstDescendant(...) returned " + actual + " rather than " + expected);
+                nodeApiFailures++;
+            }
+        }
+    }
+
+    static void walkPostOrder(Object node, List<Object> result) throws ReflectiveOperationException {
+        int childCount = (Integer) call(nodeClass, node, "getChildCount");
+        for (int i = 0; i < childCount; i++) {
+            walkPostOrder(nodeClass.getMethod("getChild", int.class).invoke(node, i), result);
+        }
+        result.add(node);
+    }
+
+    /**
+     * Splits the spliterator as far as it goes and adds what the parts 
+     * give to the result, in order, optionally taking an element from 
+     * each part before splitting it.
+     */
+    static void splitAll(Spliterator<?> spliterator, boolean advanceFirst, List<Object> result) {
+        if (advanceFirst && !spliterator.tryAdvance(result::add)) return;
+        Spliterator<?> prefix = spliterator.trySplit();
+        if (prefix == null) {
+            spliterator.forEachRemaining(result::add);
+        } else {
+            splitAll(prefix, advanceFirst, result);
+            splitAll(spliterator, advanceFirst, result);
+        }
+    }
+
+    static List<Object> toList(Iterator<?> iterator) {
+        List<Object> result = new ArrayList<>();
+        iterator.forEachRemaining(result::add);
+        return result;
+    }
+
+    /**
+     * Checks that the lists have the very same nodes in the same order.
+     */
+    static void check(String what, List<?> expected, List<?> actual) {
+        boolean same = expected.size() == actual.size();
+        for (int i = 0; same && i < expected.size(); i++) {
+            same = expected.get(i) == actual.get(i);
+        }
+        if (!same) {
+            System.err.println(what + " gave " + actual.size() + " nodes, not the " + expected.size() 
+                               + " from a plain walk over the tree, or not in the same order.");
+            nodeApiFailures++;
+        }
+    }
+
+    static void checkVisitor(Object root) throws ReflectiveOperationException {
+        Class<?> visitorClass;
+        try {
+            visitorClass = Class.forName(parserClass.getName() + "$DumpVisitor");
+        } catch (ClassNotFoundException e) {
+            return;
+        }
+        Constructor<?> constructor = visitorClass.getDeclaredConstructor();
+        constructor.setAccessible(true);
+        Object visitor = constructor.newInstance();
+        Class.forName(nodeClass.getName() + "$Visitor").getMethod("visit", nodeClass).invoke(visitor, root);
+        Field visits = visitorClass.getDeclaredField("visits");
+        visits.setAccessible(true);
+        List<String> expected = new ArrayList<>();
+        expectVisits(visitorClass, root, expected);
+        if (!expected.equals(visits.get(visitor))) {
+            System.err.println("The visitor made the visits " + visits.get(visitor) + " rather than " + expected);
+            nodeApiFailures++;
+        }
+    }
+
+    /**
+     * Works out, with plain reflection, which visit methods the visitor
+     * should call. Each of them records the type it takes and the offset 
+     * of the node, and then recurses into the node's children, which is 
+     * also what happens if there is no visit method for the node.
+     */
+    static void expectVisits(Class<?> visitorClass, Object node, List<String> result) throws ReflectiveOperationException {
+        Class<?> type = visitMethodType(visitorClass, node.getClass());
+        if (type != null) {
+            result.add(type.getSimpleName() + " " + call(nodeClass, node, "getBeginOffset"));
+        }
+        for (Object child : (List<?>) nodeClass.getMethod("children", boolean.class).invoke(node, false)) {
+            expectVisits(visitorClass, child, result);
+        }
+    }
+
+    /**
+     * @return the type that the visit method for the node class takes: 
+     * the class itself, or failing that, one of the interfaces it implements,
+     * and failing that, the same for its superclass, and so on.
+     */
+    static Class<?> visitMethodType(Class<?> visitorClass, Class<?> type) {
+        for (Class<?> c = type; c != null && nodeClass.isAssignableFrom(c); c = c.getSuperclass()) {
+            if (hasVisitMethod(visitorClass, c)) return c;
+            for (Class<?> interf : c.getInterfaces()) {
+                if (interf != nodeClass && nodeClass.isAssignableFrom(interf) && hasVisitMethod(visitorClass, interf)) {
+                    return interf;
+                }
+            }
+        }
+        return null;
+    }
+
+    static boolean hasVisitMethod(Class<?> visitorClass, Class<?> type) {
+        try {
+            visitorClass.getDeclaredMethod("visit", type);
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    static void dumpNode(Object node, int depth, StringBuilder buf) throws ReflectiveOperationException {
+        if (node == null) return;
+        if (tokenClass.isInstance(node)) {
+            if (!(Boolean) call(tokenClass, node, "isUnparsed")) {
+                for (Object tok : (List<?>) call(tokenClass, node, "precedingUnparsedTokens")) {
+                    dumpToken(tok, depth, buf);
+                }
+            }
+            dumpToken(node, depth, buf);
+            return;
+        }
+        indent(depth, buf);
+        buf.append(node.getClass().getName()).append(' ');
+        appendLocation(node, buf);
+        buf.append('\n');
+        int childCount = (Integer) call(nodeClass, node, "getChildCount");
+        for (int i = 0; i < childCount; i++) {
+            dumpNode(nodeClass.getMethod("getChild", int.class).invoke(node, i), depth + 1, buf);
+        }
+    }
+
+    static void dumpToken(Object tok, int depth, StringBuilder buf) throws ReflectiveOperationException {
+        indent(depth, buf);
+        buf.append(call(tokenClass, tok, "getType")).append(' ');
+        if ((Boolean) call(tokenClass, tok, "isUnparsed")) buf.append("(unparsed) ");
+        appendLocation(tok, buf);
+        buf.append(' ');
+        String image = (String) call(tokenClass, tok, "getImage");
+        buf.append(image.replace("\\", "\\\\").replace("\n", "\\n").replace("\r", "\\r").replace("\t", "\\t"));
+        buf.append('\n');
+    }
+
+    static void appendLocation(Object node, StringBuilder buf) throws ReflectiveOperationException {
+        buf.append(call(nodeClass, node, "getBeginOffset")).append('-').append(call(nodeClass, node, "getEndOffset"))
+           .append(" (").append(call(nodeClass, node, "getBeginLine")).append(':').append(call(nodeClass, node, "getBeginColumn"))
+           .append('-').append(call(nodeClass, node, "getEndLine")).append(':').append(call(nodeClass, node, "getEndColumn"))
+           .append(')');
+    }
+
+    static Object call(Class<?> type, Object target, String methodName) throws ReflectiveOperationException {
+        return type.getMethod(methodName).invoke(target);
+    }
+
+    static void indent(int depth, StringBuilder buf) {
+        for (int i = 0; i < depth; i++) buf.append(' ');
+    }
+
+    static public void usage() {
+        System.out.println("Usage: java ParseDump [-reuse] <parser class> <root production> <file extension> <dump file> <files or directories>");
+        System.out.println("For example: java ParseDump -reuse org.parsers.java.JavaParser CompilationUnit .java java.txt ../java/testfiles");
+        System.exit(-1);
+    }
+}
@@ -0,0 +1,938 @@
+/* Generated by: JavaCC 21 Parser Generator. PreprocessorParser.java */
+package org.parsers.preprocessor;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import static org.parsers.preprocessor.PreprocessorConstants.TokenType.*;
+
+
+public class PreprocessorParser implements PreprocessorConstants {
+    private final BitSet lineMarkers = new BitSet();
+    private final Map<String, String> definedSymbols = new HashMap<> ();
+    private boolean currentlyOn = true;
+    private boolean csharpMode = false;
+
+    public PreprocessorParser(Path path, Map<String, String> definedSymbols, boolean csharpMode) throws IOException {
+        this(path);
+        this.csharpMode = csharpMode;
+        if (definedSymbols!=null) 
+        addSymbols(definedSymbols);
+        token_source.switchTo(LexicalState.PP_SCAN_LINES);
+    }
+
+    public PreprocessorParser(CharSequence content, Map<String, String> definedSymbols) throws IOException {
+        this(content);
+        if (definedSymbols!=null) 
+        addSymbols(definedSymbols);
+        token_source.switchTo(LexicalState.PP_SCAN_LINES);
+        this.csharpMode = false;
+    }
+
+    public BitSet getLineMarkers() {
+        return lineMarkers;
+    }
+
+    private void setLineMarker() {
+        int lineNumber = lastConsumedToken.getBeginLine();
+        if (currentlyOn) 
+        lineMarkers.set(lineNumber);
+    }
+
+    public void setSymbol(String symbol, String value) {
+        definedSymbols.put(symbol, value);
+    }
+
+    public void unsetSymbol(String symbol) {
+        definedSymbols.put(symbol, "0");
+    }
+
+    public void addSymbols(Map<String, String> symbols) {
+        definedSymbols.putAll(symbols);
+    }
+
+
+    private static class Expression {
+        boolean booleanValue;
+        String symbol;
+    }
+
+    static final int UNLIMITED = Integer.MAX_VALUE;
+    // The last token successfully "consumed"
+    Token lastConsumedToken;
+    private TokenType nextTokenType;
+    private Token currentLookaheadToken;
+    private int remainingLookahead;
+    private boolean hitFailure, passedPredicate;
+    // The names of the parser productions, indexed by the ids
+    // that identify them on the call stacks
+    private static final String[]PRODUCTION_NAMES =  {"PP_Root", "PP_Block", "PP_Content", "PP_IfBlock", "PP_DefStatement", "PP_UndefStatement", "PP_Expression", "PP_OrExpression", "PP_AndExpression", "PP_NotExpression", "PP_Parentheses", "PP_PrimaryExpression", };
+    private static final Map<String, Integer> PRODUCTION_IDS = new HashMap<> ();
+    static {
+        for (int i = 0; i < PRODUCTION_NAMES.length; i++) {
+            PRODUCTION_IDS.put(PRODUCTION_NAMES[i], i);
+        }
+    }
+    private int currentlyParsedProduction = -1, currentLookaheadProduction = -1;
+    private int lookaheadRoutineNesting, passedPredicateThreshold = -1;
+    private EnumSet<TokenType> outerFollowSet;
+    private boolean cancelled;
+
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /** Generated Lexer. */
+    public PreprocessorLexer token_source;
+
+    public void setInputSource(String inputSource) {
+        token_source.setInputSource(inputSource);
+    }
+
+    String getInputSource() {
+        return token_source.getInputSource();
+    }
+
+    //=================================
+    // Generated constructors
+    //=================================
+    public PreprocessorParser(String inputSource, CharSequence content) {
+        this(new PreprocessorLexer(inputSource, content));
+    }
+
+    public PreprocessorParser(CharSequence content) {
+        this("input", content);
+    }
+
+    /**
+    * @param inputSource just the name of the input source (typically the filename) that
+    * will be used in error messages and so on.
+    * @param path The location (typically the filename) from which to get the input to parse
+    */
+    public PreprocessorParser(String inputSource, Path path) throws IOException {
+        this(inputSource, PreprocessorLexer.stringFromBytes(Files.readAllBytes(path)));
+    }
+
+    public PreprocessorParser(String inputSource, Path path, Charset charset) throws IOException {
+        this(inputSource, PreprocessorLexer.stringFromBytes(Files.readAllBytes(path), charset));
+    }
+
+    /**
+    * @param inputSource just the name of the input source (typically the filename) that
+    * will be used in error messages and so on.
+    * @param path The location (typically the filename) from which to get the input to parse
+    * @param charset The encoding of the file. If this is null, it is worked out from the byte order mark,
+    * defaulting to UTF-8.
+    * @param memoryMapped whether to memory-map the file rather than read it into memory.
+    * (See PreprocessorLexer#mapFile)
+    */
+    public PreprocessorParser(String inputSource, Path path, Charset charset, boolean memoryMapped) throws IOException {
+        this(inputSource, memoryMapped ? PreprocessorLexer.mapFile(path, charset) : PreprocessorLexer.stringFromBytes(Files.readAllBytes(path), charset));
+    }
+
+    /**
+    * @param path The location (typically the filename) from which to get the input to parse
+    */
+    public PreprocessorParser(Path path) throws IOException {
+        this(path.toString(), path);
+    }
+
+    /**
+    * @Deprecated Use the constructor that takes a #java.nio.files.Path or just
+    * a String (i.e. CharSequence) directly.
+    */
+    public PreprocessorParser(java.io.InputStream stream) {
+        this(new InputStreamReader(stream));
+    }
+
+    /**
+    * @Deprecated Use the constructor that takes a #java.nio.files.Path or just
+    * a String (i.e. CharSequence) directly.
+    */
+    public PreprocessorParser(Reader reader) {
+        this(new PreprocessorLexer("input", reader));
+    }
+
+    /** Constructor with user supplied Lexer. */
+    public PreprocessorParser(PreprocessorLexer lexer) {
+        token_source = lexer;
+        lastConsumedToken = lexer.DUMMY_START_TOKEN;
+        lastConsumedToken.setTokenSource(lexer);
+    }
+
+    /**
+    * Resets this parser, and its lexer, so that it parses the given input
+    * from the start, reusing the internal buffers of both rather than
+    * constructing new objects. This is meant for parsing many (typically small)
+    * inputs in turn, possibly via a ParserPool. The Tokens and Nodes from the
+    * previous input should not be used after this, since they refer back to
+    * the lexer. Any state added to the parser by injected code is not reset.
+    * @param inputSource just the name of the input source (typically the filename) that
+    * will be used in error messages and so on.
+    * @param content the input to parse
+    */
+    public void reset(String inputSource, CharSequence content) {
+        token_source.reset(inputSource, content);
+        lastConsumedToken = token_source.DUMMY_START_TOKEN;
+        lastConsumedToken.setTokenSource(token_source);
+        nextTokenType = null;
+        currentLookaheadToken = null;
+        remainingLookahead = 0;
+        hitFailure = passedPredicate = false;
+        currentlyParsedProduction = currentLookaheadProduction = -1;
+        lookaheadRoutineNesting = 0;
+        passedPredicateThreshold = -1;
+        outerFollowSet = null;
+        cancelled = false;
+        parsingStack.clear();
+        lookaheadStack.clear();
+        parseStateStack.clear();
+    }
+
+    public void reset(CharSequence content) {
+        reset("input", content);
+    }
+
+    /**
+    * Resets this parser to parse the given file. (See #reset(String, CharSequence))
+    * @param path The location (typically the filename) from which to get the input to parse
+    */
+    public void reset(Path path) throws IOException {
+        reset(path.toString(), PreprocessorLexer.stringFromBytes(Files.readAllBytes(path)));
+    }
+
+    // If the next token is cached, it returns that
+    // Otherwise, it goes to the token_source, i.e. the Lexer.
+    final private Token nextToken(final Token tok) {
+        Token result = token_source.getNextToken(tok);
+        while (result.isUnparsed()) {
+            result = token_source.getNextToken(result);
+        }
+        nextTokenType = null;
+        return result;
+    }
+
+    /**
+    * @return the next Token off the stream. This is the same as #getToken(1)
+    */
+    final public Token getNextToken() {
+        return getToken(1);
+    }
+
+    /**
+    * @param index how many tokens to look ahead
+    * @return the specific regular (i.e. parsed) Token index ahead/behind in the stream.
+    * If we are in a lookahead, it looks ahead from the currentLookaheadToken
+    * Otherwise, it is the lastConsumedToken. If you pass in a negative
+    * number it goes backward.
+    */
+    final public Token getToken(final int index) {
+        Token t = currentLookaheadToken==null ? lastConsumedToken : currentLookaheadToken;
+        for (int i = 0; i < index; i++) {
+            t = nextToken(t);
+        }
+        for (int i = 0; i > index; i--) {
+            t = t.getPrevious();
+            if (t==null) break;
+        }
+        return t;
+    }
+
+    private final TokenType nextTokenType() {
+        if (nextTokenType==null) {
+            nextTokenType = nextToken(lastConsumedToken).getType();
+        }
+        return nextTokenType;
+    }
+
+    boolean activateTokenTypes(TokenType...types) {
+        boolean result = false;
+        for (TokenType tt : types) {
+            result|=token_source.activeTokenTypes.add(tt);
+        }
+        if (result) {
+            token_source.reset(getToken(0));
+            nextTokenType = null;
+        }
+        return result;
+    }
+
+    boolean deactivateTokenTypes(TokenType...types) {
+        boolean result = false;
+        for (TokenType tt : types) {
+            result|=token_source.activeTokenTypes.remove(tt);
+        }
+        if (result) {
+            token_source.reset(getToken(0));
+            nextTokenType = null;
+        }
+        return result;
+    }
+
+    private static int productionId(String productionName) {
+        Integer id = PRODUCTION_IDS.get(productionName);
+        return id==null ? -1 : id;
+    }
+
+    private static String productionName(int productionId) {
+        return productionId < 0 ? null : PRODUCTION_NAMES[productionId];
+    }
+
+    // /root/project/examples/preprocessor/Preprocessor.javacc:167:1
+    final public BitSet PP_Root() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 0;
+        // Code for NonTerminal specified at /root/project/examples/preprocessor/Preprocessor.javacc:167:23
+        pushOntoCallStack(0, "/root/project/examples/preprocessor/Preprocessor.javacc", 167, 23);
+        try {
+            PP_Block();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for EndOfFile specified at /root/project/examples/preprocessor/Preprocessor.javacc:167:32
+        consumeToken(EOF);
+        // Code for CodeBlock specified at /root/project/examples/preprocessor/Preprocessor.javacc:167:38
+        return lineMarkers;
+    }
+
+    // /root/project/examples/preprocessor/Preprocessor.javacc:169:1
+    final public void PP_Block() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 1;
+        // Code for ZeroOrMore specified at /root/project/examples/preprocessor/Preprocessor.javacc:169:17
+        while (true) {
+            // Code for ExpansionChoice specified at /root/project/examples/preprocessor/Preprocessor.javacc:169:18
+            if (nextTokenType()==PP_IF) {
+                // Code for NonTerminal specified at /root/project/examples/preprocessor/Preprocessor.javacc:169:18
+                pushOntoCallStack(1, "/root/project/examples/preprocessor/Preprocessor.javacc", 169, 18);
+                try {
+                    PP_IfBlock();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (nextTokenType()==PP_DEFINE) {
+                // Code for NonTerminal specified at /root/project/examples/preprocessor/Preprocessor.javacc:169:31
+                pushOntoCallStack(1, "/root/project/examples/preprocessor/Preprocessor.javacc", 169, 31);
+                try {
+                    PP_DefStatement();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (nextTokenType()==PP_UNDEF) {
+                // Code for NonTerminal specified at /root/project/examples/preprocessor/Preprocessor.javacc:169:49
+                pushOntoCallStack(1, "/root/project/examples/preprocessor/Preprocessor.javacc", 169, 49);
+                try {
+                    PP_UndefStatement();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (nextTokenType()==PP_LINE||nextTokenType==PP_FALSE_ALERT) {
+                // Code for NonTerminal specified at /root/project/examples/preprocessor/Preprocessor.javacc:169:69
+                pushOntoCallStack(1, "/root/project/examples/preprocessor/Preprocessor.javacc", 169, 69);
+                try {
+                    PP_Content();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else {
+                break;
+            }
+        }
+    }
+
+    // /root/project/examples/preprocessor/Preprocessor.javacc:171:1
+    final public void PP_Content() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 2;
+        // Code for OneOrMore specified at /root/project/examples/preprocessor/Preprocessor.javacc:171:19
+        while (true) {
+            if (nextTokenType()==PP_LINE) {
+                // Code for RegexpRef specified at /root/project/examples/preprocessor/Preprocessor.javacc:171:21
+                consumeToken(PP_LINE);
+            }
+            else if (nextTokenType()==PP_FALSE_ALERT) {
+                // Code for RegexpRef specified at /root/project/examples/preprocessor/Preprocessor.javacc:171:31
+                consumeToken(PP_FALSE_ALERT);
+            }
+            else {
+                pushOntoCallStack(2, "/root/project/examples/preprocessor/Preprocessor.javacc", 171, 21);
+                throw new ParseException(this, first_set$Preprocessor_javacc$171$21, parsingStack.toList());
+            }
+            // Code for CodeBlock specified at /root/project/examples/preprocessor/Preprocessor.javacc:171:49
+            setLineMarker();
+            if (!(nextTokenType()==PP_LINE||nextTokenType==PP_FALSE_ALERT)) break;
+        }
+    }
+
+    // /root/project/examples/preprocessor/Preprocessor.javacc:173:1
+    final public void PP_IfBlock() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 3;
+        boolean alreadyHandled = false;
+        Expression result;
+        final boolean previouslyOn = currentlyOn;
+        // Code for RegexpRef specified at /root/project/examples/preprocessor/Preprocessor.javacc:179:5
+        consumeToken(PP_IF);
+        // Code for NonTerminal specified at /root/project/examples/preprocessor/Preprocessor.javacc:180:5
+        pushOntoCallStack(3, "/root/project/examples/preprocessor/Preprocessor.javacc", 180, 5);
+        try {
+            result = PP_Expression();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for CodeBlock specified at /root/project/examples/preprocessor/Preprocessor.javacc:180:28
+        if (result.booleanValue) 
+        alreadyHandled = true;
+        currentlyOn = result.booleanValue&&previouslyOn;
+        // Code for NonTerminal specified at /root/project/examples/preprocessor/Preprocessor.javacc:184:5
+        pushOntoCallStack(3, "/root/project/examples/preprocessor/Preprocessor.javacc", 184, 5);
+        try {
+            PP_Block();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for CodeBlock specified at /root/project/examples/preprocessor/Preprocessor.javacc:184:14
+        if (alreadyHandled) 
+        currentlyOn = false;
+        // Code for ZeroOrMore specified at /root/project/examples/preprocessor/Preprocessor.javacc:185:5
+        while (true) {
+            if (!(nextTokenType()==PP_ELIF)) break;
+            // Code for RegexpRef specified at /root/project/examples/preprocessor/Preprocessor.javacc:186:9
+            consumeToken(PP_ELIF);
+            // Code for NonTerminal specified at /root/project/examples/preprocessor/Preprocessor.javacc:186:19
+            pushOntoCallStack(3, "/root/project/examples/preprocessor/Preprocessor.javacc", 186, 19);
+            try {
+                result = PP_Expression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for CodeBlock specified at /root/project/examples/preprocessor/Preprocessor.javacc:187:9
+            if (!alreadyHandled) {
+                alreadyHandled = result.booleanValue;
+                currentlyOn = previouslyOn&&result.booleanValue;
+            }
+            // Code for NonTerminal specified at /root/project/examples/preprocessor/Preprocessor.javacc:193:9
+            pushOntoCallStack(3, "/root/project/examples/preprocessor/Preprocessor.javacc", 193, 9);
+            try {
+                PP_Block();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        // Code for ZeroOrOne specified at /root/project/examples/preprocessor/Preprocessor.javacc:195:5
+        if (nextTokenType()==PP_ELSE) {
+            // Code for RegexpRef specified at /root/project/examples/preprocessor/Preprocessor.javacc:196:9
+            consumeToken(PP_ELSE);
+            // Code for CodeBlock specified at /root/project/examples/preprocessor/Preprocessor.javacc:196:19
+            currentlyOn = !alreadyHandled&&previouslyOn;
+            // Code for NonTerminal specified at /root/project/examples/preprocessor/Preprocessor.javacc:197:9
+            pushOntoCallStack(3, "/root/project/examples/preprocessor/Preprocessor.javacc", 197, 9);
+            try {
+                PP_Block();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        // Code for RegexpRef specified at /root/project/examples/preprocessor/Preprocessor.javacc:199:5
+        consumeToken(PP_ENDIF);
+        // Code for CodeBlock specified at /root/project/examples/preprocessor/Preprocessor.javacc:200:5
+        this.currentlyOn = previouslyOn;
+    }
+
+    // /root/project/examples/preprocessor/Preprocessor.javacc:203:1
+    final public void PP_DefStatement() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 4;
+        String value = "1";
+        // Code for RegexpRef specified at /root/project/examples/preprocessor/Preprocessor.javacc:207:3
+        consumeToken(PP_DEFINE);
+        // Code for RegexpRef specified at /root/project/examples/preprocessor/Preprocessor.javacc:207:15
+        consumeToken(PP_SYMBOL);
+        // Code for ZeroOrOne specified at /root/project/examples/preprocessor/Preprocessor.javacc:208:3
+        if (nextTokenType()==PP_ASSIGN) {
+            // Code for RegexpRef specified at /root/project/examples/preprocessor/Preprocessor.javacc:209:5
+            consumeToken(PP_ASSIGN);
+            // Code for RegexpRef specified at /root/project/examples/preprocessor/Preprocessor.javacc:210:5
+            consumeToken(PP_SYMBOL);
+            // Code for CodeBlock specified at /root/project/examples/preprocessor/Preprocessor.javacc:210:17
+            if (csharpMode) {
+                throw new ParseException("Symbols cannot have defined values in C# mode.");
+            }
+            value = lastConsumedToken.getImage();
+        }
+        // Code for CodeBlock specified at /root/project/examples/preprocessor/Preprocessor.javacc:217:3
+        if (currentlyOn) {
+            definedSymbols.put(lastConsumedToken.getImage(), value);
+        }
+    }
+
+    // /root/project/examples/preprocessor/Preprocessor.javacc:224:1
+    final public void PP_UndefStatement() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 5;
+        // Code for RegexpRef specified at /root/project/examples/preprocessor/Preprocessor.javacc:225:5
+        consumeToken(PP_UNDEF);
+        // Code for RegexpRef specified at /root/project/examples/preprocessor/Preprocessor.javacc:225:16
+        consumeToken(PP_SYMBOL);
+        // Code for CodeBlock specified at /root/project/examples/preprocessor/Preprocessor.javacc:226:5
+        if (currentlyOn) 
+        definedSymbols.remove(lastConsumedToken.getImage());
+    }
+
+    // /root/project/examples/preprocessor/Preprocessor.javacc:229:1
+    final public Expression PP_Expression() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 6;
+        Expression result, result2;
+        boolean inequality = false;
+        // Code for NonTerminal specified at /root/project/examples/preprocessor/Preprocessor.javacc:234:3
+        pushOntoCallStack(6, "/root/project/examples/preprocessor/Preprocessor.javacc", 234, 3);
+        try {
+            result = PP_OrExpression();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for ZeroOrOne specified at /root/project/examples/preprocessor/Preprocessor.javacc:235:3
+        if (nextTokenType()==PP_EQUALS||nextTokenType==PP_NOT_EQUALS) {
+            if (nextTokenType()==PP_EQUALS) {
+                // Code for RegexpRef specified at /root/project/examples/preprocessor/Preprocessor.javacc:236:6
+                consumeToken(PP_EQUALS);
+            }
+            else if (nextTokenType()==PP_NOT_EQUALS) {
+                // Code for RegexpRef specified at /root/project/examples/preprocessor/Preprocessor.javacc:236:18
+                consumeToken(PP_NOT_EQUALS);
+                // Code for CodeBlock specified at /root/project/examples/preprocessor/Preprocessor.javacc:236:33
+                inequality = true;
+            }
+            else {
+                pushOntoCallStack(6, "/root/project/examples/preprocessor/Preprocessor.javacc", 236, 6);
+                throw new ParseException(this, first_set$Preprocessor_javacc$236$6, parsingStack.toList());
+            }
+            // Code for NonTerminal specified at /root/project/examples/preprocessor/Preprocessor.javacc:237:5
+            pushOntoCallStack(6, "/root/project/examples/preprocessor/Preprocessor.javacc", 237, 5);
+            try {
+                result2 = PP_OrExpression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for CodeBlock specified at /root/project/examples/preprocessor/Preprocessor.javacc:238:5
+            if (csharpMode||result.symbol==null||result2.symbol==null) {
+                result.booleanValue = inequality==(result.booleanValue!=result2.booleanValue);
+            }
+            else {
+                // Not C# mode, and LHS and RHS are symbols
+                String key = result.symbol;
+                String value = result2.symbol;
+                result.symbol = null;
+                // don't propagate further
+                result2.symbol = null;
+                if (!definedSymbols.containsKey(key)) {
+                    if (!definedSymbols.containsKey(value)) {
+                        // neither LHS nor RHS appears to be defined, so both are
+                        // logically false, so ...
+                        result.booleanValue = !inequality;
+                    }
+                    else {
+                        // LHS isn't defined, so logically false. RHS is defined,
+                        // but its value might be "0" because it was undef'ed.
+                        result.booleanValue = inequality!=definedSymbols.get(value).equals("0");
+                    }
+                }
+                else {
+                    String keyValue = definedSymbols.get(key);
+                    result.booleanValue = inequality!=value.equals(keyValue);
+                }
+            }
+        }
+        // Code for CodeBlock specified at /root/project/examples/preprocessor/Preprocessor.javacc:268:3
+        return result;
+    }
+
+    // /root/project/examples/preprocessor/Preprocessor.javacc:271:1
+    final public Expression PP_OrExpression() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 7;
+        Expression result, result2;
+        // Code for NonTerminal specified at /root/project/examples/preprocessor/Preprocessor.javacc:273:4
+        pushOntoCallStack(7, "/root/project/examples/preprocessor/Preprocessor.javacc", 273, 4);
+        try {
+            result = PP_AndExpression();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified at /root/project/examples/preprocessor/Preprocessor.javacc:274:3
+        while (true) {
+            if (!(nextTokenType()==PP_OR)) break;
+            // Code for RegexpRef specified at /root/project/examples/preprocessor/Preprocessor.javacc:274:4
+            consumeToken(PP_OR);
+            // Code for NonTerminal specified at /root/project/examples/preprocessor/Preprocessor.javacc:274:12
+            pushOntoCallStack(7, "/root/project/examples/preprocessor/Preprocessor.javacc", 274, 12);
+            try {
+                result2 = PP_AndExpression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for CodeBlock specified at /root/project/examples/preprocessor/Preprocessor.javacc:274:39
+            result.booleanValue = result.booleanValue||result2.booleanValue;
+        }
+        // Code for CodeBlock specified at /root/project/examples/preprocessor/Preprocessor.javacc:275:4
+        return result;
+    }
+
+    // /root/project/examples/preprocessor/Preprocessor.javacc:278:1
+    final public Expression PP_AndExpression() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 8;
+        Expression result, result2;
+        // Code for NonTerminal specified at /root/project/examples/preprocessor/Preprocessor.javacc:280:4
+        pushOntoCallStack(8, "/root/project/examples/preprocessor/Preprocessor.javacc", 280, 4);
+        try {
+            result = PP_NotExpression();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified at /root/project/examples/preprocessor/Preprocessor.javacc:281:3
+        while (true) {
+            if (!(nextTokenType()==PP_AND)) break;
+            // Code for RegexpRef specified at /root/project/examples/preprocessor/Preprocessor.javacc:281:4
+            consumeToken(PP_AND);
+            // Code for NonTerminal specified at /root/project/examples/preprocessor/Preprocessor.javacc:281:13
+            pushOntoCallStack(8, "/root/project/examples/preprocessor/Preprocessor.javacc", 281, 13);
+            try {
+                result2 = PP_NotExpression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for CodeBlock specified at /root/project/examples/preprocessor/Preprocessor.javacc:281:40
+            result.booleanValue = result.booleanValue&&result2.booleanValue;
+        }
+        // Code for CodeBlock specified at /root/project/examples/preprocessor/Preprocessor.javacc:282:4
+        return result;
+    }
+
+    // /root/project/examples/preprocessor/Preprocessor.javacc:285:1
+    final public Expression PP_NotExpression() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 9;
+        boolean notFlag = false;
+        Expression result;
+        // Code for ZeroOrMore specified at /root/project/examples/preprocessor/Preprocessor.javacc:290:4
+        while (true) {
+            if (!(nextTokenType()==PP_NOT)) break;
+            // Code for RegexpRef specified at /root/project/examples/preprocessor/Preprocessor.javacc:290:5
+            consumeToken(PP_NOT);
+            // Code for CodeBlock specified at /root/project/examples/preprocessor/Preprocessor.javacc:290:14
+            notFlag = !notFlag;
+        }
+        // Code for NonTerminal specified at /root/project/examples/preprocessor/Preprocessor.javacc:291:4
+        pushOntoCallStack(9, "/root/project/examples/preprocessor/Preprocessor.javacc", 291, 4);
+        try {
+            result = PP_PrimaryExpression();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for CodeBlock specified at /root/project/examples/preprocessor/Preprocessor.javacc:292:3
+        if (notFlag) {
+            result.booleanValue = !result.booleanValue;
+        }
+        return result;
+    }
+
+    // /root/project/examples/preprocessor/Preprocessor.javacc:300:1
+    final public Expression PP_Parentheses() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 10;
+        Expression result;
+        // Code for RegexpRef specified at /root/project/examples/preprocessor/Preprocessor.javacc:302:4
+        consumeToken(PP_LPAREN);
+        // Code for NonTerminal specified at /root/project/examples/preprocessor/Preprocessor.javacc:303:4
+        pushOntoCallStack(10, "/root/project/examples/preprocessor/Preprocessor.javacc", 303, 4);
+        try {
+            result = PP_Expression();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for RegexpRef specified at /root/project/examples/preprocessor/Preprocessor.javacc:304:4
+        consumeToken(PP_RPAREN);
+        // Code for CodeBlock specified at /root/project/examples/preprocessor/Preprocessor.javacc:305:4
+        return result;
+    }
+
+    // /root/project/examples/preprocessor/Preprocessor.javacc:308:1
+    final public Expression PP_PrimaryExpression() {
+        if (cancelled) throw new CancellationException();
+        int prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = 11;
+        Expression result = new Expression();
+        if (nextTokenType()==PP_LPAREN) {
+            // Code for NonTerminal specified at /root/project/examples/preprocessor/Preprocessor.javacc:311:7
+            pushOntoCallStack(11, "/root/project/examples/preprocessor/Preprocessor.javacc", 311, 7);
+            try {
+                result = PP_Parentheses();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (nextTokenType()==PP_SYMBOL) {
+            // Code for RegexpRef specified at /root/project/examples/preprocessor/Preprocessor.javacc:313:7
+            consumeToken(PP_SYMBOL);
+            // Code for CodeBlock specified at /root/project/examples/preprocessor/Preprocessor.javacc:314:7
+            result.symbol = lastConsumedToken.getImage();
+            result.booleanValue = definedSymbols.containsKey(result.symbol);
+        }
+        else if (nextTokenType()==PP_TRUE) {
+            // Code for RegexpRef specified at /root/project/examples/preprocessor/Preprocessor.javacc:319:7
+            consumeToken(PP_TRUE);
+            // Code for CodeBlock specified at /root/project/examples/preprocessor/Preprocessor.javacc:319:17
+            result.booleanValue = true;
+        }
+        else if (nextTokenType()==PP_FALSE) {
+            // Code for RegexpRef specified at /root/project/examples/preprocessor/Preprocessor.javacc:321:7
+            consumeToken(PP_FALSE);
+            // Code for CodeBlock specified at /root/project/examples/preprocessor/Preprocessor.javacc:321:18
+            result.booleanValue = false;
+        }
+        else {
+            pushOntoCallStack(11, "/root/project/examples/preprocessor/Preprocessor.javacc", 311, 7);
+            throw new ParseException(this, first_set$Preprocessor_javacc$311$7, parsingStack.toList());
+        }
+        // Code for CodeBlock specified at /root/project/examples/preprocessor/Preprocessor.javacc:323:5
+        return result;
+    }
+
+    static private final EnumSet<TokenType> first_set$Preprocessor_javacc$171$21 = EnumSet.of(PP_LINE, PP_FALSE_ALERT);
+    static private final EnumSet<TokenType> first_set$Preprocessor_javacc$236$6 = EnumSet.of(PP_EQUALS, PP_NOT_EQUALS);
+    static private final EnumSet<TokenType> first_set$Preprocessor_javacc$311$7 = EnumSet.of(PP_TRUE, PP_FALSE, PP_SYMBOL, PP_LPAREN);
+    CallStack parsingStack = new CallStack();
+    private CallStack lookaheadStack = new CallStack();
+
+    /**
+    * Inner class that represents entering a grammar production
+    */
+    class NonTerminalCall {
+        final String sourceFile;
+        final String productionName;
+        final int line, column;
+
+        NonTerminalCall(String sourceFile, String productionName, int line, int column) {
+            this.sourceFile = sourceFile;
+            this.productionName = productionName;
+            this.line = line;
+            this.column = column;
+        }
+
+        final PreprocessorLexer getTokenSource() {
+            return PreprocessorParser.this.token_source;
+        }
+
+        StackTraceElement createStackTraceElement() {
+            return new StackTraceElement("PreprocessorParser", productionName, sourceFile, line);
+        }
+
+        void dump(PrintStream ps) {
+            ps.println(productionName+":"+line+":"+column);
+        }
+
+    }
+
+
+    /**
+    * A stack of calls to grammar productions, kept in parallel arrays
+    * so that entering a production does not allocate anything. The productions
+    * are identified by their index in PRODUCTION_NAMES and the NonTerminalCall
+    * objects are only created when something needs them, i.e. a ParseException.
+    */
+    final class CallStack implements Cloneable {
+        private int size;
+        private int[]productionIds = new int[16], lines = new int[16], columns = new int[16];
+        private String[]sourceFiles = new String[16];
+
+        int size() {
+            return size;
+        }
+
+        int getProductionId(int index) {
+            return productionIds[index];
+        }
+
+        void push(int productionId, String sourceFile, int line, int column) {
+            if (size==productionIds.length) {
+                int capacity = size*2;
+                productionIds = Arrays.copyOf(productionIds, capacity);
+                lines = Arrays.copyOf(lines, capacity);
+                columns = Arrays.copyOf(columns, capacity);
+                sourceFiles = Arrays.copyOf(sourceFiles, capacity);
+            }
+            productionIds[size] = productionId;
+            lines[size] = line;
+            columns[size] = column;
+            sourceFiles[size] = sourceFile;
+            ++size;
+        }
+
+        void pop() {
+            --size;
+        }
+
+        void clear() {
+            Arrays.fill(sourceFiles, 0, size, null);
+            size = 0;
+        }
+
+        NonTerminalCall get(int index) {
+            return new NonTerminalCall(sourceFiles[index], PRODUCTION_NAMES[productionIds[index]], lines[index], columns[index]);
+        }
+
+        /**
+        * @return the calls on this stack, from the bottom up
+        */
+        java.util.List<NonTerminalCall> toList() {
+            java.util.List<NonTerminalCall> result = new ArrayList<> (size);
+            for (int i = 0; i < size; i++) {
+                result.add(get(i));
+            }
+            return result;
+        }
+
+        void dump(PrintStream ps) {
+            for (int i = size-1; i>=0; i--) {
+                get(i).dump(ps);
+            }
+        }
+
+        public CallStack clone() {
+            try {
+                CallStack result = (CallStack)super.clone();
+                result.productionIds = productionIds.clone();
+                result.lines = lines.clone();
+                result.columns = columns.clone();
+                result.sourceFiles = sourceFiles.clone();
+                return result;
+            }
+            catch(CloneNotSupportedException e) {
+                throw new InternalError(e);
+            }
+        }
+
+    }
+
+
+    private final void pushOntoCallStack(int productionId, String fileName, int line, int column) {
+        parsingStack.push(productionId, fileName, line, column);
+    }
+
+    private final void popCallStack() {
+        int top = parsingStack.size()-1;
+        this.currentlyParsedProduction = parsingStack.getProductionId(top);
+        parsingStack.pop();
+    }
+
+    void dumpLookaheadStack(PrintStream ps) {
+        lookaheadStack.dump(ps);
+    }
+
+    void dumpCallStack(PrintStream ps) {
+        parsingStack.dump(ps);
+    }
+
+    void dumpLookaheadCallStack(PrintStream ps) {
+        ps.println("Current Parser Production is: "+productionName(currentlyParsedProduction));
+        ps.println("Current Lookahead Production is: "+productionName(currentLookaheadProduction));
+        ps.println("---Lookahead Stack---");
+        dumpLookaheadStack(ps);
+        ps.println("---Call Stack---");
+        dumpCallStack(ps);
+    }
+
+    public boolean isParserTolerant() {
+        return false;
+    }
+
+    public void setParserTolerant(boolean tolerantParsing) {
+        if (tolerantParsing) {
+            throw new UnsupportedOperationException("This parser was not built with that feature!");
+        }
+    }
+
+    private Token consumeToken(TokenType expectedType) {
+        Token nextToken = nextToken(lastConsumedToken);
+        if (nextToken.getType()!=expectedType) {
+            nextToken = handleUnexpectedTokenType(expectedType, nextToken);
+        }
+        this.lastConsumedToken = nextToken;
+        this.nextTokenType = null;
+        return lastConsumedToken;
+    }
+
+    private Token handleUnexpectedTokenType(TokenType expectedType, Token nextToken) {
+        throw new ParseException(this, nextToken, EnumSet.of(expectedType), parsingStack.toList());
+    }
+
+
+    private class ParseState {
+        Token lastConsumed;
+        CallStack parsingStack;
+        LexicalState lexicalState;
+
+        ParseState() {
+            this.lastConsumed = PreprocessorParser.this.lastConsumedToken;
+            this.parsingStack = PreprocessorParser.this.parsingStack.clone();
+            this.lexicalState = token_source.lexicalState;
+        }
+
+    }
+
+    private ArrayList<ParseState> parseStateStack = new ArrayList<> ();
+
+    public boolean isTreeBuildingEnabled() {
+        return false;
+    }
+
+}
+
@@ -0,0 +1,141 @@
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A stress test for parsing in many threads at once. It parses the files 
+ * of a corpus sequentially, and then again in several threads concurrently,
+ * each thread going through the files in a different order, and checks that 
+ * every thread builds exactly the same ASTs as the sequential run did. 
+ * It works with any generated parser, which it uses via reflection, 
+ * so that the same harness can be run on the Java, C# and Python testfiles.
+ */
+public class ParseStress {
+    static private int threadCount = 8, rounds = 2;
+    static private Constructor<?> parserConstructor;
+    static private Method rootProduction, getChildCount, getChild, getBeginOffset, getEndOffset;
+
+    static public void main(String[] args) throws Exception {
+        List<String> rest = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("-threads") && i + 1 < args.length) {
+                threadCount = Integer.parseInt(args[++i]);
+            } else if (args[i].equals("-rounds") && i + 1 < args.length) {
+                rounds = Integer.parseInt(args[++i]);
+            } else {
+                rest.add(args[i]);
+            }
+        }
+        if (rest.size() < 4) usage();
+        Class<?> parserClass = Class.forName(rest.get(0));
+        parserConstructor = parserClass.getConstructor(Path.class);
+        rootProduction = parserClass.getMethod(rest.get(1));
+        Class<?> nodeClass = Class.forName(parserClass.getPackage().getName() + ".Node");
+        getChildCount = nodeClass.getMethod("getChildCount");
+        getChild = nodeClass.getMethod("getChild", int.class);
+        getBeginOffset = nodeClass.getMethod("getBeginOffset");
+        getEndOffset = nodeClass.getMethod("getEndOffset");
+        String extension = rest.get(2);
+        List<Path> paths = new ArrayList<>();
+        for (String arg : rest.subList(3, rest.size())) {
+            try (Stream<Path> files = Files.walk(Paths.get(arg))) {
+                paths.addAll(files.filter(p -> !Files.isDirectory(p) && p.toString().endsWith(extension))
+                                  .sorted()
+                                  .collect(Collectors.toList()));
+            }
+        }
+        if (paths.isEmpty()) usage();
+
+        long startTime = System.currentTimeMillis();
+        Map<Path, String> expected = new HashMap<>();
+        for (Path path : paths) {
+            expected.put(path, parse(path));
+        }
+        System.out.println("Parsed " + paths.size() + " files sequentially in " 
+                           + (System.currentTimeMillis() - startTime) + " milliseconds");
+
+        startTime = System.currentTimeMillis();
+        AtomicInteger mismatches = new AtomicInteger();
+        CountDownLatch startSignal = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        for (int t = 0; t < threadCount; t++) {
+            final long seed = t;
+            executor.submit(() -> {
+                List<Path> order = new ArrayList<>(paths);
+                Random random = new Random(seed);
+                startSignal.await();
+                for (int round = 0; round < rounds; round++) {
+                    Collections.shuffle(order, random);
+                    for (Path path : order) {
+                        if (!parse(path).equals(expected.get(path))) {
+                            System.err.println("The AST of " + path + " differs from the sequential one in " 
+                                               + Thread.currentThread().getName());
+                            mismatches.incrementAndGet();
+                        }
+                    }
+                }
+                return null;
+            });
+        }
+        startSignal.countDown();
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.HOURS);
+        System.out.println("Parsed " + paths.size() + " files " + rounds + " times in each of " + threadCount 
+                           + " threads in " + (System.currentTimeMillis() - startTime) + " milliseconds");
+        if (mismatches.get() > 0) {
+            System.out.println(mismatches.get() + " ASTs differed from the sequential ones.");
+            System.exit(-1);
+        }
+        System.out.println("All the ASTs were the same as the sequential ones.");
+    }
+
+    /**
+     * @return a dump of the AST for the file, i.e. the class and offsets of each node,
+     * or the exception if the parse failed, so that the results can be compared.
+     */
+    static String parse(Path path) throws ReflectiveOperationException {
+        StringBuilder buf = new StringBuilder();
+        try {
+            Object parser = parserConstructor.newInstance(path);
+            dump(rootProduction.invoke(parser), 0, buf);
+        } catch (InvocationTargetException e) {
+            buf.append("FAILED: ").append(e.getCause());
+        }
+        return buf.toString();
+    }
+
+    static void dump(Object node, int depth, StringBuilder buf) throws ReflectiveOperationException {
+        if (node == null) return;
+        for (int i = 0; i < depth; i++) buf.append(' ');
+        buf.append(node.getClass().getName())
+           .append(' ').append(getBeginOffset.invoke(node))
+           .append('-').append(getEndOffset.invoke(node))
+           .append('\n');
+        int childCount = (Integer) getChildCount.invoke(node);
+        for (int i = 0; i < childCount; i++) {
+            dump(getChild.invoke(node, i), depth + 1, buf);
+        }
+    }
+
+    static public void usage() {
+        System.out.println("Usage: java ParseStress [-threads N] [-rounds N] <parser class> <root production> <file extension> <files or directories>");
+        System.out.println("For example: java ParseStress -threads 8 org.parsers.java.JavaParser CompilationUnit .java ../java/testfiles");
+        System.exit(-1);
+    }
+}
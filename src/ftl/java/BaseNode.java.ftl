@@ -60,7 +60,7 @@ public class ${grammar.baseNodeClassName} implements Node {
         this.tokenSource = tokenSource;
     }
     
-    static private Class listClass = ArrayList.class;
+    static private volatile Class listClass = ArrayList.class;
 
     /**
      * Sets the List class that is used to store child nodes. By default,
@@ -76,6 +76,9 @@ public class ${grammar.baseNodeClassName} implements Node {
 
     @SuppressWarnings("unchecked")    
     private List<Node> newList() {
+        if (listClass == ArrayList.class) {
+            return new ArrayList<>();
+        }
         try {
            return (List<Node>) listClass.getDeclaredConstructor().newInstance();
         } catch (Exception e) {
@@ -141,6 +144,16 @@ public class ${grammar.baseNodeClassName} implements Node {
         n.setParent(this);
     }
 
+    public void addChildren(Node[] nodes, int from, int to) {
+        if (to > from && children.isEmpty() && children.getClass() == ArrayList.class) {
+            // Allocate exactly the room that is needed
+            children = new ArrayList<>(to - from);
+        }
+        for (int i = from; i < to; i++) {
+            addChild(nodes[i]);
+        }
+    }
+
     public Node getChild(int i) {
         return children.get(i);
     }
@@ -34,6 +34,9 @@
 
 [#var TT = "TokenType."]
 [#var USE_FIRST_SET_THRESHOLD = 5]
+[#-- Whether the token type masks fit in a single long, rather than a long[].
+     The TokenType enum has one more type than the lexer data, INVALID. --]
+[#var SINGLE_LONG_MASK = (grammar.lexerData.tokenCount + 1 <= 64)]
 
  [#if grammar.parserPackage?has_content]
    [#-- This is necessary because you can't do a static import from the unnamed or "default package" --]
@@ -47,7 +50,7 @@
    [#if tokenNames?size = 0]
      static private final EnumSet<TokenType> ${varName} = EnumSet.noneOf(TokenType.class);
    [#elseif tokenNames?size < 8]
-    static private final EnumSet<TokenType> ${varName} = tokenTypeSet(
+    static private final EnumSet<TokenType> ${varName} = EnumSet.of(
        [#list tokenNames as type]
          [#if type_index > 0],[/#if]
          ${TT}${type}
@@ -56,7 +59,7 @@
    [#else]
     static private final EnumSet<TokenType> ${varName} = ${varName}_init();
     static private EnumSet<TokenType> ${varName}_init() {
-       return tokenTypeSet(
+       return EnumSet.of(
          [#list tokenNames as type]
           [#if type_index > 0],[/#if]
            ${TT}${type}
@@ -66,8 +69,40 @@
    [/#if]
 [/#macro]
 
+[#--
+  The bitmask of the ordinals of the token types in the set, so that
+  checking membership is just a shift and a mask. See maskContains below.
+--]
+[#macro tokenTypeMask varName tokenSet]
+   [#var longs = tokenSet.toLongArray()]
+   [#if SINGLE_LONG_MASK]
+    static private final long ${varName} = ${grammar.utils.toHexStringL(longs[0])};
+   [#else]
+    static private final long[] ${varName} = {[#list longs as l]${grammar.utils.toHexStringL(l)}[#if l_has_next], [/#if][/#list]};
+   [/#if]
+[/#macro]
+
+[#--
+  An expression that tells whether the token type ordinal is in the mask.
+  If the masks are long[], this calls the maskContains method that is
+  generated along with them, so that the ordinal is only evaluated once.
+--]
+[#function maskContains varName ordinal]
+   [#if SINGLE_LONG_MASK]
+     [#return "(" + varName + " & (1L << " + ordinal + ")) != 0"]
+   [/#if]
+   [#return "maskContains(" + varName + ", " + ordinal + ")"]
+[/#function]
+
+[#function firstSetMaskName expansion]
+   [#return expansion.firstSetVarName + "_MASK"]
+[/#function]
+
 [#macro firstSetVar expansion]
     [@enumSet expansion.firstSetVarName expansion.firstSet.tokenNames /]
+    [#if expansion.firstSet.tokenNames?size >= USE_FIRST_SET_THRESHOLD]
+      [@tokenTypeMask firstSetMaskName(expansion) expansion.firstSet /]
+    [/#if]
 [/#macro]
 
 [#macro finalSetVar expansion]
@@ -121,6 +156,9 @@
    [#if expansion.specifiedLexicalState??]
          LexicalState ${prevLexicalStateVar} = token_source.lexicalState;
          token_source.reset(${resetToken}, LexicalState.${expansion.specifiedLexicalState});
+        [#if grammar.memoizeLookahead]
+         clearLookaheadMemo();
+        [/#if]
          try {
            [#nested/]
          }
@@ -133,6 +171,9 @@
                     token_source.switchTo(${prevLexicalStateVar});
                 }
                 nextTokenType = null;
+               [#if grammar.memoizeLookahead]
+                clearLookaheadMemo();
+               [/#if]
             }
          }
    [#elseif expansion.tokenActivation??]
@@ -163,6 +204,9 @@
          if (${somethingChanged}) {
              token_source.reset(${resetToken});
              nextTokenType= null;
+            [#if grammar.memoizeLookahead]
+             clearLookaheadMemo();
+            [/#if]
          }
       }
    [#else]
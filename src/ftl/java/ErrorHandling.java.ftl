@@ -31,8 +31,8 @@
 
 [#var MULTIPLE_LEXICAL_STATE_HANDLING = (grammar.lexerData.numLexicalStates >1)]
  
-ArrayList<NonTerminalCall> parsingStack = new ArrayList<>();
-private ArrayList<NonTerminalCall> lookaheadStack = new ArrayList<>();
+CallStack parsingStack = new CallStack();
+private CallStack lookaheadStack = new CallStack();
 
 [#if grammar.faultTolerant]
   private EnumSet<TokenType> currentFollowSet;
@@ -51,13 +51,13 @@ class NonTerminalCall {
    [/#if]
 
 
-    NonTerminalCall(String sourceFile, String productionName, int line, int column) {
+    NonTerminalCall(String sourceFile, String productionName, int line, int column[#if grammar.faultTolerant], EnumSet<TokenType> followSet[/#if]) {
         this.sourceFile = sourceFile;
         this.productionName = productionName;
         this.line = line;
         this.column = column;
       [#if grammar.faultTolerant]
-        this.followSet = ${grammar.parserClassName}.this.outerFollowSet;
+        this.followSet = followSet;
       [/#if]
     }
 
@@ -74,16 +74,121 @@ class NonTerminalCall {
     }
 }
 
-private final void pushOntoCallStack(String methodName, String fileName, int line, int column) {
-   parsingStack.add(new NonTerminalCall(fileName, methodName, line, column));
+/**
+ * A stack of calls to grammar productions, kept in parallel arrays
+ * so that entering a production does not allocate anything. The productions
+ * are identified by their index in PRODUCTION_NAMES and the NonTerminalCall
+ * objects are only created when something needs them, i.e. a ParseException.
+ */
+final class CallStack implements Cloneable {
+    private int size;
+    private int[] productionIds = new int[16], lines = new int[16], columns = new int[16];
+    private String[] sourceFiles = new String[16];
+  [#if grammar.faultTolerant]
+    private Object[] followSets = new Object[16];
+  [/#if]
+
+    int size() {
+        return size;
+    }
+
+    int getProductionId(int index) {
+        return productionIds[index];
+    }
+
+  [#if grammar.faultTolerant]
+    @SuppressWarnings("unchecked")
+    EnumSet<TokenType> getFollowSet(int index) {
+        return (EnumSet<TokenType>) followSets[index];
+    }
+
+  [/#if]
+    void push(int productionId, String sourceFile, int line, int column) {
+        if (size == productionIds.length) {
+            int capacity = size * 2;
+            productionIds = Arrays.copyOf(productionIds, capacity);
+            lines = Arrays.copyOf(lines, capacity);
+            columns = Arrays.copyOf(columns, capacity);
+            sourceFiles = Arrays.copyOf(sourceFiles, capacity);
+          [#if grammar.faultTolerant]
+            followSets = Arrays.copyOf(followSets, capacity);
+          [/#if]
+        }
+        productionIds[size] = productionId;
+        lines[size] = line;
+        columns[size] = column;
+        sourceFiles[size] = sourceFile;
+      [#if grammar.faultTolerant]
+        followSets[size] = outerFollowSet;
+      [/#if]
+        ++size;
+    }
+
+    void pop() {
+      [#if grammar.faultTolerant]
+        followSets[--size] = null;
+      [#else]
+        --size;
+      [/#if]
+    }
+
+    void clear() {
+        Arrays.fill(sourceFiles, 0, size, null);
+      [#if grammar.faultTolerant]
+        Arrays.fill(followSets, 0, size, null);
+      [/#if]
+        size = 0;
+    }
+
+    NonTerminalCall get(int index) {
+        return new NonTerminalCall(sourceFiles[index], PRODUCTION_NAMES[productionIds[index]], lines[index], columns[index][#if grammar.faultTolerant], getFollowSet(index)[/#if]);
+    }
+
+    /**
+     * @return the calls on this stack, from the bottom up
+     */
+    java.util.List<NonTerminalCall> toList() {
+        java.util.List<NonTerminalCall> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(get(i));
+        }
+        return result;
+    }
+
+    void dump(PrintStream ps) {
+        for (int i = size - 1; i >= 0; i--) {
+            get(i).dump(ps);
+        }
+    }
+
+    public CallStack clone() {
+        try {
+            CallStack result = (CallStack) super.clone();
+            result.productionIds = productionIds.clone();
+            result.lines = lines.clone();
+            result.columns = columns.clone();
+            result.sourceFiles = sourceFiles.clone();
+          [#if grammar.faultTolerant]
+            result.followSets = followSets.clone();
+          [/#if]
+            return result;
+        } catch (CloneNotSupportedException e) {
+            throw new InternalError(e);
+        }
+    }
+}
+
+private final void pushOntoCallStack(int productionId, String fileName, int line, int column) {
+   parsingStack.push(productionId, fileName, line, column);
 }
 
 private final void popCallStack() {
-    NonTerminalCall ntc = parsingStack.remove(parsingStack.size() -1);
-    this.currentlyParsedProduction = ntc.productionName;
+    int top = parsingStack.size() - 1;
+    this.currentlyParsedProduction = parsingStack.getProductionId(top);
    [#if grammar.faultTolerant]
-    this.outerFollowSet = ntc.followSet;
+    this.outerFollowSet = parsingStack.getFollowSet(top);
    [/#if]
+    parsingStack.pop();
 }
 
 private final void restoreCallStack(int prevSize) {
@@ -92,81 +197,35 @@ private final void restoreCallStack(int prevSize) {
     }
 }
 
-private ListIterator<NonTerminalCall> stackIteratorForward() {
-    final ListIterator<NonTerminalCall> parseStackIterator = parsingStack.listIterator();
-    final ListIterator<NonTerminalCall> lookaheadStackIterator = lookaheadStack.listIterator();
-    return new ListIterator<NonTerminalCall>() {
-        public boolean hasNext() {
-            return parseStackIterator.hasNext() || lookaheadStackIterator.hasNext();
-        }
-        public NonTerminalCall next() {
-            return parseStackIterator.hasNext() ? parseStackIterator.next() : lookaheadStackIterator.next();
-        }
-        public NonTerminalCall previous() {
-           return lookaheadStackIterator.hasPrevious() ? lookaheadStackIterator.previous() : parseStackIterator.previous(); 
-        }
-        public boolean hasPrevious() {
-            return lookaheadStackIterator.hasPrevious() || parseStackIterator.hasPrevious();
-        }
-        public void add(NonTerminalCall ntc) {throw new UnsupportedOperationException();}
-        public void set(NonTerminalCall ntc) {throw new UnsupportedOperationException();}
-        public void remove() {throw new UnsupportedOperationException();}
-        public int previousIndex() {throw new UnsupportedOperationException();}
-        public int nextIndex() {throw new UnsupportedOperationException();}
-    };
-}
-
-private ListIterator<NonTerminalCall> stackIteratorBackward() {
-    final ListIterator<NonTerminalCall> parseStackIterator = parsingStack.listIterator(parsingStack.size());
-    final ListIterator<NonTerminalCall> lookaheadStackIterator = lookaheadStack.listIterator(lookaheadStack.size());
-    return new ListIterator<NonTerminalCall>() {
-        public boolean hasNext() {
-            return lookaheadStackIterator.hasPrevious() || parseStackIterator.hasPrevious();
-        }
-        public NonTerminalCall next() {
-            return lookaheadStackIterator.hasPrevious() ? lookaheadStackIterator.previous() : parseStackIterator.previous();
-        }
-        public NonTerminalCall previous() {
-           return parseStackIterator.hasNext() ? parseStackIterator.next() : lookaheadStackIterator.next();
-        }
-        public boolean hasPrevious() {
-            return parseStackIterator.hasNext() || lookaheadStackIterator.hasNext();
-        }
-        public void add(NonTerminalCall ntc) {throw new UnsupportedOperationException();}
-        public void set(NonTerminalCall ntc) {throw new UnsupportedOperationException();}
-        public void remove() {throw new UnsupportedOperationException();}
-        public int previousIndex() {throw new UnsupportedOperationException();}
-        public int nextIndex() {throw new UnsupportedOperationException();}
-    };
+/**
+ * @return the id of the production at the given position of the
+ * combined stack, i.e. the call stack with the lookahead stack on top of it
+ */
+private int stackProductionId(int index) {
+    int parsingStackSize = parsingStack.size();
+    return index < parsingStackSize ? parsingStack.getProductionId(index) : lookaheadStack.getProductionId(index - parsingStackSize);
 }
 
-
-private final void pushOntoLookaheadStack(String methodName, String fileName, int line, int column) {
-    lookaheadStack.add(new NonTerminalCall(fileName, methodName, line, column));
+private final void pushOntoLookaheadStack(int productionId, String fileName, int line, int column) {
+    lookaheadStack.push(productionId, fileName, line, column);
 }
 
 private final void popLookaheadStack() {
-    NonTerminalCall ntc = lookaheadStack.remove(lookaheadStack.size() -1);
-    this.currentLookaheadProduction = ntc.productionName;
+    this.currentLookaheadProduction = lookaheadStack.getProductionId(lookaheadStack.size() - 1);
+    lookaheadStack.pop();
 }
 
 void dumpLookaheadStack(PrintStream ps) {
-    ListIterator<NonTerminalCall> it = lookaheadStack.listIterator(lookaheadStack.size());
-    while (it.hasPrevious()) {
-        it.previous().dump(ps);
-    }
+    lookaheadStack.dump(ps);
 }
 
 void dumpCallStack(PrintStream ps) {
-    ListIterator<NonTerminalCall> it = parsingStack.listIterator(parsingStack.size());
-    while (it.hasPrevious()) {
-        it.previous().dump(ps);
-    }
+    parsingStack.dump(ps);
 }
 
 void dumpLookaheadCallStack(PrintStream ps) {
-    ps.println("Current Parser Production is: " + currentlyParsedProduction);
-    ps.println("Current Lookahead Production is: " + currentLookaheadProduction);
+    ps.println("Current Parser Production is: " + productionName(currentlyParsedProduction));
+    ps.println("Current Lookahead Production is: " + productionName(currentLookaheadProduction));
     ps.println("---Lookahead Stack---");
     dumpLookaheadStack(ps);
     ps.println("---Call Stack---");
@@ -226,6 +285,12 @@ void dumpLookaheadCallStack(PrintStream ps) {
         }
         this.lastConsumedToken = nextToken;
         this.nextTokenType = null;
+[#if grammar.streamingInput]
+        // Unless we might have to backtrack, the input before this point is no longer needed
+        if (parseStateStack.isEmpty()) {
+            token_source.releaseInputBefore(lastConsumedToken.getBeginOffset());
+        }
+[/#if]
 [#if grammar.treeBuildingEnabled]
       if (buildTree && tokensAreNodes) {
   [#list grammar.openNodeScopeHooks as hook]
@@ -262,10 +327,10 @@ void dumpLookaheadCallStack(PrintStream ps) {
       [#if grammar.useCheckedException] throws ParseException [/#if]
       {
       [#if !grammar.faultTolerant]
-       throw new ParseException(this, nextToken, EnumSet.of(expectedType), parsingStack);
+       throw new ParseException(this, nextToken, EnumSet.of(expectedType), parsingStack.toList());
       [#else]
        if (!this.tolerantParsing) {
-          throw new ParseException(this, nextToken, EnumSet.of(expectedType), parsingStack);
+          throw new ParseException(this, nextToken, EnumSet.of(expectedType), parsingStack.toList());
        }
        Token nextNext = nextToken(nextToken);
        if (nextNext.getType() == expectedType) {
@@ -291,11 +356,14 @@ void dumpLookaheadCallStack(PrintStream ps) {
 [#if MULTIPLE_LEXICAL_STATE_HANDLING]
            if (token_source.doLexicalStateSwitch(expectedType)) {
               token_source.reset(virtualToken);
+             [#if grammar.memoizeLookahead]
+              clearLookaheadMemo();
+             [/#if]
            }
 [/#if]
            return virtualToken;
        }
-       throw new ParseException(this, nextToken, EnumSet.of(expectedType), parsingStack);
+       throw new ParseException(this, nextToken, EnumSet.of(expectedType), parsingStack.toList());
       [/#if]
   }
   
@@ -313,7 +381,7 @@ void dumpLookaheadCallStack(PrintStream ps) {
  
   private class ParseState {
        Token lastConsumed;
-       ArrayList<NonTerminalCall> parsingStack;
+       CallStack parsingStack;
    [#if MULTIPLE_LEXICAL_STATE_HANDLING]
        LexicalState lexicalState;
    [/#if]
@@ -322,9 +390,7 @@ void dumpLookaheadCallStack(PrintStream ps) {
  [/#if]       
        ParseState() {
            this.lastConsumed = ${grammar.parserClassName}.this.lastConsumedToken;
-          @SuppressWarnings("unchecked")
-           ArrayList<NonTerminalCall> parsingStack = (ArrayList<NonTerminalCall>) ${grammar.parserClassName}.this.parsingStack.clone();
-           this.parsingStack = parsingStack;
+           this.parsingStack = ${grammar.parserClassName}.this.parsingStack.clone();
 [#if grammar.lexerData.numLexicalStates > 1]
            this.lexicalState = token_source.lexicalState;
 [/#if]
@@ -359,5 +425,8 @@ void dumpLookaheadCallStack(PrintStream ps) {
 [#else]     
      token_source.reset(lastConsumedToken);
 [/#if]          
+[#if grammar.memoizeLookahead]
+     clearLookaheadMemo();
+[/#if]
   } 
   
@@ -45,11 +45,6 @@
 [#var lexerData=grammar.lexerData]
 [#var multipleLexicalStates = lexerData.lexicalStates.size()>1]
 
-[#var PRESERVE_LINE_ENDINGS=grammar.preserveLineEndings?string("true", "false")
-      JAVA_UNICODE_ESCAPE= grammar.javaUnicodeEscape?string("true", "false")
-      ENSURE_FINAL_EOL = grammar.ensureFinalEOL?string("true", "false")
-      PRESERVE_TABS = grammar.preserveTabs?string("true", "false")
-]      
 
 [#macro EnumSet varName tokenNames]
    [#if tokenNames?size=0]
@@ -93,7 +88,17 @@ public class ${grammar.lexerClassName} implements ${grammar.constantsClassName}
 
 
 [#if !multipleLexicalStates]
+  [#if grammar.dfaLexer]
+    static final private ${grammar.nfaDataClassName}.DfaData dfaData = ${grammar.nfaDataClassName}.getDfaData(null);
+  [#else]
     static final private ${grammar.nfaDataClassName}.NfaFunction[] nfaFunctions= ${grammar.nfaDataClassName}.getFunctionTableMap(null);
+    [#if grammar.asciiTableLexer]
+    static final private ${grammar.nfaDataClassName}.AsciiTable asciiTable = ${grammar.nfaDataClassName}.getAsciiTable(null);
+    [/#if]
+  [/#if]
+  [#if grammar.hashedKeywords]
+    static final private ${grammar.nfaDataClassName}.KeywordTable keywordTable = ${grammar.nfaDataClassName}.getKeywordTable(null);
+  [/#if]
 [/#if]
 
     static final int DEFAULT_TAB_SIZE = ${grammar.tabSize};
@@ -109,7 +114,23 @@ public class ${grammar.lexerClassName} implements ${grammar.constantsClassName}
 
 
 
-  final Token DUMMY_START_TOKEN = new Token();
+  Token DUMMY_START_TOKEN = new Token();
+[#if grammar.streamingInput]
+    // Typically a filename, I suppose.
+    private String inputSource = "input";
+
+    // The starting line and column, usually 1,1
+    // that is used to report a file position 
+    // in 1-based line/column terms
+    private int startingLine, startingColumn;
+
+    // The offset in the internal buffer to the very
+    // next character that the readChar method returns
+    private int bufferPosition;
+
+   [#embed "StreamingInput.java.ftl"]
+[#else]
+ [#if !grammar.sparseTokenIndex]
 // Just a dummy Token value that we put in the tokenLocationTable
 // to indicate that this location in the file is ignored.
   static final private Token IGNORED = new Token(), SKIPPED = new Token();
@@ -117,13 +138,14 @@ public class ${grammar.lexerClassName} implements ${grammar.constantsClassName}
       IGNORED.setUnparsed(true);
       SKIPPED.setUnparsed(true);
   }
+ [/#if]
 
    // Munged content, possibly replace unicode escapes, tabs, or CRLF with LF.
     private CharSequence content;
     // Typically a filename, I suppose.
     private String inputSource = "input";
-    // A list of offsets of the beginning of lines
-    private int[] lineOffsets;
+    // Works out the line and column numbers, only when they are needed
+    private LineMap lineMap;
 
 
     // The starting line and column, usually 1,1
@@ -136,29 +158,51 @@ public class ${grammar.lexerClassName} implements ${grammar.constantsClassName}
     private int bufferPosition;
 
 
+[#if !grammar.sparseTokenIndex]
 // A BitSet that stores where the tokens are located.
 // This is not strictly necessary, I suppose...
    private BitSet tokenOffsets;
-
-//  A Bitset that stores the line numbers that
-// contain either hard tabs or extended (beyond 0xFFFF) unicode
-// characters.
-   private BitSet needToCalculateColumns=new BitSet();
+[/#if]
 
 // Just a very simple, bloody minded approach, just store the
 // Token objects in a table where the offsets are the code unit 
 // positions in the content buffer. If the Token at a given offset is
 // the dummy or marker type IGNORED, then the location is skipped via
 // whatever preprocessor logic.    
+  [#if !grammar.sparseTokenIndex]
     private Token[] tokenLocationTable;
-
+  [/#if]
+[/#if]
 
  [#if grammar.lexerUsesParser]
   public ${grammar.parserClassName} parser;
  [/#if]
+[#if grammar.intWorklistLexer]
+  // The following two worklists are used to store 
+  // the current active NFA states in the core tokenization loop
+  private ${grammar.nfaDataClassName}.NfaWorklist nextStates = new ${grammar.nfaDataClassName}.NfaWorklist(${lexerData.maxCompositeStates}), 
+                                                    currentStates = new ${grammar.nfaDataClassName}.NfaWorklist(${lexerData.maxCompositeStates});
+
+  // The active token types as a bitmask indexed by ordinal, and the
+  // set that it was last computed from.
+  private long[] activeTypeMask = new long[(TokenType.values().length + 63) / 64];
+  private EnumSet<TokenType> activeTypeMaskSource;
+
+  private long[] getActiveTypeMask() {
+      if (activeTypeMaskSource == null || !activeTypeMaskSource.equals(activeTokenTypes)) {
+          Arrays.fill(activeTypeMask, 0L);
+          for (TokenType type : activeTokenTypes) {
+              activeTypeMask[type.ordinal() >> 6] |= 1L << type.ordinal();
+          }
+          activeTypeMaskSource = EnumSet.copyOf(activeTokenTypes);
+      }
+      return activeTypeMask;
+  }
+[#elseif !grammar.dfaLexer]
   // The following two BitSets are used to store 
   // the current active NFA states in the core tokenization loop
   private BitSet nextStates=new BitSet(${lexerData.maxNfaStates}), currentStates = new BitSet(${lexerData.maxNfaStates});
+[/#if]
 
   EnumSet<TokenType> activeTokenTypes = EnumSet.allOf(TokenType.class);
   [#if grammar.deactivatedTokens?size>0 || grammar.extraTokens?size >0]
@@ -173,7 +217,7 @@ public class ${grammar.lexerClassName} implements ${grammar.constantsClassName}
   [/#if]
 
   // A lookup for lexical state transitions triggered by a certain token type
-  private static EnumMap<TokenType, LexicalState> tokenTypeToLexicalStateMap = new EnumMap<>(TokenType.class);
+  private static final EnumMap<TokenType, LexicalState> tokenTypeToLexicalStateMap = new EnumMap<>(TokenType.class);
   // Token types that are "regular" tokens that participate in parsing,
   // i.e. declared as TOKEN
   [@EnumSet "regularTokens" lexerData.regularTokens.tokenNames /]
@@ -201,6 +245,7 @@ public class ${grammar.lexerClassName} implements ${grammar.constantsClassName}
   }
 
 
+[#if !grammar.streamingInput]
      /**
       * @param inputSource just the naem of the input source (typically the filename)
       * that will be used in error messages and so on.
@@ -221,17 +266,10 @@ public class ${grammar.lexerClassName} implements ${grammar.constantsClassName}
       */
      public ${grammar.lexerClassName}(String inputSource, CharSequence input, LexicalState lexState, int startingLine, int startingColumn) {
         this.inputSource = inputSource;
-        this.content = mungeContent(input, ${PRESERVE_TABS}, ${PRESERVE_LINE_ENDINGS}, ${JAVA_UNICODE_ESCAPE}, ${ENSURE_FINAL_EOL});
-        this.inputSource = inputSource;
-        createLineOffsetsTable();
-        tokenLocationTable = new Token[content.length()+1];
-        tokenOffsets = new BitSet(content.length() +1);
+        prepareInput(input);
         this.startingLine = startingLine;
         this.startingColumn = startingColumn;
         switchTo(lexState);
-     [#if grammar.cppContinuationLine]
-        handleCContinuationLines();
-     [/#if]
      }
 
     /**
@@ -258,6 +296,49 @@ public class ${grammar.lexerClassName} implements ${grammar.constantsClassName}
         switchTo(lexState);
     }
 
+    /**
+     * Resets this lexer so that it tokenizes the given input from the start, 
+     * as if it had just been constructed, but reusing its internal buffers, 
+     * such as the token location table, when they are big enough.
+     * The Tokens from the previous input refer back to this lexer, so 
+     * they (and any Nodes built from them) should not be used after this.
+     * @param inputSource just the name of the input source (typically the filename)
+     * @param input the input
+     */
+    public void reset(String inputSource, CharSequence input) {
+        reset(inputSource, input, LexicalState.${lexerData.lexicalStates[0].name}, 1, 1);
+    }
+
+    /**
+     * Resets this lexer so that it tokenizes the given input from the start.
+     * (See #reset(String, CharSequence))
+     */
+    public void reset(String inputSource, CharSequence input, LexicalState lexState, int startingLine, int startingColumn) {
+      [#if grammar.sparseTokenIndex]
+        Arrays.fill(cachedTokens, 0, cachedTokenCount, null);
+        cachedTokenCount = 0;
+        ignoredRegionCount = 0;
+      [#else]
+        if (tokenLocationTable != null) {
+            Arrays.fill(tokenLocationTable, 0, Math.min(tokenLocationTable.length, content.length() + 1), null);
+            tokenOffsets.clear();
+        }
+      [/#if]
+        this.inputSource = inputSource;
+        this.lineMap = null;
+        this.bufferPosition = 0;
+        prepareInput(input);
+        this.startingLine = startingLine;
+        this.startingColumn = startingColumn;
+        switchTo(lexState);
+        DUMMY_START_TOKEN = new Token();
+        activeTokenTypes = EnumSet.allOf(TokenType.class);
+      [#list grammar.deactivatedTokens as token]
+        activeTokenTypes.remove(${CU.TT}${token});
+      [/#list]
+    }
+[/#if]
+
     private Token getNextToken() {
       InvalidToken invalidToken = null;
       Token token = nextToken();
@@ -333,12 +414,21 @@ public class ${grammar.lexerClassName} implements ${grammar.constantsClassName}
               reachedEnd = true;
             }
         } 
+      [#if grammar.dfaLexer]
+        [@DfaLoop/]
+      [#else]
       [#if multipleLexicalStates]
        // Get the NFA function table current lexical state
        // There is some possibility that there was a lexical state change
        // since the last iteration of this loop!
         ${grammar.nfaDataClassName}.NfaFunction[] nfaFunctions= ${grammar.nfaDataClassName}.getFunctionTableMap(lexicalState);
+        [#if grammar.asciiTableLexer]
+        ${grammar.nfaDataClassName}.AsciiTable asciiTable = ${grammar.nfaDataClassName}.getAsciiTable(lexicalState);
+        [/#if]
       [/#if]
+      [#if grammar.intWorklistLexer]
+        [@WorklistLoop/]
+      [#else]
         // the core NFA loop
         if (!reachedEnd) do {
             // Holder for the new type (if any) matched on this iteration
@@ -360,7 +450,32 @@ public class ${grammar.lexerClassName} implements ${grammar.constantsClassName}
             }
             nextStates.clear();
             int nextActive = codeUnitsRead == 0 ? 0 : currentStates.nextSetBit(0);
+          [#if grammar.asciiTableLexer]
+            if (curChar < 128) {
+                // Look up the precomputed moves rather than
+                // invoking the NFA functions
+                int charClass = asciiTable.charClasses[curChar];
+                do {
+                    int move = asciiTable.moves[nextActive * asciiTable.charClassCount + charClass];
+                    if (move != 0) {
+                        for (int target : asciiTable.targets[move]) {
+                            nextStates.set(target);
+                        }
+                        for (TokenType type : asciiTable.types[move]) {
+                            if (newType != null && type.ordinal() >= newType.ordinal()) break;
+                            if (activeTokenTypes.contains(type)) {
+                                newType = type;
+                                break;
+                            }
+                        }
+                    }
+                    nextActive = codeUnitsRead == 0 ? -1 : currentStates.nextSetBit(nextActive+1);
+                } while (nextActive != -1);
+            } 
+            else do {
+          [#else]
             do {
+          [/#if]
                 TokenType returnedType = nfaFunctions[nextActive].apply(curChar, nextStates, activeTokenTypes);
                 if (returnedType != null && (newType == null || returnedType.ordinal() < newType.ordinal())) {
                     newType = returnedType;
@@ -375,18 +490,43 @@ public class ${grammar.lexerClassName} implements ${grammar.constantsClassName}
                 matchedPos= codeUnitsRead;
             }
         } while (!nextStates.isEmpty());
+      [/#if]
+      [/#if]
         if (matchedType == null) {
             bufferPosition = tokenBeginOffset+1;
             if (firstChar>0xFFFF) ++bufferPosition;
             return new InvalidToken(this, tokenBeginOffset, bufferPosition);
         } 
         bufferPosition -= (codeUnitsRead - matchedPos);
+      [#if grammar.hashedKeywords]
+        [#if multipleLexicalStates]
+        ${grammar.nfaDataClassName}.KeywordTable keywordTable = ${grammar.nfaDataClassName}.getKeywordTable(lexicalState);
+        [/#if]
+        if (keywordTable != null) {
+            // The string literals that are left out of the NFA are
+            // matched as some other type, so see whether the text is
+            // one of them and, if so, whether it has priority.
+          [#if grammar.streamingInput]
+            TokenType keywordType = keywordTable.get(CharBuffer.wrap(window), bufferPosition - matchedPos - windowStart, bufferPosition - windowStart);
+          [#else]
+            TokenType keywordType = keywordTable.get(content, bufferPosition - matchedPos, bufferPosition);
+          [/#if]
+            if (keywordType != null && keywordType.ordinal() < matchedType.ordinal() && activeTokenTypes.contains(keywordType)) {
+                matchedType = keywordType;
+                inMore = moreTokens.contains(matchedType);
+            }
+        }
+      [/#if]
+      [#if grammar.streamingInput || grammar.sparseTokenIndex]
+        if (regularTokens.contains(matchedType) || unparsedTokens.contains(matchedType)) {
+      [#else]
         if (skippedTokens.contains(matchedType)) {
             for (int i=tokenBeginOffset; i< bufferPosition; i++) {
                 if (tokenLocationTable[i] != IGNORED) tokenLocationTable[i] = SKIPPED;
             }
         }
         else if (regularTokens.contains(matchedType) || unparsedTokens.contains(matchedType)) {
+      [/#if]
             matchedToken = Token.newToken(matchedType, 
                                         this, 
                                         tokenBeginOffset,
@@ -480,11 +620,16 @@ public class ${grammar.lexerClassName} implements ${grammar.constantsClassName}
   }
  [/#if]
 
+[#if !grammar.streamingInput]
     // But there is no goto in Java!!!
     private void goTo(int offset) {
+      [#if grammar.sparseTokenIndex]
+        offset = skipIgnored(offset);
+      [#else]
         while (offset<content.length() && tokenLocationTable[offset] == IGNORED) {
             ++offset;
         }
+      [/#if]
         this.bufferPosition = offset;
     }
 
@@ -505,10 +650,7 @@ public class ${grammar.lexerClassName} implements ${grammar.constantsClassName}
         if (realLineNumber <=0) {
             return 0;
         }
-        if (realLineNumber >= lineOffsets.length) {
-            return content.length();
-        }
-        return lineOffsets[realLineNumber];
+        return getLineMap().getLineStartOffset(realLineNumber);
     }
 
     /**
@@ -519,19 +661,23 @@ public class ${grammar.lexerClassName} implements ${grammar.constantsClassName}
         if (realLineNumber <0) {
             return 0;
         }
-        if (realLineNumber >= lineOffsets.length) {
+        LineMap lineMap = getLineMap();
+        if (lineMap.getLineStartOffset(realLineNumber) >= content.length()) {
             return content.length();
         }
-        if (realLineNumber == lineOffsets.length -1) {
-            return content.length() -1;
-        }
-        return lineOffsets[realLineNumber+1] -1;
+        return lineMap.getLineStartOffset(realLineNumber+1) -1;
     }
 
     private int readChar() {
+      [#if grammar.sparseTokenIndex]
+        if (ignoredRegionCount > 0) {
+            bufferPosition = skipIgnored(bufferPosition);
+        }
+      [#else]
         while (tokenLocationTable[bufferPosition] == IGNORED && bufferPosition < content.length()) {
             ++bufferPosition;
         }
+      [/#if]
         if (bufferPosition >= content.length()) {
             return -1;
         }
@@ -554,15 +700,21 @@ public class ${grammar.lexerClassName} implements ${grammar.constantsClassName}
      * are parsed (i.e. not ignored)
      */
     private void setParsedLines(BitSet parsedLines, boolean reversed) {
-        for (int i=0; i < lineOffsets.length; i++) {
+        LineMap lineMap = getLineMap();
+        int lineCount = lineMap.getLineCount();
+        for (int i=0; i < lineCount; i++) {
             boolean turnOffLine = !parsedLines.get(i+1);
             if (reversed) turnOffLine = !turnOffLine;
             if (turnOffLine) {
-                int lineOffset = lineOffsets[i];
-                int nextLineOffset = i < lineOffsets.length -1 ? lineOffsets[i+1] : content.length();
+                int lineOffset = lineMap.getLineStartOffset(i);
+                int nextLineOffset = i < lineCount -1 ? lineMap.getLineStartOffset(i+1) : content.length();
+              [#if grammar.sparseTokenIndex]
+                ignoreRegion(lineOffset, nextLineOffset);
+              [#else]
                 for (int offset = lineOffset; offset < nextLineOffset; offset++) {
                     tokenLocationTable[offset] = IGNORED;
                 }
+              [/#if]
             }
         }
     }
@@ -579,57 +731,45 @@ public class ${grammar.lexerClassName} implements ${grammar.constantsClassName}
     public void setUnparsedLines(BitSet unparsedLines) {setParsedLines(unparsedLines,true);}
 
     /**
-     * @return the line number from the absolute offset passed in as a parameter
+     * @return the LineMap that works out line and column numbers
+     * for this lexer's content. It is created on first use.
      */
-    public int getLineFromOffset(int pos) {
-        if (pos >= content.length()) {
-            if (content.charAt(content.length()-1) == '\n') {
-                return startingLine + lineOffsets.length;
-            }
-            return startingLine + lineOffsets.length-1;
+    public LineMap getLineMap() {
+        if (lineMap == null) {
+            lineMap = new LineMap(content);
         }
-        int bsearchResult = Arrays.binarySearch(lineOffsets, pos);
-        if (bsearchResult>=0) {
-            return startingLine + bsearchResult;
+        return lineMap;
+    }
+
+    /**
+     * Use a LineMap that has already been built, typically by another
+     * lexer over the same content, so the line offsets are not worked out again.
+     * @param lineMap a LineMap over this lexer's content
+     */
+    public void setLineMap(LineMap lineMap) {
+        if (lineMap.getContent() != content) {
+            throw new IllegalArgumentException("The LineMap is not over the same content as this lexer.");
         }
-        return startingLine-(bsearchResult+2);
+        this.lineMap = lineMap;
+    }
+
+    /**
+     * @return the line number from the absolute offset passed in as a parameter
+     */
+    public int getLineFromOffset(int pos) {
+        return startingLine + getLineMap().getLineIndex(pos);
     }
 
     /**
      * @return the column (1-based and in code points)
      * from the absolute offset passed in as a parameter
      */
-
     public int getCodePointColumnFromOffset(int pos) {
-        if (pos >= content.length()) return 1;
-        if (pos == 0) return startingColumn;
-        final int line = getLineFromOffset(pos)-startingLine;
-        final int lineStart = lineOffsets[line];
-        int startColumnAdjustment = line > 0 ? 1 : startingColumn;
-        int unadjustedColumn = pos - lineStart + startColumnAdjustment;
-        if (!needToCalculateColumns.get(line)) {
-            return unadjustedColumn;
-        }
-        if (Character.isLowSurrogate(content.charAt(pos))) --pos;
-        int result = startColumnAdjustment;
-        for (int i = lineStart; i < pos; i++) {
-            char ch = content.charAt(i);
-            if (ch == '\t') {
-             [#if grammar.preserveTabs]
-                result += tabSize - (result - 1) % tabSize;
-             [#else]
-                result += DEFAULT_TAB_SIZE - (result - 1) % DEFAULT_TAB_SIZE;
-             [/#if]
-            } 
-            else if (Character.isHighSurrogate(ch)) {
-                ++result;
-                ++i;
-            } 
-            else {
-                ++result;
-            }
-        }
-        return result;
+      [#if grammar.preserveTabs]
+        return getLineMap().getCodePointColumn(pos, startingColumn, tabSize);
+      [#else]
+        return getLineMap().getCodePointColumn(pos, startingColumn, DEFAULT_TAB_SIZE);
+      [/#if]
     }
     
     /**
@@ -637,6 +777,18 @@ public class ${grammar.lexerClassName} implements ${grammar.constantsClassName}
      * and endOffset(exclusive)
      */
     public String getText(int startOffset, int endOffset) {
+      [#if grammar.sparseTokenIndex]
+        if (ignoredRegionCount == 0) {
+            return content.subSequence(startOffset, endOffset).toString();
+        }
+        StringBuilder buf = new StringBuilder();
+        for (int offset = skipIgnored(startOffset); offset < endOffset; offset = skipIgnored(offset)) {
+            int regionEnd = Math.min(endOffset, nextIgnoredOffset(offset));
+            buf.append(content, offset, regionEnd);
+            offset = regionEnd;
+        }
+        return buf.toString();
+      [#else]
         StringBuilder buf = new StringBuilder();
         for (int offset = startOffset; offset < endOffset; offset++) {
             if (tokenLocationTable[offset] != IGNORED) {
@@ -644,8 +796,13 @@ public class ${grammar.lexerClassName} implements ${grammar.constantsClassName}
             }
         }
         return buf.toString();
+      [/#if]
     }
 
+[#if grammar.sparseTokenIndex]
+   [#embed "SparseTokenIndex.java.ftl"]
+[#else]
+
     void cacheToken(Token tok) {
 [#if !grammar.minimalToken]        
         if (tok.isInserted()) {
@@ -680,142 +837,302 @@ public class ${grammar.lexerClassName} implements ${grammar.constantsClassName}
         int prevOffset = tokenOffsets.previousSetBit(offset-1);
         return prevOffset == -1 ? null : tokenLocationTable[prevOffset];
     }
+[/#if]
 
-    private void createLineOffsetsTable() {
-        if (content.length() == 0) {
-            this.lineOffsets = new int[0];
-            return;
-        }
-        int lineCount = 0;
-        int length = content.length();
-        for (int i = 0; i < length; i++) {
-            char ch = content.charAt(i);
-            if (ch == '\t' || Character.isHighSurrogate(ch)) {
-                needToCalculateColumns.set(lineCount);
+    /**
+     * This does everything that needs to be done with the input before
+     * we start tokenizing, in a single pass. It munges the content, i.e.
+     * possibly replaces unicode escapes, tabs, or CRLF with LF, (copying it only
+     * if something actually changes)[#if grammar.cppContinuationLine] and, at the same time, finds the C-style continuation lines[/#if].
+     * The line offsets are not worked out here, but lazily, by the LineMap.
+     */
+    private void prepareInput(CharSequence input) {
+        final int length = input.length();
+        StringBuilder buf = null;
+        // The position in the munged content
+        int pos = 0;
+        char lastChar = 0;
+      [#if !grammar.preserveTabs]
+        // This is just to handle tabs to spaces.
+        int col = 0;
+      [/#if]
+      [#if grammar.javaUnicodeEscape]
+        int numPrecedingSlashes = 0;
+      [/#if]
+      [#if grammar.cppContinuationLine]
+        // The (start, end) offsets of the continuation lines, and the position of
+        // the last backslash that has only been followed by whitespace
+        int[] continuationLines = new int[16];
+        int continuationLineCount = 0, lastBackslash = -1;
+      [/#if]
+        int index = 0;
+        while (true) {
+            char ch;
+            int numChars = 1;
+            boolean changed = false;
+            if (index < length) {
+                ch = input.charAt(index++);
+            }
+          [#if grammar.ensureFinalEOL]
+            else if (pos == 0 || (lastChar != '\n' && lastChar != '\r')) {
+                ch = '\n';
+                changed = true;
+            }
+          [/#if]
+            else break;
+          [#if grammar.javaUnicodeEscape]
+            numPrecedingSlashes = ch == '\\' ? numPrecedingSlashes + 1 : 0;
+            if (ch == '\\' && numPrecedingSlashes % 2 == 1 && index < length && input.charAt(index) == 'u') {
+                int numConsecutiveUs = 0;
+                while (index + numConsecutiveUs < length && input.charAt(index + numConsecutiveUs) == 'u') {
+                    numConsecutiveUs++;
+                }
+                String fourHexDigits = input.subSequence(index+numConsecutiveUs, index+numConsecutiveUs+4).toString();
+                ch = (char) Integer.parseInt(fourHexDigits, 16);
+                index += numConsecutiveUs + 4;
+                numPrecedingSlashes = 0;
+              [#if !grammar.preserveTabs]
+                ++col;
+              [/#if]
+                changed = true;
+            }
+            else
+          [/#if]
+          [#if !grammar.preserveLineEndings]
+            if (ch == '\r') {
+                ch = '\n';
+              [#if !grammar.preserveTabs]
+                col = 0;
+              [/#if]
+                changed = true;
+                if (index < length && input.charAt(index) == '\n') {
+                    ++index;
+                }
+            }
+            else
+          [/#if]
+          [#if !grammar.preserveTabs]
+            if (ch == '\t') {
+                ch = ' ';
+                numChars = DEFAULT_TAB_SIZE - col % DEFAULT_TAB_SIZE;
+                col += numChars;
+                changed = true;
+            }
+            else
+          [/#if]
+            {
+          [#if !grammar.preserveTabs]
+                if (ch == '\n') col = 0;
+                else if (!Character.isLowSurrogate(ch)) ++col;
+          [/#if]
             }
-            if (ch == '\n') {
-                lineCount++;
+            if (changed && buf == null) {
+                // Up to here, the munged content is the same as the input
+                buf = new StringBuilder(length + 16);
+                buf.append(input, 0, pos);
             }
+            if (buf != null) {
+                for (int i = 0; i < numChars; i++) buf.append(ch);
+            }
+          [#if grammar.cppContinuationLine]
+            if (ch == '\n' && lastBackslash >= 0) {
+                if (continuationLineCount == continuationLines.length) {
+                    continuationLines = Arrays.copyOf(continuationLines, continuationLineCount * 2);
+                }
+                continuationLines[continuationLineCount++] = lastBackslash;
+                continuationLines[continuationLineCount++] = pos + 1;
+                lastBackslash = -1;
+            }
+            if (ch == '\\') lastBackslash = pos;
+            else if (ch > ' ') lastBackslash = -1;
+          [/#if]
+            lastChar = ch;
+            pos += numChars;
         }
-        if (content.charAt(length - 1) != '\n') {
-            lineCount++;
+        if (buf != null) {
+            this.content = buf.toString();
+        } else {
+            // Nothing changed, so we can avoid making a copy, unless the input
+            // is something that the caller could change under our feet.
+            this.content = input instanceof String || input instanceof MappedCharSequence ? input : input.toString();
         }
-        int[] lineOffsets = new int[lineCount];
-        lineOffsets[0] = 0;
-        int index = 1;
-        for (int i = 0; i < length; i++) {
-            char ch = content.charAt(i);
-            if (ch == '\n') {
-                if (i + 1 == length)
-                    break;
-                lineOffsets[index++] = i + 1;
-            }
+      [#if !grammar.sparseTokenIndex]
+        // The table may be left over from the previous input (see #reset)
+        if (tokenLocationTable == null || tokenLocationTable.length < pos+1) {
+            tokenLocationTable = new Token[pos+1];
+            tokenOffsets = new BitSet(pos+1);
         }
-        this.lineOffsets = lineOffsets;
+      [/#if]
+      [#if grammar.cppContinuationLine]
+        for (int i = 0; i < continuationLineCount; i += 2) {
+          [#if grammar.sparseTokenIndex]
+            ignoreRegion(continuationLines[i], continuationLines[i+1]);
+          [#else]
+            Arrays.fill(tokenLocationTable, continuationLines[i], continuationLines[i+1], IGNORED);
+          [/#if]
+        }
+      [/#if]
     }
+[/#if]
  
-// Icky method to handle annoying stuff. Might make this public later if it is
-// needed elsewhere
-  private static String mungeContent(CharSequence content, boolean preserveTabs, boolean preserveLines,
-        boolean javaUnicodeEscape, boolean ensureFinalEndline) {
-    if (preserveTabs && preserveLines && !javaUnicodeEscape) {
-        if (ensureFinalEndline) {
-            if (content.length() == 0) {
-                content = "\n";
-            } else {
-                int lastChar = content.charAt(content.length()-1);
-                if (lastChar != '\n' && lastChar != '\r') {
-                    if (content instanceof StringBuilder) {
-                        ((StringBuilder) content).append((char) '\n');
-                    } else {
-                        StringBuilder buf = new StringBuilder(content);
-                        buf.append('\n');
-                        content = buf.toString();
-                    }
-                }
+[#if !grammar.streamingInput]
+  /**
+   * @param path the file to read
+   * @param charset the encoding of the file. If this is null, we check for the
+   * initial byte order mark and, if there is none, assume UTF-8.
+   * @return the content of the file. If the encoding is UTF-8, US-ASCII or ISO-8859-1,
+   * this is a view of the memory-mapped file, so the content is not copied
+   * onto the heap, except for the (decoded) parts that are not ASCII. For other encodings,
+   * the file is simply read in and decoded.
+   */
+  static public CharSequence mapFile(java.nio.file.Path path, Charset charset) throws IOException {
+    try (java.nio.channels.FileChannel channel = java.nio.channels.FileChannel.open(path)) {
+        long size = channel.size();
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("The file " + path + " is too big.");
+        }
+        ByteBuffer bytes = channel.map(java.nio.channels.FileChannel.MapMode.READ_ONLY, 0, size);
+        int start = 0;
+        if (charset == null) {
+            int firstByte = size > 0 ? Byte.toUnsignedInt(bytes.get(0)) : 1;
+            int secondByte = size > 1 ? Byte.toUnsignedInt(bytes.get(1)) : 1;
+            int thirdByte = size > 2 ? Byte.toUnsignedInt(bytes.get(2)) : 1;
+            if (firstByte == 0xEF && secondByte == 0xBB && thirdByte == 0xBF) {
+                start = 3;
             }
+            else if ((firstByte == 0xFE && secondByte == 0xFF) || (firstByte == 0xFF && secondByte == 0xFE) || firstByte == 0) {
+                // Some variant of UTF-16 or UTF-32
+                byte[] content = new byte[(int) size];
+                bytes.get(content);
+                return stringFromBytes(content, null);
+            }
+            charset = UTF_8;
+        }
+        if (!charset.equals(UTF_8) && !charset.equals(US_ASCII) && !charset.equals(ISO_8859_1)) {
+            byte[] content = new byte[(int) size];
+            bytes.get(content);
+            return stringFromBytes(content, charset);
         }
-        return content.toString();
+        ((Buffer) bytes).position(start);
+        return new MappedCharSequence(bytes.slice(), charset);
     }
-    StringBuilder buf = new StringBuilder();
-    // This is just to handle tabs to spaces. If you don't have that setting set, it
-    // is really unused.
-    int col = 0;
-    int index = 0, contentLength = content.length();
-    while (index < contentLength) {
-        char ch = content.charAt(index++);
-        if (ch == '\n') {
-            buf.append(ch);
-            col = 0;
-        }
-        else if (javaUnicodeEscape && ch == '\\' && index < contentLength && content.charAt(index)=='u') {
-            int numPrecedingSlashes = 0;
-            for (int i = index-1; i>=0; i--) {
-                if (content.charAt(i) == '\\') 
-                    numPrecedingSlashes++;
-                else break;
-            }
-            if (numPrecedingSlashes % 2 == 0) {
-                buf.append('\\');
-                ++col;
-                continue;
+  }
+
+  /**
+   * A CharSequence that reads from a memory-mapped file. The file is split into blocks,
+   * and the ones that are pure ASCII (or all of them in the case of ISO-8859-1) 
+   * are read directly from the mapped bytes. Only the other blocks are decoded.
+   */
+  private static final class MappedCharSequence implements CharSequence {
+    static final int BLOCK_SIZE = 0x1000;
+    private final ByteBuffer bytes;
+    // The offsets of the first byte and the first char of each block.
+    // The last entry is the overall length.
+    private final int[] byteStarts, charStarts;
+    // The decoded chars of each block, or null if the block is read directly
+    private final char[][] decodedBlocks;
+    private final int numBlocks;
+    // The block that was accessed last, since access is mostly sequential.
+    // It is only a hint: charAt reads it once and checks it against the
+    // (immutable) block offsets, so the sequence can be read from several 
+    // threads at once, and a thread that sees a stale value just searches again.
+    private int lastBlock;
+
+    MappedCharSequence(ByteBuffer bytes, Charset charset) throws CharacterCodingException {
+        this.bytes = bytes;
+        boolean latin1 = charset.equals(ISO_8859_1);
+        int length = bytes.limit();
+        int maxBlocks = length / BLOCK_SIZE + 1;
+        byteStarts = new int[maxBlocks + 1];
+        charStarts = new int[maxBlocks + 1];
+        decodedBlocks = new char[maxBlocks][];
+        CharsetDecoder decoder = charset.newDecoder();
+        int block = 0, byteStart = 0, charStart = 0;
+        while (byteStart < length) {
+            int byteEnd = Math.min(length, byteStart + BLOCK_SIZE);
+            // Don't split a UTF-8 sequence between blocks
+            while (!latin1 && byteEnd < length && (bytes.get(byteEnd) & 0xC0) == 0x80) {
+                ++byteEnd;
             }
-            int numConsecutiveUs = 0;
-            for (int i = index; i < contentLength; i++) {
-                if (content.charAt(i) == 'u') numConsecutiveUs++;
-                else break;
+            boolean direct = latin1;
+            if (!direct) {
+                direct = true;
+                for (int i = byteStart; i < byteEnd; i++) {
+                    if (bytes.get(i) < 0) {
+                        direct = false;
+                        break;
+                    }
+                }
             }
-            String fourHexDigits = content.subSequence(index+numConsecutiveUs, index+numConsecutiveUs+4).toString();
-            buf.append((char) Integer.parseInt(fourHexDigits, 16));
-            index+=(numConsecutiveUs +4);
-            ++col;
-        }
-        else if (!preserveLines && ch == '\r') {
-            buf.append('\n');
-            col = 0;
-            if (index < contentLength && content.charAt(index) == '\n') {
-                ++index;
+            byteStarts[block] = byteStart;
+            charStarts[block] = charStart;
+            if (direct) {
+                charStart += byteEnd - byteStart;
+            } else {
+                ByteBuffer blockBytes = bytes.duplicate();
+                ((Buffer) blockBytes).limit(byteEnd);
+                ((Buffer) blockBytes).position(byteStart);
+                decoder.reset();
+                CharBuffer chars = decode(decoder, blockBytes.slice(), true);
+                decodedBlocks[block] = new char[chars.remaining()];
+                chars.get(decodedBlocks[block]);
+                charStart += decodedBlocks[block].length;
             }
-        } else if (ch == '\t' && !preserveTabs) {
-            int spacesToAdd = DEFAULT_TAB_SIZE - col % DEFAULT_TAB_SIZE;
-            for (int i = 0; i < spacesToAdd; i++) {
-                buf.append(' ');
-                col++;
+            ++block;
+            byteStart = byteEnd;
+        }
+        byteStarts[block] = length;
+        charStarts[block] = charStart;
+        numBlocks = block;
+    }
+
+    public int length() {
+        return charStarts[numBlocks];
+    }
+
+    public char charAt(int index) {
+        int block = lastBlock;
+        if (index < charStarts[block] || index >= charStarts[block+1]) {
+            if (index < 0 || index >= length()) {
+                throw new IndexOutOfBoundsException("index: " + index + ", length: " + length());
             }
-        } else {
-            buf.append(ch);
-            if (!Character.isLowSurrogate(ch)) col++;
+            block = Arrays.binarySearch(charStarts, 0, numBlocks, index);
+            if (block < 0) block = -block - 2;
+            lastBlock = block;
+        }
+        char[] decoded = decodedBlocks[block];
+        if (decoded != null) {
+            return decoded[index - charStarts[block]];
         }
+        return (char) (bytes.get(byteStarts[block] + index - charStarts[block]) & 0xFF);
     }
-    if (ensureFinalEndline) {
-        if (buf.length() ==0) {
-            return "\n";
+
+    public CharSequence subSequence(int start, int end) {
+        StringBuilder buf = new StringBuilder(end - start);
+        for (int i = start; i < end; i++) {
+            buf.append(charAt(i));
         }
-        char lastChar = buf.charAt(buf.length()-1);
-        if (lastChar != '\n' && lastChar != '\r') buf.append('\n');
+        return buf.toString();
     }
-    return buf.toString();
-  }
 
-  private void handleCContinuationLines() {
-      String input = content.toString();
-      for (int offset = input.indexOf('\\'); offset >=0; offset = input.indexOf('\\', offset+1)) {
-          int nlIndex = input.indexOf('\n', offset);
-          if (nlIndex < 0) break;
-          if (input.substring(offset+1, nlIndex).trim().isEmpty()) {
-              for (int i=offset; i<=nlIndex; i++) tokenLocationTable[i] = IGNORED;
-          } 
-      }
+    public String toString() {
+        return subSequence(0, length()).toString();
+    }
   }
 
   // Utility methods. Having them here makes it easier to handle things
   // more uniformly in other generation languages.
 
    private void setRegionIgnore(int start, int end) {
+   [#if grammar.sparseTokenIndex]
+     ignoreRegion(start, end);
+     uncacheRegion(start, end);
+   [#else]
      for (int i = start; i< end; i++) {
        tokenLocationTable[i] = IGNORED;
      }
      tokenOffsets.clear(start, end);
+   [/#if]
    }
 
    private boolean atLineStart(Token tok) {
@@ -842,6 +1159,7 @@ public class ${grammar.lexerClassName} implements ${grammar.constantsClassName}
        tok.setBeginOffset(start);
        tok.setEndOffset(end);
    }
+[/#if]
 
   static String displayChar(int ch) {
     if (ch == '\'') return "\'\\'\'";
@@ -964,11 +1282,15 @@ public class ${grammar.lexerClassName} implements ${grammar.constantsClassName}
       }
       charset = UTF_8;
     }
-    CharsetDecoder decoder = charset.newDecoder();
-    ByteBuffer b = ByteBuffer.wrap(bytes);
-    CharBuffer c = CharBuffer.allocate(bytes.length);
+    return decode(charset.newDecoder(), ByteBuffer.wrap(bytes), false).toString();
+    // return new String(bytes, charset);
+  }
+
+  // Decode the bytes, replacing any malformed input with 0xFFFD
+  private static CharBuffer decode(CharsetDecoder decoder, ByteBuffer b, boolean endOfInput) throws CharacterCodingException {
+    CharBuffer c = CharBuffer.allocate(b.remaining());
     while (true) {
-        CoderResult r = decoder.decode(b, c, false);
+        CoderResult r = decoder.decode(b, c, endOfInput);
         if (!r.isError()) {
             break;
         }
@@ -976,18 +1298,132 @@ public class ${grammar.lexerClassName} implements ${grammar.constantsClassName}
             r.throwException();
         }
         int n = r.length();
-        b.position(b.position() + n);
+        ((Buffer) b).position(b.position() + n);
         for (int i = 0; i < n; i++) {
             c.put((char) 0xFFFD);
         }
     }
     ((Buffer) c).limit(c.position());
     ((Buffer) c).rewind();
-    return c.toString();
-    // return new String(bytes, charset);
+    return c;
   }
 
   static public String stringFromBytes(byte[] bytes) throws CharacterCodingException {
      return stringFromBytes(bytes, null);
   }
 }
+
+[#--
+  The core tokenization loop when the DFA_LEXER option is set.
+  It has the same semantics as the NFA loop, but instead of 
+  keeping track of a set of active NFA states, there is just
+  the one current state of the DFA, and a single table lookup
+  per character.
+--]
+[#macro DfaLoop]
+      [#if multipleLexicalStates]
+        // There is some possibility that there was a lexical state change
+        // since the last iteration of this loop!
+        ${grammar.nfaDataClassName}.DfaData dfaData = ${grammar.nfaDataClassName}.getDfaData(lexicalState);
+      [/#if]
+        int dfaState = 0;
+        if (!reachedEnd) do {
+            if (codeUnitsRead > 0) {
+                int retval = readChar();
+                if (retval >=0) {
+                    curChar = retval;
+                }
+                else {
+                    reachedEnd = true;
+                    break;
+                }
+            }
+            dfaState = dfaData.nextState(dfaState, curChar);
+            ++codeUnitsRead;
+            if (curChar>0xFFFF) ++codeUnitsRead;
+            if (dfaState < 0) break;
+            TokenType[] acceptTypes = dfaData.acceptTypes[dfaState];
+            if (acceptTypes != null) {
+                for (TokenType type : acceptTypes) {
+                    if (activeTokenTypes.contains(type)) {
+                        matchedType = type;
+                        inMore = moreTokens.contains(matchedType);
+                        matchedPos = codeUnitsRead;
+                        break;
+                    }
+                }
+            }
+        } while (dfaState < dfaData.liveStates);
+[/#macro]
+
+[#--
+  The core NFA loop when the INT_WORKLIST_LEXER option is set.
+  The active states are kept in an NfaWorklist, i.e. a deduplicated
+  int array, rather than a BitSet, and the active token types 
+  are checked against a bitmask.
+--]
+[#macro WorklistLoop]
+        long[] validTypes = getActiveTypeMask();
+        // the core NFA loop
+        if (!reachedEnd) do {
+            // Holder for the new type (if any) matched on this iteration
+            TokenType newType = null;
+            if (codeUnitsRead > 0) {
+                // What was nextStates on the last iteration 
+                // is now the currentStates!
+                ${grammar.nfaDataClassName}.NfaWorklist temp = currentStates;
+                currentStates = nextStates;
+                nextStates = temp;
+                int retval = readChar();
+                if (retval >=0) {
+                    curChar = retval;
+                }
+                else {
+                    reachedEnd = true;
+                    break;
+                }
+            }
+            nextStates.clear();
+            int activeCount = codeUnitsRead == 0 ? 1 : currentStates.size;
+            int[] activeStates = currentStates.states;
+          [#if grammar.asciiTableLexer]
+            if (curChar < 128) {
+                // Look up the precomputed moves rather than
+                // invoking the NFA functions
+                int charClass = asciiTable.charClasses[curChar];
+                for (int i = 0; i < activeCount; i++) {
+                    int active = codeUnitsRead == 0 ? 0 : activeStates[i];
+                    int move = asciiTable.moves[active * asciiTable.charClassCount + charClass];
+                    if (move != 0) {
+                        for (int target : asciiTable.targets[move]) {
+                            nextStates.add(target);
+                        }
+                        for (TokenType type : asciiTable.types[move]) {
+                            int ordinal = type.ordinal();
+                            if (newType != null && ordinal >= newType.ordinal()) break;
+                            if ((validTypes[ordinal >> 6] & (1L << ordinal)) != 0) {
+                                newType = type;
+                                break;
+                            }
+                        }
+                    }
+                }
+            }
+            else
+          [/#if]
+            for (int i = 0; i < activeCount; i++) {
+                int active = codeUnitsRead == 0 ? 0 : activeStates[i];
+                TokenType returnedType = nfaFunctions[active].apply(curChar, nextStates, validTypes);
+                if (returnedType != null && (newType == null || returnedType.ordinal() < newType.ordinal())) {
+                    newType = returnedType;
+                }
+            }
+            ++codeUnitsRead;
+            if (curChar>0xFFFF) ++codeUnitsRead;
+            if (newType != null) {
+                matchedType = newType;
+                inMore = moreTokens.contains(matchedType);
+                matchedPos= codeUnitsRead;
+            }
+        } while (nextStates.size != 0);
+[/#macro]
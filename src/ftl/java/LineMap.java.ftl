@@ -0,0 +1,161 @@
+[#--
+/* Copyright (c) 2022 Jonathan Revusky, revusky@javacc.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notices,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name Jonathan Revusky nor the names of any contributors 
+ *       may be used to endorse or promote products derived from this software 
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+ --]
+/* Generated by: ${generated_by}. ${filename} */
+[#if grammar.parserPackage?has_content]
+package ${grammar.parserPackage};
+[/#if]
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Works out line and column numbers from offsets in the (munged) 
+ * content of a ${grammar.lexerClassName}. Nothing is done until the first request
+ * for a line or column and then the content is only scanned as far
+ * as is needed, so if only the offsets are ever used, this costs nothing.
+ * A LineMap can be shared by lexers over the same content.
+ */
+public class LineMap {
+
+    private final CharSequence content;
+
+    // The offsets of the beginnings of the lines scanned so far
+    private int[] lineOffsets = new int[256];
+    private int lineCount = 1;
+
+    // How far we have scanned the content
+    private int scannedTo;
+
+    // The lines (0-based) that contain either hard tabs or
+    // extended (beyond 0xFFFF) unicode characters
+    private final BitSet needToCalculateColumns = new BitSet();
+
+    public LineMap(CharSequence content) {
+        this.content = content;
+    }
+
+    public CharSequence getContent() {
+        return content;
+    }
+
+    // Scan the content up to (but not including) the offset
+    private void scanTo(int offset) {
+        int length = content.length();
+        int end = Math.min(offset, length);
+        for (int i = scannedTo; i < end; i++) {
+            char ch = content.charAt(i);
+            if (ch == '\n') {
+                if (i + 1 == length) break;
+                if (lineCount == lineOffsets.length) {
+                    lineOffsets = Arrays.copyOf(lineOffsets, lineCount * 2);
+                }
+                lineOffsets[lineCount++] = i + 1;
+            }
+            else if (ch == '\t' || Character.isHighSurrogate(ch)) {
+                needToCalculateColumns.set(lineCount - 1);
+            }
+        }
+        if (end > scannedTo) scannedTo = end;
+    }
+
+    /**
+     * @return the number of lines in the content
+     */
+    public int getLineCount() {
+        scanTo(content.length());
+        return content.length() == 0 ? 0 : lineCount;
+    }
+
+    /**
+     * @param pos the offset
+     * @return the (0-based) index of the line that the offset is on
+     */
+    public int getLineIndex(int pos) {
+        int length = content.length();
+        if (pos >= length) {
+            scanTo(length);
+            if (length > 0 && content.charAt(length - 1) == '\n') {
+                return lineCount;
+            }
+            return lineCount - 1;
+        }
+        scanTo(pos + 1);
+        int bsearchResult = Arrays.binarySearch(lineOffsets, 0, lineCount, pos);
+        return bsearchResult >= 0 ? bsearchResult : -(bsearchResult + 2);
+    }
+
+    /**
+     * @param lineIndex the (0-based) index of the line
+     * @return the offset where the line starts, or the length of the
+     * content if there is no such line
+     */
+    public int getLineStartOffset(int lineIndex) {
+        if (lineIndex <= 0) return 0;
+        int length = content.length();
+        while (lineCount <= lineIndex && scannedTo < length) {
+            scanTo(scannedTo + 0x1000);
+        }
+        return lineIndex < lineCount ? lineOffsets[lineIndex] : length;
+    }
+
+    /**
+     * @param pos the offset
+     * @param startingColumn the column that the first line starts at, usually 1
+     * @param tabSize the tab size used to work out the columns
+     * @return the column (1-based and in code points) of the offset
+     */
+    public int getCodePointColumn(int pos, int startingColumn, int tabSize) {
+        if (pos >= content.length()) return 1;
+        if (pos == 0) return startingColumn;
+        final int line = getLineIndex(pos);
+        final int lineStart = lineOffsets[line];
+        int startColumnAdjustment = line > 0 ? 1 : startingColumn;
+        int unadjustedColumn = pos - lineStart + startColumnAdjustment;
+        if (!needToCalculateColumns.get(line)) {
+            return unadjustedColumn;
+        }
+        if (Character.isLowSurrogate(content.charAt(pos))) --pos;
+        int result = startColumnAdjustment;
+        for (int i = lineStart; i < pos; i++) {
+            char ch = content.charAt(i);
+            if (ch == '\t') {
+                result += tabSize - (result - 1) % tabSize;
+            } 
+            else if (Character.isHighSurrogate(ch)) {
+                ++result;
+                ++i;
+            } 
+            else {
+                ++result;
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,132 @@
+[#ftl strict_vars=true]
+[#--
+/* Copyright (c) 2022 Jonathan Revusky, revusky@javacc.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notices,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name Jonathan Revusky nor the names of any contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+[#--
+   This is embedded in the XXXParser class when the MEMOIZE_LOOKAHEAD
+   option is set. The lookahead methods of the productions whose scan 
+   only depends on where it starts (see com.javacc.core.BNFProduction#getLookaheadMemoId)
+   record the outcome of the scan here, so that scanning through the same
+   production from the same token again, from another choice point, say,
+   just replays it.
+--]
+
+  // The memo is a simple direct-mapped cache: a new entry just
+  // replaces whatever was in its slot. An entry is keyed on the token 
+  // where the scan starts and the production (and the scanToEnd and 
+  // passedPredicate flags) and holds the token where the scan ended, the 
+  // number of tokens scanned and the result (and the hitFailure and 
+  // passedPredicate flags). Entries from before the last time the memo
+  // was cleared are stale, i.e. their generation is not the current one.
+  private static final int LOOKAHEAD_MEMO_SIZE = 1 << 12;
+  private final Token[] memoStartTokens = new Token[LOOKAHEAD_MEMO_SIZE];
+  private final Token[] memoEndTokens = new Token[LOOKAHEAD_MEMO_SIZE];
+  private final int[] memoKeys = new int[LOOKAHEAD_MEMO_SIZE];
+  private final int[] memoGenerations = new int[LOOKAHEAD_MEMO_SIZE];
+  private final int[] memoTokensScanned = new int[LOOKAHEAD_MEMO_SIZE];
+  private final byte[] memoResults = new byte[LOOKAHEAD_MEMO_SIZE];
+  private int memoGeneration = 1;
+  private long memoLookups, memoHits;
+
+  /**
+   * Forget all the memoized lookahead results. This is necessary whenever
+   * the tokens after the current one may change, i.e. when the tokens are 
+   * uncached, or the lexical state or the active token types change.
+   */
+  private void clearLookaheadMemo() {
+    ++memoGeneration;
+  }
+
+  /**
+   * @return the number of times the lookahead memo was checked
+   */
+  public long getLookaheadMemoLookups() {
+    return memoLookups;
+  }
+
+  /**
+   * @return the number of times the lookahead memo had the result
+   */
+  public long getLookaheadMemoHits() {
+    return memoHits;
+  }
+
+  /**
+   * @return the proportion of the checks of the lookahead memo that
+   * found the result
+   */
+  public double getLookaheadMemoHitRate() {
+    return memoLookups == 0 ? 0.0 : (double) memoHits / memoLookups;
+  }
+
+  // Whether the lookahead method can use the memo at this point. 
+  // The scan must not be limited by a numerical lookahead, since the 
+  // result could then depend on the number of tokens left to scan.
+  private boolean canMemoizeLookahead() {
+    return !hitFailure && remainingLookahead > UNLIMITED / 2 && currentLookaheadToken != null;
+  }
+
+  private int lookaheadMemoKey(int productionId, boolean scanToEnd) {
+    return (productionId << 2) | (scanToEnd ? 2 : 0) | (passedPredicate ? 1 : 0);
+  }
+
+  private int lookaheadMemoSlot(int key) {
+    int h = currentLookaheadToken.getBeginOffset() * 0x9E3779B9 + key;
+    return (h ^ (h >>> 16)) & (LOOKAHEAD_MEMO_SIZE - 1);
+  }
+
+  /**
+   * If the memo has the outcome of the scan, replay it, i.e. move 
+   * on to where the scan ended and set the flags.
+   * @return 1 or 0 if the memo has the (true or false) result and -1 if not
+   */
+  private int replayLookaheadMemo(int slot, int key) {
+    ++memoLookups;
+    if (memoGenerations[slot] != memoGeneration || memoKeys[slot] != key 
+        || memoStartTokens[slot] != currentLookaheadToken) {
+      return -1;
+    }
+    ++memoHits;
+    byte result = memoResults[slot];
+    currentLookaheadToken = memoEndTokens[slot];
+    remainingLookahead -= memoTokensScanned[slot];
+    hitFailure = (result & 2) != 0;
+    passedPredicate = (result & 4) != 0;
+    return result & 1;
+  }
+
+  private boolean memoizeLookahead(int slot, int key, Token startToken, int startRemainingLookahead, boolean result) {
+    memoGenerations[slot] = memoGeneration;
+    memoKeys[slot] = key;
+    memoStartTokens[slot] = startToken;
+    memoEndTokens[slot] = currentLookaheadToken;
+    memoTokensScanned[slot] = startRemainingLookahead - remainingLookahead;
+    memoResults[slot] = (byte) ((result ? 1 : 0) | (hitFailure ? 2 : 0) | (passedPredicate ? 4 : 0));
+    return result;
+  }
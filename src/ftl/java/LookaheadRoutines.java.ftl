@@ -49,6 +49,12 @@
     [#list grammar.expansionsForFirstSet as expansion]
           [@CU.firstSetVar expansion/]
     [/#list]
+    [#if !CU.SINGLE_LONG_MASK]
+
+    static private boolean maskContains(long[] mask, int ordinal) {
+        return (mask[ordinal >>> 6] & (1L << ordinal)) != 0;
+    }
+    [/#if]
 [/#macro]
 
 [#macro finalSetVars]
@@ -72,6 +78,19 @@
 
 
 [#macro BuildLookaheads]
+  [#-- One overload for each number of types that the generated code passes in,
+       so that the usual scan step does not allocate a varargs array. --]
+  [#list 1..CU.USE_FIRST_SET_THRESHOLD-1 as arity]
+  private final boolean scanToken([#list 1..arity as i]TokenType type${i}[#if i_has_next], [/#if][/#list]) {
+     Token peekedToken = nextToken(currentLookaheadToken);
+     TokenType type = peekedToken.getType();
+     if ([#list 1..arity as i]type != type${i}[#if i_has_next] && [/#if][/#list]) return false;
+     --remainingLookahead;
+     currentLookaheadToken = peekedToken;
+     return true;
+  }
+
+  [/#list]
   private final boolean scanToken(TokenType expectedType, TokenType... additionalTypes) {
      Token peekedToken = nextToken(currentLookaheadToken);
      TokenType type = peekedToken.getType();
@@ -90,10 +109,10 @@
      return true;
   }
 
-  private final boolean scanToken(EnumSet<TokenType> types) {
+  private final boolean scanToken(long[#if !CU.SINGLE_LONG_MASK][][/#if] typeMask) {
      Token peekedToken = nextToken(currentLookaheadToken);
-     TokenType type = peekedToken.getType();
-     if (!types.contains(type)) return false;
+     int ordinal = peekedToken.getType().ordinal();
+     if (!(${CU.maskContains("typeMask", "ordinal")})) return false;
      --remainingLookahead;
      currentLookaheadToken = peekedToken;
      return true;
@@ -269,21 +288,25 @@
 [/#macro]
 
 [#macro BuildLookBehindRoutine lookBehind]
+    [#-- The routine walks the call stack, with the lookahead stack on top of it, 
+         from the top down if the lookbehind is backward, and from the bottom up otherwise --]
+    [#var hasNext = lookBehind.backward?string("index >= 0", "index < stackSize"),
+          advance = lookBehind.backward?string("index--", "index++")]
     private final boolean ${lookBehind.routineName}() {
-       ListIterator<NonTerminalCall> stackIterator = ${lookBehind.backward?string("stackIteratorBackward", "stackIteratorForward")}();
-       NonTerminalCall ntc = null;
+       final int stackSize = parsingStack.size() + lookaheadStack.size();
+       int index = ${lookBehind.backward?string("stackSize - 1", "0")};
        [#list lookBehind.path as element]
           [#var elementNegated = (element[0] == "~")]
           [#if elementNegated][#set element = element?substring(1)][/#if]
           [#if element = "."]
-              if (!stackIterator.hasNext()) {
+              if (!(${hasNext})) {
                  return false;
               }
-              stackIterator.next();
+              ${advance};
           [#elseif element = "..."]
              [#if element_index = lookBehind.path?size-1]
                  [#if lookBehind.hasEndingSlash]
-                      return !stackIterator.hasNext();
+                      return !(${hasNext});
                  [#else]
                       return true;
                  [/#if]
@@ -291,25 +314,23 @@
                  [#var nextElement = lookBehind.path[element_index+1]]
                  [#var nextElementNegated = (nextElement[0]=="~")]
                  [#if nextElementNegated][#set nextElement=nextElement?substring(1)][/#if]
-                 while (stackIterator.hasNext()) {
-                    ntc = stackIterator.next();
+                 while (${hasNext}) {
                     [#var equalityOp = nextElementNegated?string("!=", "==")]
-                    if (ntc.productionName ${equalityOp} "${nextElement}") {
-                       stackIterator.previous();
+                    if (stackProductionId(index) ${equalityOp} ${grammar.utils.productionId(nextElement)}) {
                        break;
                     }
-                    if (!stackIterator.hasNext()) return false;
+                    ${advance};
+                    if (!(${hasNext})) return false;
                  }
              [/#if]
           [#else]
-             if (!stackIterator.hasNext()) return false;
-             ntc = stackIterator.next();
+             if (!(${hasNext})) return false;
              [#var equalityOp = elementNegated?string("==", "!=")]
-               if (ntc.productionName ${equalityOp} "${element}") return false;
+               if (stackProductionId(${advance}) ${equalityOp} ${grammar.utils.productionId(element)}) return false;
           [/#if]
        [/#list]
        [#if lookBehind.hasEndingSlash]
-           return !stackIterator.hasNext();
+           return !(${hasNext});
        [#else]
            return true;
        [/#if]
@@ -317,8 +338,27 @@
 [/#macro]
 
 [#macro BuildProductionLookaheadMethod production]
+   [#var memoId = production.lookaheadMemoId]
    // BuildProductionLookaheadMethod macro
+  [#if memoId >= 0]
+   private final boolean ${production.lookaheadMethodName}(boolean scanToEnd) {
+      if (!canMemoizeLookahead()[#if production.containsScanLimit] || lookaheadStack.size() <= 1[/#if]) {
+         return ${production.unmemoizedLookaheadMethodName}(scanToEnd);
+      }
+      int key = lookaheadMemoKey(${memoId}, scanToEnd);
+      int slot = lookaheadMemoSlot(key);
+      int memoized = replayLookaheadMemo(slot, key);
+      if (memoized >= 0) return memoized == 1;
+      Token startToken = currentLookaheadToken;
+      int startRemainingLookahead = remainingLookahead;
+      boolean result = ${production.unmemoizedLookaheadMethodName}(scanToEnd);
+      return memoizeLookahead(slot, key, startToken, startRemainingLookahead, result);
+   }
+
+   private final boolean ${production.unmemoizedLookaheadMethodName}(boolean scanToEnd) {
+  [#else]
    private final boolean ${production.lookaheadMethodName}(boolean scanToEnd) {
+  [/#if]
       [#if production.javaCode?? && production.javaCode.appliesInLookahead]
           ${production.javaCode}
        [/#if]
@@ -418,8 +458,8 @@
 --]
 [#macro ScanCodeNonTerminal nt]
       // NonTerminal ${nt.name} at ${nt.location}
-      pushOntoLookaheadStack("${nt.containingProduction.name}", "${nt.inputSource?j_string}", ${nt.beginLine}, ${nt.beginColumn});
-      currentLookaheadProduction = "${nt.production.name}";
+      pushOntoLookaheadStack(${nt.containingProduction.productionId}, "${nt.inputSource?j_string}", ${nt.beginLine}, ${nt.beginColumn});
+      currentLookaheadProduction = ${nt.production.productionId};
       try {
           if (!${nt.production.lookaheadMethodName}(${CU.bool(nt.scanToEnd)})) return false;
       }
@@ -438,7 +478,7 @@
         [/#list]
       )) return false; 
     [#else]
-      if (!scanToken(${expansion.firstSetVarName})) return false;
+      if (!scanToken(${CU.firstSetMaskName(expansion)})) return false;
     [/#if]
 [/#macro]    
 
@@ -544,7 +584,7 @@
         [/#list]
       ) 
      [#else]
-      scanToken(${expansion.firstSetVarName})
+      scanToken(${CU.firstSetMaskName(expansion)})
      [/#if]
    [#else]
       ${expansion.scanRoutineName}(false)
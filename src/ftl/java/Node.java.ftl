@@ -35,7 +35,15 @@ package ${grammar.parserPackage};
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.lang.reflect.*;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 [#if grammar.settings.FREEMARKER_NODES?? && grammar.settings.FREEMARKER_NODES]
 import freemarker.template.*;
 [/#if]
@@ -105,6 +113,18 @@ public interface Node extends Comparable<Node>
       */
      void addChild(int i, Node n);
 
+     /**
+      * appends a range of nodes as children of this Node
+      * @param nodes the array that holds the nodes
+      * @param from the index of the first node to append
+      * @param to the index just past the last node to append
+      */
+     default void addChildren(Node[] nodes, int from, int to) {
+         for (int i = from; i < to; i++) {
+             addChild(nodes[i]);
+         }
+     }
+
      /**
       * @return the Node at the specific offset
       * @param i the index of the Node to return
@@ -269,7 +289,7 @@ public interface Node extends Comparable<Node>
      */
      default List<Token> getAllTokens(boolean includeCommentTokens) {
 		List<Token> result = new ArrayList<>();
-        for (Iterator<Node> it = iterator(); it.hasNext();) {
+        for (Iterator<Node> it = preOrderIterator(); it.hasNext();) {
             Node child = it.next();
             if (child instanceof Token) {
                 Token token = (Token) child;
@@ -281,9 +301,6 @@ public interface Node extends Comparable<Node>
                 }
                 result.add(token);
             } 
-            else if (child.getChildCount() >0) {
-               result.addAll(child.getAllTokens(includeCommentTokens));
-            }
         }
         return result;
     }
@@ -474,15 +491,7 @@ public interface Node extends Comparable<Node>
    }
    
    default <T extends Node> List<T> descendantsOfType(Class<T> clazz) {
-        List<T> result = new ArrayList<T>();
-        for (int i=0; i< getChildCount(); i++) {
-            Node child = getChild(i);
-            if (clazz.isInstance(child)) {
-                result.add(clazz.cast(child));
-            } 
-            result.addAll(child.descendantsOfType(clazz));
-        }
-        return result;
+        return descendants(clazz, null);
    }
    
    default <T extends Node> T firstAncestorOfType(Class<T> clazz) {
@@ -593,15 +602,7 @@ public interface Node extends Comparable<Node>
     }
     
      static public List<Token> getTokens(Node node) {
-        List<Token> result = new ArrayList<Token>();
-        for (Node child : node.children()) {
-            if (child instanceof Token) {
-                result.add((Token) child);
-            } else {
-                result.addAll(getTokens(child));
-            }
-        }
-        return result;
+        return node.descendants(Token.class);
     }
         
         
@@ -629,18 +630,85 @@ public interface Node extends Comparable<Node>
 
     default <T extends Node> List<T> descendants(Class<T> clazz, Predicate<? super T> predicate) {
        List<T> result = new ArrayList<>();
-       for (Node child : children()) {
-          if (clazz.isInstance(child)) {
-              T t = clazz.cast(child);
+       for (Iterator<Node> it = preOrderIterator(); it.hasNext();) {
+          Node descendant = it.next();
+          if (clazz.isInstance(descendant)) {
+              T t = clazz.cast(descendant);
               if (predicate == null || predicate.test(t)) {
                   result.add(t);
               }
           }
-          result.addAll(child.descendants(clazz, predicate)); 
        }
        return result;
     }
 
+    /**
+     * @return the first descendant of this node, in pre-order, that 
+     * satisfies the predicate, or null if there is none. The traversal 
+     * stops as soon as it is found.
+     */
+    default Node firstDescendant(Predicate<? super Node> predicate) {
+        return firstDescendant(Node.class, predicate);
+    }
+
+    /**
+     * @return the first descendant of this node, in pre-order, of the given 
+     * type that satisfies the predicate (if it is not null), or null 
+     * if there is none. The traversal stops as soon as it is found.
+     */
+    default <T extends Node> T firstDescendant(Class<T> clazz, Predicate<? super T> predicate) {
+       for (Iterator<Node> it = preOrderIterator(); it.hasNext();) {
+          Node descendant = it.next();
+          if (clazz.isInstance(descendant)) {
+              T t = clazz.cast(descendant);
+              if (predicate == null || predicate.test(t)) {
+                  return t;
+              }
+          }
+       }
+       return null;
+    }
+
+    /**
+     * @return an Iterator over the descendants of this node (not including 
+     * the node itself) in pre-order, i.e. the order that #descendants() 
+     * returns them in, but without building a list.
+     */
+    default Iterator<Node> preOrderIterator() {
+        return new DescendantIterator(this, false);
+    }
+
+    /**
+     * @return an Iterator over the descendants of this node (not including 
+     * the node itself) in post-order, i.e. each node after its children.
+     */
+    default Iterator<Node> postOrderIterator() {
+        return new DescendantIterator(this, true);
+    }
+
+    /**
+     * @return a Spliterator over the descendants of this node, in pre-order. 
+     * It can be split, so that a big tree can be walked with a parallel stream.
+     */
+    default Spliterator<Node> descendantSpliterator() {
+        return new DescendantSpliterator(null, null, this, 0, getChildCount());
+    }
+
+    /**
+     * @return a (lazy) Stream of the descendants of this node, in pre-order. 
+     */
+    default Stream<Node> descendantStream() {
+        return StreamSupport.stream(descendantSpliterator(), false);
+    }
+
+    /**
+     * @return a (lazy) Stream of the descendants of this node of the given type, 
+     * in pre-order. 
+     */
+    default <T extends Node> Stream<T> descendantStream(Class<T> clazz) {
+        return descendantStream().filter(clazz::isInstance).map(clazz::cast);
+    }
+
     default void dump(String prefix) {
         String output;
 
@@ -735,40 +803,201 @@ public interface Node extends Comparable<Node>
         };
     }
 
- 	static abstract public class Visitor {
-        static private Map<Class<? extends Node.Visitor>, Map<Class<? extends Node>, Method>> mapLookup;
-        static private final Method DUMMY_METHOD;
-        static {
-            try {
-                // Use this just to represent no method found, since ConcurrentHashMap cannot contains nulls
-                DUMMY_METHOD = Object.class.getMethod("toString");
-            } catch (Exception e) {throw new RuntimeException(e);} // Never happens anyway.
-            mapLookup = Collections.synchronizedMap(new HashMap<Class<? extends Node.Visitor>, Map<Class<? extends Node>, Method>>());
+    /**
+     * Iterates over the descendants of a node, in pre-order or post-order.
+     * It keeps the path from the node to the current one, with the index
+     * of the next child at each level, so it does not build any list.
+     * Like the other iterators here, it is not thread-safe and the tree
+     * should not be modified while it is in use.
+     */
+    static class DescendantIterator implements Iterator<Node> {
+        private final boolean postOrder;
+        private Node[] path = new Node[16];
+        private int[] nextChildIndexes = new int[16];
+        private int depth;
+        private Node next;
+
+        DescendantIterator(Node node, boolean postOrder) {
+            this.postOrder = postOrder;
+            path[0] = node;
+            depth = 1;
+        }
+
+        public boolean hasNext() {
+            if (next == null) next = advance();
+            return next != null;
+        }
+
+        public Node next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            Node result = next;
+            next = null;
+            return result;
+        }
+
+        private Node advance() {
+            while (depth > 0) {
+                Node node = path[depth - 1];
+                int index = nextChildIndexes[depth - 1];
+                if (index < node.getChildCount()) {
+                    nextChildIndexes[depth - 1]++;
+                    Node child = node.getChild(index);
+                    if (depth == path.length) {
+                        path = Arrays.copyOf(path, depth * 2);
+                        nextChildIndexes = Arrays.copyOf(nextChildIndexes, depth * 2);
+                    }
+                    path[depth] = child;
+                    nextChildIndexes[depth] = 0;
+                    depth++;
+                    if (!postOrder) return child;
+                } else {
+                    path[--depth] = null;
+                    // The node the iteration started from is not one of its descendants
+                    if (postOrder && depth > 0) return node;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * A Spliterator over the nodes in a range of the children of a node
+     * and their descendants, in pre-order, possibly preceded by a given
+     * node and the rest of a traversal in progress. It splits by 
+     * handing over the first half of the range, or, if there is only one
+     * child left, by going down into it.
+     */
+    static class DescendantSpliterator implements Spliterator<Node> {
+        private Node head;
+        private Iterator<Node> current;
+        private Node parent;
+        private int from, to;
+
+        DescendantSpliterator(Node head, Iterator<Node> current, Node parent, int from, int to) {
+            this.head = head;
+            this.current = current;
+            this.parent = parent;
+            this.from = from;
+            this.to = to;
+        }
+
+        public boolean tryAdvance(Consumer<? super Node> action) {
+            Node node;
+            if (head != null) {
+                node = head;
+                head = null;
+            } else if (current != null && current.hasNext()) {
+                node = current.next();
+            } else if (from < to) {
+                node = parent.getChild(from++);
+                current = node.getChildCount() > 0 ? node.preOrderIterator() : null;
+            } else {
+                return false;
+            }
+            action.accept(node);
+            return true;
+        }
+
+        public Spliterator<Node> trySplit() {
+            if (to - from == 1 && head == null && (current == null || !current.hasNext())) {
+                Node child = parent.getChild(from);
+                if (child.getChildCount() < 2) return null;
+                head = child;
+                current = null;
+                parent = child;
+                from = 0;
+                to = child.getChildCount();
+            }
+            if (to - from < 2) return null;
+            int mid = (from + to) >>> 1;
+            Spliterator<Node> prefix = new DescendantSpliterator(head, current, parent, from, mid);
+            head = null;
+            current = null;
+            from = mid;
+            return prefix;
         }
-        private Map<Class<? extends Node>, Method> methodCache;
-        {
-            this.methodCache = mapLookup.get(this.getClass());
-            if (methodCache == null) {
-                methodCache = new ConcurrentHashMap<Class<? extends Node>, Method>();
-                mapLookup.put(this.getClass(), methodCache);
+
+        public long estimateSize() {
+            // The size is not known without walking the tree, so 
+            // this uses the length of the source text the nodes span,
+            // which is roughly proportional to it.
+            if (from >= to) return head != null || current != null ? 1 : 0;
+            long span = parent.getChild(to - 1).getEndOffset() - parent.getChild(from).getBeginOffset();
+            return Math.max(span, to - from);
+        }
+
+        public int characteristics() {
+            return ORDERED | NONNULL;
+        }
+    }
+
+ 	static abstract public class Visitor {
+        // The handlers of each visitor class, by node class. A ClassValue
+        // is used rather than a global synchronized map, so that looking 
+        // them up does not need a lock.
+        static private final ClassValue<Map<Class<? extends Node>, Handler>> handlerCache = new ClassValue<Map<Class<? extends Node>, Handler>>() {
+            protected Map<Class<? extends Node>, Handler> computeValue(Class<?> visitorClass) {
+                return new ConcurrentHashMap<Class<? extends Node>, Handler>();
             }
+        };
+        // The handler used when there is no visit method for a node type
+        static private final Handler RECURSE = (visitor, node) -> visitor.recurse(node);
+
+        /**
+         * Calls a visit(...) method of a visitor. The handlers are bound, 
+         * with LambdaMetafactory where the visit method is accessible and 
+         * with a plain MethodHandle otherwise, so visiting a node does not
+         * go through Method.invoke.
+         */
+        @FunctionalInterface
+        private interface Handler {
+            void visit(Visitor visitor, Node node) throws Throwable;
         }
+
+        private final Map<Class<? extends Node>, Handler> handlers = handlerCache.get(this.getClass());
         protected boolean visitUnparsedTokens;
 		
-		private Method getVisitMethod(Node node) {
+		private Handler getHandler(Node node) {
 			Class<? extends Node> nodeClass = node.getClass();
-            Method method = methodCache.get(nodeClass);
-            if (method == null) {
-                methodCache.put(nodeClass, getVisitMethodImpl(nodeClass));
+            Handler handler = handlers.get(nodeClass);
+            if (handler == null) {
+                handler = createHandler(getVisitMethodImpl(nodeClass));
+                handlers.put(nodeClass, handler);
             }
-            return methodCache.get(nodeClass);
+            return handler;
 		}
 
+        private Handler createHandler(Method method) {
+            if (method == null) return RECURSE;
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            MethodHandle target;
+            try {
+                target = lookup.unreflect(method);
+            } catch (IllegalAccessException iae) {
+                throw new RuntimeException(iae);
+            }
+            try {
+                CallSite site = LambdaMetafactory.metafactory(lookup, 
+                                                              "visit", 
+                                                              MethodType.methodType(Handler.class),
+                                                              MethodType.methodType(void.class, Visitor.class, Node.class),
+                                                              target,
+                                                              target.type());
+                return (Handler) site.getTarget().invoke();
+            } catch (Throwable t) {
+                // The visit method could not be bound from here, which can
+                // happen on older JVMs if it or the visitor class is not
+                // public, so just call it through the method handle.
+                MethodHandle handle = target.asType(MethodType.methodType(void.class, Visitor.class, Node.class));
+                return (visitor, node) -> {handle.invokeExact(visitor, node);};
+            }
+        }
+
         // Find handler method for this node type. If there is none, 
         // it checks for a handler for any explicitly marked interfaces
         // If necessary, it climbs the class hierarchy to superclasses
         private Method getVisitMethodImpl(Class<?> nodeClass) {
-            if (nodeClass == null || !Node.class.isAssignableFrom(nodeClass)) return DUMMY_METHOD;
+            if (nodeClass == null || !Node.class.isAssignableFrom(nodeClass)) return null;
             try {
                 Method m = this.getClass().getDeclaredMethod("visit", nodeClass);
                 if (!Modifier.isPublic(nodeClass.getModifiers()) || !Modifier.isPublic(m.getModifiers())) {
@@ -789,25 +1018,18 @@ public interface Node extends Comparable<Node>
         }
 
 		/**
-		 * Tries to invoke (via reflection) the appropriate visit(...) method
-		 * defined in a subclass. If there is none, it just calls the recurse() routine.
+		 * Invokes the appropriate visit(...) method defined in a subclass. 
+		 * If there is none, it just calls the recurse() routine.
          * @param node the Node to "visit" 
 		 */
 		public final void visit(Node node) {
-			Method visitMethod = getVisitMethod(node);
-			if (visitMethod == DUMMY_METHOD) {
-				recurse(node);
-			} else try {
-				visitMethod.invoke(this, node);
-			} catch (InvocationTargetException ite) {
-	    		Throwable cause = ite.getCause();
-	    		if (cause instanceof RuntimeException) {
-	    			throw (RuntimeException) cause;
-	    		}
-	    		throw new RuntimeException(ite);
-	 		} catch (IllegalAccessException iae) {
-	 			throw new RuntimeException(iae);
-	 		}
+			try {
+				getHandler(node).visit(this, node);
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable t) {
+				throw new RuntimeException(t);
+			}
 		}
 
         /**
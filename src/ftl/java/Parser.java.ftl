@@ -74,7 +74,20 @@ private TokenType nextTokenType;
 private Token currentLookaheadToken;
 private int remainingLookahead;
 private boolean hitFailure, passedPredicate;
-private String currentlyParsedProduction, currentLookaheadProduction;
+// The names of the parser productions, indexed by the ids
+// that identify them on the call stacks
+private static final String[] PRODUCTION_NAMES = {
+  [#list grammar.parserProductions as production]
+    "${production.name}",
+  [/#list]
+};
+private static final Map<String, Integer> PRODUCTION_IDS = new HashMap<>();
+static {
+    for (int i = 0; i < PRODUCTION_NAMES.length; i++) {
+        PRODUCTION_IDS.put(PRODUCTION_NAMES[i], i);
+    }
+}
+private int currentlyParsedProduction = -1, currentLookaheadProduction = -1;
 private int lookaheadRoutineNesting, passedPredicateThreshold = -1;
 private EnumSet<TokenType> outerFollowSet;
 
@@ -119,12 +132,37 @@ public boolean isCancelled() {return cancelled;}
    * @param path The location (typically the filename) from which to get the input to parse
    */
   public ${grammar.parserClassName}(String inputSource, Path path) throws IOException {
+[#if grammar.streamingInput]
+    this(inputSource, path, null);
+[#else]
     this(inputSource, ${grammar.lexerClassName}.stringFromBytes(Files.readAllBytes(path)));
+[/#if]
   }
 
   public ${grammar.parserClassName}(String inputSource, Path path, Charset charset) throws IOException {
+[#if grammar.streamingInput]
+    // The file is read in incrementally, as the lexer needs it.
+    this(new ${grammar.lexerClassName}(inputSource, ${grammar.lexerClassName}.newReader(path, charset)));
+[#else]
     this(inputSource, ${grammar.lexerClassName}.stringFromBytes(Files.readAllBytes(path), charset));
+[/#if]
+  }
+
+[#if !grammar.streamingInput]
+  /**
+   * @param inputSource just the name of the input source (typically the filename) that 
+   * will be used in error messages and so on.
+   * @param path The location (typically the filename) from which to get the input to parse
+   * @param charset The encoding of the file. If this is null, it is worked out from the byte order mark,
+   * defaulting to UTF-8.
+   * @param memoryMapped whether to memory-map the file rather than read it into memory. 
+   * (See ${grammar.lexerClassName}#mapFile)
+   */
+  public ${grammar.parserClassName}(String inputSource, Path path, Charset charset, boolean memoryMapped) throws IOException {
+    this(inputSource, memoryMapped ? ${grammar.lexerClassName}.mapFile(path, charset) 
+                                   : ${grammar.lexerClassName}.stringFromBytes(Files.readAllBytes(path), charset));
   }
+[/#if]
 
   /**
    * @param path The location (typically the filename) from which to get the input to parse
@@ -163,6 +201,60 @@ public boolean isCancelled() {return cancelled;}
       lastConsumedToken.setTokenSource(lexer);
   }
 
+[#if !grammar.streamingInput]
+  /**
+   * Resets this parser, and its lexer, so that it parses the given input 
+   * from the start, reusing the internal buffers of both rather than 
+   * constructing new objects. This is meant for parsing many (typically small) 
+   * inputs in turn, possibly via a ParserPool. The Tokens and Nodes from the
+   * previous input should not be used after this, since they refer back to 
+   * the lexer. Any state added to the parser by injected code is not reset.
+   * @param inputSource just the name of the input source (typically the filename) that 
+   * will be used in error messages and so on.
+   * @param content the input to parse
+   */
+  public void reset(String inputSource, CharSequence content) {
+      token_source.reset(inputSource, content);
+      lastConsumedToken = token_source.DUMMY_START_TOKEN;
+      lastConsumedToken.setTokenSource(token_source);
+      nextTokenType = null;
+      currentLookaheadToken = null;
+      remainingLookahead = 0;
+      hitFailure = passedPredicate = false;
+      currentlyParsedProduction = currentLookaheadProduction = -1;
+      lookaheadRoutineNesting = 0;
+      passedPredicateThreshold = -1;
+      outerFollowSet = null;
+      cancelled = false;
+      parsingStack.clear();
+      lookaheadStack.clear();
+      parseStateStack.clear();
+    [#if grammar.faultTolerant]
+      currentFollowSet = null;
+      pendingRecovery = false;
+      parsingProblems = new java.util.ArrayList<>();
+    [/#if]
+    [#if grammar.memoizeLookahead]
+      clearLookaheadMemo();
+    [/#if]
+    [#if grammar.treeBuildingEnabled]
+      currentNodeScope.reset();
+    [/#if]
+  }
+
+  public void reset(CharSequence content) {
+      reset("input", content);
+  }
+
+  /**
+   * Resets this parser to parse the given file. (See #reset(String, CharSequence))
+   * @param path The location (typically the filename) from which to get the input to parse
+   */
+  public void reset(Path path) throws IOException {
+      reset(path.toString(), ${grammar.lexerClassName}.stringFromBytes(Files.readAllBytes(path)));
+  }
+[/#if]
+
   // If the next token is cached, it returns that
   // Otherwise, it goes to the token_source, i.e. the Lexer.
   final private Token nextToken(final Token tok) {
@@ -233,6 +325,9 @@ public boolean isCancelled() {return cancelled;}
     if (result) {
       token_source.reset(getToken(0));
       nextTokenType = null;
+     [#if grammar.memoizeLookahead]
+      clearLookaheadMemo();
+     [/#if]
     }
     return result;
   }
@@ -240,14 +335,23 @@ public boolean isCancelled() {return cancelled;}
 
   private void uncacheTokens() {
       token_source.reset(getToken(0));
+     [#if grammar.memoizeLookahead]
+      clearLookaheadMemo();
+     [/#if]
   }
 
   private void resetTo(LexicalState state) {
     token_source.reset(getToken(0), state);
+   [#if grammar.memoizeLookahead]
+    clearLookaheadMemo();
+   [/#if]
   }
 
   private void resetTo(Token tok, LexicalState state) {
     token_source.reset(tok, state);
+   [#if grammar.memoizeLookahead]
+    clearLookaheadMemo();
+   [/#if]
   } 
 
   boolean deactivateTokenTypes(TokenType... types) {
@@ -258,6 +362,9 @@ public boolean isCancelled() {return cancelled;}
     if (result) {
         token_source.reset(getToken(0));
         nextTokenType = null;
+       [#if grammar.memoizeLookahead]
+        clearLookaheadMemo();
+       [/#if]
     }
     return result;
   }
@@ -270,55 +377,44 @@ public boolean isCancelled() {return cancelled;}
     this.hitFailure = true;
   }
 
-  private static HashMap<TokenType[], EnumSet<TokenType>> enumSetCache = new HashMap<>();
-
   private static EnumSet<TokenType> tokenTypeSet(TokenType first, TokenType... rest) {
-    TokenType[] key = new TokenType[1 + rest.length];
-
-    key[0] = first;
-    if (rest.length > 0) {
-      System.arraycopy(rest, 0, key, 1, rest.length);
-    }
-    Arrays.sort(key);
-    if (enumSetCache.containsKey(key)) {
-      return enumSetCache.get(key);
-    }
-    EnumSet<TokenType> result = (rest.length == 0) ? EnumSet.of(first) : EnumSet.of(first, rest);
-    enumSetCache.put(key, result);
-    return result;
+    return (rest.length == 0) ? EnumSet.of(first) : EnumSet.of(first, rest);
   }
 
   /**
    *Are we in the production of the given name, either scanning ahead or parsing?
+   *When the names are string literals in the grammar, the call is rewritten
+   *to use the int version below, so that no lookup by name is done at all.
    */
   private boolean isInProduction(String productionName, String... prods) {
-    if (currentlyParsedProduction != null) {
-      if (currentlyParsedProduction.equals(productionName)) return true;
-      for (String name : prods) {
-        if (currentlyParsedProduction.equals(name)) return true;
-      }
+    if (isInProduction(productionId(productionName))) return true;
+    for (String name : prods) {
+      if (isInProduction(productionId(name))) return true;
     }
-    if (currentLookaheadProduction != null ) {
-      if (currentLookaheadProduction.equals(productionName)) return true;
-      for (String name : prods) {
-        if (currentLookaheadProduction.equals(name)) return true;
-      }
+    return false;
+  }
+
+  private boolean isInProduction(int productionId) {
+    if (productionId < 0) return false;
+    if (currentlyParsedProduction == productionId || currentLookaheadProduction == productionId) return true;
+    for (int i = lookaheadStack.size() - 1; i >= 0; i--) {
+      if (lookaheadStack.getProductionId(i) == productionId) return true;
     }
-    Iterator<NonTerminalCall> it = stackIteratorBackward();
-    while (it.hasNext()) {
-      NonTerminalCall ntc = it.next();
-      if (ntc.productionName.equals(productionName)) {
-        return true;
-      }
-      for (String name : prods) {
-        if (ntc.productionName.equals(name)) {
-          return true;
-        }
-      }
+    for (int i = parsingStack.size() - 1; i >= 0; i--) {
+      if (parsingStack.getProductionId(i) == productionId) return true;
     }
     return false;
   }
 
+  private static int productionId(String productionName) {
+    Integer id = PRODUCTION_IDS.get(productionName);
+    return id == null ? -1 : id;
+  }
+
+  private static String productionName(int productionId) {
+    return productionId < 0 ? null : PRODUCTION_NAMES[productionId];
+  }
+
 
 [#import "ParserProductions.java.ftl" as ParserCode]
 [@ParserCode.Productions /]
@@ -327,6 +423,10 @@ public boolean isCancelled() {return cancelled;}
  
 [#embed "ErrorHandling.java.ftl"]
 
+[#if grammar.memoizeLookahead]
+   [#embed "LookaheadMemo.java.ftl"]
+[/#if]
+
 [#if grammar.treeBuildingEnabled]
    [#embed "TreeBuildingCode.java.ftl"]
 [#else]
@@ -76,8 +76,8 @@
     
     {
      if (cancelled) throw new CancellationException();
-     String prevProduction = currentlyParsedProduction;
-     this.currentlyParsedProduction = "${production.name}";
+     int prevProduction = currentlyParsedProduction;
+     this.currentlyParsedProduction = ${production.productionId};
      [#--${production.javaCode!}
        This is actually inserted further down because
        we want the prologue java code block to be able to refer to 
@@ -351,7 +351,7 @@
 
 [#macro BuildCodeNonTerminal nonterminal]
    [#var production = nonterminal.production]
-   pushOntoCallStack("${nonterminal.containingProduction.name}", "${nonterminal.inputSource?j_string}", ${nonterminal.beginLine}, ${nonterminal.beginColumn});
+   pushOntoCallStack(${nonterminal.containingProduction.productionId}, "${nonterminal.inputSource?j_string}", ${nonterminal.beginLine}, ${nonterminal.beginColumn});
    [#if grammar.faultTolerant]
       [#var followSet = nonterminal.followSet]
       [#if !followSet.incomplete]
@@ -481,15 +481,15 @@
       }
    [#elseif choice.parent.simpleName = "OneOrMore"]
        else if (${inFirstVarName}) {
-           pushOntoCallStack("${currentProduction.name}", "${choice.inputSource?j_string}", ${choice.beginLine}, ${choice.beginColumn});
-           throw new ParseException(this, ${choice.firstSetVarName}, parsingStack);
+           pushOntoCallStack(${currentProduction.productionId}, "${choice.inputSource?j_string}", ${choice.beginLine}, ${choice.beginColumn});
+           throw new ParseException(this, ${choice.firstSetVarName}, parsingStack.toList());
        } else {
            break;
        }
    [#elseif choice.parent.simpleName != "ZeroOrOne"]
        else {
-           pushOntoCallStack("${currentProduction.name}", "${choice.inputSource?j_string}", ${choice.beginLine}, ${choice.beginColumn});
-           throw new ParseException(this, ${choice.firstSetVarName}, parsingStack);
+           pushOntoCallStack(${currentProduction.productionId}, "${choice.inputSource?j_string}", ${choice.beginLine}, ${choice.beginColumn});
+           throw new ParseException(this, ${choice.firstSetVarName}, parsingStack.toList());
         }
    [/#if]
 [/#macro]
@@ -536,7 +536,7 @@
          [#if name_has_next] || [/#if] 
       [/#list]
    [#else]
-      ${expansion.firstSetVarName}.contains(nextTokenType()) 
+      ${CU.maskContains(CU.firstSetMaskName(expansion), "nextTokenType().ordinal()")} 
    [/#if]
 [/#macro]
 
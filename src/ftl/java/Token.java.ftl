@@ -66,14 +66,33 @@ public class Token implements ${grammar.constantsClassName} ${extendsNode} {
 [#if grammar.treeBuildingEnabled]
     private Node parent;
 [/#if]
+[#if grammar.compactTree]
+    // Set if the token is in a CompactTree, so that its parent
+    // is only materialized if it is needed
+    CompactTree compactTree;
+    int compactTreeIndex;
+[/#if]
 
-[#if !grammar.minimalToken || grammar.faultTolerant]
+[#if !grammar.minimalToken || grammar.faultTolerant || grammar.streamingInput]
     private String image;
     public void setImage(String image) {
        this.image = image;
     }
 [/#if]
 
+[#if grammar.streamingInput]
+    // The tokens before and after this one, which the lexer sets when 
+    // it releases the input that this token came from. Without tree building,
+    // the one before is only weakly referenced, so that the tokens that 
+    // nobody holds on to any more can still be garbage collected.
+    Token nextReleasedToken;
+  [#if grammar.treeBuildingEnabled]
+    Token previousReleasedToken;
+  [#else]
+    java.lang.ref.WeakReference<Token> previousReleasedToken;
+  [/#if]
+[/#if]
+
 [#if !grammar.minimalToken]
 
     private Token prependedToken, appendedToken;
@@ -323,14 +342,34 @@ public class Token implements ${grammar.constantsClassName} ${extendsNode} {
 [#if !grammar.minimalToken]        
         if (appendedToken != null) return appendedToken;
 [/#if]        
+[#if grammar.streamingInput]
+        if (nextReleasedToken != null) return nextReleasedToken;
+[/#if]
         ${grammar.lexerClassName} tokenSource = getTokenSource();
         return tokenSource != null ? tokenSource.nextCachedToken(getEndOffset()) : null;
     }
 
+[#if grammar.streamingInput && !grammar.treeBuildingEnabled]
+    /**
+     * @return the previous token of any sort (parsed or unparsed or invalid),
+     * or null if there is none or it has already been released and
+     * garbage collected (the input is streamed and no tree is built)
+     */
+[/#if]
     public Token previousCachedToken() {
 [#if !grammar.minimalToken]        
         if (prependedToken !=null) return prependedToken;
 [/#if]        
+[#if grammar.streamingInput]
+        if (previousReleasedToken != null) {
+  [#if grammar.treeBuildingEnabled]
+            return previousReleasedToken;
+  [#else]
+            // null if it has been garbage collected already
+            return previousReleasedToken.get();
+  [/#if]
+        }
+[/#if]
         if (getTokenSource()==null) return null;
         return getTokenSource().previousCachedToken(getBeginOffset());
     }
@@ -364,6 +403,11 @@ public class Token implements ${grammar.constantsClassName} ${extendsNode} {
     public String getSource() {
          if (type == TokenType.EOF) return "";
          ${grammar.lexerClassName} flm = getTokenSource();
+[#if grammar.streamingInput]
+         // The lexer may have released the input by now, 
+         // but it set the image beforehand.
+         if (image != null && flm != null && !flm.isInputRetained(getBeginOffset())) return image;
+[/#if]
          return flm == null ? null : flm.getText(getBeginOffset(), getEndOffset());
     }
 
@@ -540,6 +584,11 @@ public class Token implements ${grammar.constantsClassName} ${extendsNode} {
     }
 
     public Node getParent() {
+      [#if grammar.compactTree]
+        if (parent == null && compactTree != null) {
+            parent = compactTree.getParent(compactTreeIndex);
+        }
+      [/#if]
         return parent;
     }
 
@@ -561,7 +610,7 @@ public class Token implements ${grammar.constantsClassName} ${extendsNode} {
 
    [#if grammar.settings.FREEMARKER_NODES?? && grammar.settings.FREEMARKER_NODES]
     public TemplateNodeModel getParentNode() {
-        return parent;
+        return getParent();
     }
 
     public TemplateSequenceModel getChildNodes() {
@@ -67,6 +67,19 @@
     public Node rootNode() {
         return currentNodeScope.rootNode();
     }
+[#if grammar.compactTree]
+
+    /**
+     * @return a copy of the AST stored compactly, as a CompactTree, or null 
+     * if there is no tree. It only makes sense to call this after a successful 
+     * parse, and the tree that rootNode() returns should not be used after this.
+     * The memory is only saved once that tree can be garbage collected.
+     */
+    public CompactTree compactTree() {
+        Node root = rootNode();
+        return root == null ? null : new CompactTree(root);
+    }
+[/#if]
     
     /**
      * push a node onto the top of the node stack
@@ -116,7 +129,7 @@
     }
     
     private void openNodeScope(Node n) {
-        new NodeScope();
+        currentNodeScope.open();
         if (n!=null) {
             Token next = nextToken(lastConsumedToken);
             n.setTokenSource(lastConsumedToken.getTokenSource());
@@ -136,15 +149,8 @@
     private void closeNodeScope(Node n, int num) {
         n.setEndOffset(lastConsumedToken.getEndOffset());
         currentNodeScope.close();
-        ArrayList<Node> nodes = new ArrayList<Node>();
-        for (int i=0;i<num;i++) {
-           nodes.add(popNode());
-        }
-        Collections.reverse(nodes);
-        for (Node child : nodes) {
-            // FIXME deal with the UNPARSED_TOKENS_ARE_NODES case
-            n.addChild(child);
-        }
+        // FIXME deal with the UNPARSED_TOKENS_ARE_NODES case
+        currentNodeScope.popInto(n, num);
         n.close();
         pushNode(n);
  [#list grammar.closeNodeScopeHooks as hook]
@@ -164,13 +170,11 @@
             n.setEndOffset(lastConsumedToken.getEndOffset());
             int a = nodeArity();
             currentNodeScope.close();
-            ArrayList<Node> nodes = new ArrayList<Node>();
-            while (a-- > 0) {
-                nodes.add(popNode());
+            if (!unparsedTokensAreNodes) {
+                currentNodeScope.popInto(n, a);
             }
-            Collections.reverse(nodes);
-            for (Node child : nodes) {
-                if (unparsedTokensAreNodes && child instanceof Token) {
+            else for (Node child : currentNodeScope.popNodes(a)) {
+                if (child instanceof Token) {
                     Token tok = (Token) child;
                     while (tok.previousCachedToken() != null && tok.previousCachedToken().isUnparsed()) {
                         tok = tok.previousCachedToken();
@@ -210,67 +214,142 @@
     
     
     
-    @SuppressWarnings("serial")
-    class NodeScope extends ArrayList<Node> {
-        NodeScope parentScope;
-        NodeScope() {
-            this.parentScope = ${grammar.parserClassName}.this.currentNodeScope;
-            ${grammar.parserClassName}.this.currentNodeScope = this;
+    /**
+     * The tree-building stack. All the node scopes share a single array of
+     * nodes, and an open scope is just a mark, i.e. the index in the array at 
+     * which it begins, so opening or closing a scope does not allocate or copy
+     * anything. The stack operations, like peek() and pop(), reach into the 
+     * enclosing scopes when the current one is empty.
+     */
+    class NodeScope implements Cloneable {
+        private Node[] nodes = new Node[64];
+        private int size;
+        // Where each open scope, other than the root one, begins
+        private int[] marks = new int[16];
+        private int depth;
+
+        void open() {
+            if (depth == marks.length) {
+                marks = Arrays.copyOf(marks, depth * 2);
+            }
+            marks[depth++] = size;
+        }
+
+        /**
+         * Closes the current scope, so that its nodes
+         * now belong to the enclosing one
+         */
+        void close() {
+            --depth;
+        }
+
+        private int mark() {
+            return depth == 0 ? 0 : marks[depth - 1];
         }
 
         boolean isRootScope() {
-            return parentScope == null;
+            return depth == 0;
         }
 
         Node rootNode() {
-            NodeScope ns = this;
-            while (ns.parentScope != null) {
-                ns = ns. parentScope;
-            }
-            return ns.isEmpty() ? null : ns.get(0);
+            int rootScopeSize = depth == 0 ? size : marks[0];
+            return rootScopeSize == 0 ? null : nodes[0];
         }
 
-        Node peek() {
-            if (isEmpty()) {
-                return parentScope == null ? null : parentScope.peek();
+        /**
+         * @return the number of nodes in the current scope
+         */
+        int size() {
+            return size - mark();
+        }
 
+        boolean isEmpty() {
+            return size == mark();
+        }
+
+        void add(Node n) {
+            if (size == nodes.length) {
+                nodes = Arrays.copyOf(nodes, size * 2);
             }
-            return get(size()-1);
+            nodes[size++] = n;
+        }
+
+        Node peek() {
+            return size == 0 ? null : nodes[size - 1];
         }
 
         Node pop() {
-            return isEmpty() ? parentScope.pop() : remove(size()-1);
+            Node result = nodes[--size];
+            nodes[size] = null;
+            truncateScopes();
+            return result;
         }
 
         void poke(Node n) {
-            if (isEmpty()) {
-                parentScope.poke(n);
-            } else {
-                set(size()-1, n);
-            }
+            nodes[size - 1] = n;
         }
 
-        void close() {
-            parentScope.addAll(this);
-            ${grammar.parserClassName}.this.currentNodeScope = parentScope;
+        void clear() {
+            int mark = mark();
+            Arrays.fill(nodes, mark, size, null);
+            size = mark;
         }
-        
-        int nestingLevel() {
-            int result = 0;
-            NodeScope parent = this;
-            while (parent.parentScope != null) {
-               result++;
-               parent = parent.parentScope;
+
+        /**
+         * Empties the stack and closes all the scopes,
+         * leaving the arrays as they are, to be reused
+         */
+        void reset() {
+            Arrays.fill(nodes, 0, size, null);
+            size = 0;
+            depth = 0;
+        }
+
+        /**
+         * Removes the top num nodes from the stack and makes them
+         * the children of the given node, in the order they were pushed.
+         */
+        void popInto(Node parent, int num) {
+            int from = size - num;
+            parent.addChildren(nodes, from, size);
+            Arrays.fill(nodes, from, size, null);
+            size = from;
+            truncateScopes();
+        }
+
+        /**
+         * Removes the top num nodes from the stack
+         * @return the removed nodes, in the order they were pushed
+         */
+        Node[] popNodes(int num) {
+            int from = size - num;
+            Node[] result = Arrays.copyOfRange(nodes, from, size);
+            Arrays.fill(nodes, from, size, null);
+            size = from;
+            truncateScopes();
+            return result;
+        }
+
+        // After popping past the beginning of the current scope (and maybe
+        // enclosing ones) those scopes now begin where the stack ends.
+        private void truncateScopes() {
+            for (int i = depth - 1; i >= 0 && marks[i] > size; i--) {
+                marks[i] = size;
             }
-            return result;            
+        }
+
+        int nestingLevel() {
+            return depth;
         }
 
         public NodeScope clone() {
-            NodeScope clone = (NodeScope) super.clone();
-            if (parentScope != null) {
-                clone.parentScope = parentScope.clone();
+            try {
+                NodeScope clone = (NodeScope) super.clone();
+                clone.nodes = Arrays.copyOf(nodes, Math.max(size, 16));
+                clone.marks = Arrays.copyOf(marks, Math.max(depth, 16));
+                return clone;
+            } catch (CloneNotSupportedException e) {
+                throw new InternalError(e);
             }
-            return clone;
-        } 
+        }
     }
-
@@ -0,0 +1,241 @@
+/* Copyright (c) 2008-2022 Jonathan Revusky, revusky@javacc.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notices,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name Jonathan Revusky nor the names of any contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.javacc;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Remembers, for a given grammar, the hash of everything that went into 
+ * generating the code the last time around (the grammar and any included
+ * files, the settings, any templates in the grammar's directory and the 
+ * tool itself) and the hashes of the files that were generated. If none 
+ * of that has changed, and the generated files are still as we left them, 
+ * there is nothing to do.
+ * <p>
+ * The information is kept in a small properties file in the cache directory,
+ * so one cache directory can be shared by any number of grammars.
+ */
+public class BuildCache {
+
+    private final Path grammarFile;
+    private final Path recordFile;
+    private final String settings;
+    private final List<Path> templateDirs;
+    private Properties record;
+    private boolean disabled;
+
+    /**
+     * @param cacheDir the directory where the information is stored
+     * @param grammarFile the grammar file 
+     * @param settings anything else (i.e. from the command line) that affects the 
+     * generated code, in some canonical form
+     */
+    public BuildCache(Path cacheDir, Path grammarFile, String codeLang, String settings) {
+        this.grammarFile = grammarFile.toAbsolutePath().normalize();
+        this.settings = codeLang + "\n" + settings;
+        Path dir = this.grammarFile.getParent();
+        // See FilesGenerator.initializeTemplateEngine()
+        this.templateDirs = Arrays.asList(dir, dir.resolve("templates").resolve(codeLang));
+        String key = toHex(digest(bytes(this.grammarFile.toString() + "\n" + codeLang))).substring(0, 16);
+        this.recordFile = cacheDir.resolve(this.grammarFile.getFileName() + "." + key + ".properties");
+    }
+
+    /**
+     * @return whether the files generated on the previous run are still 
+     * exactly what we would generate now
+     */
+    public boolean isUpToDate() throws IOException {
+        if (!Files.exists(recordFile)) return false;
+        record = new Properties();
+        try (InputStream in = Files.newInputStream(recordFile)) {
+            record.load(in);
+        }
+        List<Path> includes = getPaths("include.");
+        for (Path include : includes) {
+            if (!Files.isRegularFile(include)) return false;
+        }
+        String inputs = hashInputs(includes);
+        if (inputs == null || !inputs.equals(record.getProperty("inputs"))) return false;
+        List<Path> outputs = getPaths("output.");
+        for (int i = 0; i < outputs.size(); i++) {
+            Path output = outputs.get(i);
+            if (!Files.isRegularFile(output)) return false;
+            String hash = toHex(digest(Files.readAllBytes(output)));
+            if (!hash.equals(record.getProperty("output." + i + ".hash"))) return false;
+        }
+        return !outputs.isEmpty();
+    }
+
+    /**
+     * Records the inputs and outputs of a successful run.
+     * @param includes the files that the grammar included
+     * @param outputs the files that were generated
+     */
+    public void save(Collection<Path> includes, Collection<Path> outputs) throws IOException {
+        List<Path> includeList = new ArrayList<>();
+        for (Path include : includes) {
+            // Includes from inside the jarfile are covered by the hash of the tool
+            if (include.getFileSystem() == FileSystems.getDefault()) {
+                includeList.add(include.toAbsolutePath().normalize());
+            }
+        }
+        String inputs = hashInputs(includeList);
+        if (inputs == null) {
+            Files.deleteIfExists(recordFile);
+            return;
+        }
+        Properties props = new Properties();
+        props.setProperty("inputs", inputs);
+        for (int i = 0; i < includeList.size(); i++) {
+            props.setProperty("include." + i, includeList.get(i).toString());
+        }
+        int i = 0;
+        for (Path output : outputs) {
+            Path path = output.toAbsolutePath().normalize();
+            props.setProperty("output." + i, path.toString());
+            props.setProperty("output." + i + ".hash", toHex(digest(Files.readAllBytes(path))));
+            i++;
+        }
+        Files.createDirectories(recordFile.getParent());
+        try (OutputStream out = Files.newOutputStream(recordFile)) {
+            props.store(out, "Generated by " + Main.PROG_NAME + " for " + grammarFile);
+        }
+    }
+
+    private List<Path> getPaths(String prefix) {
+        List<Path> result = new ArrayList<>();
+        for (int i = 0; record.getProperty(prefix + i) != null; i++) {
+            result.add(Paths.get(record.getProperty(prefix + i)));
+        }
+        return result;
+    }
+
+    /**
+     * @return the hash of all the inputs, or null if we can't 
+     * tell which version of the tool this is.
+     */
+    private String hashInputs(List<Path> includes) throws IOException {
+        MessageDigest md = newDigest();
+        for (Class<?> toolClass : new Class<?>[] {Main.class, freemarker.template.Configuration.class}) {
+            Path location = getCodeLocation(toolClass);
+            if (location != null && Files.isRegularFile(location)) {
+                update(md, "tool", location.toString(), Files.readAllBytes(location));
+            }
+            else if (location != null && Files.isDirectory(location)) {
+                // Running from a directory of class files (i.e. a development build)
+                // rather than a jarfile, so we hash everything in the directory.
+                List<Path> files = new ArrayList<>();
+                try (Stream<Path> stream = Files.walk(location)) {
+                    stream.filter(Files::isRegularFile).forEach(files::add);
+                }
+                Collections.sort(files);
+                for (Path file : files) {
+                    update(md, "tool", file.toString(), Files.readAllBytes(file));
+                }
+            }
+            else {
+                if (!disabled) {
+                    System.out.println("Cannot locate the code of " + toolClass.getName() 
+                                       + " (" + location + "), so the build cache is disabled.");
+                    disabled = true;
+                }
+                return null;
+            }
+        }
+        update(md, "settings", settings, new byte[0]);
+        update(md, "grammar", grammarFile.toString(), Files.readAllBytes(grammarFile));
+        for (Path include : includes) {
+            update(md, "include", include.toString(), Files.readAllBytes(include));
+        }
+        for (Path dir : templateDirs) {
+            if (!Files.isDirectory(dir)) continue;
+            List<Path> templates = new ArrayList<>();
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir, "*.ftl")) {
+                for (Path template : stream) templates.add(template);
+            }
+            Collections.sort(templates);
+            for (Path template : templates) {
+                update(md, "template", template.toString(), Files.readAllBytes(template));
+            }
+        }
+        return toHex(md.digest());
+    }
+
+    private static Path getCodeLocation(Class<?> clazz) {
+        try {
+            return Paths.get(clazz.getProtectionDomain().getCodeSource().getLocation().toURI());
+        } catch (URISyntaxException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static void update(MessageDigest md, String kind, String name, byte[] content) {
+        // The lengths are included so that the boundaries are unambiguous
+        md.update(bytes(kind + ":" + name + ":" + content.length + "\n"));
+        md.update(content);
+    }
+
+    private static byte[] bytes(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] digest(byte[] content) {
+        return newDigest().digest(content);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder buf = new StringBuilder();
+        for (byte b : bytes) {
+            buf.append(String.format("%02x", b & 0xff));
+        }
+        return buf.toString();
+    }
+}
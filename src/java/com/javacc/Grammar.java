@@ -44,8 +44,10 @@ import java.util.regex.*;
 
 import com.javacc.core.BNFProduction;
 import com.javacc.core.Expansion;
+import com.javacc.core.ExpansionAnalysis;
 import com.javacc.core.LexerData;
 import com.javacc.core.Lookahead;
+import com.javacc.core.NonTerminal;
 import com.javacc.core.RegularExpression;
 import com.javacc.core.SanityChecker;
 import com.javacc.output.Sequencer;
@@ -73,6 +75,7 @@ public class Grammar extends BaseNode {
     private Map<String, Object> settings = new HashMap<>();
     private CompilationUnit parserCode;
     private LexerData lexerData = new LexerData(this);
+    private ExpansionAnalysis expansionAnalysis;
     private int includeNesting;
 
     private List<TokenProduction> tokenProductions = new ArrayList<>();
@@ -100,6 +103,8 @@ public class Grammar extends BaseNode {
     private Map<String, List<String>> closeNodeHooksByClass = new HashMap<>();
 
     private Set<Path> alreadyIncluded = new HashSet<>();
+    private List<Path> includedFiles = new ArrayList<>();
+    private List<Path> outputFiles = new ArrayList<>();
 
     private Path includedFileDirectory;
 
@@ -109,7 +114,7 @@ public class Grammar extends BaseNode {
 
     private Set<RegexpStringLiteral> stringLiteralsToResolve = new HashSet<>();
 
-    List<String> errorMessages = new ArrayList<>(), warningMessages = new ArrayList<>();
+    List<String> errorMessages = new ArrayList<>(), warningMessages = new ArrayList<>(), infoMessages = new ArrayList<>();
 
 	private int parseErrorCount;
 	private int semanticErrorCount;
@@ -117,6 +122,7 @@ public class Grammar extends BaseNode {
 
     private Path outputDir;
     private boolean quiet;
+    private int generationThreads;
     private String codeLang;
     private Translator translator;
 
@@ -132,6 +138,18 @@ public class Grammar extends BaseNode {
 
     public boolean isQuiet() {return quiet;}
 
+    /**
+     * @return the number of threads used to generate the output files.
+     * This defaults to the number of available processors.
+     */
+    public int getGenerationThreads() {
+        return generationThreads > 0 ? generationThreads : Runtime.getRuntime().availableProcessors();
+    }
+
+    public void setGenerationThreads(int generationThreads) {
+        this.generationThreads = generationThreads;
+    }
+
     public String getCodeLang() { return codeLang; }
 
     public String[] getLexicalStates() {
@@ -287,6 +305,7 @@ public class Grammar extends BaseNode {
             addError(includeLocation, "Could not resolve location of include file");
             throw new FileNotFoundException(includeLocation.getLocation());
         }
+        includedFiles.add(path);
         String location = path.toString();
         if (location.toLowerCase().endsWith(".java") || location.toLowerCase().endsWith(".jav")) {
             Path includeFile = Paths.get(location);
@@ -309,6 +328,26 @@ public class Grammar extends BaseNode {
         }
     }
 
+    /**
+     * @return all the files that were included, directly or indirectly, 
+     * from the grammar file
+     */
+    public List<Path> getIncludedFiles() {
+        return Collections.unmodifiableList(includedFiles);
+    }
+
+    /**
+     * @return the files that generateFiles() wrote, or would have written
+     * if they had changed, and the existing ones that it left alone
+     */
+    public List<Path> getOutputFiles() {
+        return Collections.unmodifiableList(outputFiles);
+    }
+
+    public void addOutputFile(Path outputFile) {
+        outputFiles.add(outputFile);
+    }
+
     public void createOutputDir() {
         Path outputDir = Paths.get(".");
         if (!Files.isWritable(outputDir)) {
@@ -347,7 +386,29 @@ public class Grammar extends BaseNode {
         resolveStringLiterals();
     }
 
+    /**
+     * Works out the first, final and follow sets of all the expansions in 
+     * the grammar up front, so that the code generation just looks them up.
+     */
+    public void analyzeExpansions() {
+        expansionAnalysis = null;
+        long start = System.nanoTime();
+        ExpansionAnalysis analysis = new ExpansionAnalysis(this);
+        expansionAnalysis = analysis;
+        analysis.run();
+        addInfo("Expansion analysis: " + analysis.getExpansionCount() + " expansions, "
+                + analysis.getEvaluationCount() + " evaluations, took "
+                + (System.nanoTime() - start) / 1000000L + " ms.");
+    }
+
+    public ExpansionAnalysis getExpansionAnalysis() {
+        return expansionAnalysis;
+    }
+
     public void generateFiles() throws ParseException, IOException, TemplateException {
+        if (expansionAnalysis == null) {
+            analyzeExpansions();
+        }
         translator = Translator.getTranslatorFor(this);
         new FilesGenerator(this, codeLang, codeInjections).generateAll();
     }
@@ -504,6 +565,101 @@ public class Grammar extends BaseNode {
         return map.values();
     }
 
+    /**
+     * @return the int that identifies the production of the given name
+     * on the call stacks of the generated parser, i.e. its index
+     * in getParserProductions(), or -1 if there is no such production.
+     */
+    public int getProductionId(String name) {
+        Map<String, Integer> ids = productionIds;
+        if (ids == null) {
+            // This can be called from the threads that generate the files,
+            // so the map is only published once it is complete.
+            ids = new HashMap<>();
+            for (BNFProduction production : getParserProductions()) {
+                ids.put(production.getName(), ids.size());
+            }
+            productionIds = ids;
+        }
+        Integer result = ids.get(name);
+        return result == null ? -1 : result;
+    }
+
+    private volatile Map<String, Integer> productionIds;
+
+    /**
+     * @return the number that identifies the production in the lookahead memo,
+     * or -1 if its lookahead method does not memoize its results. This is 
+     * always -1 unless the MEMOIZE_LOOKAHEAD option is set.
+     */
+    public int getLookaheadMemoId(BNFProduction production) {
+        if (!getMemoizeLookahead()) return -1;
+        if (lookaheadMemoIds == null) {
+            lookaheadMemoIds = new HashMap<>();
+            Collection<BNFProduction> productions = getParserProductions();
+            Set<String> impure = new HashSet<>();
+            for (BNFProduction p : productions) {
+                if (!isPureInLookahead(p)) impure.add(p.getName());
+            }
+            // A production that uses an impure production is impure too.
+            boolean changed = true;
+            while (changed) {
+                changed = false;
+                for (BNFProduction p : productions) {
+                    if (impure.contains(p.getName())) continue;
+                    for (NonTerminal nt : p.descendants(NonTerminal.class)) {
+                        if (impure.contains(nt.getName())) {
+                            impure.add(p.getName());
+                            changed = true;
+                            break;
+                        }
+                    }
+                }
+            }
+            for (BNFProduction p : productions) {
+                if (!impure.contains(p.getName())) {
+                    lookaheadMemoIds.put(p.getName(), lookaheadMemoIds.size());
+                }
+            }
+        }
+        Integer result = lookaheadMemoIds.get(production.getName());
+        return result == null ? -1 : result;
+    }
+
+    private Map<String, Integer> lookaheadMemoIds;
+
+    /**
+     * Is the result of scanning through the production a function of the token
+     * where the scan starts, as far as the production itself goes? It is not
+     * if the scan runs any code or semantic lookahead, checks any lookbehind,
+     * or changes the lexical state or the active token types. 
+     */
+    private boolean isPureInLookahead(BNFProduction production) {
+        if (!production.descendants(LexicalStateSwitch.class).isEmpty()
+            || !production.descendants(UncacheTokens.class).isEmpty()) {
+            return false;
+        }
+        boolean onlyForLookahead = production.isOnlyForLookahead();
+        for (CodeBlock block : production.descendants(CodeBlock.class)) {
+            if (block.isAppliesInLookahead() || block.isInsideLookahead() || onlyForLookahead) return false;
+        }
+        for (Assertion assertion : production.descendants(Assertion.class)) {
+            if (assertion.getAssertionExpression() != null 
+                && (assertion.isInsideLookahead() || assertion.isSemanticLookaheadNested() || onlyForLookahead)) {
+                return false;
+            }
+        }
+        for (Expansion exp : production.descendants(Expansion.class)) {
+            if (exp.getSpecifiedLexicalState() != null || exp.getTokenActivation() != null || exp.getHasLookBehind()) {
+                return false;
+            }
+            if (exp.getHasSemanticLookahead() && (exp.getLookahead().isSemanticLookaheadNested() || onlyForLookahead)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * @return a List containing all the expansions that are at a choice point
      */
@@ -783,6 +939,14 @@ public class Grammar extends BaseNode {
         warningMessages.add("Warning: " + locationString + ":" + warningMessage);
     }
 
+    /**
+     * Add a purely informational message, such as statistics about
+     * the generated code. These are only output with the -verbose flag.
+     */
+    public void addInfo(String infoMessage) {
+        infoMessages.add(infoMessage);
+    }
+
 	/**
 	 * @return the total error count during grammar parsing.
 	 */
@@ -1139,6 +1303,70 @@ public class Grammar extends BaseNode {
         return b != null && b;
     }
 
+    public boolean getDfaLexer() {
+        Boolean b = (Boolean) settings.get("DFA_LEXER");
+        return b != null && b;
+    }
+
+    public boolean getIntWorklistLexer() {
+        Boolean b = (Boolean) settings.get("INT_WORKLIST_LEXER");
+        return b != null && b && !getDfaLexer();
+    }
+
+    public boolean getAsciiTableLexer() {
+        Boolean b = (Boolean) settings.get("ASCII_TABLE_LEXER");
+        return b != null && b && !getDfaLexer();
+    }
+
+    /**
+     * With STREAMING_INPUT, the generated lexer reads its input incrementally
+     * and throws away the text that the parser is done with. The tokens there
+     * keep their images (even with MINIMAL_TOKEN) and locations, and stay linked
+     * to one another. Without tree building, though, a token only holds a weak
+     * reference to the one before it, so previousCachedToken() and the methods
+     * built on it, such as getPrevious() or the parser's getToken(-n), return
+     * null once that token has been garbage collected. Asking for the column of
+     * any other offset in the released text on a line with hard tabs or
+     * characters beyond 0xFFFF throws an IllegalStateException.
+     * This option cannot be used together with FAULT_TOLERANT, USE_PREPROCESSOR
+     * or C_CONTINUATION_LINE, which all need the whole input up front.
+     */
+    public boolean getStreamingInput() {
+        Boolean b = (Boolean) settings.get("STREAMING_INPUT");
+        return b != null && b && !getFaultTolerant() && !getUsePreprocessor() 
+               && !getCppContinuationLine();
+    }
+
+    public boolean getSparseTokenIndex() {
+        Boolean b = (Boolean) settings.get("SPARSE_TOKEN_INDEX");
+        return b != null && b && !getStreamingInput();
+    }
+
+    public boolean getHashedKeywords() {
+        Boolean b = (Boolean) settings.get("HASHED_KEYWORDS");
+        return b != null && b && codeLang.equals("java") && !getCppContinuationLine();
+    }
+
+    public boolean getMemoizeLookahead() {
+        Boolean b = (Boolean) settings.get("MEMOIZE_LOOKAHEAD");
+        return b != null && b && codeLang.equals("java");
+    }
+
+    /**
+     * With COMPACT_TREE, the generated parser has a compactTree() method that
+     * copies the AST, once it has been built, into a CompactTree. This is a 
+     * compaction after the parse, not a different way of building the tree:
+     * the parser builds the usual tree of node objects, so the peak memory
+     * use is, if anything, a bit higher, since both trees exist while the 
+     * copy is made. What goes down is the memory that is retained afterwards,
+     * once the original tree can be garbage collected, by roughly a third 
+     * for a Java source file, since most of the rest is the tokens.
+     */
+    public boolean getCompactTree() {
+        Boolean b = (Boolean) settings.get("COMPACT_TREE");
+        return b != null && b && codeLang.equals("java") && getTreeBuildingEnabled();
+    }
+
     public boolean getUseCheckedException() {
         Boolean b = (Boolean) settings.get("USE_CHECKED_EXCEPTION");
         return b != null && b;
@@ -1229,7 +1457,7 @@ public class Grammar extends BaseNode {
         }
     }
     private int jdkTarget = 8;
-    private String booleanSettings = ",FAULT_TOLERANT,PRESERVE_TABS,PRESERVE_LINE_ENDINGS,JAVA_UNICODE_ESCAPE,IGNORE_CASE,LEXER_USES_PARSER,NODE_DEFAULT_VOID,SMART_NODE_CREATION,NODE_USES_PARSER,TREE_BUILDING_DEFAULT,TREE_BUILDING_ENABLED,TOKENS_ARE_NODES,SPECIAL_TOKENS_ARE_NODES,UNPARSED_TOKENS_ARE_NODES,FREEMARKER_NODES,NODE_FACTORY,TOKEN_MANAGER_USES_PARSER,ENSURE_FINAL_EOL,MINIMAL_TOKEN,C_CONTINUATION_LINE,USE_PREPROCESSOR,USE_CHECKED_EXCEPTION,LEGACY_GLITCHY_LOOKAHEAD,";
+    private String booleanSettings = ",FAULT_TOLERANT,PRESERVE_TABS,PRESERVE_LINE_ENDINGS,JAVA_UNICODE_ESCAPE,IGNORE_CASE,LEXER_USES_PARSER,NODE_DEFAULT_VOID,SMART_NODE_CREATION,NODE_USES_PARSER,TREE_BUILDING_DEFAULT,TREE_BUILDING_ENABLED,TOKENS_ARE_NODES,SPECIAL_TOKENS_ARE_NODES,UNPARSED_TOKENS_ARE_NODES,FREEMARKER_NODES,NODE_FACTORY,TOKEN_MANAGER_USES_PARSER,ENSURE_FINAL_EOL,MINIMAL_TOKEN,C_CONTINUATION_LINE,USE_PREPROCESSOR,USE_CHECKED_EXCEPTION,LEGACY_GLITCHY_LOOKAHEAD,DFA_LEXER,ASCII_TABLE_LEXER,INT_WORKLIST_LEXER,STREAMING_INPUT,SPARSE_TOKEN_INDEX,HASHED_KEYWORDS,MEMOIZE_LOOKAHEAD,COMPACT_TREE,";
     private String stringSettings = ",BASE_NAME,PARSER_PACKAGE,PARSER_CLASS,LEXER_CLASS,CONSTANTS_CLASS,BASE_SRC_DIR,BASE_NODE_CLASS,NODE_PREFIX,NODE_CLASS,NODE_PACKAGE,DEFAULT_LEXICAL_STATE,NODE_CLASS,OUTPUT_DIRECTORY,DEACTIVATE_TOKENS,TURN_OFF_TOKENS,EXTRA_TOKENS,";
     private String integerSettings = ",TAB_SIZE,TABS_TO_SPACES,JDK_TARGET,";
 
@@ -1289,6 +1517,25 @@ public class Grammar extends BaseNode {
                 addWarning(null, msg.replace("OPTION_NAME", "NODE_USES_PARSER"));
             }
         }
+        if (Boolean.TRUE.equals(settings.get("STREAMING_INPUT")) && !getStreamingInput()) {
+            addWarning(null, "The STREAMING_INPUT option cannot be used together with "
+                    + "FAULT_TOLERANT, USE_PREPROCESSOR or C_CONTINUATION_LINE."
+                    + " This option will be ignored.\n");
+        }
+        if (Boolean.TRUE.equals(settings.get("HASHED_KEYWORDS")) && !getHashedKeywords()) {
+            addWarning(null, "The HASHED_KEYWORDS option is only implemented for Java "
+                    + "and cannot be used together with C_CONTINUATION_LINE."
+                    + " This option will be ignored.\n");
+        }
+        if (Boolean.TRUE.equals(settings.get("MEMOIZE_LOOKAHEAD")) && !getMemoizeLookahead()) {
+            addWarning(null, "The MEMOIZE_LOOKAHEAD option is only implemented for Java."
+                    + " This option will be ignored.\n");
+        }
+        if (Boolean.TRUE.equals(settings.get("COMPACT_TREE")) && !getCompactTree()) {
+            addWarning(null, "The COMPACT_TREE option is only implemented for Java "
+                    + "and requires tree building to be enabled."
+                    + " This option will be ignored.\n");
+        }
     }
 
     private final Utils utils = new Utils();
@@ -1329,6 +1576,10 @@ public class Grammar extends BaseNode {
             return source.substring(i + 1);
         }
 
+        public int productionId(String productionName) {
+            return getProductionId(productionName);
+        }
+
         public boolean nodeIsInterface(String nodeName) {
             return Grammar.this.nodeIsInterface(nodeName);
         }
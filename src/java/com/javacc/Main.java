@@ -179,6 +179,12 @@ public final class Main {
         System.out.println(" -p                Define one or more comma-separated (no spaces) symbols to pass to the preprocessor.");
         System.out.println("   For example:   -p debug,strict");
         System.out.println(" -q                Quieter output");
+        System.out.println(" -verbose          Also output statistics about the generated code");
+        System.out.println("                     and how long each phase of the generation took");
+        System.out.println(" -cache <directory> Keep track of what was generated in the given directory and do nothing");
+        System.out.println("                     if neither the inputs nor the generated files have changed since the last run");
+        System.out.println(" -threads N        The number of threads to use for generating the files");
+        System.out.println("                     (the default is the number of available processors)");
         System.out.println();
         System.out.println("There is now a syntax converter available that can be run with:");
         System.out.println("     java -jar " + jarFileName + " convert grammarfile");
@@ -206,11 +212,11 @@ public final class Main {
             checkForNewer();
             System.exit(1);
         }
-        Path grammarFile = null, outputDirectory = null;
+        Path grammarFile = null, outputDirectory = null, cacheDirectory = null;
         String codeLang = "java";
-        int jdkTarget = 0;
+        int jdkTarget = 0, threads = 0;
         Map<String, String> preprocessorSymbols = new HashMap<>();
-        boolean quiet = false, noNewerCheck = false;
+        boolean quiet = false, verbose = false, noNewerCheck = false;
         for (int i=0; i<args.length;i++) {
             String arg = args[i];
             if (arg.charAt(0) == '-') {
@@ -251,6 +257,31 @@ public final class Main {
                 else if (arg.equalsIgnoreCase("-q") || arg.equalsIgnoreCase("-quiet")) {
                     quiet = true;
                 }
+                else if (arg.equalsIgnoreCase("-verbose")) {
+                    verbose = true;
+                }
+                else if (arg.equalsIgnoreCase("-cache")) {
+                    if (i==args.length-1) {
+                        System.err.println("-cache flag with no cache directory");
+                        System.exit(-1);
+                    }
+                    cacheDirectory = Paths.get(args[++i]);
+                }
+                else if (arg.equalsIgnoreCase("-threads")) {
+                    if (i==args.length-1) {
+                        System.err.println("-threads flag with no number of threads");
+                        System.exit(-1);
+                    }
+                    try {
+                        threads = Integer.parseInt(args[++i]);
+                    } catch (NumberFormatException nfe) {
+                        threads = -1;
+                    }
+                    if (threads < 1) {
+                        System.err.println("Expecting a positive number after -threads");
+                        System.exit(-1);
+                    }
+                }
                 else if (arg.toLowerCase().equals("-lang")) {
                     String candidate = args[++i];
 
@@ -323,7 +354,7 @@ public final class Main {
                 }
             }
         }
-        int errorcode = mainProgram(grammarFile, outputDirectory, codeLang, jdkTarget, quiet, preprocessorSymbols);
+        int errorcode = mainProgram(grammarFile, outputDirectory, codeLang, jdkTarget, quiet, verbose, preprocessorSymbols, threads, cacheDirectory);
         System.exit(errorcode);
     }
 
@@ -336,28 +367,76 @@ public final class Main {
      */
 
     public static int mainProgram(Path grammarFile, Path outputDir, String codeLang, int jdkTarget, boolean quiet, Map<String, String> symbols)
+      throws IOException, ParseException, TemplateException {
+        return mainProgram(grammarFile, outputDir, codeLang, jdkTarget, quiet, false, symbols, 0, null);
+    }
+
+    /**
+     * @param verbose whether to output the informational messages, i.e. statistics 
+     * about the generated code and how long each phase took.
+     * @param threads the number of threads used to generate the files, 
+     * if this is 0, the number of available processors.
+     * @param cacheDir the directory where we keep track of what was generated
+     * on the previous run, so that we can skip doing it all again if nothing has
+     * changed. If this is null, we always (re)generate the files.
+     */
+    public static int mainProgram(Path grammarFile, Path outputDir, String codeLang, int jdkTarget, boolean quiet, boolean verbose, Map<String, String> symbols, int threads, Path cacheDir)
       throws IOException, ParseException, TemplateException {
         if (!quiet) bannerLine();
+        long startTime = System.nanoTime();
+        BuildCache cache = null;
+        if (cacheDir != null) {
+            String settings = "jdk=" + jdkTarget 
+                              + "\noutput=" + (outputDir == null ? "" : outputDir.toAbsolutePath().normalize())
+                              + "\nsymbols=" + new TreeMap<>(symbols);
+            cache = new BuildCache(cacheDir, grammarFile, codeLang, settings);
+            if (cache.isUpToDate()) {
+                if (!quiet) {
+                    System.out.println("Nothing has changed since " + grammarFile + " was last processed, so there is nothing to do.");
+                }
+                return 0;
+            }
+        }
         Grammar grammar = new Grammar(outputDir, codeLang, jdkTarget, quiet, symbols);
+        grammar.setGenerationThreads(threads);
         grammar.parse(grammarFile, true);
         grammar.createOutputDir();
+        long parseTime = System.nanoTime();
         grammar.doSanityChecks();
         if (grammar.getErrorCount() > 0) {
             outputErrors(grammar);
             return 1;
         }
+        long checkTime = System.nanoTime();
         grammar.generateLexer();
         if (grammar.getErrorCount() > 0) {
             outputErrors(grammar);
             return 1;
         }
+        long lexerTime = System.nanoTime();
+        grammar.analyzeExpansions();
+        long analysisTime = System.nanoTime();
         grammar.generateFiles();
+        long endTime = System.nanoTime();
+        grammar.addInfo("Timings: parsing " + (parseTime - startTime) / 1000000L 
+                        + " ms, sanity checks " + (checkTime - parseTime) / 1000000L
+                        + " ms, lexer data " + (lexerTime - checkTime) / 1000000L
+                        + " ms, expansion analysis " + (analysisTime - lexerTime) / 1000000L
+                        + " ms, code generation " + (endTime - analysisTime) / 1000000L + " ms.");
+        if (verbose) {
+            for (String info : grammar.infoMessages) {
+                System.out.println(info);
+            }
+        }
         if (grammar.getWarningCount() == 0 && !quiet) {
             System.out.println("Parser generated successfully.");
         } else if (grammar.getWarningCount()>0) {
             System.out.println("Parser generated with 0 errors and "
                                 + grammar.getWarningCount() + " warnings.");
         }
+        if (cache != null && grammar.getErrorCount() == 0) {
+            cache.save(grammar.getIncludedFiles(), grammar.getOutputFiles());
+        }
         outputErrors(grammar);
         return (grammar.getErrorCount() == 0) ? 0 : 1;
     }
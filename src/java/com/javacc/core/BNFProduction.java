@@ -112,6 +112,38 @@ public class BNFProduction extends BaseNode {
         return getGrammar().generateIdentifierPrefix("check") + name;
     }
 
+    /**
+     * @return the int that identifies this production on the call stacks
+     * of the generated parser (See Grammar#getProductionId)
+     */
+    public int getProductionId() {
+        return getGrammar().getProductionId(name);
+    }
+
+    /**
+     * @return the number that identifies this production in the lookahead memo,
+     * or -1 if its lookahead method does not memoize its results
+     */
+    public int getLookaheadMemoId() {
+        return getGrammar().getLookaheadMemoId(this);
+    }
+
+    /**
+     * @return the name of the method that does the actual scanning when
+     * the lookahead method memoizes its results. (See Grammar#getLookaheadMemoId)
+     */
+    public String getUnmemoizedLookaheadMethodName() {
+        return getGrammar().generateIdentifierPrefix("scanUnmemoized") + name;
+    }
+
+    /**
+     * @return whether there is an up-to-here (i.e. scan limit) marker
+     * anywhere in this production
+     */
+    public boolean getContainsScanLimit() {
+        return !descendants(Expansion.class, Expansion::isScanLimit).isEmpty();
+    }
+
     public String getNodeName() {
         TreeBuildingAnnotation tba = getTreeBuildingAnnotation();
         if (tba != null) {
@@ -177,20 +209,12 @@ public class BNFProduction extends BaseNode {
 */
     }
 
-    private TokenSet firstSet, finalSet;
-    
     public TokenSet getFirstSet() {
-        if (firstSet == null) {
-           firstSet = getExpansion().getFirstSet();
-        }
-        return firstSet;
+        return getExpansion().getFirstSet();
     }
 
     public TokenSet getFinalSet() {
-          if (finalSet == null) {
-              finalSet = getExpansion().getFinalSet();
-          }
-          return finalSet;
+        return getExpansion().getFinalSet();
     }
 
     /**
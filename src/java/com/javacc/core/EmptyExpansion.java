@@ -35,13 +35,13 @@ package com.javacc.core;
 
 abstract public class EmptyExpansion extends Expansion {
     
-    public boolean isPossiblyEmpty() {return true;}
+    protected boolean computePossiblyEmpty() {return true;}
 
     public boolean isAlwaysSuccessful() {return true;}
     
-    public TokenSet getFirstSet() {return new TokenSet(getGrammar());}
+    protected TokenSet computeFirstSet() {return new TokenSet(getGrammar());}
     
-    public TokenSet getFinalSet() {return new TokenSet(getGrammar());}
+    protected TokenSet computeFinalSet() {return new TokenSet(getGrammar());}
      
     public int getMinimumSize() {return 0;}
 
@@ -46,7 +46,8 @@ abstract public class Expansion extends BaseNode {
 
     private String label = "";
 
-    protected TokenSet firstSet;
+    // The index of this expansion in the ExpansionAnalysis, if any
+    int analysisId = -1;
 
     public int getIndex() {
         return parent.indexOf(this);
@@ -372,9 +373,36 @@ abstract public class Expansion extends BaseNode {
         return getFinalSet().cardinality();
     }
 
-    abstract public TokenSet getFirstSet();
+    /**
+     * @return the set of tokens that this expansion can start with. Once
+     * the grammar has been analyzed (see ExpansionAnalysis) this just looks 
+     * up the precomputed value.
+     */
+    public final TokenSet getFirstSet() {
+        ExpansionAnalysis analysis = getAnalysis();
+        return analysis != null ? analysis.getFirstSet(this) : computeFirstSet();
+    }
 
-    abstract public TokenSet getFinalSet();
+    /**
+     * @return the set of tokens that this expansion can end with.
+     */
+    public final TokenSet getFinalSet() {
+        ExpansionAnalysis analysis = getAnalysis();
+        return analysis != null ? analysis.getFinalSet(this) : computeFinalSet();
+    }
+
+    /**
+     * Computes the first set from those of the nested expansions.
+     * The result is not cached here, since during the grammar analysis 
+     * this is invoked repeatedly until nothing changes.
+     */
+    abstract protected TokenSet computeFirstSet();
+
+    /**
+     * Computes the final set from those of the nested expansions.
+     * @see #computeFirstSet()
+     */
+    abstract protected TokenSet computeFinalSet();
 
     public boolean getHasFullFollowSet() {
         return !getFollowSet().isIncomplete();
@@ -393,7 +421,15 @@ abstract public class Expansion extends BaseNode {
     /**
      * @return Can this expansion be matched by the empty string.
      */
-    abstract public boolean isPossiblyEmpty();
+    public final boolean isPossiblyEmpty() {
+        ExpansionAnalysis analysis = getAnalysis();
+        return analysis != null ? analysis.isPossiblyEmpty(this) : computePossiblyEmpty();
+    }
+
+    /**
+     * @see #computeFirstSet()
+     */
+    abstract protected boolean computePossiblyEmpty();
 
 
     /**
@@ -442,7 +478,22 @@ abstract public class Expansion extends BaseNode {
         return null;
     }
 
-    public TokenSet getFollowSet() {
+    /**
+     * @return the set of tokens that can follow this expansion within
+     * its production. The set is flagged as incomplete if this expansion 
+     * can be at the end of the production.
+     */
+    public final TokenSet getFollowSet() {
+        ExpansionAnalysis analysis = getAnalysis();
+        return analysis != null ? analysis.getFollowSet(this) : computeFollowSet();
+    }
+
+    // The grammar-wide analysis, if this expansion is covered by it
+    private ExpansionAnalysis getAnalysis() {
+        return analysisId < 0 ? null : getGrammar().getExpansionAnalysis();
+    }
+
+    private TokenSet computeFollowSet() {
         TokenSet result = new TokenSet(getGrammar());
         if (isAtEndOfLoop()) {
             result.or(firstLoopAncestor().getFirstSet());
@@ -0,0 +1,266 @@
+/* Copyright (c) 2008-2022 Jonathan Revusky, revusky@javacc.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notices,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name Jonathan Revusky nor the names of any contributors 
+ *       may be used to endorse or promote products derived from this software 
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.javacc.core;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.javacc.Grammar;
+import com.javacc.parser.tree.OneOrMore;
+import com.javacc.parser.tree.ZeroOrMore;
+
+/**
+ * Works out, once and for all, which expansions can match the empty string
+ * and the first, final and follow sets of all the expansions in the grammar. 
+ * Each expansion is given an index into the arrays that hold the results, 
+ * so that, after this, the corresponding getters in Expansion are just lookups.
+ * <p>
+ * The rules for computing these things stay in the various Expansion subclasses, 
+ * i.e. the computeXXX methods, which get the values for any nested expansions 
+ * via the regular getters. While the analysis is running, those getters return
+ * the value computed so far, and make a note of which expansion wanted it.
+ * We start off with every expansion being non-empty and having empty sets and 
+ * keep recomputing the values of the expansions that depend on one whose value 
+ * has changed until nothing changes any more. That way, we never recurse into 
+ * the productions that a NonTerminal refers to and recursive productions are not 
+ * a problem.
+ * <p>
+ * Every expansion has its own TokenSet objects, and the getters return copies 
+ * of them, so whatever the caller does with the sets that it gets, the stored 
+ * results cannot change.
+ */
+public class ExpansionAnalysis {
+
+    private static final int POSSIBLY_EMPTY = 0, FIRST_SETS = 1, FINAL_SETS = 2, FOLLOW_SETS = 3, DONE = 4;
+
+    private final Grammar grammar;
+    private final List<Expansion> expansions;
+    private final boolean[] possiblyEmpty;
+    private final TokenSet[] firstSets, finalSets, followSets;
+
+    // Only used while the analysis is running
+    private int stage = POSSIBLY_EMPTY;
+    private int current = -1;
+    private int[][] dependents;
+    private int[] dependentCounts;
+    private int evaluations;
+
+    public ExpansionAnalysis(Grammar grammar) {
+        this.grammar = grammar;
+        this.expansions = grammar.descendants(Expansion.class);
+        int count = expansions.size();
+        for (int i = 0; i < count; i++) {
+            expansions.get(i).analysisId = i;
+        }
+        possiblyEmpty = new boolean[count];
+        firstSets = new TokenSet[count];
+        finalSets = new TokenSet[count];
+        followSets = new TokenSet[count];
+    }
+
+    /**
+     * Does the analysis. The grammar must already be using this object 
+     * (i.e. return it from Grammar#getExpansionAnalysis()) at this point.
+     */
+    public void run() {
+        solve(POSSIBLY_EMPTY);
+        for (int i = 0; i < firstSets.length; i++) {
+            firstSets[i] = new TokenSet(grammar);
+        }
+        solve(FIRST_SETS);
+        for (int i = 0; i < finalSets.length; i++) {
+            finalSets[i] = new TokenSet(grammar);
+        }
+        solve(FINAL_SETS);
+        stage = FOLLOW_SETS;
+        for (Expansion exp : expansions) {
+            if (!(exp.getParent() instanceof Expansion)) {
+                computeFollowSets(exp, new TokenSet(grammar, true), null);
+            }
+        }
+        stage = DONE;
+    }
+
+    public int getExpansionCount() {
+        return expansions.size();
+    }
+
+    /**
+     * @return how many times the value of some expansion was (re)computed
+     */
+    public int getEvaluationCount() {
+        return evaluations;
+    }
+
+    boolean isPossiblyEmpty(Expansion exp) {
+        if (stage < POSSIBLY_EMPTY) return exp.computePossiblyEmpty();
+        if (stage == POSSIBLY_EMPTY) addDependent(exp.analysisId);
+        return possiblyEmpty[exp.analysisId];
+    }
+
+    TokenSet getFirstSet(Expansion exp) {
+        if (stage < FIRST_SETS) return exp.computeFirstSet();
+        if (stage == FIRST_SETS) addDependent(exp.analysisId);
+        return copyOf(firstSets[exp.analysisId]);
+    }
+
+    TokenSet getFinalSet(Expansion exp) {
+        if (stage < FINAL_SETS) return exp.computeFinalSet();
+        if (stage == FINAL_SETS) addDependent(exp.analysisId);
+        return copyOf(finalSets[exp.analysisId]);
+    }
+
+    TokenSet getFollowSet(Expansion exp) {
+        TokenSet result = followSets[exp.analysisId];
+        return result != null ? copyOf(result) : new TokenSet(grammar, true);
+    }
+
+    private TokenSet copyOf(TokenSet set) {
+        TokenSet result = new TokenSet(grammar, set.isIncomplete());
+        result.or(set);
+        return result;
+    }
+
+    // Note that the expansion currently being computed uses the value of this one
+    private void addDependent(int id) {
+        if (current < 0) return;
+        int count = dependentCounts[id];
+        int[] ids = dependents[id];
+        if (count > 0 && ids[count - 1] == current) return;
+        if (ids == null) {
+            ids = dependents[id] = new int[4];
+        } else if (count == ids.length) {
+            ids = dependents[id] = Arrays.copyOf(ids, 2 * count);
+        }
+        ids[count] = current;
+        dependentCounts[id] = count + 1;
+    }
+
+    private void solve(int stage) {
+        this.stage = stage;
+        int count = expansions.size();
+        dependents = new int[count][];
+        dependentCounts = new int[count];
+        // The nested expansions come after the ones containing them,
+        // so we start with them by working from the end of the list.
+        int[] stack = new int[count];
+        boolean[] onStack = new boolean[count];
+        int size = 0;
+        for (int id = 0; id < count; id++) {
+            stack[size++] = id;
+            onStack[id] = true;
+        }
+        while (size > 0) {
+            int id = stack[--size];
+            onStack[id] = false;
+            current = id;
+            boolean changed = update(id);
+            current = -1;
+            evaluations++;
+            if (changed) {
+                for (int i = 0; i < dependentCounts[id]; i++) {
+                    int dependent = dependents[id][i];
+                    if (!onStack[dependent]) {
+                        onStack[dependent] = true;
+                        stack[size++] = dependent;
+                    }
+                }
+            }
+        }
+        dependents = null;
+        dependentCounts = null;
+    }
+
+    /**
+     * Recompute the value for the current stage
+     * @return whether it changed
+     */
+    private boolean update(int id) {
+        Expansion exp = expansions.get(id);
+        if (stage == POSSIBLY_EMPTY) {
+            boolean value = exp.computePossiblyEmpty();
+            if (value == possiblyEmpty[id]) return false;
+            possiblyEmpty[id] = value;
+            return true;
+        }
+        TokenSet[] sets = stage == FIRST_SETS ? firstSets : finalSets;
+        TokenSet value = stage == FIRST_SETS ? exp.computeFirstSet() : exp.computeFinalSet();
+        if (value.equals(sets[id]) && value.isIncomplete() == sets[id].isIncomplete()) return false;
+        // The computed value may well be an object that something else holds on to,
+        // such as the set of a nested expansion, so we store a copy of it.
+        sets[id] = copyOf(value);
+        return true;
+    }
+
+    /**
+     * Sets the follow sets of an expansion and the ones nested in it.
+     * The follow sets only take into account what follows within the same 
+     * production, so we can work this out top-down.
+     * @param following the tokens that can come after the expansion, not counting
+     * any repetition of a loop that it is at the end of. This is flagged as incomplete
+     * if the expansion can come at the end of the production.
+     * @param loop the innermost loop (ZeroOrMore or OneOrMore) that this expansion 
+     * is at the end of, or null if there is none
+     */
+    private void computeFollowSets(Expansion exp, TokenSet following, Expansion loop) {
+        if (exp instanceof ZeroOrMore || exp instanceof OneOrMore) {
+            loop = exp;
+        }
+        // The same following set is passed down to several expansions, 
+        // so each of them gets a copy of it.
+        TokenSet followSet = copyOf(following);
+        if (loop != null) {
+            followSet.or(loop.getFirstSet());
+        }
+        if (exp.analysisId >= 0) {
+            followSets[exp.analysisId] = followSet;
+        }
+        List<Expansion> children = exp.childrenOfType(Expansion.class);
+        if (!(exp instanceof ExpansionSequence)) {
+            for (Expansion child : children) {
+                computeFollowSets(child, following, loop);
+            }
+            return;
+        }
+        // Work backwards from the end of the sequence
+        for (int i = children.size() - 1; i >= 0; i--) {
+            Expansion child = children.get(i);
+            computeFollowSets(child, following, loop);
+            boolean possiblyEmpty = child.isPossiblyEmpty();
+            TokenSet next = new TokenSet(grammar, possiblyEmpty && following.isIncomplete());
+            next.or(child.getFirstSet());
+            if (possiblyEmpty) {
+                next.or(following);
+            } else {
+                loop = null;
+            }
+            following = next;
+        }
+    }
+}
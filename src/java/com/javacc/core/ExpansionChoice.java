@@ -36,17 +36,15 @@ public class ExpansionChoice extends Expansion {
         return childrenOfType(ExpansionSequence.class);
     }
     
-    public TokenSet getFirstSet() {
-         if (firstSet == null) {
-            firstSet = new TokenSet(getGrammar());
-            for (ExpansionSequence choice : childrenOfType(ExpansionSequence.class)) {
-                firstSet.or(choice.getLookaheadExpansion().getFirstSet());
-            }
-         }
-         return firstSet;
+    protected TokenSet computeFirstSet() {
+        TokenSet firstSet = new TokenSet(getGrammar());
+        for (ExpansionSequence choice : childrenOfType(ExpansionSequence.class)) {
+            firstSet.or(choice.getLookaheadExpansion().getFirstSet());
+        }
+        return firstSet;
     }
     
-    public TokenSet getFinalSet() {
+    protected TokenSet computeFinalSet() {
         TokenSet finalSet = new TokenSet(getGrammar());
         for (ExpansionSequence choice : childrenOfType(ExpansionSequence.class)) {
             finalSet.or(choice.getFinalSet());
@@ -55,7 +53,7 @@ public class ExpansionChoice extends Expansion {
     }
     
     
-    public boolean isPossiblyEmpty() {
+    protected boolean computePossiblyEmpty() {
         return childrenOfType(ExpansionSequence.class).stream().anyMatch(choice->choice.isPossiblyEmpty());
     }
  
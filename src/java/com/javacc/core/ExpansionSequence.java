@@ -80,20 +80,18 @@ public class ExpansionSequence extends Expansion {
         return true;
     }
 
-    public TokenSet getFirstSet() {
-        if (firstSet == null) {
-            firstSet = new TokenSet(getGrammar());
-            for (Expansion child : childrenOfType(Expansion.class)) {
-                firstSet.or(child.getFirstSet());
-                if (!child.isPossiblyEmpty()) {
-                    break;
-                }
+    protected TokenSet computeFirstSet() {
+        TokenSet firstSet = new TokenSet(getGrammar());
+        for (Expansion child : childrenOfType(Expansion.class)) {
+            firstSet.or(child.getFirstSet());
+            if (!child.isPossiblyEmpty()) {
+                break;
             }
         }
         return firstSet;
     }
 
-    public TokenSet getFinalSet() {
+    protected TokenSet computeFinalSet() {
         TokenSet finalSet = new TokenSet(getGrammar());
         List<Expansion> children = childrenOfType(Expansion.class);
         Collections.reverse(children);
@@ -153,7 +151,7 @@ public class ExpansionSequence extends Expansion {
         return lookahead != null;
     }
 
-    public boolean isPossiblyEmpty() {
+    protected boolean computePossiblyEmpty() {
         for (Expansion e : childrenOfType(Expansion.class)) {
             if (!e.isPossiblyEmpty()) {
                 return false;
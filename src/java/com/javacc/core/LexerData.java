@@ -88,6 +88,18 @@ public class LexerData {
         return result;
     }
 
+    /**
+     * @return the maximum number of composite NFA states in any lexical state,
+     * i.e. the number of states that can be active at the same time.
+     */
+    public int getMaxCompositeStates() {
+        int result = 0;
+        for (LexicalStateData lsd : lexicalStates) {
+            result = Math.max(result, lsd.getCanonicalSets().size());
+        }
+        return result;
+    }
+
     public RegularExpression getRegularExpression(int idx) {
         if (idx == Integer.MAX_VALUE) return null;
         return regularExpressions.get(idx);
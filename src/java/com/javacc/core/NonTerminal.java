@@ -76,21 +76,18 @@ public class NonTerminal extends Expansion {
         return !getStopAtScanLimit();
     }
 
-    public TokenSet getFirstSet() {
-        if (firstSet == null) {
-            firstSet = getProduction().getExpansion().getFirstSet();
-        }
-        return firstSet;
+    protected TokenSet computeFirstSet() {
+        return getProduction().getExpansion().getFirstSet();
      }
      private int reEntries;     
-     public TokenSet getFinalSet() {
+     protected TokenSet computeFinalSet() {
           ++reEntries;
           TokenSet result = reEntries == 1 ? getProduction().getExpansion().getFinalSet() : new TokenSet(getGrammar());
           --reEntries;
           return result;
      }
      
-     public boolean isPossiblyEmpty() {
+     protected boolean computePossiblyEmpty() {
          return getProduction().isPossiblyEmpty();
      }
 
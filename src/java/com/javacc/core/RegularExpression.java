@@ -173,7 +173,9 @@ public abstract class RegularExpression extends Expansion {
     private String generatedClassName = "Token", generatedSuperClassName;
     
     
-    public TokenSet getFirstSet() {
+    private TokenSet firstSet;
+
+    protected TokenSet computeFirstSet() {
     	if (firstSet== null) {
     		firstSet = new TokenSet(getGrammar());
     		firstSet.set(getOrdinal());
@@ -181,12 +183,12 @@ public abstract class RegularExpression extends Expansion {
         return firstSet;
     }
     
-    public TokenSet getFinalSet() {
-        return getFirstSet();	
+    protected TokenSet computeFinalSet() {
+        return computeFirstSet();
     }
     
     
-    final public boolean isPossiblyEmpty() {
+    final protected boolean computePossiblyEmpty() {
     	return false;
     }
     
@@ -63,11 +63,18 @@ public class TokenSet extends BitSet {
 		this.incomplete = incomplete;
 	}
 	
+	/**
+	 * @return the set as an array of longs, with one bit per token type, 
+	 * padded out to cover all the token types in the grammar, i.e. 
+	 * the array always has the same length, whatever is in the set.
+	 * The generated TokenType enum has one more type than the lexer data, 
+	 * INVALID, which is tacked on at the end, so that needs a bit too.
+	 */
 	public long[] toLongArray() {
 	    long[] ll = super.toLongArray();
-	    int numKinds = grammar.getLexerData().getTokenCount();
-	    if (ll.length < 1+numKinds/64) {
-	        ll = Arrays.copyOf(ll, 1 + numKinds/64);
+	    int numLongs = (grammar.getLexerData().getTokenCount() + 1 + 63) / 64;
+	    if (ll.length < numLongs) {
+	        ll = Arrays.copyOf(ll, numLongs);
 	    }
 	    return ll; 
 	}
@@ -0,0 +1,150 @@
+/* Copyright (c) 2022 Jonathan Revusky, revusky@congocc.org
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notices,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name Jonathan Revusky nor the names of any contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.javacc.core.nfa;
+
+import java.util.*;
+
+/**
+ * The precomputed transitions of the CompositeStateSet objects 
+ * of a lexical state on ASCII characters, used when the ASCII_TABLE_LEXER
+ * option is set. For any composite and ASCII character, the table gives 
+ * a move, i.e. the composites that are activated and the token types
+ * that are matched, so the generated lexer does not need to call the
+ * NFA function for that composite. The ASCII characters are grouped into
+ * classes of characters that have the same moves from every composite. 
+ * Move 0 is the empty move.
+ */
+public class AsciiMoveTable {
+
+    private final int[] charClasses = new int[128];
+    private int charClassCount;
+    private int[] moveTable;
+    private final List<BitSet> moveTargets = new ArrayList<>();
+    private final List<BitSet> moveTypes = new ArrayList<>();
+
+    AsciiMoveTable(LexicalStateData lexicalState) {
+        List<CompositeStateSet> composites = lexicalState.getCanonicalSets();
+        Map<List<BitSet>, Integer> moveLookup = new HashMap<>();
+        addMove(new BitSet(), new BitSet(), moveLookup);
+        // The move from each composite (by index) on each ASCII character
+        int[][] columns = new int[128][composites.size()];
+        for (CompositeStateSet composite : composites) {
+            for (int ch = 0; ch < 128; ch++) {
+                BitSet targets = new BitSet(), types = new BitSet();
+                for (NfaState state : composite.getStates()) {
+                    if (!accepts(state, ch)) continue;
+                    if (state.getNextStateIndex() >= 0) targets.set(state.getNextStateIndex());
+                    if (state.getNextStateType() != null) types.set(state.getNextStateType().getOrdinal());
+                }
+                columns[ch][composite.getIndex()] = addMove(targets, types, moveLookup);
+            }
+        }
+        Map<List<Integer>, Integer> classLookup = new HashMap<>();
+        List<int[]> classColumns = new ArrayList<>();
+        for (int ch = 0; ch < 128; ch++) {
+            List<Integer> key = new ArrayList<>();
+            for (int move : columns[ch]) key.add(move);
+            Integer charClass = classLookup.get(key);
+            if (charClass == null) {
+                charClass = classColumns.size();
+                classLookup.put(key, charClass);
+                classColumns.add(columns[ch]);
+            }
+            charClasses[ch] = charClass;
+        }
+        charClassCount = classColumns.size();
+        moveTable = new int[composites.size() * charClassCount];
+        for (int i = 0; i < composites.size(); i++) {
+            for (int charClass = 0; charClass < charClassCount; charClass++) {
+                moveTable[i * charClassCount + charClass] = classColumns.get(charClass)[i];
+            }
+        }
+    }
+
+    private int addMove(BitSet targets, BitSet types, Map<List<BitSet>, Integer> moveLookup) {
+        return moveLookup.computeIfAbsent(Arrays.asList(targets, types), key -> {
+            moveTargets.add(targets);
+            moveTypes.add(types);
+            return moveTargets.size() - 1;
+        });
+    }
+
+    static private boolean accepts(NfaState state, int ch) {
+        return state.getMoveIntervals().contains(ch);
+    }
+
+    /**
+     * @return the character class of each ASCII character
+     */
+    public int[] getCharClasses() {
+        return charClasses;
+    }
+
+    public int getCharClassCount() {
+        return charClassCount;
+    }
+
+    public int getMoveCount() {
+        return moveTargets.size();
+    }
+
+    /**
+     * @return the move from each composite on each character class,
+     * one row of #getCharClassCount() entries per composite, packed
+     * into strings by LexicalStateData#packIntArray(int[])
+     */
+    public List<String> getPackedMoveTable() {
+        return LexicalStateData.packIntArray(moveTable);
+    }
+
+    /**
+     * @return the composites (by index) activated by each move,
+     * packed as a length-prefixed list per move.
+     */
+    public List<String> getPackedMoveTargets() {
+        return packLists(moveTargets);
+    }
+
+    /**
+     * @return the ordinals of the types matched by each move, in order of 
+     * priority, packed as a length-prefixed list per move.
+     */
+    public List<String> getPackedMoveTypes() {
+        return packLists(moveTypes);
+    }
+
+    static private List<String> packLists(List<BitSet> lists) {
+        List<Integer> values = new ArrayList<>();
+        for (BitSet list : lists) {
+            values.add(list.cardinality());
+            list.stream().forEach(values::add);
+        }
+        return LexicalStateData.packIntArray(values.stream().mapToInt(i -> i).toArray());
+    }
+}
@@ -0,0 +1,106 @@
+/* Copyright (c) 2022 Jonathan Revusky, revusky@congocc.org
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notices,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name Jonathan Revusky nor the names of any contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.javacc.core.nfa;
+
+import java.util.*;
+
+/**
+ * A partition of the code point space into character classes, i.e.
+ * sets of characters that a given list of NfaStates cannot tell apart.
+ * Class 0 is always the class of the characters that none of the 
+ * states accept.
+ */
+class CharacterClasses {
+
+    // The starting code point of each (maximal) interval of characters
+    // that belong to the same character class, and the class of that interval.
+    final int[] intervalStarts, intervalClasses;
+    // For each character class, which NfaStates (by index in the list) accept it
+    final List<BitSet> signatures = new ArrayList<>();
+
+    CharacterClasses(List<NfaState> nfaStates) {
+        TreeSet<Integer> boundaries = new TreeSet<>();
+        boundaries.add(0);
+        // We always start a new interval at 128 so that
+        // the ASCII range can be handled separately.
+        boundaries.add(128);
+        for (NfaState state : nfaStates) {
+            IntervalSet ranges = state.getMoveIntervals();
+            for (int i = 0; i < ranges.intervalCount(); i++) {
+                boundaries.add(ranges.getLeft(i));
+                if (ranges.getRight(i) < IntervalSet.MAX_CODE_POINT) {
+                    boundaries.add(ranges.getRight(i) + 1);
+                }
+            }
+        }
+        int[] starts = new int[boundaries.size()];
+        int idx = 0;
+        for (int boundary : boundaries) {
+            starts[idx++] = boundary;
+        }
+        BitSet[] intervalSignatures = new BitSet[starts.length];
+        for (int i = 0; i < starts.length; i++) {
+            intervalSignatures[i] = new BitSet(nfaStates.size());
+        }
+        for (int i = 0; i < nfaStates.size(); i++) {
+            IntervalSet ranges = nfaStates.get(i).getMoveIntervals();
+            for (int j = 0; j < ranges.intervalCount(); j++) {
+                int first = Arrays.binarySearch(starts, ranges.getLeft(j));
+                int right = ranges.getRight(j);
+                for (int k = first; k < starts.length && starts[k] <= right; k++) {
+                    intervalSignatures[k].set(i);
+                }
+            }
+        }
+        Map<BitSet, Integer> classLookup = new HashMap<>();
+        classLookup.put(new BitSet(), 0);
+        signatures.add(new BitSet());
+        List<Integer> mergedStarts = new ArrayList<>(), mergedClasses = new ArrayList<>();
+        for (int i = 0; i < starts.length; i++) {
+            Integer charClass = classLookup.get(intervalSignatures[i]);
+            if (charClass == null) {
+                charClass = signatures.size();
+                classLookup.put(intervalSignatures[i], charClass);
+                signatures.add(intervalSignatures[i]);
+            }
+            int lastIndex = mergedClasses.size() - 1;
+            if (lastIndex >= 0 && mergedClasses.get(lastIndex) == (int) charClass && starts[i] != 128) {
+                continue;
+            }
+            mergedStarts.add(starts[i]);
+            mergedClasses.add(charClass);
+        }
+        intervalStarts = mergedStarts.stream().mapToInt(i -> i).toArray();
+        intervalClasses = mergedClasses.stream().mapToInt(i -> i).toArray();
+    }
+
+    int size() {
+        return signatures.size();
+    }
+}
@@ -0,0 +1,119 @@
+/* Copyright (c) 2022 Jonathan Revusky, revusky@congocc.org
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notices,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name Jonathan Revusky nor the names of any contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.javacc.core.nfa;
+
+import java.util.*;
+
+/**
+ * Merges the CompositeStateSet objects of a lexical state that
+ * cannot be told apart, i.e. the ones that, on any given character, match the
+ * same token types and move on to composites that cannot be told
+ * apart either. (The composites are only deduplicated by their member 
+ * states before this, so we typically have many that behave the same way.)
+ * This is done by partition refinement: we start with the composites
+ * grouped by the types they match on each character class and keep splitting 
+ * the groups until nothing changes. Each group is then represented by 
+ * its first member and the others just take on its index, so the 
+ * transitions of the remaining composites are redirected automatically.
+ */
+class CompositeStateMinimizer {
+
+    private final LexicalStateData lexicalState;
+    private final List<CompositeStateSet> composites;
+
+    CompositeStateMinimizer(LexicalStateData lexicalState) {
+        this.lexicalState = lexicalState;
+        this.composites = lexicalState.getCanonicalSets();
+    }
+
+    /**
+     * @return the composites that remain, the initial one still being
+     * the first one.
+     */
+    List<CompositeStateSet> minimize() {
+        List<NfaState> nfaStates = lexicalState.getUsedNfaStates();
+        Map<NfaState, Integer> nfaStateIndices = new HashMap<>();
+        for (int i = 0; i < nfaStates.size(); i++) {
+            nfaStateIndices.put(nfaStates.get(i), i);
+        }
+        CharacterClasses charClasses = new CharacterClasses(nfaStates);
+        int numClasses = charClasses.size();
+        // For each composite and character class, the composites (by index)
+        // that we move to, and the ordinals of the types matched.
+        BitSet[][] targets = new BitSet[composites.size()][numClasses];
+        BitSet[][] types = new BitSet[composites.size()][numClasses];
+        for (CompositeStateSet composite : composites) {
+            for (int charClass = 0; charClass < numClasses; charClass++) {
+                BitSet signature = charClasses.signatures.get(charClass);
+                BitSet compositeTargets = new BitSet(), compositeTypes = new BitSet();
+                for (NfaState state : composite.getStates()) {
+                    if (!signature.get(nfaStateIndices.get(state))) continue;
+                    if (state.getNextStateIndex() >= 0) compositeTargets.set(state.getNextStateIndex());
+                    if (state.getNextStateType() != null) compositeTypes.set(state.getNextStateType().getOrdinal());
+                }
+                targets[composite.getIndex()][charClass] = compositeTargets;
+                types[composite.getIndex()][charClass] = compositeTypes;
+            }
+        }
+        int[] blocks = new int[composites.size()];
+        Map<Object, Integer> blockLookup = new HashMap<>();
+        for (int i = 0; i < composites.size(); i++) {
+            blocks[i] = blockLookup.computeIfAbsent(Arrays.asList(types[i]), key -> blockLookup.size());
+        }
+        int blockCount;
+        do {
+            blockCount = blockLookup.size();
+            blockLookup.clear();
+            int[] newBlocks = new int[composites.size()];
+            for (int i = 0; i < composites.size(); i++) {
+                List<Object> key = new ArrayList<>(numClasses + 1);
+                key.add(blocks[i]);
+                for (BitSet compositeTargets : targets[i]) {
+                    BitSet targetBlocks = new BitSet();
+                    for (int j = compositeTargets.nextSetBit(0); j >= 0; j = compositeTargets.nextSetBit(j + 1)) {
+                        targetBlocks.set(blocks[j]);
+                    }
+                    key.add(targetBlocks);
+                }
+                newBlocks[i] = blockLookup.computeIfAbsent(key, k -> blockLookup.size());
+            }
+            blocks = newBlocks;
+        } while (blockLookup.size() != blockCount);
+        List<CompositeStateSet> result = new ArrayList<>();
+        for (int i = 0; i < composites.size(); i++) {
+            if (blocks[i] == result.size()) {
+                result.add(composites.get(i));
+            }
+        }
+        for (int i = 0; i < composites.size(); i++) {
+            composites.get(i).setIndex(blocks[i]);
+        }
+        return result;
+    }
+}
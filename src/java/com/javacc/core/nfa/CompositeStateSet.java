@@ -38,12 +38,12 @@ import java.util.*;
  * XXXNfaData::NfaFunction functional interface. 
  */
 public class CompositeStateSet {
-    private Set<NfaState> states = new HashSet<>();
+    private Set<NfaState> states;
     final LexicalStateData lexicalState;
     int index=-1; 
 
     CompositeStateSet(Set<NfaState> states, LexicalStateData lsd) {
-        this.states = new HashSet<>(states);
+        this.states = new LinkedHashSet<>(states);
         this.lexicalState = lsd;
     }
 
@@ -51,6 +51,8 @@ public class CompositeStateSet {
 
     void setIndex(int index) {this.index = index;}
 
+    Set<NfaState> getStates() {return states;}
+
     public String getMethodName() {
         String lexicalStateName = lexicalState.getName();
         if (lexicalStateName.equals("DEFAULT")) 
@@ -79,27 +81,15 @@ public class CompositeStateSet {
     static private int nfaComparator(NfaState state1, NfaState state2) {
         int result = getOrdinal(state2.getNextState()) - getOrdinal(state1.getNextState());
         if (result == 0)
-           result = (state1.getMoveRanges().get(0) - state2.getMoveRanges().get(0));
+           result = (state1.getMoveIntervals().getLeft(0) - state2.getMoveIntervals().getLeft(0));
         if (result == 0)
-           result = (state1.getMoveRanges().get(1) - state2.getMoveRanges().get(1));
-        if (result ==0)
-           result = state2.getMoveRanges().size() - state2.getMoveRanges().size();
+           result = (state1.getMoveIntervals().getRight(0) - state2.getMoveIntervals().getRight(0));
+        // States that are still tied are left in the order that the set gives them,
+        // as they always have been, since that is the order their code is generated in.
         return result;
     }    
     
     static private int getOrdinal(NfaState state) {
         return state.getType() == null ? Integer.MAX_VALUE : state.getType().getOrdinal();
     }
-
-    // Recursive method to figure out which composite state sets are actually used.
-    // We invoke this on a lexical state's initial state. 
-    void findWhatIsUsed(Set<CompositeStateSet> alreadyVisited, Set<CompositeStateSet> usedStates) {
-        if (alreadyVisited.contains(this)) return;
-        alreadyVisited.add(this);
-        if (states.isEmpty()) return;
-        usedStates.add(this);
-        for (NfaState state : states) {
-            state.getNextState().getComposite().findWhatIsUsed(alreadyVisited, usedStates);
-        }
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,205 @@
+/* Copyright (c) 2022 Jonathan Revusky, revusky@congocc.org
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notices,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name Jonathan Revusky nor the names of any contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.javacc.core.nfa;
+
+import java.util.*;
+
+import com.javacc.core.LexerData;
+import com.javacc.core.RegularExpression;
+
+/**
+ * Builds a deterministic automaton from the CompositeStateSet objects
+ * of a lexical state, using the standard subset construction.
+ * First, the code point space is partitioned into character classes,
+ * i.e. sets of characters that no NfaState in the lexical state
+ * can tell apart. Then we start from the initial composite and work
+ * out, for each character class, which set of composites is active
+ * after the transition and which token types are matched. Each distinct
+ * (active set, matched types) pair becomes a DfaState. Finally, the
+ * states that cannot be told apart are merged.
+ */
+class DfaBuilder {
+
+    private final LexicalStateData lexicalState;
+    private final List<NfaState> nfaStates;
+    private final Map<NfaState, Integer> nfaStateIndices = new HashMap<>();
+    private CharacterClasses charClasses;
+
+    // For each NfaState (by index), the index of the composite it moves to
+    // (or -1) and the ordinal of the type it matches (or -1).
+    private int[] nextComposites, nextTypes;
+
+    private final Map<DfaState, DfaState> stateLookup = new HashMap<>();
+    private List<DfaState> states = new ArrayList<>();
+
+    DfaBuilder(LexicalStateData lexicalState) {
+        this.lexicalState = lexicalState;
+        this.nfaStates = lexicalState.getUsedNfaStates();
+    }
+
+    void build() {
+        for (int i = 0; i < nfaStates.size(); i++) {
+            nfaStateIndices.put(nfaStates.get(i), i);
+        }
+        nextComposites = new int[nfaStates.size()];
+        nextTypes = new int[nfaStates.size()];
+        for (int i = 0; i < nfaStates.size(); i++) {
+            NfaState state = nfaStates.get(i);
+            nextComposites[i] = state.getNextStateIndex();
+            RegularExpression type = state.getNextStateType();
+            nextTypes[i] = type == null ? -1 : type.getOrdinal();
+        }
+        charClasses = new CharacterClasses(nfaStates);
+        buildStates();
+        int unminimizedCount = states.size();
+        minimize();
+        orderStates();
+        lexicalState.grammar.addInfo("Lexical state " + lexicalState.getName() + ": " 
+                                     + unminimizedCount + " DFA states minimized to " + states.size() + ".");
+        lexicalState.setDfaData(states, charClasses.intervalStarts, charClasses.intervalClasses, charClasses.size());
+    }
+
+    private void buildStates() {
+        BitSet initial = new BitSet();
+        initial.set(0);
+        addState(new DfaState(initial, new BitSet()));
+        int numClasses = charClasses.size();
+        for (int i = 0; i < states.size(); i++) {
+            DfaState state = states.get(i);
+            state.transitions = new int[numClasses];
+            for (int charClass = 0; charClass < numClasses; charClass++) {
+                DfaState nextState = move(state, charClass);
+                state.transitions[charClass] = nextState == null ? -1 : addState(nextState).index;
+            }
+        }
+    }
+
+    /**
+     * Merge the states that cannot be told apart, i.e. the ones
+     * that accept the same types and whose transitions lead to states that 
+     * cannot be told apart. We start with the states partitioned by the types 
+     * they accept and keep splitting blocks until nothing changes.
+     */
+    private void minimize() {
+        int[] blocks = new int[states.size()];
+        Map<Object, Integer> blockLookup = new HashMap<>();
+        for (DfaState state : states) {
+            blocks[state.index] = blockLookup.computeIfAbsent(state.acceptedTypes, key -> blockLookup.size());
+        }
+        int blockCount;
+        do {
+            blockCount = blockLookup.size();
+            blockLookup.clear();
+            int[] newBlocks = new int[states.size()];
+            for (DfaState state : states) {
+                List<Integer> key = new ArrayList<>(state.transitions.length + 1);
+                key.add(blocks[state.index]);
+                for (int target : state.transitions) {
+                    key.add(target < 0 ? -1 : blocks[target]);
+                }
+                newBlocks[state.index] = blockLookup.computeIfAbsent(key, k -> blockLookup.size());
+            }
+            blocks = newBlocks;
+        } while (blockLookup.size() != blockCount);
+        // The first state of each block is its representative. Since
+        // the initial state is the first one overall, it remains the
+        // representative of its block.
+        List<DfaState> representatives = new ArrayList<>();
+        for (DfaState state : states) {
+            if (blocks[state.index] == representatives.size()) {
+                representatives.add(state);
+            }
+        }
+        for (DfaState state : representatives) {
+            state.index = blocks[state.index];
+            for (int charClass = 0; charClass < state.transitions.length; charClass++) {
+                int target = state.transitions[charClass];
+                if (target >= 0) state.transitions[charClass] = blocks[target];
+            }
+        }
+        states = representatives;
+    }
+
+    /**
+     * Renumber the states so that the live ones come first.
+     * That way, the generated code can check whether a state is live with
+     * a single comparison.
+     */
+    private void orderStates() {
+        int numClasses = charClasses.size();
+        List<DfaState> ordered = new ArrayList<>(states.size());
+        for (DfaState state : states) if (state.isLive()) ordered.add(state);
+        for (DfaState state : states) if (!state.isLive()) ordered.add(state);
+        int[] newIndices = new int[states.size()];
+        for (int i = 0; i < ordered.size(); i++) {
+            newIndices[ordered.get(i).index] = i;
+        }
+        for (DfaState state : ordered) {
+            state.index = newIndices[state.index];
+            for (int charClass = 0; charClass < numClasses; charClass++) {
+                int target = state.transitions[charClass];
+                if (target >= 0) state.transitions[charClass] = newIndices[target];
+            }
+        }
+        states = ordered;
+        LexerData lexerData = lexicalState.grammar.getLexerData();
+        for (DfaState state : states) {
+            List<RegularExpression> acceptingTypes = new ArrayList<>();
+            for (int ordinal = state.acceptedTypes.nextSetBit(0); ordinal >= 0; ordinal = state.acceptedTypes.nextSetBit(ordinal + 1)) {
+                acceptingTypes.add(lexerData.getRegularExpression(ordinal));
+            }
+            state.setAcceptingTypes(acceptingTypes);
+        }
+    }
+
+    private DfaState addState(DfaState state) {
+        DfaState existing = stateLookup.get(state);
+        if (existing != null) return existing;
+        state.index = states.size();
+        states.add(state);
+        stateLookup.put(state, state);
+        return state;
+    }
+
+    private DfaState move(DfaState state, int charClass) {
+        BitSet signature = charClasses.signatures.get(charClass);
+        BitSet nextComposites = new BitSet(), acceptedTypes = new BitSet();
+        List<CompositeStateSet> composites = lexicalState.getCanonicalSets();
+        for (int i = state.composites.nextSetBit(0); i >= 0; i = state.composites.nextSetBit(i + 1)) {
+            for (NfaState nfaState : composites.get(i).getStates()) {
+                int nfaIndex = nfaStateIndices.get(nfaState);
+                if (!signature.get(nfaIndex)) continue;
+                if (this.nextComposites[nfaIndex] >= 0) nextComposites.set(this.nextComposites[nfaIndex]);
+                if (nextTypes[nfaIndex] >= 0) acceptedTypes.set(nextTypes[nfaIndex]);
+            }
+        }
+        if (nextComposites.isEmpty() && acceptedTypes.isEmpty()) return null;
+        return new DfaState(nextComposites, acceptedTypes);
+    }
+}
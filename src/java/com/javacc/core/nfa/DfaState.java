@@ -0,0 +1,97 @@
+/* Copyright (c) 2022 Jonathan Revusky, revusky@congocc.org
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notices,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name Jonathan Revusky nor the names of any contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.javacc.core.nfa;
+
+import java.util.*;
+
+import com.javacc.core.RegularExpression;
+
+/**
+ * A state of the deterministic automaton that is built
+ * (by subset construction) from the CompositeStateSet objects of
+ * a lexical state when the DFA_LEXER option is set.
+ * Each DfaState corresponds to a set of CompositeStateSet objects
+ * that are active at the same time, plus the token types that
+ * are matched on entering the state.
+ */
+public class DfaState {
+    final BitSet composites;
+    final BitSet acceptedTypes;
+    int index;
+    // The index of the next state, indexed by character class.
+    // A -1 means there is no transition on that character class.
+    int[] transitions;
+    private List<RegularExpression> acceptingTypes;
+
+    DfaState(BitSet composites, BitSet acceptedTypes) {
+        this.composites = composites;
+        this.acceptedTypes = acceptedTypes;
+    }
+
+    public int getIndex() {return index;}
+
+    /**
+     * @return whether there are any outgoing transitions from this state.
+     * If not, the state can only be used to accept a token and the
+     * tokenization loop can stop right there.
+     */
+    public boolean isLive() {
+        for (int target : transitions) {
+            if (target >= 0) return true;
+        }
+        return false;
+    }
+
+    public int[] getTransitions() {
+        return transitions;
+    }
+
+    /**
+     * @return the token types that are matched on entering this state,
+     * in order of priority, i.e. in increasing order of the ordinal.
+     * At run-time, the first one that is currently active is the one matched.
+     */
+    public List<RegularExpression> getAcceptingTypes() {
+        return acceptingTypes;
+    }
+
+    void setAcceptingTypes(List<RegularExpression> acceptingTypes) {
+        this.acceptingTypes = acceptingTypes;
+    }
+
+    public boolean equals(Object other) {
+        if (!(other instanceof DfaState)) return false;
+        DfaState otherState = (DfaState) other;
+        return otherState.composites.equals(composites) && otherState.acceptedTypes.equals(acceptedTypes);
+    }
+
+    public int hashCode() {
+        return composites.hashCode() * 31 + acceptedTypes.hashCode();
+    }
+}
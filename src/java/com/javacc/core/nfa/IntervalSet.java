@@ -0,0 +1,270 @@
+/* Copyright (c) 2022 Jonathan Revusky, revusky@congocc.org
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notices,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name Jonathan Revusky nor the names of any contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.javacc.core.nfa;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * An immutable set of code points, stored as a sorted array of 
+ * inclusive [left, right] pairs. The intervals are always kept disjoint 
+ * and non-adjacent, so two sets with the same members have the 
+ * same representation, and the set operations can all be done 
+ * with a single linear merge of the two arrays.
+ */
+public final class IntervalSet {
+
+    static public final int MAX_CODE_POINT = 0x10FFFF;
+
+    static public final IntervalSet EMPTY = new IntervalSet(new int[0]);
+
+    static public final IntervalSet ALL = new IntervalSet(new int[] {0, MAX_CODE_POINT});
+
+    // left0, right0, left1, right1, ...
+    private final int[] bounds;
+
+    private List<Integer> listView;
+
+    private IntervalSet(int[] bounds) {
+        this.bounds = bounds;
+    }
+
+    /**
+     * @param pairs the left and right (inclusive) ends of each interval, 
+     * in any order and possibly overlapping
+     */
+    static public IntervalSet of(int... pairs) {
+        if (pairs.length % 2 != 0) {
+            throw new IllegalArgumentException("Odd number of interval bounds");
+        }
+        int count = pairs.length / 2;
+        if (count == 0) return EMPTY;
+        long[] packed = new long[count];
+        for (int i = 0; i < count; i++) {
+            int left = pairs[2 * i], right = pairs[2 * i + 1];
+            if (left < 0 || left > right || right > MAX_CODE_POINT) {
+                throw new IllegalArgumentException("Bad interval: " + left + ", " + right);
+            }
+            packed[i] = ((long) left << 32) | right;
+        }
+        Arrays.sort(packed);
+        int[] result = new int[2 * count];
+        int size = 0;
+        for (long p : packed) {
+            int left = (int) (p >>> 32), right = (int) p;
+            if (size > 0 && left <= result[size - 1] + 1) {
+                result[size - 1] = Math.max(result[size - 1], right);
+            } else {
+                result[size++] = left;
+                result[size++] = right;
+            }
+        }
+        return new IntervalSet(size == result.length ? result : Arrays.copyOf(result, size));
+    }
+
+    static public IntervalSet ofCodePoints(int... codePoints) {
+        int[] pairs = new int[2 * codePoints.length];
+        for (int i = 0; i < codePoints.length; i++) {
+            pairs[2 * i] = pairs[2 * i + 1] = codePoints[i];
+        }
+        return of(pairs);
+    }
+
+    public int intervalCount() {
+        return bounds.length / 2;
+    }
+
+    public int getLeft(int interval) {
+        return bounds[2 * interval];
+    }
+
+    public int getRight(int interval) {
+        return bounds[2 * interval + 1];
+    }
+
+    public boolean isEmpty() {
+        return bounds.length == 0;
+    }
+
+    public boolean contains(int ch) {
+        int lo = 0, hi = intervalCount() - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            if (ch < bounds[2 * mid]) hi = mid - 1;
+            else if (ch > bounds[2 * mid + 1]) lo = mid + 1;
+            else return true;
+        }
+        return false;
+    }
+
+    public boolean intersects(IntervalSet other) {
+        int[] a = this.bounds, b = other.bounds;
+        int i = 0, j = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i + 1] < b[j]) i += 2;
+            else if (b[j + 1] < a[i]) j += 2;
+            else return true;
+        }
+        return false;
+    }
+
+    public IntervalSet union(IntervalSet other) {
+        if (other.isEmpty() || this == other) return this;
+        if (this.isEmpty()) return other;
+        int[] a = this.bounds, b = other.bounds;
+        int[] result = new int[a.length + b.length];
+        int i = 0, j = 0, size = 0;
+        while (i < a.length || j < b.length) {
+            int left, right;
+            if (j >= b.length || (i < a.length && a[i] <= b[j])) {
+                left = a[i]; right = a[i + 1]; i += 2;
+            } else {
+                left = b[j]; right = b[j + 1]; j += 2;
+            }
+            if (size > 0 && left <= result[size - 1] + 1) {
+                result[size - 1] = Math.max(result[size - 1], right);
+            } else {
+                result[size++] = left;
+                result[size++] = right;
+            }
+        }
+        return create(result, size);
+    }
+
+    public IntervalSet intersection(IntervalSet other) {
+        int[] a = this.bounds, b = other.bounds;
+        int[] result = new int[a.length + b.length];
+        int i = 0, j = 0, size = 0;
+        while (i < a.length && j < b.length) {
+            int left = Math.max(a[i], b[j]);
+            int right = Math.min(a[i + 1], b[j + 1]);
+            if (left <= right) {
+                result[size++] = left;
+                result[size++] = right;
+            }
+            // Advance whichever interval ends first
+            if (a[i + 1] < b[j + 1]) i += 2;
+            else j += 2;
+        }
+        return create(result, size);
+    }
+
+    public IntervalSet subtract(IntervalSet other) {
+        if (this.isEmpty() || other.isEmpty()) return this;
+        int[] a = this.bounds, b = other.bounds;
+        // Each interval of other can split at most one interval of this in two
+        int[] result = new int[a.length + b.length];
+        int j = 0, size = 0;
+        for (int i = 0; i < a.length; i += 2) {
+            int left = a[i], right = a[i + 1];
+            while (j < b.length && b[j + 1] < left) j += 2;
+            int k = j;
+            while (k < b.length && b[k] <= right) {
+                if (b[k] > left) {
+                    result[size++] = left;
+                    result[size++] = b[k] - 1;
+                }
+                left = b[k + 1] + 1;
+                if (left > right) break;
+                k += 2;
+            }
+            if (left <= right) {
+                result[size++] = left;
+                result[size++] = right;
+            }
+        }
+        return create(result, size);
+    }
+
+    public IntervalSet complement() {
+        return ALL.subtract(this);
+    }
+
+    private IntervalSet create(int[] result, int size) {
+        if (size == 0) return EMPTY;
+        if (size == bounds.length) {
+            // Reuse this object if the operation did not change anything
+            int i = 0;
+            while (i < size && bounds[i] == result[i]) i++;
+            if (i == size) return this;
+        }
+        return new IntervalSet(size == result.length ? result : Arrays.copyOf(result, size));
+    }
+
+    /**
+     * @return a copy of the bounds, in the form left0, right0, left1, right1...
+     */
+    public int[] toArray() {
+        return bounds.clone();
+    }
+
+    /**
+     * @return an unmodifiable view of the bounds, in the form 
+     * left0, right0, left1, right1... This is what the templates 
+     * work with.
+     */
+    public List<Integer> asList() {
+        if (listView == null) {
+            listView = new BoundsList();
+        }
+        return listView;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj == this || (obj instanceof IntervalSet && Arrays.equals(bounds, ((IntervalSet) obj).bounds));
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(bounds);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder buf = new StringBuilder("[");
+        for (int i = 0; i < bounds.length; i += 2) {
+            if (i > 0) buf.append(", ");
+            buf.append(bounds[i]);
+            if (bounds[i + 1] != bounds[i]) buf.append('-').append(bounds[i + 1]);
+        }
+        return buf.append(']').toString();
+    }
+
+    private class BoundsList extends AbstractList<Integer> implements RandomAccess {
+        public Integer get(int index) {
+            return bounds[index];
+        }
+
+        public int size() {
+            return bounds.length;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/* Copyright (c) 2022 Jonathan Revusky, revusky@congocc.org
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notices,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name Jonathan Revusky nor the names of any contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.javacc.core.nfa;
+
+import java.util.*;
+
+import com.javacc.core.RegularExpression;
+
+/**
+ * A minimal perfect hash over the string literals of a lexical state
+ * that are left out of the NFA when the HASHED_KEYWORDS option is set,
+ * because some other token type (typically an identifier) matches them 
+ * anyway. The generated lexer uses it to reclassify the text matched 
+ * by that other type. This is the simple hash and displace scheme:
+ * the keys are hashed into n buckets and then, for each bucket, a seed
+ * is found that sends all of its keys to free slots of a table of size n.
+ * (A bucket with a single key just gets the slot, stored as -slot-1.)
+ * The hash function must be the same as in the generated KeywordTable.
+ */
+public class KeywordHash {
+
+    // Give up on finding a seed for a bucket after this many tries.
+    private static final int MAX_SEED = 1 << 20;
+
+    private final String[] keywords;
+    private final RegularExpression[] types;
+    private final int[] seeds;
+
+    private KeywordHash(int size) {
+        keywords = new String[size];
+        types = new RegularExpression[size];
+        seeds = new int[size];
+    }
+
+    /**
+     * @return the keywords in the order of their slots in the table
+     */
+    public String[] getKeywords() {return keywords;}
+
+    /**
+     * @return the token type of the keyword in each slot
+     */
+    public RegularExpression[] getTypes() {return types;}
+
+    /**
+     * @return the seed for each bucket
+     */
+    public int[] getSeeds() {return seeds;}
+
+    public int getMaxLength() {
+        int result = 0;
+        for (String keyword : keywords) result = Math.max(result, keyword.length());
+        return result;
+    }
+
+    static int hash(String key, int seed) {
+        int h = seed == 0 ? 0x01000193 : seed;
+        for (int i = 0; i < key.length(); i++) {
+            h = (h * 0x01000193) ^ key.charAt(i);
+        }
+        return h & 0x7FFFFFFF;
+    }
+
+    /**
+     * @param literals the string literals to put in the table
+     * @return the table, or null if there are no literals or
+     * (very unlikely) no seed could be found for some bucket
+     */
+    static KeywordHash build(List<RegularExpression> literals) {
+        int size = literals.size();
+        if (size == 0) return null;
+        KeywordHash result = new KeywordHash(size);
+        List<List<RegularExpression>> buckets = new ArrayList<>();
+        for (int i = 0; i < size; i++) buckets.add(new ArrayList<>());
+        for (RegularExpression literal : literals) {
+            buckets.get(hash(literal.getImage(), 0) % size).add(literal);
+        }
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < size; i++) order.add(i);
+        order.sort((b1, b2) -> buckets.get(b2).size() - buckets.get(b1).size());
+        int freeSlot = 0;
+        for (int b : order) {
+            List<RegularExpression> bucket = buckets.get(b);
+            if (bucket.isEmpty()) break;
+            if (bucket.size() == 1) {
+                while (result.keywords[freeSlot] != null) freeSlot++;
+                result.put(bucket.get(0), freeSlot);
+                result.seeds[b] = -freeSlot - 1;
+                continue;
+            }
+            int seed = 1;
+            int[] slots = new int[bucket.size()];
+            while (!result.findSlots(bucket, seed, slots)) {
+                if (++seed == MAX_SEED) return null;
+            }
+            for (int i = 0; i < slots.length; i++) {
+                result.put(bucket.get(i), slots[i]);
+            }
+            result.seeds[b] = seed;
+        }
+        return result;
+    }
+
+    private boolean findSlots(List<RegularExpression> bucket, int seed, int[] slots) {
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = hash(bucket.get(i).getImage(), seed) % keywords.length;
+            if (keywords[slots[i]] != null) return false;
+            for (int j = 0; j < i; j++) {
+                if (slots[j] == slots[i]) return false;
+            }
+        }
+        return true;
+    }
+
+    private void put(RegularExpression literal, int slot) {
+        keywords[slot] = literal.getImage();
+        types[slot] = literal;
+    }
+}
@@ -34,6 +34,7 @@ import com.javacc.Grammar;
 import com.javacc.core.RegularExpression;
 import com.javacc.parser.tree.RegexpSpec;
 import com.javacc.parser.tree.RegexpStringLiteral;
+import com.javacc.parser.tree.TokenActivation;
 import com.javacc.parser.tree.TokenProduction;
 
 public class LexicalStateData {
@@ -45,7 +46,7 @@ public class LexicalStateData {
 
     private List<CompositeStateSet> compositeSets;
     private List<NfaState> simpleStates = new ArrayList<>();
-    private Map<Set<NfaState>, CompositeStateSet> canonicalSetLookup = new HashMap<>();
+    private Map<BitSet, CompositeStateSet> canonicalSetLookup = new HashMap<>();
 
     private Map<String, RegularExpression> caseSensitiveTokenTable = new HashMap<>();
     private Map<String, RegularExpression> caseInsensitiveTokenTable = new HashMap<>();
@@ -54,7 +55,20 @@ public class LexicalStateData {
 
     private NfaState initialState;
 
-    private Set<NfaState> allStates = new HashSet<>();
+    // All the states, indexed by NfaState.id
+    private List<NfaState> allStates = new ArrayList<>();
+
+    // The data for the deterministic automaton, only built if DFA_LEXER is set.
+    private List<DfaState> dfaStates;
+    private int[] charClassIntervalStarts, charClassIntervalClasses;
+    private int charClassCount;
+
+    // Only built if ASCII_TABLE_LEXER is set.
+    private AsciiMoveTable asciiMoveTable;
+
+    // Only used if HASHED_KEYWORDS is set.
+    private Map<RegularExpression, NfaState> startStates = new HashMap<>();
+    private KeywordHash keywordHash;
     
     public LexicalStateData(Grammar grammar, String name) {
         this.grammar = grammar;
@@ -68,12 +82,173 @@ public class LexicalStateData {
 
     public String getName() {return name;}
 
+    /**
+     * @return the precomputed moves on ASCII characters, or null 
+     * unless the ASCII_TABLE_LEXER option is set.
+     */
+    public AsciiMoveTable getAsciiMoveTable() {
+        return asciiMoveTable;
+    }
+
+    /**
+     * @return the hash table of the string literals that were 
+     * left out of the NFA, or null if there are none. This is 
+     * always null unless the HASHED_KEYWORDS option is set.
+     */
+    public KeywordHash getKeywordHash() {
+        return keywordHash;
+    }
+
+    /**
+     * @return the states of the DFA, the initial state being the first one
+     * and the live states (the ones with outgoing transitions) coming
+     * before the others. This is null unless the DFA_LEXER option is set.
+     */
+    public List<DfaState> getDfaStates() {
+        return dfaStates;
+    }
+
+    /**
+     * @return the number of DfaStates that have outgoing transitions.
+     */
+    public int getLiveDfaStateCount() {
+        int result = 0;
+        for (DfaState state : dfaStates) {
+            if (state.isLive()) result++;
+        }
+        return result;
+    }
+
+    /**
+     * @return the number of character classes, i.e. the number of 
+     * columns in the DFA transition table.
+     */
+    public int getCharClassCount() {
+        return charClassCount;
+    }
+
+    /**
+     * @return the character class of each ASCII character
+     */
+    public int[] getAsciiCharClasses() {
+        int[] result = new int[128];
+        for (int i = 0; i < charClassIntervalStarts.length && charClassIntervalStarts[i] < 128; i++) {
+            int end = i+1 < charClassIntervalStarts.length ? Math.min(128, charClassIntervalStarts[i+1]) : 128;
+            Arrays.fill(result, charClassIntervalStarts[i], end, charClassIntervalClasses[i]);
+        }
+        return result;
+    }
+
+    /**
+     * @return the starting code points of the intervals (at or above 128)
+     * that make up the character classes. 
+     */
+    public int[] getCharClassIntervalStarts() {
+        return Arrays.copyOfRange(charClassIntervalStarts, firstNonAsciiInterval(), charClassIntervalStarts.length);
+    }
+
+    /**
+     * @return the character class of the corresponding interval 
+     * returned by #getCharClassIntervalStarts()
+     */
+    public int[] getCharClassIntervalClasses() {
+        return Arrays.copyOfRange(charClassIntervalClasses, firstNonAsciiInterval(), charClassIntervalClasses.length);
+    }
+
+    /**
+     * @return the transition table of the live DFA states, one row
+     * of #getCharClassCount() entries per state, packed into strings
+     * by #packIntArray(int[])
+     */
+    public List<String> getPackedDfaTransitions() {
+        int liveStates = getLiveDfaStateCount();
+        int[] table = new int[liveStates * charClassCount];
+        for (int i = 0; i < liveStates; i++) {
+            System.arraycopy(dfaStates.get(i).getTransitions(), 0, table, i * charClassCount, charClassCount);
+        }
+        return packIntArray(table);
+    }
+
+    public List<String> getPackedCharClassIntervalStarts() {
+        return packIntArray(getCharClassIntervalStarts());
+    }
+
+    public List<String> getPackedCharClassIntervalClasses() {
+        return packIntArray(getCharClassIntervalClasses());
+    }
+
+    /**
+     * The DFA tables are too big to be generated as array initializers
+     * (we would run into the 64K limit on the size of a method)
+     * so we pack them into string literals that are unpacked
+     * when the generated NFA data class is loaded. The array is
+     * run-length encoded as (count, value+1) pairs. Each number is
+     * written out as a fixed number of base 64 digits, the digits being
+     * the characters '0' through 'o'. The very first character
+     * is the number of digits used.
+     */
+    static List<String> packIntArray(int[] values) {
+        int max = 1;
+        for (int value : values) max = Math.max(max, value + 1);
+        int width = 1;
+        while (1L << (6 * width) <= max) width++;
+        int maxRun = (int) Math.min(Integer.MAX_VALUE, (1L << (6 * width)) - 1);
+        StringBuilder buf = new StringBuilder();
+        buf.append((char) ('0' + width));
+        for (int i = 0; i < values.length;) {
+            int run = 1;
+            while (i + run < values.length && values[i + run] == values[i] && run < maxRun) run++;
+            appendDigits(buf, run, width);
+            appendDigits(buf, values[i] + 1, width);
+            i += run;
+        }
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < buf.length(); i += 64) {
+            result.add(buf.substring(i, Math.min(buf.length(), i + 64)));
+        }
+        return result;
+    }
+
+    private static void appendDigits(StringBuilder buf, int value, int width) {
+        for (int i = width - 1; i >= 0; i--) {
+            buf.append((char) ('0' + ((value >> (6 * i)) & 63)));
+        }
+    }
+
+    private int firstNonAsciiInterval() {
+        int result = 0;
+        while (charClassIntervalStarts[result] < 128) result++;
+        return result;
+    }
+
+    void setDfaData(List<DfaState> dfaStates, int[] intervalStarts, int[] intervalClasses, int charClassCount) {
+        this.dfaStates = dfaStates;
+        this.charClassIntervalStarts = intervalStarts;
+        this.charClassIntervalClasses = intervalClasses;
+        this.charClassCount = charClassCount;
+    }
+
     public List<NfaState> getAllNfaStates() {
         return simpleStates;
     }
 
-    void addState(NfaState state) {
+    /**
+     * @return the NfaStates that make up the (used) composite state sets
+     */
+    List<NfaState> getUsedNfaStates() {
+        Set<NfaState> result = new LinkedHashSet<>();
+        for (CompositeStateSet composite : compositeSets) {
+            result.addAll(composite.getStates());
+        }
+        return new ArrayList<>(result);
+    }
+
+    /**
+     * @return the id of the newly added state
+     */
+    int addState(NfaState state) {
         allStates.add(state);
+        return allStates.size() - 1;
     }
 
     NfaState getInitialState() {return initialState;}
@@ -102,11 +277,18 @@ public class LexicalStateData {
         return result;
     }
 
-    CompositeStateSet getCanonicalComposite(Set<NfaState> stateSet) {
-        CompositeStateSet result = canonicalSetLookup.get(stateSet);
+    /**
+     * @param stateIds the ids of the states in the set
+     */
+    private CompositeStateSet getCanonicalComposite(BitSet stateIds) {
+        CompositeStateSet result = canonicalSetLookup.get(stateIds);
         if (result == null) {
+            Set<NfaState> stateSet = new LinkedHashSet<>();
+            for (int id = stateIds.nextSetBit(0); id >= 0; id = stateIds.nextSetBit(id + 1)) {
+                stateSet.add(allStates.get(id));
+            }
             result = new CompositeStateSet(stateSet, this);
-            canonicalSetLookup.put(stateSet, result);
+            canonicalSetLookup.put(stateIds, result);
         }
         return result;
     }
@@ -118,35 +300,222 @@ public class LexicalStateData {
         if (regularExpressions.isEmpty()) {
             grammar.addWarning("Warning: Lexical State " + getName() + " does not contain any token types!");
         }
+        if (grammar.getHashedKeywords()) {
+            hashKeywords();
+        }
         generateData();
     }
 
-    private void generateData() {
-        Set<NfaState> alreadyVisited = new HashSet<>();
-        for (NfaState state: allStates) {
-            state.doEpsilonClosure(alreadyVisited);
+    /**
+     * Take the (case-sensitive) string literals that some other token type
+     * also matches out of the NFA and put them in a KeywordHash instead.
+     * That other type must not be one that can be deactivated, since the
+     * literal can then only be matched by reclassifying it.
+     */
+    private void hashKeywords() {
+        Set<String> deactivatable = new HashSet<>(grammar.getDeactivatedTokens());
+        for (TokenActivation activation : grammar.descendants(TokenActivation.class)) {
+            deactivatable.addAll(activation.getDeactivatedTokens());
         }
+        List<RegularExpression> keywords = new ArrayList<>();
+        for (RegularExpression literal : caseSensitiveTokenTable.values()) {
+            if (!startStates.containsKey(literal)) continue;
+            for (RegularExpression type : typesMatching(literal.getImage())) {
+                if (type != literal && !deactivatable.contains(type.getLabel())) {
+                    keywords.add(literal);
+                    break;
+                }
+            }
+        }
+        keywords.sort(Comparator.comparingInt(RegularExpression::getOrdinal));
+        keywordHash = KeywordHash.build(keywords);
+        if (keywordHash != null) {
+            for (RegularExpression keyword : keywords) {
+                initialState.getEpsilonMoves().remove(startStates.get(keyword));
+            }
+            grammar.addInfo("Lexical state " + name + ": " + keywords.size() 
+                            + " string literals hashed rather than matched by the NFA.");
+        }
+    }
+
+    /**
+     * Run the NFA, as it is before the epsilon closure is done,
+     * on the given string.
+     * @return the token types that match the whole string
+     */
+    private Set<RegularExpression> typesMatching(String image) {
+        Set<NfaState> states = epsilonClosure(Collections.singleton(initialState));
+        for (int ch : image.codePoints().toArray()) {
+            Set<NfaState> nextStates = new HashSet<>();
+            for (NfaState state : states) {
+                if (state.getNextState() != null && state.getMoveIntervals().contains(ch)) {
+                    nextStates.add(state.getNextState());
+                }
+            }
+            states = epsilonClosure(nextStates);
+        }
+        Set<RegularExpression> result = new HashSet<>();
+        for (NfaState state : states) {
+            if (state.getType() != null) result.add(state.getType());
+        }
+        return result;
+    }
+
+    private static Set<NfaState> epsilonClosure(Set<NfaState> states) {
+        Set<NfaState> result = new HashSet<>(states);
+        Deque<NfaState> toVisit = new ArrayDeque<>(states);
+        while (!toVisit.isEmpty()) {
+            for (NfaState state : toVisit.pop().getEpsilonMoves()) {
+                if (result.add(state)) toVisit.push(state);
+            }
+        }
+        return result;
+    }
+
+    private void generateData() {
+        long startTime = System.nanoTime();
+        doEpsilonClosure();
         // Get rid of dummy states.
-        allStates.removeIf(state->!state.isMoveCodeNeeded());
         for (NfaState state : allStates) {
-            state.setMovesArrayName(simpleStates.size());
-            simpleStates.add(state);
+            if (state.isMoveCodeNeeded()) {
+                state.setMovesArrayName(simpleStates.size());
+                simpleStates.add(state);
+            }
         }
-        Set<CompositeStateSet> allComposites = new HashSet<>();
-        CompositeStateSet initialComposite = initialState.getComposite();
-        initialComposite.findWhatIsUsed(new HashSet<>(), allComposites);
-        this.compositeSets = new ArrayList<>(allComposites);
-        // Make sure the initial state is the first in the list.
-        int indexInList = compositeSets.indexOf(initialComposite);
-        if (indexInList == -1) {
-            compositeSets.clear();
-            compositeSets.add(initialComposite);
-        }
-        else Collections.swap(compositeSets, indexInList, 0);
+        findUsedComposites();
+        long elapsed = (System.nanoTime() - startTime) / 1000000L;
+        grammar.addInfo("Lexical state " + name + ": epsilon closure of " + allStates.size() 
+                        + " NFA states and discovery of " + compositeSets.size() 
+                        + " composite states took " + elapsed + " ms.");
         // Set the index on the various composites
         for (int i =0; i< compositeSets.size();i++) {
             compositeSets.get(i).setIndex(i);
         }
+        int unminimizedCount = compositeSets.size();
+        startTime = System.nanoTime();
+        this.compositeSets = new CompositeStateMinimizer(this).minimize();
+        elapsed = (System.nanoTime() - startTime) / 1000000L;
+        grammar.addInfo("Lexical state " + name + ": " + unminimizedCount 
+                        + " NFA composite states minimized to " + compositeSets.size() 
+                        + " in " + elapsed + " ms.");
+        // The NfaStates that only occurred in composites that were merged away
+        // don't need any code generated for them.
+        simpleStates.retainAll(new HashSet<>(getUsedNfaStates()));
+        if (grammar.getDfaLexer()) {
+            new DfaBuilder(this).build();
+        }
+        if (grammar.getAsciiTableLexer()) {
+            asciiMoveTable = new AsciiMoveTable(this);
+        }
+    }
+
+    /**
+     * Replace the epsilon moves of each state with its epsilon closure,
+     * leaving out the states that have no moves of their own, and 
+     * set the composite that each state moves to.
+     * The closures are computed on the strongly connected components of 
+     * the graph of epsilon moves, which (an iterative version of) Tarjan's 
+     * algorithm completes in reverse topological order. So, the 
+     * closure of each component is just its own states plus the closures 
+     * of the components that it has epsilon moves to, which have all been
+     * computed already. All the states in a component share the same closure.
+     */
+    private void doEpsilonClosure() {
+        int stateCount = allStates.size();
+        int[][] successors = new int[stateCount][];
+        for (NfaState state : allStates) {
+            int[] ids = new int[state.getEpsilonMoves().size()];
+            int i = 0;
+            for (NfaState next : state.getEpsilonMoves()) ids[i++] = next.id;
+            successors[state.id] = ids;
+        }
+        int[] order = new int[stateCount], lowLink = new int[stateCount], nextEdge = new int[stateCount];
+        int[] component = new int[stateCount];
+        Arrays.fill(order, -1);
+        Arrays.fill(component, -1);
+        int[] callStack = new int[stateCount], componentStack = new int[stateCount];
+        int counter = 0, componentStackSize = 0;
+        List<BitSet> closures = new ArrayList<>();
+        List<RegularExpression> closureTypes = new ArrayList<>();
+        for (int root = 0; root < stateCount; root++) {
+            if (order[root] >= 0) continue;
+            int depth = 0;
+            callStack[depth++] = root;
+            order[root] = lowLink[root] = counter++;
+            componentStack[componentStackSize++] = root;
+            while (depth > 0) {
+                int id = callStack[depth - 1];
+                if (nextEdge[id] < successors[id].length) {
+                    int next = successors[id][nextEdge[id]++];
+                    if (order[next] < 0) {
+                        order[next] = lowLink[next] = counter++;
+                        componentStack[componentStackSize++] = next;
+                        callStack[depth++] = next;
+                    } else if (component[next] < 0) {
+                        // next is still on the component stack
+                        lowLink[id] = Math.min(lowLink[id], order[next]);
+                    }
+                    continue;
+                }
+                depth--;
+                if (depth > 0) {
+                    int caller = callStack[depth - 1];
+                    lowLink[caller] = Math.min(lowLink[caller], lowLink[id]);
+                }
+                if (lowLink[id] != order[id]) continue;
+                // id is the root of a component, which consists of 
+                // the states above it on the component stack.
+                int componentIndex = closures.size();
+                int top = componentStackSize;
+                do {
+                    component[componentStack[--componentStackSize]] = componentIndex;
+                } while (componentStack[componentStackSize] != id);
+                BitSet closure = new BitSet();
+                RegularExpression closureType = null;
+                for (int i = componentStackSize; i < top; i++) {
+                    NfaState state = allStates.get(componentStack[i]);
+                    if (!state.getMoveIntervals().isEmpty()) closure.set(state.id);
+                    if (closureType == null) closureType = state.getType();
+                }
+                for (int i = componentStackSize; i < top; i++) {
+                    for (int next : successors[componentStack[i]]) {
+                        int nextComponent = component[next];
+                        if (nextComponent == componentIndex) continue;
+                        closure.or(closures.get(nextComponent));
+                        if (closureType == null) closureType = closureTypes.get(nextComponent);
+                    }
+                }
+                closures.add(closure);
+                closureTypes.add(closureType);
+            }
+        }
+        for (NfaState state : allStates) {
+            int componentIndex = component[state.id];
+            CompositeStateSet composite = getCanonicalComposite(closures.get(componentIndex));
+            state.setEpsilonClosure(Collections.unmodifiableSet(composite.getStates()), closureTypes.get(componentIndex));
+            state.setComposite(composite);
+        }
+    }
+
+    /**
+     * Find the (non-empty) composites that can be reached from the initial one.
+     * The initial composite always comes first in the list.
+     */
+    private void findUsedComposites() {
+        CompositeStateSet initialComposite = initialState.getComposite();
+        Set<CompositeStateSet> usedComposites = new LinkedHashSet<>();
+        usedComposites.add(initialComposite);
+        Deque<CompositeStateSet> toVisit = new ArrayDeque<>();
+        if (!initialComposite.getStates().isEmpty()) toVisit.add(initialComposite);
+        while (!toVisit.isEmpty()) {
+            for (NfaState state : toVisit.pop().getStates()) {
+                CompositeStateSet next = state.getNextState().getComposite();
+                if (!next.getStates().isEmpty() && usedComposites.add(next)) {
+                    toVisit.push(next);
+                }
+            }
+        }
+        this.compositeSets = new ArrayList<>(usedComposites);
     }
 
     private void processTokenProduction(TokenProduction tp) {
@@ -157,7 +526,10 @@ public class LexicalStateData {
                 continue;
             }
             regularExpressions.add(currentRegexp);
-            new NfaBuilder(this, ignore).buildStates(currentRegexp);
+            NfaState start = new NfaBuilder(this, ignore).buildStates(currentRegexp);
+            if (currentRegexp instanceof RegexpStringLiteral && !ignore) {
+                startStates.put(currentRegexp, start);
+            }
             if (regexpSpec.getNextLexicalState() != null && !regexpSpec.getNextLexicalState().equals(this.name)) {
                 currentRegexp.setNewLexicalState(grammar.getLexerData().getLexicalState(regexpSpec.getNextLexicalState()));
             }
@@ -29,7 +29,6 @@
 package com.javacc.core.nfa;
 
 import java.util.ArrayList;
-import java.util.BitSet;
 import java.util.List;
 
 import com.javacc.Grammar;
@@ -68,20 +67,19 @@ class NfaBuilder extends Node.Visitor {
      * of the regexp passed in. The start state is
      * then added as an "epsilon move" to the lexical state's
      * initial state.
+     * @return the start state
      */
-    void buildStates(RegularExpression regularExpression) {
+    NfaState buildStates(RegularExpression regularExpression) {
         visit(regularExpression);
         end.setType(regularExpression);
         lexicalState.getInitialState().addEpsilonMove(start);
+        return start;
     }
 
     void visit(CharacterList charList) {
-        List<CharacterRange> ranges = orderedRanges(charList, ignoreCase);
         start = new NfaState(lexicalState);
         end = new NfaState(lexicalState);
-        for (CharacterRange cr : ranges) {
-            start.addRange(cr.getLeft(), cr.getRight());
-        }
+        start.setMoveRanges(orderedRanges(charList, ignoreCase));
         start.setNextState(end);
     }
 
@@ -194,58 +192,50 @@ class NfaBuilder extends Node.Visitor {
         visit(new RegexpSequence(grammar, units));
     }
 
-    static private List<CharacterRange> orderedRanges(CharacterList charList, boolean caseNeutral) {
-        BitSet bs = rangeListToBS(charList.getDescriptors());
+    static private IntervalSet orderedRanges(CharacterList charList, boolean caseNeutral) {
+        List<CharacterRange> descriptors = charList.getDescriptors();
+        int[] pairs = new int[2 * descriptors.size()];
+        for (int i = 0; i < descriptors.size(); i++) {
+            pairs[2 * i] = descriptors.get(i).getLeft();
+            pairs[2 * i + 1] = descriptors.get(i).getRight();
+        }
+        IntervalSet result = IntervalSet.of(pairs);
         if (caseNeutral) {
-            BitSet upperCaseDiffPoints = (BitSet) bs.clone();
-            BitSet lowerCaseDiffPoints = (BitSet) bs.clone();
-            upperCaseDiffPoints.and(upperCaseDiffSet);
-            lowerCaseDiffPoints.and(lowerCaseDiffSet);
-            upperCaseDiffPoints.stream().forEach(ch -> bs.set(Character.toUpperCase(ch)));
-            lowerCaseDiffPoints.stream().forEach(ch -> bs.set(Character.toLowerCase(ch)));
+            IntervalSet upperCaseVariants = caseVariants(result.intersection(upperCaseDiffSet), true);
+            IntervalSet lowerCaseVariants = caseVariants(result.intersection(lowerCaseDiffSet), false);
+            result = result.union(upperCaseVariants).union(lowerCaseVariants);
         }
         if (charList.isNegated()) {
-            bs.flip(0, 0x110000);
+            result = result.complement();
         }
-        return bsToRangeList(bs);
+        return result;
     }
 
-    // BitSet that holds which characters are not the same in lower case
-    static private BitSet lowerCaseDiffSet = caseDiffSetInit(false);
-    // BitSet that holds which characters are not the same in upper case
-    static private BitSet upperCaseDiffSet = caseDiffSetInit(true);
+    // IntervalSet that holds which characters are not the same in lower case
+    static private final IntervalSet lowerCaseDiffSet = caseDiffSetInit(false);
+    // IntervalSet that holds which characters are not the same in upper case
+    static private final IntervalSet upperCaseDiffSet = caseDiffSetInit(true);
 
-    static private BitSet caseDiffSetInit(boolean upper) {
-        BitSet result = new BitSet();
+    static private IntervalSet caseDiffSetInit(boolean upper) {
+        List<Integer> diffPoints = new ArrayList<>();
         for (int ch = 0; ch <= 0x16e7f; ch++) {
             int converted = upper ? Character.toUpperCase(ch) : Character.toLowerCase(ch);
             if (converted != ch) {
-                result.set(ch);
+                diffPoints.add(ch);
             }
         }
-        return result;
-    }
-
-    // Convert a list of CharacterRange's to a BitSet
-    static private BitSet rangeListToBS(List<CharacterRange> ranges) {
-        BitSet result = new BitSet();
-        for (CharacterRange range : ranges) {
-            result.set(range.getLeft(), range.getRight()+1);
-        }
-        return result;
+        return IntervalSet.ofCodePoints(diffPoints.stream().mapToInt(Integer::intValue).toArray());
     }
 
-    //Convert a BitSet to a list of CharacterRange's
-    static private List<CharacterRange> bsToRangeList(BitSet bs) {
-        List<CharacterRange> result = new ArrayList<>();
-        if (bs.isEmpty()) return result;
-        int curPos = 0;
-        while (curPos >=0) {
-            int left = bs.nextSetBit(curPos);
-            int right = bs.nextClearBit(left) -1;
-            result.add(new CharacterRange(left, right));
-            curPos = bs.nextSetBit(right+1);
+    // The upper (or lower) case forms of all the characters in the set
+    static private IntervalSet caseVariants(IntervalSet chars, boolean upper) {
+        if (chars.isEmpty()) return chars;
+        List<Integer> variants = new ArrayList<>();
+        for (int i = 0; i < chars.intervalCount(); i++) {
+            for (int ch = chars.getLeft(i); ch <= chars.getRight(i); ch++) {
+                variants.add(upper ? Character.toUpperCase(ch) : Character.toLowerCase(ch));
+            }
         }
-        return result;
+        return IntervalSet.ofCodePoints(variants.stream().mapToInt(Integer::intValue).toArray());
     }
 }
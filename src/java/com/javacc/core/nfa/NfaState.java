@@ -39,21 +39,24 @@ import com.javacc.core.RegularExpression;
 public class NfaState {  
 
     final LexicalStateData lexicalState;
+    // The index of this state in its lexical state's list of states
+    final int id;
     private RegularExpression type;
     private NfaState nextState;
     private Set<NfaState> epsilonMoves = new HashSet<>();
     private String movesArrayName;
+    private CompositeStateSet composite;
 
-    // An ordered list of the ranges of characters that this 
-    // NfaState "accepts". A single character is stored as a 
-    // range in which the left side is the same as the right side.
-    // Thus, for example, the (ASCII) characters that can start an identifier would be:
+    // The ranges of characters that this NfaState "accepts". 
+    // A single character is stored as a range in which the left side 
+    // is the same as the right side. Thus, for example, the (ASCII) 
+    // characters that can start an identifier would be:
     // '$','$','A','Z','_','_',a','z'
-    private List<Integer> moveRanges = new ArrayList<>();
+    private IntervalSet moveRanges = IntervalSet.EMPTY;
 
     NfaState(LexicalStateData lexicalState) {
         this.lexicalState = lexicalState;
-        lexicalState.addState(this);
+        this.id = lexicalState.addState(this);
     }
 
     void setMovesArrayName(int index) {
@@ -68,32 +71,38 @@ public class NfaState {
         return movesArrayName;
     }
 
-    public List<Integer> getMoveRanges() { return moveRanges; }
+    /**
+     * @return the move ranges as a flat list of the form 
+     * left0, right0, left1, right1... (This is what the templates use.)
+     */
+    public List<Integer> getMoveRanges() { return moveRanges.asList(); }
+
+    public IntervalSet getMoveIntervals() { return moveRanges; }
 
     public List<Integer> getAsciiMoveRanges() {
-        List<Integer> result = new ArrayList<>();
-        for (int i = 0; i<moveRanges.size(); i+=2) {
-            int left = moveRanges.get(i);
-            int right = moveRanges.get(i+1);
-            if (left >= 128) break;
-            result.add(left);
-            result.add(right);
-            if (right >=128) break;
-        }
-        return result;
+        return moveRanges.asList().subList(0, 2 * asciiIntervalCount());
     }
 
     public List<Integer> getNonAsciiMoveRanges() {
-        return moveRanges.subList(getAsciiMoveRanges().size(), moveRanges.size());
+        List<Integer> ranges = moveRanges.asList();
+        return ranges.subList(2 * asciiIntervalCount(), ranges.size());
+    }
+
+    // The number of intervals that start in the ASCII range
+    private int asciiIntervalCount() {
+        int count = 0;
+        while (count < moveRanges.intervalCount() && moveRanges.getLeft(count) < 128) {
+            if (moveRanges.getRight(count++) >= 128) break;
+        }
+        return count;
     }
 
     public boolean getHasAsciiMoves() {
-        return moveRanges.get(0) < 128;
+        return moveRanges.getLeft(0) < 128;
     }
 
     public boolean getHasNonAsciiMoves() {
-        return moveRanges.get(moveRanges.size()-1) >= 128;
-
+        return moveRanges.getRight(moveRanges.intervalCount()-1) >= 128;
     }
 
     public RegularExpression getType() {return type;}
@@ -117,7 +126,11 @@ public class NfaState {
      * part of.
      */
     public CompositeStateSet getComposite() {
-        return lexicalState.getCanonicalComposite(epsilonMoves);
+        return composite;
+    }
+
+    void setComposite(CompositeStateSet composite) {
+        this.composite = composite;
     }
 
     boolean isMoveCodeNeeded() {
@@ -133,43 +146,27 @@ public class NfaState {
         epsilonMoves.add(newState);
     }
 
-    void addRange(int left, int right) {
-        moveRanges.add(left);
-        moveRanges.add(right);
+    void setMoveRanges(IntervalSet moveRanges) {
+        this.moveRanges = moveRanges;
     }
 
     void setCharMove(int c, boolean ignoreCase) {
-        moveRanges.clear();
         if (!ignoreCase) {
-            addRange(c, c);
-        } else {//REVISIT, kinda messy
-            int upper = Character.toUpperCase(c);
-            int lower = Character.toLowerCase(c);
-            addRange(upper, upper);
-            if (upper != lower)
-                addRange(lower, lower);
-            if (c != upper && c!= lower)
-                addRange(c, c);
-            if (moveRanges.size() >2)
-                Collections.sort(moveRanges);
+            moveRanges = IntervalSet.of(c, c);
+        } else {
+            moveRanges = IntervalSet.ofCodePoints(c, Character.toUpperCase(c), Character.toLowerCase(c));
         }
     }
 
-    void doEpsilonClosure(Set<NfaState> alreadyVisited) {
-        if (alreadyVisited.contains(this)) return;
-        alreadyVisited.add(this);
-        // Recursively do closure
-        for (NfaState state : new ArrayList<>(epsilonMoves)) {
-            state.doEpsilonClosure(alreadyVisited);
-            assert type == null || state.type == null || type == state.type;
-            if (type == null) type = state.type;
-            for (NfaState otherState : state.epsilonMoves) {
-                addEpsilonMove(otherState);
-                otherState.doEpsilonClosure(alreadyVisited);
-            }
-        }
-        addEpsilonMove(this);
-        epsilonMoves.removeIf(state->state.moveRanges.isEmpty());
+    /**
+     * Replaces the epsilon moves of this state with its epsilon closure.
+     * @param closure the states reachable by epsilon moves that have
+     * moves of their own (possibly including this one)
+     * @param closureType the type matched by some state in the closure
+     */
+    void setEpsilonClosure(Set<NfaState> closure, RegularExpression closureType) {
+        if (type == null) type = closureType;
+        epsilonMoves = closure;
     }
 
     public boolean overlaps(Collection<NfaState> states) {
@@ -177,22 +174,6 @@ public class NfaState {
     }
 
     private boolean overlaps(NfaState other) {
-        return this == other || intersect(this.moveRanges, other.moveRanges);
-    }
-
-    static private BitSet moveRangesToBS(List<Integer> ranges) {
-        BitSet result = new BitSet();
-        for (int i=0; i< ranges.size(); i+=2) {
-            int left = ranges.get(i);
-            int right = ranges.get(i+1);
-            result.set(left, right+1);
-        }
-        return result;
-    }
-
-    static private boolean intersect(List<Integer> moves1, List<Integer> moves2) {
-        BitSet bs1 = moveRangesToBS(moves1);
-        BitSet bs2 = moveRangesToBS(moves2);
-        return bs1.intersects(bs2);
+        return this == other || this.moveRanges.intersects(other.moveRanges);
     }
-}
+}
\ No newline at end of file
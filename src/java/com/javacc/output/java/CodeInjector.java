@@ -100,6 +100,9 @@ public class CodeInjector {
              && !classname.equals("ParseException")
              && !classname.equals("Token")
              && !classname.equals("InvalidToken")
+             && !classname.equals("LineMap")
+             && !classname.equals("CompactTree")
+             && !classname.equals("ParserPool")
              && !classname.equals("Node");
     }
     
@@ -127,7 +130,7 @@ public class CodeInjector {
                 interfaces.add(name);
             }
             if (!importDecls.isEmpty()) {
-                Set<ImportDeclaration> injectedImports = injectedImportsMap.computeIfAbsent(name, k -> new HashSet<>());
+                Set<ImportDeclaration> injectedImports = injectedImportsMap.computeIfAbsent(name, k -> new LinkedHashSet<>());
                 injectedImports.addAll(importDecls);
             }
             List<ObjectType> extendsList = dec.getExtendsList() == null ? new ArrayList<>() : dec.getExtendsList().getTypes();
@@ -208,11 +211,11 @@ public class CodeInjector {
             name = packageName + "." + name;
         }
         if (importDeclarations !=null && !importDeclarations.isEmpty()) {
-            Set<ImportDeclaration> existingImports = injectedImportsMap.computeIfAbsent(name, k -> new HashSet<>());
+            Set<ImportDeclaration> existingImports = injectedImportsMap.computeIfAbsent(name, k -> new LinkedHashSet<>());
             existingImports.addAll(importDeclarations);
         }
         if (annotations != null && !annotations.isEmpty()) {
-            Set<Annotation> existingAnnotations = injectedAnnotationsMap.computeIfAbsent(name, k -> new HashSet<>());
+            Set<Annotation> existingAnnotations = injectedAnnotationsMap.computeIfAbsent(name, k -> new LinkedHashSet<>());
             existingAnnotations.addAll(annotations);
         }
         if (extendsList != null) {
@@ -229,7 +232,7 @@ public class CodeInjector {
 
     void injectCode(CompilationUnit jcu) {
         String packageName = jcu.getPackageName();
-        Set<ImportDeclaration> allInjectedImports = new HashSet<>();
+        Set<ImportDeclaration> allInjectedImports = new LinkedHashSet<>();
         for (TypeDeclaration typeDecl : jcu.getTypeDeclarations()) {
             String fullName = typeDecl.getName();
             if (packageName !=null) {
@@ -32,15 +32,23 @@ package com.javacc.output.java;
 import java.io.IOException;
 import java.io.Writer;
 import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.javacc.Grammar;
 import com.javacc.core.RegularExpression;
 import com.javacc.parser.*;
 import com.javacc.parser.tree.CompilationUnit;
+import com.javacc.parser.tree.TypeDeclaration;
 
 import freemarker.template.*;
 import freemarker.cache.*;
@@ -54,6 +62,14 @@ public class FilesGenerator {
     private final Set<String> tokenSubclassFileNames = new HashSet<>();
     private final HashMap<String, String> superClassLookup = new HashMap<>();
     private final String codeLang;
+    // The templates are processed by these worker threads but the files are
+    // finished and written out in the order that they were requested.
+    private ExecutorService executor;
+    private final List<Path> pendingFiles = new ArrayList<>();
+    private final List<Future<GeneratedCode>> pendingOutputs = new ArrayList<>();
+    // The index of the first file whose generation failed. There is no point
+    // generating any files after that one, since they will never be written.
+    private final AtomicInteger firstFailure = new AtomicInteger(Integer.MAX_VALUE);
 
     void initializeTemplateEngine() throws IOException {
         fmConfig = new freemarker.template.Configuration();
@@ -98,6 +114,31 @@ public class FilesGenerator {
             throw new ParseException();
         }
         initializeTemplateEngine();
+        int threads = grammar.getGenerationThreads();
+        if (!codeLang.equals("java")) {
+            // The Translator used by the Python and C# templates keeps
+            // state (symbol tables, temporary variable counters) across
+            // the various files, so we generate them one at a time.
+            threads = 1;
+        }
+        executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "javacc-generator");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            scheduleAll();
+            writeOutputs();
+        } finally {
+            executor.shutdownNow();
+            executor = null;
+            pendingFiles.clear();
+            pendingOutputs.clear();
+            firstFailure.set(Integer.MAX_VALUE);
+        }
+    }
+
+    private void scheduleAll() throws IOException, TemplateException, ParseException {
         switch (codeLang) {
             case "java":
                 generateToken();
@@ -169,6 +210,9 @@ public class FilesGenerator {
             add("ParsingProblem.java");
             add("Token.java");
             add("InvalidToken.java");
+            add("LineMap.java");
+            add("CompactTree.java");
+            add("ParserPool.java");
             add("Node.java");
             add("InvalidNode.java");
         }
@@ -208,6 +252,25 @@ public class FilesGenerator {
         return result;
     }
 
+    /**
+     * The output of a template, and for a Java file, the result of parsing it.
+     */
+    private static class GeneratedCode {
+        final String code;
+        final CompilationUnit jcu;
+
+        GeneratedCode(String code, CompilationUnit jcu) {
+            this.code = code;
+            this.jcu = jcu;
+        }
+    }
+
+    /**
+     * Schedules the generation of the given file. The template processing 
+     * and the parsing of the result is done by the worker threads.
+     * The rest of the work on the file is scheduled, and the file is 
+     * written out, later, by writeOutputs().
+     */
     public void generate(String nodeName, Path outputFile) throws IOException, ParseException, TemplateException  {
         String currentFilename = outputFile.getFileName().toString();
         String templateName = getTemplateName(currentFilename);
@@ -224,47 +287,130 @@ public class FilesGenerator {
         if (codeInjector.getExplicitlyDeclaredPackage(classname) != null) {
             dataModel.put("explicitPackageName", codeInjector.getExplicitlyDeclaredPackage(classname));
         }
-        Writer out = new StringWriter();
-        Template template = fmConfig.getTemplate(templateName);
         // Sometimes needed in templates for e.g. injector.hasInjectedCode(node)
         dataModel.put("injector", grammar.getInjector());
-        template.process(dataModel, out);
-        String code = out.toString();
-        if (!grammar.isQuiet()) {
-            System.out.println("Outputting: " + outputFile.normalize());
+        int index = pendingFiles.size();
+        pendingFiles.add(outputFile);
+        pendingOutputs.add(executor.submit(() -> {
+            if (index > firstFailure.get()) return null;
+            try {
+                Writer out = new StringWriter();
+                Template template = fmConfig.getTemplate(templateName);
+                template.process(dataModel, out);
+                String code = out.toString();
+                CompilationUnit jcu = null;
+                if (currentFilename.endsWith(".java")) {
+                    jcu = parseJavaFile(code, currentFilename);
+                }
+                return new GeneratedCode(code, jcu);
+            } catch (Exception | Error e) {
+                firstFailure.accumulateAndGet(index, Math::min);
+                throw e;
+            }
+        }));
+    }
+
+    /**
+     * Finishes and writes out the generated files in the order that they were scheduled.
+     * If generating any of them failed, we stop there and rethrow the exception,
+     * so the error reporting is the same as if it was all done in one thread.
+     * The code injection is done here, on this one thread, since it takes the 
+     * injected nodes from the grammar and makes them part of the file's tree.
+     * Once that is done, each file's tree is its own, so the rest of the work 
+     * on it is handed back to the worker threads.
+     */
+    private void writeOutputs() throws IOException, ParseException, TemplateException {
+        List<Future<String>> finishedOutputs = new ArrayList<>();
+        for (Future<GeneratedCode> pendingOutput : pendingOutputs) {
+            GeneratedCode output;
+            try {
+                output = getOutput(pendingOutput);
+                if (output.jcu != null) {
+                    codeInjector.injectCode(output.jcu);
+                }
+            } catch (IOException | TemplateException | RuntimeException | Error e) {
+                // The files before this one are still written out below.
+                CompletableFuture<String> failed = new CompletableFuture<>();
+                failed.completeExceptionally(e);
+                finishedOutputs.add(failed);
+                break;
+            }
+            if (output.jcu == null) {
+                finishedOutputs.add(CompletableFuture.completedFuture(output.code));
+            } else {
+                CompilationUnit jcu = output.jcu;
+                finishedOutputs.add(executor.submit(() -> processJavaFile(jcu)));
+            }
         }
-        if (outputFile.getFileName().toString().endsWith(".java")) {
-            outputJavaFile(code, outputFile);
-        } else try (Writer outfile = Files.newBufferedWriter(outputFile)) {
-            outfile.write(code);
+        for (int i = 0; i < finishedOutputs.size(); i++) {
+            Path outputFile = pendingFiles.get(i);
+            byte[] content = getOutput(finishedOutputs.get(i)).getBytes(StandardCharsets.UTF_8);
+            grammar.addOutputFile(outputFile);
+            // We leave the file alone if it would not change, so that its
+            // timestamp does not trigger recompilation downstream.
+            if (Files.isRegularFile(outputFile) && Arrays.equals(content, Files.readAllBytes(outputFile))) {
+                if (!grammar.isQuiet()) {
+                    System.out.println("Unchanged: " + outputFile.normalize());
+                }
+                continue;
+            }
+            if (!grammar.isQuiet()) {
+                System.out.println("Outputting: " + outputFile.normalize());
+            }
+            Path dir = outputFile.getParent();
+            if (dir != null && !Files.exists(dir)) {
+                Files.createDirectories(dir);
+            }
+            Files.write(outputFile, content);
         }
     }
 
-    void outputJavaFile(String code, Path outputFile) throws IOException {
-        Path dir = outputFile.getParent();
-        if (Files.exists(dir)) {
-            Files.createDirectories(dir);
+    private <T> T getOutput(Future<T> output) throws IOException, ParseException, TemplateException {
+        try {
+            return output.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while generating files", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) throw (IOException) cause;
+            if (cause instanceof ParseException) throw (ParseException) cause;
+            if (cause instanceof TemplateException) throw (TemplateException) cause;
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw new RuntimeException(cause);
         }
-        CompilationUnit jcu;
-        Writer out = Files.newBufferedWriter(outputFile);
+    }
+
+    /**
+     * Parses the generated Java code. 
+     * @return the parsed code, or null if it does not parse, 
+     * in which case it is output as is.
+     */
+    private CompilationUnit parseJavaFile(String code, String filename) {
         try {
-            jcu = JavaCCParser.parseJavaFile(outputFile.getFileName().toString(), code);
+            return JavaCCParser.parseJavaFile(filename, code);
         } catch (Exception e) {
-            out.write(code);
-            return;
-        } finally {
-            out.flush();
-            out.close();
-        }
-        try (Writer output = Files.newBufferedWriter(outputFile)) {
-            codeInjector.injectCode(jcu);
-            JavaCodeUtils.removeWrongJDKElements(jcu, grammar.getJdkTarget());
-            JavaCodeUtils.addGetterSetters(jcu);
-            JavaCodeUtils.stripUnused(jcu);
-//          OlderJavaFormatter formatter = new OlderJavaFormatter();
-            JavaFormatter formatter = new JavaFormatter();
-            output.write(formatter.format(jcu));
+            return null;
+        }
+    }
+
+    /**
+     * Tidies up the parsed Java code, once any code from the grammar 
+     * has been injected into it.
+     */
+    String processJavaFile(CompilationUnit jcu) {
+        for (TypeDeclaration typeDecl : jcu.getTypeDeclarations()) {
+            if (typeDecl.getName().equals(grammar.getParserClassName())) {
+                JavaCodeUtils.resolveProductionNames(jcu, grammar);
+            }
         }
+        JavaCodeUtils.removeWrongJDKElements(jcu, grammar.getJdkTarget());
+        JavaCodeUtils.addGetterSetters(jcu);
+        JavaCodeUtils.stripUnused(jcu);
+//      OlderJavaFormatter formatter = new OlderJavaFormatter();
+        JavaFormatter formatter = new JavaFormatter();
+        return formatter.format(jcu);
     }
 
     void generateConstantsFile() throws IOException, ParseException, TemplateException {
@@ -309,6 +455,12 @@ public class FilesGenerator {
         String filename = grammar.getLexerClassName() + ".java";
         Path outputFile = grammar.getParserOutputDirectory().resolve(filename);
         generate(outputFile);
+        if (!grammar.getStreamingInput()) {
+            outputFile = grammar.getParserOutputDirectory().resolve("LineMap.java");
+            if (regenerate(outputFile)) {
+                generate(outputFile);
+            }
+        }
     }
 
     void generateNfaData() throws IOException, ParseException, TemplateException {
@@ -324,6 +476,12 @@ public class FilesGenerator {
         String filename = grammar.getParserClassName() + ".java";
         Path outputFile = grammar.getParserOutputDirectory().resolve(filename);
         generate(outputFile);
+        if (!grammar.getStreamingInput()) {
+            outputFile = grammar.getParserOutputDirectory().resolve("ParserPool.java");
+            if (regenerate(outputFile)) {
+                generate(outputFile);
+            }
+        }
     }
     
     void generateNodeFile() throws IOException, ParseException, TemplateException {
@@ -331,6 +489,12 @@ public class FilesGenerator {
         if (regenerate(outputFile)) {
             generate(outputFile);
         }
+        if (grammar.getCompactTree()) {
+            outputFile = grammar.getParserOutputDirectory().resolve("CompactTree.java");
+            if (regenerate(outputFile)) {
+                generate(outputFile);
+            }
+        }
     }
 
     private boolean regenerate(Path file) throws IOException {
@@ -360,7 +524,12 @@ public class FilesGenerator {
         // For now regenerate() isn't called for generating Python or C# files,
         // but I'll leave this here for the moment
         //
-        return extension.equals(".py") || extension.equals(".cs");    // for now, always regenerate
+        if (extension.equals(".py") || extension.equals(".cs")) {
+            return true;    // for now, always regenerate
+        }
+        // We leave the existing file alone, but it is still one of our outputs
+        grammar.addOutputFile(file);
+        return false;
     }
 
     void generateTreeBuildingFiles() throws IOException, ParseException, TemplateException {
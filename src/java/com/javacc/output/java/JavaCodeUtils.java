@@ -30,6 +30,7 @@
 package com.javacc.output.java;
 
 import java.util.*;
+import com.javacc.Grammar;
 import com.javacc.parser.*;
 import static com.javacc.parser.JavaCCConstants.TokenType;
 import static com.javacc.parser.JavaCCConstants.TokenType.*;
@@ -118,6 +119,40 @@ public class JavaCodeUtils {
         context.addChild(index +1, getterMethod);
     }
 
+    /**
+     * Replaces the calls to isInProduction(...) that give the names of the productions
+     * as string literals, as in a code action or semantic lookahead in the grammar, 
+     * with ones that give their ids, so that no lookup is needed when they run, i.e.
+     * isInProduction("Foo", "Bar") becomes (isInProduction(3) || isInProduction(7)).
+     * Any call with an argument that is not the name of a production is left alone.
+     */
+    static public void resolveProductionNames(Node root, Grammar grammar) {
+        List<MethodCall> calls = root.descendants(MethodCall.class, 
+            mc->mc.getChild(0) instanceof Name && mc.getChild(0).toString().equals("isInProduction"));
+        for (MethodCall call : calls) {
+            StringBuilder buf = new StringBuilder();
+            for (Node arg : call.firstChildOfType(InvocationArguments.class).children()) {
+                if (arg instanceof Token) continue; // the parentheses and commas
+                if (!(arg instanceof LiteralExpression) || !(arg.getChild(0) instanceof StringLiteral)) {
+                    buf = null;
+                    break;
+                }
+                String literal = arg.getChild(0).toString();
+                int productionId = grammar.getProductionId(literal.substring(1, literal.length() - 1));
+                if (productionId < 0) {
+                    buf = null;
+                    break;
+                }
+                if (buf.length() > 0) buf.append(" || ");
+                buf.append("isInProduction(").append(productionId).append(")");
+            }
+            if (buf == null || buf.length() == 0) continue;
+            if (buf.indexOf("||") > 0) buf.insert(0, "(").append(")");
+            Expression replacement = new JavaCCParser(buf.toString()).Expression();
+            replacement.replace(call);
+        }
+    }
+
     static public void removeWrongJDKElements(Node context, int target) {
         List<Annotation> annotations = context.descendants(Annotation.class, 
             a->a.getName().toLowerCase().startsWith("minjdk") || a.getName().toLowerCase().startsWith("maxjdk"));
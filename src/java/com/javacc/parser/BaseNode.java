@@ -0,0 +1,303 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. BaseNode.java */
+package com.javacc.parser;
+
+import freemarker.template.*;
+import java.util.*;
+import java.lang.reflect.*;
+import com.javacc.Grammar;
+/**
+ * The base concrete class for non-terminal Nodes
+ */
+public class BaseNode implements Node, TemplateHashModel, JavaCCConstants {
+    public TemplateModel get(String key) throws TemplateModelException {
+        String methodName= "get"+key.substring(0, 1).toUpperCase()+key.substring(1);
+        TemplateModel result= invokeMethod(methodName);
+        if (result== null) {
+            result= invokeMethod(methodName.replace("get", "is"));
+        }
+        return result;
+    }
+
+    private TemplateModel invokeMethod(String methodName) throws TemplateModelException {
+        Method method= null;
+        try {
+            method= this.getClass().getMethod(methodName);
+        }
+        catch(NoSuchMethodException e) {
+            return null;
+        }
+        try {
+            Object result= method.invoke(this);
+            TemplateModel wrappedResult= Configuration.getCurrentObjectWrapper().wrap(result);
+            if (methodName.startsWith("is")&&!(wrappedResult instanceof TemplateBooleanModel)) {
+                return null;
+                //Maybe should throw an exception here, or maybe it doesn't matter.
+            }
+            return wrappedResult;
+        }
+        catch(IllegalAccessException e) {
+            throw new TemplateModelException(e);
+        }
+        catch(InvocationTargetException e) {
+            Throwable cause= e.getCause();
+            if (cause instanceof TemplateModelException) {
+                throw(TemplateModelException) cause;
+            }
+            if (cause instanceof Exception) {
+                throw new TemplateModelException((Exception) cause);
+            }
+            throw(Error) cause;
+        }
+    }
+
+    private Grammar grammar;
+    public Grammar getGrammar() {
+        if (grammar== null) {
+            if (parent!=null) {
+                grammar= parent.getGrammar();
+            }
+            if (grammar== null&&!children.isEmpty()) {
+                grammar= children.get(0).getGrammar();
+            }
+        }
+        return grammar;
+    }
+
+    public void setGrammar(Grammar grammar) {
+        this.grammar= grammar;
+    }
+
+    public String getSimpleName() {
+        String name= getClass().getName();
+        return name.substring(name.lastIndexOf(".")+1);
+        // strip the package name
+    }
+
+    protected String getInnerText() {
+        StringBuilder buf= new StringBuilder();
+        List<Token> tokens= getAllTokens(true);
+        boolean outputOpeningBrace= false;
+        for (int i= 0; i<tokens.size()-1; i++) {
+            Token t= tokens.get(i);
+            if (i> 0&&tokens.get(i-1).getEndOffset()!=t.getBeginOffset()) {
+                buf.append(" ");
+            }
+            if (outputOpeningBrace) {
+                buf.append(t);
+            }
+            else if (t.getType()== TokenType.LBRACE) {
+                outputOpeningBrace= true;
+            }
+        }
+        return buf.toString();
+    }
+
+    public String getAsString() {
+        return getLiteralText();
+    }
+
+    public boolean isEmpty() {
+        return getRealTokens().isEmpty();
+    }
+
+    protected String getLiteralText() {
+        StringBuilder buf= new StringBuilder();
+        Token prevToken= null;
+        for (Token t : getAllTokens(true)) {
+            if (prevToken!=null&&prevToken.getEndOffset()!=t.getBeginOffset()) {
+                buf.append(" ");
+            }
+            buf.append(t);
+            prevToken= t;
+        }
+        return buf.toString();
+    }
+
+    private JavaCCLexer tokenSource;
+    public JavaCCLexer getTokenSource() {
+        if (tokenSource== null) {
+            for (Node child : children()) {
+                tokenSource= child.getTokenSource();
+                if (tokenSource!=null) break;
+            }
+        }
+        return tokenSource;
+    }
+
+    public void setTokenSource(JavaCCLexer tokenSource) {
+        this.tokenSource= tokenSource;
+    }
+
+    static private Class listClass= ArrayList.class;
+    /**
+     * Sets the List class that is used to store child nodes. By default,
+     * this is java.util.ArrayList. There is probably very little reason
+     * to ever use anything else, though you could use this method 
+     * to replace this with LinkedList or your own java.util.List implementation even.
+     * @param listClass the #java.util.List implementation to use internally 
+     * for the child nodes. By default #java.util.ArrayList is used.
+     */
+    static public void setListClass(Class<?extends List> listClass) {
+        BaseNode.listClass= listClass;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Node> newList() {
+        try {
+            return(List<Node> ) listClass.getDeclaredConstructor().newInstance();
+        }
+        catch(Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * the parent node
+     */
+    protected Node parent;
+    /**
+     * the child nodes
+     */
+    protected List<Node> children= newList();
+    private int beginOffset, endOffset;
+    private boolean unparsed;
+    public boolean isUnparsed() {
+        return this.unparsed;
+    }
+
+    public void setUnparsed(boolean unparsed) {
+        this.unparsed= unparsed;
+    }
+
+    public void setParent(Node n) {
+        parent= n;
+    }
+
+    public Node getParent() {
+        return parent;
+    }
+
+    public void addChild(Node n) {
+        children.add(n);
+        n.setParent(this);
+    }
+
+    public void addChild(int i, Node n) {
+        children.add(i, n);
+        n.setParent(this);
+    }
+
+    public Node getChild(int i) {
+        return children.get(i);
+    }
+
+    public void setChild(int i, Node n) {
+        children.set(i, n);
+        n.setParent(this);
+    }
+
+    public Node removeChild(int i) {
+        return children.remove(i);
+    }
+
+    public void clearChildren() {
+        children.clear();
+    }
+
+    public int getChildCount() {
+        return children.size();
+    }
+
+    public List<Node> children() {
+        return Collections.unmodifiableList(children);
+    }
+
+    public int getBeginOffset() {
+        return beginOffset;
+    }
+
+    public void setBeginOffset(int beginOffset) {
+        this.beginOffset= beginOffset;
+    }
+
+    public int getEndOffset() {
+        return endOffset;
+    }
+
+    public void setEndOffset(int endOffset) {
+        this.endOffset= endOffset;
+    }
+
+    public TemplateSequenceModel getChildNodes() {
+        SimpleSequence seq= new SimpleSequence();
+        for (Node child : children) {
+            seq.add(child);
+        }
+        return seq;
+    }
+
+    public TemplateNodeModel getParentNode() {
+        return this.parent;
+    }
+
+    public String getNodeName() {
+        return this.getClass().getSimpleName();
+    }
+
+    public String getNodeType() {
+        return"";
+    }
+
+    public String getNodeNamespace() {
+        return null;
+    }
+
+    public String toString() {
+        StringBuilder buf= new StringBuilder();
+        for (Token t : getRealTokens()) {
+            buf.append(t);
+        }
+        return buf.toString();
+    }
+
+    protected Map<String, Node> namedChildMap;
+    protected Map<String, List<Node> > namedChildListMap;
+    public Node getNamedChild(String name) {
+        if (namedChildMap== null) {
+            return null;
+        }
+        return namedChildMap.get(name);
+    }
+
+    public void setNamedChild(String name, Node node) {
+        if (namedChildMap== null) {
+            namedChildMap= new HashMap<> ();
+        }
+        if (namedChildMap.containsKey(name)) {
+            // Can't have duplicates
+            String msg= String.format("Duplicate named child not allowed: {0}", name);
+            throw new RuntimeException(msg);
+        }
+        namedChildMap.put(name, node);
+    }
+
+    public List<Node> getNamedChildList(String name) {
+        if (namedChildListMap== null) {
+            return null;
+        }
+        return namedChildListMap.get(name);
+    }
+
+    public void addToNamedChildList(String name, Node node) {
+        if (namedChildListMap== null) {
+            namedChildListMap= new HashMap<> ();
+        }
+        List<Node> nodeList= namedChildListMap.get(name);
+        if (nodeList== null) {
+            nodeList= new ArrayList<> ();
+            namedChildListMap.put(name, nodeList);
+        }
+        nodeList.add(node);
+    }
+
+}
@@ -0,0 +1,742 @@
+/* Generated by: JavaCC 21 Parser Generator. Token.java */
+package com.javacc.parser;
+
+import com.javacc.parser.tree.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import freemarker.template.*;
+import com.javacc.Grammar;
+public class Token implements JavaCCConstants, Node {
+    private Grammar grammar;
+    public Grammar getGrammar() {
+        if (grammar== null) {
+            if (parent!=null) {
+                grammar= parent.getGrammar();
+            }
+        }
+        return grammar;
+    }
+
+    public void setGrammar(Grammar grammar) {
+        this.grammar= grammar;
+    }
+
+    public String getNodeName() {
+        return getType().toString();
+    }
+
+    public String getLeadingComments() {
+        Token specialToken= getPreviousToken()== null||!getPreviousToken().isUnparsed()?null:
+        getPreviousToken();
+        if (specialToken== null) return"";
+        StringBuilder buf= new StringBuilder();
+        Token tok= specialToken;
+        while (tok.getPreviousToken()!=null&&tok.getPreviousToken().isUnparsed()) {
+            tok= tok.getPreviousToken();
+        }
+        while (tok!=this&&tok!=null) {
+            buf.append(tok);
+            tok= tok.getNext();
+        }
+        return buf.toString();
+    }
+
+    public String getNormalizedText() {
+        return getImage();
+    }
+
+    private TokenType type;
+    private JavaCCLexer tokenSource;
+    private int beginOffset, endOffset;
+    private boolean unparsed;
+    private Node parent;
+    private String image;
+    public void setImage(String image) {
+        this.image= image;
+    }
+
+    private Token prependedToken, appendedToken;
+    private boolean inserted;
+    public boolean isInserted() {
+        return inserted;
+    }
+
+    public void preInsert(Token prependedToken) {
+        if (prependedToken== this.prependedToken) return;
+        prependedToken.appendedToken= this;
+        Token existingPreviousToken= this.previousCachedToken();
+        if (existingPreviousToken!=null) {
+            existingPreviousToken.appendedToken= prependedToken;
+            prependedToken.prependedToken= existingPreviousToken;
+        }
+        prependedToken.inserted= true;
+        prependedToken.beginOffset= prependedToken.endOffset= this.beginOffset;
+        this.prependedToken= prependedToken;
+    }
+
+    void unsetAppendedToken() {
+        this.appendedToken= null;
+    }
+
+    /**
+     * @param type the #TokenType of the token being constructed
+     * @param image the String content of the token
+     * @param tokenSource the object that vended this token.
+     */
+    public Token(TokenType type, String image, JavaCCLexer tokenSource) {
+        this.type= type;
+        this.image= image;
+        this.tokenSource= tokenSource;
+    }
+
+    public static Token newToken(TokenType type, String image, JavaCCLexer tokenSource) {
+        Token result= newToken(type, tokenSource, 0, 0);
+        result.setImage(image);
+        return result;
+    }
+
+    /**
+     * It would be extremely rare that an application
+     * programmer would use this method. It needs to
+     * be public because it is part of the com.javacc.parser.Node interface.
+     */
+    public void setBeginOffset(int beginOffset) {
+        this.beginOffset= beginOffset;
+    }
+
+    /**
+     * It would be extremely rare that an application
+     * programmer would use this method. It needs to
+     * be public because it is part of the com.javacc.parser.Node interface.
+     */
+    public void setEndOffset(int endOffset) {
+        this.endOffset= endOffset;
+    }
+
+    /**
+     * @return the JavaCCLexer object that handles 
+     * location info for the tokens. 
+     */
+    public JavaCCLexer getTokenSource() {
+        JavaCCLexer flm= this.tokenSource;
+        // If this is null and we have chained tokens,
+        // we try to get it from there! (Why not?)
+        if (flm== null) {
+            if (prependedToken!=null) {
+                flm= prependedToken.getTokenSource();
+            }
+            if (flm== null&&appendedToken!=null) {
+                flm= appendedToken.getTokenSource();
+            }
+        }
+        return flm;
+    }
+
+    /**
+     * It should be exceedingly rare that an application
+     * programmer needs to use this method.
+     */
+    public void setTokenSource(JavaCCLexer tokenSource) {
+        this.tokenSource= tokenSource;
+    }
+
+    /**
+     * Return the TokenType of this Token object
+     */
+    public TokenType getType() {
+        return type;
+    }
+
+    protected void setType(TokenType type) {
+        this.type= type;
+    }
+
+    /**
+     * @return whether this Token represent actual input or was it inserted somehow?
+     */
+    public boolean isVirtual() {
+        return type== TokenType.EOF;
+    }
+
+    /**
+     * @return Did we skip this token in parsing?
+     */
+    public boolean isSkipped() {
+        return false;
+    }
+
+    public int getBeginOffset() {
+        return beginOffset;
+    }
+
+    public int getEndOffset() {
+        return endOffset;
+    }
+
+    /**
+     * @return the string image of the token.
+     */
+    public String getImage() {
+        return image!=null?image:
+        getSource();
+    }
+
+    /**
+     * @return the next _cached_ regular (i.e. parsed) token
+     * or null
+     */
+    public final Token getNext() {
+        return getNextParsedToken();
+    }
+
+    /**
+     * @return the previous regular (i.e. parsed) token
+     * or null
+     */
+    public final Token getPrevious() {
+        Token result= previousCachedToken();
+        while (result!=null&&result.isUnparsed()) {
+            result= result.previousCachedToken();
+        }
+        return result;
+    }
+
+    /**
+     * @return the next regular (i.e. parsed) token
+     */
+    private Token getNextParsedToken() {
+        Token result= nextCachedToken();
+        while (result!=null&&result.isUnparsed()) {
+            result= result.nextCachedToken();
+        }
+        return result;
+    }
+
+    /**
+     * @return the next token of any sort (parsed or unparsed or invalid)
+     */
+    public Token nextCachedToken() {
+        if (getType()== TokenType.EOF) return null;
+        if (appendedToken!=null) return appendedToken;
+        JavaCCLexer tokenSource= getTokenSource();
+        return tokenSource!=null?tokenSource.nextCachedToken(getEndOffset()):
+        null;
+    }
+
+    public Token previousCachedToken() {
+        if (prependedToken!=null) return prependedToken;
+        if (getTokenSource()== null) return null;
+        return getTokenSource().previousCachedToken(getBeginOffset());
+    }
+
+    Token getPreviousToken() {
+        return previousCachedToken();
+    }
+
+    public Token replaceType(TokenType type) {
+        Token result= newToken(type, getTokenSource(), getBeginOffset(), getEndOffset());
+        result.prependedToken= this.prependedToken;
+        result.appendedToken= this.appendedToken;
+        result.inserted= this.inserted;
+        if (result.appendedToken!=null) {
+            result.appendedToken.prependedToken= result;
+        }
+        if (result.prependedToken!=null) {
+            result.prependedToken.appendedToken= result;
+        }
+        if (!result.inserted) {
+            getTokenSource().cacheToken(result);
+        }
+        return result;
+    }
+
+    public String getSource() {
+        if (type== TokenType.EOF) return"";
+        JavaCCLexer flm= getTokenSource();
+        return flm== null?null:
+        flm.getText(getBeginOffset(), getEndOffset());
+    }
+
+    protected Token() {
+    }
+
+    public Token(TokenType type, JavaCCLexer tokenSource, int beginOffset, int endOffset) {
+        this.type= type;
+        this.tokenSource= tokenSource;
+        this.beginOffset= beginOffset;
+        this.endOffset= endOffset;
+    }
+
+    public boolean isUnparsed() {
+        return unparsed;
+    }
+
+    public void setUnparsed(boolean unparsed) {
+        this.unparsed= unparsed;
+    }
+
+    public void clearChildren() {
+    }
+
+    public String toString() {
+        return getNormalizedText();
+    }
+
+    /**
+     * @return An iterator of the tokens preceding this one.
+     */
+    public Iterator<Token> precedingTokens() {
+        return new Iterator<Token> () {
+            Token currentPoint= Token.this;
+            public boolean hasNext() {
+                return currentPoint.previousCachedToken()!=null;
+            }
+
+            public Token next() {
+                Token previous= currentPoint.previousCachedToken();
+                if (previous== null) throw new java.util.NoSuchElementException("No previous token!");
+                return currentPoint= previous;
+            }
+
+        }
+        ;
+    }
+
+    /**
+     * @return a list of the unparsed tokens preceding this one in the order they appear in the input
+     */
+    public List<Token> precedingUnparsedTokens() {
+        List<Token> result= new ArrayList<> ();
+        Token t= this.previousCachedToken();
+        while (t!=null&&t.isUnparsed()) {
+            result.add(t);
+            t= t.previousCachedToken();
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    /**
+     * @return An iterator of the (cached) tokens that follow this one.
+     */
+    public Iterator<Token> followingTokens() {
+        return new java.util.Iterator<Token> () {
+            Token currentPoint= Token.this;
+            public boolean hasNext() {
+                return currentPoint.nextCachedToken()!=null;
+            }
+
+            public Token next() {
+                Token next= currentPoint.nextCachedToken();
+                if (next== null) throw new java.util.NoSuchElementException("No next token!");
+                return currentPoint= next;
+            }
+
+        }
+        ;
+    }
+
+    /**
+     * Copy the location info from a Node
+     */
+    public void copyLocationInfo(Node from) {
+        Node.super.copyLocationInfo(from);
+        if (from instanceof Token) {
+            Token otherTok= (Token) from;
+            appendedToken= otherTok.appendedToken;
+            prependedToken= otherTok.prependedToken;
+        }
+        setTokenSource(from.getTokenSource());
+    }
+
+    public void copyLocationInfo(Node start, Node end) {
+        Node.super.copyLocationInfo(start, end);
+        if (start instanceof Token) {
+            prependedToken= ((Token) start).prependedToken;
+        }
+        if (end instanceof Token) {
+            Token endToken= (Token) end;
+            appendedToken= endToken.appendedToken;
+        }
+    }
+
+    public static Token newToken(TokenType type, JavaCCLexer tokenSource, int beginOffset, int endOffset) {
+        switch(type) {
+            case _INJECT:
+            return new JavaCCKeyWord(TokenType._INJECT, tokenSource, beginOffset, endOffset);
+            case _INCLUDE:
+            return new JavaCCKeyWord(TokenType._INCLUDE, tokenSource, beginOffset, endOffset);
+            case _LOOKAHEAD:
+            return new JavaCCKeyWord(TokenType._LOOKAHEAD, tokenSource, beginOffset, endOffset);
+            case _FAIL:
+            return new JavaCCKeyWord(TokenType._FAIL, tokenSource, beginOffset, endOffset);
+            case _UNCACHE_TOKENS:
+            return new JavaCCKeyWord(TokenType._UNCACHE_TOKENS, tokenSource, beginOffset, endOffset);
+            case _ACTIVE_TOKENS:
+            return new JavaCCKeyWord(TokenType._ACTIVE_TOKENS, tokenSource, beginOffset, endOffset);
+            case _ACTIVATE_TOKENS:
+            return new JavaCCKeyWord(TokenType._ACTIVATE_TOKENS, tokenSource, beginOffset, endOffset);
+            case _DEACTIVATE_TOKENS:
+            return new JavaCCKeyWord(TokenType._DEACTIVATE_TOKENS, tokenSource, beginOffset, endOffset);
+            case _ENSURE:
+            return new JavaCCKeyWord(TokenType._ENSURE, tokenSource, beginOffset, endOffset);
+            case _SCAN:
+            return new JavaCCKeyWord(TokenType._SCAN, tokenSource, beginOffset, endOffset);
+            case _IGNORE_CASE:
+            return new JavaCCKeyWord(TokenType._IGNORE_CASE, tokenSource, beginOffset, endOffset);
+            case _PARSER_BEGIN:
+            return new JavaCCKeyWord(TokenType._PARSER_BEGIN, tokenSource, beginOffset, endOffset);
+            case _PARSER_END:
+            return new JavaCCKeyWord(TokenType._PARSER_END, tokenSource, beginOffset, endOffset);
+            case _TOKEN:
+            return new JavaCCKeyWord(TokenType._TOKEN, tokenSource, beginOffset, endOffset);
+            case _UNPARSED:
+            return new JavaCCKeyWord(TokenType._UNPARSED, tokenSource, beginOffset, endOffset);
+            case _MORE:
+            return new JavaCCKeyWord(TokenType._MORE, tokenSource, beginOffset, endOffset);
+            case _SKIP:
+            return new JavaCCKeyWord(TokenType._SKIP, tokenSource, beginOffset, endOffset);
+            case _EOF:
+            return new JavaCCKeyWord(TokenType._EOF, tokenSource, beginOffset, endOffset);
+            case _TOKEN_MGR_DECLS:
+            return new JavaCCKeyWord(TokenType._TOKEN_MGR_DECLS, tokenSource, beginOffset, endOffset);
+            case _ATTEMPT:
+            return new JavaCCKeyWord(TokenType._ATTEMPT, tokenSource, beginOffset, endOffset);
+            case _RECOVER:
+            return new JavaCCKeyWord(TokenType._RECOVER, tokenSource, beginOffset, endOffset);
+            case _RECOVER_TO:
+            return new JavaCCKeyWord(TokenType._RECOVER_TO, tokenSource, beginOffset, endOffset);
+            case _ON_ERROR:
+            return new JavaCCKeyWord(TokenType._ON_ERROR, tokenSource, beginOffset, endOffset);
+            case HASH:
+            return new HASH(TokenType.HASH, tokenSource, beginOffset, endOffset);
+            case BACKSLASH:
+            return new Backslash(TokenType.BACKSLASH, tokenSource, beginOffset, endOffset);
+            case RIGHT_ARROW:
+            return new RightArrow(TokenType.RIGHT_ARROW, tokenSource, beginOffset, endOffset);
+            case UP_TO_HERE:
+            return new UP_TO_HERE(TokenType.UP_TO_HERE, tokenSource, beginOffset, endOffset);
+            case _LEXICAL_STATE:
+            return new JavaCCKeyWord(TokenType._LEXICAL_STATE, tokenSource, beginOffset, endOffset);
+            case SINGLE_QUOTE_STRING:
+            return new StringLiteral(TokenType.SINGLE_QUOTE_STRING, tokenSource, beginOffset, endOffset);
+            case WHITESPACE:
+            return new Whitespace(TokenType.WHITESPACE, tokenSource, beginOffset, endOffset);
+            case MULTI_LINE_COMMENT:
+            return new MultiLineComment(TokenType.MULTI_LINE_COMMENT, tokenSource, beginOffset, endOffset);
+            case SINGLE_LINE_COMMENT_START:
+            return new SINGLE_LINE_COMMENT_START(TokenType.SINGLE_LINE_COMMENT_START, tokenSource, beginOffset, endOffset);
+            case MULTI_LINE_COMMENT_START:
+            return new MULTI_LINE_COMMENT_START(TokenType.MULTI_LINE_COMMENT_START, tokenSource, beginOffset, endOffset);
+            case SINGLE_LINE_COMMENT:
+            return new SingleLineComment(TokenType.SINGLE_LINE_COMMENT, tokenSource, beginOffset, endOffset);
+            case ANY_CHAR:
+            return new ANY_CHAR(TokenType.ANY_CHAR, tokenSource, beginOffset, endOffset);
+            case UNDERSCORE:
+            return new KeyWord(TokenType.UNDERSCORE, tokenSource, beginOffset, endOffset);
+            case ABSTRACT:
+            return new KeyWord(TokenType.ABSTRACT, tokenSource, beginOffset, endOffset);
+            case _ASSERT:
+            return new KeyWord(TokenType._ASSERT, tokenSource, beginOffset, endOffset);
+            case BOOLEAN:
+            return new Primitive(TokenType.BOOLEAN, tokenSource, beginOffset, endOffset);
+            case BREAK:
+            return new KeyWord(TokenType.BREAK, tokenSource, beginOffset, endOffset);
+            case BYTE:
+            return new Primitive(TokenType.BYTE, tokenSource, beginOffset, endOffset);
+            case CASE:
+            return new KeyWord(TokenType.CASE, tokenSource, beginOffset, endOffset);
+            case CATCH:
+            return new KeyWord(TokenType.CATCH, tokenSource, beginOffset, endOffset);
+            case CHAR:
+            return new Primitive(TokenType.CHAR, tokenSource, beginOffset, endOffset);
+            case CLASS:
+            return new KeyWord(TokenType.CLASS, tokenSource, beginOffset, endOffset);
+            case CONST:
+            return new KeyWord(TokenType.CONST, tokenSource, beginOffset, endOffset);
+            case CONTINUE:
+            return new KeyWord(TokenType.CONTINUE, tokenSource, beginOffset, endOffset);
+            case _DEFAULT:
+            return new KeyWord(TokenType._DEFAULT, tokenSource, beginOffset, endOffset);
+            case DO:
+            return new KeyWord(TokenType.DO, tokenSource, beginOffset, endOffset);
+            case DOUBLE:
+            return new Primitive(TokenType.DOUBLE, tokenSource, beginOffset, endOffset);
+            case ELSE:
+            return new KeyWord(TokenType.ELSE, tokenSource, beginOffset, endOffset);
+            case ENUM:
+            return new KeyWord(TokenType.ENUM, tokenSource, beginOffset, endOffset);
+            case EXTENDS:
+            return new KeyWord(TokenType.EXTENDS, tokenSource, beginOffset, endOffset);
+            case FALSE:
+            return new BooleanLiteral(TokenType.FALSE, tokenSource, beginOffset, endOffset);
+            case FINAL:
+            return new KeyWord(TokenType.FINAL, tokenSource, beginOffset, endOffset);
+            case FINALLY:
+            return new KeyWord(TokenType.FINALLY, tokenSource, beginOffset, endOffset);
+            case FLOAT:
+            return new Primitive(TokenType.FLOAT, tokenSource, beginOffset, endOffset);
+            case FOR:
+            return new KeyWord(TokenType.FOR, tokenSource, beginOffset, endOffset);
+            case GOTO:
+            return new KeyWord(TokenType.GOTO, tokenSource, beginOffset, endOffset);
+            case IF:
+            return new KeyWord(TokenType.IF, tokenSource, beginOffset, endOffset);
+            case IMPLEMENTS:
+            return new KeyWord(TokenType.IMPLEMENTS, tokenSource, beginOffset, endOffset);
+            case _IMPORT:
+            return new KeyWord(TokenType._IMPORT, tokenSource, beginOffset, endOffset);
+            case INSTANCEOF:
+            return new KeyWord(TokenType.INSTANCEOF, tokenSource, beginOffset, endOffset);
+            case INT:
+            return new Primitive(TokenType.INT, tokenSource, beginOffset, endOffset);
+            case INTERFACE:
+            return new KeyWord(TokenType.INTERFACE, tokenSource, beginOffset, endOffset);
+            case LONG:
+            return new Primitive(TokenType.LONG, tokenSource, beginOffset, endOffset);
+            case NATIVE:
+            return new KeyWord(TokenType.NATIVE, tokenSource, beginOffset, endOffset);
+            case NEW:
+            return new KeyWord(TokenType.NEW, tokenSource, beginOffset, endOffset);
+            case NULL:
+            return new NullLiteral(TokenType.NULL, tokenSource, beginOffset, endOffset);
+            case PACKAGE:
+            return new KeyWord(TokenType.PACKAGE, tokenSource, beginOffset, endOffset);
+            case PRIVATE:
+            return new KeyWord(TokenType.PRIVATE, tokenSource, beginOffset, endOffset);
+            case PROTECTED:
+            return new KeyWord(TokenType.PROTECTED, tokenSource, beginOffset, endOffset);
+            case PUBLIC:
+            return new KeyWord(TokenType.PUBLIC, tokenSource, beginOffset, endOffset);
+            case RETURN:
+            return new KeyWord(TokenType.RETURN, tokenSource, beginOffset, endOffset);
+            case RECORD:
+            return new KeyWord(TokenType.RECORD, tokenSource, beginOffset, endOffset);
+            case SHORT:
+            return new Primitive(TokenType.SHORT, tokenSource, beginOffset, endOffset);
+            case STATIC:
+            return new KeyWord(TokenType.STATIC, tokenSource, beginOffset, endOffset);
+            case STRICTFP:
+            return new KeyWord(TokenType.STRICTFP, tokenSource, beginOffset, endOffset);
+            case SUPER:
+            return new KeyWord(TokenType.SUPER, tokenSource, beginOffset, endOffset);
+            case SWITCH:
+            return new KeyWord(TokenType.SWITCH, tokenSource, beginOffset, endOffset);
+            case SYNCHRONIZED:
+            return new KeyWord(TokenType.SYNCHRONIZED, tokenSource, beginOffset, endOffset);
+            case THIS:
+            return new ThisLiteral(TokenType.THIS, tokenSource, beginOffset, endOffset);
+            case THROW:
+            return new KeyWord(TokenType.THROW, tokenSource, beginOffset, endOffset);
+            case THROWS:
+            return new KeyWord(TokenType.THROWS, tokenSource, beginOffset, endOffset);
+            case TRANSIENT:
+            return new KeyWord(TokenType.TRANSIENT, tokenSource, beginOffset, endOffset);
+            case TRUE:
+            return new BooleanLiteral(TokenType.TRUE, tokenSource, beginOffset, endOffset);
+            case TRY:
+            return new KeyWord(TokenType.TRY, tokenSource, beginOffset, endOffset);
+            case VAR:
+            return new KeyWord(TokenType.VAR, tokenSource, beginOffset, endOffset);
+            case VOID:
+            return new KeyWord(TokenType.VOID, tokenSource, beginOffset, endOffset);
+            case VOLATILE:
+            return new KeyWord(TokenType.VOLATILE, tokenSource, beginOffset, endOffset);
+            case WHILE:
+            return new KeyWord(TokenType.WHILE, tokenSource, beginOffset, endOffset);
+            case YIELD:
+            return new KeyWord(TokenType.YIELD, tokenSource, beginOffset, endOffset);
+            case SEALED:
+            return new KeyWord(TokenType.SEALED, tokenSource, beginOffset, endOffset);
+            case NON_SEALED:
+            return new KeyWord(TokenType.NON_SEALED, tokenSource, beginOffset, endOffset);
+            case PERMITS:
+            return new KeyWord(TokenType.PERMITS, tokenSource, beginOffset, endOffset);
+            case CHARACTER_LITERAL:
+            return new CharacterLiteral(TokenType.CHARACTER_LITERAL, tokenSource, beginOffset, endOffset);
+            case STRING_LITERAL:
+            return new StringLiteral(TokenType.STRING_LITERAL, tokenSource, beginOffset, endOffset);
+            case TEXT_BLOCK_LITERAL:
+            return new StringLiteral(TokenType.TEXT_BLOCK_LITERAL, tokenSource, beginOffset, endOffset);
+            case INTEGER_LITERAL:
+            return new IntegerLiteral(TokenType.INTEGER_LITERAL, tokenSource, beginOffset, endOffset);
+            case LONG_LITERAL:
+            return new LongLiteral(TokenType.LONG_LITERAL, tokenSource, beginOffset, endOffset);
+            case FLOATING_POINT_LITERAL:
+            return new FloatingPointLiteral(TokenType.FLOATING_POINT_LITERAL, tokenSource, beginOffset, endOffset);
+            case LPAREN:
+            return new Delimiter(TokenType.LPAREN, tokenSource, beginOffset, endOffset);
+            case RPAREN:
+            return new Delimiter(TokenType.RPAREN, tokenSource, beginOffset, endOffset);
+            case LBRACE:
+            return new Delimiter(TokenType.LBRACE, tokenSource, beginOffset, endOffset);
+            case RBRACE:
+            return new Delimiter(TokenType.RBRACE, tokenSource, beginOffset, endOffset);
+            case LBRACKET:
+            return new Delimiter(TokenType.LBRACKET, tokenSource, beginOffset, endOffset);
+            case RBRACKET:
+            return new Delimiter(TokenType.RBRACKET, tokenSource, beginOffset, endOffset);
+            case SEMICOLON:
+            return new Delimiter(TokenType.SEMICOLON, tokenSource, beginOffset, endOffset);
+            case COMMA:
+            return new Delimiter(TokenType.COMMA, tokenSource, beginOffset, endOffset);
+            case DOT:
+            return new Delimiter(TokenType.DOT, tokenSource, beginOffset, endOffset);
+            case DOUBLE_COLON:
+            return new Delimiter(TokenType.DOUBLE_COLON, tokenSource, beginOffset, endOffset);
+            case VAR_ARGS:
+            return new Delimiter(TokenType.VAR_ARGS, tokenSource, beginOffset, endOffset);
+            case AT:
+            return new Delimiter(TokenType.AT, tokenSource, beginOffset, endOffset);
+            case ASSIGN:
+            return new Operator(TokenType.ASSIGN, tokenSource, beginOffset, endOffset);
+            case GT:
+            return new Operator(TokenType.GT, tokenSource, beginOffset, endOffset);
+            case LT:
+            return new Operator(TokenType.LT, tokenSource, beginOffset, endOffset);
+            case BANG:
+            return new Operator(TokenType.BANG, tokenSource, beginOffset, endOffset);
+            case TILDE:
+            return new Operator(TokenType.TILDE, tokenSource, beginOffset, endOffset);
+            case HOOK:
+            return new Operator(TokenType.HOOK, tokenSource, beginOffset, endOffset);
+            case COLON:
+            return new Operator(TokenType.COLON, tokenSource, beginOffset, endOffset);
+            case EQ:
+            return new Operator(TokenType.EQ, tokenSource, beginOffset, endOffset);
+            case LE:
+            return new Operator(TokenType.LE, tokenSource, beginOffset, endOffset);
+            case GE:
+            return new Operator(TokenType.GE, tokenSource, beginOffset, endOffset);
+            case NE:
+            return new Operator(TokenType.NE, tokenSource, beginOffset, endOffset);
+            case SC_OR:
+            return new Operator(TokenType.SC_OR, tokenSource, beginOffset, endOffset);
+            case SC_AND:
+            return new Operator(TokenType.SC_AND, tokenSource, beginOffset, endOffset);
+            case INCR:
+            return new Operator(TokenType.INCR, tokenSource, beginOffset, endOffset);
+            case DECR:
+            return new Operator(TokenType.DECR, tokenSource, beginOffset, endOffset);
+            case PLUS:
+            return new Operator(TokenType.PLUS, tokenSource, beginOffset, endOffset);
+            case MINUS:
+            return new Operator(TokenType.MINUS, tokenSource, beginOffset, endOffset);
+            case STAR:
+            return new Operator(TokenType.STAR, tokenSource, beginOffset, endOffset);
+            case SLASH:
+            return new Operator(TokenType.SLASH, tokenSource, beginOffset, endOffset);
+            case BIT_AND:
+            return new Operator(TokenType.BIT_AND, tokenSource, beginOffset, endOffset);
+            case BIT_OR:
+            return new Operator(TokenType.BIT_OR, tokenSource, beginOffset, endOffset);
+            case XOR:
+            return new Operator(TokenType.XOR, tokenSource, beginOffset, endOffset);
+            case REM:
+            return new Operator(TokenType.REM, tokenSource, beginOffset, endOffset);
+            case LSHIFT:
+            return new Operator(TokenType.LSHIFT, tokenSource, beginOffset, endOffset);
+            case PLUSASSIGN:
+            return new Operator(TokenType.PLUSASSIGN, tokenSource, beginOffset, endOffset);
+            case MINUSASSIGN:
+            return new Operator(TokenType.MINUSASSIGN, tokenSource, beginOffset, endOffset);
+            case STARASSIGN:
+            return new Operator(TokenType.STARASSIGN, tokenSource, beginOffset, endOffset);
+            case SLASHASSIGN:
+            return new Operator(TokenType.SLASHASSIGN, tokenSource, beginOffset, endOffset);
+            case ANDASSIGN:
+            return new Operator(TokenType.ANDASSIGN, tokenSource, beginOffset, endOffset);
+            case ORASSIGN:
+            return new Operator(TokenType.ORASSIGN, tokenSource, beginOffset, endOffset);
+            case XORASSIGN:
+            return new Operator(TokenType.XORASSIGN, tokenSource, beginOffset, endOffset);
+            case REMASSIGN:
+            return new Operator(TokenType.REMASSIGN, tokenSource, beginOffset, endOffset);
+            case LSHIFTASSIGN:
+            return new Operator(TokenType.LSHIFTASSIGN, tokenSource, beginOffset, endOffset);
+            case RSIGNEDSHIFT:
+            return new Operator(TokenType.RSIGNEDSHIFT, tokenSource, beginOffset, endOffset);
+            case RUNSIGNEDSHIFT:
+            return new Operator(TokenType.RUNSIGNEDSHIFT, tokenSource, beginOffset, endOffset);
+            case RSIGNEDSHIFTASSIGN:
+            return new Operator(TokenType.RSIGNEDSHIFTASSIGN, tokenSource, beginOffset, endOffset);
+            case RUNSIGNEDSHIFTASSIGN:
+            return new Operator(TokenType.RUNSIGNEDSHIFTASSIGN, tokenSource, beginOffset, endOffset);
+            case LAMBDA:
+            return new Operator(TokenType.LAMBDA, tokenSource, beginOffset, endOffset);
+            case IDENTIFIER:
+            return new Identifier(TokenType.IDENTIFIER, tokenSource, beginOffset, endOffset);
+            case INVALID:
+            return new InvalidToken(tokenSource, beginOffset, endOffset);
+            default:
+            return new Token(type, tokenSource, beginOffset, endOffset);
+        }
+    }
+
+    public String getLocation() {
+        return getInputSource()+":"+getBeginLine()+":"+getBeginColumn();
+    }
+
+    public void setChild(int i, Node n) {
+        throw new UnsupportedOperationException();
+    }
+
+    public void addChild(Node n) {
+        throw new UnsupportedOperationException();
+    }
+
+    public void addChild(int i, Node n) {
+        throw new UnsupportedOperationException();
+    }
+
+    public Node removeChild(int i) {
+        throw new UnsupportedOperationException();
+    }
+
+    public final int indexOf(Node n) {
+        return-1;
+    }
+
+    public Node getParent() {
+        return parent;
+    }
+
+    public void setParent(Node parent) {
+        this.parent= parent;
+    }
+
+    public final int getChildCount() {
+        return 0;
+    }
+
+    public final Node getChild(int i) {
+        return null;
+    }
+
+    public final List<Node> children() {
+        return java.util.Collections.emptyList();
+    }
+
+    public TemplateNodeModel getParentNode() {
+        return parent;
+    }
+
+    public TemplateSequenceModel getChildNodes() {
+        return null;
+    }
+
+    public String getNodeType() {
+        return getClass().getSimpleName();
+    }
+
+    public String getNodeNamespace() {
+        return null;
+    }
+
+    public String getAsString() {
+        return getNormalizedText();
+    }
+
+}
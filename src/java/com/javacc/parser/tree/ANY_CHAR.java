@@ -0,0 +1,15 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for ANY_CHAR Token subclass
+  * by the ASTToken.java.ftl template
+  */
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+import com.javacc.parser.JavaCCConstants.TokenType;
+import static com.javacc.parser.JavaCCConstants.TokenType.*;
+public class ANY_CHAR extends Token {
+    public ANY_CHAR(TokenType type, JavaCCLexer tokenSource, int beginOffset, int endOffset) {
+        super(type, tokenSource, beginOffset, endOffset);
+    }
+
+}
@@ -0,0 +1,13 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for Annotation AST Node type
+  * by the ASTNode.java.ftl template
+  */
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+public interface Annotation extends Node {
+    default String getName() {
+        return firstChildOfType(Name.class).toString();
+    }
+
+}
@@ -0,0 +1,24 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for CharacterList AST Node type
+  * by the ASTNode.java.ftl template
+  */
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+import static com.javacc.parser.JavaCCConstants.TokenType.*;
+import com.javacc.core.*;
+import java.util.*;
+public class CharacterList extends RegularExpression {
+    public List<CharacterRange> getDescriptors() {
+        return childrenOfType(CharacterRange.class);
+    }
+
+    public boolean isNegated() {
+        return firstChildOfType(TokenType.TILDE)!=null;
+    }
+
+    public boolean matchesEmptyString() {
+        return false;
+    }
+
+}
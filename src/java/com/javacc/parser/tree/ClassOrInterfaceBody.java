@@ -0,0 +1,55 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for ClassOrInterfaceBody AST Node type
+  * by the ASTNode.java.ftl template
+  */
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+import static com.javacc.parser.JavaCCConstants.TokenType.*;
+import java.util.*;
+public class ClassOrInterfaceBody extends BaseNode {
+    public String getAsString() {
+        return getInnerText();
+    }
+
+    // REVISIT. fix token chaining?
+    public void prepend(List<ClassOrInterfaceBodyDeclaration> elements) {
+        ListIterator<Node> iterator= iterator();
+        Node n= null;
+        while (iterator.hasNext()) {
+            n= iterator.next();
+            if (n instanceof Token) {
+                Token t= (Token) n;
+                if (t.getType()== TokenType.LBRACE) {
+                    break;
+                }
+            }
+        }
+        for (ClassOrInterfaceBodyDeclaration elem : elements) {
+            iterator.add(elem);
+            iterator.next();
+        }
+    }
+
+    // REVISIT. fix token chaining 
+    public void removeDuplicateMethods() {
+        Set<String> sigs= new HashSet<String> ();
+        ListIterator<Node> decls= iterator();
+        while (decls.hasNext()) {
+            Node n= decls.next();
+            if (n instanceof MethodDeclaration) {
+                MethodDeclaration decl= (MethodDeclaration) n;
+                String sig= decl.getFullSignature();
+                if (sig!=null) {
+                    if (sigs.contains(sig)) {
+                        decls.remove();
+                    }
+                    else  {
+                        sigs.add(sig);
+                    }
+                }
+            }
+        }
+    }
+
+}
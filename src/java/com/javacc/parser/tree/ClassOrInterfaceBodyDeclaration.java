@@ -0,0 +1,9 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for ClassOrInterfaceBodyDeclaration AST Node type
+  * by the ASTNode.java.ftl template
+  */
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+public interface ClassOrInterfaceBodyDeclaration extends Node {
+}
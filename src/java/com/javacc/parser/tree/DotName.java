@@ -0,0 +1,14 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for DotName AST Node type
+  * by the ASTNode.java.ftl template
+  */
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+import static com.javacc.parser.JavaCCConstants.TokenType.*;
+public class DotName extends BaseNode implements Expression {
+    public boolean isAssignableTo() {
+        return true;
+    }
+
+}
@@ -0,0 +1,24 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for FieldDeclaration AST Node type
+  * by the ASTNode.java.ftl template
+  */
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+import static com.javacc.parser.JavaCCConstants.TokenType.*;
+import java.util.*;
+public class FieldDeclaration extends BaseNode implements ClassOrInterfaceBodyDeclaration {
+    /**
+   * @return the Identifier nodes that correspond to the 
+   *          declaration of an instance variable. 
+   */
+    public List<Identifier> getVariableIds() {
+        return descendants(Identifier.class, FieldDeclaration::isVariableDeclarator);
+    }
+
+    static boolean isVariableDeclarator(Identifier id) {
+        Node parent= id.getParent();
+        return parent instanceof VariableDeclaratorId||parent instanceof VariableDeclarator||parent instanceof FieldDeclaration;
+    }
+
+}
@@ -0,0 +1,38 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for FormalParameters AST Node type
+  * by the ASTNode.java.ftl template
+  */
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+import static com.javacc.parser.JavaCCConstants.TokenType.*;
+import java.util.List;
+public class FormalParameters extends BaseNode {
+    public List<FormalParameter> getParams() {
+        return childrenOfType(FormalParameter.class);
+    }
+
+    public String getAsString() {
+        StringBuilder buf= new StringBuilder();
+        List<FormalParameter> params= getParams();
+        boolean first= true;
+        for (FormalParameter param : params) {
+            if (!first) {
+                buf.append(", ");
+            }
+            buf.append(param.getAsString());
+            first= false;
+        }
+        return buf.toString();
+    }
+
+    public String toString() {
+        StringBuilder buf= new StringBuilder();
+        for (Token tok : getRealTokens()) {
+            buf.append(" ");
+            buf.append(tok);
+        }
+        return buf.toString();
+    }
+
+}
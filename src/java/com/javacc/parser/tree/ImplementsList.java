@@ -0,0 +1,33 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for ImplementsList AST Node type
+  * by the ASTNode.java.ftl template
+  */
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+import static com.javacc.parser.JavaCCConstants.TokenType.*;
+import java.util.*;
+public class ImplementsList extends BaseNode {
+    public List<ObjectType> getTypes() {
+        return childrenOfType(ObjectType.class);
+    }
+
+    //REVISIT. fix token chaining    
+    public void addType(ObjectType type) {
+        ListIterator<Node> iterator= iterator();
+        if (!iterator.hasNext()) {
+            iterator.add(Token.newToken(TokenType.IMPLEMENTS, "implements", this.getTokenSource()));
+            iterator.next();
+            iterator.add(type);
+        }
+        else  {
+            while (iterator.hasNext()) {
+                if (type.equals(iterator.next())) return;
+            }
+            iterator.add(Token.newToken(TokenType.COMMA, ",", this.getTokenSource()));
+            iterator.next();
+            iterator.add(type);
+        }
+    }
+
+}
@@ -0,0 +1,39 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for IntegerLiteral Token subclass
+  * by the ASTToken.java.ftl template
+  */
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+import com.javacc.parser.JavaCCConstants.TokenType;
+import static com.javacc.parser.JavaCCConstants.TokenType.*;
+public class IntegerLiteral extends NumericalLiteral {
+    public int getValue() {
+        String image= removeUnderscores(getImage());
+        if (image.equals("0")) return 0;
+        if (image.codePointAt(0)!='0') return Integer.parseInt(image);
+        int secondChar= image.codePointAt(1);
+        if (secondChar== 'x'||secondChar== 'X') {
+            return Integer.parseInt(image.substring(2), 16);
+        }
+        if (secondChar== 'b'||secondChar== 'B') {
+            return Integer.parseInt(image.substring(2), 2);
+        }
+        return Integer.parseInt(image.substring(1), 8);
+    }
+
+    static public String removeUnderscores(String s) {
+        if (s.indexOf('-')<0) return s;
+        StringBuilder buf= new StringBuilder();
+        for (int i= 0; i<s.length(); i++) {
+            int ch= s.codePointAt(i);
+            if (ch!='_') buf.append(ch);
+        }
+        return buf.toString();
+    }
+
+    public IntegerLiteral(TokenType type, JavaCCLexer tokenSource, int beginOffset, int endOffset) {
+        super(type, tokenSource, beginOffset, endOffset);
+    }
+
+}
@@ -0,0 +1,29 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for InvocationArguments AST Node type
+  * by the ASTNode.java.ftl template
+  */
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+import static com.javacc.parser.JavaCCConstants.TokenType.*;
+import java.util.*;
+public class InvocationArguments extends BaseNode {
+    public List<Expression> getArgs() {
+        return childrenOfType(Expression.class);
+    }
+
+    public String getAsString() {
+        StringBuilder buf= new StringBuilder();
+        List<Expression> args= getArgs();
+        boolean first= true;
+        for (Expression arg : args) {
+            if (!first) {
+                buf.append(", ");
+            }
+            buf.append(arg.getAsString());
+            first= false;
+        }
+        return buf.toString();
+    }
+
+}
@@ -0,0 +1,73 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for LookBehind AST Node type
+  * by the ASTNode.java.ftl template
+  */
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+import static com.javacc.parser.JavaCCConstants.TokenType.*;
+import java.util.*;
+public class LookBehind extends BaseNode {
+    private boolean negated;
+    //Inserted getter for negated
+    public boolean isNegated() {
+        return negated;
+    }
+
+    //Inserted setter for negated
+    public void setNegated(boolean negated) {
+        this.negated= negated;
+    }
+
+    public boolean isBackward() {
+        return getChild(0) instanceof Backslash||getChild(1) instanceof Backslash;
+    }
+
+    public boolean getHasFinalEllipsis() {
+        Token t= (Token) getChild(getChildCount()-1);
+        return t.getImage().equals("...");
+    }
+
+    public List<String> getPath() {
+        ArrayList<String> result= new ArrayList<> ();
+        boolean negated= false;
+        for (Token t : childrenOfType(Token.class)) {
+            String img= t.getImage();
+            if (img.charAt(0)== '\\'||img.charAt(0)== '/') {
+                negated= false;
+                continue;
+            }
+            if (img.equals("~")) {
+                negated= true;
+                continue;
+            }
+            if (negated) {
+                result.add("~"+img);
+            }
+            else  {
+                result.add(img);
+            }
+            negated= false;
+        }
+        if (result.get(0).equals("~")) {
+            result.remove(0);
+        }
+        return result;
+    }
+
+    public boolean getHasEndingSlash() {
+        Token lastToken= (Token) getChild(getChildCount()-1);
+        String img= lastToken.getImage();
+        return img.equals("\\")||img.equals("/");
+    }
+
+    private String routineName;
+    public String getRoutineName() {
+        if (routineName== null) {
+            String prefix= getGrammar().generateIdentifierPrefix("backscan");
+            routineName= getGrammar().generateUniqueIdentifier(prefix, this);
+        }
+        return routineName;
+    }
+
+}
@@ -0,0 +1,28 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for MethodDeclaration AST Node type
+  * by the ASTNode.java.ftl template
+  */
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+import static com.javacc.parser.JavaCCConstants.TokenType.*;
+public class MethodDeclaration extends BaseNode implements ClassOrInterfaceBodyDeclaration {
+    public String getName() {
+        return firstChildOfType(Identifier.class).toString();
+    }
+
+    public FormalParameters getFormalParameters() {
+        return firstChildOfType(FormalParameters.class);
+    }
+
+    public String getFullSignature() {
+        StringBuilder buf= new StringBuilder();
+        buf.append(getName());
+        for (Type type : getFormalParameters().childrenOfType(Type.class)) {
+            buf.append("#");
+            buf.append(type);
+        }
+        return buf.toString();
+    }
+
+}
@@ -0,0 +1,17 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for ObjectType AST Node type
+  * by the ASTNode.java.ftl template
+  */
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+import static com.javacc.parser.JavaCCConstants.TokenType.*;
+public class ObjectType extends BaseNode implements Type {
+    public boolean equals(Object obj) {
+        if (obj instanceof ObjectType) {
+            return((ObjectType) obj).toString().equals(this.toString());
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,18 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for OneOrMore AST Node type
+  * by the ASTNode.java.ftl template
+  */
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+import static com.javacc.parser.JavaCCConstants.TokenType.*;
+public class OneOrMore extends ExpansionWithParentheses {
+    public int getMaximumSize() {
+        return Integer.MAX_VALUE;
+    }
+
+    protected boolean computePossiblyEmpty() {
+        return false;
+    }
+
+}
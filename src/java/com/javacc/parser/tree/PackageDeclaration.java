@@ -0,0 +1,21 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for PackageDeclaration AST Node type
+  * by the ASTNode.java.ftl template
+  */
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+import static com.javacc.parser.JavaCCConstants.TokenType.*;
+public class PackageDeclaration extends BaseNode {
+    private Name packageName;
+    //Inserted getter for packageName
+    public Name getPackageName() {
+        return packageName;
+    }
+
+    //Inserted setter for packageName
+    public void setPackageName(Name packageName) {
+        this.packageName= packageName;
+    }
+
+}
@@ -0,0 +1,25 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for RegexpChoice AST Node type
+  * by the ASTNode.java.ftl template
+  */
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+import static com.javacc.parser.JavaCCConstants.TokenType.*;
+import java.util.List;
+import com.javacc.core.RegularExpression;
+public class RegexpChoice extends RegularExpression {
+    public List<RegularExpression> getChoices() {
+        return childrenOfType(RegularExpression.class);
+    }
+
+    public boolean matchesEmptyString() {
+        for (RegularExpression choice : getChoices()) {
+            if (choice.matchesEmptyString()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
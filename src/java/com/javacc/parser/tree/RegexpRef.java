@@ -0,0 +1,41 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for RegexpRef AST Node type
+  * by the ASTNode.java.ftl template
+  */
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+import static com.javacc.parser.JavaCCConstants.TokenType.*;
+import com.javacc.core.*;
+public class RegexpRef extends RegularExpression {
+    private RegularExpression regexp;
+    //Inserted getter for regexp
+    public RegularExpression getRegexp() {
+        return regexp;
+    }
+
+    //Inserted setter for regexp
+    public void setRegexp(RegularExpression regexp) {
+        this.regexp= regexp;
+    }
+
+    public boolean isPrivate() {
+        return regexp!=null&&regexp.isPrivate();
+    }
+
+    public boolean matchesEmptyString() {
+        return regexp!=null&&regexp.matchesEmptyString();
+    }
+
+    public int getOrdinal() {
+        if (regexp== null) {
+            // This is the case if this RegexpRef refers to a token type
+            // specified in the EXTRA_TOKENS
+            int extraTokensIndex= getGrammar().getExtraTokenNames().indexOf(getLabel());
+            assert extraTokensIndex>=0;
+            return extraTokensIndex+getGrammar().getLexerData().getRegularExpressions().size();
+        }
+        return regexp.getOrdinal();
+    }
+
+}
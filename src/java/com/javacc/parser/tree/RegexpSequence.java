@@ -0,0 +1,32 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for RegexpSequence AST Node type
+  * by the ASTNode.java.ftl template
+  */
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+import static com.javacc.parser.JavaCCConstants.TokenType.*;
+import java.util.*;
+import com.javacc.Grammar;
+import com.javacc.core.RegularExpression;
+public class RegexpSequence extends RegularExpression {
+    public RegexpSequence(Grammar grammar, List<RegularExpression> units) {
+        super(grammar);
+        for (RegularExpression re : units) addChild(re);
+    }
+
+    public RegexpSequence() {
+    }
+
+    public List<RegularExpression> getUnits() {
+        return childrenOfType(RegularExpression.class);
+    }
+
+    public boolean matchesEmptyString() {
+        for (RegularExpression child : getUnits()) {
+            if (!child.matchesEmptyString()) return false;
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,30 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for RegexpSpec AST Node type
+  * by the ASTNode.java.ftl template
+  */
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+import static com.javacc.parser.JavaCCConstants.TokenType.*;
+import com.javacc.core.RegularExpression;
+public class RegexpSpec extends BaseNode {
+    private String nextLexicalState;
+    //Inserted getter for nextLexicalState
+    public String getNextLexicalState() {
+        return nextLexicalState;
+    }
+
+    //Inserted setter for nextLexicalState
+    public void setNextLexicalState(String nextLexicalState) {
+        this.nextLexicalState= nextLexicalState;
+    }
+
+    public RegularExpression getRegexp() {
+        return firstChildOfType(RegularExpression.class);
+    }
+
+    public CodeBlock getCodeSnippet() {
+        return firstChildOfType(CodeBlock.class);
+    }
+
+}
@@ -0,0 +1,57 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for TokenActivation AST Node type
+  * by the ASTNode.java.ftl template
+  */
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+import static com.javacc.parser.JavaCCConstants.TokenType.*;
+import java.util.ArrayList;
+import java.util.List;
+public class TokenActivation extends BaseNode {
+    private boolean deactivate;
+    //Inserted getter for deactivate
+    public boolean isDeactivate() {
+        return deactivate;
+    }
+
+    //Inserted setter for deactivate
+    public void setDeactivate(boolean deactivate) {
+        this.deactivate= deactivate;
+    }
+
+    public List<String> getTokenNames() {
+        List<String> result= new ArrayList<> ();
+        for (Identifier id : childrenOfType(Identifier.class)) {
+            result.add(id.getImage());
+        }
+        return result;
+    }
+
+    public List<String> getDeactivatedTokens() {
+        List<String> result= new ArrayList<> ();
+        for (Identifier id : childrenOfType(Identifier.class)) {
+            if (id.getPrevious().getType()== TokenType.MINUS) {
+                result.add(id.getImage());
+            }
+            else if (isDeactivate()&&id.getPrevious().getType()!=TokenType.PLUS) {
+                result.add(id.getImage());
+            }
+        }
+        return result;
+    }
+
+    public List<String> getActivatedTokens() {
+        List<String> result= new ArrayList<> ();
+        for (Identifier id : childrenOfType(Identifier.class)) {
+            if (id.getPrevious().getType()== TokenType.PLUS) {
+                result.add(id.getImage());
+            }
+            else if (!isDeactivate()&&id.getPrevious().getType()!=TokenType.MINUS) {
+                result.add(id.getImage());
+            }
+        }
+        return result;
+    }
+
+}
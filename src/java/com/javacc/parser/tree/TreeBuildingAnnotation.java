@@ -0,0 +1,73 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for TreeBuildingAnnotation AST Node type
+  * by the ASTNode.java.ftl template
+  */
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+import static com.javacc.parser.JavaCCConstants.TokenType.*;
+public class TreeBuildingAnnotation extends BaseNode {
+    private String initialShorthand;
+    //Inserted getter for initialShorthand
+    public String getInitialShorthand() {
+        return initialShorthand;
+    }
+
+    //Inserted setter for initialShorthand
+    public void setInitialShorthand(String initialShorthand) {
+        this.initialShorthand= initialShorthand;
+    }
+
+    private Expression condition;
+    //Inserted getter for condition
+    public Expression getCondition() {
+        return condition;
+    }
+
+    //Inserted setter for condition
+    public void setCondition(Expression condition) {
+        this.condition= condition;
+    }
+
+    /**
+     * Just returns whatever comes after the hash ("#") including "void", etc.
+     */
+    public String getNodeName() {
+        Token hash= firstChildOfType(TokenType.HASH);
+        if (hash== null) return null;
+        Node nextNode= hash.nextSibling();
+        if (nextNode instanceof Name) {
+            return nextNode.toString();
+        }
+        Token nextToken= hash.getNext();
+        TokenType nextType= nextToken.getType();
+        if (nextType!=ABSTRACT&&nextType!=INTERFACE&&nextType!=VOID) return null;
+        return nextToken.getImage();
+    }
+
+    public boolean isNeverInstantiated() {
+        return isVoid()||isAbstract()||isInterface();
+    }
+
+    public boolean getGtNode() {
+        return initialShorthand!=null;
+    }
+
+    public boolean isAbstract() {
+        return"abstract".equals(getNodeName());
+    }
+
+    public boolean isInterface() {
+        return"interface".equals(getNodeName());
+    }
+
+    public boolean isVoid() {
+        return"void".equals(getNodeName());
+    }
+
+    public boolean isFullyQualified() {
+        String nodeName= getNodeName();
+        return nodeName!=null&&nodeName.indexOf('.')> 0;
+    }
+
+}
@@ -0,0 +1,57 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for TryBlock AST Node type
+  * by the ASTNode.java.ftl template
+  */
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+import static com.javacc.parser.JavaCCConstants.TokenType.*;
+import java.util.List;
+import com.javacc.core.Expansion;
+import com.javacc.core.TokenSet;
+public class TryBlock extends Expansion {
+    public Expansion getNestedExpansion() {
+        return firstChildOfType(Expansion.class);
+    }
+
+    public List<CatchBlock> getCatchBlocks() {
+        return childrenOfType(CatchBlock.class);
+    }
+
+    public FinallyBlock getFinallyBlock() {
+        return firstChildOfType(FinallyBlock.class);
+    }
+
+    protected boolean computePossiblyEmpty() {
+        return getNestedExpansion().isPossiblyEmpty();
+    }
+
+    public boolean isAlwaysSuccessful() {
+        return getNestedExpansion().isAlwaysSuccessful();
+    }
+
+    protected TokenSet computeFirstSet() {
+        return getNestedExpansion().getFirstSet();
+    }
+
+    protected TokenSet computeFinalSet() {
+        return getNestedExpansion().getFinalSet();
+    }
+
+    public int getMinimumSize() {
+        return getNestedExpansion().getMinimumSize();
+    }
+
+    public int getMaximumSize() {
+        return getNestedExpansion().getMaximumSize();
+    }
+
+    public boolean startsWithLexicalChange() {
+        return getNestedExpansion().startsWithLexicalChange();
+    }
+
+    public boolean startsWithGlobalCodeAction() {
+        return getNestedExpansion().startsWithGlobalCodeAction();
+    }
+
+}
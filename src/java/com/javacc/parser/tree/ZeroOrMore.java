@@ -0,0 +1,26 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for ZeroOrMore AST Node type
+  * by the ASTNode.java.ftl template
+  */
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+import static com.javacc.parser.JavaCCConstants.TokenType.*;
+public class ZeroOrMore extends ExpansionWithParentheses {
+    protected boolean computePossiblyEmpty() {
+        return true;
+    }
+
+    public boolean isAlwaysSuccessful() {
+        return true;
+    }
+
+    public int getMinimumSize() {
+        return 0;
+    }
+
+    public int getMaximumSize() {
+        return Integer.MAX_VALUE;
+    }
+
+}
@@ -0,0 +1,22 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for ZeroOrOne AST Node type
+  * by the ASTNode.java.ftl template
+  */
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+import static com.javacc.parser.JavaCCConstants.TokenType.*;
+public class ZeroOrOne extends ExpansionWithParentheses {
+    public boolean isAlwaysSuccessful() {
+        return true;
+    }
+
+    protected boolean computePossiblyEmpty() {
+        return true;
+    }
+
+    public int getMinimumSize() {
+        return 0;
+    }
+
+}
@@ -0,0 +1,30 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. 
+  * Generated Code for ZeroOrOneRegexp AST Node type
+  * by the ASTNode.java.ftl template
+  */
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+import static com.javacc.parser.JavaCCConstants.TokenType.*;
+import com.javacc.core.RegularExpression;
+public class ZeroOrOneRegexp extends RegularExpression {
+    public RegularExpression getRegexp() {
+        return firstChildOfType(RegularExpression.class);
+    }
+
+    public void setRegexp(RegularExpression regexp) {
+        RegularExpression current= getRegexp();
+        if (current!=null) {
+            addChild(indexOf(current), regexp);
+            removeChild(current);
+        }
+        else  {
+            addChild(0, regexp);
+        }
+    }
+
+    public boolean matchesEmptyString() {
+        return true;
+    }
+
+}
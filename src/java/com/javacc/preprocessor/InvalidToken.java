@@ -0,0 +1,16 @@
+/* Generated by: JavaCC 21 Parser Generator. InvalidToken.java */
+package com.javacc.preprocessor;
+
+/**
+ * Token subclass to represent lexically invalid input
+ */
+public class InvalidToken extends Token {
+    public InvalidToken(PreprocessorLexer tokenSource, int beginOffset, int endOffset) {
+        super(TokenType.INVALID, tokenSource, beginOffset, endOffset);
+    }
+
+    public String getNormalizedText() {
+        return"Lexically Invalid Input:"+getImage();
+    }
+
+}
@@ -0,0 +1,20 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. PreprocessorConstants.java */
+package com.javacc.preprocessor;
+
+public interface PreprocessorConstants {
+    /**
+   * The various token types. The first type EOF
+   * and the last type INVALID are auto-generated.
+   * They represent the end of input and invalid input
+   * respectively.
+   */
+    public enum TokenType {
+        EOF, PP_LINE, PP_DEFINE, PP_UNDEF, PP_IF, PP_ELIF, PP_ELSE, PP_ENDIF, PP_IGNORED_DIRECTIVE, PP_START, PP_FALSE_ALERT, PP_TRUE, PP_FALSE, PP_SYMBOL, PP_OR, PP_AND, PP_LPAREN, PP_RPAREN, PP_ASSIGN, PP_EQUALS, PP_NOT_EQUALS, PP_NOT, PP_EOL_COMMENT, _TOKEN_23, INVALID
+    }
+    /**
+   * Lexical States
+   */
+    public enum LexicalState {
+        PP_SCAN_LINES, PP_EAT_TO_EOL, PP_DIRECTIVE
+    }
+}
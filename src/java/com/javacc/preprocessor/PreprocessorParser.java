@@ -0,0 +1,785 @@
+/* Generated by: JavaCC 21 Parser Generator. PreprocessorParser.java */
+package com.javacc.preprocessor;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import static com.javacc.preprocessor.PreprocessorConstants.TokenType.*;
+public class PreprocessorParser implements PreprocessorConstants {
+    private final BitSet lineMarkers= new BitSet();
+    private final Map<String, String> definedSymbols= new HashMap<> ();
+    private boolean currentlyOn= true;
+    private boolean csharpMode= false;
+    public PreprocessorParser(Path path, Map<String, String> definedSymbols, boolean csharpMode) throws IOException {
+        this(path);
+        this.csharpMode= csharpMode;
+        if (definedSymbols!=null) addSymbols(definedSymbols);
+        token_source.switchTo(LexicalState.PP_SCAN_LINES);
+    }
+
+    public PreprocessorParser(CharSequence content, Map<String, String> definedSymbols) throws IOException {
+        this(content);
+        if (definedSymbols!=null) addSymbols(definedSymbols);
+        token_source.switchTo(LexicalState.PP_SCAN_LINES);
+        this.csharpMode= false;
+    }
+
+    public BitSet getLineMarkers() {
+        return lineMarkers;
+    }
+
+    private void setLineMarker() {
+        int lineNumber= lastConsumedToken.getBeginLine();
+        if (currentlyOn) lineMarkers.set(lineNumber);
+    }
+
+    public void setSymbol(String symbol, String value) {
+        definedSymbols.put(symbol, value);
+    }
+
+    public void unsetSymbol(String symbol) {
+        definedSymbols.put(symbol, "0");
+    }
+
+    public void addSymbols(Map<String, String> symbols) {
+        definedSymbols.putAll(symbols);
+    }
+
+    private static class Expression {
+        boolean booleanValue;
+        String symbol;
+    }
+    static final int UNLIMITED= Integer.MAX_VALUE;
+    // The last token successfully "consumed"
+    Token lastConsumedToken;
+    private TokenType nextTokenType;
+    private Token currentLookaheadToken;
+    private String currentlyParsedProduction, currentLookaheadProduction;
+    private boolean cancelled;
+    public void cancel() {
+        cancelled= true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /** Generated Lexer. */
+    public PreprocessorLexer token_source;
+    public void setInputSource(String inputSource) {
+        token_source.setInputSource(inputSource);
+    }
+
+    String getInputSource() {
+        return token_source.getInputSource();
+    }
+
+    //=================================
+    // Generated constructors
+    //=================================
+    public PreprocessorParser(String inputSource, CharSequence content) {
+        this(new PreprocessorLexer(inputSource, content));
+    }
+
+    public PreprocessorParser(CharSequence content) {
+        this("input", content);
+    }
+
+    /**
+   * @param inputSource just the name of the input source (typically the filename) that 
+   * will be used in error messages and so on.
+   * @param path The location (typically the filename) from which to get the input to parse
+   */
+    public PreprocessorParser(String inputSource, Path path) throws IOException {
+        this(inputSource, PreprocessorLexer.stringFromBytes(Files.readAllBytes(path)));
+    }
+
+    public PreprocessorParser(String inputSource, Path path, Charset charset) throws IOException {
+        this(inputSource, PreprocessorLexer.stringFromBytes(Files.readAllBytes(path), charset));
+    }
+
+    /**
+   * @param path The location (typically the filename) from which to get the input to parse
+   */
+    public PreprocessorParser(Path path) throws IOException {
+        this(path.toString(), path);
+    }
+
+    /**
+   * @Deprecated Use the constructor that takes a #java.nio.files.Path or just 
+   * a String (i.e. CharSequence) directly.
+   */
+    public PreprocessorParser(java.io.InputStream stream) {
+        this(new InputStreamReader(stream));
+    }
+
+    /**
+   * @Deprecated Use the constructor that takes a #java.nio.files.Path or just 
+   * a String (i.e. CharSequence) directly.
+   */
+    public PreprocessorParser(Reader reader) {
+        this(new PreprocessorLexer("input", reader));
+    }
+
+    /** Constructor with user supplied Lexer. */
+    public PreprocessorParser(PreprocessorLexer lexer) {
+        token_source= lexer;
+        lastConsumedToken= lexer.DUMMY_START_TOKEN;
+        lastConsumedToken.setTokenSource(lexer);
+    }
+
+    // If the next token is cached, it returns that
+    // Otherwise, it goes to the token_source, i.e. the Lexer.
+    final private Token nextToken(final Token tok) {
+        Token result= token_source.getNextToken(tok);
+        while (result.isUnparsed()) {
+            result= token_source.getNextToken(result);
+        }
+        nextTokenType= null;
+        return result;
+    }
+
+    /**
+   * @return the next Token off the stream. This is the same as #getToken(1)
+   */
+    final public Token getNextToken() {
+        return getToken(1);
+    }
+
+    /**
+ * @param index how many tokens to look ahead
+ * @return the specific regular (i.e. parsed) Token index ahead/behind in the stream. 
+ * If we are in a lookahead, it looks ahead from the currentLookaheadToken
+ * Otherwise, it is the lastConsumedToken. If you pass in a negative
+ * number it goes backward.
+ */
+    final public Token getToken(final int index) {
+        Token t= currentLookaheadToken== null?lastConsumedToken:
+        currentLookaheadToken;
+        for (int i= 0; i<index; i++) {
+            t= nextToken(t);
+        }
+        for (int i= 0; i> index; i--) {
+            t= t.getPrevious();
+            if (t== null) break;
+        }
+        return t;
+    }
+
+    private final TokenType nextTokenType() {
+        if (nextTokenType== null) {
+            nextTokenType= nextToken(lastConsumedToken).getType();
+        }
+        return nextTokenType;
+    }
+
+    boolean activateTokenTypes(TokenType...types) {
+        boolean result= false;
+        for (TokenType tt : types) {
+            result|=token_source.activeTokenTypes.add(tt);
+        }
+        if (result) {
+            token_source.reset(getToken(0));
+            nextTokenType= null;
+        }
+        return result;
+    }
+
+    boolean deactivateTokenTypes(TokenType...types) {
+        boolean result= false;
+        for (TokenType tt : types) {
+            result|=token_source.activeTokenTypes.remove(tt);
+        }
+        if (result) {
+            token_source.reset(getToken(0));
+            nextTokenType= null;
+        }
+        return result;
+    }
+
+    private static HashMap<TokenType[], EnumSet<TokenType> > enumSetCache= new HashMap<> ();
+    private static EnumSet<TokenType> tokenTypeSet(TokenType first, TokenType...rest) {
+        TokenType[] key= new TokenType[1+rest.length];
+        key[0]= first;
+        if (rest.length> 0) {
+            System.arraycopy(rest, 0, key, 1, rest.length);
+        }
+        Arrays.sort(key);
+        if (enumSetCache.containsKey(key)) {
+            return enumSetCache.get(key);
+        }
+        EnumSet<TokenType> result= (rest.length== 0)?EnumSet.of(first):
+        EnumSet.of(first, rest);
+        enumSetCache.put(key, result);
+        return result;
+    }
+
+    // examples/preprocessor/Preprocessor.javacc:167:1
+    final public BitSet PP_Root() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction= currentlyParsedProduction;
+        this.currentlyParsedProduction= "PP_Root";
+        // Code for NonTerminal specified at examples/preprocessor/Preprocessor.javacc:167:23
+        pushOntoCallStack("PP_Root", "examples/preprocessor/Preprocessor.javacc", 167, 23);
+        try {
+            PP_Block();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for EndOfFile specified at examples/preprocessor/Preprocessor.javacc:167:32
+        consumeToken(EOF);
+        // Code for CodeBlock specified at examples/preprocessor/Preprocessor.javacc:167:38
+        return lineMarkers;
+    }
+
+    // examples/preprocessor/Preprocessor.javacc:169:1
+    final public void PP_Block() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction= currentlyParsedProduction;
+        this.currentlyParsedProduction= "PP_Block";
+        // Code for ZeroOrMore specified at examples/preprocessor/Preprocessor.javacc:169:17
+        while (true) {
+            // Code for ExpansionChoice specified at examples/preprocessor/Preprocessor.javacc:169:18
+            if (nextTokenType()== PP_IF) {
+                // Code for NonTerminal specified at examples/preprocessor/Preprocessor.javacc:169:18
+                pushOntoCallStack("PP_Block", "examples/preprocessor/Preprocessor.javacc", 169, 18);
+                try {
+                    PP_IfBlock();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (nextTokenType()== PP_DEFINE) {
+                // Code for NonTerminal specified at examples/preprocessor/Preprocessor.javacc:169:31
+                pushOntoCallStack("PP_Block", "examples/preprocessor/Preprocessor.javacc", 169, 31);
+                try {
+                    PP_DefStatement();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (nextTokenType()== PP_UNDEF) {
+                // Code for NonTerminal specified at examples/preprocessor/Preprocessor.javacc:169:49
+                pushOntoCallStack("PP_Block", "examples/preprocessor/Preprocessor.javacc", 169, 49);
+                try {
+                    PP_UndefStatement();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else if (nextTokenType()== PP_LINE||nextTokenType== PP_FALSE_ALERT) {
+                // Code for NonTerminal specified at examples/preprocessor/Preprocessor.javacc:169:69
+                pushOntoCallStack("PP_Block", "examples/preprocessor/Preprocessor.javacc", 169, 69);
+                try {
+                    PP_Content();
+                }
+                finally {
+                    popCallStack();
+                }
+            }
+            else  {
+                break;
+            }
+        }
+    }
+
+    // examples/preprocessor/Preprocessor.javacc:171:1
+    final public void PP_Content() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction= currentlyParsedProduction;
+        this.currentlyParsedProduction= "PP_Content";
+        // Code for OneOrMore specified at examples/preprocessor/Preprocessor.javacc:171:19
+        while (true) {
+            if (nextTokenType()== PP_LINE) {
+                // Code for RegexpRef specified at examples/preprocessor/Preprocessor.javacc:171:21
+                consumeToken(PP_LINE);
+            }
+            else if (nextTokenType()== PP_FALSE_ALERT) {
+                // Code for RegexpRef specified at examples/preprocessor/Preprocessor.javacc:171:31
+                consumeToken(PP_FALSE_ALERT);
+            }
+            else  {
+                pushOntoCallStack("PP_Content", "examples/preprocessor/Preprocessor.javacc", 171, 21);
+                throw new ParseException(this, first_set$Preprocessor_javacc$171$21, parsingStack);
+            }
+            // Code for CodeBlock specified at examples/preprocessor/Preprocessor.javacc:171:49
+            setLineMarker();
+            if (!(nextTokenType()== PP_LINE||nextTokenType== PP_FALSE_ALERT)) break;
+        }
+    }
+
+    // examples/preprocessor/Preprocessor.javacc:173:1
+    final public void PP_IfBlock() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction= currentlyParsedProduction;
+        this.currentlyParsedProduction= "PP_IfBlock";
+        boolean alreadyHandled= false;
+        Expression result;
+        final boolean previouslyOn= currentlyOn;
+        // Code for RegexpRef specified at examples/preprocessor/Preprocessor.javacc:179:5
+        consumeToken(PP_IF);
+        // Code for NonTerminal specified at examples/preprocessor/Preprocessor.javacc:180:5
+        pushOntoCallStack("PP_IfBlock", "examples/preprocessor/Preprocessor.javacc", 180, 5);
+        try {
+            result= PP_Expression();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for CodeBlock specified at examples/preprocessor/Preprocessor.javacc:180:28
+        if (result.booleanValue) alreadyHandled= true;
+        currentlyOn= result.booleanValue&&previouslyOn;
+        // Code for NonTerminal specified at examples/preprocessor/Preprocessor.javacc:184:5
+        pushOntoCallStack("PP_IfBlock", "examples/preprocessor/Preprocessor.javacc", 184, 5);
+        try {
+            PP_Block();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for CodeBlock specified at examples/preprocessor/Preprocessor.javacc:184:14
+        if (alreadyHandled) currentlyOn= false;
+        // Code for ZeroOrMore specified at examples/preprocessor/Preprocessor.javacc:185:5
+        while (true) {
+            if (!(nextTokenType()== PP_ELIF)) break;
+            // Code for RegexpRef specified at examples/preprocessor/Preprocessor.javacc:186:9
+            consumeToken(PP_ELIF);
+            // Code for NonTerminal specified at examples/preprocessor/Preprocessor.javacc:186:19
+            pushOntoCallStack("PP_IfBlock", "examples/preprocessor/Preprocessor.javacc", 186, 19);
+            try {
+                result= PP_Expression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for CodeBlock specified at examples/preprocessor/Preprocessor.javacc:187:9
+            if (!alreadyHandled) {
+                alreadyHandled= result.booleanValue;
+                currentlyOn= previouslyOn&&result.booleanValue;
+            }
+            // Code for NonTerminal specified at examples/preprocessor/Preprocessor.javacc:193:9
+            pushOntoCallStack("PP_IfBlock", "examples/preprocessor/Preprocessor.javacc", 193, 9);
+            try {
+                PP_Block();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        // Code for ZeroOrOne specified at examples/preprocessor/Preprocessor.javacc:195:5
+        if (nextTokenType()== PP_ELSE) {
+            // Code for RegexpRef specified at examples/preprocessor/Preprocessor.javacc:196:9
+            consumeToken(PP_ELSE);
+            // Code for CodeBlock specified at examples/preprocessor/Preprocessor.javacc:196:19
+            currentlyOn= !alreadyHandled&&previouslyOn;
+            // Code for NonTerminal specified at examples/preprocessor/Preprocessor.javacc:197:9
+            pushOntoCallStack("PP_IfBlock", "examples/preprocessor/Preprocessor.javacc", 197, 9);
+            try {
+                PP_Block();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        // Code for RegexpRef specified at examples/preprocessor/Preprocessor.javacc:199:5
+        consumeToken(PP_ENDIF);
+        // Code for CodeBlock specified at examples/preprocessor/Preprocessor.javacc:200:5
+        this.currentlyOn= previouslyOn;
+    }
+
+    // examples/preprocessor/Preprocessor.javacc:203:1
+    final public void PP_DefStatement() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction= currentlyParsedProduction;
+        this.currentlyParsedProduction= "PP_DefStatement";
+        String value= "1";
+        // Code for RegexpRef specified at examples/preprocessor/Preprocessor.javacc:207:3
+        consumeToken(PP_DEFINE);
+        // Code for RegexpRef specified at examples/preprocessor/Preprocessor.javacc:207:15
+        consumeToken(PP_SYMBOL);
+        // Code for ZeroOrOne specified at examples/preprocessor/Preprocessor.javacc:208:3
+        if (nextTokenType()== PP_ASSIGN) {
+            // Code for RegexpRef specified at examples/preprocessor/Preprocessor.javacc:209:5
+            consumeToken(PP_ASSIGN);
+            // Code for RegexpRef specified at examples/preprocessor/Preprocessor.javacc:210:5
+            consumeToken(PP_SYMBOL);
+            // Code for CodeBlock specified at examples/preprocessor/Preprocessor.javacc:210:17
+            if (csharpMode) {
+                throw new ParseException("Symbols cannot have defined values in C# mode.");
+            }
+            value= lastConsumedToken.getImage();
+        }
+        // Code for CodeBlock specified at examples/preprocessor/Preprocessor.javacc:217:3
+        if (currentlyOn) {
+            definedSymbols.put(lastConsumedToken.getImage(), value);
+        }
+    }
+
+    // examples/preprocessor/Preprocessor.javacc:224:1
+    final public void PP_UndefStatement() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction= currentlyParsedProduction;
+        this.currentlyParsedProduction= "PP_UndefStatement";
+        // Code for RegexpRef specified at examples/preprocessor/Preprocessor.javacc:225:5
+        consumeToken(PP_UNDEF);
+        // Code for RegexpRef specified at examples/preprocessor/Preprocessor.javacc:225:16
+        consumeToken(PP_SYMBOL);
+        // Code for CodeBlock specified at examples/preprocessor/Preprocessor.javacc:226:5
+        if (currentlyOn) definedSymbols.remove(lastConsumedToken.getImage());
+    }
+
+    // examples/preprocessor/Preprocessor.javacc:229:1
+    final public Expression PP_Expression() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction= currentlyParsedProduction;
+        this.currentlyParsedProduction= "PP_Expression";
+        Expression result, result2;
+        boolean inequality= false;
+        // Code for NonTerminal specified at examples/preprocessor/Preprocessor.javacc:234:3
+        pushOntoCallStack("PP_Expression", "examples/preprocessor/Preprocessor.javacc", 234, 3);
+        try {
+            result= PP_OrExpression();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for ZeroOrOne specified at examples/preprocessor/Preprocessor.javacc:235:3
+        if (nextTokenType()== PP_EQUALS||nextTokenType== PP_NOT_EQUALS) {
+            if (nextTokenType()== PP_EQUALS) {
+                // Code for RegexpRef specified at examples/preprocessor/Preprocessor.javacc:236:6
+                consumeToken(PP_EQUALS);
+            }
+            else if (nextTokenType()== PP_NOT_EQUALS) {
+                // Code for RegexpRef specified at examples/preprocessor/Preprocessor.javacc:236:18
+                consumeToken(PP_NOT_EQUALS);
+                // Code for CodeBlock specified at examples/preprocessor/Preprocessor.javacc:236:33
+                inequality= true;
+            }
+            else  {
+                pushOntoCallStack("PP_Expression", "examples/preprocessor/Preprocessor.javacc", 236, 6);
+                throw new ParseException(this, first_set$Preprocessor_javacc$236$6, parsingStack);
+            }
+            // Code for NonTerminal specified at examples/preprocessor/Preprocessor.javacc:237:5
+            pushOntoCallStack("PP_Expression", "examples/preprocessor/Preprocessor.javacc", 237, 5);
+            try {
+                result2= PP_OrExpression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for CodeBlock specified at examples/preprocessor/Preprocessor.javacc:238:5
+            if (csharpMode||result.symbol== null||result2.symbol== null) {
+                result.booleanValue= inequality== (result.booleanValue!=result2.booleanValue);
+            }
+            else  {
+                // Not C# mode, and LHS and RHS are symbols
+                String key= result.symbol;
+                String value= result2.symbol;
+                result.symbol= null;
+                // don't propagate further
+                result2.symbol= null;
+                if (!definedSymbols.containsKey(key)) {
+                    if (!definedSymbols.containsKey(value)) {
+                        // neither LHS nor RHS appears to be defined, so both are
+                        // logically false, so ...
+                        result.booleanValue= !inequality;
+                    }
+                    else  {
+                        // LHS isn't defined, so logically false. RHS is defined,
+                        // but its value might be "0" because it was undef'ed.
+                        result.booleanValue= inequality!=definedSymbols.get(value).equals("0");
+                    }
+                }
+                else  {
+                    String keyValue= definedSymbols.get(key);
+                    result.booleanValue= inequality!=value.equals(keyValue);
+                }
+            }
+        }
+        // Code for CodeBlock specified at examples/preprocessor/Preprocessor.javacc:268:3
+        return result;
+    }
+
+    // examples/preprocessor/Preprocessor.javacc:271:1
+    final public Expression PP_OrExpression() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction= currentlyParsedProduction;
+        this.currentlyParsedProduction= "PP_OrExpression";
+        Expression result, result2;
+        // Code for NonTerminal specified at examples/preprocessor/Preprocessor.javacc:273:4
+        pushOntoCallStack("PP_OrExpression", "examples/preprocessor/Preprocessor.javacc", 273, 4);
+        try {
+            result= PP_AndExpression();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified at examples/preprocessor/Preprocessor.javacc:274:3
+        while (true) {
+            if (!(nextTokenType()== PP_OR)) break;
+            // Code for RegexpRef specified at examples/preprocessor/Preprocessor.javacc:274:4
+            consumeToken(PP_OR);
+            // Code for NonTerminal specified at examples/preprocessor/Preprocessor.javacc:274:12
+            pushOntoCallStack("PP_OrExpression", "examples/preprocessor/Preprocessor.javacc", 274, 12);
+            try {
+                result2= PP_AndExpression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for CodeBlock specified at examples/preprocessor/Preprocessor.javacc:274:39
+            result.booleanValue= result.booleanValue||result2.booleanValue;
+        }
+        // Code for CodeBlock specified at examples/preprocessor/Preprocessor.javacc:275:4
+        return result;
+    }
+
+    // examples/preprocessor/Preprocessor.javacc:278:1
+    final public Expression PP_AndExpression() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction= currentlyParsedProduction;
+        this.currentlyParsedProduction= "PP_AndExpression";
+        Expression result, result2;
+        // Code for NonTerminal specified at examples/preprocessor/Preprocessor.javacc:280:4
+        pushOntoCallStack("PP_AndExpression", "examples/preprocessor/Preprocessor.javacc", 280, 4);
+        try {
+            result= PP_NotExpression();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified at examples/preprocessor/Preprocessor.javacc:281:3
+        while (true) {
+            if (!(nextTokenType()== PP_AND)) break;
+            // Code for RegexpRef specified at examples/preprocessor/Preprocessor.javacc:281:4
+            consumeToken(PP_AND);
+            // Code for NonTerminal specified at examples/preprocessor/Preprocessor.javacc:281:13
+            pushOntoCallStack("PP_AndExpression", "examples/preprocessor/Preprocessor.javacc", 281, 13);
+            try {
+                result2= PP_NotExpression();
+            }
+            finally {
+                popCallStack();
+            }
+            // Code for CodeBlock specified at examples/preprocessor/Preprocessor.javacc:281:40
+            result.booleanValue= result.booleanValue&&result2.booleanValue;
+        }
+        // Code for CodeBlock specified at examples/preprocessor/Preprocessor.javacc:282:4
+        return result;
+    }
+
+    // examples/preprocessor/Preprocessor.javacc:285:1
+    final public Expression PP_NotExpression() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction= currentlyParsedProduction;
+        this.currentlyParsedProduction= "PP_NotExpression";
+        boolean notFlag= false;
+        Expression result;
+        // Code for ZeroOrMore specified at examples/preprocessor/Preprocessor.javacc:290:4
+        while (true) {
+            if (!(nextTokenType()== PP_NOT)) break;
+            // Code for RegexpRef specified at examples/preprocessor/Preprocessor.javacc:290:5
+            consumeToken(PP_NOT);
+            // Code for CodeBlock specified at examples/preprocessor/Preprocessor.javacc:290:14
+            notFlag= !notFlag;
+        }
+        // Code for NonTerminal specified at examples/preprocessor/Preprocessor.javacc:291:4
+        pushOntoCallStack("PP_NotExpression", "examples/preprocessor/Preprocessor.javacc", 291, 4);
+        try {
+            result= PP_PrimaryExpression();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for CodeBlock specified at examples/preprocessor/Preprocessor.javacc:292:3
+        if (notFlag) {
+            result.booleanValue= !result.booleanValue;
+        }
+        return result;
+    }
+
+    // examples/preprocessor/Preprocessor.javacc:300:1
+    final public Expression PP_Parentheses() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction= currentlyParsedProduction;
+        this.currentlyParsedProduction= "PP_Parentheses";
+        Expression result;
+        // Code for RegexpRef specified at examples/preprocessor/Preprocessor.javacc:302:4
+        consumeToken(PP_LPAREN);
+        // Code for NonTerminal specified at examples/preprocessor/Preprocessor.javacc:303:4
+        pushOntoCallStack("PP_Parentheses", "examples/preprocessor/Preprocessor.javacc", 303, 4);
+        try {
+            result= PP_Expression();
+        }
+        finally {
+            popCallStack();
+        }
+        // Code for RegexpRef specified at examples/preprocessor/Preprocessor.javacc:304:4
+        consumeToken(PP_RPAREN);
+        // Code for CodeBlock specified at examples/preprocessor/Preprocessor.javacc:305:4
+        return result;
+    }
+
+    // examples/preprocessor/Preprocessor.javacc:308:1
+    final public Expression PP_PrimaryExpression() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction= currentlyParsedProduction;
+        this.currentlyParsedProduction= "PP_PrimaryExpression";
+        Expression result= new Expression();
+        if (nextTokenType()== PP_LPAREN) {
+            // Code for NonTerminal specified at examples/preprocessor/Preprocessor.javacc:311:7
+            pushOntoCallStack("PP_PrimaryExpression", "examples/preprocessor/Preprocessor.javacc", 311, 7);
+            try {
+                result= PP_Parentheses();
+            }
+            finally {
+                popCallStack();
+            }
+        }
+        else if (nextTokenType()== PP_SYMBOL) {
+            // Code for RegexpRef specified at examples/preprocessor/Preprocessor.javacc:313:7
+            consumeToken(PP_SYMBOL);
+            // Code for CodeBlock specified at examples/preprocessor/Preprocessor.javacc:314:7
+            result.symbol= lastConsumedToken.getImage();
+            result.booleanValue= definedSymbols.containsKey(result.symbol);
+        }
+        else if (nextTokenType()== PP_TRUE) {
+            // Code for RegexpRef specified at examples/preprocessor/Preprocessor.javacc:319:7
+            consumeToken(PP_TRUE);
+            // Code for CodeBlock specified at examples/preprocessor/Preprocessor.javacc:319:17
+            result.booleanValue= true;
+        }
+        else if (nextTokenType()== PP_FALSE) {
+            // Code for RegexpRef specified at examples/preprocessor/Preprocessor.javacc:321:7
+            consumeToken(PP_FALSE);
+            // Code for CodeBlock specified at examples/preprocessor/Preprocessor.javacc:321:18
+            result.booleanValue= false;
+        }
+        else  {
+            pushOntoCallStack("PP_PrimaryExpression", "examples/preprocessor/Preprocessor.javacc", 311, 7);
+            throw new ParseException(this, first_set$Preprocessor_javacc$311$7, parsingStack);
+        }
+        // Code for CodeBlock specified at examples/preprocessor/Preprocessor.javacc:323:5
+        return result;
+    }
+
+    static private final EnumSet<TokenType> first_set$Preprocessor_javacc$171$21= tokenTypeSet(PP_LINE, PP_FALSE_ALERT);
+    static private final EnumSet<TokenType> first_set$Preprocessor_javacc$236$6= tokenTypeSet(PP_EQUALS, PP_NOT_EQUALS);
+    static private final EnumSet<TokenType> first_set$Preprocessor_javacc$311$7= tokenTypeSet(PP_TRUE, PP_FALSE, PP_SYMBOL, PP_LPAREN);
+    ArrayList<NonTerminalCall> parsingStack= new ArrayList<> ();
+    private ArrayList<NonTerminalCall> lookaheadStack= new ArrayList<> ();
+    /**
+ * Inner class that represents entering a grammar production
+ */
+    class NonTerminalCall {
+        final String sourceFile;
+        final String productionName;
+        final int line, column;
+        NonTerminalCall(String sourceFile, String productionName, int line, int column) {
+            this.sourceFile= sourceFile;
+            this.productionName= productionName;
+            this.line= line;
+            this.column= column;
+        }
+
+        final PreprocessorLexer getTokenSource() {
+            return PreprocessorParser.this.token_source;
+        }
+
+        StackTraceElement createStackTraceElement() {
+            return new StackTraceElement("PreprocessorParser", productionName, sourceFile, line);
+        }
+
+        void dump(PrintStream ps) {
+            ps.println(productionName+":"+line+":"+column);
+        }
+
+    }
+    private final void pushOntoCallStack(String methodName, String fileName, int line, int column) {
+        parsingStack.add(new NonTerminalCall(fileName, methodName, line, column));
+    }
+
+    private final void popCallStack() {
+        NonTerminalCall ntc= parsingStack.remove(parsingStack.size()-1);
+        this.currentlyParsedProduction= ntc.productionName;
+    }
+
+    void dumpLookaheadStack(PrintStream ps) {
+        ListIterator<NonTerminalCall> it= lookaheadStack.listIterator(lookaheadStack.size());
+        while (it.hasPrevious()) {
+            it.previous().dump(ps);
+        }
+    }
+
+    void dumpCallStack(PrintStream ps) {
+        ListIterator<NonTerminalCall> it= parsingStack.listIterator(parsingStack.size());
+        while (it.hasPrevious()) {
+            it.previous().dump(ps);
+        }
+    }
+
+    void dumpLookaheadCallStack(PrintStream ps) {
+        ps.println("Current Parser Production is: "+currentlyParsedProduction);
+        ps.println("Current Lookahead Production is: "+currentLookaheadProduction);
+        ps.println("---Lookahead Stack---");
+        dumpLookaheadStack(ps);
+        ps.println("---Call Stack---");
+        dumpCallStack(ps);
+    }
+
+    public boolean isParserTolerant() {
+        return false;
+    }
+
+    public void setParserTolerant(boolean tolerantParsing) {
+        if (tolerantParsing) {
+            throw new UnsupportedOperationException("This parser was not built with that feature!");
+        }
+    }
+
+    private Token consumeToken(TokenType expectedType) {
+        Token oldToken= lastConsumedToken;
+        Token nextToken= nextToken(lastConsumedToken);
+        if (nextToken.getType()!=expectedType) {
+            nextToken= handleUnexpectedTokenType(expectedType, nextToken);
+        }
+        this.lastConsumedToken= nextToken;
+        this.nextTokenType= null;
+        return lastConsumedToken;
+    }
+
+    private Token handleUnexpectedTokenType(TokenType expectedType, Token nextToken) {
+        throw new ParseException(this, nextToken, EnumSet.of(expectedType), parsingStack);
+    }
+
+    private class ParseState {
+        Token lastConsumed;
+        ArrayList<NonTerminalCall> parsingStack;
+        LexicalState lexicalState;
+        ParseState() {
+            this.lastConsumed= PreprocessorParser.this.lastConsumedToken;
+            @SuppressWarnings("unchecked")
+            ArrayList<NonTerminalCall> parsingStack= (ArrayList<NonTerminalCall> ) PreprocessorParser.this.parsingStack.clone();
+            this.parsingStack= parsingStack;
+            this.lexicalState= token_source.lexicalState;
+        }
+
+    }
+    public boolean isTreeBuildingEnabled() {
+        return false;
+    }
+
+}
@@ -0,0 +1,302 @@
+/* Generated by: JavaCC 21 Parser Generator. Token.java */
+package com.javacc.preprocessor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+public class Token implements PreprocessorConstants {
+    private TokenType type;
+    private PreprocessorLexer tokenSource;
+    private int beginOffset, endOffset;
+    private boolean unparsed;
+    /**
+     * It would be extremely rare that an application
+     * programmer would use this method. It needs to
+     * be public because it is part of the com.javacc.preprocessor.Node interface.
+     */
+    public void setBeginOffset(int beginOffset) {
+        this.beginOffset= beginOffset;
+    }
+
+    /**
+     * It would be extremely rare that an application
+     * programmer would use this method. It needs to
+     * be public because it is part of the com.javacc.preprocessor.Node interface.
+     */
+    public void setEndOffset(int endOffset) {
+        this.endOffset= endOffset;
+    }
+
+    /**
+     * @return the PreprocessorLexer object that handles 
+     * location info for the tokens. 
+     */
+    public PreprocessorLexer getTokenSource() {
+        return this.tokenSource;
+    }
+
+    /**
+     * It should be exceedingly rare that an application
+     * programmer needs to use this method.
+     */
+    public void setTokenSource(PreprocessorLexer tokenSource) {
+        this.tokenSource= tokenSource;
+    }
+
+    /**
+     * Return the TokenType of this Token object
+     */
+    public TokenType getType() {
+        return type;
+    }
+
+    protected void setType(TokenType type) {
+        this.type= type;
+    }
+
+    /**
+     * @return whether this Token represent actual input or was it inserted somehow?
+     */
+    public boolean isVirtual() {
+        return type== TokenType.EOF;
+    }
+
+    /**
+     * @return Did we skip this token in parsing?
+     */
+    public boolean isSkipped() {
+        return false;
+    }
+
+    /**
+     * @return the (1-based) line location where this Token starts
+     */
+    public int getBeginLine() {
+        PreprocessorLexer flm= getTokenSource();
+        return flm== null?0:
+        flm.getLineFromOffset(getBeginOffset());
+    }
+
+    ;
+    /**
+     * @return the (1-based) line location where this Token ends
+     */
+    public int getEndLine() {
+        PreprocessorLexer flm= getTokenSource();
+        return flm== null?0:
+        flm.getLineFromOffset(getEndOffset()-1);
+    }
+
+    ;
+    /**
+     * @return the (1-based) column where this Token starts
+     */
+    public int getBeginColumn() {
+        PreprocessorLexer flm= getTokenSource();
+        return flm== null?0:
+        flm.getCodePointColumnFromOffset(getBeginOffset());
+    }
+
+    ;
+    /**
+     * @return the (1-based) column offset where this Token ends
+     */
+    public int getEndColumn() {
+        PreprocessorLexer flm= getTokenSource();
+        return flm== null?0:
+        flm.getCodePointColumnFromOffset(getEndOffset());
+    }
+
+    public String getInputSource() {
+        PreprocessorLexer flm= getTokenSource();
+        return flm!=null?flm.getInputSource():
+        "input";
+    }
+
+    public int getBeginOffset() {
+        return beginOffset;
+    }
+
+    public int getEndOffset() {
+        return endOffset;
+    }
+
+    /**
+     * @return the string image of the token.
+     */
+    public String getImage() {
+        return getSource();
+    }
+
+    /**
+     * @return the next _cached_ regular (i.e. parsed) token
+     * or null
+     */
+    public final Token getNext() {
+        return getNextParsedToken();
+    }
+
+    /**
+     * @return the previous regular (i.e. parsed) token
+     * or null
+     */
+    public final Token getPrevious() {
+        Token result= previousCachedToken();
+        while (result!=null&&result.isUnparsed()) {
+            result= result.previousCachedToken();
+        }
+        return result;
+    }
+
+    /**
+     * @return the next regular (i.e. parsed) token
+     */
+    private Token getNextParsedToken() {
+        Token result= nextCachedToken();
+        while (result!=null&&result.isUnparsed()) {
+            result= result.nextCachedToken();
+        }
+        return result;
+    }
+
+    /**
+     * @return the next token of any sort (parsed or unparsed or invalid)
+     */
+    public Token nextCachedToken() {
+        if (getType()== TokenType.EOF) return null;
+        PreprocessorLexer tokenSource= getTokenSource();
+        return tokenSource!=null?tokenSource.nextCachedToken(getEndOffset()):
+        null;
+    }
+
+    public Token previousCachedToken() {
+        if (getTokenSource()== null) return null;
+        return getTokenSource().previousCachedToken(getBeginOffset());
+    }
+
+    Token getPreviousToken() {
+        return previousCachedToken();
+    }
+
+    public Token replaceType(TokenType type) {
+        Token result= newToken(type, getTokenSource(), getBeginOffset(), getEndOffset());
+        getTokenSource().cacheToken(result);
+        return result;
+    }
+
+    public String getSource() {
+        if (type== TokenType.EOF) return"";
+        PreprocessorLexer flm= getTokenSource();
+        return flm== null?null:
+        flm.getText(getBeginOffset(), getEndOffset());
+    }
+
+    protected Token() {
+    }
+
+    public Token(TokenType type, PreprocessorLexer tokenSource, int beginOffset, int endOffset) {
+        this.type= type;
+        this.tokenSource= tokenSource;
+        this.beginOffset= beginOffset;
+        this.endOffset= endOffset;
+    }
+
+    public boolean isUnparsed() {
+        return unparsed;
+    }
+
+    public void setUnparsed(boolean unparsed) {
+        this.unparsed= unparsed;
+    }
+
+    public void clearChildren() {
+    }
+
+    public String getNormalizedText() {
+        if (getType()== TokenType.EOF) {
+            return"EOF";
+        }
+        return getImage();
+    }
+
+    public String toString() {
+        return getNormalizedText();
+    }
+
+    /**
+     * @return An iterator of the tokens preceding this one.
+     */
+    public Iterator<Token> precedingTokens() {
+        return new Iterator<Token> () {
+            Token currentPoint= Token.this;
+            public boolean hasNext() {
+                return currentPoint.previousCachedToken()!=null;
+            }
+
+            public Token next() {
+                Token previous= currentPoint.previousCachedToken();
+                if (previous== null) throw new java.util.NoSuchElementException("No previous token!");
+                return currentPoint= previous;
+            }
+
+        }
+        ;
+    }
+
+    /**
+     * @return a list of the unparsed tokens preceding this one in the order they appear in the input
+     */
+    public List<Token> precedingUnparsedTokens() {
+        List<Token> result= new ArrayList<> ();
+        Token t= this.previousCachedToken();
+        while (t!=null&&t.isUnparsed()) {
+            result.add(t);
+            t= t.previousCachedToken();
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    /**
+     * @return An iterator of the (cached) tokens that follow this one.
+     */
+    public Iterator<Token> followingTokens() {
+        return new java.util.Iterator<Token> () {
+            Token currentPoint= Token.this;
+            public boolean hasNext() {
+                return currentPoint.nextCachedToken()!=null;
+            }
+
+            public Token next() {
+                Token next= currentPoint.nextCachedToken();
+                if (next== null) throw new java.util.NoSuchElementException("No next token!");
+                return currentPoint= next;
+            }
+
+        }
+        ;
+    }
+
+    public void copyLocationInfo(Token from) {
+        setTokenSource(from.getTokenSource());
+        setBeginOffset(from.getBeginOffset());
+        setEndOffset(from.getEndOffset());
+    }
+
+    public void copyLocationInfo(Token start, Token end) {
+        setTokenSource(start.getTokenSource());
+        if (tokenSource== null) setTokenSource(end.getTokenSource());
+        setBeginOffset(start.getBeginOffset());
+        setEndOffset(end.getEndOffset());
+    }
+
+    public static Token newToken(TokenType type, PreprocessorLexer tokenSource, int beginOffset, int endOffset) {
+        return new Token(type, tokenSource, beginOffset, endOffset);
+    }
+
+    public String getLocation() {
+        return getInputSource()+":"+getBeginLine()+":"+getBeginColumn();
+    }
+
+}